@@ -42,15 +42,24 @@ spotless {
     }
 }
 
+val jmh: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+    // Horizon page fixtures are shared with the unit tests.
+    resources.srcDir("src/test/resources/responses")
+}
+
+configurations[jmh.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+
 dependencies {
     val okhttpVersion = "4.12.0"
+    val jmhVersion = "1.37"
 
     implementation("com.squareup.okhttp3:okhttp:${okhttpVersion}")
     implementation("com.squareup.okhttp3:okhttp-sse:${okhttpVersion}")
     implementation("com.moandjiezana.toml:toml4j:0.7.2")
     implementation("com.google.code.gson:gson:2.14.0")
     implementation("org.bouncycastle:bcprov-jdk18on:1.84")
-    implementation("commons-codec:commons-codec:1.22.0")
 
     testImplementation(kotlin("stdlib"))
     testImplementation("org.mockito:mockito-core:5.23.0")
@@ -62,6 +71,9 @@ dependencies {
 
     testImplementation("io.kotest:kotest-runner-junit5:6.1.11")
     testImplementation("io.kotest:kotest-assertions-core:6.1.11")
+
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:${jmhVersion}")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:${jmhVersion}")
 }
 
 tasks {
@@ -79,6 +91,24 @@ tasks {
         dependsOn(testClasses)
     }
 
+    // JMH benchmarks live in the `jmh` source set and are never run as part of `check`.
+    // Run them via `./gradlew jmh`, optionally narrowing the run with JMH options, e.g.
+    // `./gradlew jmh -PjmhArgs='XdrCodecBenchmark -f 1 -wi 2 -i 3'`.
+    register<JavaExec>("jmh") {
+        group = "benchmark"
+        description = "Runs the JMH benchmarks and writes JSON results (including -prof gc) to build/reports/jmh."
+        classpath = jmh.runtimeClasspath
+        mainClass.set("org.openjdk.jmh.Main")
+        val resultFile = layout.buildDirectory.file("reports/jmh/results.json").get().asFile
+        args("-rf", "json", "-rff", resultFile.absolutePath, "-prof", "gc")
+        providers.gradleProperty("jmhArgs").orNull?.let { args(it.trim().split(Regex("\\s+"))) }
+        doFirst { resultFile.parentFile.mkdirs() }
+    }
+
+    named<JavaCompile>(jmh.compileJavaTaskName) {
+        options.encoding = "UTF-8"
+    }
+
     val sourcesJar by registering(Jar::class) {
         archiveClassifier = "sources"
         from(sourceSets.main.get().allSource)
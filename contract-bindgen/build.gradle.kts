@@ -0,0 +1,78 @@
+plugins {
+    id("java")
+    id("application")
+    id("com.diffplug.spotless")
+    kotlin("jvm")
+}
+
+group = rootProject.group
+version = rootProject.version
+
+java {
+    toolchain {
+        languageVersion = JavaLanguageVersion.of(21)
+    }
+}
+
+kotlin {
+    jvmToolchain(21)
+}
+
+repositories {
+    mavenCentral()
+}
+
+spotless {
+    java {
+        importOrder("java", "javax", "org.stellar")
+        removeUnusedImports()
+        googleJavaFormat()
+    }
+    kotlin {
+        target("src/test/kotlin/**/*.kt")
+        ktfmt("0.56").googleStyle()
+    }
+}
+
+dependencies {
+    implementation(rootProject)
+
+    testImplementation(kotlin("stdlib"))
+    testImplementation("io.kotest:kotest-runner-junit5:6.1.11")
+    testImplementation("io.kotest:kotest-assertions-core:6.1.11")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+}
+
+application {
+    mainClass.set("org.stellar.sdk.contract.bindgen.ContractBindingsGenerator")
+}
+
+tasks {
+    test {
+        useJUnitPlatform()
+    }
+
+    compileJava {
+        options.encoding = "UTF-8"
+        options.release = 8
+    }
+
+    named<JavaExec>("run") {
+        workingDir = rootProject.projectDir
+    }
+
+    // Generates typed Java bindings for a contract Wasm, e.g.
+    // `./gradlew :contract-bindgen:generateContractBindings -Pwasm=token.wasm
+    //   -Ppackage=com.example.token -PclassName=TokenClient -PoutputDir=src/main/java`.
+    register<JavaExec>("generateContractBindings") {
+        group = "build"
+        description = "Generates a typed Java client and types for a contract Wasm."
+        classpath = sourceSets.main.get().runtimeClasspath
+        mainClass.set(application.mainClass)
+        workingDir = rootProject.projectDir
+        mapOf("wasm" to "wasm", "package" to "package", "className" to "class", "outputDir" to "output")
+            .forEach { (property, option) ->
+                providers.gradleProperty(property).orNull?.let { args("--$option", it) }
+            }
+    }
+}
@@ -0,0 +1,867 @@
+package org.stellar.sdk.contract.bindgen;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.stellar.sdk.contract.ContractSpec;
+import org.stellar.sdk.contract.bindgen.TypeMapper.JavaType;
+import org.stellar.sdk.xdr.SCSpecEntry;
+import org.stellar.sdk.xdr.SCSpecFunctionInputV0;
+import org.stellar.sdk.xdr.SCSpecFunctionV0;
+import org.stellar.sdk.xdr.SCSpecType;
+import org.stellar.sdk.xdr.SCSpecTypeDef;
+import org.stellar.sdk.xdr.SCSpecUDTEnumCaseV0;
+import org.stellar.sdk.xdr.SCSpecUDTErrorEnumCaseV0;
+import org.stellar.sdk.xdr.SCSpecUDTStructFieldV0;
+import org.stellar.sdk.xdr.SCSpecUDTStructV0;
+import org.stellar.sdk.xdr.SCSpecUDTUnionCaseV0;
+import org.stellar.sdk.xdr.SCSpecUDTUnionV0;
+import org.stellar.sdk.xdr.XdrString;
+
+/**
+ * Generates typed Java bindings for a contract from its {@link ContractSpec}.
+ *
+ * <p>The bindings are a client class, which wraps a {@link org.stellar.sdk.contract.ContractClient}
+ * with one method per contract function, and one class per user-defined type: a final class for a
+ * struct, an abstract class with a subclass per case for a union, and a Java enum for an enum or
+ * error enum. Each of them converts its values to and from {@code SCVal} with code written for its
+ * types, so calls do not go through reflection, maps of field names, or the spec at runtime.
+ *
+ * <p>The Java types of the spec types are the same as the ones of {@link
+ * org.stellar.sdk.contract.ContractSpecConverter}, except that {@code u32}, {@code i32}, {@code
+ * i64} and {@code bool} are primitives where they are not optional, and tuples are passed as {@code
+ * SCVal}. Types whose names clash with the names the generated code uses get a {@code Type} suffix,
+ * and union cases a {@code Case} suffix.
+ *
+ * <p>The generator can be run from the command line, or with the {@code generateContractBindings}
+ * Gradle task of this module:
+ *
+ * <pre>
+ * ./gradlew :contract-bindgen:generateContractBindings -Pwasm=token.wasm \
+ *     -Ppackage=com.example.token -PclassName=TokenClient -PoutputDir=src/main/java
+ * </pre>
+ */
+public final class ContractBindingsGenerator {
+  private static final String USAGE =
+      "Usage: contract-bindgen --wasm <file> --package <name> --class <name> --output <dir>";
+
+  private static final Set<String> RESERVED_METHODS =
+      new HashSet<>(
+          Arrays.asList(
+              "clone",
+              "close",
+              "equals",
+              "finalize",
+              "getClass",
+              "getClient",
+              "hashCode",
+              "notify",
+              "notifyAll",
+              "toString",
+              "wait"));
+
+  private static final Set<String> RESERVED_PARAMETERS =
+      new HashSet<>(Arrays.asList("args", "baseFee", "client", "result", "signer", "source"));
+
+  private final ContractSpec spec;
+  private final String packageName;
+  private final String clientName;
+  private final Map<String, String> udtClasses = new LinkedHashMap<>();
+  private final Map<String, SCSpecEntry> udts = new LinkedHashMap<>();
+
+  /**
+   * Creates a generator.
+   *
+   * @param spec the spec of the contract
+   * @param packageName the package of the generated classes
+   * @param clientName the simple name of the generated client class
+   * @throws IllegalArgumentException if the package or class name is not valid
+   */
+  public ContractBindingsGenerator(ContractSpec spec, String packageName, String clientName) {
+    for (String part : packageName.split("\\.", -1)) {
+      if (!Names.isIdentifier(part)) {
+        throw new IllegalArgumentException("Invalid package name: " + packageName);
+      }
+    }
+    if (!Names.isIdentifier(clientName) || SourceWriter.RESERVED_NAMES.contains(clientName)) {
+      throw new IllegalArgumentException("Invalid class name: " + clientName);
+    }
+    this.spec = spec;
+    this.packageName = packageName;
+    this.clientName = clientName;
+
+    Set<String> used = new HashSet<>(SourceWriter.RESERVED_NAMES);
+    used.add(clientName);
+    for (SCSpecEntry entry : spec.getEntries()) {
+      String name = udtName(entry);
+      if (name == null || udts.containsKey(name)) {
+        continue;
+      }
+      String className = Names.type(name);
+      if (used.contains(className)) {
+        className += "Type";
+      }
+      udts.put(name, entry);
+      udtClasses.put(name, Names.unique(className, used));
+    }
+  }
+
+  /**
+   * Generates the source files.
+   *
+   * @return the source of each file, by its path relative to the source root
+   * @throws IllegalArgumentException if the spec uses a type which it does not define
+   */
+  public Map<String, String> generate() {
+    Map<String, String> files = new LinkedHashMap<>();
+    for (Map.Entry<String, SCSpecEntry> udt : udts.entrySet()) {
+      String className = udtClasses.get(udt.getKey());
+      SCSpecEntry entry = udt.getValue();
+      String body;
+      switch (entry.getDiscriminant()) {
+        case SC_SPEC_ENTRY_UDT_STRUCT_V0:
+          body = struct(className, entry.getUdtStructV0());
+          break;
+        case SC_SPEC_ENTRY_UDT_UNION_V0:
+          body = union(className, entry.getUdtUnionV0());
+          break;
+        case SC_SPEC_ENTRY_UDT_ENUM_V0:
+          body = enumeration(className, entry, false);
+          break;
+        default:
+          body = enumeration(className, entry, true);
+          break;
+      }
+      files.put(path(className), SourceWriter.file(packageName, body));
+    }
+    files.put(path(clientName), SourceWriter.file(packageName, client()));
+    return files;
+  }
+
+  /**
+   * Generates the source files and writes them under a source root.
+   *
+   * @param outputDir the source root, such as {@code src/main/java}
+   * @return the written files
+   * @throws IOException if a file cannot be written
+   */
+  public List<Path> writeTo(Path outputDir) throws IOException {
+    List<Path> written = new ArrayList<>();
+    for (Map.Entry<String, String> file : generate().entrySet()) {
+      Path path = outputDir.resolve(file.getKey());
+      Files.createDirectories(path.getParent());
+      Files.write(path, file.getValue().getBytes(StandardCharsets.UTF_8));
+      written.add(path);
+    }
+    return written;
+  }
+
+  /**
+   * Generates the bindings of a contract Wasm file.
+   *
+   * @param args {@code --wasm <file> --package <name> --class <name> --output <dir>}
+   */
+  public static void main(String[] args) {
+    int status = run(args, System.out, System.err);
+    if (status != 0) {
+      System.exit(status);
+    }
+  }
+
+  static int run(String[] args, PrintStream out, PrintStream err) {
+    Map<String, String> options = new HashMap<>();
+    for (int i = 0; i < args.length; i += 2) {
+      if (!args[i].startsWith("--") || i + 1 == args.length) {
+        err.println(USAGE);
+        return 2;
+      }
+      options.put(args[i].substring(2), args[i + 1]);
+    }
+    for (String option : new String[] {"wasm", "package", "class", "output"}) {
+      if (!options.containsKey(option)) {
+        err.println(USAGE);
+        return 2;
+      }
+    }
+    try {
+      ContractSpec spec = ContractSpec.fromWasmFile(Paths.get(options.get("wasm")));
+      List<Path> written =
+          new ContractBindingsGenerator(spec, options.get("package"), options.get("class"))
+              .writeTo(Paths.get(options.get("output")));
+      for (Path path : written) {
+        out.println(path);
+      }
+      return 0;
+    } catch (NoSuchFileException e) {
+      err.println("contract-bindgen: no such file: " + e.getFile());
+      return 1;
+    } catch (IOException | RuntimeException e) {
+      err.println("contract-bindgen: " + e.getMessage());
+      return 1;
+    }
+  }
+
+  private String path(String className) {
+    return packageName.replace('.', '/') + "/" + className + ".java";
+  }
+
+  private String client() {
+    TypeMapper mapper = new TypeMapper(udtClasses);
+    SourceWriter out = new SourceWriter();
+    out.doc(
+        "A typed client of the contract, which converts the arguments and results of its functions"
+            + " to and from {@code SCVal}.");
+    out.open("public final class " + clientName + " implements Closeable");
+    out.line("private final ContractClient client;");
+    out.line("");
+    out.doc(
+        "Creates a client of the contract.",
+        "@param contractId the contract ID",
+        "@param rpcUrl the URL of the Soroban RPC server",
+        "@param network the network of the contract");
+    out.open("public " + clientName + "(String contractId, String rpcUrl, Network network)");
+    out.line("this(new ContractClient(contractId, rpcUrl, network));");
+    out.close();
+    out.line("");
+    out.doc(
+        "Creates a client of the contract which invokes it with a {@link ContractClient}.",
+        "@param client the client to invoke the contract with");
+    out.open("public " + clientName + "(ContractClient client)");
+    out.line("this.client = Objects.requireNonNull(client, \"client\");");
+    out.close();
+    out.line("");
+    out.doc(
+        "Returns the underlying client, to invoke functions with options which the typed methods do"
+            + " not take.",
+        "@return the underlying client");
+    out.open("public ContractClient getClient()");
+    out.line("return client;");
+    out.close();
+
+    Set<String> methods = new HashSet<>(RESERVED_METHODS);
+    Set<String> seen = new HashSet<>();
+    for (SCSpecFunctionV0 function : spec.getFunctions()) {
+      String name = decode(function.getName().getSCSymbol());
+      // The constructor is only called when the contract is deployed.
+      if (name.equals("__constructor") || !seen.add(name)) {
+        continue;
+      }
+      String methodName = Names.member(name);
+      if (methods.contains(methodName)) {
+        methodName += "_";
+      }
+      methodName = Names.unique(methodName, methods);
+      function(out, mapper, name, methodName, function);
+    }
+
+    out.line("");
+    out.line("@Override");
+    out.open("public void close() throws IOException");
+    out.line("client.close();");
+    out.close();
+    mapper.writeHelpers(out);
+    return out.close().toString();
+  }
+
+  private void function(
+      SourceWriter out,
+      TypeMapper mapper,
+      String name,
+      String methodName,
+      SCSpecFunctionV0 function) {
+    SCSpecFunctionInputV0[] inputs = function.getInputs();
+    List<String> params = new ArrayList<>();
+    List<String> args = new ArrayList<>();
+    List<String> docs = new ArrayList<>();
+    docs.add(decode(function.getDoc()));
+    docs.add("Builds and simulates a transaction which invokes {@code " + name + "}.");
+    Set<String> used = new HashSet<>(RESERVED_PARAMETERS);
+    for (SCSpecFunctionInputV0 input : inputs) {
+      String paramName = Names.member(decode(input.getName()));
+      if (used.contains(paramName)) {
+        paramName += "_";
+      }
+      paramName = Names.unique(paramName, used);
+      JavaType type = mapper.map(input.getType());
+      params.add(type.name + " " + paramName);
+      args.add(type.encode(paramName));
+      String doc = decode(input.getDoc());
+      docs.add(
+          "@param "
+              + paramName
+              + " "
+              + (doc.isEmpty() ? "the {@code " + decode(input.getName()) + "} argument" : doc));
+    }
+    SCSpecTypeDef[] outputs = function.getOutputs();
+    if (outputs.length > 1) {
+      throw new IllegalArgumentException(
+          "Function '" + name + "' has " + outputs.length + " outputs, expected at most one");
+    }
+    JavaType output = outputs.length == 0 ? mapper.map(voidType()) : mapper.map(outputs[0]);
+    docs.add("@param source the account ID of the source account of the transaction");
+    docs.add("@param signer the key pair to sign the transaction with, or null to sign it later");
+    docs.add("@param baseFee the base fee of the transaction, in stroops");
+    docs.add("@return the simulated transaction, whose result is the value returned by the call");
+    params.add("String source");
+    params.add("KeyPair signer");
+    params.add("int baseFee");
+
+    out.line("");
+    out.doc(docs.toArray(new String[0]));
+    out.openList("public AssembledTransaction<" + output.boxed + "> " + methodName + "(", params);
+    if (args.isEmpty()) {
+      out.line("List<SCVal> args = new ArrayList<>();");
+    } else {
+      out.list("List<SCVal> args = Arrays.asList(", args, ");");
+    }
+    out.list(
+        "return client.invoke(",
+        Arrays.asList(
+            Names.literal(name),
+            "args",
+            "source",
+            "signer",
+            "result -> " + output.decode("result"),
+            "baseFee"),
+        ");");
+    out.close();
+  }
+
+  private String struct(String className, SCSpecUDTStructV0 struct) {
+    TypeMapper mapper = new TypeMapper(udtClasses);
+    SCSpecUDTStructFieldV0[] specFields = struct.getFields();
+    boolean isTuple = specFields.length > 0;
+    for (SCSpecUDTStructFieldV0 field : specFields) {
+      isTuple &= decode(field.getName()).matches("[0-9]+");
+    }
+    List<Field> fields = new ArrayList<>();
+    Set<String> used = new HashSet<>();
+    for (SCSpecUDTStructFieldV0 specField : specFields) {
+      String name = decode(specField.getName());
+      String javaName = Names.unique(Names.member(isTuple ? "value" + name : name), used);
+      fields.add(
+          new Field(name, javaName, mapper.map(specField.getType()), decode(specField.getDoc())));
+    }
+
+    SourceWriter out = new SourceWriter();
+    out.doc(decode(struct.getDoc()));
+    out.open("public final class " + className);
+    writeFields(out, className, fields);
+    out.line("");
+    if (isTuple) {
+      out.doc("Encodes the struct as an {@code SCV_VEC} of its fields.", "@return the value");
+      out.open("public SCVal toSCVal()");
+      writeVec(out, "", fields);
+      out.close();
+      out.line("");
+      out.doc(
+          "Decodes the struct from an {@code SCV_VEC} of its fields.",
+          "@param value the value",
+          "@return the struct",
+          "@throws IllegalArgumentException if the value is not an encoded struct");
+      out.open("public static " + className + " fromSCVal(SCVal value)");
+      out.line("SCVal[] values = " + vecElements(mapper) + "(value, " + fields.size() + ");");
+      List<String> values = new ArrayList<>();
+      for (int i = 0; i < fields.size(); i++) {
+        values.add(fields.get(i).type.decode("values[" + i + "]"));
+      }
+      out.list("return new " + className + "(", values, ");");
+      out.close();
+    } else {
+      // The network requires the keys of a map in ascending order. The field names are symbols,
+      // so the order of the entries is fixed here.
+      List<Field> sorted = new ArrayList<>(fields);
+      sorted.sort(Comparator.comparing(field -> field.name));
+      out.doc(
+          "Encodes the struct as an {@code SCV_MAP} from field name to value.",
+          "@return the value");
+      out.open("public SCVal toSCVal()");
+      out.line("SCMapEntry[] entries = new SCMapEntry[" + sorted.size() + "];");
+      for (int i = 0; i < sorted.size(); i++) {
+        Field field = sorted.get(i);
+        out.line("entries[" + i + "] =");
+        out.line("    SCMapEntry.builder()");
+        out.line("        .key(Scv.toSymbol(" + Names.literal(field.name) + "))");
+        out.line("        .val(" + field.type.encode(field.javaName) + ")");
+        out.line("        .build();");
+      }
+      out.line("return SCVal.builder()");
+      out.line("    .discriminant(SCValType.SCV_MAP)");
+      out.line("    .map(new SCMap(entries))");
+      out.line("    .build();");
+      out.close();
+      out.line("");
+      out.doc(
+          "Decodes the struct from an {@code SCV_MAP} from field name to value.",
+          "@param value the value",
+          "@return the struct",
+          "@throws IllegalArgumentException if the value is not an encoded struct");
+      out.open("public static " + className + " fromSCVal(SCVal value)");
+      out.line("SCMapEntry[] entries = " + mapEntries(mapper) + "(value, " + sorted.size() + ");");
+      List<String> values = new ArrayList<>();
+      for (Field field : fields) {
+        values.add(
+            field.type.decode(
+                field(mapper)
+                    + "(entries["
+                    + sorted.indexOf(field)
+                    + "], "
+                    + Names.literal(field.name)
+                    + ")"));
+      }
+      out.list("return new " + className + "(", values, ");");
+      out.close();
+    }
+    writeObjectMethods(out, className, className, fields);
+    mapper.writeHelpers(out);
+    return out.close().toString();
+  }
+
+  private String union(String className, SCSpecUDTUnionV0 union) {
+    TypeMapper mapper = new TypeMapper(udtClasses);
+    Set<String> reserved = new HashSet<>(SourceWriter.RESERVED_NAMES);
+    reserved.addAll(udtClasses.values());
+    reserved.add(clientName);
+    Set<String> used = new HashSet<>();
+    List<UnionCase> cases = new ArrayList<>();
+    for (SCSpecUDTUnionCaseV0 specCase : union.getCases()) {
+      String name;
+      String doc;
+      SCSpecTypeDef[] types;
+      switch (specCase.getDiscriminant()) {
+        case SC_SPEC_UDT_UNION_CASE_VOID_V0:
+          name = decode(specCase.getVoidCase().getName());
+          doc = decode(specCase.getVoidCase().getDoc());
+          types = new SCSpecTypeDef[0];
+          break;
+        case SC_SPEC_UDT_UNION_CASE_TUPLE_V0:
+          name = decode(specCase.getTupleCase().getName());
+          doc = decode(specCase.getTupleCase().getDoc());
+          types = specCase.getTupleCase().getType();
+          break;
+        default:
+          throw new IllegalArgumentException(
+              "Unsupported case " + specCase.getDiscriminant() + " of type " + className);
+      }
+      String caseClass = Names.type(name);
+      if (reserved.contains(caseClass) || caseClass.equals(className)) {
+        caseClass += "Case";
+      }
+      List<Field> fields = new ArrayList<>();
+      for (int i = 0; i < types.length; i++) {
+        fields.add(new Field(null, "value" + i, mapper.map(types[i]), ""));
+      }
+      cases.add(new UnionCase(name, Names.unique(caseClass, used), doc, fields));
+    }
+
+    SourceWriter out = new SourceWriter();
+    out.doc(decode(union.getDoc()));
+    out.open("public abstract class " + className);
+    out.line("private " + className + "() {}");
+    out.line("");
+    out.doc(
+        "Encodes the value as an {@code SCV_VEC} of the name of its case and the values of the"
+            + " case.",
+        "@return the value");
+    out.line("public abstract SCVal toSCVal();");
+    out.line("");
+    out.doc(
+        "Decodes a value from an {@code SCV_VEC} of the name of its case and the values of the"
+            + " case.",
+        "@param value the value",
+        "@return the decoded case",
+        "@throws IllegalArgumentException if the value is not an encoded case of the union");
+    out.open("public static " + className + " fromSCVal(SCVal value)");
+    out.line("SCVal[] values = " + unionElements(mapper) + "(value);");
+    out.line("String tag = Scv.fromSymbol(values[0]);");
+    out.open("switch (tag)");
+    for (UnionCase unionCase : cases) {
+      out.line("case " + Names.literal(unionCase.name) + ":");
+      out.line(
+          "  "
+              + checkCase(mapper)
+              + "(values, "
+              + (unionCase.fields.size() + 1)
+              + ", "
+              + Names.literal(className)
+              + ");");
+      List<String> values = new ArrayList<>();
+      for (int i = 0; i < unionCase.fields.size(); i++) {
+        values.add(unionCase.fields.get(i).type.decode("values[" + (i + 1) + "]"));
+      }
+      out.list("  return new " + unionCase.className + "(", values, ");");
+    }
+    out.line("default:");
+    out.line(
+        "  throw new IllegalArgumentException(\"Unknown case '\" + tag + \"' of "
+            + className
+            + "\");");
+    out.close();
+    out.close();
+    for (UnionCase unionCase : cases) {
+      out.line("");
+      out.doc(unionCase.doc, "The {@code " + unionCase.name + "} case.");
+      out.open("public static final class " + unionCase.className + " extends " + className);
+      writeFields(out, unionCase.className, unionCase.fields);
+      out.line("");
+      out.line("@Override");
+      out.open("public SCVal toSCVal()");
+      writeVec(out, "Scv.toSymbol(" + Names.literal(unionCase.name) + ")", unionCase.fields);
+      out.close();
+      writeObjectMethods(out, unionCase.className, unionCase.name, unionCase.fields);
+      out.close();
+    }
+    mapper.writeHelpers(out);
+    return out.close().toString();
+  }
+
+  private String enumeration(String className, SCSpecEntry entry, boolean isError) {
+    List<String> names = new ArrayList<>();
+    List<Long> values = new ArrayList<>();
+    List<String> docs = new ArrayList<>();
+    String doc;
+    if (isError) {
+      doc = decode(entry.getUdtErrorEnumV0().getDoc());
+      for (SCSpecUDTErrorEnumCaseV0 specCase : entry.getUdtErrorEnumV0().getCases()) {
+        names.add(decode(specCase.getName()));
+        values.add(specCase.getValue().getUint32().getNumber());
+        docs.add(decode(specCase.getDoc()));
+      }
+    } else {
+      doc = decode(entry.getUdtEnumV0().getDoc());
+      for (SCSpecUDTEnumCaseV0 specCase : entry.getUdtEnumV0().getCases()) {
+        names.add(decode(specCase.getName()));
+        values.add(specCase.getValue().getUint32().getNumber());
+        docs.add(decode(specCase.getDoc()));
+      }
+    }
+
+    SourceWriter out = new SourceWriter();
+    out.doc(doc);
+    out.open("public enum " + className);
+    Set<String> used = new HashSet<>(Arrays.asList("value"));
+    List<String> constants = new ArrayList<>();
+    for (int i = 0; i < names.size(); i++) {
+      String constant = Names.unique(Names.identifier(names.get(i)), used);
+      constants.add(constant);
+      out.doc(docs.get(i));
+      out.line(constant + "(" + values.get(i) + "L)" + (i == names.size() - 1 ? ";" : ","));
+    }
+    if (names.isEmpty()) {
+      out.line(";");
+    }
+    out.line("");
+    out.line("private final long value;");
+    out.line("");
+    out.open(className + "(long value)");
+    out.line("this.value = value;");
+    out.close();
+    out.line("");
+    out.doc("Returns the value of the case in the contract.", "@return the value");
+    out.open("public long getValue()");
+    out.line("return value;");
+    out.close();
+    out.line("");
+    out.doc("Encodes the case as an {@code SCV_U32} of its value.", "@return the value");
+    out.open("public SCVal toSCVal()");
+    out.line("return Scv.toUint32(value);");
+    out.close();
+    out.line("");
+    out.doc(
+        isError
+            ? "Decodes a case from an {@code SCV_U32} of its value, or a contract {@code SCV_ERROR}"
+                + " with its value as the code."
+            : "Decodes a case from an {@code SCV_U32} of its value.",
+        "@param value the value",
+        "@return the case",
+        "@throws IllegalArgumentException if the value is not an encoded case of the enum");
+    out.open("public static " + className + " fromSCVal(SCVal value)");
+    if (isError) {
+      out.line("if (value.getDiscriminant() == SCValType.SCV_ERROR");
+      out.open("    && value.getError().getDiscriminant() == SCErrorType.SCE_CONTRACT)");
+      out.line("return fromValue(value.getError().getContractCode().getUint32().getNumber());");
+      out.close();
+    }
+    out.line("return fromValue(Scv.fromUint32(value));");
+    out.close();
+    out.line("");
+    out.doc(
+        "Returns the case with a value.",
+        "@param value the value of the case",
+        "@return the case",
+        "@throws IllegalArgumentException if no case has the value");
+    out.open("public static " + className + " fromValue(long value)");
+    for (int i = 0; i < constants.size(); i++) {
+      out.open("if (value == " + values.get(i) + "L)");
+      out.line("return " + constants.get(i) + ";");
+      out.close();
+    }
+    out.line(
+        "throw new IllegalArgumentException(\"Unknown value \" + value + \" of "
+            + className
+            + "\");");
+    out.close();
+    return out.close().toString();
+  }
+
+  private static void writeFields(SourceWriter out, String className, List<Field> fields) {
+    for (Field field : fields) {
+      out.doc(field.doc);
+      out.line("private final " + field.type.name + " " + field.javaName + ";");
+    }
+    if (!fields.isEmpty()) {
+      out.line("");
+    }
+    List<String> params = new ArrayList<>();
+    for (Field field : fields) {
+      params.add(field.type.name + " " + field.javaName);
+    }
+    if (params.isEmpty()) {
+      out.line("public " + className + "() {}");
+    } else {
+      out.openList("public " + className + "(", params);
+    }
+    for (Field field : fields) {
+      if (field.type.isPrimitive() || field.type.nullable) {
+        out.line("this." + field.javaName + " = " + field.javaName + ";");
+      } else {
+        out.line(
+            "this."
+                + field.javaName
+                + " = Objects.requireNonNull("
+                + field.javaName
+                + ", "
+                + Names.literal(field.javaName)
+                + ");");
+      }
+    }
+    if (!params.isEmpty()) {
+      out.close();
+    }
+    for (Field field : fields) {
+      out.line("");
+      String prefix = field.type.name.equals("boolean") ? "is" : "get";
+      String getter =
+          prefix + Character.toUpperCase(field.javaName.charAt(0)) + field.javaName.substring(1);
+      out.open("public " + field.type.name + " " + getter + "()");
+      out.line("return " + field.javaName + ";");
+      out.close();
+    }
+  }
+
+  private static void writeVec(SourceWriter out, String first, List<Field> fields) {
+    List<String> values = new ArrayList<>();
+    if (!first.isEmpty()) {
+      values.add(first);
+    }
+    for (Field field : fields) {
+      values.add(field.type.encode(field.javaName));
+    }
+    out.list("return Scv.toVec(Arrays.asList(", values, "));");
+  }
+
+  private static void writeObjectMethods(
+      SourceWriter out, String className, String displayName, List<Field> fields) {
+    out.line("");
+    out.line("@Override");
+    out.open("public boolean equals(Object o)");
+    if (fields.isEmpty()) {
+      out.line("return o instanceof " + className + ";");
+    } else {
+      out.open("if (this == o)");
+      out.line("return true;");
+      out.close();
+      out.open("if (!(o instanceof " + className + "))");
+      out.line("return false;");
+      out.close();
+      out.line(className + " other = (" + className + ") o;");
+      List<String> checks = new ArrayList<>();
+      for (Field field : fields) {
+        String name = field.javaName;
+        if (field.type.isPrimitive()) {
+          checks.add(name + " == other." + name);
+        } else if (field.type.isArray()) {
+          checks.add("Arrays.equals(" + name + ", other." + name + ")");
+        } else {
+          checks.add("Objects.equals(" + name + ", other." + name + ")");
+        }
+      }
+      for (int i = 0; i < checks.size(); i++) {
+        String check = checks.get(i) + (i == checks.size() - 1 ? ";" : "");
+        out.line(i == 0 ? "return " + check : "    && " + check);
+      }
+    }
+    out.close();
+    out.line("");
+    out.line("@Override");
+    out.open("public int hashCode()");
+    List<String> names = new ArrayList<>();
+    for (Field field : fields) {
+      names.add(field.javaName);
+    }
+    if (fields.isEmpty()) {
+      out.line("return " + Names.literal(displayName) + ".hashCode();");
+    } else {
+      out.line("return Arrays.deepHashCode(new Object[] {" + String.join(", ", names) + "});");
+    }
+    out.close();
+    out.line("");
+    out.line("@Override");
+    out.open("public String toString()");
+    if (fields.isEmpty()) {
+      out.line("return " + Names.literal(displayName + "{}") + ";");
+    } else {
+      out.line("return " + Names.literal(displayName + "{"));
+      for (int i = 0; i < fields.size(); i++) {
+        Field field = fields.get(i);
+        String value =
+            field.type.isArray() ? "Arrays.toString(" + field.javaName + ")" : field.javaName;
+        out.line(
+            "    + " + Names.literal((i == 0 ? "" : ", ") + field.javaName + "=") + " + " + value);
+      }
+      out.line("    + \"}\";");
+    }
+    out.close();
+  }
+
+  private static String mapEntries(TypeMapper mapper) {
+    return mapper.helper(
+        "mapEntries",
+        name ->
+            TypeMapper.method(
+                "SCMapEntry[] " + name + "(SCVal value, int size)",
+                "if (value.getDiscriminant() != SCValType.SCV_MAP || value.getMap() == null) {",
+                "  throw new IllegalArgumentException(",
+                "      \"Expected an SCV_MAP, but got \" + value.getDiscriminant());",
+                "}",
+                "SCMapEntry[] entries = value.getMap().getSCMap();",
+                "if (entries.length != size) {",
+                "  throw new IllegalArgumentException(",
+                "      \"Expected \" + size + \" fields, but got \" + entries.length);",
+                "}",
+                "return entries;"));
+  }
+
+  private static String field(TypeMapper mapper) {
+    return mapper.helper(
+        "field",
+        name ->
+            TypeMapper.method(
+                "SCVal " + name + "(SCMapEntry entry, String name)",
+                "if (!name.equals(Scv.fromSymbol(entry.getKey()))) {",
+                "  throw new IllegalArgumentException(",
+                "      \"Expected field '\" + name + \"', but got \" + entry.getKey());",
+                "}",
+                "return entry.getVal();"));
+  }
+
+  private static String vecElements(TypeMapper mapper) {
+    return mapper.helper(
+        "vecElements",
+        name ->
+            TypeMapper.method(
+                "SCVal[] " + name + "(SCVal value, int size)",
+                "SCVal[] values = Scv.fromVec(value).toArray(new SCVal[0]);",
+                "if (values.length != size) {",
+                "  throw new IllegalArgumentException(",
+                "      \"Expected \" + size + \" values, but got \" + values.length);",
+                "}",
+                "return values;"));
+  }
+
+  private static String unionElements(TypeMapper mapper) {
+    return mapper.helper(
+        "unionElements",
+        name ->
+            TypeMapper.method(
+                "SCVal[] " + name + "(SCVal value)",
+                "SCVal[] values = Scv.fromVec(value).toArray(new SCVal[0]);",
+                "if (values.length == 0) {",
+                "  throw new IllegalArgumentException(\"Expected the name of a case\");",
+                "}",
+                "return values;"));
+  }
+
+  private static String checkCase(TypeMapper mapper) {
+    return mapper.helper(
+        "checkCase",
+        name ->
+            TypeMapper.method(
+                "void " + name + "(SCVal[] values, int size, String type)",
+                "if (values.length != size) {",
+                "  throw new IllegalArgumentException(",
+                "      \"Expected \" + (size - 1) + \" values for a case of \" + type",
+                "          + \", but got \" + (values.length - 1));",
+                "}"));
+  }
+
+  private static SCSpecTypeDef voidType() {
+    return SCSpecTypeDef.builder().discriminant(SCSpecType.SC_SPEC_TYPE_VOID).build();
+  }
+
+  private static String udtName(SCSpecEntry entry) {
+    if (entry.getDiscriminant() == null) {
+      return null;
+    }
+    switch (entry.getDiscriminant()) {
+      case SC_SPEC_ENTRY_UDT_STRUCT_V0:
+        return decode(entry.getUdtStructV0().getName());
+      case SC_SPEC_ENTRY_UDT_UNION_V0:
+        return decode(entry.getUdtUnionV0().getName());
+      case SC_SPEC_ENTRY_UDT_ENUM_V0:
+        return decode(entry.getUdtEnumV0().getName());
+      case SC_SPEC_ENTRY_UDT_ERROR_ENUM_V0:
+        return decode(entry.getUdtErrorEnumV0().getName());
+      default:
+        return null;
+    }
+  }
+
+  static String decode(XdrString value) {
+    if (value == null || value.getBytes() == null) {
+      return "";
+    }
+    return new String(value.getBytes(), StandardCharsets.UTF_8);
+  }
+
+  private static final class Field {
+    private final String name;
+    private final String javaName;
+    private final JavaType type;
+    private final String doc;
+
+    private Field(String name, String javaName, JavaType type, String doc) {
+      this.name = name;
+      this.javaName = javaName;
+      this.type = type;
+      this.doc = doc;
+    }
+  }
+
+  private static final class UnionCase {
+    private final String name;
+    private final String className;
+    private final String doc;
+    private final List<Field> fields;
+
+    private UnionCase(String name, String className, String doc, List<Field> fields) {
+      this.name = name;
+      this.className = className;
+      this.doc = doc;
+      this.fields = fields;
+    }
+  }
+}
@@ -0,0 +1,139 @@
+package org.stellar.sdk.contract.bindgen;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/** Turns the names of a contract spec into Java identifiers and literals. */
+final class Names {
+  private static final Set<String> KEYWORDS =
+      new HashSet<>(
+          Arrays.asList(
+              "abstract",
+              "assert",
+              "boolean",
+              "break",
+              "byte",
+              "case",
+              "catch",
+              "char",
+              "class",
+              "const",
+              "continue",
+              "default",
+              "do",
+              "double",
+              "else",
+              "enum",
+              "extends",
+              "final",
+              "finally",
+              "float",
+              "for",
+              "goto",
+              "if",
+              "implements",
+              "import",
+              "instanceof",
+              "int",
+              "interface",
+              "long",
+              "native",
+              "new",
+              "package",
+              "private",
+              "protected",
+              "public",
+              "return",
+              "short",
+              "static",
+              "strictfp",
+              "super",
+              "switch",
+              "synchronized",
+              "this",
+              "throw",
+              "throws",
+              "transient",
+              "try",
+              "void",
+              "volatile",
+              "while",
+              "true",
+              "false",
+              "null",
+              "var",
+              "record",
+              "yield",
+              "_"));
+
+  private Names() {}
+
+  /** Returns a lower camel case identifier for a snake case name, such as a function or field. */
+  static String member(String name) {
+    StringBuilder result = new StringBuilder();
+    boolean upper = false;
+    for (char c : name.toCharArray()) {
+      if (c == '_') {
+        upper = result.length() > 0;
+      } else if (Character.isJavaIdentifierPart(c)) {
+        result.append(upper ? Character.toUpperCase(c) : c);
+        upper = false;
+      }
+    }
+    if (result.length() == 0) {
+      return "value";
+    }
+    result.setCharAt(0, Character.toLowerCase(result.charAt(0)));
+    return identifier(result.toString());
+  }
+
+  /** Returns an upper camel case identifier for a type name. */
+  static String type(String name) {
+    String member = member(name);
+    String result = Character.toUpperCase(member.charAt(0)) + member.substring(1);
+    return result.endsWith("_") ? result.substring(0, result.length() - 1) : result;
+  }
+
+  /** Returns the name unchanged if it is a valid identifier, or a sanitized version of it. */
+  static String identifier(String name) {
+    StringBuilder result = new StringBuilder();
+    for (char c : name.toCharArray()) {
+      result.append(Character.isJavaIdentifierPart(c) ? c : '_');
+    }
+    if (result.length() == 0 || !Character.isJavaIdentifierStart(result.charAt(0))) {
+      result.insert(0, '_');
+    }
+    String identifier = result.toString();
+    return KEYWORDS.contains(identifier) ? identifier + "_" : identifier;
+  }
+
+  /** Returns the name, with a {@code _} suffix until it is not in the used names, and adds it. */
+  static String unique(String name, Set<String> used) {
+    String result = name;
+    while (!used.add(result)) {
+      result += "_";
+    }
+    return result;
+  }
+
+  /** Returns a Java string literal. */
+  static String literal(String value) {
+    StringBuilder result = new StringBuilder("\"");
+    for (char c : value.toCharArray()) {
+      if (c == '"' || c == '\\') {
+        result.append('\\').append(c);
+      } else if (c < 0x20 || c > 0x7e) {
+        result.append(String.format("\\u%04x", (int) c));
+      } else {
+        result.append(c);
+      }
+    }
+    return result.append('"').toString();
+  }
+
+  /** Returns {@code true} if the name is a valid Java identifier which is not a keyword. */
+  static boolean isIdentifier(String name) {
+    return !name.isEmpty() && identifier(name).equals(name);
+  }
+}
@@ -0,0 +1,210 @@
+package org.stellar.sdk.contract.bindgen;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+/** Builds the source of a Java file, line by line, with two spaces per indentation level. */
+final class SourceWriter {
+  // The types the generated code refers to by their simple names. Only the imports which are used
+  // by a file are written.
+  private static final Map<String, String> IMPORTS = new TreeMap<>();
+
+  static {
+    for (String name :
+        new String[] {
+          "java.io.Closeable",
+          "java.io.IOException",
+          "java.math.BigInteger",
+          "java.nio.charset.StandardCharsets",
+          "java.util.ArrayList",
+          "java.util.Arrays",
+          "java.util.Collection",
+          "java.util.LinkedHashMap",
+          "java.util.List",
+          "java.util.Map",
+          "java.util.Objects",
+          "org.stellar.sdk.Address",
+          "org.stellar.sdk.KeyPair",
+          "org.stellar.sdk.Network",
+          "org.stellar.sdk.contract.AssembledTransaction",
+          "org.stellar.sdk.contract.ContractClient",
+          "org.stellar.sdk.scval.Scv",
+          "org.stellar.sdk.xdr.SCError",
+          "org.stellar.sdk.xdr.SCErrorType",
+          "org.stellar.sdk.xdr.SCMap",
+          "org.stellar.sdk.xdr.SCMapEntry",
+          "org.stellar.sdk.xdr.SCVal",
+          "org.stellar.sdk.xdr.SCValType",
+        }) {
+      IMPORTS.put(name.substring(name.lastIndexOf('.') + 1), name);
+    }
+  }
+
+  /** The simple names which the generated types must not use. */
+  static final TreeSet<String> RESERVED_NAMES = new TreeSet<>(IMPORTS.keySet());
+
+  static {
+    for (String name :
+        new String[] {
+          "Boolean",
+          "IllegalArgumentException",
+          "Integer",
+          "Long",
+          "Object",
+          "Override",
+          "String",
+          "Void"
+        }) {
+      RESERVED_NAMES.add(name);
+    }
+  }
+
+  private final StringBuilder out = new StringBuilder();
+  private int indent;
+
+  SourceWriter() {
+    this(0);
+  }
+
+  SourceWriter(int indent) {
+    this.indent = indent;
+  }
+
+  /** Writes a line, or an empty line for an empty string. */
+  SourceWriter line(String line) {
+    if (!line.isEmpty()) {
+      for (int i = 0; i < indent; i++) {
+        out.append("  ");
+      }
+      out.append(line);
+    }
+    out.append('\n');
+    return this;
+  }
+
+  /** Writes a line ending with {@code {} and indents the following lines. */
+  SourceWriter open(String line) {
+    line(line + " {");
+    indent++;
+    return this;
+  }
+
+  /**
+   * Writes the prefix, the items separated by commas and the suffix on one line, or each item on
+   * its own line if they do not fit in 100 columns.
+   */
+  SourceWriter list(String prefix, List<String> items, String suffix) {
+    String single = prefix + String.join(", ", items) + suffix;
+    if (items.isEmpty() || indent * 2 + single.length() <= 100) {
+      return line(single);
+    }
+    line(prefix);
+    for (int i = 0; i < items.size(); i++) {
+      line("    " + items.get(i) + (i == items.size() - 1 ? suffix : ","));
+    }
+    return this;
+  }
+
+  /** Writes a {@link #list} ending with {@code ) {} and indents the following lines. */
+  SourceWriter openList(String prefix, List<String> items) {
+    list(prefix, items, ") {");
+    indent++;
+    return this;
+  }
+
+  /** Outdents and writes a closing brace. */
+  SourceWriter close() {
+    return close("");
+  }
+
+  /** Outdents and writes a closing brace followed by the suffix. */
+  SourceWriter close(String suffix) {
+    indent--;
+    return line("}" + suffix);
+  }
+
+  /** Writes a doc comment, if there is any text. */
+  SourceWriter doc(String... paragraphs) {
+    StringBuilder text = new StringBuilder();
+    boolean hasTag = false;
+    for (String paragraph : paragraphs) {
+      if (paragraph == null || paragraph.trim().isEmpty()) {
+        continue;
+      }
+      boolean tag = paragraph.startsWith("@");
+      if (text.length() > 0) {
+        text.append(tag && hasTag ? "\n" : "\n\n");
+        if (!tag) {
+          text.append("<p>");
+        }
+      }
+      hasTag |= tag;
+      text.append(paragraph.trim());
+    }
+    if (text.length() == 0) {
+      return this;
+    }
+    // A backslash could start a unicode escape, which javac reads even in comments.
+    String escaped =
+        text.toString().replace("*/", "*&#47;").replace("\\", "&#92;").replace("\r", "");
+    line("/**");
+    int width = 100 - indent * 2 - " * ".length();
+    for (String docLine : escaped.split("\n", -1)) {
+      if (docLine.isEmpty()) {
+        line(" *");
+        continue;
+      }
+      // Wraps at spaces, keeping words which are longer than a line whole.
+      StringBuilder wrapped = new StringBuilder();
+      for (String word : docLine.split(" +")) {
+        if (wrapped.length() > 0 && wrapped.length() + 1 + word.length() > width) {
+          line(" * " + wrapped);
+          wrapped.setLength(0);
+        }
+        wrapped.append(wrapped.length() > 0 ? " " : "").append(word);
+      }
+      line(" * " + wrapped);
+    }
+    return line(" */");
+  }
+
+  /** Appends source which is already indented. */
+  SourceWriter raw(String source) {
+    out.append(source);
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return out.toString();
+  }
+
+  /**
+   * Returns a Java file with the header, the package, the imports used by the body, and the body.
+   */
+  static String file(String packageName, String body) {
+    StringBuilder result = new StringBuilder();
+    result.append("// Automatically generated by contract-bindgen\n");
+    result.append("// DO NOT EDIT or your changes may be overwritten\n\n");
+    result.append("package ").append(packageName).append(";\n\n");
+    boolean any = false;
+    // Sorted by the full name, in the order of the spotless configuration of the SDK.
+    TreeSet<String> used = new TreeSet<>();
+    for (Map.Entry<String, String> entry : IMPORTS.entrySet()) {
+      if (Pattern.compile("(?<![\\w.])" + entry.getKey() + "\\b").matcher(body).find()) {
+        used.add(entry.getValue());
+      }
+    }
+    for (String name : used) {
+      result.append("import ").append(name).append(";\n");
+      any = true;
+    }
+    if (any) {
+      result.append('\n');
+    }
+    return result.append(body).toString();
+  }
+}
@@ -0,0 +1,356 @@
+package org.stellar.sdk.contract.bindgen;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import org.stellar.sdk.xdr.SCSpecTypeDef;
+
+/**
+ * Maps the types of a contract spec to Java types, with the expressions which encode and decode
+ * them.
+ *
+ * <p>Collections and options are encoded by private static helper methods, which are collected
+ * while the types of a file are mapped and written at the end of the file by {@link
+ * #writeHelpers(SourceWriter)}.
+ */
+final class TypeMapper {
+  private final Map<String, String> udtClasses;
+  private final Map<String, String> helpers = new LinkedHashMap<>();
+
+  /**
+   * @param udtClasses the Java class of each user-defined type, by its name in the spec
+   */
+  TypeMapper(Map<String, String> udtClasses) {
+    this.udtClasses = udtClasses;
+  }
+
+  /** A Java type, with the expressions which convert it to and from an {@code SCVal}. */
+  static final class JavaType {
+    /** The type of fields and parameters. */
+    final String name;
+
+    /** The type as a type argument. */
+    final String boxed;
+
+    /** Whether {@code null} is a valid value. */
+    final boolean nullable;
+
+    private final UnaryOperator<String> encoder;
+    private final UnaryOperator<String> decoder;
+
+    private JavaType(
+        String name,
+        String boxed,
+        boolean nullable,
+        UnaryOperator<String> encoder,
+        UnaryOperator<String> decoder) {
+      this.name = name;
+      this.boxed = boxed;
+      this.nullable = nullable;
+      this.encoder = encoder;
+      this.decoder = decoder;
+    }
+
+    /** Returns an expression which encodes the value of an expression of this type. */
+    String encode(String expression) {
+      return encoder.apply(expression);
+    }
+
+    /** Returns an expression which decodes an {@code SCVal} expression to this type. */
+    String decode(String expression) {
+      return decoder.apply(expression);
+    }
+
+    boolean isPrimitive() {
+      return !name.equals(boxed);
+    }
+
+    boolean isArray() {
+      return name.endsWith("[]");
+    }
+  }
+
+  /** Maps a spec type to a Java type. */
+  JavaType map(SCSpecTypeDef type) {
+    switch (type.getDiscriminant()) {
+      case SC_SPEC_TYPE_VAL:
+      case SC_SPEC_TYPE_TUPLE:
+        return reference("SCVal", e -> e, e -> e);
+      case SC_SPEC_TYPE_BOOL:
+        return primitive("boolean", "Boolean", "Scv.toBoolean", "Scv.fromBoolean");
+      case SC_SPEC_TYPE_VOID:
+        return new JavaType(
+            "Void",
+            "Void",
+            true,
+            e -> "Scv.toVoid()",
+            e -> helper("decodeVoid", this::decodeVoid) + "(" + e + ")");
+      case SC_SPEC_TYPE_ERROR:
+        return reference("SCError", call("Scv.toError"), call("Scv.fromError"));
+      case SC_SPEC_TYPE_U32:
+        return primitive("long", "Long", "Scv.toUint32", "Scv.fromUint32");
+      case SC_SPEC_TYPE_I32:
+        return primitive("int", "Integer", "Scv.toInt32", "Scv.fromInt32");
+      case SC_SPEC_TYPE_U64:
+        return bigInteger("Uint64");
+      case SC_SPEC_TYPE_I64:
+        return primitive("long", "Long", "Scv.toInt64", "Scv.fromInt64");
+      case SC_SPEC_TYPE_TIMEPOINT:
+        return bigInteger("TimePoint");
+      case SC_SPEC_TYPE_DURATION:
+        return bigInteger("Duration");
+      case SC_SPEC_TYPE_U128:
+        return bigInteger("Uint128");
+      case SC_SPEC_TYPE_I128:
+        return bigInteger("Int128");
+      case SC_SPEC_TYPE_U256:
+        return bigInteger("Uint256");
+      case SC_SPEC_TYPE_I256:
+        return bigInteger("Int256");
+      case SC_SPEC_TYPE_BYTES:
+        return reference("byte[]", call("Scv.toBytes"), call("Scv.fromBytes"));
+      case SC_SPEC_TYPE_BYTES_N:
+        long length = type.getBytesN().getN().getUint32().getNumber();
+        return reference(
+            "byte[]",
+            e -> helper("encodeBytesN", this::encodeBytesN) + "(" + e + ", " + length + ")",
+            call("Scv.fromBytes"));
+      case SC_SPEC_TYPE_STRING:
+        return reference(
+            "String",
+            call("Scv.toString"),
+            e -> helper("decodeString", this::decodeString) + "(" + e + ")");
+      case SC_SPEC_TYPE_SYMBOL:
+        return reference("String", call("Scv.toSymbol"), call("Scv.fromSymbol"));
+      case SC_SPEC_TYPE_ADDRESS:
+      case SC_SPEC_TYPE_MUXED_ADDRESS:
+        return reference("Address", call("Scv.toAddress"), call("Scv.fromAddress"));
+      case SC_SPEC_TYPE_OPTION:
+        return option(map(type.getOption().getValueType()), key(type));
+      case SC_SPEC_TYPE_RESULT:
+        // A contract call which returns an error fails, so a result value is always the ok value.
+        return map(type.getResult().getOkType());
+      case SC_SPEC_TYPE_VEC:
+        return vec(map(type.getVec().getElementType()), key(type));
+      case SC_SPEC_TYPE_MAP:
+        return map(map(type.getMap().getKeyType()), map(type.getMap().getValueType()), key(type));
+      case SC_SPEC_TYPE_UDT:
+        String className = udtClass(type);
+        return reference(className, e -> e + ".toSCVal()", call(className + ".fromSCVal"));
+      default:
+        throw new IllegalArgumentException("Unsupported spec type " + type.getDiscriminant());
+    }
+  }
+
+  /**
+   * Returns the name of a helper method, adding the method if it is not there yet. A different
+   * method which would have the same name gets a numbered name.
+   */
+  String helper(String name, Function<String, String> source) {
+    for (int i = 1; ; i++) {
+      String candidate = i == 1 ? name : name + i;
+      String code = source.apply(candidate);
+      String existing = helpers.putIfAbsent(candidate, code);
+      if (existing == null || existing.equals(code)) {
+        return candidate;
+      }
+    }
+  }
+
+  /** Writes the helper methods used by the mapped types. */
+  void writeHelpers(SourceWriter out) {
+    for (String code : helpers.values()) {
+      out.line("").raw(code);
+    }
+  }
+
+  private JavaType option(JavaType value, String key) {
+    return new JavaType(
+        value.boxed,
+        value.boxed,
+        true,
+        e ->
+            helper(
+                    "encode" + key,
+                    name ->
+                        method(
+                            "SCVal " + name + "(" + value.boxed + " value)",
+                            "return value == null ? Scv.toVoid() : " + value.encode("value") + ";"))
+                + "("
+                + e
+                + ")",
+        e ->
+            helper(
+                    "decode" + key,
+                    name ->
+                        method(
+                            value.boxed + " " + name + "(SCVal value)",
+                            "return value.getDiscriminant() == SCValType.SCV_VOID ? null : "
+                                + value.decode("value")
+                                + ";"))
+                + "("
+                + e
+                + ")");
+  }
+
+  private JavaType vec(JavaType element, String key) {
+    String type = "List<" + element.boxed + ">";
+    return reference(
+        type,
+        e ->
+            helper(
+                    "encode" + key,
+                    name ->
+                        method(
+                            "SCVal " + name + "(" + type + " value)",
+                            "List<SCVal> values = new ArrayList<>(value.size());",
+                            "for (" + element.boxed + " element : value) {",
+                            "  values.add(" + element.encode("element") + ");",
+                            "}",
+                            "return Scv.toVec(values);"))
+                + "("
+                + e
+                + ")",
+        e ->
+            helper(
+                    "decode" + key,
+                    name ->
+                        method(
+                            type + " " + name + "(SCVal value)",
+                            "Collection<SCVal> elements = Scv.fromVec(value);",
+                            type + " values = new ArrayList<>(elements.size());",
+                            "for (SCVal element : elements) {",
+                            "  values.add(" + element.decode("element") + ");",
+                            "}",
+                            "return values;"))
+                + "("
+                + e
+                + ")");
+  }
+
+  private JavaType map(JavaType key, JavaType value, String typeKey) {
+    String type = "Map<" + key.boxed + ", " + value.boxed + ">";
+    String entry = "Map.Entry<" + key.boxed + ", " + value.boxed + ">";
+    return reference(
+        type,
+        e ->
+            helper(
+                    "encode" + typeKey,
+                    name ->
+                        method(
+                            "SCVal " + name + "(" + type + " value)",
+                            "Map<SCVal, SCVal> entries = new LinkedHashMap<>();",
+                            "for (" + entry + " entry : value.entrySet()) {",
+                            "  entries.put("
+                                + key.encode("entry.getKey()")
+                                + ", "
+                                + value.encode("entry.getValue()")
+                                + ");",
+                            "}",
+                            "return Scv.toMap(entries);"))
+                + "("
+                + e
+                + ")",
+        e ->
+            helper(
+                    "decode" + typeKey,
+                    name ->
+                        method(
+                            type + " " + name + "(SCVal value)",
+                            type + " entries = new LinkedHashMap<>();",
+                            "for (Map.Entry<SCVal, SCVal> entry : Scv.fromMap(value).entrySet()) {",
+                            "  entries.put("
+                                + key.decode("entry.getKey()")
+                                + ", "
+                                + value.decode("entry.getValue()")
+                                + ");",
+                            "}",
+                            "return entries;"))
+                + "("
+                + e
+                + ")");
+  }
+
+  private String decodeVoid(String name) {
+    return method("Void " + name + "(SCVal value)", "Scv.fromVoid(value);", "return null;");
+  }
+
+  private String decodeString(String name) {
+    return method(
+        "String " + name + "(SCVal value)",
+        "return new String(Scv.fromString(value), StandardCharsets.UTF_8);");
+  }
+
+  private String encodeBytesN(String name) {
+    return method(
+        "SCVal " + name + "(byte[] value, int length)",
+        "if (value.length != length) {",
+        "  throw new IllegalArgumentException(",
+        "      \"Expected \" + length + \" bytes, but got \" + value.length);",
+        "}",
+        "return Scv.toBytes(value);");
+  }
+
+  /** Returns the source of a private static method of a generated class. */
+  static String method(String signature, String... body) {
+    SourceWriter out = new SourceWriter(1);
+    out.open("private static " + signature);
+    for (String line : body) {
+      out.line(line);
+    }
+    out.close();
+    return out.toString();
+  }
+
+  // A name for the helpers of a type, such as VecOptionAddress.
+  private String key(SCSpecTypeDef type) {
+    switch (type.getDiscriminant()) {
+      case SC_SPEC_TYPE_OPTION:
+        return "Option" + key(type.getOption().getValueType());
+      case SC_SPEC_TYPE_RESULT:
+        return key(type.getResult().getOkType());
+      case SC_SPEC_TYPE_VEC:
+        return "Vec" + key(type.getVec().getElementType());
+      case SC_SPEC_TYPE_MAP:
+        return "Map" + key(type.getMap().getKeyType()) + key(type.getMap().getValueType());
+      case SC_SPEC_TYPE_BYTES_N:
+        return "Bytes" + type.getBytesN().getN().getUint32().getNumber();
+      case SC_SPEC_TYPE_UDT:
+        return udtClass(type);
+      default:
+        return Names.type(
+            type.getDiscriminant()
+                .name()
+                .substring("SC_SPEC_TYPE_".length())
+                .toLowerCase(Locale.ROOT));
+    }
+  }
+
+  private String udtClass(SCSpecTypeDef type) {
+    String name = ContractBindingsGenerator.decode(type.getUdt().getName());
+    String className = udtClasses.get(name);
+    if (className == null) {
+      throw new IllegalArgumentException("Type '" + name + "' is not in the contract spec");
+    }
+    return className;
+  }
+
+  private static JavaType primitive(String name, String boxed, String encode, String decode) {
+    return new JavaType(name, boxed, false, call(encode), call(decode));
+  }
+
+  private static JavaType bigInteger(String scvName) {
+    return reference("BigInteger", call("Scv.to" + scvName), call("Scv.from" + scvName));
+  }
+
+  private static JavaType reference(
+      String name, UnaryOperator<String> encoder, UnaryOperator<String> decoder) {
+    return new JavaType(name, name, false, encoder, decoder);
+  }
+
+  private static UnaryOperator<String> call(String method) {
+    return e -> method + "(" + e + ")";
+  }
+}
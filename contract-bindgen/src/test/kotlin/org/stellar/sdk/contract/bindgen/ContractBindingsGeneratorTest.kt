@@ -0,0 +1,419 @@
+package org.stellar.sdk.contract.bindgen
+
+import io.kotest.assertions.throwables.shouldThrow
+import io.kotest.core.spec.style.FunSpec
+import io.kotest.matchers.collections.shouldContainExactlyInAnyOrder
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.string.shouldContain
+import java.io.ByteArrayOutputStream
+import java.io.PrintStream
+import java.math.BigInteger
+import java.net.URLClassLoader
+import java.nio.file.Files
+import java.nio.file.Path
+import javax.tools.DiagnosticCollector
+import javax.tools.JavaFileObject
+import javax.tools.ToolProvider
+import org.stellar.sdk.Address
+import org.stellar.sdk.KeyPair
+import org.stellar.sdk.contract.AssembledTransaction
+import org.stellar.sdk.contract.ContractSpec
+import org.stellar.sdk.contract.ContractSpecConverter
+import org.stellar.sdk.scval.Scv
+import org.stellar.sdk.xdr.SCSpecEntry
+import org.stellar.sdk.xdr.SCSpecEntryKind
+import org.stellar.sdk.xdr.SCSpecFunctionInputV0
+import org.stellar.sdk.xdr.SCSpecFunctionV0
+import org.stellar.sdk.xdr.SCSpecType
+import org.stellar.sdk.xdr.SCSpecTypeBytesN
+import org.stellar.sdk.xdr.SCSpecTypeDef
+import org.stellar.sdk.xdr.SCSpecTypeMap
+import org.stellar.sdk.xdr.SCSpecTypeOption
+import org.stellar.sdk.xdr.SCSpecTypeUDT
+import org.stellar.sdk.xdr.SCSpecTypeVec
+import org.stellar.sdk.xdr.SCSpecUDTEnumCaseV0
+import org.stellar.sdk.xdr.SCSpecUDTEnumV0
+import org.stellar.sdk.xdr.SCSpecUDTStructFieldV0
+import org.stellar.sdk.xdr.SCSpecUDTStructV0
+import org.stellar.sdk.xdr.SCSpecUDTUnionCaseTupleV0
+import org.stellar.sdk.xdr.SCSpecUDTUnionCaseV0
+import org.stellar.sdk.xdr.SCSpecUDTUnionCaseV0Kind
+import org.stellar.sdk.xdr.SCSpecUDTUnionCaseVoidV0
+import org.stellar.sdk.xdr.SCSpecUDTUnionV0
+import org.stellar.sdk.xdr.SCSymbol
+import org.stellar.sdk.xdr.SCVal
+import org.stellar.sdk.xdr.Uint32
+import org.stellar.sdk.xdr.XdrString
+import org.stellar.sdk.xdr.XdrUnsignedInteger
+
+private fun str(value: String) = XdrString(value.toByteArray(Charsets.UTF_8))
+
+private fun type(type: SCSpecType) = SCSpecTypeDef.builder().discriminant(type).build()
+
+private fun udt(name: String) =
+  SCSpecTypeDef.builder()
+    .discriminant(SCSpecType.SC_SPEC_TYPE_UDT)
+    .udt(SCSpecTypeUDT(str(name)))
+    .build()
+
+private fun option(type: SCSpecTypeDef) =
+  SCSpecTypeDef.builder()
+    .discriminant(SCSpecType.SC_SPEC_TYPE_OPTION)
+    .option(SCSpecTypeOption(type))
+    .build()
+
+private fun function(
+  name: String,
+  inputs: List<Pair<String, SCSpecTypeDef>>,
+  output: SCSpecTypeDef?,
+): SCSpecEntry =
+  SCSpecEntry.builder()
+    .discriminant(SCSpecEntryKind.SC_SPEC_ENTRY_FUNCTION_V0)
+    .functionV0(
+      SCSpecFunctionV0.builder()
+        .doc(str("Calls $name."))
+        .name(SCSymbol(str(name)))
+        .inputs(
+          inputs
+            .map {
+              SCSpecFunctionInputV0.builder()
+                .doc(str(""))
+                .name(str(it.first))
+                .type(it.second)
+                .build()
+            }
+            .toTypedArray()
+        )
+        .outputs(listOfNotNull(output).toTypedArray())
+        .build()
+    )
+    .build()
+
+private fun struct(name: String, vararg fields: Pair<String, SCSpecTypeDef>): SCSpecEntry =
+  SCSpecEntry.builder()
+    .discriminant(SCSpecEntryKind.SC_SPEC_ENTRY_UDT_STRUCT_V0)
+    .udtStructV0(
+      SCSpecUDTStructV0.builder()
+        .doc(str("The $name struct, see */ and \\u0041."))
+        .lib(str(""))
+        .name(str(name))
+        .fields(
+          fields
+            .map {
+              SCSpecUDTStructFieldV0.builder()
+                .doc(str(""))
+                .name(str(it.first))
+                .type(it.second)
+                .build()
+            }
+            .toTypedArray()
+        )
+        .build()
+    )
+    .build()
+
+private val i128 = type(SCSpecType.SC_SPEC_TYPE_I128)
+private val address = type(SCSpecType.SC_SPEC_TYPE_ADDRESS)
+
+private val spec =
+  ContractSpec(
+    listOf(
+      struct(
+        "Order",
+        "kind" to udt("Kind"),
+        "amount" to type(SCSpecType.SC_SPEC_TYPE_U256),
+        "color" to udt("Color"),
+        "max_price" to option(type(SCSpecType.SC_SPEC_TYPE_U32)),
+        "hash" to
+          SCSpecTypeDef.builder()
+            .discriminant(SCSpecType.SC_SPEC_TYPE_BYTES_N)
+            .bytesN(SCSpecTypeBytesN(Uint32(XdrUnsignedInteger(4))))
+            .build(),
+        "tags" to
+          SCSpecTypeDef.builder()
+            .discriminant(SCSpecType.SC_SPEC_TYPE_VEC)
+            .vec(SCSpecTypeVec(type(SCSpecType.SC_SPEC_TYPE_SYMBOL)))
+            .build(),
+      ),
+      struct("Pair", "0" to address, "1" to type(SCSpecType.SC_SPEC_TYPE_STRING)),
+      SCSpecEntry.builder()
+        .discriminant(SCSpecEntryKind.SC_SPEC_ENTRY_UDT_UNION_V0)
+        .udtUnionV0(
+          SCSpecUDTUnionV0.builder()
+            .doc(str(""))
+            .lib(str(""))
+            .name(str("Kind"))
+            .cases(
+              arrayOf(
+                SCSpecUDTUnionCaseV0.builder()
+                  .discriminant(SCSpecUDTUnionCaseV0Kind.SC_SPEC_UDT_UNION_CASE_VOID_V0)
+                  .voidCase(
+                    SCSpecUDTUnionCaseVoidV0.builder().doc(str("")).name(str("Market")).build()
+                  )
+                  .build(),
+                SCSpecUDTUnionCaseV0.builder()
+                  .discriminant(SCSpecUDTUnionCaseV0Kind.SC_SPEC_UDT_UNION_CASE_TUPLE_V0)
+                  .tupleCase(
+                    SCSpecUDTUnionCaseTupleV0.builder()
+                      .doc(str(""))
+                      .name(str("Pair"))
+                      .type(arrayOf(udt("Pair"), type(SCSpecType.SC_SPEC_TYPE_BOOL)))
+                      .build()
+                  )
+                  .build(),
+              )
+            )
+            .build()
+        )
+        .build(),
+      SCSpecEntry.builder()
+        .discriminant(SCSpecEntryKind.SC_SPEC_ENTRY_UDT_ENUM_V0)
+        .udtEnumV0(
+          SCSpecUDTEnumV0.builder()
+            .doc(str(""))
+            .lib(str(""))
+            .name(str("Color"))
+            .cases(
+              arrayOf(
+                SCSpecUDTEnumCaseV0.builder()
+                  .doc(str(""))
+                  .name(str("Red"))
+                  .value(Uint32(XdrUnsignedInteger(1)))
+                  .build(),
+                SCSpecUDTEnumCaseV0.builder()
+                  .doc(str(""))
+                  .name(str("Blue"))
+                  .value(Uint32(XdrUnsignedInteger(2)))
+                  .build(),
+              )
+            )
+            .build()
+        )
+        .build(),
+      function("__constructor", listOf("admin" to address), null),
+      function(
+        "transfer_from",
+        listOf("from" to address, "to" to address, "amount" to i128, "source" to address),
+        i128,
+      ),
+      function(
+        "place",
+        listOf(
+          "orders" to
+            SCSpecTypeDef.builder()
+              .discriminant(SCSpecType.SC_SPEC_TYPE_VEC)
+              .vec(SCSpecTypeVec(udt("Order")))
+              .build(),
+          "limits" to
+            SCSpecTypeDef.builder()
+              .discriminant(SCSpecType.SC_SPEC_TYPE_MAP)
+              .map(SCSpecTypeMap(type(SCSpecType.SC_SPEC_TYPE_SYMBOL), i128))
+              .build(),
+        ),
+        null,
+      ),
+      function("default", listOf(), option(udt("Color"))),
+    )
+  )
+
+private fun compile(files: Map<String, String>, dir: Path): ClassLoader {
+  val sources = dir.resolve("src")
+  val classes = dir.resolve("classes")
+  Files.createDirectories(classes)
+  val paths =
+    files.map { (path, source) ->
+      sources.resolve(path).also {
+        Files.createDirectories(it.parent)
+        Files.write(it, source.toByteArray())
+      }
+    }
+  val compiler = ToolProvider.getSystemJavaCompiler()
+  val diagnostics = DiagnosticCollector<JavaFileObject>()
+  compiler.getStandardFileManager(diagnostics, null, null).use { fileManager ->
+    val ok =
+      compiler
+        .getTask(
+          null,
+          fileManager,
+          diagnostics,
+          listOf(
+            "-classpath",
+            System.getProperty("java.class.path"),
+            "-d",
+            classes.toString(),
+            "-Xlint:all",
+            "-Werror",
+          ),
+          null,
+          fileManager.getJavaFileObjectsFromPaths(paths),
+        )
+        .call()
+    diagnostics.diagnostics.joinToString("\n") shouldBe ""
+    ok shouldBe true
+  }
+  return URLClassLoader(
+    arrayOf(classes.toUri().toURL()),
+    ContractBindingsGeneratorTest::class.java.classLoader,
+  )
+}
+
+class ContractBindingsGeneratorTest :
+  FunSpec({
+    val files = ContractBindingsGenerator(spec, "com.example.orders", "OrdersClient").generate()
+    val loader = compile(files, Files.createTempDirectory("contract-bindgen"))
+    val converter = ContractSpecConverter(spec)
+    val from = "GCEZWKCA5VLDNRLN3RPRJMRZOX3Z6G5CHCGSNFHEYVXM3XOJMDS674JZ"
+
+    fun load(name: String) = loader.loadClass("com.example.orders.$name")
+
+    test("generates a file per type and a client") {
+      files.keys shouldContainExactlyInAnyOrder
+        listOf(
+          "com/example/orders/Order.java",
+          "com/example/orders/Pair.java",
+          "com/example/orders/Kind.java",
+          "com/example/orders/Color.java",
+          "com/example/orders/OrdersClient.java",
+        )
+      files.getValue("com/example/orders/Order.java") shouldContain "*&#47; and &#92;u0041"
+    }
+
+    test("encodes and decodes the types like the runtime converter") {
+      val color = load("Color").getMethod("fromValue", Long::class.java).invoke(null, 2L)
+      val pair =
+        load("Pair")
+          .getConstructor(Address::class.java, String::class.java)
+          .newInstance(Address(from), "memo")
+      val kind =
+        load("Kind\$PairCase")
+          .getConstructor(load("Pair"), Boolean::class.java)
+          .newInstance(pair, true)
+      val order =
+        load("Order")
+          .getConstructor(
+            load("Kind"),
+            BigInteger::class.java,
+            load("Color"),
+            java.lang.Long::class.java,
+            ByteArray::class.java,
+            List::class.java,
+          )
+          .newInstance(kind, BigInteger.TEN, color, null, byteArrayOf(1, 2, 3, 4), listOf("a", "b"))
+
+      val scVal = load("Order").getMethod("toSCVal").invoke(order) as SCVal
+      scVal shouldBe
+        converter.nativeToScVal(
+          mapOf(
+            "kind" to
+              ContractSpecConverter.UnionValue.of("Pair", listOf(Address(from), "memo"), true),
+            "amount" to BigInteger.TEN,
+            "color" to "Blue",
+            "max_price" to null,
+            "hash" to byteArrayOf(1, 2, 3, 4),
+            "tags" to listOf("a", "b"),
+          ),
+          udt("Order"),
+        )
+      load("Order").getMethod("fromSCVal", SCVal::class.java).invoke(null, scVal) shouldBe order
+      load("Kind")
+        .getMethod("fromSCVal", SCVal::class.java)
+        .invoke(null, Scv.toVec(listOf(Scv.toSymbol("Market")))) shouldBe
+        load("Kind\$Market").getConstructor().newInstance()
+      load("Color")
+        .getMethod("fromSCVal", SCVal::class.java)
+        .invoke(null, Scv.toUint32(1))
+        .toString() shouldBe "Red"
+    }
+
+    test("generates a method per function") {
+      val client = load("OrdersClient")
+      client
+        .getMethod(
+          "transferFrom",
+          Address::class.java,
+          Address::class.java,
+          BigInteger::class.java,
+          Address::class.java,
+          String::class.java,
+          KeyPair::class.java,
+          Int::class.java,
+        )
+        .returnType shouldBe AssembledTransaction::class.java
+      client.getMethod(
+        "place",
+        List::class.java,
+        Map::class.java,
+        String::class.java,
+        KeyPair::class.java,
+        Int::class.java,
+      )
+      client.getMethod("default_", String::class.java, KeyPair::class.java, Int::class.java)
+      client.methods.any { it.name == "constructor" } shouldBe false
+      files.getValue("com/example/orders/OrdersClient.java") shouldContain
+        "    Scv.toAddress(source_));\n    return client.invoke(\n        \"transfer_from\","
+    }
+
+    test("rejects invalid names and specs") {
+      shouldThrow<IllegalArgumentException> {
+        ContractBindingsGenerator(spec, "com.example.", "Client")
+      }
+      shouldThrow<IllegalArgumentException> {
+        ContractBindingsGenerator(spec, "com.example", "class")
+      }
+      shouldThrow<IllegalArgumentException> {
+        ContractBindingsGenerator(
+            ContractSpec(listOf(function("get", listOf(), udt("Missing")))),
+            "com.example",
+            "Client",
+          )
+          .generate()
+      }
+    }
+
+    test("writes the bindings of a wasm file from the command line") {
+      val dir = Files.createTempDirectory("contract-bindgen")
+      val xdr = spec.toXdrBytes()
+      val section = ByteArrayOutputStream()
+      section.write(leb128("contractspecv0".length))
+      section.write("contractspecv0".toByteArray())
+      section.write(xdr)
+      val wasm = ByteArrayOutputStream()
+      wasm.write(byteArrayOf(0, 0x61, 0x73, 0x6d, 1, 0, 0, 0))
+      wasm.write(0)
+      wasm.write(leb128(section.size()))
+      wasm.write(section.toByteArray())
+      val wasmFile = dir.resolve("orders.wasm")
+      Files.write(wasmFile, wasm.toByteArray())
+
+      val out = ByteArrayOutputStream()
+      val err = ByteArrayOutputStream()
+      val args =
+        arrayOf(
+          "--wasm",
+          wasmFile.toString(),
+          "--package",
+          "com.example.orders",
+          "--class",
+          "OrdersClient",
+          "--output",
+          dir.resolve("out").toString(),
+        )
+      ContractBindingsGenerator.run(args, PrintStream(out), PrintStream(err)) shouldBe 0
+      String(Files.readAllBytes(dir.resolve("out/com/example/orders/OrdersClient.java"))) shouldBe
+        files.getValue("com/example/orders/OrdersClient.java")
+      ContractBindingsGenerator.run(arrayOf("--wasm"), PrintStream(out), PrintStream(err)) shouldBe
+        2
+    }
+  })
+
+private fun leb128(value: Int): ByteArray {
+  val out = ByteArrayOutputStream()
+  var remaining = value
+  do {
+    var byte = remaining and 0x7f
+    remaining = remaining ushr 7
+    if (remaining != 0) byte = byte or 0x80
+    out.write(byte)
+  } while (remaining != 0)
+  return out.toByteArray()
+}
@@ -1,2 +1,3 @@
 rootProject.name = "stellar-sdk"
 
+include("contract-bindgen")
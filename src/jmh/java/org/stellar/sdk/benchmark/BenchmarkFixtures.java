@@ -0,0 +1,370 @@
+package org.stellar.sdk.benchmark;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.stellar.sdk.Account;
+import org.stellar.sdk.Asset;
+import org.stellar.sdk.KeyPair;
+import org.stellar.sdk.Network;
+import org.stellar.sdk.Transaction;
+import org.stellar.sdk.TransactionBuilder;
+import org.stellar.sdk.operations.PaymentOperation;
+import org.stellar.sdk.xdr.AccountEntry;
+import org.stellar.sdk.xdr.Hash;
+import org.stellar.sdk.xdr.Int64;
+import org.stellar.sdk.xdr.LedgerCloseMeta;
+import org.stellar.sdk.xdr.LedgerCloseMetaBatch;
+import org.stellar.sdk.xdr.LedgerCloseMetaV0;
+import org.stellar.sdk.xdr.LedgerEntry;
+import org.stellar.sdk.xdr.LedgerEntryChange;
+import org.stellar.sdk.xdr.LedgerEntryChangeType;
+import org.stellar.sdk.xdr.LedgerEntryChanges;
+import org.stellar.sdk.xdr.LedgerEntryType;
+import org.stellar.sdk.xdr.LedgerHeader;
+import org.stellar.sdk.xdr.LedgerHeaderHistoryEntry;
+import org.stellar.sdk.xdr.OperationMeta;
+import org.stellar.sdk.xdr.OperationResult;
+import org.stellar.sdk.xdr.OperationResultCode;
+import org.stellar.sdk.xdr.OperationType;
+import org.stellar.sdk.xdr.PaymentResult;
+import org.stellar.sdk.xdr.PaymentResultCode;
+import org.stellar.sdk.xdr.SCPHistoryEntry;
+import org.stellar.sdk.xdr.SequenceNumber;
+import org.stellar.sdk.xdr.Signer;
+import org.stellar.sdk.xdr.StellarValue;
+import org.stellar.sdk.xdr.StellarValueType;
+import org.stellar.sdk.xdr.String32;
+import org.stellar.sdk.xdr.Thresholds;
+import org.stellar.sdk.xdr.TimePoint;
+import org.stellar.sdk.xdr.TransactionEnvelope;
+import org.stellar.sdk.xdr.TransactionMeta;
+import org.stellar.sdk.xdr.TransactionMetaV2;
+import org.stellar.sdk.xdr.TransactionResult;
+import org.stellar.sdk.xdr.TransactionResultCode;
+import org.stellar.sdk.xdr.TransactionResultMeta;
+import org.stellar.sdk.xdr.TransactionResultPair;
+import org.stellar.sdk.xdr.TransactionSet;
+import org.stellar.sdk.xdr.Uint32;
+import org.stellar.sdk.xdr.Uint64;
+import org.stellar.sdk.xdr.UpgradeEntryMeta;
+import org.stellar.sdk.xdr.UpgradeType;
+import org.stellar.sdk.xdr.XdrString;
+import org.stellar.sdk.xdr.XdrUnsignedHyperInteger;
+import org.stellar.sdk.xdr.XdrUnsignedInteger;
+
+/**
+ * Deterministic fixtures shared by the benchmarks.
+ *
+ * <p>All keys are derived from fixed seeds so that results are comparable between runs and
+ * releases.
+ */
+public final class BenchmarkFixtures {
+  /** Network used to sign and hash the benchmark transactions. */
+  public static final Network NETWORK = Network.TESTNET;
+
+  /** Number of operations in the "large" transaction fixture. */
+  public static final int OPERATIONS_PER_TRANSACTION = 100;
+
+  /** Number of transactions in the "large" ledger fixture. */
+  public static final int TRANSACTIONS_PER_LEDGER = 200;
+
+  /** Number of records in the Horizon page fixtures. */
+  public static final int RECORDS_PER_PAGE = 200;
+
+  private BenchmarkFixtures() {}
+
+  /**
+   * Returns a deterministic keypair derived from {@code index}.
+   *
+   * @param index the index used to derive the secret seed
+   * @return the keypair
+   */
+  public static KeyPair keyPair(int index) {
+    byte[] seed = new byte[32];
+    Arrays.fill(seed, (byte) index);
+    seed[0] = (byte) (index >>> 8);
+    return KeyPair.fromSecretSeed(seed);
+  }
+
+  /**
+   * Builds an unsigned transaction containing {@code operationCount} native payments.
+   *
+   * @param operationCount the number of payment operations
+   * @return the transaction
+   */
+  public static Transaction paymentTransaction(int operationCount) {
+    KeyPair source = keyPair(1);
+    TransactionBuilder builder =
+        new TransactionBuilder(new Account(source.getAccountId(), 1234567890L), NETWORK)
+            .setBaseFee(100)
+            .setTimeout(300);
+    for (int i = 0; i < operationCount; i++) {
+      builder.addOperation(
+          PaymentOperation.builder()
+              .destination(keyPair(i + 2).getAccountId())
+              .asset(Asset.createNativeAsset())
+              .amount(new BigDecimal("12.3456789"))
+              .build());
+    }
+    return builder.build();
+  }
+
+  /**
+   * Builds a signed transaction envelope containing {@code operationCount} native payments.
+   *
+   * @param operationCount the number of payment operations
+   * @return the envelope
+   */
+  public static TransactionEnvelope signedEnvelope(int operationCount) {
+    Transaction transaction = paymentTransaction(operationCount);
+    transaction.sign(keyPair(1));
+    return transaction.toEnvelopeXdr();
+  }
+
+  /**
+   * Builds a {@link LedgerCloseMeta} holding {@code transactionCount} transactions with {@code
+   * operationsPerTransaction} payments each, along with fee and apply metadata that touches the
+   * source and destination accounts the way a real ledger close would.
+   *
+   * @param transactionCount the number of transactions in the ledger
+   * @param operationsPerTransaction the number of payments in each transaction
+   * @return the ledger close meta
+   */
+  public static LedgerCloseMeta ledgerCloseMeta(
+      int transactionCount, int operationsPerTransaction) {
+    return ledgerCloseMeta(123456, transactionCount, operationsPerTransaction);
+  }
+
+  /**
+   * Builds a {@link LedgerCloseMetaBatch} of {@code ledgerCount} consecutive ledgers, each built
+   * like {@link #ledgerCloseMeta(int, int)}.
+   *
+   * @param startSequence the sequence of the first ledger
+   * @param ledgerCount the number of ledgers in the batch
+   * @param transactionCount the number of transactions in each ledger
+   * @param operationsPerTransaction the number of payments in each transaction
+   * @return the batch
+   */
+  public static LedgerCloseMetaBatch ledgerCloseMetaBatch(
+      int startSequence, int ledgerCount, int transactionCount, int operationsPerTransaction) {
+    LedgerCloseMeta[] ledgers = new LedgerCloseMeta[ledgerCount];
+    for (int i = 0; i < ledgerCount; i++) {
+      ledgers[i] = ledgerCloseMeta(startSequence + i, transactionCount, operationsPerTransaction);
+    }
+    return LedgerCloseMetaBatch.builder()
+        .startSequence(uint32(startSequence))
+        .endSequence(uint32(startSequence + ledgerCount - 1))
+        .ledgerCloseMetas(ledgers)
+        .build();
+  }
+
+  private static LedgerCloseMeta ledgerCloseMeta(
+      int sequence, int transactionCount, int operationsPerTransaction) {
+    TransactionEnvelope envelope = signedEnvelope(operationsPerTransaction);
+    TransactionEnvelope[] envelopes = new TransactionEnvelope[transactionCount];
+    TransactionResultMeta[] txProcessing = new TransactionResultMeta[transactionCount];
+    for (int i = 0; i < transactionCount; i++) {
+      envelopes[i] = envelope;
+      txProcessing[i] = transactionResultMeta(i, operationsPerTransaction);
+    }
+
+    LedgerCloseMetaV0 v0 =
+        LedgerCloseMetaV0.builder()
+            .ledgerHeader(ledgerHeader(sequence))
+            .txSet(TransactionSet.builder().previousLedgerHash(hash(1)).txs(envelopes).build())
+            .txProcessing(txProcessing)
+            .upgradesProcessing(new UpgradeEntryMeta[0])
+            .scpInfo(new SCPHistoryEntry[0])
+            .build();
+    return LedgerCloseMeta.builder().discriminant(0).v0(v0).build();
+  }
+
+  /**
+   * Builds a Horizon collection page with {@code recordCount} records by cycling through the
+   * records of the given fixture page.
+   *
+   * @param resource the classpath resource of the fixture page, e.g. {@code pages/effects.json}
+   * @param recordCount the number of records in the resulting page
+   * @return the page JSON
+   */
+  public static String horizonPage(String resource, int recordCount) {
+    JsonObject page = JsonParser.parseString(readResource(resource)).getAsJsonObject();
+    JsonObject embedded = page.getAsJsonObject("_embedded");
+    JsonArray records = embedded.getAsJsonArray("records");
+    JsonArray expanded = new JsonArray(recordCount);
+    for (int i = 0; i < recordCount; i++) {
+      JsonElement record = records.get(i % records.size()).deepCopy();
+      expanded.add(record);
+    }
+    embedded.add("records", expanded);
+    return page.toString();
+  }
+
+  private static TransactionResultMeta transactionResultMeta(int index, int operationCount) {
+    OperationResult[] results = new OperationResult[operationCount];
+    OperationMeta[] operationMetas = new OperationMeta[operationCount];
+    for (int i = 0; i < operationCount; i++) {
+      results[i] =
+          OperationResult.builder()
+              .discriminant(OperationResultCode.opINNER)
+              .tr(
+                  OperationResult.OperationResultTr.builder()
+                      .discriminant(OperationType.PAYMENT)
+                      .paymentResult(
+                          PaymentResult.builder()
+                              .discriminant(PaymentResultCode.PAYMENT_SUCCESS)
+                              .build())
+                      .build())
+              .build();
+      operationMetas[i] =
+          new OperationMeta(
+              changes(
+                  accountChange(LedgerEntryChangeType.LEDGER_ENTRY_STATE, 1, 1000),
+                  accountChange(LedgerEntryChangeType.LEDGER_ENTRY_UPDATED, 1, 900),
+                  accountChange(LedgerEntryChangeType.LEDGER_ENTRY_STATE, i + 2, 1000),
+                  accountChange(LedgerEntryChangeType.LEDGER_ENTRY_UPDATED, i + 2, 1100)));
+    }
+
+    TransactionResult result =
+        TransactionResult.builder()
+            .feeCharged(new Int64(100L * operationCount))
+            .result(
+                TransactionResult.TransactionResultResult.builder()
+                    .discriminant(TransactionResultCode.txSUCCESS)
+                    .results(results)
+                    .build())
+            .ext(TransactionResult.TransactionResultExt.builder().discriminant(0).build())
+            .build();
+
+    TransactionMeta meta =
+        TransactionMeta.builder()
+            .discriminant(2)
+            .v2(
+                TransactionMetaV2.builder()
+                    .txChangesBefore(
+                        changes(
+                            accountChange(LedgerEntryChangeType.LEDGER_ENTRY_STATE, 1, 1000),
+                            accountChange(LedgerEntryChangeType.LEDGER_ENTRY_UPDATED, 1, 1000)))
+                    .operations(operationMetas)
+                    .txChangesAfter(changes())
+                    .build())
+            .build();
+
+    return TransactionResultMeta.builder()
+        .result(TransactionResultPair.builder().transactionHash(hash(index)).result(result).build())
+        .feeProcessing(
+            changes(
+                accountChange(LedgerEntryChangeType.LEDGER_ENTRY_STATE, 1, 1100),
+                accountChange(LedgerEntryChangeType.LEDGER_ENTRY_UPDATED, 1, 1000)))
+        .txApplyProcessing(meta)
+        .build();
+  }
+
+  private static LedgerEntryChanges changes(LedgerEntryChange... changes) {
+    return new LedgerEntryChanges(changes);
+  }
+
+  private static LedgerEntryChange accountChange(
+      LedgerEntryChangeType type, int account, long balance) {
+    LedgerEntry entry =
+        LedgerEntry.builder()
+            .lastModifiedLedgerSeq(uint32(123455))
+            .data(
+                LedgerEntry.LedgerEntryData.builder()
+                    .discriminant(LedgerEntryType.ACCOUNT)
+                    .account(
+                        AccountEntry.builder()
+                            .accountID(keyPair(account).getXdrAccountId())
+                            .balance(new Int64(balance * 10_000_000L))
+                            .seqNum(new SequenceNumber(new Int64(1234567890L)))
+                            .numSubEntries(uint32(0))
+                            .flags(uint32(0))
+                            .homeDomain(new String32(new XdrString("")))
+                            .thresholds(new Thresholds(new byte[] {1, 0, 0, 0}))
+                            .signers(new Signer[0])
+                            .ext(AccountEntry.AccountEntryExt.builder().discriminant(0).build())
+                            .build())
+                    .build())
+            .ext(LedgerEntry.LedgerEntryExt.builder().discriminant(0).build())
+            .build();
+    LedgerEntryChange.LedgerEntryChangeBuilder change =
+        LedgerEntryChange.builder().discriminant(type);
+    if (type == LedgerEntryChangeType.LEDGER_ENTRY_STATE) {
+      change.state(entry);
+    } else {
+      change.updated(entry);
+    }
+    return change.build();
+  }
+
+  private static LedgerHeaderHistoryEntry ledgerHeader(int sequence) {
+    LedgerHeader header =
+        LedgerHeader.builder()
+            .ledgerVersion(uint32(23))
+            .previousLedgerHash(hash(2))
+            .scpValue(
+                StellarValue.builder()
+                    .txSetHash(hash(3))
+                    .closeTime(new TimePoint(new Uint64(new XdrUnsignedHyperInteger(1700000000L))))
+                    .upgrades(new UpgradeType[0])
+                    .ext(
+                        StellarValue.StellarValueExt.builder()
+                            .discriminant(StellarValueType.STELLAR_VALUE_BASIC)
+                            .build())
+                    .build())
+            .txSetResultHash(hash(4))
+            .bucketListHash(hash(5))
+            .ledgerSeq(uint32(sequence))
+            .totalCoins(new Int64(1_000_000_000_000_000L))
+            .feePool(new Int64(1_000_000L))
+            .inflationSeq(uint32(0))
+            .idPool(new Uint64(new XdrUnsignedHyperInteger(0L)))
+            .baseFee(uint32(100))
+            .baseReserve(uint32(5_000_000))
+            .maxTxSetSize(uint32(1000))
+            .skipList(new Hash[] {hash(6), hash(7), hash(8), hash(9)})
+            .ext(LedgerHeader.LedgerHeaderExt.builder().discriminant(0).build())
+            .build();
+    return LedgerHeaderHistoryEntry.builder()
+        .hash(hash(sequence))
+        .header(header)
+        .ext(LedgerHeaderHistoryEntry.LedgerHeaderHistoryEntryExt.builder().discriminant(0).build())
+        .build();
+  }
+
+  private static Uint32 uint32(long value) {
+    return new Uint32(new XdrUnsignedInteger(value));
+  }
+
+  private static Hash hash(int value) {
+    byte[] bytes = new byte[32];
+    Arrays.fill(bytes, (byte) value);
+    return new Hash(bytes);
+  }
+
+  private static String readResource(String resource) {
+    try (InputStream in = BenchmarkFixtures.class.getClassLoader().getResourceAsStream(resource)) {
+      if (in == null) {
+        throw new IllegalArgumentException("Fixture not found: " + resource);
+      }
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      byte[] buffer = new byte[8192];
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        out.write(buffer, 0, read);
+      }
+      return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,74 @@
+package org.stellar.sdk.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.stellar.sdk.ingest.LedgerIngestionPipeline;
+
+/**
+ * Ingests 16 batch files of 8 ledgers with 50 ten-operation transactions each through {@link
+ * LedgerIngestionPipeline}, comparing a single decoding thread with a parallel pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IngestionBenchmark {
+  private static final int FILE_COUNT = 16;
+  private static final int LEDGERS_PER_FILE = 8;
+
+  @Param({"1", "4"})
+  public int parallelism;
+
+  private Path directory;
+  private List<Path> files;
+
+  @Setup
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("ingestion-benchmark");
+    for (int i = 0; i < FILE_COUNT; i++) {
+      byte[] batch =
+          BenchmarkFixtures.ledgerCloseMetaBatch(1 + i * LEDGERS_PER_FILE, LEDGERS_PER_FILE, 50, 10)
+              .toXdrByteArray();
+      Files.write(directory.resolve(String.format("%04d.xdr", i)), batch);
+    }
+    files = LedgerIngestionPipeline.listFiles(directory);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    for (Path file : files) {
+      Files.delete(file);
+    }
+    Files.delete(directory);
+  }
+
+  @Benchmark
+  public long ingest() throws IOException {
+    AtomicLong ledgers = new AtomicLong();
+    LedgerIngestionPipeline.builder()
+        .files(files)
+        .parallelism(parallelism)
+        .maxBufferedLedgers(4 * parallelism)
+        .build()
+        .run(ledger -> ledgers.incrementAndGet());
+    return ledgers.get();
+  }
+}
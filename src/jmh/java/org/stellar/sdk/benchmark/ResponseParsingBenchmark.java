@@ -0,0 +1,92 @@
+package org.stellar.sdk.benchmark;
+
+import com.google.gson.reflect.TypeToken;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.stellar.sdk.requests.ResponseHandler;
+import org.stellar.sdk.responses.Page;
+import org.stellar.sdk.responses.TransactionResponse;
+import org.stellar.sdk.responses.effects.EffectResponse;
+import org.stellar.sdk.responses.gson.GsonSingleton;
+import org.stellar.sdk.responses.operations.OperationResponse;
+
+/**
+ * Parses Horizon collection pages of 200 records through {@link ResponseHandler}, the same path
+ * used by the request builders.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseParsingBenchmark {
+  private static final MediaType JSON = MediaType.get("application/json");
+
+  @Param({"effects", "operations", "transactions"})
+  public String page;
+
+  private Request request;
+  private byte[] body;
+  private String json;
+  private TypeToken<?> type;
+  private ResponseHandler<?> handler;
+
+  @Setup
+  public void setUp() {
+    request = new Request.Builder().url("https://horizon.stellar.org/" + page).build();
+    json =
+        BenchmarkFixtures.horizonPage(
+            "pages/" + page + ".json", BenchmarkFixtures.RECORDS_PER_PAGE);
+    body = json.getBytes(StandardCharsets.UTF_8);
+    switch (page) {
+      case "effects":
+        type = new TypeToken<Page<EffectResponse>>() {};
+        break;
+      case "operations":
+        type = new TypeToken<Page<OperationResponse>>() {};
+        break;
+      case "transactions":
+        type = new TypeToken<Page<TransactionResponse>>() {};
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown page: " + page);
+    }
+    handler = new ResponseHandler<>(type);
+  }
+
+  @Benchmark
+  public Object handleResponse() {
+    Response response =
+        new Response.Builder()
+            .request(request)
+            .protocol(Protocol.HTTP_1_1)
+            .code(200)
+            .message("OK")
+            .body(ResponseBody.create(body, JSON))
+            .build();
+    return handler.handleResponse(response);
+  }
+
+  /** Deserializes the page body alone, without the response handling around it. */
+  @Benchmark
+  public Object fromJson() {
+    return GsonSingleton.getInstance().fromJson(json, type);
+  }
+}
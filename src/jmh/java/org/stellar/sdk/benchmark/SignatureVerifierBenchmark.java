@@ -0,0 +1,71 @@
+package org.stellar.sdk.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.stellar.sdk.KeyPair;
+import org.stellar.sdk.SignatureVerifier;
+
+/**
+ * Verifies 256 transaction signatures from 16 signers, one at a time through freshly decoded {@link
+ * KeyPair}s the way a gateway receiving account ids would, and as a batch through {@link
+ * SignatureVerifier}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SignatureVerifierBenchmark {
+  private static final int SIGNER_COUNT = 16;
+  private static final int SIGNATURE_COUNT = 256;
+
+  private final SignatureVerifier verifier = new SignatureVerifier();
+  private List<SignatureVerifier.Entry> entries;
+  private List<String> accountIds;
+
+  @Setup
+  public void setUp() {
+    entries = new ArrayList<>(SIGNATURE_COUNT);
+    accountIds = new ArrayList<>(SIGNATURE_COUNT);
+    for (int i = 0; i < SIGNATURE_COUNT; i++) {
+      KeyPair signer = BenchmarkFixtures.keyPair(i % SIGNER_COUNT);
+      byte[] hash = BenchmarkFixtures.paymentTransaction(1 + i % 4).hash();
+      entries.add(SignatureVerifier.Entry.of(signer, hash, signer.sign(hash)));
+      accountIds.add(signer.getAccountId());
+    }
+  }
+
+  @Benchmark
+  public int verifyEach() {
+    int valid = 0;
+    for (int i = 0; i < SIGNATURE_COUNT; i++) {
+      SignatureVerifier.Entry entry = entries.get(i);
+      if (KeyPair.fromAccountId(accountIds.get(i)).verify(entry.getData(), entry.getSignature())) {
+        valid++;
+      }
+    }
+    return valid;
+  }
+
+  @Benchmark
+  public int verifyBatch() {
+    return verifier.verifyBatch(entries).getInvalidIndices().size();
+  }
+
+  @Benchmark
+  public int verifyBatchParallel() {
+    return verifier.verifyBatch(entries, true).getInvalidIndices().size();
+  }
+}
@@ -0,0 +1,100 @@
+package org.stellar.sdk.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.stellar.sdk.StrKey;
+
+/** Encodes and decodes account, muxed account and contract addresses. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StrKeyBenchmark {
+  private byte[] publicKey;
+  private String accountId;
+  private byte[] muxedAccount;
+  private String muxedAccountId;
+  private byte[] contract;
+  private String contractId;
+  private char[] encodeBuffer;
+  private byte[] decodeBuffer;
+
+  @Setup
+  public void setUp() {
+    publicKey = BenchmarkFixtures.keyPair(1).getPublicKey();
+    accountId = StrKey.encodeEd25519PublicKey(publicKey);
+    muxedAccount = new byte[40];
+    System.arraycopy(publicKey, 0, muxedAccount, 0, 32);
+    muxedAccount[39] = 42;
+    muxedAccountId = StrKey.encodeMed25519PublicKey(muxedAccount);
+    contract = BenchmarkFixtures.keyPair(2).getPublicKey();
+    contractId = StrKey.encodeContract(contract);
+    encodeBuffer = new char[69];
+    decodeBuffer = new byte[40];
+  }
+
+  @Benchmark
+  public String encodeEd25519PublicKey() {
+    return StrKey.encodeEd25519PublicKey(publicKey);
+  }
+
+  @Benchmark
+  public byte[] decodeEd25519PublicKey() {
+    return StrKey.decodeEd25519PublicKey(accountId);
+  }
+
+  @Benchmark
+  public String encodeMed25519PublicKey() {
+    return StrKey.encodeMed25519PublicKey(muxedAccount);
+  }
+
+  @Benchmark
+  public byte[] decodeMed25519PublicKey() {
+    return StrKey.decodeMed25519PublicKey(muxedAccountId);
+  }
+
+  @Benchmark
+  public String encodeContract() {
+    return StrKey.encodeContract(contract);
+  }
+
+  @Benchmark
+  public byte[] decodeContract() {
+    return StrKey.decodeContract(contractId);
+  }
+
+  @Benchmark
+  public char[] encodeEd25519PublicKeyToBuffer() {
+    StrKey.encodeEd25519PublicKey(publicKey, 0, encodeBuffer, 0);
+    return encodeBuffer;
+  }
+
+  @Benchmark
+  public byte[] decodeEd25519PublicKeyToBuffer() {
+    StrKey.decodeEd25519PublicKey(accountId, decodeBuffer, 0);
+    return decodeBuffer;
+  }
+
+  @Benchmark
+  public char[] encodeMed25519PublicKeyToBuffer() {
+    StrKey.encodeMed25519PublicKey(muxedAccount, 0, encodeBuffer, 0);
+    return encodeBuffer;
+  }
+
+  @Benchmark
+  public byte[] decodeMed25519PublicKeyToBuffer() {
+    StrKey.decodeMed25519PublicKey(muxedAccountId, decodeBuffer, 0);
+    return decodeBuffer;
+  }
+}
@@ -0,0 +1,112 @@
+package org.stellar.sdk.benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.stellar.sdk.AbstractTransaction;
+import org.stellar.sdk.KeyPair;
+import org.stellar.sdk.Transaction;
+import org.stellar.sdk.xdr.TransactionEnvelope;
+
+/**
+ * Hashes and signs a 100-operation payment {@link Transaction}, with a single signer and with 16
+ * signers one call at a time or through the bulk {@code sign(KeyPair...)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransactionBenchmark {
+  private Transaction transaction;
+  private static final int MULTI_SIGNER_COUNT = 16;
+
+  private KeyPair signer;
+  private KeyPair[] signers;
+
+  @Setup
+  public void setUp() {
+    transaction =
+        BenchmarkFixtures.paymentTransaction(BenchmarkFixtures.OPERATIONS_PER_TRANSACTION);
+    signer = BenchmarkFixtures.keyPair(1);
+    signers = new KeyPair[MULTI_SIGNER_COUNT];
+    for (int i = 0; i < signers.length; i++) {
+      signers[i] = BenchmarkFixtures.keyPair(i);
+    }
+  }
+
+  @Benchmark
+  public byte[] hash() {
+    return transaction.hash();
+  }
+
+  @Benchmark
+  public String hashHex() {
+    return transaction.hashHex();
+  }
+
+  @Benchmark
+  public byte[] signatureBase() {
+    return transaction.signatureBase();
+  }
+
+  @Benchmark
+  public Transaction sign(UnsignedTransaction state) {
+    state.transaction.sign(signer);
+    return state.transaction;
+  }
+
+  @Benchmark
+  public Transaction signEachOfSixteen(UnsignedTransaction state) {
+    for (KeyPair keyPair : signers) {
+      state.transaction.sign(keyPair);
+    }
+    return state.transaction;
+  }
+
+  @Benchmark
+  public Transaction signSixteen(UnsignedTransaction state) {
+    state.transaction.sign(signers);
+    return state.transaction;
+  }
+
+  @Benchmark
+  public Transaction signSixteenParallel(UnsignedTransaction state) {
+    state.transaction.sign(Arrays.asList(signers), true);
+    return state.transaction;
+  }
+
+  /**
+   * Provides a fresh, unsigned copy of the transaction for every invocation so signatures do not
+   * accumulate across calls.
+   */
+  @State(Scope.Thread)
+  public static class UnsignedTransaction {
+    private TransactionEnvelope envelope;
+    Transaction transaction;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      envelope =
+          BenchmarkFixtures.paymentTransaction(BenchmarkFixtures.OPERATIONS_PER_TRANSACTION)
+              .toEnvelopeXdr();
+    }
+
+    @Setup(Level.Invocation)
+    public void reset() {
+      transaction =
+          (Transaction) AbstractTransaction.fromEnvelopeXdr(envelope, BenchmarkFixtures.NETWORK);
+    }
+  }
+}
@@ -0,0 +1,128 @@
+package org.stellar.sdk.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.stellar.sdk.xdr.LedgerCloseMeta;
+import org.stellar.sdk.xdr.TransactionEnvelope;
+import org.stellar.sdk.xdr.XdrByteBufferReader;
+import org.stellar.sdk.xdr.XdrDataInputStream;
+
+/**
+ * Encodes and decodes a signed 100-operation {@link TransactionEnvelope} and a {@link
+ * LedgerCloseMeta} holding 200 such transactions.
+ *
+ * <p>The {@code *Stream} benchmarks decode through an {@link XdrDataInputStream} over a {@link
+ * ByteArrayInputStream}, the path used before {@code fromXdrByteBuffer} existed. The other decode
+ * benchmarks go through {@code fromXdrByteArray} or {@code fromXdrByteBuffer}, which read the
+ * primitives straight from a {@link ByteBuffer} with an {@link XdrByteBufferReader}, so the two
+ * decoders can be compared directly on the same input.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class XdrCodecBenchmark {
+  private TransactionEnvelope envelope;
+  private byte[] envelopeBytes;
+  private ByteBuffer envelopeDirectBuffer;
+  private ByteBuffer encodeBuffer;
+  private String envelopeBase64;
+  private LedgerCloseMeta ledgerCloseMeta;
+  private byte[] ledgerCloseMetaBytes;
+  private ByteBuffer ledgerCloseMetaDirectBuffer;
+
+  @Setup
+  public void setUp() throws IOException {
+    envelope = BenchmarkFixtures.signedEnvelope(BenchmarkFixtures.OPERATIONS_PER_TRANSACTION);
+    envelopeBytes = envelope.toXdrByteArray();
+    envelopeBase64 = envelope.toXdrBase64();
+    ledgerCloseMeta =
+        BenchmarkFixtures.ledgerCloseMeta(
+            BenchmarkFixtures.TRANSACTIONS_PER_LEDGER,
+            BenchmarkFixtures.OPERATIONS_PER_TRANSACTION);
+    ledgerCloseMetaBytes = ledgerCloseMeta.toXdrByteArray();
+    envelopeDirectBuffer = directBuffer(envelopeBytes);
+    encodeBuffer = ByteBuffer.allocateDirect(envelopeBytes.length);
+    ledgerCloseMetaDirectBuffer = directBuffer(ledgerCloseMetaBytes);
+  }
+
+  @Benchmark
+  public byte[] encodeTransactionEnvelope() throws IOException {
+    return envelope.toXdrByteArray();
+  }
+
+  @Benchmark
+  public int encodeTransactionEnvelopeToBuffer() throws IOException {
+    encodeBuffer.clear();
+    return envelope.encodeTo(encodeBuffer);
+  }
+
+  @Benchmark
+  public TransactionEnvelope decodeTransactionEnvelope() throws IOException {
+    return TransactionEnvelope.fromXdrByteArray(envelopeBytes);
+  }
+
+  @Benchmark
+  public TransactionEnvelope decodeTransactionEnvelopeDirectBuffer() throws IOException {
+    return TransactionEnvelope.fromXdrByteBuffer(envelopeDirectBuffer);
+  }
+
+  @Benchmark
+  public TransactionEnvelope decodeTransactionEnvelopeStream() throws IOException {
+    XdrDataInputStream stream = new XdrDataInputStream(new ByteArrayInputStream(envelopeBytes));
+    stream.setMaxInputLen(envelopeBytes.length);
+    return TransactionEnvelope.decode(stream);
+  }
+
+  @Benchmark
+  public TransactionEnvelope decodeTransactionEnvelopeBase64() throws IOException {
+    return TransactionEnvelope.fromXdrBase64(envelopeBase64);
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MINUTES)
+  public byte[] encodeLedgerCloseMeta() throws IOException {
+    return ledgerCloseMeta.toXdrByteArray();
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MINUTES)
+  public LedgerCloseMeta decodeLedgerCloseMeta() throws IOException {
+    return LedgerCloseMeta.fromXdrByteArray(ledgerCloseMetaBytes);
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MINUTES)
+  public LedgerCloseMeta decodeLedgerCloseMetaDirectBuffer() throws IOException {
+    return LedgerCloseMeta.fromXdrByteBuffer(ledgerCloseMetaDirectBuffer);
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MINUTES)
+  public LedgerCloseMeta decodeLedgerCloseMetaStream() throws IOException {
+    XdrDataInputStream stream =
+        new XdrDataInputStream(new ByteArrayInputStream(ledgerCloseMetaBytes));
+    stream.setMaxInputLen(ledgerCloseMetaBytes.length);
+    return LedgerCloseMeta.decode(stream);
+  }
+
+  private static ByteBuffer directBuffer(byte[] bytes) {
+    ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+    buffer.put(bytes).flip();
+    return buffer;
+  }
+}
@@ -5,8 +5,11 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.Getter;
 import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
 import org.stellar.sdk.exception.UnexpectedException;
 import org.stellar.sdk.xdr.DecoratedSignature;
 import org.stellar.sdk.xdr.Hash;
@@ -24,7 +27,13 @@ public abstract class AbstractTransaction {
   @NonNull @Getter protected final Network network;
 
   /** List of signatures attached to this transaction. */
-  @NonNull protected List<DecoratedSignature> signatures;
+  @NonNull protected final List<DecoratedSignature> signatures;
+
+  /** Signature base and hash, computed on first use, see {@link #signatureBaseVersion()}. */
+  @Nullable private volatile HashCache hashCache;
+
+  /** Base64 encoded envelope, computed on first use and dropped when signatures change. */
+  @Nullable private volatile EnvelopeCache envelopeCache;
 
   /**
    * Minimum base fee for transactions. If this fee is below the network minimum, the transaction
@@ -38,7 +47,7 @@ public abstract class AbstractTransaction {
 
   AbstractTransaction(@NonNull Network network) {
     this.network = network;
-    this.signatures = new ArrayList<>();
+    this.signatures = new SignatureList();
   }
 
   /**
@@ -51,6 +60,43 @@ public abstract class AbstractTransaction {
     signatures.add(signer.signDecorated(txHash));
   }
 
+  /**
+   * Adds a signature from each of the given signers to this transaction. The transaction hash is
+   * computed once and shared by all signers.
+   *
+   * @param signers {@link KeyPair} objects representing the signers
+   * @throws IllegalStateException if a signer does not contain a secret key, in which case no
+   *     signature is added
+   */
+  public void sign(@NonNull KeyPair... signers) {
+    sign(Arrays.asList(signers), false);
+  }
+
+  /**
+   * Adds a signature from each of the given signers to this transaction. The transaction hash is
+   * computed once and shared by all signers. Signatures are added in the order of {@code signers}.
+   *
+   * @param signers {@link KeyPair} objects representing the signers
+   * @param parallel whether to sign on the common {@link java.util.concurrent.ForkJoinPool}, which
+   *     pays off for large numbers of signers
+   * @throws IllegalStateException if a signer does not contain a secret key, in which case no
+   *     signature is added
+   */
+  public void sign(@NonNull List<KeyPair> signers, boolean parallel) {
+    for (KeyPair signer : signers) {
+      if (!signer.canSign()) {
+        throw new IllegalStateException(
+            "KeyPair "
+                + signer.getAccountId()
+                + " does not contain secret key. Use KeyPair.fromSecretSeed method to create a new KeyPair with a secret key.");
+      }
+    }
+    byte[] txHash = this.hash();
+    Stream<KeyPair> stream = parallel ? signers.parallelStream() : signers.stream();
+    signatures.addAll(
+        stream.map(signer -> signer.signDecorated(txHash)).collect(Collectors.toList()));
+  }
+
   /**
    * Adds a new sha256Hash signature to this transaction by revealing preimage.
    *
@@ -78,7 +124,7 @@ public abstract class AbstractTransaction {
    * @return the transaction hash
    */
   public byte[] hash() {
-    return Util.hash(this.signatureBase());
+    return hashCache().hash.clone();
   }
 
   /**
@@ -87,15 +133,74 @@ public abstract class AbstractTransaction {
    * @return the transaction hash as a hexadecimal string
    */
   public String hashHex() {
-    return Util.bytesToHex(this.hash()).toLowerCase();
+    return hashCache().hashHex;
   }
 
   /**
    * Returns signature base.
    *
+   * <p>The signature base, and the hash derived from it, are computed once and reused. A
+   * transaction is treated as immutable once built: mutating its operations or other fields
+   * afterwards is not reflected in the cached values.
+   *
    * @return the signature base
    */
-  public abstract byte[] signatureBase();
+  public byte[] signatureBase() {
+    return hashCache().signatureBase.clone();
+  }
+
+  /**
+   * Computes the signature base of this transaction.
+   *
+   * @return the signature base
+   */
+  abstract byte[] computeSignatureBase();
+
+  /**
+   * Returns a value that changes whenever {@link #computeSignatureBase()} may return a different
+   * result. The signature base of a {@link Transaction} never changes, while the one of a {@link
+   * FeeBumpTransaction} covers the signatures of its inner transaction.
+   *
+   * @return the signature base version
+   */
+  int signatureBaseVersion() {
+    return 0;
+  }
+
+  /**
+   * Returns a value that changes whenever a signature is added to this transaction.
+   *
+   * @return the signature list version
+   */
+  final int signaturesVersion() {
+    return ((SignatureList) signatures).getVersion();
+  }
+
+  /**
+   * Returns the cached signature base, compared by {@link #equals(Object)} implementations without
+   * copying it.
+   *
+   * @return the signature base, must not be modified
+   */
+  final byte[] cachedSignatureBase() {
+    return hashCache().signatureBase;
+  }
+
+  /** Drops the cached signature base, hash and envelope encoding. */
+  final void invalidateCaches() {
+    hashCache = null;
+    envelopeCache = null;
+  }
+
+  private HashCache hashCache() {
+    int version = signatureBaseVersion();
+    HashCache cache = hashCache;
+    if (cache == null || cache.version != version) {
+      cache = new HashCache(version, computeSignatureBase());
+      hashCache = cache;
+    }
+    return cache;
+  }
 
   /**
    * Gets read only list(immutable) of the signatures on transaction.
@@ -124,11 +229,22 @@ public abstract class AbstractTransaction {
    * @return the base64-encoded TransactionEnvelope XDR object.
    */
   public String toEnvelopeXdrBase64() {
-    try {
-      return toEnvelopeXdr().toXdrBase64();
-    } catch (IOException e) {
-      throw new UnexpectedException(e);
+    int signaturesVersion = signaturesVersion();
+    int signatureBaseVersion = signatureBaseVersion();
+    EnvelopeCache cache = envelopeCache;
+    if (cache == null
+        || cache.signaturesVersion != signaturesVersion
+        || cache.signatureBaseVersion != signatureBaseVersion) {
+      try {
+        cache =
+            new EnvelopeCache(
+                signaturesVersion, signatureBaseVersion, toEnvelopeXdr().toXdrBase64());
+      } catch (IOException e) {
+        throw new UnexpectedException(e);
+      }
+      envelopeCache = cache;
     }
+    return cache.envelopeXdrBase64;
   }
 
   /**
@@ -194,4 +310,46 @@ public abstract class AbstractTransaction {
       throw new UnexpectedException(e);
     }
   }
+
+  /** Signature list that tracks modifications, so that cached encodings can be invalidated. */
+  private static final class SignatureList extends ArrayList<DecoratedSignature> {
+    private static final long serialVersionUID = 1L;
+
+    int getVersion() {
+      return modCount;
+    }
+
+    @Override
+    public DecoratedSignature set(int index, DecoratedSignature element) {
+      modCount++;
+      return super.set(index, element);
+    }
+  }
+
+  private static final class HashCache {
+    private final int version;
+    private final byte[] signatureBase;
+    private final byte[] hash;
+    private final String hashHex;
+
+    private HashCache(int version, byte[] signatureBase) {
+      this.version = version;
+      this.signatureBase = signatureBase;
+      this.hash = Util.hash(signatureBase);
+      this.hashHex = Util.bytesToHex(hash).toLowerCase();
+    }
+  }
+
+  private static final class EnvelopeCache {
+    private final int signaturesVersion;
+    private final int signatureBaseVersion;
+    private final String envelopeXdrBase64;
+
+    private EnvelopeCache(
+        int signaturesVersion, int signatureBaseVersion, String envelopeXdrBase64) {
+      this.signaturesVersion = signaturesVersion;
+      this.signatureBaseVersion = signatureBaseVersion;
+      this.envelopeXdrBase64 = envelopeXdrBase64;
+    }
+  }
 }
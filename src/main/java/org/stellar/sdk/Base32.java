@@ -1,6 +1,12 @@
 package org.stellar.sdk;
 
-/** Base32 interface used by the SDK to encode and decode strings and bytes. */
+/**
+ * Base32 interface which was used by the SDK to encode and decode strings and bytes.
+ *
+ * @deprecated {@link StrKey} encodes and decodes base32 itself, so implementations are no longer
+ *     used. This interface will be removed in a future release.
+ */
+@Deprecated
 public interface Base32 {
 
   /**
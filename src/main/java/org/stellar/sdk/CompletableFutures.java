@@ -0,0 +1,94 @@
+package org.stellar.sdk;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/** Helpers for the futures returned by the asynchronous methods of the servers. */
+final class CompletableFutures {
+
+  private CompletableFutures() {}
+
+  /**
+   * Cancels the source futures when the derived future is cancelled. A future derived with {@code
+   * thenApply} or {@code allOf} is not linked back to its sources, so cancelling it would otherwise
+   * leave the calls behind the futures returned by {@link
+   * org.stellar.sdk.requests.ResponseHandler#enqueue(okhttp3.Call)} running.
+   *
+   * @param derived The future handed to the caller
+   * @param sources The futures {@code derived} depends on
+   * @param <U> The type of the derived result
+   * @return {@code derived}
+   */
+  static <U> CompletableFuture<U> propagateCancellation(
+      CompletableFuture<U> derived, CompletableFuture<?>... sources) {
+    derived.whenComplete(
+        (result, throwable) -> {
+          if (derived.isCancelled()) {
+            for (CompletableFuture<?> source : sources) {
+              source.cancel(true);
+            }
+          }
+        });
+    return derived;
+  }
+
+  /**
+   * Like {@code first.thenCompose(next)}, but cancelling the returned future also cancels {@code
+   * first}, or the future returned by {@code next} once it was started.
+   *
+   * @param first The future to complete first
+   * @param next Starts the second step with the result of {@code first}
+   * @param <U> The type of the result of {@code first}
+   * @param <V> The type of the result of the second step
+   * @return A future completed like the future returned by {@code next}
+   */
+  static <U, V> CompletableFuture<V> thenCompose(
+      CompletableFuture<U> first, Function<? super U, CompletableFuture<V>> next) {
+    CompletableFuture<V> result = new CompletableFuture<>();
+    first.whenComplete(
+        (value, throwable) -> {
+          if (throwable != null) {
+            result.completeExceptionally(unwrap(throwable));
+            return;
+          }
+          CompletableFuture<V> second;
+          try {
+            second = next.apply(value);
+          } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+            return;
+          }
+          propagateCancellation(result, second);
+          second.whenComplete(
+              (secondValue, secondThrowable) -> {
+                if (secondThrowable != null) {
+                  result.completeExceptionally(unwrap(secondThrowable));
+                } else {
+                  result.complete(secondValue);
+                }
+              });
+        });
+    return propagateCancellation(result, first);
+  }
+
+  /**
+   * Returns a future already completed exceptionally, the Java 8 equivalent of {@code
+   * CompletableFuture.failedFuture}.
+   *
+   * @param throwable The exception
+   * @param <U> The type of the result
+   * @return A future completed exceptionally with {@code throwable}
+   */
+  static <U> CompletableFuture<U> failedFuture(Throwable throwable) {
+    CompletableFuture<U> future = new CompletableFuture<>();
+    future.completeExceptionally(throwable);
+    return future;
+  }
+
+  private static Throwable unwrap(Throwable throwable) {
+    return throwable instanceof CompletionException && throwable.getCause() != null
+        ? throwable.getCause()
+        : throwable;
+  }
+}
@@ -1,6 +1,5 @@
 package org.stellar.sdk;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import lombok.Getter;
 import lombok.NonNull;
@@ -122,7 +121,7 @@ public class FeeBumpTransaction extends AbstractTransaction {
                       .timeBounds(innerTransaction.getTimeBounds())
                       .build())
               .build();
-      tx.signatures = new ArrayList<>(innerTransaction.signatures);
+      tx.signatures.addAll(innerTransaction.signatures);
     } else {
       tx = innerTransaction;
     }
@@ -158,7 +157,13 @@ public class FeeBumpTransaction extends AbstractTransaction {
   }
 
   @Override
-  public byte[] signatureBase() {
+  int signatureBaseVersion() {
+    // The fee bump transaction embeds the signed inner transaction envelope.
+    return innerTransaction.signaturesVersion();
+  }
+
+  @Override
+  byte[] computeSignatureBase() {
     TransactionSignaturePayload.TransactionSignaturePayloadTaggedTransaction taggedTransaction =
         new TransactionSignaturePayload.TransactionSignaturePayloadTaggedTransaction();
     taggedTransaction.setDiscriminant(EnvelopeType.ENVELOPE_TYPE_TX_FEE_BUMP);
@@ -192,11 +197,11 @@ public class FeeBumpTransaction extends AbstractTransaction {
       return false;
     }
     FeeBumpTransaction that = (FeeBumpTransaction) object;
-    return Arrays.equals(signatureBase(), that.signatureBase());
+    return Arrays.equals(cachedSignatureBase(), that.cachedSignatureBase());
   }
 
   @Override
   public int hashCode() {
-    return Arrays.hashCode(signatureBase());
+    return Arrays.hashCode(cachedSignatureBase());
   }
 }
@@ -3,25 +3,22 @@ package org.stellar.sdk;
 import static java.lang.System.arraycopy;
 import static java.nio.charset.StandardCharsets.UTF_8;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.SecureRandom;
 import java.security.Security;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import lombok.NonNull;
 import org.bouncycastle.crypto.params.Ed25519PrivateKeyParameters;
 import org.bouncycastle.crypto.params.Ed25519PublicKeyParameters;
-import org.bouncycastle.crypto.signers.Ed25519Signer;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.bouncycastle.math.ec.rfc8032.Ed25519;
 import org.jetbrains.annotations.Nullable;
-import org.stellar.sdk.exception.UnexpectedException;
 import org.stellar.sdk.xdr.AccountID;
 import org.stellar.sdk.xdr.DecoratedSignature;
 import org.stellar.sdk.xdr.PublicKeyType;
 import org.stellar.sdk.xdr.SignatureHint;
 import org.stellar.sdk.xdr.Uint256;
-import org.stellar.sdk.xdr.XdrDataOutputStream;
 
 /** Holds a Stellar keypair. */
 public class KeyPair {
@@ -226,20 +223,11 @@ public class KeyPair {
    * @return the last 4 bytes of the XDR-encoded public key as a {@link SignatureHint}
    */
   public SignatureHint getSignatureHint() {
-    ByteArrayOutputStream publicKeyBytesStream = new ByteArrayOutputStream();
-    XdrDataOutputStream xdrOutputStream = new XdrDataOutputStream(publicKeyBytesStream);
-
-    try {
-      this.getXdrPublicKey().encode(xdrOutputStream);
-    } catch (IOException e) {
-      throw new UnexpectedException(e);
-    }
-
-    byte[] publicKeyBytes = publicKeyBytesStream.toByteArray();
-    byte[] signatureHintBytes =
-        Arrays.copyOfRange(publicKeyBytes, publicKeyBytes.length - 4, publicKeyBytes.length);
+    // The XDR encoded public key ends with the raw key bytes, so its last 4 bytes are the last 4
+    // bytes of the key.
     SignatureHint signatureHint = new SignatureHint();
-    signatureHint.setSignatureHint(signatureHintBytes);
+    signatureHint.setSignatureHint(
+        Arrays.copyOfRange(publicKeyBytes, publicKeyBytes.length - 4, publicKeyBytes.length));
     return signatureHint;
   }
 
@@ -290,10 +278,9 @@ public class KeyPair {
       throw new IllegalStateException(
           "KeyPair does not contain secret key. Use KeyPair.fromSecretSeed method to create a new KeyPair with a secret key.");
     }
-    Ed25519Signer signer = new Ed25519Signer();
-    signer.init(true, privateKey);
-    signer.update(data, 0, data.length);
-    return signer.generateSignature();
+    byte[] signature = new byte[Ed25519PrivateKeyParameters.SIGNATURE_SIZE];
+    privateKey.sign(Ed25519.Algorithm.Ed25519, null, data, 0, data.length, signature, 0);
+    return signature;
   }
 
   /**
@@ -353,11 +340,19 @@ public class KeyPair {
    *     zeros)
    */
   public boolean verify(byte[] data, byte[] signature) {
-    Ed25519PublicKeyParameters ed25519Key = getEd25519PublicKey();
-    Ed25519Signer verifier = new Ed25519Signer();
-    verifier.init(false, ed25519Key);
-    verifier.update(data, 0, data.length);
-    return verifier.verifySignature(signature);
+    return SignatureVerifier.verify(getEd25519PublicKey(), data, signature);
+  }
+
+  /**
+   * Verifies a batch of signatures with the shared {@link SignatureVerifier}, which reuses decoded
+   * public keys across calls.
+   *
+   * @param entries the signatures to verify
+   * @return the verification result, listing the index of every invalid signature
+   * @see SignatureVerifier#verifyBatch(List, boolean)
+   */
+  public static SignatureVerifier.Result verifyBatch(List<SignatureVerifier.Entry> entries) {
+    return SignatureVerifier.getDefault().verifyBatch(entries);
   }
 
   /**
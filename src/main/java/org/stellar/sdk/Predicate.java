@@ -183,7 +183,7 @@ public abstract class Predicate {
     public ClaimPredicate toXdr() {
       org.stellar.sdk.xdr.ClaimPredicate xdr = new org.stellar.sdk.xdr.ClaimPredicate();
       xdr.setDiscriminant(ClaimPredicateType.CLAIM_PREDICATE_BEFORE_ABSOLUTE_TIME);
-      xdr.setAbsBefore(new Int64(timePoint.getTimePoint().getUint64().getNumber().longValue()));
+      xdr.setAbsBefore(new Int64(timePoint.getTimePoint().getUint64().getLong()));
       return xdr;
     }
   }
@@ -214,14 +214,14 @@ public abstract class Predicate {
      * @return the relative time offset in seconds
      */
     public long getSecondsSinceClose() {
-      return duration.getDuration().getUint64().getNumber().longValue();
+      return duration.getDuration().getUint64().getLong();
     }
 
     @Override
     public ClaimPredicate toXdr() {
       org.stellar.sdk.xdr.ClaimPredicate xdr = new org.stellar.sdk.xdr.ClaimPredicate();
       xdr.setDiscriminant(ClaimPredicateType.CLAIM_PREDICATE_BEFORE_RELATIVE_TIME);
-      xdr.setRelBefore(new Int64(duration.getDuration().getUint64().getNumber().longValue()));
+      xdr.setRelBefore(new Int64(duration.getDuration().getUint64().getLong()));
       return xdr;
     }
   }
@@ -4,8 +4,12 @@ import com.google.gson.reflect.TypeToken;
 import java.io.Closeable;
 import java.io.IOException;
 import java.net.SocketTimeoutException;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
 import lombok.Getter;
 import lombok.Setter;
@@ -417,6 +421,93 @@ public class Server implements Closeable {
     return submitTransaction(transaction, false);
   }
 
+  /**
+   * Submits a base64 encoded transaction envelope to the network without blocking the calling
+   * thread.
+   *
+   * <p>This is the non-blocking counterpart of {@link #submitTransactionXdr(String)}. It is not
+   * related to {@link #submitTransactionXdrAsync(String)}, which submits to Horizon's asynchronous
+   * submission endpoint.
+   *
+   * @param transactionXdr base64 encoded transaction envelope to submit to the network
+   * @return a future completed with the {@link TransactionResponse}, or with one of the exceptions
+   *     thrown by {@link #submitTransactionXdr(String)}
+   * @see ResponseHandler#enqueue(Call)
+   */
+  public CompletableFuture<TransactionResponse> submitTransactionXdrFuture(String transactionXdr) {
+    HttpUrl transactionsURI = serverURI.newBuilder().addPathSegment("transactions").build();
+    RequestBody requestBody = new FormBody.Builder().add("tx", transactionXdr).build();
+    Request submitTransactionRequest =
+        new Request.Builder().url(transactionsURI).post(requestBody).build();
+    TypeToken<TransactionResponse> type = new TypeToken<TransactionResponse>() {};
+
+    ResponseHandler<TransactionResponse> responseHandler = new ResponseHandler<>(type);
+    return responseHandler.enqueue(this.submitHttpClient.newCall(submitTransactionRequest));
+  }
+
+  /**
+   * Submits a transaction to the network without blocking the calling thread. The SEP-29 memo
+   * required check, unless skipped, loads the destination accounts concurrently before the
+   * transaction is submitted.
+   *
+   * @param transaction transaction to submit to the network
+   * @param skipMemoRequiredCheck set to true to skip memoRequiredCheck
+   * @return a future completed with the {@link TransactionResponse}, or with one of the exceptions
+   *     thrown by {@link #submitTransaction(Transaction, boolean)}
+   */
+  public CompletableFuture<TransactionResponse> submitTransactionFuture(
+      Transaction transaction, boolean skipMemoRequiredCheck) {
+    String transactionXdr = transaction.toEnvelopeXdrBase64();
+    if (skipMemoRequiredCheck) {
+      return this.submitTransactionXdrFuture(transactionXdr);
+    }
+    return CompletableFutures.thenCompose(
+        checkMemoRequiredAsync(transaction),
+        ignored -> this.submitTransactionXdrFuture(transactionXdr));
+  }
+
+  /**
+   * Submits a fee bump transaction to the network without blocking the calling thread.
+   *
+   * @param transaction transaction to submit to the network
+   * @param skipMemoRequiredCheck set to true to skip memoRequiredCheck
+   * @return a future completed with the {@link TransactionResponse}, or with one of the exceptions
+   *     thrown by {@link #submitTransaction(FeeBumpTransaction, boolean)}
+   */
+  public CompletableFuture<TransactionResponse> submitTransactionFuture(
+      FeeBumpTransaction transaction, boolean skipMemoRequiredCheck) {
+    String transactionXdr = transaction.toEnvelopeXdrBase64();
+    if (skipMemoRequiredCheck) {
+      return this.submitTransactionXdrFuture(transactionXdr);
+    }
+    return CompletableFutures.thenCompose(
+        checkMemoRequiredAsync(transaction.getInnerTransaction()),
+        ignored -> this.submitTransactionXdrFuture(transactionXdr));
+  }
+
+  /**
+   * An overloaded version of {@link #submitTransactionFuture(Transaction, boolean)} with the memo
+   * required check enabled.
+   *
+   * @param transaction transaction to submit to the network
+   * @return a future completed with the {@link TransactionResponse}
+   */
+  public CompletableFuture<TransactionResponse> submitTransactionFuture(Transaction transaction) {
+    return submitTransactionFuture(transaction, false);
+  }
+
+  /**
+   * An overloaded version of {@link #submitTransactionFuture(FeeBumpTransaction, boolean)} with the
+   * memo required check enabled.
+   *
+   * @param transaction transaction to submit to the network
+   * @return a future completed with the {@link TransactionResponse}
+   */
+  public CompletableFuture<TransactionResponse> submitTransactionFuture(
+      FeeBumpTransaction transaction) {
+    return submitTransactionFuture(transaction, false);
+  }
+
   /**
    * Submits a base64 asynchronous transaction to the network. Unlike the synchronous version, which
    * blocks and waits for the transaction to be ingested in Horizon, this endpoint relays the
@@ -623,7 +714,84 @@ public class Server implements Closeable {
     if (!transaction.getMemo().equals(Memo.none())) {
       return;
     }
-    Set<String> destinations = new HashSet<>();
+    for (Map.Entry<String, Integer> destination : memoCheckDestinations(transaction).entrySet()) {
+      AccountResponse.Data data;
+      try {
+        data = this.accounts().account(destination.getKey()).getData();
+      } catch (BadRequestException e) {
+        if (e.getCode() == 404) {
+          continue;
+        }
+        throw e;
+      }
+      if (ACCOUNT_REQUIRES_MEMO_VALUE.equals(data.get(ACCOUNT_REQUIRES_MEMO_KEY))) {
+        throw new AccountRequiresMemoException(
+            "Destination account requires a memo in the transaction.",
+            destination.getKey(),
+            destination.getValue());
+      }
+    }
+  }
+
+  /**
+   * The non-blocking counterpart of {@link #checkMemoRequired(Transaction)}. The destination
+   * accounts are loaded concurrently, and the first operation in the transaction whose destination
+   * requires a memo is reported.
+   *
+   * @param transaction transaction to submit to the network.
+   * @return a future completed exceptionally with {@link AccountRequiresMemoException} when a
+   *     transaction is trying to submit an operation to an account which requires a memo.
+   */
+  private CompletableFuture<Void> checkMemoRequiredAsync(Transaction transaction) {
+    if (!transaction.getMemo().equals(Memo.none())) {
+      return CompletableFuture.completedFuture(null);
+    }
+    Map<String, Integer> destinations = memoCheckDestinations(transaction);
+    List<CompletableFuture<AccountResponse>> accounts = new ArrayList<>();
+    Map<String, CompletableFuture<Boolean>> checks = new LinkedHashMap<>();
+    for (String destination : destinations.keySet()) {
+      CompletableFuture<AccountResponse> accountFuture = this.accounts().accountAsync(destination);
+      accounts.add(accountFuture);
+      checks.put(
+          destination,
+          accountFuture.handle(
+              (account, throwable) -> {
+                if (throwable == null) {
+                  return ACCOUNT_REQUIRES_MEMO_VALUE.equals(
+                      account.getData().get(ACCOUNT_REQUIRES_MEMO_KEY));
+                }
+                Throwable cause =
+                    throwable instanceof CompletionException ? throwable.getCause() : throwable;
+                if (cause instanceof BadRequestException
+                    && ((BadRequestException) cause).getCode() == 404) {
+                  return false;
+                }
+                throw new CompletionException(cause);
+              }));
+    }
+    CompletableFuture<Void> result =
+        CompletableFuture.allOf(checks.values().toArray(new CompletableFuture<?>[0]))
+            .thenRun(
+                () -> {
+                  for (Map.Entry<String, CompletableFuture<Boolean>> check : checks.entrySet()) {
+                    if (check.getValue().join()) {
+                      throw new AccountRequiresMemoException(
+                          "Destination account requires a memo in the transaction.",
+                          check.getKey(),
+                          destinations.get(check.getKey()));
+                    }
+                  }
+                });
+    return CompletableFutures.propagateCancellation(
+        result, accounts.toArray(new CompletableFuture<?>[0]));
+  }
+
+  /**
+   * Returns the destinations subject to the SEP-29 memo required check, mapped to the index of the
+   * first operation sending to them, in operation order.
+   */
+  private static Map<String, Integer> memoCheckDestinations(Transaction transaction) {
+    Map<String, Integer> destinations = new LinkedHashMap<>();
     Operation[] operations = transaction.getOperations();
     for (int i = 0; i < operations.length; i++) {
       String destination;
@@ -639,25 +807,12 @@ public class Server implements Closeable {
       } else {
         continue;
       }
-      if (destinations.contains(destination) || StrKey.isValidMed25519PublicKey(destination)) {
+      if (destinations.containsKey(destination) || StrKey.isValidMed25519PublicKey(destination)) {
         continue;
       }
-
-      destinations.add(destination);
-      AccountResponse.Data data;
-      try {
-        data = this.accounts().account(destination).getData();
-      } catch (BadRequestException e) {
-        if (e.getCode() == 404) {
-          continue;
-        }
-        throw e;
-      }
-      if (ACCOUNT_REQUIRES_MEMO_VALUE.equals(data.get(ACCOUNT_REQUIRES_MEMO_KEY))) {
-        throw new AccountRequiresMemoException(
-            "Destination account requires a memo in the transaction.", destination, i);
-      }
+      destinations.put(destination, i);
     }
+    return destinations;
   }
 
   @Override
@@ -0,0 +1,316 @@
+package org.stellar.sdk;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import lombok.NonNull;
+import lombok.Value;
+import org.bouncycastle.crypto.params.Ed25519PublicKeyParameters;
+import org.bouncycastle.math.ec.rfc8032.Ed25519;
+import org.jetbrains.annotations.Nullable;
+import org.stellar.sdk.scval.Scv;
+import org.stellar.sdk.xdr.DecoratedSignature;
+import org.stellar.sdk.xdr.SCVal;
+import org.stellar.sdk.xdr.SCValType;
+import org.stellar.sdk.xdr.SorobanAddressCredentials;
+import org.stellar.sdk.xdr.SorobanAuthorizationEntry;
+import org.stellar.sdk.xdr.SorobanCredentials;
+import org.stellar.sdk.xdr.SorobanCredentialsType;
+import org.stellar.sdk.xdr.SorobanDelegateSignature;
+
+/**
+ * Verifies Ed25519 signatures in bulk, for example every {@link
+ * org.stellar.sdk.xdr.DecoratedSignature} of a batch of incoming transactions.
+ *
+ * <p>Decoding an Ed25519 public key into a curve point (point decompression) is a significant part
+ * of verifying a signature. The verifier keeps the decoded points of the {@code maxCachedKeys} most
+ * recently used public keys, so repeated signers are decoded once. Every signature in a batch is
+ * checked individually, so the returned {@link Result} identifies each invalid signature.
+ *
+ * <p>Instances are thread-safe.
+ */
+public class SignatureVerifier {
+  /** The default number of decoded public keys kept by a verifier. */
+  public static final int DEFAULT_MAX_CACHED_KEYS = 4096;
+
+  private static final int SIGNATURE_LENGTH = 64;
+  private static final SignatureVerifier DEFAULT = new SignatureVerifier();
+
+  private final int maxCachedKeys;
+  // Guarded by itself. Only lookups hold the lock, not the decoding or the verification.
+  private final LinkedHashMap<ByteBuffer, Ed25519PublicKeyParameters> publicKeys;
+
+  /** Creates a verifier that caches up to {@link #DEFAULT_MAX_CACHED_KEYS} public keys. */
+  public SignatureVerifier() {
+    this(DEFAULT_MAX_CACHED_KEYS);
+  }
+
+  /**
+   * Creates a verifier.
+   *
+   * @param maxCachedKeys the maximum number of decoded public keys to keep, 0 disables caching
+   */
+  public SignatureVerifier(int maxCachedKeys) {
+    if (maxCachedKeys < 0) {
+      throw new IllegalArgumentException("maxCachedKeys must not be negative");
+    }
+    this.maxCachedKeys = maxCachedKeys;
+    this.publicKeys =
+        new LinkedHashMap<ByteBuffer, Ed25519PublicKeyParameters>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(
+              Map.Entry<ByteBuffer, Ed25519PublicKeyParameters> eldest) {
+            return size() > SignatureVerifier.this.maxCachedKeys;
+          }
+        };
+  }
+
+  /**
+   * Returns the verifier shared by {@link KeyPair#verifyBatch(List)}.
+   *
+   * @return the shared verifier
+   */
+  public static SignatureVerifier getDefault() {
+    return DEFAULT;
+  }
+
+  /**
+   * Verifies a single signature.
+   *
+   * @param publicKey the 32-byte Ed25519 public key
+   * @param data the signed data
+   * @param signature the 64-byte signature
+   * @return true if the signature is valid, false otherwise, including when the public key is not a
+   *     valid Ed25519 public key
+   */
+  public boolean verify(byte[] publicKey, byte[] data, byte[] signature) {
+    Ed25519PublicKeyParameters key = decode(publicKey);
+    return key != null && verify(key, data, signature);
+  }
+
+  /**
+   * Verifies a batch of signatures on the calling thread.
+   *
+   * @param entries the signatures to verify
+   * @return the verification result
+   */
+  public Result verifyBatch(List<Entry> entries) {
+    return verifyBatch(entries, false);
+  }
+
+  /**
+   * Verifies a batch of signatures.
+   *
+   * @param entries the signatures to verify
+   * @param parallel whether to verify on the common {@link java.util.concurrent.ForkJoinPool}
+   * @return the verification result
+   */
+  public Result verifyBatch(List<Entry> entries, boolean parallel) {
+    boolean[] valid = new boolean[entries.size()];
+    IntStream indices = IntStream.range(0, valid.length);
+    if (parallel) {
+      indices = indices.parallel();
+    }
+    indices.forEach(
+        i -> {
+          Entry entry = entries.get(i);
+          valid[i] = verify(entry.getPublicKey(), entry.getData(), entry.getSignature());
+        });
+
+    List<Integer> invalidIndices = new ArrayList<>();
+    for (int i = 0; i < valid.length; i++) {
+      if (!valid[i]) {
+        invalidIndices.add(i);
+      }
+    }
+    return new Result(valid.length, Collections.unmodifiableList(invalidIndices));
+  }
+
+  static boolean verify(Ed25519PublicKeyParameters key, byte[] data, byte[] signature) {
+    if (signature == null || signature.length != SIGNATURE_LENGTH) {
+      return false;
+    }
+    return key.verify(Ed25519.Algorithm.Ed25519, null, data, 0, data.length, signature, 0);
+  }
+
+  @Nullable
+  private Ed25519PublicKeyParameters decode(byte[] publicKey) {
+    if (publicKey == null || publicKey.length != Ed25519PublicKeyParameters.KEY_SIZE) {
+      return null;
+    }
+    if (maxCachedKeys > 0) {
+      synchronized (publicKeys) {
+        Ed25519PublicKeyParameters key = publicKeys.get(ByteBuffer.wrap(publicKey));
+        if (key != null) {
+          return key;
+        }
+      }
+    }
+    Ed25519PublicKeyParameters key;
+    try {
+      key = new Ed25519PublicKeyParameters(publicKey, 0);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+    if (maxCachedKeys > 0) {
+      synchronized (publicKeys) {
+        // The least recently used key is evicted once the cache is full.
+        publicKeys.put(ByteBuffer.wrap(publicKey.clone()), key);
+      }
+    }
+    return key;
+  }
+
+  /** A signature to verify. */
+  @Value
+  public static class Entry {
+    /** The 32-byte Ed25519 public key of the signer. */
+    @NonNull byte[] publicKey;
+
+    /** The signed data, for transactions this is {@link AbstractTransaction#hash()}. */
+    @NonNull byte[] data;
+
+    /** The 64-byte signature. */
+    @NonNull byte[] signature;
+
+    /**
+     * Creates an entry for a signature made by {@code signer}.
+     *
+     * @param signer the signer
+     * @param data the signed data
+     * @param signature the signature
+     * @return the entry
+     */
+    public static Entry of(KeyPair signer, byte[] data, byte[] signature) {
+      return new Entry(signer.getPublicKey(), data, signature);
+    }
+
+    /**
+     * Creates the entries for the signatures of a transaction, matching each {@link
+     * DecoratedSignature} to the signers by its signature hint.
+     *
+     * <p>A signature has an entry for every signer with the same hint, of which at most one can be
+     * valid since hints are only 4 bytes. A signature whose hint matches no signer has no entry.
+     *
+     * @param transaction the signed transaction
+     * @param signers the possible signers of the transaction
+     * @return the entries, in the order of the signatures of the transaction
+     */
+    public static List<Entry> fromTransaction(
+        AbstractTransaction transaction, Collection<KeyPair> signers) {
+      byte[] hash = transaction.hash();
+      List<Entry> entries = new ArrayList<>();
+      for (DecoratedSignature signature : transaction.getSignatures()) {
+        for (KeyPair signer : signers) {
+          if (signer.getSignatureHint().equals(signature.getHint())) {
+            entries.add(of(signer, hash, signature.getSignature().getSignature()));
+          }
+        }
+      }
+      return entries;
+    }
+
+    /**
+     * Creates the entries for the signatures of a Soroban authorization entry which are in the
+     * format of the default Stellar account, see {@link Auth#defaultAccountSignatureScVal(byte[],
+     * byte[])}. The signed data is {@link Auth#authorizationPayloadHash} of the entry, which is
+     * shared by the signatures of the delegates.
+     *
+     * <p>Source account credentials, which are covered by the transaction signatures, and
+     * signatures in other formats, such as those of custom account contracts, have no entries.
+     *
+     * @param entry the signed authorization entry
+     * @param network the network the entry was signed for
+     * @return the entries, the signatures of the address first, then those of its delegates
+     */
+    public static List<Entry> fromAuthorizationEntry(
+        SorobanAuthorizationEntry entry, Network network) {
+      SorobanCredentials credentials = entry.getCredentials();
+      SorobanAddressCredentials addressCredentials = Auth.getAddressCredentials(credentials);
+      if (addressCredentials == null) {
+        return Collections.emptyList();
+      }
+      byte[] payload =
+          Auth.authorizationPayloadHash(
+              Auth.buildAuthorizationEntryPreimage(
+                  entry,
+                  addressCredentials.getSignatureExpirationLedger().getUint32().getNumber(),
+                  network));
+      List<Entry> entries = new ArrayList<>();
+      addAccountSignatures(entries, payload, addressCredentials.getSignature());
+      if (credentials.getDiscriminant()
+          == SorobanCredentialsType.SOROBAN_CREDENTIALS_ADDRESS_WITH_DELEGATES) {
+        for (SorobanDelegateSignature delegate :
+            credentials.getAddressWithDelegates().getDelegates()) {
+          addDelegateSignatures(entries, payload, delegate);
+        }
+      }
+      return entries;
+    }
+
+    private static void addDelegateSignatures(
+        List<Entry> entries, byte[] payload, SorobanDelegateSignature delegate) {
+      addAccountSignatures(entries, payload, delegate.getSignature());
+      if (delegate.getNestedDelegates() != null) {
+        for (SorobanDelegateSignature nested : delegate.getNestedDelegates()) {
+          addDelegateSignatures(entries, payload, nested);
+        }
+      }
+    }
+
+    private static void addAccountSignatures(
+        List<Entry> entries, byte[] payload, @Nullable SCVal signatures) {
+      // Unsigned nodes hold a void signature.
+      if (signatures == null
+          || signatures.getDiscriminant() != SCValType.SCV_VEC
+          || signatures.getVec() == null) {
+        return;
+      }
+      for (SCVal element : signatures.getVec().getSCVec()) {
+        try {
+          Map<SCVal, SCVal> fields = Scv.fromMap(element);
+          SCVal publicKey = fields.get(Scv.toSymbol("public_key"));
+          SCVal signature = fields.get(Scv.toSymbol("signature"));
+          if (publicKey != null && signature != null) {
+            entries.add(new Entry(Scv.fromBytes(publicKey), payload, Scv.fromBytes(signature)));
+          }
+        } catch (IllegalArgumentException e) {
+          // Not a signature of the default account.
+        }
+      }
+    }
+  }
+
+  /** The outcome of {@link #verifyBatch(List, boolean)}. */
+  @Value
+  public static class Result {
+    /** The number of verified signatures. */
+    int size;
+
+    /** The indices of the invalid entries, in ascending order. */
+    List<Integer> invalidIndices;
+
+    /**
+     * Returns whether every signature in the batch is valid.
+     *
+     * @return true if no signature is invalid
+     */
+    public boolean isValid() {
+      return invalidIndices.isEmpty();
+    }
+
+    /**
+     * Returns the index of the first invalid entry.
+     *
+     * @return the index, or -1 if every signature is valid
+     */
+    public int getFirstInvalidIndex() {
+      return invalidIndices.isEmpty() ? -1 : invalidIndices.get(0);
+    }
+  }
+}
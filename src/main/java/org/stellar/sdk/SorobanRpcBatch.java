@@ -0,0 +1,416 @@
+package org.stellar.sdk;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.reflect.TypeToken;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import lombok.Value;
+import org.jetbrains.annotations.Nullable;
+import org.stellar.sdk.exception.SorobanRpcException;
+import org.stellar.sdk.exception.UnexpectedException;
+import org.stellar.sdk.requests.sorobanrpc.GetEventsRequest;
+import org.stellar.sdk.requests.sorobanrpc.GetLedgersRequest;
+import org.stellar.sdk.requests.sorobanrpc.GetTransactionRequest;
+import org.stellar.sdk.requests.sorobanrpc.GetTransactionsRequest;
+import org.stellar.sdk.requests.sorobanrpc.SendTransactionRequest;
+import org.stellar.sdk.requests.sorobanrpc.SimulateTransactionRequest;
+import org.stellar.sdk.requests.sorobanrpc.SorobanRpcRequest;
+import org.stellar.sdk.responses.gson.GsonSingleton;
+import org.stellar.sdk.responses.sorobanrpc.GetEventsResponse;
+import org.stellar.sdk.responses.sorobanrpc.GetFeeStatsResponse;
+import org.stellar.sdk.responses.sorobanrpc.GetHealthResponse;
+import org.stellar.sdk.responses.sorobanrpc.GetLatestLedgerResponse;
+import org.stellar.sdk.responses.sorobanrpc.GetLedgerEntriesResponse;
+import org.stellar.sdk.responses.sorobanrpc.GetLedgersResponse;
+import org.stellar.sdk.responses.sorobanrpc.GetNetworkResponse;
+import org.stellar.sdk.responses.sorobanrpc.GetTransactionResponse;
+import org.stellar.sdk.responses.sorobanrpc.GetTransactionsResponse;
+import org.stellar.sdk.responses.sorobanrpc.GetVersionInfoResponse;
+import org.stellar.sdk.responses.sorobanrpc.SendTransactionResponse;
+import org.stellar.sdk.responses.sorobanrpc.SimulateTransactionResponse;
+import org.stellar.sdk.responses.sorobanrpc.SorobanRpcResponse;
+import org.stellar.sdk.xdr.LedgerKey;
+
+/**
+ * A batch of Stellar RPC calls, sent as <a href="https://www.jsonrpc.org/specification#batch"
+ * target="_blank">JSON-RPC 2.0 batch requests</a> so that many calls share a single HTTP round
+ * trip.
+ *
+ * <p>Calls are added with the methods named after their {@link SorobanServer} counterparts and are
+ * sent by {@link #execute()} or {@link #executeAsync()}. Batches with more calls than the maximum
+ * batch size are split into several HTTP requests. The results are returned in the order the calls
+ * were added. A call rejected by the RPC carries its own {@link SorobanRpcException}, and does not
+ * fail the other calls of the batch.
+ *
+ * <pre>{@code
+ * List<SorobanRpcBatch.Result<?>> results =
+ *     sorobanServer.batch().getLatestLedger().getTransaction(hash).execute();
+ * GetLatestLedgerResponse latestLedger =
+ *     results.get(0).as(GetLatestLedgerResponse.class).getOrThrow();
+ * GetTransactionResponse transaction =
+ *     results.get(1).as(GetTransactionResponse.class).getOrThrow();
+ * }</pre>
+ *
+ * <p>This class is not thread-safe.
+ *
+ * @see SorobanServer#batch()
+ */
+public class SorobanRpcBatch {
+  /** The default maximum number of calls sent in a single HTTP request. */
+  public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
+  private final SorobanServer server;
+  private final int maxBatchSize;
+  private final List<SorobanRpcRequest<?>> requests = new ArrayList<>();
+  private final List<Type> responseTypes = new ArrayList<>();
+
+  SorobanRpcBatch(SorobanServer server, int maxBatchSize) {
+    if (maxBatchSize < 1) {
+      throw new IllegalArgumentException("maxBatchSize must be greater than 0");
+    }
+    this.server = server;
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  /**
+   * Adds a {@code getHealth} call to the batch.
+   *
+   * @return this batch
+   * @see SorobanServer#getHealth()
+   */
+  public SorobanRpcBatch getHealth() {
+    return add("getHealth", null, GetHealthResponse.class);
+  }
+
+  /**
+   * Adds a {@code getFeeStats} call to the batch.
+   *
+   * @return this batch
+   * @see SorobanServer#getFeeStats()
+   */
+  public SorobanRpcBatch getFeeStats() {
+    return add("getFeeStats", null, GetFeeStatsResponse.class);
+  }
+
+  /**
+   * Adds a {@code getLedgerEntries} call to the batch.
+   *
+   * @param keys The ledger keys to load, at least one key must be provided.
+   * @return this batch
+   * @see SorobanServer#getLedgerEntries(Collection)
+   */
+  public SorobanRpcBatch getLedgerEntries(Collection<LedgerKey> keys) {
+    return add(
+        "getLedgerEntries",
+        SorobanServer.ledgerEntriesRequest(keys),
+        GetLedgerEntriesResponse.class);
+  }
+
+  /**
+   * Adds a {@code getTransaction} call to the batch.
+   *
+   * @param hash The hash of the transaction to check. Encoded as a hex string.
+   * @return this batch
+   * @see SorobanServer#getTransaction(String)
+   */
+  public SorobanRpcBatch getTransaction(String hash) {
+    return add("getTransaction", new GetTransactionRequest(hash), GetTransactionResponse.class);
+  }
+
+  /**
+   * Adds a {@code getTransactions} call to the batch.
+   *
+   * @param getTransactionsRequest The {@link GetTransactionsRequest} to use for the request.
+   * @return this batch
+   * @see SorobanServer#getTransactions(GetTransactionsRequest)
+   */
+  public SorobanRpcBatch getTransactions(GetTransactionsRequest getTransactionsRequest) {
+    return add("getTransactions", getTransactionsRequest, GetTransactionsResponse.class);
+  }
+
+  /**
+   * Adds a {@code getLedgers} call to the batch.
+   *
+   * @param getLedgersRequest The {@link GetLedgersRequest} to use for the request.
+   * @return this batch
+   * @see SorobanServer#getLedgers(GetLedgersRequest)
+   */
+  public SorobanRpcBatch getLedgers(GetLedgersRequest getLedgersRequest) {
+    return add("getLedgers", getLedgersRequest, GetLedgersResponse.class);
+  }
+
+  /**
+   * Adds a {@code getEvents} call to the batch.
+   *
+   * @param getEventsRequest The {@link GetEventsRequest} to use for the request.
+   * @return this batch
+   * @see SorobanServer#getEvents(GetEventsRequest)
+   */
+  public SorobanRpcBatch getEvents(GetEventsRequest getEventsRequest) {
+    return add("getEvents", getEventsRequest, GetEventsResponse.class);
+  }
+
+  /**
+   * Adds a {@code getVersionInfo} call to the batch.
+   *
+   * @return this batch
+   * @see SorobanServer#getVersionInfo()
+   */
+  public SorobanRpcBatch getVersionInfo() {
+    return add("getVersionInfo", null, GetVersionInfoResponse.class);
+  }
+
+  /**
+   * Adds a {@code getNetwork} call to the batch.
+   *
+   * @return this batch
+   * @see SorobanServer#getNetwork()
+   */
+  public SorobanRpcBatch getNetwork() {
+    return add("getNetwork", null, GetNetworkResponse.class);
+  }
+
+  /**
+   * Adds a {@code getLatestLedger} call to the batch.
+   *
+   * @return this batch
+   * @see SorobanServer#getLatestLedger()
+   */
+  public SorobanRpcBatch getLatestLedger() {
+    return add("getLatestLedger", null, GetLatestLedgerResponse.class);
+  }
+
+  /**
+   * Adds a {@code simulateTransaction} call to the batch.
+   *
+   * @param transaction The transaction to simulate.
+   * @param resourceConfig Additional resource include in the simulation.
+   * @param authMode Explicitly allows users to opt-in to non-root authorization in recording mode.
+   * @param useUpgradedAuth Opt simulation into recording {@code ADDRESS_V2} authorization
+   *     credentials.
+   * @return this batch
+   * @see SorobanServer#simulateTransaction(Transaction, SimulateTransactionRequest.ResourceConfig,
+   *     SimulateTransactionRequest.AuthMode, boolean)
+   */
+  public SorobanRpcBatch simulateTransaction(
+      Transaction transaction,
+      @Nullable SimulateTransactionRequest.ResourceConfig resourceConfig,
+      @Nullable SimulateTransactionRequest.AuthMode authMode,
+      boolean useUpgradedAuth) {
+    SimulateTransactionRequest params =
+        new SimulateTransactionRequest(
+            transaction.toEnvelopeXdrBase64(), resourceConfig, authMode, useUpgradedAuth);
+    return add("simulateTransaction", params, SimulateTransactionResponse.class);
+  }
+
+  /**
+   * Adds a {@code simulateTransaction} call to the batch, with no resource leeway and no auth mode
+   * set.
+   *
+   * @param transaction The transaction to simulate.
+   * @return this batch
+   * @see SorobanServer#simulateTransaction(Transaction)
+   */
+  public SorobanRpcBatch simulateTransaction(Transaction transaction) {
+    return simulateTransaction(transaction, null, null, false);
+  }
+
+  /**
+   * Adds a {@code sendTransaction} call to the batch.
+   *
+   * @param transaction The transaction to submit.
+   * @return this batch
+   * @see SorobanServer#sendTransaction(Transaction)
+   */
+  public SorobanRpcBatch sendTransaction(Transaction transaction) {
+    SendTransactionRequest params = new SendTransactionRequest(transaction.toEnvelopeXdrBase64());
+    return add("sendTransaction", params, SendTransactionResponse.class);
+  }
+
+  /**
+   * Returns the number of calls in the batch.
+   *
+   * @return the number of calls in the batch
+   */
+  public int size() {
+    return requests.size();
+  }
+
+  /**
+   * Sends the calls of the batch, one HTTP request per {@code maxBatchSize} calls.
+   *
+   * @return The results, in the order the calls were added.
+   * @throws org.stellar.sdk.exception.NetworkException All the exceptions below are subclasses of
+   *     NetworkException
+   * @throws SorobanRpcException If the Stellar RPC instance rejects a batch as a whole.
+   * @throws org.stellar.sdk.exception.RequestTimeoutException If the request timed out.
+   * @throws org.stellar.sdk.exception.ConnectionErrorException When the request cannot be executed
+   *     due to cancellation or connectivity problems, etc.
+   * @throws UnexpectedException If the response is not a valid response to the batch.
+   */
+  public List<Result<?>> execute() {
+    List<Result<?>> results = new ArrayList<>(requests.size());
+    for (int from = 0; from < requests.size(); from += maxBatchSize) {
+      int to = Math.min(from + maxBatchSize, requests.size());
+      results.addAll(toResults(from, to, server.sendBatchRequest(requests.subList(from, to))));
+    }
+    return results;
+  }
+
+  /**
+   * The non-blocking variant of {@link #execute()}. When the batch is split, the HTTP requests are
+   * sent concurrently.
+   *
+   * @return A future completed with the results, in the order the calls were added, or
+   *     exceptionally with one of the exceptions thrown by {@link #execute()}.
+   */
+  public CompletableFuture<List<Result<?>>> executeAsync() {
+    List<CompletableFuture<JsonElement>> responses = new ArrayList<>();
+    List<CompletableFuture<List<Result<?>>>> chunks = new ArrayList<>();
+    for (int from = 0; from < requests.size(); from += maxBatchSize) {
+      int start = from;
+      int end = Math.min(from + maxBatchSize, requests.size());
+      CompletableFuture<JsonElement> response =
+          server.sendBatchRequestAsync(new ArrayList<>(requests.subList(start, end)));
+      responses.add(response);
+      chunks.add(response.thenApply(json -> toResults(start, end, json)));
+    }
+    CompletableFuture<List<Result<?>>> combined =
+        CompletableFuture.allOf(chunks.toArray(new CompletableFuture<?>[0]))
+            .thenApply(
+                ignored -> {
+                  List<Result<?>> results = new ArrayList<>(requests.size());
+                  for (CompletableFuture<List<Result<?>>> chunk : chunks) {
+                    results.addAll(chunk.join());
+                  }
+                  return results;
+                });
+    return CompletableFutures.propagateCancellation(
+        combined, responses.toArray(new CompletableFuture<?>[0]));
+  }
+
+  private <T> SorobanRpcBatch add(String method, @Nullable T params, Type responseType) {
+    requests.add(new SorobanRpcRequest<>(SorobanServer.generateRequestId(), method, params));
+    responseTypes.add(responseType);
+    return this;
+  }
+
+  /** Correlates the responses to the calls {@code [from, to)} of the batch by their id. */
+  private List<Result<?>> toResults(int from, int to, JsonElement response) {
+    if (response.isJsonObject()) {
+      // The RPC replies with a single response object when it rejects the batch as a whole.
+      SorobanRpcResponse<?> rejected =
+          GsonSingleton.getInstance()
+              .fromJson(response, new TypeToken<SorobanRpcResponse<Void>>() {}.getType());
+      if (rejected.getError() != null) {
+        SorobanRpcResponse.Error error = rejected.getError();
+        throw new SorobanRpcException(error.getCode(), error.getMessage(), error.getData());
+      }
+    }
+    if (!response.isJsonArray()) {
+      throw new UnexpectedException("Unexpected batch response: " + response);
+    }
+
+    Map<String, JsonObject> responsesById = new HashMap<>();
+    for (JsonElement element : response.getAsJsonArray()) {
+      if (element.isJsonObject() && element.getAsJsonObject().has("id")) {
+        JsonElement id = element.getAsJsonObject().get("id");
+        if (!id.isJsonNull()) {
+          responsesById.put(id.getAsString(), element.getAsJsonObject());
+        }
+      }
+    }
+
+    List<Result<?>> results = new ArrayList<>(to - from);
+    for (int i = from; i < to; i++) {
+      SorobanRpcRequest<?> request = requests.get(i);
+      JsonObject json = responsesById.get(request.getId());
+      if (json == null) {
+        throw new UnexpectedException(
+            "Missing response for " + request.getMethod() + " request " + request.getId());
+      }
+      SorobanRpcResponse<?> rpcResponse =
+          GsonSingleton.getInstance()
+              .fromJson(
+                  json,
+                  TypeToken.getParameterized(SorobanRpcResponse.class, responseTypes.get(i))
+                      .getType());
+      results.add(toResult(request.getMethod(), rpcResponse));
+    }
+    return results;
+  }
+
+  private static <R> Result<R> toResult(String method, SorobanRpcResponse<R> rpcResponse) {
+    SorobanRpcResponse.Error error = rpcResponse.getError();
+    if (error != null) {
+      return new Result<>(
+          method,
+          null,
+          new SorobanRpcException(error.getCode(), error.getMessage(), error.getData()));
+    }
+    return new Result<>(method, rpcResponse.getResult(), null);
+  }
+
+  /**
+   * The result of a single call of a batch.
+   *
+   * @param <R> The type of the result of the call
+   */
+  @Value
+  public static class Result<R> {
+    /** The JSON-RPC method of the call. */
+    String method;
+
+    /** The result of the call, null if the call failed. */
+    @Nullable R result;
+
+    /** The error returned by the RPC for the call, null if the call succeeded. */
+    @Nullable SorobanRpcException error;
+
+    /**
+     * Returns whether the call succeeded.
+     *
+     * @return true if the RPC returned a result for the call
+     */
+    public boolean isSuccess() {
+      return error == null;
+    }
+
+    /**
+     * Returns the result of the call, or throws the error returned by the RPC for it.
+     *
+     * @return the result of the call
+     * @throws SorobanRpcException If the RPC returned an error for the call.
+     */
+    public R getOrThrow() {
+      if (error != null) {
+        throw error;
+      }
+      return result;
+    }
+
+    /**
+     * Casts this result to the given result type.
+     *
+     * @param type The type of the result, e.g. {@code GetTransactionResponse.class} for a {@code
+     *     getTransaction} call.
+     * @param <V> The type of the result
+     * @return this result
+     * @throws IllegalArgumentException If the result is not of the given type.
+     */
+    @SuppressWarnings("unchecked")
+    public <V> Result<V> as(Class<V> type) {
+      if (result != null && !type.isInstance(result)) {
+        throw new IllegalArgumentException(
+            "The result of " + method + " is a " + result.getClass().getName());
+      }
+      return (Result<V>) this;
+    }
+  }
+}
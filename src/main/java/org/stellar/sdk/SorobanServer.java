@@ -1,6 +1,7 @@
 package org.stellar.sdk;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonElement;
 import com.google.gson.reflect.TypeToken;
 import java.io.Closeable;
 import java.io.IOException;
@@ -13,6 +14,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.IntFunction;
 import okhttp3.HttpUrl;
@@ -131,19 +133,47 @@ public class SorobanServer implements Closeable {
    *     connectivity problems, etc.
    */
   public TransactionBuilderAccount getAccount(String address) {
+    return accountFromLedgerEntries(address, this.getLedgerEntries(accountLedgerKey(address)));
+  }
+
+  /**
+   * The non-blocking variant of {@link #getAccount(String)}. The request is dispatched on the
+   * {@link OkHttpClient}'s dispatcher and the calling thread is never blocked.
+   *
+   * @return A future completed with the {@link Account}, or exceptionally with one of the
+   *     exceptions thrown by the blocking variant.
+   */
+  public CompletableFuture<TransactionBuilderAccount> getAccountAsync(String address) {
+    Collection<LedgerKey> keys;
+    try {
+      keys = accountLedgerKey(address);
+    } catch (RuntimeException e) {
+      return CompletableFutures.failedFuture(e);
+    }
+    CompletableFuture<GetLedgerEntriesResponse> entries = this.getLedgerEntriesAsync(keys);
+    return CompletableFutures.propagateCancellation(
+        entries.thenApply(response -> accountFromLedgerEntries(address, response)), entries);
+  }
+
+  private static Collection<LedgerKey> accountLedgerKey(String address) {
     MuxedAccount muxedAccount = new MuxedAccount(address);
     LedgerKey.LedgerKeyAccount ledgerKeyAccount =
         LedgerKey.LedgerKeyAccount.builder()
             .accountID(KeyPair.fromAccountId(muxedAccount.getAccountId()).getXdrAccountId())
             .build();
-    LedgerKey ledgerKey =
-        LedgerKey.builder().account(ledgerKeyAccount).discriminant(LedgerEntryType.ACCOUNT).build();
-    GetLedgerEntriesResponse getLedgerEntriesResponse =
-        this.getLedgerEntries(Collections.singleton(ledgerKey));
+    return Collections.singleton(
+        LedgerKey.builder()
+            .account(ledgerKeyAccount)
+            .discriminant(LedgerEntryType.ACCOUNT)
+            .build());
+  }
+
+  private static TransactionBuilderAccount accountFromLedgerEntries(
+      String address, GetLedgerEntriesResponse getLedgerEntriesResponse) {
     List<GetLedgerEntriesResponse.LedgerEntryResult> entries =
         getLedgerEntriesResponse.getEntries();
     if (entries == null || entries.isEmpty()) {
-      throw new AccountNotFoundException(muxedAccount.getAccountId());
+      throw new AccountNotFoundException(new MuxedAccount(address).getAccountId());
     }
     LedgerEntry.LedgerEntryData ledgerEntryData;
     try {
@@ -174,6 +204,18 @@ public class SorobanServer implements Closeable {
         "getHealth", null, new TypeToken<SorobanRpcResponse<GetHealthResponse>>() {});
   }
 
+  /**
+   * The non-blocking variant of {@link #getHealth()}. The request is dispatched on the {@link
+   * OkHttpClient}'s dispatcher and the calling thread is never blocked.
+   *
+   * @return A future completed with the {@link GetHealthResponse}, or exceptionally with one of the
+   *     exceptions thrown by the blocking variant.
+   */
+  public CompletableFuture<GetHealthResponse> getHealthAsync() {
+    return this.<Void, GetHealthResponse>sendRequestAsync(
+        "getHealth", null, new TypeToken<SorobanRpcResponse<GetHealthResponse>>() {});
+  }
+
   /**
    * Get statistics for charged inclusion fees.
    *
@@ -193,6 +235,18 @@ public class SorobanServer implements Closeable {
         "getFeeStats", null, new TypeToken<SorobanRpcResponse<GetFeeStatsResponse>>() {});
   }
 
+  /**
+   * The non-blocking variant of {@link #getFeeStats()}. The request is dispatched on the {@link
+   * OkHttpClient}'s dispatcher and the calling thread is never blocked.
+   *
+   * @return A future completed with the {@link GetFeeStatsResponse}, or exceptionally with one of
+   *     the exceptions thrown by the blocking variant.
+   */
+  public CompletableFuture<GetFeeStatsResponse> getFeeStatsAsync() {
+    return this.<Void, GetFeeStatsResponse>sendRequestAsync(
+        "getFeeStats", null, new TypeToken<SorobanRpcResponse<GetFeeStatsResponse>>() {});
+  }
+
   /**
    * Reads the current value of contract data ledger entries directly.
    *
@@ -267,6 +321,29 @@ public class SorobanServer implements Closeable {
    *     target="_blank">getLedgerEntries documentation</a>
    */
   public GetLedgerEntriesResponse getLedgerEntries(Collection<LedgerKey> keys) {
+    return this.sendRequest(
+        "getLedgerEntries",
+        ledgerEntriesRequest(keys),
+        new TypeToken<SorobanRpcResponse<GetLedgerEntriesResponse>>() {});
+  }
+
+  /**
+   * The non-blocking variant of {@link #getLedgerEntries(Collection)}. The request is dispatched on
+   * the {@link OkHttpClient}'s dispatcher and the calling thread is never blocked.
+   *
+   * @param keys The ledger keys to load, at least one key must be provided.
+   * @return A future completed with the {@link GetLedgerEntriesResponse}, or exceptionally with one
+   *     of the exceptions thrown by the blocking variant.
+   */
+  public CompletableFuture<GetLedgerEntriesResponse> getLedgerEntriesAsync(
+      Collection<LedgerKey> keys) {
+    return this.sendRequestAsync(
+        "getLedgerEntries",
+        ledgerEntriesRequest(keys),
+        new TypeToken<SorobanRpcResponse<GetLedgerEntriesResponse>>() {});
+  }
+
+  static GetLedgerEntriesRequest ledgerEntriesRequest(Collection<LedgerKey> keys) {
     if (keys.isEmpty()) {
       throw new IllegalArgumentException("At least one key must be provided.");
     }
@@ -281,11 +358,7 @@ public class SorobanServer implements Closeable {
       }
       xdrKeys.add(xdrBase64);
     }
-    GetLedgerEntriesRequest params = new GetLedgerEntriesRequest(xdrKeys);
-    return this.sendRequest(
-        "getLedgerEntries",
-        params,
-        new TypeToken<SorobanRpcResponse<GetLedgerEntriesResponse>>() {});
+    return new GetLedgerEntriesRequest(xdrKeys);
   }
 
   /**
@@ -313,6 +386,20 @@ public class SorobanServer implements Closeable {
         "getTransaction", params, new TypeToken<SorobanRpcResponse<GetTransactionResponse>>() {});
   }
 
+  /**
+   * The non-blocking variant of {@link #getTransaction(String)}. The request is dispatched on the
+   * {@link OkHttpClient}'s dispatcher and the calling thread is never blocked.
+   *
+   * @param hash The hash of the transaction to check. Encoded as a hex string.
+   * @return A future completed with the {@link GetTransactionResponse}, or exceptionally with one
+   *     of the exceptions thrown by the blocking variant.
+   */
+  public CompletableFuture<GetTransactionResponse> getTransactionAsync(String hash) {
+    GetTransactionRequest params = new GetTransactionRequest(hash);
+    return this.sendRequestAsync(
+        "getTransaction", params, new TypeToken<SorobanRpcResponse<GetTransactionResponse>>() {});
+  }
+
   /**
    * An alias for {@link #pollTransaction(String, int, SleepStrategy)} with default parameters,
    * which {@code maxAttempts} is set to 30, and the sleep strategy is set to a default strategy
@@ -395,6 +482,22 @@ public class SorobanServer implements Closeable {
         new TypeToken<SorobanRpcResponse<GetTransactionsResponse>>() {});
   }
 
+  /**
+   * The non-blocking variant of {@link #getTransactions(GetTransactionsRequest)}. The request is
+   * dispatched on the {@link OkHttpClient}'s dispatcher and the calling thread is never blocked.
+   *
+   * @param getTransactionsRequest The {@link GetTransactionsRequest} to use for the request.
+   * @return A future completed with the {@link GetTransactionsResponse}, or exceptionally with one
+   *     of the exceptions thrown by the blocking variant.
+   */
+  public CompletableFuture<GetTransactionsResponse> getTransactionsAsync(
+      GetTransactionsRequest getTransactionsRequest) {
+    return this.sendRequestAsync(
+        "getTransactions",
+        getTransactionsRequest,
+        new TypeToken<SorobanRpcResponse<GetTransactionsResponse>>() {});
+  }
+
   /**
    * Gets a detailed list of ledgers starting from the user specified starting point that you can
    * paginate as long as the pages fall within the history retention of their corresponding RPC
@@ -419,6 +522,22 @@ public class SorobanServer implements Closeable {
         new TypeToken<SorobanRpcResponse<GetLedgersResponse>>() {});
   }
 
+  /**
+   * The non-blocking variant of {@link #getLedgers(GetLedgersRequest)}. The request is dispatched
+   * on the {@link OkHttpClient}'s dispatcher and the calling thread is never blocked.
+   *
+   * @param getLedgersRequest The {@link GetLedgersRequest} to use for the request.
+   * @return A future completed with the {@link GetLedgersResponse}, or exceptionally with one of
+   *     the exceptions thrown by the blocking variant.
+   */
+  public CompletableFuture<GetLedgersResponse> getLedgersAsync(
+      GetLedgersRequest getLedgersRequest) {
+    return this.sendRequestAsync(
+        "getLedgers",
+        getLedgersRequest,
+        new TypeToken<SorobanRpcResponse<GetLedgersResponse>>() {});
+  }
+
   /**
    * Fetches all events that match the given {@link GetEventsRequest}.
    *
@@ -439,6 +558,19 @@ public class SorobanServer implements Closeable {
         "getEvents", getEventsRequest, new TypeToken<SorobanRpcResponse<GetEventsResponse>>() {});
   }
 
+  /**
+   * The non-blocking variant of {@link #getEvents(GetEventsRequest)}. The request is dispatched on
+   * the {@link OkHttpClient}'s dispatcher and the calling thread is never blocked.
+   *
+   * @param getEventsRequest The {@link GetEventsRequest} to use for the request.
+   * @return A future completed with the {@link GetEventsResponse}, or exceptionally with one of the
+   *     exceptions thrown by the blocking variant.
+   */
+  public CompletableFuture<GetEventsResponse> getEventsAsync(GetEventsRequest getEventsRequest) {
+    return this.sendRequestAsync(
+        "getEvents", getEventsRequest, new TypeToken<SorobanRpcResponse<GetEventsResponse>>() {});
+  }
+
   /**
    * Fetches version information about the RPC and Captive core.
    *
@@ -458,6 +590,18 @@ public class SorobanServer implements Closeable {
         "getVersionInfo", null, new TypeToken<SorobanRpcResponse<GetVersionInfoResponse>>() {});
   }
 
+  /**
+   * The non-blocking variant of {@link #getVersionInfo()}. The request is dispatched on the {@link
+   * OkHttpClient}'s dispatcher and the calling thread is never blocked.
+   *
+   * @return A future completed with the {@link GetVersionInfoResponse}, or exceptionally with one
+   *     of the exceptions thrown by the blocking variant.
+   */
+  public CompletableFuture<GetVersionInfoResponse> getVersionInfoAsync() {
+    return this.<Void, GetVersionInfoResponse>sendRequestAsync(
+        "getVersionInfo", null, new TypeToken<SorobanRpcResponse<GetVersionInfoResponse>>() {});
+  }
+
   /**
    * Fetches metadata about the network which Stellar RPC is connected to.
    *
@@ -477,6 +621,18 @@ public class SorobanServer implements Closeable {
         "getNetwork", null, new TypeToken<SorobanRpcResponse<GetNetworkResponse>>() {});
   }
 
+  /**
+   * The non-blocking variant of {@link #getNetwork()}. The request is dispatched on the {@link
+   * OkHttpClient}'s dispatcher and the calling thread is never blocked.
+   *
+   * @return A future completed with the {@link GetNetworkResponse}, or exceptionally with one of
+   *     the exceptions thrown by the blocking variant.
+   */
+  public CompletableFuture<GetNetworkResponse> getNetworkAsync() {
+    return this.<Void, GetNetworkResponse>sendRequestAsync(
+        "getNetwork", null, new TypeToken<SorobanRpcResponse<GetNetworkResponse>>() {});
+  }
+
   /**
    * Fetches the latest ledger meta info from network which Stellar RPC is connected to.
    *
@@ -496,6 +652,18 @@ public class SorobanServer implements Closeable {
         "getLatestLedger", null, new TypeToken<SorobanRpcResponse<GetLatestLedgerResponse>>() {});
   }
 
+  /**
+   * The non-blocking variant of {@link #getLatestLedger()}. The request is dispatched on the {@link
+   * OkHttpClient}'s dispatcher and the calling thread is never blocked.
+   *
+   * @return A future completed with the {@link GetLatestLedgerResponse}, or exceptionally with one
+   *     of the exceptions thrown by the blocking variant.
+   */
+  public CompletableFuture<GetLatestLedgerResponse> getLatestLedgerAsync() {
+    return this.<Void, GetLatestLedgerResponse>sendRequestAsync(
+        "getLatestLedger", null, new TypeToken<SorobanRpcResponse<GetLatestLedgerResponse>>() {});
+  }
+
   /**
    * Submit a trial contract invocation to get back return values, expected ledger footprint,
    * expected authorizations, and expected costs.
@@ -538,6 +706,34 @@ public class SorobanServer implements Closeable {
         new TypeToken<SorobanRpcResponse<SimulateTransactionResponse>>() {});
   }
 
+  /**
+   * The non-blocking variant of {@link #simulateTransaction(Transaction,
+   * SimulateTransactionRequest.ResourceConfig, SimulateTransactionRequest.AuthMode, boolean)}. The
+   * request is dispatched on the {@link OkHttpClient}'s dispatcher and the calling thread is never
+   * blocked.
+   *
+   * @param transaction The transaction to simulate.
+   * @param resourceConfig Additional resource include in the simulation.
+   * @param authMode Explicitly allows users to opt-in to non-root authorization in recording mode.
+   * @param useUpgradedAuth Opt simulation into recording {@code ADDRESS_V2} authorization
+   *     credentials.
+   * @return A future completed with the {@link SimulateTransactionResponse}, or exceptionally with
+   *     one of the exceptions thrown by the blocking variant.
+   */
+  public CompletableFuture<SimulateTransactionResponse> simulateTransactionAsync(
+      Transaction transaction,
+      @Nullable SimulateTransactionRequest.ResourceConfig resourceConfig,
+      @Nullable SimulateTransactionRequest.AuthMode authMode,
+      boolean useUpgradedAuth) {
+    SimulateTransactionRequest params =
+        new SimulateTransactionRequest(
+            transaction.toEnvelopeXdrBase64(), resourceConfig, authMode, useUpgradedAuth);
+    return this.sendRequestAsync(
+        "simulateTransaction",
+        params,
+        new TypeToken<SorobanRpcResponse<SimulateTransactionResponse>>() {});
+  }
+
   /**
    * An alias for {@link #simulateTransaction(Transaction,
    * SimulateTransactionRequest.ResourceConfig, SimulateTransactionRequest.AuthMode, boolean)} with
@@ -567,6 +763,19 @@ public class SorobanServer implements Closeable {
     return simulateTransaction(transaction, null, null);
   }
 
+  /**
+   * The non-blocking variant of {@link #simulateTransaction(Transaction)}. The request is
+   * dispatched on the {@link OkHttpClient}'s dispatcher and the calling thread is never blocked.
+   *
+   * @param transaction The transaction to simulate.
+   * @return A future completed with the {@link SimulateTransactionResponse}, or exceptionally with
+   *     one of the exceptions thrown by the blocking variant.
+   */
+  public CompletableFuture<SimulateTransactionResponse> simulateTransactionAsync(
+      Transaction transaction) {
+    return simulateTransactionAsync(transaction, null, null, false);
+  }
+
   /**
    * Submit a trial contract invocation, first run a simulation of the contract invocation as
    * defined on the incoming transaction, and apply the results to a new copy of the transaction
@@ -606,6 +815,24 @@ public class SorobanServer implements Closeable {
     return prepareTransaction(transaction, simulateTransactionResponse);
   }
 
+  /**
+   * The non-blocking variant of {@link #prepareTransaction(Transaction)}. The request is dispatched
+   * on the {@link OkHttpClient}'s dispatcher and the calling thread is never blocked.
+   *
+   * @param transaction The transaction to prepare.
+   * @return A future completed with the prepared copy of the {@link Transaction}, or exceptionally
+   *     with one of the exceptions thrown by the blocking variant.
+   */
+  public CompletableFuture<Transaction> prepareTransactionAsync(Transaction transaction) {
+    CompletableFuture<SimulateTransactionResponse> simulation =
+        simulateTransactionAsync(transaction);
+    return CompletableFutures.propagateCancellation(
+        simulation.thenApply(
+            simulateTransactionResponse ->
+                prepareTransaction(transaction, simulateTransactionResponse)),
+        simulation);
+  }
+
   /**
    * Prepare the transaction using the simulateTransaction obtained by the user in advance, apply
    * the simulateTransaction results to a new copy of the transaction which is then returned.
@@ -669,6 +896,20 @@ public class SorobanServer implements Closeable {
         "sendTransaction", params, new TypeToken<SorobanRpcResponse<SendTransactionResponse>>() {});
   }
 
+  /**
+   * The non-blocking variant of {@link #sendTransaction(Transaction)}. The request is dispatched on
+   * the {@link OkHttpClient}'s dispatcher and the calling thread is never blocked.
+   *
+   * @param transaction The transaction to submit.
+   * @return A future completed with the {@link SendTransactionResponse}, or exceptionally with one
+   *     of the exceptions thrown by the blocking variant.
+   */
+  public CompletableFuture<SendTransactionResponse> sendTransactionAsync(Transaction transaction) {
+    SendTransactionRequest params = new SendTransactionRequest(transaction.toEnvelopeXdrBase64());
+    return this.sendRequestAsync(
+        "sendTransaction", params, new TypeToken<SorobanRpcResponse<SendTransactionResponse>>() {});
+  }
+
   /**
    * Fetches the balance of a specific asset for a contract. This is useful for checking the balance
    * of a contract in a specific asset.
@@ -1021,21 +1262,75 @@ public class SorobanServer implements Closeable {
    */
   private <T, R> R sendRequest(
       String method, @Nullable T params, TypeToken<SorobanRpcResponse<R>> responseType) {
-    String requestId = generateRequestId();
     ResponseHandler<SorobanRpcResponse<R>> responseHandler = new ResponseHandler<>(responseType);
-    SorobanRpcRequest<T> sorobanRpcRequest = new SorobanRpcRequest<>(requestId, method, params);
+    Request request = buildRequest(method, params);
+    try (Response response = this.httpClient.newCall(request).execute()) {
+      return unwrapResult(responseHandler.handleResponse(response));
+    } catch (SocketTimeoutException e) {
+      throw new RequestTimeoutException(e);
+    } catch (IOException e) {
+      throw new ConnectionErrorException(e);
+    }
+  }
+
+  /**
+   * The non-blocking variant of {@link #sendRequest(String, Object, TypeToken)}, the returned
+   * future completes exceptionally with the exceptions thrown by the blocking variant.
+   */
+  private <T, R> CompletableFuture<R> sendRequestAsync(
+      String method, @Nullable T params, TypeToken<SorobanRpcResponse<R>> responseType) {
+    ResponseHandler<SorobanRpcResponse<R>> responseHandler = new ResponseHandler<>(responseType);
+    Request request = buildRequest(method, params);
+    CompletableFuture<SorobanRpcResponse<R>> response =
+        responseHandler.enqueue(this.httpClient.newCall(request));
+    return CompletableFutures.propagateCancellation(
+        response.thenApply(SorobanServer::unwrapResult), response);
+  }
+
+  private <T> Request buildRequest(String method, @Nullable T params) {
+    SorobanRpcRequest<T> sorobanRpcRequest =
+        new SorobanRpcRequest<>(generateRequestId(), method, params);
     MediaType mediaType = MediaType.parse("application/json");
     RequestBody requestBody =
         RequestBody.create(gson.toJson(sorobanRpcRequest).getBytes(), mediaType);
+    return new Request.Builder().url(this.serverURI).post(requestBody).build();
+  }
 
-    Request request = new Request.Builder().url(this.serverURI).post(requestBody).build();
-    try (Response response = this.httpClient.newCall(request).execute()) {
-      SorobanRpcResponse<R> sorobanRpcResponse = responseHandler.handleResponse(response);
-      if (sorobanRpcResponse.getError() != null) {
-        SorobanRpcResponse.Error error = sorobanRpcResponse.getError();
-        throw new SorobanRpcException(error.getCode(), error.getMessage(), error.getData());
-      }
-      return sorobanRpcResponse.getResult();
+  private static <R> R unwrapResult(SorobanRpcResponse<R> sorobanRpcResponse) {
+    if (sorobanRpcResponse.getError() != null) {
+      SorobanRpcResponse.Error error = sorobanRpcResponse.getError();
+      throw new SorobanRpcException(error.getCode(), error.getMessage(), error.getData());
+    }
+    return sorobanRpcResponse.getResult();
+  }
+
+  /**
+   * Creates a batch of calls which are sent together as JSON-RPC 2.0 batch requests, with at most
+   * {@link SorobanRpcBatch#DEFAULT_MAX_BATCH_SIZE} calls per HTTP request.
+   *
+   * @return A new, empty {@link SorobanRpcBatch}.
+   */
+  public SorobanRpcBatch batch() {
+    return new SorobanRpcBatch(this, SorobanRpcBatch.DEFAULT_MAX_BATCH_SIZE);
+  }
+
+  /**
+   * Creates a batch of calls which are sent together as JSON-RPC 2.0 batch requests.
+   *
+   * @param maxBatchSize The maximum number of calls sent in a single HTTP request, larger batches
+   *     are split into several requests.
+   * @return A new, empty {@link SorobanRpcBatch}.
+   */
+  public SorobanRpcBatch batch(int maxBatchSize) {
+    return new SorobanRpcBatch(this, maxBatchSize);
+  }
+
+  /** Sends the requests as one JSON-RPC batch, and returns the raw response. */
+  JsonElement sendBatchRequest(List<SorobanRpcRequest<?>> requests) {
+    ResponseHandler<JsonElement> responseHandler =
+        new ResponseHandler<>(new TypeToken<JsonElement>() {});
+    try (Response response = this.httpClient.newCall(buildBatchRequest(requests)).execute()) {
+      return responseHandler.handleResponse(response);
     } catch (SocketTimeoutException e) {
       throw new RequestTimeoutException(e);
     } catch (IOException e) {
@@ -1043,12 +1338,25 @@ public class SorobanServer implements Closeable {
     }
   }
 
+  /** The non-blocking variant of {@link #sendBatchRequest(List)}. */
+  CompletableFuture<JsonElement> sendBatchRequestAsync(List<SorobanRpcRequest<?>> requests) {
+    ResponseHandler<JsonElement> responseHandler =
+        new ResponseHandler<>(new TypeToken<JsonElement>() {});
+    return responseHandler.enqueue(this.httpClient.newCall(buildBatchRequest(requests)));
+  }
+
+  private Request buildBatchRequest(List<SorobanRpcRequest<?>> requests) {
+    MediaType mediaType = MediaType.parse("application/json");
+    RequestBody requestBody = RequestBody.create(gson.toJson(requests).getBytes(), mediaType);
+    return new Request.Builder().url(this.serverURI).post(requestBody).build();
+  }
+
   @Override
   public void close() throws IOException {
     this.httpClient.connectionPool().evictAll();
   }
 
-  private static String generateRequestId() {
+  static String generateRequestId() {
     return UUID.randomUUID().toString();
   }
 
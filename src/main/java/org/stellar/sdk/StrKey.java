@@ -1,15 +1,12 @@
 package org.stellar.sdk;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
-import java.nio.charset.StandardCharsets;
+import java.nio.CharBuffer;
 import java.util.Arrays;
 import java.util.Optional;
 import lombok.NonNull;
 import lombok.Value;
-import org.stellar.sdk.exception.UnexpectedException;
 
 /**
  * StrKey is a helper class that allows encoding and decoding Stellar keys to/from strings, i.e.
@@ -18,8 +15,9 @@ import org.stellar.sdk.exception.UnexpectedException;
 public class StrKey {
 
   private static final BigInteger UINT64_MAX = new BigInteger("18446744073709551615");
+  private static final char[] BASE32_ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZ234567".toCharArray();
   private static final byte[] b32Table = decodingTable();
-  private static final Base32 base32Codec = Base32Factory.getInstance();
+  private static final int[] CRC16_TABLE = crc16Table();
 
   /**
    * Encodes raw data to strkey ed25519 public key (G...)
@@ -39,7 +37,36 @@ public class StrKey {
    * @return raw bytes
    */
   public static byte[] decodeEd25519PublicKey(String data) {
-    return decodeCheck(VersionByte.ACCOUNT_ID, data.toCharArray());
+    return decodeCheck(VersionByte.ACCOUNT_ID, data);
+  }
+
+  /**
+   * Encodes 32 bytes of raw data starting at {@code offset} to strkey ed25519 public key (G...),
+   * writing the 56 characters directly into {@code out} without allocating.
+   *
+   * @param data data to encode
+   * @param offset offset of the raw data in {@code data}
+   * @param out buffer receiving the "G..." representation of the key
+   * @param outOffset offset in {@code out} at which the key is written
+   * @return the number of characters written
+   * @throws IllegalArgumentException if {@code out} is too small
+   */
+  public static int encodeEd25519PublicKey(byte[] data, int offset, char[] out, int outOffset) {
+    return encodeCheck(VersionByte.ACCOUNT_ID, data, offset, 32, out, outOffset);
+  }
+
+  /**
+   * Decodes strkey ed25519 public key (G...) directly into {@code out} without allocating.
+   *
+   * @param data data to decode
+   * @param out buffer receiving the 32 raw bytes of the key
+   * @param offset offset in {@code out} at which the raw bytes are written
+   * @return the number of bytes written
+   * @throws IllegalArgumentException if {@code data} is not a valid G... strkey or {@code out} is
+   *     too small
+   */
+  public static int decodeEd25519PublicKey(CharSequence data, byte[] out, int offset) {
+    return decodeCheck(VersionByte.ACCOUNT_ID, data, out, offset);
   }
 
   /**
@@ -110,7 +137,7 @@ public class StrKey {
    * @return raw bytes
    */
   public static byte[] decodePreAuthTx(String data) {
-    return decodeCheck(VersionByte.PRE_AUTH_TX, data.toCharArray());
+    return decodeCheck(VersionByte.PRE_AUTH_TX, data);
   }
 
   /**
@@ -146,7 +173,7 @@ public class StrKey {
    * @return raw bytes
    */
   public static byte[] decodeSha256Hash(String data) {
-    return decodeCheck(VersionByte.SHA256_HASH, data.toCharArray());
+    return decodeCheck(VersionByte.SHA256_HASH, data);
   }
 
   /**
@@ -182,7 +209,7 @@ public class StrKey {
    * @return raw bytes
    */
   public static byte[] decodeSignedPayload(String data) {
-    return decodeCheck(VersionByte.SIGNED_PAYLOAD, data.toCharArray());
+    return decodeCheck(VersionByte.SIGNED_PAYLOAD, data);
   }
 
   /**
@@ -218,7 +245,36 @@ public class StrKey {
    * @return raw bytes
    */
   public static byte[] decodeContract(String data) {
-    return decodeCheck(VersionByte.CONTRACT, data.toCharArray());
+    return decodeCheck(VersionByte.CONTRACT, data);
+  }
+
+  /**
+   * Encodes 32 bytes of raw data starting at {@code offset} to strkey contract ID (C...), writing
+   * the 56 characters directly into {@code out} without allocating.
+   *
+   * @param data data to encode
+   * @param offset offset of the raw data in {@code data}
+   * @param out buffer receiving the "C..." representation of the key
+   * @param outOffset offset in {@code out} at which the key is written
+   * @return the number of characters written
+   * @throws IllegalArgumentException if {@code out} is too small
+   */
+  public static int encodeContract(byte[] data, int offset, char[] out, int outOffset) {
+    return encodeCheck(VersionByte.CONTRACT, data, offset, 32, out, outOffset);
+  }
+
+  /**
+   * Decodes strkey contract ID (C...) directly into {@code out} without allocating.
+   *
+   * @param data data to decode
+   * @param out buffer receiving the 32 raw bytes of the key
+   * @param offset offset in {@code out} at which the raw bytes are written
+   * @return the number of bytes written
+   * @throws IllegalArgumentException if {@code data} is not a valid C... strkey or {@code out} is
+   *     too small
+   */
+  public static int decodeContract(CharSequence data, byte[] out, int offset) {
+    return decodeCheck(VersionByte.CONTRACT, data, out, offset);
   }
 
   /**
@@ -254,7 +310,7 @@ public class StrKey {
    * @return raw bytes
    */
   public static byte[] decodeLiquidityPool(String data) {
-    return decodeCheck(VersionByte.LIQUIDITY_POOL, data.toCharArray());
+    return decodeCheck(VersionByte.LIQUIDITY_POOL, data);
   }
 
   /**
@@ -290,7 +346,7 @@ public class StrKey {
    * @return raw bytes
    */
   public static byte[] decodeClaimableBalance(String data) {
-    return decodeCheck(VersionByte.CLAIMABLE_BALANCE, data.toCharArray());
+    return decodeCheck(VersionByte.CLAIMABLE_BALANCE, data);
   }
 
   /**
@@ -326,7 +382,36 @@ public class StrKey {
    * @return raw bytes
    */
   public static byte[] decodeMed25519PublicKey(String data) {
-    return decodeCheck(VersionByte.MED25519_PUBLIC_KEY, data.toCharArray());
+    return decodeCheck(VersionByte.MED25519_PUBLIC_KEY, data);
+  }
+
+  /**
+   * Encodes 40 bytes of raw data starting at {@code offset} to strkey Stellar med25519 public key
+   * (M...), writing the 69 characters directly into {@code out} without allocating.
+   *
+   * @param data data to encode
+   * @param offset offset of the raw data in {@code data}
+   * @param out buffer receiving the "M..." representation of the key
+   * @param outOffset offset in {@code out} at which the key is written
+   * @return the number of characters written
+   * @throws IllegalArgumentException if {@code out} is too small
+   */
+  public static int encodeMed25519PublicKey(byte[] data, int offset, char[] out, int outOffset) {
+    return encodeCheck(VersionByte.MED25519_PUBLIC_KEY, data, offset, 40, out, outOffset);
+  }
+
+  /**
+   * Decodes strkey Stellar med25519 public key (M...) directly into {@code out} without allocating.
+   *
+   * @param data data to decode
+   * @param out buffer receiving the 40 raw bytes of the key
+   * @param offset offset in {@code out} at which the raw bytes are written
+   * @return the number of bytes written
+   * @throws IllegalArgumentException if {@code data} is not a valid M... strkey or {@code out} is
+   *     too small
+   */
+  public static int decodeMed25519PublicKey(CharSequence data, byte[] out, int offset) {
+    return decodeCheck(VersionByte.MED25519_PUBLIC_KEY, data, out, offset);
   }
 
   /**
@@ -345,9 +430,14 @@ public class StrKey {
   }
 
   static VersionByte decodeVersionByte(String data) {
-    byte[] dataBytes = data.getBytes(StandardCharsets.UTF_8);
-    byte[] decoded = base32decode(dataBytes);
-    byte decodedVersionByte = decoded[0];
+    for (int i = 0; i < data.length(); i++) {
+      decodeBase32Char(data.charAt(i));
+    }
+    if (data.length() < 2) {
+      throw new IllegalArgumentException("Version byte is invalid");
+    }
+    byte decodedVersionByte =
+        (byte) (decodeBase32Char(data.charAt(0)) << 3 | decodeBase32Char(data.charAt(1)) >>> 2);
     Optional<VersionByte> versionByteOptional = VersionByte.findByValue(decodedVersionByte);
     if (!versionByteOptional.isPresent()) {
       throw new IllegalArgumentException("Version byte is invalid");
@@ -356,55 +446,75 @@ public class StrKey {
   }
 
   static char[] encodeCheck(VersionByte versionByte, byte[] data) {
-    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-    outputStream.write(versionByte.getValue());
-    try {
-      outputStream.write(data);
-    } catch (IOException e) {
-      throw new UnexpectedException(e);
-    }
+    char[] encoded = new char[encodedLength(data.length)];
+    encodeCheck(versionByte, data, 0, data.length, encoded, 0);
+    return encoded;
+  }
 
-    byte[] payload = outputStream.toByteArray();
-    byte[] checksum = StrKey.calculateChecksum(payload);
-    try {
-      outputStream.write(checksum);
-    } catch (IOException e) {
-      throw new UnexpectedException(e);
+  /**
+   * Encodes the version byte, the data and its CRC16-XModem checksum as unpadded base32 directly
+   * into {@code out}, without any intermediate buffers.
+   *
+   * @return the number of characters written
+   */
+  static int encodeCheck(
+      VersionByte versionByte, byte[] data, int offset, int length, char[] out, int outOffset) {
+    if (offset < 0 || length < 0 || offset > data.length - length) {
+      throw new IndexOutOfBoundsException("Invalid offset or length for the data to encode");
     }
-
-    byte[] unencoded = outputStream.toByteArray();
-
-    byte[] encodedBytes = base32Codec.encode(unencoded);
-    byte[] unpaddedEncodedBytes = removeBase32Padding(encodedBytes);
-    char[] charsEncoded = bytesToChars(unpaddedEncodedBytes);
-
-    if (VersionByte.SEED != versionByte) {
-      return charsEncoded;
+    int encodedLength = encodedLength(length);
+    if (outOffset < 0 || outOffset > out.length - encodedLength) {
+      throw new IllegalArgumentException(
+          "Output buffer too small, " + encodedLength + " characters required");
     }
 
-    // Erase all data from memory
-    Arrays.fill(unencoded, (byte) 0);
-    Arrays.fill(payload, (byte) 0);
-    Arrays.fill(checksum, (byte) 0);
-    Arrays.fill(encodedBytes, (byte) 0);
-    Arrays.fill(unpaddedEncodedBytes, (byte) 0);
-
-    return charsEncoded;
+    Base32Encoder encoder = new Base32Encoder(out, outOffset);
+    byte version = (byte) versionByte.getValue();
+    int crc = crc16(0, version);
+    encoder.write(version);
+    for (int i = offset; i < offset + length; i++) {
+      crc = crc16(crc, data[i]);
+      encoder.write(data[i]);
+    }
+    // little-endian
+    encoder.write((byte) crc);
+    encoder.write((byte) (crc >>> 8));
+    encoder.finish();
+    return encodedLength;
   }
 
   static byte[] decodeCheck(VersionByte versionByte, char[] encoded) {
-    byte[] bytes = new byte[encoded.length];
-    for (int i = 0; i < encoded.length; i++) {
-      bytes[i] = (byte) encoded[i];
+    return decodeCheck(versionByte, CharBuffer.wrap(encoded));
+  }
+
+  static byte[] decodeCheck(VersionByte versionByte, CharSequence encoded) {
+    byte[] data = new byte[Math.max(decodedDataLength(encoded.length()), 0)];
+    try {
+      decodeCheck(versionByte, encoded, data, 0);
+    } catch (IllegalArgumentException e) {
+      if (VersionByte.SEED == versionByte) {
+        Arrays.fill(data, (byte) 0);
+      }
+      throw e;
     }
+    return data;
+  }
 
+  /**
+   * Decodes and validates a strkey directly into {@code out}, without any intermediate buffers. The
+   * content of {@code out} is unspecified if the strkey is invalid.
+   *
+   * @return the number of bytes written
+   */
+  static int decodeCheck(VersionByte versionByte, CharSequence encoded, byte[] out, int offset) {
+    int encodedLength = encoded.length();
     // The minimal binary decoded length is 3 bytes (version byte and 2-byte CRC) which,
     // in unpadded base32 (since each character provides 5 bits) corresponds to ceiling(8*3/5) = 5
-    if (bytes.length < 5) {
+    if (encodedLength < 5) {
       throw new IllegalArgumentException("Encoded char array must have a length of at least 5.");
     }
 
-    int leftoverBits = (bytes.length * 5) % 8;
+    int leftoverBits = (encodedLength * 5) % 8;
     // 1. Make sure there is no full unused leftover byte at the end
     //   (i.e. there shouldn't be 5 or more leftover bits)
     if (leftoverBits >= 5) {
@@ -412,53 +522,55 @@ public class StrKey {
     }
 
     if (leftoverBits > 0) {
-      byte lastChar = bytes[bytes.length - 1];
-      byte decodedLastChar = b32Table[lastChar];
-
-      byte leftoverBitsMask = (byte) (0x0f >> (4 - leftoverBits));
-      if ((decodedLastChar & leftoverBitsMask) != 0) {
-        throw new IllegalArgumentException("Unused bits should be set to 0.");
+      char lastChar = encoded.charAt(encodedLength - 1);
+      if (lastChar < b32Table.length) {
+        byte leftoverBitsMask = (byte) (0x0f >> (4 - leftoverBits));
+        if ((b32Table[lastChar] & leftoverBitsMask) != 0) {
+          throw new IllegalArgumentException("Unused bits should be set to 0.");
+        }
       }
     }
 
-    byte[] decoded = base32decode(bytes);
-    byte decodedVersionByte = decoded[0];
+    for (int i = 0; i < encodedLength; i++) {
+      decodeBase32Char(encoded.charAt(i));
+    }
+
+    byte decodedVersionByte =
+        (byte) (b32Table[encoded.charAt(0)] << 3 | b32Table[encoded.charAt(1)] >>> 2);
     VersionByte decodedVersionByteEnum =
         VersionByte.findByValue(decodedVersionByte)
             .orElseThrow(() -> new IllegalArgumentException("Version byte is invalid"));
-    byte[] payload = Arrays.copyOfRange(decoded, 0, decoded.length - 2);
-    byte[] data = Arrays.copyOfRange(payload, 1, payload.length);
-    byte[] checksum = Arrays.copyOfRange(decoded, decoded.length - 2, decoded.length);
+    int dataLength = decodedDataLength(encodedLength);
 
     // Check the data length
     switch (decodedVersionByteEnum) {
       case SIGNED_PAYLOAD:
-        if (data.length < 32 + 4 + 4 || data.length > 32 + 4 + 64) {
+        if (dataLength < 32 + 4 + 4 || dataLength > 32 + 4 + 64) {
           throw new IllegalArgumentException(
               "Invalid data length, the length should be between 40 and 100 bytes, got "
-                  + data.length);
+                  + dataLength);
         }
         break;
       case MED25519_PUBLIC_KEY:
-        if (data.length != 32 + 8) {
+        if (dataLength != 32 + 8) {
           throw new IllegalArgumentException(
-              "Invalid data length, expected 40 bytes, got " + data.length);
+              "Invalid data length, expected 40 bytes, got " + dataLength);
         }
         break;
       case CLAIMABLE_BALANCE:
-        if (data.length != 32 + 1) {
+        if (dataLength != 32 + 1) {
           // If we are encoding a claimable balance, the binary bytes of the key has a length of
           // 33-bytes:
           // 1-byte value indicating the type of claimable balance, where 0x00 maps to V0, and a
           // 32-byte SHA256 hash.
           throw new IllegalArgumentException(
-              "Invalid data length, expected 33 bytes, got " + data.length);
+              "Invalid data length, expected 33 bytes, got " + dataLength);
         }
         break;
       default:
-        if (data.length != 32) {
+        if (dataLength != 32) {
           throw new IllegalArgumentException(
-              "Invalid data length, expected 32 bytes, got " + data.length);
+              "Invalid data length, expected 32 bytes, got " + dataLength);
         }
         break;
     }
@@ -467,15 +579,50 @@ public class StrKey {
       throw new IllegalArgumentException("Version byte mismatch");
     }
 
-    byte[] expectedChecksum = StrKey.calculateChecksum(payload);
+    if (offset < 0 || offset > out.length - dataLength) {
+      throw new IllegalArgumentException(
+          "Output buffer too small, " + dataLength + " bytes required");
+    }
+
+    // Decode the version byte, the data and the checksum in a single pass, computing the expected
+    // checksum along the way.
+    int buffer = 0;
+    int bits = 0;
+    int index = 0;
+    int crc = 0;
+    int checksum = 0;
+    for (int i = 0; i < encodedLength; i++) {
+      buffer = buffer << 5 | b32Table[encoded.charAt(i)];
+      bits += 5;
+      if (bits < 8) {
+        continue;
+      }
+      bits -= 8;
+      byte decoded = (byte) (buffer >>> bits);
+      buffer &= (1 << bits) - 1;
+      if (index <= dataLength) {
+        if (index > 0) {
+          out[offset + index - 1] = decoded;
+        }
+        crc = crc16(crc, decoded);
+      } else if (index == dataLength + 1) {
+        checksum = decoded & 0xFF;
+      } else {
+        checksum |= (decoded & 0xFF) << 8;
+      }
+      index++;
+    }
 
-    if (!Arrays.equals(expectedChecksum, checksum)) {
+    if (crc != checksum) {
       throw new IllegalArgumentException("Checksum invalid");
     }
 
-    if (VersionByte.SIGNED_PAYLOAD.getValue() == decodedVersionByte) {
-      byte[] lengthBytes = Arrays.copyOfRange(data, 32, 36);
-      int payloadLength = ByteBuffer.wrap(lengthBytes).getInt();
+    if (VersionByte.SIGNED_PAYLOAD == decodedVersionByteEnum) {
+      int payloadLength =
+          (out[offset + 32] & 0xFF) << 24
+              | (out[offset + 33] & 0xFF) << 16
+              | (out[offset + 34] & 0xFF) << 8
+              | (out[offset + 35] & 0xFF);
 
       // Validate payload length: must be between 1 and 64 bytes
       if (payloadLength < 1 || payloadLength > 64) {
@@ -485,50 +632,47 @@ public class StrKey {
       }
 
       int padding = (4 - payloadLength % 4) % 4;
-      if (data.length % 4 != 0 || payloadLength + padding != data.length - 36) {
+      if (dataLength % 4 != 0 || payloadLength + padding != dataLength - 36) {
         throw new IllegalArgumentException("Invalid Ed25519 Signed Payload Key");
       }
 
       // Validate padding bytes are all zeros
-      for (int i = 36 + payloadLength; i < data.length; i++) {
-        if (data[i] != 0) {
+      for (int i = 36 + payloadLength; i < dataLength; i++) {
+        if (out[offset + i] != 0) {
           throw new IllegalArgumentException(
               "Invalid Ed25519 Signed Payload Key, padding bytes must be zero");
         }
       }
     }
+    return dataLength;
+  }
 
-    if (VersionByte.SEED.getValue() == decodedVersionByte) {
-      Arrays.fill(bytes, (byte) 0);
-      Arrays.fill(decoded, (byte) 0);
-      Arrays.fill(payload, (byte) 0);
-    }
-    return data;
+  /** Returns the length of the strkey encoding {@code dataLength} bytes of data. */
+  private static int encodedLength(int dataLength) {
+    // version byte + data + 2-byte checksum, 5 bits per character, without padding
+    return ((dataLength + 3) * 8 + 4) / 5;
   }
 
-  private static byte[] calculateChecksum(byte[] bytes) {
-    // This code calculates CRC16-XModem checksum
-    // Ported from https://github.com/alexgorbatchev/node-crc
-    int crc = 0x0000;
-    int count = bytes.length;
-    int i = 0;
-    int code;
+  /** Returns the length of the data encoded in a strkey of {@code encodedLength} characters. */
+  private static int decodedDataLength(int encodedLength) {
+    return encodedLength * 5 / 8 - 3;
+  }
 
-    while (count > 0) {
-      code = crc >>> 8 & 0xFF;
-      code ^= bytes[i++] & 0xFF;
-      code ^= code >>> 4;
-      crc = crc << 8 & 0xFFFF;
-      crc ^= code;
-      code = code << 5 & 0xFFFF;
-      crc ^= code;
-      code = code << 7 & 0xFFFF;
-      crc ^= code;
-      count--;
-    }
+  private static int crc16(int crc, byte b) {
+    // CRC16-XModem, one table lookup per byte
+    return (crc << 8 ^ CRC16_TABLE[(crc >>> 8 ^ b) & 0xFF]) & 0xFFFF;
+  }
 
-    // little-endian
-    return new byte[] {(byte) crc, (byte) (crc >>> 8)};
+  private static int[] crc16Table() {
+    int[] table = new int[256];
+    for (int i = 0; i < 256; i++) {
+      int crc = i << 8;
+      for (int bit = 0; bit < 8; bit++) {
+        crc = (crc & 0x8000) != 0 ? crc << 1 ^ 0x1021 : crc << 1;
+      }
+      table[i] = crc & 0xFFFF;
+    }
+    return table;
   }
 
   private static byte[] decodingTable() {
@@ -536,48 +680,46 @@ public class StrKey {
     for (int i = 0; i < 256; i++) {
       table[i] = (byte) 0xff;
     }
-    String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZ234567";
-    for (int i = 0; i < alphabet.length(); i++) {
-      table[alphabet.charAt(i)] = (byte) i;
+    for (int i = 0; i < BASE32_ALPHABET.length; i++) {
+      table[BASE32_ALPHABET[i]] = (byte) i;
     }
     return table;
   }
 
-  private static byte[] removeBase32Padding(byte[] data) {
-    // Calculate the length of unpadded data
-    int unpaddedLength = data.length;
-    while (unpaddedLength > 0 && data[unpaddedLength - 1] == '=') {
-      unpaddedLength--;
+  private static int decodeBase32Char(char c) {
+    if (c >= b32Table.length || b32Table[c] == -1) {
+      throw new IllegalArgumentException("Invalid base32 encoded string");
     }
-
-    // Create a copy of the data without padding bytes
-    return Arrays.copyOf(data, unpaddedLength);
+    return b32Table[c];
   }
 
-  private static char[] bytesToChars(byte[] data) {
-    char[] chars = new char[data.length];
-    for (int i = 0; i < data.length; i++) {
-      chars[i] = (char) (data[i] & 0xFF);
+  /** Writes bytes as unpadded base32 characters into a char array. */
+  private static final class Base32Encoder {
+    private final char[] out;
+    private int position;
+    private int buffer;
+    private int bits;
+
+    Base32Encoder(char[] out, int position) {
+      this.out = out;
+      this.position = position;
     }
-    return chars;
-  }
 
-  private static byte[] base32decode(byte[] data) {
-    // Apache commons codec Base32 class will auto remove the illegal characters, this is
-    // what we don't want, so we need to check the data before decoding
-    if (!isInAlphabet(data)) {
-      throw new IllegalArgumentException("Invalid base32 encoded string");
+    void write(byte b) {
+      buffer = buffer << 8 | (b & 0xFF);
+      bits += 8;
+      while (bits >= 5) {
+        bits -= 5;
+        out[position++] = BASE32_ALPHABET[buffer >>> bits & 0x1F];
+      }
+      buffer &= (1 << bits) - 1;
     }
-    return base32Codec.decode(data);
-  }
 
-  private static boolean isInAlphabet(final byte[] arrayOctet) {
-    for (final byte octet : arrayOctet) {
-      if (!(octet >= 0 && octet < b32Table.length && b32Table[octet] != -1)) {
-        return false;
+    void finish() {
+      if (bits > 0) {
+        out[position++] = BASE32_ALPHABET[buffer << (5 - bits) & 0x1F];
       }
     }
-    return true;
   }
 
   @Value
@@ -670,6 +812,8 @@ public class StrKey {
     LIQUIDITY_POOL((byte) (11 << 3)), // L
     CLAIMABLE_BALANCE((byte) (1 << 3)); // B
 
+    private static final VersionByte[] VALUES = values();
+
     private final byte value;
 
     VersionByte(byte value) {
@@ -677,7 +821,7 @@ public class StrKey {
     }
 
     public static Optional<VersionByte> findByValue(byte value) {
-      for (VersionByte versionByte : values()) {
+      for (VersionByte versionByte : VALUES) {
         if (value == versionByte.value) {
           return Optional.of(versionByte);
         }
@@ -125,10 +125,11 @@ public class Transaction extends AbstractTransaction {
   // protected
   void setEnvelopeType(EnvelopeType envelopeType) {
     this.envelopeType = envelopeType;
+    invalidateCaches();
   }
 
   @Override
-  public byte[] signatureBase() {
+  byte[] computeSignatureBase() {
     TransactionSignaturePayload.TransactionSignaturePayloadTaggedTransaction taggedTransaction =
         new TransactionSignaturePayload.TransactionSignaturePayloadTaggedTransaction();
     taggedTransaction.setDiscriminant(EnvelopeType.ENVELOPE_TYPE_TX);
@@ -400,11 +401,11 @@ public class Transaction extends AbstractTransaction {
       return false;
     }
     Transaction that = (Transaction) object;
-    return Arrays.equals(signatureBase(), that.signatureBase());
+    return Arrays.equals(cachedSignatureBase(), that.cachedSignatureBase());
   }
 
   @Override
   public int hashCode() {
-    return Arrays.hashCode(signatureBase());
+    return Arrays.hashCode(cachedSignatureBase());
   }
 }
@@ -0,0 +1,348 @@
+package org.stellar.sdk;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Value;
+import org.stellar.sdk.exception.SorobanRpcException;
+import org.stellar.sdk.responses.sorobanrpc.GetTransactionResponse;
+
+/**
+ * Tracks the status of many submitted transactions at once.
+ *
+ * <p>Unlike {@link SorobanServer#pollTransaction(String)}, which blocks the calling thread and
+ * sends one {@code getTransaction} request per hash and attempt, the tracker polls all pending
+ * hashes on a single scheduler, with one {@link SorobanRpcBatch} per poll, and completes a {@link
+ * CompletableFuture} per hash.
+ *
+ * <p>Like {@link SorobanServer#pollTransaction(String, int, SorobanServer.SleepStrategy)}, a future
+ * is completed with the first response whose status is not {@code NOT_FOUND}, or with the last
+ * {@code NOT_FOUND} response once the maximum number of attempts is reached. A future is completed
+ * exceptionally when the RPC returns an error for its hash, or when the last attempt failed.
+ *
+ * <pre>{@code
+ * try (TransactionStatusTracker tracker = new TransactionStatusTracker(sorobanServer)) {
+ *   CompletableFuture<GetTransactionResponse> status =
+ *       tracker.track(sorobanServer.sendTransaction(transaction).getHash());
+ *   ...
+ * }
+ * }</pre>
+ */
+public class TransactionStatusTracker implements Closeable {
+  private static final Duration DEFAULT_POLL_INTERVAL = Duration.ofSeconds(1);
+  private static final int DEFAULT_MAX_ATTEMPTS = 30;
+
+  private final SorobanServer server;
+  private final ScheduledExecutorService scheduler;
+  private final boolean ownsScheduler;
+  private final int maxAttempts;
+  private final int maxBatchSize;
+  private final Map<String, Pending> pending = new ConcurrentHashMap<>();
+  private final ScheduledFuture<?> pollTask;
+  private final AtomicBoolean polling = new AtomicBoolean();
+  private volatile boolean closed;
+
+  private final AtomicLong tracked = new AtomicLong();
+  private final AtomicLong confirmed = new AtomicLong();
+  private final AtomicLong notFound = new AtomicLong();
+  private final AtomicLong failed = new AtomicLong();
+  private final AtomicLong requests = new AtomicLong();
+  private final AtomicLong failedRequests = new AtomicLong();
+  private final AtomicLong totalConfirmLatencyNanos = new AtomicLong();
+  private final AtomicLong maxConfirmLatencyNanos = new AtomicLong();
+
+  /**
+   * Creates a tracker which polls every second, for up to 30 attempts per hash, on its own
+   * scheduler thread.
+   *
+   * @param server The {@link SorobanServer} to poll.
+   */
+  public TransactionStatusTracker(SorobanServer server) {
+    this(
+        server,
+        Executors.newSingleThreadScheduledExecutor(),
+        true,
+        DEFAULT_POLL_INTERVAL,
+        DEFAULT_MAX_ATTEMPTS,
+        SorobanRpcBatch.DEFAULT_MAX_BATCH_SIZE);
+  }
+
+  /**
+   * Creates a tracker which polls on the given scheduler. The scheduler is shared, it is not shut
+   * down when the tracker is closed, and the polls never block its threads.
+   *
+   * @param server The {@link SorobanServer} to poll.
+   * @param scheduler The scheduler to poll on.
+   * @param pollInterval The delay between two polls. A poll is skipped while the previous one is
+   *     still in flight.
+   * @param maxAttempts The number of polls before a hash which is still {@code NOT_FOUND} is given
+   *     up.
+   * @param maxBatchSize The maximum number of hashes sent in a single HTTP request.
+   * @throws IllegalArgumentException If pollInterval is not positive, or maxAttempts or
+   *     maxBatchSize is less than or equal to 0.
+   */
+  public TransactionStatusTracker(
+      SorobanServer server,
+      ScheduledExecutorService scheduler,
+      Duration pollInterval,
+      int maxAttempts,
+      int maxBatchSize) {
+    this(server, scheduler, false, pollInterval, maxAttempts, maxBatchSize);
+  }
+
+  private TransactionStatusTracker(
+      SorobanServer server,
+      ScheduledExecutorService scheduler,
+      boolean ownsScheduler,
+      Duration pollInterval,
+      int maxAttempts,
+      int maxBatchSize) {
+    if (pollInterval.isNegative() || pollInterval.isZero()) {
+      throw new IllegalArgumentException("pollInterval must be positive");
+    }
+    if (maxAttempts <= 0) {
+      throw new IllegalArgumentException("maxAttempts must be greater than 0");
+    }
+    if (maxBatchSize <= 0) {
+      throw new IllegalArgumentException("maxBatchSize must be greater than 0");
+    }
+    this.server = server;
+    this.scheduler = scheduler;
+    this.ownsScheduler = ownsScheduler;
+    this.maxAttempts = maxAttempts;
+    this.maxBatchSize = maxBatchSize;
+    long intervalMillis = pollInterval.toMillis();
+    this.pollTask =
+        scheduler.scheduleWithFixedDelay(
+            this::poll, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Starts tracking a transaction. Tracking a hash which is already tracked returns the same
+   * future.
+   *
+   * <p>Cancelling the returned future stops tracking the hash.
+   *
+   * @param hash The hash of the transaction to track. Encoded as a hex string.
+   * @return A future completed with the {@link GetTransactionResponse} of the transaction.
+   * @throws IllegalStateException If the tracker is closed.
+   */
+  public CompletableFuture<GetTransactionResponse> track(String hash) {
+    if (closed) {
+      throw new IllegalStateException("TransactionStatusTracker is closed");
+    }
+    Pending entry =
+        pending.computeIfAbsent(
+            hash,
+            key -> {
+              tracked.incrementAndGet();
+              Pending created = new Pending(key);
+              created.future.whenComplete((response, throwable) -> pending.remove(key, created));
+              return created;
+            });
+    return entry.future;
+  }
+
+  /**
+   * Returns the number of transactions which are still tracked.
+   *
+   * @return the number of pending transactions
+   */
+  public int getPendingCount() {
+    return pending.size();
+  }
+
+  /**
+   * Returns a snapshot of the tracker metrics.
+   *
+   * @return the tracker metrics
+   */
+  public Metrics getMetrics() {
+    long confirmedCount = confirmed.get();
+    return new Metrics(
+        pending.size(),
+        tracked.get(),
+        confirmedCount,
+        notFound.get(),
+        failed.get(),
+        requests.get(),
+        failedRequests.get(),
+        confirmedCount == 0
+            ? Duration.ZERO
+            : Duration.ofNanos(totalConfirmLatencyNanos.get() / confirmedCount),
+        Duration.ofNanos(maxConfirmLatencyNanos.get()));
+  }
+
+  /**
+   * Stops polling. The futures of the transactions which are still tracked are cancelled, and the
+   * scheduler is shut down if it is owned by the tracker.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    pollTask.cancel(false);
+    for (Pending entry : new ArrayList<>(pending.values())) {
+      entry.future.cancel(false);
+    }
+    if (ownsScheduler) {
+      scheduler.shutdown();
+    }
+  }
+
+  private void poll() {
+    if (pending.isEmpty() || !polling.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      List<Pending> entries = new ArrayList<>(pending.values());
+      List<List<Pending>> chunks = new ArrayList<>();
+      for (int from = 0; from < entries.size(); from += maxBatchSize) {
+        chunks.add(entries.subList(from, Math.min(from + maxBatchSize, entries.size())));
+      }
+      AtomicInteger remaining = new AtomicInteger(chunks.size());
+      for (List<Pending> chunk : chunks) {
+        pollChunk(chunk, remaining);
+      }
+    } catch (RuntimeException e) {
+      // An exception thrown by the scheduled task would cancel it, and no future would complete.
+      polling.set(false);
+    }
+  }
+
+  /**
+   * Sends one HTTP request for the chunk, and completes its entries as soon as its response is
+   * received, independently of the other chunks of the poll.
+   */
+  private void pollChunk(List<Pending> chunk, AtomicInteger remaining) {
+    CompletableFuture<List<SorobanRpcBatch.Result<?>>> results;
+    try {
+      SorobanRpcBatch batch = server.batch(maxBatchSize);
+      for (Pending entry : chunk) {
+        batch.getTransaction(entry.hash);
+      }
+      requests.incrementAndGet();
+      results = batch.executeAsync();
+    } catch (RuntimeException e) {
+      results = new CompletableFuture<>();
+      results.completeExceptionally(e);
+    }
+    results.whenComplete(
+        (batchResults, throwable) -> {
+          try {
+            if (throwable != null) {
+              failedRequests.incrementAndGet();
+              for (Pending entry : chunk) {
+                onPollFailed(entry, throwable);
+              }
+            } else {
+              for (int i = 0; i < chunk.size(); i++) {
+                onResult(chunk.get(i), batchResults.get(i).as(GetTransactionResponse.class));
+              }
+            }
+          } catch (RuntimeException e) {
+            for (Pending entry : chunk) {
+              onPollFailed(entry, e);
+            }
+          } finally {
+            if (remaining.decrementAndGet() == 0) {
+              polling.set(false);
+            }
+          }
+        });
+  }
+
+  private void onResult(Pending entry, SorobanRpcBatch.Result<GetTransactionResponse> result) {
+    SorobanRpcException error = result.getError();
+    if (error != null) {
+      if (untrack(entry)) {
+        failed.incrementAndGet();
+        entry.future.completeExceptionally(error);
+      }
+      return;
+    }
+    GetTransactionResponse response = result.getResult();
+    if (!GetTransactionResponse.GetTransactionStatus.NOT_FOUND.equals(response.getStatus())) {
+      if (untrack(entry)) {
+        long latency = System.nanoTime() - entry.startNanos;
+        confirmed.incrementAndGet();
+        totalConfirmLatencyNanos.addAndGet(latency);
+        maxConfirmLatencyNanos.accumulateAndGet(latency, Math::max);
+        entry.future.complete(response);
+      }
+    } else if (++entry.attempts >= maxAttempts && untrack(entry)) {
+      notFound.incrementAndGet();
+      entry.future.complete(response);
+    }
+  }
+
+  private void onPollFailed(Pending entry, Throwable throwable) {
+    if (++entry.attempts >= maxAttempts && untrack(entry)) {
+      failed.incrementAndGet();
+      entry.future.completeExceptionally(
+          throwable instanceof CompletionException ? throwable.getCause() : throwable);
+    }
+  }
+
+  /**
+   * Stops tracking the entry before its future is completed, so that the metrics are up to date
+   * when the future's dependents run. Returns false if the entry was already cancelled.
+   */
+  private boolean untrack(Pending entry) {
+    return pending.remove(entry.hash, entry);
+  }
+
+  private static class Pending {
+    private final String hash;
+    private final long startNanos = System.nanoTime();
+    private final CompletableFuture<GetTransactionResponse> future = new CompletableFuture<>();
+    // Only updated by the single poll in flight.
+    private int attempts;
+
+    private Pending(String hash) {
+      this.hash = hash;
+    }
+  }
+
+  /** A snapshot of the {@link TransactionStatusTracker} metrics. */
+  @Value
+  public static class Metrics {
+    /** The number of transactions which are still tracked. */
+    int pendingCount;
+
+    /** The number of transactions tracked since the tracker was created. */
+    long trackedCount;
+
+    /** The number of transactions found with a {@code SUCCESS} or {@code FAILED} status. */
+    long confirmedCount;
+
+    /** The number of transactions still {@code NOT_FOUND} after the maximum number of attempts. */
+    long notFoundCount;
+
+    /** The number of transactions whose future was completed exceptionally. */
+    long failedCount;
+
+    /** The number of HTTP requests sent to poll the transactions. */
+    long requestCount;
+
+    /** The number of polls which failed as a whole, e.g. because of a connection error. */
+    long failedRequestCount;
+
+    /** The average delay between tracking a transaction and finding its final status. */
+    Duration averageConfirmLatency;
+
+    /** The maximum delay between tracking a transaction and finding its final status. */
+    Duration maxConfirmLatency;
+  }
+}
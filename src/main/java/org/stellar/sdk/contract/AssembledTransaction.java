@@ -22,6 +22,8 @@ import org.stellar.sdk.TimeBounds;
 import org.stellar.sdk.Transaction;
 import org.stellar.sdk.contract.exception.*;
 import org.stellar.sdk.exception.UnexpectedException;
+import org.stellar.sdk.ingest.LazyTransactionMeta;
+import org.stellar.sdk.ingest.LazyXdrValue;
 import org.stellar.sdk.operations.InvokeHostFunctionOperation;
 import org.stellar.sdk.operations.Operation;
 import org.stellar.sdk.operations.RestoreFootprintOperation;
@@ -401,18 +403,20 @@ public class AssembledTransaction<T> {
   @SuppressWarnings("unchecked")
   public T submit() {
     GetTransactionResponse response = submitInternal();
-    TransactionMeta transactionMeta;
+    // Only the return value is decoded, not the ledger entry changes and events of the meta.
+    LazyTransactionMeta transactionMeta;
     try {
-      transactionMeta = TransactionMeta.fromXdrBase64(response.getResultMetaXdr());
+      transactionMeta = LazyTransactionMeta.fromXdrBase64(response.getResultMetaXdr());
     } catch (IOException e) {
       throw new IllegalArgumentException(
           "Unable to convert transaction meta to TransactionMeta", e);
     }
     SCVal resultVal;
     if (transactionMeta.getV3() != null) {
-      resultVal = transactionMeta.getV3().getSorobanMeta().getReturnValue();
+      resultVal = transactionMeta.getV3().getSorobanMeta().getReturnValue().get();
     } else {
-      resultVal = transactionMeta.getV4().getSorobanMeta().getReturnValue();
+      LazyXdrValue<SCVal> returnValue = transactionMeta.getV4().getSorobanMeta().getReturnValue();
+      resultVal = returnValue != null ? returnValue.get() : null;
     }
     return parseResultXdrFn != null ? parseResultXdrFn.apply(resultVal) : (T) resultVal;
   }
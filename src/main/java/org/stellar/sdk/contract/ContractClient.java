@@ -4,6 +4,7 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 import org.jetbrains.annotations.Nullable;
 import org.stellar.sdk.*;
@@ -21,6 +22,7 @@ public class ContractClient implements Closeable {
   private final String contractId;
   private final Network network;
   private final SorobanServer server;
+  @Nullable private final ContractSpecConverter converter;
 
   /**
    * Creates a new {@link ContractClient} with the given contract ID, RPC URL, and network.
@@ -30,11 +32,96 @@ public class ContractClient implements Closeable {
    * @param network The network to interact with.
    */
   public ContractClient(String contractId, String rpcUrl, Network network) {
+    this(contractId, rpcUrl, network, null);
+  }
+
+  /**
+   * Creates a new {@link ContractClient} with the given contract ID, RPC URL, network, and contract
+   * spec. The spec is compiled once here, so {@link #invoke(String, Map, String, KeyPair, int)} can
+   * convert native arguments and results.
+   *
+   * @param contractId The contract ID to interact with.
+   * @param rpcUrl The RPC URL of the Soroban server.
+   * @param network The network to interact with.
+   * @param spec The spec of the contract, or null to only invoke with {@link SCVal} parameters.
+   */
+  public ContractClient(
+      String contractId, String rpcUrl, Network network, @Nullable ContractSpec spec) {
     this.contractId = contractId;
     this.network = network;
+    this.converter = spec == null ? null : new ContractSpecConverter(spec);
     this.server = new SorobanServer(rpcUrl);
   }
 
+  /**
+   * Build an {@link AssembledTransaction} to invoke a function on the contract, converting the
+   * arguments and the result with the contract spec.
+   *
+   * @param functionName The name of the function to invoke.
+   * @param arguments The native values of the arguments, keyed by input name. See {@link
+   *     ContractSpecConverter} for the Java type of each spec type.
+   * @param source The source account to use for the transaction.
+   * @param signer The key pair to sign the transaction with.
+   * @param baseFee The base fee for the transaction.
+   * @throws IllegalStateException if the client was created without a contract spec
+   * @throws IllegalArgumentException if the function is unknown, or an argument is missing or does
+   *     not match its type
+   */
+  public AssembledTransaction<Object> invoke(
+      String functionName,
+      Map<String, ?> arguments,
+      String source,
+      @Nullable KeyPair signer,
+      int baseFee) {
+    return invoke(functionName, arguments, source, signer, baseFee, 300, 30, true, true);
+  }
+
+  /**
+   * Build an {@link AssembledTransaction} to invoke a function on the contract, converting the
+   * arguments and the result with the contract spec.
+   *
+   * @param functionName The name of the function to invoke.
+   * @param arguments The native values of the arguments, keyed by input name. See {@link
+   *     ContractSpecConverter} for the Java type of each spec type.
+   * @param source The source account to use for the transaction.
+   * @param signer The key pair to sign the transaction with.
+   * @param baseFee The base fee for the transaction.
+   * @param transactionTimeout The timeout for the transaction.
+   * @param submitTimeout The timeout for submitting the transaction.
+   * @param simulate Whether to simulate the transaction.
+   * @param restore Whether to restore the transaction, only valid when <code>simulate</code> is
+   *     <code>true</code>, and the signer is provided.
+   * @throws IllegalStateException if the client was created without a contract spec
+   * @throws IllegalArgumentException if the function is unknown, or an argument is missing or does
+   *     not match its type
+   */
+  public AssembledTransaction<Object> invoke(
+      String functionName,
+      Map<String, ?> arguments,
+      String source,
+      @Nullable KeyPair signer,
+      int baseFee,
+      int transactionTimeout,
+      int submitTimeout,
+      boolean simulate,
+      boolean restore) {
+    if (converter == null) {
+      throw new IllegalStateException("The client was created without a contract spec");
+    }
+    ContractSpecConverter.FunctionCodec function = converter.getFunction(functionName);
+    return invoke(
+        functionName,
+        function.encodeArgs(arguments),
+        source,
+        signer,
+        function::decodeResult,
+        baseFee,
+        transactionTimeout,
+        submitTimeout,
+        simulate,
+        restore);
+  }
+
   /**
    * Build an {@link AssembledTransaction} to invoke a function on the contract.
    *
@@ -6,9 +6,13 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
@@ -34,7 +38,8 @@ import org.stellar.sdk.xdr.XdrString;
  * #fromXdrBytes(byte[])}.
  *
  * <p>SEP-0048 does not require entry names to be unique, so the {@code getFunction}/{@code
- * getEvent}/{@code getUdt} lookups return the first matching entry in module order.
+ * getEvent}/{@code getUdt} lookups return the first matching entry in module order. The names are
+ * decoded and indexed on the first lookup, so later lookups are hash map reads.
  *
  * <p>This wrapper is shallow immutable: the entry list cannot be modified, but the contained {@link
  * SCSpecEntry} objects are the underlying mutable XDR types. Do not mutate them after construction;
@@ -49,6 +54,11 @@ import org.stellar.sdk.xdr.XdrString;
 public final class ContractSpec {
   private final List<SCSpecEntry> entries;
 
+  @Getter(AccessLevel.NONE)
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private volatile Index index;
+
   public ContractSpec() {
     this(Collections.emptyList());
   }
@@ -158,55 +168,109 @@ public final class ContractSpec {
    * Returns the first function with the given name, if present. SEP-0048 does not require names to
    * be unique.
    *
-   * @throws InvalidWasmException if a function name is not valid UTF-8
+   * @throws InvalidWasmException if a function name before the match, or any function name when
+   *     there is no match, is not valid UTF-8
    */
   public Optional<SCSpecFunctionV0> getFunction(String name) {
     if (name == null) {
       return Optional.empty();
     }
-    for (SCSpecFunctionV0 function : getFunctions()) {
-      if (name.equals(decodeSymbol(function.getName()))) {
-        return Optional.of(function);
-      }
-    }
-    return Optional.empty();
+    return Optional.ofNullable(index().functions.get(name));
   }
 
   /**
    * Returns the first event with the given name, if present. SEP-0048 does not require names to be
    * unique.
    *
-   * @throws InvalidWasmException if an event name is not valid UTF-8
+   * @throws InvalidWasmException if an event name before the match, or any event name when there is
+   *     no match, is not valid UTF-8
    */
   public Optional<SCSpecEventV0> getEvent(String name) {
     if (name == null) {
       return Optional.empty();
     }
-    for (SCSpecEventV0 event : getEvents()) {
-      if (name.equals(decodeSymbol(event.getName()))) {
-        return Optional.of(event);
-      }
-    }
-    return Optional.empty();
+    return Optional.ofNullable(index().events.get(name));
   }
 
   /**
    * Returns the first user-defined type entry (struct, union, enum, or error enum) with the given
    * name, if present. SEP-0048 does not require names to be unique.
    *
-   * @throws InvalidWasmException if a type name is not valid UTF-8
+   * @throws InvalidWasmException if a type name before the match, or any type name when there is no
+   *     match, is not valid UTF-8
    */
   public Optional<SCSpecEntry> getUdt(String name) {
     if (name == null) {
       return Optional.empty();
     }
-    for (SCSpecEntry entry : entries) {
-      String udtName = getUdtName(entry);
-      if (udtName != null && udtName.equals(name)) {
-        return Optional.of(entry);
+    return Optional.ofNullable(index().udts.get(name));
+  }
+
+  // Built at most a few times under a race, which is harmless as the result is the same.
+  private Index index() {
+    Index result = index;
+    if (result == null) {
+      result = new Index(this);
+      index = result;
+    }
+    return result;
+  }
+
+  private static final class Index {
+    private final Names<SCSpecFunctionV0> functions = new Names<>();
+    private final Names<SCSpecEventV0> events = new Names<>();
+    private final Names<SCSpecEntry> udts = new Names<>();
+
+    private Index(ContractSpec spec) {
+      for (SCSpecFunctionV0 function : spec.getFunctions()) {
+        functions.add(function, () -> decodeSymbol(function.getName()));
+      }
+      for (SCSpecEventV0 event : spec.getEvents()) {
+        events.add(event, () -> decodeSymbol(event.getName()));
+      }
+      for (SCSpecEntry entry : spec.entries) {
+        udts.add(entry, () -> getUdtName(entry));
       }
     }
-    return Optional.empty();
+  }
+
+  /**
+   * The entries of one kind by name. A name which cannot be decoded is only reported by the lookups
+   * which would have reached it scanning the entries in order, that is for names which are missing
+   * or only come after it.
+   */
+  private static final class Names<T> {
+    private final List<T> values = new ArrayList<>();
+    private final Map<String, Integer> positions = new HashMap<>();
+    private InvalidWasmException invalid;
+    private int invalidPosition = Integer.MAX_VALUE;
+
+    void add(T value, Supplier<String> name) {
+      int position = values.size();
+      values.add(value);
+      try {
+        String decoded = name.get();
+        if (decoded != null) {
+          positions.putIfAbsent(decoded, position);
+        }
+      } catch (InvalidWasmException e) {
+        if (invalid == null) {
+          invalid = e;
+          invalidPosition = position;
+        }
+      }
+    }
+
+    T get(String name) {
+      Integer position = positions.get(name);
+      if (position != null && position < invalidPosition) {
+        return values.get(position);
+      }
+      if (invalid != null) {
+        throw new InvalidWasmException(invalid.getMessage(), invalid);
+      }
+      return null;
+    }
   }
 
   private static String getUdtName(SCSpecEntry entry) {
@@ -231,14 +295,14 @@ public final class ContractSpec {
     }
   }
 
-  private static String decodeSymbol(SCSymbol symbol) {
+  static String decodeSymbol(SCSymbol symbol) {
     if (symbol == null || symbol.getSCSymbol() == null) {
       throw new InvalidWasmException("Contract spec contains a null symbol.");
     }
     return decodeName(symbol.getSCSymbol().getBytes(), "symbol");
   }
 
-  private static String decodeString(XdrString value) {
+  static String decodeString(XdrString value) {
     if (value == null) {
       throw new InvalidWasmException("Contract spec contains a null string.");
     }
@@ -0,0 +1,936 @@
+package org.stellar.sdk.contract;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Value;
+import org.jetbrains.annotations.Nullable;
+import org.stellar.sdk.Address;
+import org.stellar.sdk.scval.Scv;
+import org.stellar.sdk.xdr.SCError;
+import org.stellar.sdk.xdr.SCErrorType;
+import org.stellar.sdk.xdr.SCMap;
+import org.stellar.sdk.xdr.SCMapEntry;
+import org.stellar.sdk.xdr.SCSpecEntry;
+import org.stellar.sdk.xdr.SCSpecFunctionInputV0;
+import org.stellar.sdk.xdr.SCSpecFunctionV0;
+import org.stellar.sdk.xdr.SCSpecTypeDef;
+import org.stellar.sdk.xdr.SCSpecUDTEnumCaseV0;
+import org.stellar.sdk.xdr.SCSpecUDTErrorEnumCaseV0;
+import org.stellar.sdk.xdr.SCSpecUDTStructFieldV0;
+import org.stellar.sdk.xdr.SCSpecUDTStructV0;
+import org.stellar.sdk.xdr.SCSpecUDTUnionCaseV0;
+import org.stellar.sdk.xdr.SCSpecUDTUnionV0;
+import org.stellar.sdk.xdr.SCVal;
+import org.stellar.sdk.xdr.SCValType;
+import org.stellar.sdk.xdr.SCVec;
+import org.stellar.sdk.xdr.Uint32;
+
+/**
+ * Converts native Java values to and from {@link SCVal} using the types of a {@link ContractSpec}.
+ *
+ * <p>The converter compiles the inputs and outputs of every function, and every user-defined type,
+ * into codecs when it is created, so converting the arguments of a call neither walks the spec nor
+ * decodes names. Create one converter per contract and reuse it; it is safe to use from multiple
+ * threads.
+ *
+ * <pre>{@code
+ * ContractSpecConverter converter = new ContractSpecConverter(ContractSpec.fromWasm(wasm));
+ * ContractSpecConverter.FunctionCodec transfer = converter.getFunction("transfer");
+ * List<SCVal> args = transfer.encodeArgs(Arrays.asList(from, to, BigInteger.TEN));
+ * }</pre>
+ *
+ * <p>The Java types of the spec types are:
+ *
+ * <ul>
+ *   <li>{@code bool}: {@link Boolean}
+ *   <li>{@code void}: {@code null}
+ *   <li>{@code i32}: {@link Integer}
+ *   <li>{@code u32} and {@code i64}: {@link Long}
+ *   <li>{@code u64}, {@code timepoint}, {@code duration}, {@code i128}, {@code u128}, {@code i256}
+ *       and {@code u256}: {@link BigInteger}
+ *   <li>{@code bytes} and {@code bytesN}: {@code byte[]}
+ *   <li>{@code string} and {@code symbol}: {@link String}
+ *   <li>{@code address} and {@code muxed_address}: {@link Address}, or its {@link String} form when
+ *       encoding
+ *   <li>{@code option<T>}: {@code T} or {@code null}
+ *   <li>{@code vec<T>} and {@code tuple}: {@link List}
+ *   <li>{@code map<K, V>}: {@link Map}
+ *   <li>{@code result<T, E>}: {@code T}, or the {@link SCError} of an error
+ *   <li>structs: {@link Map} from field name to value, or {@link List} for tuple structs
+ *   <li>unions: {@link UnionValue}
+ *   <li>enums and error enums: {@link Long}, or the case name when encoding
+ *   <li>{@code val} and {@code error}: {@link SCVal} and {@link SCError}
+ * </ul>
+ *
+ * <p>An {@link SCVal} is accepted in place of the native value of any type, and encoded as is.
+ * Values which do not match their type are rejected with an {@link IllegalArgumentException}.
+ */
+public final class ContractSpecConverter {
+  @Getter private final ContractSpec spec;
+
+  @Getter(AccessLevel.NONE)
+  private final Map<String, Codec> udts = new HashMap<>();
+
+  @Getter(AccessLevel.NONE)
+  private final Map<String, FunctionCodec> functions = new HashMap<>();
+
+  /**
+   * Creates a converter, compiling the functions and types of the spec.
+   *
+   * @param spec the contract spec
+   * @throws org.stellar.sdk.contract.exception.InvalidWasmException if a name in the spec is not
+   *     valid UTF-8
+   */
+  public ContractSpecConverter(@NonNull ContractSpec spec) {
+    this.spec = spec;
+    for (SCSpecEntry entry : spec.getEntries()) {
+      String name = udtName(entry);
+      if (name != null) {
+        udt(name);
+      }
+    }
+    for (SCSpecFunctionV0 function : spec.getFunctions()) {
+      String name = ContractSpec.decodeSymbol(function.getName());
+      if (!functions.containsKey(name)) {
+        functions.put(name, new FunctionCodec(name, function));
+      }
+    }
+  }
+
+  /**
+   * Returns the compiled codec of a function.
+   *
+   * @param name the name of the function
+   * @return the codec of the first function with the name
+   * @throws IllegalArgumentException if the spec has no function with the name
+   */
+  public FunctionCodec getFunction(String name) {
+    FunctionCodec function = functions.get(name);
+    if (function == null) {
+      throw new IllegalArgumentException("Function '" + name + "' is not in the contract spec");
+    }
+    return function;
+  }
+
+  /**
+   * Converts the arguments of a function call, in the order of its inputs.
+   *
+   * @param functionName the name of the function
+   * @param args the native values of the arguments
+   * @return the arguments as {@link SCVal}s
+   * @throws IllegalArgumentException if the function is unknown or an argument does not match its
+   *     type
+   */
+  public List<SCVal> funcArgsToScVals(String functionName, List<?> args) {
+    return getFunction(functionName).encodeArgs(args);
+  }
+
+  /**
+   * Converts the arguments of a function call, by input name.
+   *
+   * @param functionName the name of the function
+   * @param args the native values of the arguments, keyed by input name
+   * @return the arguments as {@link SCVal}s, in the order of the inputs
+   * @throws IllegalArgumentException if the function is unknown or an argument is missing or does
+   *     not match its type
+   */
+  public List<SCVal> funcArgsToScVals(String functionName, Map<String, ?> args) {
+    return getFunction(functionName).encodeArgs(args);
+  }
+
+  /**
+   * Converts the result of a function call to its native value.
+   *
+   * @param functionName the name of the function
+   * @param result the result of the call
+   * @return the native value, {@code null} for a function which returns nothing
+   * @throws IllegalArgumentException if the function is unknown or the result does not match its
+   *     type
+   */
+  @Nullable
+  public Object funcResToNative(String functionName, SCVal result) {
+    return getFunction(functionName).decodeResult(result);
+  }
+
+  /**
+   * Converts a native value to an {@link SCVal} of a spec type. Types which are not part of a
+   * function are compiled on each call, so prefer {@link #getFunction(String)} for repeated
+   * conversions.
+   *
+   * @param value the native value
+   * @param type the spec type
+   * @return the value as an {@link SCVal}
+   * @throws IllegalArgumentException if the value does not match the type
+   */
+  public SCVal nativeToScVal(@Nullable Object value, SCSpecTypeDef type) {
+    return compile(type).toScVal(value);
+  }
+
+  /**
+   * Converts an {@link SCVal} to the native value of a spec type.
+   *
+   * @param value the value
+   * @param type the spec type
+   * @return the native value
+   * @throws IllegalArgumentException if the value does not match the type
+   */
+  @Nullable
+  public Object scValToNative(SCVal value, SCSpecTypeDef type) {
+    return compile(type).decode(value);
+  }
+
+  /** The compiled inputs and output of a contract function. */
+  public final class FunctionCodec {
+    /** The name of the function. */
+    @Getter private final String name;
+
+    /** The names of the inputs, in order. */
+    @Getter private final List<String> inputNames;
+
+    private final Codec[] inputs;
+    @Nullable private final Codec output;
+
+    private FunctionCodec(String name, SCSpecFunctionV0 function) {
+      this.name = name;
+      SCSpecFunctionInputV0[] specInputs = function.getInputs();
+      List<String> names = new ArrayList<>(specInputs.length);
+      inputs = new Codec[specInputs.length];
+      for (int i = 0; i < specInputs.length; i++) {
+        names.add(ContractSpec.decodeString(specInputs[i].getName()));
+        inputs[i] = compile(specInputs[i].getType());
+      }
+      inputNames = Collections.unmodifiableList(names);
+      SCSpecTypeDef[] outputs = function.getOutputs();
+      if (outputs.length > 1) {
+        throw new IllegalArgumentException(
+            "Function '" + name + "' has " + outputs.length + " outputs, expected at most one");
+      }
+      output = outputs.length == 0 ? null : compile(outputs[0]);
+    }
+
+    /**
+     * Converts the arguments of a call, in the order of the inputs.
+     *
+     * @param args the native values of the arguments
+     * @return the arguments as {@link SCVal}s
+     * @throws IllegalArgumentException if the number of arguments is wrong, or an argument does not
+     *     match its type
+     */
+    public List<SCVal> encodeArgs(List<?> args) {
+      if (args.size() != inputs.length) {
+        throw new IllegalArgumentException(
+            "Function '"
+                + name
+                + "' takes "
+                + inputs.length
+                + " arguments, but got "
+                + args.size());
+      }
+      List<SCVal> result = new ArrayList<>(inputs.length);
+      for (int i = 0; i < inputs.length; i++) {
+        result.add(inputs[i].toScVal(args.get(i)));
+      }
+      return result;
+    }
+
+    /**
+     * Converts the arguments of a call, by input name.
+     *
+     * @param args the native values of the arguments, keyed by input name
+     * @return the arguments as {@link SCVal}s, in the order of the inputs
+     * @throws IllegalArgumentException if an argument is missing, or does not match its type
+     */
+    public List<SCVal> encodeArgs(Map<String, ?> args) {
+      List<SCVal> result = new ArrayList<>(inputs.length);
+      for (int i = 0; i < inputs.length; i++) {
+        String input = inputNames.get(i);
+        if (!args.containsKey(input)) {
+          throw new IllegalArgumentException(
+              "Missing argument '" + input + "' of function '" + name + "'");
+        }
+        result.add(inputs[i].toScVal(args.get(input)));
+      }
+      return result;
+    }
+
+    /**
+     * Converts the result of a call to its native value.
+     *
+     * @param result the result of the call
+     * @return the native value, {@code null} for a function which returns nothing
+     * @throws IllegalArgumentException if the result does not match the output type
+     */
+    @Nullable
+    public Object decodeResult(SCVal result) {
+      if (output == null) {
+        Scv.fromVoid(result);
+        return null;
+      }
+      return output.decode(result);
+    }
+  }
+
+  /** The native value of a union, the name of its case and the values of the case. */
+  @Value
+  public static class UnionValue {
+    /** The name of the case. */
+    @NonNull String tag;
+
+    /** The values of a tuple case, empty for a void case. */
+    @NonNull List<Object> values;
+
+    /**
+     * Creates a union value.
+     *
+     * @param tag the name of the case
+     * @param values the values of the case
+     * @return the union value
+     */
+    public static UnionValue of(String tag, Object... values) {
+      return new UnionValue(tag, Arrays.asList(values));
+    }
+  }
+
+  private Codec compile(SCSpecTypeDef type) {
+    switch (type.getDiscriminant()) {
+      case SC_SPEC_TYPE_VAL:
+        return new SimpleCodec(
+            "val",
+            value -> {
+              throw new IllegalArgumentException("Expected an SCVal for type val");
+            },
+            value -> value);
+      case SC_SPEC_TYPE_BOOL:
+        return new SimpleCodec(
+            "bool", value -> Scv.toBoolean(cast(value, Boolean.class, "bool")), Scv::fromBoolean);
+      case SC_SPEC_TYPE_VOID:
+        return new SimpleCodec(
+            "void",
+            value -> {
+              if (value != null) {
+                throw new IllegalArgumentException("Expected null for type void");
+              }
+              return Scv.toVoid();
+            },
+            value -> {
+              Scv.fromVoid(value);
+              return null;
+            });
+      case SC_SPEC_TYPE_ERROR:
+        return new SimpleCodec(
+            "error", value -> Scv.toError(cast(value, SCError.class, "error")), Scv::fromError);
+      case SC_SPEC_TYPE_U32:
+        return new SimpleCodec("u32", value -> Scv.toUint32(toLong(value, "u32")), Scv::fromUint32);
+      case SC_SPEC_TYPE_I32:
+        return new SimpleCodec(
+            "i32",
+            value -> {
+              long number = toLong(value, "i32");
+              if (number < Integer.MIN_VALUE || number > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Value " + number + " is out of range for i32");
+              }
+              return Scv.toInt32((int) number);
+            },
+            Scv::fromInt32);
+      case SC_SPEC_TYPE_U64:
+        return new SimpleCodec(
+            "u64", value -> Scv.toUint64(toBigInteger(value, "u64")), Scv::fromUint64);
+      case SC_SPEC_TYPE_I64:
+        return new SimpleCodec("i64", value -> Scv.toInt64(toLong(value, "i64")), Scv::fromInt64);
+      case SC_SPEC_TYPE_TIMEPOINT:
+        return new SimpleCodec(
+            "timepoint",
+            value -> Scv.toTimePoint(toBigInteger(value, "timepoint")),
+            Scv::fromTimePoint);
+      case SC_SPEC_TYPE_DURATION:
+        return new SimpleCodec(
+            "duration",
+            value -> Scv.toDuration(toBigInteger(value, "duration")),
+            Scv::fromDuration);
+      case SC_SPEC_TYPE_U128:
+        return new SimpleCodec(
+            "u128", value -> Scv.toUint128(toBigInteger(value, "u128")), Scv::fromUint128);
+      case SC_SPEC_TYPE_I128:
+        return new SimpleCodec(
+            "i128", value -> Scv.toInt128(toBigInteger(value, "i128")), Scv::fromInt128);
+      case SC_SPEC_TYPE_U256:
+        return new SimpleCodec(
+            "u256", value -> Scv.toUint256(toBigInteger(value, "u256")), Scv::fromUint256);
+      case SC_SPEC_TYPE_I256:
+        return new SimpleCodec(
+            "i256", value -> Scv.toInt256(toBigInteger(value, "i256")), Scv::fromInt256);
+      case SC_SPEC_TYPE_BYTES:
+        return new SimpleCodec(
+            "bytes", value -> Scv.toBytes(cast(value, byte[].class, "bytes")), Scv::fromBytes);
+      case SC_SPEC_TYPE_BYTES_N:
+        return bytesN(type.getBytesN().getN().getUint32().getNumber());
+      case SC_SPEC_TYPE_STRING:
+        return new SimpleCodec(
+            "string",
+            value ->
+                value instanceof byte[]
+                    ? Scv.toString((byte[]) value)
+                    : Scv.toString(cast(value, String.class, "string")),
+            value -> new String(Scv.fromString(value), StandardCharsets.UTF_8));
+      case SC_SPEC_TYPE_SYMBOL:
+        return new SimpleCodec(
+            "symbol", value -> Scv.toSymbol(cast(value, String.class, "symbol")), Scv::fromSymbol);
+      case SC_SPEC_TYPE_ADDRESS:
+      case SC_SPEC_TYPE_MUXED_ADDRESS:
+        return new SimpleCodec(
+            "address",
+            value ->
+                value instanceof String
+                    ? Scv.toAddress((String) value)
+                    : Scv.toAddress(cast(value, Address.class, "address")),
+            Scv::fromAddress);
+      case SC_SPEC_TYPE_OPTION:
+        return option(compile(type.getOption().getValueType()));
+      case SC_SPEC_TYPE_RESULT:
+        return result(compile(type.getResult().getOkType()));
+      case SC_SPEC_TYPE_VEC:
+        return vec(compile(type.getVec().getElementType()));
+      case SC_SPEC_TYPE_MAP:
+        return map(compile(type.getMap().getKeyType()), compile(type.getMap().getValueType()));
+      case SC_SPEC_TYPE_TUPLE:
+        return tuple("tuple", compileAll(type.getTuple().getValueTypes()));
+      case SC_SPEC_TYPE_UDT:
+        return udt(ContractSpec.decodeString(type.getUdt().getName()));
+      default:
+        throw new IllegalArgumentException("Unsupported spec type " + type.getDiscriminant());
+    }
+  }
+
+  private Codec[] compileAll(SCSpecTypeDef[] types) {
+    Codec[] codecs = new Codec[types.length];
+    for (int i = 0; i < types.length; i++) {
+      codecs[i] = compile(types[i]);
+    }
+    return codecs;
+  }
+
+  // The types are compiled in the constructor, and only read afterwards. A type which refers to
+  // itself gets the reference which is in the map while it is compiled.
+  private Codec udt(String name) {
+    Codec codec = udts.get(name);
+    if (codec != null) {
+      return codec;
+    }
+    SCSpecEntry entry = spec.getUdt(name).orElse(null);
+    if (entry == null) {
+      return new SimpleCodec(
+          name,
+          value -> {
+            throw new IllegalArgumentException("Type '" + name + "' is not in the contract spec");
+          },
+          value -> {
+            throw new IllegalArgumentException("Type '" + name + "' is not in the contract spec");
+          });
+    }
+    UdtReference reference = new UdtReference();
+    udts.put(name, reference);
+    switch (entry.getDiscriminant()) {
+      case SC_SPEC_ENTRY_UDT_STRUCT_V0:
+        reference.target = struct(name, entry.getUdtStructV0());
+        break;
+      case SC_SPEC_ENTRY_UDT_UNION_V0:
+        reference.target = union(name, entry.getUdtUnionV0());
+        break;
+      case SC_SPEC_ENTRY_UDT_ENUM_V0:
+        reference.target = enumeration(name, entry.getUdtEnumV0().getCases(), false);
+        break;
+      default:
+        reference.target = enumeration(name, entry.getUdtErrorEnumV0().getCases(), true);
+        break;
+    }
+    udts.put(name, reference.target);
+    return reference.target;
+  }
+
+  private static String udtName(SCSpecEntry entry) {
+    if (entry.getDiscriminant() == null) {
+      return null;
+    }
+    switch (entry.getDiscriminant()) {
+      case SC_SPEC_ENTRY_UDT_STRUCT_V0:
+        return ContractSpec.decodeString(entry.getUdtStructV0().getName());
+      case SC_SPEC_ENTRY_UDT_UNION_V0:
+        return ContractSpec.decodeString(entry.getUdtUnionV0().getName());
+      case SC_SPEC_ENTRY_UDT_ENUM_V0:
+        return ContractSpec.decodeString(entry.getUdtEnumV0().getName());
+      case SC_SPEC_ENTRY_UDT_ERROR_ENUM_V0:
+        return ContractSpec.decodeString(entry.getUdtErrorEnumV0().getName());
+      default:
+        return null;
+    }
+  }
+
+  private static Codec bytesN(long n) {
+    String name = "bytesN<" + n + ">";
+    return new SimpleCodec(
+        name,
+        value -> {
+          byte[] bytes = cast(value, byte[].class, name);
+          if (bytes.length != n) {
+            throw new IllegalArgumentException(
+                "Expected " + n + " bytes for type " + name + ", but got " + bytes.length);
+          }
+          return Scv.toBytes(bytes);
+        },
+        Scv::fromBytes);
+  }
+
+  private static Codec option(Codec value) {
+    return new SimpleCodec(
+        "option",
+        nativeValue -> nativeValue == null ? Scv.toVoid() : value.toScVal(nativeValue),
+        scVal -> scVal.getDiscriminant() == SCValType.SCV_VOID ? null : value.decode(scVal));
+  }
+
+  private static Codec result(Codec ok) {
+    return new SimpleCodec(
+        "result",
+        ok::toScVal,
+        scVal ->
+            scVal.getDiscriminant() == SCValType.SCV_ERROR ? scVal.getError() : ok.decode(scVal));
+  }
+
+  private static Codec vec(Codec element) {
+    return new SimpleCodec(
+        "vec",
+        value -> {
+          Collection<?> elements = cast(value, Collection.class, "vec");
+          SCVal[] scVals = new SCVal[elements.size()];
+          int i = 0;
+          for (Object e : elements) {
+            scVals[i++] = element.toScVal(e);
+          }
+          return vec(scVals);
+        },
+        value -> {
+          SCVal[] scVals = vecElements(value);
+          List<Object> elements = new ArrayList<>(scVals.length);
+          for (SCVal scVal : scVals) {
+            elements.add(element.decode(scVal));
+          }
+          return elements;
+        });
+  }
+
+  private static Codec map(Codec key, Codec val) {
+    return new SimpleCodec(
+        "map",
+        value -> {
+          Map<?, ?> entries = cast(value, Map.class, "map");
+          Map<SCVal, SCVal> scVals = new LinkedHashMap<>();
+          for (Map.Entry<?, ?> entry : entries.entrySet()) {
+            scVals.put(key.toScVal(entry.getKey()), val.toScVal(entry.getValue()));
+          }
+          return Scv.toMap(scVals);
+        },
+        value -> {
+          if (value.getDiscriminant() != SCValType.SCV_MAP) {
+            throw mismatch("map", value);
+          }
+          SCMapEntry[] scMapEntries = value.getMap().getSCMap();
+          Map<Object, Object> entries = new LinkedHashMap<>();
+          for (SCMapEntry entry : scMapEntries) {
+            entries.put(key.decode(entry.getKey()), val.decode(entry.getVal()));
+          }
+          return entries;
+        });
+  }
+
+  private static Codec tuple(String name, Codec[] elements) {
+    return new SimpleCodec(
+        name,
+        value -> {
+          List<?> values = cast(value, List.class, name);
+          if (values.size() != elements.length) {
+            throw new IllegalArgumentException(
+                "Expected "
+                    + elements.length
+                    + " values for type "
+                    + name
+                    + ", but got "
+                    + values.size());
+          }
+          SCVal[] scVals = new SCVal[elements.length];
+          for (int i = 0; i < elements.length; i++) {
+            scVals[i] = elements[i].toScVal(values.get(i));
+          }
+          return vec(scVals);
+        },
+        value -> {
+          SCVal[] scVals = vecElements(value);
+          if (scVals.length != elements.length) {
+            throw new IllegalArgumentException(
+                "Expected "
+                    + elements.length
+                    + " values for type "
+                    + name
+                    + ", but got "
+                    + scVals.length);
+          }
+          List<Object> values = new ArrayList<>(elements.length);
+          for (int i = 0; i < elements.length; i++) {
+            values.add(elements[i].decode(scVals[i]));
+          }
+          return values;
+        });
+  }
+
+  private Codec struct(String name, SCSpecUDTStructV0 struct) {
+    SCSpecUDTStructFieldV0[] specFields = struct.getFields();
+    boolean isTuple = specFields.length > 0;
+    for (SCSpecUDTStructFieldV0 field : specFields) {
+      isTuple &= ContractSpec.decodeString(field.getName()).matches("[0-9]+");
+    }
+    if (isTuple) {
+      Codec[] elements = new Codec[specFields.length];
+      for (int i = 0; i < specFields.length; i++) {
+        elements[i] = compile(specFields[i].getType());
+      }
+      return tuple(name, elements);
+    }
+    // The network requires the keys of a map in ascending order, and the field names are symbols,
+    // so the order of the fields is fixed once here.
+    StructField[] fields = new StructField[specFields.length];
+    for (int i = 0; i < specFields.length; i++) {
+      String fieldName = ContractSpec.decodeString(specFields[i].getName());
+      fields[i] = new StructField(fieldName, compile(specFields[i].getType()));
+    }
+    Arrays.sort(fields, Comparator.comparing(field -> field.name));
+    return new SimpleCodec(
+        name,
+        value -> {
+          Map<?, ?> values = cast(value, Map.class, name);
+          SCMapEntry[] entries = new SCMapEntry[fields.length];
+          for (int i = 0; i < fields.length; i++) {
+            StructField field = fields[i];
+            if (!values.containsKey(field.name)) {
+              throw new IllegalArgumentException(
+                  "Missing field '" + field.name + "' of type " + name);
+            }
+            entries[i] =
+                SCMapEntry.builder()
+                    .key(Scv.toSymbol(field.name))
+                    .val(field.codec.toScVal(values.get(field.name)))
+                    .build();
+          }
+          if (values.size() != fields.length) {
+            throw new IllegalArgumentException(
+                "Expected "
+                    + fields.length
+                    + " fields for type "
+                    + name
+                    + ", but got "
+                    + values.size());
+          }
+          return SCVal.builder().discriminant(SCValType.SCV_MAP).map(new SCMap(entries)).build();
+        },
+        value -> {
+          if (value.getDiscriminant() != SCValType.SCV_MAP) {
+            throw mismatch(name, value);
+          }
+          SCMapEntry[] entries = value.getMap().getSCMap();
+          if (entries.length != fields.length) {
+            throw new IllegalArgumentException(
+                "Expected "
+                    + fields.length
+                    + " fields for type "
+                    + name
+                    + ", but got "
+                    + entries.length);
+          }
+          Map<String, Object> values = new LinkedHashMap<>();
+          for (int i = 0; i < fields.length; i++) {
+            StructField field = fields[i];
+            SCVal key = entries[i].getKey();
+            if (key.getDiscriminant() != SCValType.SCV_SYMBOL
+                || !Arrays.equals(key.getSym().getSCSymbol().getBytes(), field.symbol)) {
+              throw new IllegalArgumentException(
+                  "Expected field '" + field.name + "' of type " + name + ", but got " + key);
+            }
+            values.put(field.name, field.codec.decode(entries[i].getVal()));
+          }
+          return values;
+        });
+  }
+
+  private Codec union(String name, SCSpecUDTUnionV0 union) {
+    SCSpecUDTUnionCaseV0[] specCases = union.getCases();
+    Map<String, UnionCase> cases = new HashMap<>();
+    UnionCase[] ordered = new UnionCase[specCases.length];
+    for (int i = 0; i < specCases.length; i++) {
+      SCSpecUDTUnionCaseV0 specCase = specCases[i];
+      switch (specCase.getDiscriminant()) {
+        case SC_SPEC_UDT_UNION_CASE_VOID_V0:
+          ordered[i] =
+              new UnionCase(
+                  ContractSpec.decodeString(specCase.getVoidCase().getName()), new Codec[0]);
+          break;
+        case SC_SPEC_UDT_UNION_CASE_TUPLE_V0:
+          ordered[i] =
+              new UnionCase(
+                  ContractSpec.decodeString(specCase.getTupleCase().getName()),
+                  compileAll(specCase.getTupleCase().getType()));
+          break;
+        default:
+          throw new IllegalArgumentException(
+              "Unsupported case " + specCase.getDiscriminant() + " of type " + name);
+      }
+      cases.putIfAbsent(ordered[i].name, ordered[i]);
+    }
+    return new SimpleCodec(
+        name,
+        value -> {
+          UnionValue unionValue = cast(value, UnionValue.class, name);
+          UnionCase unionCase = cases.get(unionValue.getTag());
+          if (unionCase == null) {
+            throw new IllegalArgumentException(
+                "Unknown case '" + unionValue.getTag() + "' of type " + name);
+          }
+          List<Object> values = unionValue.getValues();
+          if (values.size() != unionCase.values.length) {
+            throw new IllegalArgumentException(
+                "Case '"
+                    + unionCase.name
+                    + "' of type "
+                    + name
+                    + " has "
+                    + unionCase.values.length
+                    + " values, but got "
+                    + values.size());
+          }
+          SCVal[] scVals = new SCVal[values.size() + 1];
+          scVals[0] = Scv.toSymbol(unionCase.name);
+          for (int i = 0; i < unionCase.values.length; i++) {
+            scVals[i + 1] = unionCase.values[i].toScVal(values.get(i));
+          }
+          return vec(scVals);
+        },
+        value -> {
+          SCVal[] scVals = vecElements(value);
+          if (scVals.length == 0 || scVals[0].getDiscriminant() != SCValType.SCV_SYMBOL) {
+            throw new IllegalArgumentException(
+                "Expected a vec starting with a symbol for type " + name + ", but got " + value);
+          }
+          byte[] tag = scVals[0].getSym().getSCSymbol().getBytes();
+          for (UnionCase unionCase : ordered) {
+            if (!Arrays.equals(tag, unionCase.symbol)) {
+              continue;
+            }
+            if (scVals.length - 1 != unionCase.values.length) {
+              throw new IllegalArgumentException(
+                  "Case '"
+                      + unionCase.name
+                      + "' of type "
+                      + name
+                      + " has "
+                      + unionCase.values.length
+                      + " values, but got "
+                      + (scVals.length - 1));
+            }
+            List<Object> values = new ArrayList<>(unionCase.values.length);
+            for (int i = 0; i < unionCase.values.length; i++) {
+              values.add(unionCase.values[i].decode(scVals[i + 1]));
+            }
+            return new UnionValue(unionCase.name, values);
+          }
+          throw new IllegalArgumentException(
+              "Unknown case '" + new String(tag, StandardCharsets.UTF_8) + "' of type " + name);
+        });
+  }
+
+  private static Codec enumeration(String name, Object[] specCases, boolean isError) {
+    Map<String, Long> values = new HashMap<>();
+    Set<Long> numbers = new HashSet<>();
+    for (Object specCase : specCases) {
+      String caseName;
+      Uint32 caseValue;
+      if (isError) {
+        caseName = ContractSpec.decodeString(((SCSpecUDTErrorEnumCaseV0) specCase).getName());
+        caseValue = ((SCSpecUDTErrorEnumCaseV0) specCase).getValue();
+      } else {
+        caseName = ContractSpec.decodeString(((SCSpecUDTEnumCaseV0) specCase).getName());
+        caseValue = ((SCSpecUDTEnumCaseV0) specCase).getValue();
+      }
+      values.putIfAbsent(caseName, caseValue.getUint32().getNumber());
+      numbers.add(caseValue.getUint32().getNumber());
+    }
+    return new SimpleCodec(
+        name,
+        value -> {
+          long number;
+          if (value instanceof String) {
+            Long caseValue = values.get(value);
+            if (caseValue == null) {
+              throw new IllegalArgumentException("Unknown case '" + value + "' of type " + name);
+            }
+            number = caseValue;
+          } else {
+            number = toLong(value, name);
+          }
+          if (!numbers.contains(number)) {
+            throw new IllegalArgumentException("Unknown value " + number + " of type " + name);
+          }
+          return Scv.toUint32(number);
+        },
+        value -> {
+          long number;
+          if (isError
+              && value.getDiscriminant() == SCValType.SCV_ERROR
+              && value.getError().getDiscriminant() == SCErrorType.SCE_CONTRACT) {
+            number = value.getError().getContractCode().getUint32().getNumber();
+          } else {
+            number = Scv.fromUint32(value);
+          }
+          if (!numbers.contains(number)) {
+            throw new IllegalArgumentException("Unknown value " + number + " of type " + name);
+          }
+          return number;
+        });
+  }
+
+  private static SCVal vec(SCVal[] values) {
+    return SCVal.builder().discriminant(SCValType.SCV_VEC).vec(new SCVec(values)).build();
+  }
+
+  private static SCVal[] vecElements(SCVal value) {
+    if (value.getDiscriminant() != SCValType.SCV_VEC || value.getVec() == null) {
+      throw mismatch("vec", value);
+    }
+    return value.getVec().getSCVec();
+  }
+
+  private static IllegalArgumentException mismatch(String type, SCVal value) {
+    return new IllegalArgumentException(
+        "Expected an SCVal of type " + type + ", but got " + value.getDiscriminant());
+  }
+
+  private static <T> T cast(Object value, Class<T> type, String specType) {
+    if (!type.isInstance(value)) {
+      throw new IllegalArgumentException(
+          "Expected a "
+              + type.getSimpleName()
+              + " for type "
+              + specType
+              + ", but got "
+              + (value == null ? "null" : value.getClass().getName()));
+    }
+    return type.cast(value);
+  }
+
+  private static long toLong(Object value, String specType) {
+    if (value instanceof Long
+        || value instanceof Integer
+        || value instanceof Short
+        || value instanceof Byte) {
+      return ((Number) value).longValue();
+    }
+    BigInteger number = cast(value, BigInteger.class, specType);
+    if (number.bitLength() > 63) {
+      throw new IllegalArgumentException(
+          "Value " + number + " is out of range for type " + specType);
+    }
+    return number.longValue();
+  }
+
+  private static BigInteger toBigInteger(Object value, String specType) {
+    if (value instanceof BigInteger) {
+      return (BigInteger) value;
+    }
+    return BigInteger.valueOf(toLong(value, specType));
+  }
+
+  private abstract static class Codec {
+    final SCVal toScVal(@Nullable Object value) {
+      return value instanceof SCVal ? (SCVal) value : encode(value);
+    }
+
+    abstract SCVal encode(@Nullable Object value);
+
+    @Nullable
+    abstract Object decode(SCVal value);
+  }
+
+  private static final class SimpleCodec extends Codec {
+    private final String type;
+    private final Function<Object, SCVal> encoder;
+    private final Function<SCVal, Object> decoder;
+
+    private SimpleCodec(
+        String type, Function<Object, SCVal> encoder, Function<SCVal, Object> decoder) {
+      this.type = type;
+      this.encoder = encoder;
+      this.decoder = decoder;
+    }
+
+    @Override
+    SCVal encode(Object value) {
+      return encoder.apply(value);
+    }
+
+    @Override
+    Object decode(SCVal value) {
+      if (value == null) {
+        throw new IllegalArgumentException("Expected an SCVal of type " + type + ", but got null");
+      }
+      return decoder.apply(value);
+    }
+  }
+
+  private static final class UdtReference extends Codec {
+    private Codec target;
+
+    @Override
+    SCVal encode(Object value) {
+      return target.encode(value);
+    }
+
+    @Override
+    Object decode(SCVal value) {
+      return target.decode(value);
+    }
+  }
+
+  private static final class StructField {
+    private final String name;
+    private final byte[] symbol;
+    private final Codec codec;
+
+    private StructField(String name, Codec codec) {
+      this.name = name;
+      this.symbol = name.getBytes(StandardCharsets.UTF_8);
+      this.codec = codec;
+    }
+  }
+
+  private static final class UnionCase {
+    private final String name;
+    private final byte[] symbol;
+    private final Codec[] values;
+
+    private UnionCase(String name, Codec[] values) {
+      this.name = name;
+      this.symbol = name.getBytes(StandardCharsets.UTF_8);
+      this.values = values;
+    }
+  }
+}
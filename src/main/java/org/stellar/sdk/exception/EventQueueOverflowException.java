@@ -0,0 +1,30 @@
+package org.stellar.sdk.exception;
+
+import lombok.Getter;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Exception reported when the event queue of a {@link
+ * org.stellar.sdk.requests.BatchingEventListener} is full and its overflow policy is {@code FAIL}.
+ * The stream should be restarted from {@link #getLastDeliveredPagingToken()}.
+ */
+@Getter
+public class EventQueueOverflowException extends SdkException {
+  private static final long serialVersionUID = 1L;
+
+  /** The capacity of the full queue. */
+  private final int capacity;
+
+  /** The paging token of the last event delivered to the listener, if any. */
+  @Nullable private final String lastDeliveredPagingToken;
+
+  /**
+   * @param capacity the capacity of the full queue
+   * @param lastDeliveredPagingToken the paging token of the last event delivered to the listener
+   */
+  public EventQueueOverflowException(int capacity, @Nullable String lastDeliveredPagingToken) {
+    super("The event queue is full, its capacity is " + capacity + " events.");
+    this.capacity = capacity;
+    this.lastDeliveredPagingToken = lastDeliveredPagingToken;
+  }
+}
@@ -0,0 +1,130 @@
+// Automatically generated by xdrgen
+// DO NOT EDIT or your changes may be overwritten
+
+package org.stellar.sdk.ingest;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.stellar.sdk.Base64Factory;
+import org.stellar.sdk.exception.UnexpectedException;
+import org.stellar.sdk.xdr.ContractEvent;
+import org.stellar.sdk.xdr.DiagnosticEvent;
+import org.stellar.sdk.xdr.SCVal;
+import org.stellar.sdk.xdr.SorobanTransactionMeta;
+import org.stellar.sdk.xdr.SorobanTransactionMetaExt;
+import org.stellar.sdk.xdr.XdrDataInputStream;
+
+/**
+ * A view of an XDR encoded {@link SorobanTransactionMeta} which decodes its fields on first access.
+ *
+ * <p>Variable-length arrays are kept as {@link LazyXdrArray}s and the other fields as {@link
+ * LazyXdrValue}s, except the fields which have a view of their own. The whole value can still be
+ * decoded with {@link #toSorobanTransactionMeta()}.
+ *
+ * <p>SorobanTransactionMeta's original definition in the XDR file is:
+ *
+ * <pre>
+ * struct SorobanTransactionMeta
+ * {
+ *     SorobanTransactionMetaExt ext;
+ *
+ *     ContractEvent events&lt;&gt;;             // custom events populated by the
+ *                                         // contracts themselves.
+ *     SCVal returnValue;                  // return value of the host fn invocation
+ *
+ *     // Diagnostics events that are not hashed.
+ *     // This will contain all contract and diagnostic events. Even ones
+ *     // that were emitted in a failed contract call.
+ *     DiagnosticEvent diagnosticEvents&lt;&gt;;
+ * };
+ * </pre>
+ */
+@Getter
+public final class LazySorobanTransactionMeta {
+  /** The {@code ext} field. */
+  private final LazyXdrValue<SorobanTransactionMetaExt> ext;
+
+  /** The {@code events} field. */
+  private final LazyXdrArray<ContractEvent> events;
+
+  /** The {@code returnValue} field. */
+  private final LazyXdrValue<SCVal> returnValue;
+
+  /** The {@code diagnosticEvents} field. */
+  private final LazyXdrArray<DiagnosticEvent> diagnosticEvents;
+
+  @Getter(AccessLevel.NONE)
+  private final ByteBuffer xdr;
+
+  LazySorobanTransactionMeta(XdrSlicer slicer, int maxDepth) throws IOException {
+    int start = slicer.position();
+    XdrSlicer.checkDepth(maxDepth);
+    maxDepth -= 1;
+    ext =
+        slicer.value(SorobanTransactionMetaExt::skip, SorobanTransactionMetaExt::decode, maxDepth);
+    events = slicer.array("events", ContractEvent::skip, ContractEvent::decode, maxDepth);
+    returnValue = slicer.value(SCVal::skip, SCVal::decode, maxDepth);
+    diagnosticEvents =
+        slicer.array("diagnosticEvents", DiagnosticEvent::skip, DiagnosticEvent::decode, maxDepth);
+    xdr = slicer.slice(start);
+  }
+
+  /**
+   * Reads a {@link SorobanTransactionMeta} from a base64-encoded XDR string.
+   *
+   * @param xdr the base64-encoded XDR string
+   * @return the view of the value
+   * @throws IOException if the input is invalid
+   */
+  public static LazySorobanTransactionMeta fromXdrBase64(String xdr) throws IOException {
+    return fromXdrByteArray(Base64Factory.getInstance().decode(xdr));
+  }
+
+  /**
+   * Reads a {@link SorobanTransactionMeta} from raw XDR bytes. The bytes are not copied.
+   *
+   * @param xdr the raw XDR bytes
+   * @return the view of the value
+   * @throws IOException if the input is invalid
+   */
+  public static LazySorobanTransactionMeta fromXdrByteArray(byte[] xdr) throws IOException {
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  /**
+   * Reads a {@link SorobanTransactionMeta} from the remaining bytes of a buffer. The bytes are not
+   * copied, so they must not be modified while the view is used.
+   *
+   * @param xdr the buffer to read, heap or direct
+   * @return the view of the value
+   * @throws IOException if the input is invalid
+   */
+  public static LazySorobanTransactionMeta fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    return new LazySorobanTransactionMeta(new XdrSlicer(xdr), XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  /**
+   * Decodes the whole value.
+   *
+   * @return the decoded value
+   * @throws UnexpectedException if the value cannot be decoded
+   */
+  public SorobanTransactionMeta toSorobanTransactionMeta() {
+    try {
+      return SorobanTransactionMeta.fromXdrByteBuffer(xdr);
+    } catch (IOException e) {
+      throw new UnexpectedException("Unable to decode SorobanTransactionMeta", e);
+    }
+  }
+
+  /**
+   * Returns the XDR encoding of the value.
+   *
+   * @return a read-only buffer over the encoded value
+   */
+  public ByteBuffer getXdr() {
+    return xdr.asReadOnlyBuffer();
+  }
+}
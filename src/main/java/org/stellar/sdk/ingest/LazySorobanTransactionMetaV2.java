@@ -0,0 +1,118 @@
+// Automatically generated by xdrgen
+// DO NOT EDIT or your changes may be overwritten
+
+package org.stellar.sdk.ingest;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.jetbrains.annotations.Nullable;
+import org.stellar.sdk.Base64Factory;
+import org.stellar.sdk.exception.UnexpectedException;
+import org.stellar.sdk.xdr.SCVal;
+import org.stellar.sdk.xdr.SorobanTransactionMetaExt;
+import org.stellar.sdk.xdr.SorobanTransactionMetaV2;
+import org.stellar.sdk.xdr.XdrDataInputStream;
+
+/**
+ * A view of an XDR encoded {@link SorobanTransactionMetaV2} which decodes its fields on first
+ * access.
+ *
+ * <p>Variable-length arrays are kept as {@link LazyXdrArray}s and the other fields as {@link
+ * LazyXdrValue}s, except the fields which have a view of their own. The whole value can still be
+ * decoded with {@link #toSorobanTransactionMetaV2()}.
+ *
+ * <p>SorobanTransactionMetaV2's original definition in the XDR file is:
+ *
+ * <pre>
+ * struct SorobanTransactionMetaV2
+ * {
+ *     SorobanTransactionMetaExt ext;
+ *
+ *     SCVal&#42; returnValue;
+ * };
+ * </pre>
+ */
+@Getter
+public final class LazySorobanTransactionMetaV2 {
+  /** The {@code ext} field. */
+  private final LazyXdrValue<SorobanTransactionMetaExt> ext;
+
+  /** The {@code returnValue} field, null if it is absent. */
+  @Nullable private LazyXdrValue<SCVal> returnValue;
+
+  @Getter(AccessLevel.NONE)
+  private final ByteBuffer xdr;
+
+  LazySorobanTransactionMetaV2(XdrSlicer slicer, int maxDepth) throws IOException {
+    int start = slicer.position();
+    XdrSlicer.checkDepth(maxDepth);
+    maxDepth -= 1;
+    XdrDataInputStream stream = slicer.stream();
+    ext =
+        slicer.value(SorobanTransactionMetaExt::skip, SorobanTransactionMetaExt::decode, maxDepth);
+    if (stream.readXdrBoolean()) {
+      returnValue = slicer.value(SCVal::skip, SCVal::decode, maxDepth);
+    }
+    xdr = slicer.slice(start);
+  }
+
+  /**
+   * Reads a {@link SorobanTransactionMetaV2} from a base64-encoded XDR string.
+   *
+   * @param xdr the base64-encoded XDR string
+   * @return the view of the value
+   * @throws IOException if the input is invalid
+   */
+  public static LazySorobanTransactionMetaV2 fromXdrBase64(String xdr) throws IOException {
+    return fromXdrByteArray(Base64Factory.getInstance().decode(xdr));
+  }
+
+  /**
+   * Reads a {@link SorobanTransactionMetaV2} from raw XDR bytes. The bytes are not copied.
+   *
+   * @param xdr the raw XDR bytes
+   * @return the view of the value
+   * @throws IOException if the input is invalid
+   */
+  public static LazySorobanTransactionMetaV2 fromXdrByteArray(byte[] xdr) throws IOException {
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  /**
+   * Reads a {@link SorobanTransactionMetaV2} from the remaining bytes of a buffer. The bytes are
+   * not copied, so they must not be modified while the view is used.
+   *
+   * @param xdr the buffer to read, heap or direct
+   * @return the view of the value
+   * @throws IOException if the input is invalid
+   */
+  public static LazySorobanTransactionMetaV2 fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    return new LazySorobanTransactionMetaV2(
+        new XdrSlicer(xdr), XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  /**
+   * Decodes the whole value.
+   *
+   * @return the decoded value
+   * @throws UnexpectedException if the value cannot be decoded
+   */
+  public SorobanTransactionMetaV2 toSorobanTransactionMetaV2() {
+    try {
+      return SorobanTransactionMetaV2.fromXdrByteBuffer(xdr);
+    } catch (IOException e) {
+      throw new UnexpectedException("Unable to decode SorobanTransactionMetaV2", e);
+    }
+  }
+
+  /**
+   * Returns the XDR encoding of the value.
+   *
+   * @return a read-only buffer over the encoded value
+   */
+  public ByteBuffer getXdr() {
+    return xdr.asReadOnlyBuffer();
+  }
+}
@@ -0,0 +1,150 @@
+// Automatically generated by xdrgen
+// DO NOT EDIT or your changes may be overwritten
+
+package org.stellar.sdk.ingest;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.jetbrains.annotations.Nullable;
+import org.stellar.sdk.Base64Factory;
+import org.stellar.sdk.exception.UnexpectedException;
+import org.stellar.sdk.xdr.OperationMeta;
+import org.stellar.sdk.xdr.TransactionMeta;
+import org.stellar.sdk.xdr.XdrDataInputStream;
+
+/**
+ * A view of an XDR encoded {@link TransactionMeta} which decodes its fields on first access.
+ *
+ * <p>Variable-length arrays are kept as {@link LazyXdrArray}s and the other fields as {@link
+ * LazyXdrValue}s, except the fields which have a view of their own. The whole value can still be
+ * decoded with {@link #toTransactionMeta()}.
+ *
+ * <p>TransactionMeta's original definition in the XDR file is:
+ *
+ * <pre>
+ * union TransactionMeta switch (int v)
+ * {
+ * case 0:
+ *     OperationMeta operations&lt;&gt;;
+ * case 1:
+ *     TransactionMetaV1 v1;
+ * case 2:
+ *     TransactionMetaV2 v2;
+ * case 3:
+ *     TransactionMetaV3 v3;
+ * case 4:
+ *     TransactionMetaV4 v4;
+ * };
+ * </pre>
+ */
+@Getter
+public final class LazyTransactionMeta {
+  /** The discriminant, {@code v} in the XDR definition. */
+  private final Integer discriminant;
+
+  /** The {@code operations} arm, null unless the discriminant selects it. */
+  @Nullable private LazyXdrArray<OperationMeta> operations;
+
+  /** The {@code v1} arm, null unless the discriminant selects it. */
+  @Nullable private LazyTransactionMetaV1 v1;
+
+  /** The {@code v2} arm, null unless the discriminant selects it. */
+  @Nullable private LazyTransactionMetaV2 v2;
+
+  /** The {@code v3} arm, null unless the discriminant selects it. */
+  @Nullable private LazyTransactionMetaV3 v3;
+
+  /** The {@code v4} arm, null unless the discriminant selects it. */
+  @Nullable private LazyTransactionMetaV4 v4;
+
+  @Getter(AccessLevel.NONE)
+  private final ByteBuffer xdr;
+
+  LazyTransactionMeta(XdrSlicer slicer, int maxDepth) throws IOException {
+    int start = slicer.position();
+    XdrSlicer.checkDepth(maxDepth);
+    maxDepth -= 1;
+    XdrDataInputStream stream = slicer.stream();
+    discriminant = stream.readInt();
+    switch (discriminant) {
+      case 0:
+        operations =
+            slicer.array("operations", OperationMeta::skip, OperationMeta::decode, maxDepth);
+        break;
+      case 1:
+        v1 = new LazyTransactionMetaV1(slicer, maxDepth);
+        break;
+      case 2:
+        v2 = new LazyTransactionMetaV2(slicer, maxDepth);
+        break;
+      case 3:
+        v3 = new LazyTransactionMetaV3(slicer, maxDepth);
+        break;
+      case 4:
+        v4 = new LazyTransactionMetaV4(slicer, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    xdr = slicer.slice(start);
+  }
+
+  /**
+   * Reads a {@link TransactionMeta} from a base64-encoded XDR string.
+   *
+   * @param xdr the base64-encoded XDR string
+   * @return the view of the value
+   * @throws IOException if the input is invalid
+   */
+  public static LazyTransactionMeta fromXdrBase64(String xdr) throws IOException {
+    return fromXdrByteArray(Base64Factory.getInstance().decode(xdr));
+  }
+
+  /**
+   * Reads a {@link TransactionMeta} from raw XDR bytes. The bytes are not copied.
+   *
+   * @param xdr the raw XDR bytes
+   * @return the view of the value
+   * @throws IOException if the input is invalid
+   */
+  public static LazyTransactionMeta fromXdrByteArray(byte[] xdr) throws IOException {
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  /**
+   * Reads a {@link TransactionMeta} from the remaining bytes of a buffer. The bytes are not copied,
+   * so they must not be modified while the view is used.
+   *
+   * @param xdr the buffer to read, heap or direct
+   * @return the view of the value
+   * @throws IOException if the input is invalid
+   */
+  public static LazyTransactionMeta fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    return new LazyTransactionMeta(new XdrSlicer(xdr), XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  /**
+   * Decodes the whole value.
+   *
+   * @return the decoded value
+   * @throws UnexpectedException if the value cannot be decoded
+   */
+  public TransactionMeta toTransactionMeta() {
+    try {
+      return TransactionMeta.fromXdrByteBuffer(xdr);
+    } catch (IOException e) {
+      throw new UnexpectedException("Unable to decode TransactionMeta", e);
+    }
+  }
+
+  /**
+   * Returns the XDR encoding of the value.
+   *
+   * @return a read-only buffer over the encoded value
+   */
+  public ByteBuffer getXdr() {
+    return xdr.asReadOnlyBuffer();
+  }
+}
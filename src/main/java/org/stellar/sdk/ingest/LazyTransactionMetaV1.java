@@ -0,0 +1,113 @@
+// Automatically generated by xdrgen
+// DO NOT EDIT or your changes may be overwritten
+
+package org.stellar.sdk.ingest;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.stellar.sdk.Base64Factory;
+import org.stellar.sdk.exception.UnexpectedException;
+import org.stellar.sdk.xdr.LedgerEntryChange;
+import org.stellar.sdk.xdr.OperationMeta;
+import org.stellar.sdk.xdr.TransactionMetaV1;
+import org.stellar.sdk.xdr.XdrDataInputStream;
+
+/**
+ * A view of an XDR encoded {@link TransactionMetaV1} which decodes its fields on first access.
+ *
+ * <p>Variable-length arrays are kept as {@link LazyXdrArray}s and the other fields as {@link
+ * LazyXdrValue}s, except the fields which have a view of their own. The whole value can still be
+ * decoded with {@link #toTransactionMetaV1()}.
+ *
+ * <p>TransactionMetaV1's original definition in the XDR file is:
+ *
+ * <pre>
+ * struct TransactionMetaV1
+ * {
+ *     LedgerEntryChanges txChanges; // tx level changes if any
+ *     OperationMeta operations&lt;&gt;;   // meta for each operation
+ * };
+ * </pre>
+ */
+@Getter
+public final class LazyTransactionMetaV1 {
+  /** The {@code txChanges} field. */
+  private final LazyXdrArray<LedgerEntryChange> txChanges;
+
+  /** The {@code operations} field. */
+  private final LazyXdrArray<OperationMeta> operations;
+
+  @Getter(AccessLevel.NONE)
+  private final ByteBuffer xdr;
+
+  LazyTransactionMetaV1(XdrSlicer slicer, int maxDepth) throws IOException {
+    int start = slicer.position();
+    XdrSlicer.checkDepth(maxDepth);
+    maxDepth -= 1;
+    XdrSlicer.checkDepth(maxDepth);
+    txChanges =
+        slicer.array(
+            "LedgerEntryChanges", LedgerEntryChange::skip, LedgerEntryChange::decode, maxDepth - 1);
+    operations = slicer.array("operations", OperationMeta::skip, OperationMeta::decode, maxDepth);
+    xdr = slicer.slice(start);
+  }
+
+  /**
+   * Reads a {@link TransactionMetaV1} from a base64-encoded XDR string.
+   *
+   * @param xdr the base64-encoded XDR string
+   * @return the view of the value
+   * @throws IOException if the input is invalid
+   */
+  public static LazyTransactionMetaV1 fromXdrBase64(String xdr) throws IOException {
+    return fromXdrByteArray(Base64Factory.getInstance().decode(xdr));
+  }
+
+  /**
+   * Reads a {@link TransactionMetaV1} from raw XDR bytes. The bytes are not copied.
+   *
+   * @param xdr the raw XDR bytes
+   * @return the view of the value
+   * @throws IOException if the input is invalid
+   */
+  public static LazyTransactionMetaV1 fromXdrByteArray(byte[] xdr) throws IOException {
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  /**
+   * Reads a {@link TransactionMetaV1} from the remaining bytes of a buffer. The bytes are not
+   * copied, so they must not be modified while the view is used.
+   *
+   * @param xdr the buffer to read, heap or direct
+   * @return the view of the value
+   * @throws IOException if the input is invalid
+   */
+  public static LazyTransactionMetaV1 fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    return new LazyTransactionMetaV1(new XdrSlicer(xdr), XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  /**
+   * Decodes the whole value.
+   *
+   * @return the decoded value
+   * @throws UnexpectedException if the value cannot be decoded
+   */
+  public TransactionMetaV1 toTransactionMetaV1() {
+    try {
+      return TransactionMetaV1.fromXdrByteBuffer(xdr);
+    } catch (IOException e) {
+      throw new UnexpectedException("Unable to decode TransactionMetaV1", e);
+    }
+  }
+
+  /**
+   * Returns the XDR encoding of the value.
+   *
+   * @return a read-only buffer over the encoded value
+   */
+  public ByteBuffer getXdr() {
+    return xdr.asReadOnlyBuffer();
+  }
+}
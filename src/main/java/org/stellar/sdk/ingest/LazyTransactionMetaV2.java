@@ -0,0 +1,123 @@
+// Automatically generated by xdrgen
+// DO NOT EDIT or your changes may be overwritten
+
+package org.stellar.sdk.ingest;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.stellar.sdk.Base64Factory;
+import org.stellar.sdk.exception.UnexpectedException;
+import org.stellar.sdk.xdr.LedgerEntryChange;
+import org.stellar.sdk.xdr.OperationMeta;
+import org.stellar.sdk.xdr.TransactionMetaV2;
+import org.stellar.sdk.xdr.XdrDataInputStream;
+
+/**
+ * A view of an XDR encoded {@link TransactionMetaV2} which decodes its fields on first access.
+ *
+ * <p>Variable-length arrays are kept as {@link LazyXdrArray}s and the other fields as {@link
+ * LazyXdrValue}s, except the fields which have a view of their own. The whole value can still be
+ * decoded with {@link #toTransactionMetaV2()}.
+ *
+ * <p>TransactionMetaV2's original definition in the XDR file is:
+ *
+ * <pre>
+ * struct TransactionMetaV2
+ * {
+ *     LedgerEntryChanges txChangesBefore; // tx level changes before operations
+ *                                         // are applied if any
+ *     OperationMeta operations&lt;&gt;;         // meta for each operation
+ *     LedgerEntryChanges txChangesAfter;  // tx level changes after operations are
+ *                                         // applied if any
+ * };
+ * </pre>
+ */
+@Getter
+public final class LazyTransactionMetaV2 {
+  /** The {@code txChangesBefore} field. */
+  private final LazyXdrArray<LedgerEntryChange> txChangesBefore;
+
+  /** The {@code operations} field. */
+  private final LazyXdrArray<OperationMeta> operations;
+
+  /** The {@code txChangesAfter} field. */
+  private final LazyXdrArray<LedgerEntryChange> txChangesAfter;
+
+  @Getter(AccessLevel.NONE)
+  private final ByteBuffer xdr;
+
+  LazyTransactionMetaV2(XdrSlicer slicer, int maxDepth) throws IOException {
+    int start = slicer.position();
+    XdrSlicer.checkDepth(maxDepth);
+    maxDepth -= 1;
+    XdrSlicer.checkDepth(maxDepth);
+    txChangesBefore =
+        slicer.array(
+            "LedgerEntryChanges", LedgerEntryChange::skip, LedgerEntryChange::decode, maxDepth - 1);
+    operations = slicer.array("operations", OperationMeta::skip, OperationMeta::decode, maxDepth);
+    XdrSlicer.checkDepth(maxDepth);
+    txChangesAfter =
+        slicer.array(
+            "LedgerEntryChanges", LedgerEntryChange::skip, LedgerEntryChange::decode, maxDepth - 1);
+    xdr = slicer.slice(start);
+  }
+
+  /**
+   * Reads a {@link TransactionMetaV2} from a base64-encoded XDR string.
+   *
+   * @param xdr the base64-encoded XDR string
+   * @return the view of the value
+   * @throws IOException if the input is invalid
+   */
+  public static LazyTransactionMetaV2 fromXdrBase64(String xdr) throws IOException {
+    return fromXdrByteArray(Base64Factory.getInstance().decode(xdr));
+  }
+
+  /**
+   * Reads a {@link TransactionMetaV2} from raw XDR bytes. The bytes are not copied.
+   *
+   * @param xdr the raw XDR bytes
+   * @return the view of the value
+   * @throws IOException if the input is invalid
+   */
+  public static LazyTransactionMetaV2 fromXdrByteArray(byte[] xdr) throws IOException {
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  /**
+   * Reads a {@link TransactionMetaV2} from the remaining bytes of a buffer. The bytes are not
+   * copied, so they must not be modified while the view is used.
+   *
+   * @param xdr the buffer to read, heap or direct
+   * @return the view of the value
+   * @throws IOException if the input is invalid
+   */
+  public static LazyTransactionMetaV2 fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    return new LazyTransactionMetaV2(new XdrSlicer(xdr), XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  /**
+   * Decodes the whole value.
+   *
+   * @return the decoded value
+   * @throws UnexpectedException if the value cannot be decoded
+   */
+  public TransactionMetaV2 toTransactionMetaV2() {
+    try {
+      return TransactionMetaV2.fromXdrByteBuffer(xdr);
+    } catch (IOException e) {
+      throw new UnexpectedException("Unable to decode TransactionMetaV2", e);
+    }
+  }
+
+  /**
+   * Returns the XDR encoding of the value.
+   *
+   * @return a read-only buffer over the encoded value
+   */
+  public ByteBuffer getXdr() {
+    return xdr.asReadOnlyBuffer();
+  }
+}
@@ -0,0 +1,155 @@
+// Automatically generated by xdrgen
+// DO NOT EDIT or your changes may be overwritten
+
+package org.stellar.sdk.ingest;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.jetbrains.annotations.Nullable;
+import org.stellar.sdk.Base64Factory;
+import org.stellar.sdk.exception.UnexpectedException;
+import org.stellar.sdk.xdr.DiagnosticEvent;
+import org.stellar.sdk.xdr.ExtensionPoint;
+import org.stellar.sdk.xdr.LedgerEntryChange;
+import org.stellar.sdk.xdr.OperationMetaV2;
+import org.stellar.sdk.xdr.TransactionEvent;
+import org.stellar.sdk.xdr.TransactionMetaV4;
+import org.stellar.sdk.xdr.XdrDataInputStream;
+
+/**
+ * A view of an XDR encoded {@link TransactionMetaV4} which decodes its fields on first access.
+ *
+ * <p>Variable-length arrays are kept as {@link LazyXdrArray}s and the other fields as {@link
+ * LazyXdrValue}s, except the fields which have a view of their own. The whole value can still be
+ * decoded with {@link #toTransactionMetaV4()}.
+ *
+ * <p>TransactionMetaV4's original definition in the XDR file is:
+ *
+ * <pre>
+ * struct TransactionMetaV4
+ * {
+ *     ExtensionPoint ext;
+ *
+ *     LedgerEntryChanges txChangesBefore;  // tx level changes before operations
+ *                                          // are applied if any
+ *     OperationMetaV2 operations&lt;&gt;;        // meta for each operation
+ *     LedgerEntryChanges txChangesAfter;   // tx level changes after operations are
+ *                                          // applied if any
+ *     SorobanTransactionMetaV2&#42; sorobanMeta; // Soroban-specific meta (only for
+ *                                            // Soroban transactions).
+ *
+ *     TransactionEvent events&lt;&gt;; // Used for transaction-level events (like fee payment)
+ *     DiagnosticEvent diagnosticEvents&lt;&gt;; // Used for all diagnostic information
+ * };
+ * </pre>
+ */
+@Getter
+public final class LazyTransactionMetaV4 {
+  /** The {@code ext} field. */
+  private final LazyXdrValue<ExtensionPoint> ext;
+
+  /** The {@code txChangesBefore} field. */
+  private final LazyXdrArray<LedgerEntryChange> txChangesBefore;
+
+  /** The {@code operations} field. */
+  private final LazyXdrArray<OperationMetaV2> operations;
+
+  /** The {@code txChangesAfter} field. */
+  private final LazyXdrArray<LedgerEntryChange> txChangesAfter;
+
+  /** The {@code sorobanMeta} field, null if it is absent. */
+  @Nullable private LazySorobanTransactionMetaV2 sorobanMeta;
+
+  /** The {@code events} field. */
+  private final LazyXdrArray<TransactionEvent> events;
+
+  /** The {@code diagnosticEvents} field. */
+  private final LazyXdrArray<DiagnosticEvent> diagnosticEvents;
+
+  @Getter(AccessLevel.NONE)
+  private final ByteBuffer xdr;
+
+  LazyTransactionMetaV4(XdrSlicer slicer, int maxDepth) throws IOException {
+    int start = slicer.position();
+    XdrSlicer.checkDepth(maxDepth);
+    maxDepth -= 1;
+    XdrDataInputStream stream = slicer.stream();
+    ext = slicer.value(ExtensionPoint::skip, ExtensionPoint::decode, maxDepth);
+    XdrSlicer.checkDepth(maxDepth);
+    txChangesBefore =
+        slicer.array(
+            "LedgerEntryChanges", LedgerEntryChange::skip, LedgerEntryChange::decode, maxDepth - 1);
+    operations =
+        slicer.array("operations", OperationMetaV2::skip, OperationMetaV2::decode, maxDepth);
+    XdrSlicer.checkDepth(maxDepth);
+    txChangesAfter =
+        slicer.array(
+            "LedgerEntryChanges", LedgerEntryChange::skip, LedgerEntryChange::decode, maxDepth - 1);
+    if (stream.readXdrBoolean()) {
+      sorobanMeta = new LazySorobanTransactionMetaV2(slicer, maxDepth);
+    }
+    events = slicer.array("events", TransactionEvent::skip, TransactionEvent::decode, maxDepth);
+    diagnosticEvents =
+        slicer.array("diagnosticEvents", DiagnosticEvent::skip, DiagnosticEvent::decode, maxDepth);
+    xdr = slicer.slice(start);
+  }
+
+  /**
+   * Reads a {@link TransactionMetaV4} from a base64-encoded XDR string.
+   *
+   * @param xdr the base64-encoded XDR string
+   * @return the view of the value
+   * @throws IOException if the input is invalid
+   */
+  public static LazyTransactionMetaV4 fromXdrBase64(String xdr) throws IOException {
+    return fromXdrByteArray(Base64Factory.getInstance().decode(xdr));
+  }
+
+  /**
+   * Reads a {@link TransactionMetaV4} from raw XDR bytes. The bytes are not copied.
+   *
+   * @param xdr the raw XDR bytes
+   * @return the view of the value
+   * @throws IOException if the input is invalid
+   */
+  public static LazyTransactionMetaV4 fromXdrByteArray(byte[] xdr) throws IOException {
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  /**
+   * Reads a {@link TransactionMetaV4} from the remaining bytes of a buffer. The bytes are not
+   * copied, so they must not be modified while the view is used.
+   *
+   * @param xdr the buffer to read, heap or direct
+   * @return the view of the value
+   * @throws IOException if the input is invalid
+   */
+  public static LazyTransactionMetaV4 fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    return new LazyTransactionMetaV4(new XdrSlicer(xdr), XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  /**
+   * Decodes the whole value.
+   *
+   * @return the decoded value
+   * @throws UnexpectedException if the value cannot be decoded
+   */
+  public TransactionMetaV4 toTransactionMetaV4() {
+    try {
+      return TransactionMetaV4.fromXdrByteBuffer(xdr);
+    } catch (IOException e) {
+      throw new UnexpectedException("Unable to decode TransactionMetaV4", e);
+    }
+  }
+
+  /**
+   * Returns the XDR encoding of the value.
+   *
+   * @return a read-only buffer over the encoded value
+   */
+  public ByteBuffer getXdr() {
+    return xdr.asReadOnlyBuffer();
+  }
+}
@@ -0,0 +1,138 @@
+package org.stellar.sdk.ingest;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.stellar.sdk.exception.UnexpectedException;
+import org.stellar.sdk.xdr.XdrDataInputStream;
+
+/**
+ * An XDR variable-length array which is kept as its encoded elements, and decoded when it is
+ * accessed.
+ *
+ * <p>{@link #get()} decodes all the elements once and keeps them. {@link #iterator()} and {@link
+ * #stream()} decode one element at a time without keeping them, unless {@link #get()} was called
+ * before.
+ *
+ * @param <T> the XDR type of the elements
+ */
+public final class LazyXdrArray<T> implements Iterable<T> {
+  private final ByteBuffer xdr;
+  private final int size;
+  private final XdrDecoder<T> decoder;
+  private final int maxDepth;
+  private List<T> values;
+
+  LazyXdrArray(ByteBuffer xdr, int size, XdrDecoder<T> decoder, int maxDepth) {
+    this.xdr = xdr;
+    this.size = size;
+    this.decoder = decoder;
+    this.maxDepth = maxDepth;
+  }
+
+  /**
+   * Returns the number of elements, without decoding them.
+   *
+   * @return the number of elements
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns whether the array is empty.
+   *
+   * @return true if the array has no elements
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Returns the elements, decoding them on the first call.
+   *
+   * @return an unmodifiable list of the decoded elements
+   * @throws UnexpectedException if an element cannot be decoded
+   */
+  public synchronized List<T> get() {
+    if (values == null) {
+      List<T> decoded = new ArrayList<>(size);
+      iterator().forEachRemaining(decoded::add);
+      values = Collections.unmodifiableList(decoded);
+    }
+    return values;
+  }
+
+  /**
+   * Returns whether the elements were already decoded by {@link #get()}.
+   *
+   * @return true if {@link #get()} was called
+   */
+  public synchronized boolean isDecoded() {
+    return values != null;
+  }
+
+  /**
+   * Returns an iterator which decodes the elements one at a time.
+   *
+   * @return an iterator over the elements
+   */
+  @Override
+  public Iterator<T> iterator() {
+    synchronized (this) {
+      if (values != null) {
+        return values.iterator();
+      }
+    }
+    XdrDataInputStream stream = new XdrDataInputStream(xdr.duplicate());
+    return new Iterator<T>() {
+      private int index;
+
+      @Override
+      public boolean hasNext() {
+        return index < size;
+      }
+
+      @Override
+      public T next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        index++;
+        try {
+          return decoder.decode(stream, maxDepth);
+        } catch (IOException e) {
+          throw new UnexpectedException("Unable to decode XDR array element", e);
+        }
+      }
+    };
+  }
+
+  /**
+   * Returns a sequential {@link Stream} which decodes the elements one at a time.
+   *
+   * @return a stream of the elements
+   */
+  public Stream<T> stream() {
+    return StreamSupport.stream(
+        Spliterators.spliterator(iterator(), size, Spliterator.ORDERED | Spliterator.NONNULL),
+        false);
+  }
+
+  /**
+   * Returns the XDR encoding of the elements, without the length of the array.
+   *
+   * @return a read-only buffer over the encoded elements
+   */
+  public ByteBuffer getXdr() {
+    return xdr.asReadOnlyBuffer();
+  }
+}
@@ -0,0 +1,61 @@
+package org.stellar.sdk.ingest;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import org.stellar.sdk.exception.UnexpectedException;
+import org.stellar.sdk.xdr.XdrDataInputStream;
+
+/**
+ * An XDR value which is kept as its encoded bytes, and decoded the first time it is accessed.
+ *
+ * @param <T> the XDR type of the value
+ */
+public final class LazyXdrValue<T> {
+  private final ByteBuffer xdr;
+  private final XdrDecoder<T> decoder;
+  private final int maxDepth;
+  private T value;
+  private boolean decoded;
+
+  LazyXdrValue(ByteBuffer xdr, XdrDecoder<T> decoder, int maxDepth) {
+    this.xdr = xdr;
+    this.decoder = decoder;
+    this.maxDepth = maxDepth;
+  }
+
+  /**
+   * Returns the value, decoding it on the first call.
+   *
+   * @return the decoded value
+   * @throws UnexpectedException if the value cannot be decoded
+   */
+  public synchronized T get() {
+    if (!decoded) {
+      try {
+        value = decoder.decode(new XdrDataInputStream(xdr.duplicate()), maxDepth);
+      } catch (IOException e) {
+        throw new UnexpectedException("Unable to decode XDR value", e);
+      }
+      decoded = true;
+    }
+    return value;
+  }
+
+  /**
+   * Returns whether the value was already decoded.
+   *
+   * @return true if {@link #get()} was called
+   */
+  public synchronized boolean isDecoded() {
+    return decoded;
+  }
+
+  /**
+   * Returns the XDR encoding of the value.
+   *
+   * @return a read-only buffer over the encoded bytes
+   */
+  public ByteBuffer getXdr() {
+    return xdr.asReadOnlyBuffer();
+  }
+}
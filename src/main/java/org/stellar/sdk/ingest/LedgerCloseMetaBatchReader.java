@@ -0,0 +1,657 @@
+package org.stellar.sdk.ingest;
+
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import lombok.Getter;
+import org.jetbrains.annotations.Nullable;
+import org.stellar.sdk.xdr.ExtensionPoint;
+import org.stellar.sdk.xdr.GeneralizedTransactionSet;
+import org.stellar.sdk.xdr.LedgerCloseMeta;
+import org.stellar.sdk.xdr.LedgerCloseMetaBatch;
+import org.stellar.sdk.xdr.LedgerCloseMetaExt;
+import org.stellar.sdk.xdr.LedgerCloseMetaV0;
+import org.stellar.sdk.xdr.LedgerCloseMetaV1;
+import org.stellar.sdk.xdr.LedgerCloseMetaV2;
+import org.stellar.sdk.xdr.LedgerEntry;
+import org.stellar.sdk.xdr.LedgerEntryChanges;
+import org.stellar.sdk.xdr.LedgerHeaderHistoryEntry;
+import org.stellar.sdk.xdr.LedgerKey;
+import org.stellar.sdk.xdr.SCPHistoryEntry;
+import org.stellar.sdk.xdr.TransactionMeta;
+import org.stellar.sdk.xdr.TransactionResultMeta;
+import org.stellar.sdk.xdr.TransactionResultMetaV1;
+import org.stellar.sdk.xdr.TransactionResultPair;
+import org.stellar.sdk.xdr.TransactionSet;
+import org.stellar.sdk.xdr.Uint32;
+import org.stellar.sdk.xdr.Uint64;
+import org.stellar.sdk.xdr.UpgradeEntryMeta;
+import org.stellar.sdk.xdr.XdrDataInputStream;
+
+/**
+ * Streams the {@link LedgerCloseMeta} entries of an XDR encoded {@link LedgerCloseMetaBatch} one
+ * ledger at a time, instead of materializing the whole batch with {@link
+ * LedgerCloseMetaBatch#fromXdrByteArray(byte[])}.
+ *
+ * <p>The batch header ({@code startSequence}, {@code endSequence} and the number of ledgers) is
+ * read when the reader is created. Each call to {@link #next()} then decodes exactly one ledger, so
+ * only the ledger currently being processed is kept on the heap.
+ *
+ * <p>Sections the caller does not need can be skipped with {@link Section}. Skipped fields are read
+ * past and left {@code null} in the returned objects.
+ *
+ * <p>Batch files written by Galexie are usually zstd compressed. Wrap the file in a decompressing
+ * {@link InputStream} and pass it to {@link #LedgerCloseMetaBatchReader(InputStream, Set)}, or use
+ * {@link #open(Path, Set)} for uncompressed files, which memory-maps the file.
+ *
+ * <p>This class is not thread-safe.
+ */
+public final class LedgerCloseMetaBatchReader implements Iterator<LedgerCloseMeta>, Closeable {
+  /** Sections of a {@link LedgerCloseMeta} that can be skipped while reading. */
+  public enum Section {
+    /** {@code txSet}, the transaction envelopes of the ledger. */
+    TRANSACTION_SET,
+    /** {@code txApplyProcessing} of every transaction, see {@link TransactionMeta}. */
+    TRANSACTION_META,
+    /**
+     * {@code feeProcessing} and {@code postTxApplyFeeProcessing} of every transaction, see {@link
+     * LedgerEntryChanges}.
+     */
+    FEE_PROCESSING,
+    /** {@code upgradesProcessing}, the ledger upgrades applied in the ledger. */
+    UPGRADES_PROCESSING,
+    /** {@code scpInfo}, the SCP messages of the ledger. */
+    SCP_INFO,
+    /** {@code evictedKeys} and the {@code unused} entries of v1 and v2 ledger close metas. */
+    EVICTED_KEYS
+  }
+
+  private final Set<Section> skipped;
+  // The input of a file backed reader, which is read through a window moved before each ledger.
+  @Nullable private final MappedFile file;
+  private long windowStart;
+  private int windowLength;
+  private XdrDataInputStream stream;
+  // Records the input of a stream backed reader while a ledger is read past.
+  @Nullable private final Recorder recorder;
+
+  /** The {@code startSequence} of the batch. */
+  @Getter private final long startSequence;
+
+  /** The {@code endSequence} of the batch. */
+  @Getter private final long endSequence;
+
+  /** The number of ledgers in the batch. */
+  @Getter private final int ledgerCount;
+
+  private int remaining;
+
+  /**
+   * Creates a reader that decodes every section of each ledger.
+   *
+   * @param inputStream the XDR encoded {@link LedgerCloseMetaBatch}
+   * @throws IOException if the batch header cannot be read
+   */
+  public LedgerCloseMetaBatchReader(InputStream inputStream) throws IOException {
+    this(inputStream, Collections.emptySet());
+  }
+
+  /**
+   * Creates a reader that skips the given sections of each ledger.
+   *
+   * @param inputStream the XDR encoded {@link LedgerCloseMetaBatch}
+   * @param skipped the sections to skip
+   * @throws IOException if the batch header cannot be read
+   */
+  public LedgerCloseMetaBatchReader(InputStream inputStream, Set<Section> skipped)
+      throws IOException {
+    this(new Recorder(inputStream), skipped);
+  }
+
+  private LedgerCloseMetaBatchReader(Recorder recorder, Set<Section> skipped) throws IOException {
+    this(new XdrDataInputStream(recorder), null, recorder, skipped, true);
+  }
+
+  private LedgerCloseMetaBatchReader(
+      @Nullable XdrDataInputStream stream,
+      @Nullable MappedFile file,
+      @Nullable Recorder recorder,
+      Set<Section> skipped,
+      boolean batch)
+      throws IOException {
+    if (skipped == null) {
+      throw new IllegalArgumentException("skipped must not be null");
+    }
+    this.stream = stream;
+    this.file = file;
+    this.recorder = recorder;
+    if (file != null) {
+      moveWindow(0);
+    }
+    this.skipped = skipped.isEmpty() ? EnumSet.noneOf(Section.class) : EnumSet.copyOf(skipped);
+    if (batch) {
+      int maxDepth = XdrDataInputStream.DEFAULT_MAX_DEPTH - 1;
+      this.startSequence = Uint32.decode(this.stream, maxDepth).getUint32().getNumber();
+      this.endSequence = Uint32.decode(this.stream, maxDepth).getUint32().getNumber();
+      this.ledgerCount = readSize(this.stream, "ledgerCloseMetas");
+    } else {
+      // A single encoded ledger, see decode(ByteBuffer, Set).
+      this.startSequence = -1;
+      this.endSequence = -1;
+      this.ledgerCount = 1;
+    }
+    this.remaining = ledgerCount;
+  }
+
+  /**
+   * Memory-maps an uncompressed {@link LedgerCloseMetaBatch} file and creates a reader over it.
+   * Files larger than 2 GiB are supported, as long as each ledger is smaller than 1 GiB.
+   *
+   * @param file the batch file
+   * @param skipped the sections to skip
+   * @return the reader
+   * @throws IOException if the file cannot be mapped or the batch header cannot be read
+   */
+  public static LedgerCloseMetaBatchReader open(Path file, Set<Section> skipped)
+      throws IOException {
+    return new LedgerCloseMetaBatchReader(MappedFile.map(file), skipped);
+  }
+
+  /**
+   * Creates a reader over an XDR encoded {@link LedgerCloseMetaBatch} mapped from a file.
+   *
+   * @param file the mapped batch file
+   * @param skipped the sections to skip
+   * @throws IOException if the batch header cannot be read
+   */
+  LedgerCloseMetaBatchReader(MappedFile file, Set<Section> skipped) throws IOException {
+    this(null, file, null, skipped, true);
+  }
+
+  /**
+   * Decodes a single ledger encoded by {@link #nextEncoded()}, skipping the given sections.
+   *
+   * @param encoded the XDR encoded {@link LedgerCloseMeta}, its position and limit are not modified
+   * @param skipped the sections to skip
+   * @return the ledger
+   * @throws IOException if the ledger cannot be decoded
+   */
+  static LedgerCloseMeta decode(ByteBuffer encoded, Set<Section> skipped) throws IOException {
+    LedgerCloseMetaBatchReader reader =
+        new LedgerCloseMetaBatchReader(new XdrDataInputStream(encoded), null, null, skipped, false);
+    LedgerCloseMeta ledgerCloseMeta =
+        reader.readLedgerCloseMeta(XdrDataInputStream.DEFAULT_MAX_DEPTH - 1);
+    if (reader.stream.getRemainingInputLen() != 0) {
+      throw new IOException("Unexpected trailing data after the ledger");
+    }
+    return ledgerCloseMeta;
+  }
+
+  /**
+   * Returns the number of ledgers that have not been read yet.
+   *
+   * @return the number of remaining ledgers
+   */
+  public int getRemaining() {
+    return remaining;
+  }
+
+  /**
+   * Returns the number of bytes consumed so far. Only available for readers created over a file.
+   *
+   * @return the offset of the next ledger in the file
+   */
+  long getPosition() {
+    if (file == null) {
+      throw new IllegalStateException("Position is only tracked for file backed readers");
+    }
+    return windowStart + windowLength - stream.getRemainingInputLen();
+  }
+
+  // A window starts at the next ledger and ends with the mapped segment, which holds any ledger of
+  // up to 1 GiB. The decoders only see the window, so their sizes are checked against its length.
+  private void moveWindow(long position) {
+    ByteBuffer window = file.window(position);
+    windowStart = position;
+    windowLength = window.remaining();
+    stream = new XdrDataInputStream(window);
+  }
+
+  @Override
+  public boolean hasNext() {
+    return remaining > 0;
+  }
+
+  /**
+   * Decodes the next ledger of the batch.
+   *
+   * @return the next ledger
+   * @throws NoSuchElementException if every ledger has been read
+   * @throws UncheckedIOException if the ledger cannot be decoded
+   */
+  @Override
+  public LedgerCloseMeta next() {
+    if (remaining <= 0) {
+      throw new NoSuchElementException();
+    }
+    try {
+      if (file != null) {
+        moveWindow(getPosition());
+      }
+      LedgerCloseMeta ledgerCloseMeta =
+          readLedgerCloseMeta(XdrDataInputStream.DEFAULT_MAX_DEPTH - 1);
+      remaining--;
+      return ledgerCloseMeta;
+    } catch (IOException e) {
+      remaining = 0;
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Returns a sequential, ordered {@link Stream} over the remaining ledgers. Closing the stream
+   * closes this reader.
+   *
+   * @return the stream of ledgers
+   */
+  public Stream<LedgerCloseMeta> stream() {
+    Spliterator<LedgerCloseMeta> spliterator =
+        Spliterators.spliterator(
+            this, remaining, Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+    return StreamSupport.stream(spliterator, false)
+        .onClose(
+            () -> {
+              try {
+                close();
+              } catch (IOException e) {
+                throw new UncheckedIOException(e);
+              }
+            });
+  }
+
+  /**
+   * Reads past the next ledger without decoding it, and returns its XDR encoding, which {@link
+   * #decode(ByteBuffer, Set)} decodes. This lets ledgers be decoded on other threads, while the
+   * batch is read in order on one.
+   *
+   * <p>The encoding of a file backed reader shares the mapped file, the encoding of a stream backed
+   * reader is a copy.
+   *
+   * @return the XDR encoded {@link LedgerCloseMeta}
+   * @throws NoSuchElementException if every ledger has been read
+   * @throws IOException if the ledger cannot be read
+   */
+  ByteBuffer nextEncoded() throws IOException {
+    if (remaining <= 0) {
+      throw new NoSuchElementException();
+    }
+    try {
+      ByteBuffer encoded;
+      if (file != null) {
+        long start = getPosition();
+        moveWindow(start);
+        LedgerCloseMeta.skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH - 1);
+        encoded = file.slice(start, getPosition());
+      } else {
+        recorder.start();
+        try {
+          LedgerCloseMeta.skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH - 1);
+        } finally {
+          encoded = recorder.stop();
+        }
+      }
+      remaining--;
+      return encoded;
+    } catch (IOException | RuntimeException e) {
+      remaining = 0;
+      throw e;
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    remaining = 0;
+    stream.close();
+  }
+
+  // The fields are read in the order of the generated decoders, with the generated skip of every
+  // field subtree. A version added to the XDR is rejected until it is handled here.
+  private LedgerCloseMeta readLedgerCloseMeta(int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    LedgerCloseMeta ledgerCloseMeta = new LedgerCloseMeta();
+    int discriminant = stream.readInt();
+    ledgerCloseMeta.setDiscriminant(discriminant);
+    switch (discriminant) {
+      case 0:
+        ledgerCloseMeta.setV0(readV0(maxDepth));
+        break;
+      case 1:
+        ledgerCloseMeta.setV1(readV1(maxDepth));
+        break;
+      case 2:
+        ledgerCloseMeta.setV2(readV2(maxDepth));
+        break;
+      default:
+        throw new IOException("Unsupported LedgerCloseMeta version: " + discriminant);
+    }
+    return ledgerCloseMeta;
+  }
+
+  private LedgerCloseMetaV0 readV0(int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    LedgerCloseMetaV0 v0 = new LedgerCloseMetaV0();
+    v0.setLedgerHeader(LedgerHeaderHistoryEntry.decode(stream, maxDepth));
+    v0.setTxSet(
+        read(Section.TRANSACTION_SET, TransactionSet::skip, TransactionSet::decode, maxDepth));
+    v0.setTxProcessing(
+        readArray(
+            "txProcessing",
+            this::readTransactionResultMeta,
+            TransactionResultMeta[]::new,
+            maxDepth));
+    v0.setUpgradesProcessing(
+        readArray(
+            Section.UPGRADES_PROCESSING,
+            "upgradesProcessing",
+            UpgradeEntryMeta::skip,
+            UpgradeEntryMeta::decode,
+            UpgradeEntryMeta[]::new,
+            maxDepth));
+    v0.setScpInfo(
+        readArray(
+            Section.SCP_INFO,
+            "scpInfo",
+            SCPHistoryEntry::skip,
+            SCPHistoryEntry::decode,
+            SCPHistoryEntry[]::new,
+            maxDepth));
+    return v0;
+  }
+
+  private LedgerCloseMetaV1 readV1(int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    LedgerCloseMetaV1 v1 = new LedgerCloseMetaV1();
+    v1.setExt(LedgerCloseMetaExt.decode(stream, maxDepth));
+    v1.setLedgerHeader(LedgerHeaderHistoryEntry.decode(stream, maxDepth));
+    v1.setTxSet(
+        read(
+            Section.TRANSACTION_SET,
+            GeneralizedTransactionSet::skip,
+            GeneralizedTransactionSet::decode,
+            maxDepth));
+    v1.setTxProcessing(
+        readArray(
+            "txProcessing",
+            this::readTransactionResultMeta,
+            TransactionResultMeta[]::new,
+            maxDepth));
+    v1.setUpgradesProcessing(
+        readArray(
+            Section.UPGRADES_PROCESSING,
+            "upgradesProcessing",
+            UpgradeEntryMeta::skip,
+            UpgradeEntryMeta::decode,
+            UpgradeEntryMeta[]::new,
+            maxDepth));
+    v1.setScpInfo(
+        readArray(
+            Section.SCP_INFO,
+            "scpInfo",
+            SCPHistoryEntry::skip,
+            SCPHistoryEntry::decode,
+            SCPHistoryEntry[]::new,
+            maxDepth));
+    v1.setTotalByteSizeOfLiveSorobanState(Uint64.decode(stream, maxDepth));
+    v1.setEvictedKeys(
+        readArray(
+            Section.EVICTED_KEYS,
+            "evictedKeys",
+            LedgerKey::skip,
+            LedgerKey::decode,
+            LedgerKey[]::new,
+            maxDepth));
+    v1.setUnused(
+        readArray(
+            Section.EVICTED_KEYS,
+            "unused",
+            LedgerEntry::skip,
+            LedgerEntry::decode,
+            LedgerEntry[]::new,
+            maxDepth));
+    return v1;
+  }
+
+  private LedgerCloseMetaV2 readV2(int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    LedgerCloseMetaV2 v2 = new LedgerCloseMetaV2();
+    v2.setExt(LedgerCloseMetaExt.decode(stream, maxDepth));
+    v2.setLedgerHeader(LedgerHeaderHistoryEntry.decode(stream, maxDepth));
+    v2.setTxSet(
+        read(
+            Section.TRANSACTION_SET,
+            GeneralizedTransactionSet::skip,
+            GeneralizedTransactionSet::decode,
+            maxDepth));
+    v2.setTxProcessing(
+        readArray(
+            "txProcessing",
+            this::readTransactionResultMetaV1,
+            TransactionResultMetaV1[]::new,
+            maxDepth));
+    v2.setUpgradesProcessing(
+        readArray(
+            Section.UPGRADES_PROCESSING,
+            "upgradesProcessing",
+            UpgradeEntryMeta::skip,
+            UpgradeEntryMeta::decode,
+            UpgradeEntryMeta[]::new,
+            maxDepth));
+    v2.setScpInfo(
+        readArray(
+            Section.SCP_INFO,
+            "scpInfo",
+            SCPHistoryEntry::skip,
+            SCPHistoryEntry::decode,
+            SCPHistoryEntry[]::new,
+            maxDepth));
+    v2.setTotalByteSizeOfLiveSorobanState(Uint64.decode(stream, maxDepth));
+    v2.setEvictedKeys(
+        readArray(
+            Section.EVICTED_KEYS,
+            "evictedKeys",
+            LedgerKey::skip,
+            LedgerKey::decode,
+            LedgerKey[]::new,
+            maxDepth));
+    return v2;
+  }
+
+  private TransactionResultMeta readTransactionResultMeta(XdrDataInputStream stream, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    TransactionResultMeta meta = new TransactionResultMeta();
+    meta.setResult(TransactionResultPair.decode(stream, maxDepth));
+    meta.setFeeProcessing(
+        read(
+            Section.FEE_PROCESSING,
+            LedgerEntryChanges::skip,
+            LedgerEntryChanges::decode,
+            maxDepth));
+    meta.setTxApplyProcessing(
+        read(Section.TRANSACTION_META, TransactionMeta::skip, TransactionMeta::decode, maxDepth));
+    return meta;
+  }
+
+  private TransactionResultMetaV1 readTransactionResultMetaV1(
+      XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    TransactionResultMetaV1 meta = new TransactionResultMetaV1();
+    meta.setExt(ExtensionPoint.decode(stream, maxDepth));
+    meta.setResult(TransactionResultPair.decode(stream, maxDepth));
+    meta.setFeeProcessing(
+        read(
+            Section.FEE_PROCESSING,
+            LedgerEntryChanges::skip,
+            LedgerEntryChanges::decode,
+            maxDepth));
+    meta.setTxApplyProcessing(
+        read(Section.TRANSACTION_META, TransactionMeta::skip, TransactionMeta::decode, maxDepth));
+    meta.setPostTxApplyFeeProcessing(
+        read(
+            Section.FEE_PROCESSING,
+            LedgerEntryChanges::skip,
+            LedgerEntryChanges::decode,
+            maxDepth));
+    return meta;
+  }
+
+  private <T> T read(Section section, XdrSkipper skipper, XdrDecoder<T> decoder, int maxDepth)
+      throws IOException {
+    if (skipped.contains(section)) {
+      skipper.skip(stream, maxDepth);
+      return null;
+    }
+    return decoder.decode(stream, maxDepth);
+  }
+
+  private <T> T[] readArray(
+      Section section,
+      String name,
+      XdrSkipper skipper,
+      XdrDecoder<T> decoder,
+      IntFunction<T[]> arrayFactory,
+      int maxDepth)
+      throws IOException {
+    if (!skipped.contains(section)) {
+      return readArray(name, decoder, arrayFactory, maxDepth);
+    }
+    int size = readSize(stream, name);
+    for (int i = 0; i < size; i++) {
+      skipper.skip(stream, maxDepth);
+    }
+    return null;
+  }
+
+  private <T> T[] readArray(
+      String name, XdrDecoder<T> decoder, IntFunction<T[]> arrayFactory, int maxDepth)
+      throws IOException {
+    int size = readSize(stream, name);
+    T[] values = arrayFactory.apply(size);
+    for (int i = 0; i < size; i++) {
+      values[i] = decoder.decode(stream, maxDepth);
+    }
+    return values;
+  }
+
+  /** Passes reads through, and keeps a copy of the bytes read while recording. */
+  private static final class Recorder extends FilterInputStream {
+    private byte[] recorded = new byte[0];
+    private int count = -1;
+    @Nullable private byte[] skipBuffer;
+
+    Recorder(InputStream in) {
+      super(in);
+    }
+
+    void start() {
+      count = 0;
+    }
+
+    ByteBuffer stop() {
+      ByteBuffer result = ByteBuffer.wrap(Arrays.copyOf(recorded, count));
+      count = -1;
+      return result;
+    }
+
+    @Override
+    public int read() throws IOException {
+      int read = in.read();
+      if (read >= 0 && count >= 0) {
+        ensureCapacity(1);
+        recorded[count++] = (byte) read;
+      }
+      return read;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      int read = in.read(b, off, len);
+      if (read > 0 && count >= 0) {
+        record(b, off, read);
+      }
+      return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      if (count < 0) {
+        return in.skip(n);
+      }
+      // Skipped bytes are part of the encoding, so they are read and recorded.
+      if (skipBuffer == null) {
+        skipBuffer = new byte[8192];
+      }
+      int read = read(skipBuffer, 0, (int) Math.min(n, skipBuffer.length));
+      return Math.max(read, 0);
+    }
+
+    private void record(byte[] b, int off, int len) {
+      ensureCapacity(len);
+      System.arraycopy(b, off, recorded, count, len);
+      count += len;
+    }
+
+    private void ensureCapacity(int len) {
+      if (count + len > recorded.length) {
+        recorded =
+            Arrays.copyOf(recorded, Math.max(count + len, Math.max(1024, 2 * recorded.length)));
+      }
+    }
+  }
+
+  static int readSize(XdrDataInputStream stream, String name) throws IOException {
+    int size = stream.readInt();
+    if (size < 0) {
+      throw new IOException(name + " size " + size + " is negative");
+    }
+    int remainingInputLen = stream.getRemainingInputLen();
+    if (remainingInputLen >= 0 && remainingInputLen < size) {
+      throw new IOException(
+          name + " size " + size + " exceeds remaining input length " + remainingInputLen);
+    }
+    return size;
+  }
+}
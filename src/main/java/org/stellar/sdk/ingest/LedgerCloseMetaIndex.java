@@ -0,0 +1,372 @@
+package org.stellar.sdk.ingest;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import lombok.Getter;
+import org.jetbrains.annotations.Nullable;
+import org.stellar.sdk.xdr.LedgerCloseMeta;
+import org.stellar.sdk.xdr.LedgerCloseMetaBatch;
+import org.stellar.sdk.xdr.XdrDataInputStream;
+
+/**
+ * A random-access index over an uncompressed, XDR encoded {@link LedgerCloseMetaBatch} file.
+ *
+ * <p>The file is memory-mapped and scanned once to record the byte offset of every {@link
+ * LedgerCloseMeta} by ledger sequence, and the ledger containing every transaction by transaction
+ * hash. The index is persisted next to the file as a sidecar, so subsequent {@link #open(Path)}
+ * calls only read the sidecar. Lookups decode just the requested ledger. Files larger than 2 GiB
+ * are supported, as long as each ledger is smaller than 1 GiB.
+ *
+ * <p>The sidecar records the size and modification time of the indexed file and is rebuilt when
+ * either changes. Instances are immutable and safe for concurrent use.
+ */
+public final class LedgerCloseMetaIndex {
+  /** The suffix appended to the indexed file name to get the default sidecar path. */
+  public static final String SIDECAR_SUFFIX = ".idx";
+
+  private static final int MAGIC = 0x534c4349; // "SLCI"
+  private static final int VERSION = 2;
+  private static final int HASH_LENGTH = 32;
+
+  private final MappedFile file;
+  private final long[] sequences;
+  private final long[] offsets; // offsets[i + 1] is the end of ledger i
+  private final byte[] transactionHashes; // sorted, HASH_LENGTH bytes per transaction
+  private final int[] transactionLedgers; // index into sequences for each transaction hash
+
+  /** The number of ledgers in the file. */
+  @Getter private final int ledgerCount;
+
+  private LedgerCloseMetaIndex(
+      MappedFile file,
+      long[] sequences,
+      long[] offsets,
+      byte[] transactionHashes,
+      int[] transactionLedgers) {
+    this.file = file;
+    this.sequences = sequences;
+    this.offsets = offsets;
+    this.transactionHashes = transactionHashes;
+    this.transactionLedgers = transactionLedgers;
+    this.ledgerCount = sequences.length;
+  }
+
+  /**
+   * Opens the index of a batch file, using the sidecar at {@code file + ".idx"}.
+   *
+   * @param file the batch file
+   * @return the index
+   * @throws IOException if the file cannot be read or indexed
+   * @see #open(Path, Path)
+   */
+  public static LedgerCloseMetaIndex open(Path file) throws IOException {
+    return open(file, file.resolveSibling(file.getFileName() + SIDECAR_SUFFIX));
+  }
+
+  /**
+   * Opens the index of a batch file. If {@code indexFile} exists and matches the batch file it is
+   * loaded, otherwise the batch file is scanned and the index is written to {@code indexFile}. If
+   * the sidecar cannot be written, e.g. because the directory is read-only, the index is only kept
+   * in memory.
+   *
+   * @param file the batch file
+   * @param indexFile the sidecar file holding the index
+   * @return the index
+   * @throws IOException if the file cannot be read or indexed
+   */
+  public static LedgerCloseMetaIndex open(Path file, Path indexFile) throws IOException {
+    MappedFile mapped = MappedFile.map(file);
+    long lastModified = Files.getLastModifiedTime(file).toMillis();
+    if (Files.isRegularFile(indexFile)) {
+      LedgerCloseMetaIndex index = read(mapped, lastModified, indexFile);
+      if (index != null) {
+        return index;
+      }
+    }
+    LedgerCloseMetaIndex index = build(mapped);
+    try {
+      index.write(lastModified, indexFile);
+    } catch (IOException e) {
+      // The sidecar only saves the scan of the next open, the index is complete without it.
+    }
+    return index;
+  }
+
+  /**
+   * Returns the sequence of the first ledger in the file.
+   *
+   * @return the first ledger sequence
+   * @throws IllegalStateException if the file contains no ledgers
+   */
+  public long getFirstSequence() {
+    if (ledgerCount == 0) {
+      throw new IllegalStateException("The file contains no ledgers");
+    }
+    return sequences[0];
+  }
+
+  /**
+   * Returns the sequence of the last ledger in the file.
+   *
+   * @return the last ledger sequence
+   * @throws IllegalStateException if the file contains no ledgers
+   */
+  public long getLastSequence() {
+    if (ledgerCount == 0) {
+      throw new IllegalStateException("The file contains no ledgers");
+    }
+    return sequences[ledgerCount - 1];
+  }
+
+  /**
+   * Returns the number of transactions in the file.
+   *
+   * @return the number of indexed transaction hashes
+   */
+  public int getTransactionCount() {
+    return transactionLedgers.length;
+  }
+
+  /**
+   * Returns whether the file contains the given ledger.
+   *
+   * @param sequence the ledger sequence
+   * @return true if the ledger is in the file
+   */
+  public boolean containsLedger(long sequence) {
+    return Arrays.binarySearch(sequences, sequence) >= 0;
+  }
+
+  /**
+   * Decodes a single ledger from the file.
+   *
+   * @param sequence the ledger sequence
+   * @return the ledger, or null if it is not in the file
+   * @throws IOException if the ledger cannot be decoded
+   */
+  @Nullable
+  public LedgerCloseMeta getLedger(long sequence) throws IOException {
+    int ledger = Arrays.binarySearch(sequences, sequence);
+    if (ledger < 0) {
+      return null;
+    }
+    return decode(ledger);
+  }
+
+  /**
+   * Returns the sequence of the ledger that applied the given transaction.
+   *
+   * @param transactionHash the 32-byte transaction hash
+   * @return the ledger sequence, or null if the transaction is not in the file
+   */
+  @Nullable
+  public Long findLedgerSequence(byte[] transactionHash) {
+    int transaction = findTransaction(transactionHash);
+    return transaction < 0 ? null : sequences[transactionLedgers[transaction]];
+  }
+
+  /**
+   * Decodes the ledger that applied the given transaction.
+   *
+   * @param transactionHash the 32-byte transaction hash
+   * @return the ledger, or null if the transaction is not in the file
+   * @throws IOException if the ledger cannot be decoded
+   */
+  @Nullable
+  public LedgerCloseMeta getLedgerByTransactionHash(byte[] transactionHash) throws IOException {
+    int transaction = findTransaction(transactionHash);
+    return transaction < 0 ? null : decode(transactionLedgers[transaction]);
+  }
+
+  private LedgerCloseMeta decode(int ledger) throws IOException {
+    ByteBuffer slice = file.slice(offsets[ledger], offsets[ledger + 1]);
+    return LedgerCloseMeta.decode(new XdrDataInputStream(slice));
+  }
+
+  private int findTransaction(byte[] transactionHash) {
+    if (transactionHash == null || transactionHash.length != HASH_LENGTH) {
+      throw new IllegalArgumentException("transactionHash must be " + HASH_LENGTH + " bytes");
+    }
+    int low = 0;
+    int high = transactionLedgers.length - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      int cmp = compareHash(transactionHashes, mid * HASH_LENGTH, transactionHash, 0);
+      if (cmp < 0) {
+        low = mid + 1;
+      } else if (cmp > 0) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+    return -1;
+  }
+
+  private static int compareHash(byte[] a, int aOffset, byte[] b, int bOffset) {
+    for (int i = 0; i < HASH_LENGTH; i++) {
+      int cmp = (a[aOffset + i] & 0xff) - (b[bOffset + i] & 0xff);
+      if (cmp != 0) {
+        return cmp;
+      }
+    }
+    return 0;
+  }
+
+  private static LedgerCloseMetaIndex build(MappedFile file) throws IOException {
+    EnumSet<LedgerCloseMetaBatchReader.Section> skipped =
+        EnumSet.allOf(LedgerCloseMetaBatchReader.Section.class);
+    LedgerCloseMetaBatchReader reader = new LedgerCloseMetaBatchReader(file, skipped);
+    int ledgerCount = reader.getLedgerCount();
+    long[] sequences = new long[ledgerCount];
+    long[] offsets = new long[ledgerCount + 1];
+    List<byte[]> hashes = new ArrayList<>();
+    List<Integer> hashLedgers = new ArrayList<>();
+    for (int i = 0; i < ledgerCount; i++) {
+      offsets[i] = reader.getPosition();
+      LedgerCloseMeta meta = reader.next();
+      sequences[i] = LedgerCloseMetas.sequence(meta);
+      if (i > 0 && sequences[i] <= sequences[i - 1]) {
+        throw new IOException(
+            "Ledger sequences are not increasing: " + sequences[i - 1] + ", " + sequences[i]);
+      }
+      for (byte[] hash : LedgerCloseMetas.transactionHashes(meta)) {
+        hashes.add(hash);
+        hashLedgers.add(i);
+      }
+    }
+    offsets[ledgerCount] = reader.getPosition();
+
+    Integer[] order = new Integer[hashes.size()];
+    for (int i = 0; i < order.length; i++) {
+      order[i] = i;
+    }
+    Arrays.sort(order, (a, b) -> compareHash(hashes.get(a), 0, hashes.get(b), 0));
+    byte[] transactionHashes = new byte[order.length * HASH_LENGTH];
+    int[] transactionLedgers = new int[order.length];
+    for (int i = 0; i < order.length; i++) {
+      System.arraycopy(hashes.get(order[i]), 0, transactionHashes, i * HASH_LENGTH, HASH_LENGTH);
+      transactionLedgers[i] = hashLedgers.get(order[i]);
+    }
+    return new LedgerCloseMetaIndex(
+        file, sequences, offsets, transactionHashes, transactionLedgers);
+  }
+
+  @Nullable
+  private static LedgerCloseMetaIndex read(MappedFile file, long lastModified, Path indexFile)
+      throws IOException {
+    try (DataInputStream in =
+        new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+      if (in.readInt() != MAGIC
+          || in.readInt() != VERSION
+          || in.readLong() != file.getSize()
+          || in.readLong() != lastModified) {
+        return null;
+      }
+      int ledgerCount = in.readInt();
+      if (ledgerCount < 0 || ledgerCount > file.getSize()) {
+        return null;
+      }
+      long[] sequences = new long[ledgerCount];
+      long[] offsets = new long[ledgerCount + 1];
+      for (int i = 0; i < ledgerCount; i++) {
+        sequences[i] = in.readLong();
+        offsets[i] = in.readLong();
+      }
+      offsets[ledgerCount] = in.readLong();
+      int transactionCount = in.readInt();
+      if (transactionCount < 0 || transactionCount > file.getSize() / HASH_LENGTH) {
+        return null;
+      }
+      byte[] transactionHashes = new byte[transactionCount * HASH_LENGTH];
+      int[] transactionLedgers = new int[transactionCount];
+      for (int i = 0; i < transactionCount; i++) {
+        in.readFully(transactionHashes, i * HASH_LENGTH, HASH_LENGTH);
+        transactionLedgers[i] = in.readInt();
+      }
+      if (!isValid(file, sequences, offsets, transactionHashes, transactionLedgers)) {
+        return null;
+      }
+      return new LedgerCloseMetaIndex(
+          file, sequences, offsets, transactionHashes, transactionLedgers);
+    } catch (EOFException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Checks that a sidecar is consistent with the indexed file: ledger sequences and offsets
+   * increase and stay within the file, and the transactions are sorted by hash and refer to
+   * existing ledgers. A sidecar which does not pass is rebuilt rather than trusted.
+   */
+  private static boolean isValid(
+      MappedFile file,
+      long[] sequences,
+      long[] offsets,
+      byte[] transactionHashes,
+      int[] transactionLedgers) {
+    if (offsets[0] < 0 || offsets[sequences.length] > file.getSize()) {
+      return false;
+    }
+    for (int i = 0; i < sequences.length; i++) {
+      if (offsets[i + 1] <= offsets[i] || (i > 0 && sequences[i] <= sequences[i - 1])) {
+        return false;
+      }
+    }
+    for (int i = 0; i < transactionLedgers.length; i++) {
+      if (transactionLedgers[i] < 0
+          || transactionLedgers[i] >= sequences.length
+          || (i > 0
+              && compareHash(
+                      transactionHashes, (i - 1) * HASH_LENGTH, transactionHashes, i * HASH_LENGTH)
+                  > 0)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void write(long lastModified, Path indexFile) throws IOException {
+    Path temp = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+    try {
+      writeTo(lastModified, temp);
+      Files.move(temp, indexFile, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      Files.deleteIfExists(temp);
+      throw e;
+    }
+  }
+
+  private void writeTo(long lastModified, Path temp) throws IOException {
+    try (DataOutputStream out =
+        new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+      out.writeInt(MAGIC);
+      out.writeInt(VERSION);
+      out.writeLong(file.getSize());
+      out.writeLong(lastModified);
+      out.writeInt(ledgerCount);
+      for (int i = 0; i < ledgerCount; i++) {
+        out.writeLong(sequences[i]);
+        out.writeLong(offsets[i]);
+      }
+      out.writeLong(offsets[ledgerCount]);
+      out.writeInt(transactionLedgers.length);
+      for (int i = 0; i < transactionLedgers.length; i++) {
+        out.write(transactionHashes, i * HASH_LENGTH, HASH_LENGTH);
+        out.writeInt(transactionLedgers[i]);
+      }
+    }
+  }
+}
@@ -0,0 +1,49 @@
+package org.stellar.sdk.ingest;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.stellar.sdk.xdr.LedgerCloseMeta;
+import org.stellar.sdk.xdr.LedgerHeaderHistoryEntry;
+import org.stellar.sdk.xdr.TransactionResultMeta;
+import org.stellar.sdk.xdr.TransactionResultMetaV1;
+
+/** Version independent accessors for {@link LedgerCloseMeta}. */
+final class LedgerCloseMetas {
+  private LedgerCloseMetas() {}
+
+  static long sequence(LedgerCloseMeta meta) throws IOException {
+    return ledgerHeader(meta).getHeader().getLedgerSeq().getUint32().getNumber();
+  }
+
+  static LedgerHeaderHistoryEntry ledgerHeader(LedgerCloseMeta meta) throws IOException {
+    switch (meta.getDiscriminant()) {
+      case 0:
+        return meta.getV0().getLedgerHeader();
+      case 1:
+        return meta.getV1().getLedgerHeader();
+      case 2:
+        return meta.getV2().getLedgerHeader();
+      default:
+        throw new IOException("Unknown LedgerCloseMeta version: " + meta.getDiscriminant());
+    }
+  }
+
+  static List<byte[]> transactionHashes(LedgerCloseMeta meta) {
+    List<byte[]> hashes = new ArrayList<>();
+    if (meta.getDiscriminant() == 2) {
+      for (TransactionResultMetaV1 result : meta.getV2().getTxProcessing()) {
+        hashes.add(result.getResult().getTransactionHash().getHash());
+      }
+    } else {
+      TransactionResultMeta[] results =
+          meta.getDiscriminant() == 0
+              ? meta.getV0().getTxProcessing()
+              : meta.getV1().getTxProcessing();
+      for (TransactionResultMeta result : results) {
+        hashes.add(result.getResult().getTransactionHash().getHash());
+      }
+    }
+    return hashes;
+  }
+}
@@ -0,0 +1,264 @@
+package org.stellar.sdk.ingest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.jetbrains.annotations.Nullable;
+import org.stellar.sdk.xdr.LedgerCloseMeta;
+import org.stellar.sdk.xdr.LedgerCloseMetaBatch;
+
+/**
+ * Decodes a set of {@link LedgerCloseMetaBatch} files in parallel and hands the ledgers to a
+ * consumer in strictly increasing ledger sequence order.
+ *
+ * <p>Files are ordered by the {@code startSequence} in their batch header, so the order of {@link
+ * #getFiles()} does not matter. The headers are read in parallel. The calling thread then reads
+ * through the files in order with a {@link LedgerCloseMetaBatchReader}, cutting out the encoding of
+ * each ledger without decoding it. Each ledger is decoded by its own task on a dedicated {@link
+ * ForkJoinPool} of {@link #getParallelism()} threads, so a single large file is decoded in parallel
+ * too. The calling thread delivers the decoded ledgers in order. At most {@link
+ * #getMaxBufferedLedgers()} ledgers are read ahead of the consumer, which bounds memory use when
+ * the consumer is slower than decoding, however many ledgers a file holds.
+ *
+ * <pre>{@code
+ * LedgerIngestionPipeline.builder()
+ *     .files(LedgerIngestionPipeline.listFiles(Paths.get("/data/ledgers")))
+ *     .skipped(EnumSet.of(LedgerCloseMetaBatchReader.Section.SCP_INFO))
+ *     .opener(file -> new ZstdInputStream(Files.newInputStream(file)))
+ *     .build()
+ *     .run(ledger -> index(ledger));
+ * }</pre>
+ */
+@Value
+@Builder(toBuilder = true)
+public class LedgerIngestionPipeline {
+  /** Opens a batch file for reading, for example to decompress it. */
+  @FunctionalInterface
+  public interface FileOpener {
+    /**
+     * Opens the file.
+     *
+     * @param file the batch file
+     * @return a stream of the uncompressed XDR encoded {@link LedgerCloseMetaBatch}
+     * @throws IOException if the file cannot be opened
+     */
+    InputStream open(Path file) throws IOException;
+  }
+
+  /**
+   * The batch files to ingest.
+   *
+   * @param files the batch files
+   * @return the batch files
+   */
+  @NonNull List<Path> files;
+
+  /**
+   * The number of ledgers decoded concurrently. Defaults to the number of available processors.
+   *
+   * @param parallelism the number of decoding threads
+   * @return the number of decoding threads
+   */
+  @Builder.Default int parallelism = Runtime.getRuntime().availableProcessors();
+
+  /**
+   * The maximum number of ledgers read ahead of the consumer, whether they are being decoded or
+   * waiting to be consumed. Defaults to four times the number of available processors.
+   *
+   * @param maxBufferedLedgers the maximum number of ledgers held in memory
+   * @return the maximum number of ledgers held in memory
+   */
+  @Builder.Default int maxBufferedLedgers = 4 * Runtime.getRuntime().availableProcessors();
+
+  /**
+   * The sections of each ledger that are not decoded, see {@link LedgerCloseMetaBatchReader}.
+   *
+   * @param skipped the sections to skip
+   * @return the sections to skip
+   */
+  @Builder.Default @NonNull
+  Set<LedgerCloseMetaBatchReader.Section> skipped =
+      EnumSet.noneOf(LedgerCloseMetaBatchReader.Section.class);
+
+  /**
+   * Opens the batch files. If null, files are expected to be uncompressed and are memory-mapped.
+   *
+   * @param opener the file opener
+   * @return the file opener, or null if files are memory-mapped
+   */
+  @Nullable FileOpener opener;
+
+  /**
+   * Lists the regular files of a directory.
+   *
+   * @param directory the directory holding batch files
+   * @return the files in the directory
+   * @throws IOException if the directory cannot be listed
+   */
+  public static List<Path> listFiles(Path directory) throws IOException {
+    List<Path> files = new ArrayList<>();
+    try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+      for (Path entry : entries) {
+        if (Files.isRegularFile(entry)) {
+          files.add(entry);
+        }
+      }
+    }
+    Collections.sort(files);
+    return files;
+  }
+
+  /**
+   * Decodes every file and passes each ledger to {@code consumer}, in increasing ledger sequence
+   * order, on the calling thread. Returns once every ledger has been consumed.
+   *
+   * <p>If a file cannot be read, the ledgers before the failure are consumed before the exception
+   * is thrown.
+   *
+   * @param consumer receives the ledgers
+   * @throws IOException if a file cannot be read or decoded, or ledger sequences overlap between
+   *     files
+   */
+  public void run(Consumer<? super LedgerCloseMeta> consumer) throws IOException {
+    if (parallelism <= 0) {
+      throw new IllegalArgumentException("parallelism must be positive");
+    }
+    if (maxBufferedLedgers <= 0) {
+      throw new IllegalArgumentException("maxBufferedLedgers must be positive");
+    }
+
+    ForkJoinPool pool = new ForkJoinPool(parallelism);
+    Deque<CompletableFuture<LedgerCloseMeta>> pending = new ArrayDeque<>();
+    try {
+      List<CompletableFuture<BatchFile>> headers = new ArrayList<>(files.size());
+      for (Path file : files) {
+        headers.add(CompletableFuture.supplyAsync(() -> readHeader(file), pool));
+      }
+      List<BatchFile> ordered = new ArrayList<>(files.size());
+      for (CompletableFuture<BatchFile> header : headers) {
+        ordered.add(await(header));
+      }
+      ordered.sort(Comparator.comparingLong(BatchFile::getStartSequence));
+
+      Delivery delivery = new Delivery(consumer);
+      for (BatchFile batchFile : ordered) {
+        Path file = batchFile.getFile();
+        try (LedgerCloseMetaBatchReader reader = open(file)) {
+          while (reader.hasNext()) {
+            ByteBuffer encoded;
+            try {
+              encoded = reader.nextEncoded();
+            } catch (IOException e) {
+              // The ledgers read before the failure are still delivered.
+              while (!pending.isEmpty()) {
+                delivery.deliver(pending.poll());
+              }
+              throw new IOException("Failed to decode " + file, e);
+            }
+            pending.add(CompletableFuture.supplyAsync(() -> decode(file, encoded), pool));
+            if (pending.size() >= maxBufferedLedgers) {
+              delivery.deliver(pending.poll());
+            }
+          }
+        }
+      }
+      while (!pending.isEmpty()) {
+        delivery.deliver(pending.poll());
+      }
+    } finally {
+      for (CompletableFuture<?> future : pending) {
+        future.cancel(true);
+      }
+      pool.shutdownNow();
+    }
+  }
+
+  private LedgerCloseMetaBatchReader open(Path file) throws IOException {
+    if (opener == null) {
+      return LedgerCloseMetaBatchReader.open(file, skipped);
+    }
+    return new LedgerCloseMetaBatchReader(opener.open(file), skipped);
+  }
+
+  private BatchFile readHeader(Path file) {
+    try (LedgerCloseMetaBatchReader reader = open(file)) {
+      return new BatchFile(file, reader.getStartSequence());
+    } catch (IOException e) {
+      throw new UncheckedIOException(new IOException("Failed to read the header of " + file, e));
+    }
+  }
+
+  private LedgerCloseMeta decode(Path file, ByteBuffer encoded) {
+    try {
+      return LedgerCloseMetaBatchReader.decode(encoded, skipped);
+    } catch (IOException e) {
+      throw new UncheckedIOException(new IOException("Failed to decode " + file, e));
+    }
+  }
+
+  private static <T> T await(CompletableFuture<T> future) throws IOException {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for a ledger to decode");
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof UncheckedIOException) {
+        throw ((UncheckedIOException) cause).getCause();
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new IOException(cause);
+    }
+  }
+
+  /** Checks the order of the decoded ledgers and passes them to the consumer. */
+  @RequiredArgsConstructor
+  private static class Delivery {
+    private final Consumer<? super LedgerCloseMeta> consumer;
+    private long lastSequence = -1;
+
+    void deliver(CompletableFuture<LedgerCloseMeta> pending) throws IOException {
+      LedgerCloseMeta ledger = await(pending);
+      long sequence = LedgerCloseMetas.sequence(ledger);
+      if (sequence <= lastSequence) {
+        throw new IOException(
+            "Ledger " + sequence + " is not after the previous ledger " + lastSequence);
+      }
+      lastSequence = sequence;
+      consumer.accept(ledger);
+    }
+  }
+
+  @Value
+  private static class BatchFile {
+    Path file;
+    long startSequence;
+  }
+}
@@ -0,0 +1,93 @@
+package org.stellar.sdk.ingest;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import lombok.Getter;
+
+/**
+ * A read-only memory mapping of a file of any size.
+ *
+ * <p>A {@link ByteBuffer} holds at most 2 GiB, so the file is mapped in overlapping segments. A
+ * segment starts every {@code step} bytes and extends {@code overlap} bytes into the next one, so
+ * any range of up to {@code overlap} bytes lies within a single segment and is read without a copy.
+ */
+final class MappedFile {
+  private static final int STEP = 1 << 30;
+  private static final int OVERLAP = Integer.MAX_VALUE - STEP;
+
+  private final ByteBuffer[] segments;
+  private final long step;
+
+  /** The size of the file in bytes. */
+  @Getter private final long size;
+
+  private MappedFile(ByteBuffer[] segments, long step, long size) {
+    this.segments = segments;
+    this.step = step;
+    this.size = size;
+  }
+
+  /**
+   * Maps a whole file, every range of up to 1 GiB lies within a single segment.
+   *
+   * @param file the file to map
+   * @return the mapping
+   * @throws IOException if the file cannot be mapped
+   */
+  static MappedFile map(Path file) throws IOException {
+    return map(file, STEP, OVERLAP);
+  }
+
+  static MappedFile map(Path file, int step, int overlap) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long size = channel.size();
+      int count = size == 0 ? 1 : (int) ((size - 1) / step + 1);
+      ByteBuffer[] segments = new ByteBuffer[count];
+      for (int i = 0; i < count; i++) {
+        long start = (long) i * step;
+        segments[i] =
+            channel.map(
+                FileChannel.MapMode.READ_ONLY,
+                start,
+                Math.min(size - start, (long) step + overlap));
+      }
+      return new MappedFile(segments, step, size);
+    }
+  }
+
+  /**
+   * Returns the bytes from the given position to the end of the segment which contains it.
+   *
+   * @param position the position in the file
+   * @return a buffer positioned at {@code position}, independent of the mapping
+   */
+  ByteBuffer window(long position) {
+    if (position < 0 || position > size) {
+      throw new IndexOutOfBoundsException("Position " + position + " is outside of the file");
+    }
+    int segment = (int) Math.min(position / step, segments.length - 1);
+    ByteBuffer window = segments[segment].duplicate();
+    window.position((int) (position - segment * step));
+    return window;
+  }
+
+  /**
+   * Returns the bytes between two positions.
+   *
+   * @param start the position of the first byte
+   * @param end the position after the last byte
+   * @return a buffer holding the range, independent of the mapping
+   * @throws IOException if the range does not lie within a single segment
+   */
+  ByteBuffer slice(long start, long end) throws IOException {
+    ByteBuffer window = window(start);
+    if (end < start || end - start > window.remaining()) {
+      throw new IOException("Range " + start + " to " + end + " is not within a mapped segment");
+    }
+    window.limit(window.position() + (int) (end - start));
+    return window.slice();
+  }
+}
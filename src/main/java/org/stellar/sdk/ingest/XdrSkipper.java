@@ -0,0 +1,10 @@
+package org.stellar.sdk.ingest;
+
+import java.io.IOException;
+import org.stellar.sdk.xdr.XdrDataInputStream;
+
+/** The {@code skip(XdrDataInputStream, int)} method of an XDR type. */
+@FunctionalInterface
+interface XdrSkipper {
+  void skip(XdrDataInputStream stream, int maxDepth) throws IOException;
+}
@@ -0,0 +1,61 @@
+package org.stellar.sdk.ingest;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import org.stellar.sdk.xdr.XdrDataInputStream;
+
+/**
+ * Reads an XDR value field by field, and cuts the fields which are decoded lazily out of the input
+ * as {@link LazyXdrValue}s and {@link LazyXdrArray}s.
+ */
+final class XdrSlicer {
+  private final ByteBuffer buffer;
+  private final XdrDataInputStream stream;
+
+  XdrSlicer(ByteBuffer buffer) {
+    this.buffer = buffer.duplicate();
+    this.stream = new XdrDataInputStream(this.buffer);
+  }
+
+  XdrDataInputStream stream() {
+    return stream;
+  }
+
+  /** Returns the number of bytes read so far. */
+  int position() {
+    return buffer.remaining() - stream.getRemainingInputLen();
+  }
+
+  /** Skips a value, and returns it as a {@link LazyXdrValue}. */
+  <T> LazyXdrValue<T> value(XdrSkipper skipper, XdrDecoder<T> decoder, int maxDepth)
+      throws IOException {
+    int start = position();
+    skipper.skip(stream, maxDepth);
+    return new LazyXdrValue<>(slice(start), decoder, maxDepth);
+  }
+
+  /** Skips a variable-length array, and returns it as a {@link LazyXdrArray}. */
+  <T> LazyXdrArray<T> array(String name, XdrSkipper skipper, XdrDecoder<T> decoder, int maxDepth)
+      throws IOException {
+    int size = LedgerCloseMetaBatchReader.readSize(stream, name);
+    int start = position();
+    for (int i = 0; i < size; i++) {
+      skipper.skip(stream, maxDepth);
+    }
+    return new LazyXdrArray<>(slice(start), size, decoder, maxDepth);
+  }
+
+  /** Returns the bytes read from the given position. */
+  ByteBuffer slice(int start) {
+    ByteBuffer slice = buffer.duplicate();
+    slice.limit(slice.position() + position());
+    slice.position(slice.position() + start);
+    return slice.slice();
+  }
+
+  static void checkDepth(int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+  }
+}
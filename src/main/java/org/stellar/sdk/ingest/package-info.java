@@ -0,0 +1,7 @@
+/**
+ * Utilities for ingesting ledger data exported by Galexie / the ledger exporter, such as {@link
+ * org.stellar.sdk.ingest.LedgerCloseMetaBatchReader}, which streams {@link
+ * org.stellar.sdk.xdr.LedgerCloseMeta} entries out of a {@link
+ * org.stellar.sdk.xdr.LedgerCloseMetaBatch} one ledger at a time.
+ */
+package org.stellar.sdk.ingest;
@@ -30,6 +30,7 @@
  *   <li>{@link org.stellar.sdk.responses} — Horizon response models
  *   <li>{@link org.stellar.sdk.contract} — smart contract interaction
  *   <li>{@link org.stellar.sdk.exception} — SDK exception hierarchy
+ *   <li>{@link org.stellar.sdk.ingest} — streaming readers for exported ledger data
  * </ul>
  *
  * @see <a href="https://developers.stellar.org/docs/data/apis">Stellar APIs overview</a>
@@ -1,6 +1,7 @@
 package org.stellar.sdk.requests;
 
 import com.google.gson.reflect.TypeToken;
+import java.util.concurrent.CompletableFuture;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import org.stellar.sdk.AssetTypeCreditAlphaNum;
@@ -83,6 +84,19 @@ public class AccountsRequestBuilder extends RequestBuilder {
     return this.account(this.buildUri());
   }
 
+  /**
+   * Requests <code>GET /accounts/{account}</code> asynchronously, without blocking the calling
+   * thread.
+   *
+   * @param account Account to fetch
+   * @return a future completed with the {@link AccountResponse}, or with one of the exceptions
+   *     thrown by {@link #account(String)}
+   */
+  public CompletableFuture<AccountResponse> accountAsync(String account) {
+    this.setSegments("accounts", account);
+    return executeGetRequestAsync(httpClient, this.buildUri(), new TypeToken<AccountResponse>() {});
+  }
+
   /**
    * Returns all accounts that contain a specific signer.
    *
@@ -217,6 +231,24 @@ public class AccountsRequestBuilder extends RequestBuilder {
     return SSEStream.create(httpClient, this, AccountResponse.class, listener, reconnectTimeout);
   }
 
+  /**
+   * An overloaded version of {@link #stream(EventListener, long)} whose stream runs on the
+   * scheduler, connections and reconnect limit shared by the streams of an {@link
+   * SSEStreamManager}.
+   *
+   * @param listener {@link EventListener} implementation with {@link AccountResponse} type
+   * @param reconnectTimeout Custom stream connection timeout in ms
+   * @param streamManager the {@link SSEStreamManager} running the stream
+   * @return an {@link SSEStream} for real-time event streaming
+   */
+  public SSEStream<AccountResponse> stream(
+      final EventListener<AccountResponse> listener,
+      long reconnectTimeout,
+      SSEStreamManager streamManager) {
+    return SSEStream.create(
+        httpClient, this, AccountResponse.class, listener, reconnectTimeout, streamManager);
+  }
+
   /**
    * An overloaded version of {@link #stream(EventListener, long)} with default reconnect timeout.
    *
@@ -251,6 +283,44 @@ public class AccountsRequestBuilder extends RequestBuilder {
     return execute(this.httpClient, this.buildUri());
   }
 
+  /**
+   * Build and execute request asynchronously, without blocking the calling thread.
+   *
+   * @return a future completed with the {@link Page} of {@link AccountResponse}, or with one of the
+   *     exceptions thrown by {@link #execute()}
+   */
+  public CompletableFuture<Page<AccountResponse>> executeAsync() {
+    return executeGetRequestAsync(
+        httpClient, this.buildUri(), new TypeToken<Page<AccountResponse>>() {});
+  }
+
+  /**
+   * Iterates over the records of this request, page by page, fetching the next page while the
+   * current one is read.
+   *
+   * @return an iterator over the {@link AccountResponse} records, to close when it is not read to
+   *     the end
+   * @see PageIterator
+   */
+  public PageIterator<AccountResponse> iterate() {
+    return iterate(PageIterator.DEFAULT_PREFETCH_DEPTH);
+  }
+
+  /**
+   * Iterates over the records of this request, page by page, fetching up to {@code prefetchDepth}
+   * pages ahead of the page being read.
+   *
+   * @param prefetchDepth The number of pages to fetch ahead, 0 to fetch each page when it is read.
+   * @return an iterator over the {@link AccountResponse} records, to close when it is not read to
+   *     the end
+   * @throws IllegalArgumentException If prefetchDepth is negative.
+   * @see PageIterator
+   */
+  public PageIterator<AccountResponse> iterate(int prefetchDepth) {
+    return PageIterator.create(
+        httpClient, this.buildUri(), new TypeToken<Page<AccountResponse>>() {}, prefetchDepth);
+  }
+
   @Override
   public AccountsRequestBuilder cursor(String token) {
     super.cursor(token);
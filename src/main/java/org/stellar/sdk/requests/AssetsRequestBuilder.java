@@ -1,6 +1,7 @@
 package org.stellar.sdk.requests;
 
 import com.google.gson.reflect.TypeToken;
+import java.util.concurrent.CompletableFuture;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import org.stellar.sdk.exception.ConnectionErrorException;
@@ -92,6 +93,44 @@ public class AssetsRequestBuilder extends RequestBuilder {
     return execute(this.httpClient, this.buildUri());
   }
 
+  /**
+   * Build and execute request asynchronously, without blocking the calling thread.
+   *
+   * @return a future completed with the {@link Page} of {@link AssetResponse}, or with one of the
+   *     exceptions thrown by {@link #execute()}
+   */
+  public CompletableFuture<Page<AssetResponse>> executeAsync() {
+    return executeGetRequestAsync(
+        httpClient, this.buildUri(), new TypeToken<Page<AssetResponse>>() {});
+  }
+
+  /**
+   * Iterates over the records of this request, page by page, fetching the next page while the
+   * current one is read.
+   *
+   * @return an iterator over the {@link AssetResponse} records, to close when it is not read to the
+   *     end
+   * @see PageIterator
+   */
+  public PageIterator<AssetResponse> iterate() {
+    return iterate(PageIterator.DEFAULT_PREFETCH_DEPTH);
+  }
+
+  /**
+   * Iterates over the records of this request, page by page, fetching up to {@code prefetchDepth}
+   * pages ahead of the page being read.
+   *
+   * @param prefetchDepth The number of pages to fetch ahead, 0 to fetch each page when it is read.
+   * @return an iterator over the {@link AssetResponse} records, to close when it is not read to the
+   *     end
+   * @throws IllegalArgumentException If prefetchDepth is negative.
+   * @see PageIterator
+   */
+  public PageIterator<AssetResponse> iterate(int prefetchDepth) {
+    return PageIterator.create(
+        httpClient, this.buildUri(), new TypeToken<Page<AssetResponse>>() {}, prefetchDepth);
+  }
+
   @Override
   public AssetsRequestBuilder cursor(String token) {
     super.cursor(token);
@@ -0,0 +1,29 @@
+package org.stellar.sdk.requests;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Receives the events of a stream in batches, see {@link BatchingEventListener}.
+ *
+ * @param <T> the Horizon response type delivered to the listener
+ */
+public interface BatchEventListener<T> {
+  /**
+   * This method will be called with the events received since the previous batch, in the order in
+   * which they were sent by the server.
+   *
+   * @param objects objects deserialized from the event data, never empty
+   */
+  void onEvents(List<T> objects);
+
+  /**
+   * This method will be called when the stream encounters an error, or when the queue of {@link
+   * BatchingEventListener} overflows with the {@link BatchingEventListener.OverflowPolicy#FAIL}
+   * policy.
+   *
+   * @param error exception which caused the failure
+   * @param responseCode the HTTP status code from the event stream response
+   */
+  void onFailure(Optional<Throwable> error, Optional<Integer> responseCode);
+}
@@ -0,0 +1,395 @@
+package org.stellar.sdk.requests;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.Value;
+import org.jetbrains.annotations.Nullable;
+import org.stellar.sdk.exception.EventQueueOverflowException;
+import org.stellar.sdk.responses.Pageable;
+
+/**
+ * An {@link EventListener} which queues the events of a stream and delivers them in batches to a
+ * {@link BatchEventListener}, on its own thread.
+ *
+ * <p>A plain {@link EventListener} is called on the thread reading the stream, so a slow listener
+ * stops the stream from reading, while a fast one is called once per event. With this listener, the
+ * reading thread only adds the events to a bounded queue; a batch is delivered once it holds {@code
+ * maxBatchSize} events, or {@code maxBatchDelay} after its first event. When the queue is full, the
+ * {@link OverflowPolicy} decides whether the reading thread waits, the oldest event is dropped, or
+ * the listener fails.
+ *
+ * <pre>{@code
+ * BatchingEventListener<LedgerResponse> batching =
+ *     new BatchingEventListener<>(
+ *         batchListener, 10000, 100, Duration.ofMillis(100), OverflowPolicy.BLOCK);
+ * SSEStream<LedgerResponse> stream = server.ledgers().cursor("now").stream(batching);
+ * ...
+ * stream.close();
+ * batching.close();
+ * }</pre>
+ *
+ * <p>Failures of the stream are delivered on the same thread as the batches, after the events
+ * received before them and before the events received after them.
+ *
+ * @param <T> the Horizon response type delivered to the listener
+ */
+public class BatchingEventListener<T> implements EventListener<T>, Closeable {
+  /** The default capacity of the event queue. */
+  public static final int DEFAULT_QUEUE_CAPACITY = 10000;
+
+  /** The default maximum number of events in a batch. */
+  public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
+  /** The default maximum delay between receiving an event and delivering its batch. */
+  public static final Duration DEFAULT_MAX_BATCH_DELAY = Duration.ofMillis(100);
+
+  // How often waiting threads check whether the listener was closed, in milliseconds.
+  private static final long CLOSE_CHECK_INTERVAL = 100;
+
+  /** What to do with an event received while the queue is full. */
+  public enum OverflowPolicy {
+    /**
+     * Wait until the queue has room. The stream stops reading, so the server is slowed down by the
+     * TCP flow control.
+     */
+    BLOCK,
+    /** Drop the oldest queued event to make room. */
+    DROP_OLDEST,
+    /**
+     * Drop the event and all the following ones until an {@link EventQueueOverflowException} is
+     * reported to the listener, after the queued events. The events received after that are queued
+     * again, so the listener should restart the stream from {@link
+     * EventQueueOverflowException#getLastDeliveredPagingToken()} or accept the gap.
+     */
+    FAIL
+  }
+
+  private final BatchEventListener<T> listener;
+  private final int queueCapacity;
+  private final int maxBatchSize;
+  private final long maxBatchDelayNanos;
+  private final OverflowPolicy overflowPolicy;
+  private final BlockingDeque<Queued<T>> queue;
+  private final Queue<Failure> failures = new ConcurrentLinkedQueue<>();
+  private final ExecutorService executorService;
+  private final AtomicBoolean overflowed = new AtomicBoolean(false);
+  // Numbers the queued events, so that failures are delivered after the events received before
+  // them.
+  private final AtomicLong lastIndex = new AtomicLong();
+  private final AtomicLong lastQueuedIndex = new AtomicLong();
+  private volatile boolean closed;
+
+  private final AtomicLong received = new AtomicLong();
+  private final AtomicLong delivered = new AtomicLong();
+  private final AtomicLong dropped = new AtomicLong();
+  private final AtomicLong batches = new AtomicLong();
+  private final AtomicReference<String> lastReceivedPagingToken = new AtomicReference<>(null);
+  private final AtomicReference<String> lastDeliveredPagingToken = new AtomicReference<>(null);
+
+  /**
+   * Creates a listener with a queue of {@value #DEFAULT_QUEUE_CAPACITY} events, batches of up to
+   * {@value #DEFAULT_MAX_BATCH_SIZE} events delivered within 100 milliseconds, and the {@link
+   * OverflowPolicy#BLOCK} policy.
+   *
+   * @param listener The listener receiving the batches.
+   */
+  public BatchingEventListener(BatchEventListener<T> listener) {
+    this(
+        listener,
+        DEFAULT_QUEUE_CAPACITY,
+        DEFAULT_MAX_BATCH_SIZE,
+        DEFAULT_MAX_BATCH_DELAY,
+        OverflowPolicy.BLOCK);
+  }
+
+  /**
+   * Creates a listener.
+   *
+   * @param listener The listener receiving the batches.
+   * @param queueCapacity The maximum number of events waiting to be delivered.
+   * @param maxBatchSize The maximum number of events in a batch.
+   * @param maxBatchDelay The maximum delay between receiving an event and delivering its batch.
+   * @param overflowPolicy What to do with an event received while the queue is full.
+   * @throws IllegalArgumentException If queueCapacity or maxBatchSize is less than or equal to 0,
+   *     or maxBatchDelay is negative.
+   */
+  public BatchingEventListener(
+      BatchEventListener<T> listener,
+      int queueCapacity,
+      int maxBatchSize,
+      Duration maxBatchDelay,
+      OverflowPolicy overflowPolicy) {
+    if (queueCapacity <= 0) {
+      throw new IllegalArgumentException("queueCapacity must be greater than 0");
+    }
+    if (maxBatchSize <= 0) {
+      throw new IllegalArgumentException("maxBatchSize must be greater than 0");
+    }
+    if (maxBatchDelay.isNegative()) {
+      throw new IllegalArgumentException("maxBatchDelay must not be negative");
+    }
+    this.listener = listener;
+    this.queueCapacity = queueCapacity;
+    this.maxBatchSize = maxBatchSize;
+    this.maxBatchDelayNanos = maxBatchDelay.toNanos();
+    this.overflowPolicy = overflowPolicy;
+    this.queue = new LinkedBlockingDeque<>(queueCapacity);
+    this.executorService = Executors.newSingleThreadExecutor();
+    this.executorService.execute(this::deliverEvents);
+  }
+
+  @Override
+  public void onEvent(T object) {
+    if (closed) {
+      return;
+    }
+    received.incrementAndGet();
+    String pagingToken = pagingToken(object);
+    if (pagingToken != null) {
+      lastReceivedPagingToken.set(pagingToken);
+    }
+    if (overflowed.get()) {
+      dropped.incrementAndGet();
+      return;
+    }
+    Queued<T> queued = new Queued<>(lastIndex.incrementAndGet(), object);
+    switch (overflowPolicy) {
+      case BLOCK:
+        try {
+          while (!queue.offerLast(queued, CLOSE_CHECK_INTERVAL, TimeUnit.MILLISECONDS)) {
+            if (closed) {
+              dropped.incrementAndGet();
+              return;
+            }
+          }
+        } catch (InterruptedException e) {
+          dropped.incrementAndGet();
+          Thread.currentThread().interrupt();
+          return;
+        }
+        break;
+      case DROP_OLDEST:
+        while (!queue.offerLast(queued)) {
+          if (queue.pollFirst() != null) {
+            dropped.incrementAndGet();
+          }
+        }
+        break;
+      case FAIL:
+        if (!queue.offerLast(queued)) {
+          dropped.incrementAndGet();
+          if (overflowed.compareAndSet(false, true)) {
+            failures.add(new Failure(null, null, lastQueuedIndex.get(), true));
+          }
+          return;
+        }
+        break;
+    }
+    lastQueuedIndex.accumulateAndGet(queued.index, Math::max);
+  }
+
+  @Override
+  public void onFailure(Optional<Throwable> error, Optional<Integer> responseCode) {
+    if (!closed) {
+      failures.add(
+          new Failure(error.orElse(null), responseCode.orElse(null), lastQueuedIndex.get(), false));
+    }
+  }
+
+  /**
+   * Returns a snapshot of the listener metrics.
+   *
+   * @return the listener metrics
+   */
+  public Metrics getMetrics() {
+    long receivedCount = received.get();
+    long deliveredCount = delivered.get();
+    long droppedCount = dropped.get();
+    return new Metrics(
+        queue.size(),
+        receivedCount,
+        deliveredCount,
+        droppedCount,
+        batches.get(),
+        receivedCount - deliveredCount - droppedCount,
+        lastReceivedPagingToken.get(),
+        lastDeliveredPagingToken.get());
+  }
+
+  /**
+   * Stops accepting events. The events already queued are still delivered, then the delivery thread
+   * stops. Close the stream first, so that it does not wait for room in the queue.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    executorService.shutdown();
+  }
+
+  private void deliverEvents() {
+    long lastDeliveredIndex = 0;
+    try {
+      while (!closed || !queue.isEmpty()) {
+        deliverFailures(lastDeliveredIndex);
+        Queued<T> first = queue.pollFirst(CLOSE_CHECK_INTERVAL, TimeUnit.MILLISECONDS);
+        if (first != null) {
+          List<Queued<T>> batch = new ArrayList<>(maxBatchSize);
+          batch.add(first);
+          long deadline = System.nanoTime() + maxBatchDelayNanos;
+          // A closed listener delivers the queued events without waiting for the batch to fill.
+          while (batch.size() < maxBatchSize && !closed) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxBatchSize || remaining <= 0) {
+              break;
+            }
+            Queued<T> next =
+                queue.pollFirst(
+                    Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(CLOSE_CHECK_INTERVAL)),
+                    TimeUnit.NANOSECONDS);
+            if (next != null) {
+              batch.add(next);
+            }
+          }
+          deliverInOrder(batch);
+          lastDeliveredIndex = batch.get(batch.size() - 1).index;
+        }
+      }
+      deliverFailures(Long.MAX_VALUE);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /** Delivers a batch, split around the failures received between its events. */
+  private void deliverInOrder(List<Queued<T>> batch) {
+    int start = 0;
+    while (start < batch.size()) {
+      deliverFailures(batch.get(start).index - 1);
+      Failure next = failures.peek();
+      int end = start + 1;
+      while (end < batch.size() && (next == null || batch.get(end).index <= next.afterIndex)) {
+        end++;
+      }
+      List<T> events = new ArrayList<>(end - start);
+      for (Queued<T> queued : batch.subList(start, end)) {
+        events.add(queued.event);
+      }
+      deliver(events);
+      start = end;
+    }
+  }
+
+  private void deliver(List<T> batch) {
+    // The metrics are updated before the listener is called, so that they are up to date when it
+    // reads them.
+    delivered.addAndGet(batch.size());
+    batches.incrementAndGet();
+    String pagingToken = pagingToken(batch.get(batch.size() - 1));
+    if (pagingToken != null) {
+      lastDeliveredPagingToken.set(pagingToken);
+    }
+    try {
+      listener.onEvents(batch);
+    } catch (RuntimeException e) {
+      // A failing batch must not stop the delivery of the following ones.
+      notifyFailure(e, null);
+    }
+  }
+
+  /** Delivers the failures received after at most the event with the given index. */
+  private void deliverFailures(long index) {
+    Failure failure;
+    while ((failure = failures.peek()) != null && failure.afterIndex <= index) {
+      failures.poll();
+      Throwable error = failure.error;
+      if (failure.overflow) {
+        error = new EventQueueOverflowException(queueCapacity, lastDeliveredPagingToken.get());
+        // The events received from now on are delivered after the failure.
+        overflowed.set(false);
+      }
+      notifyFailure(error, failure.responseCode);
+    }
+  }
+
+  private void notifyFailure(@Nullable Throwable error, @Nullable Integer responseCode) {
+    try {
+      listener.onFailure(Optional.ofNullable(error), Optional.ofNullable(responseCode));
+    } catch (RuntimeException e) {
+      // Nothing else can be told to the listener.
+    }
+  }
+
+  @Nullable
+  private static String pagingToken(Object object) {
+    return object instanceof Pageable ? ((Pageable) object).getPagingToken() : null;
+  }
+
+  @Value
+  private static class Queued<T> {
+    long index;
+    T event;
+  }
+
+  @Value
+  private static class Failure {
+    @Nullable Throwable error;
+    @Nullable Integer responseCode;
+
+    /** The index of the last event queued before the failure. */
+    long afterIndex;
+
+    /** Whether the failure is an overflow of the queue, reported when it is delivered. */
+    boolean overflow;
+  }
+
+  /** A snapshot of the {@link BatchingEventListener} metrics. */
+  @Value
+  public static class Metrics {
+    /** The number of events waiting in the queue. */
+    int queueDepth;
+
+    /** The number of events received from the stream. */
+    long receivedCount;
+
+    /** The number of events handed to the listener. */
+    long deliveredCount;
+
+    /** The number of events dropped because the queue was full or the listener was closed. */
+    long droppedCount;
+
+    /** The number of batches handed to the listener. */
+    long batchCount;
+
+    /**
+     * The number of received events which are neither delivered nor dropped, i.e. how far the
+     * listener is behind {@link SSEStream#lastPagingToken()}.
+     */
+    long lag;
+
+    /**
+     * The paging token of the last event received from the stream, the same as {@link
+     * SSEStream#lastPagingToken()} for Horizon streams.
+     */
+    @Nullable String lastReceivedPagingToken;
+
+    /**
+     * The paging token of the last event handed to the listener, the cursor to restart the stream
+     * from after an {@link EventQueueOverflowException}.
+     */
+    @Nullable String lastDeliveredPagingToken;
+  }
+}
@@ -1,6 +1,7 @@
 package org.stellar.sdk.requests;
 
 import com.google.gson.reflect.TypeToken;
+import java.util.concurrent.CompletableFuture;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import org.stellar.sdk.Asset;
@@ -137,6 +138,47 @@ public class ClaimableBalancesRequestBuilder extends RequestBuilder {
     return execute(this.httpClient, this.buildUri());
   }
 
+  /**
+   * Build and execute request asynchronously, without blocking the calling thread.
+   *
+   * @return a future completed with the {@link Page} of {@link ClaimableBalanceResponse}, or with
+   *     one of the exceptions thrown by {@link #execute()}
+   */
+  public CompletableFuture<Page<ClaimableBalanceResponse>> executeAsync() {
+    return executeGetRequestAsync(
+        httpClient, this.buildUri(), new TypeToken<Page<ClaimableBalanceResponse>>() {});
+  }
+
+  /**
+   * Iterates over the records of this request, page by page, fetching the next page while the
+   * current one is read.
+   *
+   * @return an iterator over the {@link ClaimableBalanceResponse} records, to close when it is not
+   *     read to the end
+   * @see PageIterator
+   */
+  public PageIterator<ClaimableBalanceResponse> iterate() {
+    return iterate(PageIterator.DEFAULT_PREFETCH_DEPTH);
+  }
+
+  /**
+   * Iterates over the records of this request, page by page, fetching up to {@code prefetchDepth}
+   * pages ahead of the page being read.
+   *
+   * @param prefetchDepth The number of pages to fetch ahead, 0 to fetch each page when it is read.
+   * @return an iterator over the {@link ClaimableBalanceResponse} records, to close when it is not
+   *     read to the end
+   * @throws IllegalArgumentException If prefetchDepth is negative.
+   * @see PageIterator
+   */
+  public PageIterator<ClaimableBalanceResponse> iterate(int prefetchDepth) {
+    return PageIterator.create(
+        httpClient,
+        this.buildUri(),
+        new TypeToken<Page<ClaimableBalanceResponse>>() {},
+        prefetchDepth);
+  }
+
   @Override
   public ClaimableBalancesRequestBuilder cursor(String token) {
     super.cursor(token);
@@ -1,6 +1,7 @@
 package org.stellar.sdk.requests;
 
 import com.google.gson.reflect.TypeToken;
+import java.util.concurrent.CompletableFuture;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import org.stellar.sdk.exception.ConnectionErrorException;
@@ -43,4 +44,15 @@ public class FeeStatsRequestBuilder extends RequestBuilder {
     TypeToken<FeeStatsResponse> type = new TypeToken<FeeStatsResponse>() {};
     return executeGetRequest(httpClient, this.buildUri(), type);
   }
+
+  /**
+   * Build and execute request asynchronously, without blocking the calling thread.
+   *
+   * @return a future completed with the {@link FeeStatsResponse}, or with one of the exceptions
+   *     thrown by {@link #execute()}
+   */
+  public CompletableFuture<FeeStatsResponse> executeAsync() {
+    return executeGetRequestAsync(
+        httpClient, this.buildUri(), new TypeToken<FeeStatsResponse>() {});
+  }
 }
@@ -0,0 +1,332 @@
+package org.stellar.sdk.requests;
+
+import com.google.gson.reflect.TypeToken;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import okhttp3.Dispatcher;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import org.jetbrains.annotations.Nullable;
+import org.stellar.sdk.TOID;
+import org.stellar.sdk.responses.Page;
+import org.stellar.sdk.responses.Pageable;
+import org.stellar.sdk.responses.TradeResponse;
+import org.stellar.sdk.responses.TransactionResponse;
+import org.stellar.sdk.responses.effects.EffectResponse;
+import org.stellar.sdk.responses.operations.OperationResponse;
+
+/**
+ * Exports the history of a ledger range, e.g. all the operations of an account between two ledgers.
+ *
+ * <p>The range is split into shards of consecutive ledgers, which are fetched concurrently and
+ * handed to the consumer in ascending order, on the calling thread. After each page, and when the
+ * export fails, the cursor of the shard is saved in a {@link CheckpointStore}. An interrupted
+ * export started again with the same range, number of shards and store resumes where it stopped;
+ * only the records of the last page may be handed again if the process itself was stopped.
+ *
+ * <pre>{@code
+ * HistoryExporter<OperationResponse> exporter =
+ *     HistoryExporter.operations(server.operations().forAccount(accountId).limit(200))
+ *         .shardCount(8)
+ *         .maxRequestsPerSecond(10)
+ *         .checkpointStore(store);
+ * long exported = exporter.export(TOID.ledgerRangeInclusive(from, to), writer::write);
+ * }</pre>
+ *
+ * <p>The pages of a shard follow each other's {@code next} link, so each shard fetches one page at
+ * a time. Each shard fills its own buffer of up to {@link #prefetchDepth(int)} pages whether or not
+ * the consumer has reached it yet, so the shards after the one being consumed are fetched in the
+ * meantime. At most {@code shardCount * prefetchDepth} pages are held in memory. The number of
+ * requests sent in parallel to the same host is also bounded by the {@link okhttp3.Dispatcher} of
+ * the client, 5 by default.
+ *
+ * @param <T> the type of the exported records
+ */
+public class HistoryExporter<T extends Pageable> {
+  /** The default number of shards. */
+  public static final int DEFAULT_SHARD_COUNT = 4;
+
+  /** The default number of pages buffered in each shard. */
+  public static final int DEFAULT_PREFETCH_DEPTH = 8;
+
+  private final OkHttpClient httpClient;
+  private final HttpUrl url;
+  private final TypeToken<Page<T>> type;
+  private final boolean pairToken;
+  private int shardCount = DEFAULT_SHARD_COUNT;
+  private int prefetchDepth = DEFAULT_PREFETCH_DEPTH;
+  private double maxRequestsPerSecond;
+  private CheckpointStore checkpointStore = new InMemoryCheckpointStore();
+
+  private HistoryExporter(
+      OkHttpClient httpClient, HttpUrl url, TypeToken<Page<T>> type, boolean pairToken) {
+    this.httpClient = httpClient;
+    this.url = url;
+    this.type = type;
+    this.pairToken = pairToken;
+  }
+
+  /**
+   * Creates an exporter of the operations of a request, e.g. {@code
+   * server.operations().forAccount(accountId)}. The cursor and order of the request are ignored.
+   *
+   * @param requestBuilder The request of the operations to export.
+   * @return the exporter
+   */
+  public static HistoryExporter<OperationResponse> operations(
+      OperationsRequestBuilder requestBuilder) {
+    return new HistoryExporter<>(
+        requestBuilder.httpClient,
+        requestBuilder.buildUri(),
+        new TypeToken<Page<OperationResponse>>() {},
+        false);
+  }
+
+  /**
+   * Creates an exporter of the effects of a request, e.g. {@code
+   * server.effects().forAccount(accountId)}. The cursor and order of the request are ignored.
+   *
+   * @param requestBuilder The request of the effects to export.
+   * @return the exporter
+   */
+  public static HistoryExporter<EffectResponse> effects(EffectsRequestBuilder requestBuilder) {
+    return new HistoryExporter<>(
+        requestBuilder.httpClient,
+        requestBuilder.buildUri(),
+        new TypeToken<Page<EffectResponse>>() {},
+        true);
+  }
+
+  /**
+   * Creates an exporter of the transactions of a request, e.g. {@code
+   * server.transactions().forAccount(accountId)}. The cursor and order of the request are ignored.
+   *
+   * @param requestBuilder The request of the transactions to export.
+   * @return the exporter
+   */
+  public static HistoryExporter<TransactionResponse> transactions(
+      TransactionsRequestBuilder requestBuilder) {
+    return new HistoryExporter<>(
+        requestBuilder.httpClient,
+        requestBuilder.buildUri(),
+        new TypeToken<Page<TransactionResponse>>() {},
+        false);
+  }
+
+  /**
+   * Creates an exporter of the trades of a request, e.g. {@code
+   * server.trades().forAccount(accountId)}. The cursor and order of the request are ignored.
+   *
+   * @param requestBuilder The request of the trades to export.
+   * @return the exporter
+   */
+  public static HistoryExporter<TradeResponse> trades(TradesRequestBuilder requestBuilder) {
+    return new HistoryExporter<>(
+        requestBuilder.httpClient,
+        requestBuilder.buildUri(),
+        new TypeToken<Page<TradeResponse>>() {},
+        true);
+  }
+
+  /**
+   * Sets the number of shards the range is split into, {@value #DEFAULT_SHARD_COUNT} by default.
+   *
+   * @param shardCount The maximum number of shards fetched concurrently.
+   * @return this exporter
+   * @throws IllegalArgumentException If shardCount is less than or equal to 0.
+   */
+  public HistoryExporter<T> shardCount(int shardCount) {
+    if (shardCount <= 0) {
+      throw new IllegalArgumentException("shardCount must be greater than 0");
+    }
+    this.shardCount = shardCount;
+    return this;
+  }
+
+  /**
+   * Sets the number of pages each shard fetches and buffers before they are handed to the consumer,
+   * {@value #DEFAULT_PREFETCH_DEPTH} by default. A shard keeps fetching until its buffer is full,
+   * even while the consumer is still reading an earlier shard. With 0, a shard only fetches its
+   * first page ahead, and each next page once the previous one was handed to the consumer.
+   *
+   * @param prefetchDepth The maximum number of pages buffered in each shard.
+   * @return this exporter
+   * @throws IllegalArgumentException If prefetchDepth is negative.
+   */
+  public HistoryExporter<T> prefetchDepth(int prefetchDepth) {
+    if (prefetchDepth < 0) {
+      throw new IllegalArgumentException("prefetchDepth must not be negative");
+    }
+    this.prefetchDepth = prefetchDepth;
+    return this;
+  }
+
+  /**
+   * Sets the budget of requests sent per second by all the shards together. There is no budget by
+   * default.
+   *
+   * @param maxRequestsPerSecond The maximum number of requests per second, 0 for no budget.
+   * @return this exporter
+   * @throws IllegalArgumentException If maxRequestsPerSecond is negative.
+   */
+  public HistoryExporter<T> maxRequestsPerSecond(double maxRequestsPerSecond) {
+    if (maxRequestsPerSecond < 0) {
+      throw new IllegalArgumentException("maxRequestsPerSecond must not be negative");
+    }
+    this.maxRequestsPerSecond = maxRequestsPerSecond;
+    return this;
+  }
+
+  /**
+   * Sets the store of the shard cursors. By default, the cursors are kept in memory by the
+   * exporter.
+   *
+   * @param checkpointStore The store of the shard cursors.
+   * @return this exporter
+   */
+  public HistoryExporter<T> checkpointStore(CheckpointStore checkpointStore) {
+    this.checkpointStore = checkpointStore;
+    return this;
+  }
+
+  /**
+   * Exports the records whose paging token is in the given range, skipping the shards and records
+   * already exported according to the checkpoint store.
+   *
+   * @param range The range of paging tokens, e.g. {@link TOID#ledgerRangeInclusive(int, int)}.
+   * @param consumer The consumer of the records, called in ascending order on the calling thread.
+   * @return the number of records handed to the consumer
+   * @throws IllegalArgumentException If the range is empty.
+   * @throws org.stellar.sdk.exception.NetworkException If a page cannot be fetched, see {@link
+   *     OperationsRequestBuilder#execute()}. The cursors of the records already handed to the
+   *     consumer are saved.
+   */
+  public long export(TOID.TOIDRange range, Consumer<? super T> consumer) {
+    OkHttpClient client = httpClient;
+    Dispatcher dispatcher = null;
+    if (maxRequestsPerSecond > 0) {
+      // The rate limit waits on dispatcher threads, so the export gets its own dispatcher, with the
+      // same limits, to not hold up the other calls of the client.
+      dispatcher = new Dispatcher();
+      dispatcher.setMaxRequests(httpClient.dispatcher().getMaxRequests());
+      dispatcher.setMaxRequestsPerHost(httpClient.dispatcher().getMaxRequestsPerHost());
+      client =
+          httpClient
+              .newBuilder()
+              .dispatcher(dispatcher)
+              .addInterceptor(
+                  new RateLimitInterceptor(maxRequestsPerSecond, 1, Integer.MAX_VALUE, 0))
+              .build();
+    }
+    List<TOID.TOIDRange> shards = PagePrefetcher.splitRange(range, shardCount);
+    // All the shards start fetching right away, and are read in order.
+    List<PagePrefetcher<T>> fetchers = new ArrayList<>();
+    long exported = 0;
+    try {
+      for (TOID.TOIDRange shard : shards) {
+        String cursor = checkpointStore.load(shard);
+        if (cursor != null && PagePrefetcher.toid(cursor) >= shard.getEnd() - 1) {
+          fetchers.add(null);
+          continue;
+        }
+        HttpUrl shardUrl =
+            url.newBuilder()
+                .setQueryParameter(
+                    "cursor",
+                    cursor != null
+                        ? cursor
+                        : PagePrefetcher.startCursor(shard.getStart(), pairToken))
+                .setQueryParameter("order", RequestBuilder.Order.ASC.getValue())
+                .build();
+        fetchers.add(new PagePrefetcher<>(client, type, prefetchDepth, shardUrl, shard.getEnd()));
+      }
+
+      for (int i = 0; i < shards.size(); i++) {
+        PagePrefetcher<T> fetcher = fetchers.get(i);
+        if (fetcher == null) {
+          continue;
+        }
+        List<T> records;
+        while ((records = fetcher.nextRecords()) != null) {
+          String cursor = null;
+          try {
+            for (T record : records) {
+              consumer.accept(record);
+              cursor = record.getPagingToken();
+              exported++;
+            }
+          } finally {
+            if (cursor != null) {
+              checkpointStore.save(shards.get(i), cursor);
+            }
+          }
+        }
+        // The end of the shard, as a cursor, marks the shard as exported.
+        checkpointStore.save(shards.get(i), String.valueOf(shards.get(i).getEnd() - 1));
+      }
+    } finally {
+      for (PagePrefetcher<T> fetcher : fetchers) {
+        if (fetcher != null) {
+          fetcher.close();
+        }
+      }
+      if (dispatcher != null) {
+        dispatcher.executorService().shutdown();
+      }
+    }
+    return exported;
+  }
+
+  /**
+   * Stores the cursor of each shard of an export. Implementations persisting the cursors allow an
+   * export to resume after the process was stopped.
+   */
+  public interface CheckpointStore {
+    /**
+     * Returns the saved cursor of a shard.
+     *
+     * @param shard The range of the shard.
+     * @return the paging token of the last record exported from the shard, or null if none was
+     *     exported
+     */
+    @Nullable
+    String load(TOID.TOIDRange shard);
+
+    /**
+     * Saves the cursor of a shard.
+     *
+     * @param shard The range of the shard.
+     * @param cursor The paging token of the last record exported from the shard.
+     */
+    void save(TOID.TOIDRange shard, String cursor);
+  }
+
+  /** A {@link CheckpointStore} keeping the cursors in memory. */
+  public static class InMemoryCheckpointStore implements CheckpointStore {
+    private final Map<TOID.TOIDRange, String> cursors = new ConcurrentHashMap<>();
+
+    @Nullable
+    @Override
+    public String load(TOID.TOIDRange shard) {
+      return cursors.get(shard);
+    }
+
+    @Override
+    public void save(TOID.TOIDRange shard, String cursor) {
+      cursors.put(shard, cursor);
+    }
+
+    /**
+     * Returns the saved cursors.
+     *
+     * @return the cursor of each shard which was started
+     */
+    public Map<TOID.TOIDRange, String> getCursors() {
+      return Collections.unmodifiableMap(cursors);
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package org.stellar.sdk.requests;
 
 import com.google.gson.reflect.TypeToken;
+import java.util.concurrent.CompletableFuture;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import org.stellar.sdk.Asset;
@@ -170,6 +171,24 @@ public class OffersRequestBuilder extends RequestBuilder {
     return SSEStream.create(httpClient, this, OfferResponse.class, listener, reconnectTimeout);
   }
 
+  /**
+   * An overloaded version of {@link #stream(EventListener, long)} whose stream runs on the
+   * scheduler, connections and reconnect limit shared by the streams of an {@link
+   * SSEStreamManager}.
+   *
+   * @param listener {@link EventListener} implementation with {@link OfferResponse} type
+   * @param reconnectTimeout Custom stream connection timeout in ms
+   * @param streamManager the {@link SSEStreamManager} running the stream
+   * @return an {@link SSEStream} for real-time event streaming
+   */
+  public SSEStream<OfferResponse> stream(
+      final EventListener<OfferResponse> listener,
+      long reconnectTimeout,
+      SSEStreamManager streamManager) {
+    return SSEStream.create(
+        httpClient, this, OfferResponse.class, listener, reconnectTimeout, streamManager);
+  }
+
   /**
    * An overloaded version of {@link #stream(EventListener, long)} with default reconnect timeout.
    *
@@ -192,6 +211,44 @@ public class OffersRequestBuilder extends RequestBuilder {
     return execute(this.httpClient, this.buildUri());
   }
 
+  /**
+   * Build and execute request asynchronously, without blocking the calling thread.
+   *
+   * @return a future completed with the {@link Page} of {@link OfferResponse}, or with one of the
+   *     exceptions thrown by {@link #execute()}
+   */
+  public CompletableFuture<Page<OfferResponse>> executeAsync() {
+    return executeGetRequestAsync(
+        httpClient, this.buildUri(), new TypeToken<Page<OfferResponse>>() {});
+  }
+
+  /**
+   * Iterates over the records of this request, page by page, fetching the next page while the
+   * current one is read.
+   *
+   * @return an iterator over the {@link OfferResponse} records, to close when it is not read to the
+   *     end
+   * @see PageIterator
+   */
+  public PageIterator<OfferResponse> iterate() {
+    return iterate(PageIterator.DEFAULT_PREFETCH_DEPTH);
+  }
+
+  /**
+   * Iterates over the records of this request, page by page, fetching up to {@code prefetchDepth}
+   * pages ahead of the page being read.
+   *
+   * @param prefetchDepth The number of pages to fetch ahead, 0 to fetch each page when it is read.
+   * @return an iterator over the {@link OfferResponse} records, to close when it is not read to the
+   *     end
+   * @throws IllegalArgumentException If prefetchDepth is negative.
+   * @see PageIterator
+   */
+  public PageIterator<OfferResponse> iterate(int prefetchDepth) {
+    return PageIterator.create(
+        httpClient, this.buildUri(), new TypeToken<Page<OfferResponse>>() {}, prefetchDepth);
+  }
+
   @Override
   public OffersRequestBuilder cursor(String token) {
     super.cursor(token);
@@ -0,0 +1,142 @@
+package org.stellar.sdk.requests;
+
+import com.google.gson.reflect.TypeToken;
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import org.stellar.sdk.TOID;
+import org.stellar.sdk.responses.Page;
+import org.stellar.sdk.responses.Pageable;
+
+/**
+ * Iterates over the records of a Horizon collection, following the {@code next} links of its pages.
+ *
+ * <p>Unlike a loop over {@link Page#getNextPage(OkHttpClient)}, the iterator requests the next
+ * pages while the current one is consumed, up to {@code prefetchDepth} pages ahead. The iteration
+ * ends with the first empty page.
+ *
+ * <p>An iterator over a {@link TOID.TOIDRange}, e.g. {@link
+ * OperationsRequestBuilder#iterate(TOID.TOIDRange, int, int)}, splits the range into shards of
+ * consecutive ledgers, which are fetched in parallel and returned in ascending order. The number of
+ * requests sent in parallel to the same host is also bounded by the {@link okhttp3.Dispatcher} of
+ * the client, 5 by default.
+ *
+ * <pre>{@code
+ * try (PageIterator<OperationResponse> operations =
+ *     server.operations().limit(200).iterate(TOID.ledgerRangeInclusive(from, to), 4, 2)) {
+ *   operations.stream().filter(...).forEach(...);
+ * }
+ * }</pre>
+ *
+ * <p>Close the iterator when it is not read to the end, so that the pages still being fetched are
+ * cancelled. {@link #hasNext()} and {@link #next()} throw the exceptions of {@link
+ * OperationsRequestBuilder#execute()} when a page cannot be fetched.
+ *
+ * @param <T> the type of the records
+ */
+public class PageIterator<T> implements Iterator<T>, Closeable {
+  /** The default number of pages fetched ahead of the page being read. */
+  public static final int DEFAULT_PREFETCH_DEPTH = 1;
+
+  private final List<PagePrefetcher<T>> shards;
+  private int shardIndex;
+  private Iterator<T> records = Collections.emptyIterator();
+
+  private PageIterator(List<PagePrefetcher<T>> shards) {
+    this.shards = shards;
+  }
+
+  /**
+   * Creates an iterator over the records of the collection, starting with the page at the given
+   * URL.
+   */
+  static <T> PageIterator<T> create(
+      OkHttpClient httpClient, HttpUrl url, TypeToken<Page<T>> type, int prefetchDepth) {
+    return new PageIterator<>(
+        Collections.singletonList(
+            new PagePrefetcher<>(httpClient, type, prefetchDepth, url, PagePrefetcher.UNBOUNDED)));
+  }
+
+  /**
+   * Creates an iterator over the records of the collection whose paging token is in the given
+   * range, in ascending order. The {@code cursor} and {@code order} parameters of the URL are
+   * replaced.
+   *
+   * @param pairToken Whether the paging tokens of the records are made of a TOID and an index.
+   */
+  static <T extends Pageable> PageIterator<T> create(
+      OkHttpClient httpClient,
+      HttpUrl url,
+      TypeToken<Page<T>> type,
+      TOID.TOIDRange range,
+      boolean pairToken,
+      int shardCount,
+      int prefetchDepth) {
+    if (prefetchDepth < 0) {
+      throw new IllegalArgumentException("prefetchDepth must not be negative");
+    }
+    List<PagePrefetcher<T>> shards = new ArrayList<>();
+    for (TOID.TOIDRange shard : PagePrefetcher.splitRange(range, shardCount)) {
+      HttpUrl shardUrl =
+          url.newBuilder()
+              .setQueryParameter("cursor", PagePrefetcher.startCursor(shard.getStart(), pairToken))
+              .setQueryParameter("order", RequestBuilder.Order.ASC.getValue())
+              .build();
+      shards.add(new PagePrefetcher<>(httpClient, type, prefetchDepth, shardUrl, shard.getEnd()));
+    }
+    return new PageIterator<>(shards);
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (!records.hasNext() && shardIndex < shards.size()) {
+      List<T> page = shards.get(shardIndex).nextRecords();
+      if (page == null) {
+        shardIndex++;
+      } else {
+        records = page.iterator();
+      }
+    }
+    return records.hasNext();
+  }
+
+  @Override
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return records.next();
+  }
+
+  /**
+   * Returns a sequential {@link Stream} of the remaining records. Closing the stream closes this
+   * iterator.
+   *
+   * @return a stream of the remaining records
+   */
+  public Stream<T> stream() {
+    return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL),
+            false)
+        .onClose(this::close);
+  }
+
+  /** Stops the iteration, and cancels the requests of the pages which are still being fetched. */
+  @Override
+  public void close() {
+    for (PagePrefetcher<T> shard : shards) {
+      shard.close();
+    }
+    shardIndex = shards.size();
+    records = Collections.emptyIterator();
+  }
+}
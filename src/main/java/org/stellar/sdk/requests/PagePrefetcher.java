@@ -0,0 +1,204 @@
+package org.stellar.sdk.requests;
+
+import com.google.gson.reflect.TypeToken;
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import org.jetbrains.annotations.Nullable;
+import org.stellar.sdk.TOID;
+import org.stellar.sdk.responses.Page;
+import org.stellar.sdk.responses.Pageable;
+
+/**
+ * Fetches the pages of a single chain of {@code next} links into a buffer of up to {@code
+ * prefetchDepth} pages not read yet, and optionally up to an exclusive paging token. The buffer is
+ * refilled as soon as a page arrives, whether or not pages are being read.
+ *
+ * @param <T> the type of the records
+ */
+class PagePrefetcher<T> implements Closeable {
+  static final long UNBOUNDED = Long.MAX_VALUE;
+
+  private final OkHttpClient httpClient;
+  private final TypeToken<Page<T>> type;
+  private final int prefetchDepth;
+  private final long end;
+  // The pages fetched or being fetched, which were not read yet. Guarded by this.
+  private final Deque<CompletableFuture<Page<T>>> pages = new ArrayDeque<>();
+  private CompletableFuture<Page<T>> lastPage;
+  private boolean closed;
+
+  /**
+   * @param end The exclusive TOID at which the records stop, or {@link #UNBOUNDED}. The records
+   *     must be {@link Pageable} when bounded.
+   */
+  PagePrefetcher(
+      OkHttpClient httpClient,
+      TypeToken<Page<T>> type,
+      int prefetchDepth,
+      HttpUrl firstPage,
+      long end) {
+    if (prefetchDepth < 0) {
+      throw new IllegalArgumentException("prefetchDepth must not be negative");
+    }
+    this.httpClient = httpClient;
+    this.type = type;
+    this.prefetchDepth = prefetchDepth;
+    this.end = end;
+    fetch(firstPage);
+  }
+
+  /**
+   * Returns the records of the next page which are before the end.
+   *
+   * @return the records, never empty, or null once there are no records left
+   */
+  @Nullable
+  List<T> nextRecords() {
+    Page<T> page = takePage();
+    if (page == null || page.getRecords() == null || page.getRecords().isEmpty()) {
+      close();
+      return null;
+    }
+    List<T> records = page.getRecords();
+    if (end != UNBOUNDED) {
+      int count = 0;
+      while (count < records.size() && toid(records.get(count)) < end) {
+        count++;
+      }
+      if (count < records.size()) {
+        close();
+        return count == 0 ? null : records.subList(0, count);
+      }
+    }
+    return records;
+  }
+
+  /** Stops fetching, and cancels the requests of the pages which are still being fetched. */
+  @Override
+  public synchronized void close() {
+    closed = true;
+    for (CompletableFuture<Page<T>> page : pages) {
+      page.cancel(true);
+    }
+    pages.clear();
+  }
+
+  @Nullable
+  private Page<T> takePage() {
+    CompletableFuture<Page<T>> page;
+    synchronized (this) {
+      if (closed) {
+        return null;
+      }
+      if (pages.isEmpty()) {
+        // Without prefetching, the next page is only requested once the last one was read.
+        HttpUrl next = nextPageUrl(lastPage.join());
+        if (next == null) {
+          return null;
+        }
+        fetch(next);
+      }
+      page = pages.pollFirst();
+    }
+    fetchAhead();
+    try {
+      return page.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  private synchronized void fetch(HttpUrl url) {
+    lastPage = RequestBuilder.executeGetRequestAsync(httpClient, url, type);
+    pages.addLast(lastPage);
+    lastPage.whenComplete((page, throwable) -> fetchAhead());
+  }
+
+  private synchronized void fetchAhead() {
+    if (closed
+        || pages.size() >= prefetchDepth
+        || !lastPage.isDone()
+        || lastPage.isCompletedExceptionally()) {
+      return;
+    }
+    HttpUrl next = nextPageUrl(lastPage.join());
+    if (next != null) {
+      fetch(next);
+    }
+  }
+
+  @Nullable
+  private HttpUrl nextPageUrl(Page<T> page) {
+    List<T> records = page.getRecords();
+    if (records == null
+        || records.isEmpty()
+        || page.getLinks() == null
+        || page.getLinks().getNext() == null) {
+      return null;
+    }
+    if (end != UNBOUNDED && toid(records.get(records.size() - 1)) >= end) {
+      return null;
+    }
+    return HttpUrl.parse(page.getLinks().getNext().getHref());
+  }
+
+  private static long toid(Object record) {
+    return toid(((Pageable) record).getPagingToken());
+  }
+
+  /**
+   * Returns the TOID of a paging token. Effects and trades have paging tokens like {@code
+   * "12884905985-1"}, made of the TOID of their operation and their index.
+   */
+  static long toid(String pagingToken) {
+    int separator = pagingToken.indexOf('-');
+    return Long.parseLong(separator < 0 ? pagingToken : pagingToken.substring(0, separator));
+  }
+
+  /**
+   * Returns the cursor to start from to include the records from the given TOID, as the cursor is
+   * exclusive.
+   *
+   * @param pairToken Whether the paging tokens of the records are made of a TOID and an index.
+   */
+  static String startCursor(long toid, boolean pairToken) {
+    String cursor = String.valueOf(Math.max(toid - 1, 0));
+    return pairToken ? cursor + "-0" : cursor;
+  }
+
+  /**
+   * Splits the range on ledger boundaries into at most {@code shardCount} ranges, which cover about
+   * the same number of ledgers.
+   */
+  static List<TOID.TOIDRange> splitRange(TOID.TOIDRange range, int shardCount) {
+    if (shardCount <= 0) {
+      throw new IllegalArgumentException("shardCount must be greater than 0");
+    }
+    if (range.getStart() >= range.getEnd()) {
+      throw new IllegalArgumentException("range must not be empty");
+    }
+    long firstLedger = range.getStart() >>> 32;
+    long ledgers = (range.getEnd() >>> 32) - firstLedger;
+    List<TOID.TOIDRange> shards = new ArrayList<>();
+    long start = range.getStart();
+    for (int i = 1; i < shardCount; i++) {
+      long bound = (firstLedger + ledgers * i / shardCount) << 32;
+      if (bound > start && bound < range.getEnd()) {
+        shards.add(new TOID.TOIDRange(start, bound));
+        start = bound;
+      }
+    }
+    shards.add(new TOID.TOIDRange(start, range.getEnd()));
+    return shards;
+  }
+}
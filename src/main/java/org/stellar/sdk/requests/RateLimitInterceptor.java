@@ -0,0 +1,393 @@
+package org.stellar.sdk.requests;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.Value;
+import okhttp3.Call;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An OkHttp {@link Interceptor} that keeps the requests of one or more clients within a client-side
+ * rate limit, instead of letting the server reject them.
+ *
+ * <p>Requests are admitted by a token bucket, which refills at {@code requestsPerSecond} and holds
+ * up to {@code burst} tokens, and by a concurrency limit. The concurrency limit is adjusted the
+ * AIMD way: it grows by about one for every limit's worth of successful responses, up to {@code
+ * maxConcurrency}, and is halved when the server answers with {@code 429 Too Many Requests} or
+ * {@code 503 Service Unavailable}. A request counts as in flight until its response body is closed,
+ * so the body of every response must be closed, as the SDK does. Requests which cannot be admitted
+ * yet wait on the calling thread rather than fail.
+ *
+ * <p>For calls sent with {@link Call#enqueue}, such as the {@code *Async} methods of the SDK, the
+ * calling thread is a thread of the {@link okhttp3.Dispatcher} of the client, and a waiting call
+ * keeps holding its slot of {@link okhttp3.Dispatcher#getMaxRequests()} and {@link
+ * okhttp3.Dispatcher#getMaxRequestsPerHost()}. Other calls of the same client to the same host then
+ * wait behind the throttled ones. Give the rate limited client its own dispatcher, e.g. {@code
+ * httpClient.newBuilder().dispatcher(new Dispatcher())}, when it should not hold up calls outside
+ * the limit.
+ *
+ * <p>When the server answers with a {@code Retry-After} header, no request is sent until that delay
+ * has passed. A request rejected with {@code 429} is sent again, up to {@code maxRetries} times,
+ * after which the response is returned and surfaces as a {@link
+ * org.stellar.sdk.exception.TooManyRequestsException}.
+ *
+ * <p>The interceptor is opt-in. To share one limit, add the same instance to the clients of {@link
+ * org.stellar.sdk.Server}, {@link org.stellar.sdk.SorobanServer} and {@link
+ * org.stellar.sdk.federation.Federation}, as an application interceptor:
+ *
+ * <pre>{@code
+ * RateLimitInterceptor rateLimit = new RateLimitInterceptor(10);
+ * OkHttpClient httpClient =
+ *     new OkHttpClient.Builder()
+ *         .addInterceptor(new ClientIdentificationInterceptor())
+ *         .addInterceptor(rateLimit)
+ *         .build();
+ * Server server = new Server(horizonUrl, httpClient, httpClient);
+ * SorobanServer sorobanServer = new SorobanServer(rpcUrl, httpClient);
+ * Federation federation = new Federation(httpClient);
+ * }</pre>
+ */
+public class RateLimitInterceptor implements Interceptor {
+  /** The default maximum number of requests in flight at the same time. */
+  public static final int DEFAULT_MAX_CONCURRENCY = 16;
+
+  /** The default number of times a request rejected with {@code 429} is sent again. */
+  public static final int DEFAULT_MAX_RETRIES = 3;
+
+  /** The delay before sending requests again after a {@code 429} without {@code Retry-After}. */
+  public static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(1);
+
+  // The waiting requests check that their call was not cancelled at this interval.
+  private static final long CANCEL_CHECK_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+  private final double tokensPerNano;
+  private final int burst;
+  private final int maxConcurrency;
+  private final int maxRetries;
+
+  private final ReentrantLock lock = new ReentrantLock(true);
+  private final Condition changed = lock.newCondition();
+  // The fields below are guarded by lock.
+  private double tokens;
+  private long refilledAt;
+  private double concurrencyLimit;
+  private int inFlight;
+  private int queued;
+  private long pausedUntil;
+  // Incremented when the concurrency limit is halved, so that the requests sent before do not
+  // halve it again.
+  private long decreaseEpoch;
+  private long requestCount;
+  private long rejectedCount;
+  private long retryCount;
+  private long totalWaitNanos;
+  private long maxWaitNanos;
+
+  /**
+   * Creates a rate limit with a burst of one second of requests, {@value #DEFAULT_MAX_CONCURRENCY}
+   * concurrent requests at most, and {@value #DEFAULT_MAX_RETRIES} retries.
+   *
+   * @param requestsPerSecond The maximum number of requests per second.
+   * @throws IllegalArgumentException If requestsPerSecond is not a positive number.
+   */
+  public RateLimitInterceptor(double requestsPerSecond) {
+    this(
+        requestsPerSecond,
+        (int) Math.max(1, Math.ceil(requestsPerSecond)),
+        DEFAULT_MAX_CONCURRENCY,
+        DEFAULT_MAX_RETRIES);
+  }
+
+  /**
+   * Creates a rate limit.
+   *
+   * @param requestsPerSecond The maximum number of requests per second, on average.
+   * @param burst The maximum number of requests sent at once after a quiet period.
+   * @param maxConcurrency The maximum number of requests in flight at the same time, which is also
+   *     the initial concurrency limit.
+   * @param maxRetries The number of times a request rejected with {@code 429} is sent again.
+   * @throws IllegalArgumentException If requestsPerSecond is not a positive number, burst or
+   *     maxConcurrency is less than 1, or maxRetries is negative.
+   */
+  public RateLimitInterceptor(
+      double requestsPerSecond, int burst, int maxConcurrency, int maxRetries) {
+    if (!(requestsPerSecond > 0) || Double.isInfinite(requestsPerSecond)) {
+      throw new IllegalArgumentException("requestsPerSecond must be a positive number");
+    }
+    if (burst < 1) {
+      throw new IllegalArgumentException("burst must be greater than 0");
+    }
+    if (maxConcurrency < 1) {
+      throw new IllegalArgumentException("maxConcurrency must be greater than 0");
+    }
+    if (maxRetries < 0) {
+      throw new IllegalArgumentException("maxRetries must not be negative");
+    }
+    this.tokensPerNano = requestsPerSecond / TimeUnit.SECONDS.toNanos(1);
+    this.burst = burst;
+    this.maxConcurrency = maxConcurrency;
+    this.maxRetries = maxRetries;
+    this.tokens = burst;
+    this.refilledAt = System.nanoTime();
+    this.pausedUntil = refilledAt;
+    this.concurrencyLimit = maxConcurrency;
+  }
+
+  @NotNull
+  @Override
+  public Response intercept(@NotNull Chain chain) throws IOException {
+    Request request = chain.request();
+    for (int attempt = 0; ; attempt++) {
+      long epoch = acquire(chain.call(), attempt > 0);
+      Permit permit = new Permit();
+      Response response;
+      try {
+        response = chain.proceed(request);
+      } catch (IOException | RuntimeException e) {
+        record(epoch, false, false, null);
+        permit.release();
+        throw e;
+      }
+      int code = response.code();
+      boolean rejected = code == 429 || code == 503;
+      boolean retry = code == 429 && attempt < maxRetries;
+      record(epoch, true, rejected, rejected ? retryAfter(response) : null);
+      ResponseBody body = response.body();
+      if (body == null) {
+        permit.release();
+      } else {
+        response = response.newBuilder().body(new PermitBody(body, permit)).build();
+      }
+      if (!retry) {
+        return response;
+      }
+      response.close();
+    }
+  }
+
+  /**
+   * Returns the current state of the rate limit.
+   *
+   * @return the metrics
+   */
+  public Metrics getMetrics() {
+    lock.lock();
+    try {
+      return new Metrics(
+          queued,
+          inFlight,
+          Math.max(1, (int) concurrencyLimit),
+          requestCount,
+          rejectedCount,
+          retryCount,
+          requestCount == 0 ? Duration.ZERO : Duration.ofNanos(totalWaitNanos / requestCount),
+          Duration.ofNanos(maxWaitNanos));
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Waits until a request can be sent.
+   *
+   * @param retry Whether the request is sent again after a {@code 429}.
+   * @return the epoch of the concurrency limit when the request was admitted
+   */
+  private long acquire(Call call, boolean retry) throws IOException {
+    long start = System.nanoTime();
+    lock.lock();
+    try {
+      queued++;
+      try {
+        while (true) {
+          long now = System.nanoTime();
+          refill(now);
+          long delay;
+          if (now - pausedUntil < 0) {
+            delay = pausedUntil - now;
+          } else if (inFlight >= Math.max(1, (int) concurrencyLimit)) {
+            // Signalled when a request completes.
+            delay = CANCEL_CHECK_INTERVAL_NANOS;
+          } else if (tokens < 1) {
+            delay = (long) Math.ceil((1 - tokens) / tokensPerNano);
+          } else {
+            break;
+          }
+          if (call.isCanceled()) {
+            throw new IOException("Canceled");
+          }
+          changed.awaitNanos(Math.min(delay, CANCEL_CHECK_INTERVAL_NANOS));
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("interrupted while waiting for the rate limit");
+      } finally {
+        queued--;
+      }
+      tokens -= 1;
+      inFlight++;
+      requestCount++;
+      if (retry) {
+        retryCount++;
+      }
+      long waitNanos = System.nanoTime() - start;
+      totalWaitNanos += waitNanos;
+      maxWaitNanos = Math.max(maxWaitNanos, waitNanos);
+      return decreaseEpoch;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Records the outcome of a request, once its response headers were received or it failed.
+   *
+   * @param responded Whether the server responded.
+   * @param rejected Whether the response was a {@code 429} or a {@code 503}.
+   * @param retryAfterNanos The delay before sending requests again, or null.
+   */
+  private void record(
+      long epoch, boolean responded, boolean rejected, @Nullable Long retryAfterNanos) {
+    lock.lock();
+    try {
+      if (rejected) {
+        rejectedCount++;
+        if (epoch == decreaseEpoch) {
+          concurrencyLimit = Math.max(1, concurrencyLimit / 2);
+          decreaseEpoch++;
+        }
+        if (retryAfterNanos != null) {
+          long until = System.nanoTime() + retryAfterNanos;
+          if (until - pausedUntil > 0) {
+            pausedUntil = until;
+          }
+        }
+      } else if (responded) {
+        concurrencyLimit = Math.min(maxConcurrency, concurrencyLimit + 1 / concurrencyLimit);
+      }
+      changed.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** The slot of a request in the concurrency limit, released once. */
+  private final class Permit {
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    void release() {
+      if (released.compareAndSet(false, true)) {
+        lock.lock();
+        try {
+          inFlight--;
+          changed.signalAll();
+        } finally {
+          lock.unlock();
+        }
+      }
+    }
+  }
+
+  /** A response body which releases the permit of its request when it is closed. */
+  private static final class PermitBody extends ResponseBody {
+    private final ResponseBody body;
+    private final BufferedSource source;
+
+    PermitBody(ResponseBody body, Permit permit) {
+      this.body = body;
+      this.source =
+          Okio.buffer(
+              new ForwardingSource(body.source()) {
+                @Override
+                public void close() throws IOException {
+                  try {
+                    super.close();
+                  } finally {
+                    permit.release();
+                  }
+                }
+              });
+    }
+
+    @Nullable
+    @Override
+    public MediaType contentType() {
+      return body.contentType();
+    }
+
+    @Override
+    public long contentLength() {
+      return body.contentLength();
+    }
+
+    @NotNull
+    @Override
+    public BufferedSource source() {
+      return source;
+    }
+  }
+
+  private void refill(long now) {
+    tokens = Math.min(burst, tokens + (now - refilledAt) * tokensPerNano);
+    refilledAt = now;
+  }
+
+  /**
+   * Returns the delay requested by the {@code Retry-After} header of a rejected response, in
+   * nanoseconds. A {@code 429} without the header pauses for {@link #DEFAULT_RETRY_AFTER}.
+   */
+  @Nullable
+  private Long retryAfter(Response response) {
+    String header = response.header("Retry-After");
+    if (header != null) {
+      try {
+        return TimeUnit.SECONDS.toNanos(Math.max(0, Long.parseLong(header.trim())));
+      } catch (NumberFormatException ignored) {
+        // Only the delay-seconds form is supported, as in ResponseHandler.
+      }
+    }
+    return response.code() == 429 ? DEFAULT_RETRY_AFTER.toNanos() : null;
+  }
+
+  /** The state of a {@link RateLimitInterceptor}. */
+  @Value
+  public static class Metrics {
+    /** The number of requests waiting to be sent. */
+    int queuedCount;
+
+    /** The number of requests in flight. */
+    int inFlightCount;
+
+    /** The current concurrency limit. */
+    int concurrencyLimit;
+
+    /** The number of requests sent, retries included. */
+    long requestCount;
+
+    /** The number of responses with a {@code 429} or {@code 503} status code. */
+    long rejectedCount;
+
+    /** The number of requests sent again after a {@code 429} response. */
+    long retryCount;
+
+    /** The average time a request waited before being sent. */
+    Duration averageWaitTime;
+
+    /** The longest time a request waited before being sent. */
+    Duration maxWaitTime;
+  }
+}
@@ -6,6 +6,7 @@ import java.net.SocketTimeoutException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
@@ -183,6 +184,26 @@ public abstract class RequestBuilder {
     return responseHandler.handleResponse(response);
   }
 
+  /**
+   * Executes a GET request asynchronously and handles the response, without blocking the calling
+   * thread.
+   *
+   * @param <T> The type of the response object
+   * @param httpClient The OkHttpClient to use for the request
+   * @param url The URL to send the GET request to
+   * @param typeToken The TypeToken representing the type of the response
+   * @return A future completed with the response object of type T, or with one of the exceptions
+   *     thrown by {@link #executeGetRequest(OkHttpClient, HttpUrl, TypeToken)}
+   * @see ResponseHandler#enqueue(okhttp3.Call)
+   */
+  static <T> CompletableFuture<T> executeGetRequestAsync(
+      OkHttpClient httpClient, HttpUrl url, TypeToken<T> typeToken) {
+    ResponseHandler<T> responseHandler = new ResponseHandler<>(typeToken);
+
+    Request request = new Request.Builder().get().url(url).build();
+    return responseHandler.enqueue(httpClient.newCall(request));
+  }
+
   static String getAssetType(Asset asset) {
     String assetType;
     switch (asset.getType()) {
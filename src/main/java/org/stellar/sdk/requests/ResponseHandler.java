@@ -1,10 +1,20 @@
 package org.stellar.sdk.requests;
 
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.MalformedJsonException;
+import java.io.EOFException;
 import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.CompletableFuture;
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.Response;
+import okhttp3.ResponseBody;
 import org.stellar.sdk.exception.BadRequestException;
 import org.stellar.sdk.exception.BadResponseException;
+import org.stellar.sdk.exception.ConnectionErrorException;
 import org.stellar.sdk.exception.RequestTimeoutException;
 import org.stellar.sdk.exception.TooManyRequestsException;
 import org.stellar.sdk.exception.UnexpectedException;
@@ -17,8 +27,9 @@ import org.stellar.sdk.responses.gson.TypedResponse;
 /**
  * Handles HTTP responses and converts them into typed Java objects.
  *
- * <p>Successful responses (2xx) are deserialized into the target type {@code T} using Gson. Error
- * responses are translated into the appropriate SDK exception:
+ * <p>Successful responses (2xx) are deserialized into the target type {@code T} using Gson, reading
+ * the body as a stream rather than buffering it into a String first. Error responses are translated
+ * into the appropriate SDK exception:
  *
  * <ul>
  *   <li>{@link org.stellar.sdk.exception.TooManyRequestsException} for 429
@@ -118,13 +129,34 @@ public class ResponseHandler<T> {
         throw new TooManyRequestsException(retryAfter);
       }
 
-      if (response.body() == null) {
+      ResponseBody body = response.body();
+      if (body == null) {
         throw new UnexpectedException("Unexpected empty response body");
       }
 
+      if (response.code() >= 200 && response.code() < 300) {
+        // Parse successful responses straight from the body stream, so large pages and RPC
+        // results are never held in memory as a whole String.
+        try {
+          return deserialize(GsonSingleton.getInstance().fromJson(body.charStream(), type));
+        } catch (JsonIOException e) {
+          throw new UnexpectedException("Unexpected error reading response", e.getCause());
+        } catch (JsonSyntaxException e) {
+          // Gson reports I/O errors while reading the stream as syntax errors
+          Throwable cause = e.getCause();
+          if (cause instanceof IOException
+              && !(cause instanceof MalformedJsonException)
+              && !(cause instanceof EOFException)) {
+            throw new UnexpectedException("Unexpected error reading response", cause);
+          }
+          throw e;
+        }
+      }
+
+      // Error responses are small, and their content is kept in the thrown exception.
       String content;
       try {
-        content = response.body().string();
+        content = body.string();
       } catch (IOException e) {
         throw new UnexpectedException("Unexpected error reading response", e);
       }
@@ -135,6 +167,64 @@ public class ResponseHandler<T> {
     }
   }
 
+  /**
+   * Enqueues the call and handles its response asynchronously, without blocking the calling thread.
+   *
+   * <p>The returned future is completed on an OkHttp dispatcher thread, with the same result or
+   * exception that {@link #handleResponse(Response)} would return or throw for the response. If the
+   * call fails, the future is completed with a {@link RequestTimeoutException} on timeouts and a
+   * {@link ConnectionErrorException} otherwise. Cancelling the future cancels the call.
+   *
+   * <p>The number of calls running at the same time is limited by the {@link okhttp3.Dispatcher} of
+   * the {@link okhttp3.OkHttpClient} that created the call.
+   *
+   * @param call The call to enqueue, it must not have been executed yet
+   * @return A future completed with the parsed object of type T
+   */
+  public CompletableFuture<T> enqueue(final Call call) {
+    return enqueue(call, false);
+  }
+
+  /**
+   * Enqueues the call and handles its response asynchronously, without blocking the calling thread.
+   *
+   * @param call The call to enqueue, it must not have been executed yet
+   * @param submitTransactionAsync Only set it to true when submitting to Horizon's asynchronous
+   *     transaction submission endpoint.
+   * @return A future completed with the parsed object of type T
+   * @see #enqueue(Call)
+   */
+  public CompletableFuture<T> enqueue(final Call call, boolean submitTransactionAsync) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    future.whenComplete(
+        (result, throwable) -> {
+          if (future.isCancelled()) {
+            call.cancel();
+          }
+        });
+    call.enqueue(
+        new Callback() {
+          @Override
+          public void onFailure(Call call, IOException e) {
+            if (e instanceof SocketTimeoutException) {
+              future.completeExceptionally(new RequestTimeoutException(e));
+            } else {
+              future.completeExceptionally(new ConnectionErrorException(e));
+            }
+          }
+
+          @Override
+          public void onResponse(Call call, Response response) {
+            try {
+              future.complete(handleResponse(response, submitTransactionAsync));
+            } catch (RuntimeException e) {
+              future.completeExceptionally(e);
+            }
+          }
+        });
+    return future;
+  }
+
   private T handleResponseContent(
       final Response response, String content, boolean submitTransactionAsync) {
     // Too Many Requests
@@ -151,11 +241,7 @@ public class ResponseHandler<T> {
     }
 
     if (response.code() >= 200 && response.code() < 300) {
-      T object = GsonSingleton.getInstance().fromJson(content, type.getType());
-      if (object instanceof TypedResponse) {
-        ((TypedResponse<T>) object).setType(type);
-      }
-      return object;
+      return deserialize(GsonSingleton.getInstance().fromJson(content, type.getType()));
     }
 
     // Other errors
@@ -192,4 +278,11 @@ public class ResponseHandler<T> {
 
     throw new UnknownResponseException(response.code(), content);
   }
+
+  private T deserialize(T object) {
+    if (object instanceof TypedResponse) {
+      ((TypedResponse<T>) object).setType(type);
+    }
+    return object;
+  }
 }
@@ -1,6 +1,7 @@
 package org.stellar.sdk.requests;
 
 import com.google.gson.reflect.TypeToken;
+import java.util.concurrent.CompletableFuture;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import org.stellar.sdk.exception.TooManyRequestsException;
@@ -35,4 +36,14 @@ public class RootRequestBuilder extends RequestBuilder {
     TypeToken<RootResponse> type = new TypeToken<RootResponse>() {};
     return executeGetRequest(httpClient, this.buildUri(), type);
   }
+
+  /**
+   * Build and execute request asynchronously, without blocking the calling thread.
+   *
+   * @return a future completed with the {@link RootResponse}, or with one of the exceptions thrown
+   *     by {@link #execute()}
+   */
+  public CompletableFuture<RootResponse> executeAsync() {
+    return executeGetRequestAsync(httpClient, this.buildUri(), new TypeToken<RootResponse>() {});
+  }
 }
@@ -33,7 +33,8 @@ import org.stellar.sdk.responses.gson.GsonSingleton;
  *
  * <p>Instances are obtained via the {@code stream()} method on Horizon request builders (e.g.,
  * {@link AccountsRequestBuilder#stream(EventListener)}). Call {@link #close()} to stop the stream
- * and release resources.
+ * and release resources. A standalone stream runs its reconnect checks on its own scheduler thread;
+ * streams created with an {@link SSEStreamManager} share the scheduler of the manager instead.
  *
  * @param <T> the Horizon response type delivered to the listener
  * @see EventListener
@@ -49,7 +50,10 @@ public class SSEStream<T extends org.stellar.sdk.responses.Response> implements
   private final AtomicBoolean isClosed = new AtomicBoolean(true);
   private final AtomicLong latestEventTime = new AtomicLong(0);
   private final AtomicReference<String> lastEventId = new AtomicReference<>(null);
-  private final ScheduledExecutorService executorService;
+  @Nullable private final ScheduledExecutorService executorService;
+  @Nullable private final SSEStreamManager streamManager;
+  private final AtomicBoolean holdsReconnectPermit = new AtomicBoolean(false);
+  private final AtomicBoolean waitingForReconnect = new AtomicBoolean(false);
   private final AtomicReference<EventSource> eventSource = new AtomicReference<>(null);
   private final long reconnectTimeout;
   private final AtomicLong currentListenerId = new AtomicLong(0);
@@ -59,15 +63,22 @@ public class SSEStream<T extends org.stellar.sdk.responses.Response> implements
       final RequestBuilder requestBuilder,
       final Class<T> responseClass,
       final EventListener<T> listener,
-      final long reconnectTimeout) {
-    // Create a new client with no read timeout
-    this.okHttpClient = okHttpClient.newBuilder().readTimeout(0, TimeUnit.MILLISECONDS).build();
+      final long reconnectTimeout,
+      @Nullable final SSEStreamManager streamManager) {
     this.requestBuilder = requestBuilder;
     this.responseClass = responseClass;
     this.listener = listener;
     this.reconnectTimeout = reconnectTimeout;
+    this.streamManager = streamManager;
 
-    executorService = Executors.newSingleThreadScheduledExecutor();
+    if (streamManager == null) {
+      // Create a new client with no read timeout
+      this.okHttpClient = okHttpClient.newBuilder().readTimeout(0, TimeUnit.MILLISECONDS).build();
+      executorService = Executors.newSingleThreadScheduledExecutor();
+    } else {
+      this.okHttpClient = streamManager.streamingClient(okHttpClient);
+      executorService = null;
+    }
   }
 
   private void start() {
@@ -75,26 +86,63 @@ public class SSEStream<T extends org.stellar.sdk.responses.Response> implements
       throw new IllegalStateException("Already stopped");
     }
 
-    executorService.scheduleWithFixedDelay(
-        () -> {
-          // This timeout is driven by EventSourceListener#onEvent. With the public OkHttp SSE API
-          // that means only parsed SSE data events refresh liveness; comment-only keepalive frames
-          // are not surfaced here and may still lead to reconnects if no business events arrive.
-          if (System.currentTimeMillis() - latestEventTime.get() > reconnectTimeout) {
-            latestEventTime.set(System.currentTimeMillis());
-            isClosed.compareAndSet(false, true);
-          }
+    if (executorService != null) {
+      executorService.scheduleWithFixedDelay(this::checkConnection, 0, 200, TimeUnit.MILLISECONDS);
+    } else {
+      streamManager.register(this);
+      checkConnection();
+    }
+  }
 
-          if (isClosed.get()) {
-            isClosed.compareAndSet(true, false);
-            if (!isStopped.get()) {
-              restart();
-            }
-          }
-        },
-        0,
-        200,
-        TimeUnit.MILLISECONDS);
+  /**
+   * Reconnects the stream if it was closed or did not receive an event within the reconnect
+   * timeout. When the stream is managed, it is instead queued until the manager grants it a
+   * reconnect permit.
+   */
+  synchronized void checkConnection() {
+    // This timeout is driven by EventSourceListener#onEvent. With the public OkHttp SSE API
+    // that means only parsed SSE data events refresh liveness; comment-only keepalive frames
+    // are not surfaced here and may still lead to reconnects if no business events arrive.
+    if (System.currentTimeMillis() - latestEventTime.get() > reconnectTimeout) {
+      latestEventTime.set(System.currentTimeMillis());
+      isClosed.compareAndSet(false, true);
+    }
+
+    if (isClosed.get() && !isStopped.get()) {
+      if (streamManager != null) {
+        if (waitingForReconnect.compareAndSet(false, true)) {
+          streamManager.requestReconnect(this);
+        }
+        return;
+      }
+      isClosed.compareAndSet(true, false);
+      restart();
+    }
+  }
+
+  /**
+   * Reconnects a managed stream with the reconnect permit granted by the manager.
+   *
+   * @return false if the permit was not used, because the stream is stopped, no longer needs to
+   *     reconnect, or still holds the permit of a pending connection attempt
+   */
+  synchronized boolean reconnect() {
+    waitingForReconnect.set(false);
+    if (isStopped.get() || !isClosed.get()) {
+      return false;
+    }
+    // A connection attempt which is still pending is abandoned by the restart, and its permit
+    // reused.
+    boolean permitTaken = holdsReconnectPermit.compareAndSet(false, true);
+    isClosed.compareAndSet(true, false);
+    restart();
+    return permitTaken;
+  }
+
+  private void releaseReconnectPermit() {
+    if (streamManager != null && holdsReconnectPermit.compareAndSet(true, false)) {
+      streamManager.releaseReconnect();
+    }
   }
 
   public String lastPagingToken() {
@@ -128,7 +176,12 @@ public class SSEStream<T extends org.stellar.sdk.responses.Response> implements
       if (currentEventSource != null) {
         currentEventSource.cancel();
       }
-      executorService.shutdownNow();
+      releaseReconnectPermit();
+      if (executorService != null) {
+        executorService.shutdownNow();
+      } else {
+        streamManager.unregister(this);
+      }
     }
   }
 
@@ -138,8 +191,19 @@ public class SSEStream<T extends org.stellar.sdk.responses.Response> implements
       Class<T> responseClass,
       EventListener<T> listener,
       long reconnectTimeout) {
+    return create(okHttpClient, requestBuilder, responseClass, listener, reconnectTimeout, null);
+  }
+
+  static <T extends org.stellar.sdk.responses.Response> SSEStream<T> create(
+      OkHttpClient okHttpClient,
+      RequestBuilder requestBuilder,
+      Class<T> responseClass,
+      EventListener<T> listener,
+      long reconnectTimeout,
+      @Nullable SSEStreamManager streamManager) {
     SSEStream<T> stream =
-        new SSEStream<>(okHttpClient, requestBuilder, responseClass, listener, reconnectTimeout);
+        new SSEStream<>(
+            okHttpClient, requestBuilder, responseClass, listener, reconnectTimeout, streamManager);
     stream.start();
     return stream;
   }
@@ -217,13 +281,18 @@ public class SSEStream<T extends org.stellar.sdk.responses.Response> implements
       if (stream.isStopped.get() || listenerId != stream.currentListenerId.get()) {
         return;
       }
+      stream.releaseReconnectPermit();
       if (closeListener != null) {
         closeListener.closed(eventSource);
       }
     }
 
     @Override
-    public void onOpen(@NotNull EventSource eventSource, @NotNull Response response) {}
+    public void onOpen(@NotNull EventSource eventSource, @NotNull Response response) {
+      if (listenerId == stream.currentListenerId.get()) {
+        stream.releaseReconnectPermit();
+      }
+    }
 
     @Override
     public void onFailure(
@@ -231,6 +300,7 @@ public class SSEStream<T extends org.stellar.sdk.responses.Response> implements
       if (stream.isStopped.get() || listenerId != stream.currentListenerId.get()) {
         return;
       }
+      stream.releaseReconnectPermit();
       Optional<Integer> code = Optional.empty();
       if (response != null) {
         code = Optional.of(response.code());
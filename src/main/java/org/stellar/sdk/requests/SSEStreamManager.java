@@ -0,0 +1,215 @@
+package org.stellar.sdk.requests;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+
+/**
+ * Runs many {@link SSEStream}s on shared resources.
+ *
+ * <p>A standalone {@link SSEStream} owns a scheduler thread for its reconnect checks. Streams
+ * created with a manager, e.g. with {@link LedgersRequestBuilder#stream(EventListener, long,
+ * SSEStreamManager)}, instead share a single scheduler, which can be supplied by the caller, and an
+ * OkHttp {@link Dispatcher} without per-host limits, so that thousands of streams can be open to
+ * the same Horizon instance.
+ *
+ * <p>The manager also bounds how many streams are connecting at the same moment. When Horizon
+ * restarts, every stream loses its connection at once; the streams then reconnect at most {@code
+ * maxConcurrentReconnects} at a time, instead of all at once. A connection attempt holds its permit
+ * until the stream is open or the attempt has failed, the waiting streams are then reconnected in
+ * the order in which they were disconnected.
+ *
+ * <p>Closing the manager closes all of its streams.
+ */
+public class SSEStreamManager implements Closeable {
+  /** The default maximum number of streams connecting at the same moment. */
+  public static final int DEFAULT_MAX_CONCURRENT_RECONNECTS = 16;
+
+  private static final long CHECK_INTERVAL = 200; // milliseconds
+
+  private final ScheduledExecutorService scheduler;
+  private final boolean ownsScheduler;
+  private final int maxConcurrentReconnects;
+  private final Semaphore reconnectPermits;
+  private final Dispatcher dispatcher;
+  private final Set<SSEStream<?>> streams = ConcurrentHashMap.newKeySet();
+  private final Queue<SSEStream<?>> waitingStreams = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean drainScheduled = new AtomicBoolean(false);
+  private final ScheduledFuture<?> checkTask;
+  private final AtomicLong reconnects = new AtomicLong();
+  private final AtomicLong deferredReconnects = new AtomicLong();
+  private volatile boolean closed;
+
+  /**
+   * Creates a manager which runs the reconnect checks of its streams on its own scheduler thread,
+   * with at most {@value #DEFAULT_MAX_CONCURRENT_RECONNECTS} streams connecting at the same moment.
+   */
+  public SSEStreamManager() {
+    this(Executors.newSingleThreadScheduledExecutor(), true, DEFAULT_MAX_CONCURRENT_RECONNECTS);
+  }
+
+  /**
+   * Creates a manager which runs the reconnect checks of its streams on the given scheduler. The
+   * scheduler is not shut down when the manager is closed.
+   *
+   * @param scheduler The scheduler to run the reconnect checks on.
+   * @param maxConcurrentReconnects The maximum number of streams connecting at the same moment.
+   * @throws IllegalArgumentException If maxConcurrentReconnects is less than or equal to 0.
+   */
+  public SSEStreamManager(ScheduledExecutorService scheduler, int maxConcurrentReconnects) {
+    this(scheduler, false, maxConcurrentReconnects);
+  }
+
+  private SSEStreamManager(
+      ScheduledExecutorService scheduler, boolean ownsScheduler, int maxConcurrentReconnects) {
+    if (maxConcurrentReconnects <= 0) {
+      throw new IllegalArgumentException("maxConcurrentReconnects must be greater than 0");
+    }
+    this.scheduler = scheduler;
+    this.ownsScheduler = ownsScheduler;
+    this.maxConcurrentReconnects = maxConcurrentReconnects;
+    this.reconnectPermits = new Semaphore(maxConcurrentReconnects);
+    // Streams are long-lived calls, the default limit of 5 calls per host would queue the others.
+    this.dispatcher = new Dispatcher();
+    this.dispatcher.setMaxRequests(Integer.MAX_VALUE);
+    this.dispatcher.setMaxRequestsPerHost(Integer.MAX_VALUE);
+    this.checkTask =
+        scheduler.scheduleWithFixedDelay(
+            this::checkStreams, CHECK_INTERVAL, CHECK_INTERVAL, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Returns the number of open streams.
+   *
+   * @return the number of streams which are not closed
+   */
+  public int getStreamCount() {
+    return streams.size();
+  }
+
+  /**
+   * Returns the number of streams which are connecting.
+   *
+   * @return the number of streams holding a reconnect permit
+   */
+  public int getConnectingCount() {
+    return maxConcurrentReconnects - reconnectPermits.availablePermits();
+  }
+
+  /**
+   * Returns the number of connection attempts, including the first connection of each stream.
+   *
+   * @return the number of connection attempts
+   */
+  public long getReconnectCount() {
+    return reconnects.get();
+  }
+
+  /**
+   * Returns the number of times a stream had to wait for a reconnect permit.
+   *
+   * @return the number of deferred connection attempts
+   */
+  public long getDeferredReconnectCount() {
+    return deferredReconnects.get();
+  }
+
+  /** Closes all the streams of the manager, and stops the reconnect checks. */
+  @Override
+  public void close() {
+    closed = true;
+    checkTask.cancel(false);
+    for (SSEStream<?> stream : new ArrayList<>(streams)) {
+      stream.close();
+    }
+    waitingStreams.clear();
+    if (ownsScheduler) {
+      scheduler.shutdownNow();
+    }
+    dispatcher.executorService().shutdown();
+  }
+
+  OkHttpClient streamingClient(OkHttpClient okHttpClient) {
+    return okHttpClient
+        .newBuilder()
+        .readTimeout(0, TimeUnit.MILLISECONDS)
+        .dispatcher(dispatcher)
+        .build();
+  }
+
+  void register(SSEStream<?> stream) {
+    if (closed) {
+      throw new IllegalStateException("SSEStreamManager is closed");
+    }
+    streams.add(stream);
+  }
+
+  void unregister(SSEStream<?> stream) {
+    streams.remove(stream);
+  }
+
+  /** Queues a disconnected stream until a reconnect permit is available. */
+  void requestReconnect(SSEStream<?> stream) {
+    if (reconnectPermits.availablePermits() == 0) {
+      deferredReconnects.incrementAndGet();
+    }
+    waitingStreams.add(stream);
+  }
+
+  /** Releases the permit of a connection attempt which is open or has failed. */
+  void releaseReconnect() {
+    reconnectPermits.release();
+    if (!waitingStreams.isEmpty() && !closed && drainScheduled.compareAndSet(false, true)) {
+      // Called from OkHttp callbacks, the waiting streams are reconnected on the scheduler.
+      try {
+        scheduler.execute(this::drainReconnects);
+      } catch (RejectedExecutionException e) {
+        drainScheduled.set(false);
+      }
+    }
+  }
+
+  private void checkStreams() {
+    for (SSEStream<?> stream : streams) {
+      try {
+        stream.checkConnection();
+      } catch (RuntimeException e) {
+        // A failing stream must not stop the checks of the other streams, it is checked again on
+        // the next run.
+      }
+    }
+    drainReconnects();
+  }
+
+  private synchronized void drainReconnects() {
+    drainScheduled.set(false);
+    while (!waitingStreams.isEmpty() && reconnectPermits.tryAcquire()) {
+      SSEStream<?> stream = waitingStreams.poll();
+      boolean permitTaken = false;
+      try {
+        permitTaken = stream != null && stream.reconnect();
+      } catch (RuntimeException e) {
+        // The stream is checked again on the next run.
+      } finally {
+        if (permitTaken) {
+          reconnects.incrementAndGet();
+        } else {
+          reconnectPermits.release();
+        }
+      }
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package org.stellar.sdk.requests;
 
 import com.google.gson.reflect.TypeToken;
+import java.util.concurrent.CompletableFuture;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import org.stellar.sdk.Asset;
@@ -98,4 +99,15 @@ public class TradeAggregationsRequestBuilder extends RequestBuilder {
   public Page<TradeAggregationResponse> execute() {
     return execute(this.httpClient, this.buildUri());
   }
+
+  /**
+   * Build and execute request asynchronously, without blocking the calling thread.
+   *
+   * @return a future completed with the {@link Page} of {@link TradeAggregationResponse}, or with
+   *     one of the exceptions thrown by {@link #execute()}
+   */
+  public CompletableFuture<Page<TradeAggregationResponse>> executeAsync() {
+    return executeGetRequestAsync(
+        httpClient, this.buildUri(), new TypeToken<Page<TradeAggregationResponse>>() {});
+  }
 }
@@ -1,9 +1,11 @@
 package org.stellar.sdk.requests;
 
 import com.google.gson.reflect.TypeToken;
+import java.util.concurrent.CompletableFuture;
 import lombok.NonNull;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
+import org.stellar.sdk.TOID;
 import org.stellar.sdk.exception.TooManyRequestsException;
 import org.stellar.sdk.responses.Page;
 import org.stellar.sdk.responses.TransactionResponse;
@@ -189,6 +191,24 @@ public class TransactionsRequestBuilder extends RequestBuilder {
         httpClient, this, TransactionResponse.class, listener, reconnectTimeout);
   }
 
+  /**
+   * An overloaded version of {@link #stream(EventListener, long)} whose stream runs on the
+   * scheduler, connections and reconnect limit shared by the streams of an {@link
+   * SSEStreamManager}.
+   *
+   * @param listener {@link EventListener} implementation with {@link TransactionResponse} type
+   * @param reconnectTimeout Custom stream connection timeout in ms
+   * @param streamManager the {@link SSEStreamManager} running the stream
+   * @return an {@link SSEStream} for real-time event streaming
+   */
+  public SSEStream<TransactionResponse> stream(
+      final EventListener<TransactionResponse> listener,
+      long reconnectTimeout,
+      SSEStreamManager streamManager) {
+    return SSEStream.create(
+        httpClient, this, TransactionResponse.class, listener, reconnectTimeout, streamManager);
+  }
+
   /**
    * An overloaded version of {@link #stream(EventListener, long)} with default reconnect timeout.
    *
@@ -222,6 +242,70 @@ public class TransactionsRequestBuilder extends RequestBuilder {
     return execute(this.httpClient, this.buildUri());
   }
 
+  /**
+   * Build and execute request asynchronously, without blocking the calling thread.
+   *
+   * @return a future completed with the {@link Page} of {@link TransactionResponse}, or with one of
+   *     the exceptions thrown by {@link #execute()}
+   */
+  public CompletableFuture<Page<TransactionResponse>> executeAsync() {
+    return executeGetRequestAsync(
+        httpClient, this.buildUri(), new TypeToken<Page<TransactionResponse>>() {});
+  }
+
+  /**
+   * Iterates over the records of this request, page by page, fetching the next page while the
+   * current one is read.
+   *
+   * @return an iterator over the {@link TransactionResponse} records, to close when it is not read
+   *     to the end
+   * @see PageIterator
+   */
+  public PageIterator<TransactionResponse> iterate() {
+    return iterate(PageIterator.DEFAULT_PREFETCH_DEPTH);
+  }
+
+  /**
+   * Iterates over the records of this request, page by page, fetching up to {@code prefetchDepth}
+   * pages ahead of the page being read.
+   *
+   * @param prefetchDepth The number of pages to fetch ahead, 0 to fetch each page when it is read.
+   * @return an iterator over the {@link TransactionResponse} records, to close when it is not read
+   *     to the end
+   * @throws IllegalArgumentException If prefetchDepth is negative.
+   * @see PageIterator
+   */
+  public PageIterator<TransactionResponse> iterate(int prefetchDepth) {
+    return PageIterator.create(
+        httpClient, this.buildUri(), new TypeToken<Page<TransactionResponse>>() {}, prefetchDepth);
+  }
+
+  /**
+   * Iterates over the records of this request whose paging token is in the given range, in
+   * ascending order. The range is split into shards of consecutive ledgers, which are fetched in
+   * parallel. The cursor and order of this request are ignored.
+   *
+   * @param range The range of paging tokens, e.g. {@link TOID#ledgerRangeInclusive(int, int)}.
+   * @param shardCount The maximum number of shards fetched in parallel.
+   * @param prefetchDepth The number of pages to fetch ahead in each shard.
+   * @return an iterator over the {@link TransactionResponse} records, to close when it is not read
+   *     to the end
+   * @throws IllegalArgumentException If the range is empty, shardCount is less than or equal to 0,
+   *     or prefetchDepth is negative.
+   * @see PageIterator
+   */
+  public PageIterator<TransactionResponse> iterate(
+      TOID.TOIDRange range, int shardCount, int prefetchDepth) {
+    return PageIterator.create(
+        httpClient,
+        this.buildUri(),
+        new TypeToken<Page<TransactionResponse>>() {},
+        range,
+        false,
+        shardCount,
+        prefetchDepth);
+  }
+
   @Override
   public TransactionsRequestBuilder cursor(String token) {
     super.cursor(token);
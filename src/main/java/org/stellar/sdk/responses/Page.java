@@ -36,6 +36,17 @@ public class Page<T> extends Response implements TypedResponse<Page<T>> {
 
   Page() {}
 
+  /**
+   * Creates a page holding the given records and links.
+   *
+   * @param records the records of the page
+   * @param links the links to the current, previous and next pages
+   */
+  public Page(List<T> records, Links links) {
+    this.records = records;
+    this.links = links;
+  }
+
   /**
    * @return The next page of results or null when there is no link for the next page of results
    * @throws org.stellar.sdk.exception.NetworkException All the exceptions below are subclasses of
@@ -0,0 +1,133 @@
+package org.stellar.sdk.responses.gson;
+
+import com.google.gson.Gson;
+import org.stellar.sdk.responses.effects.*;
+
+class EffectTypeAdapter extends RecordTypeAdapter<EffectResponse> {
+  EffectTypeAdapter(Gson gson) {
+    super(gson);
+  }
+
+  @Override
+  @SuppressWarnings("deprecation")
+  Class<? extends EffectResponse> recordClass(int type) {
+    switch (type) {
+      // Account effects
+      case 0:
+        return AccountCreatedEffectResponse.class;
+      case 1:
+        return AccountRemovedEffectResponse.class;
+      case 2:
+        return AccountCreditedEffectResponse.class;
+      case 3:
+        return AccountDebitedEffectResponse.class;
+      case 4:
+        return AccountThresholdsUpdatedEffectResponse.class;
+      case 5:
+        return AccountHomeDomainUpdatedEffectResponse.class;
+      case 6:
+        return AccountFlagsUpdatedEffectResponse.class;
+      case 7:
+        return AccountInflationDestinationUpdatedEffectResponse.class;
+      // Signer effects
+      case 10:
+        return SignerCreatedEffectResponse.class;
+      case 11:
+        return SignerRemovedEffectResponse.class;
+      case 12:
+        return SignerUpdatedEffectResponse.class;
+      // Trustline effects
+      case 20:
+        return TrustlineCreatedEffectResponse.class;
+      case 21:
+        return TrustlineRemovedEffectResponse.class;
+      case 22:
+        return TrustlineUpdatedEffectResponse.class;
+      case 23:
+        return TrustlineAuthorizedEffectResponse.class;
+      case 24:
+        return TrustlineDeauthorizedEffectResponse.class;
+      case 25:
+        return TrustlineAuthorizedToMaintainLiabilitiesEffectResponse.class;
+      case 26:
+        return TrustlineFlagsUpdatedEffectResponse.class;
+      // Trading effects
+      case 30:
+        return OfferCreatedEffectResponse.class;
+      case 31:
+        return OfferRemovedEffectResponse.class;
+      case 32:
+        return OfferUpdatedEffectResponse.class;
+      case 33:
+        return TradeEffectResponse.class;
+      // Data effects
+      case 40:
+        return DataCreatedEffectResponse.class;
+      case 41:
+        return DataRemovedEffectResponse.class;
+      case 42:
+        return DataUpdatedEffectResponse.class;
+      // Bump Sequence effects
+      case 43:
+        return SequenceBumpedEffectResponse.class;
+      // claimable balance effects
+      case 50:
+        return ClaimableBalanceCreatedEffectResponse.class;
+      case 51:
+        return ClaimableBalanceClaimantCreatedEffectResponse.class;
+      case 52:
+        return ClaimableBalanceClaimedEffectResponse.class;
+      // sponsorship effects
+      case 60:
+        return AccountSponsorshipCreatedEffectResponse.class;
+      case 61:
+        return AccountSponsorshipUpdatedEffectResponse.class;
+      case 62:
+        return AccountSponsorshipRemovedEffectResponse.class;
+      case 63:
+        return TrustlineSponsorshipCreatedEffectResponse.class;
+      case 64:
+        return TrustlineSponsorshipUpdatedEffectResponse.class;
+      case 65:
+        return TrustlineSponsorshipRemovedEffectResponse.class;
+      case 66:
+        return DataSponsorshipCreatedEffectResponse.class;
+      case 67:
+        return DataSponsorshipUpdatedEffectResponse.class;
+      case 68:
+        return DataSponsorshipRemovedEffectResponse.class;
+      case 69:
+        return ClaimableBalanceSponsorshipCreatedEffectResponse.class;
+      case 70:
+        return ClaimableBalanceSponsorshipUpdatedEffectResponse.class;
+      case 71:
+        return ClaimableBalanceSponsorshipRemovedEffectResponse.class;
+      case 72:
+        return SignerSponsorshipCreatedEffectResponse.class;
+      case 73:
+        return SignerSponsorshipUpdatedEffectResponse.class;
+      case 74:
+        return SignerSponsorshipRemovedEffectResponse.class;
+      case 80:
+        return ClaimableBalanceClawedBackEffectResponse.class;
+      case 90:
+        return LiquidityPoolDepositedEffectResponse.class;
+      case 91:
+        return LiquidityPoolWithdrewEffectResponse.class;
+      case 92:
+        return LiquidityPoolTradeEffectResponse.class;
+      case 93:
+        return LiquidityPoolCreatedEffectResponse.class;
+      case 94:
+        return LiquidityPoolRemovedEffectResponse.class;
+      case 95:
+        return LiquidityPoolRevokedEffectResponse.class;
+      case 96:
+        return ContractCreditedEffectResponse.class;
+      case 97:
+        return ContractDebitedEffectResponse.class;
+      default:
+        throw new UnsupportedOperationException("Invalid effect type");
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package org.stellar.sdk.responses.gson;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import org.stellar.sdk.responses.operations.*;
+import org.stellar.sdk.xdr.OperationType;
+
+class OperationTypeAdapter extends RecordTypeAdapter<OperationResponse> {
+  private static final OperationType[] AllOperationTypes = OperationType.values();
+
+  OperationTypeAdapter(Gson gson) {
+    super(gson);
+  }
+
+  @Override
+  @SuppressWarnings("deprecation")
+  Class<? extends OperationResponse> recordClass(int type) {
+    if (type < 0 || type >= AllOperationTypes.length) {
+      throw new JsonParseException(
+          "Unknown operation type: " + type + ". Your SDK version may be outdated.");
+    }
+
+    switch (AllOperationTypes[type]) {
+      case CREATE_ACCOUNT:
+        return CreateAccountOperationResponse.class;
+      case PAYMENT:
+        return PaymentOperationResponse.class;
+      case PATH_PAYMENT_STRICT_RECEIVE:
+        return PathPaymentStrictReceiveOperationResponse.class;
+      case MANAGE_SELL_OFFER:
+        return ManageSellOfferOperationResponse.class;
+      case CREATE_PASSIVE_SELL_OFFER:
+        return CreatePassiveSellOfferOperationResponse.class;
+      case SET_OPTIONS:
+        return SetOptionsOperationResponse.class;
+      case CHANGE_TRUST:
+        return ChangeTrustOperationResponse.class;
+      case ALLOW_TRUST:
+        return AllowTrustOperationResponse.class;
+      case ACCOUNT_MERGE:
+        return AccountMergeOperationResponse.class;
+      case INFLATION:
+        return InflationOperationResponse.class;
+      case MANAGE_DATA:
+        return ManageDataOperationResponse.class;
+      case BUMP_SEQUENCE:
+        return BumpSequenceOperationResponse.class;
+      case MANAGE_BUY_OFFER:
+        return ManageBuyOfferOperationResponse.class;
+      case PATH_PAYMENT_STRICT_SEND:
+        return PathPaymentStrictSendOperationResponse.class;
+      case CREATE_CLAIMABLE_BALANCE:
+        return CreateClaimableBalanceOperationResponse.class;
+      case CLAIM_CLAIMABLE_BALANCE:
+        return ClaimClaimableBalanceOperationResponse.class;
+      case BEGIN_SPONSORING_FUTURE_RESERVES:
+        return BeginSponsoringFutureReservesOperationResponse.class;
+      case END_SPONSORING_FUTURE_RESERVES:
+        return EndSponsoringFutureReservesOperationResponse.class;
+      case REVOKE_SPONSORSHIP:
+        return RevokeSponsorshipOperationResponse.class;
+      case CLAWBACK:
+        return ClawbackOperationResponse.class;
+      case CLAWBACK_CLAIMABLE_BALANCE:
+        return ClawbackClaimableBalanceOperationResponse.class;
+      case SET_TRUST_LINE_FLAGS:
+        return SetTrustLineFlagsOperationResponse.class;
+      case LIQUIDITY_POOL_DEPOSIT:
+        return LiquidityPoolDepositOperationResponse.class;
+      case LIQUIDITY_POOL_WITHDRAW:
+        return LiquidityPoolWithdrawOperationResponse.class;
+      case INVOKE_HOST_FUNCTION:
+        return InvokeHostFunctionOperationResponse.class;
+      case EXTEND_FOOTPRINT_TTL:
+        return ExtendFootprintTTLOperationResponse.class;
+      case RESTORE_FOOTPRINT:
+        return RestoreFootprintOperationResponse.class;
+      default:
+        throw new AssertionError("Unhandled operation type: " + AllOperationTypes[type]);
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package org.stellar.sdk.responses.gson;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+import org.stellar.sdk.responses.Page;
+
+/**
+ * Reads a Horizon collection page, taking the records from <code>_embedded.records</code> and the
+ * links from <code>_links</code>. The records are streamed straight into their own adapter.
+ *
+ * @param <E> the type of the records
+ */
+class PageTypeAdapter<E> extends TypeAdapter<Page<E>> {
+  private final TypeAdapter<List<E>> recordsAdapter;
+  private final TypeAdapter<Page.Links> linksAdapter;
+
+  @SuppressWarnings("unchecked")
+  PageTypeAdapter(Gson gson, Type recordType) {
+    this.recordsAdapter =
+        (TypeAdapter<List<E>>) gson.getAdapter(TypeToken.getParameterized(List.class, recordType));
+    this.linksAdapter = gson.getAdapter(Page.Links.class);
+  }
+
+  @Override
+  public Page<E> read(JsonReader in) throws IOException {
+    List<E> records = null;
+    Page.Links links = null;
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "_embedded":
+          in.beginObject();
+          while (in.hasNext()) {
+            if ("records".equals(in.nextName())) {
+              records = recordsAdapter.read(in);
+            } else {
+              in.skipValue();
+            }
+          }
+          in.endObject();
+          break;
+        case "_links":
+          links = linksAdapter.read(in);
+          break;
+        default:
+          in.skipValue();
+          break;
+      }
+    }
+    in.endObject();
+    return new Page<>(records, links);
+  }
+
+  @Override
+  public void write(JsonWriter out, Page<E> value) throws IOException {
+    out.beginObject();
+    out.name("records");
+    recordsAdapter.write(out, value.getRecords());
+    out.name("links");
+    linksAdapter.write(out, value.getLinks());
+    out.endObject();
+  }
+}
@@ -0,0 +1,113 @@
+package org.stellar.sdk.responses.gson;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+
+/**
+ * Reads polymorphic Horizon records, such as effects and operations, whose concrete class is
+ * selected by their <code>type_i</code> field.
+ *
+ * <p>The record is streamed: the fields preceding <code>type_i</code> are buffered, and once the
+ * type is known they are replayed, followed by the remaining fields, to the adapter of the concrete
+ * class. No {@link com.google.gson.JsonElement} tree is built for the record.
+ *
+ * @param <T> the base class of the records
+ */
+abstract class RecordTypeAdapter<T> extends TypeAdapter<T> {
+  private static final String TYPE_FIELD = "type_i";
+
+  private final Gson gson;
+
+  RecordTypeAdapter(Gson gson) {
+    this.gson = gson;
+  }
+
+  /**
+   * Returns the class of the records of the given type.
+   *
+   * @param type the value of the <code>type_i</code> field
+   * @return the concrete class of the record
+   */
+  abstract Class<? extends T> recordClass(int type);
+
+  @Override
+  public T read(JsonReader in) throws IOException {
+    StringWriter buffered = new StringWriter();
+    JsonWriter writer = new JsonWriter(buffered);
+    writer.beginObject();
+    in.beginObject();
+    Integer type = null;
+    while (in.hasNext()) {
+      String name = in.nextName();
+      writer.name(name);
+      if (TYPE_FIELD.equals(name)) {
+        if (in.peek() != JsonToken.NULL) {
+          type = in.nextInt();
+          writer.value(type);
+        }
+        break;
+      }
+      copy(in, writer);
+    }
+    if (type == null) {
+      throw new JsonParseException(
+          "Missing required field 'type_i'. Your Horizon version may be outdated.");
+    }
+    writer.endObject();
+    writer.close();
+
+    TypeAdapter<? extends T> adapter = gson.getAdapter(recordClass(type));
+    return adapter.read(new ReplayingJsonReader(buffered.toString(), in));
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void write(JsonWriter out, T value) throws IOException {
+    ((TypeAdapter<T>) gson.getAdapter(value.getClass())).write(out, value);
+  }
+
+  private static void copy(JsonReader in, JsonWriter out) throws IOException {
+    switch (in.peek()) {
+      case BEGIN_ARRAY:
+        in.beginArray();
+        out.beginArray();
+        while (in.hasNext()) {
+          copy(in, out);
+        }
+        in.endArray();
+        out.endArray();
+        break;
+      case BEGIN_OBJECT:
+        in.beginObject();
+        out.beginObject();
+        while (in.hasNext()) {
+          out.name(in.nextName());
+          copy(in, out);
+        }
+        in.endObject();
+        out.endObject();
+        break;
+      case STRING:
+        out.value(in.nextString());
+        break;
+      case NUMBER:
+        out.jsonValue(in.nextString());
+        break;
+      case BOOLEAN:
+        out.value(in.nextBoolean());
+        break;
+      case NULL:
+        in.nextNull();
+        out.nullValue();
+        break;
+      default:
+        throw new JsonParseException("Unexpected token " + in.peek() + " at " + in.getPath());
+    }
+  }
+}
@@ -0,0 +1,133 @@
+package org.stellar.sdk.responses.gson;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import java.io.IOException;
+import java.io.StringReader;
+
+/**
+ * A {@link JsonReader} over a JSON object whose leading fields have already been consumed from the
+ * underlying reader and buffered as JSON text.
+ *
+ * <p>The buffered fields are read first, then the remaining fields and the end of the object are
+ * read from the underlying reader, so to the caller the object looks as if it was never touched.
+ */
+final class ReplayingJsonReader extends JsonReader {
+  private final JsonReader buffered;
+  private final JsonReader in;
+  private boolean replaying = true;
+  private int depth;
+
+  /**
+   * @param bufferedFields the consumed fields, as a JSON object
+   * @param in the underlying reader, positioned right after the consumed fields
+   */
+  ReplayingJsonReader(String bufferedFields, JsonReader in) {
+    super(new StringReader(""));
+    this.buffered = new JsonReader(new StringReader(bufferedFields));
+    this.in = in;
+  }
+
+  private JsonReader current() throws IOException {
+    if (replaying && depth == 1 && buffered.peek() == JsonToken.END_OBJECT) {
+      buffered.endObject();
+      replaying = false;
+    }
+    return replaying ? buffered : in;
+  }
+
+  @Override
+  public void beginArray() throws IOException {
+    current().beginArray();
+    depth++;
+  }
+
+  @Override
+  public void endArray() throws IOException {
+    current().endArray();
+    depth--;
+  }
+
+  @Override
+  public void beginObject() throws IOException {
+    current().beginObject();
+    depth++;
+  }
+
+  @Override
+  public void endObject() throws IOException {
+    current().endObject();
+    depth--;
+  }
+
+  @Override
+  public boolean hasNext() throws IOException {
+    return current().hasNext();
+  }
+
+  @Override
+  public JsonToken peek() throws IOException {
+    return current().peek();
+  }
+
+  @Override
+  public String nextName() throws IOException {
+    return current().nextName();
+  }
+
+  @Override
+  public String nextString() throws IOException {
+    return current().nextString();
+  }
+
+  @Override
+  public boolean nextBoolean() throws IOException {
+    return current().nextBoolean();
+  }
+
+  @Override
+  public void nextNull() throws IOException {
+    current().nextNull();
+  }
+
+  @Override
+  public double nextDouble() throws IOException {
+    return current().nextDouble();
+  }
+
+  @Override
+  public long nextLong() throws IOException {
+    return current().nextLong();
+  }
+
+  @Override
+  public int nextInt() throws IOException {
+    return current().nextInt();
+  }
+
+  @Override
+  public void skipValue() throws IOException {
+    current().skipValue();
+  }
+
+  @Override
+  public void close() throws IOException {
+    buffered.close();
+    in.close();
+  }
+
+  @Override
+  public String getPath() {
+    return replaying ? buffered.getPath() : in.getPath();
+  }
+
+  @Override
+  public String getPreviousPath() {
+    return replaying ? buffered.getPreviousPath() : in.getPreviousPath();
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + (replaying ? buffered : in);
+  }
+}
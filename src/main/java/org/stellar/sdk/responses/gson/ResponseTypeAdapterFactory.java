@@ -0,0 +1,39 @@
+package org.stellar.sdk.responses.gson;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import org.stellar.sdk.responses.Page;
+import org.stellar.sdk.responses.effects.EffectResponse;
+import org.stellar.sdk.responses.operations.OperationResponse;
+
+/**
+ * Creates the adapters for {@link Page}, {@link EffectResponse} and {@link OperationResponse}. Gson
+ * caches the created adapters, so each one is built once per {@link Gson} instance.
+ */
+class ResponseTypeAdapterFactory implements TypeAdapterFactory {
+  @Override
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> typeToken) {
+    Class<? super T> rawType = typeToken.getRawType();
+    TypeAdapter<?> adapter;
+    if (rawType == EffectResponse.class) {
+      adapter = new EffectTypeAdapter(gson);
+    } else if (rawType == OperationResponse.class) {
+      adapter = new OperationTypeAdapter(gson);
+    } else if (rawType == Page.class) {
+      Type type = typeToken.getType();
+      Type recordType =
+          type instanceof ParameterizedType
+              ? ((ParameterizedType) type).getActualTypeArguments()[0]
+              : Object.class;
+      adapter = new PageTypeAdapter(gson, recordType);
+    } else {
+      return null;
+    }
+    return (TypeAdapter<T>) adapter.nullSafe();
+  }
+}
@@ -1,9 +1,10 @@
 /**
  * Provides Gson serialization and deserialization adapters for Horizon response types.
  *
- * <p>This package contains custom {@link com.google.gson.JsonDeserializer} implementations that
- * handle polymorphic deserialization of Horizon responses (e.g., effects, operations, assets,
- * predicates). The {@link org.stellar.sdk.responses.gson.GsonSingleton} class provides the
- * pre-configured {@link com.google.gson.Gson} instance used throughout the SDK.
+ * <p>This package contains custom {@link com.google.gson.JsonDeserializer} and {@link
+ * com.google.gson.TypeAdapter} implementations that handle polymorphic deserialization of Horizon
+ * responses (e.g., effects, operations, assets, predicates) and pages. The {@link
+ * org.stellar.sdk.responses.gson.GsonSingleton} class provides the pre-configured {@link
+ * com.google.gson.Gson} instance used throughout the SDK.
  */
 package org.stellar.sdk.responses.gson;
@@ -67,45 +67,31 @@ class ScvComparator implements Comparator<SCVal> {
       case SCV_I32:
         return Integer.compare(a.getI32().getInt32(), b.getI32().getInt32());
       case SCV_U64:
-        return a.getU64().getUint64().getNumber().compareTo(b.getU64().getUint64().getNumber());
+        return a.getU64().getUint64().compareUnsigned(b.getU64().getUint64());
       case SCV_I64:
         return Long.compare(a.getI64().getInt64(), b.getI64().getInt64());
       case SCV_TIMEPOINT:
         return a.getTimepoint()
             .getTimePoint()
             .getUint64()
-            .getNumber()
-            .compareTo(b.getTimepoint().getTimePoint().getUint64().getNumber());
+            .compareUnsigned(b.getTimepoint().getTimePoint().getUint64());
       case SCV_DURATION:
         return a.getDuration()
             .getDuration()
             .getUint64()
-            .getNumber()
-            .compareTo(b.getDuration().getDuration().getUint64().getNumber());
+            .compareUnsigned(b.getDuration().getDuration().getUint64());
       case SCV_U128:
         {
           int cmp =
-              a.getU128()
-                  .getHi()
-                  .getUint64()
-                  .getNumber()
-                  .compareTo(b.getU128().getHi().getUint64().getNumber());
+              a.getU128().getHi().getUint64().compareUnsigned(b.getU128().getHi().getUint64());
           if (cmp != 0) return cmp;
-          return a.getU128()
-              .getLo()
-              .getUint64()
-              .getNumber()
-              .compareTo(b.getU128().getLo().getUint64().getNumber());
+          return a.getU128().getLo().getUint64().compareUnsigned(b.getU128().getLo().getUint64());
         }
       case SCV_I128:
         {
           int cmp = Long.compare(a.getI128().getHi().getInt64(), b.getI128().getHi().getInt64());
           if (cmp != 0) return cmp;
-          return a.getI128()
-              .getLo()
-              .getUint64()
-              .getNumber()
-              .compareTo(b.getI128().getLo().getUint64().getNumber());
+          return a.getI128().getLo().getUint64().compareUnsigned(b.getI128().getLo().getUint64());
         }
       case SCV_U256:
         {
@@ -113,28 +99,24 @@ class ScvComparator implements Comparator<SCVal> {
               a.getU256()
                   .getHi_hi()
                   .getUint64()
-                  .getNumber()
-                  .compareTo(b.getU256().getHi_hi().getUint64().getNumber());
+                  .compareUnsigned(b.getU256().getHi_hi().getUint64());
           if (cmp != 0) return cmp;
           cmp =
               a.getU256()
                   .getHi_lo()
                   .getUint64()
-                  .getNumber()
-                  .compareTo(b.getU256().getHi_lo().getUint64().getNumber());
+                  .compareUnsigned(b.getU256().getHi_lo().getUint64());
           if (cmp != 0) return cmp;
           cmp =
               a.getU256()
                   .getLo_hi()
                   .getUint64()
-                  .getNumber()
-                  .compareTo(b.getU256().getLo_hi().getUint64().getNumber());
+                  .compareUnsigned(b.getU256().getLo_hi().getUint64());
           if (cmp != 0) return cmp;
           return a.getU256()
               .getLo_lo()
               .getUint64()
-              .getNumber()
-              .compareTo(b.getU256().getLo_lo().getUint64().getNumber());
+              .compareUnsigned(b.getU256().getLo_lo().getUint64());
         }
       case SCV_I256:
         {
@@ -145,21 +127,18 @@ class ScvComparator implements Comparator<SCVal> {
               a.getI256()
                   .getHi_lo()
                   .getUint64()
-                  .getNumber()
-                  .compareTo(b.getI256().getHi_lo().getUint64().getNumber());
+                  .compareUnsigned(b.getI256().getHi_lo().getUint64());
           if (cmp != 0) return cmp;
           cmp =
               a.getI256()
                   .getLo_hi()
                   .getUint64()
-                  .getNumber()
-                  .compareTo(b.getI256().getLo_hi().getUint64().getNumber());
+                  .compareUnsigned(b.getI256().getLo_hi().getUint64());
           if (cmp != 0) return cmp;
           return a.getI256()
               .getLo_lo()
               .getUint64()
-              .getNumber()
-              .compareTo(b.getI256().getLo_lo().getUint64().getNumber());
+              .compareUnsigned(b.getI256().getLo_lo().getUint64());
         }
       case SCV_BYTES:
         return Util.compareBytesUnsigned(a.getBytes().getSCBytes(), b.getBytes().getSCBytes());
@@ -236,8 +215,7 @@ class ScvComparator implements Comparator<SCVal> {
               a.getMuxedAccount()
                   .getId()
                   .getUint64()
-                  .getNumber()
-                  .compareTo(b.getMuxedAccount().getId().getUint64().getNumber());
+                  .compareUnsigned(b.getMuxedAccount().getId().getUint64());
           if (cmp != 0) return cmp;
           return Util.compareBytesUnsigned(
               a.getMuxedAccount().getEd25519().getUint256(),
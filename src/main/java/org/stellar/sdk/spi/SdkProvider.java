@@ -1,6 +1,5 @@
 package org.stellar.sdk.spi;
 
-import org.stellar.sdk.Base32;
 import org.stellar.sdk.Base64;
 
 /**
@@ -31,18 +30,14 @@ public interface SdkProvider {
   }
 
   /**
-   * Creates a {@link Base32} implementation that will be used by the SDK.
+   * Creates a {@link org.stellar.sdk.Base32} implementation.
    *
-   * <p>Note: Default implementation will use the Apache Commons Codec's {@link
-   * org.apache.commons.codec.binary.Base32}, and it only works with Android API 28 and above, if
-   * you need to support older versions of Android you need to provide your own implementation, <a
-   * href="https://github.com/stellar/java-stellar-sdk/blob/master/android_test/app/src/main/java/org/stellar/javastellarsdkdemoapp/AndroidSdkProvider.kt">this</a>
-   * is an example for reference.
-   *
-   * @return a {@link Base32} implementation, if returns null the SDK will use the default
-   *     implementation.
+   * @deprecated {@link org.stellar.sdk.StrKey} encodes and decodes base32 itself, so the SDK no
+   *     longer calls this method. It will be removed in a future release.
+   * @return a {@link org.stellar.sdk.Base32} implementation, unused
    */
-  default Base32 createBase32() {
+  @Deprecated
+  default org.stellar.sdk.Base32 createBase32() {
     return null;
   }
 }
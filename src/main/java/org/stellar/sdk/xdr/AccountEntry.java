@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -157,6 +158,28 @@ public class AccountEntry implements XdrElement {
     ext.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += accountID.encodedSize();
+    size += balance.encodedSize();
+    size += seqNum.encodedSize();
+    size += numSubEntries.encodedSize();
+    size += 4;
+    if (inflationDest != null) {
+      size += inflationDest.encodedSize();
+    }
+    size += flags.encodedSize();
+    size += homeDomain.encodedSize();
+    size += thresholds.encodedSize();
+    size += 4;
+    for (int i = 0; i < signers.length; i++) {
+      size += signers[i].encodedSize();
+    }
+    size += ext.encodedSize();
+    return size;
+  }
+
   public static AccountEntry decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -201,16 +224,221 @@ public class AccountEntry implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static AccountEntry decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    AccountEntry decodedAccountEntry = new AccountEntry();
+    decodedAccountEntry.accountID = AccountID.decode(reader, maxDepth);
+    decodedAccountEntry.balance = Int64.decode(reader, maxDepth);
+    decodedAccountEntry.seqNum = SequenceNumber.decode(reader, maxDepth);
+    decodedAccountEntry.numSubEntries = Uint32.decode(reader, maxDepth);
+    boolean inflationDestPresent = reader.readXdrBoolean();
+    if (inflationDestPresent) {
+      decodedAccountEntry.inflationDest = AccountID.decode(reader, maxDepth);
+    }
+    decodedAccountEntry.flags = Uint32.decode(reader, maxDepth);
+    decodedAccountEntry.homeDomain = String32.decode(reader, maxDepth);
+    decodedAccountEntry.thresholds = Thresholds.decode(reader, maxDepth);
+    int signersSize = reader.readInt();
+    if (signersSize < 0) {
+      throw new IOException("signers size " + signersSize + " is negative");
+    }
+    if (signersSize > 20) {
+      throw new IOException("signers size " + signersSize + " exceeds max size 20");
+    }
+    int signersRemainingInputLen = reader.getRemainingInputLen();
+    if (signersRemainingInputLen >= 0 && signersRemainingInputLen < signersSize) {
+      throw new IOException(
+          "signers size "
+              + signersSize
+              + " exceeds remaining input length "
+              + signersRemainingInputLen);
+    }
+    decodedAccountEntry.signers = new Signer[signersSize];
+    for (int i = 0; i < signersSize; i++) {
+      decodedAccountEntry.signers[i] = Signer.decode(reader, maxDepth);
+    }
+    decodedAccountEntry.ext = AccountEntryExt.decode(reader, maxDepth);
+    return decodedAccountEntry;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    AccountID.skip(stream, maxDepth);
+    Int64.skip(stream, maxDepth);
+    SequenceNumber.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    boolean inflationDestPresent = stream.readXdrBoolean();
+    if (inflationDestPresent) {
+      AccountID.skip(stream, maxDepth);
+    }
+    Uint32.skip(stream, maxDepth);
+    String32.skip(stream, maxDepth);
+    Thresholds.skip(stream, maxDepth);
+    int signersSize = stream.readInt();
+    if (signersSize < 0) {
+      throw new IOException("signers size " + signersSize + " is negative");
+    }
+    if (signersSize > 20) {
+      throw new IOException("signers size " + signersSize + " exceeds max size 20");
+    }
+    int signersRemainingInputLen = stream.getRemainingInputLen();
+    if (signersRemainingInputLen >= 0 && signersRemainingInputLen < signersSize) {
+      throw new IOException(
+          "signers size "
+              + signersSize
+              + " exceeds remaining input length "
+              + signersRemainingInputLen);
+    }
+    for (int i = 0; i < signersSize; i++) {
+      Signer.skip(stream, maxDepth);
+    }
+    AccountEntryExt.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field =
+        path.checkField(
+            index,
+            "accountID",
+            "balance",
+            "seqNum",
+            "numSubEntries",
+            "inflationDest",
+            "flags",
+            "homeDomain",
+            "thresholds",
+            "signers[*]",
+            "ext");
+    if (field.equals("accountID")) {
+      AccountID.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      AccountID.skip(stream, maxDepth);
+    }
+    if (field.equals("balance")) {
+      Int64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Int64.skip(stream, maxDepth);
+    }
+    if (field.equals("seqNum")) {
+      SequenceNumber.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      SequenceNumber.skip(stream, maxDepth);
+    }
+    if (field.equals("numSubEntries")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("inflationDest")) {
+      boolean inflationDestPresent = stream.readXdrBoolean();
+      if (inflationDestPresent) {
+        AccountID.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      boolean inflationDestPresent = stream.readXdrBoolean();
+      if (inflationDestPresent) {
+        AccountID.skip(stream, maxDepth);
+      }
+    }
+    if (field.equals("flags")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("homeDomain")) {
+      String32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      String32.skip(stream, maxDepth);
+    }
+    if (field.equals("thresholds")) {
+      Thresholds.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Thresholds.skip(stream, maxDepth);
+    }
+    if (field.equals("signers")) {
+      int signersSize = stream.readInt();
+      if (signersSize < 0) {
+        throw new IOException("signers size " + signersSize + " is negative");
+      }
+      if (signersSize > 20) {
+        throw new IOException("signers size " + signersSize + " exceeds max size 20");
+      }
+      int signersRemainingInputLen = stream.getRemainingInputLen();
+      if (signersRemainingInputLen >= 0 && signersRemainingInputLen < signersSize) {
+        throw new IOException(
+            "signers size "
+                + signersSize
+                + " exceeds remaining input length "
+                + signersRemainingInputLen);
+      }
+      for (int i = 0; i < signersSize; i++) {
+        Signer.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int signersSize = stream.readInt();
+      if (signersSize < 0) {
+        throw new IOException("signers size " + signersSize + " is negative");
+      }
+      if (signersSize > 20) {
+        throw new IOException("signers size " + signersSize + " exceeds max size 20");
+      }
+      int signersRemainingInputLen = stream.getRemainingInputLen();
+      if (signersRemainingInputLen >= 0 && signersRemainingInputLen < signersSize) {
+        throw new IOException(
+            "signers size "
+                + signersSize
+                + " exceeds remaining input length "
+                + signersRemainingInputLen);
+      }
+      for (int i = 0; i < signersSize; i++) {
+        Signer.skip(stream, maxDepth);
+      }
+    }
+    if (field.equals("ext")) {
+      AccountEntryExt.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      AccountEntryExt.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static AccountEntry fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static AccountEntry fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static AccountEntry fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -306,6 +534,19 @@ public class AccountEntry implements XdrElement {
       }
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 4;
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          size += v1.encodedSize();
+          break;
+      }
+      return size;
+    }
+
     public static AccountEntryExt decode(XdrDataInputStream stream, int maxDepth)
         throws IOException {
       if (maxDepth <= 0) {
@@ -331,16 +572,94 @@ public class AccountEntry implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static AccountEntryExt decode(XdrByteBufferReader reader, int maxDepth)
+        throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      AccountEntryExt decodedAccountEntryExt = new AccountEntryExt();
+      Integer discriminant = reader.readInt();
+      decodedAccountEntryExt.setDiscriminant(discriminant);
+      switch (decodedAccountEntryExt.getDiscriminant()) {
+        case 0:
+          break;
+        case 1:
+          decodedAccountEntryExt.v1 = AccountEntryExtensionV1.decode(reader, maxDepth);
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+      return decodedAccountEntryExt;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      int discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          AccountEntryExtensionV1.skip(stream, maxDepth);
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index, "v1");
+      int discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          if (field.equals("v1")) {
+            AccountEntryExtensionV1.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            AccountEntryExtensionV1.skip(stream, maxDepth);
+          }
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static AccountEntryExt fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static AccountEntryExt fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static AccountEntryExt fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
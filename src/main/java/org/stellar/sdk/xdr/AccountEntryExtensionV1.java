@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -57,6 +59,14 @@ public class AccountEntryExtensionV1 implements XdrElement {
     ext.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += liabilities.encodedSize();
+    size += ext.encodedSize();
+    return size;
+  }
+
   public static AccountEntryExtensionV1 decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -73,16 +83,73 @@ public class AccountEntryExtensionV1 implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static AccountEntryExtensionV1 decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    AccountEntryExtensionV1 decodedAccountEntryExtensionV1 = new AccountEntryExtensionV1();
+    decodedAccountEntryExtensionV1.liabilities = Liabilities.decode(reader, maxDepth);
+    decodedAccountEntryExtensionV1.ext = AccountEntryExtensionV1Ext.decode(reader, maxDepth);
+    return decodedAccountEntryExtensionV1;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Liabilities.skip(stream, maxDepth);
+    AccountEntryExtensionV1Ext.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "liabilities", "ext");
+    if (field.equals("liabilities")) {
+      Liabilities.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Liabilities.skip(stream, maxDepth);
+    }
+    if (field.equals("ext")) {
+      AccountEntryExtensionV1Ext.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      AccountEntryExtensionV1Ext.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static AccountEntryExtensionV1 fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static AccountEntryExtensionV1 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static AccountEntryExtensionV1 fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -155,6 +222,19 @@ public class AccountEntryExtensionV1 implements XdrElement {
       }
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 4;
+      switch (discriminant) {
+        case 0:
+          break;
+        case 2:
+          size += v2.encodedSize();
+          break;
+      }
+      return size;
+    }
+
     public static AccountEntryExtensionV1Ext decode(XdrDataInputStream stream, int maxDepth)
         throws IOException {
       if (maxDepth <= 0) {
@@ -181,16 +261,95 @@ public class AccountEntryExtensionV1 implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static AccountEntryExtensionV1Ext decode(XdrByteBufferReader reader, int maxDepth)
+        throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      AccountEntryExtensionV1Ext decodedAccountEntryExtensionV1Ext =
+          new AccountEntryExtensionV1Ext();
+      Integer discriminant = reader.readInt();
+      decodedAccountEntryExtensionV1Ext.setDiscriminant(discriminant);
+      switch (decodedAccountEntryExtensionV1Ext.getDiscriminant()) {
+        case 0:
+          break;
+        case 2:
+          decodedAccountEntryExtensionV1Ext.v2 = AccountEntryExtensionV2.decode(reader, maxDepth);
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+      return decodedAccountEntryExtensionV1Ext;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      int discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        case 2:
+          AccountEntryExtensionV2.skip(stream, maxDepth);
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index, "v2");
+      int discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        case 2:
+          if (field.equals("v2")) {
+            AccountEntryExtensionV2.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            AccountEntryExtensionV2.skip(stream, maxDepth);
+          }
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static AccountEntryExtensionV1Ext fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static AccountEntryExtensionV1Ext fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static AccountEntryExtensionV1Ext fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -86,6 +87,19 @@ public class AccountEntryExtensionV2 implements XdrElement {
     ext.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += numSponsored.encodedSize();
+    size += numSponsoring.encodedSize();
+    size += 4;
+    for (int i = 0; i < signerSponsoringIDs.length; i++) {
+      size += signerSponsoringIDs[i].encodedSize();
+    }
+    size += ext.encodedSize();
+    return size;
+  }
+
   public static AccountEntryExtensionV2 decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -126,16 +140,169 @@ public class AccountEntryExtensionV2 implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static AccountEntryExtensionV2 decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    AccountEntryExtensionV2 decodedAccountEntryExtensionV2 = new AccountEntryExtensionV2();
+    decodedAccountEntryExtensionV2.numSponsored = Uint32.decode(reader, maxDepth);
+    decodedAccountEntryExtensionV2.numSponsoring = Uint32.decode(reader, maxDepth);
+    int signerSponsoringIDsSize = reader.readInt();
+    if (signerSponsoringIDsSize < 0) {
+      throw new IOException("signerSponsoringIDs size " + signerSponsoringIDsSize + " is negative");
+    }
+    if (signerSponsoringIDsSize > 20) {
+      throw new IOException(
+          "signerSponsoringIDs size " + signerSponsoringIDsSize + " exceeds max size 20");
+    }
+    int signerSponsoringIDsRemainingInputLen = reader.getRemainingInputLen();
+    if (signerSponsoringIDsRemainingInputLen >= 0
+        && signerSponsoringIDsRemainingInputLen < signerSponsoringIDsSize) {
+      throw new IOException(
+          "signerSponsoringIDs size "
+              + signerSponsoringIDsSize
+              + " exceeds remaining input length "
+              + signerSponsoringIDsRemainingInputLen);
+    }
+    decodedAccountEntryExtensionV2.signerSponsoringIDs =
+        new SponsorshipDescriptor[signerSponsoringIDsSize];
+    for (int i = 0; i < signerSponsoringIDsSize; i++) {
+      decodedAccountEntryExtensionV2.signerSponsoringIDs[i] =
+          SponsorshipDescriptor.decode(reader, maxDepth);
+    }
+    decodedAccountEntryExtensionV2.ext = AccountEntryExtensionV2Ext.decode(reader, maxDepth);
+    return decodedAccountEntryExtensionV2;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    int signerSponsoringIDsSize = stream.readInt();
+    if (signerSponsoringIDsSize < 0) {
+      throw new IOException("signerSponsoringIDs size " + signerSponsoringIDsSize + " is negative");
+    }
+    if (signerSponsoringIDsSize > 20) {
+      throw new IOException(
+          "signerSponsoringIDs size " + signerSponsoringIDsSize + " exceeds max size 20");
+    }
+    int signerSponsoringIDsRemainingInputLen = stream.getRemainingInputLen();
+    if (signerSponsoringIDsRemainingInputLen >= 0
+        && signerSponsoringIDsRemainingInputLen < signerSponsoringIDsSize) {
+      throw new IOException(
+          "signerSponsoringIDs size "
+              + signerSponsoringIDsSize
+              + " exceeds remaining input length "
+              + signerSponsoringIDsRemainingInputLen);
+    }
+    for (int i = 0; i < signerSponsoringIDsSize; i++) {
+      SponsorshipDescriptor.skip(stream, maxDepth);
+    }
+    AccountEntryExtensionV2Ext.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field =
+        path.checkField(index, "numSponsored", "numSponsoring", "signerSponsoringIDs[*]", "ext");
+    if (field.equals("numSponsored")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("numSponsoring")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("signerSponsoringIDs")) {
+      int signerSponsoringIDsSize = stream.readInt();
+      if (signerSponsoringIDsSize < 0) {
+        throw new IOException(
+            "signerSponsoringIDs size " + signerSponsoringIDsSize + " is negative");
+      }
+      if (signerSponsoringIDsSize > 20) {
+        throw new IOException(
+            "signerSponsoringIDs size " + signerSponsoringIDsSize + " exceeds max size 20");
+      }
+      int signerSponsoringIDsRemainingInputLen = stream.getRemainingInputLen();
+      if (signerSponsoringIDsRemainingInputLen >= 0
+          && signerSponsoringIDsRemainingInputLen < signerSponsoringIDsSize) {
+        throw new IOException(
+            "signerSponsoringIDs size "
+                + signerSponsoringIDsSize
+                + " exceeds remaining input length "
+                + signerSponsoringIDsRemainingInputLen);
+      }
+      for (int i = 0; i < signerSponsoringIDsSize; i++) {
+        SponsorshipDescriptor.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int signerSponsoringIDsSize = stream.readInt();
+      if (signerSponsoringIDsSize < 0) {
+        throw new IOException(
+            "signerSponsoringIDs size " + signerSponsoringIDsSize + " is negative");
+      }
+      if (signerSponsoringIDsSize > 20) {
+        throw new IOException(
+            "signerSponsoringIDs size " + signerSponsoringIDsSize + " exceeds max size 20");
+      }
+      int signerSponsoringIDsRemainingInputLen = stream.getRemainingInputLen();
+      if (signerSponsoringIDsRemainingInputLen >= 0
+          && signerSponsoringIDsRemainingInputLen < signerSponsoringIDsSize) {
+        throw new IOException(
+            "signerSponsoringIDs size "
+                + signerSponsoringIDsSize
+                + " exceeds remaining input length "
+                + signerSponsoringIDsRemainingInputLen);
+      }
+      for (int i = 0; i < signerSponsoringIDsSize; i++) {
+        SponsorshipDescriptor.skip(stream, maxDepth);
+      }
+    }
+    if (field.equals("ext")) {
+      AccountEntryExtensionV2Ext.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      AccountEntryExtensionV2Ext.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static AccountEntryExtensionV2 fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static AccountEntryExtensionV2 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static AccountEntryExtensionV2 fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -219,6 +386,19 @@ public class AccountEntryExtensionV2 implements XdrElement {
       }
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 4;
+      switch (discriminant) {
+        case 0:
+          break;
+        case 3:
+          size += v3.encodedSize();
+          break;
+      }
+      return size;
+    }
+
     public static AccountEntryExtensionV2Ext decode(XdrDataInputStream stream, int maxDepth)
         throws IOException {
       if (maxDepth <= 0) {
@@ -245,16 +425,95 @@ public class AccountEntryExtensionV2 implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static AccountEntryExtensionV2Ext decode(XdrByteBufferReader reader, int maxDepth)
+        throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      AccountEntryExtensionV2Ext decodedAccountEntryExtensionV2Ext =
+          new AccountEntryExtensionV2Ext();
+      Integer discriminant = reader.readInt();
+      decodedAccountEntryExtensionV2Ext.setDiscriminant(discriminant);
+      switch (decodedAccountEntryExtensionV2Ext.getDiscriminant()) {
+        case 0:
+          break;
+        case 3:
+          decodedAccountEntryExtensionV2Ext.v3 = AccountEntryExtensionV3.decode(reader, maxDepth);
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+      return decodedAccountEntryExtensionV2Ext;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      int discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        case 3:
+          AccountEntryExtensionV3.skip(stream, maxDepth);
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index, "v3");
+      int discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        case 3:
+          if (field.equals("v3")) {
+            AccountEntryExtensionV3.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            AccountEntryExtensionV3.skip(stream, maxDepth);
+          }
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static AccountEntryExtensionV2Ext fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static AccountEntryExtensionV2Ext fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static AccountEntryExtensionV2Ext fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
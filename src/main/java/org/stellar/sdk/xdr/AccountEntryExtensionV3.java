@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -65,6 +67,15 @@ public class AccountEntryExtensionV3 implements XdrElement {
     seqTime.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += ext.encodedSize();
+    size += seqLedger.encodedSize();
+    size += seqTime.encodedSize();
+    return size;
+  }
+
   public static AccountEntryExtensionV3 decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -82,16 +93,80 @@ public class AccountEntryExtensionV3 implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static AccountEntryExtensionV3 decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    AccountEntryExtensionV3 decodedAccountEntryExtensionV3 = new AccountEntryExtensionV3();
+    decodedAccountEntryExtensionV3.ext = ExtensionPoint.decode(reader, maxDepth);
+    decodedAccountEntryExtensionV3.seqLedger = Uint32.decode(reader, maxDepth);
+    decodedAccountEntryExtensionV3.seqTime = TimePoint.decode(reader, maxDepth);
+    return decodedAccountEntryExtensionV3;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ExtensionPoint.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    TimePoint.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "ext", "seqLedger", "seqTime");
+    if (field.equals("ext")) {
+      ExtensionPoint.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      ExtensionPoint.skip(stream, maxDepth);
+    }
+    if (field.equals("seqLedger")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("seqTime")) {
+      TimePoint.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      TimePoint.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static AccountEntryExtensionV3 fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static AccountEntryExtensionV3 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static AccountEntryExtensionV3 fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,8 +3,10 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import org.stellar.sdk.Base64Factory;
 
 /**
@@ -67,20 +69,65 @@ public enum AccountFlags implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static AccountFlags decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    // maxDepth is intentionally not checked - enums are leaf types with no recursive decoding
+    int value = reader.readInt();
+    switch (value) {
+      case 1:
+        return AUTH_REQUIRED_FLAG;
+      case 2:
+        return AUTH_REVOCABLE_FLAG;
+      case 4:
+        return AUTH_IMMUTABLE_FLAG;
+      case 8:
+        return AUTH_CLAWBACK_ENABLED_FLAG;
+      default:
+        throw new IllegalArgumentException("Unknown enum value: " + value);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    decode(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    path.checkEnd(index);
+    values.add(decode(stream, maxDepth));
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  @Override
+  public int encodedSize() {
+    return 4;
+  }
+
   public static AccountFlags fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static AccountFlags fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static AccountFlags fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -69,6 +71,25 @@ public class AccountMergeResult implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case ACCOUNT_MERGE_SUCCESS:
+        size += sourceAccountBalance.encodedSize();
+        break;
+      case ACCOUNT_MERGE_MALFORMED:
+      case ACCOUNT_MERGE_NO_ACCOUNT:
+      case ACCOUNT_MERGE_IMMUTABLE_SET:
+      case ACCOUNT_MERGE_HAS_SUB_ENTRIES:
+      case ACCOUNT_MERGE_SEQNUM_TOO_FAR:
+      case ACCOUNT_MERGE_DEST_FULL:
+      case ACCOUNT_MERGE_IS_SPONSOR:
+        break;
+    }
+    return size;
+  }
+
   public static AccountMergeResult decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -100,16 +121,112 @@ public class AccountMergeResult implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static AccountMergeResult decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    AccountMergeResult decodedAccountMergeResult = new AccountMergeResult();
+    AccountMergeResultCode discriminant = AccountMergeResultCode.decode(reader, maxDepth);
+    decodedAccountMergeResult.setDiscriminant(discriminant);
+    switch (decodedAccountMergeResult.getDiscriminant()) {
+      case ACCOUNT_MERGE_SUCCESS:
+        decodedAccountMergeResult.sourceAccountBalance = Int64.decode(reader, maxDepth);
+        break;
+      case ACCOUNT_MERGE_MALFORMED:
+      case ACCOUNT_MERGE_NO_ACCOUNT:
+      case ACCOUNT_MERGE_IMMUTABLE_SET:
+      case ACCOUNT_MERGE_HAS_SUB_ENTRIES:
+      case ACCOUNT_MERGE_SEQNUM_TOO_FAR:
+      case ACCOUNT_MERGE_DEST_FULL:
+      case ACCOUNT_MERGE_IS_SPONSOR:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedAccountMergeResult;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    AccountMergeResultCode discriminant = AccountMergeResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case ACCOUNT_MERGE_SUCCESS:
+        Int64.skip(stream, maxDepth);
+        break;
+      case ACCOUNT_MERGE_MALFORMED:
+      case ACCOUNT_MERGE_NO_ACCOUNT:
+      case ACCOUNT_MERGE_IMMUTABLE_SET:
+      case ACCOUNT_MERGE_HAS_SUB_ENTRIES:
+      case ACCOUNT_MERGE_SEQNUM_TOO_FAR:
+      case ACCOUNT_MERGE_DEST_FULL:
+      case ACCOUNT_MERGE_IS_SPONSOR:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "sourceAccountBalance");
+    AccountMergeResultCode discriminant = AccountMergeResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case ACCOUNT_MERGE_SUCCESS:
+        if (field.equals("sourceAccountBalance")) {
+          Int64.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Int64.skip(stream, maxDepth);
+        }
+        break;
+      case ACCOUNT_MERGE_MALFORMED:
+      case ACCOUNT_MERGE_NO_ACCOUNT:
+      case ACCOUNT_MERGE_IMMUTABLE_SET:
+      case ACCOUNT_MERGE_HAS_SUB_ENTRIES:
+      case ACCOUNT_MERGE_SEQNUM_TOO_FAR:
+      case ACCOUNT_MERGE_DEST_FULL:
+      case ACCOUNT_MERGE_IS_SPONSOR:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static AccountMergeResult fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static AccountMergeResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static AccountMergeResult fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
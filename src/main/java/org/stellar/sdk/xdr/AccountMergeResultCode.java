@@ -3,8 +3,10 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import org.stellar.sdk.Base64Factory;
 
 /**
@@ -77,20 +79,74 @@ public enum AccountMergeResultCode implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static AccountMergeResultCode decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    // maxDepth is intentionally not checked - enums are leaf types with no recursive decoding
+    int value = reader.readInt();
+    switch (value) {
+      case 0:
+        return ACCOUNT_MERGE_SUCCESS;
+      case -1:
+        return ACCOUNT_MERGE_MALFORMED;
+      case -2:
+        return ACCOUNT_MERGE_NO_ACCOUNT;
+      case -3:
+        return ACCOUNT_MERGE_IMMUTABLE_SET;
+      case -4:
+        return ACCOUNT_MERGE_HAS_SUB_ENTRIES;
+      case -5:
+        return ACCOUNT_MERGE_SEQNUM_TOO_FAR;
+      case -6:
+        return ACCOUNT_MERGE_DEST_FULL;
+      case -7:
+        return ACCOUNT_MERGE_IS_SPONSOR;
+      default:
+        throw new IllegalArgumentException("Unknown enum value: " + value);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    decode(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    path.checkEnd(index);
+    values.add(decode(stream, maxDepth));
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  @Override
+  public int encodedSize() {
+    return 4;
+  }
+
   public static AccountMergeResultCode fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static AccountMergeResultCode fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static AccountMergeResultCode fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
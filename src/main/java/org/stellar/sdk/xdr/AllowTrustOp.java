@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -61,6 +63,15 @@ public class AllowTrustOp implements XdrElement {
     authorize.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += trustor.encodedSize();
+    size += asset.encodedSize();
+    size += authorize.encodedSize();
+    return size;
+  }
+
   public static AllowTrustOp decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -77,16 +88,79 @@ public class AllowTrustOp implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static AllowTrustOp decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    AllowTrustOp decodedAllowTrustOp = new AllowTrustOp();
+    decodedAllowTrustOp.trustor = AccountID.decode(reader, maxDepth);
+    decodedAllowTrustOp.asset = AssetCode.decode(reader, maxDepth);
+    decodedAllowTrustOp.authorize = Uint32.decode(reader, maxDepth);
+    return decodedAllowTrustOp;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    AccountID.skip(stream, maxDepth);
+    AssetCode.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "trustor", "asset", "authorize");
+    if (field.equals("trustor")) {
+      AccountID.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      AccountID.skip(stream, maxDepth);
+    }
+    if (field.equals("asset")) {
+      AssetCode.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      AssetCode.skip(stream, maxDepth);
+    }
+    if (field.equals("authorize")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static AllowTrustOp fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static AllowTrustOp fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static AllowTrustOp fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,8 +3,10 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -57,6 +59,23 @@ public class AllowTrustResult implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case ALLOW_TRUST_SUCCESS:
+        break;
+      case ALLOW_TRUST_MALFORMED:
+      case ALLOW_TRUST_NO_TRUST_LINE:
+      case ALLOW_TRUST_TRUST_NOT_REQUIRED:
+      case ALLOW_TRUST_CANT_REVOKE:
+      case ALLOW_TRUST_SELF_NOT_ALLOWED:
+      case ALLOW_TRUST_LOW_RESERVE:
+        break;
+    }
+    return size;
+  }
+
   public static AllowTrustResult decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -86,16 +105,102 @@ public class AllowTrustResult implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static AllowTrustResult decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    AllowTrustResult decodedAllowTrustResult = new AllowTrustResult();
+    AllowTrustResultCode discriminant = AllowTrustResultCode.decode(reader, maxDepth);
+    decodedAllowTrustResult.setDiscriminant(discriminant);
+    switch (decodedAllowTrustResult.getDiscriminant()) {
+      case ALLOW_TRUST_SUCCESS:
+        break;
+      case ALLOW_TRUST_MALFORMED:
+      case ALLOW_TRUST_NO_TRUST_LINE:
+      case ALLOW_TRUST_TRUST_NOT_REQUIRED:
+      case ALLOW_TRUST_CANT_REVOKE:
+      case ALLOW_TRUST_SELF_NOT_ALLOWED:
+      case ALLOW_TRUST_LOW_RESERVE:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedAllowTrustResult;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    AllowTrustResultCode discriminant = AllowTrustResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case ALLOW_TRUST_SUCCESS:
+        break;
+      case ALLOW_TRUST_MALFORMED:
+      case ALLOW_TRUST_NO_TRUST_LINE:
+      case ALLOW_TRUST_TRUST_NOT_REQUIRED:
+      case ALLOW_TRUST_CANT_REVOKE:
+      case ALLOW_TRUST_SELF_NOT_ALLOWED:
+      case ALLOW_TRUST_LOW_RESERVE:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index);
+    AllowTrustResultCode discriminant = AllowTrustResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case ALLOW_TRUST_SUCCESS:
+        break;
+      case ALLOW_TRUST_MALFORMED:
+      case ALLOW_TRUST_NO_TRUST_LINE:
+      case ALLOW_TRUST_TRUST_NOT_REQUIRED:
+      case ALLOW_TRUST_CANT_REVOKE:
+      case ALLOW_TRUST_SELF_NOT_ALLOWED:
+      case ALLOW_TRUST_LOW_RESERVE:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static AllowTrustResult fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static AllowTrustResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static AllowTrustResult fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
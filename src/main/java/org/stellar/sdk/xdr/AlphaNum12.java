@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -49,6 +51,14 @@ public class AlphaNum12 implements XdrElement {
     issuer.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += assetCode.encodedSize();
+    size += issuer.encodedSize();
+    return size;
+  }
+
   public static AlphaNum12 decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -64,16 +74,72 @@ public class AlphaNum12 implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static AlphaNum12 decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    AlphaNum12 decodedAlphaNum12 = new AlphaNum12();
+    decodedAlphaNum12.assetCode = AssetCode12.decode(reader, maxDepth);
+    decodedAlphaNum12.issuer = AccountID.decode(reader, maxDepth);
+    return decodedAlphaNum12;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    AssetCode12.skip(stream, maxDepth);
+    AccountID.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "assetCode", "issuer");
+    if (field.equals("assetCode")) {
+      AssetCode12.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      AssetCode12.skip(stream, maxDepth);
+    }
+    if (field.equals("issuer")) {
+      AccountID.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      AccountID.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static AlphaNum12 fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static AlphaNum12 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static AlphaNum12 fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
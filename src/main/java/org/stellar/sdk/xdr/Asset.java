@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -74,6 +76,22 @@ public class Asset implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case ASSET_TYPE_NATIVE:
+        break;
+      case ASSET_TYPE_CREDIT_ALPHANUM4:
+        size += alphaNum4.encodedSize();
+        break;
+      case ASSET_TYPE_CREDIT_ALPHANUM12:
+        size += alphaNum12.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static Asset decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -101,16 +119,106 @@ public class Asset implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static Asset decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Asset decodedAsset = new Asset();
+    AssetType discriminant = AssetType.decode(reader, maxDepth);
+    decodedAsset.setDiscriminant(discriminant);
+    switch (decodedAsset.getDiscriminant()) {
+      case ASSET_TYPE_NATIVE:
+        break;
+      case ASSET_TYPE_CREDIT_ALPHANUM4:
+        decodedAsset.alphaNum4 = AlphaNum4.decode(reader, maxDepth);
+        break;
+      case ASSET_TYPE_CREDIT_ALPHANUM12:
+        decodedAsset.alphaNum12 = AlphaNum12.decode(reader, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedAsset;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    AssetType discriminant = AssetType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case ASSET_TYPE_NATIVE:
+        break;
+      case ASSET_TYPE_CREDIT_ALPHANUM4:
+        AlphaNum4.skip(stream, maxDepth);
+        break;
+      case ASSET_TYPE_CREDIT_ALPHANUM12:
+        AlphaNum12.skip(stream, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "alphaNum4", "alphaNum12");
+    AssetType discriminant = AssetType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case ASSET_TYPE_NATIVE:
+        break;
+      case ASSET_TYPE_CREDIT_ALPHANUM4:
+        if (field.equals("alphaNum4")) {
+          AlphaNum4.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          AlphaNum4.skip(stream, maxDepth);
+        }
+        break;
+      case ASSET_TYPE_CREDIT_ALPHANUM12:
+        if (field.equals("alphaNum12")) {
+          AlphaNum12.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          AlphaNum12.skip(stream, maxDepth);
+        }
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static Asset fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static Asset fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static Asset fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
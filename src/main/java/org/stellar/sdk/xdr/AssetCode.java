@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -69,6 +71,20 @@ public class AssetCode implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case ASSET_TYPE_CREDIT_ALPHANUM4:
+        size += assetCode4.encodedSize();
+        break;
+      case ASSET_TYPE_CREDIT_ALPHANUM12:
+        size += assetCode12.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static AssetCode decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -94,16 +110,100 @@ public class AssetCode implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static AssetCode decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    AssetCode decodedAssetCode = new AssetCode();
+    AssetType discriminant = AssetType.decode(reader, maxDepth);
+    decodedAssetCode.setDiscriminant(discriminant);
+    switch (decodedAssetCode.getDiscriminant()) {
+      case ASSET_TYPE_CREDIT_ALPHANUM4:
+        decodedAssetCode.assetCode4 = AssetCode4.decode(reader, maxDepth);
+        break;
+      case ASSET_TYPE_CREDIT_ALPHANUM12:
+        decodedAssetCode.assetCode12 = AssetCode12.decode(reader, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedAssetCode;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    AssetType discriminant = AssetType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case ASSET_TYPE_CREDIT_ALPHANUM4:
+        AssetCode4.skip(stream, maxDepth);
+        break;
+      case ASSET_TYPE_CREDIT_ALPHANUM12:
+        AssetCode12.skip(stream, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "assetCode4", "assetCode12");
+    AssetType discriminant = AssetType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case ASSET_TYPE_CREDIT_ALPHANUM4:
+        if (field.equals("assetCode4")) {
+          AssetCode4.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          AssetCode4.skip(stream, maxDepth);
+        }
+        break;
+      case ASSET_TYPE_CREDIT_ALPHANUM12:
+        if (field.equals("assetCode12")) {
+          AssetCode12.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          AssetCode12.skip(stream, maxDepth);
+        }
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static AssetCode fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static AssetCode fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static AssetCode fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,8 +3,10 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import org.stellar.sdk.Base64Factory;
 
 /**
@@ -57,20 +59,65 @@ public enum AssetType implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static AssetType decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    // maxDepth is intentionally not checked - enums are leaf types with no recursive decoding
+    int value = reader.readInt();
+    switch (value) {
+      case 0:
+        return ASSET_TYPE_NATIVE;
+      case 1:
+        return ASSET_TYPE_CREDIT_ALPHANUM4;
+      case 2:
+        return ASSET_TYPE_CREDIT_ALPHANUM12;
+      case 3:
+        return ASSET_TYPE_POOL_SHARE;
+      default:
+        throw new IllegalArgumentException("Unknown enum value: " + value);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    decode(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    path.checkEnd(index);
+    values.add(decode(stream, maxDepth));
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  @Override
+  public int encodedSize() {
+    return 4;
+  }
+
   public static AssetType fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static AssetType fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static AssetType fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
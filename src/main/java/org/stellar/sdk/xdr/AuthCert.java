@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -59,6 +61,15 @@ public class AuthCert implements XdrElement {
     sig.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += pubkey.encodedSize();
+    size += expiration.encodedSize();
+    size += sig.encodedSize();
+    return size;
+  }
+
   public static AuthCert decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -75,16 +86,79 @@ public class AuthCert implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static AuthCert decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    AuthCert decodedAuthCert = new AuthCert();
+    decodedAuthCert.pubkey = Curve25519Public.decode(reader, maxDepth);
+    decodedAuthCert.expiration = Uint64.decode(reader, maxDepth);
+    decodedAuthCert.sig = Signature.decode(reader, maxDepth);
+    return decodedAuthCert;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Curve25519Public.skip(stream, maxDepth);
+    Uint64.skip(stream, maxDepth);
+    Signature.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "pubkey", "expiration", "sig");
+    if (field.equals("pubkey")) {
+      Curve25519Public.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Curve25519Public.skip(stream, maxDepth);
+    }
+    if (field.equals("expiration")) {
+      Uint64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint64.skip(stream, maxDepth);
+    }
+    if (field.equals("sig")) {
+      Signature.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Signature.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static AuthCert fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static AuthCert fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static AuthCert fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -58,6 +60,17 @@ public class AuthenticatedMessage implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant.getUint32().getNumber().intValue()) {
+      case 0:
+        size += v0.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static AuthenticatedMessage decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -81,16 +94,88 @@ public class AuthenticatedMessage implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static AuthenticatedMessage decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    AuthenticatedMessage decodedAuthenticatedMessage = new AuthenticatedMessage();
+    Uint32 discriminant = Uint32.decode(reader, maxDepth);
+    decodedAuthenticatedMessage.setDiscriminant(discriminant);
+    switch (decodedAuthenticatedMessage.getDiscriminant().getUint32().getNumber().intValue()) {
+      case 0:
+        decodedAuthenticatedMessage.v0 = AuthenticatedMessageV0.decode(reader, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedAuthenticatedMessage;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int discriminant = stream.readInt();
+    switch (discriminant) {
+      case 0:
+        AuthenticatedMessageV0.skip(stream, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "v0");
+    int discriminant = stream.readInt();
+    switch (discriminant) {
+      case 0:
+        if (field.equals("v0")) {
+          AuthenticatedMessageV0.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          AuthenticatedMessageV0.skip(stream, maxDepth);
+        }
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static AuthenticatedMessage fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static AuthenticatedMessage fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static AuthenticatedMessage fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -180,6 +265,15 @@ public class AuthenticatedMessage implements XdrElement {
       mac.encode(stream);
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 0;
+      size += sequence.encodedSize();
+      size += message.encodedSize();
+      size += mac.encodedSize();
+      return size;
+    }
+
     public static AuthenticatedMessageV0 decode(XdrDataInputStream stream, int maxDepth)
         throws IOException {
       if (maxDepth <= 0) {
@@ -197,16 +291,80 @@ public class AuthenticatedMessage implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static AuthenticatedMessageV0 decode(XdrByteBufferReader reader, int maxDepth)
+        throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      AuthenticatedMessageV0 decodedAuthenticatedMessageV0 = new AuthenticatedMessageV0();
+      decodedAuthenticatedMessageV0.sequence = Uint64.decode(reader, maxDepth);
+      decodedAuthenticatedMessageV0.message = StellarMessage.decode(reader, maxDepth);
+      decodedAuthenticatedMessageV0.mac = HmacSha256Mac.decode(reader, maxDepth);
+      return decodedAuthenticatedMessageV0;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      Uint64.skip(stream, maxDepth);
+      StellarMessage.skip(stream, maxDepth);
+      HmacSha256Mac.skip(stream, maxDepth);
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index, "sequence", "message", "mac");
+      if (field.equals("sequence")) {
+        Uint64.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        Uint64.skip(stream, maxDepth);
+      }
+      if (field.equals("message")) {
+        StellarMessage.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        StellarMessage.skip(stream, maxDepth);
+      }
+      if (field.equals("mac")) {
+        HmacSha256Mac.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        HmacSha256Mac.skip(stream, maxDepth);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static AuthenticatedMessageV0 fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static AuthenticatedMessageV0 fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static AuthenticatedMessageV0 fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
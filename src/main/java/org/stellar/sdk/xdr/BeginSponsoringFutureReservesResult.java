@@ -3,8 +3,10 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -52,6 +54,20 @@ public class BeginSponsoringFutureReservesResult implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case BEGIN_SPONSORING_FUTURE_RESERVES_SUCCESS:
+        break;
+      case BEGIN_SPONSORING_FUTURE_RESERVES_MALFORMED:
+      case BEGIN_SPONSORING_FUTURE_RESERVES_ALREADY_SPONSORED:
+      case BEGIN_SPONSORING_FUTURE_RESERVES_RECURSIVE:
+        break;
+    }
+    return size;
+  }
+
   public static BeginSponsoringFutureReservesResult decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -81,6 +97,85 @@ public class BeginSponsoringFutureReservesResult implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static BeginSponsoringFutureReservesResult decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    BeginSponsoringFutureReservesResult decodedBeginSponsoringFutureReservesResult =
+        new BeginSponsoringFutureReservesResult();
+    BeginSponsoringFutureReservesResultCode discriminant =
+        BeginSponsoringFutureReservesResultCode.decode(reader, maxDepth);
+    decodedBeginSponsoringFutureReservesResult.setDiscriminant(discriminant);
+    switch (decodedBeginSponsoringFutureReservesResult.getDiscriminant()) {
+      case BEGIN_SPONSORING_FUTURE_RESERVES_SUCCESS:
+        break;
+      case BEGIN_SPONSORING_FUTURE_RESERVES_MALFORMED:
+      case BEGIN_SPONSORING_FUTURE_RESERVES_ALREADY_SPONSORED:
+      case BEGIN_SPONSORING_FUTURE_RESERVES_RECURSIVE:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedBeginSponsoringFutureReservesResult;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    BeginSponsoringFutureReservesResultCode discriminant =
+        BeginSponsoringFutureReservesResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case BEGIN_SPONSORING_FUTURE_RESERVES_SUCCESS:
+        break;
+      case BEGIN_SPONSORING_FUTURE_RESERVES_MALFORMED:
+      case BEGIN_SPONSORING_FUTURE_RESERVES_ALREADY_SPONSORED:
+      case BEGIN_SPONSORING_FUTURE_RESERVES_RECURSIVE:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index);
+    BeginSponsoringFutureReservesResultCode discriminant =
+        BeginSponsoringFutureReservesResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case BEGIN_SPONSORING_FUTURE_RESERVES_SUCCESS:
+        break;
+      case BEGIN_SPONSORING_FUTURE_RESERVES_MALFORMED:
+      case BEGIN_SPONSORING_FUTURE_RESERVES_ALREADY_SPONSORED:
+      case BEGIN_SPONSORING_FUTURE_RESERVES_RECURSIVE:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static BeginSponsoringFutureReservesResult fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
@@ -88,10 +183,13 @@ public class BeginSponsoringFutureReservesResult implements XdrElement {
 
   public static BeginSponsoringFutureReservesResult fromXdrByteArray(byte[] xdr)
       throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static BeginSponsoringFutureReservesResult fromXdrByteBuffer(ByteBuffer xdr)
+      throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
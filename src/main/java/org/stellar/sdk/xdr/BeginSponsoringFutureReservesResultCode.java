@@ -3,8 +3,10 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import org.stellar.sdk.Base64Factory;
 
 /**
@@ -62,10 +64,54 @@ public enum BeginSponsoringFutureReservesResultCode implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static BeginSponsoringFutureReservesResultCode decode(
+      XdrByteBufferReader reader, int maxDepth) throws IOException {
+    // maxDepth is intentionally not checked - enums are leaf types with no recursive decoding
+    int value = reader.readInt();
+    switch (value) {
+      case 0:
+        return BEGIN_SPONSORING_FUTURE_RESERVES_SUCCESS;
+      case -1:
+        return BEGIN_SPONSORING_FUTURE_RESERVES_MALFORMED;
+      case -2:
+        return BEGIN_SPONSORING_FUTURE_RESERVES_ALREADY_SPONSORED;
+      case -3:
+        return BEGIN_SPONSORING_FUTURE_RESERVES_RECURSIVE;
+      default:
+        throw new IllegalArgumentException("Unknown enum value: " + value);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    decode(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    path.checkEnd(index);
+    values.add(decode(stream, maxDepth));
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  @Override
+  public int encodedSize() {
+    return 4;
+  }
+
   public static BeginSponsoringFutureReservesResultCode fromXdrBase64(String xdr)
       throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
@@ -74,10 +120,13 @@ public enum BeginSponsoringFutureReservesResultCode implements XdrElement {
 
   public static BeginSponsoringFutureReservesResultCode fromXdrByteArray(byte[] xdr)
       throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static BeginSponsoringFutureReservesResultCode fromXdrByteBuffer(ByteBuffer xdr)
+      throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -82,6 +84,24 @@ public class BucketEntry implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case LIVEENTRY:
+      case INITENTRY:
+        size += liveEntry.encodedSize();
+        break;
+      case DEADENTRY:
+        size += deadEntry.encodedSize();
+        break;
+      case METAENTRY:
+        size += metaEntry.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static BucketEntry decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -111,16 +131,116 @@ public class BucketEntry implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static BucketEntry decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    BucketEntry decodedBucketEntry = new BucketEntry();
+    BucketEntryType discriminant = BucketEntryType.decode(reader, maxDepth);
+    decodedBucketEntry.setDiscriminant(discriminant);
+    switch (decodedBucketEntry.getDiscriminant()) {
+      case LIVEENTRY:
+      case INITENTRY:
+        decodedBucketEntry.liveEntry = LedgerEntry.decode(reader, maxDepth);
+        break;
+      case DEADENTRY:
+        decodedBucketEntry.deadEntry = LedgerKey.decode(reader, maxDepth);
+        break;
+      case METAENTRY:
+        decodedBucketEntry.metaEntry = BucketMetadata.decode(reader, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedBucketEntry;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    BucketEntryType discriminant = BucketEntryType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case LIVEENTRY:
+      case INITENTRY:
+        LedgerEntry.skip(stream, maxDepth);
+        break;
+      case DEADENTRY:
+        LedgerKey.skip(stream, maxDepth);
+        break;
+      case METAENTRY:
+        BucketMetadata.skip(stream, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "liveEntry", "deadEntry", "metaEntry");
+    BucketEntryType discriminant = BucketEntryType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case LIVEENTRY:
+      case INITENTRY:
+        if (field.equals("liveEntry")) {
+          LedgerEntry.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          LedgerEntry.skip(stream, maxDepth);
+        }
+        break;
+      case DEADENTRY:
+        if (field.equals("deadEntry")) {
+          LedgerKey.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          LedgerKey.skip(stream, maxDepth);
+        }
+        break;
+      case METAENTRY:
+        if (field.equals("metaEntry")) {
+          BucketMetadata.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          BucketMetadata.skip(stream, maxDepth);
+        }
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static BucketEntry fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static BucketEntry fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static BucketEntry fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
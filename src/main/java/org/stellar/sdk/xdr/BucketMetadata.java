@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -59,6 +61,14 @@ public class BucketMetadata implements XdrElement {
     ext.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += ledgerVersion.encodedSize();
+    size += ext.encodedSize();
+    return size;
+  }
+
   public static BucketMetadata decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -74,16 +84,72 @@ public class BucketMetadata implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static BucketMetadata decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    BucketMetadata decodedBucketMetadata = new BucketMetadata();
+    decodedBucketMetadata.ledgerVersion = Uint32.decode(reader, maxDepth);
+    decodedBucketMetadata.ext = BucketMetadataExt.decode(reader, maxDepth);
+    return decodedBucketMetadata;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Uint32.skip(stream, maxDepth);
+    BucketMetadataExt.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "ledgerVersion", "ext");
+    if (field.equals("ledgerVersion")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("ext")) {
+      BucketMetadataExt.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      BucketMetadataExt.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static BucketMetadata fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static BucketMetadata fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static BucketMetadata fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -156,6 +222,19 @@ public class BucketMetadata implements XdrElement {
       }
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 4;
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          size += 4;
+          break;
+      }
+      return size;
+    }
+
     public static BucketMetadataExt decode(XdrDataInputStream stream, int maxDepth)
         throws IOException {
       if (maxDepth <= 0) {
@@ -181,16 +260,94 @@ public class BucketMetadata implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static BucketMetadataExt decode(XdrByteBufferReader reader, int maxDepth)
+        throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      BucketMetadataExt decodedBucketMetadataExt = new BucketMetadataExt();
+      Integer discriminant = reader.readInt();
+      decodedBucketMetadataExt.setDiscriminant(discriminant);
+      switch (decodedBucketMetadataExt.getDiscriminant()) {
+        case 0:
+          break;
+        case 1:
+          decodedBucketMetadataExt.bucketListType = BucketListType.decode(reader, maxDepth);
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+      return decodedBucketMetadataExt;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      int discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          BucketListType.skip(stream, maxDepth);
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index, "bucketListType");
+      int discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          if (field.equals("bucketListType")) {
+            BucketListType.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            BucketListType.skip(stream, maxDepth);
+          }
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static BucketMetadataExt fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static BucketMetadataExt fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static BucketMetadataExt fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
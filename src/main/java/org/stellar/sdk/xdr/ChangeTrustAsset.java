@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -88,6 +90,25 @@ public class ChangeTrustAsset implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case ASSET_TYPE_NATIVE:
+        break;
+      case ASSET_TYPE_CREDIT_ALPHANUM4:
+        size += alphaNum4.encodedSize();
+        break;
+      case ASSET_TYPE_CREDIT_ALPHANUM12:
+        size += alphaNum12.encodedSize();
+        break;
+      case ASSET_TYPE_POOL_SHARE:
+        size += liquidityPool.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static ChangeTrustAsset decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -119,16 +140,120 @@ public class ChangeTrustAsset implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static ChangeTrustAsset decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ChangeTrustAsset decodedChangeTrustAsset = new ChangeTrustAsset();
+    AssetType discriminant = AssetType.decode(reader, maxDepth);
+    decodedChangeTrustAsset.setDiscriminant(discriminant);
+    switch (decodedChangeTrustAsset.getDiscriminant()) {
+      case ASSET_TYPE_NATIVE:
+        break;
+      case ASSET_TYPE_CREDIT_ALPHANUM4:
+        decodedChangeTrustAsset.alphaNum4 = AlphaNum4.decode(reader, maxDepth);
+        break;
+      case ASSET_TYPE_CREDIT_ALPHANUM12:
+        decodedChangeTrustAsset.alphaNum12 = AlphaNum12.decode(reader, maxDepth);
+        break;
+      case ASSET_TYPE_POOL_SHARE:
+        decodedChangeTrustAsset.liquidityPool = LiquidityPoolParameters.decode(reader, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedChangeTrustAsset;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    AssetType discriminant = AssetType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case ASSET_TYPE_NATIVE:
+        break;
+      case ASSET_TYPE_CREDIT_ALPHANUM4:
+        AlphaNum4.skip(stream, maxDepth);
+        break;
+      case ASSET_TYPE_CREDIT_ALPHANUM12:
+        AlphaNum12.skip(stream, maxDepth);
+        break;
+      case ASSET_TYPE_POOL_SHARE:
+        LiquidityPoolParameters.skip(stream, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "alphaNum4", "alphaNum12", "liquidityPool");
+    AssetType discriminant = AssetType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case ASSET_TYPE_NATIVE:
+        break;
+      case ASSET_TYPE_CREDIT_ALPHANUM4:
+        if (field.equals("alphaNum4")) {
+          AlphaNum4.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          AlphaNum4.skip(stream, maxDepth);
+        }
+        break;
+      case ASSET_TYPE_CREDIT_ALPHANUM12:
+        if (field.equals("alphaNum12")) {
+          AlphaNum12.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          AlphaNum12.skip(stream, maxDepth);
+        }
+        break;
+      case ASSET_TYPE_POOL_SHARE:
+        if (field.equals("liquidityPool")) {
+          LiquidityPoolParameters.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          LiquidityPoolParameters.skip(stream, maxDepth);
+        }
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static ChangeTrustAsset fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static ChangeTrustAsset fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static ChangeTrustAsset fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
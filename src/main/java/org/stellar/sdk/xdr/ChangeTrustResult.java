@@ -3,8 +3,10 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -61,6 +63,25 @@ public class ChangeTrustResult implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case CHANGE_TRUST_SUCCESS:
+        break;
+      case CHANGE_TRUST_MALFORMED:
+      case CHANGE_TRUST_NO_ISSUER:
+      case CHANGE_TRUST_INVALID_LIMIT:
+      case CHANGE_TRUST_LOW_RESERVE:
+      case CHANGE_TRUST_SELF_NOT_ALLOWED:
+      case CHANGE_TRUST_TRUST_LINE_MISSING:
+      case CHANGE_TRUST_CANNOT_DELETE:
+      case CHANGE_TRUST_NOT_AUTH_MAINTAIN_LIABILITIES:
+        break;
+    }
+    return size;
+  }
+
   public static ChangeTrustResult decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -92,16 +113,108 @@ public class ChangeTrustResult implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static ChangeTrustResult decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ChangeTrustResult decodedChangeTrustResult = new ChangeTrustResult();
+    ChangeTrustResultCode discriminant = ChangeTrustResultCode.decode(reader, maxDepth);
+    decodedChangeTrustResult.setDiscriminant(discriminant);
+    switch (decodedChangeTrustResult.getDiscriminant()) {
+      case CHANGE_TRUST_SUCCESS:
+        break;
+      case CHANGE_TRUST_MALFORMED:
+      case CHANGE_TRUST_NO_ISSUER:
+      case CHANGE_TRUST_INVALID_LIMIT:
+      case CHANGE_TRUST_LOW_RESERVE:
+      case CHANGE_TRUST_SELF_NOT_ALLOWED:
+      case CHANGE_TRUST_TRUST_LINE_MISSING:
+      case CHANGE_TRUST_CANNOT_DELETE:
+      case CHANGE_TRUST_NOT_AUTH_MAINTAIN_LIABILITIES:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedChangeTrustResult;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ChangeTrustResultCode discriminant = ChangeTrustResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case CHANGE_TRUST_SUCCESS:
+        break;
+      case CHANGE_TRUST_MALFORMED:
+      case CHANGE_TRUST_NO_ISSUER:
+      case CHANGE_TRUST_INVALID_LIMIT:
+      case CHANGE_TRUST_LOW_RESERVE:
+      case CHANGE_TRUST_SELF_NOT_ALLOWED:
+      case CHANGE_TRUST_TRUST_LINE_MISSING:
+      case CHANGE_TRUST_CANNOT_DELETE:
+      case CHANGE_TRUST_NOT_AUTH_MAINTAIN_LIABILITIES:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index);
+    ChangeTrustResultCode discriminant = ChangeTrustResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case CHANGE_TRUST_SUCCESS:
+        break;
+      case CHANGE_TRUST_MALFORMED:
+      case CHANGE_TRUST_NO_ISSUER:
+      case CHANGE_TRUST_INVALID_LIMIT:
+      case CHANGE_TRUST_LOW_RESERVE:
+      case CHANGE_TRUST_SELF_NOT_ALLOWED:
+      case CHANGE_TRUST_TRUST_LINE_MISSING:
+      case CHANGE_TRUST_CANNOT_DELETE:
+      case CHANGE_TRUST_NOT_AUTH_MAINTAIN_LIABILITIES:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static ChangeTrustResult fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static ChangeTrustResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static ChangeTrustResult fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
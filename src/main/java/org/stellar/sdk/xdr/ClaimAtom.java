@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -79,6 +81,23 @@ public class ClaimAtom implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case CLAIM_ATOM_TYPE_V0:
+        size += v0.encodedSize();
+        break;
+      case CLAIM_ATOM_TYPE_ORDER_BOOK:
+        size += orderBook.encodedSize();
+        break;
+      case CLAIM_ATOM_TYPE_LIQUIDITY_POOL:
+        size += liquidityPool.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static ClaimAtom decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -107,16 +126,113 @@ public class ClaimAtom implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static ClaimAtom decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ClaimAtom decodedClaimAtom = new ClaimAtom();
+    ClaimAtomType discriminant = ClaimAtomType.decode(reader, maxDepth);
+    decodedClaimAtom.setDiscriminant(discriminant);
+    switch (decodedClaimAtom.getDiscriminant()) {
+      case CLAIM_ATOM_TYPE_V0:
+        decodedClaimAtom.v0 = ClaimOfferAtomV0.decode(reader, maxDepth);
+        break;
+      case CLAIM_ATOM_TYPE_ORDER_BOOK:
+        decodedClaimAtom.orderBook = ClaimOfferAtom.decode(reader, maxDepth);
+        break;
+      case CLAIM_ATOM_TYPE_LIQUIDITY_POOL:
+        decodedClaimAtom.liquidityPool = ClaimLiquidityAtom.decode(reader, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedClaimAtom;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ClaimAtomType discriminant = ClaimAtomType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case CLAIM_ATOM_TYPE_V0:
+        ClaimOfferAtomV0.skip(stream, maxDepth);
+        break;
+      case CLAIM_ATOM_TYPE_ORDER_BOOK:
+        ClaimOfferAtom.skip(stream, maxDepth);
+        break;
+      case CLAIM_ATOM_TYPE_LIQUIDITY_POOL:
+        ClaimLiquidityAtom.skip(stream, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "v0", "orderBook", "liquidityPool");
+    ClaimAtomType discriminant = ClaimAtomType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case CLAIM_ATOM_TYPE_V0:
+        if (field.equals("v0")) {
+          ClaimOfferAtomV0.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          ClaimOfferAtomV0.skip(stream, maxDepth);
+        }
+        break;
+      case CLAIM_ATOM_TYPE_ORDER_BOOK:
+        if (field.equals("orderBook")) {
+          ClaimOfferAtom.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          ClaimOfferAtom.skip(stream, maxDepth);
+        }
+        break;
+      case CLAIM_ATOM_TYPE_LIQUIDITY_POOL:
+        if (field.equals("liquidityPool")) {
+          ClaimLiquidityAtom.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          ClaimLiquidityAtom.skip(stream, maxDepth);
+        }
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static ClaimAtom fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static ClaimAtom fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static ClaimAtom fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
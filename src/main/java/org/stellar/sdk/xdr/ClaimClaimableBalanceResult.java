@@ -3,8 +3,10 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -57,6 +59,23 @@ public class ClaimClaimableBalanceResult implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case CLAIM_CLAIMABLE_BALANCE_SUCCESS:
+        break;
+      case CLAIM_CLAIMABLE_BALANCE_DOES_NOT_EXIST:
+      case CLAIM_CLAIMABLE_BALANCE_CANNOT_CLAIM:
+      case CLAIM_CLAIMABLE_BALANCE_LINE_FULL:
+      case CLAIM_CLAIMABLE_BALANCE_NO_TRUST:
+      case CLAIM_CLAIMABLE_BALANCE_NOT_AUTHORIZED:
+      case CLAIM_CLAIMABLE_BALANCE_TRUSTLINE_FROZEN:
+        break;
+    }
+    return size;
+  }
+
   public static ClaimClaimableBalanceResult decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -88,16 +107,106 @@ public class ClaimClaimableBalanceResult implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static ClaimClaimableBalanceResult decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ClaimClaimableBalanceResult decodedClaimClaimableBalanceResult =
+        new ClaimClaimableBalanceResult();
+    ClaimClaimableBalanceResultCode discriminant =
+        ClaimClaimableBalanceResultCode.decode(reader, maxDepth);
+    decodedClaimClaimableBalanceResult.setDiscriminant(discriminant);
+    switch (decodedClaimClaimableBalanceResult.getDiscriminant()) {
+      case CLAIM_CLAIMABLE_BALANCE_SUCCESS:
+        break;
+      case CLAIM_CLAIMABLE_BALANCE_DOES_NOT_EXIST:
+      case CLAIM_CLAIMABLE_BALANCE_CANNOT_CLAIM:
+      case CLAIM_CLAIMABLE_BALANCE_LINE_FULL:
+      case CLAIM_CLAIMABLE_BALANCE_NO_TRUST:
+      case CLAIM_CLAIMABLE_BALANCE_NOT_AUTHORIZED:
+      case CLAIM_CLAIMABLE_BALANCE_TRUSTLINE_FROZEN:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedClaimClaimableBalanceResult;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ClaimClaimableBalanceResultCode discriminant =
+        ClaimClaimableBalanceResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case CLAIM_CLAIMABLE_BALANCE_SUCCESS:
+        break;
+      case CLAIM_CLAIMABLE_BALANCE_DOES_NOT_EXIST:
+      case CLAIM_CLAIMABLE_BALANCE_CANNOT_CLAIM:
+      case CLAIM_CLAIMABLE_BALANCE_LINE_FULL:
+      case CLAIM_CLAIMABLE_BALANCE_NO_TRUST:
+      case CLAIM_CLAIMABLE_BALANCE_NOT_AUTHORIZED:
+      case CLAIM_CLAIMABLE_BALANCE_TRUSTLINE_FROZEN:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index);
+    ClaimClaimableBalanceResultCode discriminant =
+        ClaimClaimableBalanceResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case CLAIM_CLAIMABLE_BALANCE_SUCCESS:
+        break;
+      case CLAIM_CLAIMABLE_BALANCE_DOES_NOT_EXIST:
+      case CLAIM_CLAIMABLE_BALANCE_CANNOT_CLAIM:
+      case CLAIM_CLAIMABLE_BALANCE_LINE_FULL:
+      case CLAIM_CLAIMABLE_BALANCE_NO_TRUST:
+      case CLAIM_CLAIMABLE_BALANCE_NOT_AUTHORIZED:
+      case CLAIM_CLAIMABLE_BALANCE_TRUSTLINE_FROZEN:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static ClaimClaimableBalanceResult fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static ClaimClaimableBalanceResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static ClaimClaimableBalanceResult fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
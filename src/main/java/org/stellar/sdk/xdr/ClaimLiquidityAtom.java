@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -83,6 +85,17 @@ public class ClaimLiquidityAtom implements XdrElement {
     amountBought.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += liquidityPoolID.encodedSize();
+    size += assetSold.encodedSize();
+    size += amountSold.encodedSize();
+    size += assetBought.encodedSize();
+    size += amountBought.encodedSize();
+    return size;
+  }
+
   public static ClaimLiquidityAtom decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -102,16 +115,96 @@ public class ClaimLiquidityAtom implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static ClaimLiquidityAtom decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ClaimLiquidityAtom decodedClaimLiquidityAtom = new ClaimLiquidityAtom();
+    decodedClaimLiquidityAtom.liquidityPoolID = PoolID.decode(reader, maxDepth);
+    decodedClaimLiquidityAtom.assetSold = Asset.decode(reader, maxDepth);
+    decodedClaimLiquidityAtom.amountSold = Int64.decode(reader, maxDepth);
+    decodedClaimLiquidityAtom.assetBought = Asset.decode(reader, maxDepth);
+    decodedClaimLiquidityAtom.amountBought = Int64.decode(reader, maxDepth);
+    return decodedClaimLiquidityAtom;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    PoolID.skip(stream, maxDepth);
+    Asset.skip(stream, maxDepth);
+    Int64.skip(stream, maxDepth);
+    Asset.skip(stream, maxDepth);
+    Int64.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field =
+        path.checkField(
+            index, "liquidityPoolID", "assetSold", "amountSold", "assetBought", "amountBought");
+    if (field.equals("liquidityPoolID")) {
+      PoolID.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      PoolID.skip(stream, maxDepth);
+    }
+    if (field.equals("assetSold")) {
+      Asset.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Asset.skip(stream, maxDepth);
+    }
+    if (field.equals("amountSold")) {
+      Int64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Int64.skip(stream, maxDepth);
+    }
+    if (field.equals("assetBought")) {
+      Asset.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Asset.skip(stream, maxDepth);
+    }
+    if (field.equals("amountBought")) {
+      Int64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Int64.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static ClaimLiquidityAtom fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static ClaimLiquidityAtom fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static ClaimLiquidityAtom fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -94,6 +96,18 @@ public class ClaimOfferAtomV0 implements XdrElement {
     amountBought.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += sellerEd25519.encodedSize();
+    size += offerID.encodedSize();
+    size += assetSold.encodedSize();
+    size += amountSold.encodedSize();
+    size += assetBought.encodedSize();
+    size += amountBought.encodedSize();
+    return size;
+  }
+
   public static ClaimOfferAtomV0 decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -114,16 +128,109 @@ public class ClaimOfferAtomV0 implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static ClaimOfferAtomV0 decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ClaimOfferAtomV0 decodedClaimOfferAtomV0 = new ClaimOfferAtomV0();
+    decodedClaimOfferAtomV0.sellerEd25519 = Uint256.decode(reader, maxDepth);
+    decodedClaimOfferAtomV0.offerID = Int64.decode(reader, maxDepth);
+    decodedClaimOfferAtomV0.assetSold = Asset.decode(reader, maxDepth);
+    decodedClaimOfferAtomV0.amountSold = Int64.decode(reader, maxDepth);
+    decodedClaimOfferAtomV0.assetBought = Asset.decode(reader, maxDepth);
+    decodedClaimOfferAtomV0.amountBought = Int64.decode(reader, maxDepth);
+    return decodedClaimOfferAtomV0;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Uint256.skip(stream, maxDepth);
+    Int64.skip(stream, maxDepth);
+    Asset.skip(stream, maxDepth);
+    Int64.skip(stream, maxDepth);
+    Asset.skip(stream, maxDepth);
+    Int64.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field =
+        path.checkField(
+            index,
+            "sellerEd25519",
+            "offerID",
+            "assetSold",
+            "amountSold",
+            "assetBought",
+            "amountBought");
+    if (field.equals("sellerEd25519")) {
+      Uint256.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint256.skip(stream, maxDepth);
+    }
+    if (field.equals("offerID")) {
+      Int64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Int64.skip(stream, maxDepth);
+    }
+    if (field.equals("assetSold")) {
+      Asset.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Asset.skip(stream, maxDepth);
+    }
+    if (field.equals("amountSold")) {
+      Int64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Int64.skip(stream, maxDepth);
+    }
+    if (field.equals("assetBought")) {
+      Asset.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Asset.skip(stream, maxDepth);
+    }
+    if (field.equals("amountBought")) {
+      Int64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Int64.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static ClaimOfferAtomV0 fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static ClaimOfferAtomV0 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static ClaimOfferAtomV0 fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -130,6 +131,40 @@ public class ClaimPredicate implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case CLAIM_PREDICATE_UNCONDITIONAL:
+        break;
+      case CLAIM_PREDICATE_AND:
+        size += 4;
+        for (int i = 0; i < andPredicates.length; i++) {
+          size += andPredicates[i].encodedSize();
+        }
+        break;
+      case CLAIM_PREDICATE_OR:
+        size += 4;
+        for (int i = 0; i < orPredicates.length; i++) {
+          size += orPredicates[i].encodedSize();
+        }
+        break;
+      case CLAIM_PREDICATE_NOT:
+        size += 4;
+        if (notPredicate != null) {
+          size += notPredicate.encodedSize();
+        }
+        break;
+      case CLAIM_PREDICATE_BEFORE_ABSOLUTE_TIME:
+        size += absBefore.encodedSize();
+        break;
+      case CLAIM_PREDICATE_BEFORE_RELATIVE_TIME:
+        size += relBefore.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static ClaimPredicate decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -207,16 +242,307 @@ public class ClaimPredicate implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static ClaimPredicate decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ClaimPredicate decodedClaimPredicate = new ClaimPredicate();
+    ClaimPredicateType discriminant = ClaimPredicateType.decode(reader, maxDepth);
+    decodedClaimPredicate.setDiscriminant(discriminant);
+    switch (decodedClaimPredicate.getDiscriminant()) {
+      case CLAIM_PREDICATE_UNCONDITIONAL:
+        break;
+      case CLAIM_PREDICATE_AND:
+        int andPredicatesSize = reader.readInt();
+        if (andPredicatesSize < 0) {
+          throw new IOException("andPredicates size " + andPredicatesSize + " is negative");
+        }
+        if (andPredicatesSize > 2) {
+          throw new IOException("andPredicates size " + andPredicatesSize + " exceeds max size 2");
+        }
+        int andPredicatesRemainingInputLen = reader.getRemainingInputLen();
+        if (andPredicatesRemainingInputLen >= 0
+            && andPredicatesRemainingInputLen < andPredicatesSize) {
+          throw new IOException(
+              "andPredicates size "
+                  + andPredicatesSize
+                  + " exceeds remaining input length "
+                  + andPredicatesRemainingInputLen);
+        }
+        decodedClaimPredicate.andPredicates = new ClaimPredicate[andPredicatesSize];
+        for (int i = 0; i < andPredicatesSize; i++) {
+          decodedClaimPredicate.andPredicates[i] = ClaimPredicate.decode(reader, maxDepth);
+        }
+        break;
+      case CLAIM_PREDICATE_OR:
+        int orPredicatesSize = reader.readInt();
+        if (orPredicatesSize < 0) {
+          throw new IOException("orPredicates size " + orPredicatesSize + " is negative");
+        }
+        if (orPredicatesSize > 2) {
+          throw new IOException("orPredicates size " + orPredicatesSize + " exceeds max size 2");
+        }
+        int orPredicatesRemainingInputLen = reader.getRemainingInputLen();
+        if (orPredicatesRemainingInputLen >= 0
+            && orPredicatesRemainingInputLen < orPredicatesSize) {
+          throw new IOException(
+              "orPredicates size "
+                  + orPredicatesSize
+                  + " exceeds remaining input length "
+                  + orPredicatesRemainingInputLen);
+        }
+        decodedClaimPredicate.orPredicates = new ClaimPredicate[orPredicatesSize];
+        for (int i = 0; i < orPredicatesSize; i++) {
+          decodedClaimPredicate.orPredicates[i] = ClaimPredicate.decode(reader, maxDepth);
+        }
+        break;
+      case CLAIM_PREDICATE_NOT:
+        boolean notPredicatePresent = reader.readXdrBoolean();
+        if (notPredicatePresent) {
+          decodedClaimPredicate.notPredicate = ClaimPredicate.decode(reader, maxDepth);
+        }
+        break;
+      case CLAIM_PREDICATE_BEFORE_ABSOLUTE_TIME:
+        decodedClaimPredicate.absBefore = Int64.decode(reader, maxDepth);
+        break;
+      case CLAIM_PREDICATE_BEFORE_RELATIVE_TIME:
+        decodedClaimPredicate.relBefore = Int64.decode(reader, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedClaimPredicate;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ClaimPredicateType discriminant = ClaimPredicateType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case CLAIM_PREDICATE_UNCONDITIONAL:
+        break;
+      case CLAIM_PREDICATE_AND:
+        int andPredicatesSize = stream.readInt();
+        if (andPredicatesSize < 0) {
+          throw new IOException("andPredicates size " + andPredicatesSize + " is negative");
+        }
+        if (andPredicatesSize > 2) {
+          throw new IOException("andPredicates size " + andPredicatesSize + " exceeds max size 2");
+        }
+        int andPredicatesRemainingInputLen = stream.getRemainingInputLen();
+        if (andPredicatesRemainingInputLen >= 0
+            && andPredicatesRemainingInputLen < andPredicatesSize) {
+          throw new IOException(
+              "andPredicates size "
+                  + andPredicatesSize
+                  + " exceeds remaining input length "
+                  + andPredicatesRemainingInputLen);
+        }
+        for (int i = 0; i < andPredicatesSize; i++) {
+          ClaimPredicate.skip(stream, maxDepth);
+        }
+        break;
+      case CLAIM_PREDICATE_OR:
+        int orPredicatesSize = stream.readInt();
+        if (orPredicatesSize < 0) {
+          throw new IOException("orPredicates size " + orPredicatesSize + " is negative");
+        }
+        if (orPredicatesSize > 2) {
+          throw new IOException("orPredicates size " + orPredicatesSize + " exceeds max size 2");
+        }
+        int orPredicatesRemainingInputLen = stream.getRemainingInputLen();
+        if (orPredicatesRemainingInputLen >= 0
+            && orPredicatesRemainingInputLen < orPredicatesSize) {
+          throw new IOException(
+              "orPredicates size "
+                  + orPredicatesSize
+                  + " exceeds remaining input length "
+                  + orPredicatesRemainingInputLen);
+        }
+        for (int i = 0; i < orPredicatesSize; i++) {
+          ClaimPredicate.skip(stream, maxDepth);
+        }
+        break;
+      case CLAIM_PREDICATE_NOT:
+        boolean notPredicatePresent = stream.readXdrBoolean();
+        if (notPredicatePresent) {
+          ClaimPredicate.skip(stream, maxDepth);
+        }
+        break;
+      case CLAIM_PREDICATE_BEFORE_ABSOLUTE_TIME:
+        Int64.skip(stream, maxDepth);
+        break;
+      case CLAIM_PREDICATE_BEFORE_RELATIVE_TIME:
+        Int64.skip(stream, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field =
+        path.checkField(
+            index, "andPredicates[*]", "orPredicates[*]", "notPredicate", "absBefore", "relBefore");
+    ClaimPredicateType discriminant = ClaimPredicateType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case CLAIM_PREDICATE_UNCONDITIONAL:
+        break;
+      case CLAIM_PREDICATE_AND:
+        if (field.equals("andPredicates")) {
+          int andPredicatesSize = stream.readInt();
+          if (andPredicatesSize < 0) {
+            throw new IOException("andPredicates size " + andPredicatesSize + " is negative");
+          }
+          if (andPredicatesSize > 2) {
+            throw new IOException(
+                "andPredicates size " + andPredicatesSize + " exceeds max size 2");
+          }
+          int andPredicatesRemainingInputLen = stream.getRemainingInputLen();
+          if (andPredicatesRemainingInputLen >= 0
+              && andPredicatesRemainingInputLen < andPredicatesSize) {
+            throw new IOException(
+                "andPredicates size "
+                    + andPredicatesSize
+                    + " exceeds remaining input length "
+                    + andPredicatesRemainingInputLen);
+          }
+          for (int i = 0; i < andPredicatesSize; i++) {
+            ClaimPredicate.extract(stream, maxDepth, path, index + 1, values);
+          }
+        } else {
+          int andPredicatesSize = stream.readInt();
+          if (andPredicatesSize < 0) {
+            throw new IOException("andPredicates size " + andPredicatesSize + " is negative");
+          }
+          if (andPredicatesSize > 2) {
+            throw new IOException(
+                "andPredicates size " + andPredicatesSize + " exceeds max size 2");
+          }
+          int andPredicatesRemainingInputLen = stream.getRemainingInputLen();
+          if (andPredicatesRemainingInputLen >= 0
+              && andPredicatesRemainingInputLen < andPredicatesSize) {
+            throw new IOException(
+                "andPredicates size "
+                    + andPredicatesSize
+                    + " exceeds remaining input length "
+                    + andPredicatesRemainingInputLen);
+          }
+          for (int i = 0; i < andPredicatesSize; i++) {
+            ClaimPredicate.skip(stream, maxDepth);
+          }
+        }
+        break;
+      case CLAIM_PREDICATE_OR:
+        if (field.equals("orPredicates")) {
+          int orPredicatesSize = stream.readInt();
+          if (orPredicatesSize < 0) {
+            throw new IOException("orPredicates size " + orPredicatesSize + " is negative");
+          }
+          if (orPredicatesSize > 2) {
+            throw new IOException("orPredicates size " + orPredicatesSize + " exceeds max size 2");
+          }
+          int orPredicatesRemainingInputLen = stream.getRemainingInputLen();
+          if (orPredicatesRemainingInputLen >= 0
+              && orPredicatesRemainingInputLen < orPredicatesSize) {
+            throw new IOException(
+                "orPredicates size "
+                    + orPredicatesSize
+                    + " exceeds remaining input length "
+                    + orPredicatesRemainingInputLen);
+          }
+          for (int i = 0; i < orPredicatesSize; i++) {
+            ClaimPredicate.extract(stream, maxDepth, path, index + 1, values);
+          }
+        } else {
+          int orPredicatesSize = stream.readInt();
+          if (orPredicatesSize < 0) {
+            throw new IOException("orPredicates size " + orPredicatesSize + " is negative");
+          }
+          if (orPredicatesSize > 2) {
+            throw new IOException("orPredicates size " + orPredicatesSize + " exceeds max size 2");
+          }
+          int orPredicatesRemainingInputLen = stream.getRemainingInputLen();
+          if (orPredicatesRemainingInputLen >= 0
+              && orPredicatesRemainingInputLen < orPredicatesSize) {
+            throw new IOException(
+                "orPredicates size "
+                    + orPredicatesSize
+                    + " exceeds remaining input length "
+                    + orPredicatesRemainingInputLen);
+          }
+          for (int i = 0; i < orPredicatesSize; i++) {
+            ClaimPredicate.skip(stream, maxDepth);
+          }
+        }
+        break;
+      case CLAIM_PREDICATE_NOT:
+        if (field.equals("notPredicate")) {
+          boolean notPredicatePresent = stream.readXdrBoolean();
+          if (notPredicatePresent) {
+            ClaimPredicate.extract(stream, maxDepth, path, index + 1, values);
+          }
+        } else {
+          boolean notPredicatePresent = stream.readXdrBoolean();
+          if (notPredicatePresent) {
+            ClaimPredicate.skip(stream, maxDepth);
+          }
+        }
+        break;
+      case CLAIM_PREDICATE_BEFORE_ABSOLUTE_TIME:
+        if (field.equals("absBefore")) {
+          Int64.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Int64.skip(stream, maxDepth);
+        }
+        break;
+      case CLAIM_PREDICATE_BEFORE_RELATIVE_TIME:
+        if (field.equals("relBefore")) {
+          Int64.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Int64.skip(stream, maxDepth);
+        }
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static ClaimPredicate fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static ClaimPredicate fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static ClaimPredicate fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
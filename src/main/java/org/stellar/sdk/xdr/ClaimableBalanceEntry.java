@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -103,6 +104,20 @@ public class ClaimableBalanceEntry implements XdrElement {
     ext.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += balanceID.encodedSize();
+    size += 4;
+    for (int i = 0; i < claimants.length; i++) {
+      size += claimants[i].encodedSize();
+    }
+    size += asset.encodedSize();
+    size += amount.encodedSize();
+    size += ext.encodedSize();
+    return size;
+  }
+
   public static ClaimableBalanceEntry decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -140,16 +155,163 @@ public class ClaimableBalanceEntry implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static ClaimableBalanceEntry decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ClaimableBalanceEntry decodedClaimableBalanceEntry = new ClaimableBalanceEntry();
+    decodedClaimableBalanceEntry.balanceID = ClaimableBalanceID.decode(reader, maxDepth);
+    int claimantsSize = reader.readInt();
+    if (claimantsSize < 0) {
+      throw new IOException("claimants size " + claimantsSize + " is negative");
+    }
+    if (claimantsSize > 10) {
+      throw new IOException("claimants size " + claimantsSize + " exceeds max size 10");
+    }
+    int claimantsRemainingInputLen = reader.getRemainingInputLen();
+    if (claimantsRemainingInputLen >= 0 && claimantsRemainingInputLen < claimantsSize) {
+      throw new IOException(
+          "claimants size "
+              + claimantsSize
+              + " exceeds remaining input length "
+              + claimantsRemainingInputLen);
+    }
+    decodedClaimableBalanceEntry.claimants = new Claimant[claimantsSize];
+    for (int i = 0; i < claimantsSize; i++) {
+      decodedClaimableBalanceEntry.claimants[i] = Claimant.decode(reader, maxDepth);
+    }
+    decodedClaimableBalanceEntry.asset = Asset.decode(reader, maxDepth);
+    decodedClaimableBalanceEntry.amount = Int64.decode(reader, maxDepth);
+    decodedClaimableBalanceEntry.ext = ClaimableBalanceEntryExt.decode(reader, maxDepth);
+    return decodedClaimableBalanceEntry;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ClaimableBalanceID.skip(stream, maxDepth);
+    int claimantsSize = stream.readInt();
+    if (claimantsSize < 0) {
+      throw new IOException("claimants size " + claimantsSize + " is negative");
+    }
+    if (claimantsSize > 10) {
+      throw new IOException("claimants size " + claimantsSize + " exceeds max size 10");
+    }
+    int claimantsRemainingInputLen = stream.getRemainingInputLen();
+    if (claimantsRemainingInputLen >= 0 && claimantsRemainingInputLen < claimantsSize) {
+      throw new IOException(
+          "claimants size "
+              + claimantsSize
+              + " exceeds remaining input length "
+              + claimantsRemainingInputLen);
+    }
+    for (int i = 0; i < claimantsSize; i++) {
+      Claimant.skip(stream, maxDepth);
+    }
+    Asset.skip(stream, maxDepth);
+    Int64.skip(stream, maxDepth);
+    ClaimableBalanceEntryExt.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "balanceID", "claimants[*]", "asset", "amount", "ext");
+    if (field.equals("balanceID")) {
+      ClaimableBalanceID.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      ClaimableBalanceID.skip(stream, maxDepth);
+    }
+    if (field.equals("claimants")) {
+      int claimantsSize = stream.readInt();
+      if (claimantsSize < 0) {
+        throw new IOException("claimants size " + claimantsSize + " is negative");
+      }
+      if (claimantsSize > 10) {
+        throw new IOException("claimants size " + claimantsSize + " exceeds max size 10");
+      }
+      int claimantsRemainingInputLen = stream.getRemainingInputLen();
+      if (claimantsRemainingInputLen >= 0 && claimantsRemainingInputLen < claimantsSize) {
+        throw new IOException(
+            "claimants size "
+                + claimantsSize
+                + " exceeds remaining input length "
+                + claimantsRemainingInputLen);
+      }
+      for (int i = 0; i < claimantsSize; i++) {
+        Claimant.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int claimantsSize = stream.readInt();
+      if (claimantsSize < 0) {
+        throw new IOException("claimants size " + claimantsSize + " is negative");
+      }
+      if (claimantsSize > 10) {
+        throw new IOException("claimants size " + claimantsSize + " exceeds max size 10");
+      }
+      int claimantsRemainingInputLen = stream.getRemainingInputLen();
+      if (claimantsRemainingInputLen >= 0 && claimantsRemainingInputLen < claimantsSize) {
+        throw new IOException(
+            "claimants size "
+                + claimantsSize
+                + " exceeds remaining input length "
+                + claimantsRemainingInputLen);
+      }
+      for (int i = 0; i < claimantsSize; i++) {
+        Claimant.skip(stream, maxDepth);
+      }
+    }
+    if (field.equals("asset")) {
+      Asset.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Asset.skip(stream, maxDepth);
+    }
+    if (field.equals("amount")) {
+      Int64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Int64.skip(stream, maxDepth);
+    }
+    if (field.equals("ext")) {
+      ClaimableBalanceEntryExt.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      ClaimableBalanceEntryExt.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static ClaimableBalanceEntry fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static ClaimableBalanceEntry fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static ClaimableBalanceEntry fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -233,6 +395,19 @@ public class ClaimableBalanceEntry implements XdrElement {
       }
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 4;
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          size += v1.encodedSize();
+          break;
+      }
+      return size;
+    }
+
     public static ClaimableBalanceEntryExt decode(XdrDataInputStream stream, int maxDepth)
         throws IOException {
       if (maxDepth <= 0) {
@@ -259,16 +434,95 @@ public class ClaimableBalanceEntry implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static ClaimableBalanceEntryExt decode(XdrByteBufferReader reader, int maxDepth)
+        throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      ClaimableBalanceEntryExt decodedClaimableBalanceEntryExt = new ClaimableBalanceEntryExt();
+      Integer discriminant = reader.readInt();
+      decodedClaimableBalanceEntryExt.setDiscriminant(discriminant);
+      switch (decodedClaimableBalanceEntryExt.getDiscriminant()) {
+        case 0:
+          break;
+        case 1:
+          decodedClaimableBalanceEntryExt.v1 =
+              ClaimableBalanceEntryExtensionV1.decode(reader, maxDepth);
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+      return decodedClaimableBalanceEntryExt;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      int discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          ClaimableBalanceEntryExtensionV1.skip(stream, maxDepth);
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index, "v1");
+      int discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          if (field.equals("v1")) {
+            ClaimableBalanceEntryExtensionV1.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            ClaimableBalanceEntryExtensionV1.skip(stream, maxDepth);
+          }
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static ClaimableBalanceEntryExt fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static ClaimableBalanceEntryExt fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static ClaimableBalanceEntryExt fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
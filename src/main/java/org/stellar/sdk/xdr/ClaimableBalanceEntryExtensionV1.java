@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -55,6 +57,14 @@ public class ClaimableBalanceEntryExtensionV1 implements XdrElement {
     flags.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += ext.encodedSize();
+    size += flags.encodedSize();
+    return size;
+  }
+
   public static ClaimableBalanceEntryExtensionV1 decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -74,16 +84,76 @@ public class ClaimableBalanceEntryExtensionV1 implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static ClaimableBalanceEntryExtensionV1 decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ClaimableBalanceEntryExtensionV1 decodedClaimableBalanceEntryExtensionV1 =
+        new ClaimableBalanceEntryExtensionV1();
+    decodedClaimableBalanceEntryExtensionV1.ext =
+        ClaimableBalanceEntryExtensionV1Ext.decode(reader, maxDepth);
+    decodedClaimableBalanceEntryExtensionV1.flags = Uint32.decode(reader, maxDepth);
+    return decodedClaimableBalanceEntryExtensionV1;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ClaimableBalanceEntryExtensionV1Ext.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "ext", "flags");
+    if (field.equals("ext")) {
+      ClaimableBalanceEntryExtensionV1Ext.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      ClaimableBalanceEntryExtensionV1Ext.skip(stream, maxDepth);
+    }
+    if (field.equals("flags")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static ClaimableBalanceEntryExtensionV1 fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static ClaimableBalanceEntryExtensionV1 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static ClaimableBalanceEntryExtensionV1 fromXdrByteBuffer(ByteBuffer xdr)
+      throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -143,6 +213,16 @@ public class ClaimableBalanceEntryExtensionV1 implements XdrElement {
       }
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 4;
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+      return size;
+    }
+
     public static ClaimableBalanceEntryExtensionV1Ext decode(
         XdrDataInputStream stream, int maxDepth) throws IOException {
       if (maxDepth <= 0) {
@@ -167,6 +247,70 @@ public class ClaimableBalanceEntryExtensionV1 implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static ClaimableBalanceEntryExtensionV1Ext decode(
+        XdrByteBufferReader reader, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      ClaimableBalanceEntryExtensionV1Ext decodedClaimableBalanceEntryExtensionV1Ext =
+          new ClaimableBalanceEntryExtensionV1Ext();
+      Integer discriminant = reader.readInt();
+      decodedClaimableBalanceEntryExtensionV1Ext.setDiscriminant(discriminant);
+      switch (decodedClaimableBalanceEntryExtensionV1Ext.getDiscriminant()) {
+        case 0:
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+      return decodedClaimableBalanceEntryExtensionV1Ext;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      int discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index);
+      int discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static ClaimableBalanceEntryExtensionV1Ext fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
@@ -174,10 +318,13 @@ public class ClaimableBalanceEntryExtensionV1 implements XdrElement {
 
     public static ClaimableBalanceEntryExtensionV1Ext fromXdrByteArray(byte[] xdr)
         throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static ClaimableBalanceEntryExtensionV1Ext fromXdrByteBuffer(ByteBuffer xdr)
+        throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
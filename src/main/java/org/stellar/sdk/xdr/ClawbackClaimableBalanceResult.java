@@ -3,8 +3,10 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -52,6 +54,20 @@ public class ClawbackClaimableBalanceResult implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case CLAWBACK_CLAIMABLE_BALANCE_SUCCESS:
+        break;
+      case CLAWBACK_CLAIMABLE_BALANCE_DOES_NOT_EXIST:
+      case CLAWBACK_CLAIMABLE_BALANCE_NOT_ISSUER:
+      case CLAWBACK_CLAIMABLE_BALANCE_NOT_CLAWBACK_ENABLED:
+        break;
+    }
+    return size;
+  }
+
   public static ClawbackClaimableBalanceResult decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -81,16 +97,98 @@ public class ClawbackClaimableBalanceResult implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static ClawbackClaimableBalanceResult decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ClawbackClaimableBalanceResult decodedClawbackClaimableBalanceResult =
+        new ClawbackClaimableBalanceResult();
+    ClawbackClaimableBalanceResultCode discriminant =
+        ClawbackClaimableBalanceResultCode.decode(reader, maxDepth);
+    decodedClawbackClaimableBalanceResult.setDiscriminant(discriminant);
+    switch (decodedClawbackClaimableBalanceResult.getDiscriminant()) {
+      case CLAWBACK_CLAIMABLE_BALANCE_SUCCESS:
+        break;
+      case CLAWBACK_CLAIMABLE_BALANCE_DOES_NOT_EXIST:
+      case CLAWBACK_CLAIMABLE_BALANCE_NOT_ISSUER:
+      case CLAWBACK_CLAIMABLE_BALANCE_NOT_CLAWBACK_ENABLED:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedClawbackClaimableBalanceResult;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ClawbackClaimableBalanceResultCode discriminant =
+        ClawbackClaimableBalanceResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case CLAWBACK_CLAIMABLE_BALANCE_SUCCESS:
+        break;
+      case CLAWBACK_CLAIMABLE_BALANCE_DOES_NOT_EXIST:
+      case CLAWBACK_CLAIMABLE_BALANCE_NOT_ISSUER:
+      case CLAWBACK_CLAIMABLE_BALANCE_NOT_CLAWBACK_ENABLED:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index);
+    ClawbackClaimableBalanceResultCode discriminant =
+        ClawbackClaimableBalanceResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case CLAWBACK_CLAIMABLE_BALANCE_SUCCESS:
+        break;
+      case CLAWBACK_CLAIMABLE_BALANCE_DOES_NOT_EXIST:
+      case CLAWBACK_CLAIMABLE_BALANCE_NOT_ISSUER:
+      case CLAWBACK_CLAIMABLE_BALANCE_NOT_CLAWBACK_ENABLED:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static ClawbackClaimableBalanceResult fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static ClawbackClaimableBalanceResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static ClawbackClaimableBalanceResult fromXdrByteBuffer(ByteBuffer xdr)
+      throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
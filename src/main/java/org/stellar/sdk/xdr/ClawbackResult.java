@@ -3,8 +3,10 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -53,6 +55,21 @@ public class ClawbackResult implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case CLAWBACK_SUCCESS:
+        break;
+      case CLAWBACK_MALFORMED:
+      case CLAWBACK_NOT_CLAWBACK_ENABLED:
+      case CLAWBACK_NO_TRUST:
+      case CLAWBACK_UNDERFUNDED:
+        break;
+    }
+    return size;
+  }
+
   public static ClawbackResult decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -79,16 +96,95 @@ public class ClawbackResult implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static ClawbackResult decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ClawbackResult decodedClawbackResult = new ClawbackResult();
+    ClawbackResultCode discriminant = ClawbackResultCode.decode(reader, maxDepth);
+    decodedClawbackResult.setDiscriminant(discriminant);
+    switch (decodedClawbackResult.getDiscriminant()) {
+      case CLAWBACK_SUCCESS:
+        break;
+      case CLAWBACK_MALFORMED:
+      case CLAWBACK_NOT_CLAWBACK_ENABLED:
+      case CLAWBACK_NO_TRUST:
+      case CLAWBACK_UNDERFUNDED:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedClawbackResult;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ClawbackResultCode discriminant = ClawbackResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case CLAWBACK_SUCCESS:
+        break;
+      case CLAWBACK_MALFORMED:
+      case CLAWBACK_NOT_CLAWBACK_ENABLED:
+      case CLAWBACK_NO_TRUST:
+      case CLAWBACK_UNDERFUNDED:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index);
+    ClawbackResultCode discriminant = ClawbackResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case CLAWBACK_SUCCESS:
+        break;
+      case CLAWBACK_MALFORMED:
+      case CLAWBACK_NOT_CLAWBACK_ENABLED:
+      case CLAWBACK_NO_TRUST:
+      case CLAWBACK_UNDERFUNDED:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static ClawbackResult fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static ClawbackResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static ClawbackResult fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
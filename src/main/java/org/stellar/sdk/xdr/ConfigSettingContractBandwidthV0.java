@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -63,6 +65,15 @@ public class ConfigSettingContractBandwidthV0 implements XdrElement {
     feeTxSize1KB.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += ledgerMaxTxsSizeBytes.encodedSize();
+    size += txMaxSizeBytes.encodedSize();
+    size += feeTxSize1KB.encodedSize();
+    return size;
+  }
+
   public static ConfigSettingContractBandwidthV0 decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -82,16 +93,83 @@ public class ConfigSettingContractBandwidthV0 implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static ConfigSettingContractBandwidthV0 decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ConfigSettingContractBandwidthV0 decodedConfigSettingContractBandwidthV0 =
+        new ConfigSettingContractBandwidthV0();
+    decodedConfigSettingContractBandwidthV0.ledgerMaxTxsSizeBytes = Uint32.decode(reader, maxDepth);
+    decodedConfigSettingContractBandwidthV0.txMaxSizeBytes = Uint32.decode(reader, maxDepth);
+    decodedConfigSettingContractBandwidthV0.feeTxSize1KB = Int64.decode(reader, maxDepth);
+    return decodedConfigSettingContractBandwidthV0;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    Int64.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field =
+        path.checkField(index, "ledgerMaxTxsSizeBytes", "txMaxSizeBytes", "feeTxSize1KB");
+    if (field.equals("ledgerMaxTxsSizeBytes")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("txMaxSizeBytes")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("feeTxSize1KB")) {
+      Int64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Int64.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static ConfigSettingContractBandwidthV0 fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static ConfigSettingContractBandwidthV0 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static ConfigSettingContractBandwidthV0 fromXdrByteBuffer(ByteBuffer xdr)
+      throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -75,6 +77,16 @@ public class ConfigSettingContractComputeV0 implements XdrElement {
     txMemoryLimit.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += ledgerMaxInstructions.encodedSize();
+    size += txMaxInstructions.encodedSize();
+    size += feeRatePerInstructionsIncrement.encodedSize();
+    size += txMemoryLimit.encodedSize();
+    return size;
+  }
+
   public static ConfigSettingContractComputeV0 decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -96,16 +108,96 @@ public class ConfigSettingContractComputeV0 implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static ConfigSettingContractComputeV0 decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ConfigSettingContractComputeV0 decodedConfigSettingContractComputeV0 =
+        new ConfigSettingContractComputeV0();
+    decodedConfigSettingContractComputeV0.ledgerMaxInstructions = Int64.decode(reader, maxDepth);
+    decodedConfigSettingContractComputeV0.txMaxInstructions = Int64.decode(reader, maxDepth);
+    decodedConfigSettingContractComputeV0.feeRatePerInstructionsIncrement =
+        Int64.decode(reader, maxDepth);
+    decodedConfigSettingContractComputeV0.txMemoryLimit = Uint32.decode(reader, maxDepth);
+    return decodedConfigSettingContractComputeV0;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Int64.skip(stream, maxDepth);
+    Int64.skip(stream, maxDepth);
+    Int64.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field =
+        path.checkField(
+            index,
+            "ledgerMaxInstructions",
+            "txMaxInstructions",
+            "feeRatePerInstructionsIncrement",
+            "txMemoryLimit");
+    if (field.equals("ledgerMaxInstructions")) {
+      Int64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Int64.skip(stream, maxDepth);
+    }
+    if (field.equals("txMaxInstructions")) {
+      Int64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Int64.skip(stream, maxDepth);
+    }
+    if (field.equals("feeRatePerInstructionsIncrement")) {
+      Int64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Int64.skip(stream, maxDepth);
+    }
+    if (field.equals("txMemoryLimit")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static ConfigSettingContractComputeV0 fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static ConfigSettingContractComputeV0 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static ConfigSettingContractComputeV0 fromXdrByteBuffer(ByteBuffer xdr)
+      throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
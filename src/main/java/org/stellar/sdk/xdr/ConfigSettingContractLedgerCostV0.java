@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -196,6 +198,27 @@ public class ConfigSettingContractLedgerCostV0 implements XdrElement {
     sorobanStateRentFeeGrowthFactor.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += ledgerMaxDiskReadEntries.encodedSize();
+    size += ledgerMaxDiskReadBytes.encodedSize();
+    size += ledgerMaxWriteLedgerEntries.encodedSize();
+    size += ledgerMaxWriteBytes.encodedSize();
+    size += txMaxDiskReadEntries.encodedSize();
+    size += txMaxDiskReadBytes.encodedSize();
+    size += txMaxWriteLedgerEntries.encodedSize();
+    size += txMaxWriteBytes.encodedSize();
+    size += feeDiskReadLedgerEntry.encodedSize();
+    size += feeWriteLedgerEntry.encodedSize();
+    size += feeDiskRead1KB.encodedSize();
+    size += sorobanStateTargetSizeBytes.encodedSize();
+    size += rentFee1KBSorobanStateSizeLow.encodedSize();
+    size += rentFee1KBSorobanStateSizeHigh.encodedSize();
+    size += sorobanStateRentFeeGrowthFactor.encodedSize();
+    return size;
+  }
+
   public static ConfigSettingContractLedgerCostV0 decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -236,16 +259,192 @@ public class ConfigSettingContractLedgerCostV0 implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static ConfigSettingContractLedgerCostV0 decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ConfigSettingContractLedgerCostV0 decodedConfigSettingContractLedgerCostV0 =
+        new ConfigSettingContractLedgerCostV0();
+    decodedConfigSettingContractLedgerCostV0.ledgerMaxDiskReadEntries =
+        Uint32.decode(reader, maxDepth);
+    decodedConfigSettingContractLedgerCostV0.ledgerMaxDiskReadBytes =
+        Uint32.decode(reader, maxDepth);
+    decodedConfigSettingContractLedgerCostV0.ledgerMaxWriteLedgerEntries =
+        Uint32.decode(reader, maxDepth);
+    decodedConfigSettingContractLedgerCostV0.ledgerMaxWriteBytes = Uint32.decode(reader, maxDepth);
+    decodedConfigSettingContractLedgerCostV0.txMaxDiskReadEntries = Uint32.decode(reader, maxDepth);
+    decodedConfigSettingContractLedgerCostV0.txMaxDiskReadBytes = Uint32.decode(reader, maxDepth);
+    decodedConfigSettingContractLedgerCostV0.txMaxWriteLedgerEntries =
+        Uint32.decode(reader, maxDepth);
+    decodedConfigSettingContractLedgerCostV0.txMaxWriteBytes = Uint32.decode(reader, maxDepth);
+    decodedConfigSettingContractLedgerCostV0.feeDiskReadLedgerEntry =
+        Int64.decode(reader, maxDepth);
+    decodedConfigSettingContractLedgerCostV0.feeWriteLedgerEntry = Int64.decode(reader, maxDepth);
+    decodedConfigSettingContractLedgerCostV0.feeDiskRead1KB = Int64.decode(reader, maxDepth);
+    decodedConfigSettingContractLedgerCostV0.sorobanStateTargetSizeBytes =
+        Int64.decode(reader, maxDepth);
+    decodedConfigSettingContractLedgerCostV0.rentFee1KBSorobanStateSizeLow =
+        Int64.decode(reader, maxDepth);
+    decodedConfigSettingContractLedgerCostV0.rentFee1KBSorobanStateSizeHigh =
+        Int64.decode(reader, maxDepth);
+    decodedConfigSettingContractLedgerCostV0.sorobanStateRentFeeGrowthFactor =
+        Uint32.decode(reader, maxDepth);
+    return decodedConfigSettingContractLedgerCostV0;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    Int64.skip(stream, maxDepth);
+    Int64.skip(stream, maxDepth);
+    Int64.skip(stream, maxDepth);
+    Int64.skip(stream, maxDepth);
+    Int64.skip(stream, maxDepth);
+    Int64.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field =
+        path.checkField(
+            index,
+            "ledgerMaxDiskReadEntries",
+            "ledgerMaxDiskReadBytes",
+            "ledgerMaxWriteLedgerEntries",
+            "ledgerMaxWriteBytes",
+            "txMaxDiskReadEntries",
+            "txMaxDiskReadBytes",
+            "txMaxWriteLedgerEntries",
+            "txMaxWriteBytes",
+            "feeDiskReadLedgerEntry",
+            "feeWriteLedgerEntry",
+            "feeDiskRead1KB",
+            "sorobanStateTargetSizeBytes",
+            "rentFee1KBSorobanStateSizeLow",
+            "rentFee1KBSorobanStateSizeHigh",
+            "sorobanStateRentFeeGrowthFactor");
+    if (field.equals("ledgerMaxDiskReadEntries")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("ledgerMaxDiskReadBytes")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("ledgerMaxWriteLedgerEntries")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("ledgerMaxWriteBytes")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("txMaxDiskReadEntries")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("txMaxDiskReadBytes")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("txMaxWriteLedgerEntries")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("txMaxWriteBytes")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("feeDiskReadLedgerEntry")) {
+      Int64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Int64.skip(stream, maxDepth);
+    }
+    if (field.equals("feeWriteLedgerEntry")) {
+      Int64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Int64.skip(stream, maxDepth);
+    }
+    if (field.equals("feeDiskRead1KB")) {
+      Int64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Int64.skip(stream, maxDepth);
+    }
+    if (field.equals("sorobanStateTargetSizeBytes")) {
+      Int64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Int64.skip(stream, maxDepth);
+    }
+    if (field.equals("rentFee1KBSorobanStateSizeLow")) {
+      Int64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Int64.skip(stream, maxDepth);
+    }
+    if (field.equals("rentFee1KBSorobanStateSizeHigh")) {
+      Int64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Int64.skip(stream, maxDepth);
+    }
+    if (field.equals("sorobanStateRentFeeGrowthFactor")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static ConfigSettingContractLedgerCostV0 fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static ConfigSettingContractLedgerCostV0 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static ConfigSettingContractLedgerCostV0 fromXdrByteBuffer(ByteBuffer xdr)
+      throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -318,6 +319,80 @@ public class ConfigSettingEntry implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case CONFIG_SETTING_CONTRACT_MAX_SIZE_BYTES:
+        size += contractMaxSizeBytes.encodedSize();
+        break;
+      case CONFIG_SETTING_CONTRACT_COMPUTE_V0:
+        size += contractCompute.encodedSize();
+        break;
+      case CONFIG_SETTING_CONTRACT_LEDGER_COST_V0:
+        size += contractLedgerCost.encodedSize();
+        break;
+      case CONFIG_SETTING_CONTRACT_HISTORICAL_DATA_V0:
+        size += contractHistoricalData.encodedSize();
+        break;
+      case CONFIG_SETTING_CONTRACT_EVENTS_V0:
+        size += contractEvents.encodedSize();
+        break;
+      case CONFIG_SETTING_CONTRACT_BANDWIDTH_V0:
+        size += contractBandwidth.encodedSize();
+        break;
+      case CONFIG_SETTING_CONTRACT_COST_PARAMS_CPU_INSTRUCTIONS:
+        size += contractCostParamsCpuInsns.encodedSize();
+        break;
+      case CONFIG_SETTING_CONTRACT_COST_PARAMS_MEMORY_BYTES:
+        size += contractCostParamsMemBytes.encodedSize();
+        break;
+      case CONFIG_SETTING_CONTRACT_DATA_KEY_SIZE_BYTES:
+        size += contractDataKeySizeBytes.encodedSize();
+        break;
+      case CONFIG_SETTING_CONTRACT_DATA_ENTRY_SIZE_BYTES:
+        size += contractDataEntrySizeBytes.encodedSize();
+        break;
+      case CONFIG_SETTING_STATE_ARCHIVAL:
+        size += stateArchivalSettings.encodedSize();
+        break;
+      case CONFIG_SETTING_CONTRACT_EXECUTION_LANES:
+        size += contractExecutionLanes.encodedSize();
+        break;
+      case CONFIG_SETTING_LIVE_SOROBAN_STATE_SIZE_WINDOW:
+        size += 4;
+        for (int i = 0; i < liveSorobanStateSizeWindow.length; i++) {
+          size += liveSorobanStateSizeWindow[i].encodedSize();
+        }
+        break;
+      case CONFIG_SETTING_EVICTION_ITERATOR:
+        size += evictionIterator.encodedSize();
+        break;
+      case CONFIG_SETTING_CONTRACT_PARALLEL_COMPUTE_V0:
+        size += contractParallelCompute.encodedSize();
+        break;
+      case CONFIG_SETTING_CONTRACT_LEDGER_COST_EXT_V0:
+        size += contractLedgerCostExt.encodedSize();
+        break;
+      case CONFIG_SETTING_SCP_TIMING:
+        size += contractSCPTiming.encodedSize();
+        break;
+      case CONFIG_SETTING_FROZEN_LEDGER_KEYS:
+        size += frozenLedgerKeys.encodedSize();
+        break;
+      case CONFIG_SETTING_FROZEN_LEDGER_KEYS_DELTA:
+        size += frozenLedgerKeysDelta.encodedSize();
+        break;
+      case CONFIG_SETTING_FREEZE_BYPASS_TXS:
+        size += freezeBypassTxs.encodedSize();
+        break;
+      case CONFIG_SETTING_FREEZE_BYPASS_TXS_DELTA:
+        size += freezeBypassTxsDelta.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static ConfigSettingEntry decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -433,16 +508,455 @@ public class ConfigSettingEntry implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static ConfigSettingEntry decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ConfigSettingEntry decodedConfigSettingEntry = new ConfigSettingEntry();
+    ConfigSettingID discriminant = ConfigSettingID.decode(reader, maxDepth);
+    decodedConfigSettingEntry.setDiscriminant(discriminant);
+    switch (decodedConfigSettingEntry.getDiscriminant()) {
+      case CONFIG_SETTING_CONTRACT_MAX_SIZE_BYTES:
+        decodedConfigSettingEntry.contractMaxSizeBytes = Uint32.decode(reader, maxDepth);
+        break;
+      case CONFIG_SETTING_CONTRACT_COMPUTE_V0:
+        decodedConfigSettingEntry.contractCompute =
+            ConfigSettingContractComputeV0.decode(reader, maxDepth);
+        break;
+      case CONFIG_SETTING_CONTRACT_LEDGER_COST_V0:
+        decodedConfigSettingEntry.contractLedgerCost =
+            ConfigSettingContractLedgerCostV0.decode(reader, maxDepth);
+        break;
+      case CONFIG_SETTING_CONTRACT_HISTORICAL_DATA_V0:
+        decodedConfigSettingEntry.contractHistoricalData =
+            ConfigSettingContractHistoricalDataV0.decode(reader, maxDepth);
+        break;
+      case CONFIG_SETTING_CONTRACT_EVENTS_V0:
+        decodedConfigSettingEntry.contractEvents =
+            ConfigSettingContractEventsV0.decode(reader, maxDepth);
+        break;
+      case CONFIG_SETTING_CONTRACT_BANDWIDTH_V0:
+        decodedConfigSettingEntry.contractBandwidth =
+            ConfigSettingContractBandwidthV0.decode(reader, maxDepth);
+        break;
+      case CONFIG_SETTING_CONTRACT_COST_PARAMS_CPU_INSTRUCTIONS:
+        decodedConfigSettingEntry.contractCostParamsCpuInsns =
+            ContractCostParams.decode(reader, maxDepth);
+        break;
+      case CONFIG_SETTING_CONTRACT_COST_PARAMS_MEMORY_BYTES:
+        decodedConfigSettingEntry.contractCostParamsMemBytes =
+            ContractCostParams.decode(reader, maxDepth);
+        break;
+      case CONFIG_SETTING_CONTRACT_DATA_KEY_SIZE_BYTES:
+        decodedConfigSettingEntry.contractDataKeySizeBytes = Uint32.decode(reader, maxDepth);
+        break;
+      case CONFIG_SETTING_CONTRACT_DATA_ENTRY_SIZE_BYTES:
+        decodedConfigSettingEntry.contractDataEntrySizeBytes = Uint32.decode(reader, maxDepth);
+        break;
+      case CONFIG_SETTING_STATE_ARCHIVAL:
+        decodedConfigSettingEntry.stateArchivalSettings =
+            StateArchivalSettings.decode(reader, maxDepth);
+        break;
+      case CONFIG_SETTING_CONTRACT_EXECUTION_LANES:
+        decodedConfigSettingEntry.contractExecutionLanes =
+            ConfigSettingContractExecutionLanesV0.decode(reader, maxDepth);
+        break;
+      case CONFIG_SETTING_LIVE_SOROBAN_STATE_SIZE_WINDOW:
+        int liveSorobanStateSizeWindowSize = reader.readInt();
+        if (liveSorobanStateSizeWindowSize < 0) {
+          throw new IOException(
+              "liveSorobanStateSizeWindow size " + liveSorobanStateSizeWindowSize + " is negative");
+        }
+        int liveSorobanStateSizeWindowRemainingInputLen = reader.getRemainingInputLen();
+        if (liveSorobanStateSizeWindowRemainingInputLen >= 0
+            && liveSorobanStateSizeWindowRemainingInputLen < liveSorobanStateSizeWindowSize) {
+          throw new IOException(
+              "liveSorobanStateSizeWindow size "
+                  + liveSorobanStateSizeWindowSize
+                  + " exceeds remaining input length "
+                  + liveSorobanStateSizeWindowRemainingInputLen);
+        }
+        decodedConfigSettingEntry.liveSorobanStateSizeWindow =
+            new Uint64[liveSorobanStateSizeWindowSize];
+        for (int i = 0; i < liveSorobanStateSizeWindowSize; i++) {
+          decodedConfigSettingEntry.liveSorobanStateSizeWindow[i] = Uint64.decode(reader, maxDepth);
+        }
+        break;
+      case CONFIG_SETTING_EVICTION_ITERATOR:
+        decodedConfigSettingEntry.evictionIterator = EvictionIterator.decode(reader, maxDepth);
+        break;
+      case CONFIG_SETTING_CONTRACT_PARALLEL_COMPUTE_V0:
+        decodedConfigSettingEntry.contractParallelCompute =
+            ConfigSettingContractParallelComputeV0.decode(reader, maxDepth);
+        break;
+      case CONFIG_SETTING_CONTRACT_LEDGER_COST_EXT_V0:
+        decodedConfigSettingEntry.contractLedgerCostExt =
+            ConfigSettingContractLedgerCostExtV0.decode(reader, maxDepth);
+        break;
+      case CONFIG_SETTING_SCP_TIMING:
+        decodedConfigSettingEntry.contractSCPTiming =
+            ConfigSettingSCPTiming.decode(reader, maxDepth);
+        break;
+      case CONFIG_SETTING_FROZEN_LEDGER_KEYS:
+        decodedConfigSettingEntry.frozenLedgerKeys = FrozenLedgerKeys.decode(reader, maxDepth);
+        break;
+      case CONFIG_SETTING_FROZEN_LEDGER_KEYS_DELTA:
+        decodedConfigSettingEntry.frozenLedgerKeysDelta =
+            FrozenLedgerKeysDelta.decode(reader, maxDepth);
+        break;
+      case CONFIG_SETTING_FREEZE_BYPASS_TXS:
+        decodedConfigSettingEntry.freezeBypassTxs = FreezeBypassTxs.decode(reader, maxDepth);
+        break;
+      case CONFIG_SETTING_FREEZE_BYPASS_TXS_DELTA:
+        decodedConfigSettingEntry.freezeBypassTxsDelta =
+            FreezeBypassTxsDelta.decode(reader, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedConfigSettingEntry;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ConfigSettingID discriminant = ConfigSettingID.decode(stream, maxDepth);
+    switch (discriminant) {
+      case CONFIG_SETTING_CONTRACT_MAX_SIZE_BYTES:
+        Uint32.skip(stream, maxDepth);
+        break;
+      case CONFIG_SETTING_CONTRACT_COMPUTE_V0:
+        ConfigSettingContractComputeV0.skip(stream, maxDepth);
+        break;
+      case CONFIG_SETTING_CONTRACT_LEDGER_COST_V0:
+        ConfigSettingContractLedgerCostV0.skip(stream, maxDepth);
+        break;
+      case CONFIG_SETTING_CONTRACT_HISTORICAL_DATA_V0:
+        ConfigSettingContractHistoricalDataV0.skip(stream, maxDepth);
+        break;
+      case CONFIG_SETTING_CONTRACT_EVENTS_V0:
+        ConfigSettingContractEventsV0.skip(stream, maxDepth);
+        break;
+      case CONFIG_SETTING_CONTRACT_BANDWIDTH_V0:
+        ConfigSettingContractBandwidthV0.skip(stream, maxDepth);
+        break;
+      case CONFIG_SETTING_CONTRACT_COST_PARAMS_CPU_INSTRUCTIONS:
+        ContractCostParams.skip(stream, maxDepth);
+        break;
+      case CONFIG_SETTING_CONTRACT_COST_PARAMS_MEMORY_BYTES:
+        ContractCostParams.skip(stream, maxDepth);
+        break;
+      case CONFIG_SETTING_CONTRACT_DATA_KEY_SIZE_BYTES:
+        Uint32.skip(stream, maxDepth);
+        break;
+      case CONFIG_SETTING_CONTRACT_DATA_ENTRY_SIZE_BYTES:
+        Uint32.skip(stream, maxDepth);
+        break;
+      case CONFIG_SETTING_STATE_ARCHIVAL:
+        StateArchivalSettings.skip(stream, maxDepth);
+        break;
+      case CONFIG_SETTING_CONTRACT_EXECUTION_LANES:
+        ConfigSettingContractExecutionLanesV0.skip(stream, maxDepth);
+        break;
+      case CONFIG_SETTING_LIVE_SOROBAN_STATE_SIZE_WINDOW:
+        int liveSorobanStateSizeWindowSize = stream.readInt();
+        if (liveSorobanStateSizeWindowSize < 0) {
+          throw new IOException(
+              "liveSorobanStateSizeWindow size " + liveSorobanStateSizeWindowSize + " is negative");
+        }
+        int liveSorobanStateSizeWindowRemainingInputLen = stream.getRemainingInputLen();
+        if (liveSorobanStateSizeWindowRemainingInputLen >= 0
+            && liveSorobanStateSizeWindowRemainingInputLen < liveSorobanStateSizeWindowSize) {
+          throw new IOException(
+              "liveSorobanStateSizeWindow size "
+                  + liveSorobanStateSizeWindowSize
+                  + " exceeds remaining input length "
+                  + liveSorobanStateSizeWindowRemainingInputLen);
+        }
+        for (int i = 0; i < liveSorobanStateSizeWindowSize; i++) {
+          Uint64.skip(stream, maxDepth);
+        }
+        break;
+      case CONFIG_SETTING_EVICTION_ITERATOR:
+        EvictionIterator.skip(stream, maxDepth);
+        break;
+      case CONFIG_SETTING_CONTRACT_PARALLEL_COMPUTE_V0:
+        ConfigSettingContractParallelComputeV0.skip(stream, maxDepth);
+        break;
+      case CONFIG_SETTING_CONTRACT_LEDGER_COST_EXT_V0:
+        ConfigSettingContractLedgerCostExtV0.skip(stream, maxDepth);
+        break;
+      case CONFIG_SETTING_SCP_TIMING:
+        ConfigSettingSCPTiming.skip(stream, maxDepth);
+        break;
+      case CONFIG_SETTING_FROZEN_LEDGER_KEYS:
+        FrozenLedgerKeys.skip(stream, maxDepth);
+        break;
+      case CONFIG_SETTING_FROZEN_LEDGER_KEYS_DELTA:
+        FrozenLedgerKeysDelta.skip(stream, maxDepth);
+        break;
+      case CONFIG_SETTING_FREEZE_BYPASS_TXS:
+        FreezeBypassTxs.skip(stream, maxDepth);
+        break;
+      case CONFIG_SETTING_FREEZE_BYPASS_TXS_DELTA:
+        FreezeBypassTxsDelta.skip(stream, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field =
+        path.checkField(
+            index,
+            "contractMaxSizeBytes",
+            "contractCompute",
+            "contractLedgerCost",
+            "contractHistoricalData",
+            "contractEvents",
+            "contractBandwidth",
+            "contractCostParamsCpuInsns[*]",
+            "contractCostParamsMemBytes[*]",
+            "contractDataKeySizeBytes",
+            "contractDataEntrySizeBytes",
+            "stateArchivalSettings",
+            "contractExecutionLanes",
+            "liveSorobanStateSizeWindow[*]",
+            "evictionIterator",
+            "contractParallelCompute",
+            "contractLedgerCostExt",
+            "contractSCPTiming",
+            "frozenLedgerKeys",
+            "frozenLedgerKeysDelta",
+            "freezeBypassTxs",
+            "freezeBypassTxsDelta");
+    ConfigSettingID discriminant = ConfigSettingID.decode(stream, maxDepth);
+    switch (discriminant) {
+      case CONFIG_SETTING_CONTRACT_MAX_SIZE_BYTES:
+        if (field.equals("contractMaxSizeBytes")) {
+          Uint32.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Uint32.skip(stream, maxDepth);
+        }
+        break;
+      case CONFIG_SETTING_CONTRACT_COMPUTE_V0:
+        if (field.equals("contractCompute")) {
+          ConfigSettingContractComputeV0.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          ConfigSettingContractComputeV0.skip(stream, maxDepth);
+        }
+        break;
+      case CONFIG_SETTING_CONTRACT_LEDGER_COST_V0:
+        if (field.equals("contractLedgerCost")) {
+          ConfigSettingContractLedgerCostV0.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          ConfigSettingContractLedgerCostV0.skip(stream, maxDepth);
+        }
+        break;
+      case CONFIG_SETTING_CONTRACT_HISTORICAL_DATA_V0:
+        if (field.equals("contractHistoricalData")) {
+          ConfigSettingContractHistoricalDataV0.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          ConfigSettingContractHistoricalDataV0.skip(stream, maxDepth);
+        }
+        break;
+      case CONFIG_SETTING_CONTRACT_EVENTS_V0:
+        if (field.equals("contractEvents")) {
+          ConfigSettingContractEventsV0.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          ConfigSettingContractEventsV0.skip(stream, maxDepth);
+        }
+        break;
+      case CONFIG_SETTING_CONTRACT_BANDWIDTH_V0:
+        if (field.equals("contractBandwidth")) {
+          ConfigSettingContractBandwidthV0.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          ConfigSettingContractBandwidthV0.skip(stream, maxDepth);
+        }
+        break;
+      case CONFIG_SETTING_CONTRACT_COST_PARAMS_CPU_INSTRUCTIONS:
+        if (field.equals("contractCostParamsCpuInsns")) {
+          ContractCostParams.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          ContractCostParams.skip(stream, maxDepth);
+        }
+        break;
+      case CONFIG_SETTING_CONTRACT_COST_PARAMS_MEMORY_BYTES:
+        if (field.equals("contractCostParamsMemBytes")) {
+          ContractCostParams.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          ContractCostParams.skip(stream, maxDepth);
+        }
+        break;
+      case CONFIG_SETTING_CONTRACT_DATA_KEY_SIZE_BYTES:
+        if (field.equals("contractDataKeySizeBytes")) {
+          Uint32.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Uint32.skip(stream, maxDepth);
+        }
+        break;
+      case CONFIG_SETTING_CONTRACT_DATA_ENTRY_SIZE_BYTES:
+        if (field.equals("contractDataEntrySizeBytes")) {
+          Uint32.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Uint32.skip(stream, maxDepth);
+        }
+        break;
+      case CONFIG_SETTING_STATE_ARCHIVAL:
+        if (field.equals("stateArchivalSettings")) {
+          StateArchivalSettings.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          StateArchivalSettings.skip(stream, maxDepth);
+        }
+        break;
+      case CONFIG_SETTING_CONTRACT_EXECUTION_LANES:
+        if (field.equals("contractExecutionLanes")) {
+          ConfigSettingContractExecutionLanesV0.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          ConfigSettingContractExecutionLanesV0.skip(stream, maxDepth);
+        }
+        break;
+      case CONFIG_SETTING_LIVE_SOROBAN_STATE_SIZE_WINDOW:
+        if (field.equals("liveSorobanStateSizeWindow")) {
+          int liveSorobanStateSizeWindowSize = stream.readInt();
+          if (liveSorobanStateSizeWindowSize < 0) {
+            throw new IOException(
+                "liveSorobanStateSizeWindow size "
+                    + liveSorobanStateSizeWindowSize
+                    + " is negative");
+          }
+          int liveSorobanStateSizeWindowRemainingInputLen = stream.getRemainingInputLen();
+          if (liveSorobanStateSizeWindowRemainingInputLen >= 0
+              && liveSorobanStateSizeWindowRemainingInputLen < liveSorobanStateSizeWindowSize) {
+            throw new IOException(
+                "liveSorobanStateSizeWindow size "
+                    + liveSorobanStateSizeWindowSize
+                    + " exceeds remaining input length "
+                    + liveSorobanStateSizeWindowRemainingInputLen);
+          }
+          for (int i = 0; i < liveSorobanStateSizeWindowSize; i++) {
+            Uint64.extract(stream, maxDepth, path, index + 1, values);
+          }
+        } else {
+          int liveSorobanStateSizeWindowSize = stream.readInt();
+          if (liveSorobanStateSizeWindowSize < 0) {
+            throw new IOException(
+                "liveSorobanStateSizeWindow size "
+                    + liveSorobanStateSizeWindowSize
+                    + " is negative");
+          }
+          int liveSorobanStateSizeWindowRemainingInputLen = stream.getRemainingInputLen();
+          if (liveSorobanStateSizeWindowRemainingInputLen >= 0
+              && liveSorobanStateSizeWindowRemainingInputLen < liveSorobanStateSizeWindowSize) {
+            throw new IOException(
+                "liveSorobanStateSizeWindow size "
+                    + liveSorobanStateSizeWindowSize
+                    + " exceeds remaining input length "
+                    + liveSorobanStateSizeWindowRemainingInputLen);
+          }
+          for (int i = 0; i < liveSorobanStateSizeWindowSize; i++) {
+            Uint64.skip(stream, maxDepth);
+          }
+        }
+        break;
+      case CONFIG_SETTING_EVICTION_ITERATOR:
+        if (field.equals("evictionIterator")) {
+          EvictionIterator.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          EvictionIterator.skip(stream, maxDepth);
+        }
+        break;
+      case CONFIG_SETTING_CONTRACT_PARALLEL_COMPUTE_V0:
+        if (field.equals("contractParallelCompute")) {
+          ConfigSettingContractParallelComputeV0.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          ConfigSettingContractParallelComputeV0.skip(stream, maxDepth);
+        }
+        break;
+      case CONFIG_SETTING_CONTRACT_LEDGER_COST_EXT_V0:
+        if (field.equals("contractLedgerCostExt")) {
+          ConfigSettingContractLedgerCostExtV0.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          ConfigSettingContractLedgerCostExtV0.skip(stream, maxDepth);
+        }
+        break;
+      case CONFIG_SETTING_SCP_TIMING:
+        if (field.equals("contractSCPTiming")) {
+          ConfigSettingSCPTiming.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          ConfigSettingSCPTiming.skip(stream, maxDepth);
+        }
+        break;
+      case CONFIG_SETTING_FROZEN_LEDGER_KEYS:
+        if (field.equals("frozenLedgerKeys")) {
+          FrozenLedgerKeys.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          FrozenLedgerKeys.skip(stream, maxDepth);
+        }
+        break;
+      case CONFIG_SETTING_FROZEN_LEDGER_KEYS_DELTA:
+        if (field.equals("frozenLedgerKeysDelta")) {
+          FrozenLedgerKeysDelta.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          FrozenLedgerKeysDelta.skip(stream, maxDepth);
+        }
+        break;
+      case CONFIG_SETTING_FREEZE_BYPASS_TXS:
+        if (field.equals("freezeBypassTxs")) {
+          FreezeBypassTxs.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          FreezeBypassTxs.skip(stream, maxDepth);
+        }
+        break;
+      case CONFIG_SETTING_FREEZE_BYPASS_TXS_DELTA:
+        if (field.equals("freezeBypassTxsDelta")) {
+          FreezeBypassTxsDelta.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          FreezeBypassTxsDelta.skip(stream, maxDepth);
+        }
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static ConfigSettingEntry fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static ConfigSettingEntry fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static ConfigSettingEntry fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
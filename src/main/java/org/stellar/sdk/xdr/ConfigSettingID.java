@@ -3,8 +3,10 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import org.stellar.sdk.Base64Factory;
 
 /**
@@ -125,20 +127,100 @@ public enum ConfigSettingID implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static ConfigSettingID decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    // maxDepth is intentionally not checked - enums are leaf types with no recursive decoding
+    int value = reader.readInt();
+    switch (value) {
+      case 0:
+        return CONFIG_SETTING_CONTRACT_MAX_SIZE_BYTES;
+      case 1:
+        return CONFIG_SETTING_CONTRACT_COMPUTE_V0;
+      case 2:
+        return CONFIG_SETTING_CONTRACT_LEDGER_COST_V0;
+      case 3:
+        return CONFIG_SETTING_CONTRACT_HISTORICAL_DATA_V0;
+      case 4:
+        return CONFIG_SETTING_CONTRACT_EVENTS_V0;
+      case 5:
+        return CONFIG_SETTING_CONTRACT_BANDWIDTH_V0;
+      case 6:
+        return CONFIG_SETTING_CONTRACT_COST_PARAMS_CPU_INSTRUCTIONS;
+      case 7:
+        return CONFIG_SETTING_CONTRACT_COST_PARAMS_MEMORY_BYTES;
+      case 8:
+        return CONFIG_SETTING_CONTRACT_DATA_KEY_SIZE_BYTES;
+      case 9:
+        return CONFIG_SETTING_CONTRACT_DATA_ENTRY_SIZE_BYTES;
+      case 10:
+        return CONFIG_SETTING_STATE_ARCHIVAL;
+      case 11:
+        return CONFIG_SETTING_CONTRACT_EXECUTION_LANES;
+      case 12:
+        return CONFIG_SETTING_LIVE_SOROBAN_STATE_SIZE_WINDOW;
+      case 13:
+        return CONFIG_SETTING_EVICTION_ITERATOR;
+      case 14:
+        return CONFIG_SETTING_CONTRACT_PARALLEL_COMPUTE_V0;
+      case 15:
+        return CONFIG_SETTING_CONTRACT_LEDGER_COST_EXT_V0;
+      case 16:
+        return CONFIG_SETTING_SCP_TIMING;
+      case 17:
+        return CONFIG_SETTING_FROZEN_LEDGER_KEYS;
+      case 18:
+        return CONFIG_SETTING_FROZEN_LEDGER_KEYS_DELTA;
+      case 19:
+        return CONFIG_SETTING_FREEZE_BYPASS_TXS;
+      case 20:
+        return CONFIG_SETTING_FREEZE_BYPASS_TXS_DELTA;
+      default:
+        throw new IllegalArgumentException("Unknown enum value: " + value);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    decode(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    path.checkEnd(index);
+    values.add(decode(stream, maxDepth));
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  @Override
+  public int encodedSize() {
+    return 4;
+  }
+
   public static ConfigSettingID fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static ConfigSettingID fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static ConfigSettingID fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -83,6 +85,17 @@ public class ConfigSettingSCPTiming implements XdrElement {
     ballotTimeoutIncrementMilliseconds.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += ledgerTargetCloseTimeMilliseconds.encodedSize();
+    size += nominationTimeoutInitialMilliseconds.encodedSize();
+    size += nominationTimeoutIncrementMilliseconds.encodedSize();
+    size += ballotTimeoutInitialMilliseconds.encodedSize();
+    size += ballotTimeoutIncrementMilliseconds.encodedSize();
+    return size;
+  }
+
   public static ConfigSettingSCPTiming decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -107,16 +120,106 @@ public class ConfigSettingSCPTiming implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static ConfigSettingSCPTiming decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ConfigSettingSCPTiming decodedConfigSettingSCPTiming = new ConfigSettingSCPTiming();
+    decodedConfigSettingSCPTiming.ledgerTargetCloseTimeMilliseconds =
+        Uint32.decode(reader, maxDepth);
+    decodedConfigSettingSCPTiming.nominationTimeoutInitialMilliseconds =
+        Uint32.decode(reader, maxDepth);
+    decodedConfigSettingSCPTiming.nominationTimeoutIncrementMilliseconds =
+        Uint32.decode(reader, maxDepth);
+    decodedConfigSettingSCPTiming.ballotTimeoutInitialMilliseconds =
+        Uint32.decode(reader, maxDepth);
+    decodedConfigSettingSCPTiming.ballotTimeoutIncrementMilliseconds =
+        Uint32.decode(reader, maxDepth);
+    return decodedConfigSettingSCPTiming;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field =
+        path.checkField(
+            index,
+            "ledgerTargetCloseTimeMilliseconds",
+            "nominationTimeoutInitialMilliseconds",
+            "nominationTimeoutIncrementMilliseconds",
+            "ballotTimeoutInitialMilliseconds",
+            "ballotTimeoutIncrementMilliseconds");
+    if (field.equals("ledgerTargetCloseTimeMilliseconds")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("nominationTimeoutInitialMilliseconds")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("nominationTimeoutIncrementMilliseconds")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("ballotTimeoutInitialMilliseconds")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("ballotTimeoutIncrementMilliseconds")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static ConfigSettingSCPTiming fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static ConfigSettingSCPTiming fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static ConfigSettingSCPTiming fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -43,6 +44,16 @@ public class ConfigUpgradeSet implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    for (int i = 0; i < updatedEntry.length; i++) {
+      size += updatedEntry[i].encodedSize();
+    }
+    return size;
+  }
+
   public static ConfigUpgradeSet decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -73,16 +84,123 @@ public class ConfigUpgradeSet implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static ConfigUpgradeSet decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ConfigUpgradeSet decodedConfigUpgradeSet = new ConfigUpgradeSet();
+    int updatedEntrySize = reader.readInt();
+    if (updatedEntrySize < 0) {
+      throw new IOException("updatedEntry size " + updatedEntrySize + " is negative");
+    }
+    int updatedEntryRemainingInputLen = reader.getRemainingInputLen();
+    if (updatedEntryRemainingInputLen >= 0 && updatedEntryRemainingInputLen < updatedEntrySize) {
+      throw new IOException(
+          "updatedEntry size "
+              + updatedEntrySize
+              + " exceeds remaining input length "
+              + updatedEntryRemainingInputLen);
+    }
+    decodedConfigUpgradeSet.updatedEntry = new ConfigSettingEntry[updatedEntrySize];
+    for (int i = 0; i < updatedEntrySize; i++) {
+      decodedConfigUpgradeSet.updatedEntry[i] = ConfigSettingEntry.decode(reader, maxDepth);
+    }
+    return decodedConfigUpgradeSet;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int updatedEntrySize = stream.readInt();
+    if (updatedEntrySize < 0) {
+      throw new IOException("updatedEntry size " + updatedEntrySize + " is negative");
+    }
+    int updatedEntryRemainingInputLen = stream.getRemainingInputLen();
+    if (updatedEntryRemainingInputLen >= 0 && updatedEntryRemainingInputLen < updatedEntrySize) {
+      throw new IOException(
+          "updatedEntry size "
+              + updatedEntrySize
+              + " exceeds remaining input length "
+              + updatedEntryRemainingInputLen);
+    }
+    for (int i = 0; i < updatedEntrySize; i++) {
+      ConfigSettingEntry.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "updatedEntry[*]");
+    if (field.equals("updatedEntry")) {
+      int updatedEntrySize = stream.readInt();
+      if (updatedEntrySize < 0) {
+        throw new IOException("updatedEntry size " + updatedEntrySize + " is negative");
+      }
+      int updatedEntryRemainingInputLen = stream.getRemainingInputLen();
+      if (updatedEntryRemainingInputLen >= 0 && updatedEntryRemainingInputLen < updatedEntrySize) {
+        throw new IOException(
+            "updatedEntry size "
+                + updatedEntrySize
+                + " exceeds remaining input length "
+                + updatedEntryRemainingInputLen);
+      }
+      for (int i = 0; i < updatedEntrySize; i++) {
+        ConfigSettingEntry.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int updatedEntrySize = stream.readInt();
+      if (updatedEntrySize < 0) {
+        throw new IOException("updatedEntry size " + updatedEntrySize + " is negative");
+      }
+      int updatedEntryRemainingInputLen = stream.getRemainingInputLen();
+      if (updatedEntryRemainingInputLen >= 0 && updatedEntryRemainingInputLen < updatedEntrySize) {
+        throw new IOException(
+            "updatedEntry size "
+                + updatedEntrySize
+                + " exceeds remaining input length "
+                + updatedEntryRemainingInputLen);
+      }
+      for (int i = 0; i < updatedEntrySize; i++) {
+        ConfigSettingEntry.skip(stream, maxDepth);
+      }
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static ConfigUpgradeSet fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static ConfigUpgradeSet fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static ConfigUpgradeSet fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -138,6 +140,23 @@ public class ContractCodeCostInputs implements XdrElement {
     nDataSegmentBytes.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += ext.encodedSize();
+    size += nInstructions.encodedSize();
+    size += nFunctions.encodedSize();
+    size += nGlobals.encodedSize();
+    size += nTableEntries.encodedSize();
+    size += nTypes.encodedSize();
+    size += nDataSegments.encodedSize();
+    size += nElemSegments.encodedSize();
+    size += nImports.encodedSize();
+    size += nExports.encodedSize();
+    size += nDataSegmentBytes.encodedSize();
+    return size;
+  }
+
   public static ContractCodeCostInputs decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -163,16 +182,149 @@ public class ContractCodeCostInputs implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static ContractCodeCostInputs decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ContractCodeCostInputs decodedContractCodeCostInputs = new ContractCodeCostInputs();
+    decodedContractCodeCostInputs.ext = ExtensionPoint.decode(reader, maxDepth);
+    decodedContractCodeCostInputs.nInstructions = Uint32.decode(reader, maxDepth);
+    decodedContractCodeCostInputs.nFunctions = Uint32.decode(reader, maxDepth);
+    decodedContractCodeCostInputs.nGlobals = Uint32.decode(reader, maxDepth);
+    decodedContractCodeCostInputs.nTableEntries = Uint32.decode(reader, maxDepth);
+    decodedContractCodeCostInputs.nTypes = Uint32.decode(reader, maxDepth);
+    decodedContractCodeCostInputs.nDataSegments = Uint32.decode(reader, maxDepth);
+    decodedContractCodeCostInputs.nElemSegments = Uint32.decode(reader, maxDepth);
+    decodedContractCodeCostInputs.nImports = Uint32.decode(reader, maxDepth);
+    decodedContractCodeCostInputs.nExports = Uint32.decode(reader, maxDepth);
+    decodedContractCodeCostInputs.nDataSegmentBytes = Uint32.decode(reader, maxDepth);
+    return decodedContractCodeCostInputs;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ExtensionPoint.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field =
+        path.checkField(
+            index,
+            "ext",
+            "nInstructions",
+            "nFunctions",
+            "nGlobals",
+            "nTableEntries",
+            "nTypes",
+            "nDataSegments",
+            "nElemSegments",
+            "nImports",
+            "nExports",
+            "nDataSegmentBytes");
+    if (field.equals("ext")) {
+      ExtensionPoint.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      ExtensionPoint.skip(stream, maxDepth);
+    }
+    if (field.equals("nInstructions")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("nFunctions")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("nGlobals")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("nTableEntries")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("nTypes")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("nDataSegments")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("nElemSegments")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("nImports")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("nExports")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("nDataSegmentBytes")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static ContractCodeCostInputs fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static ContractCodeCostInputs fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static ContractCodeCostInputs fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -71,6 +73,15 @@ public class ContractCodeEntry implements XdrElement {
     stream.write(getCode(), 0, codeSize);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += ext.encodedSize();
+    size += hash.encodedSize();
+    size += 4 + ((code.length + 3) & ~3);
+    return size;
+  }
+
   public static ContractCodeEntry decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -98,16 +109,120 @@ public class ContractCodeEntry implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static ContractCodeEntry decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ContractCodeEntry decodedContractCodeEntry = new ContractCodeEntry();
+    decodedContractCodeEntry.ext = ContractCodeEntryExt.decode(reader, maxDepth);
+    decodedContractCodeEntry.hash = Hash.decode(reader, maxDepth);
+    int codeSize = reader.readInt();
+    if (codeSize < 0) {
+      throw new IOException("code size " + codeSize + " is negative");
+    }
+    int codeRemainingInputLen = reader.getRemainingInputLen();
+    if (codeRemainingInputLen >= 0 && codeRemainingInputLen < codeSize) {
+      throw new IOException(
+          "code size " + codeSize + " exceeds remaining input length " + codeRemainingInputLen);
+    }
+    decodedContractCodeEntry.code = new byte[codeSize];
+    reader.readPaddedData(decodedContractCodeEntry.code, 0, codeSize);
+    return decodedContractCodeEntry;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ContractCodeEntryExt.skip(stream, maxDepth);
+    Hash.skip(stream, maxDepth);
+    int codeSize = stream.readInt();
+    if (codeSize < 0) {
+      throw new IOException("code size " + codeSize + " is negative");
+    }
+    int codeRemainingInputLen = stream.getRemainingInputLen();
+    if (codeRemainingInputLen >= 0 && codeRemainingInputLen < codeSize) {
+      throw new IOException(
+          "code size " + codeSize + " exceeds remaining input length " + codeRemainingInputLen);
+    }
+    stream.skipPaddedData(codeSize);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "ext", "hash", "code");
+    if (field.equals("ext")) {
+      ContractCodeEntryExt.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      ContractCodeEntryExt.skip(stream, maxDepth);
+    }
+    if (field.equals("hash")) {
+      Hash.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Hash.skip(stream, maxDepth);
+    }
+    if (field.equals("code")) {
+      int codeSize = stream.readInt();
+      if (codeSize < 0) {
+        throw new IOException("code size " + codeSize + " is negative");
+      }
+      int codeRemainingInputLen = stream.getRemainingInputLen();
+      if (codeRemainingInputLen >= 0 && codeRemainingInputLen < codeSize) {
+        throw new IOException(
+            "code size " + codeSize + " exceeds remaining input length " + codeRemainingInputLen);
+      }
+      path.checkEnd(index + 1);
+      byte[] codeBytes = new byte[codeSize];
+      stream.readPaddedData(codeBytes, 0, codeSize);
+      values.add(codeBytes);
+    } else {
+      int codeSize = stream.readInt();
+      if (codeSize < 0) {
+        throw new IOException("code size " + codeSize + " is negative");
+      }
+      int codeRemainingInputLen = stream.getRemainingInputLen();
+      if (codeRemainingInputLen >= 0 && codeRemainingInputLen < codeSize) {
+        throw new IOException(
+            "code size " + codeSize + " exceeds remaining input length " + codeRemainingInputLen);
+      }
+      stream.skipPaddedData(codeSize);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static ContractCodeEntry fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static ContractCodeEntry fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static ContractCodeEntry fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -186,6 +301,19 @@ public class ContractCodeEntry implements XdrElement {
       }
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 4;
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          size += v1.encodedSize();
+          break;
+      }
+      return size;
+    }
+
     public static ContractCodeEntryExt decode(XdrDataInputStream stream, int maxDepth)
         throws IOException {
       if (maxDepth <= 0) {
@@ -211,16 +339,94 @@ public class ContractCodeEntry implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static ContractCodeEntryExt decode(XdrByteBufferReader reader, int maxDepth)
+        throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      ContractCodeEntryExt decodedContractCodeEntryExt = new ContractCodeEntryExt();
+      Integer discriminant = reader.readInt();
+      decodedContractCodeEntryExt.setDiscriminant(discriminant);
+      switch (decodedContractCodeEntryExt.getDiscriminant()) {
+        case 0:
+          break;
+        case 1:
+          decodedContractCodeEntryExt.v1 = ContractCodeEntryV1.decode(reader, maxDepth);
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+      return decodedContractCodeEntryExt;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      int discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          ContractCodeEntryV1.skip(stream, maxDepth);
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index, "v1");
+      int discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          if (field.equals("v1")) {
+            ContractCodeEntryV1.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            ContractCodeEntryV1.skip(stream, maxDepth);
+          }
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static ContractCodeEntryExt fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static ContractCodeEntryExt fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static ContractCodeEntryExt fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
@@ -313,6 +519,14 @@ public class ContractCodeEntry implements XdrElement {
         costInputs.encode(stream);
       }
 
+      @Override
+      public int encodedSize() {
+        int size = 0;
+        size += ext.encodedSize();
+        size += costInputs.encodedSize();
+        return size;
+      }
+
       public static ContractCodeEntryV1 decode(XdrDataInputStream stream, int maxDepth)
           throws IOException {
         if (maxDepth <= 0) {
@@ -329,16 +543,74 @@ public class ContractCodeEntry implements XdrElement {
         return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
       }
 
+      public static ContractCodeEntryV1 decode(XdrByteBufferReader reader, int maxDepth)
+          throws IOException {
+        if (maxDepth <= 0) {
+          throw new IOException("Maximum decoding depth reached");
+        }
+        maxDepth -= 1;
+        ContractCodeEntryV1 decodedContractCodeEntryV1 = new ContractCodeEntryV1();
+        decodedContractCodeEntryV1.ext = ExtensionPoint.decode(reader, maxDepth);
+        decodedContractCodeEntryV1.costInputs = ContractCodeCostInputs.decode(reader, maxDepth);
+        return decodedContractCodeEntryV1;
+      }
+
+      public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+        if (maxDepth <= 0) {
+          throw new IOException("Maximum decoding depth reached");
+        }
+        maxDepth -= 1;
+        ExtensionPoint.skip(stream, maxDepth);
+        ContractCodeCostInputs.skip(stream, maxDepth);
+      }
+
+      public static void skip(XdrDataInputStream stream) throws IOException {
+        skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+      }
+
+      static void extract(
+          XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+          throws IOException {
+        if (index == path.size()) {
+          values.add(decode(stream, maxDepth));
+          return;
+        }
+        if (maxDepth <= 0) {
+          throw new IOException("Maximum decoding depth reached");
+        }
+        maxDepth -= 1;
+        String field = path.checkField(index, "ext", "costInputs");
+        if (field.equals("ext")) {
+          ExtensionPoint.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          ExtensionPoint.skip(stream, maxDepth);
+        }
+        if (field.equals("costInputs")) {
+          ContractCodeCostInputs.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          ContractCodeCostInputs.skip(stream, maxDepth);
+        }
+      }
+
+      public static List<Object> extract(XdrDataInputStream stream, XdrPath path)
+          throws IOException {
+        List<Object> values = new ArrayList<>();
+        extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+        return values;
+      }
+
       public static ContractCodeEntryV1 fromXdrBase64(String xdr) throws IOException {
         byte[] bytes = Base64Factory.getInstance().decode(xdr);
         return fromXdrByteArray(bytes);
       }
 
       public static ContractCodeEntryV1 fromXdrByteArray(byte[] xdr) throws IOException {
-        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-        XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-        xdrDataInputStream.setMaxInputLen(xdr.length);
-        return decode(xdrDataInputStream);
+        return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+      }
+
+      public static ContractCodeEntryV1 fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+        XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+        return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
       }
 
       @Override
@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -42,6 +43,16 @@ public class ContractCostParams implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    for (int i = 0; i < ContractCostParams.length; i++) {
+      size += ContractCostParams[i].encodedSize();
+    }
+    return size;
+  }
+
   public static ContractCostParams decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -79,16 +90,121 @@ public class ContractCostParams implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static ContractCostParams decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ContractCostParams decodedContractCostParams = new ContractCostParams();
+    int ContractCostParamsSize = reader.readInt();
+    if (ContractCostParamsSize < 0) {
+      throw new IOException("ContractCostParams size " + ContractCostParamsSize + " is negative");
+    }
+    if (ContractCostParamsSize > 1024) {
+      throw new IOException(
+          "ContractCostParams size " + ContractCostParamsSize + " exceeds max size 1024");
+    }
+    int ContractCostParamsRemainingInputLen = reader.getRemainingInputLen();
+    if (ContractCostParamsRemainingInputLen >= 0
+        && ContractCostParamsRemainingInputLen < ContractCostParamsSize) {
+      throw new IOException(
+          "ContractCostParams size "
+              + ContractCostParamsSize
+              + " exceeds remaining input length "
+              + ContractCostParamsRemainingInputLen);
+    }
+    decodedContractCostParams.ContractCostParams =
+        new ContractCostParamEntry[ContractCostParamsSize];
+    for (int i = 0; i < ContractCostParamsSize; i++) {
+      decodedContractCostParams.ContractCostParams[i] =
+          ContractCostParamEntry.decode(reader, maxDepth);
+    }
+    return decodedContractCostParams;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int ContractCostParamsSize = stream.readInt();
+    if (ContractCostParamsSize < 0) {
+      throw new IOException("ContractCostParams size " + ContractCostParamsSize + " is negative");
+    }
+    if (ContractCostParamsSize > 1024) {
+      throw new IOException(
+          "ContractCostParams size " + ContractCostParamsSize + " exceeds max size 1024");
+    }
+    int ContractCostParamsRemainingInputLen = stream.getRemainingInputLen();
+    if (ContractCostParamsRemainingInputLen >= 0
+        && ContractCostParamsRemainingInputLen < ContractCostParamsSize) {
+      throw new IOException(
+          "ContractCostParams size "
+              + ContractCostParamsSize
+              + " exceeds remaining input length "
+              + ContractCostParamsRemainingInputLen);
+    }
+    for (int i = 0; i < ContractCostParamsSize; i++) {
+      ContractCostParamEntry.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int ContractCostParamsSize = stream.readInt();
+    if (ContractCostParamsSize < 0) {
+      throw new IOException("ContractCostParams size " + ContractCostParamsSize + " is negative");
+    }
+    if (ContractCostParamsSize > 1024) {
+      throw new IOException(
+          "ContractCostParams size " + ContractCostParamsSize + " exceeds max size 1024");
+    }
+    int ContractCostParamsRemainingInputLen = stream.getRemainingInputLen();
+    if (ContractCostParamsRemainingInputLen >= 0
+        && ContractCostParamsRemainingInputLen < ContractCostParamsSize) {
+      throw new IOException(
+          "ContractCostParams size "
+              + ContractCostParamsSize
+              + " exceeds remaining input length "
+              + ContractCostParamsRemainingInputLen);
+    }
+    for (int i = 0; i < ContractCostParamsSize; i++) {
+      ContractCostParamEntry.extract(stream, maxDepth, path, index, values);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static ContractCostParams fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static ContractCostParams fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static ContractCostParams fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
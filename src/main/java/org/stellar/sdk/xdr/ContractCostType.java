@@ -3,8 +3,10 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import org.stellar.sdk.Base64Factory;
 
 /**
@@ -482,20 +484,230 @@ public enum ContractCostType implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static ContractCostType decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    // maxDepth is intentionally not checked - enums are leaf types with no recursive decoding
+    int value = reader.readInt();
+    switch (value) {
+      case 0:
+        return WasmInsnExec;
+      case 1:
+        return MemAlloc;
+      case 2:
+        return MemCpy;
+      case 3:
+        return MemCmp;
+      case 4:
+        return DispatchHostFunction;
+      case 5:
+        return VisitObject;
+      case 6:
+        return ValSer;
+      case 7:
+        return ValDeser;
+      case 8:
+        return ComputeSha256Hash;
+      case 9:
+        return ComputeEd25519PubKey;
+      case 10:
+        return VerifyEd25519Sig;
+      case 11:
+        return VmInstantiation;
+      case 12:
+        return VmCachedInstantiation;
+      case 13:
+        return InvokeVmFunction;
+      case 14:
+        return ComputeKeccak256Hash;
+      case 15:
+        return DecodeEcdsaCurve256Sig;
+      case 16:
+        return RecoverEcdsaSecp256k1Key;
+      case 17:
+        return Int256AddSub;
+      case 18:
+        return Int256Mul;
+      case 19:
+        return Int256Div;
+      case 20:
+        return Int256Pow;
+      case 21:
+        return Int256Shift;
+      case 22:
+        return ChaCha20DrawBytes;
+      case 23:
+        return ParseWasmInstructions;
+      case 24:
+        return ParseWasmFunctions;
+      case 25:
+        return ParseWasmGlobals;
+      case 26:
+        return ParseWasmTableEntries;
+      case 27:
+        return ParseWasmTypes;
+      case 28:
+        return ParseWasmDataSegments;
+      case 29:
+        return ParseWasmElemSegments;
+      case 30:
+        return ParseWasmImports;
+      case 31:
+        return ParseWasmExports;
+      case 32:
+        return ParseWasmDataSegmentBytes;
+      case 33:
+        return InstantiateWasmInstructions;
+      case 34:
+        return InstantiateWasmFunctions;
+      case 35:
+        return InstantiateWasmGlobals;
+      case 36:
+        return InstantiateWasmTableEntries;
+      case 37:
+        return InstantiateWasmTypes;
+      case 38:
+        return InstantiateWasmDataSegments;
+      case 39:
+        return InstantiateWasmElemSegments;
+      case 40:
+        return InstantiateWasmImports;
+      case 41:
+        return InstantiateWasmExports;
+      case 42:
+        return InstantiateWasmDataSegmentBytes;
+      case 43:
+        return Sec1DecodePointUncompressed;
+      case 44:
+        return VerifyEcdsaSecp256r1Sig;
+      case 45:
+        return Bls12381EncodeFp;
+      case 46:
+        return Bls12381DecodeFp;
+      case 47:
+        return Bls12381G1CheckPointOnCurve;
+      case 48:
+        return Bls12381G1CheckPointInSubgroup;
+      case 49:
+        return Bls12381G2CheckPointOnCurve;
+      case 50:
+        return Bls12381G2CheckPointInSubgroup;
+      case 51:
+        return Bls12381G1ProjectiveToAffine;
+      case 52:
+        return Bls12381G2ProjectiveToAffine;
+      case 53:
+        return Bls12381G1Add;
+      case 54:
+        return Bls12381G1Mul;
+      case 55:
+        return Bls12381G1Msm;
+      case 56:
+        return Bls12381MapFpToG1;
+      case 57:
+        return Bls12381HashToG1;
+      case 58:
+        return Bls12381G2Add;
+      case 59:
+        return Bls12381G2Mul;
+      case 60:
+        return Bls12381G2Msm;
+      case 61:
+        return Bls12381MapFp2ToG2;
+      case 62:
+        return Bls12381HashToG2;
+      case 63:
+        return Bls12381Pairing;
+      case 64:
+        return Bls12381FrFromU256;
+      case 65:
+        return Bls12381FrToU256;
+      case 66:
+        return Bls12381FrAddSub;
+      case 67:
+        return Bls12381FrMul;
+      case 68:
+        return Bls12381FrPow;
+      case 69:
+        return Bls12381FrInv;
+      case 70:
+        return Bn254EncodeFp;
+      case 71:
+        return Bn254DecodeFp;
+      case 72:
+        return Bn254G1CheckPointOnCurve;
+      case 73:
+        return Bn254G2CheckPointOnCurve;
+      case 74:
+        return Bn254G2CheckPointInSubgroup;
+      case 75:
+        return Bn254G1ProjectiveToAffine;
+      case 76:
+        return Bn254G1Add;
+      case 77:
+        return Bn254G1Mul;
+      case 78:
+        return Bn254Pairing;
+      case 79:
+        return Bn254FrFromU256;
+      case 80:
+        return Bn254FrToU256;
+      case 81:
+        return Bn254FrAddSub;
+      case 82:
+        return Bn254FrMul;
+      case 83:
+        return Bn254FrPow;
+      case 84:
+        return Bn254FrInv;
+      case 85:
+        return Bn254G1Msm;
+      default:
+        throw new IllegalArgumentException("Unknown enum value: " + value);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    decode(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    path.checkEnd(index);
+    values.add(decode(stream, maxDepth));
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  @Override
+  public int encodedSize() {
+    return 4;
+  }
+
   public static ContractCostType fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static ContractCostType fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static ContractCostType fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
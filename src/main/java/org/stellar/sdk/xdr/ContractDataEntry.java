@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -79,6 +81,17 @@ public class ContractDataEntry implements XdrElement {
     val.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += ext.encodedSize();
+    size += contract.encodedSize();
+    size += key.encodedSize();
+    size += 4;
+    size += val.encodedSize();
+    return size;
+  }
+
   public static ContractDataEntry decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -98,16 +111,94 @@ public class ContractDataEntry implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static ContractDataEntry decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ContractDataEntry decodedContractDataEntry = new ContractDataEntry();
+    decodedContractDataEntry.ext = ExtensionPoint.decode(reader, maxDepth);
+    decodedContractDataEntry.contract = SCAddress.decode(reader, maxDepth);
+    decodedContractDataEntry.key = SCVal.decode(reader, maxDepth);
+    decodedContractDataEntry.durability = ContractDataDurability.decode(reader, maxDepth);
+    decodedContractDataEntry.val = SCVal.decode(reader, maxDepth);
+    return decodedContractDataEntry;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ExtensionPoint.skip(stream, maxDepth);
+    SCAddress.skip(stream, maxDepth);
+    SCVal.skip(stream, maxDepth);
+    ContractDataDurability.skip(stream, maxDepth);
+    SCVal.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "ext", "contract", "key", "durability", "val");
+    if (field.equals("ext")) {
+      ExtensionPoint.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      ExtensionPoint.skip(stream, maxDepth);
+    }
+    if (field.equals("contract")) {
+      SCAddress.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      SCAddress.skip(stream, maxDepth);
+    }
+    if (field.equals("key")) {
+      SCVal.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      SCVal.skip(stream, maxDepth);
+    }
+    if (field.equals("durability")) {
+      ContractDataDurability.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      ContractDataDurability.skip(stream, maxDepth);
+    }
+    if (field.equals("val")) {
+      SCVal.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      SCVal.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static ContractDataEntry fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static ContractDataEntry fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static ContractDataEntry fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
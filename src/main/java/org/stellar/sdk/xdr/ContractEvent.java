@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -88,6 +89,19 @@ public class ContractEvent implements XdrElement {
     body.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += ext.encodedSize();
+    size += 4;
+    if (contractID != null) {
+      size += contractID.encodedSize();
+    }
+    size += 4;
+    size += body.encodedSize();
+    return size;
+  }
+
   public static ContractEvent decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -108,16 +122,98 @@ public class ContractEvent implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static ContractEvent decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ContractEvent decodedContractEvent = new ContractEvent();
+    decodedContractEvent.ext = ExtensionPoint.decode(reader, maxDepth);
+    boolean contractIDPresent = reader.readXdrBoolean();
+    if (contractIDPresent) {
+      decodedContractEvent.contractID = ContractID.decode(reader, maxDepth);
+    }
+    decodedContractEvent.type = ContractEventType.decode(reader, maxDepth);
+    decodedContractEvent.body = ContractEventBody.decode(reader, maxDepth);
+    return decodedContractEvent;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ExtensionPoint.skip(stream, maxDepth);
+    boolean contractIDPresent = stream.readXdrBoolean();
+    if (contractIDPresent) {
+      ContractID.skip(stream, maxDepth);
+    }
+    ContractEventType.skip(stream, maxDepth);
+    ContractEventBody.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "ext", "contractID", "type", "body");
+    if (field.equals("ext")) {
+      ExtensionPoint.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      ExtensionPoint.skip(stream, maxDepth);
+    }
+    if (field.equals("contractID")) {
+      boolean contractIDPresent = stream.readXdrBoolean();
+      if (contractIDPresent) {
+        ContractID.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      boolean contractIDPresent = stream.readXdrBoolean();
+      if (contractIDPresent) {
+        ContractID.skip(stream, maxDepth);
+      }
+    }
+    if (field.equals("type")) {
+      ContractEventType.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      ContractEventType.skip(stream, maxDepth);
+    }
+    if (field.equals("body")) {
+      ContractEventBody.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      ContractEventBody.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static ContractEvent fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static ContractEvent fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static ContractEvent fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -197,6 +293,17 @@ public class ContractEvent implements XdrElement {
       }
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 4;
+      switch (discriminant) {
+        case 0:
+          size += v0.encodedSize();
+          break;
+      }
+      return size;
+    }
+
     public static ContractEventBody decode(XdrDataInputStream stream, int maxDepth)
         throws IOException {
       if (maxDepth <= 0) {
@@ -220,16 +327,88 @@ public class ContractEvent implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static ContractEventBody decode(XdrByteBufferReader reader, int maxDepth)
+        throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      ContractEventBody decodedContractEventBody = new ContractEventBody();
+      Integer discriminant = reader.readInt();
+      decodedContractEventBody.setDiscriminant(discriminant);
+      switch (decodedContractEventBody.getDiscriminant()) {
+        case 0:
+          decodedContractEventBody.v0 = ContractEventV0.decode(reader, maxDepth);
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+      return decodedContractEventBody;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      int discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          ContractEventV0.skip(stream, maxDepth);
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index, "v0");
+      int discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          if (field.equals("v0")) {
+            ContractEventV0.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            ContractEventV0.skip(stream, maxDepth);
+          }
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static ContractEventBody fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static ContractEventBody fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static ContractEventBody fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
@@ -313,6 +492,17 @@ public class ContractEvent implements XdrElement {
         data.encode(stream);
       }
 
+      @Override
+      public int encodedSize() {
+        int size = 0;
+        size += 4;
+        for (int i = 0; i < topics.length; i++) {
+          size += topics[i].encodedSize();
+        }
+        size += data.encodedSize();
+        return size;
+      }
+
       public static ContractEventV0 decode(XdrDataInputStream stream, int maxDepth)
           throws IOException {
         if (maxDepth <= 0) {
@@ -344,16 +534,131 @@ public class ContractEvent implements XdrElement {
         return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
       }
 
+      public static ContractEventV0 decode(XdrByteBufferReader reader, int maxDepth)
+          throws IOException {
+        if (maxDepth <= 0) {
+          throw new IOException("Maximum decoding depth reached");
+        }
+        maxDepth -= 1;
+        ContractEventV0 decodedContractEventV0 = new ContractEventV0();
+        int topicsSize = reader.readInt();
+        if (topicsSize < 0) {
+          throw new IOException("topics size " + topicsSize + " is negative");
+        }
+        int topicsRemainingInputLen = reader.getRemainingInputLen();
+        if (topicsRemainingInputLen >= 0 && topicsRemainingInputLen < topicsSize) {
+          throw new IOException(
+              "topics size "
+                  + topicsSize
+                  + " exceeds remaining input length "
+                  + topicsRemainingInputLen);
+        }
+        decodedContractEventV0.topics = new SCVal[topicsSize];
+        for (int i = 0; i < topicsSize; i++) {
+          decodedContractEventV0.topics[i] = SCVal.decode(reader, maxDepth);
+        }
+        decodedContractEventV0.data = SCVal.decode(reader, maxDepth);
+        return decodedContractEventV0;
+      }
+
+      public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+        if (maxDepth <= 0) {
+          throw new IOException("Maximum decoding depth reached");
+        }
+        maxDepth -= 1;
+        int topicsSize = stream.readInt();
+        if (topicsSize < 0) {
+          throw new IOException("topics size " + topicsSize + " is negative");
+        }
+        int topicsRemainingInputLen = stream.getRemainingInputLen();
+        if (topicsRemainingInputLen >= 0 && topicsRemainingInputLen < topicsSize) {
+          throw new IOException(
+              "topics size "
+                  + topicsSize
+                  + " exceeds remaining input length "
+                  + topicsRemainingInputLen);
+        }
+        for (int i = 0; i < topicsSize; i++) {
+          SCVal.skip(stream, maxDepth);
+        }
+        SCVal.skip(stream, maxDepth);
+      }
+
+      public static void skip(XdrDataInputStream stream) throws IOException {
+        skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+      }
+
+      static void extract(
+          XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+          throws IOException {
+        if (index == path.size()) {
+          values.add(decode(stream, maxDepth));
+          return;
+        }
+        if (maxDepth <= 0) {
+          throw new IOException("Maximum decoding depth reached");
+        }
+        maxDepth -= 1;
+        String field = path.checkField(index, "topics[*]", "data");
+        if (field.equals("topics")) {
+          int topicsSize = stream.readInt();
+          if (topicsSize < 0) {
+            throw new IOException("topics size " + topicsSize + " is negative");
+          }
+          int topicsRemainingInputLen = stream.getRemainingInputLen();
+          if (topicsRemainingInputLen >= 0 && topicsRemainingInputLen < topicsSize) {
+            throw new IOException(
+                "topics size "
+                    + topicsSize
+                    + " exceeds remaining input length "
+                    + topicsRemainingInputLen);
+          }
+          for (int i = 0; i < topicsSize; i++) {
+            SCVal.extract(stream, maxDepth, path, index + 1, values);
+          }
+        } else {
+          int topicsSize = stream.readInt();
+          if (topicsSize < 0) {
+            throw new IOException("topics size " + topicsSize + " is negative");
+          }
+          int topicsRemainingInputLen = stream.getRemainingInputLen();
+          if (topicsRemainingInputLen >= 0 && topicsRemainingInputLen < topicsSize) {
+            throw new IOException(
+                "topics size "
+                    + topicsSize
+                    + " exceeds remaining input length "
+                    + topicsRemainingInputLen);
+          }
+          for (int i = 0; i < topicsSize; i++) {
+            SCVal.skip(stream, maxDepth);
+          }
+        }
+        if (field.equals("data")) {
+          SCVal.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          SCVal.skip(stream, maxDepth);
+        }
+      }
+
+      public static List<Object> extract(XdrDataInputStream stream, XdrPath path)
+          throws IOException {
+        List<Object> values = new ArrayList<>();
+        extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+        return values;
+      }
+
       public static ContractEventV0 fromXdrBase64(String xdr) throws IOException {
         byte[] bytes = Base64Factory.getInstance().decode(xdr);
         return fromXdrByteArray(bytes);
       }
 
       public static ContractEventV0 fromXdrByteArray(byte[] xdr) throws IOException {
-        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-        XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-        xdrDataInputStream.setMaxInputLen(xdr.length);
-        return decode(xdrDataInputStream);
+        return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+      }
+
+      public static ContractEventV0 fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+        XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+        return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
       }
 
       @Override
@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -57,6 +59,19 @@ public class ContractExecutable implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case CONTRACT_EXECUTABLE_WASM:
+        size += wasm_hash.encodedSize();
+        break;
+      case CONTRACT_EXECUTABLE_STELLAR_ASSET:
+        break;
+    }
+    return size;
+  }
+
   public static ContractExecutable decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -82,16 +97,94 @@ public class ContractExecutable implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static ContractExecutable decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ContractExecutable decodedContractExecutable = new ContractExecutable();
+    ContractExecutableType discriminant = ContractExecutableType.decode(reader, maxDepth);
+    decodedContractExecutable.setDiscriminant(discriminant);
+    switch (decodedContractExecutable.getDiscriminant()) {
+      case CONTRACT_EXECUTABLE_WASM:
+        decodedContractExecutable.wasm_hash = Hash.decode(reader, maxDepth);
+        break;
+      case CONTRACT_EXECUTABLE_STELLAR_ASSET:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedContractExecutable;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ContractExecutableType discriminant = ContractExecutableType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case CONTRACT_EXECUTABLE_WASM:
+        Hash.skip(stream, maxDepth);
+        break;
+      case CONTRACT_EXECUTABLE_STELLAR_ASSET:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "wasm_hash");
+    ContractExecutableType discriminant = ContractExecutableType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case CONTRACT_EXECUTABLE_WASM:
+        if (field.equals("wasm_hash")) {
+          Hash.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Hash.skip(stream, maxDepth);
+        }
+        break;
+      case CONTRACT_EXECUTABLE_STELLAR_ASSET:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static ContractExecutable fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static ContractExecutable fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static ContractExecutable fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
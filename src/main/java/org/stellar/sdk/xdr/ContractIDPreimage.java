@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -70,6 +72,20 @@ public class ContractIDPreimage implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case CONTRACT_ID_PREIMAGE_FROM_ADDRESS:
+        size += fromAddress.encodedSize();
+        break;
+      case CONTRACT_ID_PREIMAGE_FROM_ASSET:
+        size += fromAsset.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static ContractIDPreimage decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -97,16 +113,102 @@ public class ContractIDPreimage implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static ContractIDPreimage decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ContractIDPreimage decodedContractIDPreimage = new ContractIDPreimage();
+    ContractIDPreimageType discriminant = ContractIDPreimageType.decode(reader, maxDepth);
+    decodedContractIDPreimage.setDiscriminant(discriminant);
+    switch (decodedContractIDPreimage.getDiscriminant()) {
+      case CONTRACT_ID_PREIMAGE_FROM_ADDRESS:
+        decodedContractIDPreimage.fromAddress =
+            ContractIDPreimageFromAddress.decode(reader, maxDepth);
+        break;
+      case CONTRACT_ID_PREIMAGE_FROM_ASSET:
+        decodedContractIDPreimage.fromAsset = Asset.decode(reader, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedContractIDPreimage;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ContractIDPreimageType discriminant = ContractIDPreimageType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case CONTRACT_ID_PREIMAGE_FROM_ADDRESS:
+        ContractIDPreimageFromAddress.skip(stream, maxDepth);
+        break;
+      case CONTRACT_ID_PREIMAGE_FROM_ASSET:
+        Asset.skip(stream, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "fromAddress", "fromAsset");
+    ContractIDPreimageType discriminant = ContractIDPreimageType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case CONTRACT_ID_PREIMAGE_FROM_ADDRESS:
+        if (field.equals("fromAddress")) {
+          ContractIDPreimageFromAddress.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          ContractIDPreimageFromAddress.skip(stream, maxDepth);
+        }
+        break;
+      case CONTRACT_ID_PREIMAGE_FROM_ASSET:
+        if (field.equals("fromAsset")) {
+          Asset.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Asset.skip(stream, maxDepth);
+        }
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static ContractIDPreimage fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static ContractIDPreimage fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static ContractIDPreimage fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -197,6 +299,14 @@ public class ContractIDPreimage implements XdrElement {
       salt.encode(stream);
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 0;
+      size += address.encodedSize();
+      size += salt.encodedSize();
+      return size;
+    }
+
     public static ContractIDPreimageFromAddress decode(XdrDataInputStream stream, int maxDepth)
         throws IOException {
       if (maxDepth <= 0) {
@@ -215,16 +325,75 @@ public class ContractIDPreimage implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static ContractIDPreimageFromAddress decode(XdrByteBufferReader reader, int maxDepth)
+        throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      ContractIDPreimageFromAddress decodedContractIDPreimageFromAddress =
+          new ContractIDPreimageFromAddress();
+      decodedContractIDPreimageFromAddress.address = SCAddress.decode(reader, maxDepth);
+      decodedContractIDPreimageFromAddress.salt = Uint256.decode(reader, maxDepth);
+      return decodedContractIDPreimageFromAddress;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      SCAddress.skip(stream, maxDepth);
+      Uint256.skip(stream, maxDepth);
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index, "address", "salt");
+      if (field.equals("address")) {
+        SCAddress.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        SCAddress.skip(stream, maxDepth);
+      }
+      if (field.equals("salt")) {
+        Uint256.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        Uint256.skip(stream, maxDepth);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static ContractIDPreimageFromAddress fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static ContractIDPreimageFromAddress fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static ContractIDPreimageFromAddress fromXdrByteBuffer(ByteBuffer xdr)
+        throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
@@ -3,8 +3,10 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -53,6 +55,21 @@ public class CreateAccountResult implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case CREATE_ACCOUNT_SUCCESS:
+        break;
+      case CREATE_ACCOUNT_MALFORMED:
+      case CREATE_ACCOUNT_UNDERFUNDED:
+      case CREATE_ACCOUNT_LOW_RESERVE:
+      case CREATE_ACCOUNT_ALREADY_EXIST:
+        break;
+    }
+    return size;
+  }
+
   public static CreateAccountResult decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -80,16 +97,96 @@ public class CreateAccountResult implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static CreateAccountResult decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    CreateAccountResult decodedCreateAccountResult = new CreateAccountResult();
+    CreateAccountResultCode discriminant = CreateAccountResultCode.decode(reader, maxDepth);
+    decodedCreateAccountResult.setDiscriminant(discriminant);
+    switch (decodedCreateAccountResult.getDiscriminant()) {
+      case CREATE_ACCOUNT_SUCCESS:
+        break;
+      case CREATE_ACCOUNT_MALFORMED:
+      case CREATE_ACCOUNT_UNDERFUNDED:
+      case CREATE_ACCOUNT_LOW_RESERVE:
+      case CREATE_ACCOUNT_ALREADY_EXIST:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedCreateAccountResult;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    CreateAccountResultCode discriminant = CreateAccountResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case CREATE_ACCOUNT_SUCCESS:
+        break;
+      case CREATE_ACCOUNT_MALFORMED:
+      case CREATE_ACCOUNT_UNDERFUNDED:
+      case CREATE_ACCOUNT_LOW_RESERVE:
+      case CREATE_ACCOUNT_ALREADY_EXIST:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index);
+    CreateAccountResultCode discriminant = CreateAccountResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case CREATE_ACCOUNT_SUCCESS:
+        break;
+      case CREATE_ACCOUNT_MALFORMED:
+      case CREATE_ACCOUNT_UNDERFUNDED:
+      case CREATE_ACCOUNT_LOW_RESERVE:
+      case CREATE_ACCOUNT_ALREADY_EXIST:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static CreateAccountResult fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static CreateAccountResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static CreateAccountResult fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
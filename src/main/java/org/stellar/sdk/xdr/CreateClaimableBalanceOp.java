@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -67,6 +68,18 @@ public class CreateClaimableBalanceOp implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += asset.encodedSize();
+    size += amount.encodedSize();
+    size += 4;
+    for (int i = 0; i < claimants.length; i++) {
+      size += claimants[i].encodedSize();
+    }
+    return size;
+  }
+
   public static CreateClaimableBalanceOp decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -102,16 +115,149 @@ public class CreateClaimableBalanceOp implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static CreateClaimableBalanceOp decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    CreateClaimableBalanceOp decodedCreateClaimableBalanceOp = new CreateClaimableBalanceOp();
+    decodedCreateClaimableBalanceOp.asset = Asset.decode(reader, maxDepth);
+    decodedCreateClaimableBalanceOp.amount = Int64.decode(reader, maxDepth);
+    int claimantsSize = reader.readInt();
+    if (claimantsSize < 0) {
+      throw new IOException("claimants size " + claimantsSize + " is negative");
+    }
+    if (claimantsSize > 10) {
+      throw new IOException("claimants size " + claimantsSize + " exceeds max size 10");
+    }
+    int claimantsRemainingInputLen = reader.getRemainingInputLen();
+    if (claimantsRemainingInputLen >= 0 && claimantsRemainingInputLen < claimantsSize) {
+      throw new IOException(
+          "claimants size "
+              + claimantsSize
+              + " exceeds remaining input length "
+              + claimantsRemainingInputLen);
+    }
+    decodedCreateClaimableBalanceOp.claimants = new Claimant[claimantsSize];
+    for (int i = 0; i < claimantsSize; i++) {
+      decodedCreateClaimableBalanceOp.claimants[i] = Claimant.decode(reader, maxDepth);
+    }
+    return decodedCreateClaimableBalanceOp;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Asset.skip(stream, maxDepth);
+    Int64.skip(stream, maxDepth);
+    int claimantsSize = stream.readInt();
+    if (claimantsSize < 0) {
+      throw new IOException("claimants size " + claimantsSize + " is negative");
+    }
+    if (claimantsSize > 10) {
+      throw new IOException("claimants size " + claimantsSize + " exceeds max size 10");
+    }
+    int claimantsRemainingInputLen = stream.getRemainingInputLen();
+    if (claimantsRemainingInputLen >= 0 && claimantsRemainingInputLen < claimantsSize) {
+      throw new IOException(
+          "claimants size "
+              + claimantsSize
+              + " exceeds remaining input length "
+              + claimantsRemainingInputLen);
+    }
+    for (int i = 0; i < claimantsSize; i++) {
+      Claimant.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "asset", "amount", "claimants[*]");
+    if (field.equals("asset")) {
+      Asset.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Asset.skip(stream, maxDepth);
+    }
+    if (field.equals("amount")) {
+      Int64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Int64.skip(stream, maxDepth);
+    }
+    if (field.equals("claimants")) {
+      int claimantsSize = stream.readInt();
+      if (claimantsSize < 0) {
+        throw new IOException("claimants size " + claimantsSize + " is negative");
+      }
+      if (claimantsSize > 10) {
+        throw new IOException("claimants size " + claimantsSize + " exceeds max size 10");
+      }
+      int claimantsRemainingInputLen = stream.getRemainingInputLen();
+      if (claimantsRemainingInputLen >= 0 && claimantsRemainingInputLen < claimantsSize) {
+        throw new IOException(
+            "claimants size "
+                + claimantsSize
+                + " exceeds remaining input length "
+                + claimantsRemainingInputLen);
+      }
+      for (int i = 0; i < claimantsSize; i++) {
+        Claimant.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int claimantsSize = stream.readInt();
+      if (claimantsSize < 0) {
+        throw new IOException("claimants size " + claimantsSize + " is negative");
+      }
+      if (claimantsSize > 10) {
+        throw new IOException("claimants size " + claimantsSize + " exceeds max size 10");
+      }
+      int claimantsRemainingInputLen = stream.getRemainingInputLen();
+      if (claimantsRemainingInputLen >= 0 && claimantsRemainingInputLen < claimantsSize) {
+        throw new IOException(
+            "claimants size "
+                + claimantsSize
+                + " exceeds remaining input length "
+                + claimantsRemainingInputLen);
+      }
+      for (int i = 0; i < claimantsSize; i++) {
+        Claimant.skip(stream, maxDepth);
+      }
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static CreateClaimableBalanceOp fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static CreateClaimableBalanceOp fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static CreateClaimableBalanceOp fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -66,6 +68,23 @@ public class CreateClaimableBalanceResult implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case CREATE_CLAIMABLE_BALANCE_SUCCESS:
+        size += balanceID.encodedSize();
+        break;
+      case CREATE_CLAIMABLE_BALANCE_MALFORMED:
+      case CREATE_CLAIMABLE_BALANCE_LOW_RESERVE:
+      case CREATE_CLAIMABLE_BALANCE_NO_TRUST:
+      case CREATE_CLAIMABLE_BALANCE_NOT_AUTHORIZED:
+      case CREATE_CLAIMABLE_BALANCE_UNDERFUNDED:
+        break;
+    }
+    return size;
+  }
+
   public static CreateClaimableBalanceResult decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -97,16 +116,110 @@ public class CreateClaimableBalanceResult implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static CreateClaimableBalanceResult decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    CreateClaimableBalanceResult decodedCreateClaimableBalanceResult =
+        new CreateClaimableBalanceResult();
+    CreateClaimableBalanceResultCode discriminant =
+        CreateClaimableBalanceResultCode.decode(reader, maxDepth);
+    decodedCreateClaimableBalanceResult.setDiscriminant(discriminant);
+    switch (decodedCreateClaimableBalanceResult.getDiscriminant()) {
+      case CREATE_CLAIMABLE_BALANCE_SUCCESS:
+        decodedCreateClaimableBalanceResult.balanceID = ClaimableBalanceID.decode(reader, maxDepth);
+        break;
+      case CREATE_CLAIMABLE_BALANCE_MALFORMED:
+      case CREATE_CLAIMABLE_BALANCE_LOW_RESERVE:
+      case CREATE_CLAIMABLE_BALANCE_NO_TRUST:
+      case CREATE_CLAIMABLE_BALANCE_NOT_AUTHORIZED:
+      case CREATE_CLAIMABLE_BALANCE_UNDERFUNDED:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedCreateClaimableBalanceResult;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    CreateClaimableBalanceResultCode discriminant =
+        CreateClaimableBalanceResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case CREATE_CLAIMABLE_BALANCE_SUCCESS:
+        ClaimableBalanceID.skip(stream, maxDepth);
+        break;
+      case CREATE_CLAIMABLE_BALANCE_MALFORMED:
+      case CREATE_CLAIMABLE_BALANCE_LOW_RESERVE:
+      case CREATE_CLAIMABLE_BALANCE_NO_TRUST:
+      case CREATE_CLAIMABLE_BALANCE_NOT_AUTHORIZED:
+      case CREATE_CLAIMABLE_BALANCE_UNDERFUNDED:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "balanceID");
+    CreateClaimableBalanceResultCode discriminant =
+        CreateClaimableBalanceResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case CREATE_CLAIMABLE_BALANCE_SUCCESS:
+        if (field.equals("balanceID")) {
+          ClaimableBalanceID.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          ClaimableBalanceID.skip(stream, maxDepth);
+        }
+        break;
+      case CREATE_CLAIMABLE_BALANCE_MALFORMED:
+      case CREATE_CLAIMABLE_BALANCE_LOW_RESERVE:
+      case CREATE_CLAIMABLE_BALANCE_NO_TRUST:
+      case CREATE_CLAIMABLE_BALANCE_NOT_AUTHORIZED:
+      case CREATE_CLAIMABLE_BALANCE_UNDERFUNDED:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static CreateClaimableBalanceResult fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static CreateClaimableBalanceResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static CreateClaimableBalanceResult fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
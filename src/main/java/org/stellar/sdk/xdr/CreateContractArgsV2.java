@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -65,6 +66,18 @@ public class CreateContractArgsV2 implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += contractIDPreimage.encodedSize();
+    size += executable.encodedSize();
+    size += 4;
+    for (int i = 0; i < constructorArgs.length; i++) {
+      size += constructorArgs[i].encodedSize();
+    }
+    return size;
+  }
+
   public static CreateContractArgsV2 decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -98,16 +111,141 @@ public class CreateContractArgsV2 implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static CreateContractArgsV2 decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    CreateContractArgsV2 decodedCreateContractArgsV2 = new CreateContractArgsV2();
+    decodedCreateContractArgsV2.contractIDPreimage = ContractIDPreimage.decode(reader, maxDepth);
+    decodedCreateContractArgsV2.executable = ContractExecutable.decode(reader, maxDepth);
+    int constructorArgsSize = reader.readInt();
+    if (constructorArgsSize < 0) {
+      throw new IOException("constructorArgs size " + constructorArgsSize + " is negative");
+    }
+    int constructorArgsRemainingInputLen = reader.getRemainingInputLen();
+    if (constructorArgsRemainingInputLen >= 0
+        && constructorArgsRemainingInputLen < constructorArgsSize) {
+      throw new IOException(
+          "constructorArgs size "
+              + constructorArgsSize
+              + " exceeds remaining input length "
+              + constructorArgsRemainingInputLen);
+    }
+    decodedCreateContractArgsV2.constructorArgs = new SCVal[constructorArgsSize];
+    for (int i = 0; i < constructorArgsSize; i++) {
+      decodedCreateContractArgsV2.constructorArgs[i] = SCVal.decode(reader, maxDepth);
+    }
+    return decodedCreateContractArgsV2;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ContractIDPreimage.skip(stream, maxDepth);
+    ContractExecutable.skip(stream, maxDepth);
+    int constructorArgsSize = stream.readInt();
+    if (constructorArgsSize < 0) {
+      throw new IOException("constructorArgs size " + constructorArgsSize + " is negative");
+    }
+    int constructorArgsRemainingInputLen = stream.getRemainingInputLen();
+    if (constructorArgsRemainingInputLen >= 0
+        && constructorArgsRemainingInputLen < constructorArgsSize) {
+      throw new IOException(
+          "constructorArgs size "
+              + constructorArgsSize
+              + " exceeds remaining input length "
+              + constructorArgsRemainingInputLen);
+    }
+    for (int i = 0; i < constructorArgsSize; i++) {
+      SCVal.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "contractIDPreimage", "executable", "constructorArgs[*]");
+    if (field.equals("contractIDPreimage")) {
+      ContractIDPreimage.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      ContractIDPreimage.skip(stream, maxDepth);
+    }
+    if (field.equals("executable")) {
+      ContractExecutable.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      ContractExecutable.skip(stream, maxDepth);
+    }
+    if (field.equals("constructorArgs")) {
+      int constructorArgsSize = stream.readInt();
+      if (constructorArgsSize < 0) {
+        throw new IOException("constructorArgs size " + constructorArgsSize + " is negative");
+      }
+      int constructorArgsRemainingInputLen = stream.getRemainingInputLen();
+      if (constructorArgsRemainingInputLen >= 0
+          && constructorArgsRemainingInputLen < constructorArgsSize) {
+        throw new IOException(
+            "constructorArgs size "
+                + constructorArgsSize
+                + " exceeds remaining input length "
+                + constructorArgsRemainingInputLen);
+      }
+      for (int i = 0; i < constructorArgsSize; i++) {
+        SCVal.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int constructorArgsSize = stream.readInt();
+      if (constructorArgsSize < 0) {
+        throw new IOException("constructorArgs size " + constructorArgsSize + " is negative");
+      }
+      int constructorArgsRemainingInputLen = stream.getRemainingInputLen();
+      if (constructorArgsRemainingInputLen >= 0
+          && constructorArgsRemainingInputLen < constructorArgsSize) {
+        throw new IOException(
+            "constructorArgs size "
+                + constructorArgsSize
+                + " exceeds remaining input length "
+                + constructorArgsRemainingInputLen);
+      }
+      for (int i = 0; i < constructorArgsSize; i++) {
+        SCVal.skip(stream, maxDepth);
+      }
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static CreateContractArgsV2 fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static CreateContractArgsV2 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static CreateContractArgsV2 fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,8 +3,10 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -38,6 +40,13 @@ public class DataValue implements XdrElement {
     stream.write(getDataValue(), 0, DataValueSize);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += 4 + ((DataValue.length + 3) & ~3);
+    return size;
+  }
+
   public static DataValue decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -68,16 +77,109 @@ public class DataValue implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static DataValue decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    DataValue decodedDataValue = new DataValue();
+    int DataValueSize = reader.readInt();
+    if (DataValueSize < 0) {
+      throw new IOException("DataValue size " + DataValueSize + " is negative");
+    }
+    if (DataValueSize > 64) {
+      throw new IOException("DataValue size " + DataValueSize + " exceeds max size 64");
+    }
+    int DataValueRemainingInputLen = reader.getRemainingInputLen();
+    if (DataValueRemainingInputLen >= 0 && DataValueRemainingInputLen < DataValueSize) {
+      throw new IOException(
+          "DataValue size "
+              + DataValueSize
+              + " exceeds remaining input length "
+              + DataValueRemainingInputLen);
+    }
+    decodedDataValue.DataValue = new byte[DataValueSize];
+    reader.readPaddedData(decodedDataValue.DataValue, 0, DataValueSize);
+    return decodedDataValue;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int DataValueSize = stream.readInt();
+    if (DataValueSize < 0) {
+      throw new IOException("DataValue size " + DataValueSize + " is negative");
+    }
+    if (DataValueSize > 64) {
+      throw new IOException("DataValue size " + DataValueSize + " exceeds max size 64");
+    }
+    int DataValueRemainingInputLen = stream.getRemainingInputLen();
+    if (DataValueRemainingInputLen >= 0 && DataValueRemainingInputLen < DataValueSize) {
+      throw new IOException(
+          "DataValue size "
+              + DataValueSize
+              + " exceeds remaining input length "
+              + DataValueRemainingInputLen);
+    }
+    stream.skipPaddedData(DataValueSize);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int DataValueSize = stream.readInt();
+    if (DataValueSize < 0) {
+      throw new IOException("DataValue size " + DataValueSize + " is negative");
+    }
+    if (DataValueSize > 64) {
+      throw new IOException("DataValue size " + DataValueSize + " exceeds max size 64");
+    }
+    int DataValueRemainingInputLen = stream.getRemainingInputLen();
+    if (DataValueRemainingInputLen >= 0 && DataValueRemainingInputLen < DataValueSize) {
+      throw new IOException(
+          "DataValue size "
+              + DataValueSize
+              + " exceeds remaining input length "
+              + DataValueRemainingInputLen);
+    }
+    path.checkEnd(index);
+    byte[] DataValueBytes = new byte[DataValueSize];
+    stream.readPaddedData(DataValueBytes, 0, DataValueSize);
+    values.add(DataValueBytes);
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static DataValue fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static DataValue fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static DataValue fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -38,6 +39,16 @@ public class DependentTxCluster implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    for (int i = 0; i < DependentTxCluster.length; i++) {
+      size += DependentTxCluster[i].encodedSize();
+    }
+    return size;
+  }
+
   public static DependentTxCluster decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -70,16 +81,108 @@ public class DependentTxCluster implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static DependentTxCluster decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    DependentTxCluster decodedDependentTxCluster = new DependentTxCluster();
+    int DependentTxClusterSize = reader.readInt();
+    if (DependentTxClusterSize < 0) {
+      throw new IOException("DependentTxCluster size " + DependentTxClusterSize + " is negative");
+    }
+    int DependentTxClusterRemainingInputLen = reader.getRemainingInputLen();
+    if (DependentTxClusterRemainingInputLen >= 0
+        && DependentTxClusterRemainingInputLen < DependentTxClusterSize) {
+      throw new IOException(
+          "DependentTxCluster size "
+              + DependentTxClusterSize
+              + " exceeds remaining input length "
+              + DependentTxClusterRemainingInputLen);
+    }
+    decodedDependentTxCluster.DependentTxCluster = new TransactionEnvelope[DependentTxClusterSize];
+    for (int i = 0; i < DependentTxClusterSize; i++) {
+      decodedDependentTxCluster.DependentTxCluster[i] =
+          TransactionEnvelope.decode(reader, maxDepth);
+    }
+    return decodedDependentTxCluster;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int DependentTxClusterSize = stream.readInt();
+    if (DependentTxClusterSize < 0) {
+      throw new IOException("DependentTxCluster size " + DependentTxClusterSize + " is negative");
+    }
+    int DependentTxClusterRemainingInputLen = stream.getRemainingInputLen();
+    if (DependentTxClusterRemainingInputLen >= 0
+        && DependentTxClusterRemainingInputLen < DependentTxClusterSize) {
+      throw new IOException(
+          "DependentTxCluster size "
+              + DependentTxClusterSize
+              + " exceeds remaining input length "
+              + DependentTxClusterRemainingInputLen);
+    }
+    for (int i = 0; i < DependentTxClusterSize; i++) {
+      TransactionEnvelope.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int DependentTxClusterSize = stream.readInt();
+    if (DependentTxClusterSize < 0) {
+      throw new IOException("DependentTxCluster size " + DependentTxClusterSize + " is negative");
+    }
+    int DependentTxClusterRemainingInputLen = stream.getRemainingInputLen();
+    if (DependentTxClusterRemainingInputLen >= 0
+        && DependentTxClusterRemainingInputLen < DependentTxClusterSize) {
+      throw new IOException(
+          "DependentTxCluster size "
+              + DependentTxClusterSize
+              + " exceeds remaining input length "
+              + DependentTxClusterRemainingInputLen);
+    }
+    for (int i = 0; i < DependentTxClusterSize; i++) {
+      TransactionEnvelope.extract(stream, maxDepth, path, index, values);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static DependentTxCluster fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static DependentTxCluster fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static DependentTxCluster fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,8 +3,10 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -35,6 +37,13 @@ public class EncodedLedgerKey implements XdrElement {
     stream.write(getEncodedLedgerKey(), 0, EncodedLedgerKeySize);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += 4 + ((EncodedLedgerKey.length + 3) & ~3);
+    return size;
+  }
+
   public static EncodedLedgerKey decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -64,16 +73,104 @@ public class EncodedLedgerKey implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static EncodedLedgerKey decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    EncodedLedgerKey decodedEncodedLedgerKey = new EncodedLedgerKey();
+    int EncodedLedgerKeySize = reader.readInt();
+    if (EncodedLedgerKeySize < 0) {
+      throw new IOException("EncodedLedgerKey size " + EncodedLedgerKeySize + " is negative");
+    }
+    int EncodedLedgerKeyRemainingInputLen = reader.getRemainingInputLen();
+    if (EncodedLedgerKeyRemainingInputLen >= 0
+        && EncodedLedgerKeyRemainingInputLen < EncodedLedgerKeySize) {
+      throw new IOException(
+          "EncodedLedgerKey size "
+              + EncodedLedgerKeySize
+              + " exceeds remaining input length "
+              + EncodedLedgerKeyRemainingInputLen);
+    }
+    decodedEncodedLedgerKey.EncodedLedgerKey = new byte[EncodedLedgerKeySize];
+    reader.readPaddedData(decodedEncodedLedgerKey.EncodedLedgerKey, 0, EncodedLedgerKeySize);
+    return decodedEncodedLedgerKey;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int EncodedLedgerKeySize = stream.readInt();
+    if (EncodedLedgerKeySize < 0) {
+      throw new IOException("EncodedLedgerKey size " + EncodedLedgerKeySize + " is negative");
+    }
+    int EncodedLedgerKeyRemainingInputLen = stream.getRemainingInputLen();
+    if (EncodedLedgerKeyRemainingInputLen >= 0
+        && EncodedLedgerKeyRemainingInputLen < EncodedLedgerKeySize) {
+      throw new IOException(
+          "EncodedLedgerKey size "
+              + EncodedLedgerKeySize
+              + " exceeds remaining input length "
+              + EncodedLedgerKeyRemainingInputLen);
+    }
+    stream.skipPaddedData(EncodedLedgerKeySize);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int EncodedLedgerKeySize = stream.readInt();
+    if (EncodedLedgerKeySize < 0) {
+      throw new IOException("EncodedLedgerKey size " + EncodedLedgerKeySize + " is negative");
+    }
+    int EncodedLedgerKeyRemainingInputLen = stream.getRemainingInputLen();
+    if (EncodedLedgerKeyRemainingInputLen >= 0
+        && EncodedLedgerKeyRemainingInputLen < EncodedLedgerKeySize) {
+      throw new IOException(
+          "EncodedLedgerKey size "
+              + EncodedLedgerKeySize
+              + " exceeds remaining input length "
+              + EncodedLedgerKeyRemainingInputLen);
+    }
+    path.checkEnd(index);
+    byte[] EncodedLedgerKeyBytes = new byte[EncodedLedgerKeySize];
+    stream.readPaddedData(EncodedLedgerKeyBytes, 0, EncodedLedgerKeySize);
+    values.add(EncodedLedgerKeyBytes);
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static EncodedLedgerKey fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static EncodedLedgerKey fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static EncodedLedgerKey fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
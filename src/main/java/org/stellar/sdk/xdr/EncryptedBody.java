@@ -3,8 +3,10 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -38,6 +40,13 @@ public class EncryptedBody implements XdrElement {
     stream.write(getEncryptedBody(), 0, EncryptedBodySize);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += 4 + ((EncryptedBody.length + 3) & ~3);
+    return size;
+  }
+
   public static EncryptedBody decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -68,16 +77,109 @@ public class EncryptedBody implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static EncryptedBody decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    EncryptedBody decodedEncryptedBody = new EncryptedBody();
+    int EncryptedBodySize = reader.readInt();
+    if (EncryptedBodySize < 0) {
+      throw new IOException("EncryptedBody size " + EncryptedBodySize + " is negative");
+    }
+    if (EncryptedBodySize > 64000) {
+      throw new IOException("EncryptedBody size " + EncryptedBodySize + " exceeds max size 64000");
+    }
+    int EncryptedBodyRemainingInputLen = reader.getRemainingInputLen();
+    if (EncryptedBodyRemainingInputLen >= 0 && EncryptedBodyRemainingInputLen < EncryptedBodySize) {
+      throw new IOException(
+          "EncryptedBody size "
+              + EncryptedBodySize
+              + " exceeds remaining input length "
+              + EncryptedBodyRemainingInputLen);
+    }
+    decodedEncryptedBody.EncryptedBody = new byte[EncryptedBodySize];
+    reader.readPaddedData(decodedEncryptedBody.EncryptedBody, 0, EncryptedBodySize);
+    return decodedEncryptedBody;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int EncryptedBodySize = stream.readInt();
+    if (EncryptedBodySize < 0) {
+      throw new IOException("EncryptedBody size " + EncryptedBodySize + " is negative");
+    }
+    if (EncryptedBodySize > 64000) {
+      throw new IOException("EncryptedBody size " + EncryptedBodySize + " exceeds max size 64000");
+    }
+    int EncryptedBodyRemainingInputLen = stream.getRemainingInputLen();
+    if (EncryptedBodyRemainingInputLen >= 0 && EncryptedBodyRemainingInputLen < EncryptedBodySize) {
+      throw new IOException(
+          "EncryptedBody size "
+              + EncryptedBodySize
+              + " exceeds remaining input length "
+              + EncryptedBodyRemainingInputLen);
+    }
+    stream.skipPaddedData(EncryptedBodySize);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int EncryptedBodySize = stream.readInt();
+    if (EncryptedBodySize < 0) {
+      throw new IOException("EncryptedBody size " + EncryptedBodySize + " is negative");
+    }
+    if (EncryptedBodySize > 64000) {
+      throw new IOException("EncryptedBody size " + EncryptedBodySize + " exceeds max size 64000");
+    }
+    int EncryptedBodyRemainingInputLen = stream.getRemainingInputLen();
+    if (EncryptedBodyRemainingInputLen >= 0 && EncryptedBodyRemainingInputLen < EncryptedBodySize) {
+      throw new IOException(
+          "EncryptedBody size "
+              + EncryptedBodySize
+              + " exceeds remaining input length "
+              + EncryptedBodyRemainingInputLen);
+    }
+    path.checkEnd(index);
+    byte[] EncryptedBodyBytes = new byte[EncryptedBodySize];
+    stream.readPaddedData(EncryptedBodyBytes, 0, EncryptedBodySize);
+    values.add(EncryptedBodyBytes);
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static EncryptedBody fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static EncryptedBody fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static EncryptedBody fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,8 +3,10 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -48,6 +50,18 @@ public class EndSponsoringFutureReservesResult implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case END_SPONSORING_FUTURE_RESERVES_SUCCESS:
+        break;
+      case END_SPONSORING_FUTURE_RESERVES_NOT_SPONSORED:
+        break;
+    }
+    return size;
+  }
+
   public static EndSponsoringFutureReservesResult decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -75,16 +89,92 @@ public class EndSponsoringFutureReservesResult implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static EndSponsoringFutureReservesResult decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    EndSponsoringFutureReservesResult decodedEndSponsoringFutureReservesResult =
+        new EndSponsoringFutureReservesResult();
+    EndSponsoringFutureReservesResultCode discriminant =
+        EndSponsoringFutureReservesResultCode.decode(reader, maxDepth);
+    decodedEndSponsoringFutureReservesResult.setDiscriminant(discriminant);
+    switch (decodedEndSponsoringFutureReservesResult.getDiscriminant()) {
+      case END_SPONSORING_FUTURE_RESERVES_SUCCESS:
+        break;
+      case END_SPONSORING_FUTURE_RESERVES_NOT_SPONSORED:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedEndSponsoringFutureReservesResult;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    EndSponsoringFutureReservesResultCode discriminant =
+        EndSponsoringFutureReservesResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case END_SPONSORING_FUTURE_RESERVES_SUCCESS:
+        break;
+      case END_SPONSORING_FUTURE_RESERVES_NOT_SPONSORED:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index);
+    EndSponsoringFutureReservesResultCode discriminant =
+        EndSponsoringFutureReservesResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case END_SPONSORING_FUTURE_RESERVES_SUCCESS:
+        break;
+      case END_SPONSORING_FUTURE_RESERVES_NOT_SPONSORED:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static EndSponsoringFutureReservesResult fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static EndSponsoringFutureReservesResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static EndSponsoringFutureReservesResult fromXdrByteBuffer(ByteBuffer xdr)
+      throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,8 +3,10 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -51,6 +53,20 @@ public class ExtendFootprintTTLResult implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case EXTEND_FOOTPRINT_TTL_SUCCESS:
+        break;
+      case EXTEND_FOOTPRINT_TTL_MALFORMED:
+      case EXTEND_FOOTPRINT_TTL_RESOURCE_LIMIT_EXCEEDED:
+      case EXTEND_FOOTPRINT_TTL_INSUFFICIENT_REFUNDABLE_FEE:
+        break;
+    }
+    return size;
+  }
+
   public static ExtendFootprintTTLResult decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -78,16 +94,96 @@ public class ExtendFootprintTTLResult implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static ExtendFootprintTTLResult decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ExtendFootprintTTLResult decodedExtendFootprintTTLResult = new ExtendFootprintTTLResult();
+    ExtendFootprintTTLResultCode discriminant =
+        ExtendFootprintTTLResultCode.decode(reader, maxDepth);
+    decodedExtendFootprintTTLResult.setDiscriminant(discriminant);
+    switch (decodedExtendFootprintTTLResult.getDiscriminant()) {
+      case EXTEND_FOOTPRINT_TTL_SUCCESS:
+        break;
+      case EXTEND_FOOTPRINT_TTL_MALFORMED:
+      case EXTEND_FOOTPRINT_TTL_RESOURCE_LIMIT_EXCEEDED:
+      case EXTEND_FOOTPRINT_TTL_INSUFFICIENT_REFUNDABLE_FEE:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedExtendFootprintTTLResult;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ExtendFootprintTTLResultCode discriminant =
+        ExtendFootprintTTLResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case EXTEND_FOOTPRINT_TTL_SUCCESS:
+        break;
+      case EXTEND_FOOTPRINT_TTL_MALFORMED:
+      case EXTEND_FOOTPRINT_TTL_RESOURCE_LIMIT_EXCEEDED:
+      case EXTEND_FOOTPRINT_TTL_INSUFFICIENT_REFUNDABLE_FEE:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index);
+    ExtendFootprintTTLResultCode discriminant =
+        ExtendFootprintTTLResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case EXTEND_FOOTPRINT_TTL_SUCCESS:
+        break;
+      case EXTEND_FOOTPRINT_TTL_MALFORMED:
+      case EXTEND_FOOTPRINT_TTL_RESOURCE_LIMIT_EXCEEDED:
+      case EXTEND_FOOTPRINT_TTL_INSUFFICIENT_REFUNDABLE_FEE:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static ExtendFootprintTTLResult fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static ExtendFootprintTTLResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static ExtendFootprintTTLResult fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
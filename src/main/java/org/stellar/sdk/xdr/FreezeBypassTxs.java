@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -43,6 +44,16 @@ public class FreezeBypassTxs implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    for (int i = 0; i < txHashes.length; i++) {
+      size += txHashes[i].encodedSize();
+    }
+    return size;
+  }
+
   public static FreezeBypassTxs decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -72,16 +83,123 @@ public class FreezeBypassTxs implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static FreezeBypassTxs decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    FreezeBypassTxs decodedFreezeBypassTxs = new FreezeBypassTxs();
+    int txHashesSize = reader.readInt();
+    if (txHashesSize < 0) {
+      throw new IOException("txHashes size " + txHashesSize + " is negative");
+    }
+    int txHashesRemainingInputLen = reader.getRemainingInputLen();
+    if (txHashesRemainingInputLen >= 0 && txHashesRemainingInputLen < txHashesSize) {
+      throw new IOException(
+          "txHashes size "
+              + txHashesSize
+              + " exceeds remaining input length "
+              + txHashesRemainingInputLen);
+    }
+    decodedFreezeBypassTxs.txHashes = new Hash[txHashesSize];
+    for (int i = 0; i < txHashesSize; i++) {
+      decodedFreezeBypassTxs.txHashes[i] = Hash.decode(reader, maxDepth);
+    }
+    return decodedFreezeBypassTxs;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int txHashesSize = stream.readInt();
+    if (txHashesSize < 0) {
+      throw new IOException("txHashes size " + txHashesSize + " is negative");
+    }
+    int txHashesRemainingInputLen = stream.getRemainingInputLen();
+    if (txHashesRemainingInputLen >= 0 && txHashesRemainingInputLen < txHashesSize) {
+      throw new IOException(
+          "txHashes size "
+              + txHashesSize
+              + " exceeds remaining input length "
+              + txHashesRemainingInputLen);
+    }
+    for (int i = 0; i < txHashesSize; i++) {
+      Hash.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "txHashes[*]");
+    if (field.equals("txHashes")) {
+      int txHashesSize = stream.readInt();
+      if (txHashesSize < 0) {
+        throw new IOException("txHashes size " + txHashesSize + " is negative");
+      }
+      int txHashesRemainingInputLen = stream.getRemainingInputLen();
+      if (txHashesRemainingInputLen >= 0 && txHashesRemainingInputLen < txHashesSize) {
+        throw new IOException(
+            "txHashes size "
+                + txHashesSize
+                + " exceeds remaining input length "
+                + txHashesRemainingInputLen);
+      }
+      for (int i = 0; i < txHashesSize; i++) {
+        Hash.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int txHashesSize = stream.readInt();
+      if (txHashesSize < 0) {
+        throw new IOException("txHashes size " + txHashesSize + " is negative");
+      }
+      int txHashesRemainingInputLen = stream.getRemainingInputLen();
+      if (txHashesRemainingInputLen >= 0 && txHashesRemainingInputLen < txHashesSize) {
+        throw new IOException(
+            "txHashes size "
+                + txHashesSize
+                + " exceeds remaining input length "
+                + txHashesRemainingInputLen);
+      }
+      for (int i = 0; i < txHashesSize; i++) {
+        Hash.skip(stream, maxDepth);
+      }
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static FreezeBypassTxs fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static FreezeBypassTxs fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static FreezeBypassTxs fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
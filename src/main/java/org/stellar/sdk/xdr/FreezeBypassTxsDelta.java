@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -57,6 +58,20 @@ public class FreezeBypassTxsDelta implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    for (int i = 0; i < addTxs.length; i++) {
+      size += addTxs[i].encodedSize();
+    }
+    size += 4;
+    for (int i = 0; i < removeTxs.length; i++) {
+      size += removeTxs[i].encodedSize();
+    }
+    return size;
+  }
+
   public static FreezeBypassTxsDelta decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -103,16 +118,187 @@ public class FreezeBypassTxsDelta implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static FreezeBypassTxsDelta decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    FreezeBypassTxsDelta decodedFreezeBypassTxsDelta = new FreezeBypassTxsDelta();
+    int addTxsSize = reader.readInt();
+    if (addTxsSize < 0) {
+      throw new IOException("addTxs size " + addTxsSize + " is negative");
+    }
+    int addTxsRemainingInputLen = reader.getRemainingInputLen();
+    if (addTxsRemainingInputLen >= 0 && addTxsRemainingInputLen < addTxsSize) {
+      throw new IOException(
+          "addTxs size "
+              + addTxsSize
+              + " exceeds remaining input length "
+              + addTxsRemainingInputLen);
+    }
+    decodedFreezeBypassTxsDelta.addTxs = new Hash[addTxsSize];
+    for (int i = 0; i < addTxsSize; i++) {
+      decodedFreezeBypassTxsDelta.addTxs[i] = Hash.decode(reader, maxDepth);
+    }
+    int removeTxsSize = reader.readInt();
+    if (removeTxsSize < 0) {
+      throw new IOException("removeTxs size " + removeTxsSize + " is negative");
+    }
+    int removeTxsRemainingInputLen = reader.getRemainingInputLen();
+    if (removeTxsRemainingInputLen >= 0 && removeTxsRemainingInputLen < removeTxsSize) {
+      throw new IOException(
+          "removeTxs size "
+              + removeTxsSize
+              + " exceeds remaining input length "
+              + removeTxsRemainingInputLen);
+    }
+    decodedFreezeBypassTxsDelta.removeTxs = new Hash[removeTxsSize];
+    for (int i = 0; i < removeTxsSize; i++) {
+      decodedFreezeBypassTxsDelta.removeTxs[i] = Hash.decode(reader, maxDepth);
+    }
+    return decodedFreezeBypassTxsDelta;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int addTxsSize = stream.readInt();
+    if (addTxsSize < 0) {
+      throw new IOException("addTxs size " + addTxsSize + " is negative");
+    }
+    int addTxsRemainingInputLen = stream.getRemainingInputLen();
+    if (addTxsRemainingInputLen >= 0 && addTxsRemainingInputLen < addTxsSize) {
+      throw new IOException(
+          "addTxs size "
+              + addTxsSize
+              + " exceeds remaining input length "
+              + addTxsRemainingInputLen);
+    }
+    for (int i = 0; i < addTxsSize; i++) {
+      Hash.skip(stream, maxDepth);
+    }
+    int removeTxsSize = stream.readInt();
+    if (removeTxsSize < 0) {
+      throw new IOException("removeTxs size " + removeTxsSize + " is negative");
+    }
+    int removeTxsRemainingInputLen = stream.getRemainingInputLen();
+    if (removeTxsRemainingInputLen >= 0 && removeTxsRemainingInputLen < removeTxsSize) {
+      throw new IOException(
+          "removeTxs size "
+              + removeTxsSize
+              + " exceeds remaining input length "
+              + removeTxsRemainingInputLen);
+    }
+    for (int i = 0; i < removeTxsSize; i++) {
+      Hash.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "addTxs[*]", "removeTxs[*]");
+    if (field.equals("addTxs")) {
+      int addTxsSize = stream.readInt();
+      if (addTxsSize < 0) {
+        throw new IOException("addTxs size " + addTxsSize + " is negative");
+      }
+      int addTxsRemainingInputLen = stream.getRemainingInputLen();
+      if (addTxsRemainingInputLen >= 0 && addTxsRemainingInputLen < addTxsSize) {
+        throw new IOException(
+            "addTxs size "
+                + addTxsSize
+                + " exceeds remaining input length "
+                + addTxsRemainingInputLen);
+      }
+      for (int i = 0; i < addTxsSize; i++) {
+        Hash.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int addTxsSize = stream.readInt();
+      if (addTxsSize < 0) {
+        throw new IOException("addTxs size " + addTxsSize + " is negative");
+      }
+      int addTxsRemainingInputLen = stream.getRemainingInputLen();
+      if (addTxsRemainingInputLen >= 0 && addTxsRemainingInputLen < addTxsSize) {
+        throw new IOException(
+            "addTxs size "
+                + addTxsSize
+                + " exceeds remaining input length "
+                + addTxsRemainingInputLen);
+      }
+      for (int i = 0; i < addTxsSize; i++) {
+        Hash.skip(stream, maxDepth);
+      }
+    }
+    if (field.equals("removeTxs")) {
+      int removeTxsSize = stream.readInt();
+      if (removeTxsSize < 0) {
+        throw new IOException("removeTxs size " + removeTxsSize + " is negative");
+      }
+      int removeTxsRemainingInputLen = stream.getRemainingInputLen();
+      if (removeTxsRemainingInputLen >= 0 && removeTxsRemainingInputLen < removeTxsSize) {
+        throw new IOException(
+            "removeTxs size "
+                + removeTxsSize
+                + " exceeds remaining input length "
+                + removeTxsRemainingInputLen);
+      }
+      for (int i = 0; i < removeTxsSize; i++) {
+        Hash.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int removeTxsSize = stream.readInt();
+      if (removeTxsSize < 0) {
+        throw new IOException("removeTxs size " + removeTxsSize + " is negative");
+      }
+      int removeTxsRemainingInputLen = stream.getRemainingInputLen();
+      if (removeTxsRemainingInputLen >= 0 && removeTxsRemainingInputLen < removeTxsSize) {
+        throw new IOException(
+            "removeTxs size "
+                + removeTxsSize
+                + " exceeds remaining input length "
+                + removeTxsRemainingInputLen);
+      }
+      for (int i = 0; i < removeTxsSize; i++) {
+        Hash.skip(stream, maxDepth);
+      }
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static FreezeBypassTxsDelta fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static FreezeBypassTxsDelta fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static FreezeBypassTxsDelta fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -43,6 +44,16 @@ public class FrozenLedgerKeys implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    for (int i = 0; i < keys.length; i++) {
+      size += keys[i].encodedSize();
+    }
+    return size;
+  }
+
   public static FrozenLedgerKeys decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -70,16 +81,111 @@ public class FrozenLedgerKeys implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static FrozenLedgerKeys decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    FrozenLedgerKeys decodedFrozenLedgerKeys = new FrozenLedgerKeys();
+    int keysSize = reader.readInt();
+    if (keysSize < 0) {
+      throw new IOException("keys size " + keysSize + " is negative");
+    }
+    int keysRemainingInputLen = reader.getRemainingInputLen();
+    if (keysRemainingInputLen >= 0 && keysRemainingInputLen < keysSize) {
+      throw new IOException(
+          "keys size " + keysSize + " exceeds remaining input length " + keysRemainingInputLen);
+    }
+    decodedFrozenLedgerKeys.keys = new EncodedLedgerKey[keysSize];
+    for (int i = 0; i < keysSize; i++) {
+      decodedFrozenLedgerKeys.keys[i] = EncodedLedgerKey.decode(reader, maxDepth);
+    }
+    return decodedFrozenLedgerKeys;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int keysSize = stream.readInt();
+    if (keysSize < 0) {
+      throw new IOException("keys size " + keysSize + " is negative");
+    }
+    int keysRemainingInputLen = stream.getRemainingInputLen();
+    if (keysRemainingInputLen >= 0 && keysRemainingInputLen < keysSize) {
+      throw new IOException(
+          "keys size " + keysSize + " exceeds remaining input length " + keysRemainingInputLen);
+    }
+    for (int i = 0; i < keysSize; i++) {
+      EncodedLedgerKey.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "keys[*]");
+    if (field.equals("keys")) {
+      int keysSize = stream.readInt();
+      if (keysSize < 0) {
+        throw new IOException("keys size " + keysSize + " is negative");
+      }
+      int keysRemainingInputLen = stream.getRemainingInputLen();
+      if (keysRemainingInputLen >= 0 && keysRemainingInputLen < keysSize) {
+        throw new IOException(
+            "keys size " + keysSize + " exceeds remaining input length " + keysRemainingInputLen);
+      }
+      for (int i = 0; i < keysSize; i++) {
+        EncodedLedgerKey.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int keysSize = stream.readInt();
+      if (keysSize < 0) {
+        throw new IOException("keys size " + keysSize + " is negative");
+      }
+      int keysRemainingInputLen = stream.getRemainingInputLen();
+      if (keysRemainingInputLen >= 0 && keysRemainingInputLen < keysSize) {
+        throw new IOException(
+            "keys size " + keysSize + " exceeds remaining input length " + keysRemainingInputLen);
+      }
+      for (int i = 0; i < keysSize; i++) {
+        EncodedLedgerKey.skip(stream, maxDepth);
+      }
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static FrozenLedgerKeys fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static FrozenLedgerKeys fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static FrozenLedgerKeys fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
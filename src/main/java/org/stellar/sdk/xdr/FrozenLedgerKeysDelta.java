@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -57,6 +58,20 @@ public class FrozenLedgerKeysDelta implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    for (int i = 0; i < keysToFreeze.length; i++) {
+      size += keysToFreeze[i].encodedSize();
+    }
+    size += 4;
+    for (int i = 0; i < keysToUnfreeze.length; i++) {
+      size += keysToUnfreeze[i].encodedSize();
+    }
+    return size;
+  }
+
   public static FrozenLedgerKeysDelta decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -104,16 +119,191 @@ public class FrozenLedgerKeysDelta implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static FrozenLedgerKeysDelta decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    FrozenLedgerKeysDelta decodedFrozenLedgerKeysDelta = new FrozenLedgerKeysDelta();
+    int keysToFreezeSize = reader.readInt();
+    if (keysToFreezeSize < 0) {
+      throw new IOException("keysToFreeze size " + keysToFreezeSize + " is negative");
+    }
+    int keysToFreezeRemainingInputLen = reader.getRemainingInputLen();
+    if (keysToFreezeRemainingInputLen >= 0 && keysToFreezeRemainingInputLen < keysToFreezeSize) {
+      throw new IOException(
+          "keysToFreeze size "
+              + keysToFreezeSize
+              + " exceeds remaining input length "
+              + keysToFreezeRemainingInputLen);
+    }
+    decodedFrozenLedgerKeysDelta.keysToFreeze = new EncodedLedgerKey[keysToFreezeSize];
+    for (int i = 0; i < keysToFreezeSize; i++) {
+      decodedFrozenLedgerKeysDelta.keysToFreeze[i] = EncodedLedgerKey.decode(reader, maxDepth);
+    }
+    int keysToUnfreezeSize = reader.readInt();
+    if (keysToUnfreezeSize < 0) {
+      throw new IOException("keysToUnfreeze size " + keysToUnfreezeSize + " is negative");
+    }
+    int keysToUnfreezeRemainingInputLen = reader.getRemainingInputLen();
+    if (keysToUnfreezeRemainingInputLen >= 0
+        && keysToUnfreezeRemainingInputLen < keysToUnfreezeSize) {
+      throw new IOException(
+          "keysToUnfreeze size "
+              + keysToUnfreezeSize
+              + " exceeds remaining input length "
+              + keysToUnfreezeRemainingInputLen);
+    }
+    decodedFrozenLedgerKeysDelta.keysToUnfreeze = new EncodedLedgerKey[keysToUnfreezeSize];
+    for (int i = 0; i < keysToUnfreezeSize; i++) {
+      decodedFrozenLedgerKeysDelta.keysToUnfreeze[i] = EncodedLedgerKey.decode(reader, maxDepth);
+    }
+    return decodedFrozenLedgerKeysDelta;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int keysToFreezeSize = stream.readInt();
+    if (keysToFreezeSize < 0) {
+      throw new IOException("keysToFreeze size " + keysToFreezeSize + " is negative");
+    }
+    int keysToFreezeRemainingInputLen = stream.getRemainingInputLen();
+    if (keysToFreezeRemainingInputLen >= 0 && keysToFreezeRemainingInputLen < keysToFreezeSize) {
+      throw new IOException(
+          "keysToFreeze size "
+              + keysToFreezeSize
+              + " exceeds remaining input length "
+              + keysToFreezeRemainingInputLen);
+    }
+    for (int i = 0; i < keysToFreezeSize; i++) {
+      EncodedLedgerKey.skip(stream, maxDepth);
+    }
+    int keysToUnfreezeSize = stream.readInt();
+    if (keysToUnfreezeSize < 0) {
+      throw new IOException("keysToUnfreeze size " + keysToUnfreezeSize + " is negative");
+    }
+    int keysToUnfreezeRemainingInputLen = stream.getRemainingInputLen();
+    if (keysToUnfreezeRemainingInputLen >= 0
+        && keysToUnfreezeRemainingInputLen < keysToUnfreezeSize) {
+      throw new IOException(
+          "keysToUnfreeze size "
+              + keysToUnfreezeSize
+              + " exceeds remaining input length "
+              + keysToUnfreezeRemainingInputLen);
+    }
+    for (int i = 0; i < keysToUnfreezeSize; i++) {
+      EncodedLedgerKey.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "keysToFreeze[*]", "keysToUnfreeze[*]");
+    if (field.equals("keysToFreeze")) {
+      int keysToFreezeSize = stream.readInt();
+      if (keysToFreezeSize < 0) {
+        throw new IOException("keysToFreeze size " + keysToFreezeSize + " is negative");
+      }
+      int keysToFreezeRemainingInputLen = stream.getRemainingInputLen();
+      if (keysToFreezeRemainingInputLen >= 0 && keysToFreezeRemainingInputLen < keysToFreezeSize) {
+        throw new IOException(
+            "keysToFreeze size "
+                + keysToFreezeSize
+                + " exceeds remaining input length "
+                + keysToFreezeRemainingInputLen);
+      }
+      for (int i = 0; i < keysToFreezeSize; i++) {
+        EncodedLedgerKey.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int keysToFreezeSize = stream.readInt();
+      if (keysToFreezeSize < 0) {
+        throw new IOException("keysToFreeze size " + keysToFreezeSize + " is negative");
+      }
+      int keysToFreezeRemainingInputLen = stream.getRemainingInputLen();
+      if (keysToFreezeRemainingInputLen >= 0 && keysToFreezeRemainingInputLen < keysToFreezeSize) {
+        throw new IOException(
+            "keysToFreeze size "
+                + keysToFreezeSize
+                + " exceeds remaining input length "
+                + keysToFreezeRemainingInputLen);
+      }
+      for (int i = 0; i < keysToFreezeSize; i++) {
+        EncodedLedgerKey.skip(stream, maxDepth);
+      }
+    }
+    if (field.equals("keysToUnfreeze")) {
+      int keysToUnfreezeSize = stream.readInt();
+      if (keysToUnfreezeSize < 0) {
+        throw new IOException("keysToUnfreeze size " + keysToUnfreezeSize + " is negative");
+      }
+      int keysToUnfreezeRemainingInputLen = stream.getRemainingInputLen();
+      if (keysToUnfreezeRemainingInputLen >= 0
+          && keysToUnfreezeRemainingInputLen < keysToUnfreezeSize) {
+        throw new IOException(
+            "keysToUnfreeze size "
+                + keysToUnfreezeSize
+                + " exceeds remaining input length "
+                + keysToUnfreezeRemainingInputLen);
+      }
+      for (int i = 0; i < keysToUnfreezeSize; i++) {
+        EncodedLedgerKey.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int keysToUnfreezeSize = stream.readInt();
+      if (keysToUnfreezeSize < 0) {
+        throw new IOException("keysToUnfreeze size " + keysToUnfreezeSize + " is negative");
+      }
+      int keysToUnfreezeRemainingInputLen = stream.getRemainingInputLen();
+      if (keysToUnfreezeRemainingInputLen >= 0
+          && keysToUnfreezeRemainingInputLen < keysToUnfreezeSize) {
+        throw new IOException(
+            "keysToUnfreeze size "
+                + keysToUnfreezeSize
+                + " exceeds remaining input length "
+                + keysToUnfreezeRemainingInputLen);
+      }
+      for (int i = 0; i < keysToUnfreezeSize; i++) {
+        EncodedLedgerKey.skip(stream, maxDepth);
+      }
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static FrozenLedgerKeysDelta fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static FrozenLedgerKeysDelta fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static FrozenLedgerKeysDelta fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
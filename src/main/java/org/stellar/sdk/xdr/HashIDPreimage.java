@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -134,6 +136,29 @@ public class HashIDPreimage implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case ENVELOPE_TYPE_OP_ID:
+        size += operationID.encodedSize();
+        break;
+      case ENVELOPE_TYPE_POOL_REVOKE_OP_ID:
+        size += revokeID.encodedSize();
+        break;
+      case ENVELOPE_TYPE_CONTRACT_ID:
+        size += contractID.encodedSize();
+        break;
+      case ENVELOPE_TYPE_SOROBAN_AUTHORIZATION:
+        size += sorobanAuthorization.encodedSize();
+        break;
+      case ENVELOPE_TYPE_SOROBAN_AUTHORIZATION_WITH_ADDRESS:
+        size += sorobanAuthorizationWithAddress.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static HashIDPreimage decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -170,16 +195,149 @@ public class HashIDPreimage implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static HashIDPreimage decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    HashIDPreimage decodedHashIDPreimage = new HashIDPreimage();
+    EnvelopeType discriminant = EnvelopeType.decode(reader, maxDepth);
+    decodedHashIDPreimage.setDiscriminant(discriminant);
+    switch (decodedHashIDPreimage.getDiscriminant()) {
+      case ENVELOPE_TYPE_OP_ID:
+        decodedHashIDPreimage.operationID = HashIDPreimageOperationID.decode(reader, maxDepth);
+        break;
+      case ENVELOPE_TYPE_POOL_REVOKE_OP_ID:
+        decodedHashIDPreimage.revokeID = HashIDPreimageRevokeID.decode(reader, maxDepth);
+        break;
+      case ENVELOPE_TYPE_CONTRACT_ID:
+        decodedHashIDPreimage.contractID = HashIDPreimageContractID.decode(reader, maxDepth);
+        break;
+      case ENVELOPE_TYPE_SOROBAN_AUTHORIZATION:
+        decodedHashIDPreimage.sorobanAuthorization =
+            HashIDPreimageSorobanAuthorization.decode(reader, maxDepth);
+        break;
+      case ENVELOPE_TYPE_SOROBAN_AUTHORIZATION_WITH_ADDRESS:
+        decodedHashIDPreimage.sorobanAuthorizationWithAddress =
+            HashIDPreimageSorobanAuthorizationWithAddress.decode(reader, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedHashIDPreimage;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    EnvelopeType discriminant = EnvelopeType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case ENVELOPE_TYPE_OP_ID:
+        HashIDPreimageOperationID.skip(stream, maxDepth);
+        break;
+      case ENVELOPE_TYPE_POOL_REVOKE_OP_ID:
+        HashIDPreimageRevokeID.skip(stream, maxDepth);
+        break;
+      case ENVELOPE_TYPE_CONTRACT_ID:
+        HashIDPreimageContractID.skip(stream, maxDepth);
+        break;
+      case ENVELOPE_TYPE_SOROBAN_AUTHORIZATION:
+        HashIDPreimageSorobanAuthorization.skip(stream, maxDepth);
+        break;
+      case ENVELOPE_TYPE_SOROBAN_AUTHORIZATION_WITH_ADDRESS:
+        HashIDPreimageSorobanAuthorizationWithAddress.skip(stream, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field =
+        path.checkField(
+            index,
+            "operationID",
+            "revokeID",
+            "contractID",
+            "sorobanAuthorization",
+            "sorobanAuthorizationWithAddress");
+    EnvelopeType discriminant = EnvelopeType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case ENVELOPE_TYPE_OP_ID:
+        if (field.equals("operationID")) {
+          HashIDPreimageOperationID.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          HashIDPreimageOperationID.skip(stream, maxDepth);
+        }
+        break;
+      case ENVELOPE_TYPE_POOL_REVOKE_OP_ID:
+        if (field.equals("revokeID")) {
+          HashIDPreimageRevokeID.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          HashIDPreimageRevokeID.skip(stream, maxDepth);
+        }
+        break;
+      case ENVELOPE_TYPE_CONTRACT_ID:
+        if (field.equals("contractID")) {
+          HashIDPreimageContractID.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          HashIDPreimageContractID.skip(stream, maxDepth);
+        }
+        break;
+      case ENVELOPE_TYPE_SOROBAN_AUTHORIZATION:
+        if (field.equals("sorobanAuthorization")) {
+          HashIDPreimageSorobanAuthorization.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          HashIDPreimageSorobanAuthorization.skip(stream, maxDepth);
+        }
+        break;
+      case ENVELOPE_TYPE_SOROBAN_AUTHORIZATION_WITH_ADDRESS:
+        if (field.equals("sorobanAuthorizationWithAddress")) {
+          HashIDPreimageSorobanAuthorizationWithAddress.extract(
+              stream, maxDepth, path, index + 1, values);
+        } else {
+          HashIDPreimageSorobanAuthorizationWithAddress.skip(stream, maxDepth);
+        }
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static HashIDPreimage fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static HashIDPreimage fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static HashIDPreimage fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -317,6 +475,15 @@ public class HashIDPreimage implements XdrElement {
       opNum.encode(stream);
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 0;
+      size += sourceAccount.encodedSize();
+      size += seqNum.encodedSize();
+      size += opNum.encodedSize();
+      return size;
+    }
+
     public static HashIDPreimageOperationID decode(XdrDataInputStream stream, int maxDepth)
         throws IOException {
       if (maxDepth <= 0) {
@@ -334,16 +501,80 @@ public class HashIDPreimage implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static HashIDPreimageOperationID decode(XdrByteBufferReader reader, int maxDepth)
+        throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      HashIDPreimageOperationID decodedHashIDPreimageOperationID = new HashIDPreimageOperationID();
+      decodedHashIDPreimageOperationID.sourceAccount = AccountID.decode(reader, maxDepth);
+      decodedHashIDPreimageOperationID.seqNum = SequenceNumber.decode(reader, maxDepth);
+      decodedHashIDPreimageOperationID.opNum = Uint32.decode(reader, maxDepth);
+      return decodedHashIDPreimageOperationID;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      AccountID.skip(stream, maxDepth);
+      SequenceNumber.skip(stream, maxDepth);
+      Uint32.skip(stream, maxDepth);
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index, "sourceAccount", "seqNum", "opNum");
+      if (field.equals("sourceAccount")) {
+        AccountID.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        AccountID.skip(stream, maxDepth);
+      }
+      if (field.equals("seqNum")) {
+        SequenceNumber.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        SequenceNumber.skip(stream, maxDepth);
+      }
+      if (field.equals("opNum")) {
+        Uint32.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        Uint32.skip(stream, maxDepth);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static HashIDPreimageOperationID fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static HashIDPreimageOperationID fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static HashIDPreimageOperationID fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
@@ -441,6 +672,17 @@ public class HashIDPreimage implements XdrElement {
       asset.encode(stream);
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 0;
+      size += sourceAccount.encodedSize();
+      size += seqNum.encodedSize();
+      size += opNum.encodedSize();
+      size += liquidityPoolID.encodedSize();
+      size += asset.encodedSize();
+      return size;
+    }
+
     public static HashIDPreimageRevokeID decode(XdrDataInputStream stream, int maxDepth)
         throws IOException {
       if (maxDepth <= 0) {
@@ -460,16 +702,95 @@ public class HashIDPreimage implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static HashIDPreimageRevokeID decode(XdrByteBufferReader reader, int maxDepth)
+        throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      HashIDPreimageRevokeID decodedHashIDPreimageRevokeID = new HashIDPreimageRevokeID();
+      decodedHashIDPreimageRevokeID.sourceAccount = AccountID.decode(reader, maxDepth);
+      decodedHashIDPreimageRevokeID.seqNum = SequenceNumber.decode(reader, maxDepth);
+      decodedHashIDPreimageRevokeID.opNum = Uint32.decode(reader, maxDepth);
+      decodedHashIDPreimageRevokeID.liquidityPoolID = PoolID.decode(reader, maxDepth);
+      decodedHashIDPreimageRevokeID.asset = Asset.decode(reader, maxDepth);
+      return decodedHashIDPreimageRevokeID;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      AccountID.skip(stream, maxDepth);
+      SequenceNumber.skip(stream, maxDepth);
+      Uint32.skip(stream, maxDepth);
+      PoolID.skip(stream, maxDepth);
+      Asset.skip(stream, maxDepth);
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field =
+          path.checkField(index, "sourceAccount", "seqNum", "opNum", "liquidityPoolID", "asset");
+      if (field.equals("sourceAccount")) {
+        AccountID.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        AccountID.skip(stream, maxDepth);
+      }
+      if (field.equals("seqNum")) {
+        SequenceNumber.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        SequenceNumber.skip(stream, maxDepth);
+      }
+      if (field.equals("opNum")) {
+        Uint32.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        Uint32.skip(stream, maxDepth);
+      }
+      if (field.equals("liquidityPoolID")) {
+        PoolID.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        PoolID.skip(stream, maxDepth);
+      }
+      if (field.equals("asset")) {
+        Asset.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        Asset.skip(stream, maxDepth);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static HashIDPreimageRevokeID fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static HashIDPreimageRevokeID fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static HashIDPreimageRevokeID fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
@@ -541,6 +862,14 @@ public class HashIDPreimage implements XdrElement {
       contractIDPreimage.encode(stream);
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 0;
+      size += networkID.encodedSize();
+      size += contractIDPreimage.encodedSize();
+      return size;
+    }
+
     public static HashIDPreimageContractID decode(XdrDataInputStream stream, int maxDepth)
         throws IOException {
       if (maxDepth <= 0) {
@@ -558,16 +887,74 @@ public class HashIDPreimage implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static HashIDPreimageContractID decode(XdrByteBufferReader reader, int maxDepth)
+        throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      HashIDPreimageContractID decodedHashIDPreimageContractID = new HashIDPreimageContractID();
+      decodedHashIDPreimageContractID.networkID = Hash.decode(reader, maxDepth);
+      decodedHashIDPreimageContractID.contractIDPreimage =
+          ContractIDPreimage.decode(reader, maxDepth);
+      return decodedHashIDPreimageContractID;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      Hash.skip(stream, maxDepth);
+      ContractIDPreimage.skip(stream, maxDepth);
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index, "networkID", "contractIDPreimage");
+      if (field.equals("networkID")) {
+        Hash.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        Hash.skip(stream, maxDepth);
+      }
+      if (field.equals("contractIDPreimage")) {
+        ContractIDPreimage.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        ContractIDPreimage.skip(stream, maxDepth);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static HashIDPreimageContractID fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static HashIDPreimageContractID fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static HashIDPreimageContractID fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
@@ -654,6 +1041,16 @@ public class HashIDPreimage implements XdrElement {
       invocation.encode(stream);
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 0;
+      size += networkID.encodedSize();
+      size += nonce.encodedSize();
+      size += signatureExpirationLedger.encodedSize();
+      size += invocation.encodedSize();
+      return size;
+    }
+
     public static HashIDPreimageSorobanAuthorization decode(XdrDataInputStream stream, int maxDepth)
         throws IOException {
       if (maxDepth <= 0) {
@@ -676,6 +1073,79 @@ public class HashIDPreimage implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static HashIDPreimageSorobanAuthorization decode(
+        XdrByteBufferReader reader, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      HashIDPreimageSorobanAuthorization decodedHashIDPreimageSorobanAuthorization =
+          new HashIDPreimageSorobanAuthorization();
+      decodedHashIDPreimageSorobanAuthorization.networkID = Hash.decode(reader, maxDepth);
+      decodedHashIDPreimageSorobanAuthorization.nonce = Int64.decode(reader, maxDepth);
+      decodedHashIDPreimageSorobanAuthorization.signatureExpirationLedger =
+          Uint32.decode(reader, maxDepth);
+      decodedHashIDPreimageSorobanAuthorization.invocation =
+          SorobanAuthorizedInvocation.decode(reader, maxDepth);
+      return decodedHashIDPreimageSorobanAuthorization;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      Hash.skip(stream, maxDepth);
+      Int64.skip(stream, maxDepth);
+      Uint32.skip(stream, maxDepth);
+      SorobanAuthorizedInvocation.skip(stream, maxDepth);
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field =
+          path.checkField(index, "networkID", "nonce", "signatureExpirationLedger", "invocation");
+      if (field.equals("networkID")) {
+        Hash.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        Hash.skip(stream, maxDepth);
+      }
+      if (field.equals("nonce")) {
+        Int64.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        Int64.skip(stream, maxDepth);
+      }
+      if (field.equals("signatureExpirationLedger")) {
+        Uint32.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        Uint32.skip(stream, maxDepth);
+      }
+      if (field.equals("invocation")) {
+        SorobanAuthorizedInvocation.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        SorobanAuthorizedInvocation.skip(stream, maxDepth);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static HashIDPreimageSorobanAuthorization fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
@@ -683,10 +1153,13 @@ public class HashIDPreimage implements XdrElement {
 
     public static HashIDPreimageSorobanAuthorization fromXdrByteArray(byte[] xdr)
         throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static HashIDPreimageSorobanAuthorization fromXdrByteBuffer(ByteBuffer xdr)
+        throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
@@ -787,6 +1260,17 @@ public class HashIDPreimage implements XdrElement {
       invocation.encode(stream);
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 0;
+      size += networkID.encodedSize();
+      size += nonce.encodedSize();
+      size += signatureExpirationLedger.encodedSize();
+      size += address.encodedSize();
+      size += invocation.encodedSize();
+      return size;
+    }
+
     public static HashIDPreimageSorobanAuthorizationWithAddress decode(
         XdrDataInputStream stream, int maxDepth) throws IOException {
       if (maxDepth <= 0) {
@@ -813,6 +1297,90 @@ public class HashIDPreimage implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static HashIDPreimageSorobanAuthorizationWithAddress decode(
+        XdrByteBufferReader reader, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      HashIDPreimageSorobanAuthorizationWithAddress
+          decodedHashIDPreimageSorobanAuthorizationWithAddress =
+              new HashIDPreimageSorobanAuthorizationWithAddress();
+      decodedHashIDPreimageSorobanAuthorizationWithAddress.networkID =
+          Hash.decode(reader, maxDepth);
+      decodedHashIDPreimageSorobanAuthorizationWithAddress.nonce = Int64.decode(reader, maxDepth);
+      decodedHashIDPreimageSorobanAuthorizationWithAddress.signatureExpirationLedger =
+          Uint32.decode(reader, maxDepth);
+      decodedHashIDPreimageSorobanAuthorizationWithAddress.address =
+          SCAddress.decode(reader, maxDepth);
+      decodedHashIDPreimageSorobanAuthorizationWithAddress.invocation =
+          SorobanAuthorizedInvocation.decode(reader, maxDepth);
+      return decodedHashIDPreimageSorobanAuthorizationWithAddress;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      Hash.skip(stream, maxDepth);
+      Int64.skip(stream, maxDepth);
+      Uint32.skip(stream, maxDepth);
+      SCAddress.skip(stream, maxDepth);
+      SorobanAuthorizedInvocation.skip(stream, maxDepth);
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field =
+          path.checkField(
+              index, "networkID", "nonce", "signatureExpirationLedger", "address", "invocation");
+      if (field.equals("networkID")) {
+        Hash.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        Hash.skip(stream, maxDepth);
+      }
+      if (field.equals("nonce")) {
+        Int64.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        Int64.skip(stream, maxDepth);
+      }
+      if (field.equals("signatureExpirationLedger")) {
+        Uint32.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        Uint32.skip(stream, maxDepth);
+      }
+      if (field.equals("address")) {
+        SCAddress.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        SCAddress.skip(stream, maxDepth);
+      }
+      if (field.equals("invocation")) {
+        SorobanAuthorizedInvocation.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        SorobanAuthorizedInvocation.skip(stream, maxDepth);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static HashIDPreimageSorobanAuthorizationWithAddress fromXdrBase64(String xdr)
         throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
@@ -821,10 +1389,13 @@ public class HashIDPreimage implements XdrElement {
 
     public static HashIDPreimageSorobanAuthorizationWithAddress fromXdrByteArray(byte[] xdr)
         throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static HashIDPreimageSorobanAuthorizationWithAddress fromXdrByteBuffer(ByteBuffer xdr)
+        throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
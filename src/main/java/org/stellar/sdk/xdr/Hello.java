@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -123,6 +125,21 @@ public class Hello implements XdrElement {
     nonce.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += ledgerVersion.encodedSize();
+    size += overlayVersion.encodedSize();
+    size += overlayMinVersion.encodedSize();
+    size += networkID.encodedSize();
+    size += versionStr.encodedSize();
+    size += 4;
+    size += peerID.encodedSize();
+    size += cert.encodedSize();
+    size += nonce.encodedSize();
+    return size;
+  }
+
   public static Hello decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -145,16 +162,134 @@ public class Hello implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static Hello decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Hello decodedHello = new Hello();
+    decodedHello.ledgerVersion = Uint32.decode(reader, maxDepth);
+    decodedHello.overlayVersion = Uint32.decode(reader, maxDepth);
+    decodedHello.overlayMinVersion = Uint32.decode(reader, maxDepth);
+    decodedHello.networkID = Hash.decode(reader, maxDepth);
+    decodedHello.versionStr = XdrString.decode(reader, maxDepth, 100);
+    decodedHello.listeningPort = reader.readInt();
+    decodedHello.peerID = NodeID.decode(reader, maxDepth);
+    decodedHello.cert = AuthCert.decode(reader, maxDepth);
+    decodedHello.nonce = Uint256.decode(reader, maxDepth);
+    return decodedHello;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    Hash.skip(stream, maxDepth);
+    XdrString.skip(stream, maxDepth, 100);
+    stream.readInt();
+    NodeID.skip(stream, maxDepth);
+    AuthCert.skip(stream, maxDepth);
+    Uint256.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field =
+        path.checkField(
+            index,
+            "ledgerVersion",
+            "overlayVersion",
+            "overlayMinVersion",
+            "networkID",
+            "versionStr",
+            "listeningPort",
+            "peerID",
+            "cert",
+            "nonce");
+    if (field.equals("ledgerVersion")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("overlayVersion")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("overlayMinVersion")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("networkID")) {
+      Hash.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Hash.skip(stream, maxDepth);
+    }
+    if (field.equals("versionStr")) {
+      path.checkEnd(index + 1);
+      values.add(XdrString.decode(stream, maxDepth, 100));
+    } else {
+      XdrString.skip(stream, maxDepth, 100);
+    }
+    if (field.equals("listeningPort")) {
+      path.checkEnd(index + 1);
+      values.add(stream.readInt());
+    } else {
+      stream.readInt();
+    }
+    if (field.equals("peerID")) {
+      NodeID.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      NodeID.skip(stream, maxDepth);
+    }
+    if (field.equals("cert")) {
+      AuthCert.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      AuthCert.skip(stream, maxDepth);
+    }
+    if (field.equals("nonce")) {
+      Uint256.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint256.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static Hello fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static Hello fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static Hello fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -94,6 +96,26 @@ public class HostFunction implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case HOST_FUNCTION_TYPE_INVOKE_CONTRACT:
+        size += invokeContract.encodedSize();
+        break;
+      case HOST_FUNCTION_TYPE_CREATE_CONTRACT:
+        size += createContract.encodedSize();
+        break;
+      case HOST_FUNCTION_TYPE_UPLOAD_CONTRACT_WASM:
+        size += 4 + ((wasm.length + 3) & ~3);
+        break;
+      case HOST_FUNCTION_TYPE_CREATE_CONTRACT_V2:
+        size += createContractV2.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static HostFunction decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -135,16 +157,173 @@ public class HostFunction implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static HostFunction decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    HostFunction decodedHostFunction = new HostFunction();
+    HostFunctionType discriminant = HostFunctionType.decode(reader, maxDepth);
+    decodedHostFunction.setDiscriminant(discriminant);
+    switch (decodedHostFunction.getDiscriminant()) {
+      case HOST_FUNCTION_TYPE_INVOKE_CONTRACT:
+        decodedHostFunction.invokeContract = InvokeContractArgs.decode(reader, maxDepth);
+        break;
+      case HOST_FUNCTION_TYPE_CREATE_CONTRACT:
+        decodedHostFunction.createContract = CreateContractArgs.decode(reader, maxDepth);
+        break;
+      case HOST_FUNCTION_TYPE_UPLOAD_CONTRACT_WASM:
+        int wasmSize = reader.readInt();
+        if (wasmSize < 0) {
+          throw new IOException("wasm size " + wasmSize + " is negative");
+        }
+        int wasmRemainingInputLen = reader.getRemainingInputLen();
+        if (wasmRemainingInputLen >= 0 && wasmRemainingInputLen < wasmSize) {
+          throw new IOException(
+              "wasm size " + wasmSize + " exceeds remaining input length " + wasmRemainingInputLen);
+        }
+        decodedHostFunction.wasm = new byte[wasmSize];
+        reader.readPaddedData(decodedHostFunction.wasm, 0, wasmSize);
+        break;
+      case HOST_FUNCTION_TYPE_CREATE_CONTRACT_V2:
+        decodedHostFunction.createContractV2 = CreateContractArgsV2.decode(reader, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedHostFunction;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    HostFunctionType discriminant = HostFunctionType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case HOST_FUNCTION_TYPE_INVOKE_CONTRACT:
+        InvokeContractArgs.skip(stream, maxDepth);
+        break;
+      case HOST_FUNCTION_TYPE_CREATE_CONTRACT:
+        CreateContractArgs.skip(stream, maxDepth);
+        break;
+      case HOST_FUNCTION_TYPE_UPLOAD_CONTRACT_WASM:
+        int wasmSize = stream.readInt();
+        if (wasmSize < 0) {
+          throw new IOException("wasm size " + wasmSize + " is negative");
+        }
+        int wasmRemainingInputLen = stream.getRemainingInputLen();
+        if (wasmRemainingInputLen >= 0 && wasmRemainingInputLen < wasmSize) {
+          throw new IOException(
+              "wasm size " + wasmSize + " exceeds remaining input length " + wasmRemainingInputLen);
+        }
+        stream.skipPaddedData(wasmSize);
+        break;
+      case HOST_FUNCTION_TYPE_CREATE_CONTRACT_V2:
+        CreateContractArgsV2.skip(stream, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field =
+        path.checkField(index, "invokeContract", "createContract", "wasm", "createContractV2");
+    HostFunctionType discriminant = HostFunctionType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case HOST_FUNCTION_TYPE_INVOKE_CONTRACT:
+        if (field.equals("invokeContract")) {
+          InvokeContractArgs.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          InvokeContractArgs.skip(stream, maxDepth);
+        }
+        break;
+      case HOST_FUNCTION_TYPE_CREATE_CONTRACT:
+        if (field.equals("createContract")) {
+          CreateContractArgs.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          CreateContractArgs.skip(stream, maxDepth);
+        }
+        break;
+      case HOST_FUNCTION_TYPE_UPLOAD_CONTRACT_WASM:
+        if (field.equals("wasm")) {
+          int wasmSize = stream.readInt();
+          if (wasmSize < 0) {
+            throw new IOException("wasm size " + wasmSize + " is negative");
+          }
+          int wasmRemainingInputLen = stream.getRemainingInputLen();
+          if (wasmRemainingInputLen >= 0 && wasmRemainingInputLen < wasmSize) {
+            throw new IOException(
+                "wasm size "
+                    + wasmSize
+                    + " exceeds remaining input length "
+                    + wasmRemainingInputLen);
+          }
+          path.checkEnd(index + 1);
+          byte[] wasmBytes = new byte[wasmSize];
+          stream.readPaddedData(wasmBytes, 0, wasmSize);
+          values.add(wasmBytes);
+        } else {
+          int wasmSize = stream.readInt();
+          if (wasmSize < 0) {
+            throw new IOException("wasm size " + wasmSize + " is negative");
+          }
+          int wasmRemainingInputLen = stream.getRemainingInputLen();
+          if (wasmRemainingInputLen >= 0 && wasmRemainingInputLen < wasmSize) {
+            throw new IOException(
+                "wasm size "
+                    + wasmSize
+                    + " exceeds remaining input length "
+                    + wasmRemainingInputLen);
+          }
+          stream.skipPaddedData(wasmSize);
+        }
+        break;
+      case HOST_FUNCTION_TYPE_CREATE_CONTRACT_V2:
+        if (field.equals("createContractV2")) {
+          CreateContractArgsV2.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          CreateContractArgsV2.skip(stream, maxDepth);
+        }
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static HostFunction fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static HostFunction fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static HostFunction fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -80,6 +82,23 @@ public class HotArchiveBucketEntry implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case HOT_ARCHIVE_ARCHIVED:
+        size += archivedEntry.encodedSize();
+        break;
+      case HOT_ARCHIVE_LIVE:
+        size += key.encodedSize();
+        break;
+      case HOT_ARCHIVE_METAENTRY:
+        size += metaEntry.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static HotArchiveBucketEntry decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -109,16 +128,114 @@ public class HotArchiveBucketEntry implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static HotArchiveBucketEntry decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    HotArchiveBucketEntry decodedHotArchiveBucketEntry = new HotArchiveBucketEntry();
+    HotArchiveBucketEntryType discriminant = HotArchiveBucketEntryType.decode(reader, maxDepth);
+    decodedHotArchiveBucketEntry.setDiscriminant(discriminant);
+    switch (decodedHotArchiveBucketEntry.getDiscriminant()) {
+      case HOT_ARCHIVE_ARCHIVED:
+        decodedHotArchiveBucketEntry.archivedEntry = LedgerEntry.decode(reader, maxDepth);
+        break;
+      case HOT_ARCHIVE_LIVE:
+        decodedHotArchiveBucketEntry.key = LedgerKey.decode(reader, maxDepth);
+        break;
+      case HOT_ARCHIVE_METAENTRY:
+        decodedHotArchiveBucketEntry.metaEntry = BucketMetadata.decode(reader, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedHotArchiveBucketEntry;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    HotArchiveBucketEntryType discriminant = HotArchiveBucketEntryType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case HOT_ARCHIVE_ARCHIVED:
+        LedgerEntry.skip(stream, maxDepth);
+        break;
+      case HOT_ARCHIVE_LIVE:
+        LedgerKey.skip(stream, maxDepth);
+        break;
+      case HOT_ARCHIVE_METAENTRY:
+        BucketMetadata.skip(stream, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "archivedEntry", "key", "metaEntry");
+    HotArchiveBucketEntryType discriminant = HotArchiveBucketEntryType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case HOT_ARCHIVE_ARCHIVED:
+        if (field.equals("archivedEntry")) {
+          LedgerEntry.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          LedgerEntry.skip(stream, maxDepth);
+        }
+        break;
+      case HOT_ARCHIVE_LIVE:
+        if (field.equals("key")) {
+          LedgerKey.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          LedgerKey.skip(stream, maxDepth);
+        }
+        break;
+      case HOT_ARCHIVE_METAENTRY:
+        if (field.equals("metaEntry")) {
+          BucketMetadata.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          BucketMetadata.skip(stream, maxDepth);
+        }
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static HotArchiveBucketEntry fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static HotArchiveBucketEntry fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static HotArchiveBucketEntry fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -62,6 +63,22 @@ public class InflationResult implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case INFLATION_SUCCESS:
+        size += 4;
+        for (int i = 0; i < payouts.length; i++) {
+          size += payouts[i].encodedSize();
+        }
+        break;
+      case INFLATION_NOT_TIME:
+        break;
+    }
+    return size;
+  }
+
   public static InflationResult decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -101,16 +118,151 @@ public class InflationResult implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static InflationResult decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    InflationResult decodedInflationResult = new InflationResult();
+    InflationResultCode discriminant = InflationResultCode.decode(reader, maxDepth);
+    decodedInflationResult.setDiscriminant(discriminant);
+    switch (decodedInflationResult.getDiscriminant()) {
+      case INFLATION_SUCCESS:
+        int payoutsSize = reader.readInt();
+        if (payoutsSize < 0) {
+          throw new IOException("payouts size " + payoutsSize + " is negative");
+        }
+        int payoutsRemainingInputLen = reader.getRemainingInputLen();
+        if (payoutsRemainingInputLen >= 0 && payoutsRemainingInputLen < payoutsSize) {
+          throw new IOException(
+              "payouts size "
+                  + payoutsSize
+                  + " exceeds remaining input length "
+                  + payoutsRemainingInputLen);
+        }
+        decodedInflationResult.payouts = new InflationPayout[payoutsSize];
+        for (int i = 0; i < payoutsSize; i++) {
+          decodedInflationResult.payouts[i] = InflationPayout.decode(reader, maxDepth);
+        }
+        break;
+      case INFLATION_NOT_TIME:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedInflationResult;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    InflationResultCode discriminant = InflationResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case INFLATION_SUCCESS:
+        int payoutsSize = stream.readInt();
+        if (payoutsSize < 0) {
+          throw new IOException("payouts size " + payoutsSize + " is negative");
+        }
+        int payoutsRemainingInputLen = stream.getRemainingInputLen();
+        if (payoutsRemainingInputLen >= 0 && payoutsRemainingInputLen < payoutsSize) {
+          throw new IOException(
+              "payouts size "
+                  + payoutsSize
+                  + " exceeds remaining input length "
+                  + payoutsRemainingInputLen);
+        }
+        for (int i = 0; i < payoutsSize; i++) {
+          InflationPayout.skip(stream, maxDepth);
+        }
+        break;
+      case INFLATION_NOT_TIME:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "payouts[*]");
+    InflationResultCode discriminant = InflationResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case INFLATION_SUCCESS:
+        if (field.equals("payouts")) {
+          int payoutsSize = stream.readInt();
+          if (payoutsSize < 0) {
+            throw new IOException("payouts size " + payoutsSize + " is negative");
+          }
+          int payoutsRemainingInputLen = stream.getRemainingInputLen();
+          if (payoutsRemainingInputLen >= 0 && payoutsRemainingInputLen < payoutsSize) {
+            throw new IOException(
+                "payouts size "
+                    + payoutsSize
+                    + " exceeds remaining input length "
+                    + payoutsRemainingInputLen);
+          }
+          for (int i = 0; i < payoutsSize; i++) {
+            InflationPayout.extract(stream, maxDepth, path, index + 1, values);
+          }
+        } else {
+          int payoutsSize = stream.readInt();
+          if (payoutsSize < 0) {
+            throw new IOException("payouts size " + payoutsSize + " is negative");
+          }
+          int payoutsRemainingInputLen = stream.getRemainingInputLen();
+          if (payoutsRemainingInputLen >= 0 && payoutsRemainingInputLen < payoutsSize) {
+            throw new IOException(
+                "payouts size "
+                    + payoutsSize
+                    + " exceeds remaining input length "
+                    + payoutsRemainingInputLen);
+          }
+          for (int i = 0; i < payoutsSize; i++) {
+            InflationPayout.skip(stream, maxDepth);
+          }
+        }
+        break;
+      case INFLATION_NOT_TIME:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static InflationResult fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static InflationResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static InflationResult fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
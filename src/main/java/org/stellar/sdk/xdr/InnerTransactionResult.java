@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -94,6 +95,15 @@ public class InnerTransactionResult implements XdrElement {
     ext.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += feeCharged.encodedSize();
+    size += result.encodedSize();
+    size += ext.encodedSize();
+    return size;
+  }
+
   public static InnerTransactionResult decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -111,16 +121,80 @@ public class InnerTransactionResult implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static InnerTransactionResult decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    InnerTransactionResult decodedInnerTransactionResult = new InnerTransactionResult();
+    decodedInnerTransactionResult.feeCharged = Int64.decode(reader, maxDepth);
+    decodedInnerTransactionResult.result = InnerTransactionResultResult.decode(reader, maxDepth);
+    decodedInnerTransactionResult.ext = InnerTransactionResultExt.decode(reader, maxDepth);
+    return decodedInnerTransactionResult;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Int64.skip(stream, maxDepth);
+    InnerTransactionResultResult.skip(stream, maxDepth);
+    InnerTransactionResultExt.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "feeCharged", "result", "ext");
+    if (field.equals("feeCharged")) {
+      Int64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Int64.skip(stream, maxDepth);
+    }
+    if (field.equals("result")) {
+      InnerTransactionResultResult.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      InnerTransactionResultResult.skip(stream, maxDepth);
+    }
+    if (field.equals("ext")) {
+      InnerTransactionResultExt.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      InnerTransactionResultExt.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static InnerTransactionResult fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static InnerTransactionResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static InnerTransactionResult fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -233,6 +307,38 @@ public class InnerTransactionResult implements XdrElement {
       }
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 4;
+      switch (discriminant) {
+        case txSUCCESS:
+        case txFAILED:
+          size += 4;
+          for (int i = 0; i < results.length; i++) {
+            size += results[i].encodedSize();
+          }
+          break;
+        case txTOO_EARLY:
+        case txTOO_LATE:
+        case txMISSING_OPERATION:
+        case txBAD_SEQ:
+        case txBAD_AUTH:
+        case txINSUFFICIENT_BALANCE:
+        case txNO_ACCOUNT:
+        case txINSUFFICIENT_FEE:
+        case txBAD_AUTH_EXTRA:
+        case txINTERNAL_ERROR:
+        case txNOT_SUPPORTED:
+        case txBAD_SPONSORSHIP:
+        case txBAD_MIN_SEQ_AGE_OR_GAP:
+        case txMALFORMED:
+        case txSOROBAN_INVALID:
+        case txFROZEN_KEY_ACCESSED:
+          break;
+      }
+      return size;
+    }
+
     public static InnerTransactionResultResult decode(XdrDataInputStream stream, int maxDepth)
         throws IOException {
       if (maxDepth <= 0) {
@@ -292,16 +398,202 @@ public class InnerTransactionResult implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static InnerTransactionResultResult decode(XdrByteBufferReader reader, int maxDepth)
+        throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      InnerTransactionResultResult decodedInnerTransactionResultResult =
+          new InnerTransactionResultResult();
+      TransactionResultCode discriminant = TransactionResultCode.decode(reader, maxDepth);
+      decodedInnerTransactionResultResult.setDiscriminant(discriminant);
+      switch (decodedInnerTransactionResultResult.getDiscriminant()) {
+        case txSUCCESS:
+        case txFAILED:
+          int resultsSize = reader.readInt();
+          if (resultsSize < 0) {
+            throw new IOException("results size " + resultsSize + " is negative");
+          }
+          int resultsRemainingInputLen = reader.getRemainingInputLen();
+          if (resultsRemainingInputLen >= 0 && resultsRemainingInputLen < resultsSize) {
+            throw new IOException(
+                "results size "
+                    + resultsSize
+                    + " exceeds remaining input length "
+                    + resultsRemainingInputLen);
+          }
+          decodedInnerTransactionResultResult.results = new OperationResult[resultsSize];
+          for (int i = 0; i < resultsSize; i++) {
+            decodedInnerTransactionResultResult.results[i] =
+                OperationResult.decode(reader, maxDepth);
+          }
+          break;
+        case txTOO_EARLY:
+        case txTOO_LATE:
+        case txMISSING_OPERATION:
+        case txBAD_SEQ:
+        case txBAD_AUTH:
+        case txINSUFFICIENT_BALANCE:
+        case txNO_ACCOUNT:
+        case txINSUFFICIENT_FEE:
+        case txBAD_AUTH_EXTRA:
+        case txINTERNAL_ERROR:
+        case txNOT_SUPPORTED:
+        case txBAD_SPONSORSHIP:
+        case txBAD_MIN_SEQ_AGE_OR_GAP:
+        case txMALFORMED:
+        case txSOROBAN_INVALID:
+        case txFROZEN_KEY_ACCESSED:
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+      return decodedInnerTransactionResultResult;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      TransactionResultCode discriminant = TransactionResultCode.decode(stream, maxDepth);
+      switch (discriminant) {
+        case txSUCCESS:
+        case txFAILED:
+          int resultsSize = stream.readInt();
+          if (resultsSize < 0) {
+            throw new IOException("results size " + resultsSize + " is negative");
+          }
+          int resultsRemainingInputLen = stream.getRemainingInputLen();
+          if (resultsRemainingInputLen >= 0 && resultsRemainingInputLen < resultsSize) {
+            throw new IOException(
+                "results size "
+                    + resultsSize
+                    + " exceeds remaining input length "
+                    + resultsRemainingInputLen);
+          }
+          for (int i = 0; i < resultsSize; i++) {
+            OperationResult.skip(stream, maxDepth);
+          }
+          break;
+        case txTOO_EARLY:
+        case txTOO_LATE:
+        case txMISSING_OPERATION:
+        case txBAD_SEQ:
+        case txBAD_AUTH:
+        case txINSUFFICIENT_BALANCE:
+        case txNO_ACCOUNT:
+        case txINSUFFICIENT_FEE:
+        case txBAD_AUTH_EXTRA:
+        case txINTERNAL_ERROR:
+        case txNOT_SUPPORTED:
+        case txBAD_SPONSORSHIP:
+        case txBAD_MIN_SEQ_AGE_OR_GAP:
+        case txMALFORMED:
+        case txSOROBAN_INVALID:
+        case txFROZEN_KEY_ACCESSED:
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index, "results[*]");
+      TransactionResultCode discriminant = TransactionResultCode.decode(stream, maxDepth);
+      switch (discriminant) {
+        case txSUCCESS:
+        case txFAILED:
+          if (field.equals("results")) {
+            int resultsSize = stream.readInt();
+            if (resultsSize < 0) {
+              throw new IOException("results size " + resultsSize + " is negative");
+            }
+            int resultsRemainingInputLen = stream.getRemainingInputLen();
+            if (resultsRemainingInputLen >= 0 && resultsRemainingInputLen < resultsSize) {
+              throw new IOException(
+                  "results size "
+                      + resultsSize
+                      + " exceeds remaining input length "
+                      + resultsRemainingInputLen);
+            }
+            for (int i = 0; i < resultsSize; i++) {
+              OperationResult.extract(stream, maxDepth, path, index + 1, values);
+            }
+          } else {
+            int resultsSize = stream.readInt();
+            if (resultsSize < 0) {
+              throw new IOException("results size " + resultsSize + " is negative");
+            }
+            int resultsRemainingInputLen = stream.getRemainingInputLen();
+            if (resultsRemainingInputLen >= 0 && resultsRemainingInputLen < resultsSize) {
+              throw new IOException(
+                  "results size "
+                      + resultsSize
+                      + " exceeds remaining input length "
+                      + resultsRemainingInputLen);
+            }
+            for (int i = 0; i < resultsSize; i++) {
+              OperationResult.skip(stream, maxDepth);
+            }
+          }
+          break;
+        case txTOO_EARLY:
+        case txTOO_LATE:
+        case txMISSING_OPERATION:
+        case txBAD_SEQ:
+        case txBAD_AUTH:
+        case txINSUFFICIENT_BALANCE:
+        case txNO_ACCOUNT:
+        case txINSUFFICIENT_FEE:
+        case txBAD_AUTH_EXTRA:
+        case txINTERNAL_ERROR:
+        case txNOT_SUPPORTED:
+        case txBAD_SPONSORSHIP:
+        case txBAD_MIN_SEQ_AGE_OR_GAP:
+        case txMALFORMED:
+        case txSOROBAN_INVALID:
+        case txFROZEN_KEY_ACCESSED:
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static InnerTransactionResultResult fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static InnerTransactionResultResult fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static InnerTransactionResultResult fromXdrByteBuffer(ByteBuffer xdr)
+        throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
@@ -472,6 +764,16 @@ public class InnerTransactionResult implements XdrElement {
       }
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 4;
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+      return size;
+    }
+
     public static InnerTransactionResultExt decode(XdrDataInputStream stream, int maxDepth)
         throws IOException {
       if (maxDepth <= 0) {
@@ -494,16 +796,81 @@ public class InnerTransactionResult implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static InnerTransactionResultExt decode(XdrByteBufferReader reader, int maxDepth)
+        throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      InnerTransactionResultExt decodedInnerTransactionResultExt = new InnerTransactionResultExt();
+      Integer discriminant = reader.readInt();
+      decodedInnerTransactionResultExt.setDiscriminant(discriminant);
+      switch (decodedInnerTransactionResultExt.getDiscriminant()) {
+        case 0:
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+      return decodedInnerTransactionResultExt;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      int discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index);
+      int discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static InnerTransactionResultExt fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static InnerTransactionResultExt fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static InnerTransactionResultExt fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
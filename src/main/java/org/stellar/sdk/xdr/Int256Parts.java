@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -68,6 +70,16 @@ public class Int256Parts implements XdrElement {
     lo_lo.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += hi_hi.encodedSize();
+    size += hi_lo.encodedSize();
+    size += lo_hi.encodedSize();
+    size += lo_lo.encodedSize();
+    return size;
+  }
+
   public static Int256Parts decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -85,16 +97,86 @@ public class Int256Parts implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static Int256Parts decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Int256Parts decodedInt256Parts = new Int256Parts();
+    decodedInt256Parts.hi_hi = Int64.decode(reader, maxDepth);
+    decodedInt256Parts.hi_lo = Uint64.decode(reader, maxDepth);
+    decodedInt256Parts.lo_hi = Uint64.decode(reader, maxDepth);
+    decodedInt256Parts.lo_lo = Uint64.decode(reader, maxDepth);
+    return decodedInt256Parts;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Int64.skip(stream, maxDepth);
+    Uint64.skip(stream, maxDepth);
+    Uint64.skip(stream, maxDepth);
+    Uint64.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "hi_hi", "hi_lo", "lo_hi", "lo_lo");
+    if (field.equals("hi_hi")) {
+      Int64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Int64.skip(stream, maxDepth);
+    }
+    if (field.equals("hi_lo")) {
+      Uint64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint64.skip(stream, maxDepth);
+    }
+    if (field.equals("lo_hi")) {
+      Uint64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint64.skip(stream, maxDepth);
+    }
+    if (field.equals("lo_lo")) {
+      Uint64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint64.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static Int256Parts fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static Int256Parts fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static Int256Parts fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
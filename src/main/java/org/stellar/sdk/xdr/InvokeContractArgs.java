@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -63,6 +64,18 @@ public class InvokeContractArgs implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += contractAddress.encodedSize();
+    size += functionName.encodedSize();
+    size += 4;
+    for (int i = 0; i < args.length; i++) {
+      size += args[i].encodedSize();
+    }
+    return size;
+  }
+
   public static InvokeContractArgs decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -92,16 +105,125 @@ public class InvokeContractArgs implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static InvokeContractArgs decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    InvokeContractArgs decodedInvokeContractArgs = new InvokeContractArgs();
+    decodedInvokeContractArgs.contractAddress = SCAddress.decode(reader, maxDepth);
+    decodedInvokeContractArgs.functionName = SCSymbol.decode(reader, maxDepth);
+    int argsSize = reader.readInt();
+    if (argsSize < 0) {
+      throw new IOException("args size " + argsSize + " is negative");
+    }
+    int argsRemainingInputLen = reader.getRemainingInputLen();
+    if (argsRemainingInputLen >= 0 && argsRemainingInputLen < argsSize) {
+      throw new IOException(
+          "args size " + argsSize + " exceeds remaining input length " + argsRemainingInputLen);
+    }
+    decodedInvokeContractArgs.args = new SCVal[argsSize];
+    for (int i = 0; i < argsSize; i++) {
+      decodedInvokeContractArgs.args[i] = SCVal.decode(reader, maxDepth);
+    }
+    return decodedInvokeContractArgs;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SCAddress.skip(stream, maxDepth);
+    SCSymbol.skip(stream, maxDepth);
+    int argsSize = stream.readInt();
+    if (argsSize < 0) {
+      throw new IOException("args size " + argsSize + " is negative");
+    }
+    int argsRemainingInputLen = stream.getRemainingInputLen();
+    if (argsRemainingInputLen >= 0 && argsRemainingInputLen < argsSize) {
+      throw new IOException(
+          "args size " + argsSize + " exceeds remaining input length " + argsRemainingInputLen);
+    }
+    for (int i = 0; i < argsSize; i++) {
+      SCVal.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "contractAddress", "functionName", "args[*]");
+    if (field.equals("contractAddress")) {
+      SCAddress.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      SCAddress.skip(stream, maxDepth);
+    }
+    if (field.equals("functionName")) {
+      SCSymbol.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      SCSymbol.skip(stream, maxDepth);
+    }
+    if (field.equals("args")) {
+      int argsSize = stream.readInt();
+      if (argsSize < 0) {
+        throw new IOException("args size " + argsSize + " is negative");
+      }
+      int argsRemainingInputLen = stream.getRemainingInputLen();
+      if (argsRemainingInputLen >= 0 && argsRemainingInputLen < argsSize) {
+        throw new IOException(
+            "args size " + argsSize + " exceeds remaining input length " + argsRemainingInputLen);
+      }
+      for (int i = 0; i < argsSize; i++) {
+        SCVal.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int argsSize = stream.readInt();
+      if (argsSize < 0) {
+        throw new IOException("args size " + argsSize + " is negative");
+      }
+      int argsRemainingInputLen = stream.getRemainingInputLen();
+      if (argsRemainingInputLen >= 0 && argsRemainingInputLen < argsSize) {
+        throw new IOException(
+            "args size " + argsSize + " exceeds remaining input length " + argsRemainingInputLen);
+      }
+      for (int i = 0; i < argsSize; i++) {
+        SCVal.skip(stream, maxDepth);
+      }
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static InvokeContractArgs fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static InvokeContractArgs fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static InvokeContractArgs fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
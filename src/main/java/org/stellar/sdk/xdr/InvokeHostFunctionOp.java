@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -56,6 +57,17 @@ public class InvokeHostFunctionOp implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += hostFunction.encodedSize();
+    size += 4;
+    for (int i = 0; i < auth.length; i++) {
+      size += auth[i].encodedSize();
+    }
+    return size;
+  }
+
   public static InvokeHostFunctionOp decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -84,16 +96,118 @@ public class InvokeHostFunctionOp implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static InvokeHostFunctionOp decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    InvokeHostFunctionOp decodedInvokeHostFunctionOp = new InvokeHostFunctionOp();
+    decodedInvokeHostFunctionOp.hostFunction = HostFunction.decode(reader, maxDepth);
+    int authSize = reader.readInt();
+    if (authSize < 0) {
+      throw new IOException("auth size " + authSize + " is negative");
+    }
+    int authRemainingInputLen = reader.getRemainingInputLen();
+    if (authRemainingInputLen >= 0 && authRemainingInputLen < authSize) {
+      throw new IOException(
+          "auth size " + authSize + " exceeds remaining input length " + authRemainingInputLen);
+    }
+    decodedInvokeHostFunctionOp.auth = new SorobanAuthorizationEntry[authSize];
+    for (int i = 0; i < authSize; i++) {
+      decodedInvokeHostFunctionOp.auth[i] = SorobanAuthorizationEntry.decode(reader, maxDepth);
+    }
+    return decodedInvokeHostFunctionOp;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    HostFunction.skip(stream, maxDepth);
+    int authSize = stream.readInt();
+    if (authSize < 0) {
+      throw new IOException("auth size " + authSize + " is negative");
+    }
+    int authRemainingInputLen = stream.getRemainingInputLen();
+    if (authRemainingInputLen >= 0 && authRemainingInputLen < authSize) {
+      throw new IOException(
+          "auth size " + authSize + " exceeds remaining input length " + authRemainingInputLen);
+    }
+    for (int i = 0; i < authSize; i++) {
+      SorobanAuthorizationEntry.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "hostFunction", "auth[*]");
+    if (field.equals("hostFunction")) {
+      HostFunction.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      HostFunction.skip(stream, maxDepth);
+    }
+    if (field.equals("auth")) {
+      int authSize = stream.readInt();
+      if (authSize < 0) {
+        throw new IOException("auth size " + authSize + " is negative");
+      }
+      int authRemainingInputLen = stream.getRemainingInputLen();
+      if (authRemainingInputLen >= 0 && authRemainingInputLen < authSize) {
+        throw new IOException(
+            "auth size " + authSize + " exceeds remaining input length " + authRemainingInputLen);
+      }
+      for (int i = 0; i < authSize; i++) {
+        SorobanAuthorizationEntry.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int authSize = stream.readInt();
+      if (authSize < 0) {
+        throw new IOException("auth size " + authSize + " is negative");
+      }
+      int authRemainingInputLen = stream.getRemainingInputLen();
+      if (authRemainingInputLen >= 0 && authRemainingInputLen < authSize) {
+        throw new IOException(
+            "auth size " + authSize + " exceeds remaining input length " + authRemainingInputLen);
+      }
+      for (int i = 0; i < authSize; i++) {
+        SorobanAuthorizationEntry.skip(stream, maxDepth);
+      }
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static InvokeHostFunctionOp fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static InvokeHostFunctionOp fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static InvokeHostFunctionOp fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
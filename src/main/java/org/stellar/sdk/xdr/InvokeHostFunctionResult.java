@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -65,6 +67,23 @@ public class InvokeHostFunctionResult implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case INVOKE_HOST_FUNCTION_SUCCESS:
+        size += success.encodedSize();
+        break;
+      case INVOKE_HOST_FUNCTION_MALFORMED:
+      case INVOKE_HOST_FUNCTION_TRAPPED:
+      case INVOKE_HOST_FUNCTION_RESOURCE_LIMIT_EXCEEDED:
+      case INVOKE_HOST_FUNCTION_ENTRY_ARCHIVED:
+      case INVOKE_HOST_FUNCTION_INSUFFICIENT_REFUNDABLE_FEE:
+        break;
+    }
+    return size;
+  }
+
   public static InvokeHostFunctionResult decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -95,16 +114,109 @@ public class InvokeHostFunctionResult implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static InvokeHostFunctionResult decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    InvokeHostFunctionResult decodedInvokeHostFunctionResult = new InvokeHostFunctionResult();
+    InvokeHostFunctionResultCode discriminant =
+        InvokeHostFunctionResultCode.decode(reader, maxDepth);
+    decodedInvokeHostFunctionResult.setDiscriminant(discriminant);
+    switch (decodedInvokeHostFunctionResult.getDiscriminant()) {
+      case INVOKE_HOST_FUNCTION_SUCCESS:
+        decodedInvokeHostFunctionResult.success = Hash.decode(reader, maxDepth);
+        break;
+      case INVOKE_HOST_FUNCTION_MALFORMED:
+      case INVOKE_HOST_FUNCTION_TRAPPED:
+      case INVOKE_HOST_FUNCTION_RESOURCE_LIMIT_EXCEEDED:
+      case INVOKE_HOST_FUNCTION_ENTRY_ARCHIVED:
+      case INVOKE_HOST_FUNCTION_INSUFFICIENT_REFUNDABLE_FEE:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedInvokeHostFunctionResult;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    InvokeHostFunctionResultCode discriminant =
+        InvokeHostFunctionResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case INVOKE_HOST_FUNCTION_SUCCESS:
+        Hash.skip(stream, maxDepth);
+        break;
+      case INVOKE_HOST_FUNCTION_MALFORMED:
+      case INVOKE_HOST_FUNCTION_TRAPPED:
+      case INVOKE_HOST_FUNCTION_RESOURCE_LIMIT_EXCEEDED:
+      case INVOKE_HOST_FUNCTION_ENTRY_ARCHIVED:
+      case INVOKE_HOST_FUNCTION_INSUFFICIENT_REFUNDABLE_FEE:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "success");
+    InvokeHostFunctionResultCode discriminant =
+        InvokeHostFunctionResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case INVOKE_HOST_FUNCTION_SUCCESS:
+        if (field.equals("success")) {
+          Hash.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Hash.skip(stream, maxDepth);
+        }
+        break;
+      case INVOKE_HOST_FUNCTION_MALFORMED:
+      case INVOKE_HOST_FUNCTION_TRAPPED:
+      case INVOKE_HOST_FUNCTION_RESOURCE_LIMIT_EXCEEDED:
+      case INVOKE_HOST_FUNCTION_ENTRY_ARCHIVED:
+      case INVOKE_HOST_FUNCTION_INSUFFICIENT_REFUNDABLE_FEE:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static InvokeHostFunctionResult fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static InvokeHostFunctionResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static InvokeHostFunctionResult fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -54,6 +55,17 @@ public class InvokeHostFunctionSuccessPreImage implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += returnValue.encodedSize();
+    size += 4;
+    for (int i = 0; i < events.length; i++) {
+      size += events[i].encodedSize();
+    }
+    return size;
+  }
+
   public static InvokeHostFunctionSuccessPreImage decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -87,16 +99,132 @@ public class InvokeHostFunctionSuccessPreImage implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static InvokeHostFunctionSuccessPreImage decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    InvokeHostFunctionSuccessPreImage decodedInvokeHostFunctionSuccessPreImage =
+        new InvokeHostFunctionSuccessPreImage();
+    decodedInvokeHostFunctionSuccessPreImage.returnValue = SCVal.decode(reader, maxDepth);
+    int eventsSize = reader.readInt();
+    if (eventsSize < 0) {
+      throw new IOException("events size " + eventsSize + " is negative");
+    }
+    int eventsRemainingInputLen = reader.getRemainingInputLen();
+    if (eventsRemainingInputLen >= 0 && eventsRemainingInputLen < eventsSize) {
+      throw new IOException(
+          "events size "
+              + eventsSize
+              + " exceeds remaining input length "
+              + eventsRemainingInputLen);
+    }
+    decodedInvokeHostFunctionSuccessPreImage.events = new ContractEvent[eventsSize];
+    for (int i = 0; i < eventsSize; i++) {
+      decodedInvokeHostFunctionSuccessPreImage.events[i] = ContractEvent.decode(reader, maxDepth);
+    }
+    return decodedInvokeHostFunctionSuccessPreImage;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SCVal.skip(stream, maxDepth);
+    int eventsSize = stream.readInt();
+    if (eventsSize < 0) {
+      throw new IOException("events size " + eventsSize + " is negative");
+    }
+    int eventsRemainingInputLen = stream.getRemainingInputLen();
+    if (eventsRemainingInputLen >= 0 && eventsRemainingInputLen < eventsSize) {
+      throw new IOException(
+          "events size "
+              + eventsSize
+              + " exceeds remaining input length "
+              + eventsRemainingInputLen);
+    }
+    for (int i = 0; i < eventsSize; i++) {
+      ContractEvent.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "returnValue", "events[*]");
+    if (field.equals("returnValue")) {
+      SCVal.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      SCVal.skip(stream, maxDepth);
+    }
+    if (field.equals("events")) {
+      int eventsSize = stream.readInt();
+      if (eventsSize < 0) {
+        throw new IOException("events size " + eventsSize + " is negative");
+      }
+      int eventsRemainingInputLen = stream.getRemainingInputLen();
+      if (eventsRemainingInputLen >= 0 && eventsRemainingInputLen < eventsSize) {
+        throw new IOException(
+            "events size "
+                + eventsSize
+                + " exceeds remaining input length "
+                + eventsRemainingInputLen);
+      }
+      for (int i = 0; i < eventsSize; i++) {
+        ContractEvent.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int eventsSize = stream.readInt();
+      if (eventsSize < 0) {
+        throw new IOException("events size " + eventsSize + " is negative");
+      }
+      int eventsRemainingInputLen = stream.getRemainingInputLen();
+      if (eventsRemainingInputLen >= 0 && eventsRemainingInputLen < eventsSize) {
+        throw new IOException(
+            "events size "
+                + eventsSize
+                + " exceeds remaining input length "
+                + eventsRemainingInputLen);
+      }
+      for (int i = 0; i < eventsSize; i++) {
+        ContractEvent.skip(stream, maxDepth);
+      }
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static InvokeHostFunctionSuccessPreImage fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static InvokeHostFunctionSuccessPreImage fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static InvokeHostFunctionSuccessPreImage fromXdrByteBuffer(ByteBuffer xdr)
+      throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -79,6 +81,23 @@ public class LedgerCloseMeta implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case 0:
+        size += v0.encodedSize();
+        break;
+      case 1:
+        size += v1.encodedSize();
+        break;
+      case 2:
+        size += v2.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static LedgerCloseMeta decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -107,16 +126,114 @@ public class LedgerCloseMeta implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static LedgerCloseMeta decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    LedgerCloseMeta decodedLedgerCloseMeta = new LedgerCloseMeta();
+    Integer discriminant = reader.readInt();
+    decodedLedgerCloseMeta.setDiscriminant(discriminant);
+    switch (decodedLedgerCloseMeta.getDiscriminant()) {
+      case 0:
+        decodedLedgerCloseMeta.v0 = LedgerCloseMetaV0.decode(reader, maxDepth);
+        break;
+      case 1:
+        decodedLedgerCloseMeta.v1 = LedgerCloseMetaV1.decode(reader, maxDepth);
+        break;
+      case 2:
+        decodedLedgerCloseMeta.v2 = LedgerCloseMetaV2.decode(reader, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedLedgerCloseMeta;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int discriminant = stream.readInt();
+    switch (discriminant) {
+      case 0:
+        LedgerCloseMetaV0.skip(stream, maxDepth);
+        break;
+      case 1:
+        LedgerCloseMetaV1.skip(stream, maxDepth);
+        break;
+      case 2:
+        LedgerCloseMetaV2.skip(stream, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "v0", "v1", "v2");
+    int discriminant = stream.readInt();
+    switch (discriminant) {
+      case 0:
+        if (field.equals("v0")) {
+          LedgerCloseMetaV0.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          LedgerCloseMetaV0.skip(stream, maxDepth);
+        }
+        break;
+      case 1:
+        if (field.equals("v1")) {
+          LedgerCloseMetaV1.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          LedgerCloseMetaV1.skip(stream, maxDepth);
+        }
+        break;
+      case 2:
+        if (field.equals("v2")) {
+          LedgerCloseMetaV2.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          LedgerCloseMetaV2.skip(stream, maxDepth);
+        }
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static LedgerCloseMeta fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static LedgerCloseMeta fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static LedgerCloseMeta fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
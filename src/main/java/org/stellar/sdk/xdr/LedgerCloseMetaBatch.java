@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -69,6 +70,18 @@ public class LedgerCloseMetaBatch implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += startSequence.encodedSize();
+    size += endSequence.encodedSize();
+    size += 4;
+    for (int i = 0; i < ledgerCloseMetas.length; i++) {
+      size += ledgerCloseMetas[i].encodedSize();
+    }
+    return size;
+  }
+
   public static LedgerCloseMetaBatch decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -102,16 +115,141 @@ public class LedgerCloseMetaBatch implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static LedgerCloseMetaBatch decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    LedgerCloseMetaBatch decodedLedgerCloseMetaBatch = new LedgerCloseMetaBatch();
+    decodedLedgerCloseMetaBatch.startSequence = Uint32.decode(reader, maxDepth);
+    decodedLedgerCloseMetaBatch.endSequence = Uint32.decode(reader, maxDepth);
+    int ledgerCloseMetasSize = reader.readInt();
+    if (ledgerCloseMetasSize < 0) {
+      throw new IOException("ledgerCloseMetas size " + ledgerCloseMetasSize + " is negative");
+    }
+    int ledgerCloseMetasRemainingInputLen = reader.getRemainingInputLen();
+    if (ledgerCloseMetasRemainingInputLen >= 0
+        && ledgerCloseMetasRemainingInputLen < ledgerCloseMetasSize) {
+      throw new IOException(
+          "ledgerCloseMetas size "
+              + ledgerCloseMetasSize
+              + " exceeds remaining input length "
+              + ledgerCloseMetasRemainingInputLen);
+    }
+    decodedLedgerCloseMetaBatch.ledgerCloseMetas = new LedgerCloseMeta[ledgerCloseMetasSize];
+    for (int i = 0; i < ledgerCloseMetasSize; i++) {
+      decodedLedgerCloseMetaBatch.ledgerCloseMetas[i] = LedgerCloseMeta.decode(reader, maxDepth);
+    }
+    return decodedLedgerCloseMetaBatch;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    int ledgerCloseMetasSize = stream.readInt();
+    if (ledgerCloseMetasSize < 0) {
+      throw new IOException("ledgerCloseMetas size " + ledgerCloseMetasSize + " is negative");
+    }
+    int ledgerCloseMetasRemainingInputLen = stream.getRemainingInputLen();
+    if (ledgerCloseMetasRemainingInputLen >= 0
+        && ledgerCloseMetasRemainingInputLen < ledgerCloseMetasSize) {
+      throw new IOException(
+          "ledgerCloseMetas size "
+              + ledgerCloseMetasSize
+              + " exceeds remaining input length "
+              + ledgerCloseMetasRemainingInputLen);
+    }
+    for (int i = 0; i < ledgerCloseMetasSize; i++) {
+      LedgerCloseMeta.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "startSequence", "endSequence", "ledgerCloseMetas[*]");
+    if (field.equals("startSequence")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("endSequence")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("ledgerCloseMetas")) {
+      int ledgerCloseMetasSize = stream.readInt();
+      if (ledgerCloseMetasSize < 0) {
+        throw new IOException("ledgerCloseMetas size " + ledgerCloseMetasSize + " is negative");
+      }
+      int ledgerCloseMetasRemainingInputLen = stream.getRemainingInputLen();
+      if (ledgerCloseMetasRemainingInputLen >= 0
+          && ledgerCloseMetasRemainingInputLen < ledgerCloseMetasSize) {
+        throw new IOException(
+            "ledgerCloseMetas size "
+                + ledgerCloseMetasSize
+                + " exceeds remaining input length "
+                + ledgerCloseMetasRemainingInputLen);
+      }
+      for (int i = 0; i < ledgerCloseMetasSize; i++) {
+        LedgerCloseMeta.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int ledgerCloseMetasSize = stream.readInt();
+      if (ledgerCloseMetasSize < 0) {
+        throw new IOException("ledgerCloseMetas size " + ledgerCloseMetasSize + " is negative");
+      }
+      int ledgerCloseMetasRemainingInputLen = stream.getRemainingInputLen();
+      if (ledgerCloseMetasRemainingInputLen >= 0
+          && ledgerCloseMetasRemainingInputLen < ledgerCloseMetasSize) {
+        throw new IOException(
+            "ledgerCloseMetas size "
+                + ledgerCloseMetasSize
+                + " exceeds remaining input length "
+                + ledgerCloseMetasRemainingInputLen);
+      }
+      for (int i = 0; i < ledgerCloseMetasSize; i++) {
+        LedgerCloseMeta.skip(stream, maxDepth);
+      }
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static LedgerCloseMetaBatch fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static LedgerCloseMetaBatch fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static LedgerCloseMetaBatch fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -101,6 +102,26 @@ public class LedgerCloseMetaV0 implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += ledgerHeader.encodedSize();
+    size += txSet.encodedSize();
+    size += 4;
+    for (int i = 0; i < txProcessing.length; i++) {
+      size += txProcessing[i].encodedSize();
+    }
+    size += 4;
+    for (int i = 0; i < upgradesProcessing.length; i++) {
+      size += upgradesProcessing[i].encodedSize();
+    }
+    size += 4;
+    for (int i = 0; i < scpInfo.length; i++) {
+      size += scpInfo[i].encodedSize();
+    }
+    return size;
+  }
+
   public static LedgerCloseMetaV0 decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -166,16 +187,276 @@ public class LedgerCloseMetaV0 implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static LedgerCloseMetaV0 decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    LedgerCloseMetaV0 decodedLedgerCloseMetaV0 = new LedgerCloseMetaV0();
+    decodedLedgerCloseMetaV0.ledgerHeader = LedgerHeaderHistoryEntry.decode(reader, maxDepth);
+    decodedLedgerCloseMetaV0.txSet = TransactionSet.decode(reader, maxDepth);
+    int txProcessingSize = reader.readInt();
+    if (txProcessingSize < 0) {
+      throw new IOException("txProcessing size " + txProcessingSize + " is negative");
+    }
+    int txProcessingRemainingInputLen = reader.getRemainingInputLen();
+    if (txProcessingRemainingInputLen >= 0 && txProcessingRemainingInputLen < txProcessingSize) {
+      throw new IOException(
+          "txProcessing size "
+              + txProcessingSize
+              + " exceeds remaining input length "
+              + txProcessingRemainingInputLen);
+    }
+    decodedLedgerCloseMetaV0.txProcessing = new TransactionResultMeta[txProcessingSize];
+    for (int i = 0; i < txProcessingSize; i++) {
+      decodedLedgerCloseMetaV0.txProcessing[i] = TransactionResultMeta.decode(reader, maxDepth);
+    }
+    int upgradesProcessingSize = reader.readInt();
+    if (upgradesProcessingSize < 0) {
+      throw new IOException("upgradesProcessing size " + upgradesProcessingSize + " is negative");
+    }
+    int upgradesProcessingRemainingInputLen = reader.getRemainingInputLen();
+    if (upgradesProcessingRemainingInputLen >= 0
+        && upgradesProcessingRemainingInputLen < upgradesProcessingSize) {
+      throw new IOException(
+          "upgradesProcessing size "
+              + upgradesProcessingSize
+              + " exceeds remaining input length "
+              + upgradesProcessingRemainingInputLen);
+    }
+    decodedLedgerCloseMetaV0.upgradesProcessing = new UpgradeEntryMeta[upgradesProcessingSize];
+    for (int i = 0; i < upgradesProcessingSize; i++) {
+      decodedLedgerCloseMetaV0.upgradesProcessing[i] = UpgradeEntryMeta.decode(reader, maxDepth);
+    }
+    int scpInfoSize = reader.readInt();
+    if (scpInfoSize < 0) {
+      throw new IOException("scpInfo size " + scpInfoSize + " is negative");
+    }
+    int scpInfoRemainingInputLen = reader.getRemainingInputLen();
+    if (scpInfoRemainingInputLen >= 0 && scpInfoRemainingInputLen < scpInfoSize) {
+      throw new IOException(
+          "scpInfo size "
+              + scpInfoSize
+              + " exceeds remaining input length "
+              + scpInfoRemainingInputLen);
+    }
+    decodedLedgerCloseMetaV0.scpInfo = new SCPHistoryEntry[scpInfoSize];
+    for (int i = 0; i < scpInfoSize; i++) {
+      decodedLedgerCloseMetaV0.scpInfo[i] = SCPHistoryEntry.decode(reader, maxDepth);
+    }
+    return decodedLedgerCloseMetaV0;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    LedgerHeaderHistoryEntry.skip(stream, maxDepth);
+    TransactionSet.skip(stream, maxDepth);
+    int txProcessingSize = stream.readInt();
+    if (txProcessingSize < 0) {
+      throw new IOException("txProcessing size " + txProcessingSize + " is negative");
+    }
+    int txProcessingRemainingInputLen = stream.getRemainingInputLen();
+    if (txProcessingRemainingInputLen >= 0 && txProcessingRemainingInputLen < txProcessingSize) {
+      throw new IOException(
+          "txProcessing size "
+              + txProcessingSize
+              + " exceeds remaining input length "
+              + txProcessingRemainingInputLen);
+    }
+    for (int i = 0; i < txProcessingSize; i++) {
+      TransactionResultMeta.skip(stream, maxDepth);
+    }
+    int upgradesProcessingSize = stream.readInt();
+    if (upgradesProcessingSize < 0) {
+      throw new IOException("upgradesProcessing size " + upgradesProcessingSize + " is negative");
+    }
+    int upgradesProcessingRemainingInputLen = stream.getRemainingInputLen();
+    if (upgradesProcessingRemainingInputLen >= 0
+        && upgradesProcessingRemainingInputLen < upgradesProcessingSize) {
+      throw new IOException(
+          "upgradesProcessing size "
+              + upgradesProcessingSize
+              + " exceeds remaining input length "
+              + upgradesProcessingRemainingInputLen);
+    }
+    for (int i = 0; i < upgradesProcessingSize; i++) {
+      UpgradeEntryMeta.skip(stream, maxDepth);
+    }
+    int scpInfoSize = stream.readInt();
+    if (scpInfoSize < 0) {
+      throw new IOException("scpInfo size " + scpInfoSize + " is negative");
+    }
+    int scpInfoRemainingInputLen = stream.getRemainingInputLen();
+    if (scpInfoRemainingInputLen >= 0 && scpInfoRemainingInputLen < scpInfoSize) {
+      throw new IOException(
+          "scpInfo size "
+              + scpInfoSize
+              + " exceeds remaining input length "
+              + scpInfoRemainingInputLen);
+    }
+    for (int i = 0; i < scpInfoSize; i++) {
+      SCPHistoryEntry.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field =
+        path.checkField(
+            index,
+            "ledgerHeader",
+            "txSet",
+            "txProcessing[*]",
+            "upgradesProcessing[*]",
+            "scpInfo[*]");
+    if (field.equals("ledgerHeader")) {
+      LedgerHeaderHistoryEntry.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      LedgerHeaderHistoryEntry.skip(stream, maxDepth);
+    }
+    if (field.equals("txSet")) {
+      TransactionSet.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      TransactionSet.skip(stream, maxDepth);
+    }
+    if (field.equals("txProcessing")) {
+      int txProcessingSize = stream.readInt();
+      if (txProcessingSize < 0) {
+        throw new IOException("txProcessing size " + txProcessingSize + " is negative");
+      }
+      int txProcessingRemainingInputLen = stream.getRemainingInputLen();
+      if (txProcessingRemainingInputLen >= 0 && txProcessingRemainingInputLen < txProcessingSize) {
+        throw new IOException(
+            "txProcessing size "
+                + txProcessingSize
+                + " exceeds remaining input length "
+                + txProcessingRemainingInputLen);
+      }
+      for (int i = 0; i < txProcessingSize; i++) {
+        TransactionResultMeta.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int txProcessingSize = stream.readInt();
+      if (txProcessingSize < 0) {
+        throw new IOException("txProcessing size " + txProcessingSize + " is negative");
+      }
+      int txProcessingRemainingInputLen = stream.getRemainingInputLen();
+      if (txProcessingRemainingInputLen >= 0 && txProcessingRemainingInputLen < txProcessingSize) {
+        throw new IOException(
+            "txProcessing size "
+                + txProcessingSize
+                + " exceeds remaining input length "
+                + txProcessingRemainingInputLen);
+      }
+      for (int i = 0; i < txProcessingSize; i++) {
+        TransactionResultMeta.skip(stream, maxDepth);
+      }
+    }
+    if (field.equals("upgradesProcessing")) {
+      int upgradesProcessingSize = stream.readInt();
+      if (upgradesProcessingSize < 0) {
+        throw new IOException("upgradesProcessing size " + upgradesProcessingSize + " is negative");
+      }
+      int upgradesProcessingRemainingInputLen = stream.getRemainingInputLen();
+      if (upgradesProcessingRemainingInputLen >= 0
+          && upgradesProcessingRemainingInputLen < upgradesProcessingSize) {
+        throw new IOException(
+            "upgradesProcessing size "
+                + upgradesProcessingSize
+                + " exceeds remaining input length "
+                + upgradesProcessingRemainingInputLen);
+      }
+      for (int i = 0; i < upgradesProcessingSize; i++) {
+        UpgradeEntryMeta.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int upgradesProcessingSize = stream.readInt();
+      if (upgradesProcessingSize < 0) {
+        throw new IOException("upgradesProcessing size " + upgradesProcessingSize + " is negative");
+      }
+      int upgradesProcessingRemainingInputLen = stream.getRemainingInputLen();
+      if (upgradesProcessingRemainingInputLen >= 0
+          && upgradesProcessingRemainingInputLen < upgradesProcessingSize) {
+        throw new IOException(
+            "upgradesProcessing size "
+                + upgradesProcessingSize
+                + " exceeds remaining input length "
+                + upgradesProcessingRemainingInputLen);
+      }
+      for (int i = 0; i < upgradesProcessingSize; i++) {
+        UpgradeEntryMeta.skip(stream, maxDepth);
+      }
+    }
+    if (field.equals("scpInfo")) {
+      int scpInfoSize = stream.readInt();
+      if (scpInfoSize < 0) {
+        throw new IOException("scpInfo size " + scpInfoSize + " is negative");
+      }
+      int scpInfoRemainingInputLen = stream.getRemainingInputLen();
+      if (scpInfoRemainingInputLen >= 0 && scpInfoRemainingInputLen < scpInfoSize) {
+        throw new IOException(
+            "scpInfo size "
+                + scpInfoSize
+                + " exceeds remaining input length "
+                + scpInfoRemainingInputLen);
+      }
+      for (int i = 0; i < scpInfoSize; i++) {
+        SCPHistoryEntry.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int scpInfoSize = stream.readInt();
+      if (scpInfoSize < 0) {
+        throw new IOException("scpInfo size " + scpInfoSize + " is negative");
+      }
+      int scpInfoRemainingInputLen = stream.getRemainingInputLen();
+      if (scpInfoRemainingInputLen >= 0 && scpInfoRemainingInputLen < scpInfoSize) {
+        throw new IOException(
+            "scpInfo size "
+                + scpInfoSize
+                + " exceeds remaining input length "
+                + scpInfoRemainingInputLen);
+      }
+      for (int i = 0; i < scpInfoSize; i++) {
+        SCPHistoryEntry.skip(stream, maxDepth);
+      }
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static LedgerCloseMetaV0 fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static LedgerCloseMetaV0 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static LedgerCloseMetaV0 fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
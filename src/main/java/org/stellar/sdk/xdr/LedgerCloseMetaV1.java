@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -157,6 +158,36 @@ public class LedgerCloseMetaV1 implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += ext.encodedSize();
+    size += ledgerHeader.encodedSize();
+    size += txSet.encodedSize();
+    size += 4;
+    for (int i = 0; i < txProcessing.length; i++) {
+      size += txProcessing[i].encodedSize();
+    }
+    size += 4;
+    for (int i = 0; i < upgradesProcessing.length; i++) {
+      size += upgradesProcessing[i].encodedSize();
+    }
+    size += 4;
+    for (int i = 0; i < scpInfo.length; i++) {
+      size += scpInfo[i].encodedSize();
+    }
+    size += totalByteSizeOfLiveSorobanState.encodedSize();
+    size += 4;
+    for (int i = 0; i < evictedKeys.length; i++) {
+      size += evictedKeys[i].encodedSize();
+    }
+    size += 4;
+    for (int i = 0; i < unused.length; i++) {
+      size += unused[i].encodedSize();
+    }
+    return size;
+  }
+
   public static LedgerCloseMetaV1 decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -256,16 +287,422 @@ public class LedgerCloseMetaV1 implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static LedgerCloseMetaV1 decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    LedgerCloseMetaV1 decodedLedgerCloseMetaV1 = new LedgerCloseMetaV1();
+    decodedLedgerCloseMetaV1.ext = LedgerCloseMetaExt.decode(reader, maxDepth);
+    decodedLedgerCloseMetaV1.ledgerHeader = LedgerHeaderHistoryEntry.decode(reader, maxDepth);
+    decodedLedgerCloseMetaV1.txSet = GeneralizedTransactionSet.decode(reader, maxDepth);
+    int txProcessingSize = reader.readInt();
+    if (txProcessingSize < 0) {
+      throw new IOException("txProcessing size " + txProcessingSize + " is negative");
+    }
+    int txProcessingRemainingInputLen = reader.getRemainingInputLen();
+    if (txProcessingRemainingInputLen >= 0 && txProcessingRemainingInputLen < txProcessingSize) {
+      throw new IOException(
+          "txProcessing size "
+              + txProcessingSize
+              + " exceeds remaining input length "
+              + txProcessingRemainingInputLen);
+    }
+    decodedLedgerCloseMetaV1.txProcessing = new TransactionResultMeta[txProcessingSize];
+    for (int i = 0; i < txProcessingSize; i++) {
+      decodedLedgerCloseMetaV1.txProcessing[i] = TransactionResultMeta.decode(reader, maxDepth);
+    }
+    int upgradesProcessingSize = reader.readInt();
+    if (upgradesProcessingSize < 0) {
+      throw new IOException("upgradesProcessing size " + upgradesProcessingSize + " is negative");
+    }
+    int upgradesProcessingRemainingInputLen = reader.getRemainingInputLen();
+    if (upgradesProcessingRemainingInputLen >= 0
+        && upgradesProcessingRemainingInputLen < upgradesProcessingSize) {
+      throw new IOException(
+          "upgradesProcessing size "
+              + upgradesProcessingSize
+              + " exceeds remaining input length "
+              + upgradesProcessingRemainingInputLen);
+    }
+    decodedLedgerCloseMetaV1.upgradesProcessing = new UpgradeEntryMeta[upgradesProcessingSize];
+    for (int i = 0; i < upgradesProcessingSize; i++) {
+      decodedLedgerCloseMetaV1.upgradesProcessing[i] = UpgradeEntryMeta.decode(reader, maxDepth);
+    }
+    int scpInfoSize = reader.readInt();
+    if (scpInfoSize < 0) {
+      throw new IOException("scpInfo size " + scpInfoSize + " is negative");
+    }
+    int scpInfoRemainingInputLen = reader.getRemainingInputLen();
+    if (scpInfoRemainingInputLen >= 0 && scpInfoRemainingInputLen < scpInfoSize) {
+      throw new IOException(
+          "scpInfo size "
+              + scpInfoSize
+              + " exceeds remaining input length "
+              + scpInfoRemainingInputLen);
+    }
+    decodedLedgerCloseMetaV1.scpInfo = new SCPHistoryEntry[scpInfoSize];
+    for (int i = 0; i < scpInfoSize; i++) {
+      decodedLedgerCloseMetaV1.scpInfo[i] = SCPHistoryEntry.decode(reader, maxDepth);
+    }
+    decodedLedgerCloseMetaV1.totalByteSizeOfLiveSorobanState = Uint64.decode(reader, maxDepth);
+    int evictedKeysSize = reader.readInt();
+    if (evictedKeysSize < 0) {
+      throw new IOException("evictedKeys size " + evictedKeysSize + " is negative");
+    }
+    int evictedKeysRemainingInputLen = reader.getRemainingInputLen();
+    if (evictedKeysRemainingInputLen >= 0 && evictedKeysRemainingInputLen < evictedKeysSize) {
+      throw new IOException(
+          "evictedKeys size "
+              + evictedKeysSize
+              + " exceeds remaining input length "
+              + evictedKeysRemainingInputLen);
+    }
+    decodedLedgerCloseMetaV1.evictedKeys = new LedgerKey[evictedKeysSize];
+    for (int i = 0; i < evictedKeysSize; i++) {
+      decodedLedgerCloseMetaV1.evictedKeys[i] = LedgerKey.decode(reader, maxDepth);
+    }
+    int unusedSize = reader.readInt();
+    if (unusedSize < 0) {
+      throw new IOException("unused size " + unusedSize + " is negative");
+    }
+    int unusedRemainingInputLen = reader.getRemainingInputLen();
+    if (unusedRemainingInputLen >= 0 && unusedRemainingInputLen < unusedSize) {
+      throw new IOException(
+          "unused size "
+              + unusedSize
+              + " exceeds remaining input length "
+              + unusedRemainingInputLen);
+    }
+    decodedLedgerCloseMetaV1.unused = new LedgerEntry[unusedSize];
+    for (int i = 0; i < unusedSize; i++) {
+      decodedLedgerCloseMetaV1.unused[i] = LedgerEntry.decode(reader, maxDepth);
+    }
+    return decodedLedgerCloseMetaV1;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    LedgerCloseMetaExt.skip(stream, maxDepth);
+    LedgerHeaderHistoryEntry.skip(stream, maxDepth);
+    GeneralizedTransactionSet.skip(stream, maxDepth);
+    int txProcessingSize = stream.readInt();
+    if (txProcessingSize < 0) {
+      throw new IOException("txProcessing size " + txProcessingSize + " is negative");
+    }
+    int txProcessingRemainingInputLen = stream.getRemainingInputLen();
+    if (txProcessingRemainingInputLen >= 0 && txProcessingRemainingInputLen < txProcessingSize) {
+      throw new IOException(
+          "txProcessing size "
+              + txProcessingSize
+              + " exceeds remaining input length "
+              + txProcessingRemainingInputLen);
+    }
+    for (int i = 0; i < txProcessingSize; i++) {
+      TransactionResultMeta.skip(stream, maxDepth);
+    }
+    int upgradesProcessingSize = stream.readInt();
+    if (upgradesProcessingSize < 0) {
+      throw new IOException("upgradesProcessing size " + upgradesProcessingSize + " is negative");
+    }
+    int upgradesProcessingRemainingInputLen = stream.getRemainingInputLen();
+    if (upgradesProcessingRemainingInputLen >= 0
+        && upgradesProcessingRemainingInputLen < upgradesProcessingSize) {
+      throw new IOException(
+          "upgradesProcessing size "
+              + upgradesProcessingSize
+              + " exceeds remaining input length "
+              + upgradesProcessingRemainingInputLen);
+    }
+    for (int i = 0; i < upgradesProcessingSize; i++) {
+      UpgradeEntryMeta.skip(stream, maxDepth);
+    }
+    int scpInfoSize = stream.readInt();
+    if (scpInfoSize < 0) {
+      throw new IOException("scpInfo size " + scpInfoSize + " is negative");
+    }
+    int scpInfoRemainingInputLen = stream.getRemainingInputLen();
+    if (scpInfoRemainingInputLen >= 0 && scpInfoRemainingInputLen < scpInfoSize) {
+      throw new IOException(
+          "scpInfo size "
+              + scpInfoSize
+              + " exceeds remaining input length "
+              + scpInfoRemainingInputLen);
+    }
+    for (int i = 0; i < scpInfoSize; i++) {
+      SCPHistoryEntry.skip(stream, maxDepth);
+    }
+    Uint64.skip(stream, maxDepth);
+    int evictedKeysSize = stream.readInt();
+    if (evictedKeysSize < 0) {
+      throw new IOException("evictedKeys size " + evictedKeysSize + " is negative");
+    }
+    int evictedKeysRemainingInputLen = stream.getRemainingInputLen();
+    if (evictedKeysRemainingInputLen >= 0 && evictedKeysRemainingInputLen < evictedKeysSize) {
+      throw new IOException(
+          "evictedKeys size "
+              + evictedKeysSize
+              + " exceeds remaining input length "
+              + evictedKeysRemainingInputLen);
+    }
+    for (int i = 0; i < evictedKeysSize; i++) {
+      LedgerKey.skip(stream, maxDepth);
+    }
+    int unusedSize = stream.readInt();
+    if (unusedSize < 0) {
+      throw new IOException("unused size " + unusedSize + " is negative");
+    }
+    int unusedRemainingInputLen = stream.getRemainingInputLen();
+    if (unusedRemainingInputLen >= 0 && unusedRemainingInputLen < unusedSize) {
+      throw new IOException(
+          "unused size "
+              + unusedSize
+              + " exceeds remaining input length "
+              + unusedRemainingInputLen);
+    }
+    for (int i = 0; i < unusedSize; i++) {
+      LedgerEntry.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field =
+        path.checkField(
+            index,
+            "ext",
+            "ledgerHeader",
+            "txSet",
+            "txProcessing[*]",
+            "upgradesProcessing[*]",
+            "scpInfo[*]",
+            "totalByteSizeOfLiveSorobanState",
+            "evictedKeys[*]",
+            "unused[*]");
+    if (field.equals("ext")) {
+      LedgerCloseMetaExt.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      LedgerCloseMetaExt.skip(stream, maxDepth);
+    }
+    if (field.equals("ledgerHeader")) {
+      LedgerHeaderHistoryEntry.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      LedgerHeaderHistoryEntry.skip(stream, maxDepth);
+    }
+    if (field.equals("txSet")) {
+      GeneralizedTransactionSet.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      GeneralizedTransactionSet.skip(stream, maxDepth);
+    }
+    if (field.equals("txProcessing")) {
+      int txProcessingSize = stream.readInt();
+      if (txProcessingSize < 0) {
+        throw new IOException("txProcessing size " + txProcessingSize + " is negative");
+      }
+      int txProcessingRemainingInputLen = stream.getRemainingInputLen();
+      if (txProcessingRemainingInputLen >= 0 && txProcessingRemainingInputLen < txProcessingSize) {
+        throw new IOException(
+            "txProcessing size "
+                + txProcessingSize
+                + " exceeds remaining input length "
+                + txProcessingRemainingInputLen);
+      }
+      for (int i = 0; i < txProcessingSize; i++) {
+        TransactionResultMeta.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int txProcessingSize = stream.readInt();
+      if (txProcessingSize < 0) {
+        throw new IOException("txProcessing size " + txProcessingSize + " is negative");
+      }
+      int txProcessingRemainingInputLen = stream.getRemainingInputLen();
+      if (txProcessingRemainingInputLen >= 0 && txProcessingRemainingInputLen < txProcessingSize) {
+        throw new IOException(
+            "txProcessing size "
+                + txProcessingSize
+                + " exceeds remaining input length "
+                + txProcessingRemainingInputLen);
+      }
+      for (int i = 0; i < txProcessingSize; i++) {
+        TransactionResultMeta.skip(stream, maxDepth);
+      }
+    }
+    if (field.equals("upgradesProcessing")) {
+      int upgradesProcessingSize = stream.readInt();
+      if (upgradesProcessingSize < 0) {
+        throw new IOException("upgradesProcessing size " + upgradesProcessingSize + " is negative");
+      }
+      int upgradesProcessingRemainingInputLen = stream.getRemainingInputLen();
+      if (upgradesProcessingRemainingInputLen >= 0
+          && upgradesProcessingRemainingInputLen < upgradesProcessingSize) {
+        throw new IOException(
+            "upgradesProcessing size "
+                + upgradesProcessingSize
+                + " exceeds remaining input length "
+                + upgradesProcessingRemainingInputLen);
+      }
+      for (int i = 0; i < upgradesProcessingSize; i++) {
+        UpgradeEntryMeta.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int upgradesProcessingSize = stream.readInt();
+      if (upgradesProcessingSize < 0) {
+        throw new IOException("upgradesProcessing size " + upgradesProcessingSize + " is negative");
+      }
+      int upgradesProcessingRemainingInputLen = stream.getRemainingInputLen();
+      if (upgradesProcessingRemainingInputLen >= 0
+          && upgradesProcessingRemainingInputLen < upgradesProcessingSize) {
+        throw new IOException(
+            "upgradesProcessing size "
+                + upgradesProcessingSize
+                + " exceeds remaining input length "
+                + upgradesProcessingRemainingInputLen);
+      }
+      for (int i = 0; i < upgradesProcessingSize; i++) {
+        UpgradeEntryMeta.skip(stream, maxDepth);
+      }
+    }
+    if (field.equals("scpInfo")) {
+      int scpInfoSize = stream.readInt();
+      if (scpInfoSize < 0) {
+        throw new IOException("scpInfo size " + scpInfoSize + " is negative");
+      }
+      int scpInfoRemainingInputLen = stream.getRemainingInputLen();
+      if (scpInfoRemainingInputLen >= 0 && scpInfoRemainingInputLen < scpInfoSize) {
+        throw new IOException(
+            "scpInfo size "
+                + scpInfoSize
+                + " exceeds remaining input length "
+                + scpInfoRemainingInputLen);
+      }
+      for (int i = 0; i < scpInfoSize; i++) {
+        SCPHistoryEntry.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int scpInfoSize = stream.readInt();
+      if (scpInfoSize < 0) {
+        throw new IOException("scpInfo size " + scpInfoSize + " is negative");
+      }
+      int scpInfoRemainingInputLen = stream.getRemainingInputLen();
+      if (scpInfoRemainingInputLen >= 0 && scpInfoRemainingInputLen < scpInfoSize) {
+        throw new IOException(
+            "scpInfo size "
+                + scpInfoSize
+                + " exceeds remaining input length "
+                + scpInfoRemainingInputLen);
+      }
+      for (int i = 0; i < scpInfoSize; i++) {
+        SCPHistoryEntry.skip(stream, maxDepth);
+      }
+    }
+    if (field.equals("totalByteSizeOfLiveSorobanState")) {
+      Uint64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint64.skip(stream, maxDepth);
+    }
+    if (field.equals("evictedKeys")) {
+      int evictedKeysSize = stream.readInt();
+      if (evictedKeysSize < 0) {
+        throw new IOException("evictedKeys size " + evictedKeysSize + " is negative");
+      }
+      int evictedKeysRemainingInputLen = stream.getRemainingInputLen();
+      if (evictedKeysRemainingInputLen >= 0 && evictedKeysRemainingInputLen < evictedKeysSize) {
+        throw new IOException(
+            "evictedKeys size "
+                + evictedKeysSize
+                + " exceeds remaining input length "
+                + evictedKeysRemainingInputLen);
+      }
+      for (int i = 0; i < evictedKeysSize; i++) {
+        LedgerKey.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int evictedKeysSize = stream.readInt();
+      if (evictedKeysSize < 0) {
+        throw new IOException("evictedKeys size " + evictedKeysSize + " is negative");
+      }
+      int evictedKeysRemainingInputLen = stream.getRemainingInputLen();
+      if (evictedKeysRemainingInputLen >= 0 && evictedKeysRemainingInputLen < evictedKeysSize) {
+        throw new IOException(
+            "evictedKeys size "
+                + evictedKeysSize
+                + " exceeds remaining input length "
+                + evictedKeysRemainingInputLen);
+      }
+      for (int i = 0; i < evictedKeysSize; i++) {
+        LedgerKey.skip(stream, maxDepth);
+      }
+    }
+    if (field.equals("unused")) {
+      int unusedSize = stream.readInt();
+      if (unusedSize < 0) {
+        throw new IOException("unused size " + unusedSize + " is negative");
+      }
+      int unusedRemainingInputLen = stream.getRemainingInputLen();
+      if (unusedRemainingInputLen >= 0 && unusedRemainingInputLen < unusedSize) {
+        throw new IOException(
+            "unused size "
+                + unusedSize
+                + " exceeds remaining input length "
+                + unusedRemainingInputLen);
+      }
+      for (int i = 0; i < unusedSize; i++) {
+        LedgerEntry.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int unusedSize = stream.readInt();
+      if (unusedSize < 0) {
+        throw new IOException("unused size " + unusedSize + " is negative");
+      }
+      int unusedRemainingInputLen = stream.getRemainingInputLen();
+      if (unusedRemainingInputLen >= 0 && unusedRemainingInputLen < unusedSize) {
+        throw new IOException(
+            "unused size "
+                + unusedSize
+                + " exceeds remaining input length "
+                + unusedRemainingInputLen);
+      }
+      for (int i = 0; i < unusedSize; i++) {
+        LedgerEntry.skip(stream, maxDepth);
+      }
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static LedgerCloseMetaV1 fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static LedgerCloseMetaV1 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static LedgerCloseMetaV1 fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -92,6 +94,15 @@ public class LedgerEntry implements XdrElement {
     ext.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += lastModifiedLedgerSeq.encodedSize();
+    size += data.encodedSize();
+    size += ext.encodedSize();
+    return size;
+  }
+
   public static LedgerEntry decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -108,16 +119,79 @@ public class LedgerEntry implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static LedgerEntry decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    LedgerEntry decodedLedgerEntry = new LedgerEntry();
+    decodedLedgerEntry.lastModifiedLedgerSeq = Uint32.decode(reader, maxDepth);
+    decodedLedgerEntry.data = LedgerEntryData.decode(reader, maxDepth);
+    decodedLedgerEntry.ext = LedgerEntryExt.decode(reader, maxDepth);
+    return decodedLedgerEntry;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Uint32.skip(stream, maxDepth);
+    LedgerEntryData.skip(stream, maxDepth);
+    LedgerEntryExt.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "lastModifiedLedgerSeq", "data", "ext");
+    if (field.equals("lastModifiedLedgerSeq")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("data")) {
+      LedgerEntryData.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      LedgerEntryData.skip(stream, maxDepth);
+    }
+    if (field.equals("ext")) {
+      LedgerEntryExt.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      LedgerEntryExt.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static LedgerEntry fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static LedgerEntry fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static LedgerEntry fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -305,6 +379,44 @@ public class LedgerEntry implements XdrElement {
       }
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 4;
+      switch (discriminant) {
+        case ACCOUNT:
+          size += account.encodedSize();
+          break;
+        case TRUSTLINE:
+          size += trustLine.encodedSize();
+          break;
+        case OFFER:
+          size += offer.encodedSize();
+          break;
+        case DATA:
+          size += data.encodedSize();
+          break;
+        case CLAIMABLE_BALANCE:
+          size += claimableBalance.encodedSize();
+          break;
+        case LIQUIDITY_POOL:
+          size += liquidityPool.encodedSize();
+          break;
+        case CONTRACT_DATA:
+          size += contractData.encodedSize();
+          break;
+        case CONTRACT_CODE:
+          size += contractCode.encodedSize();
+          break;
+        case CONFIG_SETTING:
+          size += configSetting.encodedSize();
+          break;
+        case TTL:
+          size += ttl.encodedSize();
+          break;
+      }
+      return size;
+    }
+
     public static LedgerEntryData decode(XdrDataInputStream stream, int maxDepth)
         throws IOException {
       if (maxDepth <= 0) {
@@ -355,16 +467,217 @@ public class LedgerEntry implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static LedgerEntryData decode(XdrByteBufferReader reader, int maxDepth)
+        throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      LedgerEntryData decodedLedgerEntryData = new LedgerEntryData();
+      LedgerEntryType discriminant = LedgerEntryType.decode(reader, maxDepth);
+      decodedLedgerEntryData.setDiscriminant(discriminant);
+      switch (decodedLedgerEntryData.getDiscriminant()) {
+        case ACCOUNT:
+          decodedLedgerEntryData.account = AccountEntry.decode(reader, maxDepth);
+          break;
+        case TRUSTLINE:
+          decodedLedgerEntryData.trustLine = TrustLineEntry.decode(reader, maxDepth);
+          break;
+        case OFFER:
+          decodedLedgerEntryData.offer = OfferEntry.decode(reader, maxDepth);
+          break;
+        case DATA:
+          decodedLedgerEntryData.data = DataEntry.decode(reader, maxDepth);
+          break;
+        case CLAIMABLE_BALANCE:
+          decodedLedgerEntryData.claimableBalance = ClaimableBalanceEntry.decode(reader, maxDepth);
+          break;
+        case LIQUIDITY_POOL:
+          decodedLedgerEntryData.liquidityPool = LiquidityPoolEntry.decode(reader, maxDepth);
+          break;
+        case CONTRACT_DATA:
+          decodedLedgerEntryData.contractData = ContractDataEntry.decode(reader, maxDepth);
+          break;
+        case CONTRACT_CODE:
+          decodedLedgerEntryData.contractCode = ContractCodeEntry.decode(reader, maxDepth);
+          break;
+        case CONFIG_SETTING:
+          decodedLedgerEntryData.configSetting = ConfigSettingEntry.decode(reader, maxDepth);
+          break;
+        case TTL:
+          decodedLedgerEntryData.ttl = TTLEntry.decode(reader, maxDepth);
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+      return decodedLedgerEntryData;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      LedgerEntryType discriminant = LedgerEntryType.decode(stream, maxDepth);
+      switch (discriminant) {
+        case ACCOUNT:
+          AccountEntry.skip(stream, maxDepth);
+          break;
+        case TRUSTLINE:
+          TrustLineEntry.skip(stream, maxDepth);
+          break;
+        case OFFER:
+          OfferEntry.skip(stream, maxDepth);
+          break;
+        case DATA:
+          DataEntry.skip(stream, maxDepth);
+          break;
+        case CLAIMABLE_BALANCE:
+          ClaimableBalanceEntry.skip(stream, maxDepth);
+          break;
+        case LIQUIDITY_POOL:
+          LiquidityPoolEntry.skip(stream, maxDepth);
+          break;
+        case CONTRACT_DATA:
+          ContractDataEntry.skip(stream, maxDepth);
+          break;
+        case CONTRACT_CODE:
+          ContractCodeEntry.skip(stream, maxDepth);
+          break;
+        case CONFIG_SETTING:
+          ConfigSettingEntry.skip(stream, maxDepth);
+          break;
+        case TTL:
+          TTLEntry.skip(stream, maxDepth);
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field =
+          path.checkField(
+              index,
+              "account",
+              "trustLine",
+              "offer",
+              "data",
+              "claimableBalance",
+              "liquidityPool",
+              "contractData",
+              "contractCode",
+              "configSetting",
+              "ttl");
+      LedgerEntryType discriminant = LedgerEntryType.decode(stream, maxDepth);
+      switch (discriminant) {
+        case ACCOUNT:
+          if (field.equals("account")) {
+            AccountEntry.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            AccountEntry.skip(stream, maxDepth);
+          }
+          break;
+        case TRUSTLINE:
+          if (field.equals("trustLine")) {
+            TrustLineEntry.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            TrustLineEntry.skip(stream, maxDepth);
+          }
+          break;
+        case OFFER:
+          if (field.equals("offer")) {
+            OfferEntry.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            OfferEntry.skip(stream, maxDepth);
+          }
+          break;
+        case DATA:
+          if (field.equals("data")) {
+            DataEntry.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            DataEntry.skip(stream, maxDepth);
+          }
+          break;
+        case CLAIMABLE_BALANCE:
+          if (field.equals("claimableBalance")) {
+            ClaimableBalanceEntry.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            ClaimableBalanceEntry.skip(stream, maxDepth);
+          }
+          break;
+        case LIQUIDITY_POOL:
+          if (field.equals("liquidityPool")) {
+            LiquidityPoolEntry.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            LiquidityPoolEntry.skip(stream, maxDepth);
+          }
+          break;
+        case CONTRACT_DATA:
+          if (field.equals("contractData")) {
+            ContractDataEntry.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            ContractDataEntry.skip(stream, maxDepth);
+          }
+          break;
+        case CONTRACT_CODE:
+          if (field.equals("contractCode")) {
+            ContractCodeEntry.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            ContractCodeEntry.skip(stream, maxDepth);
+          }
+          break;
+        case CONFIG_SETTING:
+          if (field.equals("configSetting")) {
+            ConfigSettingEntry.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            ConfigSettingEntry.skip(stream, maxDepth);
+          }
+          break;
+        case TTL:
+          if (field.equals("ttl")) {
+            TTLEntry.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            TTLEntry.skip(stream, maxDepth);
+          }
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static LedgerEntryData fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static LedgerEntryData fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static LedgerEntryData fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
@@ -553,6 +866,19 @@ public class LedgerEntry implements XdrElement {
       }
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 4;
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          size += v1.encodedSize();
+          break;
+      }
+      return size;
+    }
+
     public static LedgerEntryExt decode(XdrDataInputStream stream, int maxDepth)
         throws IOException {
       if (maxDepth <= 0) {
@@ -578,16 +904,94 @@ public class LedgerEntry implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static LedgerEntryExt decode(XdrByteBufferReader reader, int maxDepth)
+        throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      LedgerEntryExt decodedLedgerEntryExt = new LedgerEntryExt();
+      Integer discriminant = reader.readInt();
+      decodedLedgerEntryExt.setDiscriminant(discriminant);
+      switch (decodedLedgerEntryExt.getDiscriminant()) {
+        case 0:
+          break;
+        case 1:
+          decodedLedgerEntryExt.v1 = LedgerEntryExtensionV1.decode(reader, maxDepth);
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+      return decodedLedgerEntryExt;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      int discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          LedgerEntryExtensionV1.skip(stream, maxDepth);
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index, "v1");
+      int discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          if (field.equals("v1")) {
+            LedgerEntryExtensionV1.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            LedgerEntryExtensionV1.skip(stream, maxDepth);
+          }
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static LedgerEntryExt fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static LedgerEntryExt fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static LedgerEntryExt fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
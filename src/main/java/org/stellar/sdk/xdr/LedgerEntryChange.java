@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -105,6 +107,29 @@ public class LedgerEntryChange implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case LEDGER_ENTRY_CREATED:
+        size += created.encodedSize();
+        break;
+      case LEDGER_ENTRY_UPDATED:
+        size += updated.encodedSize();
+        break;
+      case LEDGER_ENTRY_REMOVED:
+        size += removed.encodedSize();
+        break;
+      case LEDGER_ENTRY_STATE:
+        size += state.encodedSize();
+        break;
+      case LEDGER_ENTRY_RESTORED:
+        size += restored.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static LedgerEntryChange decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -140,16 +165,140 @@ public class LedgerEntryChange implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static LedgerEntryChange decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    LedgerEntryChange decodedLedgerEntryChange = new LedgerEntryChange();
+    LedgerEntryChangeType discriminant = LedgerEntryChangeType.decode(reader, maxDepth);
+    decodedLedgerEntryChange.setDiscriminant(discriminant);
+    switch (decodedLedgerEntryChange.getDiscriminant()) {
+      case LEDGER_ENTRY_CREATED:
+        decodedLedgerEntryChange.created = LedgerEntry.decode(reader, maxDepth);
+        break;
+      case LEDGER_ENTRY_UPDATED:
+        decodedLedgerEntryChange.updated = LedgerEntry.decode(reader, maxDepth);
+        break;
+      case LEDGER_ENTRY_REMOVED:
+        decodedLedgerEntryChange.removed = LedgerKey.decode(reader, maxDepth);
+        break;
+      case LEDGER_ENTRY_STATE:
+        decodedLedgerEntryChange.state = LedgerEntry.decode(reader, maxDepth);
+        break;
+      case LEDGER_ENTRY_RESTORED:
+        decodedLedgerEntryChange.restored = LedgerEntry.decode(reader, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedLedgerEntryChange;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    LedgerEntryChangeType discriminant = LedgerEntryChangeType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case LEDGER_ENTRY_CREATED:
+        LedgerEntry.skip(stream, maxDepth);
+        break;
+      case LEDGER_ENTRY_UPDATED:
+        LedgerEntry.skip(stream, maxDepth);
+        break;
+      case LEDGER_ENTRY_REMOVED:
+        LedgerKey.skip(stream, maxDepth);
+        break;
+      case LEDGER_ENTRY_STATE:
+        LedgerEntry.skip(stream, maxDepth);
+        break;
+      case LEDGER_ENTRY_RESTORED:
+        LedgerEntry.skip(stream, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "created", "updated", "removed", "state", "restored");
+    LedgerEntryChangeType discriminant = LedgerEntryChangeType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case LEDGER_ENTRY_CREATED:
+        if (field.equals("created")) {
+          LedgerEntry.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          LedgerEntry.skip(stream, maxDepth);
+        }
+        break;
+      case LEDGER_ENTRY_UPDATED:
+        if (field.equals("updated")) {
+          LedgerEntry.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          LedgerEntry.skip(stream, maxDepth);
+        }
+        break;
+      case LEDGER_ENTRY_REMOVED:
+        if (field.equals("removed")) {
+          LedgerKey.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          LedgerKey.skip(stream, maxDepth);
+        }
+        break;
+      case LEDGER_ENTRY_STATE:
+        if (field.equals("state")) {
+          LedgerEntry.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          LedgerEntry.skip(stream, maxDepth);
+        }
+        break;
+      case LEDGER_ENTRY_RESTORED:
+        if (field.equals("restored")) {
+          LedgerEntry.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          LedgerEntry.skip(stream, maxDepth);
+        }
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static LedgerEntryChange fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static LedgerEntryChange fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static LedgerEntryChange fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
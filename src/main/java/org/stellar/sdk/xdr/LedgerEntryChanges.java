@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -38,6 +39,16 @@ public class LedgerEntryChanges implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    for (int i = 0; i < LedgerEntryChanges.length; i++) {
+      size += LedgerEntryChanges[i].encodedSize();
+    }
+    return size;
+  }
+
   public static LedgerEntryChanges decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -69,16 +80,107 @@ public class LedgerEntryChanges implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static LedgerEntryChanges decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    LedgerEntryChanges decodedLedgerEntryChanges = new LedgerEntryChanges();
+    int LedgerEntryChangesSize = reader.readInt();
+    if (LedgerEntryChangesSize < 0) {
+      throw new IOException("LedgerEntryChanges size " + LedgerEntryChangesSize + " is negative");
+    }
+    int LedgerEntryChangesRemainingInputLen = reader.getRemainingInputLen();
+    if (LedgerEntryChangesRemainingInputLen >= 0
+        && LedgerEntryChangesRemainingInputLen < LedgerEntryChangesSize) {
+      throw new IOException(
+          "LedgerEntryChanges size "
+              + LedgerEntryChangesSize
+              + " exceeds remaining input length "
+              + LedgerEntryChangesRemainingInputLen);
+    }
+    decodedLedgerEntryChanges.LedgerEntryChanges = new LedgerEntryChange[LedgerEntryChangesSize];
+    for (int i = 0; i < LedgerEntryChangesSize; i++) {
+      decodedLedgerEntryChanges.LedgerEntryChanges[i] = LedgerEntryChange.decode(reader, maxDepth);
+    }
+    return decodedLedgerEntryChanges;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int LedgerEntryChangesSize = stream.readInt();
+    if (LedgerEntryChangesSize < 0) {
+      throw new IOException("LedgerEntryChanges size " + LedgerEntryChangesSize + " is negative");
+    }
+    int LedgerEntryChangesRemainingInputLen = stream.getRemainingInputLen();
+    if (LedgerEntryChangesRemainingInputLen >= 0
+        && LedgerEntryChangesRemainingInputLen < LedgerEntryChangesSize) {
+      throw new IOException(
+          "LedgerEntryChanges size "
+              + LedgerEntryChangesSize
+              + " exceeds remaining input length "
+              + LedgerEntryChangesRemainingInputLen);
+    }
+    for (int i = 0; i < LedgerEntryChangesSize; i++) {
+      LedgerEntryChange.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int LedgerEntryChangesSize = stream.readInt();
+    if (LedgerEntryChangesSize < 0) {
+      throw new IOException("LedgerEntryChanges size " + LedgerEntryChangesSize + " is negative");
+    }
+    int LedgerEntryChangesRemainingInputLen = stream.getRemainingInputLen();
+    if (LedgerEntryChangesRemainingInputLen >= 0
+        && LedgerEntryChangesRemainingInputLen < LedgerEntryChangesSize) {
+      throw new IOException(
+          "LedgerEntryChanges size "
+              + LedgerEntryChangesSize
+              + " exceeds remaining input length "
+              + LedgerEntryChangesRemainingInputLen);
+    }
+    for (int i = 0; i < LedgerEntryChangesSize; i++) {
+      LedgerEntryChange.extract(stream, maxDepth, path, index, values);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static LedgerEntryChanges fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static LedgerEntryChanges fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static LedgerEntryChanges fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
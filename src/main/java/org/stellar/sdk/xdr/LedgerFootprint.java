@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -58,6 +59,20 @@ public class LedgerFootprint implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    for (int i = 0; i < readOnly.length; i++) {
+      size += readOnly[i].encodedSize();
+    }
+    size += 4;
+    for (int i = 0; i < readWrite.length; i++) {
+      size += readWrite[i].encodedSize();
+    }
+    return size;
+  }
+
   public static LedgerFootprint decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -103,16 +118,187 @@ public class LedgerFootprint implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static LedgerFootprint decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    LedgerFootprint decodedLedgerFootprint = new LedgerFootprint();
+    int readOnlySize = reader.readInt();
+    if (readOnlySize < 0) {
+      throw new IOException("readOnly size " + readOnlySize + " is negative");
+    }
+    int readOnlyRemainingInputLen = reader.getRemainingInputLen();
+    if (readOnlyRemainingInputLen >= 0 && readOnlyRemainingInputLen < readOnlySize) {
+      throw new IOException(
+          "readOnly size "
+              + readOnlySize
+              + " exceeds remaining input length "
+              + readOnlyRemainingInputLen);
+    }
+    decodedLedgerFootprint.readOnly = new LedgerKey[readOnlySize];
+    for (int i = 0; i < readOnlySize; i++) {
+      decodedLedgerFootprint.readOnly[i] = LedgerKey.decode(reader, maxDepth);
+    }
+    int readWriteSize = reader.readInt();
+    if (readWriteSize < 0) {
+      throw new IOException("readWrite size " + readWriteSize + " is negative");
+    }
+    int readWriteRemainingInputLen = reader.getRemainingInputLen();
+    if (readWriteRemainingInputLen >= 0 && readWriteRemainingInputLen < readWriteSize) {
+      throw new IOException(
+          "readWrite size "
+              + readWriteSize
+              + " exceeds remaining input length "
+              + readWriteRemainingInputLen);
+    }
+    decodedLedgerFootprint.readWrite = new LedgerKey[readWriteSize];
+    for (int i = 0; i < readWriteSize; i++) {
+      decodedLedgerFootprint.readWrite[i] = LedgerKey.decode(reader, maxDepth);
+    }
+    return decodedLedgerFootprint;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int readOnlySize = stream.readInt();
+    if (readOnlySize < 0) {
+      throw new IOException("readOnly size " + readOnlySize + " is negative");
+    }
+    int readOnlyRemainingInputLen = stream.getRemainingInputLen();
+    if (readOnlyRemainingInputLen >= 0 && readOnlyRemainingInputLen < readOnlySize) {
+      throw new IOException(
+          "readOnly size "
+              + readOnlySize
+              + " exceeds remaining input length "
+              + readOnlyRemainingInputLen);
+    }
+    for (int i = 0; i < readOnlySize; i++) {
+      LedgerKey.skip(stream, maxDepth);
+    }
+    int readWriteSize = stream.readInt();
+    if (readWriteSize < 0) {
+      throw new IOException("readWrite size " + readWriteSize + " is negative");
+    }
+    int readWriteRemainingInputLen = stream.getRemainingInputLen();
+    if (readWriteRemainingInputLen >= 0 && readWriteRemainingInputLen < readWriteSize) {
+      throw new IOException(
+          "readWrite size "
+              + readWriteSize
+              + " exceeds remaining input length "
+              + readWriteRemainingInputLen);
+    }
+    for (int i = 0; i < readWriteSize; i++) {
+      LedgerKey.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "readOnly[*]", "readWrite[*]");
+    if (field.equals("readOnly")) {
+      int readOnlySize = stream.readInt();
+      if (readOnlySize < 0) {
+        throw new IOException("readOnly size " + readOnlySize + " is negative");
+      }
+      int readOnlyRemainingInputLen = stream.getRemainingInputLen();
+      if (readOnlyRemainingInputLen >= 0 && readOnlyRemainingInputLen < readOnlySize) {
+        throw new IOException(
+            "readOnly size "
+                + readOnlySize
+                + " exceeds remaining input length "
+                + readOnlyRemainingInputLen);
+      }
+      for (int i = 0; i < readOnlySize; i++) {
+        LedgerKey.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int readOnlySize = stream.readInt();
+      if (readOnlySize < 0) {
+        throw new IOException("readOnly size " + readOnlySize + " is negative");
+      }
+      int readOnlyRemainingInputLen = stream.getRemainingInputLen();
+      if (readOnlyRemainingInputLen >= 0 && readOnlyRemainingInputLen < readOnlySize) {
+        throw new IOException(
+            "readOnly size "
+                + readOnlySize
+                + " exceeds remaining input length "
+                + readOnlyRemainingInputLen);
+      }
+      for (int i = 0; i < readOnlySize; i++) {
+        LedgerKey.skip(stream, maxDepth);
+      }
+    }
+    if (field.equals("readWrite")) {
+      int readWriteSize = stream.readInt();
+      if (readWriteSize < 0) {
+        throw new IOException("readWrite size " + readWriteSize + " is negative");
+      }
+      int readWriteRemainingInputLen = stream.getRemainingInputLen();
+      if (readWriteRemainingInputLen >= 0 && readWriteRemainingInputLen < readWriteSize) {
+        throw new IOException(
+            "readWrite size "
+                + readWriteSize
+                + " exceeds remaining input length "
+                + readWriteRemainingInputLen);
+      }
+      for (int i = 0; i < readWriteSize; i++) {
+        LedgerKey.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int readWriteSize = stream.readInt();
+      if (readWriteSize < 0) {
+        throw new IOException("readWrite size " + readWriteSize + " is negative");
+      }
+      int readWriteRemainingInputLen = stream.getRemainingInputLen();
+      if (readWriteRemainingInputLen >= 0 && readWriteRemainingInputLen < readWriteSize) {
+        throw new IOException(
+            "readWrite size "
+                + readWriteSize
+                + " exceeds remaining input length "
+                + readWriteRemainingInputLen);
+      }
+      for (int i = 0; i < readWriteSize; i++) {
+        LedgerKey.skip(stream, maxDepth);
+      }
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static LedgerFootprint fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static LedgerFootprint fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static LedgerFootprint fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -207,6 +208,29 @@ public class LedgerHeader implements XdrElement {
     ext.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += ledgerVersion.encodedSize();
+    size += previousLedgerHash.encodedSize();
+    size += scpValue.encodedSize();
+    size += txSetResultHash.encodedSize();
+    size += bucketListHash.encodedSize();
+    size += ledgerSeq.encodedSize();
+    size += totalCoins.encodedSize();
+    size += feePool.encodedSize();
+    size += inflationSeq.encodedSize();
+    size += idPool.encodedSize();
+    size += baseFee.encodedSize();
+    size += baseReserve.encodedSize();
+    size += maxTxSetSize.encodedSize();
+    for (int i = 0; i < skipList.length; i++) {
+      size += skipList[i].encodedSize();
+    }
+    size += ext.encodedSize();
+    return size;
+  }
+
   public static LedgerHeader decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -239,16 +263,193 @@ public class LedgerHeader implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static LedgerHeader decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    LedgerHeader decodedLedgerHeader = new LedgerHeader();
+    decodedLedgerHeader.ledgerVersion = Uint32.decode(reader, maxDepth);
+    decodedLedgerHeader.previousLedgerHash = Hash.decode(reader, maxDepth);
+    decodedLedgerHeader.scpValue = StellarValue.decode(reader, maxDepth);
+    decodedLedgerHeader.txSetResultHash = Hash.decode(reader, maxDepth);
+    decodedLedgerHeader.bucketListHash = Hash.decode(reader, maxDepth);
+    decodedLedgerHeader.ledgerSeq = Uint32.decode(reader, maxDepth);
+    decodedLedgerHeader.totalCoins = Int64.decode(reader, maxDepth);
+    decodedLedgerHeader.feePool = Int64.decode(reader, maxDepth);
+    decodedLedgerHeader.inflationSeq = Uint32.decode(reader, maxDepth);
+    decodedLedgerHeader.idPool = Uint64.decode(reader, maxDepth);
+    decodedLedgerHeader.baseFee = Uint32.decode(reader, maxDepth);
+    decodedLedgerHeader.baseReserve = Uint32.decode(reader, maxDepth);
+    decodedLedgerHeader.maxTxSetSize = Uint32.decode(reader, maxDepth);
+    int skipListSize = 4;
+    decodedLedgerHeader.skipList = new Hash[skipListSize];
+    for (int i = 0; i < skipListSize; i++) {
+      decodedLedgerHeader.skipList[i] = Hash.decode(reader, maxDepth);
+    }
+    decodedLedgerHeader.ext = LedgerHeaderExt.decode(reader, maxDepth);
+    return decodedLedgerHeader;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Uint32.skip(stream, maxDepth);
+    Hash.skip(stream, maxDepth);
+    StellarValue.skip(stream, maxDepth);
+    Hash.skip(stream, maxDepth);
+    Hash.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    Int64.skip(stream, maxDepth);
+    Int64.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    Uint64.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    int skipListSize = 4;
+    for (int i = 0; i < skipListSize; i++) {
+      Hash.skip(stream, maxDepth);
+    }
+    LedgerHeaderExt.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field =
+        path.checkField(
+            index,
+            "ledgerVersion",
+            "previousLedgerHash",
+            "scpValue",
+            "txSetResultHash",
+            "bucketListHash",
+            "ledgerSeq",
+            "totalCoins",
+            "feePool",
+            "inflationSeq",
+            "idPool",
+            "baseFee",
+            "baseReserve",
+            "maxTxSetSize",
+            "skipList[*]",
+            "ext");
+    if (field.equals("ledgerVersion")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("previousLedgerHash")) {
+      Hash.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Hash.skip(stream, maxDepth);
+    }
+    if (field.equals("scpValue")) {
+      StellarValue.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      StellarValue.skip(stream, maxDepth);
+    }
+    if (field.equals("txSetResultHash")) {
+      Hash.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Hash.skip(stream, maxDepth);
+    }
+    if (field.equals("bucketListHash")) {
+      Hash.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Hash.skip(stream, maxDepth);
+    }
+    if (field.equals("ledgerSeq")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("totalCoins")) {
+      Int64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Int64.skip(stream, maxDepth);
+    }
+    if (field.equals("feePool")) {
+      Int64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Int64.skip(stream, maxDepth);
+    }
+    if (field.equals("inflationSeq")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("idPool")) {
+      Uint64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint64.skip(stream, maxDepth);
+    }
+    if (field.equals("baseFee")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("baseReserve")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("maxTxSetSize")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("skipList")) {
+      int skipListSize = 4;
+      for (int i = 0; i < skipListSize; i++) {
+        Hash.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int skipListSize = 4;
+      for (int i = 0; i < skipListSize; i++) {
+        Hash.skip(stream, maxDepth);
+      }
+    }
+    if (field.equals("ext")) {
+      LedgerHeaderExt.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      LedgerHeaderExt.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static LedgerHeader fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static LedgerHeader fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static LedgerHeader fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -350,6 +551,19 @@ public class LedgerHeader implements XdrElement {
       }
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 4;
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          size += v1.encodedSize();
+          break;
+      }
+      return size;
+    }
+
     public static LedgerHeaderExt decode(XdrDataInputStream stream, int maxDepth)
         throws IOException {
       if (maxDepth <= 0) {
@@ -375,16 +589,94 @@ public class LedgerHeader implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static LedgerHeaderExt decode(XdrByteBufferReader reader, int maxDepth)
+        throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      LedgerHeaderExt decodedLedgerHeaderExt = new LedgerHeaderExt();
+      Integer discriminant = reader.readInt();
+      decodedLedgerHeaderExt.setDiscriminant(discriminant);
+      switch (decodedLedgerHeaderExt.getDiscriminant()) {
+        case 0:
+          break;
+        case 1:
+          decodedLedgerHeaderExt.v1 = LedgerHeaderExtensionV1.decode(reader, maxDepth);
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+      return decodedLedgerHeaderExt;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      int discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          LedgerHeaderExtensionV1.skip(stream, maxDepth);
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index, "v1");
+      int discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          if (field.equals("v1")) {
+            LedgerHeaderExtensionV1.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            LedgerHeaderExtensionV1.skip(stream, maxDepth);
+          }
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static LedgerHeaderExt fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static LedgerHeaderExt fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static LedgerHeaderExt fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
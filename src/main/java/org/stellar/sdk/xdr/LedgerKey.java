@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -211,6 +213,44 @@ public class LedgerKey implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case ACCOUNT:
+        size += account.encodedSize();
+        break;
+      case TRUSTLINE:
+        size += trustLine.encodedSize();
+        break;
+      case OFFER:
+        size += offer.encodedSize();
+        break;
+      case DATA:
+        size += data.encodedSize();
+        break;
+      case CLAIMABLE_BALANCE:
+        size += claimableBalance.encodedSize();
+        break;
+      case LIQUIDITY_POOL:
+        size += liquidityPool.encodedSize();
+        break;
+      case CONTRACT_DATA:
+        size += contractData.encodedSize();
+        break;
+      case CONTRACT_CODE:
+        size += contractCode.encodedSize();
+        break;
+      case CONFIG_SETTING:
+        size += configSetting.encodedSize();
+        break;
+      case TTL:
+        size += ttl.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static LedgerKey decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -260,16 +300,216 @@ public class LedgerKey implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static LedgerKey decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    LedgerKey decodedLedgerKey = new LedgerKey();
+    LedgerEntryType discriminant = LedgerEntryType.decode(reader, maxDepth);
+    decodedLedgerKey.setDiscriminant(discriminant);
+    switch (decodedLedgerKey.getDiscriminant()) {
+      case ACCOUNT:
+        decodedLedgerKey.account = LedgerKeyAccount.decode(reader, maxDepth);
+        break;
+      case TRUSTLINE:
+        decodedLedgerKey.trustLine = LedgerKeyTrustLine.decode(reader, maxDepth);
+        break;
+      case OFFER:
+        decodedLedgerKey.offer = LedgerKeyOffer.decode(reader, maxDepth);
+        break;
+      case DATA:
+        decodedLedgerKey.data = LedgerKeyData.decode(reader, maxDepth);
+        break;
+      case CLAIMABLE_BALANCE:
+        decodedLedgerKey.claimableBalance = LedgerKeyClaimableBalance.decode(reader, maxDepth);
+        break;
+      case LIQUIDITY_POOL:
+        decodedLedgerKey.liquidityPool = LedgerKeyLiquidityPool.decode(reader, maxDepth);
+        break;
+      case CONTRACT_DATA:
+        decodedLedgerKey.contractData = LedgerKeyContractData.decode(reader, maxDepth);
+        break;
+      case CONTRACT_CODE:
+        decodedLedgerKey.contractCode = LedgerKeyContractCode.decode(reader, maxDepth);
+        break;
+      case CONFIG_SETTING:
+        decodedLedgerKey.configSetting = LedgerKeyConfigSetting.decode(reader, maxDepth);
+        break;
+      case TTL:
+        decodedLedgerKey.ttl = LedgerKeyTtl.decode(reader, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedLedgerKey;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    LedgerEntryType discriminant = LedgerEntryType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case ACCOUNT:
+        LedgerKeyAccount.skip(stream, maxDepth);
+        break;
+      case TRUSTLINE:
+        LedgerKeyTrustLine.skip(stream, maxDepth);
+        break;
+      case OFFER:
+        LedgerKeyOffer.skip(stream, maxDepth);
+        break;
+      case DATA:
+        LedgerKeyData.skip(stream, maxDepth);
+        break;
+      case CLAIMABLE_BALANCE:
+        LedgerKeyClaimableBalance.skip(stream, maxDepth);
+        break;
+      case LIQUIDITY_POOL:
+        LedgerKeyLiquidityPool.skip(stream, maxDepth);
+        break;
+      case CONTRACT_DATA:
+        LedgerKeyContractData.skip(stream, maxDepth);
+        break;
+      case CONTRACT_CODE:
+        LedgerKeyContractCode.skip(stream, maxDepth);
+        break;
+      case CONFIG_SETTING:
+        LedgerKeyConfigSetting.skip(stream, maxDepth);
+        break;
+      case TTL:
+        LedgerKeyTtl.skip(stream, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field =
+        path.checkField(
+            index,
+            "account",
+            "trustLine",
+            "offer",
+            "data",
+            "claimableBalance",
+            "liquidityPool",
+            "contractData",
+            "contractCode",
+            "configSetting",
+            "ttl");
+    LedgerEntryType discriminant = LedgerEntryType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case ACCOUNT:
+        if (field.equals("account")) {
+          LedgerKeyAccount.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          LedgerKeyAccount.skip(stream, maxDepth);
+        }
+        break;
+      case TRUSTLINE:
+        if (field.equals("trustLine")) {
+          LedgerKeyTrustLine.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          LedgerKeyTrustLine.skip(stream, maxDepth);
+        }
+        break;
+      case OFFER:
+        if (field.equals("offer")) {
+          LedgerKeyOffer.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          LedgerKeyOffer.skip(stream, maxDepth);
+        }
+        break;
+      case DATA:
+        if (field.equals("data")) {
+          LedgerKeyData.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          LedgerKeyData.skip(stream, maxDepth);
+        }
+        break;
+      case CLAIMABLE_BALANCE:
+        if (field.equals("claimableBalance")) {
+          LedgerKeyClaimableBalance.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          LedgerKeyClaimableBalance.skip(stream, maxDepth);
+        }
+        break;
+      case LIQUIDITY_POOL:
+        if (field.equals("liquidityPool")) {
+          LedgerKeyLiquidityPool.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          LedgerKeyLiquidityPool.skip(stream, maxDepth);
+        }
+        break;
+      case CONTRACT_DATA:
+        if (field.equals("contractData")) {
+          LedgerKeyContractData.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          LedgerKeyContractData.skip(stream, maxDepth);
+        }
+        break;
+      case CONTRACT_CODE:
+        if (field.equals("contractCode")) {
+          LedgerKeyContractCode.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          LedgerKeyContractCode.skip(stream, maxDepth);
+        }
+        break;
+      case CONFIG_SETTING:
+        if (field.equals("configSetting")) {
+          LedgerKeyConfigSetting.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          LedgerKeyConfigSetting.skip(stream, maxDepth);
+        }
+        break;
+      case TTL:
+        if (field.equals("ttl")) {
+          LedgerKeyTtl.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          LedgerKeyTtl.skip(stream, maxDepth);
+        }
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static LedgerKey fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static LedgerKey fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static LedgerKey fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -439,6 +679,13 @@ public class LedgerKey implements XdrElement {
       accountID.encode(stream);
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 0;
+      size += accountID.encodedSize();
+      return size;
+    }
+
     public static LedgerKeyAccount decode(XdrDataInputStream stream, int maxDepth)
         throws IOException {
       if (maxDepth <= 0) {
@@ -454,16 +701,66 @@ public class LedgerKey implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static LedgerKeyAccount decode(XdrByteBufferReader reader, int maxDepth)
+        throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      LedgerKeyAccount decodedLedgerKeyAccount = new LedgerKeyAccount();
+      decodedLedgerKeyAccount.accountID = AccountID.decode(reader, maxDepth);
+      return decodedLedgerKeyAccount;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      AccountID.skip(stream, maxDepth);
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index, "accountID");
+      if (field.equals("accountID")) {
+        AccountID.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        AccountID.skip(stream, maxDepth);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static LedgerKeyAccount fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static LedgerKeyAccount fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static LedgerKeyAccount fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
@@ -527,6 +824,14 @@ public class LedgerKey implements XdrElement {
       asset.encode(stream);
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 0;
+      size += accountID.encodedSize();
+      size += asset.encodedSize();
+      return size;
+    }
+
     public static LedgerKeyTrustLine decode(XdrDataInputStream stream, int maxDepth)
         throws IOException {
       if (maxDepth <= 0) {
@@ -543,16 +848,73 @@ public class LedgerKey implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static LedgerKeyTrustLine decode(XdrByteBufferReader reader, int maxDepth)
+        throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      LedgerKeyTrustLine decodedLedgerKeyTrustLine = new LedgerKeyTrustLine();
+      decodedLedgerKeyTrustLine.accountID = AccountID.decode(reader, maxDepth);
+      decodedLedgerKeyTrustLine.asset = TrustLineAsset.decode(reader, maxDepth);
+      return decodedLedgerKeyTrustLine;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      AccountID.skip(stream, maxDepth);
+      TrustLineAsset.skip(stream, maxDepth);
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index, "accountID", "asset");
+      if (field.equals("accountID")) {
+        AccountID.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        AccountID.skip(stream, maxDepth);
+      }
+      if (field.equals("asset")) {
+        TrustLineAsset.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        TrustLineAsset.skip(stream, maxDepth);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static LedgerKeyTrustLine fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static LedgerKeyTrustLine fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static LedgerKeyTrustLine fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
@@ -618,6 +980,14 @@ public class LedgerKey implements XdrElement {
       offerID.encode(stream);
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 0;
+      size += sellerID.encodedSize();
+      size += offerID.encodedSize();
+      return size;
+    }
+
     public static LedgerKeyOffer decode(XdrDataInputStream stream, int maxDepth)
         throws IOException {
       if (maxDepth <= 0) {
@@ -634,16 +1004,73 @@ public class LedgerKey implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static LedgerKeyOffer decode(XdrByteBufferReader reader, int maxDepth)
+        throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      LedgerKeyOffer decodedLedgerKeyOffer = new LedgerKeyOffer();
+      decodedLedgerKeyOffer.sellerID = AccountID.decode(reader, maxDepth);
+      decodedLedgerKeyOffer.offerID = Int64.decode(reader, maxDepth);
+      return decodedLedgerKeyOffer;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      AccountID.skip(stream, maxDepth);
+      Int64.skip(stream, maxDepth);
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index, "sellerID", "offerID");
+      if (field.equals("sellerID")) {
+        AccountID.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        AccountID.skip(stream, maxDepth);
+      }
+      if (field.equals("offerID")) {
+        Int64.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        Int64.skip(stream, maxDepth);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static LedgerKeyOffer fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static LedgerKeyOffer fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static LedgerKeyOffer fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
@@ -709,6 +1136,14 @@ public class LedgerKey implements XdrElement {
       dataName.encode(stream);
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 0;
+      size += accountID.encodedSize();
+      size += dataName.encodedSize();
+      return size;
+    }
+
     public static LedgerKeyData decode(XdrDataInputStream stream, int maxDepth) throws IOException {
       if (maxDepth <= 0) {
         throw new IOException("Maximum decoding depth reached");
@@ -724,16 +1159,73 @@ public class LedgerKey implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static LedgerKeyData decode(XdrByteBufferReader reader, int maxDepth)
+        throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      LedgerKeyData decodedLedgerKeyData = new LedgerKeyData();
+      decodedLedgerKeyData.accountID = AccountID.decode(reader, maxDepth);
+      decodedLedgerKeyData.dataName = String64.decode(reader, maxDepth);
+      return decodedLedgerKeyData;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      AccountID.skip(stream, maxDepth);
+      String64.skip(stream, maxDepth);
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index, "accountID", "dataName");
+      if (field.equals("accountID")) {
+        AccountID.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        AccountID.skip(stream, maxDepth);
+      }
+      if (field.equals("dataName")) {
+        String64.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        String64.skip(stream, maxDepth);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static LedgerKeyData fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static LedgerKeyData fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static LedgerKeyData fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
@@ -789,6 +1281,13 @@ public class LedgerKey implements XdrElement {
       balanceID.encode(stream);
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 0;
+      size += balanceID.encodedSize();
+      return size;
+    }
+
     public static LedgerKeyClaimableBalance decode(XdrDataInputStream stream, int maxDepth)
         throws IOException {
       if (maxDepth <= 0) {
@@ -804,16 +1303,66 @@ public class LedgerKey implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static LedgerKeyClaimableBalance decode(XdrByteBufferReader reader, int maxDepth)
+        throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      LedgerKeyClaimableBalance decodedLedgerKeyClaimableBalance = new LedgerKeyClaimableBalance();
+      decodedLedgerKeyClaimableBalance.balanceID = ClaimableBalanceID.decode(reader, maxDepth);
+      return decodedLedgerKeyClaimableBalance;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      ClaimableBalanceID.skip(stream, maxDepth);
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index, "balanceID");
+      if (field.equals("balanceID")) {
+        ClaimableBalanceID.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        ClaimableBalanceID.skip(stream, maxDepth);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static LedgerKeyClaimableBalance fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static LedgerKeyClaimableBalance fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static LedgerKeyClaimableBalance fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
@@ -867,6 +1416,13 @@ public class LedgerKey implements XdrElement {
       liquidityPoolID.encode(stream);
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 0;
+      size += liquidityPoolID.encodedSize();
+      return size;
+    }
+
     public static LedgerKeyLiquidityPool decode(XdrDataInputStream stream, int maxDepth)
         throws IOException {
       if (maxDepth <= 0) {
@@ -882,16 +1438,66 @@ public class LedgerKey implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static LedgerKeyLiquidityPool decode(XdrByteBufferReader reader, int maxDepth)
+        throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      LedgerKeyLiquidityPool decodedLedgerKeyLiquidityPool = new LedgerKeyLiquidityPool();
+      decodedLedgerKeyLiquidityPool.liquidityPoolID = PoolID.decode(reader, maxDepth);
+      return decodedLedgerKeyLiquidityPool;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      PoolID.skip(stream, maxDepth);
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index, "liquidityPoolID");
+      if (field.equals("liquidityPoolID")) {
+        PoolID.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        PoolID.skip(stream, maxDepth);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static LedgerKeyLiquidityPool fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static LedgerKeyLiquidityPool fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static LedgerKeyLiquidityPool fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
@@ -965,6 +1571,15 @@ public class LedgerKey implements XdrElement {
       durability.encode(stream);
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 0;
+      size += contract.encodedSize();
+      size += key.encodedSize();
+      size += 4;
+      return size;
+    }
+
     public static LedgerKeyContractData decode(XdrDataInputStream stream, int maxDepth)
         throws IOException {
       if (maxDepth <= 0) {
@@ -982,16 +1597,80 @@ public class LedgerKey implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static LedgerKeyContractData decode(XdrByteBufferReader reader, int maxDepth)
+        throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      LedgerKeyContractData decodedLedgerKeyContractData = new LedgerKeyContractData();
+      decodedLedgerKeyContractData.contract = SCAddress.decode(reader, maxDepth);
+      decodedLedgerKeyContractData.key = SCVal.decode(reader, maxDepth);
+      decodedLedgerKeyContractData.durability = ContractDataDurability.decode(reader, maxDepth);
+      return decodedLedgerKeyContractData;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      SCAddress.skip(stream, maxDepth);
+      SCVal.skip(stream, maxDepth);
+      ContractDataDurability.skip(stream, maxDepth);
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index, "contract", "key", "durability");
+      if (field.equals("contract")) {
+        SCAddress.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        SCAddress.skip(stream, maxDepth);
+      }
+      if (field.equals("key")) {
+        SCVal.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        SCVal.skip(stream, maxDepth);
+      }
+      if (field.equals("durability")) {
+        ContractDataDurability.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        ContractDataDurability.skip(stream, maxDepth);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static LedgerKeyContractData fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static LedgerKeyContractData fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static LedgerKeyContractData fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
@@ -1049,6 +1728,13 @@ public class LedgerKey implements XdrElement {
       hash.encode(stream);
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 0;
+      size += hash.encodedSize();
+      return size;
+    }
+
     public static LedgerKeyContractCode decode(XdrDataInputStream stream, int maxDepth)
         throws IOException {
       if (maxDepth <= 0) {
@@ -1064,16 +1750,66 @@ public class LedgerKey implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static LedgerKeyContractCode decode(XdrByteBufferReader reader, int maxDepth)
+        throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      LedgerKeyContractCode decodedLedgerKeyContractCode = new LedgerKeyContractCode();
+      decodedLedgerKeyContractCode.hash = Hash.decode(reader, maxDepth);
+      return decodedLedgerKeyContractCode;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      Hash.skip(stream, maxDepth);
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index, "hash");
+      if (field.equals("hash")) {
+        Hash.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        Hash.skip(stream, maxDepth);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static LedgerKeyContractCode fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static LedgerKeyContractCode fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static LedgerKeyContractCode fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
@@ -1127,6 +1863,13 @@ public class LedgerKey implements XdrElement {
       configSettingID.encode(stream);
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 0;
+      size += 4;
+      return size;
+    }
+
     public static LedgerKeyConfigSetting decode(XdrDataInputStream stream, int maxDepth)
         throws IOException {
       if (maxDepth <= 0) {
@@ -1142,16 +1885,66 @@ public class LedgerKey implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static LedgerKeyConfigSetting decode(XdrByteBufferReader reader, int maxDepth)
+        throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      LedgerKeyConfigSetting decodedLedgerKeyConfigSetting = new LedgerKeyConfigSetting();
+      decodedLedgerKeyConfigSetting.configSettingID = ConfigSettingID.decode(reader, maxDepth);
+      return decodedLedgerKeyConfigSetting;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      ConfigSettingID.skip(stream, maxDepth);
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index, "configSettingID");
+      if (field.equals("configSettingID")) {
+        ConfigSettingID.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        ConfigSettingID.skip(stream, maxDepth);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static LedgerKeyConfigSetting fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static LedgerKeyConfigSetting fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static LedgerKeyConfigSetting fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
@@ -1206,6 +1999,13 @@ public class LedgerKey implements XdrElement {
       keyHash.encode(stream);
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 0;
+      size += keyHash.encodedSize();
+      return size;
+    }
+
     public static LedgerKeyTtl decode(XdrDataInputStream stream, int maxDepth) throws IOException {
       if (maxDepth <= 0) {
         throw new IOException("Maximum decoding depth reached");
@@ -1220,16 +2020,65 @@ public class LedgerKey implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static LedgerKeyTtl decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      LedgerKeyTtl decodedLedgerKeyTtl = new LedgerKeyTtl();
+      decodedLedgerKeyTtl.keyHash = Hash.decode(reader, maxDepth);
+      return decodedLedgerKeyTtl;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      Hash.skip(stream, maxDepth);
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index, "keyHash");
+      if (field.equals("keyHash")) {
+        Hash.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        Hash.skip(stream, maxDepth);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static LedgerKeyTtl fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static LedgerKeyTtl fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static LedgerKeyTtl fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
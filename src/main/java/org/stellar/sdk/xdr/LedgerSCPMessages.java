@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -54,6 +55,17 @@ public class LedgerSCPMessages implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += ledgerSeq.encodedSize();
+    size += 4;
+    for (int i = 0; i < messages.length; i++) {
+      size += messages[i].encodedSize();
+    }
+    return size;
+  }
+
   public static LedgerSCPMessages decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -85,16 +97,130 @@ public class LedgerSCPMessages implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static LedgerSCPMessages decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    LedgerSCPMessages decodedLedgerSCPMessages = new LedgerSCPMessages();
+    decodedLedgerSCPMessages.ledgerSeq = Uint32.decode(reader, maxDepth);
+    int messagesSize = reader.readInt();
+    if (messagesSize < 0) {
+      throw new IOException("messages size " + messagesSize + " is negative");
+    }
+    int messagesRemainingInputLen = reader.getRemainingInputLen();
+    if (messagesRemainingInputLen >= 0 && messagesRemainingInputLen < messagesSize) {
+      throw new IOException(
+          "messages size "
+              + messagesSize
+              + " exceeds remaining input length "
+              + messagesRemainingInputLen);
+    }
+    decodedLedgerSCPMessages.messages = new SCPEnvelope[messagesSize];
+    for (int i = 0; i < messagesSize; i++) {
+      decodedLedgerSCPMessages.messages[i] = SCPEnvelope.decode(reader, maxDepth);
+    }
+    return decodedLedgerSCPMessages;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Uint32.skip(stream, maxDepth);
+    int messagesSize = stream.readInt();
+    if (messagesSize < 0) {
+      throw new IOException("messages size " + messagesSize + " is negative");
+    }
+    int messagesRemainingInputLen = stream.getRemainingInputLen();
+    if (messagesRemainingInputLen >= 0 && messagesRemainingInputLen < messagesSize) {
+      throw new IOException(
+          "messages size "
+              + messagesSize
+              + " exceeds remaining input length "
+              + messagesRemainingInputLen);
+    }
+    for (int i = 0; i < messagesSize; i++) {
+      SCPEnvelope.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "ledgerSeq", "messages[*]");
+    if (field.equals("ledgerSeq")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("messages")) {
+      int messagesSize = stream.readInt();
+      if (messagesSize < 0) {
+        throw new IOException("messages size " + messagesSize + " is negative");
+      }
+      int messagesRemainingInputLen = stream.getRemainingInputLen();
+      if (messagesRemainingInputLen >= 0 && messagesRemainingInputLen < messagesSize) {
+        throw new IOException(
+            "messages size "
+                + messagesSize
+                + " exceeds remaining input length "
+                + messagesRemainingInputLen);
+      }
+      for (int i = 0; i < messagesSize; i++) {
+        SCPEnvelope.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int messagesSize = stream.readInt();
+      if (messagesSize < 0) {
+        throw new IOException("messages size " + messagesSize + " is negative");
+      }
+      int messagesRemainingInputLen = stream.getRemainingInputLen();
+      if (messagesRemainingInputLen >= 0 && messagesRemainingInputLen < messagesSize) {
+        throw new IOException(
+            "messages size "
+                + messagesSize
+                + " exceeds remaining input length "
+                + messagesRemainingInputLen);
+      }
+      for (int i = 0; i < messagesSize; i++) {
+        SCPEnvelope.skip(stream, maxDepth);
+      }
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static LedgerSCPMessages fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static LedgerSCPMessages fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static LedgerSCPMessages fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -134,6 +136,35 @@ public class LedgerUpgrade implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case LEDGER_UPGRADE_VERSION:
+        size += newLedgerVersion.encodedSize();
+        break;
+      case LEDGER_UPGRADE_BASE_FEE:
+        size += newBaseFee.encodedSize();
+        break;
+      case LEDGER_UPGRADE_MAX_TX_SET_SIZE:
+        size += newMaxTxSetSize.encodedSize();
+        break;
+      case LEDGER_UPGRADE_BASE_RESERVE:
+        size += newBaseReserve.encodedSize();
+        break;
+      case LEDGER_UPGRADE_FLAGS:
+        size += newFlags.encodedSize();
+        break;
+      case LEDGER_UPGRADE_CONFIG:
+        size += newConfig.encodedSize();
+        break;
+      case LEDGER_UPGRADE_MAX_SOROBAN_TX_SET_SIZE:
+        size += newMaxSorobanTxSetSize.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static LedgerUpgrade decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -174,16 +205,174 @@ public class LedgerUpgrade implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static LedgerUpgrade decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    LedgerUpgrade decodedLedgerUpgrade = new LedgerUpgrade();
+    LedgerUpgradeType discriminant = LedgerUpgradeType.decode(reader, maxDepth);
+    decodedLedgerUpgrade.setDiscriminant(discriminant);
+    switch (decodedLedgerUpgrade.getDiscriminant()) {
+      case LEDGER_UPGRADE_VERSION:
+        decodedLedgerUpgrade.newLedgerVersion = Uint32.decode(reader, maxDepth);
+        break;
+      case LEDGER_UPGRADE_BASE_FEE:
+        decodedLedgerUpgrade.newBaseFee = Uint32.decode(reader, maxDepth);
+        break;
+      case LEDGER_UPGRADE_MAX_TX_SET_SIZE:
+        decodedLedgerUpgrade.newMaxTxSetSize = Uint32.decode(reader, maxDepth);
+        break;
+      case LEDGER_UPGRADE_BASE_RESERVE:
+        decodedLedgerUpgrade.newBaseReserve = Uint32.decode(reader, maxDepth);
+        break;
+      case LEDGER_UPGRADE_FLAGS:
+        decodedLedgerUpgrade.newFlags = Uint32.decode(reader, maxDepth);
+        break;
+      case LEDGER_UPGRADE_CONFIG:
+        decodedLedgerUpgrade.newConfig = ConfigUpgradeSetKey.decode(reader, maxDepth);
+        break;
+      case LEDGER_UPGRADE_MAX_SOROBAN_TX_SET_SIZE:
+        decodedLedgerUpgrade.newMaxSorobanTxSetSize = Uint32.decode(reader, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedLedgerUpgrade;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    LedgerUpgradeType discriminant = LedgerUpgradeType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case LEDGER_UPGRADE_VERSION:
+        Uint32.skip(stream, maxDepth);
+        break;
+      case LEDGER_UPGRADE_BASE_FEE:
+        Uint32.skip(stream, maxDepth);
+        break;
+      case LEDGER_UPGRADE_MAX_TX_SET_SIZE:
+        Uint32.skip(stream, maxDepth);
+        break;
+      case LEDGER_UPGRADE_BASE_RESERVE:
+        Uint32.skip(stream, maxDepth);
+        break;
+      case LEDGER_UPGRADE_FLAGS:
+        Uint32.skip(stream, maxDepth);
+        break;
+      case LEDGER_UPGRADE_CONFIG:
+        ConfigUpgradeSetKey.skip(stream, maxDepth);
+        break;
+      case LEDGER_UPGRADE_MAX_SOROBAN_TX_SET_SIZE:
+        Uint32.skip(stream, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field =
+        path.checkField(
+            index,
+            "newLedgerVersion",
+            "newBaseFee",
+            "newMaxTxSetSize",
+            "newBaseReserve",
+            "newFlags",
+            "newConfig",
+            "newMaxSorobanTxSetSize");
+    LedgerUpgradeType discriminant = LedgerUpgradeType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case LEDGER_UPGRADE_VERSION:
+        if (field.equals("newLedgerVersion")) {
+          Uint32.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Uint32.skip(stream, maxDepth);
+        }
+        break;
+      case LEDGER_UPGRADE_BASE_FEE:
+        if (field.equals("newBaseFee")) {
+          Uint32.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Uint32.skip(stream, maxDepth);
+        }
+        break;
+      case LEDGER_UPGRADE_MAX_TX_SET_SIZE:
+        if (field.equals("newMaxTxSetSize")) {
+          Uint32.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Uint32.skip(stream, maxDepth);
+        }
+        break;
+      case LEDGER_UPGRADE_BASE_RESERVE:
+        if (field.equals("newBaseReserve")) {
+          Uint32.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Uint32.skip(stream, maxDepth);
+        }
+        break;
+      case LEDGER_UPGRADE_FLAGS:
+        if (field.equals("newFlags")) {
+          Uint32.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Uint32.skip(stream, maxDepth);
+        }
+        break;
+      case LEDGER_UPGRADE_CONFIG:
+        if (field.equals("newConfig")) {
+          ConfigUpgradeSetKey.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          ConfigUpgradeSetKey.skip(stream, maxDepth);
+        }
+        break;
+      case LEDGER_UPGRADE_MAX_SOROBAN_TX_SET_SIZE:
+        if (field.equals("newMaxSorobanTxSetSize")) {
+          Uint32.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Uint32.skip(stream, maxDepth);
+        }
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static LedgerUpgrade fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static LedgerUpgrade fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static LedgerUpgrade fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -59,6 +61,15 @@ public class LiquidityPoolConstantProductParameters implements XdrElement {
     fee.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += assetA.encodedSize();
+    size += assetB.encodedSize();
+    size += fee.encodedSize();
+    return size;
+  }
+
   public static LiquidityPoolConstantProductParameters decode(
       XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
@@ -78,6 +89,69 @@ public class LiquidityPoolConstantProductParameters implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static LiquidityPoolConstantProductParameters decode(
+      XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    LiquidityPoolConstantProductParameters decodedLiquidityPoolConstantProductParameters =
+        new LiquidityPoolConstantProductParameters();
+    decodedLiquidityPoolConstantProductParameters.assetA = Asset.decode(reader, maxDepth);
+    decodedLiquidityPoolConstantProductParameters.assetB = Asset.decode(reader, maxDepth);
+    decodedLiquidityPoolConstantProductParameters.fee = Int32.decode(reader, maxDepth);
+    return decodedLiquidityPoolConstantProductParameters;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Asset.skip(stream, maxDepth);
+    Asset.skip(stream, maxDepth);
+    Int32.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "assetA", "assetB", "fee");
+    if (field.equals("assetA")) {
+      Asset.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Asset.skip(stream, maxDepth);
+    }
+    if (field.equals("assetB")) {
+      Asset.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Asset.skip(stream, maxDepth);
+    }
+    if (field.equals("fee")) {
+      Int32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Int32.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static LiquidityPoolConstantProductParameters fromXdrBase64(String xdr)
       throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
@@ -86,10 +160,13 @@ public class LiquidityPoolConstantProductParameters implements XdrElement {
 
   public static LiquidityPoolConstantProductParameters fromXdrByteArray(byte[] xdr)
       throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static LiquidityPoolConstantProductParameters fromXdrByteBuffer(ByteBuffer xdr)
+      throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
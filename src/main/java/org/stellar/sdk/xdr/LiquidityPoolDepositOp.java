@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -79,6 +81,17 @@ public class LiquidityPoolDepositOp implements XdrElement {
     maxPrice.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += liquidityPoolID.encodedSize();
+    size += maxAmountA.encodedSize();
+    size += maxAmountB.encodedSize();
+    size += minPrice.encodedSize();
+    size += maxPrice.encodedSize();
+    return size;
+  }
+
   public static LiquidityPoolDepositOp decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -98,16 +111,96 @@ public class LiquidityPoolDepositOp implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static LiquidityPoolDepositOp decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    LiquidityPoolDepositOp decodedLiquidityPoolDepositOp = new LiquidityPoolDepositOp();
+    decodedLiquidityPoolDepositOp.liquidityPoolID = PoolID.decode(reader, maxDepth);
+    decodedLiquidityPoolDepositOp.maxAmountA = Int64.decode(reader, maxDepth);
+    decodedLiquidityPoolDepositOp.maxAmountB = Int64.decode(reader, maxDepth);
+    decodedLiquidityPoolDepositOp.minPrice = Price.decode(reader, maxDepth);
+    decodedLiquidityPoolDepositOp.maxPrice = Price.decode(reader, maxDepth);
+    return decodedLiquidityPoolDepositOp;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    PoolID.skip(stream, maxDepth);
+    Int64.skip(stream, maxDepth);
+    Int64.skip(stream, maxDepth);
+    Price.skip(stream, maxDepth);
+    Price.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field =
+        path.checkField(
+            index, "liquidityPoolID", "maxAmountA", "maxAmountB", "minPrice", "maxPrice");
+    if (field.equals("liquidityPoolID")) {
+      PoolID.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      PoolID.skip(stream, maxDepth);
+    }
+    if (field.equals("maxAmountA")) {
+      Int64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Int64.skip(stream, maxDepth);
+    }
+    if (field.equals("maxAmountB")) {
+      Int64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Int64.skip(stream, maxDepth);
+    }
+    if (field.equals("minPrice")) {
+      Price.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Price.skip(stream, maxDepth);
+    }
+    if (field.equals("maxPrice")) {
+      Price.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Price.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static LiquidityPoolDepositOp fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static LiquidityPoolDepositOp fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static LiquidityPoolDepositOp fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,8 +3,10 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -61,6 +63,25 @@ public class LiquidityPoolDepositResult implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case LIQUIDITY_POOL_DEPOSIT_SUCCESS:
+        break;
+      case LIQUIDITY_POOL_DEPOSIT_MALFORMED:
+      case LIQUIDITY_POOL_DEPOSIT_NO_TRUST:
+      case LIQUIDITY_POOL_DEPOSIT_NOT_AUTHORIZED:
+      case LIQUIDITY_POOL_DEPOSIT_UNDERFUNDED:
+      case LIQUIDITY_POOL_DEPOSIT_LINE_FULL:
+      case LIQUIDITY_POOL_DEPOSIT_BAD_PRICE:
+      case LIQUIDITY_POOL_DEPOSIT_POOL_FULL:
+      case LIQUIDITY_POOL_DEPOSIT_TRUSTLINE_FROZEN:
+        break;
+    }
+    return size;
+  }
+
   public static LiquidityPoolDepositResult decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -93,16 +114,111 @@ public class LiquidityPoolDepositResult implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static LiquidityPoolDepositResult decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    LiquidityPoolDepositResult decodedLiquidityPoolDepositResult = new LiquidityPoolDepositResult();
+    LiquidityPoolDepositResultCode discriminant =
+        LiquidityPoolDepositResultCode.decode(reader, maxDepth);
+    decodedLiquidityPoolDepositResult.setDiscriminant(discriminant);
+    switch (decodedLiquidityPoolDepositResult.getDiscriminant()) {
+      case LIQUIDITY_POOL_DEPOSIT_SUCCESS:
+        break;
+      case LIQUIDITY_POOL_DEPOSIT_MALFORMED:
+      case LIQUIDITY_POOL_DEPOSIT_NO_TRUST:
+      case LIQUIDITY_POOL_DEPOSIT_NOT_AUTHORIZED:
+      case LIQUIDITY_POOL_DEPOSIT_UNDERFUNDED:
+      case LIQUIDITY_POOL_DEPOSIT_LINE_FULL:
+      case LIQUIDITY_POOL_DEPOSIT_BAD_PRICE:
+      case LIQUIDITY_POOL_DEPOSIT_POOL_FULL:
+      case LIQUIDITY_POOL_DEPOSIT_TRUSTLINE_FROZEN:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedLiquidityPoolDepositResult;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    LiquidityPoolDepositResultCode discriminant =
+        LiquidityPoolDepositResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case LIQUIDITY_POOL_DEPOSIT_SUCCESS:
+        break;
+      case LIQUIDITY_POOL_DEPOSIT_MALFORMED:
+      case LIQUIDITY_POOL_DEPOSIT_NO_TRUST:
+      case LIQUIDITY_POOL_DEPOSIT_NOT_AUTHORIZED:
+      case LIQUIDITY_POOL_DEPOSIT_UNDERFUNDED:
+      case LIQUIDITY_POOL_DEPOSIT_LINE_FULL:
+      case LIQUIDITY_POOL_DEPOSIT_BAD_PRICE:
+      case LIQUIDITY_POOL_DEPOSIT_POOL_FULL:
+      case LIQUIDITY_POOL_DEPOSIT_TRUSTLINE_FROZEN:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index);
+    LiquidityPoolDepositResultCode discriminant =
+        LiquidityPoolDepositResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case LIQUIDITY_POOL_DEPOSIT_SUCCESS:
+        break;
+      case LIQUIDITY_POOL_DEPOSIT_MALFORMED:
+      case LIQUIDITY_POOL_DEPOSIT_NO_TRUST:
+      case LIQUIDITY_POOL_DEPOSIT_NOT_AUTHORIZED:
+      case LIQUIDITY_POOL_DEPOSIT_UNDERFUNDED:
+      case LIQUIDITY_POOL_DEPOSIT_LINE_FULL:
+      case LIQUIDITY_POOL_DEPOSIT_BAD_PRICE:
+      case LIQUIDITY_POOL_DEPOSIT_POOL_FULL:
+      case LIQUIDITY_POOL_DEPOSIT_TRUSTLINE_FROZEN:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static LiquidityPoolDepositResult fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static LiquidityPoolDepositResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static LiquidityPoolDepositResult fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
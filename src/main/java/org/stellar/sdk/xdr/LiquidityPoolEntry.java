@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -64,6 +66,14 @@ public class LiquidityPoolEntry implements XdrElement {
     body.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += liquidityPoolID.encodedSize();
+    size += body.encodedSize();
+    return size;
+  }
+
   public static LiquidityPoolEntry decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -80,16 +90,73 @@ public class LiquidityPoolEntry implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static LiquidityPoolEntry decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    LiquidityPoolEntry decodedLiquidityPoolEntry = new LiquidityPoolEntry();
+    decodedLiquidityPoolEntry.liquidityPoolID = PoolID.decode(reader, maxDepth);
+    decodedLiquidityPoolEntry.body = LiquidityPoolEntryBody.decode(reader, maxDepth);
+    return decodedLiquidityPoolEntry;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    PoolID.skip(stream, maxDepth);
+    LiquidityPoolEntryBody.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "liquidityPoolID", "body");
+    if (field.equals("liquidityPoolID")) {
+      PoolID.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      PoolID.skip(stream, maxDepth);
+    }
+    if (field.equals("body")) {
+      LiquidityPoolEntryBody.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      LiquidityPoolEntryBody.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static LiquidityPoolEntry fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static LiquidityPoolEntry fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static LiquidityPoolEntry fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -167,6 +234,17 @@ public class LiquidityPoolEntry implements XdrElement {
       }
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 4;
+      switch (discriminant) {
+        case LIQUIDITY_POOL_CONSTANT_PRODUCT:
+          size += constantProduct.encodedSize();
+          break;
+      }
+      return size;
+    }
+
     public static LiquidityPoolEntryBody decode(XdrDataInputStream stream, int maxDepth)
         throws IOException {
       if (maxDepth <= 0) {
@@ -191,16 +269,89 @@ public class LiquidityPoolEntry implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static LiquidityPoolEntryBody decode(XdrByteBufferReader reader, int maxDepth)
+        throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      LiquidityPoolEntryBody decodedLiquidityPoolEntryBody = new LiquidityPoolEntryBody();
+      LiquidityPoolType discriminant = LiquidityPoolType.decode(reader, maxDepth);
+      decodedLiquidityPoolEntryBody.setDiscriminant(discriminant);
+      switch (decodedLiquidityPoolEntryBody.getDiscriminant()) {
+        case LIQUIDITY_POOL_CONSTANT_PRODUCT:
+          decodedLiquidityPoolEntryBody.constantProduct =
+              LiquidityPoolEntryConstantProduct.decode(reader, maxDepth);
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+      return decodedLiquidityPoolEntryBody;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      LiquidityPoolType discriminant = LiquidityPoolType.decode(stream, maxDepth);
+      switch (discriminant) {
+        case LIQUIDITY_POOL_CONSTANT_PRODUCT:
+          LiquidityPoolEntryConstantProduct.skip(stream, maxDepth);
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index, "constantProduct");
+      LiquidityPoolType discriminant = LiquidityPoolType.decode(stream, maxDepth);
+      switch (discriminant) {
+        case LIQUIDITY_POOL_CONSTANT_PRODUCT:
+          if (field.equals("constantProduct")) {
+            LiquidityPoolEntryConstantProduct.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            LiquidityPoolEntryConstantProduct.skip(stream, maxDepth);
+          }
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static LiquidityPoolEntryBody fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static LiquidityPoolEntryBody fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static LiquidityPoolEntryBody fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
@@ -314,6 +465,17 @@ public class LiquidityPoolEntry implements XdrElement {
         poolSharesTrustLineCount.encode(stream);
       }
 
+      @Override
+      public int encodedSize() {
+        int size = 0;
+        size += params.encodedSize();
+        size += reserveA.encodedSize();
+        size += reserveB.encodedSize();
+        size += totalPoolShares.encodedSize();
+        size += poolSharesTrustLineCount.encodedSize();
+        return size;
+      }
+
       public static LiquidityPoolEntryConstantProduct decode(
           XdrDataInputStream stream, int maxDepth) throws IOException {
         if (maxDepth <= 0) {
@@ -337,6 +499,93 @@ public class LiquidityPoolEntry implements XdrElement {
         return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
       }
 
+      public static LiquidityPoolEntryConstantProduct decode(
+          XdrByteBufferReader reader, int maxDepth) throws IOException {
+        if (maxDepth <= 0) {
+          throw new IOException("Maximum decoding depth reached");
+        }
+        maxDepth -= 1;
+        LiquidityPoolEntryConstantProduct decodedLiquidityPoolEntryConstantProduct =
+            new LiquidityPoolEntryConstantProduct();
+        decodedLiquidityPoolEntryConstantProduct.params =
+            LiquidityPoolConstantProductParameters.decode(reader, maxDepth);
+        decodedLiquidityPoolEntryConstantProduct.reserveA = Int64.decode(reader, maxDepth);
+        decodedLiquidityPoolEntryConstantProduct.reserveB = Int64.decode(reader, maxDepth);
+        decodedLiquidityPoolEntryConstantProduct.totalPoolShares = Int64.decode(reader, maxDepth);
+        decodedLiquidityPoolEntryConstantProduct.poolSharesTrustLineCount =
+            Int64.decode(reader, maxDepth);
+        return decodedLiquidityPoolEntryConstantProduct;
+      }
+
+      public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+        if (maxDepth <= 0) {
+          throw new IOException("Maximum decoding depth reached");
+        }
+        maxDepth -= 1;
+        LiquidityPoolConstantProductParameters.skip(stream, maxDepth);
+        Int64.skip(stream, maxDepth);
+        Int64.skip(stream, maxDepth);
+        Int64.skip(stream, maxDepth);
+        Int64.skip(stream, maxDepth);
+      }
+
+      public static void skip(XdrDataInputStream stream) throws IOException {
+        skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+      }
+
+      static void extract(
+          XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+          throws IOException {
+        if (index == path.size()) {
+          values.add(decode(stream, maxDepth));
+          return;
+        }
+        if (maxDepth <= 0) {
+          throw new IOException("Maximum decoding depth reached");
+        }
+        maxDepth -= 1;
+        String field =
+            path.checkField(
+                index,
+                "params",
+                "reserveA",
+                "reserveB",
+                "totalPoolShares",
+                "poolSharesTrustLineCount");
+        if (field.equals("params")) {
+          LiquidityPoolConstantProductParameters.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          LiquidityPoolConstantProductParameters.skip(stream, maxDepth);
+        }
+        if (field.equals("reserveA")) {
+          Int64.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Int64.skip(stream, maxDepth);
+        }
+        if (field.equals("reserveB")) {
+          Int64.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Int64.skip(stream, maxDepth);
+        }
+        if (field.equals("totalPoolShares")) {
+          Int64.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Int64.skip(stream, maxDepth);
+        }
+        if (field.equals("poolSharesTrustLineCount")) {
+          Int64.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Int64.skip(stream, maxDepth);
+        }
+      }
+
+      public static List<Object> extract(XdrDataInputStream stream, XdrPath path)
+          throws IOException {
+        List<Object> values = new ArrayList<>();
+        extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+        return values;
+      }
+
       public static LiquidityPoolEntryConstantProduct fromXdrBase64(String xdr) throws IOException {
         byte[] bytes = Base64Factory.getInstance().decode(xdr);
         return fromXdrByteArray(bytes);
@@ -344,10 +593,13 @@ public class LiquidityPoolEntry implements XdrElement {
 
       public static LiquidityPoolEntryConstantProduct fromXdrByteArray(byte[] xdr)
           throws IOException {
-        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-        XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-        xdrDataInputStream.setMaxInputLen(xdr.length);
-        return decode(xdrDataInputStream);
+        return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+      }
+
+      public static LiquidityPoolEntryConstantProduct fromXdrByteBuffer(ByteBuffer xdr)
+          throws IOException {
+        XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+        return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
       }
 
       @Override
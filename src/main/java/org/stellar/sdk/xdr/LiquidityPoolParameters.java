@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -53,6 +55,17 @@ public class LiquidityPoolParameters implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case LIQUIDITY_POOL_CONSTANT_PRODUCT:
+        size += constantProduct.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static LiquidityPoolParameters decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -77,16 +90,89 @@ public class LiquidityPoolParameters implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static LiquidityPoolParameters decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    LiquidityPoolParameters decodedLiquidityPoolParameters = new LiquidityPoolParameters();
+    LiquidityPoolType discriminant = LiquidityPoolType.decode(reader, maxDepth);
+    decodedLiquidityPoolParameters.setDiscriminant(discriminant);
+    switch (decodedLiquidityPoolParameters.getDiscriminant()) {
+      case LIQUIDITY_POOL_CONSTANT_PRODUCT:
+        decodedLiquidityPoolParameters.constantProduct =
+            LiquidityPoolConstantProductParameters.decode(reader, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedLiquidityPoolParameters;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    LiquidityPoolType discriminant = LiquidityPoolType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case LIQUIDITY_POOL_CONSTANT_PRODUCT:
+        LiquidityPoolConstantProductParameters.skip(stream, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "constantProduct");
+    LiquidityPoolType discriminant = LiquidityPoolType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case LIQUIDITY_POOL_CONSTANT_PRODUCT:
+        if (field.equals("constantProduct")) {
+          LiquidityPoolConstantProductParameters.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          LiquidityPoolConstantProductParameters.skip(stream, maxDepth);
+        }
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static LiquidityPoolParameters fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static LiquidityPoolParameters fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static LiquidityPoolParameters fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,8 +3,10 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -57,6 +59,23 @@ public class LiquidityPoolWithdrawResult implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case LIQUIDITY_POOL_WITHDRAW_SUCCESS:
+        break;
+      case LIQUIDITY_POOL_WITHDRAW_MALFORMED:
+      case LIQUIDITY_POOL_WITHDRAW_NO_TRUST:
+      case LIQUIDITY_POOL_WITHDRAW_UNDERFUNDED:
+      case LIQUIDITY_POOL_WITHDRAW_LINE_FULL:
+      case LIQUIDITY_POOL_WITHDRAW_UNDER_MINIMUM:
+      case LIQUIDITY_POOL_WITHDRAW_TRUSTLINE_FROZEN:
+        break;
+    }
+    return size;
+  }
+
   public static LiquidityPoolWithdrawResult decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -88,16 +107,106 @@ public class LiquidityPoolWithdrawResult implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static LiquidityPoolWithdrawResult decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    LiquidityPoolWithdrawResult decodedLiquidityPoolWithdrawResult =
+        new LiquidityPoolWithdrawResult();
+    LiquidityPoolWithdrawResultCode discriminant =
+        LiquidityPoolWithdrawResultCode.decode(reader, maxDepth);
+    decodedLiquidityPoolWithdrawResult.setDiscriminant(discriminant);
+    switch (decodedLiquidityPoolWithdrawResult.getDiscriminant()) {
+      case LIQUIDITY_POOL_WITHDRAW_SUCCESS:
+        break;
+      case LIQUIDITY_POOL_WITHDRAW_MALFORMED:
+      case LIQUIDITY_POOL_WITHDRAW_NO_TRUST:
+      case LIQUIDITY_POOL_WITHDRAW_UNDERFUNDED:
+      case LIQUIDITY_POOL_WITHDRAW_LINE_FULL:
+      case LIQUIDITY_POOL_WITHDRAW_UNDER_MINIMUM:
+      case LIQUIDITY_POOL_WITHDRAW_TRUSTLINE_FROZEN:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedLiquidityPoolWithdrawResult;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    LiquidityPoolWithdrawResultCode discriminant =
+        LiquidityPoolWithdrawResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case LIQUIDITY_POOL_WITHDRAW_SUCCESS:
+        break;
+      case LIQUIDITY_POOL_WITHDRAW_MALFORMED:
+      case LIQUIDITY_POOL_WITHDRAW_NO_TRUST:
+      case LIQUIDITY_POOL_WITHDRAW_UNDERFUNDED:
+      case LIQUIDITY_POOL_WITHDRAW_LINE_FULL:
+      case LIQUIDITY_POOL_WITHDRAW_UNDER_MINIMUM:
+      case LIQUIDITY_POOL_WITHDRAW_TRUSTLINE_FROZEN:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index);
+    LiquidityPoolWithdrawResultCode discriminant =
+        LiquidityPoolWithdrawResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case LIQUIDITY_POOL_WITHDRAW_SUCCESS:
+        break;
+      case LIQUIDITY_POOL_WITHDRAW_MALFORMED:
+      case LIQUIDITY_POOL_WITHDRAW_NO_TRUST:
+      case LIQUIDITY_POOL_WITHDRAW_UNDERFUNDED:
+      case LIQUIDITY_POOL_WITHDRAW_LINE_FULL:
+      case LIQUIDITY_POOL_WITHDRAW_UNDER_MINIMUM:
+      case LIQUIDITY_POOL_WITHDRAW_TRUSTLINE_FROZEN:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static LiquidityPoolWithdrawResult fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static LiquidityPoolWithdrawResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static LiquidityPoolWithdrawResult fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
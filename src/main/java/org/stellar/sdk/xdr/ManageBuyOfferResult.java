@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -79,6 +81,30 @@ public class ManageBuyOfferResult implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case MANAGE_BUY_OFFER_SUCCESS:
+        size += success.encodedSize();
+        break;
+      case MANAGE_BUY_OFFER_MALFORMED:
+      case MANAGE_BUY_OFFER_SELL_NO_TRUST:
+      case MANAGE_BUY_OFFER_BUY_NO_TRUST:
+      case MANAGE_BUY_OFFER_SELL_NOT_AUTHORIZED:
+      case MANAGE_BUY_OFFER_BUY_NOT_AUTHORIZED:
+      case MANAGE_BUY_OFFER_LINE_FULL:
+      case MANAGE_BUY_OFFER_UNDERFUNDED:
+      case MANAGE_BUY_OFFER_CROSS_SELF:
+      case MANAGE_BUY_OFFER_SELL_NO_ISSUER:
+      case MANAGE_BUY_OFFER_BUY_NO_ISSUER:
+      case MANAGE_BUY_OFFER_NOT_FOUND:
+      case MANAGE_BUY_OFFER_LOW_RESERVE:
+        break;
+    }
+    return size;
+  }
+
   public static ManageBuyOfferResult decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -115,16 +141,127 @@ public class ManageBuyOfferResult implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static ManageBuyOfferResult decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ManageBuyOfferResult decodedManageBuyOfferResult = new ManageBuyOfferResult();
+    ManageBuyOfferResultCode discriminant = ManageBuyOfferResultCode.decode(reader, maxDepth);
+    decodedManageBuyOfferResult.setDiscriminant(discriminant);
+    switch (decodedManageBuyOfferResult.getDiscriminant()) {
+      case MANAGE_BUY_OFFER_SUCCESS:
+        decodedManageBuyOfferResult.success = ManageOfferSuccessResult.decode(reader, maxDepth);
+        break;
+      case MANAGE_BUY_OFFER_MALFORMED:
+      case MANAGE_BUY_OFFER_SELL_NO_TRUST:
+      case MANAGE_BUY_OFFER_BUY_NO_TRUST:
+      case MANAGE_BUY_OFFER_SELL_NOT_AUTHORIZED:
+      case MANAGE_BUY_OFFER_BUY_NOT_AUTHORIZED:
+      case MANAGE_BUY_OFFER_LINE_FULL:
+      case MANAGE_BUY_OFFER_UNDERFUNDED:
+      case MANAGE_BUY_OFFER_CROSS_SELF:
+      case MANAGE_BUY_OFFER_SELL_NO_ISSUER:
+      case MANAGE_BUY_OFFER_BUY_NO_ISSUER:
+      case MANAGE_BUY_OFFER_NOT_FOUND:
+      case MANAGE_BUY_OFFER_LOW_RESERVE:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedManageBuyOfferResult;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ManageBuyOfferResultCode discriminant = ManageBuyOfferResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case MANAGE_BUY_OFFER_SUCCESS:
+        ManageOfferSuccessResult.skip(stream, maxDepth);
+        break;
+      case MANAGE_BUY_OFFER_MALFORMED:
+      case MANAGE_BUY_OFFER_SELL_NO_TRUST:
+      case MANAGE_BUY_OFFER_BUY_NO_TRUST:
+      case MANAGE_BUY_OFFER_SELL_NOT_AUTHORIZED:
+      case MANAGE_BUY_OFFER_BUY_NOT_AUTHORIZED:
+      case MANAGE_BUY_OFFER_LINE_FULL:
+      case MANAGE_BUY_OFFER_UNDERFUNDED:
+      case MANAGE_BUY_OFFER_CROSS_SELF:
+      case MANAGE_BUY_OFFER_SELL_NO_ISSUER:
+      case MANAGE_BUY_OFFER_BUY_NO_ISSUER:
+      case MANAGE_BUY_OFFER_NOT_FOUND:
+      case MANAGE_BUY_OFFER_LOW_RESERVE:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "success");
+    ManageBuyOfferResultCode discriminant = ManageBuyOfferResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case MANAGE_BUY_OFFER_SUCCESS:
+        if (field.equals("success")) {
+          ManageOfferSuccessResult.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          ManageOfferSuccessResult.skip(stream, maxDepth);
+        }
+        break;
+      case MANAGE_BUY_OFFER_MALFORMED:
+      case MANAGE_BUY_OFFER_SELL_NO_TRUST:
+      case MANAGE_BUY_OFFER_BUY_NO_TRUST:
+      case MANAGE_BUY_OFFER_SELL_NOT_AUTHORIZED:
+      case MANAGE_BUY_OFFER_BUY_NOT_AUTHORIZED:
+      case MANAGE_BUY_OFFER_LINE_FULL:
+      case MANAGE_BUY_OFFER_UNDERFUNDED:
+      case MANAGE_BUY_OFFER_CROSS_SELF:
+      case MANAGE_BUY_OFFER_SELL_NO_ISSUER:
+      case MANAGE_BUY_OFFER_BUY_NO_ISSUER:
+      case MANAGE_BUY_OFFER_NOT_FOUND:
+      case MANAGE_BUY_OFFER_LOW_RESERVE:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static ManageBuyOfferResult fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static ManageBuyOfferResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static ManageBuyOfferResult fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
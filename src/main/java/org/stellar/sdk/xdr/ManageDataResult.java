@@ -3,8 +3,10 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -53,6 +55,21 @@ public class ManageDataResult implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case MANAGE_DATA_SUCCESS:
+        break;
+      case MANAGE_DATA_NOT_SUPPORTED_YET:
+      case MANAGE_DATA_NAME_NOT_FOUND:
+      case MANAGE_DATA_LOW_RESERVE:
+      case MANAGE_DATA_INVALID_NAME:
+        break;
+    }
+    return size;
+  }
+
   public static ManageDataResult decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -80,16 +97,96 @@ public class ManageDataResult implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static ManageDataResult decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ManageDataResult decodedManageDataResult = new ManageDataResult();
+    ManageDataResultCode discriminant = ManageDataResultCode.decode(reader, maxDepth);
+    decodedManageDataResult.setDiscriminant(discriminant);
+    switch (decodedManageDataResult.getDiscriminant()) {
+      case MANAGE_DATA_SUCCESS:
+        break;
+      case MANAGE_DATA_NOT_SUPPORTED_YET:
+      case MANAGE_DATA_NAME_NOT_FOUND:
+      case MANAGE_DATA_LOW_RESERVE:
+      case MANAGE_DATA_INVALID_NAME:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedManageDataResult;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ManageDataResultCode discriminant = ManageDataResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case MANAGE_DATA_SUCCESS:
+        break;
+      case MANAGE_DATA_NOT_SUPPORTED_YET:
+      case MANAGE_DATA_NAME_NOT_FOUND:
+      case MANAGE_DATA_LOW_RESERVE:
+      case MANAGE_DATA_INVALID_NAME:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index);
+    ManageDataResultCode discriminant = ManageDataResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case MANAGE_DATA_SUCCESS:
+        break;
+      case MANAGE_DATA_NOT_SUPPORTED_YET:
+      case MANAGE_DATA_NAME_NOT_FOUND:
+      case MANAGE_DATA_LOW_RESERVE:
+      case MANAGE_DATA_INVALID_NAME:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static ManageDataResult fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static ManageDataResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static ManageDataResult fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -64,6 +65,17 @@ public class ManageOfferSuccessResult implements XdrElement {
     offer.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    for (int i = 0; i < offersClaimed.length; i++) {
+      size += offersClaimed[i].encodedSize();
+    }
+    size += offer.encodedSize();
+    return size;
+  }
+
   public static ManageOfferSuccessResult decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -95,16 +107,132 @@ public class ManageOfferSuccessResult implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static ManageOfferSuccessResult decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ManageOfferSuccessResult decodedManageOfferSuccessResult = new ManageOfferSuccessResult();
+    int offersClaimedSize = reader.readInt();
+    if (offersClaimedSize < 0) {
+      throw new IOException("offersClaimed size " + offersClaimedSize + " is negative");
+    }
+    int offersClaimedRemainingInputLen = reader.getRemainingInputLen();
+    if (offersClaimedRemainingInputLen >= 0 && offersClaimedRemainingInputLen < offersClaimedSize) {
+      throw new IOException(
+          "offersClaimed size "
+              + offersClaimedSize
+              + " exceeds remaining input length "
+              + offersClaimedRemainingInputLen);
+    }
+    decodedManageOfferSuccessResult.offersClaimed = new ClaimAtom[offersClaimedSize];
+    for (int i = 0; i < offersClaimedSize; i++) {
+      decodedManageOfferSuccessResult.offersClaimed[i] = ClaimAtom.decode(reader, maxDepth);
+    }
+    decodedManageOfferSuccessResult.offer = ManageOfferSuccessResultOffer.decode(reader, maxDepth);
+    return decodedManageOfferSuccessResult;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int offersClaimedSize = stream.readInt();
+    if (offersClaimedSize < 0) {
+      throw new IOException("offersClaimed size " + offersClaimedSize + " is negative");
+    }
+    int offersClaimedRemainingInputLen = stream.getRemainingInputLen();
+    if (offersClaimedRemainingInputLen >= 0 && offersClaimedRemainingInputLen < offersClaimedSize) {
+      throw new IOException(
+          "offersClaimed size "
+              + offersClaimedSize
+              + " exceeds remaining input length "
+              + offersClaimedRemainingInputLen);
+    }
+    for (int i = 0; i < offersClaimedSize; i++) {
+      ClaimAtom.skip(stream, maxDepth);
+    }
+    ManageOfferSuccessResultOffer.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "offersClaimed[*]", "offer");
+    if (field.equals("offersClaimed")) {
+      int offersClaimedSize = stream.readInt();
+      if (offersClaimedSize < 0) {
+        throw new IOException("offersClaimed size " + offersClaimedSize + " is negative");
+      }
+      int offersClaimedRemainingInputLen = stream.getRemainingInputLen();
+      if (offersClaimedRemainingInputLen >= 0
+          && offersClaimedRemainingInputLen < offersClaimedSize) {
+        throw new IOException(
+            "offersClaimed size "
+                + offersClaimedSize
+                + " exceeds remaining input length "
+                + offersClaimedRemainingInputLen);
+      }
+      for (int i = 0; i < offersClaimedSize; i++) {
+        ClaimAtom.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int offersClaimedSize = stream.readInt();
+      if (offersClaimedSize < 0) {
+        throw new IOException("offersClaimed size " + offersClaimedSize + " is negative");
+      }
+      int offersClaimedRemainingInputLen = stream.getRemainingInputLen();
+      if (offersClaimedRemainingInputLen >= 0
+          && offersClaimedRemainingInputLen < offersClaimedSize) {
+        throw new IOException(
+            "offersClaimed size "
+                + offersClaimedSize
+                + " exceeds remaining input length "
+                + offersClaimedRemainingInputLen);
+      }
+      for (int i = 0; i < offersClaimedSize; i++) {
+        ClaimAtom.skip(stream, maxDepth);
+      }
+    }
+    if (field.equals("offer")) {
+      ManageOfferSuccessResultOffer.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      ManageOfferSuccessResultOffer.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static ManageOfferSuccessResult fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static ManageOfferSuccessResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static ManageOfferSuccessResult fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -185,6 +313,20 @@ public class ManageOfferSuccessResult implements XdrElement {
       }
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 4;
+      switch (discriminant) {
+        case MANAGE_OFFER_CREATED:
+        case MANAGE_OFFER_UPDATED:
+          size += offer.encodedSize();
+          break;
+        case MANAGE_OFFER_DELETED:
+          break;
+      }
+      return size;
+    }
+
     public static ManageOfferSuccessResultOffer decode(XdrDataInputStream stream, int maxDepth)
         throws IOException {
       if (maxDepth <= 0) {
@@ -213,16 +355,99 @@ public class ManageOfferSuccessResult implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static ManageOfferSuccessResultOffer decode(XdrByteBufferReader reader, int maxDepth)
+        throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      ManageOfferSuccessResultOffer decodedManageOfferSuccessResultOffer =
+          new ManageOfferSuccessResultOffer();
+      ManageOfferEffect discriminant = ManageOfferEffect.decode(reader, maxDepth);
+      decodedManageOfferSuccessResultOffer.setDiscriminant(discriminant);
+      switch (decodedManageOfferSuccessResultOffer.getDiscriminant()) {
+        case MANAGE_OFFER_CREATED:
+        case MANAGE_OFFER_UPDATED:
+          decodedManageOfferSuccessResultOffer.offer = OfferEntry.decode(reader, maxDepth);
+          break;
+        case MANAGE_OFFER_DELETED:
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+      return decodedManageOfferSuccessResultOffer;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      ManageOfferEffect discriminant = ManageOfferEffect.decode(stream, maxDepth);
+      switch (discriminant) {
+        case MANAGE_OFFER_CREATED:
+        case MANAGE_OFFER_UPDATED:
+          OfferEntry.skip(stream, maxDepth);
+          break;
+        case MANAGE_OFFER_DELETED:
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index, "offer");
+      ManageOfferEffect discriminant = ManageOfferEffect.decode(stream, maxDepth);
+      switch (discriminant) {
+        case MANAGE_OFFER_CREATED:
+        case MANAGE_OFFER_UPDATED:
+          if (field.equals("offer")) {
+            OfferEntry.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            OfferEntry.skip(stream, maxDepth);
+          }
+          break;
+        case MANAGE_OFFER_DELETED:
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static ManageOfferSuccessResultOffer fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static ManageOfferSuccessResultOffer fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static ManageOfferSuccessResultOffer fromXdrByteBuffer(ByteBuffer xdr)
+        throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
@@ -3,8 +3,10 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import org.stellar.sdk.Base64Factory;
 
 /**
@@ -104,20 +106,84 @@ public enum ManageSellOfferResultCode implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static ManageSellOfferResultCode decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    // maxDepth is intentionally not checked - enums are leaf types with no recursive decoding
+    int value = reader.readInt();
+    switch (value) {
+      case 0:
+        return MANAGE_SELL_OFFER_SUCCESS;
+      case -1:
+        return MANAGE_SELL_OFFER_MALFORMED;
+      case -2:
+        return MANAGE_SELL_OFFER_SELL_NO_TRUST;
+      case -3:
+        return MANAGE_SELL_OFFER_BUY_NO_TRUST;
+      case -4:
+        return MANAGE_SELL_OFFER_SELL_NOT_AUTHORIZED;
+      case -5:
+        return MANAGE_SELL_OFFER_BUY_NOT_AUTHORIZED;
+      case -6:
+        return MANAGE_SELL_OFFER_LINE_FULL;
+      case -7:
+        return MANAGE_SELL_OFFER_UNDERFUNDED;
+      case -8:
+        return MANAGE_SELL_OFFER_CROSS_SELF;
+      case -9:
+        return MANAGE_SELL_OFFER_SELL_NO_ISSUER;
+      case -10:
+        return MANAGE_SELL_OFFER_BUY_NO_ISSUER;
+      case -11:
+        return MANAGE_SELL_OFFER_NOT_FOUND;
+      case -12:
+        return MANAGE_SELL_OFFER_LOW_RESERVE;
+      default:
+        throw new IllegalArgumentException("Unknown enum value: " + value);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    decode(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    path.checkEnd(index);
+    values.add(decode(stream, maxDepth));
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  @Override
+  public int encodedSize() {
+    return 4;
+  }
+
   public static ManageSellOfferResultCode fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static ManageSellOfferResultCode fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static ManageSellOfferResultCode fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
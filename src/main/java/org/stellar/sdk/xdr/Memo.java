@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -100,6 +102,28 @@ public class Memo implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case MEMO_NONE:
+        break;
+      case MEMO_TEXT:
+        size += text.encodedSize();
+        break;
+      case MEMO_ID:
+        size += id.encodedSize();
+        break;
+      case MEMO_HASH:
+        size += hash.encodedSize();
+        break;
+      case MEMO_RETURN:
+        size += retHash.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static Memo decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -133,16 +157,133 @@ public class Memo implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static Memo decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Memo decodedMemo = new Memo();
+    MemoType discriminant = MemoType.decode(reader, maxDepth);
+    decodedMemo.setDiscriminant(discriminant);
+    switch (decodedMemo.getDiscriminant()) {
+      case MEMO_NONE:
+        break;
+      case MEMO_TEXT:
+        decodedMemo.text = XdrString.decode(reader, maxDepth, 28);
+        break;
+      case MEMO_ID:
+        decodedMemo.id = Uint64.decode(reader, maxDepth);
+        break;
+      case MEMO_HASH:
+        decodedMemo.hash = Hash.decode(reader, maxDepth);
+        break;
+      case MEMO_RETURN:
+        decodedMemo.retHash = Hash.decode(reader, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedMemo;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    MemoType discriminant = MemoType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case MEMO_NONE:
+        break;
+      case MEMO_TEXT:
+        XdrString.skip(stream, maxDepth, 28);
+        break;
+      case MEMO_ID:
+        Uint64.skip(stream, maxDepth);
+        break;
+      case MEMO_HASH:
+        Hash.skip(stream, maxDepth);
+        break;
+      case MEMO_RETURN:
+        Hash.skip(stream, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "text", "id", "hash", "retHash");
+    MemoType discriminant = MemoType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case MEMO_NONE:
+        break;
+      case MEMO_TEXT:
+        if (field.equals("text")) {
+          path.checkEnd(index + 1);
+          values.add(XdrString.decode(stream, maxDepth, 28));
+        } else {
+          XdrString.skip(stream, maxDepth, 28);
+        }
+        break;
+      case MEMO_ID:
+        if (field.equals("id")) {
+          Uint64.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Uint64.skip(stream, maxDepth);
+        }
+        break;
+      case MEMO_HASH:
+        if (field.equals("hash")) {
+          Hash.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Hash.skip(stream, maxDepth);
+        }
+        break;
+      case MEMO_RETURN:
+        if (field.equals("retHash")) {
+          Hash.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Hash.skip(stream, maxDepth);
+        }
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static Memo fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static Memo fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static Memo fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
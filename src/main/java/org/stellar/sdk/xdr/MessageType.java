@@ -3,8 +3,10 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import org.stellar.sdk.Base64Factory;
 
 /**
@@ -139,20 +141,99 @@ public enum MessageType implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static MessageType decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    // maxDepth is intentionally not checked - enums are leaf types with no recursive decoding
+    int value = reader.readInt();
+    switch (value) {
+      case 0:
+        return ERROR_MSG;
+      case 2:
+        return AUTH;
+      case 3:
+        return DONT_HAVE;
+      case 5:
+        return PEERS;
+      case 6:
+        return GET_TX_SET;
+      case 7:
+        return TX_SET;
+      case 17:
+        return GENERALIZED_TX_SET;
+      case 8:
+        return TRANSACTION;
+      case 9:
+        return GET_SCP_QUORUMSET;
+      case 10:
+        return SCP_QUORUMSET;
+      case 11:
+        return SCP_MESSAGE;
+      case 12:
+        return GET_SCP_STATE;
+      case 13:
+        return HELLO;
+      case 16:
+        return SEND_MORE;
+      case 20:
+        return SEND_MORE_EXTENDED;
+      case 18:
+        return FLOOD_ADVERT;
+      case 19:
+        return FLOOD_DEMAND;
+      case 21:
+        return TIME_SLICED_SURVEY_REQUEST;
+      case 22:
+        return TIME_SLICED_SURVEY_RESPONSE;
+      case 23:
+        return TIME_SLICED_SURVEY_START_COLLECTING;
+      case 24:
+        return TIME_SLICED_SURVEY_STOP_COLLECTING;
+      default:
+        throw new IllegalArgumentException("Unknown enum value: " + value);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    decode(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    path.checkEnd(index);
+    values.add(decode(stream, maxDepth));
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  @Override
+  public int encodedSize() {
+    return 4;
+  }
+
   public static MessageType fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static MessageType fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static MessageType fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
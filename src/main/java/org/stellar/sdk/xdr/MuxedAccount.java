@@ -6,7 +6,10 @@ package org.stellar.sdk.xdr;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -72,6 +75,20 @@ public class MuxedAccount implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case KEY_TYPE_ED25519:
+        size += ed25519.encodedSize();
+        break;
+      case KEY_TYPE_MUXED_ED25519:
+        size += med25519.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static MuxedAccount decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -97,16 +114,100 @@ public class MuxedAccount implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static MuxedAccount decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    MuxedAccount decodedMuxedAccount = new MuxedAccount();
+    CryptoKeyType discriminant = CryptoKeyType.decode(reader, maxDepth);
+    decodedMuxedAccount.setDiscriminant(discriminant);
+    switch (decodedMuxedAccount.getDiscriminant()) {
+      case KEY_TYPE_ED25519:
+        decodedMuxedAccount.ed25519 = Uint256.decode(reader, maxDepth);
+        break;
+      case KEY_TYPE_MUXED_ED25519:
+        decodedMuxedAccount.med25519 = MuxedAccountMed25519.decode(reader, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedMuxedAccount;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    CryptoKeyType discriminant = CryptoKeyType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case KEY_TYPE_ED25519:
+        Uint256.skip(stream, maxDepth);
+        break;
+      case KEY_TYPE_MUXED_ED25519:
+        MuxedAccountMed25519.skip(stream, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "ed25519", "med25519");
+    CryptoKeyType discriminant = CryptoKeyType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case KEY_TYPE_ED25519:
+        if (field.equals("ed25519")) {
+          Uint256.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Uint256.skip(stream, maxDepth);
+        }
+        break;
+      case KEY_TYPE_MUXED_ED25519:
+        if (field.equals("med25519")) {
+          MuxedAccountMed25519.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          MuxedAccountMed25519.skip(stream, maxDepth);
+        }
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static MuxedAccount fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static MuxedAccount fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static MuxedAccount fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -197,6 +298,14 @@ public class MuxedAccount implements XdrElement {
       ed25519.encode(stream);
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 0;
+      size += id.encodedSize();
+      size += ed25519.encodedSize();
+      return size;
+    }
+
     public static MuxedAccountMed25519 decode(XdrDataInputStream stream, int maxDepth)
         throws IOException {
       if (maxDepth <= 0) {
@@ -213,16 +322,73 @@ public class MuxedAccount implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static MuxedAccountMed25519 decode(XdrByteBufferReader reader, int maxDepth)
+        throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      MuxedAccountMed25519 decodedMuxedAccountMed25519 = new MuxedAccountMed25519();
+      decodedMuxedAccountMed25519.id = Uint64.decode(reader, maxDepth);
+      decodedMuxedAccountMed25519.ed25519 = Uint256.decode(reader, maxDepth);
+      return decodedMuxedAccountMed25519;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      Uint64.skip(stream, maxDepth);
+      Uint256.skip(stream, maxDepth);
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index, "id", "ed25519");
+      if (field.equals("id")) {
+        Uint64.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        Uint64.skip(stream, maxDepth);
+      }
+      if (field.equals("ed25519")) {
+        Uint256.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        Uint256.skip(stream, maxDepth);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static MuxedAccountMed25519 fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static MuxedAccountMed25519 fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static MuxedAccountMed25519 fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -115,6 +117,17 @@ public class Operation implements XdrElement {
     body.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    if (sourceAccount != null) {
+      size += sourceAccount.encodedSize();
+    }
+    size += body.encodedSize();
+    return size;
+  }
+
   public static Operation decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -133,16 +146,84 @@ public class Operation implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static Operation decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Operation decodedOperation = new Operation();
+    boolean sourceAccountPresent = reader.readXdrBoolean();
+    if (sourceAccountPresent) {
+      decodedOperation.sourceAccount = MuxedAccount.decode(reader, maxDepth);
+    }
+    decodedOperation.body = OperationBody.decode(reader, maxDepth);
+    return decodedOperation;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    boolean sourceAccountPresent = stream.readXdrBoolean();
+    if (sourceAccountPresent) {
+      MuxedAccount.skip(stream, maxDepth);
+    }
+    OperationBody.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "sourceAccount", "body");
+    if (field.equals("sourceAccount")) {
+      boolean sourceAccountPresent = stream.readXdrBoolean();
+      if (sourceAccountPresent) {
+        MuxedAccount.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      boolean sourceAccountPresent = stream.readXdrBoolean();
+      if (sourceAccountPresent) {
+        MuxedAccount.skip(stream, maxDepth);
+      }
+    }
+    if (field.equals("body")) {
+      OperationBody.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      OperationBody.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static Operation fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static Operation fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static Operation fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -535,6 +616,93 @@ public class Operation implements XdrElement {
       }
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 4;
+      switch (discriminant) {
+        case CREATE_ACCOUNT:
+          size += createAccountOp.encodedSize();
+          break;
+        case PAYMENT:
+          size += paymentOp.encodedSize();
+          break;
+        case PATH_PAYMENT_STRICT_RECEIVE:
+          size += pathPaymentStrictReceiveOp.encodedSize();
+          break;
+        case MANAGE_SELL_OFFER:
+          size += manageSellOfferOp.encodedSize();
+          break;
+        case CREATE_PASSIVE_SELL_OFFER:
+          size += createPassiveSellOfferOp.encodedSize();
+          break;
+        case SET_OPTIONS:
+          size += setOptionsOp.encodedSize();
+          break;
+        case CHANGE_TRUST:
+          size += changeTrustOp.encodedSize();
+          break;
+        case ALLOW_TRUST:
+          size += allowTrustOp.encodedSize();
+          break;
+        case ACCOUNT_MERGE:
+          size += destination.encodedSize();
+          break;
+        case INFLATION:
+          break;
+        case MANAGE_DATA:
+          size += manageDataOp.encodedSize();
+          break;
+        case BUMP_SEQUENCE:
+          size += bumpSequenceOp.encodedSize();
+          break;
+        case MANAGE_BUY_OFFER:
+          size += manageBuyOfferOp.encodedSize();
+          break;
+        case PATH_PAYMENT_STRICT_SEND:
+          size += pathPaymentStrictSendOp.encodedSize();
+          break;
+        case CREATE_CLAIMABLE_BALANCE:
+          size += createClaimableBalanceOp.encodedSize();
+          break;
+        case CLAIM_CLAIMABLE_BALANCE:
+          size += claimClaimableBalanceOp.encodedSize();
+          break;
+        case BEGIN_SPONSORING_FUTURE_RESERVES:
+          size += beginSponsoringFutureReservesOp.encodedSize();
+          break;
+        case END_SPONSORING_FUTURE_RESERVES:
+          break;
+        case REVOKE_SPONSORSHIP:
+          size += revokeSponsorshipOp.encodedSize();
+          break;
+        case CLAWBACK:
+          size += clawbackOp.encodedSize();
+          break;
+        case CLAWBACK_CLAIMABLE_BALANCE:
+          size += clawbackClaimableBalanceOp.encodedSize();
+          break;
+        case SET_TRUST_LINE_FLAGS:
+          size += setTrustLineFlagsOp.encodedSize();
+          break;
+        case LIQUIDITY_POOL_DEPOSIT:
+          size += liquidityPoolDepositOp.encodedSize();
+          break;
+        case LIQUIDITY_POOL_WITHDRAW:
+          size += liquidityPoolWithdrawOp.encodedSize();
+          break;
+        case INVOKE_HOST_FUNCTION:
+          size += invokeHostFunctionOp.encodedSize();
+          break;
+        case EXTEND_FOOTPRINT_TTL:
+          size += extendFootprintTTLOp.encodedSize();
+          break;
+        case RESTORE_FOOTPRINT:
+          size += restoreFootprintOp.encodedSize();
+          break;
+      }
+      return size;
+    }
+
     public static OperationBody decode(XdrDataInputStream stream, int maxDepth) throws IOException {
       if (maxDepth <= 0) {
         throw new IOException("Maximum decoding depth reached");
@@ -642,16 +810,448 @@ public class Operation implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static OperationBody decode(XdrByteBufferReader reader, int maxDepth)
+        throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      OperationBody decodedOperationBody = new OperationBody();
+      OperationType discriminant = OperationType.decode(reader, maxDepth);
+      decodedOperationBody.setDiscriminant(discriminant);
+      switch (decodedOperationBody.getDiscriminant()) {
+        case CREATE_ACCOUNT:
+          decodedOperationBody.createAccountOp = CreateAccountOp.decode(reader, maxDepth);
+          break;
+        case PAYMENT:
+          decodedOperationBody.paymentOp = PaymentOp.decode(reader, maxDepth);
+          break;
+        case PATH_PAYMENT_STRICT_RECEIVE:
+          decodedOperationBody.pathPaymentStrictReceiveOp =
+              PathPaymentStrictReceiveOp.decode(reader, maxDepth);
+          break;
+        case MANAGE_SELL_OFFER:
+          decodedOperationBody.manageSellOfferOp = ManageSellOfferOp.decode(reader, maxDepth);
+          break;
+        case CREATE_PASSIVE_SELL_OFFER:
+          decodedOperationBody.createPassiveSellOfferOp =
+              CreatePassiveSellOfferOp.decode(reader, maxDepth);
+          break;
+        case SET_OPTIONS:
+          decodedOperationBody.setOptionsOp = SetOptionsOp.decode(reader, maxDepth);
+          break;
+        case CHANGE_TRUST:
+          decodedOperationBody.changeTrustOp = ChangeTrustOp.decode(reader, maxDepth);
+          break;
+        case ALLOW_TRUST:
+          decodedOperationBody.allowTrustOp = AllowTrustOp.decode(reader, maxDepth);
+          break;
+        case ACCOUNT_MERGE:
+          decodedOperationBody.destination = MuxedAccount.decode(reader, maxDepth);
+          break;
+        case INFLATION:
+          break;
+        case MANAGE_DATA:
+          decodedOperationBody.manageDataOp = ManageDataOp.decode(reader, maxDepth);
+          break;
+        case BUMP_SEQUENCE:
+          decodedOperationBody.bumpSequenceOp = BumpSequenceOp.decode(reader, maxDepth);
+          break;
+        case MANAGE_BUY_OFFER:
+          decodedOperationBody.manageBuyOfferOp = ManageBuyOfferOp.decode(reader, maxDepth);
+          break;
+        case PATH_PAYMENT_STRICT_SEND:
+          decodedOperationBody.pathPaymentStrictSendOp =
+              PathPaymentStrictSendOp.decode(reader, maxDepth);
+          break;
+        case CREATE_CLAIMABLE_BALANCE:
+          decodedOperationBody.createClaimableBalanceOp =
+              CreateClaimableBalanceOp.decode(reader, maxDepth);
+          break;
+        case CLAIM_CLAIMABLE_BALANCE:
+          decodedOperationBody.claimClaimableBalanceOp =
+              ClaimClaimableBalanceOp.decode(reader, maxDepth);
+          break;
+        case BEGIN_SPONSORING_FUTURE_RESERVES:
+          decodedOperationBody.beginSponsoringFutureReservesOp =
+              BeginSponsoringFutureReservesOp.decode(reader, maxDepth);
+          break;
+        case END_SPONSORING_FUTURE_RESERVES:
+          break;
+        case REVOKE_SPONSORSHIP:
+          decodedOperationBody.revokeSponsorshipOp = RevokeSponsorshipOp.decode(reader, maxDepth);
+          break;
+        case CLAWBACK:
+          decodedOperationBody.clawbackOp = ClawbackOp.decode(reader, maxDepth);
+          break;
+        case CLAWBACK_CLAIMABLE_BALANCE:
+          decodedOperationBody.clawbackClaimableBalanceOp =
+              ClawbackClaimableBalanceOp.decode(reader, maxDepth);
+          break;
+        case SET_TRUST_LINE_FLAGS:
+          decodedOperationBody.setTrustLineFlagsOp = SetTrustLineFlagsOp.decode(reader, maxDepth);
+          break;
+        case LIQUIDITY_POOL_DEPOSIT:
+          decodedOperationBody.liquidityPoolDepositOp =
+              LiquidityPoolDepositOp.decode(reader, maxDepth);
+          break;
+        case LIQUIDITY_POOL_WITHDRAW:
+          decodedOperationBody.liquidityPoolWithdrawOp =
+              LiquidityPoolWithdrawOp.decode(reader, maxDepth);
+          break;
+        case INVOKE_HOST_FUNCTION:
+          decodedOperationBody.invokeHostFunctionOp = InvokeHostFunctionOp.decode(reader, maxDepth);
+          break;
+        case EXTEND_FOOTPRINT_TTL:
+          decodedOperationBody.extendFootprintTTLOp = ExtendFootprintTTLOp.decode(reader, maxDepth);
+          break;
+        case RESTORE_FOOTPRINT:
+          decodedOperationBody.restoreFootprintOp = RestoreFootprintOp.decode(reader, maxDepth);
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+      return decodedOperationBody;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      OperationType discriminant = OperationType.decode(stream, maxDepth);
+      switch (discriminant) {
+        case CREATE_ACCOUNT:
+          CreateAccountOp.skip(stream, maxDepth);
+          break;
+        case PAYMENT:
+          PaymentOp.skip(stream, maxDepth);
+          break;
+        case PATH_PAYMENT_STRICT_RECEIVE:
+          PathPaymentStrictReceiveOp.skip(stream, maxDepth);
+          break;
+        case MANAGE_SELL_OFFER:
+          ManageSellOfferOp.skip(stream, maxDepth);
+          break;
+        case CREATE_PASSIVE_SELL_OFFER:
+          CreatePassiveSellOfferOp.skip(stream, maxDepth);
+          break;
+        case SET_OPTIONS:
+          SetOptionsOp.skip(stream, maxDepth);
+          break;
+        case CHANGE_TRUST:
+          ChangeTrustOp.skip(stream, maxDepth);
+          break;
+        case ALLOW_TRUST:
+          AllowTrustOp.skip(stream, maxDepth);
+          break;
+        case ACCOUNT_MERGE:
+          MuxedAccount.skip(stream, maxDepth);
+          break;
+        case INFLATION:
+          break;
+        case MANAGE_DATA:
+          ManageDataOp.skip(stream, maxDepth);
+          break;
+        case BUMP_SEQUENCE:
+          BumpSequenceOp.skip(stream, maxDepth);
+          break;
+        case MANAGE_BUY_OFFER:
+          ManageBuyOfferOp.skip(stream, maxDepth);
+          break;
+        case PATH_PAYMENT_STRICT_SEND:
+          PathPaymentStrictSendOp.skip(stream, maxDepth);
+          break;
+        case CREATE_CLAIMABLE_BALANCE:
+          CreateClaimableBalanceOp.skip(stream, maxDepth);
+          break;
+        case CLAIM_CLAIMABLE_BALANCE:
+          ClaimClaimableBalanceOp.skip(stream, maxDepth);
+          break;
+        case BEGIN_SPONSORING_FUTURE_RESERVES:
+          BeginSponsoringFutureReservesOp.skip(stream, maxDepth);
+          break;
+        case END_SPONSORING_FUTURE_RESERVES:
+          break;
+        case REVOKE_SPONSORSHIP:
+          RevokeSponsorshipOp.skip(stream, maxDepth);
+          break;
+        case CLAWBACK:
+          ClawbackOp.skip(stream, maxDepth);
+          break;
+        case CLAWBACK_CLAIMABLE_BALANCE:
+          ClawbackClaimableBalanceOp.skip(stream, maxDepth);
+          break;
+        case SET_TRUST_LINE_FLAGS:
+          SetTrustLineFlagsOp.skip(stream, maxDepth);
+          break;
+        case LIQUIDITY_POOL_DEPOSIT:
+          LiquidityPoolDepositOp.skip(stream, maxDepth);
+          break;
+        case LIQUIDITY_POOL_WITHDRAW:
+          LiquidityPoolWithdrawOp.skip(stream, maxDepth);
+          break;
+        case INVOKE_HOST_FUNCTION:
+          InvokeHostFunctionOp.skip(stream, maxDepth);
+          break;
+        case EXTEND_FOOTPRINT_TTL:
+          ExtendFootprintTTLOp.skip(stream, maxDepth);
+          break;
+        case RESTORE_FOOTPRINT:
+          RestoreFootprintOp.skip(stream, maxDepth);
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field =
+          path.checkField(
+              index,
+              "createAccountOp",
+              "paymentOp",
+              "pathPaymentStrictReceiveOp",
+              "manageSellOfferOp",
+              "createPassiveSellOfferOp",
+              "setOptionsOp",
+              "changeTrustOp",
+              "allowTrustOp",
+              "destination",
+              "manageDataOp",
+              "bumpSequenceOp",
+              "manageBuyOfferOp",
+              "pathPaymentStrictSendOp",
+              "createClaimableBalanceOp",
+              "claimClaimableBalanceOp",
+              "beginSponsoringFutureReservesOp",
+              "revokeSponsorshipOp",
+              "clawbackOp",
+              "clawbackClaimableBalanceOp",
+              "setTrustLineFlagsOp",
+              "liquidityPoolDepositOp",
+              "liquidityPoolWithdrawOp",
+              "invokeHostFunctionOp",
+              "extendFootprintTTLOp",
+              "restoreFootprintOp");
+      OperationType discriminant = OperationType.decode(stream, maxDepth);
+      switch (discriminant) {
+        case CREATE_ACCOUNT:
+          if (field.equals("createAccountOp")) {
+            CreateAccountOp.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            CreateAccountOp.skip(stream, maxDepth);
+          }
+          break;
+        case PAYMENT:
+          if (field.equals("paymentOp")) {
+            PaymentOp.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            PaymentOp.skip(stream, maxDepth);
+          }
+          break;
+        case PATH_PAYMENT_STRICT_RECEIVE:
+          if (field.equals("pathPaymentStrictReceiveOp")) {
+            PathPaymentStrictReceiveOp.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            PathPaymentStrictReceiveOp.skip(stream, maxDepth);
+          }
+          break;
+        case MANAGE_SELL_OFFER:
+          if (field.equals("manageSellOfferOp")) {
+            ManageSellOfferOp.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            ManageSellOfferOp.skip(stream, maxDepth);
+          }
+          break;
+        case CREATE_PASSIVE_SELL_OFFER:
+          if (field.equals("createPassiveSellOfferOp")) {
+            CreatePassiveSellOfferOp.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            CreatePassiveSellOfferOp.skip(stream, maxDepth);
+          }
+          break;
+        case SET_OPTIONS:
+          if (field.equals("setOptionsOp")) {
+            SetOptionsOp.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            SetOptionsOp.skip(stream, maxDepth);
+          }
+          break;
+        case CHANGE_TRUST:
+          if (field.equals("changeTrustOp")) {
+            ChangeTrustOp.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            ChangeTrustOp.skip(stream, maxDepth);
+          }
+          break;
+        case ALLOW_TRUST:
+          if (field.equals("allowTrustOp")) {
+            AllowTrustOp.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            AllowTrustOp.skip(stream, maxDepth);
+          }
+          break;
+        case ACCOUNT_MERGE:
+          if (field.equals("destination")) {
+            MuxedAccount.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            MuxedAccount.skip(stream, maxDepth);
+          }
+          break;
+        case INFLATION:
+          break;
+        case MANAGE_DATA:
+          if (field.equals("manageDataOp")) {
+            ManageDataOp.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            ManageDataOp.skip(stream, maxDepth);
+          }
+          break;
+        case BUMP_SEQUENCE:
+          if (field.equals("bumpSequenceOp")) {
+            BumpSequenceOp.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            BumpSequenceOp.skip(stream, maxDepth);
+          }
+          break;
+        case MANAGE_BUY_OFFER:
+          if (field.equals("manageBuyOfferOp")) {
+            ManageBuyOfferOp.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            ManageBuyOfferOp.skip(stream, maxDepth);
+          }
+          break;
+        case PATH_PAYMENT_STRICT_SEND:
+          if (field.equals("pathPaymentStrictSendOp")) {
+            PathPaymentStrictSendOp.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            PathPaymentStrictSendOp.skip(stream, maxDepth);
+          }
+          break;
+        case CREATE_CLAIMABLE_BALANCE:
+          if (field.equals("createClaimableBalanceOp")) {
+            CreateClaimableBalanceOp.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            CreateClaimableBalanceOp.skip(stream, maxDepth);
+          }
+          break;
+        case CLAIM_CLAIMABLE_BALANCE:
+          if (field.equals("claimClaimableBalanceOp")) {
+            ClaimClaimableBalanceOp.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            ClaimClaimableBalanceOp.skip(stream, maxDepth);
+          }
+          break;
+        case BEGIN_SPONSORING_FUTURE_RESERVES:
+          if (field.equals("beginSponsoringFutureReservesOp")) {
+            BeginSponsoringFutureReservesOp.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            BeginSponsoringFutureReservesOp.skip(stream, maxDepth);
+          }
+          break;
+        case END_SPONSORING_FUTURE_RESERVES:
+          break;
+        case REVOKE_SPONSORSHIP:
+          if (field.equals("revokeSponsorshipOp")) {
+            RevokeSponsorshipOp.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            RevokeSponsorshipOp.skip(stream, maxDepth);
+          }
+          break;
+        case CLAWBACK:
+          if (field.equals("clawbackOp")) {
+            ClawbackOp.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            ClawbackOp.skip(stream, maxDepth);
+          }
+          break;
+        case CLAWBACK_CLAIMABLE_BALANCE:
+          if (field.equals("clawbackClaimableBalanceOp")) {
+            ClawbackClaimableBalanceOp.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            ClawbackClaimableBalanceOp.skip(stream, maxDepth);
+          }
+          break;
+        case SET_TRUST_LINE_FLAGS:
+          if (field.equals("setTrustLineFlagsOp")) {
+            SetTrustLineFlagsOp.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            SetTrustLineFlagsOp.skip(stream, maxDepth);
+          }
+          break;
+        case LIQUIDITY_POOL_DEPOSIT:
+          if (field.equals("liquidityPoolDepositOp")) {
+            LiquidityPoolDepositOp.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            LiquidityPoolDepositOp.skip(stream, maxDepth);
+          }
+          break;
+        case LIQUIDITY_POOL_WITHDRAW:
+          if (field.equals("liquidityPoolWithdrawOp")) {
+            LiquidityPoolWithdrawOp.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            LiquidityPoolWithdrawOp.skip(stream, maxDepth);
+          }
+          break;
+        case INVOKE_HOST_FUNCTION:
+          if (field.equals("invokeHostFunctionOp")) {
+            InvokeHostFunctionOp.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            InvokeHostFunctionOp.skip(stream, maxDepth);
+          }
+          break;
+        case EXTEND_FOOTPRINT_TTL:
+          if (field.equals("extendFootprintTTLOp")) {
+            ExtendFootprintTTLOp.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            ExtendFootprintTTLOp.skip(stream, maxDepth);
+          }
+          break;
+        case RESTORE_FOOTPRINT:
+          if (field.equals("restoreFootprintOp")) {
+            RestoreFootprintOp.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            RestoreFootprintOp.skip(stream, maxDepth);
+          }
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static OperationBody fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static OperationBody fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static OperationBody fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
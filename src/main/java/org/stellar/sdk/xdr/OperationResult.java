@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -124,6 +126,24 @@ public class OperationResult implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case opINNER:
+        size += tr.encodedSize();
+        break;
+      case opBAD_AUTH:
+      case opNO_ACCOUNT:
+      case opNOT_SUPPORTED:
+      case opTOO_MANY_SUBENTRIES:
+      case opEXCEEDED_WORK_LIMIT:
+      case opTOO_MANY_SPONSORING:
+        break;
+    }
+    return size;
+  }
+
   public static OperationResult decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -153,16 +173,109 @@ public class OperationResult implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static OperationResult decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    OperationResult decodedOperationResult = new OperationResult();
+    OperationResultCode discriminant = OperationResultCode.decode(reader, maxDepth);
+    decodedOperationResult.setDiscriminant(discriminant);
+    switch (decodedOperationResult.getDiscriminant()) {
+      case opINNER:
+        decodedOperationResult.tr = OperationResultTr.decode(reader, maxDepth);
+        break;
+      case opBAD_AUTH:
+      case opNO_ACCOUNT:
+      case opNOT_SUPPORTED:
+      case opTOO_MANY_SUBENTRIES:
+      case opEXCEEDED_WORK_LIMIT:
+      case opTOO_MANY_SPONSORING:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedOperationResult;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    OperationResultCode discriminant = OperationResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case opINNER:
+        OperationResultTr.skip(stream, maxDepth);
+        break;
+      case opBAD_AUTH:
+      case opNO_ACCOUNT:
+      case opNOT_SUPPORTED:
+      case opTOO_MANY_SUBENTRIES:
+      case opEXCEEDED_WORK_LIMIT:
+      case opTOO_MANY_SPONSORING:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "tr");
+    OperationResultCode discriminant = OperationResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case opINNER:
+        if (field.equals("tr")) {
+          OperationResultTr.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          OperationResultTr.skip(stream, maxDepth);
+        }
+        break;
+      case opBAD_AUTH:
+      case opNO_ACCOUNT:
+      case opNOT_SUPPORTED:
+      case opTOO_MANY_SUBENTRIES:
+      case opEXCEEDED_WORK_LIMIT:
+      case opTOO_MANY_SPONSORING:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static OperationResult fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static OperationResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static OperationResult fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -619,6 +732,95 @@ public class OperationResult implements XdrElement {
       }
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 4;
+      switch (discriminant) {
+        case CREATE_ACCOUNT:
+          size += createAccountResult.encodedSize();
+          break;
+        case PAYMENT:
+          size += paymentResult.encodedSize();
+          break;
+        case PATH_PAYMENT_STRICT_RECEIVE:
+          size += pathPaymentStrictReceiveResult.encodedSize();
+          break;
+        case MANAGE_SELL_OFFER:
+          size += manageSellOfferResult.encodedSize();
+          break;
+        case CREATE_PASSIVE_SELL_OFFER:
+          size += createPassiveSellOfferResult.encodedSize();
+          break;
+        case SET_OPTIONS:
+          size += setOptionsResult.encodedSize();
+          break;
+        case CHANGE_TRUST:
+          size += changeTrustResult.encodedSize();
+          break;
+        case ALLOW_TRUST:
+          size += allowTrustResult.encodedSize();
+          break;
+        case ACCOUNT_MERGE:
+          size += accountMergeResult.encodedSize();
+          break;
+        case INFLATION:
+          size += inflationResult.encodedSize();
+          break;
+        case MANAGE_DATA:
+          size += manageDataResult.encodedSize();
+          break;
+        case BUMP_SEQUENCE:
+          size += bumpSeqResult.encodedSize();
+          break;
+        case MANAGE_BUY_OFFER:
+          size += manageBuyOfferResult.encodedSize();
+          break;
+        case PATH_PAYMENT_STRICT_SEND:
+          size += pathPaymentStrictSendResult.encodedSize();
+          break;
+        case CREATE_CLAIMABLE_BALANCE:
+          size += createClaimableBalanceResult.encodedSize();
+          break;
+        case CLAIM_CLAIMABLE_BALANCE:
+          size += claimClaimableBalanceResult.encodedSize();
+          break;
+        case BEGIN_SPONSORING_FUTURE_RESERVES:
+          size += beginSponsoringFutureReservesResult.encodedSize();
+          break;
+        case END_SPONSORING_FUTURE_RESERVES:
+          size += endSponsoringFutureReservesResult.encodedSize();
+          break;
+        case REVOKE_SPONSORSHIP:
+          size += revokeSponsorshipResult.encodedSize();
+          break;
+        case CLAWBACK:
+          size += clawbackResult.encodedSize();
+          break;
+        case CLAWBACK_CLAIMABLE_BALANCE:
+          size += clawbackClaimableBalanceResult.encodedSize();
+          break;
+        case SET_TRUST_LINE_FLAGS:
+          size += setTrustLineFlagsResult.encodedSize();
+          break;
+        case LIQUIDITY_POOL_DEPOSIT:
+          size += liquidityPoolDepositResult.encodedSize();
+          break;
+        case LIQUIDITY_POOL_WITHDRAW:
+          size += liquidityPoolWithdrawResult.encodedSize();
+          break;
+        case INVOKE_HOST_FUNCTION:
+          size += invokeHostFunctionResult.encodedSize();
+          break;
+        case EXTEND_FOOTPRINT_TTL:
+          size += extendFootprintTTLResult.encodedSize();
+          break;
+        case RESTORE_FOOTPRINT:
+          size += restoreFootprintResult.encodedSize();
+          break;
+      }
+      return size;
+    }
+
     public static OperationResultTr decode(XdrDataInputStream stream, int maxDepth)
         throws IOException {
       if (maxDepth <= 0) {
@@ -738,16 +940,473 @@ public class OperationResult implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static OperationResultTr decode(XdrByteBufferReader reader, int maxDepth)
+        throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      OperationResultTr decodedOperationResultTr = new OperationResultTr();
+      OperationType discriminant = OperationType.decode(reader, maxDepth);
+      decodedOperationResultTr.setDiscriminant(discriminant);
+      switch (decodedOperationResultTr.getDiscriminant()) {
+        case CREATE_ACCOUNT:
+          decodedOperationResultTr.createAccountResult =
+              CreateAccountResult.decode(reader, maxDepth);
+          break;
+        case PAYMENT:
+          decodedOperationResultTr.paymentResult = PaymentResult.decode(reader, maxDepth);
+          break;
+        case PATH_PAYMENT_STRICT_RECEIVE:
+          decodedOperationResultTr.pathPaymentStrictReceiveResult =
+              PathPaymentStrictReceiveResult.decode(reader, maxDepth);
+          break;
+        case MANAGE_SELL_OFFER:
+          decodedOperationResultTr.manageSellOfferResult =
+              ManageSellOfferResult.decode(reader, maxDepth);
+          break;
+        case CREATE_PASSIVE_SELL_OFFER:
+          decodedOperationResultTr.createPassiveSellOfferResult =
+              ManageSellOfferResult.decode(reader, maxDepth);
+          break;
+        case SET_OPTIONS:
+          decodedOperationResultTr.setOptionsResult = SetOptionsResult.decode(reader, maxDepth);
+          break;
+        case CHANGE_TRUST:
+          decodedOperationResultTr.changeTrustResult = ChangeTrustResult.decode(reader, maxDepth);
+          break;
+        case ALLOW_TRUST:
+          decodedOperationResultTr.allowTrustResult = AllowTrustResult.decode(reader, maxDepth);
+          break;
+        case ACCOUNT_MERGE:
+          decodedOperationResultTr.accountMergeResult = AccountMergeResult.decode(reader, maxDepth);
+          break;
+        case INFLATION:
+          decodedOperationResultTr.inflationResult = InflationResult.decode(reader, maxDepth);
+          break;
+        case MANAGE_DATA:
+          decodedOperationResultTr.manageDataResult = ManageDataResult.decode(reader, maxDepth);
+          break;
+        case BUMP_SEQUENCE:
+          decodedOperationResultTr.bumpSeqResult = BumpSequenceResult.decode(reader, maxDepth);
+          break;
+        case MANAGE_BUY_OFFER:
+          decodedOperationResultTr.manageBuyOfferResult =
+              ManageBuyOfferResult.decode(reader, maxDepth);
+          break;
+        case PATH_PAYMENT_STRICT_SEND:
+          decodedOperationResultTr.pathPaymentStrictSendResult =
+              PathPaymentStrictSendResult.decode(reader, maxDepth);
+          break;
+        case CREATE_CLAIMABLE_BALANCE:
+          decodedOperationResultTr.createClaimableBalanceResult =
+              CreateClaimableBalanceResult.decode(reader, maxDepth);
+          break;
+        case CLAIM_CLAIMABLE_BALANCE:
+          decodedOperationResultTr.claimClaimableBalanceResult =
+              ClaimClaimableBalanceResult.decode(reader, maxDepth);
+          break;
+        case BEGIN_SPONSORING_FUTURE_RESERVES:
+          decodedOperationResultTr.beginSponsoringFutureReservesResult =
+              BeginSponsoringFutureReservesResult.decode(reader, maxDepth);
+          break;
+        case END_SPONSORING_FUTURE_RESERVES:
+          decodedOperationResultTr.endSponsoringFutureReservesResult =
+              EndSponsoringFutureReservesResult.decode(reader, maxDepth);
+          break;
+        case REVOKE_SPONSORSHIP:
+          decodedOperationResultTr.revokeSponsorshipResult =
+              RevokeSponsorshipResult.decode(reader, maxDepth);
+          break;
+        case CLAWBACK:
+          decodedOperationResultTr.clawbackResult = ClawbackResult.decode(reader, maxDepth);
+          break;
+        case CLAWBACK_CLAIMABLE_BALANCE:
+          decodedOperationResultTr.clawbackClaimableBalanceResult =
+              ClawbackClaimableBalanceResult.decode(reader, maxDepth);
+          break;
+        case SET_TRUST_LINE_FLAGS:
+          decodedOperationResultTr.setTrustLineFlagsResult =
+              SetTrustLineFlagsResult.decode(reader, maxDepth);
+          break;
+        case LIQUIDITY_POOL_DEPOSIT:
+          decodedOperationResultTr.liquidityPoolDepositResult =
+              LiquidityPoolDepositResult.decode(reader, maxDepth);
+          break;
+        case LIQUIDITY_POOL_WITHDRAW:
+          decodedOperationResultTr.liquidityPoolWithdrawResult =
+              LiquidityPoolWithdrawResult.decode(reader, maxDepth);
+          break;
+        case INVOKE_HOST_FUNCTION:
+          decodedOperationResultTr.invokeHostFunctionResult =
+              InvokeHostFunctionResult.decode(reader, maxDepth);
+          break;
+        case EXTEND_FOOTPRINT_TTL:
+          decodedOperationResultTr.extendFootprintTTLResult =
+              ExtendFootprintTTLResult.decode(reader, maxDepth);
+          break;
+        case RESTORE_FOOTPRINT:
+          decodedOperationResultTr.restoreFootprintResult =
+              RestoreFootprintResult.decode(reader, maxDepth);
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+      return decodedOperationResultTr;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      OperationType discriminant = OperationType.decode(stream, maxDepth);
+      switch (discriminant) {
+        case CREATE_ACCOUNT:
+          CreateAccountResult.skip(stream, maxDepth);
+          break;
+        case PAYMENT:
+          PaymentResult.skip(stream, maxDepth);
+          break;
+        case PATH_PAYMENT_STRICT_RECEIVE:
+          PathPaymentStrictReceiveResult.skip(stream, maxDepth);
+          break;
+        case MANAGE_SELL_OFFER:
+          ManageSellOfferResult.skip(stream, maxDepth);
+          break;
+        case CREATE_PASSIVE_SELL_OFFER:
+          ManageSellOfferResult.skip(stream, maxDepth);
+          break;
+        case SET_OPTIONS:
+          SetOptionsResult.skip(stream, maxDepth);
+          break;
+        case CHANGE_TRUST:
+          ChangeTrustResult.skip(stream, maxDepth);
+          break;
+        case ALLOW_TRUST:
+          AllowTrustResult.skip(stream, maxDepth);
+          break;
+        case ACCOUNT_MERGE:
+          AccountMergeResult.skip(stream, maxDepth);
+          break;
+        case INFLATION:
+          InflationResult.skip(stream, maxDepth);
+          break;
+        case MANAGE_DATA:
+          ManageDataResult.skip(stream, maxDepth);
+          break;
+        case BUMP_SEQUENCE:
+          BumpSequenceResult.skip(stream, maxDepth);
+          break;
+        case MANAGE_BUY_OFFER:
+          ManageBuyOfferResult.skip(stream, maxDepth);
+          break;
+        case PATH_PAYMENT_STRICT_SEND:
+          PathPaymentStrictSendResult.skip(stream, maxDepth);
+          break;
+        case CREATE_CLAIMABLE_BALANCE:
+          CreateClaimableBalanceResult.skip(stream, maxDepth);
+          break;
+        case CLAIM_CLAIMABLE_BALANCE:
+          ClaimClaimableBalanceResult.skip(stream, maxDepth);
+          break;
+        case BEGIN_SPONSORING_FUTURE_RESERVES:
+          BeginSponsoringFutureReservesResult.skip(stream, maxDepth);
+          break;
+        case END_SPONSORING_FUTURE_RESERVES:
+          EndSponsoringFutureReservesResult.skip(stream, maxDepth);
+          break;
+        case REVOKE_SPONSORSHIP:
+          RevokeSponsorshipResult.skip(stream, maxDepth);
+          break;
+        case CLAWBACK:
+          ClawbackResult.skip(stream, maxDepth);
+          break;
+        case CLAWBACK_CLAIMABLE_BALANCE:
+          ClawbackClaimableBalanceResult.skip(stream, maxDepth);
+          break;
+        case SET_TRUST_LINE_FLAGS:
+          SetTrustLineFlagsResult.skip(stream, maxDepth);
+          break;
+        case LIQUIDITY_POOL_DEPOSIT:
+          LiquidityPoolDepositResult.skip(stream, maxDepth);
+          break;
+        case LIQUIDITY_POOL_WITHDRAW:
+          LiquidityPoolWithdrawResult.skip(stream, maxDepth);
+          break;
+        case INVOKE_HOST_FUNCTION:
+          InvokeHostFunctionResult.skip(stream, maxDepth);
+          break;
+        case EXTEND_FOOTPRINT_TTL:
+          ExtendFootprintTTLResult.skip(stream, maxDepth);
+          break;
+        case RESTORE_FOOTPRINT:
+          RestoreFootprintResult.skip(stream, maxDepth);
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field =
+          path.checkField(
+              index,
+              "createAccountResult",
+              "paymentResult",
+              "pathPaymentStrictReceiveResult",
+              "manageSellOfferResult",
+              "createPassiveSellOfferResult",
+              "setOptionsResult",
+              "changeTrustResult",
+              "allowTrustResult",
+              "accountMergeResult",
+              "inflationResult",
+              "manageDataResult",
+              "bumpSeqResult",
+              "manageBuyOfferResult",
+              "pathPaymentStrictSendResult",
+              "createClaimableBalanceResult",
+              "claimClaimableBalanceResult",
+              "beginSponsoringFutureReservesResult",
+              "endSponsoringFutureReservesResult",
+              "revokeSponsorshipResult",
+              "clawbackResult",
+              "clawbackClaimableBalanceResult",
+              "setTrustLineFlagsResult",
+              "liquidityPoolDepositResult",
+              "liquidityPoolWithdrawResult",
+              "invokeHostFunctionResult",
+              "extendFootprintTTLResult",
+              "restoreFootprintResult");
+      OperationType discriminant = OperationType.decode(stream, maxDepth);
+      switch (discriminant) {
+        case CREATE_ACCOUNT:
+          if (field.equals("createAccountResult")) {
+            CreateAccountResult.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            CreateAccountResult.skip(stream, maxDepth);
+          }
+          break;
+        case PAYMENT:
+          if (field.equals("paymentResult")) {
+            PaymentResult.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            PaymentResult.skip(stream, maxDepth);
+          }
+          break;
+        case PATH_PAYMENT_STRICT_RECEIVE:
+          if (field.equals("pathPaymentStrictReceiveResult")) {
+            PathPaymentStrictReceiveResult.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            PathPaymentStrictReceiveResult.skip(stream, maxDepth);
+          }
+          break;
+        case MANAGE_SELL_OFFER:
+          if (field.equals("manageSellOfferResult")) {
+            ManageSellOfferResult.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            ManageSellOfferResult.skip(stream, maxDepth);
+          }
+          break;
+        case CREATE_PASSIVE_SELL_OFFER:
+          if (field.equals("createPassiveSellOfferResult")) {
+            ManageSellOfferResult.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            ManageSellOfferResult.skip(stream, maxDepth);
+          }
+          break;
+        case SET_OPTIONS:
+          if (field.equals("setOptionsResult")) {
+            SetOptionsResult.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            SetOptionsResult.skip(stream, maxDepth);
+          }
+          break;
+        case CHANGE_TRUST:
+          if (field.equals("changeTrustResult")) {
+            ChangeTrustResult.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            ChangeTrustResult.skip(stream, maxDepth);
+          }
+          break;
+        case ALLOW_TRUST:
+          if (field.equals("allowTrustResult")) {
+            AllowTrustResult.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            AllowTrustResult.skip(stream, maxDepth);
+          }
+          break;
+        case ACCOUNT_MERGE:
+          if (field.equals("accountMergeResult")) {
+            AccountMergeResult.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            AccountMergeResult.skip(stream, maxDepth);
+          }
+          break;
+        case INFLATION:
+          if (field.equals("inflationResult")) {
+            InflationResult.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            InflationResult.skip(stream, maxDepth);
+          }
+          break;
+        case MANAGE_DATA:
+          if (field.equals("manageDataResult")) {
+            ManageDataResult.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            ManageDataResult.skip(stream, maxDepth);
+          }
+          break;
+        case BUMP_SEQUENCE:
+          if (field.equals("bumpSeqResult")) {
+            BumpSequenceResult.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            BumpSequenceResult.skip(stream, maxDepth);
+          }
+          break;
+        case MANAGE_BUY_OFFER:
+          if (field.equals("manageBuyOfferResult")) {
+            ManageBuyOfferResult.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            ManageBuyOfferResult.skip(stream, maxDepth);
+          }
+          break;
+        case PATH_PAYMENT_STRICT_SEND:
+          if (field.equals("pathPaymentStrictSendResult")) {
+            PathPaymentStrictSendResult.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            PathPaymentStrictSendResult.skip(stream, maxDepth);
+          }
+          break;
+        case CREATE_CLAIMABLE_BALANCE:
+          if (field.equals("createClaimableBalanceResult")) {
+            CreateClaimableBalanceResult.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            CreateClaimableBalanceResult.skip(stream, maxDepth);
+          }
+          break;
+        case CLAIM_CLAIMABLE_BALANCE:
+          if (field.equals("claimClaimableBalanceResult")) {
+            ClaimClaimableBalanceResult.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            ClaimClaimableBalanceResult.skip(stream, maxDepth);
+          }
+          break;
+        case BEGIN_SPONSORING_FUTURE_RESERVES:
+          if (field.equals("beginSponsoringFutureReservesResult")) {
+            BeginSponsoringFutureReservesResult.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            BeginSponsoringFutureReservesResult.skip(stream, maxDepth);
+          }
+          break;
+        case END_SPONSORING_FUTURE_RESERVES:
+          if (field.equals("endSponsoringFutureReservesResult")) {
+            EndSponsoringFutureReservesResult.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            EndSponsoringFutureReservesResult.skip(stream, maxDepth);
+          }
+          break;
+        case REVOKE_SPONSORSHIP:
+          if (field.equals("revokeSponsorshipResult")) {
+            RevokeSponsorshipResult.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            RevokeSponsorshipResult.skip(stream, maxDepth);
+          }
+          break;
+        case CLAWBACK:
+          if (field.equals("clawbackResult")) {
+            ClawbackResult.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            ClawbackResult.skip(stream, maxDepth);
+          }
+          break;
+        case CLAWBACK_CLAIMABLE_BALANCE:
+          if (field.equals("clawbackClaimableBalanceResult")) {
+            ClawbackClaimableBalanceResult.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            ClawbackClaimableBalanceResult.skip(stream, maxDepth);
+          }
+          break;
+        case SET_TRUST_LINE_FLAGS:
+          if (field.equals("setTrustLineFlagsResult")) {
+            SetTrustLineFlagsResult.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            SetTrustLineFlagsResult.skip(stream, maxDepth);
+          }
+          break;
+        case LIQUIDITY_POOL_DEPOSIT:
+          if (field.equals("liquidityPoolDepositResult")) {
+            LiquidityPoolDepositResult.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            LiquidityPoolDepositResult.skip(stream, maxDepth);
+          }
+          break;
+        case LIQUIDITY_POOL_WITHDRAW:
+          if (field.equals("liquidityPoolWithdrawResult")) {
+            LiquidityPoolWithdrawResult.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            LiquidityPoolWithdrawResult.skip(stream, maxDepth);
+          }
+          break;
+        case INVOKE_HOST_FUNCTION:
+          if (field.equals("invokeHostFunctionResult")) {
+            InvokeHostFunctionResult.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            InvokeHostFunctionResult.skip(stream, maxDepth);
+          }
+          break;
+        case EXTEND_FOOTPRINT_TTL:
+          if (field.equals("extendFootprintTTLResult")) {
+            ExtendFootprintTTLResult.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            ExtendFootprintTTLResult.skip(stream, maxDepth);
+          }
+          break;
+        case RESTORE_FOOTPRINT:
+          if (field.equals("restoreFootprintResult")) {
+            RestoreFootprintResult.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            RestoreFootprintResult.skip(stream, maxDepth);
+          }
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static OperationResultTr fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static OperationResultTr fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static OperationResultTr fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
@@ -3,8 +3,10 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import org.stellar.sdk.Base64Factory;
 
 /**
@@ -149,20 +151,111 @@ public enum OperationType implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static OperationType decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    // maxDepth is intentionally not checked - enums are leaf types with no recursive decoding
+    int value = reader.readInt();
+    switch (value) {
+      case 0:
+        return CREATE_ACCOUNT;
+      case 1:
+        return PAYMENT;
+      case 2:
+        return PATH_PAYMENT_STRICT_RECEIVE;
+      case 3:
+        return MANAGE_SELL_OFFER;
+      case 4:
+        return CREATE_PASSIVE_SELL_OFFER;
+      case 5:
+        return SET_OPTIONS;
+      case 6:
+        return CHANGE_TRUST;
+      case 7:
+        return ALLOW_TRUST;
+      case 8:
+        return ACCOUNT_MERGE;
+      case 9:
+        return INFLATION;
+      case 10:
+        return MANAGE_DATA;
+      case 11:
+        return BUMP_SEQUENCE;
+      case 12:
+        return MANAGE_BUY_OFFER;
+      case 13:
+        return PATH_PAYMENT_STRICT_SEND;
+      case 14:
+        return CREATE_CLAIMABLE_BALANCE;
+      case 15:
+        return CLAIM_CLAIMABLE_BALANCE;
+      case 16:
+        return BEGIN_SPONSORING_FUTURE_RESERVES;
+      case 17:
+        return END_SPONSORING_FUTURE_RESERVES;
+      case 18:
+        return REVOKE_SPONSORSHIP;
+      case 19:
+        return CLAWBACK;
+      case 20:
+        return CLAWBACK_CLAIMABLE_BALANCE;
+      case 21:
+        return SET_TRUST_LINE_FLAGS;
+      case 22:
+        return LIQUIDITY_POOL_DEPOSIT;
+      case 23:
+        return LIQUIDITY_POOL_WITHDRAW;
+      case 24:
+        return INVOKE_HOST_FUNCTION;
+      case 25:
+        return EXTEND_FOOTPRINT_TTL;
+      case 26:
+        return RESTORE_FOOTPRINT;
+      default:
+        throw new IllegalArgumentException("Unknown enum value: " + value);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    decode(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    path.checkEnd(index);
+    values.add(decode(stream, maxDepth));
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  @Override
+  public int encodedSize() {
+    return 4;
+  }
+
   public static OperationType fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static OperationType fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static OperationType fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -38,6 +39,16 @@ public class ParallelTxExecutionStage implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    for (int i = 0; i < ParallelTxExecutionStage.length; i++) {
+      size += ParallelTxExecutionStage[i].encodedSize();
+    }
+    return size;
+  }
+
   public static ParallelTxExecutionStage decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -72,16 +83,112 @@ public class ParallelTxExecutionStage implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static ParallelTxExecutionStage decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ParallelTxExecutionStage decodedParallelTxExecutionStage = new ParallelTxExecutionStage();
+    int ParallelTxExecutionStageSize = reader.readInt();
+    if (ParallelTxExecutionStageSize < 0) {
+      throw new IOException(
+          "ParallelTxExecutionStage size " + ParallelTxExecutionStageSize + " is negative");
+    }
+    int ParallelTxExecutionStageRemainingInputLen = reader.getRemainingInputLen();
+    if (ParallelTxExecutionStageRemainingInputLen >= 0
+        && ParallelTxExecutionStageRemainingInputLen < ParallelTxExecutionStageSize) {
+      throw new IOException(
+          "ParallelTxExecutionStage size "
+              + ParallelTxExecutionStageSize
+              + " exceeds remaining input length "
+              + ParallelTxExecutionStageRemainingInputLen);
+    }
+    decodedParallelTxExecutionStage.ParallelTxExecutionStage =
+        new DependentTxCluster[ParallelTxExecutionStageSize];
+    for (int i = 0; i < ParallelTxExecutionStageSize; i++) {
+      decodedParallelTxExecutionStage.ParallelTxExecutionStage[i] =
+          DependentTxCluster.decode(reader, maxDepth);
+    }
+    return decodedParallelTxExecutionStage;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int ParallelTxExecutionStageSize = stream.readInt();
+    if (ParallelTxExecutionStageSize < 0) {
+      throw new IOException(
+          "ParallelTxExecutionStage size " + ParallelTxExecutionStageSize + " is negative");
+    }
+    int ParallelTxExecutionStageRemainingInputLen = stream.getRemainingInputLen();
+    if (ParallelTxExecutionStageRemainingInputLen >= 0
+        && ParallelTxExecutionStageRemainingInputLen < ParallelTxExecutionStageSize) {
+      throw new IOException(
+          "ParallelTxExecutionStage size "
+              + ParallelTxExecutionStageSize
+              + " exceeds remaining input length "
+              + ParallelTxExecutionStageRemainingInputLen);
+    }
+    for (int i = 0; i < ParallelTxExecutionStageSize; i++) {
+      DependentTxCluster.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int ParallelTxExecutionStageSize = stream.readInt();
+    if (ParallelTxExecutionStageSize < 0) {
+      throw new IOException(
+          "ParallelTxExecutionStage size " + ParallelTxExecutionStageSize + " is negative");
+    }
+    int ParallelTxExecutionStageRemainingInputLen = stream.getRemainingInputLen();
+    if (ParallelTxExecutionStageRemainingInputLen >= 0
+        && ParallelTxExecutionStageRemainingInputLen < ParallelTxExecutionStageSize) {
+      throw new IOException(
+          "ParallelTxExecutionStage size "
+              + ParallelTxExecutionStageSize
+              + " exceeds remaining input length "
+              + ParallelTxExecutionStageRemainingInputLen);
+    }
+    for (int i = 0; i < ParallelTxExecutionStageSize; i++) {
+      DependentTxCluster.extract(stream, maxDepth, path, index, values);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static ParallelTxExecutionStage fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static ParallelTxExecutionStage fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static ParallelTxExecutionStage fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
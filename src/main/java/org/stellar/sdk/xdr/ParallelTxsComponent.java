@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -62,6 +63,20 @@ public class ParallelTxsComponent implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    if (baseFee != null) {
+      size += baseFee.encodedSize();
+    }
+    size += 4;
+    for (int i = 0; i < executionStages.length; i++) {
+      size += executionStages[i].encodedSize();
+    }
+    return size;
+  }
+
   public static ParallelTxsComponent decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -98,16 +113,147 @@ public class ParallelTxsComponent implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static ParallelTxsComponent decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ParallelTxsComponent decodedParallelTxsComponent = new ParallelTxsComponent();
+    boolean baseFeePresent = reader.readXdrBoolean();
+    if (baseFeePresent) {
+      decodedParallelTxsComponent.baseFee = Int64.decode(reader, maxDepth);
+    }
+    int executionStagesSize = reader.readInt();
+    if (executionStagesSize < 0) {
+      throw new IOException("executionStages size " + executionStagesSize + " is negative");
+    }
+    int executionStagesRemainingInputLen = reader.getRemainingInputLen();
+    if (executionStagesRemainingInputLen >= 0
+        && executionStagesRemainingInputLen < executionStagesSize) {
+      throw new IOException(
+          "executionStages size "
+              + executionStagesSize
+              + " exceeds remaining input length "
+              + executionStagesRemainingInputLen);
+    }
+    decodedParallelTxsComponent.executionStages = new ParallelTxExecutionStage[executionStagesSize];
+    for (int i = 0; i < executionStagesSize; i++) {
+      decodedParallelTxsComponent.executionStages[i] =
+          ParallelTxExecutionStage.decode(reader, maxDepth);
+    }
+    return decodedParallelTxsComponent;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    boolean baseFeePresent = stream.readXdrBoolean();
+    if (baseFeePresent) {
+      Int64.skip(stream, maxDepth);
+    }
+    int executionStagesSize = stream.readInt();
+    if (executionStagesSize < 0) {
+      throw new IOException("executionStages size " + executionStagesSize + " is negative");
+    }
+    int executionStagesRemainingInputLen = stream.getRemainingInputLen();
+    if (executionStagesRemainingInputLen >= 0
+        && executionStagesRemainingInputLen < executionStagesSize) {
+      throw new IOException(
+          "executionStages size "
+              + executionStagesSize
+              + " exceeds remaining input length "
+              + executionStagesRemainingInputLen);
+    }
+    for (int i = 0; i < executionStagesSize; i++) {
+      ParallelTxExecutionStage.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "baseFee", "executionStages[*]");
+    if (field.equals("baseFee")) {
+      boolean baseFeePresent = stream.readXdrBoolean();
+      if (baseFeePresent) {
+        Int64.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      boolean baseFeePresent = stream.readXdrBoolean();
+      if (baseFeePresent) {
+        Int64.skip(stream, maxDepth);
+      }
+    }
+    if (field.equals("executionStages")) {
+      int executionStagesSize = stream.readInt();
+      if (executionStagesSize < 0) {
+        throw new IOException("executionStages size " + executionStagesSize + " is negative");
+      }
+      int executionStagesRemainingInputLen = stream.getRemainingInputLen();
+      if (executionStagesRemainingInputLen >= 0
+          && executionStagesRemainingInputLen < executionStagesSize) {
+        throw new IOException(
+            "executionStages size "
+                + executionStagesSize
+                + " exceeds remaining input length "
+                + executionStagesRemainingInputLen);
+      }
+      for (int i = 0; i < executionStagesSize; i++) {
+        ParallelTxExecutionStage.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int executionStagesSize = stream.readInt();
+      if (executionStagesSize < 0) {
+        throw new IOException("executionStages size " + executionStagesSize + " is negative");
+      }
+      int executionStagesRemainingInputLen = stream.getRemainingInputLen();
+      if (executionStagesRemainingInputLen >= 0
+          && executionStagesRemainingInputLen < executionStagesSize) {
+        throw new IOException(
+            "executionStages size "
+                + executionStagesSize
+                + " exceeds remaining input length "
+                + executionStagesRemainingInputLen);
+      }
+      for (int i = 0; i < executionStagesSize; i++) {
+        ParallelTxExecutionStage.skip(stream, maxDepth);
+      }
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static ParallelTxsComponent fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static ParallelTxsComponent fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static ParallelTxsComponent fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -98,6 +99,33 @@ public class PathPaymentStrictReceiveResult implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case PATH_PAYMENT_STRICT_RECEIVE_SUCCESS:
+        size += success.encodedSize();
+        break;
+      case PATH_PAYMENT_STRICT_RECEIVE_MALFORMED:
+      case PATH_PAYMENT_STRICT_RECEIVE_UNDERFUNDED:
+      case PATH_PAYMENT_STRICT_RECEIVE_SRC_NO_TRUST:
+      case PATH_PAYMENT_STRICT_RECEIVE_SRC_NOT_AUTHORIZED:
+      case PATH_PAYMENT_STRICT_RECEIVE_NO_DESTINATION:
+      case PATH_PAYMENT_STRICT_RECEIVE_NO_TRUST:
+      case PATH_PAYMENT_STRICT_RECEIVE_NOT_AUTHORIZED:
+      case PATH_PAYMENT_STRICT_RECEIVE_LINE_FULL:
+        break;
+      case PATH_PAYMENT_STRICT_RECEIVE_NO_ISSUER:
+        size += noIssuer.encodedSize();
+        break;
+      case PATH_PAYMENT_STRICT_RECEIVE_TOO_FEW_OFFERS:
+      case PATH_PAYMENT_STRICT_RECEIVE_OFFER_CROSS_SELF:
+      case PATH_PAYMENT_STRICT_RECEIVE_OVER_SENDMAX:
+        break;
+    }
+    return size;
+  }
+
   public static PathPaymentStrictReceiveResult decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -141,16 +169,146 @@ public class PathPaymentStrictReceiveResult implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static PathPaymentStrictReceiveResult decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    PathPaymentStrictReceiveResult decodedPathPaymentStrictReceiveResult =
+        new PathPaymentStrictReceiveResult();
+    PathPaymentStrictReceiveResultCode discriminant =
+        PathPaymentStrictReceiveResultCode.decode(reader, maxDepth);
+    decodedPathPaymentStrictReceiveResult.setDiscriminant(discriminant);
+    switch (decodedPathPaymentStrictReceiveResult.getDiscriminant()) {
+      case PATH_PAYMENT_STRICT_RECEIVE_SUCCESS:
+        decodedPathPaymentStrictReceiveResult.success =
+            PathPaymentStrictReceiveResultSuccess.decode(reader, maxDepth);
+        break;
+      case PATH_PAYMENT_STRICT_RECEIVE_MALFORMED:
+      case PATH_PAYMENT_STRICT_RECEIVE_UNDERFUNDED:
+      case PATH_PAYMENT_STRICT_RECEIVE_SRC_NO_TRUST:
+      case PATH_PAYMENT_STRICT_RECEIVE_SRC_NOT_AUTHORIZED:
+      case PATH_PAYMENT_STRICT_RECEIVE_NO_DESTINATION:
+      case PATH_PAYMENT_STRICT_RECEIVE_NO_TRUST:
+      case PATH_PAYMENT_STRICT_RECEIVE_NOT_AUTHORIZED:
+      case PATH_PAYMENT_STRICT_RECEIVE_LINE_FULL:
+        break;
+      case PATH_PAYMENT_STRICT_RECEIVE_NO_ISSUER:
+        decodedPathPaymentStrictReceiveResult.noIssuer = Asset.decode(reader, maxDepth);
+        break;
+      case PATH_PAYMENT_STRICT_RECEIVE_TOO_FEW_OFFERS:
+      case PATH_PAYMENT_STRICT_RECEIVE_OFFER_CROSS_SELF:
+      case PATH_PAYMENT_STRICT_RECEIVE_OVER_SENDMAX:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedPathPaymentStrictReceiveResult;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    PathPaymentStrictReceiveResultCode discriminant =
+        PathPaymentStrictReceiveResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case PATH_PAYMENT_STRICT_RECEIVE_SUCCESS:
+        PathPaymentStrictReceiveResultSuccess.skip(stream, maxDepth);
+        break;
+      case PATH_PAYMENT_STRICT_RECEIVE_MALFORMED:
+      case PATH_PAYMENT_STRICT_RECEIVE_UNDERFUNDED:
+      case PATH_PAYMENT_STRICT_RECEIVE_SRC_NO_TRUST:
+      case PATH_PAYMENT_STRICT_RECEIVE_SRC_NOT_AUTHORIZED:
+      case PATH_PAYMENT_STRICT_RECEIVE_NO_DESTINATION:
+      case PATH_PAYMENT_STRICT_RECEIVE_NO_TRUST:
+      case PATH_PAYMENT_STRICT_RECEIVE_NOT_AUTHORIZED:
+      case PATH_PAYMENT_STRICT_RECEIVE_LINE_FULL:
+        break;
+      case PATH_PAYMENT_STRICT_RECEIVE_NO_ISSUER:
+        Asset.skip(stream, maxDepth);
+        break;
+      case PATH_PAYMENT_STRICT_RECEIVE_TOO_FEW_OFFERS:
+      case PATH_PAYMENT_STRICT_RECEIVE_OFFER_CROSS_SELF:
+      case PATH_PAYMENT_STRICT_RECEIVE_OVER_SENDMAX:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "success", "noIssuer");
+    PathPaymentStrictReceiveResultCode discriminant =
+        PathPaymentStrictReceiveResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case PATH_PAYMENT_STRICT_RECEIVE_SUCCESS:
+        if (field.equals("success")) {
+          PathPaymentStrictReceiveResultSuccess.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          PathPaymentStrictReceiveResultSuccess.skip(stream, maxDepth);
+        }
+        break;
+      case PATH_PAYMENT_STRICT_RECEIVE_MALFORMED:
+      case PATH_PAYMENT_STRICT_RECEIVE_UNDERFUNDED:
+      case PATH_PAYMENT_STRICT_RECEIVE_SRC_NO_TRUST:
+      case PATH_PAYMENT_STRICT_RECEIVE_SRC_NOT_AUTHORIZED:
+      case PATH_PAYMENT_STRICT_RECEIVE_NO_DESTINATION:
+      case PATH_PAYMENT_STRICT_RECEIVE_NO_TRUST:
+      case PATH_PAYMENT_STRICT_RECEIVE_NOT_AUTHORIZED:
+      case PATH_PAYMENT_STRICT_RECEIVE_LINE_FULL:
+        break;
+      case PATH_PAYMENT_STRICT_RECEIVE_NO_ISSUER:
+        if (field.equals("noIssuer")) {
+          Asset.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Asset.skip(stream, maxDepth);
+        }
+        break;
+      case PATH_PAYMENT_STRICT_RECEIVE_TOO_FEW_OFFERS:
+      case PATH_PAYMENT_STRICT_RECEIVE_OFFER_CROSS_SELF:
+      case PATH_PAYMENT_STRICT_RECEIVE_OVER_SENDMAX:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static PathPaymentStrictReceiveResult fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static PathPaymentStrictReceiveResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static PathPaymentStrictReceiveResult fromXdrByteBuffer(ByteBuffer xdr)
+      throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -309,6 +467,17 @@ public class PathPaymentStrictReceiveResult implements XdrElement {
       last.encode(stream);
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 0;
+      size += 4;
+      for (int i = 0; i < offers.length; i++) {
+        size += offers[i].encodedSize();
+      }
+      size += last.encodedSize();
+      return size;
+    }
+
     public static PathPaymentStrictReceiveResultSuccess decode(
         XdrDataInputStream stream, int maxDepth) throws IOException {
       if (maxDepth <= 0) {
@@ -343,6 +512,120 @@ public class PathPaymentStrictReceiveResult implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static PathPaymentStrictReceiveResultSuccess decode(
+        XdrByteBufferReader reader, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      PathPaymentStrictReceiveResultSuccess decodedPathPaymentStrictReceiveResultSuccess =
+          new PathPaymentStrictReceiveResultSuccess();
+      int offersSize = reader.readInt();
+      if (offersSize < 0) {
+        throw new IOException("offers size " + offersSize + " is negative");
+      }
+      int offersRemainingInputLen = reader.getRemainingInputLen();
+      if (offersRemainingInputLen >= 0 && offersRemainingInputLen < offersSize) {
+        throw new IOException(
+            "offers size "
+                + offersSize
+                + " exceeds remaining input length "
+                + offersRemainingInputLen);
+      }
+      decodedPathPaymentStrictReceiveResultSuccess.offers = new ClaimAtom[offersSize];
+      for (int i = 0; i < offersSize; i++) {
+        decodedPathPaymentStrictReceiveResultSuccess.offers[i] = ClaimAtom.decode(reader, maxDepth);
+      }
+      decodedPathPaymentStrictReceiveResultSuccess.last =
+          SimplePaymentResult.decode(reader, maxDepth);
+      return decodedPathPaymentStrictReceiveResultSuccess;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      int offersSize = stream.readInt();
+      if (offersSize < 0) {
+        throw new IOException("offers size " + offersSize + " is negative");
+      }
+      int offersRemainingInputLen = stream.getRemainingInputLen();
+      if (offersRemainingInputLen >= 0 && offersRemainingInputLen < offersSize) {
+        throw new IOException(
+            "offers size "
+                + offersSize
+                + " exceeds remaining input length "
+                + offersRemainingInputLen);
+      }
+      for (int i = 0; i < offersSize; i++) {
+        ClaimAtom.skip(stream, maxDepth);
+      }
+      SimplePaymentResult.skip(stream, maxDepth);
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index, "offers[*]", "last");
+      if (field.equals("offers")) {
+        int offersSize = stream.readInt();
+        if (offersSize < 0) {
+          throw new IOException("offers size " + offersSize + " is negative");
+        }
+        int offersRemainingInputLen = stream.getRemainingInputLen();
+        if (offersRemainingInputLen >= 0 && offersRemainingInputLen < offersSize) {
+          throw new IOException(
+              "offers size "
+                  + offersSize
+                  + " exceeds remaining input length "
+                  + offersRemainingInputLen);
+        }
+        for (int i = 0; i < offersSize; i++) {
+          ClaimAtom.extract(stream, maxDepth, path, index + 1, values);
+        }
+      } else {
+        int offersSize = stream.readInt();
+        if (offersSize < 0) {
+          throw new IOException("offers size " + offersSize + " is negative");
+        }
+        int offersRemainingInputLen = stream.getRemainingInputLen();
+        if (offersRemainingInputLen >= 0 && offersRemainingInputLen < offersSize) {
+          throw new IOException(
+              "offers size "
+                  + offersSize
+                  + " exceeds remaining input length "
+                  + offersRemainingInputLen);
+        }
+        for (int i = 0; i < offersSize; i++) {
+          ClaimAtom.skip(stream, maxDepth);
+        }
+      }
+      if (field.equals("last")) {
+        SimplePaymentResult.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        SimplePaymentResult.skip(stream, maxDepth);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static PathPaymentStrictReceiveResultSuccess fromXdrBase64(String xdr)
         throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
@@ -351,10 +634,13 @@ public class PathPaymentStrictReceiveResult implements XdrElement {
 
     public static PathPaymentStrictReceiveResultSuccess fromXdrByteArray(byte[] xdr)
         throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static PathPaymentStrictReceiveResultSuccess fromXdrByteBuffer(ByteBuffer xdr)
+        throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
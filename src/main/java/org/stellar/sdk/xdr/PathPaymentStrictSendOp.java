@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -101,6 +102,21 @@ public class PathPaymentStrictSendOp implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += sendAsset.encodedSize();
+    size += sendAmount.encodedSize();
+    size += destination.encodedSize();
+    size += destAsset.encodedSize();
+    size += destMin.encodedSize();
+    size += 4;
+    for (int i = 0; i < path.length; i++) {
+      size += path[i].encodedSize();
+    }
+    return size;
+  }
+
   public static PathPaymentStrictSendOp decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -136,16 +152,160 @@ public class PathPaymentStrictSendOp implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static PathPaymentStrictSendOp decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    PathPaymentStrictSendOp decodedPathPaymentStrictSendOp = new PathPaymentStrictSendOp();
+    decodedPathPaymentStrictSendOp.sendAsset = Asset.decode(reader, maxDepth);
+    decodedPathPaymentStrictSendOp.sendAmount = Int64.decode(reader, maxDepth);
+    decodedPathPaymentStrictSendOp.destination = MuxedAccount.decode(reader, maxDepth);
+    decodedPathPaymentStrictSendOp.destAsset = Asset.decode(reader, maxDepth);
+    decodedPathPaymentStrictSendOp.destMin = Int64.decode(reader, maxDepth);
+    int pathSize = reader.readInt();
+    if (pathSize < 0) {
+      throw new IOException("path size " + pathSize + " is negative");
+    }
+    if (pathSize > 5) {
+      throw new IOException("path size " + pathSize + " exceeds max size 5");
+    }
+    int pathRemainingInputLen = reader.getRemainingInputLen();
+    if (pathRemainingInputLen >= 0 && pathRemainingInputLen < pathSize) {
+      throw new IOException(
+          "path size " + pathSize + " exceeds remaining input length " + pathRemainingInputLen);
+    }
+    decodedPathPaymentStrictSendOp.path = new Asset[pathSize];
+    for (int i = 0; i < pathSize; i++) {
+      decodedPathPaymentStrictSendOp.path[i] = Asset.decode(reader, maxDepth);
+    }
+    return decodedPathPaymentStrictSendOp;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Asset.skip(stream, maxDepth);
+    Int64.skip(stream, maxDepth);
+    MuxedAccount.skip(stream, maxDepth);
+    Asset.skip(stream, maxDepth);
+    Int64.skip(stream, maxDepth);
+    int pathSize = stream.readInt();
+    if (pathSize < 0) {
+      throw new IOException("path size " + pathSize + " is negative");
+    }
+    if (pathSize > 5) {
+      throw new IOException("path size " + pathSize + " exceeds max size 5");
+    }
+    int pathRemainingInputLen = stream.getRemainingInputLen();
+    if (pathRemainingInputLen >= 0 && pathRemainingInputLen < pathSize) {
+      throw new IOException(
+          "path size " + pathSize + " exceeds remaining input length " + pathRemainingInputLen);
+    }
+    for (int i = 0; i < pathSize; i++) {
+      Asset.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field =
+        path.checkField(
+            index, "sendAsset", "sendAmount", "destination", "destAsset", "destMin", "path[*]");
+    if (field.equals("sendAsset")) {
+      Asset.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Asset.skip(stream, maxDepth);
+    }
+    if (field.equals("sendAmount")) {
+      Int64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Int64.skip(stream, maxDepth);
+    }
+    if (field.equals("destination")) {
+      MuxedAccount.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      MuxedAccount.skip(stream, maxDepth);
+    }
+    if (field.equals("destAsset")) {
+      Asset.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Asset.skip(stream, maxDepth);
+    }
+    if (field.equals("destMin")) {
+      Int64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Int64.skip(stream, maxDepth);
+    }
+    if (field.equals("path")) {
+      int pathSize = stream.readInt();
+      if (pathSize < 0) {
+        throw new IOException("path size " + pathSize + " is negative");
+      }
+      if (pathSize > 5) {
+        throw new IOException("path size " + pathSize + " exceeds max size 5");
+      }
+      int pathRemainingInputLen = stream.getRemainingInputLen();
+      if (pathRemainingInputLen >= 0 && pathRemainingInputLen < pathSize) {
+        throw new IOException(
+            "path size " + pathSize + " exceeds remaining input length " + pathRemainingInputLen);
+      }
+      for (int i = 0; i < pathSize; i++) {
+        Asset.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int pathSize = stream.readInt();
+      if (pathSize < 0) {
+        throw new IOException("path size " + pathSize + " is negative");
+      }
+      if (pathSize > 5) {
+        throw new IOException("path size " + pathSize + " exceeds max size 5");
+      }
+      int pathRemainingInputLen = stream.getRemainingInputLen();
+      if (pathRemainingInputLen >= 0 && pathRemainingInputLen < pathSize) {
+        throw new IOException(
+            "path size " + pathSize + " exceeds remaining input length " + pathRemainingInputLen);
+      }
+      for (int i = 0; i < pathSize; i++) {
+        Asset.skip(stream, maxDepth);
+      }
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static PathPaymentStrictSendOp fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static PathPaymentStrictSendOp fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static PathPaymentStrictSendOp fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
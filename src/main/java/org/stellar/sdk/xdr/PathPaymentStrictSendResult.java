@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -97,6 +98,33 @@ public class PathPaymentStrictSendResult implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case PATH_PAYMENT_STRICT_SEND_SUCCESS:
+        size += success.encodedSize();
+        break;
+      case PATH_PAYMENT_STRICT_SEND_MALFORMED:
+      case PATH_PAYMENT_STRICT_SEND_UNDERFUNDED:
+      case PATH_PAYMENT_STRICT_SEND_SRC_NO_TRUST:
+      case PATH_PAYMENT_STRICT_SEND_SRC_NOT_AUTHORIZED:
+      case PATH_PAYMENT_STRICT_SEND_NO_DESTINATION:
+      case PATH_PAYMENT_STRICT_SEND_NO_TRUST:
+      case PATH_PAYMENT_STRICT_SEND_NOT_AUTHORIZED:
+      case PATH_PAYMENT_STRICT_SEND_LINE_FULL:
+        break;
+      case PATH_PAYMENT_STRICT_SEND_NO_ISSUER:
+        size += noIssuer.encodedSize();
+        break;
+      case PATH_PAYMENT_STRICT_SEND_TOO_FEW_OFFERS:
+      case PATH_PAYMENT_STRICT_SEND_OFFER_CROSS_SELF:
+      case PATH_PAYMENT_STRICT_SEND_UNDER_DESTMIN:
+        break;
+    }
+    return size;
+  }
+
   public static PathPaymentStrictSendResult decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -139,16 +167,145 @@ public class PathPaymentStrictSendResult implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static PathPaymentStrictSendResult decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    PathPaymentStrictSendResult decodedPathPaymentStrictSendResult =
+        new PathPaymentStrictSendResult();
+    PathPaymentStrictSendResultCode discriminant =
+        PathPaymentStrictSendResultCode.decode(reader, maxDepth);
+    decodedPathPaymentStrictSendResult.setDiscriminant(discriminant);
+    switch (decodedPathPaymentStrictSendResult.getDiscriminant()) {
+      case PATH_PAYMENT_STRICT_SEND_SUCCESS:
+        decodedPathPaymentStrictSendResult.success =
+            PathPaymentStrictSendResultSuccess.decode(reader, maxDepth);
+        break;
+      case PATH_PAYMENT_STRICT_SEND_MALFORMED:
+      case PATH_PAYMENT_STRICT_SEND_UNDERFUNDED:
+      case PATH_PAYMENT_STRICT_SEND_SRC_NO_TRUST:
+      case PATH_PAYMENT_STRICT_SEND_SRC_NOT_AUTHORIZED:
+      case PATH_PAYMENT_STRICT_SEND_NO_DESTINATION:
+      case PATH_PAYMENT_STRICT_SEND_NO_TRUST:
+      case PATH_PAYMENT_STRICT_SEND_NOT_AUTHORIZED:
+      case PATH_PAYMENT_STRICT_SEND_LINE_FULL:
+        break;
+      case PATH_PAYMENT_STRICT_SEND_NO_ISSUER:
+        decodedPathPaymentStrictSendResult.noIssuer = Asset.decode(reader, maxDepth);
+        break;
+      case PATH_PAYMENT_STRICT_SEND_TOO_FEW_OFFERS:
+      case PATH_PAYMENT_STRICT_SEND_OFFER_CROSS_SELF:
+      case PATH_PAYMENT_STRICT_SEND_UNDER_DESTMIN:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedPathPaymentStrictSendResult;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    PathPaymentStrictSendResultCode discriminant =
+        PathPaymentStrictSendResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case PATH_PAYMENT_STRICT_SEND_SUCCESS:
+        PathPaymentStrictSendResultSuccess.skip(stream, maxDepth);
+        break;
+      case PATH_PAYMENT_STRICT_SEND_MALFORMED:
+      case PATH_PAYMENT_STRICT_SEND_UNDERFUNDED:
+      case PATH_PAYMENT_STRICT_SEND_SRC_NO_TRUST:
+      case PATH_PAYMENT_STRICT_SEND_SRC_NOT_AUTHORIZED:
+      case PATH_PAYMENT_STRICT_SEND_NO_DESTINATION:
+      case PATH_PAYMENT_STRICT_SEND_NO_TRUST:
+      case PATH_PAYMENT_STRICT_SEND_NOT_AUTHORIZED:
+      case PATH_PAYMENT_STRICT_SEND_LINE_FULL:
+        break;
+      case PATH_PAYMENT_STRICT_SEND_NO_ISSUER:
+        Asset.skip(stream, maxDepth);
+        break;
+      case PATH_PAYMENT_STRICT_SEND_TOO_FEW_OFFERS:
+      case PATH_PAYMENT_STRICT_SEND_OFFER_CROSS_SELF:
+      case PATH_PAYMENT_STRICT_SEND_UNDER_DESTMIN:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "success", "noIssuer");
+    PathPaymentStrictSendResultCode discriminant =
+        PathPaymentStrictSendResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case PATH_PAYMENT_STRICT_SEND_SUCCESS:
+        if (field.equals("success")) {
+          PathPaymentStrictSendResultSuccess.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          PathPaymentStrictSendResultSuccess.skip(stream, maxDepth);
+        }
+        break;
+      case PATH_PAYMENT_STRICT_SEND_MALFORMED:
+      case PATH_PAYMENT_STRICT_SEND_UNDERFUNDED:
+      case PATH_PAYMENT_STRICT_SEND_SRC_NO_TRUST:
+      case PATH_PAYMENT_STRICT_SEND_SRC_NOT_AUTHORIZED:
+      case PATH_PAYMENT_STRICT_SEND_NO_DESTINATION:
+      case PATH_PAYMENT_STRICT_SEND_NO_TRUST:
+      case PATH_PAYMENT_STRICT_SEND_NOT_AUTHORIZED:
+      case PATH_PAYMENT_STRICT_SEND_LINE_FULL:
+        break;
+      case PATH_PAYMENT_STRICT_SEND_NO_ISSUER:
+        if (field.equals("noIssuer")) {
+          Asset.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Asset.skip(stream, maxDepth);
+        }
+        break;
+      case PATH_PAYMENT_STRICT_SEND_TOO_FEW_OFFERS:
+      case PATH_PAYMENT_STRICT_SEND_OFFER_CROSS_SELF:
+      case PATH_PAYMENT_STRICT_SEND_UNDER_DESTMIN:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static PathPaymentStrictSendResult fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static PathPaymentStrictSendResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static PathPaymentStrictSendResult fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -298,6 +455,17 @@ public class PathPaymentStrictSendResult implements XdrElement {
       last.encode(stream);
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 0;
+      size += 4;
+      for (int i = 0; i < offers.length; i++) {
+        size += offers[i].encodedSize();
+      }
+      size += last.encodedSize();
+      return size;
+    }
+
     public static PathPaymentStrictSendResultSuccess decode(XdrDataInputStream stream, int maxDepth)
         throws IOException {
       if (maxDepth <= 0) {
@@ -331,6 +499,119 @@ public class PathPaymentStrictSendResult implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static PathPaymentStrictSendResultSuccess decode(
+        XdrByteBufferReader reader, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      PathPaymentStrictSendResultSuccess decodedPathPaymentStrictSendResultSuccess =
+          new PathPaymentStrictSendResultSuccess();
+      int offersSize = reader.readInt();
+      if (offersSize < 0) {
+        throw new IOException("offers size " + offersSize + " is negative");
+      }
+      int offersRemainingInputLen = reader.getRemainingInputLen();
+      if (offersRemainingInputLen >= 0 && offersRemainingInputLen < offersSize) {
+        throw new IOException(
+            "offers size "
+                + offersSize
+                + " exceeds remaining input length "
+                + offersRemainingInputLen);
+      }
+      decodedPathPaymentStrictSendResultSuccess.offers = new ClaimAtom[offersSize];
+      for (int i = 0; i < offersSize; i++) {
+        decodedPathPaymentStrictSendResultSuccess.offers[i] = ClaimAtom.decode(reader, maxDepth);
+      }
+      decodedPathPaymentStrictSendResultSuccess.last = SimplePaymentResult.decode(reader, maxDepth);
+      return decodedPathPaymentStrictSendResultSuccess;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      int offersSize = stream.readInt();
+      if (offersSize < 0) {
+        throw new IOException("offers size " + offersSize + " is negative");
+      }
+      int offersRemainingInputLen = stream.getRemainingInputLen();
+      if (offersRemainingInputLen >= 0 && offersRemainingInputLen < offersSize) {
+        throw new IOException(
+            "offers size "
+                + offersSize
+                + " exceeds remaining input length "
+                + offersRemainingInputLen);
+      }
+      for (int i = 0; i < offersSize; i++) {
+        ClaimAtom.skip(stream, maxDepth);
+      }
+      SimplePaymentResult.skip(stream, maxDepth);
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index, "offers[*]", "last");
+      if (field.equals("offers")) {
+        int offersSize = stream.readInt();
+        if (offersSize < 0) {
+          throw new IOException("offers size " + offersSize + " is negative");
+        }
+        int offersRemainingInputLen = stream.getRemainingInputLen();
+        if (offersRemainingInputLen >= 0 && offersRemainingInputLen < offersSize) {
+          throw new IOException(
+              "offers size "
+                  + offersSize
+                  + " exceeds remaining input length "
+                  + offersRemainingInputLen);
+        }
+        for (int i = 0; i < offersSize; i++) {
+          ClaimAtom.extract(stream, maxDepth, path, index + 1, values);
+        }
+      } else {
+        int offersSize = stream.readInt();
+        if (offersSize < 0) {
+          throw new IOException("offers size " + offersSize + " is negative");
+        }
+        int offersRemainingInputLen = stream.getRemainingInputLen();
+        if (offersRemainingInputLen >= 0 && offersRemainingInputLen < offersSize) {
+          throw new IOException(
+              "offers size "
+                  + offersSize
+                  + " exceeds remaining input length "
+                  + offersRemainingInputLen);
+        }
+        for (int i = 0; i < offersSize; i++) {
+          ClaimAtom.skip(stream, maxDepth);
+        }
+      }
+      if (field.equals("last")) {
+        SimplePaymentResult.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        SimplePaymentResult.skip(stream, maxDepth);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static PathPaymentStrictSendResultSuccess fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
@@ -338,10 +619,13 @@ public class PathPaymentStrictSendResult implements XdrElement {
 
     public static PathPaymentStrictSendResultSuccess fromXdrByteArray(byte[] xdr)
         throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static PathPaymentStrictSendResultSuccess fromXdrByteBuffer(ByteBuffer xdr)
+        throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
@@ -3,8 +3,10 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import org.stellar.sdk.Base64Factory;
 
 /**
@@ -106,20 +108,85 @@ public enum PathPaymentStrictSendResultCode implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static PathPaymentStrictSendResultCode decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    // maxDepth is intentionally not checked - enums are leaf types with no recursive decoding
+    int value = reader.readInt();
+    switch (value) {
+      case 0:
+        return PATH_PAYMENT_STRICT_SEND_SUCCESS;
+      case -1:
+        return PATH_PAYMENT_STRICT_SEND_MALFORMED;
+      case -2:
+        return PATH_PAYMENT_STRICT_SEND_UNDERFUNDED;
+      case -3:
+        return PATH_PAYMENT_STRICT_SEND_SRC_NO_TRUST;
+      case -4:
+        return PATH_PAYMENT_STRICT_SEND_SRC_NOT_AUTHORIZED;
+      case -5:
+        return PATH_PAYMENT_STRICT_SEND_NO_DESTINATION;
+      case -6:
+        return PATH_PAYMENT_STRICT_SEND_NO_TRUST;
+      case -7:
+        return PATH_PAYMENT_STRICT_SEND_NOT_AUTHORIZED;
+      case -8:
+        return PATH_PAYMENT_STRICT_SEND_LINE_FULL;
+      case -9:
+        return PATH_PAYMENT_STRICT_SEND_NO_ISSUER;
+      case -10:
+        return PATH_PAYMENT_STRICT_SEND_TOO_FEW_OFFERS;
+      case -11:
+        return PATH_PAYMENT_STRICT_SEND_OFFER_CROSS_SELF;
+      case -12:
+        return PATH_PAYMENT_STRICT_SEND_UNDER_DESTMIN;
+      default:
+        throw new IllegalArgumentException("Unknown enum value: " + value);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    decode(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    path.checkEnd(index);
+    values.add(decode(stream, maxDepth));
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  @Override
+  public int encodedSize() {
+    return 4;
+  }
+
   public static PathPaymentStrictSendResultCode fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static PathPaymentStrictSendResultCode fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static PathPaymentStrictSendResultCode fromXdrByteBuffer(ByteBuffer xdr)
+      throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,8 +3,10 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -63,6 +65,26 @@ public class PaymentResult implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case PAYMENT_SUCCESS:
+        break;
+      case PAYMENT_MALFORMED:
+      case PAYMENT_UNDERFUNDED:
+      case PAYMENT_SRC_NO_TRUST:
+      case PAYMENT_SRC_NOT_AUTHORIZED:
+      case PAYMENT_NO_DESTINATION:
+      case PAYMENT_NO_TRUST:
+      case PAYMENT_NOT_AUTHORIZED:
+      case PAYMENT_LINE_FULL:
+      case PAYMENT_NO_ISSUER:
+        break;
+    }
+    return size;
+  }
+
   public static PaymentResult decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -94,16 +116,110 @@ public class PaymentResult implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static PaymentResult decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    PaymentResult decodedPaymentResult = new PaymentResult();
+    PaymentResultCode discriminant = PaymentResultCode.decode(reader, maxDepth);
+    decodedPaymentResult.setDiscriminant(discriminant);
+    switch (decodedPaymentResult.getDiscriminant()) {
+      case PAYMENT_SUCCESS:
+        break;
+      case PAYMENT_MALFORMED:
+      case PAYMENT_UNDERFUNDED:
+      case PAYMENT_SRC_NO_TRUST:
+      case PAYMENT_SRC_NOT_AUTHORIZED:
+      case PAYMENT_NO_DESTINATION:
+      case PAYMENT_NO_TRUST:
+      case PAYMENT_NOT_AUTHORIZED:
+      case PAYMENT_LINE_FULL:
+      case PAYMENT_NO_ISSUER:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedPaymentResult;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    PaymentResultCode discriminant = PaymentResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case PAYMENT_SUCCESS:
+        break;
+      case PAYMENT_MALFORMED:
+      case PAYMENT_UNDERFUNDED:
+      case PAYMENT_SRC_NO_TRUST:
+      case PAYMENT_SRC_NOT_AUTHORIZED:
+      case PAYMENT_NO_DESTINATION:
+      case PAYMENT_NO_TRUST:
+      case PAYMENT_NOT_AUTHORIZED:
+      case PAYMENT_LINE_FULL:
+      case PAYMENT_NO_ISSUER:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index);
+    PaymentResultCode discriminant = PaymentResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case PAYMENT_SUCCESS:
+        break;
+      case PAYMENT_MALFORMED:
+      case PAYMENT_UNDERFUNDED:
+      case PAYMENT_SRC_NO_TRUST:
+      case PAYMENT_SRC_NOT_AUTHORIZED:
+      case PAYMENT_NO_DESTINATION:
+      case PAYMENT_NO_TRUST:
+      case PAYMENT_NOT_AUTHORIZED:
+      case PAYMENT_LINE_FULL:
+      case PAYMENT_NO_ISSUER:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static PaymentResult fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static PaymentResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static PaymentResult fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
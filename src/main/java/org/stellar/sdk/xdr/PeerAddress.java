@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -66,6 +68,15 @@ public class PeerAddress implements XdrElement {
     numFailures.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += ip.encodedSize();
+    size += port.encodedSize();
+    size += numFailures.encodedSize();
+    return size;
+  }
+
   public static PeerAddress decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -82,16 +93,79 @@ public class PeerAddress implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static PeerAddress decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    PeerAddress decodedPeerAddress = new PeerAddress();
+    decodedPeerAddress.ip = PeerAddressIp.decode(reader, maxDepth);
+    decodedPeerAddress.port = Uint32.decode(reader, maxDepth);
+    decodedPeerAddress.numFailures = Uint32.decode(reader, maxDepth);
+    return decodedPeerAddress;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    PeerAddressIp.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "ip", "port", "numFailures");
+    if (field.equals("ip")) {
+      PeerAddressIp.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      PeerAddressIp.skip(stream, maxDepth);
+    }
+    if (field.equals("port")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("numFailures")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static PeerAddress fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static PeerAddress fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static PeerAddress fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -183,6 +257,20 @@ public class PeerAddress implements XdrElement {
       }
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 4;
+      switch (discriminant) {
+        case IPv4:
+          size += ((ipv4.length + 3) & ~3);
+          break;
+        case IPv6:
+          size += ((ipv6.length + 3) & ~3);
+          break;
+      }
+      return size;
+    }
+
     public static PeerAddressIp decode(XdrDataInputStream stream, int maxDepth) throws IOException {
       if (maxDepth <= 0) {
         throw new IOException("Maximum decoding depth reached");
@@ -212,16 +300,117 @@ public class PeerAddress implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static PeerAddressIp decode(XdrByteBufferReader reader, int maxDepth)
+        throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      PeerAddressIp decodedPeerAddressIp = new PeerAddressIp();
+      IPAddrType discriminant = IPAddrType.decode(reader, maxDepth);
+      decodedPeerAddressIp.setDiscriminant(discriminant);
+      switch (decodedPeerAddressIp.getDiscriminant()) {
+        case IPv4:
+          int ipv4Size = 4;
+          decodedPeerAddressIp.ipv4 = new byte[ipv4Size];
+          reader.readPaddedData(decodedPeerAddressIp.ipv4, 0, ipv4Size);
+          break;
+        case IPv6:
+          int ipv6Size = 16;
+          decodedPeerAddressIp.ipv6 = new byte[ipv6Size];
+          reader.readPaddedData(decodedPeerAddressIp.ipv6, 0, ipv6Size);
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+      return decodedPeerAddressIp;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      IPAddrType discriminant = IPAddrType.decode(stream, maxDepth);
+      switch (discriminant) {
+        case IPv4:
+          int ipv4Size = 4;
+          stream.skipPaddedData(ipv4Size);
+          break;
+        case IPv6:
+          int ipv6Size = 16;
+          stream.skipPaddedData(ipv6Size);
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index, "ipv4", "ipv6");
+      IPAddrType discriminant = IPAddrType.decode(stream, maxDepth);
+      switch (discriminant) {
+        case IPv4:
+          if (field.equals("ipv4")) {
+            int ipv4Size = 4;
+            path.checkEnd(index + 1);
+            byte[] ipv4Bytes = new byte[ipv4Size];
+            stream.readPaddedData(ipv4Bytes, 0, ipv4Size);
+            values.add(ipv4Bytes);
+          } else {
+            int ipv4Size = 4;
+            stream.skipPaddedData(ipv4Size);
+          }
+          break;
+        case IPv6:
+          if (field.equals("ipv6")) {
+            int ipv6Size = 16;
+            path.checkEnd(index + 1);
+            byte[] ipv6Bytes = new byte[ipv6Size];
+            stream.readPaddedData(ipv6Bytes, 0, ipv6Size);
+            values.add(ipv6Bytes);
+          } else {
+            int ipv6Size = 16;
+            stream.skipPaddedData(ipv6Size);
+          }
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static PeerAddressIp fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static PeerAddressIp fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static PeerAddressIp fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -185,6 +187,27 @@ public class PeerStats implements XdrElement {
     duplicateFetchMessageRecv.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += id.encodedSize();
+    size += versionStr.encodedSize();
+    size += messagesRead.encodedSize();
+    size += messagesWritten.encodedSize();
+    size += bytesRead.encodedSize();
+    size += bytesWritten.encodedSize();
+    size += secondsConnected.encodedSize();
+    size += uniqueFloodBytesRecv.encodedSize();
+    size += duplicateFloodBytesRecv.encodedSize();
+    size += uniqueFetchBytesRecv.encodedSize();
+    size += duplicateFetchBytesRecv.encodedSize();
+    size += uniqueFloodMessageRecv.encodedSize();
+    size += duplicateFloodMessageRecv.encodedSize();
+    size += uniqueFetchMessageRecv.encodedSize();
+    size += duplicateFetchMessageRecv.encodedSize();
+    return size;
+  }
+
   public static PeerStats decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -213,16 +236,181 @@ public class PeerStats implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static PeerStats decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    PeerStats decodedPeerStats = new PeerStats();
+    decodedPeerStats.id = NodeID.decode(reader, maxDepth);
+    decodedPeerStats.versionStr = XdrString.decode(reader, maxDepth, 100);
+    decodedPeerStats.messagesRead = Uint64.decode(reader, maxDepth);
+    decodedPeerStats.messagesWritten = Uint64.decode(reader, maxDepth);
+    decodedPeerStats.bytesRead = Uint64.decode(reader, maxDepth);
+    decodedPeerStats.bytesWritten = Uint64.decode(reader, maxDepth);
+    decodedPeerStats.secondsConnected = Uint64.decode(reader, maxDepth);
+    decodedPeerStats.uniqueFloodBytesRecv = Uint64.decode(reader, maxDepth);
+    decodedPeerStats.duplicateFloodBytesRecv = Uint64.decode(reader, maxDepth);
+    decodedPeerStats.uniqueFetchBytesRecv = Uint64.decode(reader, maxDepth);
+    decodedPeerStats.duplicateFetchBytesRecv = Uint64.decode(reader, maxDepth);
+    decodedPeerStats.uniqueFloodMessageRecv = Uint64.decode(reader, maxDepth);
+    decodedPeerStats.duplicateFloodMessageRecv = Uint64.decode(reader, maxDepth);
+    decodedPeerStats.uniqueFetchMessageRecv = Uint64.decode(reader, maxDepth);
+    decodedPeerStats.duplicateFetchMessageRecv = Uint64.decode(reader, maxDepth);
+    return decodedPeerStats;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    NodeID.skip(stream, maxDepth);
+    XdrString.skip(stream, maxDepth, 100);
+    Uint64.skip(stream, maxDepth);
+    Uint64.skip(stream, maxDepth);
+    Uint64.skip(stream, maxDepth);
+    Uint64.skip(stream, maxDepth);
+    Uint64.skip(stream, maxDepth);
+    Uint64.skip(stream, maxDepth);
+    Uint64.skip(stream, maxDepth);
+    Uint64.skip(stream, maxDepth);
+    Uint64.skip(stream, maxDepth);
+    Uint64.skip(stream, maxDepth);
+    Uint64.skip(stream, maxDepth);
+    Uint64.skip(stream, maxDepth);
+    Uint64.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field =
+        path.checkField(
+            index,
+            "id",
+            "versionStr",
+            "messagesRead",
+            "messagesWritten",
+            "bytesRead",
+            "bytesWritten",
+            "secondsConnected",
+            "uniqueFloodBytesRecv",
+            "duplicateFloodBytesRecv",
+            "uniqueFetchBytesRecv",
+            "duplicateFetchBytesRecv",
+            "uniqueFloodMessageRecv",
+            "duplicateFloodMessageRecv",
+            "uniqueFetchMessageRecv",
+            "duplicateFetchMessageRecv");
+    if (field.equals("id")) {
+      NodeID.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      NodeID.skip(stream, maxDepth);
+    }
+    if (field.equals("versionStr")) {
+      path.checkEnd(index + 1);
+      values.add(XdrString.decode(stream, maxDepth, 100));
+    } else {
+      XdrString.skip(stream, maxDepth, 100);
+    }
+    if (field.equals("messagesRead")) {
+      Uint64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint64.skip(stream, maxDepth);
+    }
+    if (field.equals("messagesWritten")) {
+      Uint64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint64.skip(stream, maxDepth);
+    }
+    if (field.equals("bytesRead")) {
+      Uint64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint64.skip(stream, maxDepth);
+    }
+    if (field.equals("bytesWritten")) {
+      Uint64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint64.skip(stream, maxDepth);
+    }
+    if (field.equals("secondsConnected")) {
+      Uint64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint64.skip(stream, maxDepth);
+    }
+    if (field.equals("uniqueFloodBytesRecv")) {
+      Uint64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint64.skip(stream, maxDepth);
+    }
+    if (field.equals("duplicateFloodBytesRecv")) {
+      Uint64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint64.skip(stream, maxDepth);
+    }
+    if (field.equals("uniqueFetchBytesRecv")) {
+      Uint64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint64.skip(stream, maxDepth);
+    }
+    if (field.equals("duplicateFetchBytesRecv")) {
+      Uint64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint64.skip(stream, maxDepth);
+    }
+    if (field.equals("uniqueFloodMessageRecv")) {
+      Uint64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint64.skip(stream, maxDepth);
+    }
+    if (field.equals("duplicateFloodMessageRecv")) {
+      Uint64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint64.skip(stream, maxDepth);
+    }
+    if (field.equals("uniqueFetchMessageRecv")) {
+      Uint64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint64.skip(stream, maxDepth);
+    }
+    if (field.equals("duplicateFetchMessageRecv")) {
+      Uint64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint64.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static PeerStats fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static PeerStats fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static PeerStats fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -59,6 +60,20 @@ public class PersistedSCPStateV1 implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    for (int i = 0; i < scpEnvelopes.length; i++) {
+      size += scpEnvelopes[i].encodedSize();
+    }
+    size += 4;
+    for (int i = 0; i < quorumSets.length; i++) {
+      size += quorumSets[i].encodedSize();
+    }
+    return size;
+  }
+
   public static PersistedSCPStateV1 decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -105,16 +120,187 @@ public class PersistedSCPStateV1 implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static PersistedSCPStateV1 decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    PersistedSCPStateV1 decodedPersistedSCPStateV1 = new PersistedSCPStateV1();
+    int scpEnvelopesSize = reader.readInt();
+    if (scpEnvelopesSize < 0) {
+      throw new IOException("scpEnvelopes size " + scpEnvelopesSize + " is negative");
+    }
+    int scpEnvelopesRemainingInputLen = reader.getRemainingInputLen();
+    if (scpEnvelopesRemainingInputLen >= 0 && scpEnvelopesRemainingInputLen < scpEnvelopesSize) {
+      throw new IOException(
+          "scpEnvelopes size "
+              + scpEnvelopesSize
+              + " exceeds remaining input length "
+              + scpEnvelopesRemainingInputLen);
+    }
+    decodedPersistedSCPStateV1.scpEnvelopes = new SCPEnvelope[scpEnvelopesSize];
+    for (int i = 0; i < scpEnvelopesSize; i++) {
+      decodedPersistedSCPStateV1.scpEnvelopes[i] = SCPEnvelope.decode(reader, maxDepth);
+    }
+    int quorumSetsSize = reader.readInt();
+    if (quorumSetsSize < 0) {
+      throw new IOException("quorumSets size " + quorumSetsSize + " is negative");
+    }
+    int quorumSetsRemainingInputLen = reader.getRemainingInputLen();
+    if (quorumSetsRemainingInputLen >= 0 && quorumSetsRemainingInputLen < quorumSetsSize) {
+      throw new IOException(
+          "quorumSets size "
+              + quorumSetsSize
+              + " exceeds remaining input length "
+              + quorumSetsRemainingInputLen);
+    }
+    decodedPersistedSCPStateV1.quorumSets = new SCPQuorumSet[quorumSetsSize];
+    for (int i = 0; i < quorumSetsSize; i++) {
+      decodedPersistedSCPStateV1.quorumSets[i] = SCPQuorumSet.decode(reader, maxDepth);
+    }
+    return decodedPersistedSCPStateV1;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int scpEnvelopesSize = stream.readInt();
+    if (scpEnvelopesSize < 0) {
+      throw new IOException("scpEnvelopes size " + scpEnvelopesSize + " is negative");
+    }
+    int scpEnvelopesRemainingInputLen = stream.getRemainingInputLen();
+    if (scpEnvelopesRemainingInputLen >= 0 && scpEnvelopesRemainingInputLen < scpEnvelopesSize) {
+      throw new IOException(
+          "scpEnvelopes size "
+              + scpEnvelopesSize
+              + " exceeds remaining input length "
+              + scpEnvelopesRemainingInputLen);
+    }
+    for (int i = 0; i < scpEnvelopesSize; i++) {
+      SCPEnvelope.skip(stream, maxDepth);
+    }
+    int quorumSetsSize = stream.readInt();
+    if (quorumSetsSize < 0) {
+      throw new IOException("quorumSets size " + quorumSetsSize + " is negative");
+    }
+    int quorumSetsRemainingInputLen = stream.getRemainingInputLen();
+    if (quorumSetsRemainingInputLen >= 0 && quorumSetsRemainingInputLen < quorumSetsSize) {
+      throw new IOException(
+          "quorumSets size "
+              + quorumSetsSize
+              + " exceeds remaining input length "
+              + quorumSetsRemainingInputLen);
+    }
+    for (int i = 0; i < quorumSetsSize; i++) {
+      SCPQuorumSet.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "scpEnvelopes[*]", "quorumSets[*]");
+    if (field.equals("scpEnvelopes")) {
+      int scpEnvelopesSize = stream.readInt();
+      if (scpEnvelopesSize < 0) {
+        throw new IOException("scpEnvelopes size " + scpEnvelopesSize + " is negative");
+      }
+      int scpEnvelopesRemainingInputLen = stream.getRemainingInputLen();
+      if (scpEnvelopesRemainingInputLen >= 0 && scpEnvelopesRemainingInputLen < scpEnvelopesSize) {
+        throw new IOException(
+            "scpEnvelopes size "
+                + scpEnvelopesSize
+                + " exceeds remaining input length "
+                + scpEnvelopesRemainingInputLen);
+      }
+      for (int i = 0; i < scpEnvelopesSize; i++) {
+        SCPEnvelope.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int scpEnvelopesSize = stream.readInt();
+      if (scpEnvelopesSize < 0) {
+        throw new IOException("scpEnvelopes size " + scpEnvelopesSize + " is negative");
+      }
+      int scpEnvelopesRemainingInputLen = stream.getRemainingInputLen();
+      if (scpEnvelopesRemainingInputLen >= 0 && scpEnvelopesRemainingInputLen < scpEnvelopesSize) {
+        throw new IOException(
+            "scpEnvelopes size "
+                + scpEnvelopesSize
+                + " exceeds remaining input length "
+                + scpEnvelopesRemainingInputLen);
+      }
+      for (int i = 0; i < scpEnvelopesSize; i++) {
+        SCPEnvelope.skip(stream, maxDepth);
+      }
+    }
+    if (field.equals("quorumSets")) {
+      int quorumSetsSize = stream.readInt();
+      if (quorumSetsSize < 0) {
+        throw new IOException("quorumSets size " + quorumSetsSize + " is negative");
+      }
+      int quorumSetsRemainingInputLen = stream.getRemainingInputLen();
+      if (quorumSetsRemainingInputLen >= 0 && quorumSetsRemainingInputLen < quorumSetsSize) {
+        throw new IOException(
+            "quorumSets size "
+                + quorumSetsSize
+                + " exceeds remaining input length "
+                + quorumSetsRemainingInputLen);
+      }
+      for (int i = 0; i < quorumSetsSize; i++) {
+        SCPQuorumSet.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int quorumSetsSize = stream.readInt();
+      if (quorumSetsSize < 0) {
+        throw new IOException("quorumSets size " + quorumSetsSize + " is negative");
+      }
+      int quorumSetsRemainingInputLen = stream.getRemainingInputLen();
+      if (quorumSetsRemainingInputLen >= 0 && quorumSetsRemainingInputLen < quorumSetsSize) {
+        throw new IOException(
+            "quorumSets size "
+                + quorumSetsSize
+                + " exceeds remaining input length "
+                + quorumSetsRemainingInputLen);
+      }
+      for (int i = 0; i < quorumSetsSize; i++) {
+        SCPQuorumSet.skip(stream, maxDepth);
+      }
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static PersistedSCPStateV1 fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static PersistedSCPStateV1 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static PersistedSCPStateV1 fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -70,6 +72,22 @@ public class Preconditions implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case PRECOND_NONE:
+        break;
+      case PRECOND_TIME:
+        size += timeBounds.encodedSize();
+        break;
+      case PRECOND_V2:
+        size += v2.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static Preconditions decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -97,16 +115,106 @@ public class Preconditions implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static Preconditions decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Preconditions decodedPreconditions = new Preconditions();
+    PreconditionType discriminant = PreconditionType.decode(reader, maxDepth);
+    decodedPreconditions.setDiscriminant(discriminant);
+    switch (decodedPreconditions.getDiscriminant()) {
+      case PRECOND_NONE:
+        break;
+      case PRECOND_TIME:
+        decodedPreconditions.timeBounds = TimeBounds.decode(reader, maxDepth);
+        break;
+      case PRECOND_V2:
+        decodedPreconditions.v2 = PreconditionsV2.decode(reader, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedPreconditions;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    PreconditionType discriminant = PreconditionType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case PRECOND_NONE:
+        break;
+      case PRECOND_TIME:
+        TimeBounds.skip(stream, maxDepth);
+        break;
+      case PRECOND_V2:
+        PreconditionsV2.skip(stream, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "timeBounds", "v2");
+    PreconditionType discriminant = PreconditionType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case PRECOND_NONE:
+        break;
+      case PRECOND_TIME:
+        if (field.equals("timeBounds")) {
+          TimeBounds.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          TimeBounds.skip(stream, maxDepth);
+        }
+        break;
+      case PRECOND_V2:
+        if (field.equals("v2")) {
+          PreconditionsV2.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          PreconditionsV2.skip(stream, maxDepth);
+        }
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static Preconditions fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static Preconditions fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static Preconditions fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
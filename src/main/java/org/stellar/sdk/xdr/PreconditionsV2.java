@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -135,6 +136,30 @@ public class PreconditionsV2 implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    if (timeBounds != null) {
+      size += timeBounds.encodedSize();
+    }
+    size += 4;
+    if (ledgerBounds != null) {
+      size += ledgerBounds.encodedSize();
+    }
+    size += 4;
+    if (minSeqNum != null) {
+      size += minSeqNum.encodedSize();
+    }
+    size += minSeqAge.encodedSize();
+    size += minSeqLedgerGap.encodedSize();
+    size += 4;
+    for (int i = 0; i < extraSigners.length; i++) {
+      size += extraSigners[i].encodedSize();
+    }
+    return size;
+  }
+
   public static PreconditionsV2 decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -181,16 +206,214 @@ public class PreconditionsV2 implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static PreconditionsV2 decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    PreconditionsV2 decodedPreconditionsV2 = new PreconditionsV2();
+    boolean timeBoundsPresent = reader.readXdrBoolean();
+    if (timeBoundsPresent) {
+      decodedPreconditionsV2.timeBounds = TimeBounds.decode(reader, maxDepth);
+    }
+    boolean ledgerBoundsPresent = reader.readXdrBoolean();
+    if (ledgerBoundsPresent) {
+      decodedPreconditionsV2.ledgerBounds = LedgerBounds.decode(reader, maxDepth);
+    }
+    boolean minSeqNumPresent = reader.readXdrBoolean();
+    if (minSeqNumPresent) {
+      decodedPreconditionsV2.minSeqNum = SequenceNumber.decode(reader, maxDepth);
+    }
+    decodedPreconditionsV2.minSeqAge = Duration.decode(reader, maxDepth);
+    decodedPreconditionsV2.minSeqLedgerGap = Uint32.decode(reader, maxDepth);
+    int extraSignersSize = reader.readInt();
+    if (extraSignersSize < 0) {
+      throw new IOException("extraSigners size " + extraSignersSize + " is negative");
+    }
+    if (extraSignersSize > 2) {
+      throw new IOException("extraSigners size " + extraSignersSize + " exceeds max size 2");
+    }
+    int extraSignersRemainingInputLen = reader.getRemainingInputLen();
+    if (extraSignersRemainingInputLen >= 0 && extraSignersRemainingInputLen < extraSignersSize) {
+      throw new IOException(
+          "extraSigners size "
+              + extraSignersSize
+              + " exceeds remaining input length "
+              + extraSignersRemainingInputLen);
+    }
+    decodedPreconditionsV2.extraSigners = new SignerKey[extraSignersSize];
+    for (int i = 0; i < extraSignersSize; i++) {
+      decodedPreconditionsV2.extraSigners[i] = SignerKey.decode(reader, maxDepth);
+    }
+    return decodedPreconditionsV2;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    boolean timeBoundsPresent = stream.readXdrBoolean();
+    if (timeBoundsPresent) {
+      TimeBounds.skip(stream, maxDepth);
+    }
+    boolean ledgerBoundsPresent = stream.readXdrBoolean();
+    if (ledgerBoundsPresent) {
+      LedgerBounds.skip(stream, maxDepth);
+    }
+    boolean minSeqNumPresent = stream.readXdrBoolean();
+    if (minSeqNumPresent) {
+      SequenceNumber.skip(stream, maxDepth);
+    }
+    Duration.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    int extraSignersSize = stream.readInt();
+    if (extraSignersSize < 0) {
+      throw new IOException("extraSigners size " + extraSignersSize + " is negative");
+    }
+    if (extraSignersSize > 2) {
+      throw new IOException("extraSigners size " + extraSignersSize + " exceeds max size 2");
+    }
+    int extraSignersRemainingInputLen = stream.getRemainingInputLen();
+    if (extraSignersRemainingInputLen >= 0 && extraSignersRemainingInputLen < extraSignersSize) {
+      throw new IOException(
+          "extraSigners size "
+              + extraSignersSize
+              + " exceeds remaining input length "
+              + extraSignersRemainingInputLen);
+    }
+    for (int i = 0; i < extraSignersSize; i++) {
+      SignerKey.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field =
+        path.checkField(
+            index,
+            "timeBounds",
+            "ledgerBounds",
+            "minSeqNum",
+            "minSeqAge",
+            "minSeqLedgerGap",
+            "extraSigners[*]");
+    if (field.equals("timeBounds")) {
+      boolean timeBoundsPresent = stream.readXdrBoolean();
+      if (timeBoundsPresent) {
+        TimeBounds.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      boolean timeBoundsPresent = stream.readXdrBoolean();
+      if (timeBoundsPresent) {
+        TimeBounds.skip(stream, maxDepth);
+      }
+    }
+    if (field.equals("ledgerBounds")) {
+      boolean ledgerBoundsPresent = stream.readXdrBoolean();
+      if (ledgerBoundsPresent) {
+        LedgerBounds.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      boolean ledgerBoundsPresent = stream.readXdrBoolean();
+      if (ledgerBoundsPresent) {
+        LedgerBounds.skip(stream, maxDepth);
+      }
+    }
+    if (field.equals("minSeqNum")) {
+      boolean minSeqNumPresent = stream.readXdrBoolean();
+      if (minSeqNumPresent) {
+        SequenceNumber.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      boolean minSeqNumPresent = stream.readXdrBoolean();
+      if (minSeqNumPresent) {
+        SequenceNumber.skip(stream, maxDepth);
+      }
+    }
+    if (field.equals("minSeqAge")) {
+      Duration.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Duration.skip(stream, maxDepth);
+    }
+    if (field.equals("minSeqLedgerGap")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("extraSigners")) {
+      int extraSignersSize = stream.readInt();
+      if (extraSignersSize < 0) {
+        throw new IOException("extraSigners size " + extraSignersSize + " is negative");
+      }
+      if (extraSignersSize > 2) {
+        throw new IOException("extraSigners size " + extraSignersSize + " exceeds max size 2");
+      }
+      int extraSignersRemainingInputLen = stream.getRemainingInputLen();
+      if (extraSignersRemainingInputLen >= 0 && extraSignersRemainingInputLen < extraSignersSize) {
+        throw new IOException(
+            "extraSigners size "
+                + extraSignersSize
+                + " exceeds remaining input length "
+                + extraSignersRemainingInputLen);
+      }
+      for (int i = 0; i < extraSignersSize; i++) {
+        SignerKey.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int extraSignersSize = stream.readInt();
+      if (extraSignersSize < 0) {
+        throw new IOException("extraSigners size " + extraSignersSize + " is negative");
+      }
+      if (extraSignersSize > 2) {
+        throw new IOException("extraSigners size " + extraSignersSize + " exceeds max size 2");
+      }
+      int extraSignersRemainingInputLen = stream.getRemainingInputLen();
+      if (extraSignersRemainingInputLen >= 0 && extraSignersRemainingInputLen < extraSignersSize) {
+        throw new IOException(
+            "extraSigners size "
+                + extraSignersSize
+                + " exceeds remaining input length "
+                + extraSignersRemainingInputLen);
+      }
+      for (int i = 0; i < extraSignersSize; i++) {
+        SignerKey.skip(stream, maxDepth);
+      }
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static PreconditionsV2 fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static PreconditionsV2 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static PreconditionsV2 fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,8 +3,10 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -51,6 +53,20 @@ public class RestoreFootprintResult implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case RESTORE_FOOTPRINT_SUCCESS:
+        break;
+      case RESTORE_FOOTPRINT_MALFORMED:
+      case RESTORE_FOOTPRINT_RESOURCE_LIMIT_EXCEEDED:
+      case RESTORE_FOOTPRINT_INSUFFICIENT_REFUNDABLE_FEE:
+        break;
+    }
+    return size;
+  }
+
   public static RestoreFootprintResult decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -77,16 +93,93 @@ public class RestoreFootprintResult implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static RestoreFootprintResult decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    RestoreFootprintResult decodedRestoreFootprintResult = new RestoreFootprintResult();
+    RestoreFootprintResultCode discriminant = RestoreFootprintResultCode.decode(reader, maxDepth);
+    decodedRestoreFootprintResult.setDiscriminant(discriminant);
+    switch (decodedRestoreFootprintResult.getDiscriminant()) {
+      case RESTORE_FOOTPRINT_SUCCESS:
+        break;
+      case RESTORE_FOOTPRINT_MALFORMED:
+      case RESTORE_FOOTPRINT_RESOURCE_LIMIT_EXCEEDED:
+      case RESTORE_FOOTPRINT_INSUFFICIENT_REFUNDABLE_FEE:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedRestoreFootprintResult;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    RestoreFootprintResultCode discriminant = RestoreFootprintResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case RESTORE_FOOTPRINT_SUCCESS:
+        break;
+      case RESTORE_FOOTPRINT_MALFORMED:
+      case RESTORE_FOOTPRINT_RESOURCE_LIMIT_EXCEEDED:
+      case RESTORE_FOOTPRINT_INSUFFICIENT_REFUNDABLE_FEE:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index);
+    RestoreFootprintResultCode discriminant = RestoreFootprintResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case RESTORE_FOOTPRINT_SUCCESS:
+        break;
+      case RESTORE_FOOTPRINT_MALFORMED:
+      case RESTORE_FOOTPRINT_RESOURCE_LIMIT_EXCEEDED:
+      case RESTORE_FOOTPRINT_INSUFFICIENT_REFUNDABLE_FEE:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static RestoreFootprintResult fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static RestoreFootprintResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static RestoreFootprintResult fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -70,6 +72,20 @@ public class RevokeSponsorshipOp implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case REVOKE_SPONSORSHIP_LEDGER_ENTRY:
+        size += ledgerKey.encodedSize();
+        break;
+      case REVOKE_SPONSORSHIP_SIGNER:
+        size += signer.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static RevokeSponsorshipOp decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -96,16 +112,101 @@ public class RevokeSponsorshipOp implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static RevokeSponsorshipOp decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    RevokeSponsorshipOp decodedRevokeSponsorshipOp = new RevokeSponsorshipOp();
+    RevokeSponsorshipType discriminant = RevokeSponsorshipType.decode(reader, maxDepth);
+    decodedRevokeSponsorshipOp.setDiscriminant(discriminant);
+    switch (decodedRevokeSponsorshipOp.getDiscriminant()) {
+      case REVOKE_SPONSORSHIP_LEDGER_ENTRY:
+        decodedRevokeSponsorshipOp.ledgerKey = LedgerKey.decode(reader, maxDepth);
+        break;
+      case REVOKE_SPONSORSHIP_SIGNER:
+        decodedRevokeSponsorshipOp.signer = RevokeSponsorshipOpSigner.decode(reader, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedRevokeSponsorshipOp;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    RevokeSponsorshipType discriminant = RevokeSponsorshipType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case REVOKE_SPONSORSHIP_LEDGER_ENTRY:
+        LedgerKey.skip(stream, maxDepth);
+        break;
+      case REVOKE_SPONSORSHIP_SIGNER:
+        RevokeSponsorshipOpSigner.skip(stream, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "ledgerKey", "signer");
+    RevokeSponsorshipType discriminant = RevokeSponsorshipType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case REVOKE_SPONSORSHIP_LEDGER_ENTRY:
+        if (field.equals("ledgerKey")) {
+          LedgerKey.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          LedgerKey.skip(stream, maxDepth);
+        }
+        break;
+      case REVOKE_SPONSORSHIP_SIGNER:
+        if (field.equals("signer")) {
+          RevokeSponsorshipOpSigner.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          RevokeSponsorshipOpSigner.skip(stream, maxDepth);
+        }
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static RevokeSponsorshipOp fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static RevokeSponsorshipOp fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static RevokeSponsorshipOp fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -196,6 +297,14 @@ public class RevokeSponsorshipOp implements XdrElement {
       signerKey.encode(stream);
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 0;
+      size += accountID.encodedSize();
+      size += signerKey.encodedSize();
+      return size;
+    }
+
     public static RevokeSponsorshipOpSigner decode(XdrDataInputStream stream, int maxDepth)
         throws IOException {
       if (maxDepth <= 0) {
@@ -212,16 +321,73 @@ public class RevokeSponsorshipOp implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static RevokeSponsorshipOpSigner decode(XdrByteBufferReader reader, int maxDepth)
+        throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      RevokeSponsorshipOpSigner decodedRevokeSponsorshipOpSigner = new RevokeSponsorshipOpSigner();
+      decodedRevokeSponsorshipOpSigner.accountID = AccountID.decode(reader, maxDepth);
+      decodedRevokeSponsorshipOpSigner.signerKey = SignerKey.decode(reader, maxDepth);
+      return decodedRevokeSponsorshipOpSigner;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      AccountID.skip(stream, maxDepth);
+      SignerKey.skip(stream, maxDepth);
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index, "accountID", "signerKey");
+      if (field.equals("accountID")) {
+        AccountID.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        AccountID.skip(stream, maxDepth);
+      }
+      if (field.equals("signerKey")) {
+        SignerKey.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        SignerKey.skip(stream, maxDepth);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static RevokeSponsorshipOpSigner fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static RevokeSponsorshipOpSigner fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static RevokeSponsorshipOpSigner fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
@@ -3,8 +3,10 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -55,6 +57,22 @@ public class RevokeSponsorshipResult implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case REVOKE_SPONSORSHIP_SUCCESS:
+        break;
+      case REVOKE_SPONSORSHIP_DOES_NOT_EXIST:
+      case REVOKE_SPONSORSHIP_NOT_SPONSOR:
+      case REVOKE_SPONSORSHIP_LOW_RESERVE:
+      case REVOKE_SPONSORSHIP_ONLY_TRANSFERABLE:
+      case REVOKE_SPONSORSHIP_MALFORMED:
+        break;
+    }
+    return size;
+  }
+
   public static RevokeSponsorshipResult decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -83,16 +101,99 @@ public class RevokeSponsorshipResult implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static RevokeSponsorshipResult decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    RevokeSponsorshipResult decodedRevokeSponsorshipResult = new RevokeSponsorshipResult();
+    RevokeSponsorshipResultCode discriminant = RevokeSponsorshipResultCode.decode(reader, maxDepth);
+    decodedRevokeSponsorshipResult.setDiscriminant(discriminant);
+    switch (decodedRevokeSponsorshipResult.getDiscriminant()) {
+      case REVOKE_SPONSORSHIP_SUCCESS:
+        break;
+      case REVOKE_SPONSORSHIP_DOES_NOT_EXIST:
+      case REVOKE_SPONSORSHIP_NOT_SPONSOR:
+      case REVOKE_SPONSORSHIP_LOW_RESERVE:
+      case REVOKE_SPONSORSHIP_ONLY_TRANSFERABLE:
+      case REVOKE_SPONSORSHIP_MALFORMED:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedRevokeSponsorshipResult;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    RevokeSponsorshipResultCode discriminant = RevokeSponsorshipResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case REVOKE_SPONSORSHIP_SUCCESS:
+        break;
+      case REVOKE_SPONSORSHIP_DOES_NOT_EXIST:
+      case REVOKE_SPONSORSHIP_NOT_SPONSOR:
+      case REVOKE_SPONSORSHIP_LOW_RESERVE:
+      case REVOKE_SPONSORSHIP_ONLY_TRANSFERABLE:
+      case REVOKE_SPONSORSHIP_MALFORMED:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index);
+    RevokeSponsorshipResultCode discriminant = RevokeSponsorshipResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case REVOKE_SPONSORSHIP_SUCCESS:
+        break;
+      case REVOKE_SPONSORSHIP_DOES_NOT_EXIST:
+      case REVOKE_SPONSORSHIP_NOT_SPONSOR:
+      case REVOKE_SPONSORSHIP_LOW_RESERVE:
+      case REVOKE_SPONSORSHIP_ONLY_TRANSFERABLE:
+      case REVOKE_SPONSORSHIP_MALFORMED:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static RevokeSponsorshipResult fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static RevokeSponsorshipResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static RevokeSponsorshipResult fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -6,6 +6,9 @@ package org.stellar.sdk.xdr;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -106,6 +109,29 @@ public class SCAddress implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case SC_ADDRESS_TYPE_ACCOUNT:
+        size += accountId.encodedSize();
+        break;
+      case SC_ADDRESS_TYPE_CONTRACT:
+        size += contractId.encodedSize();
+        break;
+      case SC_ADDRESS_TYPE_MUXED_ACCOUNT:
+        size += muxedAccount.encodedSize();
+        break;
+      case SC_ADDRESS_TYPE_CLAIMABLE_BALANCE:
+        size += claimableBalanceId.encodedSize();
+        break;
+      case SC_ADDRESS_TYPE_LIQUIDITY_POOL:
+        size += liquidityPoolId.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static SCAddress decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -140,16 +166,146 @@ public class SCAddress implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static SCAddress decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SCAddress decodedSCAddress = new SCAddress();
+    SCAddressType discriminant = SCAddressType.decode(reader, maxDepth);
+    decodedSCAddress.setDiscriminant(discriminant);
+    switch (decodedSCAddress.getDiscriminant()) {
+      case SC_ADDRESS_TYPE_ACCOUNT:
+        decodedSCAddress.accountId = AccountID.decode(reader, maxDepth);
+        break;
+      case SC_ADDRESS_TYPE_CONTRACT:
+        decodedSCAddress.contractId = ContractID.decode(reader, maxDepth);
+        break;
+      case SC_ADDRESS_TYPE_MUXED_ACCOUNT:
+        decodedSCAddress.muxedAccount = MuxedEd25519Account.decode(reader, maxDepth);
+        break;
+      case SC_ADDRESS_TYPE_CLAIMABLE_BALANCE:
+        decodedSCAddress.claimableBalanceId = ClaimableBalanceID.decode(reader, maxDepth);
+        break;
+      case SC_ADDRESS_TYPE_LIQUIDITY_POOL:
+        decodedSCAddress.liquidityPoolId = PoolID.decode(reader, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedSCAddress;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SCAddressType discriminant = SCAddressType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case SC_ADDRESS_TYPE_ACCOUNT:
+        AccountID.skip(stream, maxDepth);
+        break;
+      case SC_ADDRESS_TYPE_CONTRACT:
+        ContractID.skip(stream, maxDepth);
+        break;
+      case SC_ADDRESS_TYPE_MUXED_ACCOUNT:
+        MuxedEd25519Account.skip(stream, maxDepth);
+        break;
+      case SC_ADDRESS_TYPE_CLAIMABLE_BALANCE:
+        ClaimableBalanceID.skip(stream, maxDepth);
+        break;
+      case SC_ADDRESS_TYPE_LIQUIDITY_POOL:
+        PoolID.skip(stream, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field =
+        path.checkField(
+            index,
+            "accountId",
+            "contractId",
+            "muxedAccount",
+            "claimableBalanceId",
+            "liquidityPoolId");
+    SCAddressType discriminant = SCAddressType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case SC_ADDRESS_TYPE_ACCOUNT:
+        if (field.equals("accountId")) {
+          AccountID.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          AccountID.skip(stream, maxDepth);
+        }
+        break;
+      case SC_ADDRESS_TYPE_CONTRACT:
+        if (field.equals("contractId")) {
+          ContractID.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          ContractID.skip(stream, maxDepth);
+        }
+        break;
+      case SC_ADDRESS_TYPE_MUXED_ACCOUNT:
+        if (field.equals("muxedAccount")) {
+          MuxedEd25519Account.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          MuxedEd25519Account.skip(stream, maxDepth);
+        }
+        break;
+      case SC_ADDRESS_TYPE_CLAIMABLE_BALANCE:
+        if (field.equals("claimableBalanceId")) {
+          ClaimableBalanceID.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          ClaimableBalanceID.skip(stream, maxDepth);
+        }
+        break;
+      case SC_ADDRESS_TYPE_LIQUIDITY_POOL:
+        if (field.equals("liquidityPoolId")) {
+          PoolID.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          PoolID.skip(stream, maxDepth);
+        }
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static SCAddress fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static SCAddress fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static SCAddress fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
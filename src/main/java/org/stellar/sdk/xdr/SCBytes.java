@@ -3,8 +3,10 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -35,6 +37,13 @@ public class SCBytes implements XdrElement {
     stream.write(getSCBytes(), 0, SCBytesSize);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += 4 + ((SCBytes.length + 3) & ~3);
+    return size;
+  }
+
   public static SCBytes decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -62,16 +71,100 @@ public class SCBytes implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static SCBytes decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SCBytes decodedSCBytes = new SCBytes();
+    int SCBytesSize = reader.readInt();
+    if (SCBytesSize < 0) {
+      throw new IOException("SCBytes size " + SCBytesSize + " is negative");
+    }
+    int SCBytesRemainingInputLen = reader.getRemainingInputLen();
+    if (SCBytesRemainingInputLen >= 0 && SCBytesRemainingInputLen < SCBytesSize) {
+      throw new IOException(
+          "SCBytes size "
+              + SCBytesSize
+              + " exceeds remaining input length "
+              + SCBytesRemainingInputLen);
+    }
+    decodedSCBytes.SCBytes = new byte[SCBytesSize];
+    reader.readPaddedData(decodedSCBytes.SCBytes, 0, SCBytesSize);
+    return decodedSCBytes;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int SCBytesSize = stream.readInt();
+    if (SCBytesSize < 0) {
+      throw new IOException("SCBytes size " + SCBytesSize + " is negative");
+    }
+    int SCBytesRemainingInputLen = stream.getRemainingInputLen();
+    if (SCBytesRemainingInputLen >= 0 && SCBytesRemainingInputLen < SCBytesSize) {
+      throw new IOException(
+          "SCBytes size "
+              + SCBytesSize
+              + " exceeds remaining input length "
+              + SCBytesRemainingInputLen);
+    }
+    stream.skipPaddedData(SCBytesSize);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int SCBytesSize = stream.readInt();
+    if (SCBytesSize < 0) {
+      throw new IOException("SCBytes size " + SCBytesSize + " is negative");
+    }
+    int SCBytesRemainingInputLen = stream.getRemainingInputLen();
+    if (SCBytesRemainingInputLen >= 0 && SCBytesRemainingInputLen < SCBytesSize) {
+      throw new IOException(
+          "SCBytes size "
+              + SCBytesSize
+              + " exceeds remaining input length "
+              + SCBytesRemainingInputLen);
+    }
+    path.checkEnd(index);
+    byte[] SCBytesBytes = new byte[SCBytesSize];
+    stream.readPaddedData(SCBytesBytes, 0, SCBytesSize);
+    values.add(SCBytesBytes);
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static SCBytes fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static SCBytes fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static SCBytes fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -53,6 +55,17 @@ public class SCContractInstance implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += executable.encodedSize();
+    size += 4;
+    if (storage != null) {
+      size += storage.encodedSize();
+    }
+    return size;
+  }
+
   public static SCContractInstance decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -72,16 +85,85 @@ public class SCContractInstance implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static SCContractInstance decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SCContractInstance decodedSCContractInstance = new SCContractInstance();
+    decodedSCContractInstance.executable = ContractExecutable.decode(reader, maxDepth);
+    boolean storagePresent = reader.readXdrBoolean();
+    if (storagePresent) {
+      decodedSCContractInstance.storage = SCMap.decode(reader, maxDepth);
+    }
+    return decodedSCContractInstance;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ContractExecutable.skip(stream, maxDepth);
+    boolean storagePresent = stream.readXdrBoolean();
+    if (storagePresent) {
+      SCMap.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "executable", "storage[*]");
+    if (field.equals("executable")) {
+      ContractExecutable.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      ContractExecutable.skip(stream, maxDepth);
+    }
+    if (field.equals("storage")) {
+      boolean storagePresent = stream.readXdrBoolean();
+      if (storagePresent) {
+        SCMap.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      boolean storagePresent = stream.readXdrBoolean();
+      if (storagePresent) {
+        SCMap.skip(stream, maxDepth);
+      }
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static SCContractInstance fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static SCContractInstance fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static SCContractInstance fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
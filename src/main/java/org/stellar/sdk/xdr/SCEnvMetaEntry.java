@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -56,6 +58,17 @@ public class SCEnvMetaEntry implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case SC_ENV_META_KIND_INTERFACE_VERSION:
+        size += interfaceVersion.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static SCEnvMetaEntry decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -79,16 +92,88 @@ public class SCEnvMetaEntry implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static SCEnvMetaEntry decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SCEnvMetaEntry decodedSCEnvMetaEntry = new SCEnvMetaEntry();
+    SCEnvMetaKind discriminant = SCEnvMetaKind.decode(reader, maxDepth);
+    decodedSCEnvMetaEntry.setDiscriminant(discriminant);
+    switch (decodedSCEnvMetaEntry.getDiscriminant()) {
+      case SC_ENV_META_KIND_INTERFACE_VERSION:
+        decodedSCEnvMetaEntry.interfaceVersion =
+            SCEnvMetaEntryInterfaceVersion.decode(reader, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedSCEnvMetaEntry;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SCEnvMetaKind discriminant = SCEnvMetaKind.decode(stream, maxDepth);
+    switch (discriminant) {
+      case SC_ENV_META_KIND_INTERFACE_VERSION:
+        SCEnvMetaEntryInterfaceVersion.skip(stream, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "interfaceVersion");
+    SCEnvMetaKind discriminant = SCEnvMetaKind.decode(stream, maxDepth);
+    switch (discriminant) {
+      case SC_ENV_META_KIND_INTERFACE_VERSION:
+        if (field.equals("interfaceVersion")) {
+          SCEnvMetaEntryInterfaceVersion.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          SCEnvMetaEntryInterfaceVersion.skip(stream, maxDepth);
+        }
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static SCEnvMetaEntry fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static SCEnvMetaEntry fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static SCEnvMetaEntry fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -169,6 +254,14 @@ public class SCEnvMetaEntry implements XdrElement {
       preRelease.encode(stream);
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 0;
+      size += protocol.encodedSize();
+      size += preRelease.encodedSize();
+      return size;
+    }
+
     public static SCEnvMetaEntryInterfaceVersion decode(XdrDataInputStream stream, int maxDepth)
         throws IOException {
       if (maxDepth <= 0) {
@@ -187,16 +280,75 @@ public class SCEnvMetaEntry implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static SCEnvMetaEntryInterfaceVersion decode(XdrByteBufferReader reader, int maxDepth)
+        throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      SCEnvMetaEntryInterfaceVersion decodedSCEnvMetaEntryInterfaceVersion =
+          new SCEnvMetaEntryInterfaceVersion();
+      decodedSCEnvMetaEntryInterfaceVersion.protocol = Uint32.decode(reader, maxDepth);
+      decodedSCEnvMetaEntryInterfaceVersion.preRelease = Uint32.decode(reader, maxDepth);
+      return decodedSCEnvMetaEntryInterfaceVersion;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      Uint32.skip(stream, maxDepth);
+      Uint32.skip(stream, maxDepth);
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index, "protocol", "preRelease");
+      if (field.equals("protocol")) {
+        Uint32.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        Uint32.skip(stream, maxDepth);
+      }
+      if (field.equals("preRelease")) {
+        Uint32.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        Uint32.skip(stream, maxDepth);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static SCEnvMetaEntryInterfaceVersion fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static SCEnvMetaEntryInterfaceVersion fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static SCEnvMetaEntryInterfaceVersion fromXdrByteBuffer(ByteBuffer xdr)
+        throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -82,6 +84,28 @@ public class SCError implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case SCE_CONTRACT:
+        size += contractCode.encodedSize();
+        break;
+      case SCE_WASM_VM:
+      case SCE_CONTEXT:
+      case SCE_STORAGE:
+      case SCE_OBJECT:
+      case SCE_CRYPTO:
+      case SCE_EVENTS:
+      case SCE_BUDGET:
+      case SCE_VALUE:
+      case SCE_AUTH:
+        size += 4;
+        break;
+    }
+    return size;
+  }
+
   public static SCError decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -115,16 +139,124 @@ public class SCError implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static SCError decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SCError decodedSCError = new SCError();
+    SCErrorType discriminant = SCErrorType.decode(reader, maxDepth);
+    decodedSCError.setDiscriminant(discriminant);
+    switch (decodedSCError.getDiscriminant()) {
+      case SCE_CONTRACT:
+        decodedSCError.contractCode = Uint32.decode(reader, maxDepth);
+        break;
+      case SCE_WASM_VM:
+      case SCE_CONTEXT:
+      case SCE_STORAGE:
+      case SCE_OBJECT:
+      case SCE_CRYPTO:
+      case SCE_EVENTS:
+      case SCE_BUDGET:
+      case SCE_VALUE:
+      case SCE_AUTH:
+        decodedSCError.code = SCErrorCode.decode(reader, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedSCError;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SCErrorType discriminant = SCErrorType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case SCE_CONTRACT:
+        Uint32.skip(stream, maxDepth);
+        break;
+      case SCE_WASM_VM:
+      case SCE_CONTEXT:
+      case SCE_STORAGE:
+      case SCE_OBJECT:
+      case SCE_CRYPTO:
+      case SCE_EVENTS:
+      case SCE_BUDGET:
+      case SCE_VALUE:
+      case SCE_AUTH:
+        SCErrorCode.skip(stream, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "contractCode", "code");
+    SCErrorType discriminant = SCErrorType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case SCE_CONTRACT:
+        if (field.equals("contractCode")) {
+          Uint32.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Uint32.skip(stream, maxDepth);
+        }
+        break;
+      case SCE_WASM_VM:
+      case SCE_CONTEXT:
+      case SCE_STORAGE:
+      case SCE_OBJECT:
+      case SCE_CRYPTO:
+      case SCE_EVENTS:
+      case SCE_BUDGET:
+      case SCE_VALUE:
+      case SCE_AUTH:
+        if (field.equals("code")) {
+          SCErrorCode.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          SCErrorCode.skip(stream, maxDepth);
+        }
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static SCError fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static SCError fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static SCError fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -38,6 +39,16 @@ public class SCMap implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    for (int i = 0; i < SCMap.length; i++) {
+      size += SCMap[i].encodedSize();
+    }
+    return size;
+  }
+
   public static SCMap decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -64,16 +75,94 @@ public class SCMap implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static SCMap decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SCMap decodedSCMap = new SCMap();
+    int SCMapSize = reader.readInt();
+    if (SCMapSize < 0) {
+      throw new IOException("SCMap size " + SCMapSize + " is negative");
+    }
+    int SCMapRemainingInputLen = reader.getRemainingInputLen();
+    if (SCMapRemainingInputLen >= 0 && SCMapRemainingInputLen < SCMapSize) {
+      throw new IOException(
+          "SCMap size " + SCMapSize + " exceeds remaining input length " + SCMapRemainingInputLen);
+    }
+    decodedSCMap.SCMap = new SCMapEntry[SCMapSize];
+    for (int i = 0; i < SCMapSize; i++) {
+      decodedSCMap.SCMap[i] = SCMapEntry.decode(reader, maxDepth);
+    }
+    return decodedSCMap;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int SCMapSize = stream.readInt();
+    if (SCMapSize < 0) {
+      throw new IOException("SCMap size " + SCMapSize + " is negative");
+    }
+    int SCMapRemainingInputLen = stream.getRemainingInputLen();
+    if (SCMapRemainingInputLen >= 0 && SCMapRemainingInputLen < SCMapSize) {
+      throw new IOException(
+          "SCMap size " + SCMapSize + " exceeds remaining input length " + SCMapRemainingInputLen);
+    }
+    for (int i = 0; i < SCMapSize; i++) {
+      SCMapEntry.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int SCMapSize = stream.readInt();
+    if (SCMapSize < 0) {
+      throw new IOException("SCMap size " + SCMapSize + " is negative");
+    }
+    int SCMapRemainingInputLen = stream.getRemainingInputLen();
+    if (SCMapRemainingInputLen >= 0 && SCMapRemainingInputLen < SCMapSize) {
+      throw new IOException(
+          "SCMap size " + SCMapSize + " exceeds remaining input length " + SCMapRemainingInputLen);
+    }
+    for (int i = 0; i < SCMapSize; i++) {
+      SCMapEntry.extract(stream, maxDepth, path, index, values);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static SCMap fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static SCMap fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static SCMap fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -49,6 +51,14 @@ public class SCMetaV0 implements XdrElement {
     val.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += key.encodedSize();
+    size += val.encodedSize();
+    return size;
+  }
+
   public static SCMetaV0 decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -64,16 +74,74 @@ public class SCMetaV0 implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static SCMetaV0 decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SCMetaV0 decodedSCMetaV0 = new SCMetaV0();
+    decodedSCMetaV0.key = XdrString.decode(reader, maxDepth, Integer.MAX_VALUE);
+    decodedSCMetaV0.val = XdrString.decode(reader, maxDepth, Integer.MAX_VALUE);
+    return decodedSCMetaV0;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    XdrString.skip(stream, maxDepth, Integer.MAX_VALUE);
+    XdrString.skip(stream, maxDepth, Integer.MAX_VALUE);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "key", "val");
+    if (field.equals("key")) {
+      path.checkEnd(index + 1);
+      values.add(XdrString.decode(stream, maxDepth, Integer.MAX_VALUE));
+    } else {
+      XdrString.skip(stream, maxDepth, Integer.MAX_VALUE);
+    }
+    if (field.equals("val")) {
+      path.checkEnd(index + 1);
+      values.add(XdrString.decode(stream, maxDepth, Integer.MAX_VALUE));
+    } else {
+      XdrString.skip(stream, maxDepth, Integer.MAX_VALUE);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static SCMetaV0 fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static SCMetaV0 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static SCMetaV0 fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -54,6 +55,17 @@ public class SCPHistoryEntryV0 implements XdrElement {
     ledgerMessages.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    for (int i = 0; i < quorumSets.length; i++) {
+      size += quorumSets[i].encodedSize();
+    }
+    size += ledgerMessages.encodedSize();
+    return size;
+  }
+
   public static SCPHistoryEntryV0 decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -85,16 +97,130 @@ public class SCPHistoryEntryV0 implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static SCPHistoryEntryV0 decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SCPHistoryEntryV0 decodedSCPHistoryEntryV0 = new SCPHistoryEntryV0();
+    int quorumSetsSize = reader.readInt();
+    if (quorumSetsSize < 0) {
+      throw new IOException("quorumSets size " + quorumSetsSize + " is negative");
+    }
+    int quorumSetsRemainingInputLen = reader.getRemainingInputLen();
+    if (quorumSetsRemainingInputLen >= 0 && quorumSetsRemainingInputLen < quorumSetsSize) {
+      throw new IOException(
+          "quorumSets size "
+              + quorumSetsSize
+              + " exceeds remaining input length "
+              + quorumSetsRemainingInputLen);
+    }
+    decodedSCPHistoryEntryV0.quorumSets = new SCPQuorumSet[quorumSetsSize];
+    for (int i = 0; i < quorumSetsSize; i++) {
+      decodedSCPHistoryEntryV0.quorumSets[i] = SCPQuorumSet.decode(reader, maxDepth);
+    }
+    decodedSCPHistoryEntryV0.ledgerMessages = LedgerSCPMessages.decode(reader, maxDepth);
+    return decodedSCPHistoryEntryV0;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int quorumSetsSize = stream.readInt();
+    if (quorumSetsSize < 0) {
+      throw new IOException("quorumSets size " + quorumSetsSize + " is negative");
+    }
+    int quorumSetsRemainingInputLen = stream.getRemainingInputLen();
+    if (quorumSetsRemainingInputLen >= 0 && quorumSetsRemainingInputLen < quorumSetsSize) {
+      throw new IOException(
+          "quorumSets size "
+              + quorumSetsSize
+              + " exceeds remaining input length "
+              + quorumSetsRemainingInputLen);
+    }
+    for (int i = 0; i < quorumSetsSize; i++) {
+      SCPQuorumSet.skip(stream, maxDepth);
+    }
+    LedgerSCPMessages.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "quorumSets[*]", "ledgerMessages");
+    if (field.equals("quorumSets")) {
+      int quorumSetsSize = stream.readInt();
+      if (quorumSetsSize < 0) {
+        throw new IOException("quorumSets size " + quorumSetsSize + " is negative");
+      }
+      int quorumSetsRemainingInputLen = stream.getRemainingInputLen();
+      if (quorumSetsRemainingInputLen >= 0 && quorumSetsRemainingInputLen < quorumSetsSize) {
+        throw new IOException(
+            "quorumSets size "
+                + quorumSetsSize
+                + " exceeds remaining input length "
+                + quorumSetsRemainingInputLen);
+      }
+      for (int i = 0; i < quorumSetsSize; i++) {
+        SCPQuorumSet.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int quorumSetsSize = stream.readInt();
+      if (quorumSetsSize < 0) {
+        throw new IOException("quorumSets size " + quorumSetsSize + " is negative");
+      }
+      int quorumSetsRemainingInputLen = stream.getRemainingInputLen();
+      if (quorumSetsRemainingInputLen >= 0 && quorumSetsRemainingInputLen < quorumSetsSize) {
+        throw new IOException(
+            "quorumSets size "
+                + quorumSetsSize
+                + " exceeds remaining input length "
+                + quorumSetsRemainingInputLen);
+      }
+      for (int i = 0; i < quorumSetsSize; i++) {
+        SCPQuorumSet.skip(stream, maxDepth);
+      }
+    }
+    if (field.equals("ledgerMessages")) {
+      LedgerSCPMessages.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      LedgerSCPMessages.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static SCPHistoryEntryV0 fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static SCPHistoryEntryV0 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static SCPHistoryEntryV0 fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -68,6 +69,21 @@ public class SCPNomination implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += quorumSetHash.encodedSize();
+    size += 4;
+    for (int i = 0; i < votes.length; i++) {
+      size += votes[i].encodedSize();
+    }
+    size += 4;
+    for (int i = 0; i < accepted.length; i++) {
+      size += accepted[i].encodedSize();
+    }
+    return size;
+  }
+
   public static SCPNomination decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -111,16 +127,187 @@ public class SCPNomination implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static SCPNomination decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SCPNomination decodedSCPNomination = new SCPNomination();
+    decodedSCPNomination.quorumSetHash = Hash.decode(reader, maxDepth);
+    int votesSize = reader.readInt();
+    if (votesSize < 0) {
+      throw new IOException("votes size " + votesSize + " is negative");
+    }
+    int votesRemainingInputLen = reader.getRemainingInputLen();
+    if (votesRemainingInputLen >= 0 && votesRemainingInputLen < votesSize) {
+      throw new IOException(
+          "votes size " + votesSize + " exceeds remaining input length " + votesRemainingInputLen);
+    }
+    decodedSCPNomination.votes = new Value[votesSize];
+    for (int i = 0; i < votesSize; i++) {
+      decodedSCPNomination.votes[i] = Value.decode(reader, maxDepth);
+    }
+    int acceptedSize = reader.readInt();
+    if (acceptedSize < 0) {
+      throw new IOException("accepted size " + acceptedSize + " is negative");
+    }
+    int acceptedRemainingInputLen = reader.getRemainingInputLen();
+    if (acceptedRemainingInputLen >= 0 && acceptedRemainingInputLen < acceptedSize) {
+      throw new IOException(
+          "accepted size "
+              + acceptedSize
+              + " exceeds remaining input length "
+              + acceptedRemainingInputLen);
+    }
+    decodedSCPNomination.accepted = new Value[acceptedSize];
+    for (int i = 0; i < acceptedSize; i++) {
+      decodedSCPNomination.accepted[i] = Value.decode(reader, maxDepth);
+    }
+    return decodedSCPNomination;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Hash.skip(stream, maxDepth);
+    int votesSize = stream.readInt();
+    if (votesSize < 0) {
+      throw new IOException("votes size " + votesSize + " is negative");
+    }
+    int votesRemainingInputLen = stream.getRemainingInputLen();
+    if (votesRemainingInputLen >= 0 && votesRemainingInputLen < votesSize) {
+      throw new IOException(
+          "votes size " + votesSize + " exceeds remaining input length " + votesRemainingInputLen);
+    }
+    for (int i = 0; i < votesSize; i++) {
+      Value.skip(stream, maxDepth);
+    }
+    int acceptedSize = stream.readInt();
+    if (acceptedSize < 0) {
+      throw new IOException("accepted size " + acceptedSize + " is negative");
+    }
+    int acceptedRemainingInputLen = stream.getRemainingInputLen();
+    if (acceptedRemainingInputLen >= 0 && acceptedRemainingInputLen < acceptedSize) {
+      throw new IOException(
+          "accepted size "
+              + acceptedSize
+              + " exceeds remaining input length "
+              + acceptedRemainingInputLen);
+    }
+    for (int i = 0; i < acceptedSize; i++) {
+      Value.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "quorumSetHash", "votes[*]", "accepted[*]");
+    if (field.equals("quorumSetHash")) {
+      Hash.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Hash.skip(stream, maxDepth);
+    }
+    if (field.equals("votes")) {
+      int votesSize = stream.readInt();
+      if (votesSize < 0) {
+        throw new IOException("votes size " + votesSize + " is negative");
+      }
+      int votesRemainingInputLen = stream.getRemainingInputLen();
+      if (votesRemainingInputLen >= 0 && votesRemainingInputLen < votesSize) {
+        throw new IOException(
+            "votes size "
+                + votesSize
+                + " exceeds remaining input length "
+                + votesRemainingInputLen);
+      }
+      for (int i = 0; i < votesSize; i++) {
+        Value.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int votesSize = stream.readInt();
+      if (votesSize < 0) {
+        throw new IOException("votes size " + votesSize + " is negative");
+      }
+      int votesRemainingInputLen = stream.getRemainingInputLen();
+      if (votesRemainingInputLen >= 0 && votesRemainingInputLen < votesSize) {
+        throw new IOException(
+            "votes size "
+                + votesSize
+                + " exceeds remaining input length "
+                + votesRemainingInputLen);
+      }
+      for (int i = 0; i < votesSize; i++) {
+        Value.skip(stream, maxDepth);
+      }
+    }
+    if (field.equals("accepted")) {
+      int acceptedSize = stream.readInt();
+      if (acceptedSize < 0) {
+        throw new IOException("accepted size " + acceptedSize + " is negative");
+      }
+      int acceptedRemainingInputLen = stream.getRemainingInputLen();
+      if (acceptedRemainingInputLen >= 0 && acceptedRemainingInputLen < acceptedSize) {
+        throw new IOException(
+            "accepted size "
+                + acceptedSize
+                + " exceeds remaining input length "
+                + acceptedRemainingInputLen);
+      }
+      for (int i = 0; i < acceptedSize; i++) {
+        Value.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int acceptedSize = stream.readInt();
+      if (acceptedSize < 0) {
+        throw new IOException("accepted size " + acceptedSize + " is negative");
+      }
+      int acceptedRemainingInputLen = stream.getRemainingInputLen();
+      if (acceptedRemainingInputLen >= 0 && acceptedRemainingInputLen < acceptedSize) {
+        throw new IOException(
+            "accepted size "
+                + acceptedSize
+                + " exceeds remaining input length "
+                + acceptedRemainingInputLen);
+      }
+      for (int i = 0; i < acceptedSize; i++) {
+        Value.skip(stream, maxDepth);
+      }
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static SCPNomination fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static SCPNomination fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static SCPNomination fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
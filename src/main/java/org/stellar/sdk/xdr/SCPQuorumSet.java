@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -68,6 +69,21 @@ public class SCPQuorumSet implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += threshold.encodedSize();
+    size += 4;
+    for (int i = 0; i < validators.length; i++) {
+      size += validators[i].encodedSize();
+    }
+    size += 4;
+    for (int i = 0; i < innerSets.length; i++) {
+      size += innerSets[i].encodedSize();
+    }
+    return size;
+  }
+
   public static SCPQuorumSet decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -114,16 +130,193 @@ public class SCPQuorumSet implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static SCPQuorumSet decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SCPQuorumSet decodedSCPQuorumSet = new SCPQuorumSet();
+    decodedSCPQuorumSet.threshold = Uint32.decode(reader, maxDepth);
+    int validatorsSize = reader.readInt();
+    if (validatorsSize < 0) {
+      throw new IOException("validators size " + validatorsSize + " is negative");
+    }
+    int validatorsRemainingInputLen = reader.getRemainingInputLen();
+    if (validatorsRemainingInputLen >= 0 && validatorsRemainingInputLen < validatorsSize) {
+      throw new IOException(
+          "validators size "
+              + validatorsSize
+              + " exceeds remaining input length "
+              + validatorsRemainingInputLen);
+    }
+    decodedSCPQuorumSet.validators = new NodeID[validatorsSize];
+    for (int i = 0; i < validatorsSize; i++) {
+      decodedSCPQuorumSet.validators[i] = NodeID.decode(reader, maxDepth);
+    }
+    int innerSetsSize = reader.readInt();
+    if (innerSetsSize < 0) {
+      throw new IOException("innerSets size " + innerSetsSize + " is negative");
+    }
+    int innerSetsRemainingInputLen = reader.getRemainingInputLen();
+    if (innerSetsRemainingInputLen >= 0 && innerSetsRemainingInputLen < innerSetsSize) {
+      throw new IOException(
+          "innerSets size "
+              + innerSetsSize
+              + " exceeds remaining input length "
+              + innerSetsRemainingInputLen);
+    }
+    decodedSCPQuorumSet.innerSets = new SCPQuorumSet[innerSetsSize];
+    for (int i = 0; i < innerSetsSize; i++) {
+      decodedSCPQuorumSet.innerSets[i] = SCPQuorumSet.decode(reader, maxDepth);
+    }
+    return decodedSCPQuorumSet;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Uint32.skip(stream, maxDepth);
+    int validatorsSize = stream.readInt();
+    if (validatorsSize < 0) {
+      throw new IOException("validators size " + validatorsSize + " is negative");
+    }
+    int validatorsRemainingInputLen = stream.getRemainingInputLen();
+    if (validatorsRemainingInputLen >= 0 && validatorsRemainingInputLen < validatorsSize) {
+      throw new IOException(
+          "validators size "
+              + validatorsSize
+              + " exceeds remaining input length "
+              + validatorsRemainingInputLen);
+    }
+    for (int i = 0; i < validatorsSize; i++) {
+      NodeID.skip(stream, maxDepth);
+    }
+    int innerSetsSize = stream.readInt();
+    if (innerSetsSize < 0) {
+      throw new IOException("innerSets size " + innerSetsSize + " is negative");
+    }
+    int innerSetsRemainingInputLen = stream.getRemainingInputLen();
+    if (innerSetsRemainingInputLen >= 0 && innerSetsRemainingInputLen < innerSetsSize) {
+      throw new IOException(
+          "innerSets size "
+              + innerSetsSize
+              + " exceeds remaining input length "
+              + innerSetsRemainingInputLen);
+    }
+    for (int i = 0; i < innerSetsSize; i++) {
+      SCPQuorumSet.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "threshold", "validators[*]", "innerSets[*]");
+    if (field.equals("threshold")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("validators")) {
+      int validatorsSize = stream.readInt();
+      if (validatorsSize < 0) {
+        throw new IOException("validators size " + validatorsSize + " is negative");
+      }
+      int validatorsRemainingInputLen = stream.getRemainingInputLen();
+      if (validatorsRemainingInputLen >= 0 && validatorsRemainingInputLen < validatorsSize) {
+        throw new IOException(
+            "validators size "
+                + validatorsSize
+                + " exceeds remaining input length "
+                + validatorsRemainingInputLen);
+      }
+      for (int i = 0; i < validatorsSize; i++) {
+        NodeID.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int validatorsSize = stream.readInt();
+      if (validatorsSize < 0) {
+        throw new IOException("validators size " + validatorsSize + " is negative");
+      }
+      int validatorsRemainingInputLen = stream.getRemainingInputLen();
+      if (validatorsRemainingInputLen >= 0 && validatorsRemainingInputLen < validatorsSize) {
+        throw new IOException(
+            "validators size "
+                + validatorsSize
+                + " exceeds remaining input length "
+                + validatorsRemainingInputLen);
+      }
+      for (int i = 0; i < validatorsSize; i++) {
+        NodeID.skip(stream, maxDepth);
+      }
+    }
+    if (field.equals("innerSets")) {
+      int innerSetsSize = stream.readInt();
+      if (innerSetsSize < 0) {
+        throw new IOException("innerSets size " + innerSetsSize + " is negative");
+      }
+      int innerSetsRemainingInputLen = stream.getRemainingInputLen();
+      if (innerSetsRemainingInputLen >= 0 && innerSetsRemainingInputLen < innerSetsSize) {
+        throw new IOException(
+            "innerSets size "
+                + innerSetsSize
+                + " exceeds remaining input length "
+                + innerSetsRemainingInputLen);
+      }
+      for (int i = 0; i < innerSetsSize; i++) {
+        SCPQuorumSet.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int innerSetsSize = stream.readInt();
+      if (innerSetsSize < 0) {
+        throw new IOException("innerSets size " + innerSetsSize + " is negative");
+      }
+      int innerSetsRemainingInputLen = stream.getRemainingInputLen();
+      if (innerSetsRemainingInputLen >= 0 && innerSetsRemainingInputLen < innerSetsSize) {
+        throw new IOException(
+            "innerSets size "
+                + innerSetsSize
+                + " exceeds remaining input length "
+                + innerSetsRemainingInputLen);
+      }
+      for (int i = 0; i < innerSetsSize; i++) {
+        SCPQuorumSet.skip(stream, maxDepth);
+      }
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static SCPQuorumSet fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static SCPQuorumSet fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static SCPQuorumSet fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -91,6 +93,15 @@ public class SCPStatement implements XdrElement {
     pledges.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += nodeID.encodedSize();
+    size += slotIndex.encodedSize();
+    size += pledges.encodedSize();
+    return size;
+  }
+
   public static SCPStatement decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -107,16 +118,79 @@ public class SCPStatement implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static SCPStatement decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SCPStatement decodedSCPStatement = new SCPStatement();
+    decodedSCPStatement.nodeID = NodeID.decode(reader, maxDepth);
+    decodedSCPStatement.slotIndex = Uint64.decode(reader, maxDepth);
+    decodedSCPStatement.pledges = SCPStatementPledges.decode(reader, maxDepth);
+    return decodedSCPStatement;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    NodeID.skip(stream, maxDepth);
+    Uint64.skip(stream, maxDepth);
+    SCPStatementPledges.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "nodeID", "slotIndex", "pledges");
+    if (field.equals("nodeID")) {
+      NodeID.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      NodeID.skip(stream, maxDepth);
+    }
+    if (field.equals("slotIndex")) {
+      Uint64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint64.skip(stream, maxDepth);
+    }
+    if (field.equals("pledges")) {
+      SCPStatementPledges.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      SCPStatementPledges.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static SCPStatement fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static SCPStatement fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static SCPStatement fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -246,6 +320,26 @@ public class SCPStatement implements XdrElement {
       }
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 4;
+      switch (discriminant) {
+        case SCP_ST_PREPARE:
+          size += prepare.encodedSize();
+          break;
+        case SCP_ST_CONFIRM:
+          size += confirm.encodedSize();
+          break;
+        case SCP_ST_EXTERNALIZE:
+          size += externalize.encodedSize();
+          break;
+        case SCP_ST_NOMINATE:
+          size += nominate.encodedSize();
+          break;
+      }
+      return size;
+    }
+
     public static SCPStatementPledges decode(XdrDataInputStream stream, int maxDepth)
         throws IOException {
       if (maxDepth <= 0) {
@@ -278,16 +372,127 @@ public class SCPStatement implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static SCPStatementPledges decode(XdrByteBufferReader reader, int maxDepth)
+        throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      SCPStatementPledges decodedSCPStatementPledges = new SCPStatementPledges();
+      SCPStatementType discriminant = SCPStatementType.decode(reader, maxDepth);
+      decodedSCPStatementPledges.setDiscriminant(discriminant);
+      switch (decodedSCPStatementPledges.getDiscriminant()) {
+        case SCP_ST_PREPARE:
+          decodedSCPStatementPledges.prepare = SCPStatementPrepare.decode(reader, maxDepth);
+          break;
+        case SCP_ST_CONFIRM:
+          decodedSCPStatementPledges.confirm = SCPStatementConfirm.decode(reader, maxDepth);
+          break;
+        case SCP_ST_EXTERNALIZE:
+          decodedSCPStatementPledges.externalize = SCPStatementExternalize.decode(reader, maxDepth);
+          break;
+        case SCP_ST_NOMINATE:
+          decodedSCPStatementPledges.nominate = SCPNomination.decode(reader, maxDepth);
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+      return decodedSCPStatementPledges;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      SCPStatementType discriminant = SCPStatementType.decode(stream, maxDepth);
+      switch (discriminant) {
+        case SCP_ST_PREPARE:
+          SCPStatementPrepare.skip(stream, maxDepth);
+          break;
+        case SCP_ST_CONFIRM:
+          SCPStatementConfirm.skip(stream, maxDepth);
+          break;
+        case SCP_ST_EXTERNALIZE:
+          SCPStatementExternalize.skip(stream, maxDepth);
+          break;
+        case SCP_ST_NOMINATE:
+          SCPNomination.skip(stream, maxDepth);
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index, "prepare", "confirm", "externalize", "nominate");
+      SCPStatementType discriminant = SCPStatementType.decode(stream, maxDepth);
+      switch (discriminant) {
+        case SCP_ST_PREPARE:
+          if (field.equals("prepare")) {
+            SCPStatementPrepare.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            SCPStatementPrepare.skip(stream, maxDepth);
+          }
+          break;
+        case SCP_ST_CONFIRM:
+          if (field.equals("confirm")) {
+            SCPStatementConfirm.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            SCPStatementConfirm.skip(stream, maxDepth);
+          }
+          break;
+        case SCP_ST_EXTERNALIZE:
+          if (field.equals("externalize")) {
+            SCPStatementExternalize.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            SCPStatementExternalize.skip(stream, maxDepth);
+          }
+          break;
+        case SCP_ST_NOMINATE:
+          if (field.equals("nominate")) {
+            SCPNomination.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            SCPNomination.skip(stream, maxDepth);
+          }
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static SCPStatementPledges fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static SCPStatementPledges fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static SCPStatementPledges fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
@@ -450,6 +655,24 @@ public class SCPStatement implements XdrElement {
         nH.encode(stream);
       }
 
+      @Override
+      public int encodedSize() {
+        int size = 0;
+        size += quorumSetHash.encodedSize();
+        size += ballot.encodedSize();
+        size += 4;
+        if (prepared != null) {
+          size += prepared.encodedSize();
+        }
+        size += 4;
+        if (preparedPrime != null) {
+          size += preparedPrime.encodedSize();
+        }
+        size += nC.encodedSize();
+        size += nH.encodedSize();
+        return size;
+      }
+
       public static SCPStatementPrepare decode(XdrDataInputStream stream, int maxDepth)
           throws IOException {
         if (maxDepth <= 0) {
@@ -476,16 +699,128 @@ public class SCPStatement implements XdrElement {
         return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
       }
 
+      public static SCPStatementPrepare decode(XdrByteBufferReader reader, int maxDepth)
+          throws IOException {
+        if (maxDepth <= 0) {
+          throw new IOException("Maximum decoding depth reached");
+        }
+        maxDepth -= 1;
+        SCPStatementPrepare decodedSCPStatementPrepare = new SCPStatementPrepare();
+        decodedSCPStatementPrepare.quorumSetHash = Hash.decode(reader, maxDepth);
+        decodedSCPStatementPrepare.ballot = SCPBallot.decode(reader, maxDepth);
+        boolean preparedPresent = reader.readXdrBoolean();
+        if (preparedPresent) {
+          decodedSCPStatementPrepare.prepared = SCPBallot.decode(reader, maxDepth);
+        }
+        boolean preparedPrimePresent = reader.readXdrBoolean();
+        if (preparedPrimePresent) {
+          decodedSCPStatementPrepare.preparedPrime = SCPBallot.decode(reader, maxDepth);
+        }
+        decodedSCPStatementPrepare.nC = Uint32.decode(reader, maxDepth);
+        decodedSCPStatementPrepare.nH = Uint32.decode(reader, maxDepth);
+        return decodedSCPStatementPrepare;
+      }
+
+      public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+        if (maxDepth <= 0) {
+          throw new IOException("Maximum decoding depth reached");
+        }
+        maxDepth -= 1;
+        Hash.skip(stream, maxDepth);
+        SCPBallot.skip(stream, maxDepth);
+        boolean preparedPresent = stream.readXdrBoolean();
+        if (preparedPresent) {
+          SCPBallot.skip(stream, maxDepth);
+        }
+        boolean preparedPrimePresent = stream.readXdrBoolean();
+        if (preparedPrimePresent) {
+          SCPBallot.skip(stream, maxDepth);
+        }
+        Uint32.skip(stream, maxDepth);
+        Uint32.skip(stream, maxDepth);
+      }
+
+      public static void skip(XdrDataInputStream stream) throws IOException {
+        skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+      }
+
+      static void extract(
+          XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+          throws IOException {
+        if (index == path.size()) {
+          values.add(decode(stream, maxDepth));
+          return;
+        }
+        if (maxDepth <= 0) {
+          throw new IOException("Maximum decoding depth reached");
+        }
+        maxDepth -= 1;
+        String field =
+            path.checkField(
+                index, "quorumSetHash", "ballot", "prepared", "preparedPrime", "nC", "nH");
+        if (field.equals("quorumSetHash")) {
+          Hash.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Hash.skip(stream, maxDepth);
+        }
+        if (field.equals("ballot")) {
+          SCPBallot.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          SCPBallot.skip(stream, maxDepth);
+        }
+        if (field.equals("prepared")) {
+          boolean preparedPresent = stream.readXdrBoolean();
+          if (preparedPresent) {
+            SCPBallot.extract(stream, maxDepth, path, index + 1, values);
+          }
+        } else {
+          boolean preparedPresent = stream.readXdrBoolean();
+          if (preparedPresent) {
+            SCPBallot.skip(stream, maxDepth);
+          }
+        }
+        if (field.equals("preparedPrime")) {
+          boolean preparedPrimePresent = stream.readXdrBoolean();
+          if (preparedPrimePresent) {
+            SCPBallot.extract(stream, maxDepth, path, index + 1, values);
+          }
+        } else {
+          boolean preparedPrimePresent = stream.readXdrBoolean();
+          if (preparedPrimePresent) {
+            SCPBallot.skip(stream, maxDepth);
+          }
+        }
+        if (field.equals("nC")) {
+          Uint32.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Uint32.skip(stream, maxDepth);
+        }
+        if (field.equals("nH")) {
+          Uint32.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Uint32.skip(stream, maxDepth);
+        }
+      }
+
+      public static List<Object> extract(XdrDataInputStream stream, XdrPath path)
+          throws IOException {
+        List<Object> values = new ArrayList<>();
+        extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+        return values;
+      }
+
       public static SCPStatementPrepare fromXdrBase64(String xdr) throws IOException {
         byte[] bytes = Base64Factory.getInstance().decode(xdr);
         return fromXdrByteArray(bytes);
       }
 
       public static SCPStatementPrepare fromXdrByteArray(byte[] xdr) throws IOException {
-        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-        XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-        xdrDataInputStream.setMaxInputLen(xdr.length);
-        return decode(xdrDataInputStream);
+        return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+      }
+
+      public static SCPStatementPrepare fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+        XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+        return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
       }
 
       @Override
@@ -595,6 +930,17 @@ public class SCPStatement implements XdrElement {
         quorumSetHash.encode(stream);
       }
 
+      @Override
+      public int encodedSize() {
+        int size = 0;
+        size += ballot.encodedSize();
+        size += nPrepared.encodedSize();
+        size += nCommit.encodedSize();
+        size += nH.encodedSize();
+        size += quorumSetHash.encodedSize();
+        return size;
+      }
+
       public static SCPStatementConfirm decode(XdrDataInputStream stream, int maxDepth)
           throws IOException {
         if (maxDepth <= 0) {
@@ -614,16 +960,96 @@ public class SCPStatement implements XdrElement {
         return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
       }
 
+      public static SCPStatementConfirm decode(XdrByteBufferReader reader, int maxDepth)
+          throws IOException {
+        if (maxDepth <= 0) {
+          throw new IOException("Maximum decoding depth reached");
+        }
+        maxDepth -= 1;
+        SCPStatementConfirm decodedSCPStatementConfirm = new SCPStatementConfirm();
+        decodedSCPStatementConfirm.ballot = SCPBallot.decode(reader, maxDepth);
+        decodedSCPStatementConfirm.nPrepared = Uint32.decode(reader, maxDepth);
+        decodedSCPStatementConfirm.nCommit = Uint32.decode(reader, maxDepth);
+        decodedSCPStatementConfirm.nH = Uint32.decode(reader, maxDepth);
+        decodedSCPStatementConfirm.quorumSetHash = Hash.decode(reader, maxDepth);
+        return decodedSCPStatementConfirm;
+      }
+
+      public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+        if (maxDepth <= 0) {
+          throw new IOException("Maximum decoding depth reached");
+        }
+        maxDepth -= 1;
+        SCPBallot.skip(stream, maxDepth);
+        Uint32.skip(stream, maxDepth);
+        Uint32.skip(stream, maxDepth);
+        Uint32.skip(stream, maxDepth);
+        Hash.skip(stream, maxDepth);
+      }
+
+      public static void skip(XdrDataInputStream stream) throws IOException {
+        skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+      }
+
+      static void extract(
+          XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+          throws IOException {
+        if (index == path.size()) {
+          values.add(decode(stream, maxDepth));
+          return;
+        }
+        if (maxDepth <= 0) {
+          throw new IOException("Maximum decoding depth reached");
+        }
+        maxDepth -= 1;
+        String field =
+            path.checkField(index, "ballot", "nPrepared", "nCommit", "nH", "quorumSetHash");
+        if (field.equals("ballot")) {
+          SCPBallot.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          SCPBallot.skip(stream, maxDepth);
+        }
+        if (field.equals("nPrepared")) {
+          Uint32.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Uint32.skip(stream, maxDepth);
+        }
+        if (field.equals("nCommit")) {
+          Uint32.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Uint32.skip(stream, maxDepth);
+        }
+        if (field.equals("nH")) {
+          Uint32.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Uint32.skip(stream, maxDepth);
+        }
+        if (field.equals("quorumSetHash")) {
+          Hash.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Hash.skip(stream, maxDepth);
+        }
+      }
+
+      public static List<Object> extract(XdrDataInputStream stream, XdrPath path)
+          throws IOException {
+        List<Object> values = new ArrayList<>();
+        extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+        return values;
+      }
+
       public static SCPStatementConfirm fromXdrBase64(String xdr) throws IOException {
         byte[] bytes = Base64Factory.getInstance().decode(xdr);
         return fromXdrByteArray(bytes);
       }
 
       public static SCPStatementConfirm fromXdrByteArray(byte[] xdr) throws IOException {
-        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-        XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-        xdrDataInputStream.setMaxInputLen(xdr.length);
-        return decode(xdrDataInputStream);
+        return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+      }
+
+      public static SCPStatementConfirm fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+        XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+        return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
       }
 
       @Override
@@ -705,6 +1131,15 @@ public class SCPStatement implements XdrElement {
         commitQuorumSetHash.encode(stream);
       }
 
+      @Override
+      public int encodedSize() {
+        int size = 0;
+        size += commit.encodedSize();
+        size += nH.encodedSize();
+        size += commitQuorumSetHash.encodedSize();
+        return size;
+      }
+
       public static SCPStatementExternalize decode(XdrDataInputStream stream, int maxDepth)
           throws IOException {
         if (maxDepth <= 0) {
@@ -722,16 +1157,81 @@ public class SCPStatement implements XdrElement {
         return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
       }
 
+      public static SCPStatementExternalize decode(XdrByteBufferReader reader, int maxDepth)
+          throws IOException {
+        if (maxDepth <= 0) {
+          throw new IOException("Maximum decoding depth reached");
+        }
+        maxDepth -= 1;
+        SCPStatementExternalize decodedSCPStatementExternalize = new SCPStatementExternalize();
+        decodedSCPStatementExternalize.commit = SCPBallot.decode(reader, maxDepth);
+        decodedSCPStatementExternalize.nH = Uint32.decode(reader, maxDepth);
+        decodedSCPStatementExternalize.commitQuorumSetHash = Hash.decode(reader, maxDepth);
+        return decodedSCPStatementExternalize;
+      }
+
+      public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+        if (maxDepth <= 0) {
+          throw new IOException("Maximum decoding depth reached");
+        }
+        maxDepth -= 1;
+        SCPBallot.skip(stream, maxDepth);
+        Uint32.skip(stream, maxDepth);
+        Hash.skip(stream, maxDepth);
+      }
+
+      public static void skip(XdrDataInputStream stream) throws IOException {
+        skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+      }
+
+      static void extract(
+          XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+          throws IOException {
+        if (index == path.size()) {
+          values.add(decode(stream, maxDepth));
+          return;
+        }
+        if (maxDepth <= 0) {
+          throw new IOException("Maximum decoding depth reached");
+        }
+        maxDepth -= 1;
+        String field = path.checkField(index, "commit", "nH", "commitQuorumSetHash");
+        if (field.equals("commit")) {
+          SCPBallot.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          SCPBallot.skip(stream, maxDepth);
+        }
+        if (field.equals("nH")) {
+          Uint32.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Uint32.skip(stream, maxDepth);
+        }
+        if (field.equals("commitQuorumSetHash")) {
+          Hash.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Hash.skip(stream, maxDepth);
+        }
+      }
+
+      public static List<Object> extract(XdrDataInputStream stream, XdrPath path)
+          throws IOException {
+        List<Object> values = new ArrayList<>();
+        extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+        return values;
+      }
+
       public static SCPStatementExternalize fromXdrBase64(String xdr) throws IOException {
         byte[] bytes = Base64Factory.getInstance().decode(xdr);
         return fromXdrByteArray(bytes);
       }
 
       public static SCPStatementExternalize fromXdrByteArray(byte[] xdr) throws IOException {
-        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-        XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-        xdrDataInputStream.setMaxInputLen(xdr.length);
-        return decode(xdrDataInputStream);
+        return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+      }
+
+      public static SCPStatementExternalize fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+        XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+        return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
       }
 
       @Override
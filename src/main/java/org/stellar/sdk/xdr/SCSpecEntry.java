@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -118,6 +120,32 @@ public class SCSpecEntry implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case SC_SPEC_ENTRY_FUNCTION_V0:
+        size += functionV0.encodedSize();
+        break;
+      case SC_SPEC_ENTRY_UDT_STRUCT_V0:
+        size += udtStructV0.encodedSize();
+        break;
+      case SC_SPEC_ENTRY_UDT_UNION_V0:
+        size += udtUnionV0.encodedSize();
+        break;
+      case SC_SPEC_ENTRY_UDT_ENUM_V0:
+        size += udtEnumV0.encodedSize();
+        break;
+      case SC_SPEC_ENTRY_UDT_ERROR_ENUM_V0:
+        size += udtErrorEnumV0.encodedSize();
+        break;
+      case SC_SPEC_ENTRY_EVENT_V0:
+        size += eventV0.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static SCSpecEntry decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -155,16 +183,160 @@ public class SCSpecEntry implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static SCSpecEntry decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SCSpecEntry decodedSCSpecEntry = new SCSpecEntry();
+    SCSpecEntryKind discriminant = SCSpecEntryKind.decode(reader, maxDepth);
+    decodedSCSpecEntry.setDiscriminant(discriminant);
+    switch (decodedSCSpecEntry.getDiscriminant()) {
+      case SC_SPEC_ENTRY_FUNCTION_V0:
+        decodedSCSpecEntry.functionV0 = SCSpecFunctionV0.decode(reader, maxDepth);
+        break;
+      case SC_SPEC_ENTRY_UDT_STRUCT_V0:
+        decodedSCSpecEntry.udtStructV0 = SCSpecUDTStructV0.decode(reader, maxDepth);
+        break;
+      case SC_SPEC_ENTRY_UDT_UNION_V0:
+        decodedSCSpecEntry.udtUnionV0 = SCSpecUDTUnionV0.decode(reader, maxDepth);
+        break;
+      case SC_SPEC_ENTRY_UDT_ENUM_V0:
+        decodedSCSpecEntry.udtEnumV0 = SCSpecUDTEnumV0.decode(reader, maxDepth);
+        break;
+      case SC_SPEC_ENTRY_UDT_ERROR_ENUM_V0:
+        decodedSCSpecEntry.udtErrorEnumV0 = SCSpecUDTErrorEnumV0.decode(reader, maxDepth);
+        break;
+      case SC_SPEC_ENTRY_EVENT_V0:
+        decodedSCSpecEntry.eventV0 = SCSpecEventV0.decode(reader, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedSCSpecEntry;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SCSpecEntryKind discriminant = SCSpecEntryKind.decode(stream, maxDepth);
+    switch (discriminant) {
+      case SC_SPEC_ENTRY_FUNCTION_V0:
+        SCSpecFunctionV0.skip(stream, maxDepth);
+        break;
+      case SC_SPEC_ENTRY_UDT_STRUCT_V0:
+        SCSpecUDTStructV0.skip(stream, maxDepth);
+        break;
+      case SC_SPEC_ENTRY_UDT_UNION_V0:
+        SCSpecUDTUnionV0.skip(stream, maxDepth);
+        break;
+      case SC_SPEC_ENTRY_UDT_ENUM_V0:
+        SCSpecUDTEnumV0.skip(stream, maxDepth);
+        break;
+      case SC_SPEC_ENTRY_UDT_ERROR_ENUM_V0:
+        SCSpecUDTErrorEnumV0.skip(stream, maxDepth);
+        break;
+      case SC_SPEC_ENTRY_EVENT_V0:
+        SCSpecEventV0.skip(stream, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field =
+        path.checkField(
+            index,
+            "functionV0",
+            "udtStructV0",
+            "udtUnionV0",
+            "udtEnumV0",
+            "udtErrorEnumV0",
+            "eventV0");
+    SCSpecEntryKind discriminant = SCSpecEntryKind.decode(stream, maxDepth);
+    switch (discriminant) {
+      case SC_SPEC_ENTRY_FUNCTION_V0:
+        if (field.equals("functionV0")) {
+          SCSpecFunctionV0.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          SCSpecFunctionV0.skip(stream, maxDepth);
+        }
+        break;
+      case SC_SPEC_ENTRY_UDT_STRUCT_V0:
+        if (field.equals("udtStructV0")) {
+          SCSpecUDTStructV0.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          SCSpecUDTStructV0.skip(stream, maxDepth);
+        }
+        break;
+      case SC_SPEC_ENTRY_UDT_UNION_V0:
+        if (field.equals("udtUnionV0")) {
+          SCSpecUDTUnionV0.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          SCSpecUDTUnionV0.skip(stream, maxDepth);
+        }
+        break;
+      case SC_SPEC_ENTRY_UDT_ENUM_V0:
+        if (field.equals("udtEnumV0")) {
+          SCSpecUDTEnumV0.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          SCSpecUDTEnumV0.skip(stream, maxDepth);
+        }
+        break;
+      case SC_SPEC_ENTRY_UDT_ERROR_ENUM_V0:
+        if (field.equals("udtErrorEnumV0")) {
+          SCSpecUDTErrorEnumV0.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          SCSpecUDTErrorEnumV0.skip(stream, maxDepth);
+        }
+        break;
+      case SC_SPEC_ENTRY_EVENT_V0:
+        if (field.equals("eventV0")) {
+          SCSpecEventV0.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          SCSpecEventV0.skip(stream, maxDepth);
+        }
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static SCSpecEntry fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static SCSpecEntry fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static SCSpecEntry fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -109,6 +110,24 @@ public class SCSpecEventV0 implements XdrElement {
     dataFormat.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += doc.encodedSize();
+    size += lib.encodedSize();
+    size += name.encodedSize();
+    size += 4;
+    for (int i = 0; i < prefixTopics.length; i++) {
+      size += prefixTopics[i].encodedSize();
+    }
+    size += 4;
+    for (int i = 0; i < params.length; i++) {
+      size += params[i].encodedSize();
+    }
+    size += 4;
+    return size;
+  }
+
   public static SCSpecEventV0 decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -161,16 +180,229 @@ public class SCSpecEventV0 implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static SCSpecEventV0 decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SCSpecEventV0 decodedSCSpecEventV0 = new SCSpecEventV0();
+    decodedSCSpecEventV0.doc = XdrString.decode(reader, maxDepth, Constants.SC_SPEC_DOC_LIMIT);
+    decodedSCSpecEventV0.lib = XdrString.decode(reader, maxDepth, 80);
+    decodedSCSpecEventV0.name = SCSymbol.decode(reader, maxDepth);
+    int prefixTopicsSize = reader.readInt();
+    if (prefixTopicsSize < 0) {
+      throw new IOException("prefixTopics size " + prefixTopicsSize + " is negative");
+    }
+    if (prefixTopicsSize > 2) {
+      throw new IOException("prefixTopics size " + prefixTopicsSize + " exceeds max size 2");
+    }
+    int prefixTopicsRemainingInputLen = reader.getRemainingInputLen();
+    if (prefixTopicsRemainingInputLen >= 0 && prefixTopicsRemainingInputLen < prefixTopicsSize) {
+      throw new IOException(
+          "prefixTopics size "
+              + prefixTopicsSize
+              + " exceeds remaining input length "
+              + prefixTopicsRemainingInputLen);
+    }
+    decodedSCSpecEventV0.prefixTopics = new SCSymbol[prefixTopicsSize];
+    for (int i = 0; i < prefixTopicsSize; i++) {
+      decodedSCSpecEventV0.prefixTopics[i] = SCSymbol.decode(reader, maxDepth);
+    }
+    int paramsSize = reader.readInt();
+    if (paramsSize < 0) {
+      throw new IOException("params size " + paramsSize + " is negative");
+    }
+    int paramsRemainingInputLen = reader.getRemainingInputLen();
+    if (paramsRemainingInputLen >= 0 && paramsRemainingInputLen < paramsSize) {
+      throw new IOException(
+          "params size "
+              + paramsSize
+              + " exceeds remaining input length "
+              + paramsRemainingInputLen);
+    }
+    decodedSCSpecEventV0.params = new SCSpecEventParamV0[paramsSize];
+    for (int i = 0; i < paramsSize; i++) {
+      decodedSCSpecEventV0.params[i] = SCSpecEventParamV0.decode(reader, maxDepth);
+    }
+    decodedSCSpecEventV0.dataFormat = SCSpecEventDataFormat.decode(reader, maxDepth);
+    return decodedSCSpecEventV0;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    XdrString.skip(stream, maxDepth, Constants.SC_SPEC_DOC_LIMIT);
+    XdrString.skip(stream, maxDepth, 80);
+    SCSymbol.skip(stream, maxDepth);
+    int prefixTopicsSize = stream.readInt();
+    if (prefixTopicsSize < 0) {
+      throw new IOException("prefixTopics size " + prefixTopicsSize + " is negative");
+    }
+    if (prefixTopicsSize > 2) {
+      throw new IOException("prefixTopics size " + prefixTopicsSize + " exceeds max size 2");
+    }
+    int prefixTopicsRemainingInputLen = stream.getRemainingInputLen();
+    if (prefixTopicsRemainingInputLen >= 0 && prefixTopicsRemainingInputLen < prefixTopicsSize) {
+      throw new IOException(
+          "prefixTopics size "
+              + prefixTopicsSize
+              + " exceeds remaining input length "
+              + prefixTopicsRemainingInputLen);
+    }
+    for (int i = 0; i < prefixTopicsSize; i++) {
+      SCSymbol.skip(stream, maxDepth);
+    }
+    int paramsSize = stream.readInt();
+    if (paramsSize < 0) {
+      throw new IOException("params size " + paramsSize + " is negative");
+    }
+    int paramsRemainingInputLen = stream.getRemainingInputLen();
+    if (paramsRemainingInputLen >= 0 && paramsRemainingInputLen < paramsSize) {
+      throw new IOException(
+          "params size "
+              + paramsSize
+              + " exceeds remaining input length "
+              + paramsRemainingInputLen);
+    }
+    for (int i = 0; i < paramsSize; i++) {
+      SCSpecEventParamV0.skip(stream, maxDepth);
+    }
+    SCSpecEventDataFormat.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field =
+        path.checkField(index, "doc", "lib", "name", "prefixTopics[*]", "params[*]", "dataFormat");
+    if (field.equals("doc")) {
+      path.checkEnd(index + 1);
+      values.add(XdrString.decode(stream, maxDepth, Constants.SC_SPEC_DOC_LIMIT));
+    } else {
+      XdrString.skip(stream, maxDepth, Constants.SC_SPEC_DOC_LIMIT);
+    }
+    if (field.equals("lib")) {
+      path.checkEnd(index + 1);
+      values.add(XdrString.decode(stream, maxDepth, 80));
+    } else {
+      XdrString.skip(stream, maxDepth, 80);
+    }
+    if (field.equals("name")) {
+      SCSymbol.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      SCSymbol.skip(stream, maxDepth);
+    }
+    if (field.equals("prefixTopics")) {
+      int prefixTopicsSize = stream.readInt();
+      if (prefixTopicsSize < 0) {
+        throw new IOException("prefixTopics size " + prefixTopicsSize + " is negative");
+      }
+      if (prefixTopicsSize > 2) {
+        throw new IOException("prefixTopics size " + prefixTopicsSize + " exceeds max size 2");
+      }
+      int prefixTopicsRemainingInputLen = stream.getRemainingInputLen();
+      if (prefixTopicsRemainingInputLen >= 0 && prefixTopicsRemainingInputLen < prefixTopicsSize) {
+        throw new IOException(
+            "prefixTopics size "
+                + prefixTopicsSize
+                + " exceeds remaining input length "
+                + prefixTopicsRemainingInputLen);
+      }
+      for (int i = 0; i < prefixTopicsSize; i++) {
+        SCSymbol.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int prefixTopicsSize = stream.readInt();
+      if (prefixTopicsSize < 0) {
+        throw new IOException("prefixTopics size " + prefixTopicsSize + " is negative");
+      }
+      if (prefixTopicsSize > 2) {
+        throw new IOException("prefixTopics size " + prefixTopicsSize + " exceeds max size 2");
+      }
+      int prefixTopicsRemainingInputLen = stream.getRemainingInputLen();
+      if (prefixTopicsRemainingInputLen >= 0 && prefixTopicsRemainingInputLen < prefixTopicsSize) {
+        throw new IOException(
+            "prefixTopics size "
+                + prefixTopicsSize
+                + " exceeds remaining input length "
+                + prefixTopicsRemainingInputLen);
+      }
+      for (int i = 0; i < prefixTopicsSize; i++) {
+        SCSymbol.skip(stream, maxDepth);
+      }
+    }
+    if (field.equals("params")) {
+      int paramsSize = stream.readInt();
+      if (paramsSize < 0) {
+        throw new IOException("params size " + paramsSize + " is negative");
+      }
+      int paramsRemainingInputLen = stream.getRemainingInputLen();
+      if (paramsRemainingInputLen >= 0 && paramsRemainingInputLen < paramsSize) {
+        throw new IOException(
+            "params size "
+                + paramsSize
+                + " exceeds remaining input length "
+                + paramsRemainingInputLen);
+      }
+      for (int i = 0; i < paramsSize; i++) {
+        SCSpecEventParamV0.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int paramsSize = stream.readInt();
+      if (paramsSize < 0) {
+        throw new IOException("params size " + paramsSize + " is negative");
+      }
+      int paramsRemainingInputLen = stream.getRemainingInputLen();
+      if (paramsRemainingInputLen >= 0 && paramsRemainingInputLen < paramsSize) {
+        throw new IOException(
+            "params size "
+                + paramsSize
+                + " exceeds remaining input length "
+                + paramsRemainingInputLen);
+      }
+      for (int i = 0; i < paramsSize; i++) {
+        SCSpecEventParamV0.skip(stream, maxDepth);
+      }
+    }
+    if (field.equals("dataFormat")) {
+      SCSpecEventDataFormat.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      SCSpecEventDataFormat.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static SCSpecEventV0 fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static SCSpecEventV0 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static SCSpecEventV0 fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
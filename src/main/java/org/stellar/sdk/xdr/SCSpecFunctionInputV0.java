@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -67,6 +69,15 @@ public class SCSpecFunctionInputV0 implements XdrElement {
     type.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += doc.encodedSize();
+    size += name.encodedSize();
+    size += type.encodedSize();
+    return size;
+  }
+
   public static SCSpecFunctionInputV0 decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -85,16 +96,83 @@ public class SCSpecFunctionInputV0 implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static SCSpecFunctionInputV0 decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SCSpecFunctionInputV0 decodedSCSpecFunctionInputV0 = new SCSpecFunctionInputV0();
+    decodedSCSpecFunctionInputV0.doc =
+        XdrString.decode(reader, maxDepth, Constants.SC_SPEC_DOC_LIMIT);
+    decodedSCSpecFunctionInputV0.name = XdrString.decode(reader, maxDepth, 30);
+    decodedSCSpecFunctionInputV0.type = SCSpecTypeDef.decode(reader, maxDepth);
+    return decodedSCSpecFunctionInputV0;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    XdrString.skip(stream, maxDepth, Constants.SC_SPEC_DOC_LIMIT);
+    XdrString.skip(stream, maxDepth, 30);
+    SCSpecTypeDef.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "doc", "name", "type");
+    if (field.equals("doc")) {
+      path.checkEnd(index + 1);
+      values.add(XdrString.decode(stream, maxDepth, Constants.SC_SPEC_DOC_LIMIT));
+    } else {
+      XdrString.skip(stream, maxDepth, Constants.SC_SPEC_DOC_LIMIT);
+    }
+    if (field.equals("name")) {
+      path.checkEnd(index + 1);
+      values.add(XdrString.decode(stream, maxDepth, 30));
+    } else {
+      XdrString.skip(stream, maxDepth, 30);
+    }
+    if (field.equals("type")) {
+      SCSpecTypeDef.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      SCSpecTypeDef.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static SCSpecFunctionInputV0 fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static SCSpecFunctionInputV0 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static SCSpecFunctionInputV0 fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -85,6 +86,22 @@ public class SCSpecFunctionV0 implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += doc.encodedSize();
+    size += name.encodedSize();
+    size += 4;
+    for (int i = 0; i < inputs.length; i++) {
+      size += inputs[i].encodedSize();
+    }
+    size += 4;
+    for (int i = 0; i < outputs.length; i++) {
+      size += outputs[i].encodedSize();
+    }
+    return size;
+  }
+
   public static SCSpecFunctionV0 decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -136,16 +153,214 @@ public class SCSpecFunctionV0 implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static SCSpecFunctionV0 decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SCSpecFunctionV0 decodedSCSpecFunctionV0 = new SCSpecFunctionV0();
+    decodedSCSpecFunctionV0.doc = XdrString.decode(reader, maxDepth, Constants.SC_SPEC_DOC_LIMIT);
+    decodedSCSpecFunctionV0.name = SCSymbol.decode(reader, maxDepth);
+    int inputsSize = reader.readInt();
+    if (inputsSize < 0) {
+      throw new IOException("inputs size " + inputsSize + " is negative");
+    }
+    int inputsRemainingInputLen = reader.getRemainingInputLen();
+    if (inputsRemainingInputLen >= 0 && inputsRemainingInputLen < inputsSize) {
+      throw new IOException(
+          "inputs size "
+              + inputsSize
+              + " exceeds remaining input length "
+              + inputsRemainingInputLen);
+    }
+    decodedSCSpecFunctionV0.inputs = new SCSpecFunctionInputV0[inputsSize];
+    for (int i = 0; i < inputsSize; i++) {
+      decodedSCSpecFunctionV0.inputs[i] = SCSpecFunctionInputV0.decode(reader, maxDepth);
+    }
+    int outputsSize = reader.readInt();
+    if (outputsSize < 0) {
+      throw new IOException("outputs size " + outputsSize + " is negative");
+    }
+    if (outputsSize > 1) {
+      throw new IOException("outputs size " + outputsSize + " exceeds max size 1");
+    }
+    int outputsRemainingInputLen = reader.getRemainingInputLen();
+    if (outputsRemainingInputLen >= 0 && outputsRemainingInputLen < outputsSize) {
+      throw new IOException(
+          "outputs size "
+              + outputsSize
+              + " exceeds remaining input length "
+              + outputsRemainingInputLen);
+    }
+    decodedSCSpecFunctionV0.outputs = new SCSpecTypeDef[outputsSize];
+    for (int i = 0; i < outputsSize; i++) {
+      decodedSCSpecFunctionV0.outputs[i] = SCSpecTypeDef.decode(reader, maxDepth);
+    }
+    return decodedSCSpecFunctionV0;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    XdrString.skip(stream, maxDepth, Constants.SC_SPEC_DOC_LIMIT);
+    SCSymbol.skip(stream, maxDepth);
+    int inputsSize = stream.readInt();
+    if (inputsSize < 0) {
+      throw new IOException("inputs size " + inputsSize + " is negative");
+    }
+    int inputsRemainingInputLen = stream.getRemainingInputLen();
+    if (inputsRemainingInputLen >= 0 && inputsRemainingInputLen < inputsSize) {
+      throw new IOException(
+          "inputs size "
+              + inputsSize
+              + " exceeds remaining input length "
+              + inputsRemainingInputLen);
+    }
+    for (int i = 0; i < inputsSize; i++) {
+      SCSpecFunctionInputV0.skip(stream, maxDepth);
+    }
+    int outputsSize = stream.readInt();
+    if (outputsSize < 0) {
+      throw new IOException("outputs size " + outputsSize + " is negative");
+    }
+    if (outputsSize > 1) {
+      throw new IOException("outputs size " + outputsSize + " exceeds max size 1");
+    }
+    int outputsRemainingInputLen = stream.getRemainingInputLen();
+    if (outputsRemainingInputLen >= 0 && outputsRemainingInputLen < outputsSize) {
+      throw new IOException(
+          "outputs size "
+              + outputsSize
+              + " exceeds remaining input length "
+              + outputsRemainingInputLen);
+    }
+    for (int i = 0; i < outputsSize; i++) {
+      SCSpecTypeDef.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "doc", "name", "inputs[*]", "outputs[*]");
+    if (field.equals("doc")) {
+      path.checkEnd(index + 1);
+      values.add(XdrString.decode(stream, maxDepth, Constants.SC_SPEC_DOC_LIMIT));
+    } else {
+      XdrString.skip(stream, maxDepth, Constants.SC_SPEC_DOC_LIMIT);
+    }
+    if (field.equals("name")) {
+      SCSymbol.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      SCSymbol.skip(stream, maxDepth);
+    }
+    if (field.equals("inputs")) {
+      int inputsSize = stream.readInt();
+      if (inputsSize < 0) {
+        throw new IOException("inputs size " + inputsSize + " is negative");
+      }
+      int inputsRemainingInputLen = stream.getRemainingInputLen();
+      if (inputsRemainingInputLen >= 0 && inputsRemainingInputLen < inputsSize) {
+        throw new IOException(
+            "inputs size "
+                + inputsSize
+                + " exceeds remaining input length "
+                + inputsRemainingInputLen);
+      }
+      for (int i = 0; i < inputsSize; i++) {
+        SCSpecFunctionInputV0.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int inputsSize = stream.readInt();
+      if (inputsSize < 0) {
+        throw new IOException("inputs size " + inputsSize + " is negative");
+      }
+      int inputsRemainingInputLen = stream.getRemainingInputLen();
+      if (inputsRemainingInputLen >= 0 && inputsRemainingInputLen < inputsSize) {
+        throw new IOException(
+            "inputs size "
+                + inputsSize
+                + " exceeds remaining input length "
+                + inputsRemainingInputLen);
+      }
+      for (int i = 0; i < inputsSize; i++) {
+        SCSpecFunctionInputV0.skip(stream, maxDepth);
+      }
+    }
+    if (field.equals("outputs")) {
+      int outputsSize = stream.readInt();
+      if (outputsSize < 0) {
+        throw new IOException("outputs size " + outputsSize + " is negative");
+      }
+      if (outputsSize > 1) {
+        throw new IOException("outputs size " + outputsSize + " exceeds max size 1");
+      }
+      int outputsRemainingInputLen = stream.getRemainingInputLen();
+      if (outputsRemainingInputLen >= 0 && outputsRemainingInputLen < outputsSize) {
+        throw new IOException(
+            "outputs size "
+                + outputsSize
+                + " exceeds remaining input length "
+                + outputsRemainingInputLen);
+      }
+      for (int i = 0; i < outputsSize; i++) {
+        SCSpecTypeDef.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int outputsSize = stream.readInt();
+      if (outputsSize < 0) {
+        throw new IOException("outputs size " + outputsSize + " is negative");
+      }
+      if (outputsSize > 1) {
+        throw new IOException("outputs size " + outputsSize + " exceeds max size 1");
+      }
+      int outputsRemainingInputLen = stream.getRemainingInputLen();
+      if (outputsRemainingInputLen >= 0 && outputsRemainingInputLen < outputsSize) {
+        throw new IOException(
+            "outputs size "
+                + outputsSize
+                + " exceeds remaining input length "
+                + outputsRemainingInputLen);
+      }
+      for (int i = 0; i < outputsSize; i++) {
+        SCSpecTypeDef.skip(stream, maxDepth);
+      }
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static SCSpecFunctionV0 fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static SCSpecFunctionV0 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static SCSpecFunctionV0 fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
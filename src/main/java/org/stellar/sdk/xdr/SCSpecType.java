@@ -3,8 +3,10 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import org.stellar.sdk.Base64Factory;
 
 /**
@@ -151,20 +153,109 @@ public enum SCSpecType implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static SCSpecType decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    // maxDepth is intentionally not checked - enums are leaf types with no recursive decoding
+    int value = reader.readInt();
+    switch (value) {
+      case 0:
+        return SC_SPEC_TYPE_VAL;
+      case 1:
+        return SC_SPEC_TYPE_BOOL;
+      case 2:
+        return SC_SPEC_TYPE_VOID;
+      case 3:
+        return SC_SPEC_TYPE_ERROR;
+      case 4:
+        return SC_SPEC_TYPE_U32;
+      case 5:
+        return SC_SPEC_TYPE_I32;
+      case 6:
+        return SC_SPEC_TYPE_U64;
+      case 7:
+        return SC_SPEC_TYPE_I64;
+      case 8:
+        return SC_SPEC_TYPE_TIMEPOINT;
+      case 9:
+        return SC_SPEC_TYPE_DURATION;
+      case 10:
+        return SC_SPEC_TYPE_U128;
+      case 11:
+        return SC_SPEC_TYPE_I128;
+      case 12:
+        return SC_SPEC_TYPE_U256;
+      case 13:
+        return SC_SPEC_TYPE_I256;
+      case 14:
+        return SC_SPEC_TYPE_BYTES;
+      case 16:
+        return SC_SPEC_TYPE_STRING;
+      case 17:
+        return SC_SPEC_TYPE_SYMBOL;
+      case 19:
+        return SC_SPEC_TYPE_ADDRESS;
+      case 20:
+        return SC_SPEC_TYPE_MUXED_ADDRESS;
+      case 1000:
+        return SC_SPEC_TYPE_OPTION;
+      case 1001:
+        return SC_SPEC_TYPE_RESULT;
+      case 1002:
+        return SC_SPEC_TYPE_VEC;
+      case 1004:
+        return SC_SPEC_TYPE_MAP;
+      case 1005:
+        return SC_SPEC_TYPE_TUPLE;
+      case 1006:
+        return SC_SPEC_TYPE_BYTES_N;
+      case 2000:
+        return SC_SPEC_TYPE_UDT;
+      default:
+        throw new IllegalArgumentException("Unknown enum value: " + value);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    decode(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    path.checkEnd(index);
+    values.add(decode(stream, maxDepth));
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  @Override
+  public int encodedSize() {
+    return 4;
+  }
+
   public static SCSpecType fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static SCSpecType fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static SCSpecType fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -171,6 +173,55 @@ public class SCSpecTypeDef implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case SC_SPEC_TYPE_VAL:
+      case SC_SPEC_TYPE_BOOL:
+      case SC_SPEC_TYPE_VOID:
+      case SC_SPEC_TYPE_ERROR:
+      case SC_SPEC_TYPE_U32:
+      case SC_SPEC_TYPE_I32:
+      case SC_SPEC_TYPE_U64:
+      case SC_SPEC_TYPE_I64:
+      case SC_SPEC_TYPE_TIMEPOINT:
+      case SC_SPEC_TYPE_DURATION:
+      case SC_SPEC_TYPE_U128:
+      case SC_SPEC_TYPE_I128:
+      case SC_SPEC_TYPE_U256:
+      case SC_SPEC_TYPE_I256:
+      case SC_SPEC_TYPE_BYTES:
+      case SC_SPEC_TYPE_STRING:
+      case SC_SPEC_TYPE_SYMBOL:
+      case SC_SPEC_TYPE_ADDRESS:
+      case SC_SPEC_TYPE_MUXED_ADDRESS:
+        break;
+      case SC_SPEC_TYPE_OPTION:
+        size += option.encodedSize();
+        break;
+      case SC_SPEC_TYPE_RESULT:
+        size += result.encodedSize();
+        break;
+      case SC_SPEC_TYPE_VEC:
+        size += vec.encodedSize();
+        break;
+      case SC_SPEC_TYPE_MAP:
+        size += map.encodedSize();
+        break;
+      case SC_SPEC_TYPE_TUPLE:
+        size += tuple.encodedSize();
+        break;
+      case SC_SPEC_TYPE_BYTES_N:
+        size += bytesN.encodedSize();
+        break;
+      case SC_SPEC_TYPE_UDT:
+        size += udt.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static SCSpecTypeDef decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -231,16 +282,226 @@ public class SCSpecTypeDef implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static SCSpecTypeDef decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SCSpecTypeDef decodedSCSpecTypeDef = new SCSpecTypeDef();
+    SCSpecType discriminant = SCSpecType.decode(reader, maxDepth);
+    decodedSCSpecTypeDef.setDiscriminant(discriminant);
+    switch (decodedSCSpecTypeDef.getDiscriminant()) {
+      case SC_SPEC_TYPE_VAL:
+      case SC_SPEC_TYPE_BOOL:
+      case SC_SPEC_TYPE_VOID:
+      case SC_SPEC_TYPE_ERROR:
+      case SC_SPEC_TYPE_U32:
+      case SC_SPEC_TYPE_I32:
+      case SC_SPEC_TYPE_U64:
+      case SC_SPEC_TYPE_I64:
+      case SC_SPEC_TYPE_TIMEPOINT:
+      case SC_SPEC_TYPE_DURATION:
+      case SC_SPEC_TYPE_U128:
+      case SC_SPEC_TYPE_I128:
+      case SC_SPEC_TYPE_U256:
+      case SC_SPEC_TYPE_I256:
+      case SC_SPEC_TYPE_BYTES:
+      case SC_SPEC_TYPE_STRING:
+      case SC_SPEC_TYPE_SYMBOL:
+      case SC_SPEC_TYPE_ADDRESS:
+      case SC_SPEC_TYPE_MUXED_ADDRESS:
+        break;
+      case SC_SPEC_TYPE_OPTION:
+        decodedSCSpecTypeDef.option = SCSpecTypeOption.decode(reader, maxDepth);
+        break;
+      case SC_SPEC_TYPE_RESULT:
+        decodedSCSpecTypeDef.result = SCSpecTypeResult.decode(reader, maxDepth);
+        break;
+      case SC_SPEC_TYPE_VEC:
+        decodedSCSpecTypeDef.vec = SCSpecTypeVec.decode(reader, maxDepth);
+        break;
+      case SC_SPEC_TYPE_MAP:
+        decodedSCSpecTypeDef.map = SCSpecTypeMap.decode(reader, maxDepth);
+        break;
+      case SC_SPEC_TYPE_TUPLE:
+        decodedSCSpecTypeDef.tuple = SCSpecTypeTuple.decode(reader, maxDepth);
+        break;
+      case SC_SPEC_TYPE_BYTES_N:
+        decodedSCSpecTypeDef.bytesN = SCSpecTypeBytesN.decode(reader, maxDepth);
+        break;
+      case SC_SPEC_TYPE_UDT:
+        decodedSCSpecTypeDef.udt = SCSpecTypeUDT.decode(reader, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedSCSpecTypeDef;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SCSpecType discriminant = SCSpecType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case SC_SPEC_TYPE_VAL:
+      case SC_SPEC_TYPE_BOOL:
+      case SC_SPEC_TYPE_VOID:
+      case SC_SPEC_TYPE_ERROR:
+      case SC_SPEC_TYPE_U32:
+      case SC_SPEC_TYPE_I32:
+      case SC_SPEC_TYPE_U64:
+      case SC_SPEC_TYPE_I64:
+      case SC_SPEC_TYPE_TIMEPOINT:
+      case SC_SPEC_TYPE_DURATION:
+      case SC_SPEC_TYPE_U128:
+      case SC_SPEC_TYPE_I128:
+      case SC_SPEC_TYPE_U256:
+      case SC_SPEC_TYPE_I256:
+      case SC_SPEC_TYPE_BYTES:
+      case SC_SPEC_TYPE_STRING:
+      case SC_SPEC_TYPE_SYMBOL:
+      case SC_SPEC_TYPE_ADDRESS:
+      case SC_SPEC_TYPE_MUXED_ADDRESS:
+        break;
+      case SC_SPEC_TYPE_OPTION:
+        SCSpecTypeOption.skip(stream, maxDepth);
+        break;
+      case SC_SPEC_TYPE_RESULT:
+        SCSpecTypeResult.skip(stream, maxDepth);
+        break;
+      case SC_SPEC_TYPE_VEC:
+        SCSpecTypeVec.skip(stream, maxDepth);
+        break;
+      case SC_SPEC_TYPE_MAP:
+        SCSpecTypeMap.skip(stream, maxDepth);
+        break;
+      case SC_SPEC_TYPE_TUPLE:
+        SCSpecTypeTuple.skip(stream, maxDepth);
+        break;
+      case SC_SPEC_TYPE_BYTES_N:
+        SCSpecTypeBytesN.skip(stream, maxDepth);
+        break;
+      case SC_SPEC_TYPE_UDT:
+        SCSpecTypeUDT.skip(stream, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field =
+        path.checkField(index, "option", "result", "vec", "map", "tuple", "bytesN", "udt");
+    SCSpecType discriminant = SCSpecType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case SC_SPEC_TYPE_VAL:
+      case SC_SPEC_TYPE_BOOL:
+      case SC_SPEC_TYPE_VOID:
+      case SC_SPEC_TYPE_ERROR:
+      case SC_SPEC_TYPE_U32:
+      case SC_SPEC_TYPE_I32:
+      case SC_SPEC_TYPE_U64:
+      case SC_SPEC_TYPE_I64:
+      case SC_SPEC_TYPE_TIMEPOINT:
+      case SC_SPEC_TYPE_DURATION:
+      case SC_SPEC_TYPE_U128:
+      case SC_SPEC_TYPE_I128:
+      case SC_SPEC_TYPE_U256:
+      case SC_SPEC_TYPE_I256:
+      case SC_SPEC_TYPE_BYTES:
+      case SC_SPEC_TYPE_STRING:
+      case SC_SPEC_TYPE_SYMBOL:
+      case SC_SPEC_TYPE_ADDRESS:
+      case SC_SPEC_TYPE_MUXED_ADDRESS:
+        break;
+      case SC_SPEC_TYPE_OPTION:
+        if (field.equals("option")) {
+          SCSpecTypeOption.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          SCSpecTypeOption.skip(stream, maxDepth);
+        }
+        break;
+      case SC_SPEC_TYPE_RESULT:
+        if (field.equals("result")) {
+          SCSpecTypeResult.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          SCSpecTypeResult.skip(stream, maxDepth);
+        }
+        break;
+      case SC_SPEC_TYPE_VEC:
+        if (field.equals("vec")) {
+          SCSpecTypeVec.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          SCSpecTypeVec.skip(stream, maxDepth);
+        }
+        break;
+      case SC_SPEC_TYPE_MAP:
+        if (field.equals("map")) {
+          SCSpecTypeMap.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          SCSpecTypeMap.skip(stream, maxDepth);
+        }
+        break;
+      case SC_SPEC_TYPE_TUPLE:
+        if (field.equals("tuple")) {
+          SCSpecTypeTuple.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          SCSpecTypeTuple.skip(stream, maxDepth);
+        }
+        break;
+      case SC_SPEC_TYPE_BYTES_N:
+        if (field.equals("bytesN")) {
+          SCSpecTypeBytesN.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          SCSpecTypeBytesN.skip(stream, maxDepth);
+        }
+        break;
+      case SC_SPEC_TYPE_UDT:
+        if (field.equals("udt")) {
+          SCSpecTypeUDT.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          SCSpecTypeUDT.skip(stream, maxDepth);
+        }
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static SCSpecTypeDef fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static SCSpecTypeDef fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static SCSpecTypeDef fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
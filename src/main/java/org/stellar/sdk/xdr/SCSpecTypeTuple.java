@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -47,6 +48,16 @@ public class SCSpecTypeTuple implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    for (int i = 0; i < valueTypes.length; i++) {
+      size += valueTypes[i].encodedSize();
+    }
+    return size;
+  }
+
   public static SCSpecTypeTuple decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -79,16 +90,135 @@ public class SCSpecTypeTuple implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static SCSpecTypeTuple decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SCSpecTypeTuple decodedSCSpecTypeTuple = new SCSpecTypeTuple();
+    int valueTypesSize = reader.readInt();
+    if (valueTypesSize < 0) {
+      throw new IOException("valueTypes size " + valueTypesSize + " is negative");
+    }
+    if (valueTypesSize > 12) {
+      throw new IOException("valueTypes size " + valueTypesSize + " exceeds max size 12");
+    }
+    int valueTypesRemainingInputLen = reader.getRemainingInputLen();
+    if (valueTypesRemainingInputLen >= 0 && valueTypesRemainingInputLen < valueTypesSize) {
+      throw new IOException(
+          "valueTypes size "
+              + valueTypesSize
+              + " exceeds remaining input length "
+              + valueTypesRemainingInputLen);
+    }
+    decodedSCSpecTypeTuple.valueTypes = new SCSpecTypeDef[valueTypesSize];
+    for (int i = 0; i < valueTypesSize; i++) {
+      decodedSCSpecTypeTuple.valueTypes[i] = SCSpecTypeDef.decode(reader, maxDepth);
+    }
+    return decodedSCSpecTypeTuple;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int valueTypesSize = stream.readInt();
+    if (valueTypesSize < 0) {
+      throw new IOException("valueTypes size " + valueTypesSize + " is negative");
+    }
+    if (valueTypesSize > 12) {
+      throw new IOException("valueTypes size " + valueTypesSize + " exceeds max size 12");
+    }
+    int valueTypesRemainingInputLen = stream.getRemainingInputLen();
+    if (valueTypesRemainingInputLen >= 0 && valueTypesRemainingInputLen < valueTypesSize) {
+      throw new IOException(
+          "valueTypes size "
+              + valueTypesSize
+              + " exceeds remaining input length "
+              + valueTypesRemainingInputLen);
+    }
+    for (int i = 0; i < valueTypesSize; i++) {
+      SCSpecTypeDef.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "valueTypes[*]");
+    if (field.equals("valueTypes")) {
+      int valueTypesSize = stream.readInt();
+      if (valueTypesSize < 0) {
+        throw new IOException("valueTypes size " + valueTypesSize + " is negative");
+      }
+      if (valueTypesSize > 12) {
+        throw new IOException("valueTypes size " + valueTypesSize + " exceeds max size 12");
+      }
+      int valueTypesRemainingInputLen = stream.getRemainingInputLen();
+      if (valueTypesRemainingInputLen >= 0 && valueTypesRemainingInputLen < valueTypesSize) {
+        throw new IOException(
+            "valueTypes size "
+                + valueTypesSize
+                + " exceeds remaining input length "
+                + valueTypesRemainingInputLen);
+      }
+      for (int i = 0; i < valueTypesSize; i++) {
+        SCSpecTypeDef.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int valueTypesSize = stream.readInt();
+      if (valueTypesSize < 0) {
+        throw new IOException("valueTypes size " + valueTypesSize + " is negative");
+      }
+      if (valueTypesSize > 12) {
+        throw new IOException("valueTypes size " + valueTypesSize + " exceeds max size 12");
+      }
+      int valueTypesRemainingInputLen = stream.getRemainingInputLen();
+      if (valueTypesRemainingInputLen >= 0 && valueTypesRemainingInputLen < valueTypesSize) {
+        throw new IOException(
+            "valueTypes size "
+                + valueTypesSize
+                + " exceeds remaining input length "
+                + valueTypesRemainingInputLen);
+      }
+      for (int i = 0; i < valueTypesSize; i++) {
+        SCSpecTypeDef.skip(stream, maxDepth);
+      }
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static SCSpecTypeTuple fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static SCSpecTypeTuple fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static SCSpecTypeTuple fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -86,6 +87,19 @@ public class SCSpecUDTErrorEnumV0 implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += doc.encodedSize();
+    size += lib.encodedSize();
+    size += name.encodedSize();
+    size += 4;
+    for (int i = 0; i < cases.length; i++) {
+      size += cases[i].encodedSize();
+    }
+    return size;
+  }
+
   public static SCSpecUDTErrorEnumV0 decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -117,16 +131,142 @@ public class SCSpecUDTErrorEnumV0 implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static SCSpecUDTErrorEnumV0 decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SCSpecUDTErrorEnumV0 decodedSCSpecUDTErrorEnumV0 = new SCSpecUDTErrorEnumV0();
+    decodedSCSpecUDTErrorEnumV0.doc =
+        XdrString.decode(reader, maxDepth, Constants.SC_SPEC_DOC_LIMIT);
+    decodedSCSpecUDTErrorEnumV0.lib = XdrString.decode(reader, maxDepth, 80);
+    decodedSCSpecUDTErrorEnumV0.name = XdrString.decode(reader, maxDepth, 60);
+    int casesSize = reader.readInt();
+    if (casesSize < 0) {
+      throw new IOException("cases size " + casesSize + " is negative");
+    }
+    int casesRemainingInputLen = reader.getRemainingInputLen();
+    if (casesRemainingInputLen >= 0 && casesRemainingInputLen < casesSize) {
+      throw new IOException(
+          "cases size " + casesSize + " exceeds remaining input length " + casesRemainingInputLen);
+    }
+    decodedSCSpecUDTErrorEnumV0.cases = new SCSpecUDTErrorEnumCaseV0[casesSize];
+    for (int i = 0; i < casesSize; i++) {
+      decodedSCSpecUDTErrorEnumV0.cases[i] = SCSpecUDTErrorEnumCaseV0.decode(reader, maxDepth);
+    }
+    return decodedSCSpecUDTErrorEnumV0;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    XdrString.skip(stream, maxDepth, Constants.SC_SPEC_DOC_LIMIT);
+    XdrString.skip(stream, maxDepth, 80);
+    XdrString.skip(stream, maxDepth, 60);
+    int casesSize = stream.readInt();
+    if (casesSize < 0) {
+      throw new IOException("cases size " + casesSize + " is negative");
+    }
+    int casesRemainingInputLen = stream.getRemainingInputLen();
+    if (casesRemainingInputLen >= 0 && casesRemainingInputLen < casesSize) {
+      throw new IOException(
+          "cases size " + casesSize + " exceeds remaining input length " + casesRemainingInputLen);
+    }
+    for (int i = 0; i < casesSize; i++) {
+      SCSpecUDTErrorEnumCaseV0.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "doc", "lib", "name", "cases[*]");
+    if (field.equals("doc")) {
+      path.checkEnd(index + 1);
+      values.add(XdrString.decode(stream, maxDepth, Constants.SC_SPEC_DOC_LIMIT));
+    } else {
+      XdrString.skip(stream, maxDepth, Constants.SC_SPEC_DOC_LIMIT);
+    }
+    if (field.equals("lib")) {
+      path.checkEnd(index + 1);
+      values.add(XdrString.decode(stream, maxDepth, 80));
+    } else {
+      XdrString.skip(stream, maxDepth, 80);
+    }
+    if (field.equals("name")) {
+      path.checkEnd(index + 1);
+      values.add(XdrString.decode(stream, maxDepth, 60));
+    } else {
+      XdrString.skip(stream, maxDepth, 60);
+    }
+    if (field.equals("cases")) {
+      int casesSize = stream.readInt();
+      if (casesSize < 0) {
+        throw new IOException("cases size " + casesSize + " is negative");
+      }
+      int casesRemainingInputLen = stream.getRemainingInputLen();
+      if (casesRemainingInputLen >= 0 && casesRemainingInputLen < casesSize) {
+        throw new IOException(
+            "cases size "
+                + casesSize
+                + " exceeds remaining input length "
+                + casesRemainingInputLen);
+      }
+      for (int i = 0; i < casesSize; i++) {
+        SCSpecUDTErrorEnumCaseV0.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int casesSize = stream.readInt();
+      if (casesSize < 0) {
+        throw new IOException("cases size " + casesSize + " is negative");
+      }
+      int casesRemainingInputLen = stream.getRemainingInputLen();
+      if (casesRemainingInputLen >= 0 && casesRemainingInputLen < casesSize) {
+        throw new IOException(
+            "cases size "
+                + casesSize
+                + " exceeds remaining input length "
+                + casesRemainingInputLen);
+      }
+      for (int i = 0; i < casesSize; i++) {
+        SCSpecUDTErrorEnumCaseV0.skip(stream, maxDepth);
+      }
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static SCSpecUDTErrorEnumV0 fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static SCSpecUDTErrorEnumV0 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static SCSpecUDTErrorEnumV0 fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -86,6 +87,19 @@ public class SCSpecUDTStructV0 implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += doc.encodedSize();
+    size += lib.encodedSize();
+    size += name.encodedSize();
+    size += 4;
+    for (int i = 0; i < fields.length; i++) {
+      size += fields[i].encodedSize();
+    }
+    return size;
+  }
+
   public static SCSpecUDTStructV0 decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -119,16 +133,147 @@ public class SCSpecUDTStructV0 implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static SCSpecUDTStructV0 decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SCSpecUDTStructV0 decodedSCSpecUDTStructV0 = new SCSpecUDTStructV0();
+    decodedSCSpecUDTStructV0.doc = XdrString.decode(reader, maxDepth, Constants.SC_SPEC_DOC_LIMIT);
+    decodedSCSpecUDTStructV0.lib = XdrString.decode(reader, maxDepth, 80);
+    decodedSCSpecUDTStructV0.name = XdrString.decode(reader, maxDepth, 60);
+    int fieldsSize = reader.readInt();
+    if (fieldsSize < 0) {
+      throw new IOException("fields size " + fieldsSize + " is negative");
+    }
+    int fieldsRemainingInputLen = reader.getRemainingInputLen();
+    if (fieldsRemainingInputLen >= 0 && fieldsRemainingInputLen < fieldsSize) {
+      throw new IOException(
+          "fields size "
+              + fieldsSize
+              + " exceeds remaining input length "
+              + fieldsRemainingInputLen);
+    }
+    decodedSCSpecUDTStructV0.fields = new SCSpecUDTStructFieldV0[fieldsSize];
+    for (int i = 0; i < fieldsSize; i++) {
+      decodedSCSpecUDTStructV0.fields[i] = SCSpecUDTStructFieldV0.decode(reader, maxDepth);
+    }
+    return decodedSCSpecUDTStructV0;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    XdrString.skip(stream, maxDepth, Constants.SC_SPEC_DOC_LIMIT);
+    XdrString.skip(stream, maxDepth, 80);
+    XdrString.skip(stream, maxDepth, 60);
+    int fieldsSize = stream.readInt();
+    if (fieldsSize < 0) {
+      throw new IOException("fields size " + fieldsSize + " is negative");
+    }
+    int fieldsRemainingInputLen = stream.getRemainingInputLen();
+    if (fieldsRemainingInputLen >= 0 && fieldsRemainingInputLen < fieldsSize) {
+      throw new IOException(
+          "fields size "
+              + fieldsSize
+              + " exceeds remaining input length "
+              + fieldsRemainingInputLen);
+    }
+    for (int i = 0; i < fieldsSize; i++) {
+      SCSpecUDTStructFieldV0.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "doc", "lib", "name", "fields[*]");
+    if (field.equals("doc")) {
+      path.checkEnd(index + 1);
+      values.add(XdrString.decode(stream, maxDepth, Constants.SC_SPEC_DOC_LIMIT));
+    } else {
+      XdrString.skip(stream, maxDepth, Constants.SC_SPEC_DOC_LIMIT);
+    }
+    if (field.equals("lib")) {
+      path.checkEnd(index + 1);
+      values.add(XdrString.decode(stream, maxDepth, 80));
+    } else {
+      XdrString.skip(stream, maxDepth, 80);
+    }
+    if (field.equals("name")) {
+      path.checkEnd(index + 1);
+      values.add(XdrString.decode(stream, maxDepth, 60));
+    } else {
+      XdrString.skip(stream, maxDepth, 60);
+    }
+    if (field.equals("fields")) {
+      int fieldsSize = stream.readInt();
+      if (fieldsSize < 0) {
+        throw new IOException("fields size " + fieldsSize + " is negative");
+      }
+      int fieldsRemainingInputLen = stream.getRemainingInputLen();
+      if (fieldsRemainingInputLen >= 0 && fieldsRemainingInputLen < fieldsSize) {
+        throw new IOException(
+            "fields size "
+                + fieldsSize
+                + " exceeds remaining input length "
+                + fieldsRemainingInputLen);
+      }
+      for (int i = 0; i < fieldsSize; i++) {
+        SCSpecUDTStructFieldV0.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int fieldsSize = stream.readInt();
+      if (fieldsSize < 0) {
+        throw new IOException("fields size " + fieldsSize + " is negative");
+      }
+      int fieldsRemainingInputLen = stream.getRemainingInputLen();
+      if (fieldsRemainingInputLen >= 0 && fieldsRemainingInputLen < fieldsSize) {
+        throw new IOException(
+            "fields size "
+                + fieldsSize
+                + " exceeds remaining input length "
+                + fieldsRemainingInputLen);
+      }
+      for (int i = 0; i < fieldsSize; i++) {
+        SCSpecUDTStructFieldV0.skip(stream, maxDepth);
+      }
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static SCSpecUDTStructV0 fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static SCSpecUDTStructV0 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static SCSpecUDTStructV0 fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
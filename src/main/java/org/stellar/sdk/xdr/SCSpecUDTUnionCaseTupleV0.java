@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -72,6 +73,18 @@ public class SCSpecUDTUnionCaseTupleV0 implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += doc.encodedSize();
+    size += name.encodedSize();
+    size += 4;
+    for (int i = 0; i < type.length; i++) {
+      size += type[i].encodedSize();
+    }
+    return size;
+  }
+
   public static SCSpecUDTUnionCaseTupleV0 decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -102,16 +115,128 @@ public class SCSpecUDTUnionCaseTupleV0 implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static SCSpecUDTUnionCaseTupleV0 decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SCSpecUDTUnionCaseTupleV0 decodedSCSpecUDTUnionCaseTupleV0 = new SCSpecUDTUnionCaseTupleV0();
+    decodedSCSpecUDTUnionCaseTupleV0.doc =
+        XdrString.decode(reader, maxDepth, Constants.SC_SPEC_DOC_LIMIT);
+    decodedSCSpecUDTUnionCaseTupleV0.name = XdrString.decode(reader, maxDepth, 60);
+    int typeSize = reader.readInt();
+    if (typeSize < 0) {
+      throw new IOException("type size " + typeSize + " is negative");
+    }
+    int typeRemainingInputLen = reader.getRemainingInputLen();
+    if (typeRemainingInputLen >= 0 && typeRemainingInputLen < typeSize) {
+      throw new IOException(
+          "type size " + typeSize + " exceeds remaining input length " + typeRemainingInputLen);
+    }
+    decodedSCSpecUDTUnionCaseTupleV0.type = new SCSpecTypeDef[typeSize];
+    for (int i = 0; i < typeSize; i++) {
+      decodedSCSpecUDTUnionCaseTupleV0.type[i] = SCSpecTypeDef.decode(reader, maxDepth);
+    }
+    return decodedSCSpecUDTUnionCaseTupleV0;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    XdrString.skip(stream, maxDepth, Constants.SC_SPEC_DOC_LIMIT);
+    XdrString.skip(stream, maxDepth, 60);
+    int typeSize = stream.readInt();
+    if (typeSize < 0) {
+      throw new IOException("type size " + typeSize + " is negative");
+    }
+    int typeRemainingInputLen = stream.getRemainingInputLen();
+    if (typeRemainingInputLen >= 0 && typeRemainingInputLen < typeSize) {
+      throw new IOException(
+          "type size " + typeSize + " exceeds remaining input length " + typeRemainingInputLen);
+    }
+    for (int i = 0; i < typeSize; i++) {
+      SCSpecTypeDef.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "doc", "name", "type[*]");
+    if (field.equals("doc")) {
+      path.checkEnd(index + 1);
+      values.add(XdrString.decode(stream, maxDepth, Constants.SC_SPEC_DOC_LIMIT));
+    } else {
+      XdrString.skip(stream, maxDepth, Constants.SC_SPEC_DOC_LIMIT);
+    }
+    if (field.equals("name")) {
+      path.checkEnd(index + 1);
+      values.add(XdrString.decode(stream, maxDepth, 60));
+    } else {
+      XdrString.skip(stream, maxDepth, 60);
+    }
+    if (field.equals("type")) {
+      int typeSize = stream.readInt();
+      if (typeSize < 0) {
+        throw new IOException("type size " + typeSize + " is negative");
+      }
+      int typeRemainingInputLen = stream.getRemainingInputLen();
+      if (typeRemainingInputLen >= 0 && typeRemainingInputLen < typeSize) {
+        throw new IOException(
+            "type size " + typeSize + " exceeds remaining input length " + typeRemainingInputLen);
+      }
+      for (int i = 0; i < typeSize; i++) {
+        SCSpecTypeDef.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int typeSize = stream.readInt();
+      if (typeSize < 0) {
+        throw new IOException("type size " + typeSize + " is negative");
+      }
+      int typeRemainingInputLen = stream.getRemainingInputLen();
+      if (typeRemainingInputLen >= 0 && typeRemainingInputLen < typeSize) {
+        throw new IOException(
+            "type size " + typeSize + " exceeds remaining input length " + typeRemainingInputLen);
+      }
+      for (int i = 0; i < typeSize; i++) {
+        SCSpecTypeDef.skip(stream, maxDepth);
+      }
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static SCSpecUDTUnionCaseTupleV0 fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static SCSpecUDTUnionCaseTupleV0 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static SCSpecUDTUnionCaseTupleV0 fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -66,6 +68,20 @@ public class SCSpecUDTUnionCaseV0 implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case SC_SPEC_UDT_UNION_CASE_VOID_V0:
+        size += voidCase.encodedSize();
+        break;
+      case SC_SPEC_UDT_UNION_CASE_TUPLE_V0:
+        size += tupleCase.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static SCSpecUDTUnionCaseV0 decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -92,16 +108,101 @@ public class SCSpecUDTUnionCaseV0 implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static SCSpecUDTUnionCaseV0 decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SCSpecUDTUnionCaseV0 decodedSCSpecUDTUnionCaseV0 = new SCSpecUDTUnionCaseV0();
+    SCSpecUDTUnionCaseV0Kind discriminant = SCSpecUDTUnionCaseV0Kind.decode(reader, maxDepth);
+    decodedSCSpecUDTUnionCaseV0.setDiscriminant(discriminant);
+    switch (decodedSCSpecUDTUnionCaseV0.getDiscriminant()) {
+      case SC_SPEC_UDT_UNION_CASE_VOID_V0:
+        decodedSCSpecUDTUnionCaseV0.voidCase = SCSpecUDTUnionCaseVoidV0.decode(reader, maxDepth);
+        break;
+      case SC_SPEC_UDT_UNION_CASE_TUPLE_V0:
+        decodedSCSpecUDTUnionCaseV0.tupleCase = SCSpecUDTUnionCaseTupleV0.decode(reader, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedSCSpecUDTUnionCaseV0;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SCSpecUDTUnionCaseV0Kind discriminant = SCSpecUDTUnionCaseV0Kind.decode(stream, maxDepth);
+    switch (discriminant) {
+      case SC_SPEC_UDT_UNION_CASE_VOID_V0:
+        SCSpecUDTUnionCaseVoidV0.skip(stream, maxDepth);
+        break;
+      case SC_SPEC_UDT_UNION_CASE_TUPLE_V0:
+        SCSpecUDTUnionCaseTupleV0.skip(stream, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "voidCase", "tupleCase");
+    SCSpecUDTUnionCaseV0Kind discriminant = SCSpecUDTUnionCaseV0Kind.decode(stream, maxDepth);
+    switch (discriminant) {
+      case SC_SPEC_UDT_UNION_CASE_VOID_V0:
+        if (field.equals("voidCase")) {
+          SCSpecUDTUnionCaseVoidV0.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          SCSpecUDTUnionCaseVoidV0.skip(stream, maxDepth);
+        }
+        break;
+      case SC_SPEC_UDT_UNION_CASE_TUPLE_V0:
+        if (field.equals("tupleCase")) {
+          SCSpecUDTUnionCaseTupleV0.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          SCSpecUDTUnionCaseTupleV0.skip(stream, maxDepth);
+        }
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static SCSpecUDTUnionCaseV0 fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static SCSpecUDTUnionCaseV0 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static SCSpecUDTUnionCaseV0 fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -331,6 +333,84 @@ public class SCVal implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case SCV_BOOL:
+        size += 4;
+        break;
+      case SCV_VOID:
+        break;
+      case SCV_ERROR:
+        size += error.encodedSize();
+        break;
+      case SCV_U32:
+        size += u32.encodedSize();
+        break;
+      case SCV_I32:
+        size += i32.encodedSize();
+        break;
+      case SCV_U64:
+        size += u64.encodedSize();
+        break;
+      case SCV_I64:
+        size += i64.encodedSize();
+        break;
+      case SCV_TIMEPOINT:
+        size += timepoint.encodedSize();
+        break;
+      case SCV_DURATION:
+        size += duration.encodedSize();
+        break;
+      case SCV_U128:
+        size += u128.encodedSize();
+        break;
+      case SCV_I128:
+        size += i128.encodedSize();
+        break;
+      case SCV_U256:
+        size += u256.encodedSize();
+        break;
+      case SCV_I256:
+        size += i256.encodedSize();
+        break;
+      case SCV_BYTES:
+        size += bytes.encodedSize();
+        break;
+      case SCV_STRING:
+        size += str.encodedSize();
+        break;
+      case SCV_SYMBOL:
+        size += sym.encodedSize();
+        break;
+      case SCV_VEC:
+        size += 4;
+        if (vec != null) {
+          size += vec.encodedSize();
+        }
+        break;
+      case SCV_MAP:
+        size += 4;
+        if (map != null) {
+          size += map.encodedSize();
+        }
+        break;
+      case SCV_ADDRESS:
+        size += address.encodedSize();
+        break;
+      case SCV_CONTRACT_INSTANCE:
+        size += instance.encodedSize();
+        break;
+      case SCV_LEDGER_KEY_CONTRACT_INSTANCE:
+        break;
+      case SCV_LEDGER_KEY_NONCE:
+        size += nonce_key.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static SCVal decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -420,16 +500,393 @@ public class SCVal implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static SCVal decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SCVal decodedSCVal = new SCVal();
+    SCValType discriminant = SCValType.decode(reader, maxDepth);
+    decodedSCVal.setDiscriminant(discriminant);
+    switch (decodedSCVal.getDiscriminant()) {
+      case SCV_BOOL:
+        decodedSCVal.b = reader.readXdrBoolean();
+        break;
+      case SCV_VOID:
+        break;
+      case SCV_ERROR:
+        decodedSCVal.error = SCError.decode(reader, maxDepth);
+        break;
+      case SCV_U32:
+        decodedSCVal.u32 = Uint32.decode(reader, maxDepth);
+        break;
+      case SCV_I32:
+        decodedSCVal.i32 = Int32.decode(reader, maxDepth);
+        break;
+      case SCV_U64:
+        decodedSCVal.u64 = Uint64.decode(reader, maxDepth);
+        break;
+      case SCV_I64:
+        decodedSCVal.i64 = Int64.decode(reader, maxDepth);
+        break;
+      case SCV_TIMEPOINT:
+        decodedSCVal.timepoint = TimePoint.decode(reader, maxDepth);
+        break;
+      case SCV_DURATION:
+        decodedSCVal.duration = Duration.decode(reader, maxDepth);
+        break;
+      case SCV_U128:
+        decodedSCVal.u128 = UInt128Parts.decode(reader, maxDepth);
+        break;
+      case SCV_I128:
+        decodedSCVal.i128 = Int128Parts.decode(reader, maxDepth);
+        break;
+      case SCV_U256:
+        decodedSCVal.u256 = UInt256Parts.decode(reader, maxDepth);
+        break;
+      case SCV_I256:
+        decodedSCVal.i256 = Int256Parts.decode(reader, maxDepth);
+        break;
+      case SCV_BYTES:
+        decodedSCVal.bytes = SCBytes.decode(reader, maxDepth);
+        break;
+      case SCV_STRING:
+        decodedSCVal.str = SCString.decode(reader, maxDepth);
+        break;
+      case SCV_SYMBOL:
+        decodedSCVal.sym = SCSymbol.decode(reader, maxDepth);
+        break;
+      case SCV_VEC:
+        boolean vecPresent = reader.readXdrBoolean();
+        if (vecPresent) {
+          decodedSCVal.vec = SCVec.decode(reader, maxDepth);
+        }
+        break;
+      case SCV_MAP:
+        boolean mapPresent = reader.readXdrBoolean();
+        if (mapPresent) {
+          decodedSCVal.map = SCMap.decode(reader, maxDepth);
+        }
+        break;
+      case SCV_ADDRESS:
+        decodedSCVal.address = SCAddress.decode(reader, maxDepth);
+        break;
+      case SCV_CONTRACT_INSTANCE:
+        decodedSCVal.instance = SCContractInstance.decode(reader, maxDepth);
+        break;
+      case SCV_LEDGER_KEY_CONTRACT_INSTANCE:
+        break;
+      case SCV_LEDGER_KEY_NONCE:
+        decodedSCVal.nonce_key = SCNonceKey.decode(reader, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedSCVal;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SCValType discriminant = SCValType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case SCV_BOOL:
+        stream.readXdrBoolean();
+        break;
+      case SCV_VOID:
+        break;
+      case SCV_ERROR:
+        SCError.skip(stream, maxDepth);
+        break;
+      case SCV_U32:
+        Uint32.skip(stream, maxDepth);
+        break;
+      case SCV_I32:
+        Int32.skip(stream, maxDepth);
+        break;
+      case SCV_U64:
+        Uint64.skip(stream, maxDepth);
+        break;
+      case SCV_I64:
+        Int64.skip(stream, maxDepth);
+        break;
+      case SCV_TIMEPOINT:
+        TimePoint.skip(stream, maxDepth);
+        break;
+      case SCV_DURATION:
+        Duration.skip(stream, maxDepth);
+        break;
+      case SCV_U128:
+        UInt128Parts.skip(stream, maxDepth);
+        break;
+      case SCV_I128:
+        Int128Parts.skip(stream, maxDepth);
+        break;
+      case SCV_U256:
+        UInt256Parts.skip(stream, maxDepth);
+        break;
+      case SCV_I256:
+        Int256Parts.skip(stream, maxDepth);
+        break;
+      case SCV_BYTES:
+        SCBytes.skip(stream, maxDepth);
+        break;
+      case SCV_STRING:
+        SCString.skip(stream, maxDepth);
+        break;
+      case SCV_SYMBOL:
+        SCSymbol.skip(stream, maxDepth);
+        break;
+      case SCV_VEC:
+        boolean vecPresent = stream.readXdrBoolean();
+        if (vecPresent) {
+          SCVec.skip(stream, maxDepth);
+        }
+        break;
+      case SCV_MAP:
+        boolean mapPresent = stream.readXdrBoolean();
+        if (mapPresent) {
+          SCMap.skip(stream, maxDepth);
+        }
+        break;
+      case SCV_ADDRESS:
+        SCAddress.skip(stream, maxDepth);
+        break;
+      case SCV_CONTRACT_INSTANCE:
+        SCContractInstance.skip(stream, maxDepth);
+        break;
+      case SCV_LEDGER_KEY_CONTRACT_INSTANCE:
+        break;
+      case SCV_LEDGER_KEY_NONCE:
+        SCNonceKey.skip(stream, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field =
+        path.checkField(
+            index,
+            "b",
+            "error",
+            "u32",
+            "i32",
+            "u64",
+            "i64",
+            "timepoint",
+            "duration",
+            "u128",
+            "i128",
+            "u256",
+            "i256",
+            "bytes",
+            "str",
+            "sym",
+            "vec[*]",
+            "map[*]",
+            "address",
+            "instance",
+            "nonce_key");
+    SCValType discriminant = SCValType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case SCV_BOOL:
+        if (field.equals("b")) {
+          path.checkEnd(index + 1);
+          values.add(stream.readXdrBoolean());
+        } else {
+          stream.readXdrBoolean();
+        }
+        break;
+      case SCV_VOID:
+        break;
+      case SCV_ERROR:
+        if (field.equals("error")) {
+          SCError.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          SCError.skip(stream, maxDepth);
+        }
+        break;
+      case SCV_U32:
+        if (field.equals("u32")) {
+          Uint32.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Uint32.skip(stream, maxDepth);
+        }
+        break;
+      case SCV_I32:
+        if (field.equals("i32")) {
+          Int32.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Int32.skip(stream, maxDepth);
+        }
+        break;
+      case SCV_U64:
+        if (field.equals("u64")) {
+          Uint64.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Uint64.skip(stream, maxDepth);
+        }
+        break;
+      case SCV_I64:
+        if (field.equals("i64")) {
+          Int64.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Int64.skip(stream, maxDepth);
+        }
+        break;
+      case SCV_TIMEPOINT:
+        if (field.equals("timepoint")) {
+          TimePoint.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          TimePoint.skip(stream, maxDepth);
+        }
+        break;
+      case SCV_DURATION:
+        if (field.equals("duration")) {
+          Duration.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Duration.skip(stream, maxDepth);
+        }
+        break;
+      case SCV_U128:
+        if (field.equals("u128")) {
+          UInt128Parts.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          UInt128Parts.skip(stream, maxDepth);
+        }
+        break;
+      case SCV_I128:
+        if (field.equals("i128")) {
+          Int128Parts.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Int128Parts.skip(stream, maxDepth);
+        }
+        break;
+      case SCV_U256:
+        if (field.equals("u256")) {
+          UInt256Parts.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          UInt256Parts.skip(stream, maxDepth);
+        }
+        break;
+      case SCV_I256:
+        if (field.equals("i256")) {
+          Int256Parts.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Int256Parts.skip(stream, maxDepth);
+        }
+        break;
+      case SCV_BYTES:
+        if (field.equals("bytes")) {
+          SCBytes.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          SCBytes.skip(stream, maxDepth);
+        }
+        break;
+      case SCV_STRING:
+        if (field.equals("str")) {
+          SCString.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          SCString.skip(stream, maxDepth);
+        }
+        break;
+      case SCV_SYMBOL:
+        if (field.equals("sym")) {
+          SCSymbol.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          SCSymbol.skip(stream, maxDepth);
+        }
+        break;
+      case SCV_VEC:
+        if (field.equals("vec")) {
+          boolean vecPresent = stream.readXdrBoolean();
+          if (vecPresent) {
+            SCVec.extract(stream, maxDepth, path, index + 1, values);
+          }
+        } else {
+          boolean vecPresent = stream.readXdrBoolean();
+          if (vecPresent) {
+            SCVec.skip(stream, maxDepth);
+          }
+        }
+        break;
+      case SCV_MAP:
+        if (field.equals("map")) {
+          boolean mapPresent = stream.readXdrBoolean();
+          if (mapPresent) {
+            SCMap.extract(stream, maxDepth, path, index + 1, values);
+          }
+        } else {
+          boolean mapPresent = stream.readXdrBoolean();
+          if (mapPresent) {
+            SCMap.skip(stream, maxDepth);
+          }
+        }
+        break;
+      case SCV_ADDRESS:
+        if (field.equals("address")) {
+          SCAddress.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          SCAddress.skip(stream, maxDepth);
+        }
+        break;
+      case SCV_CONTRACT_INSTANCE:
+        if (field.equals("instance")) {
+          SCContractInstance.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          SCContractInstance.skip(stream, maxDepth);
+        }
+        break;
+      case SCV_LEDGER_KEY_CONTRACT_INSTANCE:
+        break;
+      case SCV_LEDGER_KEY_NONCE:
+        if (field.equals("nonce_key")) {
+          SCNonceKey.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          SCNonceKey.skip(stream, maxDepth);
+        }
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static SCVal fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static SCVal fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static SCVal fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -38,6 +39,16 @@ public class SCVec implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    for (int i = 0; i < SCVec.length; i++) {
+      size += SCVec[i].encodedSize();
+    }
+    return size;
+  }
+
   public static SCVec decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -64,16 +75,94 @@ public class SCVec implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static SCVec decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SCVec decodedSCVec = new SCVec();
+    int SCVecSize = reader.readInt();
+    if (SCVecSize < 0) {
+      throw new IOException("SCVec size " + SCVecSize + " is negative");
+    }
+    int SCVecRemainingInputLen = reader.getRemainingInputLen();
+    if (SCVecRemainingInputLen >= 0 && SCVecRemainingInputLen < SCVecSize) {
+      throw new IOException(
+          "SCVec size " + SCVecSize + " exceeds remaining input length " + SCVecRemainingInputLen);
+    }
+    decodedSCVec.SCVec = new SCVal[SCVecSize];
+    for (int i = 0; i < SCVecSize; i++) {
+      decodedSCVec.SCVec[i] = SCVal.decode(reader, maxDepth);
+    }
+    return decodedSCVec;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int SCVecSize = stream.readInt();
+    if (SCVecSize < 0) {
+      throw new IOException("SCVec size " + SCVecSize + " is negative");
+    }
+    int SCVecRemainingInputLen = stream.getRemainingInputLen();
+    if (SCVecRemainingInputLen >= 0 && SCVecRemainingInputLen < SCVecSize) {
+      throw new IOException(
+          "SCVec size " + SCVecSize + " exceeds remaining input length " + SCVecRemainingInputLen);
+    }
+    for (int i = 0; i < SCVecSize; i++) {
+      SCVal.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int SCVecSize = stream.readInt();
+    if (SCVecSize < 0) {
+      throw new IOException("SCVec size " + SCVecSize + " is negative");
+    }
+    int SCVecRemainingInputLen = stream.getRemainingInputLen();
+    if (SCVecRemainingInputLen >= 0 && SCVecRemainingInputLen < SCVecSize) {
+      throw new IOException(
+          "SCVec size " + SCVecSize + " exceeds remaining input length " + SCVecRemainingInputLen);
+    }
+    for (int i = 0; i < SCVecSize; i++) {
+      SCVal.extract(stream, maxDepth, path, index, values);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static SCVec fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static SCVec fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static SCVec fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
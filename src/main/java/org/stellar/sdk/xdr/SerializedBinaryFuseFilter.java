@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -127,6 +129,21 @@ public class SerializedBinaryFuseFilter implements XdrElement {
     stream.write(getFingerprints(), 0, fingerprintsSize);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    size += inputHashSeed.encodedSize();
+    size += filterSeed.encodedSize();
+    size += segmentLength.encodedSize();
+    size += segementLengthMask.encodedSize();
+    size += segmentCount.encodedSize();
+    size += segmentCountLength.encodedSize();
+    size += fingerprintLength.encodedSize();
+    size += 4 + ((fingerprints.length + 3) & ~3);
+    return size;
+  }
+
   public static SerializedBinaryFuseFilter decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -163,16 +180,185 @@ public class SerializedBinaryFuseFilter implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static SerializedBinaryFuseFilter decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SerializedBinaryFuseFilter decodedSerializedBinaryFuseFilter = new SerializedBinaryFuseFilter();
+    decodedSerializedBinaryFuseFilter.type = BinaryFuseFilterType.decode(reader, maxDepth);
+    decodedSerializedBinaryFuseFilter.inputHashSeed = ShortHashSeed.decode(reader, maxDepth);
+    decodedSerializedBinaryFuseFilter.filterSeed = ShortHashSeed.decode(reader, maxDepth);
+    decodedSerializedBinaryFuseFilter.segmentLength = Uint32.decode(reader, maxDepth);
+    decodedSerializedBinaryFuseFilter.segementLengthMask = Uint32.decode(reader, maxDepth);
+    decodedSerializedBinaryFuseFilter.segmentCount = Uint32.decode(reader, maxDepth);
+    decodedSerializedBinaryFuseFilter.segmentCountLength = Uint32.decode(reader, maxDepth);
+    decodedSerializedBinaryFuseFilter.fingerprintLength = Uint32.decode(reader, maxDepth);
+    int fingerprintsSize = reader.readInt();
+    if (fingerprintsSize < 0) {
+      throw new IOException("fingerprints size " + fingerprintsSize + " is negative");
+    }
+    int fingerprintsRemainingInputLen = reader.getRemainingInputLen();
+    if (fingerprintsRemainingInputLen >= 0 && fingerprintsRemainingInputLen < fingerprintsSize) {
+      throw new IOException(
+          "fingerprints size "
+              + fingerprintsSize
+              + " exceeds remaining input length "
+              + fingerprintsRemainingInputLen);
+    }
+    decodedSerializedBinaryFuseFilter.fingerprints = new byte[fingerprintsSize];
+    reader.readPaddedData(decodedSerializedBinaryFuseFilter.fingerprints, 0, fingerprintsSize);
+    return decodedSerializedBinaryFuseFilter;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    BinaryFuseFilterType.skip(stream, maxDepth);
+    ShortHashSeed.skip(stream, maxDepth);
+    ShortHashSeed.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    int fingerprintsSize = stream.readInt();
+    if (fingerprintsSize < 0) {
+      throw new IOException("fingerprints size " + fingerprintsSize + " is negative");
+    }
+    int fingerprintsRemainingInputLen = stream.getRemainingInputLen();
+    if (fingerprintsRemainingInputLen >= 0 && fingerprintsRemainingInputLen < fingerprintsSize) {
+      throw new IOException(
+          "fingerprints size "
+              + fingerprintsSize
+              + " exceeds remaining input length "
+              + fingerprintsRemainingInputLen);
+    }
+    stream.skipPaddedData(fingerprintsSize);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field =
+        path.checkField(
+            index,
+            "type",
+            "inputHashSeed",
+            "filterSeed",
+            "segmentLength",
+            "segementLengthMask",
+            "segmentCount",
+            "segmentCountLength",
+            "fingerprintLength",
+            "fingerprints");
+    if (field.equals("type")) {
+      BinaryFuseFilterType.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      BinaryFuseFilterType.skip(stream, maxDepth);
+    }
+    if (field.equals("inputHashSeed")) {
+      ShortHashSeed.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      ShortHashSeed.skip(stream, maxDepth);
+    }
+    if (field.equals("filterSeed")) {
+      ShortHashSeed.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      ShortHashSeed.skip(stream, maxDepth);
+    }
+    if (field.equals("segmentLength")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("segementLengthMask")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("segmentCount")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("segmentCountLength")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("fingerprintLength")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("fingerprints")) {
+      int fingerprintsSize = stream.readInt();
+      if (fingerprintsSize < 0) {
+        throw new IOException("fingerprints size " + fingerprintsSize + " is negative");
+      }
+      int fingerprintsRemainingInputLen = stream.getRemainingInputLen();
+      if (fingerprintsRemainingInputLen >= 0 && fingerprintsRemainingInputLen < fingerprintsSize) {
+        throw new IOException(
+            "fingerprints size "
+                + fingerprintsSize
+                + " exceeds remaining input length "
+                + fingerprintsRemainingInputLen);
+      }
+      path.checkEnd(index + 1);
+      byte[] fingerprintsBytes = new byte[fingerprintsSize];
+      stream.readPaddedData(fingerprintsBytes, 0, fingerprintsSize);
+      values.add(fingerprintsBytes);
+    } else {
+      int fingerprintsSize = stream.readInt();
+      if (fingerprintsSize < 0) {
+        throw new IOException("fingerprints size " + fingerprintsSize + " is negative");
+      }
+      int fingerprintsRemainingInputLen = stream.getRemainingInputLen();
+      if (fingerprintsRemainingInputLen >= 0 && fingerprintsRemainingInputLen < fingerprintsSize) {
+        throw new IOException(
+            "fingerprints size "
+                + fingerprintsSize
+                + " exceeds remaining input length "
+                + fingerprintsRemainingInputLen);
+      }
+      stream.skipPaddedData(fingerprintsSize);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static SerializedBinaryFuseFilter fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static SerializedBinaryFuseFilter fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static SerializedBinaryFuseFilter fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
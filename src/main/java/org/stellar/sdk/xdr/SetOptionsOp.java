@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -171,6 +173,48 @@ public class SetOptionsOp implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    if (inflationDest != null) {
+      size += inflationDest.encodedSize();
+    }
+    size += 4;
+    if (clearFlags != null) {
+      size += clearFlags.encodedSize();
+    }
+    size += 4;
+    if (setFlags != null) {
+      size += setFlags.encodedSize();
+    }
+    size += 4;
+    if (masterWeight != null) {
+      size += masterWeight.encodedSize();
+    }
+    size += 4;
+    if (lowThreshold != null) {
+      size += lowThreshold.encodedSize();
+    }
+    size += 4;
+    if (medThreshold != null) {
+      size += medThreshold.encodedSize();
+    }
+    size += 4;
+    if (highThreshold != null) {
+      size += highThreshold.encodedSize();
+    }
+    size += 4;
+    if (homeDomain != null) {
+      size += homeDomain.encodedSize();
+    }
+    size += 4;
+    if (signer != null) {
+      size += signer.encodedSize();
+    }
+    return size;
+  }
+
   public static SetOptionsOp decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -220,16 +264,240 @@ public class SetOptionsOp implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static SetOptionsOp decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SetOptionsOp decodedSetOptionsOp = new SetOptionsOp();
+    boolean inflationDestPresent = reader.readXdrBoolean();
+    if (inflationDestPresent) {
+      decodedSetOptionsOp.inflationDest = AccountID.decode(reader, maxDepth);
+    }
+    boolean clearFlagsPresent = reader.readXdrBoolean();
+    if (clearFlagsPresent) {
+      decodedSetOptionsOp.clearFlags = Uint32.decode(reader, maxDepth);
+    }
+    boolean setFlagsPresent = reader.readXdrBoolean();
+    if (setFlagsPresent) {
+      decodedSetOptionsOp.setFlags = Uint32.decode(reader, maxDepth);
+    }
+    boolean masterWeightPresent = reader.readXdrBoolean();
+    if (masterWeightPresent) {
+      decodedSetOptionsOp.masterWeight = Uint32.decode(reader, maxDepth);
+    }
+    boolean lowThresholdPresent = reader.readXdrBoolean();
+    if (lowThresholdPresent) {
+      decodedSetOptionsOp.lowThreshold = Uint32.decode(reader, maxDepth);
+    }
+    boolean medThresholdPresent = reader.readXdrBoolean();
+    if (medThresholdPresent) {
+      decodedSetOptionsOp.medThreshold = Uint32.decode(reader, maxDepth);
+    }
+    boolean highThresholdPresent = reader.readXdrBoolean();
+    if (highThresholdPresent) {
+      decodedSetOptionsOp.highThreshold = Uint32.decode(reader, maxDepth);
+    }
+    boolean homeDomainPresent = reader.readXdrBoolean();
+    if (homeDomainPresent) {
+      decodedSetOptionsOp.homeDomain = String32.decode(reader, maxDepth);
+    }
+    boolean signerPresent = reader.readXdrBoolean();
+    if (signerPresent) {
+      decodedSetOptionsOp.signer = Signer.decode(reader, maxDepth);
+    }
+    return decodedSetOptionsOp;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    boolean inflationDestPresent = stream.readXdrBoolean();
+    if (inflationDestPresent) {
+      AccountID.skip(stream, maxDepth);
+    }
+    boolean clearFlagsPresent = stream.readXdrBoolean();
+    if (clearFlagsPresent) {
+      Uint32.skip(stream, maxDepth);
+    }
+    boolean setFlagsPresent = stream.readXdrBoolean();
+    if (setFlagsPresent) {
+      Uint32.skip(stream, maxDepth);
+    }
+    boolean masterWeightPresent = stream.readXdrBoolean();
+    if (masterWeightPresent) {
+      Uint32.skip(stream, maxDepth);
+    }
+    boolean lowThresholdPresent = stream.readXdrBoolean();
+    if (lowThresholdPresent) {
+      Uint32.skip(stream, maxDepth);
+    }
+    boolean medThresholdPresent = stream.readXdrBoolean();
+    if (medThresholdPresent) {
+      Uint32.skip(stream, maxDepth);
+    }
+    boolean highThresholdPresent = stream.readXdrBoolean();
+    if (highThresholdPresent) {
+      Uint32.skip(stream, maxDepth);
+    }
+    boolean homeDomainPresent = stream.readXdrBoolean();
+    if (homeDomainPresent) {
+      String32.skip(stream, maxDepth);
+    }
+    boolean signerPresent = stream.readXdrBoolean();
+    if (signerPresent) {
+      Signer.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field =
+        path.checkField(
+            index,
+            "inflationDest",
+            "clearFlags",
+            "setFlags",
+            "masterWeight",
+            "lowThreshold",
+            "medThreshold",
+            "highThreshold",
+            "homeDomain",
+            "signer");
+    if (field.equals("inflationDest")) {
+      boolean inflationDestPresent = stream.readXdrBoolean();
+      if (inflationDestPresent) {
+        AccountID.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      boolean inflationDestPresent = stream.readXdrBoolean();
+      if (inflationDestPresent) {
+        AccountID.skip(stream, maxDepth);
+      }
+    }
+    if (field.equals("clearFlags")) {
+      boolean clearFlagsPresent = stream.readXdrBoolean();
+      if (clearFlagsPresent) {
+        Uint32.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      boolean clearFlagsPresent = stream.readXdrBoolean();
+      if (clearFlagsPresent) {
+        Uint32.skip(stream, maxDepth);
+      }
+    }
+    if (field.equals("setFlags")) {
+      boolean setFlagsPresent = stream.readXdrBoolean();
+      if (setFlagsPresent) {
+        Uint32.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      boolean setFlagsPresent = stream.readXdrBoolean();
+      if (setFlagsPresent) {
+        Uint32.skip(stream, maxDepth);
+      }
+    }
+    if (field.equals("masterWeight")) {
+      boolean masterWeightPresent = stream.readXdrBoolean();
+      if (masterWeightPresent) {
+        Uint32.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      boolean masterWeightPresent = stream.readXdrBoolean();
+      if (masterWeightPresent) {
+        Uint32.skip(stream, maxDepth);
+      }
+    }
+    if (field.equals("lowThreshold")) {
+      boolean lowThresholdPresent = stream.readXdrBoolean();
+      if (lowThresholdPresent) {
+        Uint32.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      boolean lowThresholdPresent = stream.readXdrBoolean();
+      if (lowThresholdPresent) {
+        Uint32.skip(stream, maxDepth);
+      }
+    }
+    if (field.equals("medThreshold")) {
+      boolean medThresholdPresent = stream.readXdrBoolean();
+      if (medThresholdPresent) {
+        Uint32.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      boolean medThresholdPresent = stream.readXdrBoolean();
+      if (medThresholdPresent) {
+        Uint32.skip(stream, maxDepth);
+      }
+    }
+    if (field.equals("highThreshold")) {
+      boolean highThresholdPresent = stream.readXdrBoolean();
+      if (highThresholdPresent) {
+        Uint32.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      boolean highThresholdPresent = stream.readXdrBoolean();
+      if (highThresholdPresent) {
+        Uint32.skip(stream, maxDepth);
+      }
+    }
+    if (field.equals("homeDomain")) {
+      boolean homeDomainPresent = stream.readXdrBoolean();
+      if (homeDomainPresent) {
+        String32.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      boolean homeDomainPresent = stream.readXdrBoolean();
+      if (homeDomainPresent) {
+        String32.skip(stream, maxDepth);
+      }
+    }
+    if (field.equals("signer")) {
+      boolean signerPresent = stream.readXdrBoolean();
+      if (signerPresent) {
+        Signer.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      boolean signerPresent = stream.readXdrBoolean();
+      if (signerPresent) {
+        Signer.skip(stream, maxDepth);
+      }
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static SetOptionsOp fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static SetOptionsOp fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static SetOptionsOp fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
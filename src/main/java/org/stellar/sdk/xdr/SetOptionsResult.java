@@ -3,8 +3,10 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -65,6 +67,27 @@ public class SetOptionsResult implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case SET_OPTIONS_SUCCESS:
+        break;
+      case SET_OPTIONS_LOW_RESERVE:
+      case SET_OPTIONS_TOO_MANY_SIGNERS:
+      case SET_OPTIONS_BAD_FLAGS:
+      case SET_OPTIONS_INVALID_INFLATION:
+      case SET_OPTIONS_CANT_CHANGE:
+      case SET_OPTIONS_UNKNOWN_FLAG:
+      case SET_OPTIONS_THRESHOLD_OUT_OF_RANGE:
+      case SET_OPTIONS_BAD_SIGNER:
+      case SET_OPTIONS_INVALID_HOME_DOMAIN:
+      case SET_OPTIONS_AUTH_REVOCABLE_REQUIRED:
+        break;
+    }
+    return size;
+  }
+
   public static SetOptionsResult decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -98,16 +121,114 @@ public class SetOptionsResult implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static SetOptionsResult decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SetOptionsResult decodedSetOptionsResult = new SetOptionsResult();
+    SetOptionsResultCode discriminant = SetOptionsResultCode.decode(reader, maxDepth);
+    decodedSetOptionsResult.setDiscriminant(discriminant);
+    switch (decodedSetOptionsResult.getDiscriminant()) {
+      case SET_OPTIONS_SUCCESS:
+        break;
+      case SET_OPTIONS_LOW_RESERVE:
+      case SET_OPTIONS_TOO_MANY_SIGNERS:
+      case SET_OPTIONS_BAD_FLAGS:
+      case SET_OPTIONS_INVALID_INFLATION:
+      case SET_OPTIONS_CANT_CHANGE:
+      case SET_OPTIONS_UNKNOWN_FLAG:
+      case SET_OPTIONS_THRESHOLD_OUT_OF_RANGE:
+      case SET_OPTIONS_BAD_SIGNER:
+      case SET_OPTIONS_INVALID_HOME_DOMAIN:
+      case SET_OPTIONS_AUTH_REVOCABLE_REQUIRED:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedSetOptionsResult;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SetOptionsResultCode discriminant = SetOptionsResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case SET_OPTIONS_SUCCESS:
+        break;
+      case SET_OPTIONS_LOW_RESERVE:
+      case SET_OPTIONS_TOO_MANY_SIGNERS:
+      case SET_OPTIONS_BAD_FLAGS:
+      case SET_OPTIONS_INVALID_INFLATION:
+      case SET_OPTIONS_CANT_CHANGE:
+      case SET_OPTIONS_UNKNOWN_FLAG:
+      case SET_OPTIONS_THRESHOLD_OUT_OF_RANGE:
+      case SET_OPTIONS_BAD_SIGNER:
+      case SET_OPTIONS_INVALID_HOME_DOMAIN:
+      case SET_OPTIONS_AUTH_REVOCABLE_REQUIRED:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index);
+    SetOptionsResultCode discriminant = SetOptionsResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case SET_OPTIONS_SUCCESS:
+        break;
+      case SET_OPTIONS_LOW_RESERVE:
+      case SET_OPTIONS_TOO_MANY_SIGNERS:
+      case SET_OPTIONS_BAD_FLAGS:
+      case SET_OPTIONS_INVALID_INFLATION:
+      case SET_OPTIONS_CANT_CHANGE:
+      case SET_OPTIONS_UNKNOWN_FLAG:
+      case SET_OPTIONS_THRESHOLD_OUT_OF_RANGE:
+      case SET_OPTIONS_BAD_SIGNER:
+      case SET_OPTIONS_INVALID_HOME_DOMAIN:
+      case SET_OPTIONS_AUTH_REVOCABLE_REQUIRED:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static SetOptionsResult fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static SetOptionsResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static SetOptionsResult fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,8 +3,10 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -55,6 +57,22 @@ public class SetTrustLineFlagsResult implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case SET_TRUST_LINE_FLAGS_SUCCESS:
+        break;
+      case SET_TRUST_LINE_FLAGS_MALFORMED:
+      case SET_TRUST_LINE_FLAGS_NO_TRUST_LINE:
+      case SET_TRUST_LINE_FLAGS_CANT_REVOKE:
+      case SET_TRUST_LINE_FLAGS_INVALID_STATE:
+      case SET_TRUST_LINE_FLAGS_LOW_RESERVE:
+        break;
+    }
+    return size;
+  }
+
   public static SetTrustLineFlagsResult decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -83,16 +101,99 @@ public class SetTrustLineFlagsResult implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static SetTrustLineFlagsResult decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SetTrustLineFlagsResult decodedSetTrustLineFlagsResult = new SetTrustLineFlagsResult();
+    SetTrustLineFlagsResultCode discriminant = SetTrustLineFlagsResultCode.decode(reader, maxDepth);
+    decodedSetTrustLineFlagsResult.setDiscriminant(discriminant);
+    switch (decodedSetTrustLineFlagsResult.getDiscriminant()) {
+      case SET_TRUST_LINE_FLAGS_SUCCESS:
+        break;
+      case SET_TRUST_LINE_FLAGS_MALFORMED:
+      case SET_TRUST_LINE_FLAGS_NO_TRUST_LINE:
+      case SET_TRUST_LINE_FLAGS_CANT_REVOKE:
+      case SET_TRUST_LINE_FLAGS_INVALID_STATE:
+      case SET_TRUST_LINE_FLAGS_LOW_RESERVE:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedSetTrustLineFlagsResult;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SetTrustLineFlagsResultCode discriminant = SetTrustLineFlagsResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case SET_TRUST_LINE_FLAGS_SUCCESS:
+        break;
+      case SET_TRUST_LINE_FLAGS_MALFORMED:
+      case SET_TRUST_LINE_FLAGS_NO_TRUST_LINE:
+      case SET_TRUST_LINE_FLAGS_CANT_REVOKE:
+      case SET_TRUST_LINE_FLAGS_INVALID_STATE:
+      case SET_TRUST_LINE_FLAGS_LOW_RESERVE:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index);
+    SetTrustLineFlagsResultCode discriminant = SetTrustLineFlagsResultCode.decode(stream, maxDepth);
+    switch (discriminant) {
+      case SET_TRUST_LINE_FLAGS_SUCCESS:
+        break;
+      case SET_TRUST_LINE_FLAGS_MALFORMED:
+      case SET_TRUST_LINE_FLAGS_NO_TRUST_LINE:
+      case SET_TRUST_LINE_FLAGS_CANT_REVOKE:
+      case SET_TRUST_LINE_FLAGS_INVALID_STATE:
+      case SET_TRUST_LINE_FLAGS_LOW_RESERVE:
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static SetTrustLineFlagsResult fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static SetTrustLineFlagsResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static SetTrustLineFlagsResult fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
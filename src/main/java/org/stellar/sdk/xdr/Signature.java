@@ -3,8 +3,10 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -38,6 +40,13 @@ public class Signature implements XdrElement {
     stream.write(getSignature(), 0, SignatureSize);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += 4 + ((Signature.length + 3) & ~3);
+    return size;
+  }
+
   public static Signature decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -68,16 +77,109 @@ public class Signature implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static Signature decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Signature decodedSignature = new Signature();
+    int SignatureSize = reader.readInt();
+    if (SignatureSize < 0) {
+      throw new IOException("Signature size " + SignatureSize + " is negative");
+    }
+    if (SignatureSize > 64) {
+      throw new IOException("Signature size " + SignatureSize + " exceeds max size 64");
+    }
+    int SignatureRemainingInputLen = reader.getRemainingInputLen();
+    if (SignatureRemainingInputLen >= 0 && SignatureRemainingInputLen < SignatureSize) {
+      throw new IOException(
+          "Signature size "
+              + SignatureSize
+              + " exceeds remaining input length "
+              + SignatureRemainingInputLen);
+    }
+    decodedSignature.Signature = new byte[SignatureSize];
+    reader.readPaddedData(decodedSignature.Signature, 0, SignatureSize);
+    return decodedSignature;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int SignatureSize = stream.readInt();
+    if (SignatureSize < 0) {
+      throw new IOException("Signature size " + SignatureSize + " is negative");
+    }
+    if (SignatureSize > 64) {
+      throw new IOException("Signature size " + SignatureSize + " exceeds max size 64");
+    }
+    int SignatureRemainingInputLen = stream.getRemainingInputLen();
+    if (SignatureRemainingInputLen >= 0 && SignatureRemainingInputLen < SignatureSize) {
+      throw new IOException(
+          "Signature size "
+              + SignatureSize
+              + " exceeds remaining input length "
+              + SignatureRemainingInputLen);
+    }
+    stream.skipPaddedData(SignatureSize);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int SignatureSize = stream.readInt();
+    if (SignatureSize < 0) {
+      throw new IOException("Signature size " + SignatureSize + " is negative");
+    }
+    if (SignatureSize > 64) {
+      throw new IOException("Signature size " + SignatureSize + " exceeds max size 64");
+    }
+    int SignatureRemainingInputLen = stream.getRemainingInputLen();
+    if (SignatureRemainingInputLen >= 0 && SignatureRemainingInputLen < SignatureSize) {
+      throw new IOException(
+          "Signature size "
+              + SignatureSize
+              + " exceeds remaining input length "
+              + SignatureRemainingInputLen);
+    }
+    path.checkEnd(index);
+    byte[] SignatureBytes = new byte[SignatureSize];
+    stream.readPaddedData(SignatureBytes, 0, SignatureSize);
+    values.add(SignatureBytes);
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static Signature fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static Signature fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static Signature fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
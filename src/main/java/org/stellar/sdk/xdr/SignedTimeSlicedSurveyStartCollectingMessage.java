@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -49,6 +51,14 @@ public class SignedTimeSlicedSurveyStartCollectingMessage implements XdrElement
     startCollecting.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += signature.encodedSize();
+    size += startCollecting.encodedSize();
+    return size;
+  }
+
   public static SignedTimeSlicedSurveyStartCollectingMessage decode(
       XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
@@ -70,6 +80,65 @@ public class SignedTimeSlicedSurveyStartCollectingMessage implements XdrElement
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static SignedTimeSlicedSurveyStartCollectingMessage decode(
+      XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SignedTimeSlicedSurveyStartCollectingMessage
+        decodedSignedTimeSlicedSurveyStartCollectingMessage =
+            new SignedTimeSlicedSurveyStartCollectingMessage();
+    decodedSignedTimeSlicedSurveyStartCollectingMessage.signature =
+        Signature.decode(reader, maxDepth);
+    decodedSignedTimeSlicedSurveyStartCollectingMessage.startCollecting =
+        TimeSlicedSurveyStartCollectingMessage.decode(reader, maxDepth);
+    return decodedSignedTimeSlicedSurveyStartCollectingMessage;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Signature.skip(stream, maxDepth);
+    TimeSlicedSurveyStartCollectingMessage.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "signature", "startCollecting");
+    if (field.equals("signature")) {
+      Signature.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Signature.skip(stream, maxDepth);
+    }
+    if (field.equals("startCollecting")) {
+      TimeSlicedSurveyStartCollectingMessage.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      TimeSlicedSurveyStartCollectingMessage.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static SignedTimeSlicedSurveyStartCollectingMessage fromXdrBase64(String xdr)
       throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
@@ -78,10 +147,13 @@ public class SignedTimeSlicedSurveyStartCollectingMessage implements XdrElement
 
   public static SignedTimeSlicedSurveyStartCollectingMessage fromXdrByteArray(byte[] xdr)
       throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static SignedTimeSlicedSurveyStartCollectingMessage fromXdrByteBuffer(ByteBuffer xdr)
+      throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -49,6 +51,14 @@ public class SignedTimeSlicedSurveyStopCollectingMessage implements XdrElement {
     stopCollecting.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += signature.encodedSize();
+    size += stopCollecting.encodedSize();
+    return size;
+  }
+
   public static SignedTimeSlicedSurveyStopCollectingMessage decode(
       XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
@@ -69,6 +79,64 @@ public class SignedTimeSlicedSurveyStopCollectingMessage implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static SignedTimeSlicedSurveyStopCollectingMessage decode(
+      XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SignedTimeSlicedSurveyStopCollectingMessage decodedSignedTimeSlicedSurveyStopCollectingMessage =
+        new SignedTimeSlicedSurveyStopCollectingMessage();
+    decodedSignedTimeSlicedSurveyStopCollectingMessage.signature =
+        Signature.decode(reader, maxDepth);
+    decodedSignedTimeSlicedSurveyStopCollectingMessage.stopCollecting =
+        TimeSlicedSurveyStopCollectingMessage.decode(reader, maxDepth);
+    return decodedSignedTimeSlicedSurveyStopCollectingMessage;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Signature.skip(stream, maxDepth);
+    TimeSlicedSurveyStopCollectingMessage.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "signature", "stopCollecting");
+    if (field.equals("signature")) {
+      Signature.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Signature.skip(stream, maxDepth);
+    }
+    if (field.equals("stopCollecting")) {
+      TimeSlicedSurveyStopCollectingMessage.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      TimeSlicedSurveyStopCollectingMessage.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static SignedTimeSlicedSurveyStopCollectingMessage fromXdrBase64(String xdr)
       throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
@@ -77,10 +145,13 @@ public class SignedTimeSlicedSurveyStopCollectingMessage implements XdrElement {
 
   public static SignedTimeSlicedSurveyStopCollectingMessage fromXdrByteArray(byte[] xdr)
       throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static SignedTimeSlicedSurveyStopCollectingMessage fromXdrByteBuffer(ByteBuffer xdr)
+      throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
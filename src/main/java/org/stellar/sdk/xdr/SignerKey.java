@@ -6,6 +6,9 @@ package org.stellar.sdk.xdr;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -101,6 +104,26 @@ public class SignerKey implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case SIGNER_KEY_TYPE_ED25519:
+        size += ed25519.encodedSize();
+        break;
+      case SIGNER_KEY_TYPE_PRE_AUTH_TX:
+        size += preAuthTx.encodedSize();
+        break;
+      case SIGNER_KEY_TYPE_HASH_X:
+        size += hashX.encodedSize();
+        break;
+      case SIGNER_KEY_TYPE_ED25519_SIGNED_PAYLOAD:
+        size += ed25519SignedPayload.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static SignerKey decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -133,16 +156,127 @@ public class SignerKey implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static SignerKey decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SignerKey decodedSignerKey = new SignerKey();
+    SignerKeyType discriminant = SignerKeyType.decode(reader, maxDepth);
+    decodedSignerKey.setDiscriminant(discriminant);
+    switch (decodedSignerKey.getDiscriminant()) {
+      case SIGNER_KEY_TYPE_ED25519:
+        decodedSignerKey.ed25519 = Uint256.decode(reader, maxDepth);
+        break;
+      case SIGNER_KEY_TYPE_PRE_AUTH_TX:
+        decodedSignerKey.preAuthTx = Uint256.decode(reader, maxDepth);
+        break;
+      case SIGNER_KEY_TYPE_HASH_X:
+        decodedSignerKey.hashX = Uint256.decode(reader, maxDepth);
+        break;
+      case SIGNER_KEY_TYPE_ED25519_SIGNED_PAYLOAD:
+        decodedSignerKey.ed25519SignedPayload =
+            SignerKeyEd25519SignedPayload.decode(reader, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedSignerKey;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SignerKeyType discriminant = SignerKeyType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case SIGNER_KEY_TYPE_ED25519:
+        Uint256.skip(stream, maxDepth);
+        break;
+      case SIGNER_KEY_TYPE_PRE_AUTH_TX:
+        Uint256.skip(stream, maxDepth);
+        break;
+      case SIGNER_KEY_TYPE_HASH_X:
+        Uint256.skip(stream, maxDepth);
+        break;
+      case SIGNER_KEY_TYPE_ED25519_SIGNED_PAYLOAD:
+        SignerKeyEd25519SignedPayload.skip(stream, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "ed25519", "preAuthTx", "hashX", "ed25519SignedPayload");
+    SignerKeyType discriminant = SignerKeyType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case SIGNER_KEY_TYPE_ED25519:
+        if (field.equals("ed25519")) {
+          Uint256.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Uint256.skip(stream, maxDepth);
+        }
+        break;
+      case SIGNER_KEY_TYPE_PRE_AUTH_TX:
+        if (field.equals("preAuthTx")) {
+          Uint256.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Uint256.skip(stream, maxDepth);
+        }
+        break;
+      case SIGNER_KEY_TYPE_HASH_X:
+        if (field.equals("hashX")) {
+          Uint256.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Uint256.skip(stream, maxDepth);
+        }
+        break;
+      case SIGNER_KEY_TYPE_ED25519_SIGNED_PAYLOAD:
+        if (field.equals("ed25519SignedPayload")) {
+          SignerKeyEd25519SignedPayload.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          SignerKeyEd25519SignedPayload.skip(stream, maxDepth);
+        }
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static SignerKey fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static SignerKey fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static SignerKey fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -261,6 +395,14 @@ public class SignerKey implements XdrElement {
       stream.write(getPayload(), 0, payloadSize);
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 0;
+      size += ed25519.encodedSize();
+      size += 4 + ((payload.length + 3) & ~3);
+      return size;
+    }
+
     public static SignerKeyEd25519SignedPayload decode(XdrDataInputStream stream, int maxDepth)
         throws IOException {
       if (maxDepth <= 0) {
@@ -295,16 +437,139 @@ public class SignerKey implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static SignerKeyEd25519SignedPayload decode(XdrByteBufferReader reader, int maxDepth)
+        throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      SignerKeyEd25519SignedPayload decodedSignerKeyEd25519SignedPayload =
+          new SignerKeyEd25519SignedPayload();
+      decodedSignerKeyEd25519SignedPayload.ed25519 = Uint256.decode(reader, maxDepth);
+      int payloadSize = reader.readInt();
+      if (payloadSize < 0) {
+        throw new IOException("payload size " + payloadSize + " is negative");
+      }
+      if (payloadSize > 64) {
+        throw new IOException("payload size " + payloadSize + " exceeds max size 64");
+      }
+      int payloadRemainingInputLen = reader.getRemainingInputLen();
+      if (payloadRemainingInputLen >= 0 && payloadRemainingInputLen < payloadSize) {
+        throw new IOException(
+            "payload size "
+                + payloadSize
+                + " exceeds remaining input length "
+                + payloadRemainingInputLen);
+      }
+      decodedSignerKeyEd25519SignedPayload.payload = new byte[payloadSize];
+      reader.readPaddedData(decodedSignerKeyEd25519SignedPayload.payload, 0, payloadSize);
+      return decodedSignerKeyEd25519SignedPayload;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      Uint256.skip(stream, maxDepth);
+      int payloadSize = stream.readInt();
+      if (payloadSize < 0) {
+        throw new IOException("payload size " + payloadSize + " is negative");
+      }
+      if (payloadSize > 64) {
+        throw new IOException("payload size " + payloadSize + " exceeds max size 64");
+      }
+      int payloadRemainingInputLen = stream.getRemainingInputLen();
+      if (payloadRemainingInputLen >= 0 && payloadRemainingInputLen < payloadSize) {
+        throw new IOException(
+            "payload size "
+                + payloadSize
+                + " exceeds remaining input length "
+                + payloadRemainingInputLen);
+      }
+      stream.skipPaddedData(payloadSize);
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index, "ed25519", "payload");
+      if (field.equals("ed25519")) {
+        Uint256.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        Uint256.skip(stream, maxDepth);
+      }
+      if (field.equals("payload")) {
+        int payloadSize = stream.readInt();
+        if (payloadSize < 0) {
+          throw new IOException("payload size " + payloadSize + " is negative");
+        }
+        if (payloadSize > 64) {
+          throw new IOException("payload size " + payloadSize + " exceeds max size 64");
+        }
+        int payloadRemainingInputLen = stream.getRemainingInputLen();
+        if (payloadRemainingInputLen >= 0 && payloadRemainingInputLen < payloadSize) {
+          throw new IOException(
+              "payload size "
+                  + payloadSize
+                  + " exceeds remaining input length "
+                  + payloadRemainingInputLen);
+        }
+        path.checkEnd(index + 1);
+        byte[] payloadBytes = new byte[payloadSize];
+        stream.readPaddedData(payloadBytes, 0, payloadSize);
+        values.add(payloadBytes);
+      } else {
+        int payloadSize = stream.readInt();
+        if (payloadSize < 0) {
+          throw new IOException("payload size " + payloadSize + " is negative");
+        }
+        if (payloadSize > 64) {
+          throw new IOException("payload size " + payloadSize + " exceeds max size 64");
+        }
+        int payloadRemainingInputLen = stream.getRemainingInputLen();
+        if (payloadRemainingInputLen >= 0 && payloadRemainingInputLen < payloadSize) {
+          throw new IOException(
+              "payload size "
+                  + payloadSize
+                  + " exceeds remaining input length "
+                  + payloadRemainingInputLen);
+        }
+        stream.skipPaddedData(payloadSize);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static SignerKeyEd25519SignedPayload fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static SignerKeyEd25519SignedPayload fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static SignerKeyEd25519SignedPayload fromXdrByteBuffer(ByteBuffer xdr)
+        throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -69,6 +71,16 @@ public class SorobanAddressCredentials implements XdrElement {
     signature.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += address.encodedSize();
+    size += nonce.encodedSize();
+    size += signatureExpirationLedger.encodedSize();
+    size += signature.encodedSize();
+    return size;
+  }
+
   public static SorobanAddressCredentials decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -87,16 +99,88 @@ public class SorobanAddressCredentials implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static SorobanAddressCredentials decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SorobanAddressCredentials decodedSorobanAddressCredentials = new SorobanAddressCredentials();
+    decodedSorobanAddressCredentials.address = SCAddress.decode(reader, maxDepth);
+    decodedSorobanAddressCredentials.nonce = Int64.decode(reader, maxDepth);
+    decodedSorobanAddressCredentials.signatureExpirationLedger = Uint32.decode(reader, maxDepth);
+    decodedSorobanAddressCredentials.signature = SCVal.decode(reader, maxDepth);
+    return decodedSorobanAddressCredentials;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SCAddress.skip(stream, maxDepth);
+    Int64.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    SCVal.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field =
+        path.checkField(index, "address", "nonce", "signatureExpirationLedger", "signature");
+    if (field.equals("address")) {
+      SCAddress.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      SCAddress.skip(stream, maxDepth);
+    }
+    if (field.equals("nonce")) {
+      Int64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Int64.skip(stream, maxDepth);
+    }
+    if (field.equals("signatureExpirationLedger")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("signature")) {
+      SCVal.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      SCVal.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static SorobanAddressCredentials fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static SorobanAddressCredentials fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static SorobanAddressCredentials fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
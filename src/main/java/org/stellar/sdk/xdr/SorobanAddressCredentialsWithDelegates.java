@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -54,6 +55,17 @@ public class SorobanAddressCredentialsWithDelegates implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += addressCredentials.encodedSize();
+    size += 4;
+    for (int i = 0; i < delegates.length; i++) {
+      size += delegates[i].encodedSize();
+    }
+    return size;
+  }
+
   public static SorobanAddressCredentialsWithDelegates decode(
       XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
@@ -90,6 +102,122 @@ public class SorobanAddressCredentialsWithDelegates implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static SorobanAddressCredentialsWithDelegates decode(
+      XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SorobanAddressCredentialsWithDelegates decodedSorobanAddressCredentialsWithDelegates =
+        new SorobanAddressCredentialsWithDelegates();
+    decodedSorobanAddressCredentialsWithDelegates.addressCredentials =
+        SorobanAddressCredentials.decode(reader, maxDepth);
+    int delegatesSize = reader.readInt();
+    if (delegatesSize < 0) {
+      throw new IOException("delegates size " + delegatesSize + " is negative");
+    }
+    int delegatesRemainingInputLen = reader.getRemainingInputLen();
+    if (delegatesRemainingInputLen >= 0 && delegatesRemainingInputLen < delegatesSize) {
+      throw new IOException(
+          "delegates size "
+              + delegatesSize
+              + " exceeds remaining input length "
+              + delegatesRemainingInputLen);
+    }
+    decodedSorobanAddressCredentialsWithDelegates.delegates =
+        new SorobanDelegateSignature[delegatesSize];
+    for (int i = 0; i < delegatesSize; i++) {
+      decodedSorobanAddressCredentialsWithDelegates.delegates[i] =
+          SorobanDelegateSignature.decode(reader, maxDepth);
+    }
+    return decodedSorobanAddressCredentialsWithDelegates;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SorobanAddressCredentials.skip(stream, maxDepth);
+    int delegatesSize = stream.readInt();
+    if (delegatesSize < 0) {
+      throw new IOException("delegates size " + delegatesSize + " is negative");
+    }
+    int delegatesRemainingInputLen = stream.getRemainingInputLen();
+    if (delegatesRemainingInputLen >= 0 && delegatesRemainingInputLen < delegatesSize) {
+      throw new IOException(
+          "delegates size "
+              + delegatesSize
+              + " exceeds remaining input length "
+              + delegatesRemainingInputLen);
+    }
+    for (int i = 0; i < delegatesSize; i++) {
+      SorobanDelegateSignature.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "addressCredentials", "delegates[*]");
+    if (field.equals("addressCredentials")) {
+      SorobanAddressCredentials.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      SorobanAddressCredentials.skip(stream, maxDepth);
+    }
+    if (field.equals("delegates")) {
+      int delegatesSize = stream.readInt();
+      if (delegatesSize < 0) {
+        throw new IOException("delegates size " + delegatesSize + " is negative");
+      }
+      int delegatesRemainingInputLen = stream.getRemainingInputLen();
+      if (delegatesRemainingInputLen >= 0 && delegatesRemainingInputLen < delegatesSize) {
+        throw new IOException(
+            "delegates size "
+                + delegatesSize
+                + " exceeds remaining input length "
+                + delegatesRemainingInputLen);
+      }
+      for (int i = 0; i < delegatesSize; i++) {
+        SorobanDelegateSignature.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int delegatesSize = stream.readInt();
+      if (delegatesSize < 0) {
+        throw new IOException("delegates size " + delegatesSize + " is negative");
+      }
+      int delegatesRemainingInputLen = stream.getRemainingInputLen();
+      if (delegatesRemainingInputLen >= 0 && delegatesRemainingInputLen < delegatesSize) {
+        throw new IOException(
+            "delegates size "
+                + delegatesSize
+                + " exceeds remaining input length "
+                + delegatesRemainingInputLen);
+      }
+      for (int i = 0; i < delegatesSize; i++) {
+        SorobanDelegateSignature.skip(stream, maxDepth);
+      }
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static SorobanAddressCredentialsWithDelegates fromXdrBase64(String xdr)
       throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
@@ -98,10 +226,13 @@ public class SorobanAddressCredentialsWithDelegates implements XdrElement {
 
   public static SorobanAddressCredentialsWithDelegates fromXdrByteArray(byte[] xdr)
       throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static SorobanAddressCredentialsWithDelegates fromXdrByteBuffer(ByteBuffer xdr)
+      throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
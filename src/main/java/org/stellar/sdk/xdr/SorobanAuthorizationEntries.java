@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -38,6 +39,16 @@ public class SorobanAuthorizationEntries implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    for (int i = 0; i < SorobanAuthorizationEntries.length; i++) {
+      size += SorobanAuthorizationEntries[i].encodedSize();
+    }
+    return size;
+  }
+
   public static SorobanAuthorizationEntries decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -73,16 +84,113 @@ public class SorobanAuthorizationEntries implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static SorobanAuthorizationEntries decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SorobanAuthorizationEntries decodedSorobanAuthorizationEntries =
+        new SorobanAuthorizationEntries();
+    int SorobanAuthorizationEntriesSize = reader.readInt();
+    if (SorobanAuthorizationEntriesSize < 0) {
+      throw new IOException(
+          "SorobanAuthorizationEntries size " + SorobanAuthorizationEntriesSize + " is negative");
+    }
+    int SorobanAuthorizationEntriesRemainingInputLen = reader.getRemainingInputLen();
+    if (SorobanAuthorizationEntriesRemainingInputLen >= 0
+        && SorobanAuthorizationEntriesRemainingInputLen < SorobanAuthorizationEntriesSize) {
+      throw new IOException(
+          "SorobanAuthorizationEntries size "
+              + SorobanAuthorizationEntriesSize
+              + " exceeds remaining input length "
+              + SorobanAuthorizationEntriesRemainingInputLen);
+    }
+    decodedSorobanAuthorizationEntries.SorobanAuthorizationEntries =
+        new SorobanAuthorizationEntry[SorobanAuthorizationEntriesSize];
+    for (int i = 0; i < SorobanAuthorizationEntriesSize; i++) {
+      decodedSorobanAuthorizationEntries.SorobanAuthorizationEntries[i] =
+          SorobanAuthorizationEntry.decode(reader, maxDepth);
+    }
+    return decodedSorobanAuthorizationEntries;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int SorobanAuthorizationEntriesSize = stream.readInt();
+    if (SorobanAuthorizationEntriesSize < 0) {
+      throw new IOException(
+          "SorobanAuthorizationEntries size " + SorobanAuthorizationEntriesSize + " is negative");
+    }
+    int SorobanAuthorizationEntriesRemainingInputLen = stream.getRemainingInputLen();
+    if (SorobanAuthorizationEntriesRemainingInputLen >= 0
+        && SorobanAuthorizationEntriesRemainingInputLen < SorobanAuthorizationEntriesSize) {
+      throw new IOException(
+          "SorobanAuthorizationEntries size "
+              + SorobanAuthorizationEntriesSize
+              + " exceeds remaining input length "
+              + SorobanAuthorizationEntriesRemainingInputLen);
+    }
+    for (int i = 0; i < SorobanAuthorizationEntriesSize; i++) {
+      SorobanAuthorizationEntry.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int SorobanAuthorizationEntriesSize = stream.readInt();
+    if (SorobanAuthorizationEntriesSize < 0) {
+      throw new IOException(
+          "SorobanAuthorizationEntries size " + SorobanAuthorizationEntriesSize + " is negative");
+    }
+    int SorobanAuthorizationEntriesRemainingInputLen = stream.getRemainingInputLen();
+    if (SorobanAuthorizationEntriesRemainingInputLen >= 0
+        && SorobanAuthorizationEntriesRemainingInputLen < SorobanAuthorizationEntriesSize) {
+      throw new IOException(
+          "SorobanAuthorizationEntries size "
+              + SorobanAuthorizationEntriesSize
+              + " exceeds remaining input length "
+              + SorobanAuthorizationEntriesRemainingInputLen);
+    }
+    for (int i = 0; i < SorobanAuthorizationEntriesSize; i++) {
+      SorobanAuthorizationEntry.extract(stream, maxDepth, path, index, values);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static SorobanAuthorizationEntries fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static SorobanAuthorizationEntries fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static SorobanAuthorizationEntries fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
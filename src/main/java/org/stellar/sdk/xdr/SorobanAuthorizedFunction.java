@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -87,6 +89,23 @@ public class SorobanAuthorizedFunction implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case SOROBAN_AUTHORIZED_FUNCTION_TYPE_CONTRACT_FN:
+        size += contractFn.encodedSize();
+        break;
+      case SOROBAN_AUTHORIZED_FUNCTION_TYPE_CREATE_CONTRACT_HOST_FN:
+        size += createContractHostFn.encodedSize();
+        break;
+      case SOROBAN_AUTHORIZED_FUNCTION_TYPE_CREATE_CONTRACT_V2_HOST_FN:
+        size += createContractV2HostFn.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static SorobanAuthorizedFunction decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -119,16 +138,120 @@ public class SorobanAuthorizedFunction implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static SorobanAuthorizedFunction decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SorobanAuthorizedFunction decodedSorobanAuthorizedFunction = new SorobanAuthorizedFunction();
+    SorobanAuthorizedFunctionType discriminant =
+        SorobanAuthorizedFunctionType.decode(reader, maxDepth);
+    decodedSorobanAuthorizedFunction.setDiscriminant(discriminant);
+    switch (decodedSorobanAuthorizedFunction.getDiscriminant()) {
+      case SOROBAN_AUTHORIZED_FUNCTION_TYPE_CONTRACT_FN:
+        decodedSorobanAuthorizedFunction.contractFn = InvokeContractArgs.decode(reader, maxDepth);
+        break;
+      case SOROBAN_AUTHORIZED_FUNCTION_TYPE_CREATE_CONTRACT_HOST_FN:
+        decodedSorobanAuthorizedFunction.createContractHostFn =
+            CreateContractArgs.decode(reader, maxDepth);
+        break;
+      case SOROBAN_AUTHORIZED_FUNCTION_TYPE_CREATE_CONTRACT_V2_HOST_FN:
+        decodedSorobanAuthorizedFunction.createContractV2HostFn =
+            CreateContractArgsV2.decode(reader, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedSorobanAuthorizedFunction;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SorobanAuthorizedFunctionType discriminant =
+        SorobanAuthorizedFunctionType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case SOROBAN_AUTHORIZED_FUNCTION_TYPE_CONTRACT_FN:
+        InvokeContractArgs.skip(stream, maxDepth);
+        break;
+      case SOROBAN_AUTHORIZED_FUNCTION_TYPE_CREATE_CONTRACT_HOST_FN:
+        CreateContractArgs.skip(stream, maxDepth);
+        break;
+      case SOROBAN_AUTHORIZED_FUNCTION_TYPE_CREATE_CONTRACT_V2_HOST_FN:
+        CreateContractArgsV2.skip(stream, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field =
+        path.checkField(index, "contractFn", "createContractHostFn", "createContractV2HostFn");
+    SorobanAuthorizedFunctionType discriminant =
+        SorobanAuthorizedFunctionType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case SOROBAN_AUTHORIZED_FUNCTION_TYPE_CONTRACT_FN:
+        if (field.equals("contractFn")) {
+          InvokeContractArgs.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          InvokeContractArgs.skip(stream, maxDepth);
+        }
+        break;
+      case SOROBAN_AUTHORIZED_FUNCTION_TYPE_CREATE_CONTRACT_HOST_FN:
+        if (field.equals("createContractHostFn")) {
+          CreateContractArgs.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          CreateContractArgs.skip(stream, maxDepth);
+        }
+        break;
+      case SOROBAN_AUTHORIZED_FUNCTION_TYPE_CREATE_CONTRACT_V2_HOST_FN:
+        if (field.equals("createContractV2HostFn")) {
+          CreateContractArgsV2.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          CreateContractArgsV2.skip(stream, maxDepth);
+        }
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static SorobanAuthorizedFunction fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static SorobanAuthorizedFunction fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static SorobanAuthorizedFunction fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -54,6 +55,17 @@ public class SorobanAuthorizedInvocation implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += function.encodedSize();
+    size += 4;
+    for (int i = 0; i < subInvocations.length; i++) {
+      size += subInvocations[i].encodedSize();
+    }
+    return size;
+  }
+
   public static SorobanAuthorizedInvocation decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -90,16 +102,138 @@ public class SorobanAuthorizedInvocation implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static SorobanAuthorizedInvocation decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SorobanAuthorizedInvocation decodedSorobanAuthorizedInvocation =
+        new SorobanAuthorizedInvocation();
+    decodedSorobanAuthorizedInvocation.function =
+        SorobanAuthorizedFunction.decode(reader, maxDepth);
+    int subInvocationsSize = reader.readInt();
+    if (subInvocationsSize < 0) {
+      throw new IOException("subInvocations size " + subInvocationsSize + " is negative");
+    }
+    int subInvocationsRemainingInputLen = reader.getRemainingInputLen();
+    if (subInvocationsRemainingInputLen >= 0
+        && subInvocationsRemainingInputLen < subInvocationsSize) {
+      throw new IOException(
+          "subInvocations size "
+              + subInvocationsSize
+              + " exceeds remaining input length "
+              + subInvocationsRemainingInputLen);
+    }
+    decodedSorobanAuthorizedInvocation.subInvocations =
+        new SorobanAuthorizedInvocation[subInvocationsSize];
+    for (int i = 0; i < subInvocationsSize; i++) {
+      decodedSorobanAuthorizedInvocation.subInvocations[i] =
+          SorobanAuthorizedInvocation.decode(reader, maxDepth);
+    }
+    return decodedSorobanAuthorizedInvocation;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SorobanAuthorizedFunction.skip(stream, maxDepth);
+    int subInvocationsSize = stream.readInt();
+    if (subInvocationsSize < 0) {
+      throw new IOException("subInvocations size " + subInvocationsSize + " is negative");
+    }
+    int subInvocationsRemainingInputLen = stream.getRemainingInputLen();
+    if (subInvocationsRemainingInputLen >= 0
+        && subInvocationsRemainingInputLen < subInvocationsSize) {
+      throw new IOException(
+          "subInvocations size "
+              + subInvocationsSize
+              + " exceeds remaining input length "
+              + subInvocationsRemainingInputLen);
+    }
+    for (int i = 0; i < subInvocationsSize; i++) {
+      SorobanAuthorizedInvocation.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "function", "subInvocations[*]");
+    if (field.equals("function")) {
+      SorobanAuthorizedFunction.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      SorobanAuthorizedFunction.skip(stream, maxDepth);
+    }
+    if (field.equals("subInvocations")) {
+      int subInvocationsSize = stream.readInt();
+      if (subInvocationsSize < 0) {
+        throw new IOException("subInvocations size " + subInvocationsSize + " is negative");
+      }
+      int subInvocationsRemainingInputLen = stream.getRemainingInputLen();
+      if (subInvocationsRemainingInputLen >= 0
+          && subInvocationsRemainingInputLen < subInvocationsSize) {
+        throw new IOException(
+            "subInvocations size "
+                + subInvocationsSize
+                + " exceeds remaining input length "
+                + subInvocationsRemainingInputLen);
+      }
+      for (int i = 0; i < subInvocationsSize; i++) {
+        SorobanAuthorizedInvocation.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int subInvocationsSize = stream.readInt();
+      if (subInvocationsSize < 0) {
+        throw new IOException("subInvocations size " + subInvocationsSize + " is negative");
+      }
+      int subInvocationsRemainingInputLen = stream.getRemainingInputLen();
+      if (subInvocationsRemainingInputLen >= 0
+          && subInvocationsRemainingInputLen < subInvocationsSize) {
+        throw new IOException(
+            "subInvocations size "
+                + subInvocationsSize
+                + " exceeds remaining input length "
+                + subInvocationsRemainingInputLen);
+      }
+      for (int i = 0; i < subInvocationsSize; i++) {
+        SorobanAuthorizedInvocation.skip(stream, maxDepth);
+      }
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static SorobanAuthorizedInvocation fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static SorobanAuthorizedInvocation fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static SorobanAuthorizedInvocation fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -83,6 +85,25 @@ public class SorobanCredentials implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case SOROBAN_CREDENTIALS_SOURCE_ACCOUNT:
+        break;
+      case SOROBAN_CREDENTIALS_ADDRESS:
+        size += address.encodedSize();
+        break;
+      case SOROBAN_CREDENTIALS_ADDRESS_V2:
+        size += addressV2.encodedSize();
+        break;
+      case SOROBAN_CREDENTIALS_ADDRESS_WITH_DELEGATES:
+        size += addressWithDelegates.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static SorobanCredentials decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -115,16 +136,121 @@ public class SorobanCredentials implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static SorobanCredentials decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SorobanCredentials decodedSorobanCredentials = new SorobanCredentials();
+    SorobanCredentialsType discriminant = SorobanCredentialsType.decode(reader, maxDepth);
+    decodedSorobanCredentials.setDiscriminant(discriminant);
+    switch (decodedSorobanCredentials.getDiscriminant()) {
+      case SOROBAN_CREDENTIALS_SOURCE_ACCOUNT:
+        break;
+      case SOROBAN_CREDENTIALS_ADDRESS:
+        decodedSorobanCredentials.address = SorobanAddressCredentials.decode(reader, maxDepth);
+        break;
+      case SOROBAN_CREDENTIALS_ADDRESS_V2:
+        decodedSorobanCredentials.addressV2 = SorobanAddressCredentials.decode(reader, maxDepth);
+        break;
+      case SOROBAN_CREDENTIALS_ADDRESS_WITH_DELEGATES:
+        decodedSorobanCredentials.addressWithDelegates =
+            SorobanAddressCredentialsWithDelegates.decode(reader, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedSorobanCredentials;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SorobanCredentialsType discriminant = SorobanCredentialsType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case SOROBAN_CREDENTIALS_SOURCE_ACCOUNT:
+        break;
+      case SOROBAN_CREDENTIALS_ADDRESS:
+        SorobanAddressCredentials.skip(stream, maxDepth);
+        break;
+      case SOROBAN_CREDENTIALS_ADDRESS_V2:
+        SorobanAddressCredentials.skip(stream, maxDepth);
+        break;
+      case SOROBAN_CREDENTIALS_ADDRESS_WITH_DELEGATES:
+        SorobanAddressCredentialsWithDelegates.skip(stream, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "address", "addressV2", "addressWithDelegates");
+    SorobanCredentialsType discriminant = SorobanCredentialsType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case SOROBAN_CREDENTIALS_SOURCE_ACCOUNT:
+        break;
+      case SOROBAN_CREDENTIALS_ADDRESS:
+        if (field.equals("address")) {
+          SorobanAddressCredentials.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          SorobanAddressCredentials.skip(stream, maxDepth);
+        }
+        break;
+      case SOROBAN_CREDENTIALS_ADDRESS_V2:
+        if (field.equals("addressV2")) {
+          SorobanAddressCredentials.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          SorobanAddressCredentials.skip(stream, maxDepth);
+        }
+        break;
+      case SOROBAN_CREDENTIALS_ADDRESS_WITH_DELEGATES:
+        if (field.equals("addressWithDelegates")) {
+          SorobanAddressCredentialsWithDelegates.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          SorobanAddressCredentialsWithDelegates.skip(stream, maxDepth);
+        }
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static SorobanCredentials fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static SorobanCredentials fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static SorobanCredentials fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -64,6 +65,18 @@ public class SorobanDelegateSignature implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += address.encodedSize();
+    size += signature.encodedSize();
+    size += 4;
+    for (int i = 0; i < nestedDelegates.length; i++) {
+      size += nestedDelegates[i].encodedSize();
+    }
+    return size;
+  }
+
   public static SorobanDelegateSignature decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -99,16 +112,143 @@ public class SorobanDelegateSignature implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static SorobanDelegateSignature decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SorobanDelegateSignature decodedSorobanDelegateSignature = new SorobanDelegateSignature();
+    decodedSorobanDelegateSignature.address = SCAddress.decode(reader, maxDepth);
+    decodedSorobanDelegateSignature.signature = SCVal.decode(reader, maxDepth);
+    int nestedDelegatesSize = reader.readInt();
+    if (nestedDelegatesSize < 0) {
+      throw new IOException("nestedDelegates size " + nestedDelegatesSize + " is negative");
+    }
+    int nestedDelegatesRemainingInputLen = reader.getRemainingInputLen();
+    if (nestedDelegatesRemainingInputLen >= 0
+        && nestedDelegatesRemainingInputLen < nestedDelegatesSize) {
+      throw new IOException(
+          "nestedDelegates size "
+              + nestedDelegatesSize
+              + " exceeds remaining input length "
+              + nestedDelegatesRemainingInputLen);
+    }
+    decodedSorobanDelegateSignature.nestedDelegates =
+        new SorobanDelegateSignature[nestedDelegatesSize];
+    for (int i = 0; i < nestedDelegatesSize; i++) {
+      decodedSorobanDelegateSignature.nestedDelegates[i] =
+          SorobanDelegateSignature.decode(reader, maxDepth);
+    }
+    return decodedSorobanDelegateSignature;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SCAddress.skip(stream, maxDepth);
+    SCVal.skip(stream, maxDepth);
+    int nestedDelegatesSize = stream.readInt();
+    if (nestedDelegatesSize < 0) {
+      throw new IOException("nestedDelegates size " + nestedDelegatesSize + " is negative");
+    }
+    int nestedDelegatesRemainingInputLen = stream.getRemainingInputLen();
+    if (nestedDelegatesRemainingInputLen >= 0
+        && nestedDelegatesRemainingInputLen < nestedDelegatesSize) {
+      throw new IOException(
+          "nestedDelegates size "
+              + nestedDelegatesSize
+              + " exceeds remaining input length "
+              + nestedDelegatesRemainingInputLen);
+    }
+    for (int i = 0; i < nestedDelegatesSize; i++) {
+      SorobanDelegateSignature.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "address", "signature", "nestedDelegates[*]");
+    if (field.equals("address")) {
+      SCAddress.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      SCAddress.skip(stream, maxDepth);
+    }
+    if (field.equals("signature")) {
+      SCVal.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      SCVal.skip(stream, maxDepth);
+    }
+    if (field.equals("nestedDelegates")) {
+      int nestedDelegatesSize = stream.readInt();
+      if (nestedDelegatesSize < 0) {
+        throw new IOException("nestedDelegates size " + nestedDelegatesSize + " is negative");
+      }
+      int nestedDelegatesRemainingInputLen = stream.getRemainingInputLen();
+      if (nestedDelegatesRemainingInputLen >= 0
+          && nestedDelegatesRemainingInputLen < nestedDelegatesSize) {
+        throw new IOException(
+            "nestedDelegates size "
+                + nestedDelegatesSize
+                + " exceeds remaining input length "
+                + nestedDelegatesRemainingInputLen);
+      }
+      for (int i = 0; i < nestedDelegatesSize; i++) {
+        SorobanDelegateSignature.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int nestedDelegatesSize = stream.readInt();
+      if (nestedDelegatesSize < 0) {
+        throw new IOException("nestedDelegates size " + nestedDelegatesSize + " is negative");
+      }
+      int nestedDelegatesRemainingInputLen = stream.getRemainingInputLen();
+      if (nestedDelegatesRemainingInputLen >= 0
+          && nestedDelegatesRemainingInputLen < nestedDelegatesSize) {
+        throw new IOException(
+            "nestedDelegates size "
+                + nestedDelegatesSize
+                + " exceeds remaining input length "
+                + nestedDelegatesRemainingInputLen);
+      }
+      for (int i = 0; i < nestedDelegatesSize; i++) {
+        SorobanDelegateSignature.skip(stream, maxDepth);
+      }
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static SorobanDelegateSignature fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static SorobanDelegateSignature fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static SorobanDelegateSignature fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -47,6 +48,16 @@ public class SorobanResourcesExtV0 implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    for (int i = 0; i < archivedSorobanEntries.length; i++) {
+      size += archivedSorobanEntries[i].encodedSize();
+    }
+    return size;
+  }
+
   public static SorobanResourcesExtV0 decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -79,16 +90,131 @@ public class SorobanResourcesExtV0 implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static SorobanResourcesExtV0 decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SorobanResourcesExtV0 decodedSorobanResourcesExtV0 = new SorobanResourcesExtV0();
+    int archivedSorobanEntriesSize = reader.readInt();
+    if (archivedSorobanEntriesSize < 0) {
+      throw new IOException(
+          "archivedSorobanEntries size " + archivedSorobanEntriesSize + " is negative");
+    }
+    int archivedSorobanEntriesRemainingInputLen = reader.getRemainingInputLen();
+    if (archivedSorobanEntriesRemainingInputLen >= 0
+        && archivedSorobanEntriesRemainingInputLen < archivedSorobanEntriesSize) {
+      throw new IOException(
+          "archivedSorobanEntries size "
+              + archivedSorobanEntriesSize
+              + " exceeds remaining input length "
+              + archivedSorobanEntriesRemainingInputLen);
+    }
+    decodedSorobanResourcesExtV0.archivedSorobanEntries = new Uint32[archivedSorobanEntriesSize];
+    for (int i = 0; i < archivedSorobanEntriesSize; i++) {
+      decodedSorobanResourcesExtV0.archivedSorobanEntries[i] = Uint32.decode(reader, maxDepth);
+    }
+    return decodedSorobanResourcesExtV0;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int archivedSorobanEntriesSize = stream.readInt();
+    if (archivedSorobanEntriesSize < 0) {
+      throw new IOException(
+          "archivedSorobanEntries size " + archivedSorobanEntriesSize + " is negative");
+    }
+    int archivedSorobanEntriesRemainingInputLen = stream.getRemainingInputLen();
+    if (archivedSorobanEntriesRemainingInputLen >= 0
+        && archivedSorobanEntriesRemainingInputLen < archivedSorobanEntriesSize) {
+      throw new IOException(
+          "archivedSorobanEntries size "
+              + archivedSorobanEntriesSize
+              + " exceeds remaining input length "
+              + archivedSorobanEntriesRemainingInputLen);
+    }
+    for (int i = 0; i < archivedSorobanEntriesSize; i++) {
+      Uint32.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "archivedSorobanEntries[*]");
+    if (field.equals("archivedSorobanEntries")) {
+      int archivedSorobanEntriesSize = stream.readInt();
+      if (archivedSorobanEntriesSize < 0) {
+        throw new IOException(
+            "archivedSorobanEntries size " + archivedSorobanEntriesSize + " is negative");
+      }
+      int archivedSorobanEntriesRemainingInputLen = stream.getRemainingInputLen();
+      if (archivedSorobanEntriesRemainingInputLen >= 0
+          && archivedSorobanEntriesRemainingInputLen < archivedSorobanEntriesSize) {
+        throw new IOException(
+            "archivedSorobanEntries size "
+                + archivedSorobanEntriesSize
+                + " exceeds remaining input length "
+                + archivedSorobanEntriesRemainingInputLen);
+      }
+      for (int i = 0; i < archivedSorobanEntriesSize; i++) {
+        Uint32.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int archivedSorobanEntriesSize = stream.readInt();
+      if (archivedSorobanEntriesSize < 0) {
+        throw new IOException(
+            "archivedSorobanEntries size " + archivedSorobanEntriesSize + " is negative");
+      }
+      int archivedSorobanEntriesRemainingInputLen = stream.getRemainingInputLen();
+      if (archivedSorobanEntriesRemainingInputLen >= 0
+          && archivedSorobanEntriesRemainingInputLen < archivedSorobanEntriesSize) {
+        throw new IOException(
+            "archivedSorobanEntries size "
+                + archivedSorobanEntriesSize
+                + " exceeds remaining input length "
+                + archivedSorobanEntriesRemainingInputLen);
+      }
+      for (int i = 0; i < archivedSorobanEntriesSize; i++) {
+        Uint32.skip(stream, maxDepth);
+      }
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static SorobanResourcesExtV0 fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static SorobanResourcesExtV0 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static SorobanResourcesExtV0 fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -55,6 +57,17 @@ public class SorobanTransactionMetaV2 implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += ext.encodedSize();
+    size += 4;
+    if (returnValue != null) {
+      size += returnValue.encodedSize();
+    }
+    return size;
+  }
+
   public static SorobanTransactionMetaV2 decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -74,16 +87,85 @@ public class SorobanTransactionMetaV2 implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static SorobanTransactionMetaV2 decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SorobanTransactionMetaV2 decodedSorobanTransactionMetaV2 = new SorobanTransactionMetaV2();
+    decodedSorobanTransactionMetaV2.ext = SorobanTransactionMetaExt.decode(reader, maxDepth);
+    boolean returnValuePresent = reader.readXdrBoolean();
+    if (returnValuePresent) {
+      decodedSorobanTransactionMetaV2.returnValue = SCVal.decode(reader, maxDepth);
+    }
+    return decodedSorobanTransactionMetaV2;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SorobanTransactionMetaExt.skip(stream, maxDepth);
+    boolean returnValuePresent = stream.readXdrBoolean();
+    if (returnValuePresent) {
+      SCVal.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "ext", "returnValue");
+    if (field.equals("ext")) {
+      SorobanTransactionMetaExt.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      SorobanTransactionMetaExt.skip(stream, maxDepth);
+    }
+    if (field.equals("returnValue")) {
+      boolean returnValuePresent = stream.readXdrBoolean();
+      if (returnValuePresent) {
+        SCVal.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      boolean returnValuePresent = stream.readXdrBoolean();
+      if (returnValuePresent) {
+        SCVal.skip(stream, maxDepth);
+      }
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static SorobanTransactionMetaV2 fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static SorobanTransactionMetaV2 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static SorobanTransactionMetaV2 fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
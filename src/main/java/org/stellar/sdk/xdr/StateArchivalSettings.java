@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -142,6 +144,22 @@ public class StateArchivalSettings implements XdrElement {
     startingEvictionScanLevel.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += maxEntryTTL.encodedSize();
+    size += minTemporaryTTL.encodedSize();
+    size += minPersistentTTL.encodedSize();
+    size += persistentRentRateDenominator.encodedSize();
+    size += tempRentRateDenominator.encodedSize();
+    size += maxEntriesToArchive.encodedSize();
+    size += liveSorobanStateSizeWindowSampleSize.encodedSize();
+    size += liveSorobanStateSizeWindowSamplePeriod.encodedSize();
+    size += evictionScanSize.encodedSize();
+    size += startingEvictionScanLevel.encodedSize();
+    return size;
+  }
+
   public static StateArchivalSettings decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -168,16 +186,143 @@ public class StateArchivalSettings implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static StateArchivalSettings decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    StateArchivalSettings decodedStateArchivalSettings = new StateArchivalSettings();
+    decodedStateArchivalSettings.maxEntryTTL = Uint32.decode(reader, maxDepth);
+    decodedStateArchivalSettings.minTemporaryTTL = Uint32.decode(reader, maxDepth);
+    decodedStateArchivalSettings.minPersistentTTL = Uint32.decode(reader, maxDepth);
+    decodedStateArchivalSettings.persistentRentRateDenominator = Int64.decode(reader, maxDepth);
+    decodedStateArchivalSettings.tempRentRateDenominator = Int64.decode(reader, maxDepth);
+    decodedStateArchivalSettings.maxEntriesToArchive = Uint32.decode(reader, maxDepth);
+    decodedStateArchivalSettings.liveSorobanStateSizeWindowSampleSize =
+        Uint32.decode(reader, maxDepth);
+    decodedStateArchivalSettings.liveSorobanStateSizeWindowSamplePeriod =
+        Uint32.decode(reader, maxDepth);
+    decodedStateArchivalSettings.evictionScanSize = Uint32.decode(reader, maxDepth);
+    decodedStateArchivalSettings.startingEvictionScanLevel = Uint32.decode(reader, maxDepth);
+    return decodedStateArchivalSettings;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    Int64.skip(stream, maxDepth);
+    Int64.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field =
+        path.checkField(
+            index,
+            "maxEntryTTL",
+            "minTemporaryTTL",
+            "minPersistentTTL",
+            "persistentRentRateDenominator",
+            "tempRentRateDenominator",
+            "maxEntriesToArchive",
+            "liveSorobanStateSizeWindowSampleSize",
+            "liveSorobanStateSizeWindowSamplePeriod",
+            "evictionScanSize",
+            "startingEvictionScanLevel");
+    if (field.equals("maxEntryTTL")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("minTemporaryTTL")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("minPersistentTTL")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("persistentRentRateDenominator")) {
+      Int64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Int64.skip(stream, maxDepth);
+    }
+    if (field.equals("tempRentRateDenominator")) {
+      Int64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Int64.skip(stream, maxDepth);
+    }
+    if (field.equals("maxEntriesToArchive")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("liveSorobanStateSizeWindowSampleSize")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("liveSorobanStateSizeWindowSamplePeriod")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("evictionScanSize")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("startingEvictionScanLevel")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static StateArchivalSettings fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static StateArchivalSettings fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static StateArchivalSettings fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
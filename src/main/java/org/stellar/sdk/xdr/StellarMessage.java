@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -336,6 +337,80 @@ public class StellarMessage implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case ERROR_MSG:
+        size += error.encodedSize();
+        break;
+      case HELLO:
+        size += hello.encodedSize();
+        break;
+      case AUTH:
+        size += auth.encodedSize();
+        break;
+      case DONT_HAVE:
+        size += dontHave.encodedSize();
+        break;
+      case PEERS:
+        size += 4;
+        for (int i = 0; i < peers.length; i++) {
+          size += peers[i].encodedSize();
+        }
+        break;
+      case GET_TX_SET:
+        size += txSetHash.encodedSize();
+        break;
+      case TX_SET:
+        size += txSet.encodedSize();
+        break;
+      case GENERALIZED_TX_SET:
+        size += generalizedTxSet.encodedSize();
+        break;
+      case TRANSACTION:
+        size += transaction.encodedSize();
+        break;
+      case TIME_SLICED_SURVEY_REQUEST:
+        size += signedTimeSlicedSurveyRequestMessage.encodedSize();
+        break;
+      case TIME_SLICED_SURVEY_RESPONSE:
+        size += signedTimeSlicedSurveyResponseMessage.encodedSize();
+        break;
+      case TIME_SLICED_SURVEY_START_COLLECTING:
+        size += signedTimeSlicedSurveyStartCollectingMessage.encodedSize();
+        break;
+      case TIME_SLICED_SURVEY_STOP_COLLECTING:
+        size += signedTimeSlicedSurveyStopCollectingMessage.encodedSize();
+        break;
+      case GET_SCP_QUORUMSET:
+        size += qSetHash.encodedSize();
+        break;
+      case SCP_QUORUMSET:
+        size += qSet.encodedSize();
+        break;
+      case SCP_MESSAGE:
+        size += envelope.encodedSize();
+        break;
+      case GET_SCP_STATE:
+        size += getSCPLedgerSeq.encodedSize();
+        break;
+      case SEND_MORE:
+        size += sendMoreMessage.encodedSize();
+        break;
+      case SEND_MORE_EXTENDED:
+        size += sendMoreExtendedMessage.encodedSize();
+        break;
+      case FLOOD_ADVERT:
+        size += floodAdvert.encodedSize();
+        break;
+      case FLOOD_DEMAND:
+        size += floodDemand.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static StellarMessage decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -440,16 +515,445 @@ public class StellarMessage implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static StellarMessage decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    StellarMessage decodedStellarMessage = new StellarMessage();
+    MessageType discriminant = MessageType.decode(reader, maxDepth);
+    decodedStellarMessage.setDiscriminant(discriminant);
+    switch (decodedStellarMessage.getDiscriminant()) {
+      case ERROR_MSG:
+        decodedStellarMessage.error = Error.decode(reader, maxDepth);
+        break;
+      case HELLO:
+        decodedStellarMessage.hello = Hello.decode(reader, maxDepth);
+        break;
+      case AUTH:
+        decodedStellarMessage.auth = Auth.decode(reader, maxDepth);
+        break;
+      case DONT_HAVE:
+        decodedStellarMessage.dontHave = DontHave.decode(reader, maxDepth);
+        break;
+      case PEERS:
+        int peersSize = reader.readInt();
+        if (peersSize < 0) {
+          throw new IOException("peers size " + peersSize + " is negative");
+        }
+        if (peersSize > 100) {
+          throw new IOException("peers size " + peersSize + " exceeds max size 100");
+        }
+        int peersRemainingInputLen = reader.getRemainingInputLen();
+        if (peersRemainingInputLen >= 0 && peersRemainingInputLen < peersSize) {
+          throw new IOException(
+              "peers size "
+                  + peersSize
+                  + " exceeds remaining input length "
+                  + peersRemainingInputLen);
+        }
+        decodedStellarMessage.peers = new PeerAddress[peersSize];
+        for (int i = 0; i < peersSize; i++) {
+          decodedStellarMessage.peers[i] = PeerAddress.decode(reader, maxDepth);
+        }
+        break;
+      case GET_TX_SET:
+        decodedStellarMessage.txSetHash = Uint256.decode(reader, maxDepth);
+        break;
+      case TX_SET:
+        decodedStellarMessage.txSet = TransactionSet.decode(reader, maxDepth);
+        break;
+      case GENERALIZED_TX_SET:
+        decodedStellarMessage.generalizedTxSet = GeneralizedTransactionSet.decode(reader, maxDepth);
+        break;
+      case TRANSACTION:
+        decodedStellarMessage.transaction = TransactionEnvelope.decode(reader, maxDepth);
+        break;
+      case TIME_SLICED_SURVEY_REQUEST:
+        decodedStellarMessage.signedTimeSlicedSurveyRequestMessage =
+            SignedTimeSlicedSurveyRequestMessage.decode(reader, maxDepth);
+        break;
+      case TIME_SLICED_SURVEY_RESPONSE:
+        decodedStellarMessage.signedTimeSlicedSurveyResponseMessage =
+            SignedTimeSlicedSurveyResponseMessage.decode(reader, maxDepth);
+        break;
+      case TIME_SLICED_SURVEY_START_COLLECTING:
+        decodedStellarMessage.signedTimeSlicedSurveyStartCollectingMessage =
+            SignedTimeSlicedSurveyStartCollectingMessage.decode(reader, maxDepth);
+        break;
+      case TIME_SLICED_SURVEY_STOP_COLLECTING:
+        decodedStellarMessage.signedTimeSlicedSurveyStopCollectingMessage =
+            SignedTimeSlicedSurveyStopCollectingMessage.decode(reader, maxDepth);
+        break;
+      case GET_SCP_QUORUMSET:
+        decodedStellarMessage.qSetHash = Uint256.decode(reader, maxDepth);
+        break;
+      case SCP_QUORUMSET:
+        decodedStellarMessage.qSet = SCPQuorumSet.decode(reader, maxDepth);
+        break;
+      case SCP_MESSAGE:
+        decodedStellarMessage.envelope = SCPEnvelope.decode(reader, maxDepth);
+        break;
+      case GET_SCP_STATE:
+        decodedStellarMessage.getSCPLedgerSeq = Uint32.decode(reader, maxDepth);
+        break;
+      case SEND_MORE:
+        decodedStellarMessage.sendMoreMessage = SendMore.decode(reader, maxDepth);
+        break;
+      case SEND_MORE_EXTENDED:
+        decodedStellarMessage.sendMoreExtendedMessage = SendMoreExtended.decode(reader, maxDepth);
+        break;
+      case FLOOD_ADVERT:
+        decodedStellarMessage.floodAdvert = FloodAdvert.decode(reader, maxDepth);
+        break;
+      case FLOOD_DEMAND:
+        decodedStellarMessage.floodDemand = FloodDemand.decode(reader, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedStellarMessage;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    MessageType discriminant = MessageType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case ERROR_MSG:
+        Error.skip(stream, maxDepth);
+        break;
+      case HELLO:
+        Hello.skip(stream, maxDepth);
+        break;
+      case AUTH:
+        Auth.skip(stream, maxDepth);
+        break;
+      case DONT_HAVE:
+        DontHave.skip(stream, maxDepth);
+        break;
+      case PEERS:
+        int peersSize = stream.readInt();
+        if (peersSize < 0) {
+          throw new IOException("peers size " + peersSize + " is negative");
+        }
+        if (peersSize > 100) {
+          throw new IOException("peers size " + peersSize + " exceeds max size 100");
+        }
+        int peersRemainingInputLen = stream.getRemainingInputLen();
+        if (peersRemainingInputLen >= 0 && peersRemainingInputLen < peersSize) {
+          throw new IOException(
+              "peers size "
+                  + peersSize
+                  + " exceeds remaining input length "
+                  + peersRemainingInputLen);
+        }
+        for (int i = 0; i < peersSize; i++) {
+          PeerAddress.skip(stream, maxDepth);
+        }
+        break;
+      case GET_TX_SET:
+        Uint256.skip(stream, maxDepth);
+        break;
+      case TX_SET:
+        TransactionSet.skip(stream, maxDepth);
+        break;
+      case GENERALIZED_TX_SET:
+        GeneralizedTransactionSet.skip(stream, maxDepth);
+        break;
+      case TRANSACTION:
+        TransactionEnvelope.skip(stream, maxDepth);
+        break;
+      case TIME_SLICED_SURVEY_REQUEST:
+        SignedTimeSlicedSurveyRequestMessage.skip(stream, maxDepth);
+        break;
+      case TIME_SLICED_SURVEY_RESPONSE:
+        SignedTimeSlicedSurveyResponseMessage.skip(stream, maxDepth);
+        break;
+      case TIME_SLICED_SURVEY_START_COLLECTING:
+        SignedTimeSlicedSurveyStartCollectingMessage.skip(stream, maxDepth);
+        break;
+      case TIME_SLICED_SURVEY_STOP_COLLECTING:
+        SignedTimeSlicedSurveyStopCollectingMessage.skip(stream, maxDepth);
+        break;
+      case GET_SCP_QUORUMSET:
+        Uint256.skip(stream, maxDepth);
+        break;
+      case SCP_QUORUMSET:
+        SCPQuorumSet.skip(stream, maxDepth);
+        break;
+      case SCP_MESSAGE:
+        SCPEnvelope.skip(stream, maxDepth);
+        break;
+      case GET_SCP_STATE:
+        Uint32.skip(stream, maxDepth);
+        break;
+      case SEND_MORE:
+        SendMore.skip(stream, maxDepth);
+        break;
+      case SEND_MORE_EXTENDED:
+        SendMoreExtended.skip(stream, maxDepth);
+        break;
+      case FLOOD_ADVERT:
+        FloodAdvert.skip(stream, maxDepth);
+        break;
+      case FLOOD_DEMAND:
+        FloodDemand.skip(stream, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field =
+        path.checkField(
+            index,
+            "error",
+            "hello",
+            "auth",
+            "dontHave",
+            "peers[*]",
+            "txSetHash",
+            "txSet",
+            "generalizedTxSet",
+            "transaction",
+            "signedTimeSlicedSurveyRequestMessage",
+            "signedTimeSlicedSurveyResponseMessage",
+            "signedTimeSlicedSurveyStartCollectingMessage",
+            "signedTimeSlicedSurveyStopCollectingMessage",
+            "qSetHash",
+            "qSet",
+            "envelope",
+            "getSCPLedgerSeq",
+            "sendMoreMessage",
+            "sendMoreExtendedMessage",
+            "floodAdvert",
+            "floodDemand");
+    MessageType discriminant = MessageType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case ERROR_MSG:
+        if (field.equals("error")) {
+          Error.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Error.skip(stream, maxDepth);
+        }
+        break;
+      case HELLO:
+        if (field.equals("hello")) {
+          Hello.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Hello.skip(stream, maxDepth);
+        }
+        break;
+      case AUTH:
+        if (field.equals("auth")) {
+          Auth.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Auth.skip(stream, maxDepth);
+        }
+        break;
+      case DONT_HAVE:
+        if (field.equals("dontHave")) {
+          DontHave.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          DontHave.skip(stream, maxDepth);
+        }
+        break;
+      case PEERS:
+        if (field.equals("peers")) {
+          int peersSize = stream.readInt();
+          if (peersSize < 0) {
+            throw new IOException("peers size " + peersSize + " is negative");
+          }
+          if (peersSize > 100) {
+            throw new IOException("peers size " + peersSize + " exceeds max size 100");
+          }
+          int peersRemainingInputLen = stream.getRemainingInputLen();
+          if (peersRemainingInputLen >= 0 && peersRemainingInputLen < peersSize) {
+            throw new IOException(
+                "peers size "
+                    + peersSize
+                    + " exceeds remaining input length "
+                    + peersRemainingInputLen);
+          }
+          for (int i = 0; i < peersSize; i++) {
+            PeerAddress.extract(stream, maxDepth, path, index + 1, values);
+          }
+        } else {
+          int peersSize = stream.readInt();
+          if (peersSize < 0) {
+            throw new IOException("peers size " + peersSize + " is negative");
+          }
+          if (peersSize > 100) {
+            throw new IOException("peers size " + peersSize + " exceeds max size 100");
+          }
+          int peersRemainingInputLen = stream.getRemainingInputLen();
+          if (peersRemainingInputLen >= 0 && peersRemainingInputLen < peersSize) {
+            throw new IOException(
+                "peers size "
+                    + peersSize
+                    + " exceeds remaining input length "
+                    + peersRemainingInputLen);
+          }
+          for (int i = 0; i < peersSize; i++) {
+            PeerAddress.skip(stream, maxDepth);
+          }
+        }
+        break;
+      case GET_TX_SET:
+        if (field.equals("txSetHash")) {
+          Uint256.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Uint256.skip(stream, maxDepth);
+        }
+        break;
+      case TX_SET:
+        if (field.equals("txSet")) {
+          TransactionSet.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          TransactionSet.skip(stream, maxDepth);
+        }
+        break;
+      case GENERALIZED_TX_SET:
+        if (field.equals("generalizedTxSet")) {
+          GeneralizedTransactionSet.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          GeneralizedTransactionSet.skip(stream, maxDepth);
+        }
+        break;
+      case TRANSACTION:
+        if (field.equals("transaction")) {
+          TransactionEnvelope.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          TransactionEnvelope.skip(stream, maxDepth);
+        }
+        break;
+      case TIME_SLICED_SURVEY_REQUEST:
+        if (field.equals("signedTimeSlicedSurveyRequestMessage")) {
+          SignedTimeSlicedSurveyRequestMessage.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          SignedTimeSlicedSurveyRequestMessage.skip(stream, maxDepth);
+        }
+        break;
+      case TIME_SLICED_SURVEY_RESPONSE:
+        if (field.equals("signedTimeSlicedSurveyResponseMessage")) {
+          SignedTimeSlicedSurveyResponseMessage.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          SignedTimeSlicedSurveyResponseMessage.skip(stream, maxDepth);
+        }
+        break;
+      case TIME_SLICED_SURVEY_START_COLLECTING:
+        if (field.equals("signedTimeSlicedSurveyStartCollectingMessage")) {
+          SignedTimeSlicedSurveyStartCollectingMessage.extract(
+              stream, maxDepth, path, index + 1, values);
+        } else {
+          SignedTimeSlicedSurveyStartCollectingMessage.skip(stream, maxDepth);
+        }
+        break;
+      case TIME_SLICED_SURVEY_STOP_COLLECTING:
+        if (field.equals("signedTimeSlicedSurveyStopCollectingMessage")) {
+          SignedTimeSlicedSurveyStopCollectingMessage.extract(
+              stream, maxDepth, path, index + 1, values);
+        } else {
+          SignedTimeSlicedSurveyStopCollectingMessage.skip(stream, maxDepth);
+        }
+        break;
+      case GET_SCP_QUORUMSET:
+        if (field.equals("qSetHash")) {
+          Uint256.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Uint256.skip(stream, maxDepth);
+        }
+        break;
+      case SCP_QUORUMSET:
+        if (field.equals("qSet")) {
+          SCPQuorumSet.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          SCPQuorumSet.skip(stream, maxDepth);
+        }
+        break;
+      case SCP_MESSAGE:
+        if (field.equals("envelope")) {
+          SCPEnvelope.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          SCPEnvelope.skip(stream, maxDepth);
+        }
+        break;
+      case GET_SCP_STATE:
+        if (field.equals("getSCPLedgerSeq")) {
+          Uint32.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Uint32.skip(stream, maxDepth);
+        }
+        break;
+      case SEND_MORE:
+        if (field.equals("sendMoreMessage")) {
+          SendMore.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          SendMore.skip(stream, maxDepth);
+        }
+        break;
+      case SEND_MORE_EXTENDED:
+        if (field.equals("sendMoreExtendedMessage")) {
+          SendMoreExtended.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          SendMoreExtended.skip(stream, maxDepth);
+        }
+        break;
+      case FLOOD_ADVERT:
+        if (field.equals("floodAdvert")) {
+          FloodAdvert.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          FloodAdvert.skip(stream, maxDepth);
+        }
+        break;
+      case FLOOD_DEMAND:
+        if (field.equals("floodDemand")) {
+          FloodDemand.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          FloodDemand.skip(stream, maxDepth);
+        }
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static StellarMessage fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static StellarMessage fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static StellarMessage fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -92,6 +93,19 @@ public class StellarValue implements XdrElement {
     ext.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += txSetHash.encodedSize();
+    size += closeTime.encodedSize();
+    size += 4;
+    for (int i = 0; i < upgrades.length; i++) {
+      size += upgrades[i].encodedSize();
+    }
+    size += ext.encodedSize();
+    return size;
+  }
+
   public static StellarValue decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -127,16 +141,155 @@ public class StellarValue implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static StellarValue decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    StellarValue decodedStellarValue = new StellarValue();
+    decodedStellarValue.txSetHash = Hash.decode(reader, maxDepth);
+    decodedStellarValue.closeTime = TimePoint.decode(reader, maxDepth);
+    int upgradesSize = reader.readInt();
+    if (upgradesSize < 0) {
+      throw new IOException("upgrades size " + upgradesSize + " is negative");
+    }
+    if (upgradesSize > 6) {
+      throw new IOException("upgrades size " + upgradesSize + " exceeds max size 6");
+    }
+    int upgradesRemainingInputLen = reader.getRemainingInputLen();
+    if (upgradesRemainingInputLen >= 0 && upgradesRemainingInputLen < upgradesSize) {
+      throw new IOException(
+          "upgrades size "
+              + upgradesSize
+              + " exceeds remaining input length "
+              + upgradesRemainingInputLen);
+    }
+    decodedStellarValue.upgrades = new UpgradeType[upgradesSize];
+    for (int i = 0; i < upgradesSize; i++) {
+      decodedStellarValue.upgrades[i] = UpgradeType.decode(reader, maxDepth);
+    }
+    decodedStellarValue.ext = StellarValueExt.decode(reader, maxDepth);
+    return decodedStellarValue;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Hash.skip(stream, maxDepth);
+    TimePoint.skip(stream, maxDepth);
+    int upgradesSize = stream.readInt();
+    if (upgradesSize < 0) {
+      throw new IOException("upgrades size " + upgradesSize + " is negative");
+    }
+    if (upgradesSize > 6) {
+      throw new IOException("upgrades size " + upgradesSize + " exceeds max size 6");
+    }
+    int upgradesRemainingInputLen = stream.getRemainingInputLen();
+    if (upgradesRemainingInputLen >= 0 && upgradesRemainingInputLen < upgradesSize) {
+      throw new IOException(
+          "upgrades size "
+              + upgradesSize
+              + " exceeds remaining input length "
+              + upgradesRemainingInputLen);
+    }
+    for (int i = 0; i < upgradesSize; i++) {
+      UpgradeType.skip(stream, maxDepth);
+    }
+    StellarValueExt.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "txSetHash", "closeTime", "upgrades[*]", "ext");
+    if (field.equals("txSetHash")) {
+      Hash.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Hash.skip(stream, maxDepth);
+    }
+    if (field.equals("closeTime")) {
+      TimePoint.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      TimePoint.skip(stream, maxDepth);
+    }
+    if (field.equals("upgrades")) {
+      int upgradesSize = stream.readInt();
+      if (upgradesSize < 0) {
+        throw new IOException("upgrades size " + upgradesSize + " is negative");
+      }
+      if (upgradesSize > 6) {
+        throw new IOException("upgrades size " + upgradesSize + " exceeds max size 6");
+      }
+      int upgradesRemainingInputLen = stream.getRemainingInputLen();
+      if (upgradesRemainingInputLen >= 0 && upgradesRemainingInputLen < upgradesSize) {
+        throw new IOException(
+            "upgrades size "
+                + upgradesSize
+                + " exceeds remaining input length "
+                + upgradesRemainingInputLen);
+      }
+      for (int i = 0; i < upgradesSize; i++) {
+        UpgradeType.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int upgradesSize = stream.readInt();
+      if (upgradesSize < 0) {
+        throw new IOException("upgrades size " + upgradesSize + " is negative");
+      }
+      if (upgradesSize > 6) {
+        throw new IOException("upgrades size " + upgradesSize + " exceeds max size 6");
+      }
+      int upgradesRemainingInputLen = stream.getRemainingInputLen();
+      if (upgradesRemainingInputLen >= 0 && upgradesRemainingInputLen < upgradesSize) {
+        throw new IOException(
+            "upgrades size "
+                + upgradesSize
+                + " exceeds remaining input length "
+                + upgradesRemainingInputLen);
+      }
+      for (int i = 0; i < upgradesSize; i++) {
+        UpgradeType.skip(stream, maxDepth);
+      }
+    }
+    if (field.equals("ext")) {
+      StellarValueExt.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      StellarValueExt.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static StellarValue fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static StellarValue fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static StellarValue fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -217,6 +370,19 @@ public class StellarValue implements XdrElement {
       }
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 4;
+      switch (discriminant) {
+        case STELLAR_VALUE_BASIC:
+          break;
+        case STELLAR_VALUE_SIGNED:
+          size += lcValueSignature.encodedSize();
+          break;
+      }
+      return size;
+    }
+
     public static StellarValueExt decode(XdrDataInputStream stream, int maxDepth)
         throws IOException {
       if (maxDepth <= 0) {
@@ -243,16 +409,95 @@ public class StellarValue implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static StellarValueExt decode(XdrByteBufferReader reader, int maxDepth)
+        throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      StellarValueExt decodedStellarValueExt = new StellarValueExt();
+      StellarValueType discriminant = StellarValueType.decode(reader, maxDepth);
+      decodedStellarValueExt.setDiscriminant(discriminant);
+      switch (decodedStellarValueExt.getDiscriminant()) {
+        case STELLAR_VALUE_BASIC:
+          break;
+        case STELLAR_VALUE_SIGNED:
+          decodedStellarValueExt.lcValueSignature =
+              LedgerCloseValueSignature.decode(reader, maxDepth);
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+      return decodedStellarValueExt;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      StellarValueType discriminant = StellarValueType.decode(stream, maxDepth);
+      switch (discriminant) {
+        case STELLAR_VALUE_BASIC:
+          break;
+        case STELLAR_VALUE_SIGNED:
+          LedgerCloseValueSignature.skip(stream, maxDepth);
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index, "lcValueSignature");
+      StellarValueType discriminant = StellarValueType.decode(stream, maxDepth);
+      switch (discriminant) {
+        case STELLAR_VALUE_BASIC:
+          break;
+        case STELLAR_VALUE_SIGNED:
+          if (field.equals("lcValueSignature")) {
+            LedgerCloseValueSignature.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            LedgerCloseValueSignature.skip(stream, maxDepth);
+          }
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static StellarValueExt fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static StellarValueExt fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static StellarValueExt fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -53,6 +55,17 @@ public class SurveyResponseBody implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case SURVEY_TOPOLOGY_RESPONSE_V2:
+        size += topologyResponseBodyV2.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static SurveyResponseBody decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -77,16 +90,89 @@ public class SurveyResponseBody implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static SurveyResponseBody decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SurveyResponseBody decodedSurveyResponseBody = new SurveyResponseBody();
+    SurveyMessageResponseType discriminant = SurveyMessageResponseType.decode(reader, maxDepth);
+    decodedSurveyResponseBody.setDiscriminant(discriminant);
+    switch (decodedSurveyResponseBody.getDiscriminant()) {
+      case SURVEY_TOPOLOGY_RESPONSE_V2:
+        decodedSurveyResponseBody.topologyResponseBodyV2 =
+            TopologyResponseBodyV2.decode(reader, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedSurveyResponseBody;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SurveyMessageResponseType discriminant = SurveyMessageResponseType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case SURVEY_TOPOLOGY_RESPONSE_V2:
+        TopologyResponseBodyV2.skip(stream, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "topologyResponseBodyV2");
+    SurveyMessageResponseType discriminant = SurveyMessageResponseType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case SURVEY_TOPOLOGY_RESPONSE_V2:
+        if (field.equals("topologyResponseBodyV2")) {
+          TopologyResponseBodyV2.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          TopologyResponseBodyV2.skip(stream, maxDepth);
+        }
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static SurveyResponseBody fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static SurveyResponseBody fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static SurveyResponseBody fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -79,6 +81,17 @@ public class SurveyResponseMessage implements XdrElement {
     encryptedBody.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += surveyorPeerID.encodedSize();
+    size += surveyedPeerID.encodedSize();
+    size += ledgerNum.encodedSize();
+    size += 4;
+    size += encryptedBody.encodedSize();
+    return size;
+  }
+
   public static SurveyResponseMessage decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -98,16 +111,96 @@ public class SurveyResponseMessage implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static SurveyResponseMessage decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SurveyResponseMessage decodedSurveyResponseMessage = new SurveyResponseMessage();
+    decodedSurveyResponseMessage.surveyorPeerID = NodeID.decode(reader, maxDepth);
+    decodedSurveyResponseMessage.surveyedPeerID = NodeID.decode(reader, maxDepth);
+    decodedSurveyResponseMessage.ledgerNum = Uint32.decode(reader, maxDepth);
+    decodedSurveyResponseMessage.commandType = SurveyMessageCommandType.decode(reader, maxDepth);
+    decodedSurveyResponseMessage.encryptedBody = EncryptedBody.decode(reader, maxDepth);
+    return decodedSurveyResponseMessage;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    NodeID.skip(stream, maxDepth);
+    NodeID.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    SurveyMessageCommandType.skip(stream, maxDepth);
+    EncryptedBody.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field =
+        path.checkField(
+            index, "surveyorPeerID", "surveyedPeerID", "ledgerNum", "commandType", "encryptedBody");
+    if (field.equals("surveyorPeerID")) {
+      NodeID.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      NodeID.skip(stream, maxDepth);
+    }
+    if (field.equals("surveyedPeerID")) {
+      NodeID.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      NodeID.skip(stream, maxDepth);
+    }
+    if (field.equals("ledgerNum")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("commandType")) {
+      SurveyMessageCommandType.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      SurveyMessageCommandType.skip(stream, maxDepth);
+    }
+    if (field.equals("encryptedBody")) {
+      EncryptedBody.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      EncryptedBody.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static SurveyResponseMessage fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static SurveyResponseMessage fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static SurveyResponseMessage fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -135,6 +137,22 @@ public class TimeSlicedNodeData implements XdrElement {
     maxOutboundPeerCount.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += addedAuthenticatedPeers.encodedSize();
+    size += droppedAuthenticatedPeers.encodedSize();
+    size += totalInboundPeerCount.encodedSize();
+    size += totalOutboundPeerCount.encodedSize();
+    size += p75SCPFirstToSelfLatencyMs.encodedSize();
+    size += p75SCPSelfToOtherLatencyMs.encodedSize();
+    size += lostSyncCount.encodedSize();
+    size += 4;
+    size += maxInboundPeerCount.encodedSize();
+    size += maxOutboundPeerCount.encodedSize();
+    return size;
+  }
+
   public static TimeSlicedNodeData decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -159,16 +177,142 @@ public class TimeSlicedNodeData implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static TimeSlicedNodeData decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    TimeSlicedNodeData decodedTimeSlicedNodeData = new TimeSlicedNodeData();
+    decodedTimeSlicedNodeData.addedAuthenticatedPeers = Uint32.decode(reader, maxDepth);
+    decodedTimeSlicedNodeData.droppedAuthenticatedPeers = Uint32.decode(reader, maxDepth);
+    decodedTimeSlicedNodeData.totalInboundPeerCount = Uint32.decode(reader, maxDepth);
+    decodedTimeSlicedNodeData.totalOutboundPeerCount = Uint32.decode(reader, maxDepth);
+    decodedTimeSlicedNodeData.p75SCPFirstToSelfLatencyMs = Uint32.decode(reader, maxDepth);
+    decodedTimeSlicedNodeData.p75SCPSelfToOtherLatencyMs = Uint32.decode(reader, maxDepth);
+    decodedTimeSlicedNodeData.lostSyncCount = Uint32.decode(reader, maxDepth);
+    decodedTimeSlicedNodeData.isValidator = reader.readXdrBoolean();
+    decodedTimeSlicedNodeData.maxInboundPeerCount = Uint32.decode(reader, maxDepth);
+    decodedTimeSlicedNodeData.maxOutboundPeerCount = Uint32.decode(reader, maxDepth);
+    return decodedTimeSlicedNodeData;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    stream.readXdrBoolean();
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field =
+        path.checkField(
+            index,
+            "addedAuthenticatedPeers",
+            "droppedAuthenticatedPeers",
+            "totalInboundPeerCount",
+            "totalOutboundPeerCount",
+            "p75SCPFirstToSelfLatencyMs",
+            "p75SCPSelfToOtherLatencyMs",
+            "lostSyncCount",
+            "isValidator",
+            "maxInboundPeerCount",
+            "maxOutboundPeerCount");
+    if (field.equals("addedAuthenticatedPeers")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("droppedAuthenticatedPeers")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("totalInboundPeerCount")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("totalOutboundPeerCount")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("p75SCPFirstToSelfLatencyMs")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("p75SCPSelfToOtherLatencyMs")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("lostSyncCount")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("isValidator")) {
+      path.checkEnd(index + 1);
+      values.add(stream.readXdrBoolean());
+    } else {
+      stream.readXdrBoolean();
+    }
+    if (field.equals("maxInboundPeerCount")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("maxOutboundPeerCount")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static TimeSlicedNodeData fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static TimeSlicedNodeData fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static TimeSlicedNodeData fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -42,6 +43,16 @@ public class TimeSlicedPeerDataList implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    for (int i = 0; i < TimeSlicedPeerDataList.length; i++) {
+      size += TimeSlicedPeerDataList[i].encodedSize();
+    }
+    return size;
+  }
+
   public static TimeSlicedPeerDataList decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -80,16 +91,124 @@ public class TimeSlicedPeerDataList implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static TimeSlicedPeerDataList decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    TimeSlicedPeerDataList decodedTimeSlicedPeerDataList = new TimeSlicedPeerDataList();
+    int TimeSlicedPeerDataListSize = reader.readInt();
+    if (TimeSlicedPeerDataListSize < 0) {
+      throw new IOException(
+          "TimeSlicedPeerDataList size " + TimeSlicedPeerDataListSize + " is negative");
+    }
+    if (TimeSlicedPeerDataListSize > 25) {
+      throw new IOException(
+          "TimeSlicedPeerDataList size " + TimeSlicedPeerDataListSize + " exceeds max size 25");
+    }
+    int TimeSlicedPeerDataListRemainingInputLen = reader.getRemainingInputLen();
+    if (TimeSlicedPeerDataListRemainingInputLen >= 0
+        && TimeSlicedPeerDataListRemainingInputLen < TimeSlicedPeerDataListSize) {
+      throw new IOException(
+          "TimeSlicedPeerDataList size "
+              + TimeSlicedPeerDataListSize
+              + " exceeds remaining input length "
+              + TimeSlicedPeerDataListRemainingInputLen);
+    }
+    decodedTimeSlicedPeerDataList.TimeSlicedPeerDataList =
+        new TimeSlicedPeerData[TimeSlicedPeerDataListSize];
+    for (int i = 0; i < TimeSlicedPeerDataListSize; i++) {
+      decodedTimeSlicedPeerDataList.TimeSlicedPeerDataList[i] =
+          TimeSlicedPeerData.decode(reader, maxDepth);
+    }
+    return decodedTimeSlicedPeerDataList;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int TimeSlicedPeerDataListSize = stream.readInt();
+    if (TimeSlicedPeerDataListSize < 0) {
+      throw new IOException(
+          "TimeSlicedPeerDataList size " + TimeSlicedPeerDataListSize + " is negative");
+    }
+    if (TimeSlicedPeerDataListSize > 25) {
+      throw new IOException(
+          "TimeSlicedPeerDataList size " + TimeSlicedPeerDataListSize + " exceeds max size 25");
+    }
+    int TimeSlicedPeerDataListRemainingInputLen = stream.getRemainingInputLen();
+    if (TimeSlicedPeerDataListRemainingInputLen >= 0
+        && TimeSlicedPeerDataListRemainingInputLen < TimeSlicedPeerDataListSize) {
+      throw new IOException(
+          "TimeSlicedPeerDataList size "
+              + TimeSlicedPeerDataListSize
+              + " exceeds remaining input length "
+              + TimeSlicedPeerDataListRemainingInputLen);
+    }
+    for (int i = 0; i < TimeSlicedPeerDataListSize; i++) {
+      TimeSlicedPeerData.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int TimeSlicedPeerDataListSize = stream.readInt();
+    if (TimeSlicedPeerDataListSize < 0) {
+      throw new IOException(
+          "TimeSlicedPeerDataList size " + TimeSlicedPeerDataListSize + " is negative");
+    }
+    if (TimeSlicedPeerDataListSize > 25) {
+      throw new IOException(
+          "TimeSlicedPeerDataList size " + TimeSlicedPeerDataListSize + " exceeds max size 25");
+    }
+    int TimeSlicedPeerDataListRemainingInputLen = stream.getRemainingInputLen();
+    if (TimeSlicedPeerDataListRemainingInputLen >= 0
+        && TimeSlicedPeerDataListRemainingInputLen < TimeSlicedPeerDataListSize) {
+      throw new IOException(
+          "TimeSlicedPeerDataList size "
+              + TimeSlicedPeerDataListSize
+              + " exceeds remaining input length "
+              + TimeSlicedPeerDataListRemainingInputLen);
+    }
+    for (int i = 0; i < TimeSlicedPeerDataListSize; i++) {
+      TimeSlicedPeerData.extract(stream, maxDepth, path, index, values);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static TimeSlicedPeerDataList fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static TimeSlicedPeerDataList fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static TimeSlicedPeerDataList fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
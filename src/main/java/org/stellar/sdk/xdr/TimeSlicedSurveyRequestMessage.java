@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -69,6 +71,16 @@ public class TimeSlicedSurveyRequestMessage implements XdrElement {
     outboundPeersIndex.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += request.encodedSize();
+    size += nonce.encodedSize();
+    size += inboundPeersIndex.encodedSize();
+    size += outboundPeersIndex.encodedSize();
+    return size;
+  }
+
   public static TimeSlicedSurveyRequestMessage decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -89,16 +101,90 @@ public class TimeSlicedSurveyRequestMessage implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static TimeSlicedSurveyRequestMessage decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    TimeSlicedSurveyRequestMessage decodedTimeSlicedSurveyRequestMessage =
+        new TimeSlicedSurveyRequestMessage();
+    decodedTimeSlicedSurveyRequestMessage.request = SurveyRequestMessage.decode(reader, maxDepth);
+    decodedTimeSlicedSurveyRequestMessage.nonce = Uint32.decode(reader, maxDepth);
+    decodedTimeSlicedSurveyRequestMessage.inboundPeersIndex = Uint32.decode(reader, maxDepth);
+    decodedTimeSlicedSurveyRequestMessage.outboundPeersIndex = Uint32.decode(reader, maxDepth);
+    return decodedTimeSlicedSurveyRequestMessage;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    SurveyRequestMessage.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field =
+        path.checkField(index, "request", "nonce", "inboundPeersIndex", "outboundPeersIndex");
+    if (field.equals("request")) {
+      SurveyRequestMessage.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      SurveyRequestMessage.skip(stream, maxDepth);
+    }
+    if (field.equals("nonce")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("inboundPeersIndex")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("outboundPeersIndex")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static TimeSlicedSurveyRequestMessage fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static TimeSlicedSurveyRequestMessage fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static TimeSlicedSurveyRequestMessage fromXdrByteBuffer(ByteBuffer xdr)
+      throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
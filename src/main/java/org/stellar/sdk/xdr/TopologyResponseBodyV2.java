@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -59,6 +61,15 @@ public class TopologyResponseBodyV2 implements XdrElement {
     nodeData.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += inboundPeers.encodedSize();
+    size += outboundPeers.encodedSize();
+    size += nodeData.encodedSize();
+    return size;
+  }
+
   public static TopologyResponseBodyV2 decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -76,16 +87,80 @@ public class TopologyResponseBodyV2 implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static TopologyResponseBodyV2 decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    TopologyResponseBodyV2 decodedTopologyResponseBodyV2 = new TopologyResponseBodyV2();
+    decodedTopologyResponseBodyV2.inboundPeers = TimeSlicedPeerDataList.decode(reader, maxDepth);
+    decodedTopologyResponseBodyV2.outboundPeers = TimeSlicedPeerDataList.decode(reader, maxDepth);
+    decodedTopologyResponseBodyV2.nodeData = TimeSlicedNodeData.decode(reader, maxDepth);
+    return decodedTopologyResponseBodyV2;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    TimeSlicedPeerDataList.skip(stream, maxDepth);
+    TimeSlicedPeerDataList.skip(stream, maxDepth);
+    TimeSlicedNodeData.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "inboundPeers[*]", "outboundPeers[*]", "nodeData");
+    if (field.equals("inboundPeers")) {
+      TimeSlicedPeerDataList.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      TimeSlicedPeerDataList.skip(stream, maxDepth);
+    }
+    if (field.equals("outboundPeers")) {
+      TimeSlicedPeerDataList.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      TimeSlicedPeerDataList.skip(stream, maxDepth);
+    }
+    if (field.equals("nodeData")) {
+      TimeSlicedNodeData.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      TimeSlicedNodeData.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static TopologyResponseBodyV2 fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static TopologyResponseBodyV2 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static TopologyResponseBodyV2 fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
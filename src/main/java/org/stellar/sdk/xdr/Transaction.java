@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -124,6 +125,22 @@ public class Transaction implements XdrElement {
     ext.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += sourceAccount.encodedSize();
+    size += fee.encodedSize();
+    size += seqNum.encodedSize();
+    size += cond.encodedSize();
+    size += memo.encodedSize();
+    size += 4;
+    for (int i = 0; i < operations.length; i++) {
+      size += operations[i].encodedSize();
+    }
+    size += ext.encodedSize();
+    return size;
+  }
+
   public static Transaction decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -162,16 +179,178 @@ public class Transaction implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static Transaction decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Transaction decodedTransaction = new Transaction();
+    decodedTransaction.sourceAccount = MuxedAccount.decode(reader, maxDepth);
+    decodedTransaction.fee = Uint32.decode(reader, maxDepth);
+    decodedTransaction.seqNum = SequenceNumber.decode(reader, maxDepth);
+    decodedTransaction.cond = Preconditions.decode(reader, maxDepth);
+    decodedTransaction.memo = Memo.decode(reader, maxDepth);
+    int operationsSize = reader.readInt();
+    if (operationsSize < 0) {
+      throw new IOException("operations size " + operationsSize + " is negative");
+    }
+    if (operationsSize > 100) {
+      throw new IOException("operations size " + operationsSize + " exceeds max size 100");
+    }
+    int operationsRemainingInputLen = reader.getRemainingInputLen();
+    if (operationsRemainingInputLen >= 0 && operationsRemainingInputLen < operationsSize) {
+      throw new IOException(
+          "operations size "
+              + operationsSize
+              + " exceeds remaining input length "
+              + operationsRemainingInputLen);
+    }
+    decodedTransaction.operations = new Operation[operationsSize];
+    for (int i = 0; i < operationsSize; i++) {
+      decodedTransaction.operations[i] = Operation.decode(reader, maxDepth);
+    }
+    decodedTransaction.ext = TransactionExt.decode(reader, maxDepth);
+    return decodedTransaction;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    MuxedAccount.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    SequenceNumber.skip(stream, maxDepth);
+    Preconditions.skip(stream, maxDepth);
+    Memo.skip(stream, maxDepth);
+    int operationsSize = stream.readInt();
+    if (operationsSize < 0) {
+      throw new IOException("operations size " + operationsSize + " is negative");
+    }
+    if (operationsSize > 100) {
+      throw new IOException("operations size " + operationsSize + " exceeds max size 100");
+    }
+    int operationsRemainingInputLen = stream.getRemainingInputLen();
+    if (operationsRemainingInputLen >= 0 && operationsRemainingInputLen < operationsSize) {
+      throw new IOException(
+          "operations size "
+              + operationsSize
+              + " exceeds remaining input length "
+              + operationsRemainingInputLen);
+    }
+    for (int i = 0; i < operationsSize; i++) {
+      Operation.skip(stream, maxDepth);
+    }
+    TransactionExt.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field =
+        path.checkField(
+            index, "sourceAccount", "fee", "seqNum", "cond", "memo", "operations[*]", "ext");
+    if (field.equals("sourceAccount")) {
+      MuxedAccount.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      MuxedAccount.skip(stream, maxDepth);
+    }
+    if (field.equals("fee")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("seqNum")) {
+      SequenceNumber.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      SequenceNumber.skip(stream, maxDepth);
+    }
+    if (field.equals("cond")) {
+      Preconditions.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Preconditions.skip(stream, maxDepth);
+    }
+    if (field.equals("memo")) {
+      Memo.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Memo.skip(stream, maxDepth);
+    }
+    if (field.equals("operations")) {
+      int operationsSize = stream.readInt();
+      if (operationsSize < 0) {
+        throw new IOException("operations size " + operationsSize + " is negative");
+      }
+      if (operationsSize > 100) {
+        throw new IOException("operations size " + operationsSize + " exceeds max size 100");
+      }
+      int operationsRemainingInputLen = stream.getRemainingInputLen();
+      if (operationsRemainingInputLen >= 0 && operationsRemainingInputLen < operationsSize) {
+        throw new IOException(
+            "operations size "
+                + operationsSize
+                + " exceeds remaining input length "
+                + operationsRemainingInputLen);
+      }
+      for (int i = 0; i < operationsSize; i++) {
+        Operation.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int operationsSize = stream.readInt();
+      if (operationsSize < 0) {
+        throw new IOException("operations size " + operationsSize + " is negative");
+      }
+      if (operationsSize > 100) {
+        throw new IOException("operations size " + operationsSize + " exceeds max size 100");
+      }
+      int operationsRemainingInputLen = stream.getRemainingInputLen();
+      if (operationsRemainingInputLen >= 0 && operationsRemainingInputLen < operationsSize) {
+        throw new IOException(
+            "operations size "
+                + operationsSize
+                + " exceeds remaining input length "
+                + operationsRemainingInputLen);
+      }
+      for (int i = 0; i < operationsSize; i++) {
+        Operation.skip(stream, maxDepth);
+      }
+    }
+    if (field.equals("ext")) {
+      TransactionExt.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      TransactionExt.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static Transaction fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static Transaction fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static Transaction fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -259,6 +438,19 @@ public class Transaction implements XdrElement {
       }
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 4;
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          size += sorobanData.encodedSize();
+          break;
+      }
+      return size;
+    }
+
     public static TransactionExt decode(XdrDataInputStream stream, int maxDepth)
         throws IOException {
       if (maxDepth <= 0) {
@@ -284,16 +476,94 @@ public class Transaction implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static TransactionExt decode(XdrByteBufferReader reader, int maxDepth)
+        throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      TransactionExt decodedTransactionExt = new TransactionExt();
+      Integer discriminant = reader.readInt();
+      decodedTransactionExt.setDiscriminant(discriminant);
+      switch (decodedTransactionExt.getDiscriminant()) {
+        case 0:
+          break;
+        case 1:
+          decodedTransactionExt.sorobanData = SorobanTransactionData.decode(reader, maxDepth);
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+      return decodedTransactionExt;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      int discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          SorobanTransactionData.skip(stream, maxDepth);
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index, "sorobanData");
+      int discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          if (field.equals("sorobanData")) {
+            SorobanTransactionData.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            SorobanTransactionData.skip(stream, maxDepth);
+          }
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static TransactionExt fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static TransactionExt fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static TransactionExt fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
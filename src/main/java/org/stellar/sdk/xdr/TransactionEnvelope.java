@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -79,6 +81,23 @@ public class TransactionEnvelope implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case ENVELOPE_TYPE_TX_V0:
+        size += v0.encodedSize();
+        break;
+      case ENVELOPE_TYPE_TX:
+        size += v1.encodedSize();
+        break;
+      case ENVELOPE_TYPE_TX_FEE_BUMP:
+        size += feeBump.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static TransactionEnvelope decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -108,16 +127,114 @@ public class TransactionEnvelope implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static TransactionEnvelope decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    TransactionEnvelope decodedTransactionEnvelope = new TransactionEnvelope();
+    EnvelopeType discriminant = EnvelopeType.decode(reader, maxDepth);
+    decodedTransactionEnvelope.setDiscriminant(discriminant);
+    switch (decodedTransactionEnvelope.getDiscriminant()) {
+      case ENVELOPE_TYPE_TX_V0:
+        decodedTransactionEnvelope.v0 = TransactionV0Envelope.decode(reader, maxDepth);
+        break;
+      case ENVELOPE_TYPE_TX:
+        decodedTransactionEnvelope.v1 = TransactionV1Envelope.decode(reader, maxDepth);
+        break;
+      case ENVELOPE_TYPE_TX_FEE_BUMP:
+        decodedTransactionEnvelope.feeBump = FeeBumpTransactionEnvelope.decode(reader, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedTransactionEnvelope;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    EnvelopeType discriminant = EnvelopeType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case ENVELOPE_TYPE_TX_V0:
+        TransactionV0Envelope.skip(stream, maxDepth);
+        break;
+      case ENVELOPE_TYPE_TX:
+        TransactionV1Envelope.skip(stream, maxDepth);
+        break;
+      case ENVELOPE_TYPE_TX_FEE_BUMP:
+        FeeBumpTransactionEnvelope.skip(stream, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "v0", "v1", "feeBump");
+    EnvelopeType discriminant = EnvelopeType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case ENVELOPE_TYPE_TX_V0:
+        if (field.equals("v0")) {
+          TransactionV0Envelope.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          TransactionV0Envelope.skip(stream, maxDepth);
+        }
+        break;
+      case ENVELOPE_TYPE_TX:
+        if (field.equals("v1")) {
+          TransactionV1Envelope.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          TransactionV1Envelope.skip(stream, maxDepth);
+        }
+        break;
+      case ENVELOPE_TYPE_TX_FEE_BUMP:
+        if (field.equals("feeBump")) {
+          FeeBumpTransactionEnvelope.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          FeeBumpTransactionEnvelope.skip(stream, maxDepth);
+        }
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static TransactionEnvelope fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static TransactionEnvelope fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static TransactionEnvelope fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
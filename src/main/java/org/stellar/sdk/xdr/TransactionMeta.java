@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -110,6 +111,32 @@ public class TransactionMeta implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case 0:
+        size += 4;
+        for (int i = 0; i < operations.length; i++) {
+          size += operations[i].encodedSize();
+        }
+        break;
+      case 1:
+        size += v1.encodedSize();
+        break;
+      case 2:
+        size += v2.encodedSize();
+        break;
+      case 3:
+        size += v3.encodedSize();
+        break;
+      case 4:
+        size += v4.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static TransactionMeta decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -159,16 +186,197 @@ public class TransactionMeta implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static TransactionMeta decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    TransactionMeta decodedTransactionMeta = new TransactionMeta();
+    Integer discriminant = reader.readInt();
+    decodedTransactionMeta.setDiscriminant(discriminant);
+    switch (decodedTransactionMeta.getDiscriminant()) {
+      case 0:
+        int operationsSize = reader.readInt();
+        if (operationsSize < 0) {
+          throw new IOException("operations size " + operationsSize + " is negative");
+        }
+        int operationsRemainingInputLen = reader.getRemainingInputLen();
+        if (operationsRemainingInputLen >= 0 && operationsRemainingInputLen < operationsSize) {
+          throw new IOException(
+              "operations size "
+                  + operationsSize
+                  + " exceeds remaining input length "
+                  + operationsRemainingInputLen);
+        }
+        decodedTransactionMeta.operations = new OperationMeta[operationsSize];
+        for (int i = 0; i < operationsSize; i++) {
+          decodedTransactionMeta.operations[i] = OperationMeta.decode(reader, maxDepth);
+        }
+        break;
+      case 1:
+        decodedTransactionMeta.v1 = TransactionMetaV1.decode(reader, maxDepth);
+        break;
+      case 2:
+        decodedTransactionMeta.v2 = TransactionMetaV2.decode(reader, maxDepth);
+        break;
+      case 3:
+        decodedTransactionMeta.v3 = TransactionMetaV3.decode(reader, maxDepth);
+        break;
+      case 4:
+        decodedTransactionMeta.v4 = TransactionMetaV4.decode(reader, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedTransactionMeta;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int discriminant = stream.readInt();
+    switch (discriminant) {
+      case 0:
+        int operationsSize = stream.readInt();
+        if (operationsSize < 0) {
+          throw new IOException("operations size " + operationsSize + " is negative");
+        }
+        int operationsRemainingInputLen = stream.getRemainingInputLen();
+        if (operationsRemainingInputLen >= 0 && operationsRemainingInputLen < operationsSize) {
+          throw new IOException(
+              "operations size "
+                  + operationsSize
+                  + " exceeds remaining input length "
+                  + operationsRemainingInputLen);
+        }
+        for (int i = 0; i < operationsSize; i++) {
+          OperationMeta.skip(stream, maxDepth);
+        }
+        break;
+      case 1:
+        TransactionMetaV1.skip(stream, maxDepth);
+        break;
+      case 2:
+        TransactionMetaV2.skip(stream, maxDepth);
+        break;
+      case 3:
+        TransactionMetaV3.skip(stream, maxDepth);
+        break;
+      case 4:
+        TransactionMetaV4.skip(stream, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "operations[*]", "v1", "v2", "v3", "v4");
+    int discriminant = stream.readInt();
+    switch (discriminant) {
+      case 0:
+        if (field.equals("operations")) {
+          int operationsSize = stream.readInt();
+          if (operationsSize < 0) {
+            throw new IOException("operations size " + operationsSize + " is negative");
+          }
+          int operationsRemainingInputLen = stream.getRemainingInputLen();
+          if (operationsRemainingInputLen >= 0 && operationsRemainingInputLen < operationsSize) {
+            throw new IOException(
+                "operations size "
+                    + operationsSize
+                    + " exceeds remaining input length "
+                    + operationsRemainingInputLen);
+          }
+          for (int i = 0; i < operationsSize; i++) {
+            OperationMeta.extract(stream, maxDepth, path, index + 1, values);
+          }
+        } else {
+          int operationsSize = stream.readInt();
+          if (operationsSize < 0) {
+            throw new IOException("operations size " + operationsSize + " is negative");
+          }
+          int operationsRemainingInputLen = stream.getRemainingInputLen();
+          if (operationsRemainingInputLen >= 0 && operationsRemainingInputLen < operationsSize) {
+            throw new IOException(
+                "operations size "
+                    + operationsSize
+                    + " exceeds remaining input length "
+                    + operationsRemainingInputLen);
+          }
+          for (int i = 0; i < operationsSize; i++) {
+            OperationMeta.skip(stream, maxDepth);
+          }
+        }
+        break;
+      case 1:
+        if (field.equals("v1")) {
+          TransactionMetaV1.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          TransactionMetaV1.skip(stream, maxDepth);
+        }
+        break;
+      case 2:
+        if (field.equals("v2")) {
+          TransactionMetaV2.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          TransactionMetaV2.skip(stream, maxDepth);
+        }
+        break;
+      case 3:
+        if (field.equals("v3")) {
+          TransactionMetaV3.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          TransactionMetaV3.skip(stream, maxDepth);
+        }
+        break;
+      case 4:
+        if (field.equals("v4")) {
+          TransactionMetaV4.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          TransactionMetaV4.skip(stream, maxDepth);
+        }
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static TransactionMeta fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static TransactionMeta fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static TransactionMeta fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
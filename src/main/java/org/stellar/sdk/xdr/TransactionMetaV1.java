@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -54,6 +55,17 @@ public class TransactionMetaV1 implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += txChanges.encodedSize();
+    size += 4;
+    for (int i = 0; i < operations.length; i++) {
+      size += operations[i].encodedSize();
+    }
+    return size;
+  }
+
   public static TransactionMetaV1 decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -85,16 +97,130 @@ public class TransactionMetaV1 implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static TransactionMetaV1 decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    TransactionMetaV1 decodedTransactionMetaV1 = new TransactionMetaV1();
+    decodedTransactionMetaV1.txChanges = LedgerEntryChanges.decode(reader, maxDepth);
+    int operationsSize = reader.readInt();
+    if (operationsSize < 0) {
+      throw new IOException("operations size " + operationsSize + " is negative");
+    }
+    int operationsRemainingInputLen = reader.getRemainingInputLen();
+    if (operationsRemainingInputLen >= 0 && operationsRemainingInputLen < operationsSize) {
+      throw new IOException(
+          "operations size "
+              + operationsSize
+              + " exceeds remaining input length "
+              + operationsRemainingInputLen);
+    }
+    decodedTransactionMetaV1.operations = new OperationMeta[operationsSize];
+    for (int i = 0; i < operationsSize; i++) {
+      decodedTransactionMetaV1.operations[i] = OperationMeta.decode(reader, maxDepth);
+    }
+    return decodedTransactionMetaV1;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    LedgerEntryChanges.skip(stream, maxDepth);
+    int operationsSize = stream.readInt();
+    if (operationsSize < 0) {
+      throw new IOException("operations size " + operationsSize + " is negative");
+    }
+    int operationsRemainingInputLen = stream.getRemainingInputLen();
+    if (operationsRemainingInputLen >= 0 && operationsRemainingInputLen < operationsSize) {
+      throw new IOException(
+          "operations size "
+              + operationsSize
+              + " exceeds remaining input length "
+              + operationsRemainingInputLen);
+    }
+    for (int i = 0; i < operationsSize; i++) {
+      OperationMeta.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "txChanges[*]", "operations[*]");
+    if (field.equals("txChanges")) {
+      LedgerEntryChanges.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      LedgerEntryChanges.skip(stream, maxDepth);
+    }
+    if (field.equals("operations")) {
+      int operationsSize = stream.readInt();
+      if (operationsSize < 0) {
+        throw new IOException("operations size " + operationsSize + " is negative");
+      }
+      int operationsRemainingInputLen = stream.getRemainingInputLen();
+      if (operationsRemainingInputLen >= 0 && operationsRemainingInputLen < operationsSize) {
+        throw new IOException(
+            "operations size "
+                + operationsSize
+                + " exceeds remaining input length "
+                + operationsRemainingInputLen);
+      }
+      for (int i = 0; i < operationsSize; i++) {
+        OperationMeta.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int operationsSize = stream.readInt();
+      if (operationsSize < 0) {
+        throw new IOException("operations size " + operationsSize + " is negative");
+      }
+      int operationsRemainingInputLen = stream.getRemainingInputLen();
+      if (operationsRemainingInputLen >= 0 && operationsRemainingInputLen < operationsSize) {
+        throw new IOException(
+            "operations size "
+                + operationsSize
+                + " exceeds remaining input length "
+                + operationsRemainingInputLen);
+      }
+      for (int i = 0; i < operationsSize; i++) {
+        OperationMeta.skip(stream, maxDepth);
+      }
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static TransactionMetaV1 fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static TransactionMetaV1 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static TransactionMetaV1 fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
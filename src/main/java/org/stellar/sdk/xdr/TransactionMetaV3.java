@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -93,6 +94,23 @@ public class TransactionMetaV3 implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += ext.encodedSize();
+    size += txChangesBefore.encodedSize();
+    size += 4;
+    for (int i = 0; i < operations.length; i++) {
+      size += operations[i].encodedSize();
+    }
+    size += txChangesAfter.encodedSize();
+    size += 4;
+    if (sorobanMeta != null) {
+      size += sorobanMeta.encodedSize();
+    }
+    return size;
+  }
+
   public static TransactionMetaV3 decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -130,16 +148,170 @@ public class TransactionMetaV3 implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static TransactionMetaV3 decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    TransactionMetaV3 decodedTransactionMetaV3 = new TransactionMetaV3();
+    decodedTransactionMetaV3.ext = ExtensionPoint.decode(reader, maxDepth);
+    decodedTransactionMetaV3.txChangesBefore = LedgerEntryChanges.decode(reader, maxDepth);
+    int operationsSize = reader.readInt();
+    if (operationsSize < 0) {
+      throw new IOException("operations size " + operationsSize + " is negative");
+    }
+    int operationsRemainingInputLen = reader.getRemainingInputLen();
+    if (operationsRemainingInputLen >= 0 && operationsRemainingInputLen < operationsSize) {
+      throw new IOException(
+          "operations size "
+              + operationsSize
+              + " exceeds remaining input length "
+              + operationsRemainingInputLen);
+    }
+    decodedTransactionMetaV3.operations = new OperationMeta[operationsSize];
+    for (int i = 0; i < operationsSize; i++) {
+      decodedTransactionMetaV3.operations[i] = OperationMeta.decode(reader, maxDepth);
+    }
+    decodedTransactionMetaV3.txChangesAfter = LedgerEntryChanges.decode(reader, maxDepth);
+    boolean sorobanMetaPresent = reader.readXdrBoolean();
+    if (sorobanMetaPresent) {
+      decodedTransactionMetaV3.sorobanMeta = SorobanTransactionMeta.decode(reader, maxDepth);
+    }
+    return decodedTransactionMetaV3;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ExtensionPoint.skip(stream, maxDepth);
+    LedgerEntryChanges.skip(stream, maxDepth);
+    int operationsSize = stream.readInt();
+    if (operationsSize < 0) {
+      throw new IOException("operations size " + operationsSize + " is negative");
+    }
+    int operationsRemainingInputLen = stream.getRemainingInputLen();
+    if (operationsRemainingInputLen >= 0 && operationsRemainingInputLen < operationsSize) {
+      throw new IOException(
+          "operations size "
+              + operationsSize
+              + " exceeds remaining input length "
+              + operationsRemainingInputLen);
+    }
+    for (int i = 0; i < operationsSize; i++) {
+      OperationMeta.skip(stream, maxDepth);
+    }
+    LedgerEntryChanges.skip(stream, maxDepth);
+    boolean sorobanMetaPresent = stream.readXdrBoolean();
+    if (sorobanMetaPresent) {
+      SorobanTransactionMeta.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field =
+        path.checkField(
+            index,
+            "ext",
+            "txChangesBefore[*]",
+            "operations[*]",
+            "txChangesAfter[*]",
+            "sorobanMeta");
+    if (field.equals("ext")) {
+      ExtensionPoint.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      ExtensionPoint.skip(stream, maxDepth);
+    }
+    if (field.equals("txChangesBefore")) {
+      LedgerEntryChanges.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      LedgerEntryChanges.skip(stream, maxDepth);
+    }
+    if (field.equals("operations")) {
+      int operationsSize = stream.readInt();
+      if (operationsSize < 0) {
+        throw new IOException("operations size " + operationsSize + " is negative");
+      }
+      int operationsRemainingInputLen = stream.getRemainingInputLen();
+      if (operationsRemainingInputLen >= 0 && operationsRemainingInputLen < operationsSize) {
+        throw new IOException(
+            "operations size "
+                + operationsSize
+                + " exceeds remaining input length "
+                + operationsRemainingInputLen);
+      }
+      for (int i = 0; i < operationsSize; i++) {
+        OperationMeta.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int operationsSize = stream.readInt();
+      if (operationsSize < 0) {
+        throw new IOException("operations size " + operationsSize + " is negative");
+      }
+      int operationsRemainingInputLen = stream.getRemainingInputLen();
+      if (operationsRemainingInputLen >= 0 && operationsRemainingInputLen < operationsSize) {
+        throw new IOException(
+            "operations size "
+                + operationsSize
+                + " exceeds remaining input length "
+                + operationsRemainingInputLen);
+      }
+      for (int i = 0; i < operationsSize; i++) {
+        OperationMeta.skip(stream, maxDepth);
+      }
+    }
+    if (field.equals("txChangesAfter")) {
+      LedgerEntryChanges.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      LedgerEntryChanges.skip(stream, maxDepth);
+    }
+    if (field.equals("sorobanMeta")) {
+      boolean sorobanMetaPresent = stream.readXdrBoolean();
+      if (sorobanMetaPresent) {
+        SorobanTransactionMeta.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      boolean sorobanMetaPresent = stream.readXdrBoolean();
+      if (sorobanMetaPresent) {
+        SorobanTransactionMeta.skip(stream, maxDepth);
+      }
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static TransactionMetaV3 fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static TransactionMetaV3 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static TransactionMetaV3 fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -122,6 +123,31 @@ public class TransactionMetaV4 implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += ext.encodedSize();
+    size += txChangesBefore.encodedSize();
+    size += 4;
+    for (int i = 0; i < operations.length; i++) {
+      size += operations[i].encodedSize();
+    }
+    size += txChangesAfter.encodedSize();
+    size += 4;
+    if (sorobanMeta != null) {
+      size += sorobanMeta.encodedSize();
+    }
+    size += 4;
+    for (int i = 0; i < events.length; i++) {
+      size += events[i].encodedSize();
+    }
+    size += 4;
+    for (int i = 0; i < diagnosticEvents.length; i++) {
+      size += diagnosticEvents[i].encodedSize();
+    }
+    return size;
+  }
+
   public static TransactionMetaV4 decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -192,16 +218,304 @@ public class TransactionMetaV4 implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static TransactionMetaV4 decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    TransactionMetaV4 decodedTransactionMetaV4 = new TransactionMetaV4();
+    decodedTransactionMetaV4.ext = ExtensionPoint.decode(reader, maxDepth);
+    decodedTransactionMetaV4.txChangesBefore = LedgerEntryChanges.decode(reader, maxDepth);
+    int operationsSize = reader.readInt();
+    if (operationsSize < 0) {
+      throw new IOException("operations size " + operationsSize + " is negative");
+    }
+    int operationsRemainingInputLen = reader.getRemainingInputLen();
+    if (operationsRemainingInputLen >= 0 && operationsRemainingInputLen < operationsSize) {
+      throw new IOException(
+          "operations size "
+              + operationsSize
+              + " exceeds remaining input length "
+              + operationsRemainingInputLen);
+    }
+    decodedTransactionMetaV4.operations = new OperationMetaV2[operationsSize];
+    for (int i = 0; i < operationsSize; i++) {
+      decodedTransactionMetaV4.operations[i] = OperationMetaV2.decode(reader, maxDepth);
+    }
+    decodedTransactionMetaV4.txChangesAfter = LedgerEntryChanges.decode(reader, maxDepth);
+    boolean sorobanMetaPresent = reader.readXdrBoolean();
+    if (sorobanMetaPresent) {
+      decodedTransactionMetaV4.sorobanMeta = SorobanTransactionMetaV2.decode(reader, maxDepth);
+    }
+    int eventsSize = reader.readInt();
+    if (eventsSize < 0) {
+      throw new IOException("events size " + eventsSize + " is negative");
+    }
+    int eventsRemainingInputLen = reader.getRemainingInputLen();
+    if (eventsRemainingInputLen >= 0 && eventsRemainingInputLen < eventsSize) {
+      throw new IOException(
+          "events size "
+              + eventsSize
+              + " exceeds remaining input length "
+              + eventsRemainingInputLen);
+    }
+    decodedTransactionMetaV4.events = new TransactionEvent[eventsSize];
+    for (int i = 0; i < eventsSize; i++) {
+      decodedTransactionMetaV4.events[i] = TransactionEvent.decode(reader, maxDepth);
+    }
+    int diagnosticEventsSize = reader.readInt();
+    if (diagnosticEventsSize < 0) {
+      throw new IOException("diagnosticEvents size " + diagnosticEventsSize + " is negative");
+    }
+    int diagnosticEventsRemainingInputLen = reader.getRemainingInputLen();
+    if (diagnosticEventsRemainingInputLen >= 0
+        && diagnosticEventsRemainingInputLen < diagnosticEventsSize) {
+      throw new IOException(
+          "diagnosticEvents size "
+              + diagnosticEventsSize
+              + " exceeds remaining input length "
+              + diagnosticEventsRemainingInputLen);
+    }
+    decodedTransactionMetaV4.diagnosticEvents = new DiagnosticEvent[diagnosticEventsSize];
+    for (int i = 0; i < diagnosticEventsSize; i++) {
+      decodedTransactionMetaV4.diagnosticEvents[i] = DiagnosticEvent.decode(reader, maxDepth);
+    }
+    return decodedTransactionMetaV4;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ExtensionPoint.skip(stream, maxDepth);
+    LedgerEntryChanges.skip(stream, maxDepth);
+    int operationsSize = stream.readInt();
+    if (operationsSize < 0) {
+      throw new IOException("operations size " + operationsSize + " is negative");
+    }
+    int operationsRemainingInputLen = stream.getRemainingInputLen();
+    if (operationsRemainingInputLen >= 0 && operationsRemainingInputLen < operationsSize) {
+      throw new IOException(
+          "operations size "
+              + operationsSize
+              + " exceeds remaining input length "
+              + operationsRemainingInputLen);
+    }
+    for (int i = 0; i < operationsSize; i++) {
+      OperationMetaV2.skip(stream, maxDepth);
+    }
+    LedgerEntryChanges.skip(stream, maxDepth);
+    boolean sorobanMetaPresent = stream.readXdrBoolean();
+    if (sorobanMetaPresent) {
+      SorobanTransactionMetaV2.skip(stream, maxDepth);
+    }
+    int eventsSize = stream.readInt();
+    if (eventsSize < 0) {
+      throw new IOException("events size " + eventsSize + " is negative");
+    }
+    int eventsRemainingInputLen = stream.getRemainingInputLen();
+    if (eventsRemainingInputLen >= 0 && eventsRemainingInputLen < eventsSize) {
+      throw new IOException(
+          "events size "
+              + eventsSize
+              + " exceeds remaining input length "
+              + eventsRemainingInputLen);
+    }
+    for (int i = 0; i < eventsSize; i++) {
+      TransactionEvent.skip(stream, maxDepth);
+    }
+    int diagnosticEventsSize = stream.readInt();
+    if (diagnosticEventsSize < 0) {
+      throw new IOException("diagnosticEvents size " + diagnosticEventsSize + " is negative");
+    }
+    int diagnosticEventsRemainingInputLen = stream.getRemainingInputLen();
+    if (diagnosticEventsRemainingInputLen >= 0
+        && diagnosticEventsRemainingInputLen < diagnosticEventsSize) {
+      throw new IOException(
+          "diagnosticEvents size "
+              + diagnosticEventsSize
+              + " exceeds remaining input length "
+              + diagnosticEventsRemainingInputLen);
+    }
+    for (int i = 0; i < diagnosticEventsSize; i++) {
+      DiagnosticEvent.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field =
+        path.checkField(
+            index,
+            "ext",
+            "txChangesBefore[*]",
+            "operations[*]",
+            "txChangesAfter[*]",
+            "sorobanMeta",
+            "events[*]",
+            "diagnosticEvents[*]");
+    if (field.equals("ext")) {
+      ExtensionPoint.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      ExtensionPoint.skip(stream, maxDepth);
+    }
+    if (field.equals("txChangesBefore")) {
+      LedgerEntryChanges.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      LedgerEntryChanges.skip(stream, maxDepth);
+    }
+    if (field.equals("operations")) {
+      int operationsSize = stream.readInt();
+      if (operationsSize < 0) {
+        throw new IOException("operations size " + operationsSize + " is negative");
+      }
+      int operationsRemainingInputLen = stream.getRemainingInputLen();
+      if (operationsRemainingInputLen >= 0 && operationsRemainingInputLen < operationsSize) {
+        throw new IOException(
+            "operations size "
+                + operationsSize
+                + " exceeds remaining input length "
+                + operationsRemainingInputLen);
+      }
+      for (int i = 0; i < operationsSize; i++) {
+        OperationMetaV2.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int operationsSize = stream.readInt();
+      if (operationsSize < 0) {
+        throw new IOException("operations size " + operationsSize + " is negative");
+      }
+      int operationsRemainingInputLen = stream.getRemainingInputLen();
+      if (operationsRemainingInputLen >= 0 && operationsRemainingInputLen < operationsSize) {
+        throw new IOException(
+            "operations size "
+                + operationsSize
+                + " exceeds remaining input length "
+                + operationsRemainingInputLen);
+      }
+      for (int i = 0; i < operationsSize; i++) {
+        OperationMetaV2.skip(stream, maxDepth);
+      }
+    }
+    if (field.equals("txChangesAfter")) {
+      LedgerEntryChanges.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      LedgerEntryChanges.skip(stream, maxDepth);
+    }
+    if (field.equals("sorobanMeta")) {
+      boolean sorobanMetaPresent = stream.readXdrBoolean();
+      if (sorobanMetaPresent) {
+        SorobanTransactionMetaV2.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      boolean sorobanMetaPresent = stream.readXdrBoolean();
+      if (sorobanMetaPresent) {
+        SorobanTransactionMetaV2.skip(stream, maxDepth);
+      }
+    }
+    if (field.equals("events")) {
+      int eventsSize = stream.readInt();
+      if (eventsSize < 0) {
+        throw new IOException("events size " + eventsSize + " is negative");
+      }
+      int eventsRemainingInputLen = stream.getRemainingInputLen();
+      if (eventsRemainingInputLen >= 0 && eventsRemainingInputLen < eventsSize) {
+        throw new IOException(
+            "events size "
+                + eventsSize
+                + " exceeds remaining input length "
+                + eventsRemainingInputLen);
+      }
+      for (int i = 0; i < eventsSize; i++) {
+        TransactionEvent.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int eventsSize = stream.readInt();
+      if (eventsSize < 0) {
+        throw new IOException("events size " + eventsSize + " is negative");
+      }
+      int eventsRemainingInputLen = stream.getRemainingInputLen();
+      if (eventsRemainingInputLen >= 0 && eventsRemainingInputLen < eventsSize) {
+        throw new IOException(
+            "events size "
+                + eventsSize
+                + " exceeds remaining input length "
+                + eventsRemainingInputLen);
+      }
+      for (int i = 0; i < eventsSize; i++) {
+        TransactionEvent.skip(stream, maxDepth);
+      }
+    }
+    if (field.equals("diagnosticEvents")) {
+      int diagnosticEventsSize = stream.readInt();
+      if (diagnosticEventsSize < 0) {
+        throw new IOException("diagnosticEvents size " + diagnosticEventsSize + " is negative");
+      }
+      int diagnosticEventsRemainingInputLen = stream.getRemainingInputLen();
+      if (diagnosticEventsRemainingInputLen >= 0
+          && diagnosticEventsRemainingInputLen < diagnosticEventsSize) {
+        throw new IOException(
+            "diagnosticEvents size "
+                + diagnosticEventsSize
+                + " exceeds remaining input length "
+                + diagnosticEventsRemainingInputLen);
+      }
+      for (int i = 0; i < diagnosticEventsSize; i++) {
+        DiagnosticEvent.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int diagnosticEventsSize = stream.readInt();
+      if (diagnosticEventsSize < 0) {
+        throw new IOException("diagnosticEvents size " + diagnosticEventsSize + " is negative");
+      }
+      int diagnosticEventsRemainingInputLen = stream.getRemainingInputLen();
+      if (diagnosticEventsRemainingInputLen >= 0
+          && diagnosticEventsRemainingInputLen < diagnosticEventsSize) {
+        throw new IOException(
+            "diagnosticEvents size "
+                + diagnosticEventsSize
+                + " exceeds remaining input length "
+                + diagnosticEventsRemainingInputLen);
+      }
+      for (int i = 0; i < diagnosticEventsSize; i++) {
+        DiagnosticEvent.skip(stream, maxDepth);
+      }
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static TransactionMetaV4 fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static TransactionMetaV4 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static TransactionMetaV4 fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -71,6 +72,23 @@ public class TransactionPhase implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case 0:
+        size += 4;
+        for (int i = 0; i < v0Components.length; i++) {
+          size += v0Components[i].encodedSize();
+        }
+        break;
+      case 1:
+        size += parallelTxsComponent.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static TransactionPhase decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -114,16 +132,163 @@ public class TransactionPhase implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static TransactionPhase decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    TransactionPhase decodedTransactionPhase = new TransactionPhase();
+    Integer discriminant = reader.readInt();
+    decodedTransactionPhase.setDiscriminant(discriminant);
+    switch (decodedTransactionPhase.getDiscriminant()) {
+      case 0:
+        int v0ComponentsSize = reader.readInt();
+        if (v0ComponentsSize < 0) {
+          throw new IOException("v0Components size " + v0ComponentsSize + " is negative");
+        }
+        int v0ComponentsRemainingInputLen = reader.getRemainingInputLen();
+        if (v0ComponentsRemainingInputLen >= 0
+            && v0ComponentsRemainingInputLen < v0ComponentsSize) {
+          throw new IOException(
+              "v0Components size "
+                  + v0ComponentsSize
+                  + " exceeds remaining input length "
+                  + v0ComponentsRemainingInputLen);
+        }
+        decodedTransactionPhase.v0Components = new TxSetComponent[v0ComponentsSize];
+        for (int i = 0; i < v0ComponentsSize; i++) {
+          decodedTransactionPhase.v0Components[i] = TxSetComponent.decode(reader, maxDepth);
+        }
+        break;
+      case 1:
+        decodedTransactionPhase.parallelTxsComponent =
+            ParallelTxsComponent.decode(reader, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedTransactionPhase;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int discriminant = stream.readInt();
+    switch (discriminant) {
+      case 0:
+        int v0ComponentsSize = stream.readInt();
+        if (v0ComponentsSize < 0) {
+          throw new IOException("v0Components size " + v0ComponentsSize + " is negative");
+        }
+        int v0ComponentsRemainingInputLen = stream.getRemainingInputLen();
+        if (v0ComponentsRemainingInputLen >= 0
+            && v0ComponentsRemainingInputLen < v0ComponentsSize) {
+          throw new IOException(
+              "v0Components size "
+                  + v0ComponentsSize
+                  + " exceeds remaining input length "
+                  + v0ComponentsRemainingInputLen);
+        }
+        for (int i = 0; i < v0ComponentsSize; i++) {
+          TxSetComponent.skip(stream, maxDepth);
+        }
+        break;
+      case 1:
+        ParallelTxsComponent.skip(stream, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "v0Components[*]", "parallelTxsComponent");
+    int discriminant = stream.readInt();
+    switch (discriminant) {
+      case 0:
+        if (field.equals("v0Components")) {
+          int v0ComponentsSize = stream.readInt();
+          if (v0ComponentsSize < 0) {
+            throw new IOException("v0Components size " + v0ComponentsSize + " is negative");
+          }
+          int v0ComponentsRemainingInputLen = stream.getRemainingInputLen();
+          if (v0ComponentsRemainingInputLen >= 0
+              && v0ComponentsRemainingInputLen < v0ComponentsSize) {
+            throw new IOException(
+                "v0Components size "
+                    + v0ComponentsSize
+                    + " exceeds remaining input length "
+                    + v0ComponentsRemainingInputLen);
+          }
+          for (int i = 0; i < v0ComponentsSize; i++) {
+            TxSetComponent.extract(stream, maxDepth, path, index + 1, values);
+          }
+        } else {
+          int v0ComponentsSize = stream.readInt();
+          if (v0ComponentsSize < 0) {
+            throw new IOException("v0Components size " + v0ComponentsSize + " is negative");
+          }
+          int v0ComponentsRemainingInputLen = stream.getRemainingInputLen();
+          if (v0ComponentsRemainingInputLen >= 0
+              && v0ComponentsRemainingInputLen < v0ComponentsSize) {
+            throw new IOException(
+                "v0Components size "
+                    + v0ComponentsSize
+                    + " exceeds remaining input length "
+                    + v0ComponentsRemainingInputLen);
+          }
+          for (int i = 0; i < v0ComponentsSize; i++) {
+            TxSetComponent.skip(stream, maxDepth);
+          }
+        }
+        break;
+      case 1:
+        if (field.equals("parallelTxsComponent")) {
+          ParallelTxsComponent.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          ParallelTxsComponent.skip(stream, maxDepth);
+        }
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static TransactionPhase fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static TransactionPhase fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static TransactionPhase fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
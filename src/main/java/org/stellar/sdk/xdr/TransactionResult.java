@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -95,6 +96,15 @@ public class TransactionResult implements XdrElement {
     ext.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += feeCharged.encodedSize();
+    size += result.encodedSize();
+    size += ext.encodedSize();
+    return size;
+  }
+
   public static TransactionResult decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -112,16 +122,80 @@ public class TransactionResult implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static TransactionResult decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    TransactionResult decodedTransactionResult = new TransactionResult();
+    decodedTransactionResult.feeCharged = Int64.decode(reader, maxDepth);
+    decodedTransactionResult.result = TransactionResultResult.decode(reader, maxDepth);
+    decodedTransactionResult.ext = TransactionResultExt.decode(reader, maxDepth);
+    return decodedTransactionResult;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Int64.skip(stream, maxDepth);
+    TransactionResultResult.skip(stream, maxDepth);
+    TransactionResultExt.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "feeCharged", "result", "ext");
+    if (field.equals("feeCharged")) {
+      Int64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Int64.skip(stream, maxDepth);
+    }
+    if (field.equals("result")) {
+      TransactionResultResult.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      TransactionResultResult.skip(stream, maxDepth);
+    }
+    if (field.equals("ext")) {
+      TransactionResultExt.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      TransactionResultExt.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static TransactionResult fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static TransactionResult fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static TransactionResult fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -248,6 +322,42 @@ public class TransactionResult implements XdrElement {
       }
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 4;
+      switch (discriminant) {
+        case txFEE_BUMP_INNER_SUCCESS:
+        case txFEE_BUMP_INNER_FAILED:
+          size += innerResultPair.encodedSize();
+          break;
+        case txSUCCESS:
+        case txFAILED:
+          size += 4;
+          for (int i = 0; i < results.length; i++) {
+            size += results[i].encodedSize();
+          }
+          break;
+        case txTOO_EARLY:
+        case txTOO_LATE:
+        case txMISSING_OPERATION:
+        case txBAD_SEQ:
+        case txBAD_AUTH:
+        case txINSUFFICIENT_BALANCE:
+        case txNO_ACCOUNT:
+        case txINSUFFICIENT_FEE:
+        case txBAD_AUTH_EXTRA:
+        case txINTERNAL_ERROR:
+        case txNOT_SUPPORTED:
+        case txBAD_SPONSORSHIP:
+        case txBAD_MIN_SEQ_AGE_OR_GAP:
+        case txMALFORMED:
+        case txSOROBAN_INVALID:
+        case txFROZEN_KEY_ACCESSED:
+          break;
+      }
+      return size;
+    }
+
     public static TransactionResultResult decode(XdrDataInputStream stream, int maxDepth)
         throws IOException {
       if (maxDepth <= 0) {
@@ -309,16 +419,216 @@ public class TransactionResult implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static TransactionResultResult decode(XdrByteBufferReader reader, int maxDepth)
+        throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      TransactionResultResult decodedTransactionResultResult = new TransactionResultResult();
+      TransactionResultCode discriminant = TransactionResultCode.decode(reader, maxDepth);
+      decodedTransactionResultResult.setDiscriminant(discriminant);
+      switch (decodedTransactionResultResult.getDiscriminant()) {
+        case txFEE_BUMP_INNER_SUCCESS:
+        case txFEE_BUMP_INNER_FAILED:
+          decodedTransactionResultResult.innerResultPair =
+              InnerTransactionResultPair.decode(reader, maxDepth);
+          break;
+        case txSUCCESS:
+        case txFAILED:
+          int resultsSize = reader.readInt();
+          if (resultsSize < 0) {
+            throw new IOException("results size " + resultsSize + " is negative");
+          }
+          int resultsRemainingInputLen = reader.getRemainingInputLen();
+          if (resultsRemainingInputLen >= 0 && resultsRemainingInputLen < resultsSize) {
+            throw new IOException(
+                "results size "
+                    + resultsSize
+                    + " exceeds remaining input length "
+                    + resultsRemainingInputLen);
+          }
+          decodedTransactionResultResult.results = new OperationResult[resultsSize];
+          for (int i = 0; i < resultsSize; i++) {
+            decodedTransactionResultResult.results[i] = OperationResult.decode(reader, maxDepth);
+          }
+          break;
+        case txTOO_EARLY:
+        case txTOO_LATE:
+        case txMISSING_OPERATION:
+        case txBAD_SEQ:
+        case txBAD_AUTH:
+        case txINSUFFICIENT_BALANCE:
+        case txNO_ACCOUNT:
+        case txINSUFFICIENT_FEE:
+        case txBAD_AUTH_EXTRA:
+        case txINTERNAL_ERROR:
+        case txNOT_SUPPORTED:
+        case txBAD_SPONSORSHIP:
+        case txBAD_MIN_SEQ_AGE_OR_GAP:
+        case txMALFORMED:
+        case txSOROBAN_INVALID:
+        case txFROZEN_KEY_ACCESSED:
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+      return decodedTransactionResultResult;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      TransactionResultCode discriminant = TransactionResultCode.decode(stream, maxDepth);
+      switch (discriminant) {
+        case txFEE_BUMP_INNER_SUCCESS:
+        case txFEE_BUMP_INNER_FAILED:
+          InnerTransactionResultPair.skip(stream, maxDepth);
+          break;
+        case txSUCCESS:
+        case txFAILED:
+          int resultsSize = stream.readInt();
+          if (resultsSize < 0) {
+            throw new IOException("results size " + resultsSize + " is negative");
+          }
+          int resultsRemainingInputLen = stream.getRemainingInputLen();
+          if (resultsRemainingInputLen >= 0 && resultsRemainingInputLen < resultsSize) {
+            throw new IOException(
+                "results size "
+                    + resultsSize
+                    + " exceeds remaining input length "
+                    + resultsRemainingInputLen);
+          }
+          for (int i = 0; i < resultsSize; i++) {
+            OperationResult.skip(stream, maxDepth);
+          }
+          break;
+        case txTOO_EARLY:
+        case txTOO_LATE:
+        case txMISSING_OPERATION:
+        case txBAD_SEQ:
+        case txBAD_AUTH:
+        case txINSUFFICIENT_BALANCE:
+        case txNO_ACCOUNT:
+        case txINSUFFICIENT_FEE:
+        case txBAD_AUTH_EXTRA:
+        case txINTERNAL_ERROR:
+        case txNOT_SUPPORTED:
+        case txBAD_SPONSORSHIP:
+        case txBAD_MIN_SEQ_AGE_OR_GAP:
+        case txMALFORMED:
+        case txSOROBAN_INVALID:
+        case txFROZEN_KEY_ACCESSED:
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index, "innerResultPair", "results[*]");
+      TransactionResultCode discriminant = TransactionResultCode.decode(stream, maxDepth);
+      switch (discriminant) {
+        case txFEE_BUMP_INNER_SUCCESS:
+        case txFEE_BUMP_INNER_FAILED:
+          if (field.equals("innerResultPair")) {
+            InnerTransactionResultPair.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            InnerTransactionResultPair.skip(stream, maxDepth);
+          }
+          break;
+        case txSUCCESS:
+        case txFAILED:
+          if (field.equals("results")) {
+            int resultsSize = stream.readInt();
+            if (resultsSize < 0) {
+              throw new IOException("results size " + resultsSize + " is negative");
+            }
+            int resultsRemainingInputLen = stream.getRemainingInputLen();
+            if (resultsRemainingInputLen >= 0 && resultsRemainingInputLen < resultsSize) {
+              throw new IOException(
+                  "results size "
+                      + resultsSize
+                      + " exceeds remaining input length "
+                      + resultsRemainingInputLen);
+            }
+            for (int i = 0; i < resultsSize; i++) {
+              OperationResult.extract(stream, maxDepth, path, index + 1, values);
+            }
+          } else {
+            int resultsSize = stream.readInt();
+            if (resultsSize < 0) {
+              throw new IOException("results size " + resultsSize + " is negative");
+            }
+            int resultsRemainingInputLen = stream.getRemainingInputLen();
+            if (resultsRemainingInputLen >= 0 && resultsRemainingInputLen < resultsSize) {
+              throw new IOException(
+                  "results size "
+                      + resultsSize
+                      + " exceeds remaining input length "
+                      + resultsRemainingInputLen);
+            }
+            for (int i = 0; i < resultsSize; i++) {
+              OperationResult.skip(stream, maxDepth);
+            }
+          }
+          break;
+        case txTOO_EARLY:
+        case txTOO_LATE:
+        case txMISSING_OPERATION:
+        case txBAD_SEQ:
+        case txBAD_AUTH:
+        case txINSUFFICIENT_BALANCE:
+        case txNO_ACCOUNT:
+        case txINSUFFICIENT_FEE:
+        case txBAD_AUTH_EXTRA:
+        case txINTERNAL_ERROR:
+        case txNOT_SUPPORTED:
+        case txBAD_SPONSORSHIP:
+        case txBAD_MIN_SEQ_AGE_OR_GAP:
+        case txMALFORMED:
+        case txSOROBAN_INVALID:
+        case txFROZEN_KEY_ACCESSED:
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static TransactionResultResult fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static TransactionResultResult fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static TransactionResultResult fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
@@ -512,6 +822,16 @@ public class TransactionResult implements XdrElement {
       }
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 4;
+      switch (discriminant) {
+        case 0:
+          break;
+      }
+      return size;
+    }
+
     public static TransactionResultExt decode(XdrDataInputStream stream, int maxDepth)
         throws IOException {
       if (maxDepth <= 0) {
@@ -534,16 +854,81 @@ public class TransactionResult implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static TransactionResultExt decode(XdrByteBufferReader reader, int maxDepth)
+        throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      TransactionResultExt decodedTransactionResultExt = new TransactionResultExt();
+      Integer discriminant = reader.readInt();
+      decodedTransactionResultExt.setDiscriminant(discriminant);
+      switch (decodedTransactionResultExt.getDiscriminant()) {
+        case 0:
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+      return decodedTransactionResultExt;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      int discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index);
+      int discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static TransactionResultExt fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static TransactionResultExt fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static TransactionResultExt fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
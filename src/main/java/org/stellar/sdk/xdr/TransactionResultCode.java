@@ -3,8 +3,10 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import org.stellar.sdk.Base64Factory;
 
 /**
@@ -126,20 +128,98 @@ public enum TransactionResultCode implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static TransactionResultCode decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    // maxDepth is intentionally not checked - enums are leaf types with no recursive decoding
+    int value = reader.readInt();
+    switch (value) {
+      case 1:
+        return txFEE_BUMP_INNER_SUCCESS;
+      case 0:
+        return txSUCCESS;
+      case -1:
+        return txFAILED;
+      case -2:
+        return txTOO_EARLY;
+      case -3:
+        return txTOO_LATE;
+      case -4:
+        return txMISSING_OPERATION;
+      case -5:
+        return txBAD_SEQ;
+      case -6:
+        return txBAD_AUTH;
+      case -7:
+        return txINSUFFICIENT_BALANCE;
+      case -8:
+        return txNO_ACCOUNT;
+      case -9:
+        return txINSUFFICIENT_FEE;
+      case -10:
+        return txBAD_AUTH_EXTRA;
+      case -11:
+        return txINTERNAL_ERROR;
+      case -12:
+        return txNOT_SUPPORTED;
+      case -13:
+        return txFEE_BUMP_INNER_FAILED;
+      case -14:
+        return txBAD_SPONSORSHIP;
+      case -15:
+        return txBAD_MIN_SEQ_AGE_OR_GAP;
+      case -16:
+        return txMALFORMED;
+      case -17:
+        return txSOROBAN_INVALID;
+      case -18:
+        return txFROZEN_KEY_ACCESSED;
+      default:
+        throw new IllegalArgumentException("Unknown enum value: " + value);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    decode(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    path.checkEnd(index);
+    values.add(decode(stream, maxDepth));
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public void encode(XdrDataOutputStream stream) throws IOException {
     stream.writeInt(value);
   }
 
+  @Override
+  public int encodedSize() {
+    return 4;
+  }
+
   public static TransactionResultCode fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static TransactionResultCode fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static TransactionResultCode fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
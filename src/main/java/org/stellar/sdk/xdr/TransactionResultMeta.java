@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -59,6 +61,15 @@ public class TransactionResultMeta implements XdrElement {
     txApplyProcessing.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += result.encodedSize();
+    size += feeProcessing.encodedSize();
+    size += txApplyProcessing.encodedSize();
+    return size;
+  }
+
   public static TransactionResultMeta decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -76,16 +87,80 @@ public class TransactionResultMeta implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static TransactionResultMeta decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    TransactionResultMeta decodedTransactionResultMeta = new TransactionResultMeta();
+    decodedTransactionResultMeta.result = TransactionResultPair.decode(reader, maxDepth);
+    decodedTransactionResultMeta.feeProcessing = LedgerEntryChanges.decode(reader, maxDepth);
+    decodedTransactionResultMeta.txApplyProcessing = TransactionMeta.decode(reader, maxDepth);
+    return decodedTransactionResultMeta;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    TransactionResultPair.skip(stream, maxDepth);
+    LedgerEntryChanges.skip(stream, maxDepth);
+    TransactionMeta.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "result", "feeProcessing[*]", "txApplyProcessing");
+    if (field.equals("result")) {
+      TransactionResultPair.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      TransactionResultPair.skip(stream, maxDepth);
+    }
+    if (field.equals("feeProcessing")) {
+      LedgerEntryChanges.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      LedgerEntryChanges.skip(stream, maxDepth);
+    }
+    if (field.equals("txApplyProcessing")) {
+      TransactionMeta.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      TransactionMeta.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static TransactionResultMeta fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static TransactionResultMeta fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static TransactionResultMeta fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
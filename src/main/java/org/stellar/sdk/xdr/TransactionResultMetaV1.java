@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -81,6 +83,17 @@ public class TransactionResultMetaV1 implements XdrElement {
     postTxApplyFeeProcessing.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += ext.encodedSize();
+    size += result.encodedSize();
+    size += feeProcessing.encodedSize();
+    size += txApplyProcessing.encodedSize();
+    size += postTxApplyFeeProcessing.encodedSize();
+    return size;
+  }
+
   public static TransactionResultMetaV1 decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -101,16 +114,102 @@ public class TransactionResultMetaV1 implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static TransactionResultMetaV1 decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    TransactionResultMetaV1 decodedTransactionResultMetaV1 = new TransactionResultMetaV1();
+    decodedTransactionResultMetaV1.ext = ExtensionPoint.decode(reader, maxDepth);
+    decodedTransactionResultMetaV1.result = TransactionResultPair.decode(reader, maxDepth);
+    decodedTransactionResultMetaV1.feeProcessing = LedgerEntryChanges.decode(reader, maxDepth);
+    decodedTransactionResultMetaV1.txApplyProcessing = TransactionMeta.decode(reader, maxDepth);
+    decodedTransactionResultMetaV1.postTxApplyFeeProcessing =
+        LedgerEntryChanges.decode(reader, maxDepth);
+    return decodedTransactionResultMetaV1;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ExtensionPoint.skip(stream, maxDepth);
+    TransactionResultPair.skip(stream, maxDepth);
+    LedgerEntryChanges.skip(stream, maxDepth);
+    TransactionMeta.skip(stream, maxDepth);
+    LedgerEntryChanges.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field =
+        path.checkField(
+            index,
+            "ext",
+            "result",
+            "feeProcessing[*]",
+            "txApplyProcessing",
+            "postTxApplyFeeProcessing[*]");
+    if (field.equals("ext")) {
+      ExtensionPoint.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      ExtensionPoint.skip(stream, maxDepth);
+    }
+    if (field.equals("result")) {
+      TransactionResultPair.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      TransactionResultPair.skip(stream, maxDepth);
+    }
+    if (field.equals("feeProcessing")) {
+      LedgerEntryChanges.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      LedgerEntryChanges.skip(stream, maxDepth);
+    }
+    if (field.equals("txApplyProcessing")) {
+      TransactionMeta.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      TransactionMeta.skip(stream, maxDepth);
+    }
+    if (field.equals("postTxApplyFeeProcessing")) {
+      LedgerEntryChanges.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      LedgerEntryChanges.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static TransactionResultMetaV1 fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static TransactionResultMetaV1 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static TransactionResultMetaV1 fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
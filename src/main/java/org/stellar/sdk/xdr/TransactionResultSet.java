@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -44,6 +45,16 @@ public class TransactionResultSet implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    for (int i = 0; i < results.length; i++) {
+      size += results[i].encodedSize();
+    }
+    return size;
+  }
+
   public static TransactionResultSet decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -74,16 +85,123 @@ public class TransactionResultSet implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static TransactionResultSet decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    TransactionResultSet decodedTransactionResultSet = new TransactionResultSet();
+    int resultsSize = reader.readInt();
+    if (resultsSize < 0) {
+      throw new IOException("results size " + resultsSize + " is negative");
+    }
+    int resultsRemainingInputLen = reader.getRemainingInputLen();
+    if (resultsRemainingInputLen >= 0 && resultsRemainingInputLen < resultsSize) {
+      throw new IOException(
+          "results size "
+              + resultsSize
+              + " exceeds remaining input length "
+              + resultsRemainingInputLen);
+    }
+    decodedTransactionResultSet.results = new TransactionResultPair[resultsSize];
+    for (int i = 0; i < resultsSize; i++) {
+      decodedTransactionResultSet.results[i] = TransactionResultPair.decode(reader, maxDepth);
+    }
+    return decodedTransactionResultSet;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int resultsSize = stream.readInt();
+    if (resultsSize < 0) {
+      throw new IOException("results size " + resultsSize + " is negative");
+    }
+    int resultsRemainingInputLen = stream.getRemainingInputLen();
+    if (resultsRemainingInputLen >= 0 && resultsRemainingInputLen < resultsSize) {
+      throw new IOException(
+          "results size "
+              + resultsSize
+              + " exceeds remaining input length "
+              + resultsRemainingInputLen);
+    }
+    for (int i = 0; i < resultsSize; i++) {
+      TransactionResultPair.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "results[*]");
+    if (field.equals("results")) {
+      int resultsSize = stream.readInt();
+      if (resultsSize < 0) {
+        throw new IOException("results size " + resultsSize + " is negative");
+      }
+      int resultsRemainingInputLen = stream.getRemainingInputLen();
+      if (resultsRemainingInputLen >= 0 && resultsRemainingInputLen < resultsSize) {
+        throw new IOException(
+            "results size "
+                + resultsSize
+                + " exceeds remaining input length "
+                + resultsRemainingInputLen);
+      }
+      for (int i = 0; i < resultsSize; i++) {
+        TransactionResultPair.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int resultsSize = stream.readInt();
+      if (resultsSize < 0) {
+        throw new IOException("results size " + resultsSize + " is negative");
+      }
+      int resultsRemainingInputLen = stream.getRemainingInputLen();
+      if (resultsRemainingInputLen >= 0 && resultsRemainingInputLen < resultsSize) {
+        throw new IOException(
+            "results size "
+                + resultsSize
+                + " exceeds remaining input length "
+                + resultsRemainingInputLen);
+      }
+      for (int i = 0; i < resultsSize; i++) {
+        TransactionResultPair.skip(stream, maxDepth);
+      }
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static TransactionResultSet fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static TransactionResultSet fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static TransactionResultSet fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -54,6 +55,17 @@ public class TransactionSet implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += previousLedgerHash.encodedSize();
+    size += 4;
+    for (int i = 0; i < txs.length; i++) {
+      size += txs[i].encodedSize();
+    }
+    return size;
+  }
+
   public static TransactionSet decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -81,16 +93,117 @@ public class TransactionSet implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static TransactionSet decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    TransactionSet decodedTransactionSet = new TransactionSet();
+    decodedTransactionSet.previousLedgerHash = Hash.decode(reader, maxDepth);
+    int txsSize = reader.readInt();
+    if (txsSize < 0) {
+      throw new IOException("txs size " + txsSize + " is negative");
+    }
+    int txsRemainingInputLen = reader.getRemainingInputLen();
+    if (txsRemainingInputLen >= 0 && txsRemainingInputLen < txsSize) {
+      throw new IOException(
+          "txs size " + txsSize + " exceeds remaining input length " + txsRemainingInputLen);
+    }
+    decodedTransactionSet.txs = new TransactionEnvelope[txsSize];
+    for (int i = 0; i < txsSize; i++) {
+      decodedTransactionSet.txs[i] = TransactionEnvelope.decode(reader, maxDepth);
+    }
+    return decodedTransactionSet;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Hash.skip(stream, maxDepth);
+    int txsSize = stream.readInt();
+    if (txsSize < 0) {
+      throw new IOException("txs size " + txsSize + " is negative");
+    }
+    int txsRemainingInputLen = stream.getRemainingInputLen();
+    if (txsRemainingInputLen >= 0 && txsRemainingInputLen < txsSize) {
+      throw new IOException(
+          "txs size " + txsSize + " exceeds remaining input length " + txsRemainingInputLen);
+    }
+    for (int i = 0; i < txsSize; i++) {
+      TransactionEnvelope.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "previousLedgerHash", "txs[*]");
+    if (field.equals("previousLedgerHash")) {
+      Hash.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Hash.skip(stream, maxDepth);
+    }
+    if (field.equals("txs")) {
+      int txsSize = stream.readInt();
+      if (txsSize < 0) {
+        throw new IOException("txs size " + txsSize + " is negative");
+      }
+      int txsRemainingInputLen = stream.getRemainingInputLen();
+      if (txsRemainingInputLen >= 0 && txsRemainingInputLen < txsSize) {
+        throw new IOException(
+            "txs size " + txsSize + " exceeds remaining input length " + txsRemainingInputLen);
+      }
+      for (int i = 0; i < txsSize; i++) {
+        TransactionEnvelope.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int txsSize = stream.readInt();
+      if (txsSize < 0) {
+        throw new IOException("txs size " + txsSize + " is negative");
+      }
+      int txsRemainingInputLen = stream.getRemainingInputLen();
+      if (txsRemainingInputLen >= 0 && txsRemainingInputLen < txsSize) {
+        throw new IOException(
+            "txs size " + txsSize + " exceeds remaining input length " + txsRemainingInputLen);
+      }
+      for (int i = 0; i < txsSize; i++) {
+        TransactionEnvelope.skip(stream, maxDepth);
+      }
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static TransactionSet fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static TransactionSet fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static TransactionSet fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -54,6 +55,17 @@ public class TransactionSetV1 implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += previousLedgerHash.encodedSize();
+    size += 4;
+    for (int i = 0; i < phases.length; i++) {
+      size += phases[i].encodedSize();
+    }
+    return size;
+  }
+
   public static TransactionSetV1 decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -85,16 +97,130 @@ public class TransactionSetV1 implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static TransactionSetV1 decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    TransactionSetV1 decodedTransactionSetV1 = new TransactionSetV1();
+    decodedTransactionSetV1.previousLedgerHash = Hash.decode(reader, maxDepth);
+    int phasesSize = reader.readInt();
+    if (phasesSize < 0) {
+      throw new IOException("phases size " + phasesSize + " is negative");
+    }
+    int phasesRemainingInputLen = reader.getRemainingInputLen();
+    if (phasesRemainingInputLen >= 0 && phasesRemainingInputLen < phasesSize) {
+      throw new IOException(
+          "phases size "
+              + phasesSize
+              + " exceeds remaining input length "
+              + phasesRemainingInputLen);
+    }
+    decodedTransactionSetV1.phases = new TransactionPhase[phasesSize];
+    for (int i = 0; i < phasesSize; i++) {
+      decodedTransactionSetV1.phases[i] = TransactionPhase.decode(reader, maxDepth);
+    }
+    return decodedTransactionSetV1;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Hash.skip(stream, maxDepth);
+    int phasesSize = stream.readInt();
+    if (phasesSize < 0) {
+      throw new IOException("phases size " + phasesSize + " is negative");
+    }
+    int phasesRemainingInputLen = stream.getRemainingInputLen();
+    if (phasesRemainingInputLen >= 0 && phasesRemainingInputLen < phasesSize) {
+      throw new IOException(
+          "phases size "
+              + phasesSize
+              + " exceeds remaining input length "
+              + phasesRemainingInputLen);
+    }
+    for (int i = 0; i < phasesSize; i++) {
+      TransactionPhase.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "previousLedgerHash", "phases[*]");
+    if (field.equals("previousLedgerHash")) {
+      Hash.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Hash.skip(stream, maxDepth);
+    }
+    if (field.equals("phases")) {
+      int phasesSize = stream.readInt();
+      if (phasesSize < 0) {
+        throw new IOException("phases size " + phasesSize + " is negative");
+      }
+      int phasesRemainingInputLen = stream.getRemainingInputLen();
+      if (phasesRemainingInputLen >= 0 && phasesRemainingInputLen < phasesSize) {
+        throw new IOException(
+            "phases size "
+                + phasesSize
+                + " exceeds remaining input length "
+                + phasesRemainingInputLen);
+      }
+      for (int i = 0; i < phasesSize; i++) {
+        TransactionPhase.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int phasesSize = stream.readInt();
+      if (phasesSize < 0) {
+        throw new IOException("phases size " + phasesSize + " is negative");
+      }
+      int phasesRemainingInputLen = stream.getRemainingInputLen();
+      if (phasesRemainingInputLen >= 0 && phasesRemainingInputLen < phasesSize) {
+        throw new IOException(
+            "phases size "
+                + phasesSize
+                + " exceeds remaining input length "
+                + phasesRemainingInputLen);
+      }
+      for (int i = 0; i < phasesSize; i++) {
+        TransactionPhase.skip(stream, maxDepth);
+      }
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static TransactionSetV1 fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static TransactionSetV1 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static TransactionSetV1 fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
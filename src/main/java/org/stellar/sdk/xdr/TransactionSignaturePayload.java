@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -57,6 +59,14 @@ public class TransactionSignaturePayload implements XdrElement {
     taggedTransaction.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += networkId.encodedSize();
+    size += taggedTransaction.encodedSize();
+    return size;
+  }
+
   public static TransactionSignaturePayload decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -75,16 +85,76 @@ public class TransactionSignaturePayload implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static TransactionSignaturePayload decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    TransactionSignaturePayload decodedTransactionSignaturePayload =
+        new TransactionSignaturePayload();
+    decodedTransactionSignaturePayload.networkId = Hash.decode(reader, maxDepth);
+    decodedTransactionSignaturePayload.taggedTransaction =
+        TransactionSignaturePayloadTaggedTransaction.decode(reader, maxDepth);
+    return decodedTransactionSignaturePayload;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Hash.skip(stream, maxDepth);
+    TransactionSignaturePayloadTaggedTransaction.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "networkId", "taggedTransaction");
+    if (field.equals("networkId")) {
+      Hash.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Hash.skip(stream, maxDepth);
+    }
+    if (field.equals("taggedTransaction")) {
+      TransactionSignaturePayloadTaggedTransaction.extract(
+          stream, maxDepth, path, index + 1, values);
+    } else {
+      TransactionSignaturePayloadTaggedTransaction.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static TransactionSignaturePayload fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static TransactionSignaturePayload fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static TransactionSignaturePayload fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -169,6 +239,20 @@ public class TransactionSignaturePayload implements XdrElement {
       }
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 4;
+      switch (discriminant) {
+        case ENVELOPE_TYPE_TX:
+          size += tx.encodedSize();
+          break;
+        case ENVELOPE_TYPE_TX_FEE_BUMP:
+          size += feeBump.encodedSize();
+          break;
+      }
+      return size;
+    }
+
     public static TransactionSignaturePayloadTaggedTransaction decode(
         XdrDataInputStream stream, int maxDepth) throws IOException {
       if (maxDepth <= 0) {
@@ -200,6 +284,93 @@ public class TransactionSignaturePayload implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static TransactionSignaturePayloadTaggedTransaction decode(
+        XdrByteBufferReader reader, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      TransactionSignaturePayloadTaggedTransaction
+          decodedTransactionSignaturePayloadTaggedTransaction =
+              new TransactionSignaturePayloadTaggedTransaction();
+      EnvelopeType discriminant = EnvelopeType.decode(reader, maxDepth);
+      decodedTransactionSignaturePayloadTaggedTransaction.setDiscriminant(discriminant);
+      switch (decodedTransactionSignaturePayloadTaggedTransaction.getDiscriminant()) {
+        case ENVELOPE_TYPE_TX:
+          decodedTransactionSignaturePayloadTaggedTransaction.tx =
+              Transaction.decode(reader, maxDepth);
+          break;
+        case ENVELOPE_TYPE_TX_FEE_BUMP:
+          decodedTransactionSignaturePayloadTaggedTransaction.feeBump =
+              FeeBumpTransaction.decode(reader, maxDepth);
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+      return decodedTransactionSignaturePayloadTaggedTransaction;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      EnvelopeType discriminant = EnvelopeType.decode(stream, maxDepth);
+      switch (discriminant) {
+        case ENVELOPE_TYPE_TX:
+          Transaction.skip(stream, maxDepth);
+          break;
+        case ENVELOPE_TYPE_TX_FEE_BUMP:
+          FeeBumpTransaction.skip(stream, maxDepth);
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index, "tx", "feeBump");
+      EnvelopeType discriminant = EnvelopeType.decode(stream, maxDepth);
+      switch (discriminant) {
+        case ENVELOPE_TYPE_TX:
+          if (field.equals("tx")) {
+            Transaction.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            Transaction.skip(stream, maxDepth);
+          }
+          break;
+        case ENVELOPE_TYPE_TX_FEE_BUMP:
+          if (field.equals("feeBump")) {
+            FeeBumpTransaction.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            FeeBumpTransaction.skip(stream, maxDepth);
+          }
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static TransactionSignaturePayloadTaggedTransaction fromXdrBase64(String xdr)
         throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
@@ -208,10 +379,13 @@ public class TransactionSignaturePayload implements XdrElement {
 
     public static TransactionSignaturePayloadTaggedTransaction fromXdrByteArray(byte[] xdr)
         throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static TransactionSignaturePayloadTaggedTransaction fromXdrByteBuffer(ByteBuffer xdr)
+        throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -59,6 +60,17 @@ public class TransactionV1Envelope implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += tx.encodedSize();
+    size += 4;
+    for (int i = 0; i < signatures.length; i++) {
+      size += signatures[i].encodedSize();
+    }
+    return size;
+  }
+
   public static TransactionV1Envelope decode(XdrDataInputStream stream, int maxDepth)
       throws IOException {
     if (maxDepth <= 0) {
@@ -93,16 +105,142 @@ public class TransactionV1Envelope implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static TransactionV1Envelope decode(XdrByteBufferReader reader, int maxDepth)
+      throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    TransactionV1Envelope decodedTransactionV1Envelope = new TransactionV1Envelope();
+    decodedTransactionV1Envelope.tx = Transaction.decode(reader, maxDepth);
+    int signaturesSize = reader.readInt();
+    if (signaturesSize < 0) {
+      throw new IOException("signatures size " + signaturesSize + " is negative");
+    }
+    if (signaturesSize > 20) {
+      throw new IOException("signatures size " + signaturesSize + " exceeds max size 20");
+    }
+    int signaturesRemainingInputLen = reader.getRemainingInputLen();
+    if (signaturesRemainingInputLen >= 0 && signaturesRemainingInputLen < signaturesSize) {
+      throw new IOException(
+          "signatures size "
+              + signaturesSize
+              + " exceeds remaining input length "
+              + signaturesRemainingInputLen);
+    }
+    decodedTransactionV1Envelope.signatures = new DecoratedSignature[signaturesSize];
+    for (int i = 0; i < signaturesSize; i++) {
+      decodedTransactionV1Envelope.signatures[i] = DecoratedSignature.decode(reader, maxDepth);
+    }
+    return decodedTransactionV1Envelope;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Transaction.skip(stream, maxDepth);
+    int signaturesSize = stream.readInt();
+    if (signaturesSize < 0) {
+      throw new IOException("signatures size " + signaturesSize + " is negative");
+    }
+    if (signaturesSize > 20) {
+      throw new IOException("signatures size " + signaturesSize + " exceeds max size 20");
+    }
+    int signaturesRemainingInputLen = stream.getRemainingInputLen();
+    if (signaturesRemainingInputLen >= 0 && signaturesRemainingInputLen < signaturesSize) {
+      throw new IOException(
+          "signatures size "
+              + signaturesSize
+              + " exceeds remaining input length "
+              + signaturesRemainingInputLen);
+    }
+    for (int i = 0; i < signaturesSize; i++) {
+      DecoratedSignature.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "tx", "signatures[*]");
+    if (field.equals("tx")) {
+      Transaction.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Transaction.skip(stream, maxDepth);
+    }
+    if (field.equals("signatures")) {
+      int signaturesSize = stream.readInt();
+      if (signaturesSize < 0) {
+        throw new IOException("signatures size " + signaturesSize + " is negative");
+      }
+      if (signaturesSize > 20) {
+        throw new IOException("signatures size " + signaturesSize + " exceeds max size 20");
+      }
+      int signaturesRemainingInputLen = stream.getRemainingInputLen();
+      if (signaturesRemainingInputLen >= 0 && signaturesRemainingInputLen < signaturesSize) {
+        throw new IOException(
+            "signatures size "
+                + signaturesSize
+                + " exceeds remaining input length "
+                + signaturesRemainingInputLen);
+      }
+      for (int i = 0; i < signaturesSize; i++) {
+        DecoratedSignature.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int signaturesSize = stream.readInt();
+      if (signaturesSize < 0) {
+        throw new IOException("signatures size " + signaturesSize + " is negative");
+      }
+      if (signaturesSize > 20) {
+        throw new IOException("signatures size " + signaturesSize + " exceeds max size 20");
+      }
+      int signaturesRemainingInputLen = stream.getRemainingInputLen();
+      if (signaturesRemainingInputLen >= 0 && signaturesRemainingInputLen < signaturesSize) {
+        throw new IOException(
+            "signatures size "
+                + signaturesSize
+                + " exceeds remaining input length "
+                + signaturesRemainingInputLen);
+      }
+      for (int i = 0; i < signaturesSize; i++) {
+        DecoratedSignature.skip(stream, maxDepth);
+      }
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static TransactionV1Envelope fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static TransactionV1Envelope fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static TransactionV1Envelope fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -3,9 +3,11 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -112,6 +114,18 @@ public class TrustLineEntry implements XdrElement {
     ext.encode(stream);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += accountID.encodedSize();
+    size += asset.encodedSize();
+    size += balance.encodedSize();
+    size += limit.encodedSize();
+    size += flags.encodedSize();
+    size += ext.encodedSize();
+    return size;
+  }
+
   public static TrustLineEntry decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -131,16 +145,100 @@ public class TrustLineEntry implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static TrustLineEntry decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    TrustLineEntry decodedTrustLineEntry = new TrustLineEntry();
+    decodedTrustLineEntry.accountID = AccountID.decode(reader, maxDepth);
+    decodedTrustLineEntry.asset = TrustLineAsset.decode(reader, maxDepth);
+    decodedTrustLineEntry.balance = Int64.decode(reader, maxDepth);
+    decodedTrustLineEntry.limit = Int64.decode(reader, maxDepth);
+    decodedTrustLineEntry.flags = Uint32.decode(reader, maxDepth);
+    decodedTrustLineEntry.ext = TrustLineEntryExt.decode(reader, maxDepth);
+    return decodedTrustLineEntry;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    AccountID.skip(stream, maxDepth);
+    TrustLineAsset.skip(stream, maxDepth);
+    Int64.skip(stream, maxDepth);
+    Int64.skip(stream, maxDepth);
+    Uint32.skip(stream, maxDepth);
+    TrustLineEntryExt.skip(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "accountID", "asset", "balance", "limit", "flags", "ext");
+    if (field.equals("accountID")) {
+      AccountID.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      AccountID.skip(stream, maxDepth);
+    }
+    if (field.equals("asset")) {
+      TrustLineAsset.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      TrustLineAsset.skip(stream, maxDepth);
+    }
+    if (field.equals("balance")) {
+      Int64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Int64.skip(stream, maxDepth);
+    }
+    if (field.equals("limit")) {
+      Int64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Int64.skip(stream, maxDepth);
+    }
+    if (field.equals("flags")) {
+      Uint32.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint32.skip(stream, maxDepth);
+    }
+    if (field.equals("ext")) {
+      TrustLineEntryExt.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      TrustLineEntryExt.skip(stream, maxDepth);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static TrustLineEntry fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static TrustLineEntry fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static TrustLineEntry fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -233,6 +331,19 @@ public class TrustLineEntry implements XdrElement {
       }
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 4;
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          size += v1.encodedSize();
+          break;
+      }
+      return size;
+    }
+
     public static TrustLineEntryExt decode(XdrDataInputStream stream, int maxDepth)
         throws IOException {
       if (maxDepth <= 0) {
@@ -258,16 +369,94 @@ public class TrustLineEntry implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static TrustLineEntryExt decode(XdrByteBufferReader reader, int maxDepth)
+        throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      TrustLineEntryExt decodedTrustLineEntryExt = new TrustLineEntryExt();
+      Integer discriminant = reader.readInt();
+      decodedTrustLineEntryExt.setDiscriminant(discriminant);
+      switch (decodedTrustLineEntryExt.getDiscriminant()) {
+        case 0:
+          break;
+        case 1:
+          decodedTrustLineEntryExt.v1 = TrustLineEntryV1.decode(reader, maxDepth);
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+      return decodedTrustLineEntryExt;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      int discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          TrustLineEntryV1.skip(stream, maxDepth);
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index, "v1");
+      int discriminant = stream.readInt();
+      switch (discriminant) {
+        case 0:
+          break;
+        case 1:
+          if (field.equals("v1")) {
+            TrustLineEntryV1.extract(stream, maxDepth, path, index + 1, values);
+          } else {
+            TrustLineEntryV1.skip(stream, maxDepth);
+          }
+          break;
+        default:
+          throw new IOException("Unknown discriminant value: " + discriminant);
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static TrustLineEntryExt fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static TrustLineEntryExt fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static TrustLineEntryExt fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
@@ -368,6 +557,14 @@ public class TrustLineEntry implements XdrElement {
         ext.encode(stream);
       }
 
+      @Override
+      public int encodedSize() {
+        int size = 0;
+        size += liabilities.encodedSize();
+        size += ext.encodedSize();
+        return size;
+      }
+
       public static TrustLineEntryV1 decode(XdrDataInputStream stream, int maxDepth)
           throws IOException {
         if (maxDepth <= 0) {
@@ -384,16 +581,74 @@ public class TrustLineEntry implements XdrElement {
         return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
       }
 
+      public static TrustLineEntryV1 decode(XdrByteBufferReader reader, int maxDepth)
+          throws IOException {
+        if (maxDepth <= 0) {
+          throw new IOException("Maximum decoding depth reached");
+        }
+        maxDepth -= 1;
+        TrustLineEntryV1 decodedTrustLineEntryV1 = new TrustLineEntryV1();
+        decodedTrustLineEntryV1.liabilities = Liabilities.decode(reader, maxDepth);
+        decodedTrustLineEntryV1.ext = TrustLineEntryV1Ext.decode(reader, maxDepth);
+        return decodedTrustLineEntryV1;
+      }
+
+      public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+        if (maxDepth <= 0) {
+          throw new IOException("Maximum decoding depth reached");
+        }
+        maxDepth -= 1;
+        Liabilities.skip(stream, maxDepth);
+        TrustLineEntryV1Ext.skip(stream, maxDepth);
+      }
+
+      public static void skip(XdrDataInputStream stream) throws IOException {
+        skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+      }
+
+      static void extract(
+          XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+          throws IOException {
+        if (index == path.size()) {
+          values.add(decode(stream, maxDepth));
+          return;
+        }
+        if (maxDepth <= 0) {
+          throw new IOException("Maximum decoding depth reached");
+        }
+        maxDepth -= 1;
+        String field = path.checkField(index, "liabilities", "ext");
+        if (field.equals("liabilities")) {
+          Liabilities.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          Liabilities.skip(stream, maxDepth);
+        }
+        if (field.equals("ext")) {
+          TrustLineEntryV1Ext.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          TrustLineEntryV1Ext.skip(stream, maxDepth);
+        }
+      }
+
+      public static List<Object> extract(XdrDataInputStream stream, XdrPath path)
+          throws IOException {
+        List<Object> values = new ArrayList<>();
+        extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+        return values;
+      }
+
       public static TrustLineEntryV1 fromXdrBase64(String xdr) throws IOException {
         byte[] bytes = Base64Factory.getInstance().decode(xdr);
         return fromXdrByteArray(bytes);
       }
 
       public static TrustLineEntryV1 fromXdrByteArray(byte[] xdr) throws IOException {
-        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-        XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-        xdrDataInputStream.setMaxInputLen(xdr.length);
-        return decode(xdrDataInputStream);
+        return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+      }
+
+      public static TrustLineEntryV1 fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+        XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+        return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
       }
 
       @Override
@@ -466,6 +721,19 @@ public class TrustLineEntry implements XdrElement {
           }
         }
 
+        @Override
+        public int encodedSize() {
+          int size = 4;
+          switch (discriminant) {
+            case 0:
+              break;
+            case 2:
+              size += v2.encodedSize();
+              break;
+          }
+          return size;
+        }
+
         public static TrustLineEntryV1Ext decode(XdrDataInputStream stream, int maxDepth)
             throws IOException {
           if (maxDepth <= 0) {
@@ -491,16 +759,95 @@ public class TrustLineEntry implements XdrElement {
           return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
         }
 
+        public static TrustLineEntryV1Ext decode(XdrByteBufferReader reader, int maxDepth)
+            throws IOException {
+          if (maxDepth <= 0) {
+            throw new IOException("Maximum decoding depth reached");
+          }
+          maxDepth -= 1;
+          TrustLineEntryV1Ext decodedTrustLineEntryV1Ext = new TrustLineEntryV1Ext();
+          Integer discriminant = reader.readInt();
+          decodedTrustLineEntryV1Ext.setDiscriminant(discriminant);
+          switch (decodedTrustLineEntryV1Ext.getDiscriminant()) {
+            case 0:
+              break;
+            case 2:
+              decodedTrustLineEntryV1Ext.v2 = TrustLineEntryExtensionV2.decode(reader, maxDepth);
+              break;
+            default:
+              throw new IOException("Unknown discriminant value: " + discriminant);
+          }
+          return decodedTrustLineEntryV1Ext;
+        }
+
+        public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+          if (maxDepth <= 0) {
+            throw new IOException("Maximum decoding depth reached");
+          }
+          maxDepth -= 1;
+          int discriminant = stream.readInt();
+          switch (discriminant) {
+            case 0:
+              break;
+            case 2:
+              TrustLineEntryExtensionV2.skip(stream, maxDepth);
+              break;
+            default:
+              throw new IOException("Unknown discriminant value: " + discriminant);
+          }
+        }
+
+        public static void skip(XdrDataInputStream stream) throws IOException {
+          skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+        }
+
+        static void extract(
+            XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+            throws IOException {
+          if (index == path.size()) {
+            values.add(decode(stream, maxDepth));
+            return;
+          }
+          if (maxDepth <= 0) {
+            throw new IOException("Maximum decoding depth reached");
+          }
+          maxDepth -= 1;
+          String field = path.checkField(index, "v2");
+          int discriminant = stream.readInt();
+          switch (discriminant) {
+            case 0:
+              break;
+            case 2:
+              if (field.equals("v2")) {
+                TrustLineEntryExtensionV2.extract(stream, maxDepth, path, index + 1, values);
+              } else {
+                TrustLineEntryExtensionV2.skip(stream, maxDepth);
+              }
+              break;
+            default:
+              throw new IOException("Unknown discriminant value: " + discriminant);
+          }
+        }
+
+        public static List<Object> extract(XdrDataInputStream stream, XdrPath path)
+            throws IOException {
+          List<Object> values = new ArrayList<>();
+          extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+          return values;
+        }
+
         public static TrustLineEntryV1Ext fromXdrBase64(String xdr) throws IOException {
           byte[] bytes = Base64Factory.getInstance().decode(xdr);
           return fromXdrByteArray(bytes);
         }
 
         public static TrustLineEntryV1Ext fromXdrByteArray(byte[] xdr) throws IOException {
-          ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-          XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-          xdrDataInputStream.setMaxInputLen(xdr.length);
-          return decode(xdrDataInputStream);
+          return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+        }
+
+        public static TrustLineEntryV1Ext fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+          XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+          return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
         }
 
         @Override
@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -41,6 +42,16 @@ public class TxAdvertVector implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    for (int i = 0; i < TxAdvertVector.length; i++) {
+      size += TxAdvertVector[i].encodedSize();
+    }
+    return size;
+  }
+
   public static TxAdvertVector decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -74,16 +85,115 @@ public class TxAdvertVector implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static TxAdvertVector decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    TxAdvertVector decodedTxAdvertVector = new TxAdvertVector();
+    int TxAdvertVectorSize = reader.readInt();
+    if (TxAdvertVectorSize < 0) {
+      throw new IOException("TxAdvertVector size " + TxAdvertVectorSize + " is negative");
+    }
+    if (TxAdvertVectorSize > 1000) {
+      throw new IOException("TxAdvertVector size " + TxAdvertVectorSize + " exceeds max size 1000");
+    }
+    int TxAdvertVectorRemainingInputLen = reader.getRemainingInputLen();
+    if (TxAdvertVectorRemainingInputLen >= 0
+        && TxAdvertVectorRemainingInputLen < TxAdvertVectorSize) {
+      throw new IOException(
+          "TxAdvertVector size "
+              + TxAdvertVectorSize
+              + " exceeds remaining input length "
+              + TxAdvertVectorRemainingInputLen);
+    }
+    decodedTxAdvertVector.TxAdvertVector = new Hash[TxAdvertVectorSize];
+    for (int i = 0; i < TxAdvertVectorSize; i++) {
+      decodedTxAdvertVector.TxAdvertVector[i] = Hash.decode(reader, maxDepth);
+    }
+    return decodedTxAdvertVector;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int TxAdvertVectorSize = stream.readInt();
+    if (TxAdvertVectorSize < 0) {
+      throw new IOException("TxAdvertVector size " + TxAdvertVectorSize + " is negative");
+    }
+    if (TxAdvertVectorSize > 1000) {
+      throw new IOException("TxAdvertVector size " + TxAdvertVectorSize + " exceeds max size 1000");
+    }
+    int TxAdvertVectorRemainingInputLen = stream.getRemainingInputLen();
+    if (TxAdvertVectorRemainingInputLen >= 0
+        && TxAdvertVectorRemainingInputLen < TxAdvertVectorSize) {
+      throw new IOException(
+          "TxAdvertVector size "
+              + TxAdvertVectorSize
+              + " exceeds remaining input length "
+              + TxAdvertVectorRemainingInputLen);
+    }
+    for (int i = 0; i < TxAdvertVectorSize; i++) {
+      Hash.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int TxAdvertVectorSize = stream.readInt();
+    if (TxAdvertVectorSize < 0) {
+      throw new IOException("TxAdvertVector size " + TxAdvertVectorSize + " is negative");
+    }
+    if (TxAdvertVectorSize > 1000) {
+      throw new IOException("TxAdvertVector size " + TxAdvertVectorSize + " exceeds max size 1000");
+    }
+    int TxAdvertVectorRemainingInputLen = stream.getRemainingInputLen();
+    if (TxAdvertVectorRemainingInputLen >= 0
+        && TxAdvertVectorRemainingInputLen < TxAdvertVectorSize) {
+      throw new IOException(
+          "TxAdvertVector size "
+              + TxAdvertVectorSize
+              + " exceeds remaining input length "
+              + TxAdvertVectorRemainingInputLen);
+    }
+    for (int i = 0; i < TxAdvertVectorSize; i++) {
+      Hash.extract(stream, maxDepth, path, index, values);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static TxAdvertVector fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static TxAdvertVector fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static TxAdvertVector fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
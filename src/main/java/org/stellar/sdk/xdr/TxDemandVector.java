@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -41,6 +42,16 @@ public class TxDemandVector implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    for (int i = 0; i < TxDemandVector.length; i++) {
+      size += TxDemandVector[i].encodedSize();
+    }
+    return size;
+  }
+
   public static TxDemandVector decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -74,16 +85,115 @@ public class TxDemandVector implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static TxDemandVector decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    TxDemandVector decodedTxDemandVector = new TxDemandVector();
+    int TxDemandVectorSize = reader.readInt();
+    if (TxDemandVectorSize < 0) {
+      throw new IOException("TxDemandVector size " + TxDemandVectorSize + " is negative");
+    }
+    if (TxDemandVectorSize > 1000) {
+      throw new IOException("TxDemandVector size " + TxDemandVectorSize + " exceeds max size 1000");
+    }
+    int TxDemandVectorRemainingInputLen = reader.getRemainingInputLen();
+    if (TxDemandVectorRemainingInputLen >= 0
+        && TxDemandVectorRemainingInputLen < TxDemandVectorSize) {
+      throw new IOException(
+          "TxDemandVector size "
+              + TxDemandVectorSize
+              + " exceeds remaining input length "
+              + TxDemandVectorRemainingInputLen);
+    }
+    decodedTxDemandVector.TxDemandVector = new Hash[TxDemandVectorSize];
+    for (int i = 0; i < TxDemandVectorSize; i++) {
+      decodedTxDemandVector.TxDemandVector[i] = Hash.decode(reader, maxDepth);
+    }
+    return decodedTxDemandVector;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int TxDemandVectorSize = stream.readInt();
+    if (TxDemandVectorSize < 0) {
+      throw new IOException("TxDemandVector size " + TxDemandVectorSize + " is negative");
+    }
+    if (TxDemandVectorSize > 1000) {
+      throw new IOException("TxDemandVector size " + TxDemandVectorSize + " exceeds max size 1000");
+    }
+    int TxDemandVectorRemainingInputLen = stream.getRemainingInputLen();
+    if (TxDemandVectorRemainingInputLen >= 0
+        && TxDemandVectorRemainingInputLen < TxDemandVectorSize) {
+      throw new IOException(
+          "TxDemandVector size "
+              + TxDemandVectorSize
+              + " exceeds remaining input length "
+              + TxDemandVectorRemainingInputLen);
+    }
+    for (int i = 0; i < TxDemandVectorSize; i++) {
+      Hash.skip(stream, maxDepth);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int TxDemandVectorSize = stream.readInt();
+    if (TxDemandVectorSize < 0) {
+      throw new IOException("TxDemandVector size " + TxDemandVectorSize + " is negative");
+    }
+    if (TxDemandVectorSize > 1000) {
+      throw new IOException("TxDemandVector size " + TxDemandVectorSize + " exceeds max size 1000");
+    }
+    int TxDemandVectorRemainingInputLen = stream.getRemainingInputLen();
+    if (TxDemandVectorRemainingInputLen >= 0
+        && TxDemandVectorRemainingInputLen < TxDemandVectorSize) {
+      throw new IOException(
+          "TxDemandVector size "
+              + TxDemandVectorSize
+              + " exceeds remaining input length "
+              + TxDemandVectorRemainingInputLen);
+    }
+    for (int i = 0; i < TxDemandVectorSize; i++) {
+      Hash.extract(stream, maxDepth, path, index, values);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static TxDemandVector fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static TxDemandVector fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static TxDemandVector fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
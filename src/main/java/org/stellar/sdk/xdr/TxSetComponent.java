@@ -3,8 +3,9 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -58,6 +59,17 @@ public class TxSetComponent implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 4;
+    switch (discriminant) {
+      case TXSET_COMP_TXS_MAYBE_DISCOUNTED_FEE:
+        size += txsMaybeDiscountedFee.encodedSize();
+        break;
+    }
+    return size;
+  }
+
   public static TxSetComponent decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -81,16 +93,88 @@ public class TxSetComponent implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static TxSetComponent decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    TxSetComponent decodedTxSetComponent = new TxSetComponent();
+    TxSetComponentType discriminant = TxSetComponentType.decode(reader, maxDepth);
+    decodedTxSetComponent.setDiscriminant(discriminant);
+    switch (decodedTxSetComponent.getDiscriminant()) {
+      case TXSET_COMP_TXS_MAYBE_DISCOUNTED_FEE:
+        decodedTxSetComponent.txsMaybeDiscountedFee =
+            TxSetComponentTxsMaybeDiscountedFee.decode(reader, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    return decodedTxSetComponent;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    TxSetComponentType discriminant = TxSetComponentType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case TXSET_COMP_TXS_MAYBE_DISCOUNTED_FEE:
+        TxSetComponentTxsMaybeDiscountedFee.skip(stream, maxDepth);
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "txsMaybeDiscountedFee");
+    TxSetComponentType discriminant = TxSetComponentType.decode(stream, maxDepth);
+    switch (discriminant) {
+      case TXSET_COMP_TXS_MAYBE_DISCOUNTED_FEE:
+        if (field.equals("txsMaybeDiscountedFee")) {
+          TxSetComponentTxsMaybeDiscountedFee.extract(stream, maxDepth, path, index + 1, values);
+        } else {
+          TxSetComponentTxsMaybeDiscountedFee.skip(stream, maxDepth);
+        }
+        break;
+      default:
+        throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static TxSetComponent fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static TxSetComponent fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static TxSetComponent fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -181,6 +265,20 @@ public class TxSetComponent implements XdrElement {
       }
     }
 
+    @Override
+    public int encodedSize() {
+      int size = 0;
+      size += 4;
+      if (baseFee != null) {
+        size += baseFee.encodedSize();
+      }
+      size += 4;
+      for (int i = 0; i < txs.length; i++) {
+        size += txs[i].encodedSize();
+      }
+      return size;
+    }
+
     public static TxSetComponentTxsMaybeDiscountedFee decode(
         XdrDataInputStream stream, int maxDepth) throws IOException {
       if (maxDepth <= 0) {
@@ -215,6 +313,120 @@ public class TxSetComponent implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static TxSetComponentTxsMaybeDiscountedFee decode(
+        XdrByteBufferReader reader, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      TxSetComponentTxsMaybeDiscountedFee decodedTxSetComponentTxsMaybeDiscountedFee =
+          new TxSetComponentTxsMaybeDiscountedFee();
+      boolean baseFeePresent = reader.readXdrBoolean();
+      if (baseFeePresent) {
+        decodedTxSetComponentTxsMaybeDiscountedFee.baseFee = Int64.decode(reader, maxDepth);
+      }
+      int txsSize = reader.readInt();
+      if (txsSize < 0) {
+        throw new IOException("txs size " + txsSize + " is negative");
+      }
+      int txsRemainingInputLen = reader.getRemainingInputLen();
+      if (txsRemainingInputLen >= 0 && txsRemainingInputLen < txsSize) {
+        throw new IOException(
+            "txs size " + txsSize + " exceeds remaining input length " + txsRemainingInputLen);
+      }
+      decodedTxSetComponentTxsMaybeDiscountedFee.txs = new TransactionEnvelope[txsSize];
+      for (int i = 0; i < txsSize; i++) {
+        decodedTxSetComponentTxsMaybeDiscountedFee.txs[i] =
+            TransactionEnvelope.decode(reader, maxDepth);
+      }
+      return decodedTxSetComponentTxsMaybeDiscountedFee;
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      boolean baseFeePresent = stream.readXdrBoolean();
+      if (baseFeePresent) {
+        Int64.skip(stream, maxDepth);
+      }
+      int txsSize = stream.readInt();
+      if (txsSize < 0) {
+        throw new IOException("txs size " + txsSize + " is negative");
+      }
+      int txsRemainingInputLen = stream.getRemainingInputLen();
+      if (txsRemainingInputLen >= 0 && txsRemainingInputLen < txsSize) {
+        throw new IOException(
+            "txs size " + txsSize + " exceeds remaining input length " + txsRemainingInputLen);
+      }
+      for (int i = 0; i < txsSize; i++) {
+        TransactionEnvelope.skip(stream, maxDepth);
+      }
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(
+        XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+        throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index, "baseFee", "txs[*]");
+      if (field.equals("baseFee")) {
+        boolean baseFeePresent = stream.readXdrBoolean();
+        if (baseFeePresent) {
+          Int64.extract(stream, maxDepth, path, index + 1, values);
+        }
+      } else {
+        boolean baseFeePresent = stream.readXdrBoolean();
+        if (baseFeePresent) {
+          Int64.skip(stream, maxDepth);
+        }
+      }
+      if (field.equals("txs")) {
+        int txsSize = stream.readInt();
+        if (txsSize < 0) {
+          throw new IOException("txs size " + txsSize + " is negative");
+        }
+        int txsRemainingInputLen = stream.getRemainingInputLen();
+        if (txsRemainingInputLen >= 0 && txsRemainingInputLen < txsSize) {
+          throw new IOException(
+              "txs size " + txsSize + " exceeds remaining input length " + txsRemainingInputLen);
+        }
+        for (int i = 0; i < txsSize; i++) {
+          TransactionEnvelope.extract(stream, maxDepth, path, index + 1, values);
+        }
+      } else {
+        int txsSize = stream.readInt();
+        if (txsSize < 0) {
+          throw new IOException("txs size " + txsSize + " is negative");
+        }
+        int txsRemainingInputLen = stream.getRemainingInputLen();
+        if (txsRemainingInputLen >= 0 && txsRemainingInputLen < txsSize) {
+          throw new IOException(
+              "txs size " + txsSize + " exceeds remaining input length " + txsRemainingInputLen);
+        }
+        for (int i = 0; i < txsSize; i++) {
+          TransactionEnvelope.skip(stream, maxDepth);
+        }
+      }
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public static TxSetComponentTxsMaybeDiscountedFee fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
@@ -222,10 +434,13 @@ public class TxSetComponent implements XdrElement {
 
     public static TxSetComponentTxsMaybeDiscountedFee fromXdrByteArray(byte[] xdr)
         throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static TxSetComponentTxsMaybeDiscountedFee fromXdrByteBuffer(ByteBuffer xdr)
+        throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
     @Override
@@ -3,8 +3,10 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -38,6 +40,13 @@ public class UpgradeType implements XdrElement {
     stream.write(getUpgradeType(), 0, UpgradeTypeSize);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += 4 + ((UpgradeType.length + 3) & ~3);
+    return size;
+  }
+
   public static UpgradeType decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -68,16 +77,109 @@ public class UpgradeType implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static UpgradeType decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    UpgradeType decodedUpgradeType = new UpgradeType();
+    int UpgradeTypeSize = reader.readInt();
+    if (UpgradeTypeSize < 0) {
+      throw new IOException("UpgradeType size " + UpgradeTypeSize + " is negative");
+    }
+    if (UpgradeTypeSize > 128) {
+      throw new IOException("UpgradeType size " + UpgradeTypeSize + " exceeds max size 128");
+    }
+    int UpgradeTypeRemainingInputLen = reader.getRemainingInputLen();
+    if (UpgradeTypeRemainingInputLen >= 0 && UpgradeTypeRemainingInputLen < UpgradeTypeSize) {
+      throw new IOException(
+          "UpgradeType size "
+              + UpgradeTypeSize
+              + " exceeds remaining input length "
+              + UpgradeTypeRemainingInputLen);
+    }
+    decodedUpgradeType.UpgradeType = new byte[UpgradeTypeSize];
+    reader.readPaddedData(decodedUpgradeType.UpgradeType, 0, UpgradeTypeSize);
+    return decodedUpgradeType;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int UpgradeTypeSize = stream.readInt();
+    if (UpgradeTypeSize < 0) {
+      throw new IOException("UpgradeType size " + UpgradeTypeSize + " is negative");
+    }
+    if (UpgradeTypeSize > 128) {
+      throw new IOException("UpgradeType size " + UpgradeTypeSize + " exceeds max size 128");
+    }
+    int UpgradeTypeRemainingInputLen = stream.getRemainingInputLen();
+    if (UpgradeTypeRemainingInputLen >= 0 && UpgradeTypeRemainingInputLen < UpgradeTypeSize) {
+      throw new IOException(
+          "UpgradeType size "
+              + UpgradeTypeSize
+              + " exceeds remaining input length "
+              + UpgradeTypeRemainingInputLen);
+    }
+    stream.skipPaddedData(UpgradeTypeSize);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int UpgradeTypeSize = stream.readInt();
+    if (UpgradeTypeSize < 0) {
+      throw new IOException("UpgradeType size " + UpgradeTypeSize + " is negative");
+    }
+    if (UpgradeTypeSize > 128) {
+      throw new IOException("UpgradeType size " + UpgradeTypeSize + " exceeds max size 128");
+    }
+    int UpgradeTypeRemainingInputLen = stream.getRemainingInputLen();
+    if (UpgradeTypeRemainingInputLen >= 0 && UpgradeTypeRemainingInputLen < UpgradeTypeSize) {
+      throw new IOException(
+          "UpgradeType size "
+              + UpgradeTypeSize
+              + " exceeds remaining input length "
+              + UpgradeTypeRemainingInputLen);
+    }
+    path.checkEnd(index);
+    byte[] UpgradeTypeBytes = new byte[UpgradeTypeSize];
+    stream.readPaddedData(UpgradeTypeBytes, 0, UpgradeTypeSize);
+    values.add(UpgradeTypeBytes);
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static UpgradeType fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static UpgradeType fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static UpgradeType fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
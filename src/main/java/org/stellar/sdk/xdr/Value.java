@@ -3,8 +3,10 @@
 
 package org.stellar.sdk.xdr;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -35,6 +37,13 @@ public class Value implements XdrElement {
     stream.write(getValue(), 0, ValueSize);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += 4 + ((Value.length + 3) & ~3);
+    return size;
+  }
+
   public static Value decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -59,16 +68,91 @@ public class Value implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  public static Value decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Value decodedValue = new Value();
+    int ValueSize = reader.readInt();
+    if (ValueSize < 0) {
+      throw new IOException("Value size " + ValueSize + " is negative");
+    }
+    int ValueRemainingInputLen = reader.getRemainingInputLen();
+    if (ValueRemainingInputLen >= 0 && ValueRemainingInputLen < ValueSize) {
+      throw new IOException(
+          "Value size " + ValueSize + " exceeds remaining input length " + ValueRemainingInputLen);
+    }
+    decodedValue.Value = new byte[ValueSize];
+    reader.readPaddedData(decodedValue.Value, 0, ValueSize);
+    return decodedValue;
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int ValueSize = stream.readInt();
+    if (ValueSize < 0) {
+      throw new IOException("Value size " + ValueSize + " is negative");
+    }
+    int ValueRemainingInputLen = stream.getRemainingInputLen();
+    if (ValueRemainingInputLen >= 0 && ValueRemainingInputLen < ValueSize) {
+      throw new IOException(
+          "Value size " + ValueSize + " exceeds remaining input length " + ValueRemainingInputLen);
+    }
+    stream.skipPaddedData(ValueSize);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(
+      XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values)
+      throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int ValueSize = stream.readInt();
+    if (ValueSize < 0) {
+      throw new IOException("Value size " + ValueSize + " is negative");
+    }
+    int ValueRemainingInputLen = stream.getRemainingInputLen();
+    if (ValueRemainingInputLen >= 0 && ValueRemainingInputLen < ValueSize) {
+      throw new IOException(
+          "Value size " + ValueSize + " exceeds remaining input length " + ValueRemainingInputLen);
+    }
+    path.checkEnd(index);
+    byte[] ValueBytes = new byte[ValueSize];
+    stream.readPaddedData(ValueBytes, 0, ValueSize);
+    values.add(ValueBytes);
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
   public static Value fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static Value fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static Value fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
   @Override
@@ -0,0 +1,128 @@
+package org.stellar.sdk.xdr;
+
+import java.util.Arrays;
+import java.util.regex.Pattern;
+import lombok.EqualsAndHashCode;
+
+/**
+ * A path to a field nested in an XDR value, which can be read out of the XDR encoding without
+ * decoding the rest of the value.
+ *
+ * <p>A path is a dot-separated list of struct field names and union arm names, starting from the
+ * type it is read from. Array fields can be written with a {@code [*]} suffix for readability;
+ * every element of an array is visited either way. The suffix is rejected on a field which is not
+ * an array. Each generated type has an {@code extract} method which reads the values at a path, and
+ * skips everything else:
+ *
+ * <pre>{@code
+ * XdrPath path =
+ *     XdrPath.of(
+ *         "v1.tx.operations[*].body.invokeHostFunctionOp.hostFunction.invokeContract.contractAddress");
+ * List<Object> contracts = TransactionEnvelope.extract(new XdrDataInputStream(buffer), path);
+ * }</pre>
+ *
+ * <p>The values are returned in the order they appear in the encoding, with the Java type of the
+ * field. An optional field which is not set, or a union arm which is not selected, has no values.
+ */
+@EqualsAndHashCode
+public final class XdrPath {
+  private static final Pattern FIELD = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+  private static final String ALL_ELEMENTS = "[*]";
+
+  @EqualsAndHashCode.Exclude private final String path;
+  private final String[] fields;
+  @EqualsAndHashCode.Exclude private final boolean[] allElements;
+
+  private XdrPath(String path, String[] fields, boolean[] allElements) {
+    this.path = path;
+    this.fields = fields;
+    this.allElements = allElements;
+  }
+
+  /**
+   * Parses a path.
+   *
+   * @param path the dot-separated field names, for example {@code tx.operations[*].body}
+   * @return the parsed path
+   * @throws IllegalArgumentException if the path is malformed
+   */
+  public static XdrPath of(String path) {
+    String[] fields = path.split("\\.", -1);
+    boolean[] allElements = new boolean[fields.length];
+    for (int i = 0; i < fields.length; i++) {
+      String field = fields[i];
+      if (field.endsWith(ALL_ELEMENTS)) {
+        field = field.substring(0, field.length() - ALL_ELEMENTS.length());
+        allElements[i] = true;
+      }
+      if (!FIELD.matcher(field).matches()) {
+        throw new IllegalArgumentException("Invalid field '" + fields[i] + "' in XDR path " + path);
+      }
+      fields[i] = field;
+    }
+    return new XdrPath(path, fields, allElements);
+  }
+
+  /**
+   * Returns the number of fields in the path.
+   *
+   * @return the number of fields
+   */
+  public int size() {
+    return fields.length;
+  }
+
+  /**
+   * Returns a field of the path, without its {@code [*]} suffix.
+   *
+   * @param index the index of the field
+   * @return the name of the field
+   */
+  public String get(int index) {
+    return fields[index];
+  }
+
+  /**
+   * Returns the field at the given index, checking that it is one of the fields of the type being
+   * read. The names of array fields end with {@code [*]}, which only they may have in the path.
+   */
+  String checkField(int index, String... names) {
+    String field = fields[index];
+    for (String name : names) {
+      boolean isArray = name.endsWith(ALL_ELEMENTS);
+      int length = isArray ? name.length() - ALL_ELEMENTS.length() : name.length();
+      if (length != field.length() || !name.startsWith(field)) {
+        continue;
+      }
+      if (allElements[index] && !isArray) {
+        throw new IllegalArgumentException(
+            "Field '" + field + ALL_ELEMENTS + "' in XDR path " + path + " is not an array");
+      }
+      return field;
+    }
+    throw new IllegalArgumentException(
+        "Unknown field '"
+            + field
+            + "' in XDR path "
+            + path
+            + ", expected one of "
+            + Arrays.toString(names));
+  }
+
+  /** Checks that the path does not continue past a value which has no fields. */
+  void checkEnd(int index) {
+    if (index != fields.length) {
+      throw new IllegalArgumentException(
+          "Field '"
+              + fields[index]
+              + "' in XDR path "
+              + path
+              + " is inside a value which has no fields");
+    }
+  }
+
+  @Override
+  public String toString() {
+    return path;
+  }
+}
@@ -46,6 +46,17 @@ public class XdrString implements XdrElement {
     stream.write(this.bytes, 0, this.bytes.length);
   }
 
+  /**
+   * Returns the size of the XDR encoding of this string: the length, then the bytes padded to a
+   * multiple of 4.
+   *
+   * @return the size of the XDR encoding in bytes
+   */
+  @Override
+  public int encodedSize() {
+    return 4 + ((this.bytes.length + 3) & ~3);
+  }
+
   /**
    * Decodes an {@link XdrString} from the provided stream.
    *
@@ -87,6 +98,70 @@ public class XdrString implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, maxSize);
   }
 
+  /**
+   * Decodes an {@link XdrString} from the provided buffer reader.
+   *
+   * @param reader the source XDR buffer reader
+   * @param maxDepth the maximum decoding depth, ignored for this leaf type
+   * @param maxSize the maximum allowed string size in bytes
+   * @return the decoded {@link XdrString}
+   * @throws IOException if the encoded size is invalid or the buffer is too short
+   */
+  public static XdrString decode(XdrByteBufferReader reader, int maxDepth, int maxSize)
+      throws IOException {
+    // maxDepth is intentionally not checked - XdrString is a leaf type with no recursive decoding
+    int size = reader.readInt();
+    if (size < 0) {
+      throw new IOException("String length " + size + " is negative");
+    }
+    if (size > maxSize) {
+      throw new IOException("String length " + size + " exceeds max size " + maxSize);
+    }
+    int remainingInputLen = reader.getRemainingInputLen();
+    if (remainingInputLen < size) {
+      throw new IOException(
+          "String length " + size + " exceeds remaining input length " + remainingInputLen);
+    }
+    byte[] bytes = new byte[size];
+    reader.readPaddedData(bytes, 0, size);
+    return new XdrString(bytes);
+  }
+
+  /**
+   * Reads past an {@link XdrString} in the provided stream without copying its bytes.
+   *
+   * @param stream the source XDR input stream
+   * @param maxDepth the maximum decoding depth, ignored for this leaf type
+   * @param maxSize the maximum allowed string size in bytes
+   * @throws IOException if the encoded size is invalid or an I/O error occurs
+   */
+  public static void skip(XdrDataInputStream stream, int maxDepth, int maxSize) throws IOException {
+    int size = stream.readInt();
+    if (size < 0) {
+      throw new IOException("String length " + size + " is negative");
+    }
+    if (size > maxSize) {
+      throw new IOException("String length " + size + " exceeds max size " + maxSize);
+    }
+    int remainingInputLen = stream.getRemainingInputLen();
+    if (remainingInputLen >= 0 && remainingInputLen < size) {
+      throw new IOException(
+          "String length " + size + " exceeds remaining input length " + remainingInputLen);
+    }
+    stream.skipPaddedData(size);
+  }
+
+  /**
+   * Reads past an {@link XdrString} in the provided stream using the default maximum depth.
+   *
+   * @param stream the source XDR input stream
+   * @param maxSize the maximum allowed string size in bytes
+   * @throws IOException if the encoded size is invalid or an I/O error occurs
+   */
+  public static void skip(XdrDataInputStream stream, int maxSize) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, maxSize);
+  }
+
   /**
    * Decodes an {@link XdrString} from a base64-encoded XDR string.
    *
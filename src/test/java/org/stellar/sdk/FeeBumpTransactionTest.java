@@ -64,6 +64,29 @@ public class FeeBumpTransactionTest {
     return createInnerTransaction(Transaction.MIN_BASE_FEE, network);
   }
 
+  @Test
+  public void testSignatureBaseFollowsInnerTransactionSignatures() {
+    Transaction inner = createInnerTransaction();
+    FeeBumpTransaction feeBump =
+        FeeBumpTransaction.createWithBaseFee(
+            "GDQNY3PBOJOKYZSRMK2S7LHHGWZIUISD4QORETLMXEWXBI7KFZZMKTL3",
+            Transaction.MIN_BASE_FEE * 2,
+            inner);
+    String hash = feeBump.hashHex();
+    String envelope = feeBump.toEnvelopeXdrBase64();
+    assertEquals(hash, feeBump.hashHex());
+
+    inner.sign(KeyPair.random());
+
+    assertNotEquals(hash, feeBump.hashHex());
+    assertNotEquals(envelope, feeBump.toEnvelopeXdrBase64());
+    assertEquals(
+        feeBump.toEnvelopeXdrBase64(),
+        FeeBumpTransaction.fromFeeBumpTransactionEnvelope(
+                feeBump.toEnvelopeXdr().getFeeBump(), Network.TESTNET)
+            .toEnvelopeXdrBase64());
+  }
+
   @Test
   public void testSetBaseFeeBelowNetworkMinimum() {
     Transaction inner = createInnerTransaction();
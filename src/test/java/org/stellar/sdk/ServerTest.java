@@ -1,12 +1,19 @@
 package org.stellar.sdk;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.net.URISyntaxException;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import okhttp3.Call;
+import okhttp3.EventListener;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import okhttp3.mockwebserver.Dispatcher;
@@ -1309,6 +1316,186 @@ public class ServerTest {
     }
   }
 
+  @Test
+  public void testSubmitTransactionFutureSuccess() throws Exception {
+    MockWebServer mockWebServer = new MockWebServer();
+    mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody(successResponse));
+    mockWebServer.start();
+    HttpUrl baseUrl = mockWebServer.url("");
+    Server server = new Server(baseUrl.toString());
+
+    TransactionResponse response =
+        server.submitTransactionFuture(this.buildTransaction(), true).get(10, TimeUnit.SECONDS);
+    assertEquals(response.getLedger(), Long.valueOf(826150L));
+    assertEquals(
+        response.getHash(), "2634d2cf5adcbd3487d1df042166eef53830115844fdde1588828667bf93ff42");
+    RecordedRequest request = mockWebServer.takeRequest();
+    assertEquals("POST", request.getMethod());
+    assertEquals("/transactions", request.getPath());
+  }
+
+  @Test
+  public void testSubmitTransactionFutureFail() throws Exception {
+    MockWebServer mockWebServer = new MockWebServer();
+    mockWebServer.enqueue(new MockResponse().setResponseCode(400).setBody(failureResponse));
+    mockWebServer.start();
+    HttpUrl baseUrl = mockWebServer.url("");
+    Server server = new Server(baseUrl.toString());
+
+    try {
+      server.submitTransactionFuture(this.buildTransaction(), true).get(10, TimeUnit.SECONDS);
+      fail("submitTransactionFuture didn't complete exceptionally");
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof BadRequestException);
+      BadRequestException cause = (BadRequestException) e.getCause();
+      assertEquals(400, cause.getCode().intValue());
+      assertEquals(
+          cause.getProblem().getExtras().getResultCodes().getTransactionResultCode(), "tx_failed");
+    }
+  }
+
+  @Test
+  public void testCheckMemoRequiredFuture() throws Exception {
+    MockWebServer mockWebServer = new MockWebServer();
+    mockWebServer.setDispatcher(buildTestCheckMemoRequiredMockDispatcher());
+    mockWebServer.start();
+    HttpUrl baseUrl = mockWebServer.url("");
+    Server server = new Server(baseUrl.toString());
+
+    KeyPair source =
+        KeyPair.fromSecretSeed("SDQXFKA32UVQHUTLYJ42N56ZUEM5PNVVI4XE7EA5QFMLA2DHDCQX3GPY");
+    Account account = new Account(source.getAccountId(), 1L);
+    Transaction transaction =
+        new TransactionBuilder(account, Network.PUBLIC)
+            .addOperation(
+                PaymentOperation.builder()
+                    .destination(DESTINATION_ACCOUNT_NO_FOUND)
+                    .asset(new AssetTypeNative())
+                    .amount(BigDecimal.valueOf(10))
+                    .build())
+            .addOperation(
+                PaymentOperation.builder()
+                    .destination(DESTINATION_ACCOUNT_NO_MEMO_REQUIRED)
+                    .asset(new AssetTypeNative())
+                    .amount(BigDecimal.valueOf(10))
+                    .build())
+            .addOperation(
+                PaymentOperation.builder()
+                    .destination(DESTINATION_ACCOUNT_MEMO_REQUIRED_B)
+                    .asset(new AssetTypeNative())
+                    .amount(BigDecimal.valueOf(10))
+                    .build())
+            .addOperation(
+                AccountMergeOperation.builder()
+                    .destination(DESTINATION_ACCOUNT_MEMO_REQUIRED_A)
+                    .build())
+            .setTimeout(TransactionPreconditions.TIMEOUT_INFINITE)
+            .setBaseFee(100)
+            .build();
+    transaction.sign(source);
+
+    for (CompletableFuture<TransactionResponse> future :
+        Arrays.asList(
+            server.submitTransactionFuture(transaction),
+            server.submitTransactionFuture(feeBump(transaction)))) {
+      try {
+        future.get(10, TimeUnit.SECONDS);
+        fail();
+      } catch (ExecutionException e) {
+        assertTrue(e.getCause() instanceof AccountRequiresMemoException);
+        AccountRequiresMemoException cause = (AccountRequiresMemoException) e.getCause();
+        assertEquals(2, cause.getOperationIndex());
+        assertEquals(DESTINATION_ACCOUNT_MEMO_REQUIRED_B, cause.getAccountId());
+      }
+    }
+
+    TransactionResponse response =
+        server.submitTransactionFuture(transaction, true).get(10, TimeUnit.SECONDS);
+    assertEquals(response.getLedger(), Long.valueOf(826150L));
+  }
+
+  @Test
+  public void testCheckMemoRequiredFutureFetchAccountError() throws Exception {
+    MockWebServer mockWebServer = new MockWebServer();
+    mockWebServer.setDispatcher(buildTestCheckMemoRequiredMockDispatcher());
+    mockWebServer.start();
+    HttpUrl baseUrl = mockWebServer.url("");
+    Server server = new Server(baseUrl.toString());
+
+    KeyPair source =
+        KeyPair.fromSecretSeed("SDQXFKA32UVQHUTLYJ42N56ZUEM5PNVVI4XE7EA5QFMLA2DHDCQX3GPY");
+    Account account = new Account(source.getAccountId(), 1L);
+    Transaction transaction =
+        new TransactionBuilder(account, Network.PUBLIC)
+            .addOperation(
+                PaymentOperation.builder()
+                    .destination(DESTINATION_ACCOUNT_FETCH_ERROR)
+                    .asset(new AssetTypeNative())
+                    .amount(BigDecimal.valueOf(10))
+                    .build())
+            .setTimeout(TransactionPreconditions.TIMEOUT_INFINITE)
+            .setBaseFee(100)
+            .build();
+    transaction.sign(source);
+
+    try {
+      server.submitTransactionFuture(transaction).get(10, TimeUnit.SECONDS);
+      fail();
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof BadRequestException);
+      assertEquals(400, ((BadRequestException) e.getCause()).getCode().intValue());
+    }
+  }
+
+  @Test
+  public void testCancellingSubmitTransactionFutureCancelsMemoCheck() throws Exception {
+    // The responses are held back until the calls were cancelled.
+    CountDownLatch released = new CountDownLatch(1);
+    MockWebServer mockWebServer = new MockWebServer();
+    mockWebServer.setDispatcher(
+        new Dispatcher() {
+          @Override
+          public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+            released.await(10, TimeUnit.SECONDS);
+            return new MockResponse().setResponseCode(503);
+          }
+        });
+    mockWebServer.start();
+    CountDownLatch cancelled = new CountDownLatch(1);
+    OkHttpClient httpClient =
+        new OkHttpClient.Builder()
+            .eventListener(
+                new EventListener() {
+                  @Override
+                  public void canceled(Call call) {
+                    cancelled.countDown();
+                  }
+                })
+            .build();
+    Server server = new Server(mockWebServer.url("").toString(), httpClient, httpClient);
+
+    KeyPair source =
+        KeyPair.fromSecretSeed("SDQXFKA32UVQHUTLYJ42N56ZUEM5PNVVI4XE7EA5QFMLA2DHDCQX3GPY");
+    Transaction transaction =
+        new TransactionBuilder(new Account(source.getAccountId(), 1L), Network.PUBLIC)
+            .addOperation(
+                PaymentOperation.builder()
+                    .destination(DESTINATION_ACCOUNT_NO_MEMO_REQUIRED)
+                    .asset(new AssetTypeNative())
+                    .amount(BigDecimal.valueOf(10))
+                    .build())
+            .setTimeout(TransactionPreconditions.TIMEOUT_INFINITE)
+            .setBaseFee(100)
+            .build();
+    transaction.sign(source);
+
+    assertTrue(server.submitTransactionFuture(transaction).cancel(true));
+    assertTrue(cancelled.await(5, TimeUnit.SECONDS));
+    released.countDown();
+    server.close();
+    mockWebServer.close();
+  }
+
   public void testLoadAccount() {}
 
   private Dispatcher buildTestCheckMemoRequiredMockDispatcher() {
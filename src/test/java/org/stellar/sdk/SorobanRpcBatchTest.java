@@ -0,0 +1,235 @@
+package org.stellar.sdk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.stellar.sdk.exception.SorobanRpcException;
+import org.stellar.sdk.exception.UnexpectedException;
+import org.stellar.sdk.responses.sorobanrpc.GetHealthResponse;
+import org.stellar.sdk.responses.sorobanrpc.GetLatestLedgerResponse;
+import org.stellar.sdk.responses.sorobanrpc.GetTransactionResponse;
+
+public class SorobanRpcBatchTest {
+  private static final String TX_HASH =
+      "06dd9ee70bf93bbfe219e2b31363ab5a0361cc6285328592e4d3d1fed4c9025c";
+  private static final String MISSING_TX_HASH =
+      "b9d0b2292c4e09e8eb22d036171491e87b8d2086bf8b265874c8d182cb9c9020";
+
+  private MockWebServer mockWebServer;
+  private SorobanServer server;
+  private final List<JsonArray> batches = new ArrayList<>();
+
+  @Before
+  public void setUp() throws IOException {
+    mockWebServer = new MockWebServer();
+    mockWebServer.setDispatcher(
+        new Dispatcher() {
+          @NotNull
+          @Override
+          public MockResponse dispatch(@NotNull RecordedRequest recordedRequest) {
+            JsonArray batch =
+                JsonParser.parseString(recordedRequest.getBody().readUtf8()).getAsJsonArray();
+            synchronized (batches) {
+              batches.add(batch);
+            }
+            // Reply in the reverse order, responses must be correlated by id.
+            JsonArray responses = new JsonArray();
+            for (int i = batch.size() - 1; i >= 0; i--) {
+              responses.add(respond(batch.get(i).getAsJsonObject()));
+            }
+            return new MockResponse().setResponseCode(200).setBody(responses.toString());
+          }
+        });
+    mockWebServer.start();
+    server = new SorobanServer(mockWebServer.url("").toString());
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    server.close();
+    mockWebServer.close();
+  }
+
+  @Test
+  public void testExecute() {
+    List<SorobanRpcBatch.Result<?>> results =
+        server
+            .batch()
+            .getHealth()
+            .getTransaction(TX_HASH)
+            .getTransaction(MISSING_TX_HASH)
+            .getLatestLedger()
+            .execute();
+
+    assertEquals(1, batches.size());
+    assertEquals(4, batches.get(0).size());
+    for (JsonElement request : batches.get(0)) {
+      assertEquals("2.0", request.getAsJsonObject().get("jsonrpc").getAsString());
+    }
+
+    assertEquals(4, results.size());
+    assertEquals("getHealth", results.get(0).getMethod());
+    GetHealthResponse health = results.get(0).as(GetHealthResponse.class).getOrThrow();
+    assertEquals("healthy", health.getStatus());
+
+    GetTransactionResponse transaction =
+        results.get(1).as(GetTransactionResponse.class).getOrThrow();
+    assertEquals(TX_HASH, transaction.getTxHash());
+
+    SorobanRpcBatch.Result<GetTransactionResponse> missing =
+        results.get(2).as(GetTransactionResponse.class);
+    assertFalse(missing.isSuccess());
+    assertNull(missing.getResult());
+    assertEquals(Integer.valueOf(-32602), missing.getError().getCode());
+    SorobanRpcException exception = assertThrows(SorobanRpcException.class, missing::getOrThrow);
+    assertEquals("transaction not found", exception.getMessage());
+
+    GetLatestLedgerResponse latestLedger =
+        results.get(3).as(GetLatestLedgerResponse.class).getOrThrow();
+    assertEquals(Integer.valueOf(1283415), latestLedger.getSequence());
+
+    assertThrows(IllegalArgumentException.class, () -> results.get(3).as(GetHealthResponse.class));
+  }
+
+  @Test
+  public void testExecuteSplitsLargeBatches() {
+    SorobanRpcBatch batch = server.batch(2);
+    for (int i = 0; i < 5; i++) {
+      batch.getTransaction(TX_HASH);
+    }
+    assertEquals(5, batch.size());
+
+    List<SorobanRpcBatch.Result<?>> results = batch.execute();
+    assertEquals(5, results.size());
+    assertEquals(3, batches.size());
+    assertEquals(Arrays.asList(2, 2, 1), Arrays.asList(size(0), size(1), size(2)));
+    for (SorobanRpcBatch.Result<?> result : results) {
+      assertTrue(result.isSuccess());
+    }
+  }
+
+  @Test
+  public void testExecuteAsync() throws Exception {
+    SorobanRpcBatch batch = server.batch(2).getHealth().getLatestLedger().getNetwork();
+    batch.getTransaction(MISSING_TX_HASH);
+
+    List<SorobanRpcBatch.Result<?>> results = batch.executeAsync().get(10, TimeUnit.SECONDS);
+    assertEquals(2, batches.size());
+    assertEquals(4, results.size());
+    assertEquals("getHealth", results.get(0).getMethod());
+    assertEquals("getLatestLedger", results.get(1).getMethod());
+    assertEquals("getNetwork", results.get(2).getMethod());
+    assertFalse(results.get(2).isSuccess());
+    assertEquals("getTransaction", results.get(3).getMethod());
+    assertFalse(results.get(3).isSuccess());
+  }
+
+  @Test
+  public void testEmptyBatch() {
+    assertTrue(server.batch().execute().isEmpty());
+    assertEquals(0, mockWebServer.getRequestCount());
+  }
+
+  @Test
+  public void testBatchRejected() {
+    mockWebServer.setDispatcher(
+        new Dispatcher() {
+          @NotNull
+          @Override
+          public MockResponse dispatch(@NotNull RecordedRequest recordedRequest) {
+            return new MockResponse()
+                .setResponseCode(200)
+                .setBody(
+                    "{\"jsonrpc\": \"2.0\", \"id\": null, \"error\": {\"code\": -32600, \"message\": \"invalid request\"}}");
+          }
+        });
+    SorobanRpcException exception =
+        assertThrows(SorobanRpcException.class, () -> server.batch().getHealth().execute());
+    assertEquals(Integer.valueOf(-32600), exception.getCode());
+  }
+
+  @Test
+  public void testMissingResponse() {
+    mockWebServer.setDispatcher(
+        new Dispatcher() {
+          @NotNull
+          @Override
+          public MockResponse dispatch(@NotNull RecordedRequest recordedRequest) {
+            return new MockResponse().setResponseCode(200).setBody("[]");
+          }
+        });
+    assertThrows(UnexpectedException.class, () -> server.batch().getHealth().execute());
+  }
+
+  @Test
+  public void testInvalidMaxBatchSize() {
+    assertThrows(IllegalArgumentException.class, () -> server.batch(0));
+  }
+
+  private int size(int batch) {
+    return batches.get(batch).size();
+  }
+
+  private static JsonObject respond(JsonObject request) {
+    JsonObject response = new JsonObject();
+    response.addProperty("jsonrpc", "2.0");
+    response.add("id", request.get("id"));
+    String method = request.get("method").getAsString();
+    JsonObject result = new JsonObject();
+    switch (method) {
+      case "getHealth":
+        result.addProperty("status", "healthy");
+        result.addProperty("latestLedger", 50000);
+        result.addProperty("oldestLedger", 1);
+        result.addProperty("ledgerRetentionWindow", 10000);
+        break;
+      case "getLatestLedger":
+        result.addProperty(
+            "id", "98908807544d6658094c94e00c1cff99e341b96ee1c59abbda39d5f4a3b20cdc");
+        result.addProperty("protocolVersion", 25);
+        result.addProperty("sequence", 1283415);
+        break;
+      case "getTransaction":
+        String hash = request.getAsJsonObject("params").get("hash").getAsString();
+        if (MISSING_TX_HASH.equals(hash)) {
+          return error(response, -32602, "transaction not found");
+        }
+        result.addProperty("status", "NOT_FOUND");
+        result.addProperty("txHash", hash);
+        result.addProperty("latestLedger", 1283415);
+        break;
+      default:
+        return error(response, -32601, "method not found");
+    }
+    response.add("result", result);
+    return response;
+  }
+
+  private static JsonObject error(JsonObject response, int code, String message) {
+    JsonObject error = new JsonObject();
+    error.addProperty("code", code);
+    error.addProperty("message", message);
+    response.add("error", error);
+    return response;
+  }
+}
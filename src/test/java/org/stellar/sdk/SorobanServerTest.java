@@ -5,6 +5,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.stellar.sdk.xdr.SCValType.SCV_LEDGER_KEY_CONTRACT_INSTANCE;
@@ -19,7 +20,14 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import okhttp3.Call;
+import okhttp3.EventListener;
 import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
 import okhttp3.mockwebserver.Dispatcher;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
@@ -1609,6 +1617,128 @@ public class SorobanServerTest {
     mockWebServer.close();
   }
 
+  @Test
+  public void testGetAccountAsync() throws Exception {
+    String accountId = "GDAT5HWTGIU4TSSZ4752OUC4SABDLTLZFRPZUJ3D6LKBNEPA7V2CIG54";
+    String filePath = "src/test/resources/soroban_server/get_account.json";
+    String json = new String(Files.readAllBytes(Paths.get(filePath)));
+    String notFoundFilePath = "src/test/resources/soroban_server/get_account_not_found.json";
+    String notFoundJson = new String(Files.readAllBytes(Paths.get(notFoundFilePath)));
+    MockWebServer mockWebServer = new MockWebServer();
+    mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody(json));
+    mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody(notFoundJson));
+    mockWebServer.start();
+
+    HttpUrl baseUrl = mockWebServer.url("");
+    SorobanServer server = new SorobanServer(baseUrl.toString());
+    TransactionBuilderAccount resp = server.getAccountAsync(accountId).get(10, TimeUnit.SECONDS);
+    assertEquals(resp.getAccountId(), accountId);
+    assertEquals(resp.getSequenceNumber().longValue(), 3418793967628L);
+    SorobanRpcRequest<GetLedgerEntriesRequest> sorobanRpcRequest =
+        gson.fromJson(
+            mockWebServer.takeRequest().getBody().readUtf8(),
+            new TypeToken<SorobanRpcRequest<GetLedgerEntriesRequest>>() {}.getType());
+    assertEquals("getLedgerEntries", sorobanRpcRequest.getMethod());
+    assertEquals(
+        new GetLedgerEntriesRequest(
+            singletonList("AAAAAAAAAADBPp7TMinJylnn+6dQXJACNc15LF+aJ2Py1BaR4P10JA==")),
+        sorobanRpcRequest.getParams());
+
+    try {
+      server.getAccountAsync(accountId).get(10, TimeUnit.SECONDS);
+      fail();
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof AccountNotFoundException);
+    }
+    server.close();
+    mockWebServer.close();
+  }
+
+  @Test
+  public void testCancellingDerivedFuturesCancelsCalls() throws Exception {
+    // The responses are held back until the calls were cancelled.
+    CountDownLatch released = new CountDownLatch(1);
+    MockWebServer mockWebServer = new MockWebServer();
+    mockWebServer.setDispatcher(
+        new Dispatcher() {
+          @NotNull
+          @Override
+          public MockResponse dispatch(@NotNull RecordedRequest request)
+              throws InterruptedException {
+            released.await(10, TimeUnit.SECONDS);
+            return new MockResponse().setResponseCode(503);
+          }
+        });
+    mockWebServer.start();
+    CountDownLatch cancelled = new CountDownLatch(3);
+    OkHttpClient httpClient =
+        new OkHttpClient.Builder()
+            .eventListener(
+                new EventListener() {
+                  @Override
+                  public void canceled(@NotNull Call call) {
+                    cancelled.countDown();
+                  }
+                })
+            .build();
+    SorobanServer server = new SorobanServer(mockWebServer.url("").toString(), httpClient);
+    String accountId = "GDAT5HWTGIU4TSSZ4752OUC4SABDLTLZFRPZUJ3D6LKBNEPA7V2CIG54";
+    Transaction transaction =
+        new TransactionBuilder(new Account(accountId, 1L), Network.TESTNET)
+            .addOperation(
+                InvokeHostFunctionOperation.invokeContractFunctionOperationBuilder(
+                        "CDCYWK73YTYFJZZSJ5V7EDFNHYBG4QN3VUNG2IGD27KJDDPNCZKBCBXK", "hello", null)
+                    .build())
+            .setBaseFee(100)
+            .setTimeout(30)
+            .build();
+
+    for (CompletableFuture<?> future :
+        Arrays.asList(
+            server.getAccountAsync(accountId),
+            server.getNetworkAsync(),
+            server.prepareTransactionAsync(transaction))) {
+      assertTrue(future.cancel(true));
+    }
+    assertTrue(cancelled.await(5, TimeUnit.SECONDS));
+    released.countDown();
+    server.close();
+    mockWebServer.close();
+  }
+
+  @Test
+  public void testGetAccountAsyncInvalidAddress() {
+    SorobanServer server = new SorobanServer("http://localhost");
+    CompletableFuture<TransactionBuilderAccount> future = server.getAccountAsync("invalid");
+    ExecutionException e = assertThrows(ExecutionException.class, future::get);
+    assertTrue(e.getCause() instanceof IllegalArgumentException);
+  }
+
+  @Test
+  public void testSorobanRpcErrorResponseAsync() throws Exception {
+    String filePath = "src/test/resources/soroban_server/soroban_rpc_error.json";
+    String json = new String(Files.readAllBytes(Paths.get(filePath)));
+    MockWebServer mockWebServer = new MockWebServer();
+    mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody(json));
+    mockWebServer.start();
+
+    HttpUrl baseUrl = mockWebServer.url("");
+    SorobanServer server = new SorobanServer(baseUrl.toString());
+    try {
+      server.getNetworkAsync().get(10, TimeUnit.SECONDS);
+      fail();
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof SorobanRpcException);
+      SorobanRpcException cause = (SorobanRpcException) e.getCause();
+      assertEquals(cause.getCode().longValue(), -32601L);
+      assertEquals(cause.getMessage(), "method not found");
+      assertEquals(cause.getData(), "mockTest");
+    }
+
+    server.close();
+    mockWebServer.close();
+  }
+
   private Transaction buildSorobanTransaction(
       SorobanTransactionData sorobanData, List<SorobanAuthorizationEntry> auth) {
     String contractId = "CDU3PZ4LXVETIFVLS33RDXLD63JZ5GXS7PCV2DJ7BBT6EBPA2AB7YR5H";
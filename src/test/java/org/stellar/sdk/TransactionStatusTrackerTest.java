@@ -0,0 +1,243 @@
+package org.stellar.sdk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.stellar.sdk.exception.BadResponseException;
+import org.stellar.sdk.exception.SorobanRpcException;
+import org.stellar.sdk.responses.sorobanrpc.GetTransactionResponse;
+
+public class TransactionStatusTrackerTest {
+  private static final String HASH_A =
+      "06dd9ee70bf93bbfe219e2b31363ab5a0361cc6285328592e4d3d1fed4c9025c";
+  private static final String HASH_B =
+      "b9d0b2292c4e09e8eb22d036171491e87b8d2086bf8b265874c8d182cb9c9020";
+  private static final String HASH_C =
+      "c9d0b2292c4e09e8eb22d036171491e87b8d2086bf8b265874c8d182cb9c9020";
+  private static final String HASH_ERROR =
+      "d9d0b2292c4e09e8eb22d036171491e87b8d2086bf8b265874c8d182cb9c9020";
+
+  /** The number of polls after which each hash is found, absent hashes are never found. */
+  private final Map<String, Integer> foundAfter = new ConcurrentHashMap<>();
+
+  /** The hashes whose HTTP request fails as a whole. */
+  private final Set<String> failingHashes = ConcurrentHashMap.newKeySet();
+
+  private final Map<String, AtomicInteger> polls = new ConcurrentHashMap<>();
+  private final AtomicInteger httpRequests = new AtomicInteger();
+  private MockWebServer mockWebServer;
+  private SorobanServer server;
+  private ScheduledExecutorService scheduler;
+
+  @Before
+  public void setUp() throws IOException {
+    mockWebServer = new MockWebServer();
+    mockWebServer.setDispatcher(
+        new Dispatcher() {
+          @NotNull
+          @Override
+          public MockResponse dispatch(@NotNull RecordedRequest recordedRequest) {
+            httpRequests.incrementAndGet();
+            JsonArray batch =
+                JsonParser.parseString(recordedRequest.getBody().readUtf8()).getAsJsonArray();
+            JsonArray responses = new JsonArray();
+            for (JsonElement request : batch) {
+              if (failingHashes.contains(hashOf(request.getAsJsonObject()))) {
+                return new MockResponse().setResponseCode(500);
+              }
+            }
+            for (JsonElement request : batch) {
+              responses.add(respond(request.getAsJsonObject()));
+            }
+            return new MockResponse().setResponseCode(200).setBody(responses.toString());
+          }
+        });
+    mockWebServer.start();
+    server = new SorobanServer(mockWebServer.url("").toString());
+    scheduler = Executors.newSingleThreadScheduledExecutor();
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    scheduler.shutdownNow();
+    server.close();
+    mockWebServer.close();
+  }
+
+  @Test
+  public void testTrackManyHashes() throws Exception {
+    foundAfter.put(HASH_A, 1);
+    foundAfter.put(HASH_B, 3);
+    try (TransactionStatusTracker tracker =
+        new TransactionStatusTracker(server, scheduler, Duration.ofMillis(10), 30, 100)) {
+      CompletableFuture<GetTransactionResponse> a = tracker.track(HASH_A);
+      CompletableFuture<GetTransactionResponse> b = tracker.track(HASH_B);
+      assertSame(a, tracker.track(HASH_A));
+      assertEquals(2, tracker.getPendingCount());
+
+      GetTransactionResponse responseA = a.get(10, TimeUnit.SECONDS);
+      assertEquals(GetTransactionResponse.GetTransactionStatus.SUCCESS, responseA.getStatus());
+      assertEquals(HASH_A, responseA.getTxHash());
+      GetTransactionResponse responseB = b.get(10, TimeUnit.SECONDS);
+      assertEquals(GetTransactionResponse.GetTransactionStatus.SUCCESS, responseB.getStatus());
+      assertEquals(HASH_B, responseB.getTxHash());
+
+      // Both hashes share a single HTTP request per poll.
+      assertEquals(3, polls.get(HASH_B).get());
+      assertTrue(httpRequests.get() <= 3);
+
+      TransactionStatusTracker.Metrics metrics = tracker.getMetrics();
+      assertEquals(0, tracker.getPendingCount());
+      assertEquals(0, metrics.getPendingCount());
+      assertEquals(2, metrics.getTrackedCount());
+      assertEquals(2, metrics.getConfirmedCount());
+      assertEquals(0, metrics.getFailedCount());
+      assertEquals(httpRequests.get(), metrics.getRequestCount());
+      assertTrue(metrics.getMaxConfirmLatency().compareTo(metrics.getAverageConfirmLatency()) >= 0);
+      assertTrue(metrics.getAverageConfirmLatency().compareTo(Duration.ZERO) > 0);
+    }
+  }
+
+  @Test
+  public void testMaxAttempts() throws Exception {
+    try (TransactionStatusTracker tracker =
+        new TransactionStatusTracker(server, scheduler, Duration.ofMillis(10), 3, 100)) {
+      GetTransactionResponse response = tracker.track(HASH_C).get(10, TimeUnit.SECONDS);
+      assertEquals(GetTransactionResponse.GetTransactionStatus.NOT_FOUND, response.getStatus());
+      assertEquals(3, polls.get(HASH_C).get());
+      assertEquals(1, tracker.getMetrics().getNotFoundCount());
+    }
+  }
+
+  @Test
+  public void testRpcErrorCompletesExceptionally() throws Exception {
+    try (TransactionStatusTracker tracker =
+        new TransactionStatusTracker(server, scheduler, Duration.ofMillis(10), 30, 100)) {
+      ExecutionException exception =
+          assertThrows(
+              ExecutionException.class, () -> tracker.track(HASH_ERROR).get(10, TimeUnit.SECONDS));
+      assertTrue(exception.getCause() instanceof SorobanRpcException);
+      assertEquals(1, tracker.getMetrics().getFailedCount());
+    }
+  }
+
+  @Test
+  public void testBatchSplit() throws Exception {
+    foundAfter.put(HASH_A, 1);
+    foundAfter.put(HASH_B, 1);
+    foundAfter.put(HASH_C, 1);
+    try (TransactionStatusTracker tracker =
+        new TransactionStatusTracker(server, scheduler, Duration.ofMillis(50), 30, 2)) {
+      CompletableFuture<GetTransactionResponse> a = tracker.track(HASH_A);
+      CompletableFuture<GetTransactionResponse> b = tracker.track(HASH_B);
+      CompletableFuture<GetTransactionResponse> c = tracker.track(HASH_C);
+      CompletableFuture.allOf(a, b, c).get(10, TimeUnit.SECONDS);
+      assertEquals(2, httpRequests.get());
+      assertEquals(2, tracker.getMetrics().getRequestCount());
+    }
+  }
+
+  @Test
+  public void testFailedChunkOnlyFailsItsHashes() throws Exception {
+    foundAfter.put(HASH_A, 1);
+    foundAfter.put(HASH_B, 1);
+    failingHashes.add(HASH_C);
+    try (TransactionStatusTracker tracker =
+        new TransactionStatusTracker(server, scheduler, Duration.ofMillis(50), 1, 2)) {
+      CompletableFuture<GetTransactionResponse> a = tracker.track(HASH_A);
+      CompletableFuture<GetTransactionResponse> b = tracker.track(HASH_B);
+      CompletableFuture<GetTransactionResponse> c = tracker.track(HASH_C);
+      ExecutionException exception =
+          assertThrows(ExecutionException.class, () -> c.get(10, TimeUnit.SECONDS));
+      assertTrue(exception.getCause() instanceof BadResponseException);
+      // C shares its request with A or B, the hash in the other request is still found.
+      CompletableFuture.allOf(a, b).handle((result, throwable) -> null).get(10, TimeUnit.SECONDS);
+      assertTrue(a.isCompletedExceptionally() != b.isCompletedExceptionally());
+
+      TransactionStatusTracker.Metrics metrics = tracker.getMetrics();
+      assertEquals(2, metrics.getRequestCount());
+      assertEquals(1, metrics.getFailedRequestCount());
+      assertEquals(1, metrics.getConfirmedCount());
+      assertEquals(2, metrics.getFailedCount());
+    }
+  }
+
+  @Test
+  public void testCancelAndClose() {
+    TransactionStatusTracker tracker =
+        new TransactionStatusTracker(server, scheduler, Duration.ofMillis(10), 30, 100);
+    CompletableFuture<GetTransactionResponse> a = tracker.track(HASH_C);
+    CompletableFuture<GetTransactionResponse> b = tracker.track(HASH_A);
+    a.cancel(false);
+    assertEquals(1, tracker.getPendingCount());
+
+    tracker.close();
+    assertTrue(b.isCancelled());
+    assertEquals(0, tracker.getPendingCount());
+    assertThrows(IllegalStateException.class, () -> tracker.track(HASH_B));
+  }
+
+  @Test
+  public void testInvalidArguments() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new TransactionStatusTracker(server, scheduler, Duration.ZERO, 30, 100));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new TransactionStatusTracker(server, scheduler, Duration.ofSeconds(1), 0, 100));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new TransactionStatusTracker(server, scheduler, Duration.ofSeconds(1), 30, 0));
+  }
+
+  private JsonObject respond(JsonObject request) {
+    JsonObject response = new JsonObject();
+    response.addProperty("jsonrpc", "2.0");
+    response.add("id", request.get("id"));
+    String hash = hashOf(request);
+    if (HASH_ERROR.equals(hash)) {
+      JsonObject error = new JsonObject();
+      error.addProperty("code", -32602);
+      error.addProperty("message", "invalid hash");
+      response.add("error", error);
+      return response;
+    }
+    int count = polls.computeIfAbsent(hash, key -> new AtomicInteger()).incrementAndGet();
+    Integer threshold = foundAfter.get(hash);
+    JsonObject result = new JsonObject();
+    result.addProperty("status", threshold != null && count >= threshold ? "SUCCESS" : "NOT_FOUND");
+    result.addProperty("txHash", hash);
+    result.addProperty("latestLedger", 1283415);
+    response.add("result", result);
+    return response;
+  }
+
+  private static String hashOf(JsonObject request) {
+    return request.getAsJsonObject("params").get("hash").getAsString();
+  }
+}
@@ -4,6 +4,7 @@ import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -171,6 +172,90 @@ public class TransactionTest {
         Arrays.copyOfRange(hash, hash.length - 4, hash.length));
   }
 
+  @Test
+  public void testSignWithMultipleSigners() {
+    KeyPair source =
+        KeyPair.fromSecretSeed("SCH27VUZZ6UAKB67BDNF6FA42YMBMQCBKXWGMFD5TZ6S5ZZCZFLRXKHS");
+    KeyPair other = KeyPair.random();
+    KeyPair third = KeyPair.random();
+    Transaction transaction = paymentTransaction(source);
+
+    transaction.sign(source, other);
+    transaction.sign(Collections.singletonList(third), true);
+
+    byte[] hash = transaction.hash();
+    List<DecoratedSignature> signatures = transaction.getSignatures();
+    assertEquals(3, signatures.size());
+    KeyPair[] signers = {source, other, third};
+    for (int i = 0; i < signers.length; i++) {
+      assertArrayEquals(
+          signers[i].getSignatureHint().getSignatureHint(),
+          signatures.get(i).getHint().getSignatureHint());
+      assertTrue(signers[i].verify(hash, signatures.get(i).getSignature().getSignature()));
+    }
+  }
+
+  @Test
+  public void testSignWithMultipleSignersRequiresSecretKeys() {
+    KeyPair source =
+        KeyPair.fromSecretSeed("SCH27VUZZ6UAKB67BDNF6FA42YMBMQCBKXWGMFD5TZ6S5ZZCZFLRXKHS");
+    Transaction transaction = paymentTransaction(source);
+
+    assertThrows(
+        IllegalStateException.class,
+        () -> transaction.sign(source, KeyPair.fromAccountId(source.getAccountId())));
+    assertEquals(0, transaction.getSignatures().size());
+  }
+
+  @Test
+  public void testHashAndEnvelopeAreCachedUntilSignaturesChange() {
+    KeyPair source =
+        KeyPair.fromSecretSeed("SCH27VUZZ6UAKB67BDNF6FA42YMBMQCBKXWGMFD5TZ6S5ZZCZFLRXKHS");
+    Transaction transaction = paymentTransaction(source);
+
+    byte[] hash = transaction.hash();
+    hash[0]++;
+    assertNotEquals(hash[0], transaction.hash()[0]);
+    assertArrayEquals(Util.hash(transaction.signatureBase()), transaction.hash());
+
+    String unsigned = transaction.toEnvelopeXdrBase64();
+    assertEquals(unsigned, transaction.toEnvelopeXdrBase64());
+    String hashHex = transaction.hashHex();
+
+    transaction.sign(source);
+    String signed = transaction.toEnvelopeXdrBase64();
+    assertNotEquals(unsigned, signed);
+    assertEquals(hashHex, transaction.hashHex());
+    assertEquals(
+        signed, AbstractTransaction.fromEnvelopeXdr(signed, Network.PUBLIC).toEnvelopeXdrBase64());
+
+    transaction.addSignature(
+        new DecoratedSignature(
+            transaction.getSignatures().get(0).getHint(),
+            transaction.getSignatures().get(0).getSignature()));
+    assertNotEquals(signed, transaction.toEnvelopeXdrBase64());
+  }
+
+  private static Transaction paymentTransaction(KeyPair source) {
+    Account account = new Account(source.getAccountId(), 0L);
+    return new Transaction(
+        account.getAccountId(),
+        Transaction.MIN_BASE_FEE,
+        account.getIncrementedSequenceNumber(),
+        new org.stellar.sdk.operations.Operation[] {
+          PaymentOperation.builder()
+              .destination("GDJJRRMBK4IWLEPJGIE6SXD2LP7REGZODU7WDC3I2D6MR37F4XSHBKX2")
+              .asset(new AssetTypeNative())
+              .amount(BigDecimal.valueOf(2000))
+              .build()
+        },
+        null,
+        new TransactionPreconditions(
+            null, null, null, BigInteger.ZERO, 0, new ArrayList<SignerKey>()),
+        null,
+        Network.PUBLIC);
+  }
+
   @Test
   public void testToBase64EnvelopeXdrBuilderNoSignatures() {
     // GBPMKIRA2OQW2XZZQUCQILI5TMVZ6JNRKM423BSAISDM7ZFWQ6KWEBC4
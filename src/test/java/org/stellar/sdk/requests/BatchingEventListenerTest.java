@@ -0,0 +1,287 @@
+package org.stellar.sdk.requests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import org.stellar.sdk.exception.EventQueueOverflowException;
+import org.stellar.sdk.responses.LedgerResponse;
+import org.stellar.sdk.responses.gson.GsonSingleton;
+
+public class BatchingEventListenerTest {
+  @Test
+  public void testDeliversFullBatches() throws InterruptedException {
+    RecordingListener recorder = new RecordingListener();
+    BatchingEventListener<LedgerResponse> listener =
+        new BatchingEventListener<>(
+            recorder, 100, 3, Duration.ofSeconds(30), BatchingEventListener.OverflowPolicy.BLOCK);
+    for (long i = 1; i <= 7; i++) {
+      listener.onEvent(ledger(i));
+    }
+
+    assertEquals(Arrays.asList(1L, 2L, 3L), recorder.nextBatch());
+    assertEquals(Arrays.asList(4L, 5L, 6L), recorder.nextBatch());
+
+    // Closing delivers the events still queued.
+    listener.close();
+    assertEquals(Collections.singletonList(7L), recorder.nextBatch());
+
+    BatchingEventListener.Metrics metrics = listener.getMetrics();
+    assertEquals(7, metrics.getReceivedCount());
+    assertEquals(7, metrics.getDeliveredCount());
+    assertEquals(3, metrics.getBatchCount());
+    assertEquals(0, metrics.getLag());
+    assertEquals("7", metrics.getLastDeliveredPagingToken());
+  }
+
+  @Test
+  public void testDeliversPartialBatchAfterDelay() throws InterruptedException {
+    RecordingListener recorder = new RecordingListener();
+    try (BatchingEventListener<LedgerResponse> listener =
+        new BatchingEventListener<>(
+            recorder,
+            100,
+            100,
+            Duration.ofMillis(50),
+            BatchingEventListener.OverflowPolicy.BLOCK)) {
+      listener.onEvent(ledger(1));
+      listener.onEvent(ledger(2));
+
+      assertEquals(Arrays.asList(1L, 2L), recorder.nextBatch());
+    }
+  }
+
+  @Test
+  public void testDropOldest() throws InterruptedException {
+    RecordingListener recorder = new RecordingListener();
+    try (BatchingEventListener<LedgerResponse> listener =
+        new BatchingEventListener<>(
+            recorder, 2, 10, Duration.ZERO, BatchingEventListener.OverflowPolicy.DROP_OLDEST)) {
+      recorder.blockDelivery();
+      listener.onEvent(ledger(1));
+      recorder.awaitBlocked();
+
+      for (long i = 2; i <= 5; i++) {
+        listener.onEvent(ledger(i));
+      }
+      BatchingEventListener.Metrics metrics = listener.getMetrics();
+      assertEquals(2, metrics.getQueueDepth());
+      assertEquals(2, metrics.getDroppedCount());
+      assertEquals(2, metrics.getLag());
+      assertEquals("5", metrics.getLastReceivedPagingToken());
+      assertEquals("1", metrics.getLastDeliveredPagingToken());
+
+      recorder.unblockDelivery();
+      assertEquals(Collections.singletonList(1L), recorder.nextBatch());
+      assertEquals(Arrays.asList(4L, 5L), recorder.nextBatch());
+    }
+  }
+
+  @Test
+  public void testFail() throws InterruptedException {
+    RecordingListener recorder = new RecordingListener();
+    try (BatchingEventListener<LedgerResponse> listener =
+        new BatchingEventListener<>(
+            recorder, 2, 10, Duration.ZERO, BatchingEventListener.OverflowPolicy.FAIL)) {
+      recorder.blockDelivery();
+      listener.onEvent(ledger(1));
+      recorder.awaitBlocked();
+
+      for (long i = 2; i <= 5; i++) {
+        listener.onEvent(ledger(i));
+      }
+      assertEquals(2, listener.getMetrics().getDroppedCount());
+
+      recorder.unblockDelivery();
+      assertEquals(Collections.singletonList(1L), recorder.nextBatch());
+      assertEquals(Arrays.asList(2L, 3L), recorder.nextBatch());
+      EventQueueOverflowException exception = (EventQueueOverflowException) recorder.nextFailure();
+      assertEquals(2, exception.getCapacity());
+      assertEquals("3", exception.getLastDeliveredPagingToken());
+
+      // The events received after the failure is reported are delivered again.
+      listener.onEvent(ledger(6));
+      assertEquals(Collections.singletonList(6L), recorder.nextBatch());
+      assertEquals(2, listener.getMetrics().getDroppedCount());
+      assertEquals(0, listener.getMetrics().getLag());
+    }
+  }
+
+  @Test
+  public void testBlock() throws InterruptedException {
+    RecordingListener recorder = new RecordingListener();
+    try (BatchingEventListener<LedgerResponse> listener =
+        new BatchingEventListener<>(
+            recorder, 1, 10, Duration.ZERO, BatchingEventListener.OverflowPolicy.BLOCK)) {
+      recorder.blockDelivery();
+      listener.onEvent(ledger(1));
+      recorder.awaitBlocked();
+      listener.onEvent(ledger(2));
+
+      CountDownLatch added = new CountDownLatch(1);
+      Thread reader =
+          new Thread(
+              () -> {
+                listener.onEvent(ledger(3));
+                added.countDown();
+              });
+      reader.start();
+      assertFalse(added.await(300, TimeUnit.MILLISECONDS));
+
+      recorder.unblockDelivery();
+      assertTrue(added.await(10, TimeUnit.SECONDS));
+      List<Long> delivered = new ArrayList<>();
+      while (delivered.size() < 3) {
+        delivered.addAll(recorder.nextBatch());
+      }
+      assertEquals(Arrays.asList(1L, 2L, 3L), delivered);
+      assertEquals(0, listener.getMetrics().getDroppedCount());
+    }
+  }
+
+  @Test
+  public void testDeliversFailuresAfterQueuedEvents() throws InterruptedException {
+    RecordingListener recorder = new RecordingListener();
+    try (BatchingEventListener<LedgerResponse> listener =
+        new BatchingEventListener<>(
+            recorder, 10, 10, Duration.ZERO, BatchingEventListener.OverflowPolicy.BLOCK)) {
+      recorder.blockDelivery();
+      listener.onEvent(ledger(1));
+      recorder.awaitBlocked();
+      listener.onEvent(ledger(2));
+      listener.onFailure(Optional.empty(), Optional.of(500));
+
+      recorder.unblockDelivery();
+      assertEquals(Collections.singletonList(1L), recorder.nextBatch());
+      assertEquals(Collections.singletonList(2L), recorder.nextBatch());
+      assertEquals(Integer.valueOf(500), recorder.responseCodes.poll(10, TimeUnit.SECONDS));
+    }
+  }
+
+  @Test
+  public void testDeliversFailuresBetweenEventsOfABusyStream() throws InterruptedException {
+    RecordingListener recorder = new RecordingListener();
+    try (BatchingEventListener<LedgerResponse> listener =
+        new BatchingEventListener<>(
+            recorder, 10, 10, Duration.ZERO, BatchingEventListener.OverflowPolicy.BLOCK)) {
+      recorder.blockDelivery();
+      listener.onEvent(ledger(1));
+      recorder.awaitBlocked();
+      listener.onEvent(ledger(2));
+      listener.onFailure(Optional.empty(), Optional.of(500));
+      listener.onEvent(ledger(3));
+
+      // The queue is never empty when the failure is reached.
+      recorder.unblockDelivery();
+      assertEquals(Collections.singletonList(1L), recorder.nextBatch());
+      assertEquals(Collections.singletonList(2L), recorder.nextBatch());
+      assertEquals(Collections.singletonList(3L), recorder.nextBatch());
+      assertEquals(
+          Arrays.asList(
+              Collections.singletonList(1L),
+              Collections.singletonList(2L),
+              500,
+              Collections.singletonList(3L)),
+          recorder.log);
+    }
+  }
+
+  @Test
+  public void testInvalidArguments() {
+    RecordingListener recorder = new RecordingListener();
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            new BatchingEventListener<>(
+                recorder, 0, 10, Duration.ZERO, BatchingEventListener.OverflowPolicy.BLOCK));
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            new BatchingEventListener<>(
+                recorder, 10, 0, Duration.ZERO, BatchingEventListener.OverflowPolicy.BLOCK));
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            new BatchingEventListener<>(
+                recorder,
+                10,
+                10,
+                Duration.ofMillis(-1),
+                BatchingEventListener.OverflowPolicy.BLOCK));
+  }
+
+  private static LedgerResponse ledger(long sequence) {
+    return GsonSingleton.getInstance()
+        .fromJson(
+            "{\"paging_token\":\"" + sequence + "\",\"sequence\":" + sequence + "}",
+            LedgerResponse.class);
+  }
+
+  private static class RecordingListener implements BatchEventListener<LedgerResponse> {
+    private final BlockingQueue<List<Long>> batches = new LinkedBlockingQueue<>();
+    private final BlockingQueue<Throwable> failures = new LinkedBlockingQueue<>();
+    private final BlockingQueue<Integer> responseCodes = new LinkedBlockingQueue<>();
+    private final List<Object> log = Collections.synchronizedList(new ArrayList<>());
+    private volatile CountDownLatch blocked = new CountDownLatch(0);
+    private volatile CountDownLatch released = new CountDownLatch(0);
+
+    @Override
+    public void onEvents(List<LedgerResponse> objects) {
+      blocked.countDown();
+      try {
+        released.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      List<Long> batch =
+          objects.stream().map(LedgerResponse::getSequence).collect(Collectors.toList());
+      log.add(batch);
+      batches.add(batch);
+    }
+
+    @Override
+    public void onFailure(Optional<Throwable> error, Optional<Integer> responseCode) {
+      error.ifPresent(failures::add);
+      responseCode.ifPresent(responseCodes::add);
+      responseCode.ifPresent(log::add);
+    }
+
+    void blockDelivery() {
+      blocked = new CountDownLatch(1);
+      released = new CountDownLatch(1);
+    }
+
+    void awaitBlocked() throws InterruptedException {
+      assertTrue(blocked.await(10, TimeUnit.SECONDS));
+    }
+
+    void unblockDelivery() {
+      released.countDown();
+    }
+
+    List<Long> nextBatch() throws InterruptedException {
+      List<Long> batch = batches.poll(10, TimeUnit.SECONDS);
+      assertTrue(batch != null);
+      return batch;
+    }
+
+    Throwable nextFailure() throws InterruptedException {
+      Throwable failure = failures.poll(10, TimeUnit.SECONDS);
+      assertTrue(failure != null);
+      return failure;
+    }
+  }
+}
@@ -0,0 +1,226 @@
+package org.stellar.sdk.requests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.stellar.sdk.Server;
+import org.stellar.sdk.TOID;
+import org.stellar.sdk.responses.TransactionResponse;
+
+public class HistoryExporterTest {
+  private static final int LAST_LEDGER = 60;
+  private static final int TRANSACTIONS_PER_LEDGER = 2;
+
+  private MockWebServer mockWebServer;
+  private Server server;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicInteger maxInFlight = new AtomicInteger();
+  private volatile long responseDelayMs;
+  private final List<Long> requestedCursors = Collections.synchronizedList(new ArrayList<>());
+
+  @Before
+  public void setUp() throws IOException {
+    mockWebServer = new MockWebServer();
+    mockWebServer.setDispatcher(
+        new Dispatcher() {
+          @NotNull
+          @Override
+          public MockResponse dispatch(@NotNull RecordedRequest recordedRequest)
+              throws InterruptedException {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+              Thread.sleep(responseDelayMs);
+              HttpUrl url = recordedRequest.getRequestUrl();
+              assertEquals("asc", url.queryParameter("order"));
+              requestedCursors.add(Long.parseLong(url.queryParameter("cursor")));
+              return new MockResponse()
+                  .setResponseCode(200)
+                  .setBody(
+                      transactionsPage(
+                          Long.parseLong(url.queryParameter("cursor")),
+                          Integer.parseInt(url.queryParameter("limit"))));
+            } finally {
+              inFlight.decrementAndGet();
+            }
+          }
+        });
+    mockWebServer.start();
+    server = new Server(mockWebServer.url("").toString());
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    server.close();
+    mockWebServer.close();
+  }
+
+  @Test
+  public void testExportsShardsInOrder() {
+    responseDelayMs = 20;
+    List<String> exported = new ArrayList<>();
+    long count =
+        HistoryExporter.transactions(server.transactions().limit(5))
+            .shardCount(4)
+            .export(
+                TOID.ledgerRangeInclusive(5, 44),
+                transaction -> exported.add(transaction.getPagingToken()));
+
+    assertEquals(expectedTokens(5, 44), exported);
+    assertEquals(exported.size(), count);
+    assertTrue(maxInFlight.get() > 1);
+  }
+
+  @Test
+  public void testBuffersPagesOfShardsNotReachedYet() {
+    // One ledger per page.
+    TOID.TOIDRange range = TOID.ledgerRangeInclusive(1, 40);
+    long secondShardStart = PagePrefetcher.splitRange(range, 2).get(1).getStart() - 1;
+    List<Integer> bufferedBeforeSecondShard = new ArrayList<>();
+    long count =
+        HistoryExporter.transactions(server.transactions().limit(TRANSACTIONS_PER_LEDGER))
+            .shardCount(2)
+            .prefetchDepth(4)
+            .export(
+                range,
+                transaction -> {
+                  if (!bufferedBeforeSecondShard.isEmpty()) {
+                    return;
+                  }
+                  long deadline = System.currentTimeMillis() + 5000;
+                  while (secondShardRequests(secondShardStart) < 4
+                      && System.currentTimeMillis() < deadline) {
+                    sleep(10);
+                  }
+                  // The buffer of the second shard is full, so it stops fetching.
+                  sleep(100);
+                  bufferedBeforeSecondShard.add(secondShardRequests(secondShardStart));
+                });
+
+    assertEquals(80, count);
+    assertEquals(Collections.singletonList(4), bufferedBeforeSecondShard);
+  }
+
+  @Test
+  public void testResumesFromCheckpoints() {
+    HistoryExporter.InMemoryCheckpointStore store = new HistoryExporter.InMemoryCheckpointStore();
+    List<String> exported = new ArrayList<>();
+    HistoryExporter<TransactionResponse> exporter =
+        HistoryExporter.transactions(server.transactions().limit(7))
+            .shardCount(3)
+            .checkpointStore(store);
+    TOID.TOIDRange range = TOID.ledgerRangeInclusive(1, 30);
+
+    RuntimeException interruption = new RuntimeException("interrupted");
+    RuntimeException thrown =
+        assertThrows(
+            RuntimeException.class,
+            () ->
+                exporter.export(
+                    range,
+                    transaction -> {
+                      if (exported.size() == 31) {
+                        throw interruption;
+                      }
+                      exported.add(transaction.getPagingToken());
+                    }));
+    assertEquals(interruption, thrown);
+    assertEquals(2, store.getCursors().size());
+
+    int requestsBeforeResume = mockWebServer.getRequestCount();
+    long resumed =
+        exporter.export(range, transaction -> exported.add(transaction.getPagingToken()));
+    assertEquals(expectedTokens(1, 30), exported);
+    assertEquals(expectedTokens(1, 30).size() - 31, resumed);
+
+    // Once exported, the shards are skipped.
+    int requestsAfterResume = mockWebServer.getRequestCount();
+    assertTrue(requestsAfterResume > requestsBeforeResume);
+    assertEquals(0, exporter.export(range, transaction -> exported.add("again")));
+    assertEquals(requestsAfterResume, mockWebServer.getRequestCount());
+  }
+
+  @Test
+  public void testRequestBudget() {
+    long start = System.nanoTime();
+    long count =
+        HistoryExporter.transactions(server.transactions().limit(10))
+            .shardCount(2)
+            .maxRequestsPerSecond(20)
+            .export(TOID.ledgerRangeInclusive(1, 20), transaction -> {});
+    long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+    assertEquals(40, count);
+    // 2 pages for the ledgers 1 to 9, and 3 pages for the ledgers 10 to 20, 50 ms apart.
+    assertEquals(5, mockWebServer.getRequestCount());
+    assertTrue(elapsedMs >= 200);
+  }
+
+  @Test
+  public void testInvalidArguments() {
+    HistoryExporter<TransactionResponse> exporter =
+        HistoryExporter.transactions(server.transactions());
+    assertThrows(IllegalArgumentException.class, () -> exporter.shardCount(0));
+    assertThrows(IllegalArgumentException.class, () -> exporter.prefetchDepth(-1));
+    assertThrows(IllegalArgumentException.class, () -> exporter.maxRequestsPerSecond(-1));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> exporter.export(new TOID.TOIDRange(10, 10), transaction -> {}));
+  }
+
+  private int secondShardRequests(long secondShardStart) {
+    synchronized (requestedCursors) {
+      return (int) requestedCursors.stream().filter(c -> c >= secondShardStart).count();
+    }
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static List<String> expectedTokens(int fromLedger, int toLedger) {
+    List<String> tokens = new ArrayList<>();
+    for (int ledger = fromLedger; ledger <= toLedger; ledger++) {
+      for (int order = 1; order <= TRANSACTIONS_PER_LEDGER; order++) {
+        tokens.add(String.valueOf(new TOID(ledger, order, 0).toInt64()));
+      }
+    }
+    return tokens;
+  }
+
+  private String transactionsPage(long cursor, int limit) {
+    List<String> records = new ArrayList<>();
+    long nextCursor = cursor;
+    for (String token : expectedTokens(1, LAST_LEDGER)) {
+      if (Long.parseLong(token) > cursor && records.size() < limit) {
+        records.add(String.format("{\"paging_token\": \"%s\"}", token));
+        nextCursor = Long.parseLong(token);
+      }
+    }
+    String next =
+        mockWebServer
+            .url("/transactions?cursor=" + nextCursor + "&limit=" + limit + "&order=asc")
+            .toString();
+    return String.format(
+        "{\"_links\": {\"next\": {\"href\": \"%s\"}}, \"_embedded\": {\"records\": [%s]}}",
+        next, String.join(",", records));
+  }
+}
@@ -0,0 +1,218 @@
+package org.stellar.sdk.requests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.stellar.sdk.Server;
+import org.stellar.sdk.TOID;
+import org.stellar.sdk.exception.BadResponseException;
+import org.stellar.sdk.responses.LedgerResponse;
+
+public class PageIteratorTest {
+  private static final int LAST_LEDGER = 50;
+
+  private MockWebServer mockWebServer;
+  private Server server;
+  private final List<HttpUrl> requests = new ArrayList<>();
+  private volatile Long failingCursor;
+
+  @Before
+  public void setUp() throws IOException {
+    mockWebServer = new MockWebServer();
+    mockWebServer.setDispatcher(
+        new Dispatcher() {
+          @NotNull
+          @Override
+          public MockResponse dispatch(@NotNull RecordedRequest recordedRequest) {
+            HttpUrl url = recordedRequest.getRequestUrl();
+            synchronized (requests) {
+              requests.add(url);
+            }
+            long cursor = parameter(url, "cursor", 0);
+            if (failingCursor != null && failingCursor == cursor) {
+              return new MockResponse().setResponseCode(500).setBody("{}");
+            }
+            return new MockResponse()
+                .setResponseCode(200)
+                .setBody(ledgersPage(cursor, (int) parameter(url, "limit", 10)));
+          }
+        });
+    mockWebServer.start();
+    server = new Server(mockWebServer.url("").toString());
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    server.close();
+    mockWebServer.close();
+  }
+
+  @Test
+  public void testIteratesAllPages() {
+    List<Long> sequences = new ArrayList<>();
+    try (PageIterator<LedgerResponse> ledgers = server.ledgers().limit(7).iterate()) {
+      ledgers.forEachRemaining(ledger -> sequences.add(ledger.getSequence()));
+    }
+    assertEquals(range(1, LAST_LEDGER), sequences);
+    // 8 pages of records, and the empty page which ends the iteration.
+    assertEquals(9, requestCount());
+  }
+
+  @Test
+  public void testPrefetchesPages() throws InterruptedException {
+    try (PageIterator<LedgerResponse> ledgers = server.ledgers().limit(5).iterate(3)) {
+      assertEquals(Long.valueOf(1), ledgers.next().getSequence());
+      awaitRequestCount(4);
+      Thread.sleep(200);
+      // The page being read and the 3 next ones.
+      assertEquals(4, requestCount());
+    }
+  }
+
+  @Test
+  public void testWithoutPrefetch() throws InterruptedException {
+    try (PageIterator<LedgerResponse> ledgers = server.ledgers().limit(5).iterate(0)) {
+      for (int i = 0; i < 5; i++) {
+        ledgers.next();
+      }
+      Thread.sleep(200);
+      assertEquals(1, requestCount());
+      ledgers.next();
+      assertEquals(2, requestCount());
+    }
+  }
+
+  @Test
+  public void testEarlyTermination() throws InterruptedException {
+    List<Long> sequences;
+    try (Stream<LedgerResponse> ledgers = server.ledgers().limit(5).iterate(2).stream()) {
+      sequences = ledgers.limit(3).map(LedgerResponse::getSequence).collect(Collectors.toList());
+    }
+    assertEquals(range(1, 3), sequences);
+    Thread.sleep(200);
+    assertTrue(requestCount() <= 3);
+  }
+
+  @Test
+  public void testShardedRange() {
+    List<Long> sequences = new ArrayList<>();
+    try (PageIterator<LedgerResponse> ledgers =
+        server
+            .ledgers()
+            .limit(4)
+            .order(RequestBuilder.Order.DESC)
+            .iterate(TOID.ledgerRangeInclusive(10, 40), 4, 1)) {
+      ledgers.forEachRemaining(ledger -> sequences.add(ledger.getSequence()));
+    }
+    assertEquals(range(10, 40), sequences);
+
+    Set<Long> shardCursors = new HashSet<>();
+    synchronized (requests) {
+      for (HttpUrl url : requests) {
+        assertEquals("asc", url.queryParameter("order"));
+        shardCursors.add(parameter(url, "cursor", 0));
+      }
+    }
+    for (long shardStart : new long[] {10, 17, 25, 33}) {
+      assertTrue(shardCursors.contains(new TOID((int) shardStart, 0, 0).toInt64() - 1));
+    }
+    // The last shard stops at the end of the range, without requesting the following ledgers.
+    for (long cursor : shardCursors) {
+      assertTrue(cursor < new TOID(41, 0, 0).toInt64());
+    }
+  }
+
+  @Test
+  public void testShardedRangeStartingAtFirstLedger() {
+    try (PageIterator<LedgerResponse> ledgers =
+        server.ledgers().limit(10).iterate(TOID.ledgerRangeInclusive(1, 3), 8, 1)) {
+      List<Long> sequences = new ArrayList<>();
+      ledgers.forEachRemaining(ledger -> sequences.add(ledger.getSequence()));
+      assertEquals(range(1, 3), sequences);
+    }
+  }
+
+  @Test
+  public void testPropagatesErrors() {
+    failingCursor = new TOID(5, 0, 0).toInt64();
+    try (PageIterator<LedgerResponse> ledgers = server.ledgers().limit(5).iterate()) {
+      for (int i = 0; i < 5; i++) {
+        ledgers.next();
+      }
+      assertThrows(BadResponseException.class, ledgers::hasNext);
+    }
+  }
+
+  @Test
+  public void testInvalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> server.ledgers().iterate(-1));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> server.ledgers().iterate(TOID.ledgerRangeInclusive(1, 2), 0, 1));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> server.ledgers().iterate(new TOID.TOIDRange(10, 10), 1, 1));
+    assertFalse(mockWebServer.getRequestCount() > 0);
+  }
+
+  private int requestCount() {
+    synchronized (requests) {
+      return requests.size();
+    }
+  }
+
+  private void awaitRequestCount(int count) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (requestCount() < count && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+  }
+
+  private static List<Long> range(long from, long to) {
+    return LongStream.rangeClosed(from, to).boxed().collect(Collectors.toList());
+  }
+
+  private static long parameter(HttpUrl url, String name, long defaultValue) {
+    String value = url.queryParameter(name);
+    return value == null || value.isEmpty() ? defaultValue : Long.parseLong(value);
+  }
+
+  private String ledgersPage(long cursor, int limit) {
+    long first = (cursor >>> 32) + 1;
+    long last = Math.min(first + limit - 1, LAST_LEDGER);
+    List<String> records = new ArrayList<>();
+    long nextCursor = cursor;
+    for (long sequence = first; sequence <= last; sequence++) {
+      nextCursor = new TOID((int) sequence, 0, 0).toInt64();
+      records.add(
+          String.format("{\"paging_token\": \"%d\", \"sequence\": %d}", nextCursor, sequence));
+    }
+    String next =
+        mockWebServer
+            .url("/ledgers?cursor=" + nextCursor + "&limit=" + limit + "&order=asc")
+            .toString();
+    return String.format(
+        "{\"_links\": {\"next\": {\"href\": \"%s\"}}, \"_embedded\": {\"records\": [%s]}}",
+        next, String.join(",", records));
+  }
+}
@@ -0,0 +1,214 @@
+package org.stellar.sdk.requests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.stellar.sdk.Server;
+import org.stellar.sdk.SorobanServer;
+import org.stellar.sdk.exception.BadResponseException;
+import org.stellar.sdk.exception.TooManyRequestsException;
+
+public class RateLimitInterceptorTest {
+  private static final String ROOT_RESPONSE = "{\"horizon_version\": \"2.0.0\"}";
+  private static final String LATEST_LEDGER_RESPONSE =
+      "{\"jsonrpc\": \"2.0\", \"id\": \"1\", \"result\": {\"id\": \"abc\", \"protocolVersion\": 22,"
+          + " \"sequence\": 1}}";
+
+  private MockWebServer mockWebServer;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicInteger maxInFlight = new AtomicInteger();
+  private final AtomicInteger rejectionsLeft = new AtomicInteger();
+  private volatile int rejectionCode = 429;
+  private volatile String retryAfter = "0";
+  private volatile long responseDelayMs;
+
+  @Before
+  public void setUp() throws IOException {
+    mockWebServer = new MockWebServer();
+    mockWebServer.setDispatcher(
+        new Dispatcher() {
+          @NotNull
+          @Override
+          public MockResponse dispatch(@NotNull RecordedRequest recordedRequest)
+              throws InterruptedException {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+              Thread.sleep(responseDelayMs);
+              if (rejectionsLeft.getAndDecrement() > 0) {
+                MockResponse response = new MockResponse().setResponseCode(rejectionCode);
+                return retryAfter == null
+                    ? response
+                    : response.setHeader("Retry-After", retryAfter);
+              }
+              return new MockResponse()
+                  .setResponseCode(200)
+                  .setBody(
+                      "POST".equals(recordedRequest.getMethod())
+                          ? LATEST_LEDGER_RESPONSE
+                          : ROOT_RESPONSE);
+            } finally {
+              inFlight.decrementAndGet();
+            }
+          }
+        });
+    mockWebServer.start();
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    mockWebServer.close();
+  }
+
+  @Test
+  public void testSharesRateLimitAcrossClients() throws IOException {
+    RateLimitInterceptor rateLimit = new RateLimitInterceptor(20, 1, 4, 0);
+    OkHttpClient httpClient = new OkHttpClient.Builder().addInterceptor(rateLimit).build();
+    long start = System.nanoTime();
+    try (Server server = new Server(mockWebServer.url("").toString(), httpClient, httpClient);
+        SorobanServer sorobanServer =
+            new SorobanServer(mockWebServer.url("").toString(), httpClient)) {
+      for (int i = 0; i < 3; i++) {
+        server.root().execute();
+        sorobanServer.getLatestLedger();
+      }
+    }
+    long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+    // 6 requests, 50 ms apart.
+    assertTrue(elapsedMs >= 250);
+    RateLimitInterceptor.Metrics metrics = rateLimit.getMetrics();
+    assertEquals(6, metrics.getRequestCount());
+    assertEquals(0, metrics.getRejectedCount());
+    assertEquals(0, metrics.getInFlightCount());
+    assertTrue(metrics.getMaxWaitTime().toMillis() >= 40);
+  }
+
+  @Test
+  public void testRetriesAfterRetryAfter() {
+    RateLimitInterceptor rateLimit = new RateLimitInterceptor(100, 10, 8, 3);
+    Server server = server(rateLimit);
+    rejectionsLeft.set(1);
+    retryAfter = "1";
+
+    long start = System.nanoTime();
+    assertEquals("2.0.0", server.root().execute().getHorizonVersion());
+    long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+    assertTrue(elapsedMs >= 1000);
+    assertEquals(2, mockWebServer.getRequestCount());
+    RateLimitInterceptor.Metrics metrics = rateLimit.getMetrics();
+    assertEquals(2, metrics.getRequestCount());
+    assertEquals(1, metrics.getRejectedCount());
+    assertEquals(1, metrics.getRetryCount());
+    assertEquals(4, metrics.getConcurrencyLimit());
+  }
+
+  @Test
+  public void testGivesUpAfterMaxRetries() {
+    RateLimitInterceptor rateLimit = new RateLimitInterceptor(100, 10, 8, 2);
+    Server server = server(rateLimit);
+    rejectionsLeft.set(Integer.MAX_VALUE);
+
+    TooManyRequestsException exception =
+        assertThrows(TooManyRequestsException.class, () -> server.root().execute());
+    assertEquals(Integer.valueOf(0), exception.getRetryAfter());
+    assertEquals(3, mockWebServer.getRequestCount());
+    assertEquals(3, rateLimit.getMetrics().getRejectedCount());
+    assertEquals(2, rateLimit.getMetrics().getRetryCount());
+  }
+
+  @Test
+  public void testServiceUnavailableIsNotRetried() {
+    RateLimitInterceptor rateLimit = new RateLimitInterceptor(100, 10, 8, 2);
+    Server server = server(rateLimit);
+    rejectionsLeft.set(1);
+    rejectionCode = 503;
+    retryAfter = null;
+
+    assertThrows(BadResponseException.class, () -> server.root().execute());
+    assertEquals(1, mockWebServer.getRequestCount());
+    assertEquals(4, rateLimit.getMetrics().getConcurrencyLimit());
+
+    // The limit grows back by about one per limit's worth of successful responses.
+    for (int i = 0; i < 5; i++) {
+      server.root().execute();
+    }
+    assertEquals(5, rateLimit.getMetrics().getConcurrencyLimit());
+  }
+
+  @Test
+  public void testQueuesRequestsOverTheConcurrencyLimit() throws InterruptedException {
+    RateLimitInterceptor rateLimit = new RateLimitInterceptor(1000, 1000, 3, 0);
+    Server server = server(rateLimit);
+    responseDelayMs = 50;
+
+    List<Thread> threads = new ArrayList<>();
+    AtomicInteger succeeded = new AtomicInteger();
+    for (int i = 0; i < 10; i++) {
+      Thread thread =
+          new Thread(
+              () -> {
+                server.root().execute();
+                succeeded.incrementAndGet();
+              });
+      thread.start();
+      threads.add(thread);
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertEquals(10, succeeded.get());
+    assertTrue(maxInFlight.get() <= 3);
+    RateLimitInterceptor.Metrics metrics = rateLimit.getMetrics();
+    assertEquals(0, metrics.getQueuedCount());
+    assertTrue(metrics.getMaxWaitTime().toMillis() >= 50);
+  }
+
+  @Test
+  public void testHoldsThePermitUntilTheBodyIsClosed() throws IOException {
+    RateLimitInterceptor rateLimit = new RateLimitInterceptor(1000, 1000, 1, 0);
+    OkHttpClient httpClient = new OkHttpClient.Builder().addInterceptor(rateLimit).build();
+    Request request = new Request.Builder().url(mockWebServer.url("")).build();
+
+    Response response = httpClient.newCall(request).execute();
+    assertEquals(1, rateLimit.getMetrics().getInFlightCount());
+    assertEquals(ROOT_RESPONSE, response.body().string());
+    assertEquals(0, rateLimit.getMetrics().getInFlightCount());
+
+    // Closing the response, without reading the body, releases the permit too.
+    httpClient.newCall(request).execute().close();
+    assertEquals(0, rateLimit.getMetrics().getInFlightCount());
+    assertEquals(2, rateLimit.getMetrics().getRequestCount());
+  }
+
+  @Test
+  public void testInvalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> new RateLimitInterceptor(0));
+    assertThrows(IllegalArgumentException.class, () -> new RateLimitInterceptor(Double.NaN));
+    assertThrows(IllegalArgumentException.class, () -> new RateLimitInterceptor(10, 0, 1, 0));
+    assertThrows(IllegalArgumentException.class, () -> new RateLimitInterceptor(10, 1, 0, 0));
+    assertThrows(IllegalArgumentException.class, () -> new RateLimitInterceptor(10, 1, 1, -1));
+  }
+
+  private Server server(RateLimitInterceptor rateLimit) {
+    OkHttpClient httpClient = new OkHttpClient.Builder().addInterceptor(rateLimit).build();
+    return new Server(mockWebServer.url("").toString(), httpClient, httpClient);
+  }
+}
@@ -1,16 +1,42 @@
 package org.stellar.sdk.requests;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 
+import com.google.gson.reflect.TypeToken;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import okhttp3.Call;
+import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
+import okio.Buffer;
+import okio.ForwardingSource;
+import okio.Okio;
+import okio.Source;
 import org.junit.Assert;
 import org.junit.Test;
+import org.stellar.sdk.exception.BadRequestException;
+import org.stellar.sdk.exception.RequestTimeoutException;
 import org.stellar.sdk.exception.TooManyRequestsException;
+import org.stellar.sdk.exception.UnexpectedException;
+import org.stellar.sdk.responses.LedgerResponse;
+import org.stellar.sdk.responses.Page;
+import org.stellar.sdk.responses.gson.GsonSingleton;
 
 public class ResponseHandlerTest {
+  private static final MediaType JSON = MediaType.get("application/json");
 
   @Test
   public void testTooManyRequests() throws IOException {
@@ -61,4 +87,140 @@ public class ResponseHandlerTest {
       mockWebServer.close();
     }
   }
+
+  @Test
+  public void testSuccessfulResponseIsParsedFromBodyStream() throws IOException {
+    String json =
+        new String(
+            Files.readAllBytes(Paths.get("src/test/resources/responses/pages/ledgers.json")),
+            StandardCharsets.UTF_8);
+    TypeToken<Page<LedgerResponse>> type = new TypeToken<Page<LedgerResponse>>() {};
+
+    Page<LedgerResponse> page =
+        new ResponseHandler<>(type).handleResponse(response(200, ResponseBody.create(json, JSON)));
+
+    Page<LedgerResponse> expected = GsonSingleton.getInstance().fromJson(json, type.getType());
+    assertEquals(expected.getRecords(), page.getRecords());
+    assertEquals(expected.getLinks(), page.getLinks());
+    assertEquals(type, page.getType());
+  }
+
+  @Test
+  public void testErrorReadingSuccessfulResponse() {
+    Buffer buffer = new Buffer().writeUtf8("{\"_embedded\": {\"records\": [");
+    Source failing =
+        new ForwardingSource(buffer) {
+          @Override
+          public long read(Buffer sink, long byteCount) throws IOException {
+            long read = super.read(sink, byteCount);
+            if (read == -1) {
+              throw new IOException("connection reset");
+            }
+            return read;
+          }
+        };
+    ResponseBody body = ResponseBody.create(Okio.buffer(failing), JSON, -1);
+
+    UnexpectedException exception =
+        assertThrows(
+            UnexpectedException.class,
+            () ->
+                new ResponseHandler<>(new TypeToken<Page<LedgerResponse>>() {})
+                    .handleResponse(response(200, body)));
+    assertEquals("connection reset", exception.getCause().getMessage());
+  }
+
+  @Test
+  public void testBadRequestKeepsBody() {
+    String json = "{\"type\": \"https://stellar.org/horizon-errors/bad_request\", \"status\": 400}";
+
+    BadRequestException exception =
+        assertThrows(
+            BadRequestException.class,
+            () ->
+                new ResponseHandler<>(new TypeToken<LedgerResponse>() {})
+                    .handleResponse(response(400, ResponseBody.create(json, JSON))));
+    assertEquals(json, exception.getBody());
+    assertEquals(Integer.valueOf(400), exception.getProblem().getStatus());
+  }
+
+  @Test
+  public void testEnqueueCompletesWithParsedResponse() throws Exception {
+    String json =
+        new String(
+            Files.readAllBytes(Paths.get("src/test/resources/responses/pages/ledgers.json")),
+            StandardCharsets.UTF_8);
+    MockWebServer mockWebServer = new MockWebServer();
+    mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody(json));
+    mockWebServer.start();
+
+    LedgersRequestBuilder builder =
+        new LedgersRequestBuilder(new OkHttpClient(), mockWebServer.url(""));
+    Page<LedgerResponse> page = builder.limit(2).executeAsync().get(10, TimeUnit.SECONDS);
+    Page<LedgerResponse> expected =
+        GsonSingleton.getInstance()
+            .fromJson(json, new TypeToken<Page<LedgerResponse>>() {}.getType());
+    assertEquals(expected.getRecords(), page.getRecords());
+    assertEquals("/ledgers?limit=2", mockWebServer.takeRequest().getPath());
+    mockWebServer.close();
+  }
+
+  @Test
+  public void testEnqueueCompletesExceptionallyWithErrorMapping() throws Exception {
+    MockWebServer mockWebServer = new MockWebServer();
+    mockWebServer.enqueue(new MockResponse().setResponseCode(429).setHeader("Retry-After", "10"));
+    mockWebServer.start();
+
+    LedgersRequestBuilder builder =
+        new LedgersRequestBuilder(new OkHttpClient(), mockWebServer.url(""));
+    ExecutionException exception =
+        assertThrows(
+            ExecutionException.class, () -> builder.executeAsync().get(10, TimeUnit.SECONDS));
+    assertTrue(exception.getCause() instanceof TooManyRequestsException);
+    assertEquals(
+        Integer.valueOf(10), ((TooManyRequestsException) exception.getCause()).getRetryAfter());
+    mockWebServer.close();
+  }
+
+  @Test
+  public void testEnqueueTimeout() throws Exception {
+    MockWebServer mockWebServer = new MockWebServer();
+    mockWebServer.enqueue(new MockResponse().setBody("{}").setHeadersDelay(5, TimeUnit.SECONDS));
+    mockWebServer.start();
+
+    OkHttpClient httpClient =
+        new OkHttpClient.Builder().readTimeout(100, TimeUnit.MILLISECONDS).build();
+    LedgersRequestBuilder builder = new LedgersRequestBuilder(httpClient, mockWebServer.url(""));
+    ExecutionException exception =
+        assertThrows(
+            ExecutionException.class, () -> builder.executeAsync().get(10, TimeUnit.SECONDS));
+    assertTrue(exception.getCause() instanceof RequestTimeoutException);
+    mockWebServer.close();
+  }
+
+  @Test
+  public void testCancellingFutureCancelsCall() throws Exception {
+    MockWebServer mockWebServer = new MockWebServer();
+    mockWebServer.enqueue(new MockResponse().setBody("{}").setHeadersDelay(5, TimeUnit.SECONDS));
+    mockWebServer.start();
+
+    Call call =
+        new OkHttpClient().newCall(new Request.Builder().url(mockWebServer.url("/")).build());
+    CompletableFuture<LedgerResponse> future =
+        new ResponseHandler<>(new TypeToken<LedgerResponse>() {}).enqueue(call);
+    assertTrue(future.cancel(true));
+    assertTrue(call.isCanceled());
+    assertTrue(future.isCancelled());
+    mockWebServer.close();
+  }
+
+  private static Response response(int code, ResponseBody body) {
+    return new Response.Builder()
+        .request(new Request.Builder().url("https://horizon.stellar.org/ledgers").build())
+        .protocol(Protocol.HTTP_1_1)
+        .code(code)
+        .message("")
+        .body(body)
+        .build();
+  }
 }
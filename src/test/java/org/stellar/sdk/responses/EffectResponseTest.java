@@ -3,8 +3,11 @@ package org.stellar.sdk.responses;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
+import com.google.gson.JsonParseException;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -966,4 +969,42 @@ public class EffectResponseTest {
         response.getTrustLineAsset());
     // TODO: test liquidity pool id
   }
+
+  @Test
+  public void testDeserializeWithTypeBeforeOrAfterOtherFields() {
+    String[] jsons = {
+      "{\"type_i\": 0, \"_links\": {\"operation\": {\"href\": \"https://horizon.stellar.org/operations/1\"}},"
+          + " \"id\": \"0000000000000000001-0000000001\", \"type\": \"account_created\","
+          + " \"starting_balance\": \"15.8675013\"}",
+      "{\"_links\": {\"operation\": {\"href\": \"https://horizon.stellar.org/operations/1\"}},"
+          + " \"id\": \"0000000000000000001-0000000001\", \"starting_balance\": \"15.8675013\","
+          + " \"unknown\": [1, 2.5, true, null, {\"a\": []}], \"type\": \"account_created\","
+          + " \"type_i\": 0}",
+    };
+    for (String json : jsons) {
+      AccountCreatedEffectResponse response =
+          (AccountCreatedEffectResponse)
+              GsonSingleton.getInstance().fromJson(json, EffectResponse.class);
+      assertEquals(
+          "https://horizon.stellar.org/operations/1", response.getLinks().getOperation().getHref());
+      assertEquals("0000000000000000001-0000000001", response.getId());
+      assertEquals("account_created", response.getType());
+      assertEquals("15.8675013", response.getStartingBalance());
+    }
+  }
+
+  @Test
+  public void testDeserializeEffectWithMissingTypeI() {
+    String json = "{\"id\": \"12345\", \"type\": \"account_created\"}";
+    JsonParseException exception =
+        assertThrows(
+            JsonParseException.class,
+            () -> GsonSingleton.getInstance().fromJson(json, EffectResponse.class));
+    assertTrue(exception.getMessage().contains("Missing required field 'type_i'"));
+  }
+
+  @Test
+  public void testDeserializeNullEffect() {
+    assertNull(GsonSingleton.getInstance().fromJson("null", EffectResponse.class));
+  }
 }
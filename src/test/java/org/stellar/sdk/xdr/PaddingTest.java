@@ -32,4 +32,28 @@ public class PaddingTest {
       assertEquals("non-zero padding", expectedException.getMessage());
     }
   }
+
+  @Test
+  public void testSkipString() {
+    byte[] bytes = {0, 0, 0, 2, 'a', 'b', 1, 0};
+
+    try {
+      String32.skip(new XdrDataInputStream(new ByteArrayInputStream(bytes)));
+      fail("Didn't throw IOException");
+    } catch (IOException expectedException) {
+      assertEquals("non-zero padding", expectedException.getMessage());
+    }
+  }
+
+  @Test
+  public void testSkipVarOpaque() {
+    byte[] bytes = {0, 0, 0, 2, 'a', 'b', 1, 0};
+
+    try {
+      DataValue.skip(new XdrDataInputStream(new ByteArrayInputStream(bytes)));
+      fail("Didn't throw IOException");
+    } catch (IOException expectedException) {
+      assertEquals("non-zero padding", expectedException.getMessage());
+    }
+  }
 }
@@ -0,0 +1,147 @@
+package org.stellar.sdk
+
+import io.kotest.assertions.throwables.shouldThrow
+import io.kotest.core.spec.style.FunSpec
+import io.kotest.matchers.shouldBe
+import java.math.BigDecimal
+import org.stellar.sdk.operations.PaymentOperation
+import org.stellar.sdk.scval.Scv
+import org.stellar.sdk.xdr.Int64
+import org.stellar.sdk.xdr.InvokeContractArgs
+import org.stellar.sdk.xdr.SCVal
+import org.stellar.sdk.xdr.SorobanAddressCredentials
+import org.stellar.sdk.xdr.SorobanAuthorizationEntry
+import org.stellar.sdk.xdr.SorobanAuthorizedFunction
+import org.stellar.sdk.xdr.SorobanAuthorizedFunctionType
+import org.stellar.sdk.xdr.SorobanAuthorizedInvocation
+import org.stellar.sdk.xdr.SorobanCredentials
+import org.stellar.sdk.xdr.SorobanCredentialsType
+import org.stellar.sdk.xdr.Uint32
+import org.stellar.sdk.xdr.XdrUnsignedInteger
+
+class SignatureVerifierTest :
+  FunSpec({
+    val signers = (1..4).map { KeyPair.fromSecretSeed(ByteArray(32) { i -> (i * it).toByte() }) }
+    val data = "hello, stellar".toByteArray()
+
+    fun entries(): List<SignatureVerifier.Entry> =
+      signers.map { SignatureVerifier.Entry.of(it, data, it.sign(data)) }
+
+    test("accepts a batch of valid signatures") {
+      val result = KeyPair.verifyBatch(entries())
+      result.isValid shouldBe true
+      result.size shouldBe 4
+      result.firstInvalidIndex shouldBe -1
+    }
+
+    test("pinpoints invalid signatures") {
+      val entries = entries().toMutableList()
+      val tampered = entries[1].signature.clone().also { it[0] = (it[0] + 1).toByte() }
+      entries[1] = SignatureVerifier.Entry(entries[1].publicKey, data, tampered)
+      entries[3] =
+        SignatureVerifier.Entry.of(signers[3], "other".toByteArray(), entries[3].signature)
+
+      for (parallel in listOf(false, true)) {
+        val result = SignatureVerifier(1).verifyBatch(entries, parallel)
+        result.isValid shouldBe false
+        result.invalidIndices shouldBe listOf(1, 3)
+        result.firstInvalidIndex shouldBe 1
+      }
+    }
+
+    test("treats malformed keys and signatures as invalid") {
+      val verifier = SignatureVerifier()
+      val signature = signers[0].sign(data)
+      verifier.verify(signers[0].publicKey, data, signature) shouldBe true
+      verifier.verify(ByteArray(32), data, signature) shouldBe false
+      verifier.verify(ByteArray(31), data, signature) shouldBe false
+      verifier.verify(signers[0].publicKey, data, signature.copyOf(63)) shouldBe false
+      signers[0].verify(data, signature.copyOf(63)) shouldBe false
+    }
+
+    test("builds the entries of a transaction by signature hint") {
+      val transaction =
+        TransactionBuilder(Account(signers[0].accountId, 1L), Network.TESTNET)
+          .setBaseFee(100)
+          .setTimeout(30)
+          .addOperation(
+            PaymentOperation.builder()
+              .destination(signers[1].accountId)
+              .asset(AssetTypeNative())
+              .amount(BigDecimal.ONE)
+              .build()
+          )
+          .build()
+      transaction.sign(signers[0])
+      transaction.sign(signers[1])
+      transaction.sign(signers[3])
+
+      val entries = SignatureVerifier.Entry.fromTransaction(transaction, signers.subList(0, 3))
+      entries.map { it.publicKey.toList() } shouldBe
+        listOf(signers[0].publicKey.toList(), signers[1].publicKey.toList())
+      SignatureVerifier().verifyBatch(entries).isValid shouldBe true
+    }
+
+    test("builds the entries of an authorization entry") {
+      val credentials =
+        SorobanCredentials.builder()
+          .discriminant(SorobanCredentialsType.SOROBAN_CREDENTIALS_ADDRESS)
+          .address(
+            SorobanAddressCredentials.builder()
+              .address(Address(signers[0].accountId).toSCAddress())
+              .nonce(Int64(123456789L))
+              .signatureExpirationLedger(Uint32(XdrUnsignedInteger(0L)))
+              .signature(Scv.toVoid())
+              .build()
+          )
+          .build()
+      val invocation =
+        SorobanAuthorizedInvocation.builder()
+          .function(
+            SorobanAuthorizedFunction.builder()
+              .discriminant(
+                SorobanAuthorizedFunctionType.SOROBAN_AUTHORIZED_FUNCTION_TYPE_CONTRACT_FN
+              )
+              .contractFn(
+                InvokeContractArgs.builder()
+                  .contractAddress(
+                    Address("CDCYWK73YTYFJZZSJ5V7EDFNHYBG4QN3VUNG2IGD27KJDDPNCZKBCBXK")
+                      .toSCAddress()
+                  )
+                  .functionName(Scv.toSymbol("increment").sym)
+                  .args(arrayOf<SCVal>())
+                  .build()
+              )
+              .build()
+          )
+          .subInvocations(arrayOf<SorobanAuthorizedInvocation>())
+          .build()
+      val unsigned =
+        SorobanAuthorizationEntry.builder()
+          .credentials(credentials)
+          .rootInvocation(invocation)
+          .build()
+      SignatureVerifier.Entry.fromAuthorizationEntry(unsigned, Network.TESTNET) shouldBe listOf()
+
+      val signed = Auth.authorizeEntry(unsigned, signers[0], 654656L, Network.TESTNET)
+      val entries = SignatureVerifier.Entry.fromAuthorizationEntry(signed, Network.TESTNET)
+      entries.map { it.publicKey.toList() } shouldBe listOf(signers[0].publicKey.toList())
+      SignatureVerifier().verifyBatch(entries).isValid shouldBe true
+      SignatureVerifier()
+        .verifyBatch(SignatureVerifier.Entry.fromAuthorizationEntry(signed, Network.PUBLIC))
+        .isValid shouldBe false
+    }
+
+    test("keeps verifying with a full cache") {
+      val verifier = SignatureVerifier(2)
+      repeat(3) {
+        for (signer in signers) {
+          verifier.verify(signer.publicKey, data, signer.sign(data)) shouldBe true
+        }
+      }
+    }
+
+    test("rejects a negative cache size") {
+      shouldThrow<IllegalArgumentException> { SignatureVerifier(-1) }
+    }
+  })
@@ -337,6 +337,113 @@ class StrKeyTest :
       }
     }
 
+    context("caller-supplied buffers") {
+      test("encode and decode ed25519 public key at an offset") {
+        val rawKey =
+          Util.hexToBytes("5223d15964cb25b98d17dfc9cb954a4331617bbaa4e5dc144c87df0b8b3b47d9")
+        val encoded = "GBJCHUKZMTFSLOMNC7P4TS4VJJBTCYL3XKSOLXAUJSD56C4LHND5TWUC"
+
+        val chars = CharArray(60)
+        StrKey.encodeEd25519PublicKey(byteArrayOf(1, 2) + rawKey, 2, chars, 3) shouldBe 56
+        String(chars, 3, 56) shouldBe encoded
+
+        val bytes = ByteArray(36)
+        StrKey.decodeEd25519PublicKey(StringBuilder(encoded), bytes, 4) shouldBe 32
+        bytes.copyOfRange(4, 36) shouldBe rawKey
+        bytes.copyOfRange(0, 4) shouldBe ByteArray(4)
+      }
+
+      test("encode and decode contract") {
+        val rawKey =
+          Util.hexToBytes("3f0c34bf93ad0d9971d04ccc90f705511c838aad9734a4a2fb0d7a03fc7fe89a")
+        val encoded = "CA7QYNF7SOWQ3GLR2BGMZEHXAVIRZA4KVWLTJJFC7MGXUA74P7UJUWDA"
+
+        val chars = CharArray(56)
+        StrKey.encodeContract(rawKey, 0, chars, 0) shouldBe 56
+        String(chars) shouldBe encoded
+
+        val bytes = ByteArray(32)
+        StrKey.decodeContract(encoded, bytes, 0) shouldBe 32
+        bytes shouldBe rawKey
+      }
+
+      test("encode and decode med25519 public key") {
+        val rawKey =
+          Util.hexToBytes(
+            "2000757eeae583fc50dd669f97673acc25ec725823ac73faf6c7df31ad31e50900000000000004d2"
+          )
+        val encoded = "MAQAA5L65LSYH7CQ3VTJ7F3HHLGCL3DSLAR2Y47263D56MNNGHSQSAAAAAAAAAAE2LP26"
+
+        val chars = CharArray(69)
+        StrKey.encodeMed25519PublicKey(rawKey, 0, chars, 0) shouldBe 69
+        String(chars) shouldBe encoded
+
+        val bytes = ByteArray(40)
+        StrKey.decodeMed25519PublicKey(encoded, bytes, 0) shouldBe 40
+        bytes shouldBe rawKey
+      }
+
+      test("round trip random keys") {
+        val random = java.util.Random(42)
+        val chars = CharArray(56)
+        val bytes = ByteArray(32)
+        repeat(100) {
+          val rawKey = ByteArray(32).also { random.nextBytes(it) }
+          StrKey.encodeEd25519PublicKey(rawKey, 0, chars, 0)
+          String(chars) shouldBe StrKey.encodeEd25519PublicKey(rawKey)
+          StrKey.decodeEd25519PublicKey(String(chars), bytes, 0)
+          bytes shouldBe rawKey
+        }
+      }
+
+      test("should throw if the buffer is too small") {
+        val rawKey = ByteArray(32)
+        shouldThrow<IllegalArgumentException> {
+            StrKey.encodeEd25519PublicKey(rawKey, 0, CharArray(56), 1)
+          }
+          .message shouldBe "Output buffer too small, 56 characters required"
+        shouldThrow<IndexOutOfBoundsException> {
+          StrKey.encodeEd25519PublicKey(rawKey, 1, CharArray(56), 0)
+        }
+        shouldThrow<IllegalArgumentException> {
+            StrKey.decodeEd25519PublicKey(
+              "GBJCHUKZMTFSLOMNC7P4TS4VJJBTCYL3XKSOLXAUJSD56C4LHND5TWUC",
+              ByteArray(32),
+              1,
+            )
+          }
+          .message shouldBe "Output buffer too small, 32 bytes required"
+      }
+
+      test("should reject invalid keys") {
+        val bytes = ByteArray(32)
+        shouldThrow<IllegalArgumentException> {
+            StrKey.decodeEd25519PublicKey(
+              "GBJCHUKZMTFSLOMNC7P4TS4VJJBTCYL3XKSOLXAUJSD56C4LHND5TWUD",
+              bytes,
+              0,
+            )
+          }
+          .message shouldBe "Checksum invalid"
+        shouldThrow<IllegalArgumentException> {
+            StrKey.decodeEd25519PublicKey(
+              "CA7QYNF7SOWQ3GLR2BGMZEHXAVIRZA4KVWLTJJFC7MGXUA74P7UJUWDA",
+              bytes,
+              0,
+            )
+          }
+          .message shouldBe "Version byte mismatch"
+        shouldThrow<IllegalArgumentException> {
+            StrKey.decodeEd25519PublicKey(
+              "GBJCHUKZMTFSLOMNC7P4TS4VJJBTCYL3XKSOLXAUJSD56C4LHND5TWUĀ",
+              bytes,
+              0,
+            )
+          }
+          .message shouldBe "Invalid base32 encoded string"
+      }
+    }
+
     context("should reject all invalid StrKey cases") {
       // https://github.com/stellar/stellar-protocol/blob/master/ecosystem/sep-0023.md
       withTests(
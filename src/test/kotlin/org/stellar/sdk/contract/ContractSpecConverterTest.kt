@@ -0,0 +1,303 @@
+package org.stellar.sdk.contract
+
+import io.kotest.assertions.throwables.shouldThrow
+import io.kotest.core.spec.style.FunSpec
+import io.kotest.matchers.shouldBe
+import java.math.BigInteger
+import org.stellar.sdk.Address
+import org.stellar.sdk.scval.Scv
+import org.stellar.sdk.xdr.SCSpecEntry
+import org.stellar.sdk.xdr.SCSpecEntryKind
+import org.stellar.sdk.xdr.SCSpecFunctionInputV0
+import org.stellar.sdk.xdr.SCSpecFunctionV0
+import org.stellar.sdk.xdr.SCSpecType
+import org.stellar.sdk.xdr.SCSpecTypeDef
+import org.stellar.sdk.xdr.SCSpecTypeMap
+import org.stellar.sdk.xdr.SCSpecTypeOption
+import org.stellar.sdk.xdr.SCSpecTypeUDT
+import org.stellar.sdk.xdr.SCSpecTypeVec
+import org.stellar.sdk.xdr.SCSpecUDTEnumCaseV0
+import org.stellar.sdk.xdr.SCSpecUDTEnumV0
+import org.stellar.sdk.xdr.SCSpecUDTStructFieldV0
+import org.stellar.sdk.xdr.SCSpecUDTStructV0
+import org.stellar.sdk.xdr.SCSpecUDTUnionCaseTupleV0
+import org.stellar.sdk.xdr.SCSpecUDTUnionCaseV0
+import org.stellar.sdk.xdr.SCSpecUDTUnionCaseV0Kind
+import org.stellar.sdk.xdr.SCSpecUDTUnionCaseVoidV0
+import org.stellar.sdk.xdr.SCSpecUDTUnionV0
+import org.stellar.sdk.xdr.SCSymbol
+import org.stellar.sdk.xdr.Uint32
+import org.stellar.sdk.xdr.XdrString
+import org.stellar.sdk.xdr.XdrUnsignedInteger
+
+private fun str(value: String) = XdrString(value.toByteArray(Charsets.UTF_8))
+
+private fun type(type: SCSpecType) = SCSpecTypeDef.builder().discriminant(type).build()
+
+private fun udt(name: String) =
+  SCSpecTypeDef.builder()
+    .discriminant(SCSpecType.SC_SPEC_TYPE_UDT)
+    .udt(SCSpecTypeUDT(str(name)))
+    .build()
+
+private fun function(
+  name: String,
+  inputs: List<Pair<String, SCSpecTypeDef>>,
+  output: SCSpecTypeDef?,
+): SCSpecEntry =
+  SCSpecEntry.builder()
+    .discriminant(SCSpecEntryKind.SC_SPEC_ENTRY_FUNCTION_V0)
+    .functionV0(
+      SCSpecFunctionV0.builder()
+        .doc(str(""))
+        .name(SCSymbol(str(name)))
+        .inputs(
+          inputs
+            .map {
+              SCSpecFunctionInputV0.builder()
+                .doc(str(""))
+                .name(str(it.first))
+                .type(it.second)
+                .build()
+            }
+            .toTypedArray()
+        )
+        .outputs(listOfNotNull(output).toTypedArray())
+        .build()
+    )
+    .build()
+
+private fun struct(name: String, vararg fields: Pair<String, SCSpecTypeDef>): SCSpecEntry =
+  SCSpecEntry.builder()
+    .discriminant(SCSpecEntryKind.SC_SPEC_ENTRY_UDT_STRUCT_V0)
+    .udtStructV0(
+      SCSpecUDTStructV0.builder()
+        .doc(str(""))
+        .lib(str(""))
+        .name(str(name))
+        .fields(
+          fields
+            .map {
+              SCSpecUDTStructFieldV0.builder()
+                .doc(str(""))
+                .name(str(it.first))
+                .type(it.second)
+                .build()
+            }
+            .toTypedArray()
+        )
+        .build()
+    )
+    .build()
+
+class ContractSpecConverterTest :
+  FunSpec({
+    val i128 = type(SCSpecType.SC_SPEC_TYPE_I128)
+    val address = type(SCSpecType.SC_SPEC_TYPE_ADDRESS)
+    val kind =
+      SCSpecEntry.builder()
+        .discriminant(SCSpecEntryKind.SC_SPEC_ENTRY_UDT_UNION_V0)
+        .udtUnionV0(
+          SCSpecUDTUnionV0.builder()
+            .doc(str(""))
+            .lib(str(""))
+            .name(str("Kind"))
+            .cases(
+              arrayOf(
+                SCSpecUDTUnionCaseV0.builder()
+                  .discriminant(SCSpecUDTUnionCaseV0Kind.SC_SPEC_UDT_UNION_CASE_VOID_V0)
+                  .voidCase(
+                    SCSpecUDTUnionCaseVoidV0.builder().doc(str("")).name(str("None")).build()
+                  )
+                  .build(),
+                SCSpecUDTUnionCaseV0.builder()
+                  .discriminant(SCSpecUDTUnionCaseV0Kind.SC_SPEC_UDT_UNION_CASE_TUPLE_V0)
+                  .tupleCase(
+                    SCSpecUDTUnionCaseTupleV0.builder()
+                      .doc(str(""))
+                      .name(str("Limit"))
+                      .type(arrayOf(type(SCSpecType.SC_SPEC_TYPE_U32)))
+                      .build()
+                  )
+                  .build(),
+              )
+            )
+            .build()
+        )
+        .build()
+    val color =
+      SCSpecEntry.builder()
+        .discriminant(SCSpecEntryKind.SC_SPEC_ENTRY_UDT_ENUM_V0)
+        .udtEnumV0(
+          SCSpecUDTEnumV0.builder()
+            .doc(str(""))
+            .lib(str(""))
+            .name(str("Color"))
+            .cases(
+              arrayOf(
+                SCSpecUDTEnumCaseV0.builder()
+                  .doc(str(""))
+                  .name(str("Red"))
+                  .value(Uint32(XdrUnsignedInteger(1)))
+                  .build(),
+                SCSpecUDTEnumCaseV0.builder()
+                  .doc(str(""))
+                  .name(str("Blue"))
+                  .value(Uint32(XdrUnsignedInteger(2)))
+                  .build(),
+              )
+            )
+            .build()
+        )
+        .build()
+    val optionalNode =
+      SCSpecTypeDef.builder()
+        .discriminant(SCSpecType.SC_SPEC_TYPE_OPTION)
+        .option(SCSpecTypeOption(udt("Node")))
+        .build()
+    val spec =
+      ContractSpec(
+        listOf(
+          struct(
+            "Order",
+            "kind" to udt("Kind"),
+            "amount" to type(SCSpecType.SC_SPEC_TYPE_U256),
+            "color" to udt("Color"),
+          ),
+          struct("Node", "value" to i128, "next" to optionalNode),
+          struct("Pair", "0" to address, "1" to type(SCSpecType.SC_SPEC_TYPE_SYMBOL)),
+          kind,
+          color,
+          function("transfer", listOf("from" to address, "to" to address, "amount" to i128), i128),
+          function(
+            "place",
+            listOf(
+              "orders" to
+                SCSpecTypeDef.builder()
+                  .discriminant(SCSpecType.SC_SPEC_TYPE_VEC)
+                  .vec(SCSpecTypeVec(udt("Order")))
+                  .build(),
+              "limits" to
+                SCSpecTypeDef.builder()
+                  .discriminant(SCSpecType.SC_SPEC_TYPE_MAP)
+                  .map(SCSpecTypeMap(type(SCSpecType.SC_SPEC_TYPE_SYMBOL), i128))
+                  .build(),
+              "pair" to udt("Pair"),
+              "memo" to optionalNode,
+            ),
+            null,
+          ),
+        )
+      )
+    val converter = ContractSpecConverter(spec)
+    val from = "GCEZWKCA5VLDNRLN3RPRJMRZOX3Z6G5CHCGSNFHEYVXM3XOJMDS674JZ"
+    val to = "CDCYWK73YTYFJZZSJ5V7EDFNHYBG4QN3VUNG2IGD27KJDDPNCZKBCBXK"
+
+    test("converts the arguments and result of a function") {
+      val args = converter.funcArgsToScVals("transfer", listOf(from, Address(to), 100L))
+      args shouldBe
+        listOf(Scv.toAddress(from), Scv.toAddress(to), Scv.toInt128(BigInteger.valueOf(100)))
+      converter.funcArgsToScVals(
+        "transfer",
+        mapOf("amount" to BigInteger.valueOf(100), "to" to to, "from" to from),
+      ) shouldBe args
+      converter.funcResToNative("transfer", Scv.toInt128(BigInteger.TEN)) shouldBe BigInteger.TEN
+      converter.getFunction("transfer").inputNames shouldBe listOf("from", "to", "amount")
+    }
+
+    test("converts structs, unions, enums, options and collections") {
+      val place = converter.getFunction("place")
+      val order =
+        mapOf(
+          "kind" to ContractSpecConverter.UnionValue.of("Limit", 7L),
+          "amount" to BigInteger.valueOf(2).pow(200),
+          "color" to "Blue",
+        )
+      val node = mapOf("value" to BigInteger.ONE, "next" to mapOf("value" to 2L, "next" to null))
+      val args =
+        place.encodeArgs(
+          listOf(listOf(order), mapOf("b" to 2L, "a" to 1L), listOf(from, "xlm"), node)
+        )
+
+      args[0] shouldBe
+        Scv.toVec(
+          listOf(
+            Scv.toMap(
+              mapOf(
+                Scv.toSymbol("kind") to Scv.toVec(listOf(Scv.toSymbol("Limit"), Scv.toUint32(7))),
+                Scv.toSymbol("amount") to Scv.toUint256(BigInteger.valueOf(2).pow(200)),
+                Scv.toSymbol("color") to Scv.toUint32(2),
+              )
+            )
+          )
+        )
+      args[1] shouldBe
+        Scv.toMap(
+          mapOf(
+            Scv.toSymbol("a") to Scv.toInt128(BigInteger.ONE),
+            Scv.toSymbol("b") to Scv.toInt128(BigInteger.valueOf(2)),
+          )
+        )
+      args[2] shouldBe Scv.toVec(listOf(Scv.toAddress(from), Scv.toSymbol("xlm")))
+
+      val inputs = spec.getFunction("place").get().inputs
+      converter.scValToNative(args[0], inputs[0].type) shouldBe
+        listOf(
+          mapOf(
+            "amount" to BigInteger.valueOf(2).pow(200),
+            "color" to 2L,
+            "kind" to ContractSpecConverter.UnionValue.of("Limit", 7L),
+          )
+        )
+      converter.scValToNative(args[1], inputs[1].type) shouldBe
+        mapOf("a" to BigInteger.ONE, "b" to BigInteger.valueOf(2))
+      converter.scValToNative(args[2], inputs[2].type) shouldBe listOf(Address(from), "xlm")
+      converter.scValToNative(args[3], inputs[3].type) shouldBe
+        mapOf(
+          "next" to mapOf("next" to null, "value" to BigInteger.valueOf(2)),
+          "value" to BigInteger.ONE,
+        )
+      place
+        .encodeArgs(listOf(listOf<Any>(), mapOf<String, Any>(), listOf(from, "xlm"), null))[
+          3] shouldBe Scv.toVoid()
+      place.decodeResult(Scv.toVoid()) shouldBe null
+    }
+
+    test("passes SCVal arguments through") {
+      val amount = Scv.toInt128(BigInteger.valueOf(-5))
+      converter.funcArgsToScVals("transfer", listOf(from, to, amount))[2] shouldBe amount
+    }
+
+    test("rejects values which do not match the spec") {
+      shouldThrow<IllegalArgumentException> { converter.getFunction("missing") }
+      shouldThrow<IllegalArgumentException> {
+        converter.funcArgsToScVals("transfer", listOf(from, to))
+      }
+      shouldThrow<IllegalArgumentException> {
+        converter.funcArgsToScVals("transfer", mapOf("from" to from, "to" to to))
+      }
+      shouldThrow<IllegalArgumentException> {
+        converter.funcArgsToScVals("transfer", listOf(from, to, "100"))
+      }
+      shouldThrow<IllegalArgumentException> {
+        converter.nativeToScVal(mapOf("value" to 1L), udt("Node"))
+      }
+      shouldThrow<IllegalArgumentException> {
+        converter.nativeToScVal(ContractSpecConverter.UnionValue.of("Unlimited"), udt("Kind"))
+      }
+      shouldThrow<IllegalArgumentException> { converter.nativeToScVal("Green", udt("Color")) }
+      shouldThrow<IllegalArgumentException> { converter.nativeToScVal(1L, udt("Missing")) }
+      shouldThrow<IllegalArgumentException> {
+        converter.scValToNative(Scv.toUint32(3), udt("Color"))
+      }
+      shouldThrow<IllegalArgumentException> {
+        converter.nativeToScVal(1L shl 40, type(SCSpecType.SC_SPEC_TYPE_I32))
+      }
+      shouldThrow<IllegalArgumentException> {
+        converter.nativeToScVal(BigInteger.ONE.shiftLeft(64), type(SCSpecType.SC_SPEC_TYPE_I64))
+      }
+      shouldThrow<IllegalArgumentException> {
+        converter.funcResToNative("transfer", Scv.toInt64(10))
+      }
+    }
+  })
@@ -210,6 +210,20 @@ class ContractSpecTest :
       shouldThrow<InvalidWasmException> { spec.getFunction("anything") }
     }
 
+    test("non-UTF-8 function name only fails lookups that reach it") {
+      val invalid =
+        functionEntry("x").apply { functionV0.name = symbolBytes(byteArrayOf(0xff.toByte())) }
+      val spec =
+        ContractSpec(
+          listOf(functionEntry("before"), invalid, functionEntry("after"), structEntry("S"))
+        )
+      spec.getFunction("before").isPresent shouldBe true
+      spec.getUdt("S").isPresent shouldBe true
+      spec.getEvents().size shouldBe 0
+      shouldThrow<InvalidWasmException> { spec.getFunction("after") }
+      shouldThrow<InvalidWasmException> { spec.getFunction("missing") }
+    }
+
     test("XDR bytes round trip") {
       val original = ContractSpec(listOf(functionEntry("a"), eventEntry("b")))
       val restored = ContractSpec.fromXdrBytes(original.toXdrBytes())
@@ -0,0 +1,129 @@
+package org.stellar.sdk.ingest
+
+import com.google.gson.JsonParser
+import io.kotest.assertions.throwables.shouldThrow
+import io.kotest.core.spec.style.FunSpec
+import io.kotest.matchers.nulls.shouldBeNull
+import io.kotest.matchers.shouldBe
+import java.io.IOException
+import java.nio.ByteBuffer
+import org.stellar.sdk.scval.Scv
+import org.stellar.sdk.xdr.ExtensionPoint
+import org.stellar.sdk.xdr.LedgerEntryChanges
+import org.stellar.sdk.xdr.SorobanTransactionMetaExt
+import org.stellar.sdk.xdr.SorobanTransactionMetaV2
+import org.stellar.sdk.xdr.TransactionMeta
+import org.stellar.sdk.xdr.TransactionMetaV4
+
+class LazyTransactionMetaTest :
+  FunSpec({
+    val v3Metas =
+      JsonParser.parseString(
+          javaClass.getResource("/soroban_server/get_transactions.json")!!.readText()
+        )
+        .asJsonObject
+        .getAsJsonObject("result")
+        .getAsJsonArray("transactions")
+        .map { it.asJsonObject.get("resultMetaXdr").asString }
+
+    test("reads the parts of a v3 meta on first access") {
+      for (xdr in v3Metas) {
+        val expected = TransactionMeta.fromXdrBase64(xdr)
+        val meta = LazyTransactionMeta.fromXdrBase64(xdr)
+
+        meta.discriminant shouldBe 3
+        meta.v4.shouldBeNull()
+        val v3 = meta.v3!!
+        v3.txChangesBefore.isDecoded shouldBe false
+        v3.txChangesBefore.size() shouldBe expected.v3.txChangesBefore.ledgerEntryChanges.size
+        v3.txChangesBefore.get() shouldBe expected.v3.txChangesBefore.ledgerEntryChanges.toList()
+        v3.operations.toList() shouldBe expected.v3.operations.toList()
+        v3.operations.isDecoded shouldBe false
+        v3.txChangesAfter.stream().toList() shouldBe
+          expected.v3.txChangesAfter.ledgerEntryChanges.toList()
+        v3.ext.get() shouldBe expected.v3.ext
+
+        val sorobanMeta = expected.v3.sorobanMeta
+        if (sorobanMeta == null) {
+          v3.sorobanMeta.shouldBeNull()
+        } else {
+          v3.sorobanMeta!!.returnValue.isDecoded shouldBe false
+          v3.sorobanMeta!!.returnValue.get() shouldBe sorobanMeta.returnValue
+          v3.sorobanMeta!!.events.isDecoded shouldBe false
+          v3.sorobanMeta!!.events.get() shouldBe sorobanMeta.events.toList()
+          v3.sorobanMeta!!.diagnosticEvents.size() shouldBe sorobanMeta.diagnosticEvents.size
+          v3.sorobanMeta!!.toSorobanTransactionMeta() shouldBe sorobanMeta
+        }
+        v3.toTransactionMetaV3() shouldBe expected.v3
+        meta.toTransactionMeta() shouldBe expected
+      }
+    }
+
+    test("reads a v4 meta") {
+      val expected =
+        TransactionMeta.builder()
+          .discriminant(4)
+          .v4(
+            TransactionMetaV4.builder()
+              .ext(ExtensionPoint.builder().discriminant(0).build())
+              .txChangesBefore(LedgerEntryChanges(arrayOf()))
+              .operations(arrayOf())
+              .txChangesAfter(LedgerEntryChanges(arrayOf()))
+              .sorobanMeta(
+                SorobanTransactionMetaV2.builder()
+                  .ext(SorobanTransactionMetaExt.builder().discriminant(0).build())
+                  .returnValue(Scv.toUint32(42))
+                  .build()
+              )
+              .events(arrayOf())
+              .diagnosticEvents(arrayOf())
+              .build()
+          )
+          .build()
+      val meta = LazyTransactionMeta.fromXdrByteArray(expected.toXdrByteArray())
+
+      meta.discriminant shouldBe 4
+      meta.v3.shouldBeNull()
+      val v4 = meta.v4!!
+      v4.sorobanMeta!!.returnValue!!.get() shouldBe Scv.toUint32(42)
+      v4.operations.isEmpty shouldBe true
+      v4.events.size() shouldBe 0
+      v4.diagnosticEvents.get() shouldBe listOf()
+      meta.operations.shouldBeNull()
+      meta.toTransactionMeta() shouldBe expected
+    }
+
+    test("reads a v4 meta without a return value") {
+      val expected =
+        SorobanTransactionMetaV2.builder()
+          .ext(SorobanTransactionMetaExt.builder().discriminant(0).build())
+          .build()
+      val meta = LazySorobanTransactionMetaV2.fromXdrByteArray(expected.toXdrByteArray())
+
+      meta.returnValue.shouldBeNull()
+      meta.toSorobanTransactionMetaV2() shouldBe expected
+    }
+
+    test("reads a v0 meta") {
+      val expected = TransactionMeta.builder().discriminant(0).operations(arrayOf()).build()
+      val meta = LazyTransactionMeta.fromXdrByteArray(expected.toXdrByteArray())
+
+      meta.discriminant shouldBe 0
+      meta.operations!!.size() shouldBe 0
+      meta.v3.shouldBeNull()
+      meta.xdr.remaining() shouldBe expected.toXdrByteArray().size
+    }
+
+    test("rejects invalid input") {
+      shouldThrow<IOException> { LazyTransactionMeta.fromXdrByteArray(byteArrayOf(0, 0, 0, 5)) }
+      val truncated = TransactionMeta.fromXdrBase64(v3Metas[0]).toXdrByteArray()
+      shouldThrow<IOException> {
+        LazyTransactionMeta.fromXdrByteArray(truncated.copyOf(truncated.size - 4))
+      }
+    }
+
+    test("enforces the maximum depth") {
+      val encoded = TransactionMeta.fromXdrBase64(v3Metas[0]).toXdrByteArray()
+      shouldThrow<IOException> { LazyTransactionMeta(XdrSlicer(ByteBuffer.wrap(encoded)), 1) }
+    }
+  })
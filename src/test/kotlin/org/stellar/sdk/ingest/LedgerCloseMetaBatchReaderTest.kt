@@ -0,0 +1,184 @@
+package org.stellar.sdk.ingest
+
+import io.kotest.assertions.throwables.shouldThrow
+import io.kotest.core.spec.style.FunSpec
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.shouldNotBe
+import java.io.ByteArrayInputStream
+import java.io.ByteArrayOutputStream
+import java.io.IOException
+import java.io.UncheckedIOException
+import java.nio.file.Files
+import java.util.EnumSet
+import kotlin.streams.toList
+import org.stellar.sdk.xdr.Hash
+import org.stellar.sdk.xdr.LedgerCloseMeta
+import org.stellar.sdk.xdr.LedgerCloseMetaV0
+import org.stellar.sdk.xdr.TransactionEnvelope
+import org.stellar.sdk.xdr.TransactionResultMeta
+import org.stellar.sdk.xdr.TransactionSet
+
+class LedgerCloseMetaBatchReaderTest :
+  FunSpec({
+    val ledgers = LedgerCloseMetaFixtures.ledgers
+    val batch = LedgerCloseMetaFixtures.batch
+    val v1 = ledgers[0].v1
+    val transactionResultMeta = ledgers[2].v2.txProcessing[0]
+
+    test("reads the batch header and every ledger in order") {
+      LedgerCloseMetaBatchReader(ByteArrayInputStream(batch)).use { reader ->
+        reader.startSequence shouldBe 10L
+        reader.endSequence shouldBe 12L
+        reader.ledgerCount shouldBe 3
+        reader.asSequence().toList() shouldBe ledgers
+        reader.remaining shouldBe 0
+        reader.hasNext() shouldBe false
+        shouldThrow<NoSuchElementException> { reader.next() }
+      }
+    }
+
+    test("streams a memory-mapped file") {
+      val file = Files.createTempFile("ledgers", ".xdr")
+      try {
+        Files.write(file, batch)
+        LedgerCloseMetaBatchReader.open(file, emptySet()).stream().use {
+          it.toList() shouldBe ledgers
+        }
+      } finally {
+        Files.delete(file)
+      }
+    }
+
+    test("reads a file mapped in segments") {
+      val file = Files.createTempFile("ledgers", ".xdr")
+      try {
+        Files.write(file, batch)
+        // Every ledger starts in a segment which holds the whole ledger, but most span two steps.
+        val mapped = MappedFile.map(file, 16, batch.size)
+        LedgerCloseMetaBatchReader(mapped, emptySet()).use { reader ->
+          reader.asSequence().toList() shouldBe ledgers
+          reader.position shouldBe batch.size.toLong()
+        }
+        LedgerCloseMetaBatchReader(mapped, emptySet()).use { reader ->
+          for (ledger in ledgers) {
+            LedgerCloseMetaBatchReader.decode(reader.nextEncoded(), emptySet()) shouldBe ledger
+          }
+        }
+        shouldThrow<IOException> { MappedFile.map(file, 16, 16).slice(0, 33) }
+      } finally {
+        Files.delete(file)
+      }
+    }
+
+    test("leaves skipped sections null") {
+      val skipped =
+        EnumSet.of(
+          LedgerCloseMetaBatchReader.Section.TRANSACTION_META,
+          LedgerCloseMetaBatchReader.Section.SCP_INFO,
+        )
+      LedgerCloseMetaBatchReader(ByteArrayInputStream(batch), skipped).use { reader ->
+        val read = reader.asSequence().toList()
+        read.size shouldBe 3
+        read[0].v1.scpInfo shouldBe null
+        read[0].v1.ledgerHeader shouldBe v1.ledgerHeader
+        val meta = read[2].v2.txProcessing[0]
+        meta.txApplyProcessing shouldBe null
+        meta.feeProcessing shouldNotBe null
+        meta.result shouldBe transactionResultMeta.result
+      }
+    }
+
+    test("cuts out the encoding of each ledger") {
+      val skipped = EnumSet.of(LedgerCloseMetaBatchReader.Section.SCP_INFO)
+      val file = Files.createTempFile("ledgers", ".xdr")
+      try {
+        Files.write(file, batch)
+        for (reader in
+          listOf(
+            LedgerCloseMetaBatchReader(ByteArrayInputStream(batch), skipped),
+            LedgerCloseMetaBatchReader.open(file, skipped),
+          )) {
+          reader.use {
+            val expected = LedgerCloseMetaBatchReader(ByteArrayInputStream(batch), skipped)
+            while (it.hasNext()) {
+              val encoded = it.nextEncoded()
+              LedgerCloseMetaBatchReader.decode(encoded, skipped) shouldBe expected.next()
+            }
+            expected.hasNext() shouldBe false
+          }
+        }
+      } finally {
+        Files.delete(file)
+      }
+    }
+
+    test("reads every version like the generated decoder") {
+      val v0 =
+        LedgerCloseMeta.builder()
+          .discriminant(0)
+          .v0(
+            LedgerCloseMetaV0.builder()
+              .ledgerHeader(v1.ledgerHeader)
+              .txSet(
+                TransactionSet.builder()
+                  .previousLedgerHash(Hash(ByteArray(32)))
+                  .txs(arrayOf<TransactionEnvelope>())
+                  .build()
+              )
+              .txProcessing(
+                arrayOf(
+                  TransactionResultMeta.builder()
+                    .result(transactionResultMeta.result)
+                    .feeProcessing(transactionResultMeta.feeProcessing)
+                    .txApplyProcessing(transactionResultMeta.txApplyProcessing)
+                    .build()
+                )
+              )
+              .upgradesProcessing(v1.upgradesProcessing)
+              .scpInfo(v1.scpInfo)
+              .build()
+          )
+          .build()
+      val all = listOf(v0) + ledgers
+      val encoded = LedgerCloseMetaFixtures.batch(9L, 12L, all)
+      LedgerCloseMetaBatchReader(ByteArrayInputStream(encoded)).use {
+        it.asSequence().toList() shouldBe all
+      }
+    }
+
+    test("rejects unknown versions") {
+      val header = ByteArrayOutputStream()
+      header.write(batch, 0, 8)
+      header.write(byteArrayOf(0, 0, 0, 1, 0, 0, 0, 3))
+      val unknown = header.toByteArray() + ByteArray(64)
+      LedgerCloseMetaBatchReader(ByteArrayInputStream(unknown)).use { reader ->
+        shouldThrow<UncheckedIOException> { reader.next() }
+      }
+      LedgerCloseMetaBatchReader(ByteArrayInputStream(unknown)).use { reader ->
+        shouldThrow<IOException> { reader.nextEncoded() }
+      }
+    }
+
+    test("reports truncated input") {
+      val truncated = batch.copyOf(batch.size - 8)
+      LedgerCloseMetaBatchReader(ByteArrayInputStream(truncated)).use { reader ->
+        reader.next() shouldBe ledgers[0]
+        reader.next() shouldBe ledgers[1]
+        shouldThrow<UncheckedIOException> { reader.next() }
+        reader.hasNext() shouldBe false
+      }
+    }
+
+    test("rejects a ledger count larger than the input") {
+      val header = ByteArrayOutputStream()
+      header.write(batch, 0, 8)
+      header.write(byteArrayOf(0, 0, 1, 0))
+      val file = Files.createTempFile("ledgers", ".xdr")
+      try {
+        Files.write(file, header.toByteArray())
+        shouldThrow<IOException> { LedgerCloseMetaBatchReader.open(file, emptySet()) }
+      } finally {
+        Files.delete(file)
+      }
+    }
+  })
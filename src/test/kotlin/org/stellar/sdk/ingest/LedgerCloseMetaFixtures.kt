@@ -0,0 +1,94 @@
+package org.stellar.sdk.ingest
+
+import com.google.gson.JsonParser
+import org.stellar.sdk.xdr.ExtensionPoint
+import org.stellar.sdk.xdr.Hash
+import org.stellar.sdk.xdr.Int64
+import org.stellar.sdk.xdr.LedgerCloseMeta
+import org.stellar.sdk.xdr.LedgerCloseMetaBatch
+import org.stellar.sdk.xdr.LedgerCloseMetaV2
+import org.stellar.sdk.xdr.LedgerEntryChanges
+import org.stellar.sdk.xdr.TransactionMeta
+import org.stellar.sdk.xdr.TransactionResult
+import org.stellar.sdk.xdr.TransactionResultCode
+import org.stellar.sdk.xdr.TransactionResultMetaV1
+import org.stellar.sdk.xdr.TransactionResultPair
+import org.stellar.sdk.xdr.Uint32
+import org.stellar.sdk.xdr.XdrUnsignedInteger
+
+/**
+ * Ledgers 10 and 11 (v1, no transactions) from the Stellar RPC getLedgers fixture, followed by a
+ * synthetic v2 ledger with one transaction.
+ */
+object LedgerCloseMetaFixtures {
+  private val v1Ledgers =
+    JsonParser.parseString(javaClass.getResource("/soroban_server/get_ledgers.json")!!.readText())
+      .asJsonObject
+      .getAsJsonObject("result")
+      .getAsJsonArray("ledgers")
+      .map { LedgerCloseMeta.fromXdrBase64(it.asJsonObject.get("metadataXdr").asString) }
+
+  private val transactionResultMeta =
+    TransactionResultMetaV1.builder()
+      .ext(ExtensionPoint.builder().discriminant(0).build())
+      .result(
+        TransactionResultPair.builder()
+          .transactionHash(Hash(ByteArray(32) { 7 }))
+          .result(
+            TransactionResult.builder()
+              .feeCharged(Int64(100L))
+              .result(
+                TransactionResult.TransactionResultResult.builder()
+                  .discriminant(TransactionResultCode.txSUCCESS)
+                  .results(arrayOf())
+                  .build()
+              )
+              .ext(TransactionResult.TransactionResultExt.builder().discriminant(0).build())
+              .build()
+          )
+          .build()
+      )
+      .feeProcessing(LedgerEntryChanges(arrayOf()))
+      .txApplyProcessing(TransactionMeta.builder().discriminant(0).operations(arrayOf()).build())
+      .postTxApplyFeeProcessing(LedgerEntryChanges(arrayOf()))
+      .build()
+
+  private val v1 = v1Ledgers[0].v1
+  private val v2Ledger =
+    LedgerCloseMeta.builder()
+      .discriminant(2)
+      .v2(
+        LedgerCloseMetaV2.builder()
+          .ext(v1.ext)
+          .ledgerHeader(
+            v1.ledgerHeader
+              .toBuilder()
+              .header(
+                v1.ledgerHeader.header
+                  .toBuilder()
+                  .ledgerSeq(Uint32(XdrUnsignedInteger(12L)))
+                  .build()
+              )
+              .build()
+          )
+          .txSet(v1.txSet)
+          .txProcessing(arrayOf(transactionResultMeta))
+          .upgradesProcessing(v1.upgradesProcessing)
+          .scpInfo(v1.scpInfo)
+          .totalByteSizeOfLiveSorobanState(v1.totalByteSizeOfLiveSorobanState)
+          .evictedKeys(v1.evictedKeys)
+          .build()
+      )
+      .build()
+
+  val ledgers = v1Ledgers + v2Ledger
+  val batch = batch(10L, 12L, ledgers)
+
+  fun batch(startSequence: Long, endSequence: Long, ledgers: List<LedgerCloseMeta>): ByteArray =
+    LedgerCloseMetaBatch.builder()
+      .startSequence(Uint32(XdrUnsignedInteger(startSequence)))
+      .endSequence(Uint32(XdrUnsignedInteger(endSequence)))
+      .ledgerCloseMetas(ledgers.toTypedArray())
+      .build()
+      .toXdrByteArray()
+}
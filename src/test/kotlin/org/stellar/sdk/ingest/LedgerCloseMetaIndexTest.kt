@@ -0,0 +1,92 @@
+package org.stellar.sdk.ingest
+
+import io.kotest.assertions.throwables.shouldThrow
+import io.kotest.core.spec.style.FunSpec
+import io.kotest.engine.spec.tempdir
+import io.kotest.matchers.shouldBe
+import java.nio.ByteBuffer
+import java.nio.file.Files
+import java.nio.file.attribute.FileTime
+
+class LedgerCloseMetaIndexTest :
+  FunSpec({
+    val ledgers = LedgerCloseMetaFixtures.ledgers
+    val transactionHash = ledgers[2].v2.txProcessing[0].result.transactionHash.hash
+
+    test("indexes ledgers and transactions and writes a sidecar") {
+      val file = tempdir().toPath().resolve("ledgers.xdr")
+      Files.write(file, LedgerCloseMetaFixtures.batch)
+
+      val index = LedgerCloseMetaIndex.open(file)
+      Files.exists(file.resolveSibling("ledgers.xdr.idx")) shouldBe true
+      index.ledgerCount shouldBe 3
+      index.transactionCount shouldBe 1
+      index.firstSequence shouldBe 10L
+      index.lastSequence shouldBe 12L
+      index.containsLedger(11L) shouldBe true
+      index.containsLedger(13L) shouldBe false
+
+      index.getLedger(10L) shouldBe ledgers[0]
+      index.getLedger(11L) shouldBe ledgers[1]
+      index.getLedger(12L) shouldBe ledgers[2]
+      index.getLedger(9L) shouldBe null
+
+      index.findLedgerSequence(transactionHash) shouldBe 12L
+      index.getLedgerByTransactionHash(transactionHash) shouldBe ledgers[2]
+      index.findLedgerSequence(ByteArray(32)) shouldBe null
+      shouldThrow<IllegalArgumentException> { index.findLedgerSequence(ByteArray(31)) }
+    }
+
+    test("reuses a matching sidecar and rebuilds a stale one") {
+      val dir = tempdir().toPath()
+      val file = dir.resolve("ledgers.xdr")
+      val sidecar = dir.resolve("ledgers.index")
+      Files.write(file, LedgerCloseMetaFixtures.batch)
+      LedgerCloseMetaIndex.open(file, sidecar)
+      val written = Files.getLastModifiedTime(sidecar)
+
+      LedgerCloseMetaIndex.open(file, sidecar).getLedger(12L) shouldBe ledgers[2]
+      Files.getLastModifiedTime(sidecar) shouldBe written
+
+      Files.write(sidecar, byteArrayOf(1, 2, 3))
+      Files.setLastModifiedTime(file, FileTime.fromMillis(written.toMillis() - 60_000))
+      LedgerCloseMetaIndex.open(file, sidecar).getLedger(10L) shouldBe ledgers[0]
+      LedgerCloseMetaIndex.open(file, sidecar).findLedgerSequence(transactionHash) shouldBe 12L
+    }
+
+    test("rebuilds a sidecar with offsets or sequences that do not match the file") {
+      val file = tempdir().toPath().resolve("ledgers.xdr")
+      Files.write(file, LedgerCloseMetaFixtures.batch)
+      val sidecar = file.resolveSibling("ledgers.xdr.idx")
+      LedgerCloseMetaIndex.open(file)
+      val valid = Files.readAllBytes(sidecar)
+      // The header takes 28 bytes, then each ledger has an 8 byte sequence and an 8 byte offset.
+      val corruptions =
+        listOf<(ByteBuffer) -> Unit>(
+          { it.putLong(36, Long.MAX_VALUE) },
+          { it.putLong(52, 0L) },
+          { it.putLong(44, 9L) },
+        )
+      for (corrupt in corruptions) {
+        val bytes = valid.copyOf()
+        corrupt(ByteBuffer.wrap(bytes))
+        Files.write(sidecar, bytes)
+        val index = LedgerCloseMetaIndex.open(file)
+        index.getLedger(11L) shouldBe ledgers[1]
+        index.getLedger(12L) shouldBe ledgers[2]
+        Files.readAllBytes(sidecar) shouldBe valid
+      }
+    }
+
+    test("keeps the index in memory when the sidecar cannot be written") {
+      val dir = tempdir().toPath()
+      val file = dir.resolve("ledgers.xdr")
+      Files.write(file, LedgerCloseMetaFixtures.batch)
+      val sidecar = dir.resolve("missing").resolve("ledgers.xdr.idx")
+
+      val index = LedgerCloseMetaIndex.open(file, sidecar)
+      Files.exists(sidecar) shouldBe false
+      index.getLedger(11L) shouldBe ledgers[1]
+      index.findLedgerSequence(transactionHash) shouldBe 12L
+    }
+  })
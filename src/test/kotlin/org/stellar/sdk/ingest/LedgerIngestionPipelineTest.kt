@@ -0,0 +1,136 @@
+package org.stellar.sdk.ingest
+
+import io.kotest.assertions.throwables.shouldThrow
+import io.kotest.core.spec.style.FunSpec
+import io.kotest.engine.spec.tempdir
+import io.kotest.matchers.shouldBe
+import java.io.FilterInputStream
+import java.io.IOException
+import java.nio.file.Files
+import java.nio.file.Path
+import java.util.EnumSet
+import java.util.zip.GZIPInputStream
+import java.util.zip.GZIPOutputStream
+import org.stellar.sdk.xdr.LedgerCloseMeta
+
+class LedgerIngestionPipelineTest :
+  FunSpec({
+    val ledgers = LedgerCloseMetaFixtures.ledgers
+
+    fun encodedSize(ledgers: List<LedgerCloseMeta>): Long =
+      ledgers.sumOf { it.toXdrByteArray().size.toLong() }
+
+    fun writeFiles(dir: Path, gzip: Boolean = false): List<Path> {
+      val suffix = if (gzip) ".xdr.gz" else ".xdr"
+      val files =
+        listOf(
+          // Named so that lexical order differs from ledger order.
+          dir.resolve("b$suffix") to LedgerCloseMetaFixtures.batch(10L, 11L, ledgers.subList(0, 2)),
+          dir.resolve("a$suffix") to LedgerCloseMetaFixtures.batch(12L, 12L, ledgers.subList(2, 3)),
+        )
+      for ((file, bytes) in files) {
+        if (gzip) {
+          GZIPOutputStream(Files.newOutputStream(file)).use { it.write(bytes) }
+        } else {
+          Files.write(file, bytes)
+        }
+      }
+      return files.map { it.first }
+    }
+
+    test("delivers ledgers from every file in sequence order") {
+      val dir = tempdir().toPath()
+      writeFiles(dir)
+      val received = mutableListOf<LedgerCloseMeta>()
+      LedgerIngestionPipeline.builder()
+        .files(LedgerIngestionPipeline.listFiles(dir))
+        .parallelism(2)
+        .maxBufferedLedgers(1)
+        .build()
+        .run { received.add(it) }
+      received shouldBe ledgers
+    }
+
+    test("reads files through a custom opener and skips sections") {
+      val files = writeFiles(tempdir().toPath(), gzip = true)
+      val received = mutableListOf<LedgerCloseMeta>()
+      LedgerIngestionPipeline.builder()
+        .files(files)
+        .skipped(EnumSet.of(LedgerCloseMetaBatchReader.Section.TRANSACTION_META))
+        .opener { GZIPInputStream(Files.newInputStream(it)) }
+        .build()
+        .run { received.add(it) }
+      received.size shouldBe 3
+      received[0] shouldBe ledgers[0]
+      received[2].v2.txProcessing[0].txApplyProcessing shouldBe null
+    }
+
+    test("reads a single file only as far ahead as the buffered ledgers") {
+      val file = tempdir().toPath().resolve("all.xdr")
+      val bytes = LedgerCloseMetaFixtures.batch(10L, 12L, ledgers)
+      Files.write(file, bytes)
+      // The header is read through a separate stream first, so the last opened one is counted.
+      var read = 0L
+      val readAtDelivery = mutableListOf<Long>()
+      val received = mutableListOf<LedgerCloseMeta>()
+      LedgerIngestionPipeline.builder()
+        .files(listOf(file))
+        .parallelism(2)
+        .maxBufferedLedgers(1)
+        .opener {
+          read = 0L
+          object : FilterInputStream(Files.newInputStream(it)) {
+            override fun read(): Int = super.read().also { b -> if (b >= 0) read++ }
+
+            override fun read(b: ByteArray, off: Int, len: Int): Int =
+              super.read(b, off, len).also { n -> if (n > 0) read += n }
+          }
+        }
+        .build()
+        .run {
+          readAtDelivery.add(read)
+          received.add(it)
+        }
+      received shouldBe ledgers
+      // Each ledger is delivered before the next one is read.
+      readAtDelivery[0] shouldBe bytes.size.toLong() - encodedSize(ledgers.subList(1, 3))
+      readAtDelivery[1] shouldBe bytes.size.toLong() - encodedSize(ledgers.subList(2, 3))
+      readAtDelivery[2] shouldBe bytes.size.toLong()
+    }
+
+    test("rejects overlapping files") {
+      val dir = tempdir().toPath()
+      val files = writeFiles(dir)
+      val overlapping = dir.resolve("c.xdr")
+      Files.write(overlapping, LedgerCloseMetaFixtures.batch(11L, 11L, ledgers.subList(1, 2)))
+      shouldThrow<IOException> {
+        LedgerIngestionPipeline.builder().files(files + listOf(overlapping)).build().run {}
+      }
+    }
+
+    test("reports files that cannot be decoded") {
+      val dir = tempdir().toPath()
+      val files = writeFiles(dir)
+      val truncated = LedgerCloseMetaFixtures.batch(13L, 13L, ledgers.subList(2, 3))
+      val broken = dir.resolve("broken.xdr")
+      Files.write(broken, truncated.copyOf(truncated.size - 4))
+      val received = mutableListOf<LedgerCloseMeta>()
+      val e =
+        shouldThrow<IOException> {
+          LedgerIngestionPipeline.builder().files(files + listOf(broken)).build().run {
+            received.add(it)
+          }
+        }
+      e.message shouldBe "Failed to decode $broken"
+      received shouldBe ledgers
+    }
+
+    test("propagates consumer failures") {
+      val files = writeFiles(tempdir().toPath())
+      shouldThrow<IllegalStateException> {
+        LedgerIngestionPipeline.builder().files(files).build().run {
+          throw IllegalStateException("stop")
+        }
+      }
+    }
+  })
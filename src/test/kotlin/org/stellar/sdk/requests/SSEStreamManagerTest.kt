@@ -0,0 +1,190 @@
+package org.stellar.sdk.requests
+
+import io.kotest.assertions.throwables.shouldThrow
+import io.kotest.core.spec.style.FunSpec
+import io.kotest.matchers.ints.shouldBeGreaterThanOrEqual
+import io.kotest.matchers.ints.shouldBeLessThanOrEqual
+import io.kotest.matchers.longs.shouldBeGreaterThan
+import io.kotest.matchers.longs.shouldBeGreaterThanOrEqual
+import io.kotest.matchers.shouldBe
+import java.util.Optional
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import okhttp3.mockwebserver.Dispatcher
+import okhttp3.mockwebserver.MockResponse
+import okhttp3.mockwebserver.MockWebServer
+import okhttp3.mockwebserver.RecordedRequest
+import org.stellar.sdk.Server
+import org.stellar.sdk.responses.LedgerResponse
+
+class SSEStreamManagerTest :
+  FunSpec({
+    test("runs thousands of streams on one scheduler with bounded concurrent connects") {
+      val dispatcher = ConnectTracker(connectDelayMs = 2) { openStreamResponse() }
+      MockWebServer().use { mockWebServer ->
+        mockWebServer.dispatcher = dispatcher
+        mockWebServer.start()
+        val scheduler = Executors.newSingleThreadScheduledExecutor()
+        try {
+          Server(mockWebServer.url("/").toString()).use { server ->
+            SSEStreamManager(scheduler, MAX_CONCURRENT_RECONNECTS).use { manager ->
+              val received = CountDownLatch(LOAD_STREAM_COUNT)
+              repeat(LOAD_STREAM_COUNT) {
+                server.ledgers().stream(OnceListener(received), LONG_RECONNECT_MS, manager)
+              }
+              manager.streamCount shouldBe LOAD_STREAM_COUNT
+
+              received.await(LOAD_TIMEOUT_SECONDS, TimeUnit.SECONDS) shouldBe true
+              dispatcher.maxInFlight.get() shouldBeLessThanOrEqual MAX_CONCURRENT_RECONNECTS
+              manager.reconnectCount shouldBeGreaterThanOrEqual LOAD_STREAM_COUNT.toLong()
+              manager.deferredReconnectCount shouldBeGreaterThan 0L
+            }
+          }
+        } finally {
+          scheduler.shutdownNow()
+        }
+      }
+    }
+
+    test("bounds the reconnects when every stream is disconnected at once") {
+      // Every response ends right after its event, like a Horizon restart would end them.
+      val dispatcher =
+        ConnectTracker(connectDelayMs = 5) { request ->
+          sseResponse(ledgerEvent(request.getHeader("Last-Event-ID")))
+        }
+      MockWebServer().use { mockWebServer ->
+        mockWebServer.dispatcher = dispatcher
+        mockWebServer.start()
+        Server(mockWebServer.url("/").toString()).use { server ->
+          SSEStreamManager(Executors.newSingleThreadScheduledExecutor(), 4).use { manager ->
+            val resumed = CountDownLatch(HERD_STREAM_COUNT)
+            val listeners =
+              List(HERD_STREAM_COUNT) {
+                ResumeListener(resumed).also {
+                  server.ledgers().stream(it, LONG_RECONNECT_MS, manager)
+                }
+              }
+
+            resumed.await(AWAIT_TIMEOUT_SECONDS, TimeUnit.SECONDS) shouldBe true
+            dispatcher.maxInFlight.get() shouldBeLessThanOrEqual 4
+            manager.reconnectCount shouldBeGreaterThan HERD_STREAM_COUNT.toLong()
+            dispatcher.resumedRequests.get() shouldBeGreaterThanOrEqual HERD_STREAM_COUNT
+            listeners.forEach { it.failures.get() shouldBe 0 }
+          }
+        }
+      }
+    }
+
+    test("closing the manager closes its streams") {
+      MockWebServer().use { mockWebServer ->
+        mockWebServer.dispatcher = ConnectTracker(connectDelayMs = 0) { openStreamResponse() }
+        mockWebServer.start()
+        Server(mockWebServer.url("/").toString()).use { server ->
+          val manager = SSEStreamManager()
+          val received = CountDownLatch(3)
+          val streams =
+            List(3) { server.ledgers().stream(OnceListener(received), LONG_RECONNECT_MS, manager) }
+          received.await(AWAIT_TIMEOUT_SECONDS, TimeUnit.SECONDS) shouldBe true
+
+          streams[0].close()
+          manager.streamCount shouldBe 2
+
+          manager.close()
+          manager.streamCount shouldBe 0
+          manager.connectingCount shouldBe 0
+          shouldThrow<IllegalStateException> {
+            server.ledgers().stream(OnceListener(received), LONG_RECONNECT_MS, manager)
+          }
+        }
+      }
+    }
+
+    test("rejects a non-positive reconnect limit") {
+      val scheduler = Executors.newSingleThreadScheduledExecutor()
+      try {
+        shouldThrow<IllegalArgumentException> { SSEStreamManager(scheduler, 0) }
+      } finally {
+        scheduler.shutdownNow()
+      }
+    }
+  })
+
+/** Counts the requests being answered at the same time, i.e. the streams connecting at once. */
+private class ConnectTracker(
+  private val connectDelayMs: Long,
+  private val response: (RecordedRequest) -> MockResponse,
+) : Dispatcher() {
+  private val inFlight = AtomicInteger()
+  val maxInFlight = AtomicInteger()
+  val resumedRequests = AtomicInteger()
+
+  override fun dispatch(request: RecordedRequest): MockResponse {
+    val current = inFlight.incrementAndGet()
+    maxInFlight.accumulateAndGet(current, ::maxOf)
+    try {
+      if (request.getHeader("Last-Event-ID") != null) {
+        resumedRequests.incrementAndGet()
+      }
+      if (connectDelayMs > 0) {
+        Thread.sleep(connectDelayMs)
+      }
+      return response(request)
+    } finally {
+      inFlight.decrementAndGet()
+    }
+  }
+}
+
+private class OnceListener(private val received: CountDownLatch) : EventListener<LedgerResponse> {
+  private val first = AtomicInteger()
+
+  override fun onEvent(event: LedgerResponse) {
+    if (first.getAndIncrement() == 0) {
+      received.countDown()
+    }
+  }
+
+  override fun onFailure(error: Optional<Throwable>, responseCode: Optional<Int>) {}
+}
+
+private class ResumeListener(private val resumed: CountDownLatch) : EventListener<LedgerResponse> {
+  private val events = ConcurrentHashMap.newKeySet<Long>()
+  val failures = AtomicInteger()
+
+  override fun onEvent(event: LedgerResponse) {
+    // The second event is only sent on a connection resumed with Last-Event-ID.
+    if (events.add(event.sequence) && event.sequence == 2L) {
+      resumed.countDown()
+    }
+  }
+
+  override fun onFailure(error: Optional<Throwable>, responseCode: Optional<Int>) {
+    failures.incrementAndGet()
+  }
+}
+
+private fun ledgerEvent(lastEventId: String?): String {
+  val sequence = if (lastEventId == null) 1L else 2L
+  return "id: event-$sequence\ndata: {\"paging_token\":\"cursor-$sequence\",\"sequence\":$sequence}\n\n"
+}
+
+private fun sseResponse(body: String): MockResponse =
+  MockResponse().setResponseCode(200).setHeader("Content-Type", "text/event-stream").setBody(body)
+
+/** A stream which sends one event, then stays open with keepalive comments. */
+private fun openStreamResponse(): MockResponse {
+  val event = ledgerEvent(null)
+  val keepalive = ": keepalive\n".repeat(KEEPALIVE_COMMENTS)
+  return sseResponse(event + keepalive).throttleBody(event.length.toLong(), 1, TimeUnit.SECONDS)
+}
+
+private const val MAX_CONCURRENT_RECONNECTS = 8
+private const val LOAD_STREAM_COUNT = 2000
+private const val HERD_STREAM_COUNT = 50
+private const val LONG_RECONNECT_MS = 60_000L
+private const val KEEPALIVE_COMMENTS = 8
+private const val AWAIT_TIMEOUT_SECONDS = 30L
+private const val LOAD_TIMEOUT_SECONDS = 120L
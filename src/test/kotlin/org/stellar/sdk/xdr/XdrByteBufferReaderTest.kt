@@ -0,0 +1,105 @@
+package org.stellar.sdk.xdr
+
+import com.google.gson.JsonParser
+import io.kotest.assertions.throwables.shouldThrow
+import io.kotest.core.spec.style.FunSpec
+import io.kotest.matchers.shouldBe
+import java.io.ByteArrayInputStream
+import java.io.EOFException
+import java.io.IOException
+import java.nio.ByteBuffer
+import java.nio.ByteOrder
+import org.stellar.sdk.Base64Factory
+
+class XdrByteBufferReaderTest :
+  FunSpec({
+    val memo =
+      Memo.builder().discriminant(MemoType.MEMO_TEXT).text(XdrString("Euro Sign €")).build()
+    val bytes = memo.toXdrByteArray()
+
+    test("reads primitives big-endian without moving the source buffer") {
+      val buffer = ByteBuffer.allocate(29)
+      buffer.put(9).putInt(-2).putLong(1L shl 40).putFloat(1.5f).putDouble(-0.25).putInt(1)
+      buffer.flip().position(1)
+      val reader = XdrByteBufferReader(buffer.order(ByteOrder.LITTLE_ENDIAN))
+
+      reader.remainingInputLen shouldBe 28
+      reader.readInt() shouldBe -2
+      reader.readLong() shouldBe (1L shl 40)
+      reader.readFloat() shouldBe 1.5f
+      reader.readDouble() shouldBe -0.25
+      reader.readXdrBoolean() shouldBe true
+      reader.bytesRead shouldBe 28
+      reader.remainingInputLen shouldBe 0
+      buffer.position() shouldBe 1
+    }
+
+    test("reads padded data and rejects non-zero padding") {
+      val data = XdrByteBufferReader(ByteBuffer.wrap(byteArrayOf(1, 2, 3, 0, 7)))
+      val out = ByteArray(3)
+      data.readPaddedData(out, 0, 3)
+      out shouldBe byteArrayOf(1, 2, 3)
+      data.bytesRead shouldBe 4
+
+      val badPadding = XdrByteBufferReader(ByteBuffer.wrap(byteArrayOf(1, 2, 3, 4, 5, 0, 1, 0)))
+      shouldThrow<IOException> { badPadding.readPaddedData(ByteArray(5), 0, 5) }
+    }
+
+    test("rejects booleans other than 0 and 1") {
+      val reader = XdrByteBufferReader(ByteBuffer.allocate(4).putInt(0, 2))
+      shouldThrow<IOException> { reader.readXdrBoolean() }
+    }
+
+    test("decodes from a heap buffer") {
+      Memo.fromXdrByteBuffer(ByteBuffer.wrap(bytes)) shouldBe memo
+    }
+
+    test("decodes from a direct buffer") {
+      val direct = ByteBuffer.allocateDirect(bytes.size + 4)
+      direct.putInt(42).put(bytes).flip()
+      direct.position(4)
+      Memo.fromXdrByteBuffer(direct) shouldBe memo
+      direct.position() shouldBe 4
+    }
+
+    test("decodes the same value as the stream decoder") {
+      val encoded =
+        Base64Factory.getInstance()
+          .decode(
+            JsonParser.parseString(
+                javaClass.getResource("/soroban_server/get_ledgers.json")!!.readText()
+              )
+              .asJsonObject
+              .getAsJsonObject("result")
+              .getAsJsonArray("ledgers")[0]
+              .asJsonObject
+              .get("metadataXdr")
+              .asString
+          )
+      val stream = XdrDataInputStream(ByteArrayInputStream(encoded))
+      val fromStream = LedgerCloseMeta.decode(stream)
+      val reader = XdrByteBufferReader(ByteBuffer.wrap(encoded))
+      val fromBuffer = LedgerCloseMeta.decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH)
+
+      fromBuffer shouldBe fromStream
+      reader.bytesRead shouldBe encoded.size
+    }
+
+    test("limits declared lengths to the remaining buffer size") {
+      val reader = XdrByteBufferReader(ByteBuffer.wrap(bytes, 0, bytes.size - 4))
+      reader.remainingInputLen shouldBe bytes.size - 4
+      shouldThrow<IOException> { Memo.decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH) }
+
+      val stream = XdrDataInputStream(ByteBuffer.wrap(bytes, 0, bytes.size - 4))
+      stream.remainingInputLen shouldBe bytes.size - 4
+      shouldThrow<IOException> { Memo.decode(stream) }
+    }
+
+    test("enforces the maximum depth") {
+      shouldThrow<IOException> { Memo.decode(XdrByteBufferReader(ByteBuffer.wrap(bytes)), 0) }
+    }
+
+    test("fails on truncated input") {
+      shouldThrow<EOFException> { Uint64.fromXdrByteBuffer(ByteBuffer.wrap(ByteArray(4))) }
+    }
+  })
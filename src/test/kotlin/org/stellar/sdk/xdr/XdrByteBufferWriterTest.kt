@@ -0,0 +1,112 @@
+package org.stellar.sdk.xdr
+
+import com.google.gson.JsonParser
+import io.kotest.assertions.throwables.shouldThrow
+import io.kotest.core.spec.style.FunSpec
+import io.kotest.matchers.shouldBe
+import java.io.ByteArrayOutputStream
+import java.nio.BufferOverflowException
+import java.nio.ByteBuffer
+import org.stellar.sdk.KeyPair
+import org.stellar.sdk.ingest.LedgerCloseMetaFixtures
+
+class XdrByteBufferWriterTest :
+  FunSpec({
+    val memo = Memo.builder().discriminant(MemoType.MEMO_TEXT).text(XdrString("hello")).build()
+    val expected =
+      ByteArrayOutputStream().also { memo.encode(XdrDataOutputStream(it)) }.toByteArray()
+
+    test("grows, resets and copies the written bytes") {
+      val writer = XdrByteBufferWriter(1)
+      writer.write(byteArrayOf(1, 2, 3), 0, 3)
+      writer.write(4)
+      writer.size() shouldBe 4
+      writer.toByteArray() shouldBe byteArrayOf(1, 2, 3, 4)
+
+      val destination = ByteBuffer.allocate(4)
+      writer.writeTo(destination)
+      destination.array() shouldBe byteArrayOf(1, 2, 3, 4)
+
+      writer.reset()
+      writer.size() shouldBe 0
+      writer.toByteArray() shouldBe ByteArray(0)
+    }
+
+    test("rejects a negative capacity") {
+      shouldThrow<IllegalArgumentException> { XdrByteBufferWriter(-1) }
+    }
+
+    test("toXdrByteArray matches a plain stream encode") {
+      memo.toXdrByteArray() shouldBe expected
+      // Second call reuses the per-thread buffer.
+      memo.toXdrByteArray() shouldBe expected
+    }
+
+    test("toXdrByteArray is safe to call from inside encode") {
+      val nested =
+        object : XdrElement {
+          override fun encode(stream: XdrDataOutputStream) {
+            stream.write(memo.toXdrByteArray())
+          }
+
+          override fun toJson(): String = throw UnsupportedOperationException()
+        }
+      nested.toXdrByteArray() shouldBe expected
+    }
+
+    test("encodedSize matches the encoded length") { memo.encodedSize() shouldBe expected.size }
+
+    test("generated encodedSize matches the encoded length of real values") {
+      val transactions =
+        JsonParser.parseString(
+            javaClass.getResource("/soroban_server/get_transactions.json")!!.readText()
+          )
+          .asJsonObject
+          .getAsJsonObject("result")
+          .getAsJsonArray("transactions")
+          .map { it.asJsonObject }
+      val values =
+        LedgerCloseMetaFixtures.ledgers +
+          transactions.map { TransactionEnvelope.fromXdrBase64(it.get("envelopeXdr").asString) } +
+          transactions.map { TransactionMeta.fromXdrBase64(it.get("resultMetaXdr").asString) }
+
+      values.forEach { it.encodedSize() shouldBe it.toXdrByteArray().size }
+    }
+
+    test("generated encodedSize counts absent optional fields and padding") {
+      val entry =
+        AccountEntry.builder()
+          .accountID(KeyPair.random().xdrAccountId)
+          .balance(Int64(1L))
+          .seqNum(SequenceNumber(Int64(2L)))
+          .numSubEntries(Uint32(XdrUnsignedInteger(0)))
+          .inflationDest(null)
+          .flags(Uint32(XdrUnsignedInteger(0)))
+          .homeDomain(String32(XdrString("abcde")))
+          .thresholds(Thresholds(ByteArray(4)))
+          .signers(arrayOf())
+          .ext(AccountEntry.AccountEntryExt.builder().discriminant(0).build())
+          .build()
+
+      entry.encodedSize() shouldBe entry.toXdrByteArray().size
+    }
+
+    test("encodeTo writes at the buffer position") {
+      val buffer = ByteBuffer.allocateDirect(expected.size + 2)
+      buffer.position(2)
+      memo.encodeTo(buffer) shouldBe expected.size
+      buffer.position() shouldBe expected.size + 2
+
+      val written = ByteArray(expected.size)
+      buffer.position(2)
+      buffer.get(written)
+      written shouldBe expected
+    }
+
+    test("encodeTo restores the position when the buffer is too small") {
+      val buffer = ByteBuffer.allocate(expected.size - 1)
+      buffer.position(1)
+      shouldThrow<BufferOverflowException> { memo.encodeTo(buffer) }
+      buffer.position() shouldBe 1
+    }
+  })
@@ -0,0 +1,152 @@
+package org.stellar.sdk.xdr
+
+import com.google.gson.JsonParser
+import io.kotest.assertions.throwables.shouldThrow
+import io.kotest.core.spec.style.FunSpec
+import io.kotest.matchers.collections.shouldBeEmpty
+import io.kotest.matchers.shouldBe
+import java.io.IOException
+import java.math.BigDecimal
+import java.nio.ByteBuffer
+import org.stellar.sdk.Account
+import org.stellar.sdk.Address
+import org.stellar.sdk.AssetTypeNative
+import org.stellar.sdk.Base64Factory
+import org.stellar.sdk.KeyPair
+import org.stellar.sdk.Network
+import org.stellar.sdk.TransactionBuilder
+import org.stellar.sdk.TransactionBuilderAccount
+import org.stellar.sdk.operations.InvokeHostFunctionOperation
+import org.stellar.sdk.operations.PaymentOperation
+import org.stellar.sdk.scval.Scv
+
+class XdrPathTest :
+  FunSpec({
+    val source = KeyPair.fromSecretSeed("SCH27VUZZ6UAKB67BDNF6FA42YMBMQCBKXWGMFD5TZ6S5ZZCZFLRXKHS")
+    val contracts =
+      listOf(
+        "CDYUOBUVMZPWIU4GB4XNBAYL6NIHIMYLZFNEXOCDIO33MBJMNPSFBYKU",
+        "CDCYWK73YTYFJZZSJ5V7EDFNHYBG4QN3VUNG2IGD27KJDDPNCZKBCBXK",
+      )
+    val account: TransactionBuilderAccount = Account(source.accountId, 2908908335136768L)
+    val transaction =
+      TransactionBuilder(account, Network.TESTNET)
+        .setBaseFee(100)
+        .setTimeout(30)
+        .addOperation(
+          InvokeHostFunctionOperation.invokeContractFunctionOperationBuilder(
+              contracts[0],
+              "hello",
+              listOf(Scv.toSymbol("Soroban")),
+            )
+            .build()
+        )
+        .addOperation(
+          PaymentOperation.builder()
+            .destination(source.accountId)
+            .asset(AssetTypeNative())
+            .amount(BigDecimal.ONE)
+            .build()
+        )
+        .addOperation(
+          InvokeHostFunctionOperation.invokeContractFunctionOperationBuilder(
+              contracts[1],
+              "world",
+              listOf(),
+            )
+            .build()
+        )
+        .build()
+    transaction.sign(source)
+    val envelope = transaction.toEnvelopeXdr().toXdrByteArray()
+
+    fun extract(path: String): List<Any> =
+      TransactionEnvelope.extract(XdrDataInputStream(ByteBuffer.wrap(envelope)), XdrPath.of(path))
+
+    test("skips exactly the encoding of a value") {
+      val metas =
+        JsonParser.parseString(
+            javaClass.getResource("/soroban_server/get_transactions.json")!!.readText()
+          )
+          .asJsonObject
+          .getAsJsonObject("result")
+          .getAsJsonArray("transactions")
+          .map { Base64Factory.getInstance().decode(it.asJsonObject.get("resultMetaXdr").asString) }
+      for (xdr in metas + listOf(envelope)) {
+        val padded = xdr + byteArrayOf(0, 0, 0, 7)
+        val stream = XdrDataInputStream(ByteBuffer.wrap(padded))
+        if (xdr === envelope) TransactionEnvelope.skip(stream) else TransactionMeta.skip(stream)
+        stream.remainingInputLen shouldBe 4
+        stream.readInt() shouldBe 7
+      }
+      shouldThrow<IOException> {
+        TransactionEnvelope.skip(
+          XdrDataInputStream(ByteBuffer.wrap(envelope.copyOf(envelope.size - 8)))
+        )
+      }
+    }
+
+    test("extracts the values at a path and skips the rest") {
+      extract(
+        "v1.tx.operations[*].body.invokeHostFunctionOp.hostFunction.invokeContract.contractAddress"
+      ) shouldBe contracts.map { Address(it).toSCAddress() }
+      extract("v1.tx.operations.body.invokeHostFunctionOp.hostFunction.invokeContract.functionName")
+        .map { (it as SCSymbol).scSymbol.toString() } shouldBe listOf("hello", "world")
+      extract("v1.tx.seqNum") shouldBe listOf(transaction.toEnvelopeXdr().v1.tx.seqNum)
+      extract("v1.tx.fee") shouldBe listOf(transaction.toEnvelopeXdr().v1.tx.fee)
+      extract("v1.signatures[*].signature") shouldBe listOf(transaction.signatures[0].signature)
+      extract("v1.tx") shouldBe listOf(transaction.toEnvelopeXdr().v1.tx)
+    }
+
+    test("has no values for unset optionals and unselected arms") {
+      extract("v1.tx.operations.sourceAccount").shouldBeEmpty()
+      extract("v0.tx.fee").shouldBeEmpty()
+      extract("feeBump").shouldBeEmpty()
+    }
+
+    test("accepts [*] on an array typedef") {
+      val vec = Scv.toVec(listOf(Scv.toUint32(1), Scv.toUint32(2))).toXdrByteArray()
+      SCVal.extract(XdrDataInputStream(ByteBuffer.wrap(vec)), XdrPath.of("vec[*].u32")) shouldBe
+        listOf(Uint32(XdrUnsignedInteger(1)), Uint32(XdrUnsignedInteger(2)))
+    }
+
+    test("skips a union with a uint32 discriminant") {
+      val message =
+        AuthenticatedMessage.builder()
+          .discriminant(Uint32(XdrUnsignedInteger(0)))
+          .v0(
+            AuthenticatedMessage.AuthenticatedMessageV0.builder()
+              .sequence(Uint64(XdrUnsignedHyperInteger(7L)))
+              .message(
+                StellarMessage.builder()
+                  .discriminant(MessageType.ERROR_MSG)
+                  .error(Error.builder().code(ErrorCode.ERR_MISC).msg(XdrString("oops")).build())
+                  .build()
+              )
+              .mac(HmacSha256Mac(ByteArray(32)))
+              .build()
+          )
+          .build()
+      val stream =
+        XdrDataInputStream(ByteBuffer.wrap(message.toXdrByteArray() + byteArrayOf(0, 0, 0, 7)))
+      AuthenticatedMessage.skip(stream)
+      stream.readInt() shouldBe 7
+      AuthenticatedMessage.extract(
+        XdrDataInputStream(ByteBuffer.wrap(message.toXdrByteArray())),
+        XdrPath.of("v0.sequence"),
+      ) shouldBe listOf(Uint64(XdrUnsignedHyperInteger(7L)))
+    }
+
+    test("rejects invalid paths") {
+      shouldThrow<IllegalArgumentException> { XdrPath.of("v1..tx") }
+      shouldThrow<IllegalArgumentException> { XdrPath.of("") }
+      shouldThrow<IllegalArgumentException> { XdrPath.of("v1.tx.operations[0]") }
+      shouldThrow<IllegalArgumentException> { extract("v1.transaction") }
+      shouldThrow<IllegalArgumentException> { extract("v1.tx.fee.uint32") }
+      shouldThrow<IllegalArgumentException> { extract("v1.tx.memo.discriminant") }
+      shouldThrow<IllegalArgumentException> { extract("v1.tx.fee[*]") }
+      shouldThrow<IllegalArgumentException> { extract("v1[*].tx.fee") }
+      XdrPath.of("v1.tx.operations[*].body") shouldBe XdrPath.of("v1.tx.operations.body")
+      XdrPath.of("v1.tx.operations[*].body").toString() shouldBe "v1.tx.operations[*].body"
+    }
+  })
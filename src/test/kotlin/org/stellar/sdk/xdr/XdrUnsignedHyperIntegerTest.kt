@@ -0,0 +1,58 @@
+package org.stellar.sdk.xdr
+
+import io.kotest.assertions.throwables.shouldThrow
+import io.kotest.core.spec.style.FunSpec
+import io.kotest.matchers.ints.shouldBeGreaterThan
+import io.kotest.matchers.ints.shouldBeLessThan
+import io.kotest.matchers.shouldBe
+import java.math.BigInteger
+
+class XdrUnsignedHyperIntegerTest :
+  FunSpec({
+    val max = XdrUnsignedHyperInteger.MAX_VALUE
+    val twoTo63 = BigInteger.ONE.shiftLeft(63)
+
+    test("round trips values across the whole unsigned range") {
+      for (number in
+        listOf(BigInteger.ZERO, BigInteger.ONE, twoTo63.subtract(BigInteger.ONE), twoTo63, max)) {
+        val value = XdrUnsignedHyperInteger(number)
+        val decoded = XdrUnsignedHyperInteger.fromXdrByteArray(value.toXdrByteArray())
+
+        decoded.number shouldBe number
+        decoded.long shouldBe number.toLong()
+        decoded shouldBe value
+        decoded.hashCode() shouldBe value.hashCode()
+        decoded.toString() shouldBe "XdrUnsignedHyperInteger(number=$number)"
+        decoded.toJson() shouldBe "\"$number\""
+        XdrUnsignedHyperInteger.fromJson(decoded.toJson()) shouldBe value
+      }
+    }
+
+    test("encodes as a big-endian 64-bit integer") {
+      XdrUnsignedHyperInteger.fromUnsignedLong(-2L).toXdrByteArray() shouldBe
+        byteArrayOf(-1, -1, -1, -1, -1, -1, -1, -2)
+      XdrUnsignedHyperInteger(258L).toXdrByteArray() shouldBe byteArrayOf(0, 0, 0, 0, 0, 0, 1, 2)
+    }
+
+    test("reads the bits of a long as unsigned") {
+      val value = XdrUnsignedHyperInteger.fromUnsignedLong(-1L)
+      value.number shouldBe max
+      value shouldBe XdrUnsignedHyperInteger(max)
+      XdrUnsignedHyperInteger.fromUnsignedLong(Long.MIN_VALUE).number shouldBe twoTo63
+    }
+
+    test("compares as unsigned") {
+      val small = XdrUnsignedHyperInteger(1L)
+      val large = XdrUnsignedHyperInteger(twoTo63)
+
+      small.compareUnsigned(large) shouldBeLessThan 0
+      large.compareUnsigned(small) shouldBeGreaterThan 0
+      large.compareUnsigned(XdrUnsignedHyperInteger.fromUnsignedLong(Long.MIN_VALUE)) shouldBe 0
+    }
+
+    test("rejects values outside the unsigned range") {
+      shouldThrow<IllegalArgumentException> { XdrUnsignedHyperInteger(-1L) }
+      shouldThrow<IllegalArgumentException> { XdrUnsignedHyperInteger(BigInteger.ONE.negate()) }
+      shouldThrow<IllegalArgumentException> { XdrUnsignedHyperInteger(max.add(BigInteger.ONE)) }
+    }
+  })
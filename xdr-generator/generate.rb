@@ -1,5 +1,6 @@
 require 'xdrgen'
 require_relative 'generator/generator'
+require_relative 'generator/lazy_view_generator'
 
 puts "Generating Java XDR classes..."
 
@@ -14,4 +15,13 @@ Xdrgen::Compilation.new(
   namespace: "org.stellar.sdk.xdr",
 ).compile
 
+# Render the lazy views of the transaction metas, which live with the
+# LazyXdrArray and LazyXdrValue they are built from.
+Xdrgen::Compilation.new(
+  Dir.glob("xdr/*.x"),
+  output_dir: "src/main/java/org/stellar/sdk/ingest/",
+  generator: LazyViewGenerator,
+  namespace: "org.stellar.sdk.ingest",
+).compile
+
 puts "Done!"
@@ -31,6 +31,14 @@ class Generator < Xdrgen::Generators::Base
     result = ERB.new(template).result binding
     @output.write  "XdrDataInputStream.java", result
 
+    template = IO.read(__dir__ + "/templates/XdrByteBufferReader.erb")
+    result = ERB.new(template).result binding
+    @output.write  "XdrByteBufferReader.java", result
+
+    template = IO.read(__dir__ + "/templates/XdrByteBufferWriter.erb")
+    result = ERB.new(template).result binding
+    @output.write  "XdrByteBufferWriter.java", result
+
     template = IO.read(__dir__ + "/templates/XdrDataOutputStream.erb")
     result = ERB.new(template).result binding
     @output.write  "XdrDataOutputStream.java", result
@@ -39,6 +47,10 @@ class Generator < Xdrgen::Generators::Base
     result = ERB.new(template).result binding
     @output.write  "XdrElement.java", result
 
+    template = IO.read(__dir__ + "/templates/XdrPath.erb")
+    result = ERB.new(template).result binding
+    @output.write  "XdrPath.java", result
+
     template = IO.read(__dir__ + "/templates/XdrString.erb")
     result = ERB.new(template).result binding
     @output.write  "XdrString.java", result
@@ -61,6 +73,7 @@ class Generator < Xdrgen::Generators::Base
     imports.add("org.stellar.sdk.Base64Factory")
     imports.add("java.io.ByteArrayInputStream")
     imports.add("java.io.ByteArrayOutputStream")
+    imports.add("java.nio.ByteBuffer")
     imports.add("java.util.LinkedHashMap")
     imports.add("java.util.Map")
     imports.add("java.util.List")
@@ -255,29 +268,43 @@ class Generator < Xdrgen::Generators::Base
         return value;
     }
 
-    public static #{name_string enum.name} decode(XdrDataInputStream stream, int maxDepth) throws IOException {
-      // maxDepth is intentionally not checked - enums are leaf types with no recursive decoding
-      int value = stream.readInt();
-      switch (value) {
     EOS
-    out.indent 2 do
-      enum.members.each do |em|
-        out.puts "case #{em.value}: return #{em.name};"
-      end
-    end
+    render_enum_decode(enum, out, "XdrDataInputStream", "stream")
     out.puts <<-EOS.strip_heredoc
-        default:
-          throw new IllegalArgumentException("Unknown enum value: " + value);
-      }
-    }
-
     public static #{name_string enum.name} decode(XdrDataInputStream stream) throws IOException {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    EOS
+    render_enum_decode(enum, out, "XdrByteBufferReader", "reader")
+    out.puts <<-EOS.strip_heredoc
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      decode(stream, maxDepth);
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values) throws IOException {
+      path.checkEnd(index);
+      values.add(decode(stream, maxDepth));
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public void encode(XdrDataOutputStream stream) throws IOException {
       stream.writeInt(value);
     }
+
+    @Override
+    public int encodedSize() {
+      return 4;
+    }
     EOS
     render_base64((name_string enum.name), out)
 
@@ -287,6 +314,27 @@ class Generator < Xdrgen::Generators::Base
     out.break
   end
 
+  def render_enum_decode(enum, out, source_type, source)
+    out.puts <<-EOS.strip_heredoc
+    public static #{name_string enum.name} decode(#{source_type} #{source}, int maxDepth) throws IOException {
+      // maxDepth is intentionally not checked - enums are leaf types with no recursive decoding
+      int value = #{source}.readInt();
+      switch (value) {
+    EOS
+    out.indent 2 do
+      enum.members.each do |em|
+        out.puts "case #{em.value}: return #{em.name};"
+      end
+    end
+    out.puts <<-EOS.strip_heredoc
+        default:
+          throw new IllegalArgumentException("Unknown enum value: " + value);
+      }
+    }
+
+    EOS
+  end
+
   def render_enum_json(enum, out)
     prefix_len = enum_prefix_length(enum)
     enum_name = name_string enum.name
@@ -339,24 +387,16 @@ class Generator < Xdrgen::Generators::Base
     end
     out.puts "}"
 
-    # decode with maxDepth parameter
-    out.puts <<-EOS.strip_heredoc
-      public static #{name struct} decode(XdrDataInputStream stream, int maxDepth) throws IOException {
-        if (maxDepth <= 0) {
-          throw new IOException("Maximum decoding depth reached");
-        }
-        maxDepth -= 1;
-        #{name struct} decoded#{name struct} = new #{name struct}();
-    EOS
+    render_encoded_size_header out, 0
     struct.members.each do |m|
       out.indent do
-        decode_member "decoded#{name struct}", m, out, "maxDepth"
+        size_member m, out
       end
     end
-    out.indent do
-      out.puts "return decoded#{name struct};"
-    end
-    out.puts "}"
+    render_encoded_size_footer out
+
+    # decode with maxDepth parameter
+    render_struct_decode struct, out, "XdrDataInputStream", "stream"
 
     # decode without maxDepth parameter (uses default)
     out.puts <<-EOS.strip_heredoc
@@ -365,6 +405,29 @@ class Generator < Xdrgen::Generators::Base
       }
     EOS
 
+    # decode straight from a buffer, used by fromXdrByteBuffer
+    render_struct_decode struct, out, "XdrByteBufferReader", "reader"
+
+    # skip, which reads past the value without building it
+    render_skip_header out
+    struct.members.each do |m|
+      out.indent do
+        skip_member m, out, "maxDepth"
+      end
+    end
+    out.puts "}"
+    render_skip_default out
+
+    # extract, which reads the values at a path and skips the other fields
+    render_extract_header out, struct.members
+    struct.members.each do |m|
+      out.indent do
+        render_extract_or_skip m, out
+      end
+    end
+    out.puts "}"
+    render_extract_default out
+
     render_base64((name struct), out)
 
     # JSON methods
@@ -373,6 +436,26 @@ class Generator < Xdrgen::Generators::Base
     out.break
   end
 
+  def render_struct_decode(struct, out, source_type, source)
+    out.puts <<-EOS.strip_heredoc
+      public static #{name struct} decode(#{source_type} #{source}, int maxDepth) throws IOException {
+        if (maxDepth <= 0) {
+          throw new IOException("Maximum decoding depth reached");
+        }
+        maxDepth -= 1;
+        #{name struct} decoded#{name struct} = new #{name struct}();
+    EOS
+    struct.members.each do |m|
+      out.indent do
+        decode_member "decoded#{name struct}", m, out, "maxDepth", source
+      end
+    end
+    out.indent do
+      out.puts "return decoded#{name struct};"
+    end
+    out.puts "}"
+  end
+
   def render_struct_json(struct, out)
     struct_name = name struct
 
@@ -426,20 +509,15 @@ class Generator < Xdrgen::Generators::Base
     out.puts "}"
     out.break
 
-    # decode with maxDepth parameter
-    out.puts <<-EOS.strip_heredoc
-      public static #{name typedef} decode(XdrDataInputStream stream, int maxDepth) throws IOException {
-        if (maxDepth <= 0) {
-          throw new IOException("Maximum decoding depth reached");
-        }
-        maxDepth -= 1;
-        #{name typedef} decoded#{name typedef} = new #{name typedef}();
-    EOS
+    render_encoded_size_header out, 0
     out.indent do
-      decode_member "decoded#{name typedef}", typedef, out, "maxDepth"
-      out.puts "return decoded#{name typedef};"
+      size_member typedef, out
     end
-    out.puts "}"
+    render_encoded_size_footer out
+    out.break
+
+    # decode with maxDepth parameter
+    render_typedef_decode typedef, out, "XdrDataInputStream", "stream"
 
     # decode without maxDepth parameter (uses default)
     out.puts <<-EOS.strip_heredoc
@@ -447,6 +525,25 @@ class Generator < Xdrgen::Generators::Base
         return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
       }
     EOS
+
+    # decode straight from a buffer, used by fromXdrByteBuffer
+    render_typedef_decode typedef, out, "XdrByteBufferReader", "reader"
+
+    # skip, which reads past the value without building it
+    render_skip_header out
+    out.indent do
+      skip_member typedef, out, "maxDepth"
+    end
+    out.puts "}"
+    render_skip_default out
+
+    # extract, a typedef is transparent in a path
+    render_extract_header out, nil
+    out.indent do
+      extract_member typedef, out, "index"
+    end
+    out.puts "}"
+    render_extract_default out
     out.break
     render_base64(typedef.name.camelize, out)
 
@@ -454,6 +551,22 @@ class Generator < Xdrgen::Generators::Base
     render_typedef_json(typedef, out)
   end
 
+  def render_typedef_decode(typedef, out, source_type, source)
+    out.puts <<-EOS.strip_heredoc
+      public static #{name typedef} decode(#{source_type} #{source}, int maxDepth) throws IOException {
+        if (maxDepth <= 0) {
+          throw new IOException("Maximum decoding depth reached");
+        }
+        maxDepth -= 1;
+        #{name typedef} decoded#{name typedef} = new #{name typedef}();
+    EOS
+    out.indent do
+      decode_member "decoded#{name typedef}", typedef, out, "maxDepth", source
+      out.puts "return decoded#{name typedef};"
+    end
+    out.puts "}"
+  end
+
   def render_typedef_json(typedef, out)
     typedef_name = name typedef
 
@@ -506,46 +619,87 @@ class Generator < Xdrgen::Generators::Base
     else
       out.puts "stream.writeInt(discriminant.getValue());"
     end
-    if type_string(union.discriminant.type) == "Uint32"
-      # ugly workaround for compile error after generating source for AuthenticatedMessage in stellar-core
-      out.puts "switch (discriminant.getUint32().getNumber().intValue()) {"
-    else
-      out.puts "switch (discriminant) {"
-    end
+    render_union_switch union, out
     union.arms.each do |arm|
-      case arm
-        when AST::Definitions::UnionDefaultArm ;
-          out.puts "default:"
-        else
-          arm.cases.each do |kase|
-            if kase.value.is_a?(AST::Identifier)
-              if type_string(union.discriminant.type) == "Integer"
-                member = union.resolved_case(kase)
-                out.puts "case #{member.value}:"
-              else
-                out.puts "case #{kase.value.name}:"
-              end
-            else
-              out.puts "case #{kase.value.value}:"
-            end
-          end
-      end
+      render_union_case_labels union, arm, out
       encode_member arm, out
       out.puts "break;"
     end
     out.puts "}\n}"
 
+    # the discriminant is an int or an enum, 4 bytes either way
+    render_encoded_size_header out, 4
+    render_union_switch union, out
+    union.arms.each do |arm|
+      render_union_case_labels union, arm, out
+      size_member arm, out
+      out.puts "break;"
+    end
+    out.puts "}"
+    render_encoded_size_footer out
+
     # decode with maxDepth parameter
-    out.puts "public static #{name union} decode(XdrDataInputStream stream, int maxDepth) throws IOException {"
+    render_union_decode union, out, "XdrDataInputStream", "stream"
+
+    # decode without maxDepth parameter (uses default)
+    out.puts <<-EOS.strip_heredoc
+      public static #{name union} decode(XdrDataInputStream stream) throws IOException {
+        return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+      }
+    EOS
+
+    # decode straight from a buffer, used by fromXdrByteBuffer
+    render_union_decode union, out, "XdrByteBufferReader", "reader"
+
+    # skip, which reads past the value without building it
+    out.puts "public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {"
+    out.puts "if (maxDepth <= 0) {"
+    out.puts "  throw new IOException(\"Maximum decoding depth reached\");"
+    out.puts "}"
+    out.puts "maxDepth -= 1;"
+    render_union_skip_switch union, out
+    union.arms.each do |arm|
+      render_union_case_labels union, arm, out
+      skip_member arm, out, "maxDepth"
+      out.puts "break;"
+    end
+    render_union_unknown_discriminant union, out
+    out.puts "}\n}"
+    render_skip_default out
+
+    # extract, which reads the values at a path and skips the arm if it is not on the path
+    render_extract_header out, union.arms.reject(&:void?)
+    out.indent do
+      render_union_skip_switch union, out
+      union.arms.each do |arm|
+        render_union_case_labels union, arm, out
+        render_extract_or_skip arm, out unless arm.void?
+        out.puts "break;"
+      end
+      render_union_unknown_discriminant union, out
+      out.puts "}"
+    end
+    out.puts "}"
+    render_extract_default out
+    render_base64((name union), out)
+
+    # JSON methods
+    render_union_json(union, out)
+
+    out.break
+  end
+
+  def render_union_decode(union, out, source_type, source)
+    out.puts "public static #{name union} decode(#{source_type} #{source}, int maxDepth) throws IOException {"
     out.puts "if (maxDepth <= 0) {"
     out.puts "  throw new IOException(\"Maximum decoding depth reached\");"
     out.puts "}"
     out.puts "maxDepth -= 1;"
     out.puts "#{name union} decoded#{name union} = new #{name union}();"
     if union.discriminant.type.is_a?(AST::Typespecs::Int)
-      out.puts "Integer discriminant = stream.readInt();"
+      out.puts "Integer discriminant = #{source}.readInt();"
     else
-      out.puts "#{name union.discriminant.type} discriminant = #{name union.discriminant.type}.decode(stream, maxDepth);"
+      out.puts "#{name union.discriminant.type} discriminant = #{name union.discriminant.type}.decode(#{source}, maxDepth);"
     end
     out.puts "decoded#{name union}.setDiscriminant(discriminant);"
 
@@ -556,50 +710,66 @@ class Generator < Xdrgen::Generators::Base
       out.puts "switch (decoded#{name union}.getDiscriminant()) {"
     end
 
-    has_default_arm = union.arms.any? { |arm| arm.is_a?(AST::Definitions::UnionDefaultArm) }
     union.arms.each do |arm|
-      case arm
-        when AST::Definitions::UnionDefaultArm ;
-          out.puts "default:"
-        else
-          arm.cases.each do |kase|
-            if kase.value.is_a?(AST::Identifier)
-              if type_string(union.discriminant.type) == "Integer"
-                member = union.resolved_case(kase)
-                out.puts "case #{member.value}:"
-              else
-                out.puts "case #{kase.value.name}:"
-              end
-            else
-              out.puts "case #{kase.value.value}:"
-            end
-          end
-      end
-      decode_member "decoded#{name union}", arm, out, "maxDepth"
+      render_union_case_labels union, arm, out
+      decode_member "decoded#{name union}", arm, out, "maxDepth", source
       out.puts "break;"
     end
-    unless has_default_arm
-      out.puts "default:"
-      out.puts "  throw new IOException(\"Unknown discriminant value: \" + discriminant);"
-    end
+    render_union_unknown_discriminant union, out
     out.puts "}\n"
     out.indent do
       out.puts "return decoded#{name union};"
     end
     out.puts "}"
+  end
 
-    # decode without maxDepth parameter (uses default)
-    out.puts <<-EOS.strip_heredoc
-      public static #{name union} decode(XdrDataInputStream stream) throws IOException {
-        return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
-      }
-    EOS
-    render_base64((name union), out)
+  def render_union_switch(union, out)
+    if type_string(union.discriminant.type) == "Uint32"
+      # ugly workaround for compile error after generating source for AuthenticatedMessage in stellar-core
+      out.puts "switch (discriminant.getUint32().getNumber().intValue()) {"
+    else
+      out.puts "switch (discriminant) {"
+    end
+  end
 
-    # JSON methods
-    render_union_json(union, out)
+  def render_union_case_labels(union, arm, out)
+    case arm
+      when AST::Definitions::UnionDefaultArm ;
+        out.puts "default:"
+      else
+        arm.cases.each do |kase|
+          if kase.value.is_a?(AST::Identifier)
+            if type_string(union.discriminant.type) == "Integer"
+              member = union.resolved_case(kase)
+              out.puts "case #{member.value}:"
+            else
+              out.puts "case #{kase.value.name}:"
+            end
+          else
+            out.puts "case #{kase.value.value}:"
+          end
+        end
+    end
+  end
 
-    out.break
+  def render_union_unknown_discriminant(union, out)
+    return if union.arms.any? { |arm| arm.is_a?(AST::Definitions::UnionDefaultArm) }
+    out.puts "default:"
+    out.puts "  throw new IOException(\"Unknown discriminant value: \" + discriminant);"
+  end
+
+  # Unlike decode, skip and extract switch on the discriminant they read, so
+  # that no instance of the union is built. An integer discriminant, including
+  # a uint32 one, is read as an int, since its case labels are int literals.
+  def render_union_skip_switch(union, out)
+    if union.discriminant.type.is_a?(AST::Typespecs::Int) ||
+        union.discriminant.type.is_a?(AST::Typespecs::UnsignedInt) ||
+        type_string(union.discriminant.type) == "Uint32"
+      out.puts "int discriminant = stream.readInt();"
+    else
+      out.puts "#{name union.discriminant.type} discriminant = #{name union.discriminant.type}.decode(stream, maxDepth);"
+    end
+    out.puts "switch (discriminant) {"
   end
 
   def render_union_json(union, out)
@@ -790,6 +960,85 @@ class Generator < Xdrgen::Generators::Base
   # Top matter & helpers
   # ============================================================================
 
+  def render_skip_header(out)
+    out.puts <<-EOS.strip_heredoc
+      public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+        if (maxDepth <= 0) {
+          throw new IOException("Maximum decoding depth reached");
+        }
+        maxDepth -= 1;
+    EOS
+  end
+
+  def render_skip_default(out)
+    out.puts <<-EOS.strip_heredoc
+      public static void skip(XdrDataInputStream stream) throws IOException {
+        skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+      }
+    EOS
+  end
+
+  # members is nil for a typedef, which does not consume a field of the path
+  def render_extract_header(out, members)
+    out.puts <<-EOS.strip_heredoc
+      static void extract(XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values) throws IOException {
+        if (index == path.size()) {
+          values.add(decode(stream, maxDepth));
+          return;
+        }
+        if (maxDepth <= 0) {
+          throw new IOException("Maximum decoding depth reached");
+        }
+        maxDepth -= 1;
+    EOS
+    unless members.nil?
+      out.indent do
+        out.puts "String field = path.checkField(index#{members.map { |m| ", \"#{path_field_name m}\"" }.join});"
+      end
+    end
+  end
+
+  # The name of a member in a path, with the [*] suffix for an array, which
+  # XdrPath rejects on the other members
+  def path_field_name(member)
+    path_array?(member) ? "#{member.name}[*]" : member.name
+  end
+
+  # Whether the value of a member is an array, directly or through typedefs
+  def path_array?(member)
+    case member.declaration
+    when AST::Declarations::Array ;
+      true
+    when AST::Declarations::Simple, AST::Declarations::Optional ;
+      resolved = member.type.is_a?(AST::Typespecs::Simple) ? member.type.resolved_type : nil
+      resolved.is_a?(AST::Definitions::Typedef) && path_array?(resolved)
+    else
+      false
+    end
+  end
+
+  def render_extract_default(out)
+    out.puts <<-EOS.strip_heredoc
+      public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+        List<Object> values = new ArrayList<>();
+        extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+        return values;
+      }
+    EOS
+  end
+
+  def render_extract_or_skip(member, out)
+    out.puts "if (field.equals(\"#{member.name}\")) {"
+    out.indent do
+      extract_member member, out, "index + 1"
+    end
+    out.puts "} else {"
+    out.indent do
+      skip_member member, out, "maxDepth"
+    end
+    out.puts "}"
+  end
+
   def render_top_matter(out)
     out.puts <<-EOS.strip_heredoc
       // Automatically generated by xdrgen
@@ -830,10 +1079,12 @@ class Generator < Xdrgen::Generators::Base
       }
 
       public static #{return_type} fromXdrByteArray(byte[] xdr) throws IOException {
-        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-        XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-        xdrDataInputStream.setMaxInputLen(xdr.length);
-        return decode(xdrDataInputStream);
+        return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+      }
+
+      public static #{return_type} fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+        XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+        return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
       }
     EOS
   end
@@ -923,6 +1174,72 @@ class Generator < Xdrgen::Generators::Base
     end
   end
 
+  # encodedSize adds up the fixed widths and the padded variable lengths of the
+  # members, without encoding them.
+  def render_encoded_size_header(out, initial_size)
+    out.puts <<-EOS.strip_heredoc
+      @Override
+      public int encodedSize() {
+        int size = #{initial_size};
+    EOS
+  end
+
+  def render_encoded_size_footer(out)
+    out.puts <<-EOS.strip_heredoc
+        return size;
+      }
+    EOS
+  end
+
+  def size_member(member, out)
+    case member.declaration
+      when AST::Declarations::Void
+        return
+    end
+
+    if member.type.sub_type == :optional
+      out.puts "size += 4;"
+      out.puts "if (#{member.name} != null) {"
+    end
+    case member.declaration
+    when AST::Declarations::Opaque ;
+      length_size = member.declaration.fixed? ? "" : "4 + "
+      out.puts "size += #{length_size}((#{member.name}.length + 3) & ~3);"
+    when AST::Declarations::Array ;
+      out.puts "size += 4;" unless member.declaration.fixed?
+      fixed_size = fixed_type_size(member.declaration.type)
+      if fixed_size
+        out.puts "size += #{fixed_size} * #{member.name}.length;"
+      else
+        out.puts <<-EOS.strip_heredoc
+          for (int i = 0; i < #{member.name}.length; i++) {
+            size += #{member.name}[i].encodedSize();
+          }
+        EOS
+      end
+    else
+      fixed_size = fixed_type_size(member.declaration.type)
+      out.puts "size += #{fixed_size || "#{member.name}.encodedSize()"};"
+    end
+    if member.type.sub_type == :optional
+      out.puts "}"
+    end
+  end
+
+  # The encoded size of a type which does not depend on its value, nil otherwise
+  def fixed_type_size(type)
+    case type
+    when AST::Typespecs::Int, AST::Typespecs::UnsignedInt, AST::Typespecs::Float, AST::Typespecs::Bool ;
+      4
+    when AST::Typespecs::Hyper, AST::Typespecs::UnsignedHyper, AST::Typespecs::Double ;
+      8
+    when AST::Typespecs::Simple ;
+      type.resolved_type.is_a?(AST::Definitions::Enum) ? 4 : nil
+    else
+      nil
+    end
+  end
+
   def encode_type(type, value)
     case type
     when AST::Typespecs::Int ;
@@ -952,102 +1269,171 @@ class Generator < Xdrgen::Generators::Base
     end
   end
 
-  def decode_member(value, member, out, depth_var = nil)
+  # source is the variable read from, an XdrDataInputStream or an XdrByteBufferReader
+  def decode_member(value, member, out, depth_var = nil, source = "stream")
     case member.declaration
     when AST::Declarations::Void ;
       return
     end
     if member.type.sub_type == :optional
       out.puts <<-EOS.strip_heredoc
-        boolean #{member.name}Present = stream.readXdrBoolean();
+        boolean #{member.name}Present = #{source}.readXdrBoolean();
         if (#{member.name}Present) {
       EOS
     end
     case member.declaration
     when AST::Declarations::Opaque ;
-      if (member.declaration.fixed?)
-        out.puts "int #{member.name}Size = #{convert_constant member.declaration.size};"
-      else
-        out.puts "int #{member.name}Size = stream.readInt();"
-        # Add size validation for variable-length opaque
-        out.puts "if (#{member.name}Size < 0) {"
-        out.puts "  throw new IOException(\"#{member.name} size \" + #{member.name}Size + \" is negative\");"
-        out.puts "}"
-        max_size = member.declaration.resolved_size
-        if max_size
-          out.puts "if (#{member.name}Size > #{convert_constant max_size}) {"
-          out.puts "  throw new IOException(\"#{member.name} size \" + #{member.name}Size + \" exceeds max size #{max_size}\");"
-          out.puts "}"
-        end
-        # Add input length check to prevent DoS
-        out.puts "int #{member.name}RemainingInputLen = stream.getRemainingInputLen();"
-        out.puts "if (#{member.name}RemainingInputLen >= 0 && #{member.name}RemainingInputLen < #{member.name}Size) {"
-        out.puts "  throw new IOException(\"#{member.name} size \" + #{member.name}Size + \" exceeds remaining input length \" + #{member.name}RemainingInputLen);"
-        out.puts "}"
-      end
+      decode_size member, out, source
       out.puts <<-EOS.strip_heredoc
         #{value}.#{member.name} = new byte[#{member.name}Size];
-        stream.readPaddedData(#{value}.#{member.name}, 0, #{member.name}Size);
+        #{source}.readPaddedData(#{value}.#{member.name}, 0, #{member.name}Size);
       EOS
     when AST::Declarations::Array ;
-      if (member.declaration.fixed?)
-        out.puts "int #{member.name}Size = #{convert_constant member.declaration.size};"
-      else
-        out.puts "int #{member.name}Size = stream.readInt();"
-        # Add size validation for variable-length array
-        out.puts "if (#{member.name}Size < 0) {"
-        out.puts "  throw new IOException(\"#{member.name} size \" + #{member.name}Size + \" is negative\");"
-        out.puts "}"
-        max_size = member.declaration.resolved_size
-        if max_size
-          out.puts "if (#{member.name}Size > #{convert_constant max_size}) {"
-          out.puts "  throw new IOException(\"#{member.name} size \" + #{member.name}Size + \" exceeds max size #{max_size}\");"
-          out.puts "}"
-        end
-        # Add input length check to prevent DoS
-        out.puts "int #{member.name}RemainingInputLen = stream.getRemainingInputLen();"
-        out.puts "if (#{member.name}RemainingInputLen >= 0 && #{member.name}RemainingInputLen < #{member.name}Size) {"
-        out.puts "  throw new IOException(\"#{member.name} size \" + #{member.name}Size + \" exceeds remaining input length \" + #{member.name}RemainingInputLen);"
+      decode_size member, out, source
+      out.puts <<-EOS.strip_heredoc
+        #{value}.#{member.name} = new #{type_string member.type}[#{member.name}Size];
+        for (int i = 0; i < #{member.name}Size; i++) {
+          #{value}.#{member.name}[i] = #{decode_type member.declaration, depth_var, source};
+        }
+      EOS
+    else
+      out.puts "#{value}.#{member.name} = #{decode_type member.declaration, depth_var, source};"
+    end
+    if member.type.sub_type == :optional
+      out.puts "}"
+    end
+  end
+
+  # Reads and validates the size of an opaque or an array
+  def decode_size(member, out, source = "stream")
+    if (member.declaration.fixed?)
+      out.puts "int #{member.name}Size = #{convert_constant member.declaration.size};"
+    else
+      out.puts "int #{member.name}Size = #{source}.readInt();"
+      # Add size validation for variable-length opaques and arrays
+      out.puts "if (#{member.name}Size < 0) {"
+      out.puts "  throw new IOException(\"#{member.name} size \" + #{member.name}Size + \" is negative\");"
+      out.puts "}"
+      max_size = member.declaration.resolved_size
+      if max_size
+        out.puts "if (#{member.name}Size > #{convert_constant max_size}) {"
+        out.puts "  throw new IOException(\"#{member.name} size \" + #{member.name}Size + \" exceeds max size #{max_size}\");"
         out.puts "}"
       end
+      # Add input length check to prevent DoS
+      out.puts "int #{member.name}RemainingInputLen = #{source}.getRemainingInputLen();"
+      out.puts "if (#{member.name}RemainingInputLen >= 0 && #{member.name}RemainingInputLen < #{member.name}Size) {"
+      out.puts "  throw new IOException(\"#{member.name} size \" + #{member.name}Size + \" exceeds remaining input length \" + #{member.name}RemainingInputLen);"
+      out.puts "}"
+    end
+  end
+
+  def skip_member(member, out, depth_var)
+    case member.declaration
+    when AST::Declarations::Void ;
+      return
+    end
+    if member.type.sub_type == :optional
+      out.puts <<-EOS.strip_heredoc
+        boolean #{member.name}Present = stream.readXdrBoolean();
+        if (#{member.name}Present) {
+      EOS
+    end
+    case member.declaration
+    when AST::Declarations::Opaque ;
+      decode_size member, out
+      out.puts "stream.skipPaddedData(#{member.name}Size);"
+    when AST::Declarations::Array ;
+      decode_size member, out
       out.puts <<-EOS.strip_heredoc
-        #{value}.#{member.name} = new #{type_string member.type}[#{member.name}Size];
         for (int i = 0; i < #{member.name}Size; i++) {
-          #{value}.#{member.name}[i] = #{decode_type member.declaration, depth_var};
+          #{skip_type member.declaration, depth_var};
         }
       EOS
     else
-      out.puts "#{value}.#{member.name} = #{decode_type member.declaration, depth_var};"
+      out.puts "#{skip_type member.declaration, depth_var};"
+    end
+    if member.type.sub_type == :optional
+      out.puts "}"
+    end
+  end
+
+  # Primitives are read and dropped, the other types are skipped without being built.
+  def skip_type(decl, depth_var)
+    decode_type(decl, depth_var).sub(".decode(", ".skip(")
+  end
+
+  def extract_member(member, out, next_index)
+    case member.declaration
+    when AST::Declarations::Void ;
+      return
+    end
+    if member.type.sub_type == :optional
+      out.puts <<-EOS.strip_heredoc
+        boolean #{member.name}Present = stream.readXdrBoolean();
+        if (#{member.name}Present) {
+      EOS
+    end
+    case member.declaration
+    when AST::Declarations::Opaque ;
+      decode_size member, out
+      out.puts <<-EOS.strip_heredoc
+        path.checkEnd(#{next_index});
+        byte[] #{member.name}Bytes = new byte[#{member.name}Size];
+        stream.readPaddedData(#{member.name}Bytes, 0, #{member.name}Size);
+        values.add(#{member.name}Bytes);
+      EOS
+    when AST::Declarations::Array ;
+      decode_size member, out
+      out.puts "for (int i = 0; i < #{member.name}Size; i++) {"
+      out.indent do
+        extract_type member.declaration, out, next_index
+      end
+      out.puts "}"
+    else
+      extract_type member.declaration, out, next_index
     end
     if member.type.sub_type == :optional
       out.puts "}"
     end
   end
 
-  def decode_type(decl, depth_var = nil)
+  def extract_type(decl, out, next_index)
+    case decl.type
+    when AST::Typespecs::Simple ;
+      out.puts "#{name decl.type.resolved_type}.extract(stream, maxDepth, path, #{next_index}, values);"
+    when AST::Concerns::NestedDefinition ;
+      out.puts "#{name decl.type}.extract(stream, maxDepth, path, #{next_index}, values);"
+    else
+      out.puts "path.checkEnd(#{next_index});"
+      out.puts "values.add(#{decode_type decl, "maxDepth"});"
+    end
+  end
+
+  def decode_type(decl, depth_var = nil, source = "stream")
     case decl.type
     when AST::Typespecs::Int ;
-      "stream.readInt()"
+      "#{source}.readInt()"
     when AST::Typespecs::UnsignedInt ;
-      depth_var ? "XdrUnsignedInteger.decode(stream, #{depth_var})" : "XdrUnsignedInteger.decode(stream)"
+      depth_var ? "XdrUnsignedInteger.decode(#{source}, #{depth_var})" : "XdrUnsignedInteger.decode(#{source})"
     when AST::Typespecs::Hyper ;
-      "stream.readLong()"
+      "#{source}.readLong()"
     when AST::Typespecs::UnsignedHyper ;
-      depth_var ? "XdrUnsignedHyperInteger.decode(stream, #{depth_var})" : "XdrUnsignedHyperInteger.decode(stream)"
+      depth_var ? "XdrUnsignedHyperInteger.decode(#{source}, #{depth_var})" : "XdrUnsignedHyperInteger.decode(#{source})"
     when AST::Typespecs::Float ;
-      "stream.readFloat()"
+      "#{source}.readFloat()"
     when AST::Typespecs::Double ;
-      "stream.readDouble()"
+      "#{source}.readDouble()"
     when AST::Typespecs::Quadruple ;
       raise "cannot render quadruple in java"
     when AST::Typespecs::Bool ;
-      "stream.readXdrBoolean()"
+      "#{source}.readXdrBoolean()"
     when AST::Typespecs::String ;
-      depth_var ? "XdrString.decode(stream, #{depth_var}, #{(convert_constant decl.size) || 'Integer.MAX_VALUE'})" : "XdrString.decode(stream, #{(convert_constant decl.size) || 'Integer.MAX_VALUE'})"
+      depth_var ? "XdrString.decode(#{source}, #{depth_var}, #{(convert_constant decl.size) || 'Integer.MAX_VALUE'})" : "XdrString.decode(#{source}, #{(convert_constant decl.size) || 'Integer.MAX_VALUE'})"
     when AST::Typespecs::Simple ;
-      depth_var ? "#{name decl.type.resolved_type}.decode(stream, #{depth_var})" : "#{name decl.type.resolved_type}.decode(stream)"
+      depth_var ? "#{name decl.type.resolved_type}.decode(#{source}, #{depth_var})" : "#{name decl.type.resolved_type}.decode(#{source})"
     when AST::Concerns::NestedDefinition ;
-      depth_var ? "#{name decl.type}.decode(stream, #{depth_var})" : "#{name decl.type}.decode(stream)"
+      depth_var ? "#{name decl.type}.decode(#{source}, #{depth_var})" : "#{name decl.type}.decode(#{source})"
     else
       raise "Unknown typespec: #{decl.type.class.name}"
     end
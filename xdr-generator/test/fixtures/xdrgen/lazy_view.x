@@ -0,0 +1,45 @@
+enum ViewKind
+{
+  VIEW_EMPTY = 0,
+  VIEW_ITEMS = 1
+};
+
+struct Item
+{
+  int id;
+  opaque data<>;
+};
+
+typedef Item Items<>;
+
+struct Detail
+{
+  Item* item;
+  Items items;
+};
+
+union DetailView switch (ViewKind kind)
+{
+case VIEW_EMPTY:
+  void;
+case VIEW_ITEMS:
+  Detail detail;
+};
+
+struct ItemsView
+{
+  Item first;
+  Items changes;
+  Item rest<>;
+  Detail* detail;
+};
+
+union View switch (int v)
+{
+case 0:
+  Item items<>;
+case 1:
+  ItemsView v1;
+case 2:
+  DetailView v2;
+};
@@ -4,6 +4,14 @@ require "tmpdir"
 
 require "xdrgen"
 require_relative "../generator/generator"
+require_relative "../generator/lazy_view_generator"
+
+# Renders the lazy views of the lazy_view fixture.
+class FixtureLazyViewGenerator < LazyViewGenerator
+  def lazy_views
+    %w[View ItemsView DetailView Detail]
+  end
+end
 
 class GeneratorSnapshotTest < Minitest::Test
   FIXTURES_DIR = File.expand_path("fixtures/xdrgen", __dir__)
@@ -57,6 +65,14 @@ class GeneratorSnapshotTest < Minitest::Test
       generator: Generator,
       namespace: "org.stellar.sdk.xdr",
     ).compile
+    return unless File.basename(fixture_path, ".x") == "lazy_view"
+
+    Xdrgen::Compilation.new(
+      [fixture_path],
+      output_dir: File.join(output_dir, "ingest"),
+      generator: FixtureLazyViewGenerator,
+      namespace: "org.stellar.sdk.ingest",
+    ).compile
   end
 
   def assert_files_match(expected_dir, actual_dir, fixture_name)
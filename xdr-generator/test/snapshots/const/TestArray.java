@@ -8,6 +8,7 @@ import java.io.IOException;
 import org.stellar.sdk.Base64Factory;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.List;
@@ -43,6 +44,13 @@ public class TestArray implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += 4 * TestArray.length;
+    return size;
+  }
+
   public static TestArray decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -59,6 +67,52 @@ public class TestArray implements XdrElement {
   public static TestArray decode(XdrDataInputStream stream) throws IOException {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
+  public static TestArray decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    TestArray decodedTestArray = new TestArray();
+    int TestArraySize = Constants.FOO;
+    decodedTestArray.TestArray = new Integer[TestArraySize];
+    for (int i = 0; i < TestArraySize; i++) {
+      decodedTestArray.TestArray[i] = reader.readInt();
+    }
+    return decodedTestArray;
+  }
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int TestArraySize = Constants.FOO;
+    for (int i = 0; i < TestArraySize; i++) {
+      stream.readInt();
+    }
+  }
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+  static void extract(XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values) throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int TestArraySize = Constants.FOO;
+    for (int i = 0; i < TestArraySize; i++) {
+      path.checkEnd(index);
+      values.add(stream.readInt());
+    }
+  }
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
 
   public static TestArray fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
@@ -66,10 +120,12 @@ public class TestArray implements XdrElement {
   }
 
   public static TestArray fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static TestArray fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
   @Override
   public String toJson() {
@@ -8,6 +8,7 @@ import java.io.IOException;
 import org.stellar.sdk.Base64Factory;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.List;
@@ -44,6 +45,14 @@ public class TestArray2 implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    size += 4 * TestArray2.length;
+    return size;
+  }
+
   public static TestArray2 decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -70,6 +79,82 @@ public class TestArray2 implements XdrElement {
   public static TestArray2 decode(XdrDataInputStream stream) throws IOException {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
+  public static TestArray2 decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    TestArray2 decodedTestArray2 = new TestArray2();
+    int TestArray2Size = reader.readInt();
+    if (TestArray2Size < 0) {
+      throw new IOException("TestArray2 size " + TestArray2Size + " is negative");
+    }
+    if (TestArray2Size > 1) {
+      throw new IOException("TestArray2 size " + TestArray2Size + " exceeds max size 1");
+    }
+    int TestArray2RemainingInputLen = reader.getRemainingInputLen();
+    if (TestArray2RemainingInputLen >= 0 && TestArray2RemainingInputLen < TestArray2Size) {
+      throw new IOException("TestArray2 size " + TestArray2Size + " exceeds remaining input length " + TestArray2RemainingInputLen);
+    }
+    decodedTestArray2.TestArray2 = new Integer[TestArray2Size];
+    for (int i = 0; i < TestArray2Size; i++) {
+      decodedTestArray2.TestArray2[i] = reader.readInt();
+    }
+    return decodedTestArray2;
+  }
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int TestArray2Size = stream.readInt();
+    if (TestArray2Size < 0) {
+      throw new IOException("TestArray2 size " + TestArray2Size + " is negative");
+    }
+    if (TestArray2Size > 1) {
+      throw new IOException("TestArray2 size " + TestArray2Size + " exceeds max size 1");
+    }
+    int TestArray2RemainingInputLen = stream.getRemainingInputLen();
+    if (TestArray2RemainingInputLen >= 0 && TestArray2RemainingInputLen < TestArray2Size) {
+      throw new IOException("TestArray2 size " + TestArray2Size + " exceeds remaining input length " + TestArray2RemainingInputLen);
+    }
+    for (int i = 0; i < TestArray2Size; i++) {
+      stream.readInt();
+    }
+  }
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+  static void extract(XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values) throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int TestArray2Size = stream.readInt();
+    if (TestArray2Size < 0) {
+      throw new IOException("TestArray2 size " + TestArray2Size + " is negative");
+    }
+    if (TestArray2Size > 1) {
+      throw new IOException("TestArray2 size " + TestArray2Size + " exceeds max size 1");
+    }
+    int TestArray2RemainingInputLen = stream.getRemainingInputLen();
+    if (TestArray2RemainingInputLen >= 0 && TestArray2RemainingInputLen < TestArray2Size) {
+      throw new IOException("TestArray2 size " + TestArray2Size + " exceeds remaining input length " + TestArray2RemainingInputLen);
+    }
+    for (int i = 0; i < TestArray2Size; i++) {
+      path.checkEnd(index);
+      values.add(stream.readInt());
+    }
+  }
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
 
   public static TestArray2 fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
@@ -77,10 +162,12 @@ public class TestArray2 implements XdrElement {
   }
 
   public static TestArray2 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static TestArray2 fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
   @Override
   public String toJson() {
@@ -0,0 +1,189 @@
+package org.stellar.sdk.xdr;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Unsynchronized, growable {@link OutputStream} that can be reset and reused across encodes.
+ *
+ * <p>{@link XdrElement#toXdrByteArray()} encodes into a per-thread instance of this class, so
+ * repeated encodes on the same thread do not allocate and grow a fresh {@link
+ * java.io.ByteArrayOutputStream} every time. Buffers that grew beyond {@value
+ * #MAX_RETAINED_CAPACITY} bytes are not kept after the encode, to avoid pinning the memory of a
+ * single very large value to the thread.
+ *
+ * <p>Instances are not thread-safe.
+ */
+public final class XdrByteBufferWriter extends OutputStream {
+  /** Largest buffer, in bytes, that the per-thread writer keeps between encodes. */
+  public static final int MAX_RETAINED_CAPACITY = 1024 * 1024;
+
+  private static final int DEFAULT_CAPACITY = 256;
+
+  private static final ThreadLocal<XdrByteBufferWriter> CACHED =
+      ThreadLocal.withInitial(XdrByteBufferWriter::new);
+
+  private byte[] buffer;
+  private int count;
+  private boolean inUse;
+
+  /** Creates a writer with a small default capacity. */
+  public XdrByteBufferWriter() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates a writer with the given initial capacity.
+   *
+   * @param initialCapacity the initial capacity in bytes
+   * @throws IllegalArgumentException if {@code initialCapacity} is negative
+   */
+  public XdrByteBufferWriter(int initialCapacity) {
+    if (initialCapacity < 0) {
+      throw new IllegalArgumentException(
+          "initialCapacity must not be negative: " + initialCapacity);
+    }
+    this.buffer = new byte[initialCapacity];
+  }
+
+  @Override
+  public void write(int b) {
+    ensureCapacity(count + 1);
+    buffer[count++] = (byte) b;
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) {
+    if (off < 0 || len < 0 || len > b.length - off) {
+      throw new IndexOutOfBoundsException(
+          "Range [" + off + ", " + off + " + " + len + ") out of bounds for length " + b.length);
+    }
+    ensureCapacity(count + len);
+    System.arraycopy(b, off, buffer, count, len);
+    count += len;
+  }
+
+  /**
+   * Makes sure at least {@code minCapacity} bytes fit without growing the buffer again.
+   *
+   * @param minCapacity the required capacity in bytes
+   */
+  public void ensureCapacity(int minCapacity) {
+    if (minCapacity < 0) {
+      throw new OutOfMemoryError("Required XDR buffer size is too large");
+    }
+    if (minCapacity <= buffer.length) {
+      return;
+    }
+    int newCapacity = Math.max(buffer.length << 1, minCapacity);
+    if (newCapacity < 0) {
+      newCapacity = Integer.MAX_VALUE - 8;
+    }
+    buffer = Arrays.copyOf(buffer, newCapacity);
+  }
+
+  /**
+   * Returns the number of bytes written since the last {@link #reset()}.
+   *
+   * @return the number of bytes written
+   */
+  public int size() {
+    return count;
+  }
+
+  /** Discards the written bytes, keeping the buffer for the next encode. */
+  public void reset() {
+    count = 0;
+  }
+
+  /**
+   * Returns a copy of the written bytes.
+   *
+   * @return the written bytes
+   */
+  public byte[] toByteArray() {
+    return Arrays.copyOf(buffer, count);
+  }
+
+  /**
+   * Copies the written bytes into {@code destination} at its current position.
+   *
+   * @param destination the buffer to copy into
+   * @throws BufferOverflowException if {@code destination} has fewer remaining bytes than {@link
+   *     #size()}
+   */
+  public void writeTo(ByteBuffer destination) {
+    destination.put(buffer, 0, count);
+  }
+
+  static byte[] toByteArray(XdrElement element) throws IOException {
+    XdrByteBufferWriter writer = CACHED.get();
+    if (writer.inUse) {
+      // Re-entrant encode on the same thread, e.g. from a custom encode implementation.
+      writer = new XdrByteBufferWriter();
+    }
+    writer.inUse = true;
+    try {
+      element.encode(new XdrDataOutputStream(writer));
+      return writer.toByteArray();
+    } finally {
+      writer.reset();
+      writer.inUse = false;
+      if (writer.buffer.length > MAX_RETAINED_CAPACITY) {
+        writer.buffer = new byte[DEFAULT_CAPACITY];
+      }
+    }
+  }
+
+  static int encodedSize(XdrElement element) throws IOException {
+    SizeCounter counter = new SizeCounter();
+    element.encode(new XdrDataOutputStream(counter));
+    return counter.size;
+  }
+
+  static int encodeTo(XdrElement element, ByteBuffer destination) throws IOException {
+    int start = destination.position();
+    try {
+      element.encode(new XdrDataOutputStream(new ByteBufferOutputStream(destination)));
+    } catch (BufferOverflowException e) {
+      destination.position(start);
+      throw e;
+    }
+    return destination.position() - start;
+  }
+
+  private static final class SizeCounter extends OutputStream {
+    private int size;
+
+    @Override
+    public void write(int b) {
+      size++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      size += len;
+    }
+  }
+
+  private static final class ByteBufferOutputStream extends OutputStream {
+    private final ByteBuffer destination;
+
+    ByteBufferOutputStream(ByteBuffer destination) {
+      this.destination = destination;
+    }
+
+    @Override
+    public void write(int b) {
+      destination.put((byte) b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      destination.put(b, off, len);
+    }
+  }
+}
@@ -8,6 +8,7 @@ import java.io.IOException;
 import java.lang.reflect.Array;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
@@ -49,10 +50,38 @@ public interface XdrElement {
    * @throws IOException if an I/O error occurs while encoding the value
    */
   default byte[] toXdrByteArray() throws IOException {
-    ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-    XdrDataOutputStream xdrDataOutputStream = new XdrDataOutputStream(byteArrayOutputStream);
-    encode(xdrDataOutputStream);
-    return byteArrayOutputStream.toByteArray();
+    return XdrByteBufferWriter.toByteArray(this);
+  }
+
+  /**
+   * Returns the number of bytes {@link #toXdrByteArray()} would produce, without allocating the
+   * encoded bytes.
+   *
+   * <p>Generated types override this to add up the fixed widths and the padded variable lengths of
+   * their fields, without encoding anything. This default, left to hand-written implementations,
+   * encodes the whole value into a stream which only counts the bytes, so it costs about as much
+   * as encoding the value.
+   *
+   * @return the size of the XDR encoding in bytes
+   * @throws IOException if an I/O error occurs while encoding the value
+   */
+  default int encodedSize() throws IOException {
+    return XdrByteBufferWriter.encodedSize(this);
+  }
+
+  /**
+   * Encodes this value to XDR directly into {@code buffer}, starting at its current position.
+   *
+   * <p>If the buffer runs out of space, its position is restored and a {@link
+   * java.nio.BufferOverflowException} is thrown; bytes past the original position may have been
+   * overwritten. A reused buffer can be grown and the encode retried when that happens.
+   *
+   * @param buffer the destination buffer, heap or direct
+   * @return the number of bytes written
+   * @throws IOException if an I/O error occurs while encoding the value
+   */
+  default int encodeTo(ByteBuffer buffer) throws IOException {
+    return XdrByteBufferWriter.encodeTo(this, buffer);
   }
 
   /**
@@ -79,6 +79,40 @@ public class XdrUnsignedInteger implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
+  /**
+   * Decodes an {@link XdrUnsignedInteger} from the provided buffer reader.
+   *
+   * @param reader the source XDR buffer reader
+   * @param maxDepth the maximum decoding depth, ignored for this leaf type
+   * @return the decoded {@link XdrUnsignedInteger}
+   * @throws IOException if the buffer is too short
+   */
+  public static XdrUnsignedInteger decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    // maxDepth is intentionally not checked - XdrUnsignedInteger is a leaf type with no recursive decoding
+    return new XdrUnsignedInteger(Integer.toUnsignedLong(reader.readInt()));
+  }
+
+  /**
+   * Reads past an {@link XdrUnsignedInteger} in the provided stream.
+   *
+   * @param stream the source XDR input stream
+   * @param maxDepth the maximum decoding depth, ignored for this leaf type
+   * @throws IOException if an I/O error occurs while reading the value
+   */
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    stream.readInt();
+  }
+
+  /**
+   * Reads past an {@link XdrUnsignedInteger} in the provided stream using the default maximum depth.
+   *
+   * @param stream the source XDR input stream
+   * @throws IOException if an I/O error occurs while reading the value
+   */
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
   /**
    * Encodes this value to XDR.
    *
@@ -90,6 +124,16 @@ public class XdrUnsignedInteger implements XdrElement {
     stream.writeInt(number.intValue());
   }
 
+  /**
+   * Returns the size of the XDR encoding of this value.
+   *
+   * @return 4, the size of an XDR unsigned int
+   */
+  @Override
+  public int encodedSize() {
+    return 4;
+  }
+
   /**
    * Serializes this value to JSON.
    *
@@ -0,0 +1,10 @@
+// Automatically generated by xdrgen
+// DO NOT EDIT or your changes may be overwritten
+
+package org.stellar.sdk.xdr;
+
+import java.io.IOException;
+
+public final class Constants {
+  private Constants() {}
+}
@@ -0,0 +1,179 @@
+// Automatically generated by xdrgen
+// DO NOT EDIT or your changes may be overwritten
+
+package org.stellar.sdk.xdr;
+
+import java.io.IOException;
+
+import org.stellar.sdk.Base64Factory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.List;
+import java.util.ArrayList;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+/**
+ * Detail's original definition in the XDR file is:
+ * <pre>
+ * struct Detail
+ * {
+ *   Item&#42; item;
+ *   Items items;
+ * };
+ * </pre>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class Detail implements XdrElement {
+  /**
+   * Value of the {@code item} field.
+   *
+   * @param item the {@code item} field value
+   * @return the {@code item} field value
+   */
+  private Item item;
+  /**
+   * Value of the {@code items} field.
+   *
+   * @param items the {@code items} field value
+   * @return the {@code items} field value
+   */
+  private Items items;
+  public void encode(XdrDataOutputStream stream) throws IOException{
+    if (item != null) {
+    stream.writeInt(1);
+    item.encode(stream);
+    } else {
+    stream.writeInt(0);
+    }
+    items.encode(stream);
+  }
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    if (item != null) {
+    size += item.encodedSize();
+    }
+    size += items.encodedSize();
+    return size;
+  }
+  public static Detail decode(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Detail decodedDetail = new Detail();
+    boolean itemPresent = stream.readXdrBoolean();
+    if (itemPresent) {
+    decodedDetail.item = Item.decode(stream, maxDepth);
+    }
+    decodedDetail.items = Items.decode(stream, maxDepth);
+    return decodedDetail;
+  }
+  public static Detail decode(XdrDataInputStream stream) throws IOException {
+    return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+  public static Detail decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Detail decodedDetail = new Detail();
+    boolean itemPresent = reader.readXdrBoolean();
+    if (itemPresent) {
+    decodedDetail.item = Item.decode(reader, maxDepth);
+    }
+    decodedDetail.items = Items.decode(reader, maxDepth);
+    return decodedDetail;
+  }
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    boolean itemPresent = stream.readXdrBoolean();
+    if (itemPresent) {
+    Item.skip(stream, maxDepth);
+    }
+    Items.skip(stream, maxDepth);
+  }
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+  static void extract(XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values) throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "item", "items[*]");
+    if (field.equals("item")) {
+      boolean itemPresent = stream.readXdrBoolean();
+      if (itemPresent) {
+      Item.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      boolean itemPresent = stream.readXdrBoolean();
+      if (itemPresent) {
+      Item.skip(stream, maxDepth);
+      }
+    }
+    if (field.equals("items")) {
+      Items.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Items.skip(stream, maxDepth);
+    }
+  }
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+  public static Detail fromXdrBase64(String xdr) throws IOException {
+    byte[] bytes = Base64Factory.getInstance().decode(xdr);
+    return fromXdrByteArray(bytes);
+  }
+
+  public static Detail fromXdrByteArray(byte[] xdr) throws IOException {
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static Detail fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+  @Override
+  public String toJson() {
+    return XdrElement.gson.toJson(toJsonObject());
+  }
+
+  public static Detail fromJson(String json) {
+    return fromJsonObject(XdrElement.gson.fromJson(json, Object.class));
+  }
+  Object toJsonObject() {
+    LinkedHashMap<String, Object> jsonMap = new LinkedHashMap<>();
+    jsonMap.put("item", item != null ? item.toJsonObject() : null);
+    jsonMap.put("items", items.toJsonObject());
+    return jsonMap;
+  }
+  @SuppressWarnings("unchecked")
+  static Detail fromJsonObject(Object json) {
+    java.util.Map<String, Object> jsonMap = (java.util.Map<String, Object>) json;
+    Detail instance = new Detail();
+    instance.item = jsonMap.get("item") != null ? Item.fromJsonObject(jsonMap.get("item")) : null;
+    instance.items = Items.fromJsonObject(jsonMap.get("items"));
+    return instance;
+  }
+}
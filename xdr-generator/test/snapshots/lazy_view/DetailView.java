@@ -0,0 +1,226 @@
+// Automatically generated by xdrgen
+// DO NOT EDIT or your changes may be overwritten
+
+package org.stellar.sdk.xdr;
+
+import java.io.IOException;
+
+import org.stellar.sdk.Base64Factory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.List;
+import java.util.ArrayList;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+/**
+ * DetailView's original definition in the XDR file is:
+ * <pre>
+ * union DetailView switch (ViewKind kind)
+ * {
+ * case VIEW_EMPTY:
+ *   void;
+ * case VIEW_ITEMS:
+ *   Detail detail;
+ * };
+ * </pre>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class DetailView implements XdrElement {
+  /**
+   * Value of the {@code discriminant} field.
+   *
+   * @param discriminant the {@code discriminant} field value
+   * @return the {@code discriminant} field value
+   */
+  private ViewKind discriminant;
+  /**
+   * Value of the {@code detail} field.
+   *
+   * @param detail the {@code detail} field value
+   * @return the {@code detail} field value
+   */
+  private Detail detail;
+
+  public void encode(XdrDataOutputStream stream) throws IOException {
+  stream.writeInt(discriminant.getValue());
+  switch (discriminant) {
+  case VIEW_EMPTY:
+  break;
+  case VIEW_ITEMS:
+  detail.encode(stream);
+  break;
+  }
+  }
+  @Override
+  public int encodedSize() {
+    int size = 4;
+  switch (discriminant) {
+  case VIEW_EMPTY:
+  break;
+  case VIEW_ITEMS:
+  size += detail.encodedSize();
+  break;
+  }
+    return size;
+  }
+  public static DetailView decode(XdrDataInputStream stream, int maxDepth) throws IOException {
+  if (maxDepth <= 0) {
+    throw new IOException("Maximum decoding depth reached");
+  }
+  maxDepth -= 1;
+  DetailView decodedDetailView = new DetailView();
+  ViewKind discriminant = ViewKind.decode(stream, maxDepth);
+  decodedDetailView.setDiscriminant(discriminant);
+  switch (decodedDetailView.getDiscriminant()) {
+  case VIEW_EMPTY:
+  break;
+  case VIEW_ITEMS:
+  decodedDetailView.detail = Detail.decode(stream, maxDepth);
+  break;
+  default:
+    throw new IOException("Unknown discriminant value: " + discriminant);
+  }
+    return decodedDetailView;
+  }
+  public static DetailView decode(XdrDataInputStream stream) throws IOException {
+    return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+  public static DetailView decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+  if (maxDepth <= 0) {
+    throw new IOException("Maximum decoding depth reached");
+  }
+  maxDepth -= 1;
+  DetailView decodedDetailView = new DetailView();
+  ViewKind discriminant = ViewKind.decode(reader, maxDepth);
+  decodedDetailView.setDiscriminant(discriminant);
+  switch (decodedDetailView.getDiscriminant()) {
+  case VIEW_EMPTY:
+  break;
+  case VIEW_ITEMS:
+  decodedDetailView.detail = Detail.decode(reader, maxDepth);
+  break;
+  default:
+    throw new IOException("Unknown discriminant value: " + discriminant);
+  }
+    return decodedDetailView;
+  }
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+  if (maxDepth <= 0) {
+    throw new IOException("Maximum decoding depth reached");
+  }
+  maxDepth -= 1;
+  ViewKind discriminant = ViewKind.decode(stream, maxDepth);
+  switch (discriminant) {
+  case VIEW_EMPTY:
+  break;
+  case VIEW_ITEMS:
+  Detail.skip(stream, maxDepth);
+  break;
+  default:
+    throw new IOException("Unknown discriminant value: " + discriminant);
+  }
+  }
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+  static void extract(XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values) throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "detail");
+    ViewKind discriminant = ViewKind.decode(stream, maxDepth);
+    switch (discriminant) {
+    case VIEW_EMPTY:
+    break;
+    case VIEW_ITEMS:
+    if (field.equals("detail")) {
+      Detail.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Detail.skip(stream, maxDepth);
+    }
+    break;
+    default:
+      throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+  public static DetailView fromXdrBase64(String xdr) throws IOException {
+    byte[] bytes = Base64Factory.getInstance().decode(xdr);
+    return fromXdrByteArray(bytes);
+  }
+
+  public static DetailView fromXdrByteArray(byte[] xdr) throws IOException {
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static DetailView fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+  @Override
+  public String toJson() {
+    return XdrElement.gson.toJson(toJsonObject());
+  }
+
+  public static DetailView fromJson(String json) {
+    return fromJsonObject(XdrElement.gson.fromJson(json, Object.class));
+  }
+  Object toJsonObject() {
+    if (discriminant == ViewKind.VIEW_EMPTY) {
+      return "empty";
+    }
+    if (discriminant == ViewKind.VIEW_ITEMS) {
+      LinkedHashMap<String, Object> jsonMap = new LinkedHashMap<>();
+      jsonMap.put("items", detail.toJsonObject());
+      return jsonMap;
+    }
+    throw new IllegalArgumentException("Unknown discriminant: " + discriminant);
+  }
+  @SuppressWarnings("unchecked")
+  static DetailView fromJsonObject(Object json) {
+    if (json instanceof String) {
+      String strVal = (String) json;
+      if (!(strVal.equals("empty"))) {
+        throw new IllegalArgumentException("Unexpected string '" + strVal + "' for DetailView");
+      }
+      DetailView instance = new DetailView();
+      instance.discriminant = ViewKind.fromJsonObject(strVal);
+      return instance;
+    }
+    java.util.Map<String, Object> jsonMap = (java.util.Map<String, Object>) json;
+    if (jsonMap.containsKey("$schema")) {
+      jsonMap = new LinkedHashMap<>(jsonMap);
+      jsonMap.remove("$schema");
+    }
+    if (jsonMap.size() != 1) {
+      throw new IllegalArgumentException("Expected a single-key object for DetailView, got: " + json);
+    }
+    String key = jsonMap.keySet().iterator().next();
+    ViewKind discriminant = ViewKind.fromJsonObject(key);
+    if (key.equals("items")) {
+      DetailView instance = new DetailView();
+      instance.discriminant = discriminant;
+      instance.detail = Detail.fromJsonObject(jsonMap.get("items"));
+      return instance;
+    }
+    throw new IllegalArgumentException("Unknown key '" + key + "' for DetailView");
+  }
+}
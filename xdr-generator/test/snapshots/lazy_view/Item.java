@@ -0,0 +1,204 @@
+// Automatically generated by xdrgen
+// DO NOT EDIT or your changes may be overwritten
+
+package org.stellar.sdk.xdr;
+
+import java.io.IOException;
+
+import org.stellar.sdk.Base64Factory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.List;
+import java.util.ArrayList;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+/**
+ * Item's original definition in the XDR file is:
+ * <pre>
+ * struct Item
+ * {
+ *   int id;
+ *   opaque data&lt;&gt;;
+ * };
+ * </pre>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class Item implements XdrElement {
+  /**
+   * Value of the {@code id} field.
+   *
+   * @param id the {@code id} field value
+   * @return the {@code id} field value
+   */
+  private Integer id;
+  /**
+   * Value of the {@code data} field.
+   *
+   * @param data the {@code data} field value
+   * @return the {@code data} field value
+   */
+  private byte[] data;
+  public void encode(XdrDataOutputStream stream) throws IOException{
+    stream.writeInt(id);
+    int dataSize = data.length;
+    stream.writeInt(dataSize);
+    stream.write(getData(), 0, dataSize);
+  }
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    size += 4 + ((data.length + 3) & ~3);
+    return size;
+  }
+  public static Item decode(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Item decodedItem = new Item();
+    decodedItem.id = stream.readInt();
+    int dataSize = stream.readInt();
+    if (dataSize < 0) {
+      throw new IOException("data size " + dataSize + " is negative");
+    }
+    int dataRemainingInputLen = stream.getRemainingInputLen();
+    if (dataRemainingInputLen >= 0 && dataRemainingInputLen < dataSize) {
+      throw new IOException("data size " + dataSize + " exceeds remaining input length " + dataRemainingInputLen);
+    }
+    decodedItem.data = new byte[dataSize];
+    stream.readPaddedData(decodedItem.data, 0, dataSize);
+    return decodedItem;
+  }
+  public static Item decode(XdrDataInputStream stream) throws IOException {
+    return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+  public static Item decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Item decodedItem = new Item();
+    decodedItem.id = reader.readInt();
+    int dataSize = reader.readInt();
+    if (dataSize < 0) {
+      throw new IOException("data size " + dataSize + " is negative");
+    }
+    int dataRemainingInputLen = reader.getRemainingInputLen();
+    if (dataRemainingInputLen >= 0 && dataRemainingInputLen < dataSize) {
+      throw new IOException("data size " + dataSize + " exceeds remaining input length " + dataRemainingInputLen);
+    }
+    decodedItem.data = new byte[dataSize];
+    reader.readPaddedData(decodedItem.data, 0, dataSize);
+    return decodedItem;
+  }
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    stream.readInt();
+    int dataSize = stream.readInt();
+    if (dataSize < 0) {
+      throw new IOException("data size " + dataSize + " is negative");
+    }
+    int dataRemainingInputLen = stream.getRemainingInputLen();
+    if (dataRemainingInputLen >= 0 && dataRemainingInputLen < dataSize) {
+      throw new IOException("data size " + dataSize + " exceeds remaining input length " + dataRemainingInputLen);
+    }
+    stream.skipPaddedData(dataSize);
+  }
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+  static void extract(XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values) throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "id", "data");
+    if (field.equals("id")) {
+      path.checkEnd(index + 1);
+      values.add(stream.readInt());
+    } else {
+      stream.readInt();
+    }
+    if (field.equals("data")) {
+      int dataSize = stream.readInt();
+      if (dataSize < 0) {
+        throw new IOException("data size " + dataSize + " is negative");
+      }
+      int dataRemainingInputLen = stream.getRemainingInputLen();
+      if (dataRemainingInputLen >= 0 && dataRemainingInputLen < dataSize) {
+        throw new IOException("data size " + dataSize + " exceeds remaining input length " + dataRemainingInputLen);
+      }
+      path.checkEnd(index + 1);
+      byte[] dataBytes = new byte[dataSize];
+      stream.readPaddedData(dataBytes, 0, dataSize);
+      values.add(dataBytes);
+    } else {
+      int dataSize = stream.readInt();
+      if (dataSize < 0) {
+        throw new IOException("data size " + dataSize + " is negative");
+      }
+      int dataRemainingInputLen = stream.getRemainingInputLen();
+      if (dataRemainingInputLen >= 0 && dataRemainingInputLen < dataSize) {
+        throw new IOException("data size " + dataSize + " exceeds remaining input length " + dataRemainingInputLen);
+      }
+      stream.skipPaddedData(dataSize);
+    }
+  }
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+  public static Item fromXdrBase64(String xdr) throws IOException {
+    byte[] bytes = Base64Factory.getInstance().decode(xdr);
+    return fromXdrByteArray(bytes);
+  }
+
+  public static Item fromXdrByteArray(byte[] xdr) throws IOException {
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static Item fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+  @Override
+  public String toJson() {
+    return XdrElement.gson.toJson(toJsonObject());
+  }
+
+  public static Item fromJson(String json) {
+    return fromJsonObject(XdrElement.gson.fromJson(json, Object.class));
+  }
+  Object toJsonObject() {
+    LinkedHashMap<String, Object> jsonMap = new LinkedHashMap<>();
+    jsonMap.put("id", (Integer) id);
+    jsonMap.put("data", XdrElement.bytesToHex(data));
+    return jsonMap;
+  }
+  @SuppressWarnings("unchecked")
+  static Item fromJsonObject(Object json) {
+    java.util.Map<String, Object> jsonMap = (java.util.Map<String, Object>) json;
+    Item instance = new Item();
+    instance.id = ((Number) jsonMap.get("id")).intValue();
+    instance.data = XdrElement.hexToBytes((String) jsonMap.get("data"));
+    return instance;
+  }
+}
@@ -0,0 +1,174 @@
+// Automatically generated by xdrgen
+// DO NOT EDIT or your changes may be overwritten
+
+package org.stellar.sdk.xdr;
+
+import java.io.IOException;
+
+import org.stellar.sdk.Base64Factory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.List;
+import java.util.ArrayList;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+/**
+ * Items's original definition in the XDR file is:
+ * <pre>
+ * typedef Item Items&lt;&gt;;
+ * </pre>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Items implements XdrElement {
+  /**
+   * Value of the {@code Items} field.
+   *
+   * @param Items the {@code Items} field value
+   * @return the {@code Items} field value
+   */
+  private Item[] Items;
+  public void encode(XdrDataOutputStream stream) throws IOException {
+    int ItemsSize = getItems().length;
+    stream.writeInt(ItemsSize);
+    for (int i = 0; i < ItemsSize; i++) {
+      Items[i].encode(stream);
+    }
+  }
+
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    for (int i = 0; i < Items.length; i++) {
+      size += Items[i].encodedSize();
+    }
+    return size;
+  }
+
+  public static Items decode(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Items decodedItems = new Items();
+    int ItemsSize = stream.readInt();
+    if (ItemsSize < 0) {
+      throw new IOException("Items size " + ItemsSize + " is negative");
+    }
+    int ItemsRemainingInputLen = stream.getRemainingInputLen();
+    if (ItemsRemainingInputLen >= 0 && ItemsRemainingInputLen < ItemsSize) {
+      throw new IOException("Items size " + ItemsSize + " exceeds remaining input length " + ItemsRemainingInputLen);
+    }
+    decodedItems.Items = new Item[ItemsSize];
+    for (int i = 0; i < ItemsSize; i++) {
+      decodedItems.Items[i] = Item.decode(stream, maxDepth);
+    }
+    return decodedItems;
+  }
+  public static Items decode(XdrDataInputStream stream) throws IOException {
+    return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+  public static Items decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Items decodedItems = new Items();
+    int ItemsSize = reader.readInt();
+    if (ItemsSize < 0) {
+      throw new IOException("Items size " + ItemsSize + " is negative");
+    }
+    int ItemsRemainingInputLen = reader.getRemainingInputLen();
+    if (ItemsRemainingInputLen >= 0 && ItemsRemainingInputLen < ItemsSize) {
+      throw new IOException("Items size " + ItemsSize + " exceeds remaining input length " + ItemsRemainingInputLen);
+    }
+    decodedItems.Items = new Item[ItemsSize];
+    for (int i = 0; i < ItemsSize; i++) {
+      decodedItems.Items[i] = Item.decode(reader, maxDepth);
+    }
+    return decodedItems;
+  }
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int ItemsSize = stream.readInt();
+    if (ItemsSize < 0) {
+      throw new IOException("Items size " + ItemsSize + " is negative");
+    }
+    int ItemsRemainingInputLen = stream.getRemainingInputLen();
+    if (ItemsRemainingInputLen >= 0 && ItemsRemainingInputLen < ItemsSize) {
+      throw new IOException("Items size " + ItemsSize + " exceeds remaining input length " + ItemsRemainingInputLen);
+    }
+    for (int i = 0; i < ItemsSize; i++) {
+      Item.skip(stream, maxDepth);
+    }
+  }
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+  static void extract(XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values) throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int ItemsSize = stream.readInt();
+    if (ItemsSize < 0) {
+      throw new IOException("Items size " + ItemsSize + " is negative");
+    }
+    int ItemsRemainingInputLen = stream.getRemainingInputLen();
+    if (ItemsRemainingInputLen >= 0 && ItemsRemainingInputLen < ItemsSize) {
+      throw new IOException("Items size " + ItemsSize + " exceeds remaining input length " + ItemsRemainingInputLen);
+    }
+    for (int i = 0; i < ItemsSize; i++) {
+      Item.extract(stream, maxDepth, path, index, values);
+    }
+  }
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
+  public static Items fromXdrBase64(String xdr) throws IOException {
+    byte[] bytes = Base64Factory.getInstance().decode(xdr);
+    return fromXdrByteArray(bytes);
+  }
+
+  public static Items fromXdrByteArray(byte[] xdr) throws IOException {
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static Items fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+  @Override
+  public String toJson() {
+    return XdrElement.gson.toJson(toJsonObject());
+  }
+
+  public static Items fromJson(String json) {
+    return fromJsonObject(XdrElement.gson.fromJson(json, Object.class));
+  }
+  Object toJsonObject() {
+    return XdrElement.arrayToJsonArray(Items, i -> Items[i].toJsonObject());
+  }
+  static Items fromJsonObject(Object json) {
+    Items instance = new Items();
+    instance.Items = XdrElement.jsonArrayToArray((List<Object>) json, Item.class, item -> Item.fromJsonObject(item));
+    return instance;
+  }
+}
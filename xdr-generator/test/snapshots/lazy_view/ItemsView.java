@@ -0,0 +1,278 @@
+// Automatically generated by xdrgen
+// DO NOT EDIT or your changes may be overwritten
+
+package org.stellar.sdk.xdr;
+
+import java.io.IOException;
+
+import org.stellar.sdk.Base64Factory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.List;
+import java.util.ArrayList;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+/**
+ * ItemsView's original definition in the XDR file is:
+ * <pre>
+ * struct ItemsView
+ * {
+ *   Item first;
+ *   Items changes;
+ *   Item rest&lt;&gt;;
+ *   Detail&#42; detail;
+ * };
+ * </pre>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class ItemsView implements XdrElement {
+  /**
+   * Value of the {@code first} field.
+   *
+   * @param first the {@code first} field value
+   * @return the {@code first} field value
+   */
+  private Item first;
+  /**
+   * Value of the {@code changes} field.
+   *
+   * @param changes the {@code changes} field value
+   * @return the {@code changes} field value
+   */
+  private Items changes;
+  /**
+   * Value of the {@code rest} field.
+   *
+   * @param rest the {@code rest} field value
+   * @return the {@code rest} field value
+   */
+  private Item[] rest;
+  /**
+   * Value of the {@code detail} field.
+   *
+   * @param detail the {@code detail} field value
+   * @return the {@code detail} field value
+   */
+  private Detail detail;
+  public void encode(XdrDataOutputStream stream) throws IOException{
+    first.encode(stream);
+    changes.encode(stream);
+    int restSize = getRest().length;
+    stream.writeInt(restSize);
+    for (int i = 0; i < restSize; i++) {
+      rest[i].encode(stream);
+    }
+    if (detail != null) {
+    stream.writeInt(1);
+    detail.encode(stream);
+    } else {
+    stream.writeInt(0);
+    }
+  }
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += first.encodedSize();
+    size += changes.encodedSize();
+    size += 4;
+    for (int i = 0; i < rest.length; i++) {
+      size += rest[i].encodedSize();
+    }
+    size += 4;
+    if (detail != null) {
+    size += detail.encodedSize();
+    }
+    return size;
+  }
+  public static ItemsView decode(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ItemsView decodedItemsView = new ItemsView();
+    decodedItemsView.first = Item.decode(stream, maxDepth);
+    decodedItemsView.changes = Items.decode(stream, maxDepth);
+    int restSize = stream.readInt();
+    if (restSize < 0) {
+      throw new IOException("rest size " + restSize + " is negative");
+    }
+    int restRemainingInputLen = stream.getRemainingInputLen();
+    if (restRemainingInputLen >= 0 && restRemainingInputLen < restSize) {
+      throw new IOException("rest size " + restSize + " exceeds remaining input length " + restRemainingInputLen);
+    }
+    decodedItemsView.rest = new Item[restSize];
+    for (int i = 0; i < restSize; i++) {
+      decodedItemsView.rest[i] = Item.decode(stream, maxDepth);
+    }
+    boolean detailPresent = stream.readXdrBoolean();
+    if (detailPresent) {
+    decodedItemsView.detail = Detail.decode(stream, maxDepth);
+    }
+    return decodedItemsView;
+  }
+  public static ItemsView decode(XdrDataInputStream stream) throws IOException {
+    return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+  public static ItemsView decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    ItemsView decodedItemsView = new ItemsView();
+    decodedItemsView.first = Item.decode(reader, maxDepth);
+    decodedItemsView.changes = Items.decode(reader, maxDepth);
+    int restSize = reader.readInt();
+    if (restSize < 0) {
+      throw new IOException("rest size " + restSize + " is negative");
+    }
+    int restRemainingInputLen = reader.getRemainingInputLen();
+    if (restRemainingInputLen >= 0 && restRemainingInputLen < restSize) {
+      throw new IOException("rest size " + restSize + " exceeds remaining input length " + restRemainingInputLen);
+    }
+    decodedItemsView.rest = new Item[restSize];
+    for (int i = 0; i < restSize; i++) {
+      decodedItemsView.rest[i] = Item.decode(reader, maxDepth);
+    }
+    boolean detailPresent = reader.readXdrBoolean();
+    if (detailPresent) {
+    decodedItemsView.detail = Detail.decode(reader, maxDepth);
+    }
+    return decodedItemsView;
+  }
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Item.skip(stream, maxDepth);
+    Items.skip(stream, maxDepth);
+    int restSize = stream.readInt();
+    if (restSize < 0) {
+      throw new IOException("rest size " + restSize + " is negative");
+    }
+    int restRemainingInputLen = stream.getRemainingInputLen();
+    if (restRemainingInputLen >= 0 && restRemainingInputLen < restSize) {
+      throw new IOException("rest size " + restSize + " exceeds remaining input length " + restRemainingInputLen);
+    }
+    for (int i = 0; i < restSize; i++) {
+      Item.skip(stream, maxDepth);
+    }
+    boolean detailPresent = stream.readXdrBoolean();
+    if (detailPresent) {
+    Detail.skip(stream, maxDepth);
+    }
+  }
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+  static void extract(XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values) throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "first", "changes[*]", "rest[*]", "detail");
+    if (field.equals("first")) {
+      Item.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Item.skip(stream, maxDepth);
+    }
+    if (field.equals("changes")) {
+      Items.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Items.skip(stream, maxDepth);
+    }
+    if (field.equals("rest")) {
+      int restSize = stream.readInt();
+      if (restSize < 0) {
+        throw new IOException("rest size " + restSize + " is negative");
+      }
+      int restRemainingInputLen = stream.getRemainingInputLen();
+      if (restRemainingInputLen >= 0 && restRemainingInputLen < restSize) {
+        throw new IOException("rest size " + restSize + " exceeds remaining input length " + restRemainingInputLen);
+      }
+      for (int i = 0; i < restSize; i++) {
+        Item.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int restSize = stream.readInt();
+      if (restSize < 0) {
+        throw new IOException("rest size " + restSize + " is negative");
+      }
+      int restRemainingInputLen = stream.getRemainingInputLen();
+      if (restRemainingInputLen >= 0 && restRemainingInputLen < restSize) {
+        throw new IOException("rest size " + restSize + " exceeds remaining input length " + restRemainingInputLen);
+      }
+      for (int i = 0; i < restSize; i++) {
+        Item.skip(stream, maxDepth);
+      }
+    }
+    if (field.equals("detail")) {
+      boolean detailPresent = stream.readXdrBoolean();
+      if (detailPresent) {
+      Detail.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      boolean detailPresent = stream.readXdrBoolean();
+      if (detailPresent) {
+      Detail.skip(stream, maxDepth);
+      }
+    }
+  }
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+  public static ItemsView fromXdrBase64(String xdr) throws IOException {
+    byte[] bytes = Base64Factory.getInstance().decode(xdr);
+    return fromXdrByteArray(bytes);
+  }
+
+  public static ItemsView fromXdrByteArray(byte[] xdr) throws IOException {
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static ItemsView fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+  @Override
+  public String toJson() {
+    return XdrElement.gson.toJson(toJsonObject());
+  }
+
+  public static ItemsView fromJson(String json) {
+    return fromJsonObject(XdrElement.gson.fromJson(json, Object.class));
+  }
+  Object toJsonObject() {
+    LinkedHashMap<String, Object> jsonMap = new LinkedHashMap<>();
+    jsonMap.put("first", first.toJsonObject());
+    jsonMap.put("changes", changes.toJsonObject());
+    jsonMap.put("rest", XdrElement.arrayToJsonArray(rest, i -> rest[i].toJsonObject()));
+    jsonMap.put("detail", detail != null ? detail.toJsonObject() : null);
+    return jsonMap;
+  }
+  @SuppressWarnings("unchecked")
+  static ItemsView fromJsonObject(Object json) {
+    java.util.Map<String, Object> jsonMap = (java.util.Map<String, Object>) json;
+    ItemsView instance = new ItemsView();
+    instance.first = Item.fromJsonObject(jsonMap.get("first"));
+    instance.changes = Items.fromJsonObject(jsonMap.get("changes"));
+    instance.rest = XdrElement.jsonArrayToArray((List<Object>) jsonMap.get("rest"), Item.class, item -> Item.fromJsonObject(item));
+    instance.detail = jsonMap.get("detail") != null ? Detail.fromJsonObject(jsonMap.get("detail")) : null;
+    return instance;
+  }
+}
@@ -0,0 +1,343 @@
+// Automatically generated by xdrgen
+// DO NOT EDIT or your changes may be overwritten
+
+package org.stellar.sdk.xdr;
+
+import java.io.IOException;
+
+import org.stellar.sdk.Base64Factory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.List;
+import java.util.ArrayList;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+/**
+ * View's original definition in the XDR file is:
+ * <pre>
+ * union View switch (int v)
+ * {
+ * case 0:
+ *   Item items&lt;&gt;;
+ * case 1:
+ *   ItemsView v1;
+ * case 2:
+ *   DetailView v2;
+ * };
+ * </pre>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class View implements XdrElement {
+  /**
+   * Value of the {@code discriminant} field.
+   *
+   * @param discriminant the {@code discriminant} field value
+   * @return the {@code discriminant} field value
+   */
+  private Integer discriminant;
+  /**
+   * Value of the {@code items} field.
+   *
+   * @param items the {@code items} field value
+   * @return the {@code items} field value
+   */
+  private Item[] items;
+  /**
+   * Value of the {@code v1} field.
+   *
+   * @param v1 the {@code v1} field value
+   * @return the {@code v1} field value
+   */
+  private ItemsView v1;
+  /**
+   * Value of the {@code v2} field.
+   *
+   * @param v2 the {@code v2} field value
+   * @return the {@code v2} field value
+   */
+  private DetailView v2;
+
+  public void encode(XdrDataOutputStream stream) throws IOException {
+  stream.writeInt(discriminant);
+  switch (discriminant) {
+  case 0:
+  int itemsSize = getItems().length;
+  stream.writeInt(itemsSize);
+  for (int i = 0; i < itemsSize; i++) {
+    items[i].encode(stream);
+  }
+  break;
+  case 1:
+  v1.encode(stream);
+  break;
+  case 2:
+  v2.encode(stream);
+  break;
+  }
+  }
+  @Override
+  public int encodedSize() {
+    int size = 4;
+  switch (discriminant) {
+  case 0:
+  size += 4;
+  for (int i = 0; i < items.length; i++) {
+    size += items[i].encodedSize();
+  }
+  break;
+  case 1:
+  size += v1.encodedSize();
+  break;
+  case 2:
+  size += v2.encodedSize();
+  break;
+  }
+    return size;
+  }
+  public static View decode(XdrDataInputStream stream, int maxDepth) throws IOException {
+  if (maxDepth <= 0) {
+    throw new IOException("Maximum decoding depth reached");
+  }
+  maxDepth -= 1;
+  View decodedView = new View();
+  Integer discriminant = stream.readInt();
+  decodedView.setDiscriminant(discriminant);
+  switch (decodedView.getDiscriminant()) {
+  case 0:
+  int itemsSize = stream.readInt();
+  if (itemsSize < 0) {
+    throw new IOException("items size " + itemsSize + " is negative");
+  }
+  int itemsRemainingInputLen = stream.getRemainingInputLen();
+  if (itemsRemainingInputLen >= 0 && itemsRemainingInputLen < itemsSize) {
+    throw new IOException("items size " + itemsSize + " exceeds remaining input length " + itemsRemainingInputLen);
+  }
+  decodedView.items = new Item[itemsSize];
+  for (int i = 0; i < itemsSize; i++) {
+    decodedView.items[i] = Item.decode(stream, maxDepth);
+  }
+  break;
+  case 1:
+  decodedView.v1 = ItemsView.decode(stream, maxDepth);
+  break;
+  case 2:
+  decodedView.v2 = DetailView.decode(stream, maxDepth);
+  break;
+  default:
+    throw new IOException("Unknown discriminant value: " + discriminant);
+  }
+    return decodedView;
+  }
+  public static View decode(XdrDataInputStream stream) throws IOException {
+    return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+  public static View decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+  if (maxDepth <= 0) {
+    throw new IOException("Maximum decoding depth reached");
+  }
+  maxDepth -= 1;
+  View decodedView = new View();
+  Integer discriminant = reader.readInt();
+  decodedView.setDiscriminant(discriminant);
+  switch (decodedView.getDiscriminant()) {
+  case 0:
+  int itemsSize = reader.readInt();
+  if (itemsSize < 0) {
+    throw new IOException("items size " + itemsSize + " is negative");
+  }
+  int itemsRemainingInputLen = reader.getRemainingInputLen();
+  if (itemsRemainingInputLen >= 0 && itemsRemainingInputLen < itemsSize) {
+    throw new IOException("items size " + itemsSize + " exceeds remaining input length " + itemsRemainingInputLen);
+  }
+  decodedView.items = new Item[itemsSize];
+  for (int i = 0; i < itemsSize; i++) {
+    decodedView.items[i] = Item.decode(reader, maxDepth);
+  }
+  break;
+  case 1:
+  decodedView.v1 = ItemsView.decode(reader, maxDepth);
+  break;
+  case 2:
+  decodedView.v2 = DetailView.decode(reader, maxDepth);
+  break;
+  default:
+    throw new IOException("Unknown discriminant value: " + discriminant);
+  }
+    return decodedView;
+  }
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+  if (maxDepth <= 0) {
+    throw new IOException("Maximum decoding depth reached");
+  }
+  maxDepth -= 1;
+  int discriminant = stream.readInt();
+  switch (discriminant) {
+  case 0:
+  int itemsSize = stream.readInt();
+  if (itemsSize < 0) {
+    throw new IOException("items size " + itemsSize + " is negative");
+  }
+  int itemsRemainingInputLen = stream.getRemainingInputLen();
+  if (itemsRemainingInputLen >= 0 && itemsRemainingInputLen < itemsSize) {
+    throw new IOException("items size " + itemsSize + " exceeds remaining input length " + itemsRemainingInputLen);
+  }
+  for (int i = 0; i < itemsSize; i++) {
+    Item.skip(stream, maxDepth);
+  }
+  break;
+  case 1:
+  ItemsView.skip(stream, maxDepth);
+  break;
+  case 2:
+  DetailView.skip(stream, maxDepth);
+  break;
+  default:
+    throw new IOException("Unknown discriminant value: " + discriminant);
+  }
+  }
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+  static void extract(XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values) throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "items[*]", "v1", "v2");
+    int discriminant = stream.readInt();
+    switch (discriminant) {
+    case 0:
+    if (field.equals("items")) {
+      int itemsSize = stream.readInt();
+      if (itemsSize < 0) {
+        throw new IOException("items size " + itemsSize + " is negative");
+      }
+      int itemsRemainingInputLen = stream.getRemainingInputLen();
+      if (itemsRemainingInputLen >= 0 && itemsRemainingInputLen < itemsSize) {
+        throw new IOException("items size " + itemsSize + " exceeds remaining input length " + itemsRemainingInputLen);
+      }
+      for (int i = 0; i < itemsSize; i++) {
+        Item.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int itemsSize = stream.readInt();
+      if (itemsSize < 0) {
+        throw new IOException("items size " + itemsSize + " is negative");
+      }
+      int itemsRemainingInputLen = stream.getRemainingInputLen();
+      if (itemsRemainingInputLen >= 0 && itemsRemainingInputLen < itemsSize) {
+        throw new IOException("items size " + itemsSize + " exceeds remaining input length " + itemsRemainingInputLen);
+      }
+      for (int i = 0; i < itemsSize; i++) {
+        Item.skip(stream, maxDepth);
+      }
+    }
+    break;
+    case 1:
+    if (field.equals("v1")) {
+      ItemsView.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      ItemsView.skip(stream, maxDepth);
+    }
+    break;
+    case 2:
+    if (field.equals("v2")) {
+      DetailView.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      DetailView.skip(stream, maxDepth);
+    }
+    break;
+    default:
+      throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+  public static View fromXdrBase64(String xdr) throws IOException {
+    byte[] bytes = Base64Factory.getInstance().decode(xdr);
+    return fromXdrByteArray(bytes);
+  }
+
+  public static View fromXdrByteArray(byte[] xdr) throws IOException {
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static View fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+  @Override
+  public String toJson() {
+    return XdrElement.gson.toJson(toJsonObject());
+  }
+
+  public static View fromJson(String json) {
+    return fromJsonObject(XdrElement.gson.fromJson(json, Object.class));
+  }
+  Object toJsonObject() {
+    if (discriminant == 0) {
+      LinkedHashMap<String, Object> jsonMap = new LinkedHashMap<>();
+      jsonMap.put("v0", XdrElement.arrayToJsonArray(items, i -> items[i].toJsonObject()));
+      return jsonMap;
+    }
+    if (discriminant == 1) {
+      LinkedHashMap<String, Object> jsonMap = new LinkedHashMap<>();
+      jsonMap.put("v1", v1.toJsonObject());
+      return jsonMap;
+    }
+    if (discriminant == 2) {
+      LinkedHashMap<String, Object> jsonMap = new LinkedHashMap<>();
+      jsonMap.put("v2", v2.toJsonObject());
+      return jsonMap;
+    }
+    throw new IllegalArgumentException("Unknown discriminant: " + discriminant);
+  }
+  @SuppressWarnings("unchecked")
+  static View fromJsonObject(Object json) {
+    java.util.Map<String, Object> jsonMap = (java.util.Map<String, Object>) json;
+    if (jsonMap.containsKey("$schema")) {
+      jsonMap = new LinkedHashMap<>(jsonMap);
+      jsonMap.remove("$schema");
+    }
+    if (jsonMap.size() != 1) {
+      throw new IllegalArgumentException("Expected a single-key object for View, got: " + json);
+    }
+    String key = jsonMap.keySet().iterator().next();
+    Integer discriminant = Integer.parseInt(key.substring(1));
+    if (key.equals("v0")) {
+      View instance = new View();
+      instance.discriminant = discriminant;
+      instance.items = XdrElement.jsonArrayToArray((List<Object>) jsonMap.get("v0"), Item.class, item -> Item.fromJsonObject(item));
+      return instance;
+    }
+    if (key.equals("v1")) {
+      View instance = new View();
+      instance.discriminant = discriminant;
+      instance.v1 = ItemsView.fromJsonObject(jsonMap.get("v1"));
+      return instance;
+    }
+    if (key.equals("v2")) {
+      View instance = new View();
+      instance.discriminant = discriminant;
+      instance.v2 = DetailView.fromJsonObject(jsonMap.get("v2"));
+      return instance;
+    }
+    throw new IllegalArgumentException("Unknown key '" + key + "' for View");
+  }
+}
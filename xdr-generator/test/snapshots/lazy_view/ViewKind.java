@@ -0,0 +1,130 @@
+// Automatically generated by xdrgen
+// DO NOT EDIT or your changes may be overwritten
+
+package org.stellar.sdk.xdr;
+
+import java.io.IOException;
+
+import org.stellar.sdk.Base64Factory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.List;
+import java.util.ArrayList;
+
+/**
+ * ViewKind's original definition in the XDR file is:
+ * <pre>
+ * enum ViewKind
+ * {
+ *   VIEW_EMPTY = 0,
+ *   VIEW_ITEMS = 1
+ * };
+ * </pre>
+ */
+public enum ViewKind implements XdrElement {
+  VIEW_EMPTY(0),
+  VIEW_ITEMS(1);
+
+  private final int value;
+
+  ViewKind(int value) {
+      this.value = value;
+  }
+
+  public int getValue() {
+      return value;
+  }
+
+  public static ViewKind decode(XdrDataInputStream stream, int maxDepth) throws IOException {
+    // maxDepth is intentionally not checked - enums are leaf types with no recursive decoding
+    int value = stream.readInt();
+    switch (value) {
+      case 0: return VIEW_EMPTY;
+      case 1: return VIEW_ITEMS;
+      default:
+        throw new IllegalArgumentException("Unknown enum value: " + value);
+    }
+  }
+
+  public static ViewKind decode(XdrDataInputStream stream) throws IOException {
+    return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  public static ViewKind decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    // maxDepth is intentionally not checked - enums are leaf types with no recursive decoding
+    int value = reader.readInt();
+    switch (value) {
+      case 0: return VIEW_EMPTY;
+      case 1: return VIEW_ITEMS;
+      default:
+        throw new IllegalArgumentException("Unknown enum value: " + value);
+    }
+  }
+
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    decode(stream, maxDepth);
+  }
+
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  static void extract(XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values) throws IOException {
+    path.checkEnd(index);
+    values.add(decode(stream, maxDepth));
+  }
+
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
+
+  public void encode(XdrDataOutputStream stream) throws IOException {
+    stream.writeInt(value);
+  }
+
+  @Override
+  public int encodedSize() {
+    return 4;
+  }
+  public static ViewKind fromXdrBase64(String xdr) throws IOException {
+    byte[] bytes = Base64Factory.getInstance().decode(xdr);
+    return fromXdrByteArray(bytes);
+  }
+
+  public static ViewKind fromXdrByteArray(byte[] xdr) throws IOException {
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static ViewKind fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+  @Override
+  public String toJson() {
+    return XdrElement.gson.toJson(toJsonObject());
+  }
+
+  public static ViewKind fromJson(String json) {
+    return fromJsonObject(XdrElement.gson.fromJson(json, Object.class));
+  }
+  Object toJsonObject() {
+    switch (this) {
+    case VIEW_EMPTY: return "empty";
+    case VIEW_ITEMS: return "items";
+    default: throw new IllegalArgumentException("Unknown enum value: " + this.value);
+    }
+  }
+  static ViewKind fromJsonObject(Object json) {
+    String value = (String) json;
+    switch (value) {
+    case "empty": return VIEW_EMPTY;
+    case "items": return VIEW_ITEMS;
+    default: throw new IllegalArgumentException("Unknown JSON value: " + value);
+    }
+  }
+}
@@ -0,0 +1,332 @@
+package org.stellar.sdk.xdr;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import lombok.Setter;
+
+/** XDR-aware input stream with padding handling and decode safety checks. */
+public class XdrDataInputStream extends DataInputStream {
+
+    /** Default maximum decoding depth to prevent stack overflow from deeply nested structures. */
+    public static final int DEFAULT_MAX_DEPTH = 200;
+
+    // The underlying input stream
+    private final XdrInputStream mIn;
+
+    /**
+     * Maximum input length, -1 if unknown.
+     * This is used to validate that the declared size of variable-length
+     * arrays/opaques doesn't exceed the remaining input length, preventing DoS attacks.
+     *
+     * @param maxInputLen the maximum input length, or -1 if unknown
+     */
+    @Setter
+    private int maxInputLen = -1;
+
+    /**
+     * Creates an XdrDataInputStream that uses the specified
+     * underlying InputStream.
+     *
+     * @param in the specified input stream
+     */
+    public XdrDataInputStream(InputStream in) {
+        super(new XdrInputStream(in));
+        mIn = (XdrInputStream) super.in;
+    }
+
+    /**
+     * Creates an XdrDataInputStream that reads the remaining bytes of the
+     * specified buffer in place, without modifying its position.
+     * The maximum input length is set to the number of remaining bytes.
+     * To decode a whole value from a buffer, {@link XdrByteBufferReader}
+     * reads the primitives straight from the buffer instead.
+     *
+     * @param buffer the buffer to read, heap or direct
+     */
+    public XdrDataInputStream(ByteBuffer buffer) {
+        this(new ByteBufferInputStream(buffer));
+        maxInputLen = buffer.remaining();
+    }
+
+    /**
+     * Returns the remaining input length if known, -1 otherwise.
+     * This can be used to validate sizes before allocating memory.
+     *
+     * @return remaining input length, or -1 if unknown
+     */
+    public int getRemainingInputLen() {
+        if (maxInputLen < 0) {
+            return -1;
+        }
+        return maxInputLen - mIn.getCount();
+    }
+
+    /**
+     * Reads an XDR boolean value from the stream.
+     * Per RFC 4506, a boolean is encoded as an integer that must be 0 (FALSE) or 1 (TRUE).
+     *
+     * @return the boolean value
+     * @throws IOException if the value is not 0 or 1, or if an I/O error occurs
+     */
+    public boolean readXdrBoolean() throws IOException {
+        int value = readInt();
+        if (value == 0) {
+            return false;
+        } else if (value == 1) {
+            return true;
+        } else {
+            throw new IOException("Invalid boolean value: " + value + ", must be 0 or 1 per RFC 4506");
+        }
+    }
+
+    /**
+     * @deprecated This method does not validate the array length and may cause
+     * OutOfMemoryError or NegativeArraySizeException with untrusted input.
+     * Use generated XDR type decoders instead which include proper validation.
+     * @return the decoded integer array
+     * @throws IOException if an I/O error occurs while reading the array
+     */
+    @Deprecated
+    public int[] readIntArray() throws IOException {
+        int l = readInt();
+        return readIntArray(l);
+    }
+
+    private int[] readIntArray(int l) throws IOException {
+        int[] arr = new int[l];
+        for (int i = 0; i < l; i++) {
+            arr[i] = readInt();
+        }
+        return arr;
+    }
+
+    /**
+     * @deprecated This method does not validate the array length and may cause
+     * OutOfMemoryError or NegativeArraySizeException with untrusted input.
+     * Use generated XDR type decoders instead which include proper validation.
+     * @return the decoded float array
+     * @throws IOException if an I/O error occurs while reading the array
+     */
+    @Deprecated
+    public float[] readFloatArray() throws IOException {
+        int l = readInt();
+        return readFloatArray(l);
+    }
+
+    private float[] readFloatArray(int l) throws IOException {
+        float[] arr = new float[l];
+        for (int i = 0; i < l; i++) {
+            arr[i] = readFloat();
+        }
+        return arr;
+    }
+
+    /**
+     * @deprecated This method does not validate the array length and may cause
+     * OutOfMemoryError or NegativeArraySizeException with untrusted input.
+     * Use generated XDR type decoders instead which include proper validation.
+     * @return the decoded double array
+     * @throws IOException if an I/O error occurs while reading the array
+     */
+    @Deprecated
+    public double[] readDoubleArray() throws IOException {
+        int l = readInt();
+        return readDoubleArray(l);
+    }
+
+    private double[] readDoubleArray(int l) throws IOException {
+        double[] arr = new double[l];
+        for (int i = 0; i < l; i++) {
+            arr[i] = readDouble();
+        }
+        return arr;
+    }
+
+    @Override
+    public int read() throws IOException {
+        return super.read();
+    }
+
+    /**
+     * Reads exactly len bytes of XDR opaque/string data, handling short reads,
+     * then reads and validates padding bytes to maintain 4-byte alignment.
+     * This method must be used instead of read(byte[], int, int) for opaque data
+     * to correctly handle short reads from the underlying stream.
+     *
+     * @param b   the buffer into which the data is read
+     * @param off the start offset in array b at which the data is written
+     * @param len the number of bytes to read
+     * @throws IOException if an I/O error occurs or EOF is reached before reading len bytes
+     */
+    public void readPaddedData(byte[] b, int off, int len) throws IOException {
+        mIn.readFullyNoPad(b, off, len);
+        mIn.pad();
+    }
+
+    /**
+     * Skips exactly len bytes of XDR opaque/string data without copying them,
+     * then reads and validates the padding bytes to maintain 4-byte alignment.
+     *
+     * @param len the number of bytes to skip
+     * @throws IOException if an I/O error occurs or EOF is reached before skipping len bytes
+     */
+    public void skipPaddedData(int len) throws IOException {
+        mIn.skipFullyNoPad(len);
+        mIn.pad();
+    }
+
+    /** Unsynchronized InputStream over the remaining bytes of a duplicate of a buffer. */
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer.duplicate();
+        }
+
+        @Override
+        public int read() {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            return buffer.get() & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (off < 0 || len < 0 || len > b.length - off) {
+                throw new IndexOutOfBoundsException(
+                        "Range [" + off + ", " + off + " + " + len + ") out of bounds for length " + b.length);
+            }
+            if (len == 0) {
+                return 0;
+            }
+            int remaining = buffer.remaining();
+            if (remaining == 0) {
+                return -1;
+            }
+            int n = Math.min(len, remaining);
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public long skip(long n) {
+            if (n <= 0) {
+                return 0;
+            }
+            int skipped = (int) Math.min(n, buffer.remaining());
+            buffer.position(buffer.position() + skipped);
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+
+    /**
+     * Need to provide a custom impl of InputStream as DataInputStream's read methods
+     * are final and we need to keep track of the count for padding purposes.
+     */
+    private static final class XdrInputStream extends InputStream {
+
+        // The underlying input stream
+        private final InputStream mIn;
+
+        // The amount of bytes read so far.
+        private int mCount;
+
+        public XdrInputStream(InputStream in) {
+            mIn = in;
+            mCount = 0;
+        }
+
+        public int getCount() {
+            return mCount;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int read = mIn.read();
+            if (read >= 0) {
+                mCount++;
+            }
+            return read;
+        }
+
+        @Override
+        public int read(byte[] b) throws IOException {
+            return read(b, 0, b.length);
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = mIn.read(b, off, len);
+            if (read > 0) {
+                mCount += read;
+                // Note: padding is NOT automatically applied here.
+                // For opaque/string data, use XdrDataInputStream.readPaddedData() which
+                // handles short reads correctly and applies padding after all data is read.
+                // Primitive types (int, long, float, double) are naturally 4/8-byte aligned
+                // and don't need padding between reads.
+            }
+            return read;
+        }
+
+        public void pad() throws IOException {
+            int pad = 0;
+            int mod = mCount % 4;
+            if (mod > 0) {
+                pad = 4-mod;
+            }
+
+            while (pad-- > 0) {
+                int b = read();
+                if (b != 0) {
+                    throw new IOException("non-zero padding");
+                }
+            }
+        }
+
+        /**
+         * Reads exactly len bytes into the buffer, handling short reads.
+         * Does not apply padding - caller must call pad() after this.
+         */
+        void readFullyNoPad(byte[] b, int off, int len) throws IOException {
+            int totalRead = 0;
+            while (totalRead < len) {
+                int read = mIn.read(b, off + totalRead, len - totalRead);
+                if (read < 0) {
+                    throw new EOFException("Unexpected end of stream while reading XDR data");
+                }
+                mCount += read;
+                totalRead += read;
+            }
+        }
+
+        /**
+         * Skips exactly len bytes, falling back to single byte reads when the
+         * underlying stream does not skip. Does not apply padding - caller must
+         * call pad() after this.
+         */
+        void skipFullyNoPad(int len) throws IOException {
+            int totalSkipped = 0;
+            while (totalSkipped < len) {
+                long skipped = mIn.skip(len - totalSkipped);
+                if (skipped <= 0) {
+                    if (mIn.read() < 0) {
+                        throw new EOFException("Unexpected end of stream while skipping XDR data");
+                    }
+                    skipped = 1;
+                }
+                mCount += (int) skipped;
+                totalSkipped += (int) skipped;
+            }
+        }
+    }
+}
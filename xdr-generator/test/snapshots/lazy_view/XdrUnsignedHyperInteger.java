@@ -0,0 +1,258 @@
+package org.stellar.sdk.xdr;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import lombok.EqualsAndHashCode;
+import org.stellar.sdk.Base64Factory;
+
+/**
+ * Represents XDR Unsigned Hyper Integer.
+ *
+ * <p>The value is stored as the 64 bits of a {@code long}, read as unsigned. The {@link BigInteger}
+ * returned by {@link #getNumber()} is only created when it is first requested.
+ *
+ * @see <a href="https://datatracker.ietf.org/doc/html/rfc4506#section-4.5">XDR: External Data
+ *     Representation Standard</a>
+ */
+@EqualsAndHashCode
+public final class XdrUnsignedHyperInteger implements XdrElement {
+  /** Largest value representable by XDR unsigned hyper integer. */
+  public static final BigInteger MAX_VALUE = new BigInteger("18446744073709551615");
+
+  /** Smallest value representable by XDR unsigned hyper integer. */
+  public static final BigInteger MIN_VALUE = BigInteger.ZERO;
+
+  private static final BigInteger TWO_TO_THE_64 = BigInteger.ONE.shiftLeft(64);
+
+  private final long value;
+
+  @EqualsAndHashCode.Exclude private BigInteger number;
+
+  /**
+   * Creates an {@link XdrUnsignedHyperInteger} from a {@link BigInteger}.
+   *
+   * @param number the unsigned 64-bit value
+   * @throws IllegalArgumentException if {@code number} is outside the valid range
+   */
+  public XdrUnsignedHyperInteger(BigInteger number) {
+    if (number.compareTo(MIN_VALUE) < 0 || number.compareTo(MAX_VALUE) > 0) {
+      throw new IllegalArgumentException("number must be between 0 and 2^64 - 1 inclusive");
+    }
+    this.value = number.longValue();
+    this.number = number;
+  }
+
+  /**
+   * Creates an {@link XdrUnsignedHyperInteger} from a non-negative {@link Long}.
+   *
+   * @param number the unsigned 64-bit value
+   * @throws IllegalArgumentException if {@code number} is negative
+   */
+  public XdrUnsignedHyperInteger(Long number) {
+    if (number < 0) {
+      throw new IllegalArgumentException(
+          "number must be greater than or equal to 0 if you want to construct it from Long");
+    }
+    this.value = number;
+  }
+
+  private XdrUnsignedHyperInteger(long value, BigInteger number) {
+    this.value = value;
+    this.number = number;
+  }
+
+  /**
+   * Creates an {@link XdrUnsignedHyperInteger} from the 64 bits of a {@code long}, read as
+   * unsigned. Values from 2^63 to 2^64 - 1 are given as negative numbers, e.g. {@code -1L} for the
+   * largest value.
+   *
+   * @param value the unsigned 64-bit value, as returned by {@link #getLong()}
+   * @return the {@link XdrUnsignedHyperInteger}
+   */
+  public static XdrUnsignedHyperInteger fromUnsignedLong(long value) {
+    return new XdrUnsignedHyperInteger(value, null);
+  }
+
+  /**
+   * Numeric value stored by this XDR unsigned hyper integer.
+   *
+   * @return the unsigned 64-bit value
+   */
+  public BigInteger getNumber() {
+    BigInteger number = this.number;
+    if (number == null) {
+      number = BigInteger.valueOf(value);
+      if (value < 0) {
+        number = number.add(TWO_TO_THE_64);
+      }
+      // BigInteger is immutable, so a racing thread at worst creates an equal instance.
+      this.number = number;
+    }
+    return number;
+  }
+
+  /**
+   * Returns the 64 bits of the value as a {@code long}. Values from 2^63 to 2^64 - 1 are returned as
+   * negative numbers, use {@link Long#toUnsignedString(long)} or {@link #compareUnsigned} to read
+   * them as unsigned.
+   *
+   * @return the unsigned 64-bit value
+   */
+  public long getLong() {
+    return value;
+  }
+
+  /**
+   * Compares the values of two {@link XdrUnsignedHyperInteger}s as unsigned numbers.
+   *
+   * @param other the value to compare with
+   * @return a negative number, zero or a positive number if this value is less than, equal to or
+   *     greater than {@code other}
+   */
+  public int compareUnsigned(XdrUnsignedHyperInteger other) {
+    return Long.compareUnsigned(value, other.value);
+  }
+
+  /**
+   * Encodes this value to XDR.
+   *
+   * @param stream the destination XDR output stream
+   * @throws IOException if an I/O error occurs while writing the value
+   */
+  @Override
+  public void encode(XdrDataOutputStream stream) throws IOException {
+    stream.writeLong(value);
+  }
+
+  /**
+   * Returns the size of the XDR encoding of this value.
+   *
+   * @return 8, the size of an XDR unsigned hyper
+   */
+  @Override
+  public int encodedSize() {
+    return 8;
+  }
+
+  /**
+   * Decodes an {@link XdrUnsignedHyperInteger} from the provided stream.
+   *
+   * @param stream the source XDR input stream
+   * @param maxDepth the maximum decoding depth, ignored for this leaf type
+   * @return the decoded {@link XdrUnsignedHyperInteger}
+   * @throws IOException if an I/O error occurs while reading the value
+   */
+  public static XdrUnsignedHyperInteger decode(XdrDataInputStream stream, int maxDepth) throws IOException {
+    // maxDepth is intentionally not checked - XdrUnsignedHyperInteger is a leaf type with no recursive decoding
+    return new XdrUnsignedHyperInteger(stream.readLong(), null);
+  }
+
+  /**
+   * Decodes an {@link XdrUnsignedHyperInteger} from the provided stream using the default maximum
+   * depth.
+   *
+   * @param stream the source XDR input stream
+   * @return the decoded {@link XdrUnsignedHyperInteger}
+   * @throws IOException if an I/O error occurs while reading the value
+   */
+  public static XdrUnsignedHyperInteger decode(XdrDataInputStream stream) throws IOException {
+    return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  /**
+   * Decodes an {@link XdrUnsignedHyperInteger} from the provided buffer reader.
+   *
+   * @param reader the source XDR buffer reader
+   * @param maxDepth the maximum decoding depth, ignored for this leaf type
+   * @return the decoded {@link XdrUnsignedHyperInteger}
+   * @throws IOException if the buffer is too short
+   */
+  public static XdrUnsignedHyperInteger decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    // maxDepth is intentionally not checked - XdrUnsignedHyperInteger is a leaf type with no recursive decoding
+    return new XdrUnsignedHyperInteger(reader.readLong(), null);
+  }
+
+  /**
+   * Reads past an {@link XdrUnsignedHyperInteger} in the provided stream.
+   *
+   * @param stream the source XDR input stream
+   * @param maxDepth the maximum decoding depth, ignored for this leaf type
+   * @throws IOException if an I/O error occurs while reading the value
+   */
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    stream.readLong();
+  }
+
+  /**
+   * Reads past an {@link XdrUnsignedHyperInteger} in the provided stream using the default maximum depth.
+   *
+   * @param stream the source XDR input stream
+   * @throws IOException if an I/O error occurs while reading the value
+   */
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  @Override
+  public String toString() {
+    return "XdrUnsignedHyperInteger(number=" + Long.toUnsignedString(value) + ")";
+  }
+
+  /**
+   * Serializes this value to JSON.
+   *
+   * @return the JSON representation of this value
+   */
+  @Override
+  public String toJson() {
+    return XdrElement.gson.toJson(toJsonObject());
+  }
+
+  Object toJsonObject() {
+    return Long.toUnsignedString(value);
+  }
+
+  /**
+   * Parses an {@link XdrUnsignedHyperInteger} from JSON.
+   *
+   * @param json the JSON representation
+   * @return the parsed {@link XdrUnsignedHyperInteger}, or {@code null} if the input is {@code null}
+   * @throws IllegalArgumentException if the JSON value is invalid
+   */
+  public static XdrUnsignedHyperInteger fromJson(String json) {
+    return fromJsonObject(XdrElement.gson.fromJson(json, Object.class));
+  }
+
+  static XdrUnsignedHyperInteger fromJsonObject(Object json) {
+    if (json == null) {
+      return null;
+    }
+    return new XdrUnsignedHyperInteger(XdrElement.jsonToBigInteger(json));
+  }
+
+  /**
+   * Decodes an {@link XdrUnsignedHyperInteger} from a base64-encoded XDR string.
+   *
+   * @param xdr the base64-encoded XDR string
+   * @return the decoded {@link XdrUnsignedHyperInteger}
+   * @throws IOException if the input is invalid or cannot be decoded
+   */
+  public static XdrUnsignedHyperInteger fromXdrBase64(String xdr) throws IOException {
+    byte[] bytes = Base64Factory.getInstance().decode(xdr);
+    return fromXdrByteArray(bytes);
+  }
+
+  /**
+   * Decodes an {@link XdrUnsignedHyperInteger} from raw XDR bytes.
+   *
+   * @param xdr the raw XDR bytes
+   * @return the decoded {@link XdrUnsignedHyperInteger}
+   * @throws IOException if the input is invalid or cannot be decoded
+   */
+  public static XdrUnsignedHyperInteger fromXdrByteArray(byte[] xdr) throws IOException {
+    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
+    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
+    return decode(xdrDataInputStream);
+  }
+}
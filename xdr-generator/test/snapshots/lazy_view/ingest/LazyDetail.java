@@ -0,0 +1,113 @@
+// Automatically generated by xdrgen
+// DO NOT EDIT or your changes may be overwritten
+
+package org.stellar.sdk.ingest;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.jetbrains.annotations.Nullable;
+import org.stellar.sdk.Base64Factory;
+import org.stellar.sdk.exception.UnexpectedException;
+import org.stellar.sdk.xdr.Detail;
+import org.stellar.sdk.xdr.Item;
+import org.stellar.sdk.xdr.XdrDataInputStream;
+
+/**
+ * A view of an XDR encoded {@link Detail} which decodes its fields on first access.
+ *
+ * <p>Variable-length arrays are kept as {@link LazyXdrArray}s and the other fields as {@link
+ * LazyXdrValue}s, except the fields which have a view of their own. The whole value can
+ * still be decoded with {@link #toDetail()}.
+ *
+ * <p>Detail's original definition in the XDR file is:
+ * <pre>
+ * struct Detail
+ * {
+ *   Item&#42; item;
+ *   Items items;
+ * };
+ * </pre>
+ */
+@Getter
+public final class LazyDetail {
+  /** The {@code item} field, null if it is absent. */
+  @Nullable private LazyXdrValue<Item> item;
+
+  /** The {@code items} field. */
+  private final LazyXdrArray<Item> items;
+
+  @Getter(AccessLevel.NONE)
+  private final ByteBuffer xdr;
+
+  LazyDetail(XdrSlicer slicer, int maxDepth) throws IOException {
+    int start = slicer.position();
+    XdrSlicer.checkDepth(maxDepth);
+    maxDepth -= 1;
+    XdrDataInputStream stream = slicer.stream();
+    if (stream.readXdrBoolean()) {
+      item = slicer.value(Item::skip, Item::decode, maxDepth);
+    }
+    XdrSlicer.checkDepth(maxDepth);
+    items = slicer.array("Items", Item::skip, Item::decode, maxDepth - 1);
+    xdr = slicer.slice(start);
+  }
+
+  /**
+   * Reads a {@link Detail} from a base64-encoded XDR string.
+   *
+   * @param xdr the base64-encoded XDR string
+   * @return the view of the value
+   * @throws IOException if the input is invalid
+   */
+  public static LazyDetail fromXdrBase64(String xdr) throws IOException {
+    return fromXdrByteArray(Base64Factory.getInstance().decode(xdr));
+  }
+
+  /**
+   * Reads a {@link Detail} from raw XDR bytes. The bytes are not copied.
+   *
+   * @param xdr the raw XDR bytes
+   * @return the view of the value
+   * @throws IOException if the input is invalid
+   */
+  public static LazyDetail fromXdrByteArray(byte[] xdr) throws IOException {
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  /**
+   * Reads a {@link Detail} from the remaining bytes of a buffer. The bytes are not
+   * copied, so they must not be modified while the view is used.
+   *
+   * @param xdr the buffer to read, heap or direct
+   * @return the view of the value
+   * @throws IOException if the input is invalid
+   */
+  public static LazyDetail fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    return new LazyDetail(new XdrSlicer(xdr), XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  /**
+   * Decodes the whole value.
+   *
+   * @return the decoded value
+   * @throws UnexpectedException if the value cannot be decoded
+   */
+  public Detail toDetail() {
+    try {
+      return Detail.fromXdrByteBuffer(xdr);
+    } catch (IOException e) {
+      throw new UnexpectedException("Unable to decode Detail", e);
+    }
+  }
+
+  /**
+   * Returns the XDR encoding of the value.
+   *
+   * @return a read-only buffer over the encoded value
+   */
+  public ByteBuffer getXdr() {
+    return xdr.asReadOnlyBuffer();
+  }
+}
@@ -0,0 +1,120 @@
+// Automatically generated by xdrgen
+// DO NOT EDIT or your changes may be overwritten
+
+package org.stellar.sdk.ingest;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.jetbrains.annotations.Nullable;
+import org.stellar.sdk.Base64Factory;
+import org.stellar.sdk.exception.UnexpectedException;
+import org.stellar.sdk.xdr.DetailView;
+import org.stellar.sdk.xdr.ViewKind;
+import org.stellar.sdk.xdr.XdrDataInputStream;
+
+/**
+ * A view of an XDR encoded {@link DetailView} which decodes its fields on first access.
+ *
+ * <p>Variable-length arrays are kept as {@link LazyXdrArray}s and the other fields as {@link
+ * LazyXdrValue}s, except the fields which have a view of their own. The whole value can
+ * still be decoded with {@link #toDetailView()}.
+ *
+ * <p>DetailView's original definition in the XDR file is:
+ * <pre>
+ * union DetailView switch (ViewKind kind)
+ * {
+ * case VIEW_EMPTY:
+ *   void;
+ * case VIEW_ITEMS:
+ *   Detail detail;
+ * };
+ * </pre>
+ */
+@Getter
+public final class LazyDetailView {
+  /** The discriminant, {@code kind} in the XDR definition. */
+  private final ViewKind discriminant;
+
+  /** The {@code detail} arm, null unless the discriminant selects it. */
+  @Nullable private LazyDetail detail;
+
+  @Getter(AccessLevel.NONE)
+  private final ByteBuffer xdr;
+
+  LazyDetailView(XdrSlicer slicer, int maxDepth) throws IOException {
+    int start = slicer.position();
+    XdrSlicer.checkDepth(maxDepth);
+    maxDepth -= 1;
+    XdrDataInputStream stream = slicer.stream();
+    discriminant = ViewKind.decode(stream, maxDepth);
+    switch (discriminant) {
+    case VIEW_EMPTY:
+      break;
+    case VIEW_ITEMS:
+      detail = new LazyDetail(slicer, maxDepth);
+      break;
+    default:
+      throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    xdr = slicer.slice(start);
+  }
+
+  /**
+   * Reads a {@link DetailView} from a base64-encoded XDR string.
+   *
+   * @param xdr the base64-encoded XDR string
+   * @return the view of the value
+   * @throws IOException if the input is invalid
+   */
+  public static LazyDetailView fromXdrBase64(String xdr) throws IOException {
+    return fromXdrByteArray(Base64Factory.getInstance().decode(xdr));
+  }
+
+  /**
+   * Reads a {@link DetailView} from raw XDR bytes. The bytes are not copied.
+   *
+   * @param xdr the raw XDR bytes
+   * @return the view of the value
+   * @throws IOException if the input is invalid
+   */
+  public static LazyDetailView fromXdrByteArray(byte[] xdr) throws IOException {
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  /**
+   * Reads a {@link DetailView} from the remaining bytes of a buffer. The bytes are not
+   * copied, so they must not be modified while the view is used.
+   *
+   * @param xdr the buffer to read, heap or direct
+   * @return the view of the value
+   * @throws IOException if the input is invalid
+   */
+  public static LazyDetailView fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    return new LazyDetailView(new XdrSlicer(xdr), XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  /**
+   * Decodes the whole value.
+   *
+   * @return the decoded value
+   * @throws UnexpectedException if the value cannot be decoded
+   */
+  public DetailView toDetailView() {
+    try {
+      return DetailView.fromXdrByteBuffer(xdr);
+    } catch (IOException e) {
+      throw new UnexpectedException("Unable to decode DetailView", e);
+    }
+  }
+
+  /**
+   * Returns the XDR encoding of the value.
+   *
+   * @return a read-only buffer over the encoded value
+   */
+  public ByteBuffer getXdr() {
+    return xdr.asReadOnlyBuffer();
+  }
+}
@@ -0,0 +1,123 @@
+// Automatically generated by xdrgen
+// DO NOT EDIT or your changes may be overwritten
+
+package org.stellar.sdk.ingest;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.jetbrains.annotations.Nullable;
+import org.stellar.sdk.Base64Factory;
+import org.stellar.sdk.exception.UnexpectedException;
+import org.stellar.sdk.xdr.Item;
+import org.stellar.sdk.xdr.ItemsView;
+import org.stellar.sdk.xdr.XdrDataInputStream;
+
+/**
+ * A view of an XDR encoded {@link ItemsView} which decodes its fields on first access.
+ *
+ * <p>Variable-length arrays are kept as {@link LazyXdrArray}s and the other fields as {@link
+ * LazyXdrValue}s, except the fields which have a view of their own. The whole value can
+ * still be decoded with {@link #toItemsView()}.
+ *
+ * <p>ItemsView's original definition in the XDR file is:
+ * <pre>
+ * struct ItemsView
+ * {
+ *   Item first;
+ *   Items changes;
+ *   Item rest&lt;&gt;;
+ *   Detail&#42; detail;
+ * };
+ * </pre>
+ */
+@Getter
+public final class LazyItemsView {
+  /** The {@code first} field. */
+  private final LazyXdrValue<Item> first;
+
+  /** The {@code changes} field. */
+  private final LazyXdrArray<Item> changes;
+
+  /** The {@code rest} field. */
+  private final LazyXdrArray<Item> rest;
+
+  /** The {@code detail} field, null if it is absent. */
+  @Nullable private LazyDetail detail;
+
+  @Getter(AccessLevel.NONE)
+  private final ByteBuffer xdr;
+
+  LazyItemsView(XdrSlicer slicer, int maxDepth) throws IOException {
+    int start = slicer.position();
+    XdrSlicer.checkDepth(maxDepth);
+    maxDepth -= 1;
+    XdrDataInputStream stream = slicer.stream();
+    first = slicer.value(Item::skip, Item::decode, maxDepth);
+    XdrSlicer.checkDepth(maxDepth);
+    changes = slicer.array("Items", Item::skip, Item::decode, maxDepth - 1);
+    rest = slicer.array("rest", Item::skip, Item::decode, maxDepth);
+    if (stream.readXdrBoolean()) {
+      detail = new LazyDetail(slicer, maxDepth);
+    }
+    xdr = slicer.slice(start);
+  }
+
+  /**
+   * Reads a {@link ItemsView} from a base64-encoded XDR string.
+   *
+   * @param xdr the base64-encoded XDR string
+   * @return the view of the value
+   * @throws IOException if the input is invalid
+   */
+  public static LazyItemsView fromXdrBase64(String xdr) throws IOException {
+    return fromXdrByteArray(Base64Factory.getInstance().decode(xdr));
+  }
+
+  /**
+   * Reads a {@link ItemsView} from raw XDR bytes. The bytes are not copied.
+   *
+   * @param xdr the raw XDR bytes
+   * @return the view of the value
+   * @throws IOException if the input is invalid
+   */
+  public static LazyItemsView fromXdrByteArray(byte[] xdr) throws IOException {
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  /**
+   * Reads a {@link ItemsView} from the remaining bytes of a buffer. The bytes are not
+   * copied, so they must not be modified while the view is used.
+   *
+   * @param xdr the buffer to read, heap or direct
+   * @return the view of the value
+   * @throws IOException if the input is invalid
+   */
+  public static LazyItemsView fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    return new LazyItemsView(new XdrSlicer(xdr), XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  /**
+   * Decodes the whole value.
+   *
+   * @return the decoded value
+   * @throws UnexpectedException if the value cannot be decoded
+   */
+  public ItemsView toItemsView() {
+    try {
+      return ItemsView.fromXdrByteBuffer(xdr);
+    } catch (IOException e) {
+      throw new UnexpectedException("Unable to decode ItemsView", e);
+    }
+  }
+
+  /**
+   * Returns the XDR encoding of the value.
+   *
+   * @return a read-only buffer over the encoded value
+   */
+  public ByteBuffer getXdr() {
+    return xdr.asReadOnlyBuffer();
+  }
+}
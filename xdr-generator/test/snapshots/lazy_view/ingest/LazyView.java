@@ -0,0 +1,132 @@
+// Automatically generated by xdrgen
+// DO NOT EDIT or your changes may be overwritten
+
+package org.stellar.sdk.ingest;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.jetbrains.annotations.Nullable;
+import org.stellar.sdk.Base64Factory;
+import org.stellar.sdk.exception.UnexpectedException;
+import org.stellar.sdk.xdr.Item;
+import org.stellar.sdk.xdr.View;
+import org.stellar.sdk.xdr.XdrDataInputStream;
+
+/**
+ * A view of an XDR encoded {@link View} which decodes its fields on first access.
+ *
+ * <p>Variable-length arrays are kept as {@link LazyXdrArray}s and the other fields as {@link
+ * LazyXdrValue}s, except the fields which have a view of their own. The whole value can
+ * still be decoded with {@link #toView()}.
+ *
+ * <p>View's original definition in the XDR file is:
+ * <pre>
+ * union View switch (int v)
+ * {
+ * case 0:
+ *   Item items&lt;&gt;;
+ * case 1:
+ *   ItemsView v1;
+ * case 2:
+ *   DetailView v2;
+ * };
+ * </pre>
+ */
+@Getter
+public final class LazyView {
+  /** The discriminant, {@code v} in the XDR definition. */
+  private final Integer discriminant;
+
+  /** The {@code items} arm, null unless the discriminant selects it. */
+  @Nullable private LazyXdrArray<Item> items;
+
+  /** The {@code v1} arm, null unless the discriminant selects it. */
+  @Nullable private LazyItemsView v1;
+
+  /** The {@code v2} arm, null unless the discriminant selects it. */
+  @Nullable private LazyDetailView v2;
+
+  @Getter(AccessLevel.NONE)
+  private final ByteBuffer xdr;
+
+  LazyView(XdrSlicer slicer, int maxDepth) throws IOException {
+    int start = slicer.position();
+    XdrSlicer.checkDepth(maxDepth);
+    maxDepth -= 1;
+    XdrDataInputStream stream = slicer.stream();
+    discriminant = stream.readInt();
+    switch (discriminant) {
+    case 0:
+      items = slicer.array("items", Item::skip, Item::decode, maxDepth);
+      break;
+    case 1:
+      v1 = new LazyItemsView(slicer, maxDepth);
+      break;
+    case 2:
+      v2 = new LazyDetailView(slicer, maxDepth);
+      break;
+    default:
+      throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+    xdr = slicer.slice(start);
+  }
+
+  /**
+   * Reads a {@link View} from a base64-encoded XDR string.
+   *
+   * @param xdr the base64-encoded XDR string
+   * @return the view of the value
+   * @throws IOException if the input is invalid
+   */
+  public static LazyView fromXdrBase64(String xdr) throws IOException {
+    return fromXdrByteArray(Base64Factory.getInstance().decode(xdr));
+  }
+
+  /**
+   * Reads a {@link View} from raw XDR bytes. The bytes are not copied.
+   *
+   * @param xdr the raw XDR bytes
+   * @return the view of the value
+   * @throws IOException if the input is invalid
+   */
+  public static LazyView fromXdrByteArray(byte[] xdr) throws IOException {
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  /**
+   * Reads a {@link View} from the remaining bytes of a buffer. The bytes are not
+   * copied, so they must not be modified while the view is used.
+   *
+   * @param xdr the buffer to read, heap or direct
+   * @return the view of the value
+   * @throws IOException if the input is invalid
+   */
+  public static LazyView fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    return new LazyView(new XdrSlicer(xdr), XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+
+  /**
+   * Decodes the whole value.
+   *
+   * @return the decoded value
+   * @throws UnexpectedException if the value cannot be decoded
+   */
+  public View toView() {
+    try {
+      return View.fromXdrByteBuffer(xdr);
+    } catch (IOException e) {
+      throw new UnexpectedException("Unable to decode View", e);
+    }
+  }
+
+  /**
+   * Returns the XDR encoding of the value.
+   *
+   * @return a read-only buffer over the encoded value
+   */
+  public ByteBuffer getXdr() {
+    return xdr.asReadOnlyBuffer();
+  }
+}
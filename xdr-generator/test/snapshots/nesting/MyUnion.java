@@ -8,6 +8,7 @@ import java.io.IOException;
 import org.stellar.sdk.Base64Factory;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.List;
@@ -78,6 +79,21 @@ public class MyUnion implements XdrElement {
   break;
   }
   }
+  @Override
+  public int encodedSize() {
+    int size = 4;
+  switch (discriminant) {
+  case ONE:
+  size += one.encodedSize();
+  break;
+  case TWO:
+  size += two.encodedSize();
+  break;
+  case OFFER:
+  break;
+  }
+    return size;
+  }
   public static MyUnion decode(XdrDataInputStream stream, int maxDepth) throws IOException {
   if (maxDepth <= 0) {
     throw new IOException("Maximum decoding depth reached");
@@ -103,16 +119,99 @@ public class MyUnion implements XdrElement {
   public static MyUnion decode(XdrDataInputStream stream) throws IOException {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
+  public static MyUnion decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+  if (maxDepth <= 0) {
+    throw new IOException("Maximum decoding depth reached");
+  }
+  maxDepth -= 1;
+  MyUnion decodedMyUnion = new MyUnion();
+  UnionKey discriminant = UnionKey.decode(reader, maxDepth);
+  decodedMyUnion.setDiscriminant(discriminant);
+  switch (decodedMyUnion.getDiscriminant()) {
+  case ONE:
+  decodedMyUnion.one = MyUnionOne.decode(reader, maxDepth);
+  break;
+  case TWO:
+  decodedMyUnion.two = MyUnionTwo.decode(reader, maxDepth);
+  break;
+  case OFFER:
+  break;
+  default:
+    throw new IOException("Unknown discriminant value: " + discriminant);
+  }
+    return decodedMyUnion;
+  }
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+  if (maxDepth <= 0) {
+    throw new IOException("Maximum decoding depth reached");
+  }
+  maxDepth -= 1;
+  UnionKey discriminant = UnionKey.decode(stream, maxDepth);
+  switch (discriminant) {
+  case ONE:
+  MyUnionOne.skip(stream, maxDepth);
+  break;
+  case TWO:
+  MyUnionTwo.skip(stream, maxDepth);
+  break;
+  case OFFER:
+  break;
+  default:
+    throw new IOException("Unknown discriminant value: " + discriminant);
+  }
+  }
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+  static void extract(XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values) throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "one", "two");
+    UnionKey discriminant = UnionKey.decode(stream, maxDepth);
+    switch (discriminant) {
+    case ONE:
+    if (field.equals("one")) {
+      MyUnionOne.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      MyUnionOne.skip(stream, maxDepth);
+    }
+    break;
+    case TWO:
+    if (field.equals("two")) {
+      MyUnionTwo.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      MyUnionTwo.skip(stream, maxDepth);
+    }
+    break;
+    case OFFER:
+    break;
+    default:
+      throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
   public static MyUnion fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static MyUnion fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static MyUnion fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
   @Override
   public String toJson() {
@@ -197,6 +296,12 @@ public class MyUnion implements XdrElement {
     public void encode(XdrDataOutputStream stream) throws IOException{
       stream.writeInt(someInt);
     }
+    @Override
+    public int encodedSize() {
+      int size = 0;
+      size += 4;
+      return size;
+    }
     public static MyUnionOne decode(XdrDataInputStream stream, int maxDepth) throws IOException {
       if (maxDepth <= 0) {
         throw new IOException("Maximum decoding depth reached");
@@ -209,16 +314,59 @@ public class MyUnion implements XdrElement {
     public static MyUnionOne decode(XdrDataInputStream stream) throws IOException {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
+    public static MyUnionOne decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      MyUnionOne decodedMyUnionOne = new MyUnionOne();
+      decodedMyUnionOne.someInt = reader.readInt();
+      return decodedMyUnionOne;
+    }
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      stream.readInt();
+    }
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+    static void extract(XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values) throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index, "someInt");
+      if (field.equals("someInt")) {
+        path.checkEnd(index + 1);
+        values.add(stream.readInt());
+      } else {
+        stream.readInt();
+      }
+    }
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
     public static MyUnionOne fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static MyUnionOne fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static MyUnionOne fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
     @Override
     public String toJson() {
@@ -274,6 +422,13 @@ public class MyUnion implements XdrElement {
       stream.writeInt(someInt);
       foo.encode(stream);
     }
+    @Override
+    public int encodedSize() {
+      int size = 0;
+      size += 4;
+      size += foo.encodedSize();
+      return size;
+    }
     public static MyUnionTwo decode(XdrDataInputStream stream, int maxDepth) throws IOException {
       if (maxDepth <= 0) {
         throw new IOException("Maximum decoding depth reached");
@@ -287,16 +442,66 @@ public class MyUnion implements XdrElement {
     public static MyUnionTwo decode(XdrDataInputStream stream) throws IOException {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
+    public static MyUnionTwo decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      MyUnionTwo decodedMyUnionTwo = new MyUnionTwo();
+      decodedMyUnionTwo.someInt = reader.readInt();
+      decodedMyUnionTwo.foo = Foo.decode(reader, maxDepth);
+      return decodedMyUnionTwo;
+    }
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      stream.readInt();
+      Foo.skip(stream, maxDepth);
+    }
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+    static void extract(XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values) throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index, "someInt", "foo");
+      if (field.equals("someInt")) {
+        path.checkEnd(index + 1);
+        values.add(stream.readInt());
+      } else {
+        stream.readInt();
+      }
+      if (field.equals("foo")) {
+        Foo.extract(stream, maxDepth, path, index + 1, values);
+      } else {
+        Foo.skip(stream, maxDepth);
+      }
+    }
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
     public static MyUnionTwo fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static MyUnionTwo fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static MyUnionTwo fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
     @Override
     public String toJson() {
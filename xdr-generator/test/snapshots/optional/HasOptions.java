@@ -8,6 +8,7 @@ import java.io.IOException;
 import org.stellar.sdk.Base64Factory;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.List;
@@ -74,6 +75,23 @@ public class HasOptions implements XdrElement {
     stream.writeInt(0);
     }
   }
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    if (firstOption != null) {
+    size += 4;
+    }
+    size += 4;
+    if (secondOption != null) {
+    size += 4;
+    }
+    size += 4;
+    if (thirdOption != null) {
+    size += thirdOption.encodedSize();
+    }
+    return size;
+  }
   public static HasOptions decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -97,16 +115,110 @@ public class HasOptions implements XdrElement {
   public static HasOptions decode(XdrDataInputStream stream) throws IOException {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
+  public static HasOptions decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    HasOptions decodedHasOptions = new HasOptions();
+    boolean firstOptionPresent = reader.readXdrBoolean();
+    if (firstOptionPresent) {
+    decodedHasOptions.firstOption = reader.readInt();
+    }
+    boolean secondOptionPresent = reader.readXdrBoolean();
+    if (secondOptionPresent) {
+    decodedHasOptions.secondOption = reader.readInt();
+    }
+    boolean thirdOptionPresent = reader.readXdrBoolean();
+    if (thirdOptionPresent) {
+    decodedHasOptions.thirdOption = Arr.decode(reader, maxDepth);
+    }
+    return decodedHasOptions;
+  }
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    boolean firstOptionPresent = stream.readXdrBoolean();
+    if (firstOptionPresent) {
+    stream.readInt();
+    }
+    boolean secondOptionPresent = stream.readXdrBoolean();
+    if (secondOptionPresent) {
+    stream.readInt();
+    }
+    boolean thirdOptionPresent = stream.readXdrBoolean();
+    if (thirdOptionPresent) {
+    Arr.skip(stream, maxDepth);
+    }
+  }
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+  static void extract(XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values) throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "firstOption", "secondOption", "thirdOption[*]");
+    if (field.equals("firstOption")) {
+      boolean firstOptionPresent = stream.readXdrBoolean();
+      if (firstOptionPresent) {
+      path.checkEnd(index + 1);
+      values.add(stream.readInt());
+      }
+    } else {
+      boolean firstOptionPresent = stream.readXdrBoolean();
+      if (firstOptionPresent) {
+      stream.readInt();
+      }
+    }
+    if (field.equals("secondOption")) {
+      boolean secondOptionPresent = stream.readXdrBoolean();
+      if (secondOptionPresent) {
+      path.checkEnd(index + 1);
+      values.add(stream.readInt());
+      }
+    } else {
+      boolean secondOptionPresent = stream.readXdrBoolean();
+      if (secondOptionPresent) {
+      stream.readInt();
+      }
+    }
+    if (field.equals("thirdOption")) {
+      boolean thirdOptionPresent = stream.readXdrBoolean();
+      if (thirdOptionPresent) {
+      Arr.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      boolean thirdOptionPresent = stream.readXdrBoolean();
+      if (thirdOptionPresent) {
+      Arr.skip(stream, maxDepth);
+      }
+    }
+  }
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
   public static HasOptions fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static HasOptions fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static HasOptions fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
   @Override
   public String toJson() {
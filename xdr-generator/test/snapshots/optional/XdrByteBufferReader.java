@@ -0,0 +1,140 @@
+package org.stellar.sdk.xdr;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Bounds-checked XDR reader over the remaining bytes of a heap or direct {@link ByteBuffer}.
+ *
+ * <p>Every generated XDR type has a {@code decode(XdrByteBufferReader, int)} method, which {@code
+ * fromXdrByteBuffer} and {@code fromXdrByteArray} use. It reads each primitive with a single get
+ * on the buffer, instead of byte by byte through the streams behind {@link XdrDataInputStream},
+ * and a buffer such as a memory-mapped file region is decoded in place, without first being
+ * copied into a byte array. Declared lengths are checked against the bytes left in the buffer.
+ *
+ * <p>The reader works on a duplicate of the buffer, so the position, limit and mark of the buffer
+ * passed in are never modified. Instances are not thread-safe.
+ */
+public final class XdrByteBufferReader {
+  private final ByteBuffer buffer;
+  private final int start;
+
+  /**
+   * Creates a reader over the remaining bytes of {@code buffer}.
+   *
+   * @param buffer the buffer to read, from its current position up to its limit
+   */
+  public XdrByteBufferReader(ByteBuffer buffer) {
+    this.buffer = buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+    this.start = this.buffer.position();
+  }
+
+  /**
+   * Returns the number of bytes consumed so far.
+   *
+   * @return the number of bytes read since this reader was created
+   */
+  public int getBytesRead() {
+    return buffer.position() - start;
+  }
+
+  /**
+   * Returns the number of bytes left to read.
+   *
+   * @return the remaining input length
+   */
+  public int getRemainingInputLen() {
+    return buffer.remaining();
+  }
+
+  /**
+   * Reads an XDR int.
+   *
+   * @return the value
+   * @throws EOFException if fewer than 4 bytes are left
+   */
+  public int readInt() throws EOFException {
+    require(4);
+    return buffer.getInt();
+  }
+
+  /**
+   * Reads an XDR hyper.
+   *
+   * @return the value
+   * @throws EOFException if fewer than 8 bytes are left
+   */
+  public long readLong() throws EOFException {
+    require(8);
+    return buffer.getLong();
+  }
+
+  /**
+   * Reads an XDR float.
+   *
+   * @return the value
+   * @throws EOFException if fewer than 4 bytes are left
+   */
+  public float readFloat() throws EOFException {
+    require(4);
+    return buffer.getFloat();
+  }
+
+  /**
+   * Reads an XDR double.
+   *
+   * @return the value
+   * @throws EOFException if fewer than 8 bytes are left
+   */
+  public double readDouble() throws EOFException {
+    require(8);
+    return buffer.getDouble();
+  }
+
+  /**
+   * Reads an XDR boolean value.
+   * Per RFC 4506, a boolean is encoded as an integer that must be 0 (FALSE) or 1 (TRUE).
+   *
+   * @return the boolean value
+   * @throws IOException if the value is not 0 or 1, or if fewer than 4 bytes are left
+   */
+  public boolean readXdrBoolean() throws IOException {
+    int value = readInt();
+    if (value == 0) {
+      return false;
+    } else if (value == 1) {
+      return true;
+    } else {
+      throw new IOException("Invalid boolean value: " + value + ", must be 0 or 1 per RFC 4506");
+    }
+  }
+
+  /**
+   * Reads exactly len bytes of XDR opaque/string data, then reads and validates the padding bytes
+   * to maintain 4-byte alignment.
+   *
+   * @param b the buffer into which the data is read
+   * @param off the start offset in array b at which the data is written
+   * @param len the number of bytes to read
+   * @throws IOException if the padding is not zero, or if the data and its padding are not all
+   *     left in the buffer
+   */
+  public void readPaddedData(byte[] b, int off, int len) throws IOException {
+    int pad = (4 - (len & 3)) & 3;
+    require((long) len + pad);
+    buffer.get(b, off, len);
+    while (pad-- > 0) {
+      if (buffer.get() != 0) {
+        throw new IOException("non-zero padding");
+      }
+    }
+  }
+
+  private void require(long len) throws EOFException {
+    if (buffer.remaining() < len) {
+      throw new EOFException("Unexpected end of buffer while reading XDR data");
+    }
+  }
+}
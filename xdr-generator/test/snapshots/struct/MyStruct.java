@@ -8,6 +8,7 @@ import java.io.IOException;
 import org.stellar.sdk.Base64Factory;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.List;
@@ -85,6 +86,16 @@ public class MyStruct implements XdrElement {
     }
     maxString.encode(stream);
   }
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    size += aBigInt.encodedSize();
+    size += ((someOpaque.length + 3) & ~3);
+    size += someString.encodedSize();
+    size += maxString.encodedSize();
+    return size;
+  }
   public static MyStruct decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -103,16 +114,97 @@ public class MyStruct implements XdrElement {
   public static MyStruct decode(XdrDataInputStream stream) throws IOException {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
+  public static MyStruct decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    MyStruct decodedMyStruct = new MyStruct();
+    decodedMyStruct.someInt = reader.readInt();
+    decodedMyStruct.aBigInt = Int64.decode(reader, maxDepth);
+    int someOpaqueSize = 10;
+    decodedMyStruct.someOpaque = new byte[someOpaqueSize];
+    reader.readPaddedData(decodedMyStruct.someOpaque, 0, someOpaqueSize);
+    decodedMyStruct.someString = XdrString.decode(reader, maxDepth, Integer.MAX_VALUE);
+    decodedMyStruct.maxString = XdrString.decode(reader, maxDepth, 100);
+    return decodedMyStruct;
+  }
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    stream.readInt();
+    Int64.skip(stream, maxDepth);
+    int someOpaqueSize = 10;
+    stream.skipPaddedData(someOpaqueSize);
+    XdrString.skip(stream, maxDepth, Integer.MAX_VALUE);
+    XdrString.skip(stream, maxDepth, 100);
+  }
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+  static void extract(XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values) throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "someInt", "aBigInt", "someOpaque", "someString", "maxString");
+    if (field.equals("someInt")) {
+      path.checkEnd(index + 1);
+      values.add(stream.readInt());
+    } else {
+      stream.readInt();
+    }
+    if (field.equals("aBigInt")) {
+      Int64.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Int64.skip(stream, maxDepth);
+    }
+    if (field.equals("someOpaque")) {
+      int someOpaqueSize = 10;
+      path.checkEnd(index + 1);
+      byte[] someOpaqueBytes = new byte[someOpaqueSize];
+      stream.readPaddedData(someOpaqueBytes, 0, someOpaqueSize);
+      values.add(someOpaqueBytes);
+    } else {
+      int someOpaqueSize = 10;
+      stream.skipPaddedData(someOpaqueSize);
+    }
+    if (field.equals("someString")) {
+      path.checkEnd(index + 1);
+      values.add(XdrString.decode(stream, maxDepth, Integer.MAX_VALUE));
+    } else {
+      XdrString.skip(stream, maxDepth, Integer.MAX_VALUE);
+    }
+    if (field.equals("maxString")) {
+      path.checkEnd(index + 1);
+      values.add(XdrString.decode(stream, maxDepth, 100));
+    } else {
+      XdrString.skip(stream, maxDepth, 100);
+    }
+  }
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
   public static MyStruct fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static MyStruct fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static MyStruct fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
   @Override
   public String toJson() {
@@ -4,6 +4,7 @@ import java.io.DataInputStream;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import lombok.Setter;
 
@@ -37,6 +38,20 @@ public class XdrDataInputStream extends DataInputStream {
         mIn = (XdrInputStream) super.in;
     }
 
+    /**
+     * Creates an XdrDataInputStream that reads the remaining bytes of the
+     * specified buffer in place, without modifying its position.
+     * The maximum input length is set to the number of remaining bytes.
+     * To decode a whole value from a buffer, {@link XdrByteBufferReader}
+     * reads the primitives straight from the buffer instead.
+     *
+     * @param buffer the buffer to read, heap or direct
+     */
+    public XdrDataInputStream(ByteBuffer buffer) {
+        this(new ByteBufferInputStream(buffer));
+        maxInputLen = buffer.remaining();
+    }
+
     /**
      * Returns the remaining input length if known, -1 otherwise.
      * This can be used to validate sizes before allocating memory.
@@ -152,6 +167,68 @@ public class XdrDataInputStream extends DataInputStream {
         mIn.pad();
     }
 
+    /**
+     * Skips exactly len bytes of XDR opaque/string data without copying them,
+     * then reads and validates the padding bytes to maintain 4-byte alignment.
+     *
+     * @param len the number of bytes to skip
+     * @throws IOException if an I/O error occurs or EOF is reached before skipping len bytes
+     */
+    public void skipPaddedData(int len) throws IOException {
+        mIn.skipFullyNoPad(len);
+        mIn.pad();
+    }
+
+    /** Unsynchronized InputStream over the remaining bytes of a duplicate of a buffer. */
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer.duplicate();
+        }
+
+        @Override
+        public int read() {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            return buffer.get() & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (off < 0 || len < 0 || len > b.length - off) {
+                throw new IndexOutOfBoundsException(
+                        "Range [" + off + ", " + off + " + " + len + ") out of bounds for length " + b.length);
+            }
+            if (len == 0) {
+                return 0;
+            }
+            int remaining = buffer.remaining();
+            if (remaining == 0) {
+                return -1;
+            }
+            int n = Math.min(len, remaining);
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public long skip(long n) {
+            if (n <= 0) {
+                return 0;
+            }
+            int skipped = (int) Math.min(n, buffer.remaining());
+            buffer.position(buffer.position() + skipped);
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+
     /**
      * Need to provide a custom impl of InputStream as DataInputStream's read methods
      * are final and we need to keep track of the count for padding purposes.
@@ -231,5 +308,25 @@ public class XdrDataInputStream extends DataInputStream {
                 totalRead += read;
             }
         }
+
+        /**
+         * Skips exactly len bytes, falling back to single byte reads when the
+         * underlying stream does not skip. Does not apply padding - caller must
+         * call pad() after this.
+         */
+        void skipFullyNoPad(int len) throws IOException {
+            int totalSkipped = 0;
+            while (totalSkipped < len) {
+                long skipped = mIn.skip(len - totalSkipped);
+                if (skipped <= 0) {
+                    if (mIn.read() < 0) {
+                        throw new EOFException("Unexpected end of stream while skipping XDR data");
+                    }
+                    skipped = 1;
+                }
+                mCount += (int) skipped;
+                totalSkipped += (int) skipped;
+            }
+        }
     }
 }
@@ -1,31 +1,33 @@
 package org.stellar.sdk.xdr;
 
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.math.BigInteger;
-import lombok.Value;
+import lombok.EqualsAndHashCode;
 import org.stellar.sdk.Base64Factory;
 
 /**
  * Represents XDR Unsigned Hyper Integer.
  *
+ * <p>The value is stored as the 64 bits of a {@code long}, read as unsigned. The {@link BigInteger}
+ * returned by {@link #getNumber()} is only created when it is first requested.
+ *
  * @see <a href="https://datatracker.ietf.org/doc/html/rfc4506#section-4.5">XDR: External Data
  *     Representation Standard</a>
  */
-@Value
-public class XdrUnsignedHyperInteger implements XdrElement {
+@EqualsAndHashCode
+public final class XdrUnsignedHyperInteger implements XdrElement {
   /** Largest value representable by XDR unsigned hyper integer. */
   public static final BigInteger MAX_VALUE = new BigInteger("18446744073709551615");
+
   /** Smallest value representable by XDR unsigned hyper integer. */
   public static final BigInteger MIN_VALUE = BigInteger.ZERO;
 
-  /**
-   * Numeric value stored by this XDR unsigned hyper integer.
-   *
-   * @return the unsigned 64-bit value
-   */
-  BigInteger number;
+  private static final BigInteger TWO_TO_THE_64 = BigInteger.ONE.shiftLeft(64);
+
+  private final long value;
+
+  @EqualsAndHashCode.Exclude private BigInteger number;
 
   /**
    * Creates an {@link XdrUnsignedHyperInteger} from a {@link BigInteger}.
@@ -37,6 +39,7 @@ public class XdrUnsignedHyperInteger implements XdrElement {
     if (number.compareTo(MIN_VALUE) < 0 || number.compareTo(MAX_VALUE) > 0) {
       throw new IllegalArgumentException("number must be between 0 and 2^64 - 1 inclusive");
     }
+    this.value = number.longValue();
     this.number = number;
   }
 
@@ -51,7 +54,64 @@ public class XdrUnsignedHyperInteger implements XdrElement {
       throw new IllegalArgumentException(
           "number must be greater than or equal to 0 if you want to construct it from Long");
     }
-    this.number = BigInteger.valueOf(number);
+    this.value = number;
+  }
+
+  private XdrUnsignedHyperInteger(long value, BigInteger number) {
+    this.value = value;
+    this.number = number;
+  }
+
+  /**
+   * Creates an {@link XdrUnsignedHyperInteger} from the 64 bits of a {@code long}, read as
+   * unsigned. Values from 2^63 to 2^64 - 1 are given as negative numbers, e.g. {@code -1L} for the
+   * largest value.
+   *
+   * @param value the unsigned 64-bit value, as returned by {@link #getLong()}
+   * @return the {@link XdrUnsignedHyperInteger}
+   */
+  public static XdrUnsignedHyperInteger fromUnsignedLong(long value) {
+    return new XdrUnsignedHyperInteger(value, null);
+  }
+
+  /**
+   * Numeric value stored by this XDR unsigned hyper integer.
+   *
+   * @return the unsigned 64-bit value
+   */
+  public BigInteger getNumber() {
+    BigInteger number = this.number;
+    if (number == null) {
+      number = BigInteger.valueOf(value);
+      if (value < 0) {
+        number = number.add(TWO_TO_THE_64);
+      }
+      // BigInteger is immutable, so a racing thread at worst creates an equal instance.
+      this.number = number;
+    }
+    return number;
+  }
+
+  /**
+   * Returns the 64 bits of the value as a {@code long}. Values from 2^63 to 2^64 - 1 are returned as
+   * negative numbers, use {@link Long#toUnsignedString(long)} or {@link #compareUnsigned} to read
+   * them as unsigned.
+   *
+   * @return the unsigned 64-bit value
+   */
+  public long getLong() {
+    return value;
+  }
+
+  /**
+   * Compares the values of two {@link XdrUnsignedHyperInteger}s as unsigned numbers.
+   *
+   * @param other the value to compare with
+   * @return a negative number, zero or a positive number if this value is less than, equal to or
+   *     greater than {@code other}
+   */
+  public int compareUnsigned(XdrUnsignedHyperInteger other) {
+    return Long.compareUnsigned(value, other.value);
   }
 
   /**
@@ -62,7 +122,17 @@ public class XdrUnsignedHyperInteger implements XdrElement {
    */
   @Override
   public void encode(XdrDataOutputStream stream) throws IOException {
-    stream.write(getBytes());
+    stream.writeLong(value);
+  }
+
+  /**
+   * Returns the size of the XDR encoding of this value.
+   *
+   * @return 8, the size of an XDR unsigned hyper
+   */
+  @Override
+  public int encodedSize() {
+    return 8;
   }
 
   /**
@@ -75,10 +145,7 @@ public class XdrUnsignedHyperInteger implements XdrElement {
    */
   public static XdrUnsignedHyperInteger decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     // maxDepth is intentionally not checked - XdrUnsignedHyperInteger is a leaf type with no recursive decoding
-    byte[] bytes = new byte[8];
-    stream.readFully(bytes);
-    BigInteger uint64 = new BigInteger(1, bytes);
-    return new XdrUnsignedHyperInteger(uint64);
+    return new XdrUnsignedHyperInteger(stream.readLong(), null);
   }
 
   /**
@@ -93,14 +160,43 @@ public class XdrUnsignedHyperInteger implements XdrElement {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
 
-  private byte[] getBytes() {
-    byte[] bytes = number.toByteArray();
-    byte[] paddedBytes = new byte[8];
+  /**
+   * Decodes an {@link XdrUnsignedHyperInteger} from the provided buffer reader.
+   *
+   * @param reader the source XDR buffer reader
+   * @param maxDepth the maximum decoding depth, ignored for this leaf type
+   * @return the decoded {@link XdrUnsignedHyperInteger}
+   * @throws IOException if the buffer is too short
+   */
+  public static XdrUnsignedHyperInteger decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    // maxDepth is intentionally not checked - XdrUnsignedHyperInteger is a leaf type with no recursive decoding
+    return new XdrUnsignedHyperInteger(reader.readLong(), null);
+  }
+
+  /**
+   * Reads past an {@link XdrUnsignedHyperInteger} in the provided stream.
+   *
+   * @param stream the source XDR input stream
+   * @param maxDepth the maximum decoding depth, ignored for this leaf type
+   * @throws IOException if an I/O error occurs while reading the value
+   */
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    stream.readLong();
+  }
+
+  /**
+   * Reads past an {@link XdrUnsignedHyperInteger} in the provided stream using the default maximum depth.
+   *
+   * @param stream the source XDR input stream
+   * @throws IOException if an I/O error occurs while reading the value
+   */
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
 
-    int numBytesToCopy = Math.min(bytes.length, 8);
-    int copyStartIndex = bytes.length - numBytesToCopy;
-    System.arraycopy(bytes, copyStartIndex, paddedBytes, 8 - numBytesToCopy, numBytesToCopy);
-    return paddedBytes;
+  @Override
+  public String toString() {
+    return "XdrUnsignedHyperInteger(number=" + Long.toUnsignedString(value) + ")";
   }
 
   /**
@@ -114,7 +210,7 @@ public class XdrUnsignedHyperInteger implements XdrElement {
   }
 
   Object toJsonObject() {
-    return this.number.toString();
+    return Long.toUnsignedString(value);
   }
 
   /**
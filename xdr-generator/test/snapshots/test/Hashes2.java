@@ -8,6 +8,7 @@ import java.io.IOException;
 import org.stellar.sdk.Base64Factory;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.List;
@@ -44,6 +45,16 @@ public class Hashes2 implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    for (int i = 0; i < Hashes2.length; i++) {
+      size += Hashes2[i].encodedSize();
+    }
+    return size;
+  }
+
   public static Hashes2 decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -70,6 +81,81 @@ public class Hashes2 implements XdrElement {
   public static Hashes2 decode(XdrDataInputStream stream) throws IOException {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
+  public static Hashes2 decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Hashes2 decodedHashes2 = new Hashes2();
+    int Hashes2Size = reader.readInt();
+    if (Hashes2Size < 0) {
+      throw new IOException("Hashes2 size " + Hashes2Size + " is negative");
+    }
+    if (Hashes2Size > 12) {
+      throw new IOException("Hashes2 size " + Hashes2Size + " exceeds max size 12");
+    }
+    int Hashes2RemainingInputLen = reader.getRemainingInputLen();
+    if (Hashes2RemainingInputLen >= 0 && Hashes2RemainingInputLen < Hashes2Size) {
+      throw new IOException("Hashes2 size " + Hashes2Size + " exceeds remaining input length " + Hashes2RemainingInputLen);
+    }
+    decodedHashes2.Hashes2 = new Hash[Hashes2Size];
+    for (int i = 0; i < Hashes2Size; i++) {
+      decodedHashes2.Hashes2[i] = Hash.decode(reader, maxDepth);
+    }
+    return decodedHashes2;
+  }
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int Hashes2Size = stream.readInt();
+    if (Hashes2Size < 0) {
+      throw new IOException("Hashes2 size " + Hashes2Size + " is negative");
+    }
+    if (Hashes2Size > 12) {
+      throw new IOException("Hashes2 size " + Hashes2Size + " exceeds max size 12");
+    }
+    int Hashes2RemainingInputLen = stream.getRemainingInputLen();
+    if (Hashes2RemainingInputLen >= 0 && Hashes2RemainingInputLen < Hashes2Size) {
+      throw new IOException("Hashes2 size " + Hashes2Size + " exceeds remaining input length " + Hashes2RemainingInputLen);
+    }
+    for (int i = 0; i < Hashes2Size; i++) {
+      Hash.skip(stream, maxDepth);
+    }
+  }
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+  static void extract(XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values) throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int Hashes2Size = stream.readInt();
+    if (Hashes2Size < 0) {
+      throw new IOException("Hashes2 size " + Hashes2Size + " is negative");
+    }
+    if (Hashes2Size > 12) {
+      throw new IOException("Hashes2 size " + Hashes2Size + " exceeds max size 12");
+    }
+    int Hashes2RemainingInputLen = stream.getRemainingInputLen();
+    if (Hashes2RemainingInputLen >= 0 && Hashes2RemainingInputLen < Hashes2Size) {
+      throw new IOException("Hashes2 size " + Hashes2Size + " exceeds remaining input length " + Hashes2RemainingInputLen);
+    }
+    for (int i = 0; i < Hashes2Size; i++) {
+      Hash.extract(stream, maxDepth, path, index, values);
+    }
+  }
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
 
   public static Hashes2 fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
@@ -77,10 +163,12 @@ public class Hashes2 implements XdrElement {
   }
 
   public static Hashes2 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static Hashes2 fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
   @Override
   public String toJson() {
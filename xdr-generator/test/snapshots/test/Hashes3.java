@@ -8,6 +8,7 @@ import java.io.IOException;
 import org.stellar.sdk.Base64Factory;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.List;
@@ -41,6 +42,16 @@ public class Hashes3 implements XdrElement {
     }
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    for (int i = 0; i < Hashes3.length; i++) {
+      size += Hashes3[i].encodedSize();
+    }
+    return size;
+  }
+
   public static Hashes3 decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -64,6 +75,72 @@ public class Hashes3 implements XdrElement {
   public static Hashes3 decode(XdrDataInputStream stream) throws IOException {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
+  public static Hashes3 decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Hashes3 decodedHashes3 = new Hashes3();
+    int Hashes3Size = reader.readInt();
+    if (Hashes3Size < 0) {
+      throw new IOException("Hashes3 size " + Hashes3Size + " is negative");
+    }
+    int Hashes3RemainingInputLen = reader.getRemainingInputLen();
+    if (Hashes3RemainingInputLen >= 0 && Hashes3RemainingInputLen < Hashes3Size) {
+      throw new IOException("Hashes3 size " + Hashes3Size + " exceeds remaining input length " + Hashes3RemainingInputLen);
+    }
+    decodedHashes3.Hashes3 = new Hash[Hashes3Size];
+    for (int i = 0; i < Hashes3Size; i++) {
+      decodedHashes3.Hashes3[i] = Hash.decode(reader, maxDepth);
+    }
+    return decodedHashes3;
+  }
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int Hashes3Size = stream.readInt();
+    if (Hashes3Size < 0) {
+      throw new IOException("Hashes3 size " + Hashes3Size + " is negative");
+    }
+    int Hashes3RemainingInputLen = stream.getRemainingInputLen();
+    if (Hashes3RemainingInputLen >= 0 && Hashes3RemainingInputLen < Hashes3Size) {
+      throw new IOException("Hashes3 size " + Hashes3Size + " exceeds remaining input length " + Hashes3RemainingInputLen);
+    }
+    for (int i = 0; i < Hashes3Size; i++) {
+      Hash.skip(stream, maxDepth);
+    }
+  }
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+  static void extract(XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values) throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int Hashes3Size = stream.readInt();
+    if (Hashes3Size < 0) {
+      throw new IOException("Hashes3 size " + Hashes3Size + " is negative");
+    }
+    int Hashes3RemainingInputLen = stream.getRemainingInputLen();
+    if (Hashes3RemainingInputLen >= 0 && Hashes3RemainingInputLen < Hashes3Size) {
+      throw new IOException("Hashes3 size " + Hashes3Size + " exceeds remaining input length " + Hashes3RemainingInputLen);
+    }
+    for (int i = 0; i < Hashes3Size; i++) {
+      Hash.extract(stream, maxDepth, path, index, values);
+    }
+  }
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
 
   public static Hashes3 fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
@@ -71,10 +148,12 @@ public class Hashes3 implements XdrElement {
   }
 
   public static Hashes3 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static Hashes3 fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
   @Override
   public String toJson() {
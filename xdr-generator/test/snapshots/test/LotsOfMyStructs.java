@@ -8,6 +8,7 @@ import java.io.IOException;
 import org.stellar.sdk.Base64Factory;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.List;
@@ -45,6 +46,15 @@ public class LotsOfMyStructs implements XdrElement {
       members[i].encode(stream);
     }
   }
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += 4;
+    for (int i = 0; i < members.length; i++) {
+      size += members[i].encodedSize();
+    }
+    return size;
+  }
   public static LotsOfMyStructs decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -68,16 +78,99 @@ public class LotsOfMyStructs implements XdrElement {
   public static LotsOfMyStructs decode(XdrDataInputStream stream) throws IOException {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
+  public static LotsOfMyStructs decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    LotsOfMyStructs decodedLotsOfMyStructs = new LotsOfMyStructs();
+    int membersSize = reader.readInt();
+    if (membersSize < 0) {
+      throw new IOException("members size " + membersSize + " is negative");
+    }
+    int membersRemainingInputLen = reader.getRemainingInputLen();
+    if (membersRemainingInputLen >= 0 && membersRemainingInputLen < membersSize) {
+      throw new IOException("members size " + membersSize + " exceeds remaining input length " + membersRemainingInputLen);
+    }
+    decodedLotsOfMyStructs.members = new MyStruct[membersSize];
+    for (int i = 0; i < membersSize; i++) {
+      decodedLotsOfMyStructs.members[i] = MyStruct.decode(reader, maxDepth);
+    }
+    return decodedLotsOfMyStructs;
+  }
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int membersSize = stream.readInt();
+    if (membersSize < 0) {
+      throw new IOException("members size " + membersSize + " is negative");
+    }
+    int membersRemainingInputLen = stream.getRemainingInputLen();
+    if (membersRemainingInputLen >= 0 && membersRemainingInputLen < membersSize) {
+      throw new IOException("members size " + membersSize + " exceeds remaining input length " + membersRemainingInputLen);
+    }
+    for (int i = 0; i < membersSize; i++) {
+      MyStruct.skip(stream, maxDepth);
+    }
+  }
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+  static void extract(XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values) throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "members[*]");
+    if (field.equals("members")) {
+      int membersSize = stream.readInt();
+      if (membersSize < 0) {
+        throw new IOException("members size " + membersSize + " is negative");
+      }
+      int membersRemainingInputLen = stream.getRemainingInputLen();
+      if (membersRemainingInputLen >= 0 && membersRemainingInputLen < membersSize) {
+        throw new IOException("members size " + membersSize + " exceeds remaining input length " + membersRemainingInputLen);
+      }
+      for (int i = 0; i < membersSize; i++) {
+        MyStruct.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int membersSize = stream.readInt();
+      if (membersSize < 0) {
+        throw new IOException("members size " + membersSize + " is negative");
+      }
+      int membersRemainingInputLen = stream.getRemainingInputLen();
+      if (membersRemainingInputLen >= 0 && membersRemainingInputLen < membersSize) {
+        throw new IOException("members size " + membersSize + " exceeds remaining input length " + membersRemainingInputLen);
+      }
+      for (int i = 0; i < membersSize; i++) {
+        MyStruct.skip(stream, maxDepth);
+      }
+    }
+  }
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
   public static LotsOfMyStructs fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static LotsOfMyStructs fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static LotsOfMyStructs fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
   @Override
   public String toJson() {
@@ -8,6 +8,7 @@ import java.io.IOException;
 import org.stellar.sdk.Base64Factory;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.List;
@@ -95,6 +96,18 @@ public class MyStruct implements XdrElement {
     stream.writeDouble(field6);
     stream.writeInt(field7 ? 1 : 0);
   }
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += field1.encodedSize();
+    size += field2.encodedSize();
+    size += field3.encodedSize();
+    size += 4;
+    size += 4;
+    size += 8;
+    size += 4;
+    return size;
+  }
   public static MyStruct decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -113,16 +126,104 @@ public class MyStruct implements XdrElement {
   public static MyStruct decode(XdrDataInputStream stream) throws IOException {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
+  public static MyStruct decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    MyStruct decodedMyStruct = new MyStruct();
+    decodedMyStruct.field1 = Uint512.decode(reader, maxDepth);
+    decodedMyStruct.field2 = OptHash1.decode(reader, maxDepth);
+    decodedMyStruct.field3 = Int1.decode(reader, maxDepth);
+    decodedMyStruct.field4 = XdrUnsignedInteger.decode(reader, maxDepth);
+    decodedMyStruct.field5 = reader.readFloat();
+    decodedMyStruct.field6 = reader.readDouble();
+    decodedMyStruct.field7 = reader.readXdrBoolean();
+    return decodedMyStruct;
+  }
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Uint512.skip(stream, maxDepth);
+    OptHash1.skip(stream, maxDepth);
+    Int1.skip(stream, maxDepth);
+    XdrUnsignedInteger.skip(stream, maxDepth);
+    stream.readFloat();
+    stream.readDouble();
+    stream.readXdrBoolean();
+  }
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+  static void extract(XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values) throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "field1", "field2", "field3", "field4", "field5", "field6", "field7");
+    if (field.equals("field1")) {
+      Uint512.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Uint512.skip(stream, maxDepth);
+    }
+    if (field.equals("field2")) {
+      OptHash1.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      OptHash1.skip(stream, maxDepth);
+    }
+    if (field.equals("field3")) {
+      Int1.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Int1.skip(stream, maxDepth);
+    }
+    if (field.equals("field4")) {
+      path.checkEnd(index + 1);
+      values.add(XdrUnsignedInteger.decode(stream, maxDepth));
+    } else {
+      XdrUnsignedInteger.skip(stream, maxDepth);
+    }
+    if (field.equals("field5")) {
+      path.checkEnd(index + 1);
+      values.add(stream.readFloat());
+    } else {
+      stream.readFloat();
+    }
+    if (field.equals("field6")) {
+      path.checkEnd(index + 1);
+      values.add(stream.readDouble());
+    } else {
+      stream.readDouble();
+    }
+    if (field.equals("field7")) {
+      path.checkEnd(index + 1);
+      values.add(stream.readXdrBoolean());
+    } else {
+      stream.readXdrBoolean();
+    }
+  }
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
   public static MyStruct fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static MyStruct fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static MyStruct fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
   @Override
   public String toJson() {
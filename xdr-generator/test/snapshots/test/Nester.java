@@ -8,6 +8,7 @@ import java.io.IOException;
 import org.stellar.sdk.Base64Factory;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.List;
@@ -73,6 +74,14 @@ public class Nester implements XdrElement {
     nestedStruct.encode(stream);
     nestedUnion.encode(stream);
   }
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += nestedEnum.encodedSize();
+    size += nestedStruct.encodedSize();
+    size += nestedUnion.encodedSize();
+    return size;
+  }
   public static Nester decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -87,16 +96,72 @@ public class Nester implements XdrElement {
   public static Nester decode(XdrDataInputStream stream) throws IOException {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
+  public static Nester decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Nester decodedNester = new Nester();
+    decodedNester.nestedEnum = NesterNestedEnum.decode(reader, maxDepth);
+    decodedNester.nestedStruct = NesterNestedStruct.decode(reader, maxDepth);
+    decodedNester.nestedUnion = NesterNestedUnion.decode(reader, maxDepth);
+    return decodedNester;
+  }
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    NesterNestedEnum.skip(stream, maxDepth);
+    NesterNestedStruct.skip(stream, maxDepth);
+    NesterNestedUnion.skip(stream, maxDepth);
+  }
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+  static void extract(XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values) throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "nestedEnum", "nestedStruct", "nestedUnion");
+    if (field.equals("nestedEnum")) {
+      NesterNestedEnum.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      NesterNestedEnum.skip(stream, maxDepth);
+    }
+    if (field.equals("nestedStruct")) {
+      NesterNestedStruct.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      NesterNestedStruct.skip(stream, maxDepth);
+    }
+    if (field.equals("nestedUnion")) {
+      NesterNestedUnion.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      NesterNestedUnion.skip(stream, maxDepth);
+    }
+  }
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
   public static Nester fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static Nester fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static Nester fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
   @Override
   public String toJson() {
@@ -161,19 +226,56 @@ public class Nester implements XdrElement {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
 
+    public static NestedEnum decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+      // maxDepth is intentionally not checked - enums are leaf types with no recursive decoding
+      int value = reader.readInt();
+      switch (value) {
+        case 0: return BLAH_1;
+        case 1: return BLAH_2;
+        default:
+          throw new IllegalArgumentException("Unknown enum value: " + value);
+      }
+    }
+
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      decode(stream, maxDepth);
+    }
+
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+
+    static void extract(XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values) throws IOException {
+      path.checkEnd(index);
+      values.add(decode(stream, maxDepth));
+    }
+
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
+
     public void encode(XdrDataOutputStream stream) throws IOException {
       stream.writeInt(value);
     }
+
+    @Override
+    public int encodedSize() {
+      return 4;
+    }
     public static NestedEnum fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static NestedEnum fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static NestedEnum fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
     @Override
     public String toJson() {
@@ -223,6 +325,12 @@ public class Nester implements XdrElement {
     public void encode(XdrDataOutputStream stream) throws IOException{
       stream.writeInt(blah);
     }
+    @Override
+    public int encodedSize() {
+      int size = 0;
+      size += 4;
+      return size;
+    }
     public static NesterNestedStruct decode(XdrDataInputStream stream, int maxDepth) throws IOException {
       if (maxDepth <= 0) {
         throw new IOException("Maximum decoding depth reached");
@@ -235,16 +343,59 @@ public class Nester implements XdrElement {
     public static NesterNestedStruct decode(XdrDataInputStream stream) throws IOException {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
+    public static NesterNestedStruct decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      NesterNestedStruct decodedNesterNestedStruct = new NesterNestedStruct();
+      decodedNesterNestedStruct.blah = reader.readInt();
+      return decodedNesterNestedStruct;
+    }
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      stream.readInt();
+    }
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+    static void extract(XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values) throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index, "blah");
+      if (field.equals("blah")) {
+        path.checkEnd(index + 1);
+        values.add(stream.readInt());
+      } else {
+        stream.readInt();
+      }
+    }
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
     public static NesterNestedStruct fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static NesterNestedStruct fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static NesterNestedStruct fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
     @Override
     public String toJson() {
@@ -309,6 +460,18 @@ public class Nester implements XdrElement {
     break;
     }
     }
+    @Override
+    public int encodedSize() {
+      int size = 4;
+    switch (discriminant) {
+    case RED:
+    break;
+    default:
+    size += 4;
+    break;
+    }
+      return size;
+    }
     public static NesterNestedUnion decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -329,16 +492,81 @@ public class Nester implements XdrElement {
     public static NesterNestedUnion decode(XdrDataInputStream stream) throws IOException {
       return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
+    public static NesterNestedUnion decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    NesterNestedUnion decodedNesterNestedUnion = new NesterNestedUnion();
+    Color discriminant = Color.decode(reader, maxDepth);
+    decodedNesterNestedUnion.setDiscriminant(discriminant);
+    switch (decodedNesterNestedUnion.getDiscriminant()) {
+    case RED:
+    break;
+    default:
+    decodedNesterNestedUnion.blah2 = reader.readInt();
+    break;
+    }
+      return decodedNesterNestedUnion;
+    }
+    public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Color discriminant = Color.decode(stream, maxDepth);
+    switch (discriminant) {
+    case RED:
+    break;
+    default:
+    stream.readInt();
+    break;
+    }
+    }
+    public static void skip(XdrDataInputStream stream) throws IOException {
+      skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+    }
+    static void extract(XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values) throws IOException {
+      if (index == path.size()) {
+        values.add(decode(stream, maxDepth));
+        return;
+      }
+      if (maxDepth <= 0) {
+        throw new IOException("Maximum decoding depth reached");
+      }
+      maxDepth -= 1;
+      String field = path.checkField(index, "blah2");
+      Color discriminant = Color.decode(stream, maxDepth);
+      switch (discriminant) {
+      case RED:
+      break;
+      default:
+      if (field.equals("blah2")) {
+        path.checkEnd(index + 1);
+        values.add(stream.readInt());
+      } else {
+        stream.readInt();
+      }
+      break;
+      }
+    }
+    public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+      List<Object> values = new ArrayList<>();
+      extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+      return values;
+    }
     public static NesterNestedUnion fromXdrBase64(String xdr) throws IOException {
       byte[] bytes = Base64Factory.getInstance().decode(xdr);
       return fromXdrByteArray(bytes);
     }
 
     public static NesterNestedUnion fromXdrByteArray(byte[] xdr) throws IOException {
-      ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-      XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-      xdrDataInputStream.setMaxInputLen(xdr.length);
-      return decode(xdrDataInputStream);
+      return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+    }
+
+    public static NesterNestedUnion fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+      XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+      return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
     }
     @Override
     public String toJson() {
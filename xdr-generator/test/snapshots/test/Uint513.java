@@ -8,6 +8,7 @@ import java.io.IOException;
 import org.stellar.sdk.Base64Factory;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.List;
@@ -42,6 +43,13 @@ public class Uint513 implements XdrElement {
     stream.write(getUint513(), 0, uint513Size);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += 4 + ((uint513.length + 3) & ~3);
+    return size;
+  }
+
   public static Uint513 decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -66,6 +74,78 @@ public class Uint513 implements XdrElement {
   public static Uint513 decode(XdrDataInputStream stream) throws IOException {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
+  public static Uint513 decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Uint513 decodedUint513 = new Uint513();
+    int uint513Size = reader.readInt();
+    if (uint513Size < 0) {
+      throw new IOException("uint513 size " + uint513Size + " is negative");
+    }
+    if (uint513Size > 64) {
+      throw new IOException("uint513 size " + uint513Size + " exceeds max size 64");
+    }
+    int uint513RemainingInputLen = reader.getRemainingInputLen();
+    if (uint513RemainingInputLen >= 0 && uint513RemainingInputLen < uint513Size) {
+      throw new IOException("uint513 size " + uint513Size + " exceeds remaining input length " + uint513RemainingInputLen);
+    }
+    decodedUint513.uint513 = new byte[uint513Size];
+    reader.readPaddedData(decodedUint513.uint513, 0, uint513Size);
+    return decodedUint513;
+  }
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int uint513Size = stream.readInt();
+    if (uint513Size < 0) {
+      throw new IOException("uint513 size " + uint513Size + " is negative");
+    }
+    if (uint513Size > 64) {
+      throw new IOException("uint513 size " + uint513Size + " exceeds max size 64");
+    }
+    int uint513RemainingInputLen = stream.getRemainingInputLen();
+    if (uint513RemainingInputLen >= 0 && uint513RemainingInputLen < uint513Size) {
+      throw new IOException("uint513 size " + uint513Size + " exceeds remaining input length " + uint513RemainingInputLen);
+    }
+    stream.skipPaddedData(uint513Size);
+  }
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+  static void extract(XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values) throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int uint513Size = stream.readInt();
+    if (uint513Size < 0) {
+      throw new IOException("uint513 size " + uint513Size + " is negative");
+    }
+    if (uint513Size > 64) {
+      throw new IOException("uint513 size " + uint513Size + " exceeds max size 64");
+    }
+    int uint513RemainingInputLen = stream.getRemainingInputLen();
+    if (uint513RemainingInputLen >= 0 && uint513RemainingInputLen < uint513Size) {
+      throw new IOException("uint513 size " + uint513Size + " exceeds remaining input length " + uint513RemainingInputLen);
+    }
+    path.checkEnd(index);
+    byte[] uint513Bytes = new byte[uint513Size];
+    stream.readPaddedData(uint513Bytes, 0, uint513Size);
+    values.add(uint513Bytes);
+  }
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
 
   public static Uint513 fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
@@ -73,10 +153,12 @@ public class Uint513 implements XdrElement {
   }
 
   public static Uint513 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static Uint513 fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
   @Override
   public String toJson() {
@@ -8,6 +8,7 @@ import java.io.IOException;
 import org.stellar.sdk.Base64Factory;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.List;
@@ -39,6 +40,13 @@ public class Uint514 implements XdrElement {
     stream.write(getUint514(), 0, uint514Size);
   }
 
+  @Override
+  public int encodedSize() {
+    int size = 0;
+    size += 4 + ((uint514.length + 3) & ~3);
+    return size;
+  }
+
   public static Uint514 decode(XdrDataInputStream stream, int maxDepth) throws IOException {
     if (maxDepth <= 0) {
       throw new IOException("Maximum decoding depth reached");
@@ -60,6 +68,69 @@ public class Uint514 implements XdrElement {
   public static Uint514 decode(XdrDataInputStream stream) throws IOException {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
+  public static Uint514 decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    Uint514 decodedUint514 = new Uint514();
+    int uint514Size = reader.readInt();
+    if (uint514Size < 0) {
+      throw new IOException("uint514 size " + uint514Size + " is negative");
+    }
+    int uint514RemainingInputLen = reader.getRemainingInputLen();
+    if (uint514RemainingInputLen >= 0 && uint514RemainingInputLen < uint514Size) {
+      throw new IOException("uint514 size " + uint514Size + " exceeds remaining input length " + uint514RemainingInputLen);
+    }
+    decodedUint514.uint514 = new byte[uint514Size];
+    reader.readPaddedData(decodedUint514.uint514, 0, uint514Size);
+    return decodedUint514;
+  }
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int uint514Size = stream.readInt();
+    if (uint514Size < 0) {
+      throw new IOException("uint514 size " + uint514Size + " is negative");
+    }
+    int uint514RemainingInputLen = stream.getRemainingInputLen();
+    if (uint514RemainingInputLen >= 0 && uint514RemainingInputLen < uint514Size) {
+      throw new IOException("uint514 size " + uint514Size + " exceeds remaining input length " + uint514RemainingInputLen);
+    }
+    stream.skipPaddedData(uint514Size);
+  }
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+  static void extract(XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values) throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    int uint514Size = stream.readInt();
+    if (uint514Size < 0) {
+      throw new IOException("uint514 size " + uint514Size + " is negative");
+    }
+    int uint514RemainingInputLen = stream.getRemainingInputLen();
+    if (uint514RemainingInputLen >= 0 && uint514RemainingInputLen < uint514Size) {
+      throw new IOException("uint514 size " + uint514Size + " exceeds remaining input length " + uint514RemainingInputLen);
+    }
+    path.checkEnd(index);
+    byte[] uint514Bytes = new byte[uint514Size];
+    stream.readPaddedData(uint514Bytes, 0, uint514Size);
+    values.add(uint514Bytes);
+  }
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
 
   public static Uint514 fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
@@ -67,10 +138,12 @@ public class Uint514 implements XdrElement {
   }
 
   public static Uint514 fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static Uint514 fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
   @Override
   public String toJson() {
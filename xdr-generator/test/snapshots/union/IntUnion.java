@@ -8,6 +8,7 @@ import java.io.IOException;
 import org.stellar.sdk.Base64Factory;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.List;
@@ -72,6 +73,22 @@ public class IntUnion implements XdrElement {
   break;
   }
   }
+  @Override
+  public int encodedSize() {
+    int size = 4;
+  switch (discriminant) {
+  case 0:
+  size += error.encodedSize();
+  break;
+  case 1:
+  size += 4;
+  for (int i = 0; i < things.length; i++) {
+    size += things[i].encodedSize();
+  }
+  break;
+  }
+    return size;
+  }
   public static IntUnion decode(XdrDataInputStream stream, int maxDepth) throws IOException {
   if (maxDepth <= 0) {
     throw new IOException("Maximum decoding depth reached");
@@ -106,16 +123,134 @@ public class IntUnion implements XdrElement {
   public static IntUnion decode(XdrDataInputStream stream) throws IOException {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
+  public static IntUnion decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+  if (maxDepth <= 0) {
+    throw new IOException("Maximum decoding depth reached");
+  }
+  maxDepth -= 1;
+  IntUnion decodedIntUnion = new IntUnion();
+  Integer discriminant = reader.readInt();
+  decodedIntUnion.setDiscriminant(discriminant);
+  switch (decodedIntUnion.getDiscriminant()) {
+  case 0:
+  decodedIntUnion.error = Error.decode(reader, maxDepth);
+  break;
+  case 1:
+  int thingsSize = reader.readInt();
+  if (thingsSize < 0) {
+    throw new IOException("things size " + thingsSize + " is negative");
+  }
+  int thingsRemainingInputLen = reader.getRemainingInputLen();
+  if (thingsRemainingInputLen >= 0 && thingsRemainingInputLen < thingsSize) {
+    throw new IOException("things size " + thingsSize + " exceeds remaining input length " + thingsRemainingInputLen);
+  }
+  decodedIntUnion.things = new Multi[thingsSize];
+  for (int i = 0; i < thingsSize; i++) {
+    decodedIntUnion.things[i] = Multi.decode(reader, maxDepth);
+  }
+  break;
+  default:
+    throw new IOException("Unknown discriminant value: " + discriminant);
+  }
+    return decodedIntUnion;
+  }
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+  if (maxDepth <= 0) {
+    throw new IOException("Maximum decoding depth reached");
+  }
+  maxDepth -= 1;
+  int discriminant = stream.readInt();
+  switch (discriminant) {
+  case 0:
+  Error.skip(stream, maxDepth);
+  break;
+  case 1:
+  int thingsSize = stream.readInt();
+  if (thingsSize < 0) {
+    throw new IOException("things size " + thingsSize + " is negative");
+  }
+  int thingsRemainingInputLen = stream.getRemainingInputLen();
+  if (thingsRemainingInputLen >= 0 && thingsRemainingInputLen < thingsSize) {
+    throw new IOException("things size " + thingsSize + " exceeds remaining input length " + thingsRemainingInputLen);
+  }
+  for (int i = 0; i < thingsSize; i++) {
+    Multi.skip(stream, maxDepth);
+  }
+  break;
+  default:
+    throw new IOException("Unknown discriminant value: " + discriminant);
+  }
+  }
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+  static void extract(XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values) throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "error", "things[*]");
+    int discriminant = stream.readInt();
+    switch (discriminant) {
+    case 0:
+    if (field.equals("error")) {
+      Error.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Error.skip(stream, maxDepth);
+    }
+    break;
+    case 1:
+    if (field.equals("things")) {
+      int thingsSize = stream.readInt();
+      if (thingsSize < 0) {
+        throw new IOException("things size " + thingsSize + " is negative");
+      }
+      int thingsRemainingInputLen = stream.getRemainingInputLen();
+      if (thingsRemainingInputLen >= 0 && thingsRemainingInputLen < thingsSize) {
+        throw new IOException("things size " + thingsSize + " exceeds remaining input length " + thingsRemainingInputLen);
+      }
+      for (int i = 0; i < thingsSize; i++) {
+        Multi.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int thingsSize = stream.readInt();
+      if (thingsSize < 0) {
+        throw new IOException("things size " + thingsSize + " is negative");
+      }
+      int thingsRemainingInputLen = stream.getRemainingInputLen();
+      if (thingsRemainingInputLen >= 0 && thingsRemainingInputLen < thingsSize) {
+        throw new IOException("things size " + thingsSize + " exceeds remaining input length " + thingsRemainingInputLen);
+      }
+      for (int i = 0; i < thingsSize; i++) {
+        Multi.skip(stream, maxDepth);
+      }
+    }
+    break;
+    default:
+      throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
   public static IntUnion fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static IntUnion fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static IntUnion fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
   @Override
   public String toJson() {
@@ -8,6 +8,7 @@ import java.io.IOException;
 import org.stellar.sdk.Base64Factory;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.List;
@@ -73,6 +74,22 @@ public class MyUnion implements XdrElement {
   break;
   }
   }
+  @Override
+  public int encodedSize() {
+    int size = 4;
+  switch (discriminant) {
+  case ERROR:
+  size += error.encodedSize();
+  break;
+  case MULTI:
+  size += 4;
+  for (int i = 0; i < things.length; i++) {
+    size += things[i].encodedSize();
+  }
+  break;
+  }
+    return size;
+  }
   public static MyUnion decode(XdrDataInputStream stream, int maxDepth) throws IOException {
   if (maxDepth <= 0) {
     throw new IOException("Maximum decoding depth reached");
@@ -107,16 +124,134 @@ public class MyUnion implements XdrElement {
   public static MyUnion decode(XdrDataInputStream stream) throws IOException {
     return decode(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
+  public static MyUnion decode(XdrByteBufferReader reader, int maxDepth) throws IOException {
+  if (maxDepth <= 0) {
+    throw new IOException("Maximum decoding depth reached");
+  }
+  maxDepth -= 1;
+  MyUnion decodedMyUnion = new MyUnion();
+  UnionKey discriminant = UnionKey.decode(reader, maxDepth);
+  decodedMyUnion.setDiscriminant(discriminant);
+  switch (decodedMyUnion.getDiscriminant()) {
+  case ERROR:
+  decodedMyUnion.error = Error.decode(reader, maxDepth);
+  break;
+  case MULTI:
+  int thingsSize = reader.readInt();
+  if (thingsSize < 0) {
+    throw new IOException("things size " + thingsSize + " is negative");
+  }
+  int thingsRemainingInputLen = reader.getRemainingInputLen();
+  if (thingsRemainingInputLen >= 0 && thingsRemainingInputLen < thingsSize) {
+    throw new IOException("things size " + thingsSize + " exceeds remaining input length " + thingsRemainingInputLen);
+  }
+  decodedMyUnion.things = new Multi[thingsSize];
+  for (int i = 0; i < thingsSize; i++) {
+    decodedMyUnion.things[i] = Multi.decode(reader, maxDepth);
+  }
+  break;
+  default:
+    throw new IOException("Unknown discriminant value: " + discriminant);
+  }
+    return decodedMyUnion;
+  }
+  public static void skip(XdrDataInputStream stream, int maxDepth) throws IOException {
+  if (maxDepth <= 0) {
+    throw new IOException("Maximum decoding depth reached");
+  }
+  maxDepth -= 1;
+  UnionKey discriminant = UnionKey.decode(stream, maxDepth);
+  switch (discriminant) {
+  case ERROR:
+  Error.skip(stream, maxDepth);
+  break;
+  case MULTI:
+  int thingsSize = stream.readInt();
+  if (thingsSize < 0) {
+    throw new IOException("things size " + thingsSize + " is negative");
+  }
+  int thingsRemainingInputLen = stream.getRemainingInputLen();
+  if (thingsRemainingInputLen >= 0 && thingsRemainingInputLen < thingsSize) {
+    throw new IOException("things size " + thingsSize + " exceeds remaining input length " + thingsRemainingInputLen);
+  }
+  for (int i = 0; i < thingsSize; i++) {
+    Multi.skip(stream, maxDepth);
+  }
+  break;
+  default:
+    throw new IOException("Unknown discriminant value: " + discriminant);
+  }
+  }
+  public static void skip(XdrDataInputStream stream) throws IOException {
+    skip(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH);
+  }
+  static void extract(XdrDataInputStream stream, int maxDepth, XdrPath path, int index, List<Object> values) throws IOException {
+    if (index == path.size()) {
+      values.add(decode(stream, maxDepth));
+      return;
+    }
+    if (maxDepth <= 0) {
+      throw new IOException("Maximum decoding depth reached");
+    }
+    maxDepth -= 1;
+    String field = path.checkField(index, "error", "things[*]");
+    UnionKey discriminant = UnionKey.decode(stream, maxDepth);
+    switch (discriminant) {
+    case ERROR:
+    if (field.equals("error")) {
+      Error.extract(stream, maxDepth, path, index + 1, values);
+    } else {
+      Error.skip(stream, maxDepth);
+    }
+    break;
+    case MULTI:
+    if (field.equals("things")) {
+      int thingsSize = stream.readInt();
+      if (thingsSize < 0) {
+        throw new IOException("things size " + thingsSize + " is negative");
+      }
+      int thingsRemainingInputLen = stream.getRemainingInputLen();
+      if (thingsRemainingInputLen >= 0 && thingsRemainingInputLen < thingsSize) {
+        throw new IOException("things size " + thingsSize + " exceeds remaining input length " + thingsRemainingInputLen);
+      }
+      for (int i = 0; i < thingsSize; i++) {
+        Multi.extract(stream, maxDepth, path, index + 1, values);
+      }
+    } else {
+      int thingsSize = stream.readInt();
+      if (thingsSize < 0) {
+        throw new IOException("things size " + thingsSize + " is negative");
+      }
+      int thingsRemainingInputLen = stream.getRemainingInputLen();
+      if (thingsRemainingInputLen >= 0 && thingsRemainingInputLen < thingsSize) {
+        throw new IOException("things size " + thingsSize + " exceeds remaining input length " + thingsRemainingInputLen);
+      }
+      for (int i = 0; i < thingsSize; i++) {
+        Multi.skip(stream, maxDepth);
+      }
+    }
+    break;
+    default:
+      throw new IOException("Unknown discriminant value: " + discriminant);
+    }
+  }
+  public static List<Object> extract(XdrDataInputStream stream, XdrPath path) throws IOException {
+    List<Object> values = new ArrayList<>();
+    extract(stream, XdrDataInputStream.DEFAULT_MAX_DEPTH, path, 0, values);
+    return values;
+  }
   public static MyUnion fromXdrBase64(String xdr) throws IOException {
     byte[] bytes = Base64Factory.getInstance().decode(xdr);
     return fromXdrByteArray(bytes);
   }
 
   public static MyUnion fromXdrByteArray(byte[] xdr) throws IOException {
-    ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(xdr);
-    XdrDataInputStream xdrDataInputStream = new XdrDataInputStream(byteArrayInputStream);
-    xdrDataInputStream.setMaxInputLen(xdr.length);
-    return decode(xdrDataInputStream);
+    return fromXdrByteBuffer(ByteBuffer.wrap(xdr));
+  }
+
+  public static MyUnion fromXdrByteBuffer(ByteBuffer xdr) throws IOException {
+    XdrByteBufferReader reader = new XdrByteBufferReader(xdr);
+    return decode(reader, XdrDataInputStream.DEFAULT_MAX_DEPTH);
   }
   @Override
   public String toJson() {